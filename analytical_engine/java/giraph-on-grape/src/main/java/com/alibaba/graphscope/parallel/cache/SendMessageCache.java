@@ -15,8 +15,11 @@
  */
 package com.alibaba.graphscope.parallel.cache;
 
+import static org.apache.giraph.conf.GiraphConstants.MESSAGE_COMBINE_THRESHOLD;
+
 import com.alibaba.graphscope.parallel.cache.impl.BatchWritableMessageCache;
 import com.alibaba.graphscope.parallel.cache.impl.ByteBufMessageCache;
+import com.alibaba.graphscope.parallel.cache.impl.CombinedMessageCache;
 import com.alibaba.graphscope.parallel.message.MessageStore;
 import com.alibaba.graphscope.parallel.netty.NettyClient;
 
@@ -42,13 +45,24 @@ public interface SendMessageCache<I extends WritableComparable, M extends Writab
                     ImmutableClassesGiraphConfiguration<I_, ?, M_> conf) {
         String outMsgCacheType = conf.getOutMessageCacheType();
         logger.info("Creating Out Message cache of type [{}]", outMsgCacheType);
+        SendMessageCache<I_, M_, GS_VID_T_> cache;
         if (outMsgCacheType.equals("BatchWritable")) {
-            return new BatchWritableMessageCache<>(fragNum, fragId, client, conf);
+            cache = new BatchWritableMessageCache<>(fragNum, fragId, client, conf);
         } else if (outMsgCacheType.equals("ByteBuf")) {
-            return new ByteBufMessageCache<>(fragNum, fragId, client, conf);
+            cache = new ByteBufMessageCache<>(fragNum, fragId, client, conf);
         } else {
             throw new IllegalStateException("BatchWritable or ByteBuf");
         }
+        if (conf.useOutgoingMessageCombiner()) {
+            // Combine messages to the same vertex before they go on the wire.
+            return new CombinedMessageCache<>(
+                    fragNum,
+                    fragId,
+                    conf.createOutgoingMessageCombiner(),
+                    cache,
+                    MESSAGE_COMBINE_THRESHOLD.get(conf));
+        }
+        return cache;
     }
 
     void sendMessage(int dstFragId, GS_VID_T gid, M message);
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.parallel.cache.impl;
+
+import com.alibaba.graphscope.parallel.cache.SendMessageCache;
+import com.alibaba.graphscope.parallel.message.MessageStore;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import org.apache.giraph.combiner.MessageCombiner;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableComparable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Combine the messages to the same vertex before they are put to the underlying cache, i.e. only
+ * one message per destination gid is sent.
+ *
+ * <p>The combined messages to a remote fragment are kept until there are {@code combineThreshold}
+ * destination vertices, then they are moved to the underlying cache. The messages to self are kept
+ * until the end of the superstep.
+ *
+ * <p>The combiner is called with a null vertex id, since only the gid of the destination vertex is
+ * known here. The combiners provided by giraph don't rely on the vertex id.
+ *
+ * @param <I>        vertex id type
+ * @param <M>        message type
+ * @param <GS_VID_T> gs vid
+ */
+public class CombinedMessageCache<I extends WritableComparable, M extends Writable, GS_VID_T>
+        implements SendMessageCache<I, M, GS_VID_T> {
+
+    private static Logger logger = LoggerFactory.getLogger(CombinedMessageCache.class);
+
+    private final int fragId;
+    private final MessageCombiner<? super I, M> combiner;
+    private final SendMessageCache<I, M, GS_VID_T> cache;
+    private final int combineThreshold;
+
+    /**
+     * gid 2 combined message, for each fragment.
+     */
+    private Long2ObjectOpenHashMap<M>[] combined;
+
+    /**
+     * Number of messages sent by the user, and number of them after combining.
+     */
+    private long numMessages;
+
+    private long numCombinedMessages;
+
+    public CombinedMessageCache(
+            int fragNum,
+            int fragId,
+            MessageCombiner<? super I, M> combiner,
+            SendMessageCache<I, M, GS_VID_T> cache,
+            int combineThreshold) {
+        this.fragId = fragId;
+        this.combiner = combiner;
+        this.cache = cache;
+        this.combineThreshold = combineThreshold;
+        logger.info(
+                "Combining messages with [{}], threshold: {}",
+                combiner.getClass().getName(),
+                combineThreshold);
+
+        combined = new Long2ObjectOpenHashMap[fragNum];
+        for (int i = 0; i < fragNum; ++i) {
+            combined[i] = new Long2ObjectOpenHashMap<>();
+        }
+    }
+
+    @Override
+    public void sendMessage(int dstFragId, GS_VID_T gid, M message) {
+        Long2ObjectOpenHashMap<M> messages = combined[dstFragId];
+        long key = (Long) gid;
+        M current = messages.get(key);
+        if (current == null) {
+            // The message may be reused by the caller, e.g. sent to all edges, so we always
+            // combine into a message of our own.
+            current = combiner.createInitialMessage();
+            messages.put(key, current);
+        }
+        combiner.combine(null, current, message);
+        numMessages += 1;
+
+        if (dstFragId != fragId && messages.size() >= combineThreshold) {
+            moveToCache(dstFragId);
+        }
+    }
+
+    @Override
+    public void removeMessageToSelf(MessageStore<I, M, GS_VID_T> nextIncomingMessages) {
+        moveToCache(fragId);
+        logger.info(
+                "frag [{}] combined {} messages to {} messages",
+                fragId,
+                numMessages,
+                numCombinedMessages);
+        cache.removeMessageToSelf(nextIncomingMessages);
+    }
+
+    /**
+     * FLush all cached messages out.
+     */
+    @Override
+    public void flushMessage() {
+        for (int dstFragId = 0; dstFragId < combined.length; ++dstFragId) {
+            if (dstFragId != fragId) {
+                moveToCache(dstFragId);
+            }
+        }
+        cache.flushMessage();
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < combined.length; ++i) {
+            combined[i].clear();
+        }
+        numMessages = 0;
+        numCombinedMessages = 0;
+        cache.clear();
+    }
+
+    private void moveToCache(int dstFragId) {
+        Long2ObjectOpenHashMap<M> messages = combined[dstFragId];
+        numCombinedMessages += messages.size();
+        for (Long2ObjectMap.Entry<M> entry : messages.long2ObjectEntrySet()) {
+            cache.sendMessage(dstFragId, (GS_VID_T) (Long) entry.getLongKey(), entry.getValue());
+        }
+        // The messages are now owned by the underlying cache, never reuse them.
+        messages.clear();
+    }
+}
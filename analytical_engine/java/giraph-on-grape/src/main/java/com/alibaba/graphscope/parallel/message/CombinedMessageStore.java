@@ -0,0 +1,278 @@
+/*
+ * Copyright 2022 Alibaba Group Holding Limited.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *   	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.alibaba.graphscope.parallel.message;
+
+import com.alibaba.graphscope.ds.Vertex;
+import com.alibaba.graphscope.fragment.IFragment;
+import com.alibaba.graphscope.serialization.FFIByteVectorInputStream;
+import com.alibaba.graphscope.stdcxx.FFIByteVector;
+import com.alibaba.graphscope.utils.FFITypeFactoryhelper;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+
+import org.apache.giraph.combiner.MessageCombiner;
+import org.apache.giraph.conf.ImmutableClassesGiraphConfiguration;
+import org.apache.giraph.utils.ReflectionUtils;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableComparable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Message store which combines the received messages with the message combiner, so only one message
+ * is kept for each inner vertex.
+ *
+ * <p>The store takes the ownership of the messages added to it, the first message to a vertex is
+ * kept and the following ones are combined into it. The combiner is called with a null vertex id,
+ * same as {@link com.alibaba.graphscope.parallel.cache.impl.CombinedMessageCache}.
+ */
+public class CombinedMessageStore<
+                OID_T extends WritableComparable, MSG_T extends Writable, GS_VID_T>
+        implements MessageStore<OID_T, MSG_T, GS_VID_T> {
+
+    private static Logger logger = LoggerFactory.getLogger(CombinedMessageStore.class);
+
+    private IFragment<?, GS_VID_T, ?, ?> fragment;
+    private ImmutableClassesGiraphConfiguration<OID_T, ?, ?> conf;
+    private MessageCombiner<? super OID_T, MSG_T> combiner;
+    private Vertex<GS_VID_T> vertex;
+    /**
+     * lid 2 combined message
+     */
+    private Writable[] messages;
+
+    private int numVerticesWithMessage;
+    private int vid_t;
+
+    public CombinedMessageStore(
+            IFragment<?, GS_VID_T, ?, ?> fragment,
+            ImmutableClassesGiraphConfiguration<OID_T, ?, ?> conf,
+            MessageCombiner<? super OID_T, MSG_T> combiner) {
+        this(
+                fragment,
+                conf,
+                combiner,
+                (Vertex<GS_VID_T>) FFITypeFactoryhelper.newVertex(conf.getGrapeVidClass()));
+    }
+
+    CombinedMessageStore(
+            IFragment<?, GS_VID_T, ?, ?> fragment,
+            ImmutableClassesGiraphConfiguration<OID_T, ?, ?> conf,
+            MessageCombiner<? super OID_T, MSG_T> combiner,
+            Vertex<GS_VID_T> vertex) {
+        this.fragment = fragment;
+        this.conf = conf;
+        this.combiner = combiner;
+        this.vertex = vertex;
+        messages = new Writable[(int) fragment.getInnerVerticesNum()];
+        numVerticesWithMessage = 0;
+        if (conf.getGrapeVidClass().equals(Long.class)) {
+            vid_t = 0;
+        } else if (conf.getGrapeVidClass().equals(Integer.class)) {
+            vid_t = 1;
+        } else {
+            throw new IllegalStateException("Grape vid should be long or integer");
+        }
+    }
+
+    @Override
+    public void addLidMessage(GS_VID_T lid, MSG_T writable) {
+        int index = ((Number) lid).intValue();
+        MSG_T current = (MSG_T) messages[index];
+        if (current == null) {
+            messages[index] = writable;
+            numVerticesWithMessage += 1;
+        } else {
+            combiner.combine(null, current, writable);
+        }
+    }
+
+    @Override
+    public void addGidMessages(Iterator<GS_VID_T> gids, Iterator<MSG_T> writables) {
+        int cnt = 0;
+        while (gids.hasNext() && writables.hasNext()) {
+            addGidMessage(gids.next(), writables.next());
+            cnt += 1;
+        }
+        logger.info("worker [{}] messages to self cnt: {}", fragment.fid(), cnt);
+    }
+
+    /**
+     * For messages bound with gid, first get lid.
+     *
+     * @param gid      global id
+     * @param writable msg
+     */
+    @Override
+    public void addGidMessage(GS_VID_T gid, MSG_T writable) {
+        if (!fragment.innerVertexGid2Vertex(gid, vertex)) {
+            throw new IllegalStateException("gid to vertex convertion failed: " + gid);
+        }
+        addLidMessage(vertex.GetValue(), writable);
+    }
+
+    @Override
+    public void swap(MessageStore<OID_T, MSG_T, GS_VID_T> other) {
+        if (other instanceof CombinedMessageStore) {
+            CombinedMessageStore<OID_T, MSG_T, GS_VID_T> otherStore =
+                    (CombinedMessageStore<OID_T, MSG_T, GS_VID_T>) other;
+            if (!this.fragment.equals(otherStore.fragment)) {
+                logger.error("fragment not the same");
+                return;
+            }
+            Writable[] tmp = this.messages;
+            this.messages = otherStore.messages;
+            otherStore.messages = tmp;
+            int tmpNum = this.numVerticesWithMessage;
+            this.numVerticesWithMessage = otherStore.numVerticesWithMessage;
+            otherStore.numVerticesWithMessage = tmpNum;
+        } else {
+            logger.error("Can not swap with a non-CombinedMessageStore obj");
+        }
+    }
+
+    @Override
+    public void clearAll() {
+        if (numVerticesWithMessage > 0) {
+            Arrays.fill(messages, null);
+            numVerticesWithMessage = 0;
+        }
+    }
+
+    /**
+     * Check whether any messages received.
+     */
+    @Override
+    public boolean anyMessageReceived() {
+        return numVerticesWithMessage > 0;
+    }
+
+    /**
+     * Check for lid, any messages available.
+     *
+     * @param lid lid.
+     * @return true if has message
+     */
+    @Override
+    public boolean messageAvailable(GS_VID_T lid) {
+        return messages[((Number) lid).intValue()] != null;
+    }
+
+    @Override
+    public boolean messageAvailable(Long lid) {
+        return messages[lid.intValue()] != null;
+    }
+
+    @Override
+    public Iterable<MSG_T> getMessages(Long lid) {
+        return getMessages(lid.intValue());
+    }
+
+    @Override
+    public Iterable<MSG_T> getMessages(GS_VID_T lid) {
+        return getMessages(((Number) lid).intValue());
+    }
+
+    private Iterable<MSG_T> getMessages(int lid) {
+        MSG_T message = (MSG_T) messages[lid];
+        if (message == null) {
+            return () -> Collections.emptyIterator();
+        }
+        return Collections.singletonList(message);
+    }
+
+    /**
+     * For a bytestream provided by FFIByteVector, read from it and digest its content.
+     *
+     * @param vector
+     */
+    @Override
+    public void digest(FFIByteVector vector) {
+        FFIByteVectorInputStream inputStream = new FFIByteVectorInputStream(vector);
+        int size = (int) vector.size();
+        if (size <= 0) {
+            return;
+        }
+
+        logger.debug("CombinedMessageStore digest FFIVector size {}", size);
+        try {
+            long expectSize = inputStream.readLong();
+            if (expectSize != inputStream.longAvailable()) {
+                throw new IllegalStateException(
+                        "Expect bytes "
+                                + expectSize
+                                + " available: "
+                                + inputStream.longAvailable());
+            }
+            while (inputStream.longAvailable() > 0) {
+                digestMessage(inputStream);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to digest messages from FFIByteVector", e);
+        }
+        if (inputStream.longAvailable() != 0) {
+            throw new IllegalStateException(
+                    "still " + inputStream.longAvailable() + " remains in stream");
+        }
+    }
+
+    @Override
+    public void digestByteBuffer(ByteBuf buf, boolean fromSelf) {
+        ByteBufInputStream inputStream = new ByteBufInputStream(buf);
+        if (fromSelf) {
+            buf.skipBytes(5);
+        }
+        logger.debug(
+                "CombinedMessageStore digest bytebuf size {} direct {}",
+                buf.readableBytes(),
+                buf.isDirect());
+        try {
+            while (buf.readableBytes() > 8) {
+                digestMessage(inputStream);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to digest messages from ByteBuf", e);
+        }
+        if (buf.readableBytes() != 0) {
+            throw new IllegalStateException("readable bytes no subtracted by 16");
+        }
+    }
+
+    private void digestMessage(DataInput input) throws IOException {
+        GS_VID_T gid;
+        switch (vid_t) {
+            case 0:
+                gid = (GS_VID_T) (Long) input.readLong();
+                break;
+            case 1:
+                gid = (GS_VID_T) (Integer) input.readInt();
+                break;
+            default:
+                throw new IllegalStateException("Unknown flag " + vid_t);
+        }
+        MSG_T msg = ReflectionUtils.newInstance(conf.getIncomingMessageValueClass());
+        msg.readFields(input);
+        addGidMessage(gid, msg);
+    }
+}
@@ -40,6 +40,12 @@ public class DefaultMessageStoreFactory<I extends WritableComparable, M extends
      */
     @Override
     public MessageStore<I, M, GS_VID_T> newStore(MessageClasses<I, M> messageClasses) {
+        if (conf.useOutgoingMessageCombiner()) {
+            // Messages are combined with the same combiner as they are sent.
+            logger.info("Using combined Message store");
+            return new CombinedMessageStore<I, M, GS_VID_T>(
+                    fragment, conf, conf.createOutgoingMessageCombiner());
+        }
         logger.info("Using default Message store");
         return new DefaultMessageStore<I, M, GS_VID_T>(fragment, conf);
     }
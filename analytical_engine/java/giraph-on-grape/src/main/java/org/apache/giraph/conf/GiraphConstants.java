@@ -536,6 +536,16 @@ public interface GiraphConstants {
                     "ByteBuf",
                     "which type of out message cache to use");
 
+    /**
+     * Number of distinct destination vertices whose messages are combined, before they are moved
+     * to the out message cache. Only used when a message combiner is set.
+     */
+    IntConfOption MESSAGE_COMBINE_THRESHOLD =
+            new IntConfOption(
+                    "giraph.messageCombineThreshold",
+                    64 * ONE_KB,
+                    "how many destination vertices we combine messages for before sending");
+
     StrConfOption EDGE_MANAGER =
             new StrConfOption("girpah.edgeManager", "default", "default or lazy");
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.parallel.cache;
+
+import com.alibaba.graphscope.parallel.cache.impl.CombinedMessageCache;
+import com.alibaba.graphscope.parallel.message.MessageStore;
+
+import org.apache.giraph.combiner.DoubleSumMessageCombiner;
+import org.apache.hadoop.io.DoubleWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CombinedMessageCacheTest {
+
+    /**
+     * Records the messages moved to it, per fragment.
+     */
+    private static class RecordingMessageCache
+            implements SendMessageCache<LongWritable, DoubleWritable, Long> {
+
+        private Map<Integer, Map<Long, Double>> sent = new HashMap<>();
+        private int numSent = 0;
+        private boolean flushed = false;
+
+        @Override
+        public void sendMessage(int dstFragId, Long gid, DoubleWritable message) {
+            Map<Long, Double> messages = sent.computeIfAbsent(dstFragId, k -> new HashMap<>());
+            Assert.assertNull("gid sent twice: " + gid, messages.put(gid, message.get()));
+            numSent += 1;
+        }
+
+        @Override
+        public void removeMessageToSelf(
+                MessageStore<LongWritable, DoubleWritable, Long> nextIncomingMessages) {}
+
+        @Override
+        public void flushMessage() {
+            flushed = true;
+        }
+
+        @Override
+        public void clear() {
+            sent.clear();
+            numSent = 0;
+        }
+    }
+
+    private RecordingMessageCache recording;
+    private SendMessageCache<LongWritable, DoubleWritable, Long> cache;
+
+    @Before
+    public void init() {
+        recording = new RecordingMessageCache();
+        cache = new CombinedMessageCache<>(2, 0, new DoubleSumMessageCombiner(), recording, 4);
+    }
+
+    @Test
+    public void testCombine() {
+        // Same message object is sent to all vertices, as sendMessageToAllEdges does.
+        DoubleWritable message = new DoubleWritable(1.0);
+        for (int i = 0; i < 3; ++i) {
+            cache.sendMessage(0, 1L, message);
+            cache.sendMessage(1, 2L, message);
+            cache.sendMessage(1, 3L, message);
+        }
+        Assert.assertEquals(0, recording.numSent);
+        Assert.assertEquals(1.0, message.get(), 0.0);
+
+        cache.flushMessage();
+        Assert.assertTrue(recording.flushed);
+        Assert.assertEquals(2, recording.numSent);
+        Assert.assertEquals(3.0, recording.sent.get(1).get(2L), 0.0);
+        Assert.assertEquals(3.0, recording.sent.get(1).get(3L), 0.0);
+
+        cache.removeMessageToSelf(null);
+        Assert.assertEquals(3, recording.numSent);
+        Assert.assertEquals(3.0, recording.sent.get(0).get(1L), 0.0);
+    }
+
+    @Test
+    public void testThreshold() {
+        for (long gid = 0; gid < 4; ++gid) {
+            cache.sendMessage(1, gid, new DoubleWritable(gid));
+        }
+        // Moved once reaching the threshold.
+        Assert.assertEquals(4, recording.numSent);
+
+        // Messages to self are kept until the end of superstep.
+        for (long gid = 0; gid < 8; ++gid) {
+            cache.sendMessage(0, gid, new DoubleWritable(gid));
+        }
+        Assert.assertEquals(4, recording.numSent);
+
+        cache.clear();
+        cache.flushMessage();
+        cache.removeMessageToSelf(null);
+        Assert.assertEquals(0, recording.numSent);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.parallel.message;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.alibaba.graphscope.ds.Vertex;
+import com.alibaba.graphscope.fragment.IFragment;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import org.apache.giraph.combiner.DoubleSumMessageCombiner;
+import org.apache.giraph.conf.ImmutableClassesGiraphConfiguration;
+import org.apache.hadoop.io.DoubleWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+public class CombinedMessageStoreTest {
+
+    /**
+     * Inner vertices of the fragment are gid 100 to 103, with lid 0 to 3.
+     */
+    private static final int GID_BEGIN = 100;
+
+    private static final int INNER_VERTICES_NUM = 4;
+
+    private int lid;
+    private CombinedMessageStore<LongWritable, DoubleWritable, Integer> store;
+
+    @Before
+    public void init() {
+        IFragment<?, Integer, ?, ?> fragment = mock(IFragment.class);
+        when(fragment.getInnerVerticesNum()).thenReturn((long) INNER_VERTICES_NUM);
+        when(fragment.innerVertexGid2Vertex(anyInt(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            int gid = invocation.getArgument(0);
+                            lid = gid - GID_BEGIN;
+                            return lid >= 0 && lid < INNER_VERTICES_NUM;
+                        });
+        Vertex<Integer> vertex = mock(Vertex.class);
+        when(vertex.GetValue()).thenAnswer(invocation -> lid);
+
+        ImmutableClassesGiraphConfiguration conf = mock(ImmutableClassesGiraphConfiguration.class);
+        when(conf.getGrapeVidClass()).thenReturn(Integer.class);
+        when(conf.getIncomingMessageValueClass()).thenReturn(DoubleWritable.class);
+
+        store = new CombinedMessageStore<>(fragment, conf, new DoubleSumMessageCombiner(), vertex);
+    }
+
+    private static ByteBuf messages(int[] gids, double[] values) {
+        ByteBuf buf = Unpooled.buffer();
+        for (int i = 0; i < gids.length; ++i) {
+            buf.writeInt(gids[i]);
+            buf.writeDouble(values[i]);
+        }
+        return buf;
+    }
+
+    private double getMessage(long lid) {
+        Iterator<DoubleWritable> iterator = store.getMessages(lid).iterator();
+        Assert.assertTrue(iterator.hasNext());
+        double value = iterator.next().get();
+        Assert.assertFalse(iterator.hasNext());
+        return value;
+    }
+
+    @Test
+    public void testCombineFromSenders() {
+        Assert.assertFalse(store.anyMessageReceived());
+
+        // Messages to self, after the 5 bytes header of the self buffer.
+        ByteBuf self = Unpooled.buffer();
+        self.writeZero(5);
+        self.writeBytes(messages(new int[] {100, 101}, new double[] {1.0, 2.0}));
+        store.digestByteBuffer(self, true);
+        // Messages from two other fragments.
+        store.digestByteBuffer(
+                messages(new int[] {101, 100, 101}, new double[] {3.0, 4.0, 5.0}), false);
+        store.digestByteBuffer(messages(new int[] {103}, new double[] {6.0}), false);
+        store.addGidMessage(103, new DoubleWritable(7.0));
+
+        Assert.assertTrue(store.anyMessageReceived());
+        Assert.assertEquals(5.0, getMessage(0), 0.0);
+        Assert.assertEquals(10.0, getMessage(1), 0.0);
+        Assert.assertFalse(store.messageAvailable(2L));
+        Assert.assertFalse(store.getMessages(2L).iterator().hasNext());
+        Assert.assertEquals(13.0, getMessage(3), 0.0);
+
+        store.clearAll();
+        Assert.assertFalse(store.anyMessageReceived());
+        Assert.assertFalse(store.messageAvailable(0L));
+    }
+
+    @Test
+    public void testDigestTruncatedMessage() {
+        ByteBuf buf = messages(new int[] {100}, new double[] {1.0});
+        // The message value is cut off in the middle, so reading it hits the end of the buffer.
+        buf.writeInt(101);
+        buf.writeZero(5);
+        try {
+            store.digestByteBuffer(buf, false);
+            Assert.fail("the truncated message should fail the digest");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMessageToOuterVertex() {
+        store.digestByteBuffer(messages(new int[] {104}, new double[] {1.0}), false);
+    }
+}
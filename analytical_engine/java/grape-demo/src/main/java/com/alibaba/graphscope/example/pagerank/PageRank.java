@@ -21,9 +21,8 @@ import com.alibaba.graphscope.communication.Communicator;
 import com.alibaba.graphscope.context.ParallelContextBase;
 import com.alibaba.graphscope.ds.Vertex;
 import com.alibaba.graphscope.ds.VertexRange;
-import com.alibaba.graphscope.ds.adaptor.AdjList;
-import com.alibaba.graphscope.ds.adaptor.Nbr;
 import com.alibaba.graphscope.fragment.IFragment;
+import com.alibaba.graphscope.parallel.EdgeBalancedPartition;
 import com.alibaba.graphscope.parallel.ParallelEngine;
 import com.alibaba.graphscope.parallel.ParallelMessageManager;
 import com.alibaba.graphscope.parallel.message.DoubleMsg;
@@ -52,6 +51,13 @@ public class PageRank extends Communicator
 
         ctx.superStep = 0;
         double base = 1.0 / totalVertexNum;
+        // IncEval pulls along the incoming edges and sends along the outgoing ones
+        ctx.inPartition =
+                EdgeBalancedPartition.build(
+                        innerVertices, ctx.thread_num, fragment::getLocalInDegree);
+        ctx.outPartition =
+                EdgeBalancedPartition.build(
+                        innerVertices, ctx.thread_num, fragment::getLocalOutDegree);
 
         BiConsumer<Vertex<Long>, Integer> calc =
                 (Vertex<Long> vertex, Integer finalTid) -> {
@@ -116,16 +122,24 @@ public class PageRank extends Communicator
                     fragment, ctx.thread_num, ctx.executor, msgSupplier, consumer, 2L);
         } // finish receive data
 
+        // pull along the incoming edges, the edges of a hub are split to the threads
+        forEachEdge(
+                ctx.inPartition,
+                ctx.executor,
+                fragment::getIncomingAdjList,
+                (vertex, nbr, finalTid) -> {
+                    if (ctx.degree.get(vertex) != 0) {
+                        ctx.pullSum.add(vertex, ctx.pagerank.get(nbr.neighbor()));
+                    }
+                });
+
         BiConsumer<Vertex<Long>, Integer> calc =
                 ((vertex, finalTid) -> {
                     if (ctx.degree.get(vertex) == 0) {
                         ctx.nextResult.set(vertex, base);
                     } else {
-                        double cur = 0.0;
-                        AdjList<Long, Double> nbrs = fragment.getIncomingAdjList(vertex);
-                        for (Nbr<Long, Double> nbr : nbrs.iterable()) {
-                            cur += ctx.pagerank.get(nbr.neighbor());
-                        }
+                        double cur = ctx.pullSum.get(vertex);
+                        ctx.pullSum.set(vertex, 0.0);
                         cur = (cur * ctx.alpha + base) / ctx.degree.get(vertex);
                         ctx.nextResult.set(vertex, cur);
                         DoubleMsg msg =
@@ -134,7 +148,7 @@ public class PageRank extends Communicator
                                 fragment, vertex, msg, finalTid, 2.0);
                     }
                 });
-        forEachVertex(innerVertices, ctx.thread_num, ctx.executor, calc);
+        forEachVertex(ctx.outPartition, ctx.executor, calc);
 
         {
             double timeSwapStart = System.nanoTime();
@@ -22,8 +22,10 @@ import com.alibaba.graphscope.context.VertexDataContext;
 import com.alibaba.graphscope.ds.Vertex;
 import com.alibaba.graphscope.ds.VertexRange;
 import com.alibaba.graphscope.fragment.IFragment;
+import com.alibaba.graphscope.parallel.EdgeBalancedPartition;
 import com.alibaba.graphscope.parallel.MessageInBuffer;
 import com.alibaba.graphscope.parallel.ParallelMessageManager;
+import com.alibaba.graphscope.utils.AtomicDoubleArrayWrapper;
 import com.alibaba.graphscope.utils.DoubleArrayWrapper;
 import com.alibaba.graphscope.utils.FFITypeFactoryhelper;
 import com.alibaba.graphscope.utils.IntArrayWrapper;
@@ -50,9 +52,14 @@ public class PageRankContext extends VertexDataContext<IFragment<Long, Long, Lon
 
     public DoubleArrayWrapper pagerank;
     public DoubleArrayWrapper nextResult;
+    // sum of the pagerank of the incoming neighbors, the slices of a hub are summed concurrently
+    public AtomicDoubleArrayWrapper pullSum;
     public IntArrayWrapper degree;
     public int thread_num;
     public ExecutorService executor;
+    // inner vertices balanced by the incoming and outgoing edges, built in PEval
+    public EdgeBalancedPartition inPartition;
+    public EdgeBalancedPartition outPartition;
     public MessageInBuffer.Factory bufferFactory;
     public int chunkSize;
     public double sumDoubleTime = 0.0;
@@ -94,6 +101,7 @@ public class PageRankContext extends VertexDataContext<IFragment<Long, Long, Lon
                         + thread_num);
         pagerank = new DoubleArrayWrapper((frag.getVerticesNum().intValue()), 0.0);
         nextResult = new DoubleArrayWrapper((int) frag.getInnerVerticesNum(), 0.0);
+        pullSum = new AtomicDoubleArrayWrapper((int) frag.getInnerVerticesNum(), 0.0);
         degree = new IntArrayWrapper((int) frag.getInnerVerticesNum(), 0);
         executor = Executors.newFixedThreadPool(thread_num());
         chunkSize = 1024;
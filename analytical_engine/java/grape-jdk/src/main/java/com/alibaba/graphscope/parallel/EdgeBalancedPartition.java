@@ -0,0 +1,412 @@
+/*
+ * Copyright 2021 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.parallel;
+
+import com.alibaba.graphscope.ds.Vertex;
+import com.alibaba.graphscope.ds.VertexRange;
+import com.alibaba.graphscope.ds.adaptor.AdjList;
+import com.alibaba.graphscope.ds.adaptor.GrapeAdjListAdaptor;
+import com.alibaba.graphscope.ds.adaptor.GrapeNbrAdaptor;
+import com.alibaba.graphscope.ds.adaptor.Nbr;
+import com.alibaba.graphscope.utils.FFITypeFactoryhelper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Chunks of a {@link VertexRange} balanced by the number of edges, for the degree-aware variants of
+ * {@link ParallelEngine#forEachVertex} and {@link ParallelEngine#forEachEdge}.
+ *
+ * <p>Each vertex weighs its degree plus one. Consecutive vertices are grouped into chunks of about
+ * the same weight, and a hub vertex heavier than a chunk is a chunk by itself when iterating
+ * vertices, while its adjacency list is further split into slices of a chunk weight when iterating
+ * edges. The chunks are assigned to the threads in contiguous blocks of the same weight, a thread
+ * runs its own block first and then steals the chunks left in the blocks of the others.
+ *
+ * <p>Computing the degrees costs a pass over the vertices, so a partition is expected to be built
+ * once, i.e. in PEval, and reused in every superstep.
+ */
+public class EdgeBalancedPartition {
+    private static final Logger logger = LoggerFactory.getLogger(EdgeBalancedPartition.class);
+
+    /** Number of chunks per thread, the more chunks the less stragglers and the more scheduling */
+    public static final int CHUNKS_PER_THREAD = 16;
+
+    private final int threadNum;
+    // [chunkBegin[i], chunkEnd[i]) are the vertices of the i-th chunk
+    private final int[] chunkBegin;
+    private final int[] chunkEnd;
+    // the i-th thread owns the chunks in [blockBegin[i], blockBegin[i + 1])
+    private final int[] blockBegin;
+    // the edge chunks are the vertex chunks with the hubs split, a slice of the adjacency list
+    // [edgeChunkNbrBegin[i], edgeChunkNbrEnd[i]) of a hub, or -1 for all of the edges
+    private final int[] edgeChunkBegin;
+    private final int[] edgeChunkEnd;
+    private final long[] edgeChunkNbrBegin;
+    private final long[] edgeChunkNbrEnd;
+    private final int[] edgeBlockBegin;
+
+    private EdgeBalancedPartition(int threadNum, ChunkList vertexChunks, ChunkList edgeChunks) {
+        this.threadNum = threadNum;
+        this.chunkBegin = Arrays.copyOf(vertexChunks.begins, vertexChunks.size);
+        this.chunkEnd = Arrays.copyOf(vertexChunks.ends, vertexChunks.size);
+        this.blockBegin = vertexChunks.blocks(threadNum);
+        this.edgeChunkBegin = Arrays.copyOf(edgeChunks.begins, edgeChunks.size);
+        this.edgeChunkEnd = Arrays.copyOf(edgeChunks.ends, edgeChunks.size);
+        this.edgeChunkNbrBegin = Arrays.copyOf(edgeChunks.nbrBegins, edgeChunks.size);
+        this.edgeChunkNbrEnd = Arrays.copyOf(edgeChunks.nbrEnds, edgeChunks.size);
+        this.edgeBlockBegin = edgeChunks.blocks(threadNum);
+    }
+
+    /**
+     * Build the partition of the vertices by their degrees.
+     *
+     * @param vertices VertexRange obj contains querying vertices.
+     * @param threadNum number of threads to use.
+     * @param degree the degree of a vertex, i.e. fragment::getLocalOutDegree, which should be the
+     *     size of the adjacency list iterated by {@link ParallelEngine#forEachEdge}.
+     * @return the partition.
+     */
+    public static EdgeBalancedPartition build(
+            VertexRange<Long> vertices, int threadNum, ToIntFunction<Vertex<Long>> degree) {
+        int begin = vertices.beginValue().intValue();
+        int end = vertices.endValue().intValue();
+        int[] degrees = new int[Math.max(end - begin, 0)];
+        Vertex<Long> vertex = FFITypeFactoryhelper.newVertexLong();
+        for (int i = begin; i < end; ++i) {
+            vertex.SetValue((long) i);
+            degrees[i - begin] = degree.applyAsInt(vertex);
+        }
+        return build(begin, degrees, threadNum);
+    }
+
+    /**
+     * Build the partition of the vertices [begin, begin + degrees.length) by their degrees.
+     *
+     * @param begin the first vertex.
+     * @param degrees the degree of each vertex.
+     * @param threadNum number of threads to use.
+     * @return the partition.
+     */
+    static EdgeBalancedPartition build(int begin, int[] degrees, int threadNum) {
+        if (threadNum <= 0) {
+            throw new IllegalArgumentException("thread num should be positive: " + threadNum);
+        }
+        int end = begin + degrees.length;
+        long totalWeight = 0;
+        for (int vertexDegree : degrees) {
+            totalWeight += vertexDegree + 1;
+        }
+        // no smaller than the fixed chunks of the vertices with no edge
+        long chunkWeight =
+                Math.max(
+                        ParallelEngine.chunkSize,
+                        (totalWeight + (long) threadNum * CHUNKS_PER_THREAD - 1)
+                                / ((long) threadNum * CHUNKS_PER_THREAD));
+
+        ChunkList vertexChunks = new ChunkList();
+        ChunkList edgeChunks = new ChunkList();
+        int curBegin = begin;
+        long weight = 0;
+        for (int i = begin; i < end; ++i) {
+            int vertexDegree = degrees[i - begin];
+            if (vertexDegree + 1 < chunkWeight) {
+                weight += vertexDegree + 1;
+                if (weight >= chunkWeight) {
+                    vertexChunks.add(curBegin, i + 1, -1, -1, weight);
+                    edgeChunks.add(curBegin, i + 1, -1, -1, weight);
+                    curBegin = i + 1;
+                    weight = 0;
+                }
+                continue;
+            }
+            // a hub closes the current chunk and takes its own
+            if (curBegin < i) {
+                vertexChunks.add(curBegin, i, -1, -1, weight);
+                edgeChunks.add(curBegin, i, -1, -1, weight);
+            }
+            vertexChunks.add(i, i + 1, -1, -1, vertexDegree + 1);
+            for (long nbrBegin = 0; nbrBegin < vertexDegree; nbrBegin += chunkWeight) {
+                long nbrEnd = Math.min(nbrBegin + chunkWeight, vertexDegree);
+                edgeChunks.add(i, i + 1, nbrBegin, nbrEnd, nbrEnd - nbrBegin);
+            }
+            curBegin = i + 1;
+            weight = 0;
+        }
+        if (curBegin < end) {
+            vertexChunks.add(curBegin, end, -1, -1, weight);
+            edgeChunks.add(curBegin, end, -1, -1, weight);
+        }
+        logger.info(
+                "Partition [{}, {}) of total weight {} to {} vertex chunks and {} edge chunks"
+                        + " for {} threads",
+                begin,
+                end,
+                totalWeight,
+                vertexChunks.size,
+                edgeChunks.size,
+                threadNum);
+        return new EdgeBalancedPartition(threadNum, vertexChunks, edgeChunks);
+    }
+
+    public int getThreadNum() {
+        return threadNum;
+    }
+
+    public int getChunkNum() {
+        return chunkBegin.length;
+    }
+
+    int getChunkBegin(int chunk) {
+        return chunkBegin[chunk];
+    }
+
+    int getChunkEnd(int chunk) {
+        return chunkEnd[chunk];
+    }
+
+    /** The first chunk owned by the thread, the chunks of the thread end at that of tid + 1 */
+    int getBlockBegin(int tid) {
+        return blockBegin[tid];
+    }
+
+    public int getEdgeChunkNum() {
+        return edgeChunkBegin.length;
+    }
+
+    int getEdgeChunkBegin(int chunk) {
+        return edgeChunkBegin[chunk];
+    }
+
+    int getEdgeChunkEnd(int chunk) {
+        return edgeChunkEnd[chunk];
+    }
+
+    /** The first neighbor of the slice if the edge chunk is a part of a hub, otherwise -1 */
+    long getEdgeChunkNbrBegin(int chunk) {
+        return edgeChunkNbrBegin[chunk];
+    }
+
+    long getEdgeChunkNbrEnd(int chunk) {
+        return edgeChunkNbrEnd[chunk];
+    }
+
+    int getEdgeBlockBegin(int tid) {
+        return edgeBlockBegin[tid];
+    }
+
+    /**
+     * Run the chunks on the threads, with work stealing. The first failure of the chunks is thrown
+     * once all of the threads are done, and the chunks not started then are skipped.
+     *
+     * @param executor ThreadPoolExecutor to use.
+     * @param consumer takes the begin and end vertex of a chunk and the thread id.
+     */
+    void runChunks(ExecutorService executor, ChunkConsumer consumer) {
+        run(
+                executor,
+                blockBegin,
+                (chunk, tid) -> consumer.accept(chunkBegin[chunk], chunkEnd[chunk], tid));
+    }
+
+    /**
+     * Run the edge chunks on the threads, in the same way as {@link #runChunks}.
+     *
+     * @param executor ThreadPoolExecutor to use.
+     * @param consumer takes the begin and end vertex of a chunk, the slice of the adjacency list if
+     *     the chunk is a part of a hub or -1, and the thread id.
+     */
+    void runEdgeChunks(ExecutorService executor, EdgeChunkConsumer consumer) {
+        run(
+                executor,
+                edgeBlockBegin,
+                (chunk, tid) ->
+                        consumer.accept(
+                                edgeChunkBegin[chunk],
+                                edgeChunkEnd[chunk],
+                                edgeChunkNbrBegin[chunk],
+                                edgeChunkNbrEnd[chunk],
+                                tid));
+    }
+
+    private void run(ExecutorService executor, int[] blockBegin, ChunkRunner runner) {
+        AtomicInteger[] cursors = new AtomicInteger[threadNum];
+        for (int tid = 0; tid < threadNum; ++tid) {
+            cursors[tid] = new AtomicInteger(blockBegin[tid]);
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch countDownLatch = new CountDownLatch(threadNum);
+        for (int tid = 0; tid < threadNum; ++tid) {
+            final int finalTid = tid;
+            executor.execute(
+                    () -> {
+                        try {
+                            // the own block first, then steal from the next threads
+                            for (int i = 0; i < threadNum && failure.get() == null; ++i) {
+                                int victim = (finalTid + i) % threadNum;
+                                int blockEnd = blockBegin[victim + 1];
+                                while (failure.get() == null) {
+                                    int chunk = cursors[victim].getAndIncrement();
+                                    if (chunk >= blockEnd) {
+                                        break;
+                                    }
+                                    runner.run(chunk, finalTid);
+                                }
+                            }
+                        } catch (Throwable e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            countDownLatch.countDown();
+                        }
+                    });
+        }
+        try {
+            countDownLatch.await();
+        } catch (Exception e) {
+            e.printStackTrace();
+            executor.shutdown();
+        }
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        }
+    }
+
+    /**
+     * Apply the consumer to the neighbors in the slice [nbrBegin, nbrEnd) of the adjacency list.
+     * The slice of a grape adjacency list is located by its address, the others are skipped to.
+     */
+    static <EDATA_T> void forEachNbr(
+            AdjList<Long, EDATA_T> adjList,
+            long nbrBegin,
+            long nbrEnd,
+            Consumer<Nbr<Long, EDATA_T>> consumer) {
+        nbrEnd = Math.min(nbrEnd, adjList.size());
+        if (nbrBegin >= nbrEnd) {
+            return;
+        }
+        if (adjList instanceof GrapeAdjListAdaptor) {
+            GrapeNbrAdaptor<Long, EDATA_T> cursor =
+                    (GrapeNbrAdaptor<Long, EDATA_T>) adjList.begin();
+            // there are cases where the begin nbr is null
+            if (Objects.isNull(cursor.getGrapeNbr()) || cursor.getAddress() <= 0) {
+                return;
+            }
+            long elementSize = cursor.getGrapeNbr().elementSize();
+            long address = cursor.getAddress() + nbrBegin * elementSize;
+            for (long i = nbrBegin; i < nbrEnd; ++i) {
+                cursor.setAddress(address);
+                consumer.accept(cursor);
+                address += elementSize;
+            }
+            return;
+        }
+        long i = 0;
+        for (Nbr<Long, EDATA_T> nbr : adjList.iterable()) {
+            if (i >= nbrEnd) {
+                break;
+            }
+            if (i >= nbrBegin) {
+                consumer.accept(nbr);
+            }
+            ++i;
+        }
+    }
+
+    // a vertex obj for each thread
+    @SuppressWarnings("unchecked")
+    static Vertex<Long>[] newVertices(int threadNum) {
+        Vertex<Long>[] vertices = new Vertex[threadNum];
+        for (int tid = 0; tid < threadNum; ++tid) {
+            vertices[tid] = FFITypeFactoryhelper.newVertexLong();
+        }
+        return vertices;
+    }
+
+    @FunctionalInterface
+    interface ChunkConsumer {
+        void accept(int begin, int end, int tid);
+    }
+
+    @FunctionalInterface
+    interface EdgeChunkConsumer {
+        void accept(int begin, int end, long nbrBegin, long nbrEnd, int tid);
+    }
+
+    @FunctionalInterface
+    private interface ChunkRunner {
+        void run(int chunk, int tid);
+    }
+
+    private static class ChunkList {
+        private int size = 0;
+        private int[] begins = new int[16];
+        private int[] ends = new int[16];
+        private long[] nbrBegins = new long[16];
+        private long[] nbrEnds = new long[16];
+        private long[] weights = new long[16];
+
+        private void add(int begin, int end, long nbrBegin, long nbrEnd, long weight) {
+            if (size == begins.length) {
+                int capacity = size * 2;
+                begins = Arrays.copyOf(begins, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                nbrBegins = Arrays.copyOf(nbrBegins, capacity);
+                nbrEnds = Arrays.copyOf(nbrEnds, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            begins[size] = begin;
+            ends[size] = end;
+            nbrBegins[size] = nbrBegin;
+            nbrEnds[size] = nbrEnd;
+            weights[size] = weight;
+            ++size;
+        }
+
+        // split the chunks to the threads in contiguous blocks of about the same weight
+        private int[] blocks(int threadNum) {
+            long totalWeight = 0;
+            for (int i = 0; i < size; ++i) {
+                totalWeight += weights[i];
+            }
+            int[] blockBegin = new int[threadNum + 1];
+            long weight = 0;
+            int chunk = 0;
+            for (int tid = 1; tid < threadNum; ++tid) {
+                long blockEndWeight = totalWeight * tid / threadNum;
+                while (chunk < size && weight + weights[chunk] / 2 < blockEndWeight) {
+                    weight += weights[chunk];
+                    ++chunk;
+                }
+                blockBegin[tid] = chunk;
+            }
+            blockBegin[threadNum] = size;
+            return blockBegin;
+        }
+    }
+}
@@ -18,6 +18,8 @@ package com.alibaba.graphscope.parallel;
 import com.alibaba.graphscope.ds.Vertex;
 import com.alibaba.graphscope.ds.VertexRange;
 import com.alibaba.graphscope.ds.VertexSet;
+import com.alibaba.graphscope.ds.adaptor.AdjList;
+import com.alibaba.graphscope.ds.adaptor.Nbr;
 import com.alibaba.graphscope.parallel.message.DoubleMsg;
 import com.alibaba.graphscope.parallel.message.PrimitiveMessage;
 import com.alibaba.graphscope.utils.FFITypeFactoryhelper;
@@ -30,6 +32,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public interface ParallelEngine {
@@ -464,4 +467,98 @@ public interface ParallelEngine {
             executor.shutdown();
         }
     }
+
+    /**
+     * Iterate over the vertices of a partition balanced by the degrees, applying lambda functions
+     * on each vertex. Unlike the fixed chunks of vertices, a chunk holding hub vertices is no
+     * heavier than the others, and an idle thread steals the chunks of the others, so that the
+     * threads finish at about the same time on the power-law graphs.
+     *
+     * @param partition the partition of the querying vertices, built once by {@link
+     *     EdgeBalancedPartition#build}.
+     * @param executor ThreadPoolExecutor to use, with at least the thread num of the partition.
+     * @param consumer a BiConsumer(lambda function) takes vertex and thread id as input, perform
+     *     the desired operation.
+     * @see EdgeBalancedPartition
+     */
+    default void forEachVertex(
+            EdgeBalancedPartition partition,
+            ExecutorService executor,
+            BiConsumer<Vertex<Long>, Integer> consumer) {
+        Vertex<Long>[] vertices = EdgeBalancedPartition.newVertices(partition.getThreadNum());
+        partition.runChunks(
+                executor,
+                (curBegin, curEnd, tid) -> {
+                    Vertex<Long> vertex = vertices[tid];
+                    for (int i = curBegin; i < curEnd; ++i) {
+                        vertex.SetValue((long) i);
+                        consumer.accept(vertex, tid);
+                    }
+                });
+    }
+
+    /**
+     * Apply consumer for each vertex in a partition balanced by the degrees, see {@link
+     * #forEachVertex(EdgeBalancedPartition, ExecutorService, BiConsumer)}.
+     *
+     * @param partition the partition of the querying vertices.
+     * @param executor ThreadPoolExecutor to use.
+     * @param vertexSet A vertex set, marking querying vertices as true, others false.
+     * @param consumer a lambda function representing the per-vertex operation.
+     */
+    default void forEachVertex(
+            EdgeBalancedPartition partition,
+            ExecutorService executor,
+            VertexSet vertexSet,
+            BiConsumer<Vertex<Long>, Integer> consumer) {
+        Vertex<Long>[] vertices = EdgeBalancedPartition.newVertices(partition.getThreadNum());
+        partition.runChunks(
+                executor,
+                (curBegin, curEnd, tid) -> {
+                    Vertex<Long> vertex = vertices[tid];
+                    for (int i = curBegin; i < curEnd; ++i) {
+                        if (vertexSet.get(i)) {
+                            vertex.SetValue((long) i);
+                            consumer.accept(vertex, tid);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Iterate over the edges of the vertices in a partition balanced by the degrees, applying
+     * lambda functions on each edge. The adjacency list of a hub vertex is split into slices
+     * handled by different threads, so the consumer may be called concurrently for the same vertex,
+     * i.e. the updates of the vertex should be atomic or be accumulated per thread.
+     *
+     * @param partition the partition of the querying vertices, built with the degrees of the
+     *     adjacency lists iterated.
+     * @param executor ThreadPoolExecutor to use.
+     * @param adjListGetter the adjacency list of a vertex, i.e. fragment::getOutgoingAdjList.
+     * @param consumer a TriConsumer takes vertex, neighbor and thread id as input.
+     * @param <EDATA_T> edge data type.
+     * @see EdgeBalancedPartition
+     */
+    default <EDATA_T> void forEachEdge(
+            EdgeBalancedPartition partition,
+            ExecutorService executor,
+            Function<Vertex<Long>, AdjList<Long, EDATA_T>> adjListGetter,
+            TriConsumer<Vertex<Long>, Nbr<Long, EDATA_T>, Integer> consumer) {
+        Vertex<Long>[] vertices = EdgeBalancedPartition.newVertices(partition.getThreadNum());
+        partition.runEdgeChunks(
+                executor,
+                (curBegin, curEnd, nbrBegin, nbrEnd, tid) -> {
+                    Vertex<Long> vertex = vertices[tid];
+                    for (int i = curBegin; i < curEnd; ++i) {
+                        vertex.SetValue((long) i);
+                        AdjList<Long, EDATA_T> adjList = adjListGetter.apply(vertex);
+                        // the whole adjacency list unless the vertex is a split hub
+                        EdgeBalancedPartition.forEachNbr(
+                                adjList,
+                                Math.max(nbrBegin, 0),
+                                nbrBegin < 0 ? Long.MAX_VALUE : nbrEnd,
+                                nbr -> consumer.accept(vertex, nbr, tid));
+                    }
+                });
+    }
 }
@@ -89,6 +89,13 @@ public class AtomicDoubleArrayWrapper {
         } while (preValue > newValue && !data.compareAndSet(lid, preValue, newValue));
     }
 
+    /*
+     * add the delta to the value of the vertex atomically.
+     */
+    public void add(Vertex<Long> vertex, double delta) {
+        data.getAndAdd(vertex.GetValue().intValue(), delta);
+    }
+
     public int getSize() {
         return size;
     }
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2021 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.parallel;
+
+import com.alibaba.graphscope.ds.Vertex;
+import com.alibaba.graphscope.ds.adaptor.AdjList;
+import com.alibaba.graphscope.ds.adaptor.Nbr;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class EdgeBalancedPartitionTest {
+    private static final int THREAD_NUM = 4;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(THREAD_NUM);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static long weightOf(int[] degrees, int begin, int chunkBegin, int chunkEnd) {
+        long weight = 0;
+        for (int i = chunkBegin; i < chunkEnd; ++i) {
+            weight += degrees[i - begin] + 1;
+        }
+        return weight;
+    }
+
+    // the chunks are contiguous and cover all of the vertices, and so are the blocks
+    private static void checkChunks(EdgeBalancedPartition partition, int begin, int end) {
+        int expectedBegin = begin;
+        for (int chunk = 0; chunk < partition.getChunkNum(); ++chunk) {
+            Assert.assertEquals(expectedBegin, partition.getChunkBegin(chunk));
+            Assert.assertTrue(partition.getChunkEnd(chunk) > partition.getChunkBegin(chunk));
+            expectedBegin = partition.getChunkEnd(chunk);
+        }
+        Assert.assertEquals(end, expectedBegin);
+        Assert.assertEquals(0, partition.getBlockBegin(0));
+        for (int tid = 0; tid < partition.getThreadNum(); ++tid) {
+            Assert.assertTrue(partition.getBlockBegin(tid) <= partition.getBlockBegin(tid + 1));
+        }
+        Assert.assertEquals(
+                partition.getChunkNum(), partition.getBlockBegin(partition.getThreadNum()));
+    }
+
+    @Test
+    public void testHubVertices() {
+        int begin = 100;
+        int[] degrees = new int[100000];
+        Arrays.fill(degrees, 2);
+        degrees[10] = 1000000;
+        degrees[50000] = 2000000;
+        degrees[50001] = 2000000;
+        EdgeBalancedPartition partition = EdgeBalancedPartition.build(begin, degrees, THREAD_NUM);
+        checkChunks(partition, begin, begin + degrees.length);
+
+        long totalWeight = weightOf(degrees, begin, begin, begin + degrees.length);
+        long chunkWeight =
+                (totalWeight + THREAD_NUM * EdgeBalancedPartition.CHUNKS_PER_THREAD - 1)
+                        / (THREAD_NUM * EdgeBalancedPartition.CHUNKS_PER_THREAD);
+        int hubNum = 0;
+        for (int chunk = 0; chunk < partition.getChunkNum(); ++chunk) {
+            int chunkBegin = partition.getChunkBegin(chunk);
+            int chunkEnd = partition.getChunkEnd(chunk);
+            if (degrees[chunkBegin - begin] >= chunkWeight) {
+                // a hub is a chunk by itself
+                Assert.assertEquals(chunkBegin + 1, chunkEnd);
+                ++hubNum;
+            } else {
+                Assert.assertTrue(weightOf(degrees, begin, chunkBegin, chunkEnd) < chunkWeight + 3);
+            }
+        }
+        Assert.assertEquals(3, hubNum);
+    }
+
+    @Test
+    public void testEmptyRange() {
+        EdgeBalancedPartition partition = EdgeBalancedPartition.build(10, new int[0], THREAD_NUM);
+        Assert.assertEquals(0, partition.getChunkNum());
+        checkChunks(partition, 10, 10);
+        AtomicInteger chunkNum = new AtomicInteger();
+        partition.runChunks(executor, (begin, end, tid) -> chunkNum.incrementAndGet());
+        Assert.assertEquals(0, chunkNum.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreadNum() {
+        EdgeBalancedPartition.build(0, new int[] {1, 2}, 0);
+    }
+
+    @Test
+    public void testBlocks() {
+        int[] degrees = new int[200000];
+        for (int i = 0; i < degrees.length; ++i) {
+            degrees[i] = i % 7;
+        }
+        EdgeBalancedPartition partition = EdgeBalancedPartition.build(0, degrees, THREAD_NUM);
+        checkChunks(partition, 0, degrees.length);
+
+        long totalWeight = weightOf(degrees, 0, 0, degrees.length);
+        long maxChunkWeight = 0;
+        for (int chunk = 0; chunk < partition.getChunkNum(); ++chunk) {
+            maxChunkWeight =
+                    Math.max(
+                            maxChunkWeight,
+                            weightOf(
+                                    degrees,
+                                    0,
+                                    partition.getChunkBegin(chunk),
+                                    partition.getChunkEnd(chunk)));
+        }
+        // each thread owns a block of about the same weight
+        for (int tid = 0; tid < THREAD_NUM; ++tid) {
+            int blockBegin = partition.getBlockBegin(tid);
+            int blockEnd = partition.getBlockBegin(tid + 1);
+            Assert.assertTrue(blockBegin < blockEnd);
+            long blockWeight =
+                    weightOf(
+                            degrees,
+                            0,
+                            partition.getChunkBegin(blockBegin),
+                            partition.getChunkEnd(blockEnd - 1));
+            Assert.assertTrue(Math.abs(blockWeight - totalWeight / THREAD_NUM) <= maxChunkWeight);
+        }
+    }
+
+    @Test
+    public void testRunChunks() {
+        int[] degrees = new int[50000];
+        for (int i = 0; i < degrees.length; i += 1000) {
+            degrees[i] = 100000;
+        }
+        EdgeBalancedPartition partition = EdgeBalancedPartition.build(0, degrees, THREAD_NUM);
+        AtomicIntegerArray visited = new AtomicIntegerArray(degrees.length);
+        partition.runChunks(
+                executor,
+                (begin, end, tid) -> {
+                    Assert.assertTrue(tid >= 0 && tid < THREAD_NUM);
+                    for (int i = begin; i < end; ++i) {
+                        visited.incrementAndGet(i);
+                    }
+                });
+        for (int i = 0; i < degrees.length; ++i) {
+            Assert.assertEquals(1, visited.get(i));
+        }
+    }
+
+    @Test
+    public void testRunFailure() {
+        int[] degrees = new int[100000];
+        EdgeBalancedPartition partition = EdgeBalancedPartition.build(0, degrees, THREAD_NUM);
+        int failedChunk = partition.getChunkNum() / 2;
+        IllegalStateException failure = new IllegalStateException("chunk failed");
+        AtomicInteger runningNum = new AtomicInteger();
+        try {
+            partition.runChunks(
+                    executor,
+                    (begin, end, tid) -> {
+                        runningNum.incrementAndGet();
+                        try {
+                            if (begin == partition.getChunkBegin(failedChunk)) {
+                                throw failure;
+                            }
+                        } finally {
+                            runningNum.decrementAndGet();
+                        }
+                    });
+            Assert.fail("the failure of the chunk should be thrown");
+        } catch (IllegalStateException e) {
+            Assert.assertSame(failure, e);
+        }
+        // thrown after all of the threads are done
+        Assert.assertEquals(0, runningNum.get());
+    }
+
+    @Test
+    public void testHubSlices() {
+        int[] degrees = new int[100000];
+        Arrays.fill(degrees, 2);
+        degrees[10] = 1000000;
+        degrees[50000] = 2000000;
+        EdgeBalancedPartition partition = EdgeBalancedPartition.build(0, degrees, THREAD_NUM);
+
+        long totalWeight = weightOf(degrees, 0, 0, degrees.length);
+        long chunkWeight =
+                (totalWeight + THREAD_NUM * EdgeBalancedPartition.CHUNKS_PER_THREAD - 1)
+                        / (THREAD_NUM * EdgeBalancedPartition.CHUNKS_PER_THREAD);
+        int expectedBegin = 0;
+        long expectedNbrBegin = 0;
+        // the threads owning the slices of the largest hub
+        boolean[] hubThreads = new boolean[THREAD_NUM];
+        int tid = 0;
+        for (int chunk = 0; chunk < partition.getEdgeChunkNum(); ++chunk) {
+            while (chunk >= partition.getEdgeBlockBegin(tid + 1)) {
+                ++tid;
+            }
+            int chunkBegin = partition.getEdgeChunkBegin(chunk);
+            long nbrBegin = partition.getEdgeChunkNbrBegin(chunk);
+            long nbrEnd = partition.getEdgeChunkNbrEnd(chunk);
+            if (nbrBegin < 0) {
+                Assert.assertEquals(expectedBegin, chunkBegin);
+                Assert.assertEquals(0, expectedNbrBegin);
+                Assert.assertEquals(-1, nbrEnd);
+                expectedBegin = partition.getEdgeChunkEnd(chunk);
+                continue;
+            }
+            // the slices of a hub are contiguous and no heavier than a chunk
+            Assert.assertEquals(chunkBegin + 1, partition.getEdgeChunkEnd(chunk));
+            Assert.assertTrue(degrees[chunkBegin] >= chunkWeight);
+            Assert.assertEquals(expectedNbrBegin, nbrBegin);
+            Assert.assertTrue(nbrEnd > nbrBegin && nbrEnd - nbrBegin <= chunkWeight);
+            if (nbrEnd == degrees[chunkBegin]) {
+                expectedBegin = chunkBegin + 1;
+                expectedNbrBegin = 0;
+            } else {
+                expectedBegin = chunkBegin;
+                expectedNbrBegin = nbrEnd;
+            }
+            if (chunkBegin == 50000) {
+                hubThreads[tid] = true;
+            }
+        }
+        Assert.assertEquals(degrees.length, expectedBegin);
+        Assert.assertEquals(0, expectedNbrBegin);
+        // the hub of about half of the edges is split across the blocks of the threads
+        int hubThreadNum = 0;
+        for (boolean hubThread : hubThreads) {
+            hubThreadNum += hubThread ? 1 : 0;
+        }
+        Assert.assertTrue(hubThreadNum > 1);
+    }
+
+    @Test
+    public void testRunEdgeChunks() {
+        int[] degrees = new int[50000];
+        for (int i = 0; i < degrees.length; i += 1000) {
+            degrees[i] = 1000000;
+        }
+        EdgeBalancedPartition partition = EdgeBalancedPartition.build(0, degrees, THREAD_NUM);
+        AtomicLongArray visited = new AtomicLongArray(degrees.length);
+        AtomicIntegerArray hubThreads = new AtomicIntegerArray(THREAD_NUM);
+        partition.runEdgeChunks(
+                executor,
+                (begin, end, nbrBegin, nbrEnd, tid) -> {
+                    for (int i = begin; i < end; ++i) {
+                        long nbrNum = nbrBegin < 0 ? degrees[i] : nbrEnd - nbrBegin;
+                        visited.addAndGet(i, nbrNum);
+                    }
+                    if (nbrBegin >= 0) {
+                        hubThreads.set(tid, 1);
+                    }
+                });
+        for (int i = 0; i < degrees.length; ++i) {
+            Assert.assertEquals(degrees[i], visited.get(i));
+        }
+        int hubThreadNum = 0;
+        for (int tid = 0; tid < THREAD_NUM; ++tid) {
+            hubThreadNum += hubThreads.get(tid);
+        }
+        Assert.assertTrue(hubThreadNum > 1);
+    }
+
+    @Test
+    public void testForEachNbr() {
+        AdjList<Long, Long> adjList = new ListAdjList(10);
+        Assert.assertEquals(Arrays.asList(3L, 4L, 5L, 6L), collectNbrs(adjList, 3, 7));
+        Assert.assertEquals(Arrays.asList(8L, 9L), collectNbrs(adjList, 8, Long.MAX_VALUE));
+        Assert.assertEquals(10, collectNbrs(adjList, 0, Long.MAX_VALUE).size());
+        Assert.assertTrue(collectNbrs(adjList, 5, 5).isEmpty());
+        Assert.assertTrue(collectNbrs(adjList, 10, 20).isEmpty());
+    }
+
+    private static List<Long> collectNbrs(AdjList<Long, Long> adjList, long begin, long end) {
+        List<Long> nbrs = new ArrayList<>();
+        EdgeBalancedPartition.forEachNbr(adjList, begin, end, nbr -> nbrs.add(nbr.data()));
+        return nbrs;
+    }
+
+    // an adjacency list of the given size, the data of the i-th neighbor is i
+    private static class ListAdjList implements AdjList<Long, Long> {
+        private final List<Nbr<Long, Long>> nbrs = new ArrayList<>();
+
+        private ListAdjList(int size) {
+            for (long i = 0; i < size; ++i) {
+                nbrs.add(new ListNbr(i));
+            }
+        }
+
+        @Override
+        public String type() {
+            return "ListAdjList";
+        }
+
+        @Override
+        public Nbr<Long, Long> begin() {
+            return nbrs.get(0);
+        }
+
+        @Override
+        public Nbr<Long, Long> end() {
+            return null;
+        }
+
+        @Override
+        public long size() {
+            return nbrs.size();
+        }
+
+        @Override
+        public Iterable<Nbr<Long, Long>> iterable() {
+            return nbrs;
+        }
+    }
+
+    private static class ListNbr implements Nbr<Long, Long> {
+        private final long data;
+
+        private ListNbr(long data) {
+            this.data = data;
+        }
+
+        @Override
+        public String type() {
+            return "ListNbr";
+        }
+
+        @Override
+        public Vertex<Long> neighbor() {
+            return null;
+        }
+
+        @Override
+        public Long data() {
+            return data;
+        }
+
+        @Override
+        public Nbr<Long, Long> inc() {
+            return null;
+        }
+
+        @Override
+        public boolean eq(Nbr<Long, Long> rhs) {
+            return this == rhs;
+        }
+
+        @Override
+        public Nbr<Long, Long> dec() {
+            return null;
+        }
+    }
+}
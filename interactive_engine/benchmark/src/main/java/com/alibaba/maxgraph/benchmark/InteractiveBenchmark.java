@@ -55,6 +55,11 @@ public class InteractiveBenchmark {
 
         List<LdbcQuery> ldbcQueryList = QueryUtil.initQueryList(configuration);
 
+        if ("open".equals(configuration.getString(Configuration.BENCHMARK_MODE, "closed"))) {
+            new OpenLoopBenchmark(configuration, ldbcQueryList).run();
+            System.exit(0);
+        }
+
         AtomicInteger atomicQueryCount = new AtomicInteger(operationCount * threadCount);
         AtomicInteger atomicParameterIndex = new AtomicInteger(0);
 
@@ -62,23 +67,7 @@ public class InteractiveBenchmark {
             private Client client;
 
             public MyRunnable(String endpoint, String username, String password) {
-                String[] address = endpoint.split(":");
-                try {
-                    Cluster.Builder cluster =
-                            Cluster.build()
-                                    .addContactPoint(address[0])
-                                    .port(Integer.parseInt(address[1]))
-                                    .serializer(initializeSerialize());
-                    if (StringUtils.isNotEmpty(username) && StringUtils.isNotEmpty(password)) {
-                        cluster.credentials(username, password);
-                    }
-                    client = cluster.create().connect();
-
-                    System.out.println("Connect success.");
-                } catch (Exception e) {
-                    System.err.println("Connect failure, caused by : " + e);
-                    throw new RuntimeException(e);
-                }
+                client = connect(endpoint, username, password);
             }
 
             @Override
@@ -143,6 +132,27 @@ public class InteractiveBenchmark {
         }
     }
 
+    static Client connect(String endpoint, String username, String password) {
+        String[] address = endpoint.split(":");
+        try {
+            Cluster.Builder cluster =
+                    Cluster.build()
+                            .addContactPoint(address[0])
+                            .port(Integer.parseInt(address[1]))
+                            .serializer(initializeSerialize());
+            if (StringUtils.isNotEmpty(username) && StringUtils.isNotEmpty(password)) {
+                cluster.credentials(username, password);
+            }
+            Client client = cluster.create().connect();
+
+            System.out.println("Connect success.");
+            return client;
+        } catch (Exception e) {
+            System.err.println("Connect failure, caused by : " + e);
+            throw new RuntimeException(e);
+        }
+    }
+
     private static MessageSerializer initializeSerialize() {
         GryoMapper.Builder kryo = GryoMapper.build().addRegistry(MaxGraphIORegistry.getInstance());
         return new GryoMessageSerializerV1d0(kryo);
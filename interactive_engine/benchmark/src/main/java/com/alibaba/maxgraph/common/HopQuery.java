@@ -40,7 +40,7 @@ public class HopQuery extends LdbcQuery {
     }
 
     @Override
-    public void processGremlinQuery(
+    public boolean processGremlinQuery(
             Client client,
             HashMap<String, String> singleParameter,
             boolean printResult,
@@ -63,5 +63,6 @@ public class HopQuery extends LdbcQuery {
             }
             System.out.println(printInfo);
         }
+        return true;
     }
 }
@@ -50,7 +50,14 @@ public class LdbcQuery {
         return parameters.get(index % parameters.size());
     }
 
-    public void processGremlinQuery(
+    public String getQueryName() {
+        return queryName;
+    }
+
+    /**
+     * @return false if the query is timeout or failed
+     */
+    public boolean processGremlinQuery(
             Client client,
             HashMap<String, String> singleParameter,
             boolean printResult,
@@ -76,13 +83,14 @@ public class LdbcQuery {
                 }
                 System.out.println(printInfo);
             }
-
+            return true;
         } catch (Exception e) {
             System.out.println(
                     String.format(
                             "Timeout or failed: QueryName[%s], Parameter[%s].",
                             queryName, singleParameter.toString()));
             e.printStackTrace();
+            return false;
         }
     }
 
@@ -30,7 +30,7 @@ public abstract class LdbcWithSubQuery extends LdbcQuery {
     }
 
     @Override
-    public void processGremlinQuery(
+    public boolean processGremlinQuery(
             Client client,
             HashMap<String, String> singleParameter,
             boolean printResult,
@@ -64,12 +64,14 @@ public abstract class LdbcWithSubQuery extends LdbcQuery {
                 }
                 System.out.println(printInfo);
             }
+            return true;
         } catch (Exception e) {
             System.out.println(
                     String.format(
                             "Timeout or failed: QueryName[%s], Parameter[%s].",
                             queryName, singleParameter.toString()));
             e.printStackTrace();
+            return false;
         }
     }
 
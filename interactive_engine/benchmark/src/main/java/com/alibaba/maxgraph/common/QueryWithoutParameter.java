@@ -39,7 +39,7 @@ public class QueryWithoutParameter extends LdbcQuery {
     }
 
     @Override
-    public void processGremlinQuery(
+    public boolean processGremlinQuery(
             Client client,
             HashMap<String, String> singleParameter,
             boolean printResult,
@@ -66,12 +66,14 @@ public class QueryWithoutParameter extends LdbcQuery {
                 }
                 System.out.println(printInfo);
             }
+            return true;
         } catch (Exception e) {
             System.out.println(
                     String.format(
                             "Timeout or failed: QueryName[%s], Parameter[%s].",
                             queryName, singleParameter.toString()));
             e.printStackTrace();
+            return false;
         }
     }
 }
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.common;
+
+import com.alibaba.graphscope.groot.sdk.MaxGraphClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Inserts a vertex with a generated primary key through {@link MaxGraphClient}, which is the write
+ * operation of a mixed read/write workload. Each write is committed as a batch of its own.
+ */
+public class WriteQuery {
+    public static final String QUERY_NAME = "WRITE_VERTEX";
+
+    private final String label;
+    private final String primaryKey;
+    private final long idStart;
+    private final Map<String, String> properties;
+
+    public WriteQuery(Configuration configuration) {
+        this.label = configuration.getString(Configuration.WRITE_VERTEX_LABEL);
+        this.primaryKey = configuration.getString(Configuration.WRITE_VERTEX_PRIMARY_KEY);
+        this.idStart = configuration.getLong(Configuration.WRITE_VERTEX_ID_START, 0L);
+        this.properties =
+                parseProperties(configuration.getString(Configuration.WRITE_VERTEX_PROPERTIES, ""));
+    }
+
+    /**
+     * @param index the index of the write, the primary key of the vertex is idStart + index
+     * @return false if the write is failed
+     */
+    public boolean processWrite(MaxGraphClient client, long index, boolean printQuery) {
+        Map<String, String> vertexProperties = new HashMap<>(properties);
+        vertexProperties.put(primaryKey, String.valueOf(idStart + index));
+        try {
+            long startTime = System.currentTimeMillis();
+            client.addVertex(label, vertexProperties);
+            long snapshotId = client.commit();
+            long endTime = System.currentTimeMillis();
+            if (printQuery) {
+                System.out.println(
+                        String.format(
+                                "QueryName[%s], Parameter[%s], SnapshotId[%d], ExecuteTimeMS[%d].",
+                                QUERY_NAME, vertexProperties, snapshotId, endTime - startTime));
+            }
+            return true;
+        } catch (Exception e) {
+            System.out.println(
+                    String.format(
+                            "Timeout or failed: QueryName[%s], Parameter[%s].",
+                            QUERY_NAME, vertexProperties));
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    // in the format of k1:v1,k2:v2
+    private static Map<String, String> parseProperties(String propertiesStr) {
+        Map<String, String> properties = new HashMap<>();
+        for (String item : propertiesStr.split(",")) {
+            if (item.trim().isEmpty()) {
+                continue;
+            }
+            String[] kv = item.split(":", 2);
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("invalid vertex property " + item);
+            }
+            properties.put(kv[0].trim(), kv[1].trim());
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,81 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: am.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class Am {
+  private Am() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestartWorkerRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestartWorkerRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestartWorkerRequest_ParametersEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestartWorkerRequest_ParametersEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_KillWorkerRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_KillWorkerRequest_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\010am.proto\032\020sdk/common.proto\032\rcluster.pr" +
+      "oto\"\226\001\n\024RestartWorkerRequest\022\020\n\010workerId" +
+      "\030\001 \001(\005\0229\n\nparameters\030\002 \003(\0132%.RestartWork" +
+      "erRequest.ParametersEntry\0321\n\017ParametersE" +
+      "ntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"%\n\021" +
+      "KillWorkerRequest\022\020\n\010workerId\030\001 \001(\0052n\n\014A" +
+      "ppMasterApi\0221\n\rrestartWorker\022\025.RestartWo" +
+      "rkerRequest\032\t.Response\022+\n\nkillWorker\022\022.K" +
+      "illWorkerRequest\032\t.ResponseB!\n\032com.aliba" +
+      "ba.maxgraph.protoP\001\240\001\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+          com.alibaba.maxgraph.proto.ClusterProto.getDescriptor(),
+        });
+    internal_static_RestartWorkerRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_RestartWorkerRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestartWorkerRequest_descriptor,
+        new java.lang.String[] { "WorkerId", "Parameters", });
+    internal_static_RestartWorkerRequest_ParametersEntry_descriptor =
+      internal_static_RestartWorkerRequest_descriptor.getNestedTypes().get(0);
+    internal_static_RestartWorkerRequest_ParametersEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestartWorkerRequest_ParametersEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_KillWorkerRequest_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_KillWorkerRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_KillWorkerRequest_descriptor,
+        new java.lang.String[] { "WorkerId", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+    com.alibaba.maxgraph.proto.ClusterProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,350 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: am.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class AppMasterApiGrpc {
+
+  private AppMasterApiGrpc() {}
+
+  public static final String SERVICE_NAME = "AppMasterApi";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RestartWorkerRequest,
+      com.alibaba.maxgraph.proto.Response> getRestartWorkerMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "restartWorker",
+      requestType = com.alibaba.maxgraph.proto.RestartWorkerRequest.class,
+      responseType = com.alibaba.maxgraph.proto.Response.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RestartWorkerRequest,
+      com.alibaba.maxgraph.proto.Response> getRestartWorkerMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RestartWorkerRequest, com.alibaba.maxgraph.proto.Response> getRestartWorkerMethod;
+    if ((getRestartWorkerMethod = AppMasterApiGrpc.getRestartWorkerMethod) == null) {
+      synchronized (AppMasterApiGrpc.class) {
+        if ((getRestartWorkerMethod = AppMasterApiGrpc.getRestartWorkerMethod) == null) {
+          AppMasterApiGrpc.getRestartWorkerMethod = getRestartWorkerMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RestartWorkerRequest, com.alibaba.maxgraph.proto.Response>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "restartWorker"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RestartWorkerRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Response.getDefaultInstance()))
+              .setSchemaDescriptor(new AppMasterApiMethodDescriptorSupplier("restartWorker"))
+              .build();
+        }
+      }
+    }
+    return getRestartWorkerMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.KillWorkerRequest,
+      com.alibaba.maxgraph.proto.Response> getKillWorkerMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "killWorker",
+      requestType = com.alibaba.maxgraph.proto.KillWorkerRequest.class,
+      responseType = com.alibaba.maxgraph.proto.Response.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.KillWorkerRequest,
+      com.alibaba.maxgraph.proto.Response> getKillWorkerMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.KillWorkerRequest, com.alibaba.maxgraph.proto.Response> getKillWorkerMethod;
+    if ((getKillWorkerMethod = AppMasterApiGrpc.getKillWorkerMethod) == null) {
+      synchronized (AppMasterApiGrpc.class) {
+        if ((getKillWorkerMethod = AppMasterApiGrpc.getKillWorkerMethod) == null) {
+          AppMasterApiGrpc.getKillWorkerMethod = getKillWorkerMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.KillWorkerRequest, com.alibaba.maxgraph.proto.Response>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "killWorker"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.KillWorkerRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Response.getDefaultInstance()))
+              .setSchemaDescriptor(new AppMasterApiMethodDescriptorSupplier("killWorker"))
+              .build();
+        }
+      }
+    }
+    return getKillWorkerMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static AppMasterApiStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AppMasterApiStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AppMasterApiStub>() {
+        @java.lang.Override
+        public AppMasterApiStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AppMasterApiStub(channel, callOptions);
+        }
+      };
+    return AppMasterApiStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static AppMasterApiBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AppMasterApiBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AppMasterApiBlockingStub>() {
+        @java.lang.Override
+        public AppMasterApiBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AppMasterApiBlockingStub(channel, callOptions);
+        }
+      };
+    return AppMasterApiBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static AppMasterApiFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AppMasterApiFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AppMasterApiFutureStub>() {
+        @java.lang.Override
+        public AppMasterApiFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AppMasterApiFutureStub(channel, callOptions);
+        }
+      };
+    return AppMasterApiFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class AppMasterApiImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void restartWorker(com.alibaba.maxgraph.proto.RestartWorkerRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getRestartWorkerMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void killWorker(com.alibaba.maxgraph.proto.KillWorkerRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getKillWorkerMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getRestartWorkerMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RestartWorkerRequest,
+                com.alibaba.maxgraph.proto.Response>(
+                  this, METHODID_RESTART_WORKER)))
+          .addMethod(
+            getKillWorkerMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.KillWorkerRequest,
+                com.alibaba.maxgraph.proto.Response>(
+                  this, METHODID_KILL_WORKER)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class AppMasterApiStub extends io.grpc.stub.AbstractAsyncStub<AppMasterApiStub> {
+    private AppMasterApiStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AppMasterApiStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AppMasterApiStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void restartWorker(com.alibaba.maxgraph.proto.RestartWorkerRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getRestartWorkerMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void killWorker(com.alibaba.maxgraph.proto.KillWorkerRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getKillWorkerMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class AppMasterApiBlockingStub extends io.grpc.stub.AbstractBlockingStub<AppMasterApiBlockingStub> {
+    private AppMasterApiBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AppMasterApiBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AppMasterApiBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.Response restartWorker(com.alibaba.maxgraph.proto.RestartWorkerRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getRestartWorkerMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.Response killWorker(com.alibaba.maxgraph.proto.KillWorkerRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getKillWorkerMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class AppMasterApiFutureStub extends io.grpc.stub.AbstractFutureStub<AppMasterApiFutureStub> {
+    private AppMasterApiFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AppMasterApiFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AppMasterApiFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.Response> restartWorker(
+        com.alibaba.maxgraph.proto.RestartWorkerRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getRestartWorkerMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.Response> killWorker(
+        com.alibaba.maxgraph.proto.KillWorkerRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getKillWorkerMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_RESTART_WORKER = 0;
+  private static final int METHODID_KILL_WORKER = 1;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AppMasterApiImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AppMasterApiImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_RESTART_WORKER:
+          serviceImpl.restartWorker((com.alibaba.maxgraph.proto.RestartWorkerRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response>) responseObserver);
+          break;
+        case METHODID_KILL_WORKER:
+          serviceImpl.killWorker((com.alibaba.maxgraph.proto.KillWorkerRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class AppMasterApiBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    AppMasterApiBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.Am.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("AppMasterApi");
+    }
+  }
+
+  private static final class AppMasterApiFileDescriptorSupplier
+      extends AppMasterApiBaseDescriptorSupplier {
+    AppMasterApiFileDescriptorSupplier() {}
+  }
+
+  private static final class AppMasterApiMethodDescriptorSupplier
+      extends AppMasterApiBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    AppMasterApiMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (AppMasterApiGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new AppMasterApiFileDescriptorSupplier())
+              .addMethod(getRestartWorkerMethod())
+              .addMethod(getKillWorkerMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
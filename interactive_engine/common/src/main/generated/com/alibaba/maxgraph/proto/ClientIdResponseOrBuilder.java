@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface ClientIdResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ClientIdResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 clientId = 1;</code>
+   * @return The clientId.
+   */
+  long getClientId();
+}
@@ -0,0 +1,207 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class ClusterProto {
+  private ClusterProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RuntimeEnv_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RuntimeEnv_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RuntimeEnvList_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RuntimeEnvList_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_NodeID_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_NodeID_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_NodeInfo_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_NodeInfo_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PartitionInfo_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PartitionInfo_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PartitionInfo_ShardInfosEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PartitionInfo_ShardInfosEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StateList_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StateList_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_NodeStateProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_NodeStateProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_NodeStateProto_NodeStateMapEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_NodeStateProto_NodeStateMapEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClusterStateProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClusterStateProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClusterStateProto_PartitionsEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClusterStateProto_PartitionsEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClusterStateProto_ExpectedStateMapEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClusterStateProto_ExpectedStateMapEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServerIdAliveIdProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ServerIdAliveIdProto_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\rcluster.proto\"2\n\nRuntimeEnv\022\n\n\002id\030\001 \001(" +
+      "\r\022\014\n\004port\030\002 \001(\r\022\n\n\002ip\030\003 \001(\t\"\036\n\016RuntimeEn" +
+      "vList\022\014\n\004envs\030\001 \003(\t\"-\n\006NodeID\022\n\n\002id\030\001 \001(" +
+      "\005\022\027\n\004role\030\002 \001(\0162\t.RoleType\"Q\n\010NodeInfo\022\027" +
+      "\n\006nodeId\030\001 \001(\0132\007.NodeID\022\020\n\010serverId\030\002 \001(" +
+      "\005\022\014\n\004host\030\003 \001(\t\022\014\n\004port\030\004 \001(\005\"\203\001\n\rPartit" +
+      "ionInfo\0222\n\nshardInfos\030\001 \003(\0132\036.PartitionI" +
+      "nfo.ShardInfosEntry\032>\n\017ShardInfosEntry\022\013" +
+      "\n\003key\030\001 \001(\005\022\032\n\005value\030\002 \001(\0162\013.ShardState:" +
+      "\0028\001\"\033\n\tStateList\022\016\n\006states\030\001 \003(\003\"\212\001\n\016Nod" +
+      "eStateProto\0227\n\014nodeStateMap\030\001 \003(\0132!.Node" +
+      "StateProto.NodeStateMapEntry\032?\n\021NodeStat" +
+      "eMapEntry\022\013\n\003key\030\001 \001(\005\022\031\n\005value\030\002 \001(\0132\n." +
+      "StateList:\0028\001\"\307\002\n\021ClusterStateProto\022\030\n\005n" +
+      "odes\030\001 \003(\0132\t.NodeInfo\0226\n\npartitions\030\002 \003(" +
+      "\0132\".ClusterStateProto.PartitionsEntry\022\017\n" +
+      "\007version\030\003 \001(\003\022B\n\020expectedStateMap\030\004 \003(\013" +
+      "2(.ClusterStateProto.ExpectedStateMapEnt" +
+      "ry\032A\n\017PartitionsEntry\022\013\n\003key\030\001 \001(\005\022\035\n\005va" +
+      "lue\030\002 \001(\0132\016.PartitionInfo:\0028\001\032H\n\025Expecte" +
+      "dStateMapEntry\022\013\n\003key\030\001 \001(\005\022\036\n\005value\030\002 \001" +
+      "(\0132\017.NodeStateProto:\0028\001\"9\n\024ServerIdAlive" +
+      "IdProto\022\020\n\010serverId\030\001 \001(\005\022\017\n\007aliveId\030\002 \001" +
+      "(\003*\230\001\n\010RoleType\022\006\n\002AM\020\000\022\014\n\010EXECUTOR\020\001\022\017\n" +
+      "\013COORDINATOR\020\002\022\016\n\nID_SERVICE\020\003\022\014\n\010FRONTE" +
+      "ND\020\004\022\017\n\013INGEST_NODE\020\005\022\016\n\nSTORE_NODE\020\006\022\022\n" +
+      "\016COMPUTE_WORKER\020\007\022\022\n\016COMPUTE_MASTER\020\010*7\n" +
+      "\nShardState\022\013\n\007CREATED\020\000\022\016\n\nRECOVERING\020\001" +
+      "\022\014\n\010ONLINING\020\002B2\n\032com.alibaba.maxgraph.p" +
+      "rotoB\014ClusterProtoP\001\210\001\001\240\001\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_RuntimeEnv_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_RuntimeEnv_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RuntimeEnv_descriptor,
+        new java.lang.String[] { "Id", "Port", "Ip", });
+    internal_static_RuntimeEnvList_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_RuntimeEnvList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RuntimeEnvList_descriptor,
+        new java.lang.String[] { "Envs", });
+    internal_static_NodeID_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_NodeID_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_NodeID_descriptor,
+        new java.lang.String[] { "Id", "Role", });
+    internal_static_NodeInfo_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_NodeInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_NodeInfo_descriptor,
+        new java.lang.String[] { "NodeId", "ServerId", "Host", "Port", });
+    internal_static_PartitionInfo_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_PartitionInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PartitionInfo_descriptor,
+        new java.lang.String[] { "ShardInfos", });
+    internal_static_PartitionInfo_ShardInfosEntry_descriptor =
+      internal_static_PartitionInfo_descriptor.getNestedTypes().get(0);
+    internal_static_PartitionInfo_ShardInfosEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PartitionInfo_ShardInfosEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_StateList_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_StateList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StateList_descriptor,
+        new java.lang.String[] { "States", });
+    internal_static_NodeStateProto_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_NodeStateProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_NodeStateProto_descriptor,
+        new java.lang.String[] { "NodeStateMap", });
+    internal_static_NodeStateProto_NodeStateMapEntry_descriptor =
+      internal_static_NodeStateProto_descriptor.getNestedTypes().get(0);
+    internal_static_NodeStateProto_NodeStateMapEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_NodeStateProto_NodeStateMapEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_ClusterStateProto_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_ClusterStateProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClusterStateProto_descriptor,
+        new java.lang.String[] { "Nodes", "Partitions", "Version", "ExpectedStateMap", });
+    internal_static_ClusterStateProto_PartitionsEntry_descriptor =
+      internal_static_ClusterStateProto_descriptor.getNestedTypes().get(0);
+    internal_static_ClusterStateProto_PartitionsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClusterStateProto_PartitionsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_ClusterStateProto_ExpectedStateMapEntry_descriptor =
+      internal_static_ClusterStateProto_descriptor.getNestedTypes().get(1);
+    internal_static_ClusterStateProto_ExpectedStateMapEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClusterStateProto_ExpectedStateMapEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_ServerIdAliveIdProto_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_ServerIdAliveIdProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ServerIdAliveIdProto_descriptor,
+        new java.lang.String[] { "ServerId", "AliveId", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
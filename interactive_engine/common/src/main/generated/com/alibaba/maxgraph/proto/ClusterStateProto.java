@@ -0,0 +1,1461 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code ClusterStateProto}
+ */
+public final class ClusterStateProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:ClusterStateProto)
+    ClusterStateProtoOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ClusterStateProto.newBuilder() to construct.
+  private ClusterStateProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ClusterStateProto() {
+    nodes_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ClusterStateProto();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ClusterStateProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              nodes_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.NodeInfo>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            nodes_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.NodeInfo.parser(), extensionRegistry));
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              partitions_ = com.google.protobuf.MapField.newMapField(
+                  PartitionsDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000002;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo>
+            partitions__ = input.readMessage(
+                PartitionsDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            partitions_.getMutableMap().put(
+                partitions__.getKey(), partitions__.getValue());
+            break;
+          }
+          case 24: {
+
+            version_ = input.readInt64();
+            break;
+          }
+          case 34: {
+            if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+              expectedStateMap_ = com.google.protobuf.MapField.newMapField(
+                  ExpectedStateMapDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000004;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto>
+            expectedStateMap__ = input.readMessage(
+                ExpectedStateMapDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            expectedStateMap_.getMutableMap().put(
+                expectedStateMap__.getKey(), expectedStateMap__.getValue());
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        nodes_ = java.util.Collections.unmodifiableList(nodes_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.ClusterProto.internal_static_ClusterStateProto_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 2:
+        return internalGetPartitions();
+      case 4:
+        return internalGetExpectedStateMap();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.ClusterProto.internal_static_ClusterStateProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.ClusterStateProto.class, com.alibaba.maxgraph.proto.ClusterStateProto.Builder.class);
+  }
+
+  public static final int NODES_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.NodeInfo> nodes_;
+  /**
+   * <code>repeated .NodeInfo nodes = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.NodeInfo> getNodesList() {
+    return nodes_;
+  }
+  /**
+   * <code>repeated .NodeInfo nodes = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.NodeInfoOrBuilder> 
+      getNodesOrBuilderList() {
+    return nodes_;
+  }
+  /**
+   * <code>repeated .NodeInfo nodes = 1;</code>
+   */
+  @java.lang.Override
+  public int getNodesCount() {
+    return nodes_.size();
+  }
+  /**
+   * <code>repeated .NodeInfo nodes = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeInfo getNodes(int index) {
+    return nodes_.get(index);
+  }
+  /**
+   * <code>repeated .NodeInfo nodes = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeInfoOrBuilder getNodesOrBuilder(
+      int index) {
+    return nodes_.get(index);
+  }
+
+  public static final int PARTITIONS_FIELD_NUMBER = 2;
+  private static final class PartitionsDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo>newDefaultInstance(
+                com.alibaba.maxgraph.proto.ClusterProto.internal_static_ClusterStateProto_PartitionsEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.PartitionInfo.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> partitions_;
+  private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo>
+  internalGetPartitions() {
+    if (partitions_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PartitionsDefaultEntryHolder.defaultEntry);
+    }
+    return partitions_;
+  }
+
+  public int getPartitionsCount() {
+    return internalGetPartitions().getMap().size();
+  }
+  /**
+   * <pre>
+   * map - partitionID : { "serverID" : "STATE" }
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsPartitions(
+      int key) {
+    
+    return internalGetPartitions().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPartitionsMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> getPartitions() {
+    return getPartitionsMap();
+  }
+  /**
+   * <pre>
+   * map - partitionID : { "serverID" : "STATE" }
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> getPartitionsMap() {
+    return internalGetPartitions().getMap();
+  }
+  /**
+   * <pre>
+   * map - partitionID : { "serverID" : "STATE" }
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.PartitionInfo getPartitionsOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.PartitionInfo defaultValue) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> map =
+        internalGetPartitions().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * map - partitionID : { "serverID" : "STATE" }
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.PartitionInfo getPartitionsOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> map =
+        internalGetPartitions().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int VERSION_FIELD_NUMBER = 3;
+  private long version_;
+  /**
+   * <code>int64 version = 3;</code>
+   * @return The version.
+   */
+  @java.lang.Override
+  public long getVersion() {
+    return version_;
+  }
+
+  public static final int EXPECTEDSTATEMAP_FIELD_NUMBER = 4;
+  private static final class ExpectedStateMapDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto>newDefaultInstance(
+                com.alibaba.maxgraph.proto.ClusterProto.internal_static_ClusterStateProto_ExpectedStateMapEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.NodeStateProto.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> expectedStateMap_;
+  private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto>
+  internalGetExpectedStateMap() {
+    if (expectedStateMap_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          ExpectedStateMapDefaultEntryHolder.defaultEntry);
+    }
+    return expectedStateMap_;
+  }
+
+  public int getExpectedStateMapCount() {
+    return internalGetExpectedStateMap().getMap().size();
+  }
+  /**
+   * <pre>
+   * node:  { entityID: entityState }
+   * </pre>
+   *
+   * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsExpectedStateMap(
+      int key) {
+    
+    return internalGetExpectedStateMap().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getExpectedStateMapMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> getExpectedStateMap() {
+    return getExpectedStateMapMap();
+  }
+  /**
+   * <pre>
+   * node:  { entityID: entityState }
+   * </pre>
+   *
+   * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> getExpectedStateMapMap() {
+    return internalGetExpectedStateMap().getMap();
+  }
+  /**
+   * <pre>
+   * node:  { entityID: entityState }
+   * </pre>
+   *
+   * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.NodeStateProto getExpectedStateMapOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.NodeStateProto defaultValue) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> map =
+        internalGetExpectedStateMap().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * node:  { entityID: entityState }
+   * </pre>
+   *
+   * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.NodeStateProto getExpectedStateMapOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> map =
+        internalGetExpectedStateMap().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < nodes_.size(); i++) {
+      output.writeMessage(1, nodes_.get(i));
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetPartitions(),
+        PartitionsDefaultEntryHolder.defaultEntry,
+        2);
+    if (version_ != 0L) {
+      output.writeInt64(3, version_);
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetExpectedStateMap(),
+        ExpectedStateMapDefaultEntryHolder.defaultEntry,
+        4);
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < nodes_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, nodes_.get(i));
+    }
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> entry
+         : internalGetPartitions().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo>
+      partitions__ = PartitionsDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, partitions__);
+    }
+    if (version_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, version_);
+    }
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> entry
+         : internalGetExpectedStateMap().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto>
+      expectedStateMap__ = ExpectedStateMapDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, expectedStateMap__);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.ClusterStateProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.ClusterStateProto other = (com.alibaba.maxgraph.proto.ClusterStateProto) obj;
+
+    if (!getNodesList()
+        .equals(other.getNodesList())) return false;
+    if (!internalGetPartitions().equals(
+        other.internalGetPartitions())) return false;
+    if (getVersion()
+        != other.getVersion()) return false;
+    if (!internalGetExpectedStateMap().equals(
+        other.internalGetExpectedStateMap())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getNodesCount() > 0) {
+      hash = (37 * hash) + NODES_FIELD_NUMBER;
+      hash = (53 * hash) + getNodesList().hashCode();
+    }
+    if (!internalGetPartitions().getMap().isEmpty()) {
+      hash = (37 * hash) + PARTITIONS_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetPartitions().hashCode();
+    }
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getVersion());
+    if (!internalGetExpectedStateMap().getMap().isEmpty()) {
+      hash = (37 * hash) + EXPECTEDSTATEMAP_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetExpectedStateMap().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ClusterStateProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.ClusterStateProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ClusterStateProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:ClusterStateProto)
+      com.alibaba.maxgraph.proto.ClusterStateProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_ClusterStateProto_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetPartitions();
+        case 4:
+          return internalGetExpectedStateMap();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetMutablePartitions();
+        case 4:
+          return internalGetMutableExpectedStateMap();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_ClusterStateProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.ClusterStateProto.class, com.alibaba.maxgraph.proto.ClusterStateProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.ClusterStateProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getNodesFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (nodesBuilder_ == null) {
+        nodes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        nodesBuilder_.clear();
+      }
+      internalGetMutablePartitions().clear();
+      version_ = 0L;
+
+      internalGetMutableExpectedStateMap().clear();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_ClusterStateProto_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ClusterStateProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.ClusterStateProto.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ClusterStateProto build() {
+      com.alibaba.maxgraph.proto.ClusterStateProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ClusterStateProto buildPartial() {
+      com.alibaba.maxgraph.proto.ClusterStateProto result = new com.alibaba.maxgraph.proto.ClusterStateProto(this);
+      int from_bitField0_ = bitField0_;
+      if (nodesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          nodes_ = java.util.Collections.unmodifiableList(nodes_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.nodes_ = nodes_;
+      } else {
+        result.nodes_ = nodesBuilder_.build();
+      }
+      result.partitions_ = internalGetPartitions();
+      result.partitions_.makeImmutable();
+      result.version_ = version_;
+      result.expectedStateMap_ = internalGetExpectedStateMap();
+      result.expectedStateMap_.makeImmutable();
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.ClusterStateProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.ClusterStateProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.ClusterStateProto other) {
+      if (other == com.alibaba.maxgraph.proto.ClusterStateProto.getDefaultInstance()) return this;
+      if (nodesBuilder_ == null) {
+        if (!other.nodes_.isEmpty()) {
+          if (nodes_.isEmpty()) {
+            nodes_ = other.nodes_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureNodesIsMutable();
+            nodes_.addAll(other.nodes_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.nodes_.isEmpty()) {
+          if (nodesBuilder_.isEmpty()) {
+            nodesBuilder_.dispose();
+            nodesBuilder_ = null;
+            nodes_ = other.nodes_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            nodesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getNodesFieldBuilder() : null;
+          } else {
+            nodesBuilder_.addAllMessages(other.nodes_);
+          }
+        }
+      }
+      internalGetMutablePartitions().mergeFrom(
+          other.internalGetPartitions());
+      if (other.getVersion() != 0L) {
+        setVersion(other.getVersion());
+      }
+      internalGetMutableExpectedStateMap().mergeFrom(
+          other.internalGetExpectedStateMap());
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.ClusterStateProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.ClusterStateProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.NodeInfo> nodes_ =
+      java.util.Collections.emptyList();
+    private void ensureNodesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        nodes_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.NodeInfo>(nodes_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.NodeInfo, com.alibaba.maxgraph.proto.NodeInfo.Builder, com.alibaba.maxgraph.proto.NodeInfoOrBuilder> nodesBuilder_;
+
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.NodeInfo> getNodesList() {
+      if (nodesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(nodes_);
+      } else {
+        return nodesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public int getNodesCount() {
+      if (nodesBuilder_ == null) {
+        return nodes_.size();
+      } else {
+        return nodesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeInfo getNodes(int index) {
+      if (nodesBuilder_ == null) {
+        return nodes_.get(index);
+      } else {
+        return nodesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder setNodes(
+        int index, com.alibaba.maxgraph.proto.NodeInfo value) {
+      if (nodesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNodesIsMutable();
+        nodes_.set(index, value);
+        onChanged();
+      } else {
+        nodesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder setNodes(
+        int index, com.alibaba.maxgraph.proto.NodeInfo.Builder builderForValue) {
+      if (nodesBuilder_ == null) {
+        ensureNodesIsMutable();
+        nodes_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        nodesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder addNodes(com.alibaba.maxgraph.proto.NodeInfo value) {
+      if (nodesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNodesIsMutable();
+        nodes_.add(value);
+        onChanged();
+      } else {
+        nodesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder addNodes(
+        int index, com.alibaba.maxgraph.proto.NodeInfo value) {
+      if (nodesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNodesIsMutable();
+        nodes_.add(index, value);
+        onChanged();
+      } else {
+        nodesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder addNodes(
+        com.alibaba.maxgraph.proto.NodeInfo.Builder builderForValue) {
+      if (nodesBuilder_ == null) {
+        ensureNodesIsMutable();
+        nodes_.add(builderForValue.build());
+        onChanged();
+      } else {
+        nodesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder addNodes(
+        int index, com.alibaba.maxgraph.proto.NodeInfo.Builder builderForValue) {
+      if (nodesBuilder_ == null) {
+        ensureNodesIsMutable();
+        nodes_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        nodesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder addAllNodes(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.NodeInfo> values) {
+      if (nodesBuilder_ == null) {
+        ensureNodesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, nodes_);
+        onChanged();
+      } else {
+        nodesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder clearNodes() {
+      if (nodesBuilder_ == null) {
+        nodes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        nodesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public Builder removeNodes(int index) {
+      if (nodesBuilder_ == null) {
+        ensureNodesIsMutable();
+        nodes_.remove(index);
+        onChanged();
+      } else {
+        nodesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeInfo.Builder getNodesBuilder(
+        int index) {
+      return getNodesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeInfoOrBuilder getNodesOrBuilder(
+        int index) {
+      if (nodesBuilder_ == null) {
+        return nodes_.get(index);  } else {
+        return nodesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.NodeInfoOrBuilder> 
+         getNodesOrBuilderList() {
+      if (nodesBuilder_ != null) {
+        return nodesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(nodes_);
+      }
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeInfo.Builder addNodesBuilder() {
+      return getNodesFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.NodeInfo.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeInfo.Builder addNodesBuilder(
+        int index) {
+      return getNodesFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.NodeInfo.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .NodeInfo nodes = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.NodeInfo.Builder> 
+         getNodesBuilderList() {
+      return getNodesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.NodeInfo, com.alibaba.maxgraph.proto.NodeInfo.Builder, com.alibaba.maxgraph.proto.NodeInfoOrBuilder> 
+        getNodesFieldBuilder() {
+      if (nodesBuilder_ == null) {
+        nodesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.NodeInfo, com.alibaba.maxgraph.proto.NodeInfo.Builder, com.alibaba.maxgraph.proto.NodeInfoOrBuilder>(
+                nodes_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        nodes_ = null;
+      }
+      return nodesBuilder_;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> partitions_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo>
+    internalGetPartitions() {
+      if (partitions_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PartitionsDefaultEntryHolder.defaultEntry);
+      }
+      return partitions_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo>
+    internalGetMutablePartitions() {
+      onChanged();;
+      if (partitions_ == null) {
+        partitions_ = com.google.protobuf.MapField.newMapField(
+            PartitionsDefaultEntryHolder.defaultEntry);
+      }
+      if (!partitions_.isMutable()) {
+        partitions_ = partitions_.copy();
+      }
+      return partitions_;
+    }
+
+    public int getPartitionsCount() {
+      return internalGetPartitions().getMap().size();
+    }
+    /**
+     * <pre>
+     * map - partitionID : { "serverID" : "STATE" }
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsPartitions(
+        int key) {
+      
+      return internalGetPartitions().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPartitionsMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> getPartitions() {
+      return getPartitionsMap();
+    }
+    /**
+     * <pre>
+     * map - partitionID : { "serverID" : "STATE" }
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> getPartitionsMap() {
+      return internalGetPartitions().getMap();
+    }
+    /**
+     * <pre>
+     * map - partitionID : { "serverID" : "STATE" }
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.PartitionInfo getPartitionsOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.PartitionInfo defaultValue) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> map =
+          internalGetPartitions().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * map - partitionID : { "serverID" : "STATE" }
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.PartitionInfo getPartitionsOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> map =
+          internalGetPartitions().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearPartitions() {
+      internalGetMutablePartitions().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * map - partitionID : { "serverID" : "STATE" }
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+     */
+
+    public Builder removePartitions(
+        int key) {
+      
+      internalGetMutablePartitions().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo>
+    getMutablePartitions() {
+      return internalGetMutablePartitions().getMutableMap();
+    }
+    /**
+     * <pre>
+     * map - partitionID : { "serverID" : "STATE" }
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+     */
+    public Builder putPartitions(
+        int key,
+        com.alibaba.maxgraph.proto.PartitionInfo value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutablePartitions().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * map - partitionID : { "serverID" : "STATE" }
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionInfo&gt; partitions = 2;</code>
+     */
+
+    public Builder putAllPartitions(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionInfo> values) {
+      internalGetMutablePartitions().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+
+    private long version_ ;
+    /**
+     * <code>int64 version = 3;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+    /**
+     * <code>int64 version = 3;</code>
+     * @param value The version to set.
+     * @return This builder for chaining.
+     */
+    public Builder setVersion(long value) {
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 version = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearVersion() {
+      
+      version_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> expectedStateMap_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto>
+    internalGetExpectedStateMap() {
+      if (expectedStateMap_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            ExpectedStateMapDefaultEntryHolder.defaultEntry);
+      }
+      return expectedStateMap_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto>
+    internalGetMutableExpectedStateMap() {
+      onChanged();;
+      if (expectedStateMap_ == null) {
+        expectedStateMap_ = com.google.protobuf.MapField.newMapField(
+            ExpectedStateMapDefaultEntryHolder.defaultEntry);
+      }
+      if (!expectedStateMap_.isMutable()) {
+        expectedStateMap_ = expectedStateMap_.copy();
+      }
+      return expectedStateMap_;
+    }
+
+    public int getExpectedStateMapCount() {
+      return internalGetExpectedStateMap().getMap().size();
+    }
+    /**
+     * <pre>
+     * node:  { entityID: entityState }
+     * </pre>
+     *
+     * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsExpectedStateMap(
+        int key) {
+      
+      return internalGetExpectedStateMap().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getExpectedStateMapMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> getExpectedStateMap() {
+      return getExpectedStateMapMap();
+    }
+    /**
+     * <pre>
+     * node:  { entityID: entityState }
+     * </pre>
+     *
+     * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> getExpectedStateMapMap() {
+      return internalGetExpectedStateMap().getMap();
+    }
+    /**
+     * <pre>
+     * node:  { entityID: entityState }
+     * </pre>
+     *
+     * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.NodeStateProto getExpectedStateMapOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.NodeStateProto defaultValue) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> map =
+          internalGetExpectedStateMap().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * node:  { entityID: entityState }
+     * </pre>
+     *
+     * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.NodeStateProto getExpectedStateMapOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> map =
+          internalGetExpectedStateMap().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearExpectedStateMap() {
+      internalGetMutableExpectedStateMap().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * node:  { entityID: entityState }
+     * </pre>
+     *
+     * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+     */
+
+    public Builder removeExpectedStateMap(
+        int key) {
+      
+      internalGetMutableExpectedStateMap().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto>
+    getMutableExpectedStateMap() {
+      return internalGetMutableExpectedStateMap().getMutableMap();
+    }
+    /**
+     * <pre>
+     * node:  { entityID: entityState }
+     * </pre>
+     *
+     * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+     */
+    public Builder putExpectedStateMap(
+        int key,
+        com.alibaba.maxgraph.proto.NodeStateProto value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableExpectedStateMap().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * node:  { entityID: entityState }
+     * </pre>
+     *
+     * <code>map&lt;int32, .NodeStateProto&gt; expectedStateMap = 4;</code>
+     */
+
+    public Builder putAllExpectedStateMap(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.NodeStateProto> values) {
+      internalGetMutableExpectedStateMap().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:ClusterStateProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:ClusterStateProto)
+  private static final com.alibaba.maxgraph.proto.ClusterStateProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.ClusterStateProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.ClusterStateProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ClusterStateProto>
+      PARSER = new com.google.protobuf.AbstractParser<ClusterStateProto>() {
+    @java.lang.Override
+    public ClusterStateProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ClusterStateProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ClusterStateProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ClusterStateProto> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ClusterStateProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
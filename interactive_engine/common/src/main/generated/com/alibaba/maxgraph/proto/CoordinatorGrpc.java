@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: coordinator.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class CoordinatorGrpc {
+
+  private CoordinatorGrpc() {}
+
+  public static final String SERVICE_NAME = "Coordinator";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.HeartbeartRequest,
+      com.alibaba.maxgraph.proto.HeartbeartResponse> getHeartbeatMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "heartbeat",
+      requestType = com.alibaba.maxgraph.proto.HeartbeartRequest.class,
+      responseType = com.alibaba.maxgraph.proto.HeartbeartResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.HeartbeartRequest,
+      com.alibaba.maxgraph.proto.HeartbeartResponse> getHeartbeatMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.HeartbeartRequest, com.alibaba.maxgraph.proto.HeartbeartResponse> getHeartbeatMethod;
+    if ((getHeartbeatMethod = CoordinatorGrpc.getHeartbeatMethod) == null) {
+      synchronized (CoordinatorGrpc.class) {
+        if ((getHeartbeatMethod = CoordinatorGrpc.getHeartbeatMethod) == null) {
+          CoordinatorGrpc.getHeartbeatMethod = getHeartbeatMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.HeartbeartRequest, com.alibaba.maxgraph.proto.HeartbeartResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "heartbeat"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.HeartbeartRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.HeartbeartResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new CoordinatorMethodDescriptorSupplier("heartbeat"))
+              .build();
+        }
+      }
+    }
+    return getHeartbeatMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static CoordinatorStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CoordinatorStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CoordinatorStub>() {
+        @java.lang.Override
+        public CoordinatorStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CoordinatorStub(channel, callOptions);
+        }
+      };
+    return CoordinatorStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static CoordinatorBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CoordinatorBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CoordinatorBlockingStub>() {
+        @java.lang.Override
+        public CoordinatorBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CoordinatorBlockingStub(channel, callOptions);
+        }
+      };
+    return CoordinatorBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static CoordinatorFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CoordinatorFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CoordinatorFutureStub>() {
+        @java.lang.Override
+        public CoordinatorFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CoordinatorFutureStub(channel, callOptions);
+        }
+      };
+    return CoordinatorFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class CoordinatorImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void heartbeat(com.alibaba.maxgraph.proto.HeartbeartRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.HeartbeartResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getHeartbeatMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getHeartbeatMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.HeartbeartRequest,
+                com.alibaba.maxgraph.proto.HeartbeartResponse>(
+                  this, METHODID_HEARTBEAT)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class CoordinatorStub extends io.grpc.stub.AbstractAsyncStub<CoordinatorStub> {
+    private CoordinatorStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CoordinatorStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CoordinatorStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void heartbeat(com.alibaba.maxgraph.proto.HeartbeartRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.HeartbeartResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getHeartbeatMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class CoordinatorBlockingStub extends io.grpc.stub.AbstractBlockingStub<CoordinatorBlockingStub> {
+    private CoordinatorBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CoordinatorBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CoordinatorBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.HeartbeartResponse heartbeat(com.alibaba.maxgraph.proto.HeartbeartRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getHeartbeatMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class CoordinatorFutureStub extends io.grpc.stub.AbstractFutureStub<CoordinatorFutureStub> {
+    private CoordinatorFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CoordinatorFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CoordinatorFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.HeartbeartResponse> heartbeat(
+        com.alibaba.maxgraph.proto.HeartbeartRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getHeartbeatMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_HEARTBEAT = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final CoordinatorImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(CoordinatorImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_HEARTBEAT:
+          serviceImpl.heartbeat((com.alibaba.maxgraph.proto.HeartbeartRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.HeartbeartResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class CoordinatorBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    CoordinatorBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.CoordinatorOuterClass.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("Coordinator");
+    }
+  }
+
+  private static final class CoordinatorFileDescriptorSupplier
+      extends CoordinatorBaseDescriptorSupplier {
+    CoordinatorFileDescriptorSupplier() {}
+  }
+
+  private static final class CoordinatorMethodDescriptorSupplier
+      extends CoordinatorBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    CoordinatorMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (CoordinatorGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new CoordinatorFileDescriptorSupplier())
+              .addMethod(getHeartbeatMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,73 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: coordinator.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class CoordinatorOuterClass {
+  private CoordinatorOuterClass() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_HeartbeartRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_HeartbeartRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_HeartbeartResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_HeartbeartResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\021coordinator.proto\032\rcluster.proto\032\020sdk/" +
+      "common.proto\"\275\001\n\021HeartbeartRequest\022\033\n\010no" +
+      "deInfo\030\001 \001(\0132\t.NodeInfo\022\033\n\023clusterStateV" +
+      "ersion\030\002 \001(\003\022\'\n\016nodeStateProto\030\003 \001(\0132\017.N" +
+      "odeStateProto\022\016\n\006logDir\030\004 \001(\t\022\017\n\007aliveId" +
+      "\030\005 \001(\004\022$\n\nmetricInfo\030\006 \001(\0132\020.MetricInfoP" +
+      "roto\"}\n\022HeartbeartResponse\022\033\n\023clusterSta" +
+      "teVersion\030\001 \001(\003\022(\n\014clusterState\030\002 \001(\0132\022." +
+      "ClusterStateProto\022\017\n\007aliveId\030\003 \001(\004\022\017\n\007is" +
+      "Legal\030\004 \001(\0102E\n\013Coordinator\0226\n\theartbeat\022" +
+      "\022.HeartbeartRequest\032\023.HeartbeartResponse" +
+      "\"\000B\036\n\032com.alibaba.maxgraph.protoP\001b\006prot" +
+      "o3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.ClusterProto.getDescriptor(),
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+        });
+    internal_static_HeartbeartRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_HeartbeartRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_HeartbeartRequest_descriptor,
+        new java.lang.String[] { "NodeInfo", "ClusterStateVersion", "NodeStateProto", "LogDir", "AliveId", "MetricInfo", });
+    internal_static_HeartbeartResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_HeartbeartResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_HeartbeartResponse_descriptor,
+        new java.lang.String[] { "ClusterStateVersion", "ClusterState", "AliveId", "IsLegal", });
+    com.alibaba.maxgraph.proto.ClusterProto.getDescriptor();
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,221 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class Data {
+  private Data() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_InstanceInfoProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_InstanceInfoProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_InstanceInfoProto_AssignmentEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_InstanceInfoProto_AssignmentEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_InstanceInfoProto_WorkerInfosEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_InstanceInfoProto_WorkerInfosEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_InstanceInfoResp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_InstanceInfoResp_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RuntimeGroupStatusResp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RuntimeGroupStatusResp_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RuntimeGroupStatusResp_RuntimeGroupsStstusEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RuntimeGroupStatusResp_RuntimeGroupsStstusEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DataPathStatusResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DataPathStatusResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetExecutorAliveIdRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetExecutorAliveIdRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetExecutorAliveIdResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetExecutorAliveIdResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPartitionAssignmentRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPartitionAssignmentRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPartitionAssignmentResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPartitionAssignmentResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClientIdResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClientIdResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\ndata.proto\032\020sdk/common.proto\032\010hb.proto" +
+      "\032\rcluster.proto\"\370\002\n\021InstanceInfoProto\0226\n" +
+      "\nassignment\030\001 \003(\0132\".InstanceInfoProto.As" +
+      "signmentEntry\0228\n\013workerInfos\030\002 \003(\0132#.Ins" +
+      "tanceInfoProto.WorkerInfosEntry\022\026\n\016offli" +
+      "neVersion\030\004 \001(\003\022)\n\006status\030\007 \001(\0162\031.Instan" +
+      "ceInfoProto.Status\032C\n\017AssignmentEntry\022\013\n" +
+      "\003key\030\001 \001(\005\022\037\n\005value\030\002 \001(\0132\020.PartitionPro" +
+      "tos:\0028\001\032E\n\020WorkerInfosEntry\022\013\n\003key\030\001 \001(\005" +
+      "\022 \n\005value\030\002 \001(\0132\021.WorkerInfoProtos:\0028\001\"\"" +
+      "\n\006Status\022\n\n\006NORMAL\020\000\022\014\n\010ABNORMAL\020\001\"Z\n\020In" +
+      "stanceInfoResp\022\027\n\004resp\030\001 \001(\0132\t.Response\022" +
+      "-\n\021instanceInfoProto\030\002 \001(\0132\022.InstanceInf" +
+      "oProto\"\235\002\n\026RuntimeGroupStatusResp\022\033\n\010res" +
+      "ponse\030\001 \001(\0132\t.Response\022M\n\023runtimeGroupsS" +
+      "tstus\030\002 \003(\01320.RuntimeGroupStatusResp.Run" +
+      "timeGroupsStstusEntry\032Z\n\030RuntimeGroupsSt" +
+      "stusEntry\022\013\n\003key\030\001 \001(\005\022-\n\005value\030\002 \001(\0162\036." +
+      "RuntimeGroupStatusResp.Status:\0028\001\";\n\006Sta" +
+      "tus\022\014\n\010STARTING\020\000\022\t\n\005READY\020\001\022\013\n\007RUNNING\020" +
+      "\002\022\013\n\007RESTORE\020\003\"F\n\026DataPathStatusResponse" +
+      "\022\033\n\010response\030\001 \001(\0132\t.Response\022\017\n\007isInUse" +
+      "\030\002 \001(\010\"9\n\031GetExecutorAliveIdRequest\022\020\n\010s" +
+      "erverId\030\001 \001(\r\022\n\n\002ip\030\002 \001(\t\"J\n\032GetExecutor" +
+      "AliveIdResponse\022\033\n\010response\030\001 \001(\0132\t.Resp" +
+      "onse\022\017\n\007aliveId\030\002 \001(\004\"1\n\035GetPartitionAss" +
+      "ignmentRequest\022\020\n\010serverId\030\001 \001(\r\"5\n\036GetP" +
+      "artitionAssignmentResponse\022\023\n\013partitionI" +
+      "d\030\001 \003(\r\"$\n\020ClientIdResponse\022\020\n\010clientId\030" +
+      "\001 \001(\0032\336\005\n\rServerDataApi\022.\n\017getInstanceIn" +
+      "fo\022\010.Request\032\021.InstanceInfoResp\022(\n\theart" +
+      "beat\022\014.ServerHBReq\032\r.ServerHBResp\0220\n\020upd" +
+      "ateRuntimeEnv\022\013.RuntimeEnv\032\017.RuntimeEnvL" +
+      "ist\022!\n\017resetRuntimeEnv\022\006.Empty\032\006.Empty\022>" +
+      "\n\017simpleHeartbeat\022\022.SimpleServerHBReq\032\027." +
+      "SimpleServerHBResponse\0228\n\025getRuntimeGrou" +
+      "pStatus\022\006.Empty\032\027.RuntimeGroupStatusResp" +
+      "\022A\n\017isDataPathInUse\022\025.ServerIdAliveIdPro" +
+      "to\032\027.DataPathStatusResponse\022E\n!getWorker" +
+      "InfoAndRoutingServerList\022\010.Request\032\026.Rou" +
+      "tingServerInfoResp\0228\n\021getRealTimeMetric\022" +
+      "\022.MetricInfoRequest\032\017.MetricInfoResp\0226\n\025" +
+      "getAllRealTimeMetrics\022\010.Request\032\023.AllMet" +
+      "ricsInfoResp\022M\n\022getExecutorAliveId\022\032.Get" +
+      "ExecutorAliveIdRequest\032\033.GetExecutorAliv" +
+      "eIdResponse\022Y\n\026getPartitionAssignment\022\036." +
+      "GetPartitionAssignmentRequest\032\037.GetParti" +
+      "tionAssignmentResponseB!\n\032com.alibaba.ma" +
+      "xgraph.protoP\001\240\001\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+          com.alibaba.maxgraph.proto.Hb.getDescriptor(),
+          com.alibaba.maxgraph.proto.ClusterProto.getDescriptor(),
+        });
+    internal_static_InstanceInfoProto_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_InstanceInfoProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_InstanceInfoProto_descriptor,
+        new java.lang.String[] { "Assignment", "WorkerInfos", "OfflineVersion", "Status", });
+    internal_static_InstanceInfoProto_AssignmentEntry_descriptor =
+      internal_static_InstanceInfoProto_descriptor.getNestedTypes().get(0);
+    internal_static_InstanceInfoProto_AssignmentEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_InstanceInfoProto_AssignmentEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_InstanceInfoProto_WorkerInfosEntry_descriptor =
+      internal_static_InstanceInfoProto_descriptor.getNestedTypes().get(1);
+    internal_static_InstanceInfoProto_WorkerInfosEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_InstanceInfoProto_WorkerInfosEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_InstanceInfoResp_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_InstanceInfoResp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_InstanceInfoResp_descriptor,
+        new java.lang.String[] { "Resp", "InstanceInfoProto", });
+    internal_static_RuntimeGroupStatusResp_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_RuntimeGroupStatusResp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RuntimeGroupStatusResp_descriptor,
+        new java.lang.String[] { "Response", "RuntimeGroupsStstus", });
+    internal_static_RuntimeGroupStatusResp_RuntimeGroupsStstusEntry_descriptor =
+      internal_static_RuntimeGroupStatusResp_descriptor.getNestedTypes().get(0);
+    internal_static_RuntimeGroupStatusResp_RuntimeGroupsStstusEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RuntimeGroupStatusResp_RuntimeGroupsStstusEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_DataPathStatusResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_DataPathStatusResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DataPathStatusResponse_descriptor,
+        new java.lang.String[] { "Response", "IsInUse", });
+    internal_static_GetExecutorAliveIdRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_GetExecutorAliveIdRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetExecutorAliveIdRequest_descriptor,
+        new java.lang.String[] { "ServerId", "Ip", });
+    internal_static_GetExecutorAliveIdResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_GetExecutorAliveIdResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetExecutorAliveIdResponse_descriptor,
+        new java.lang.String[] { "Response", "AliveId", });
+    internal_static_GetPartitionAssignmentRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_GetPartitionAssignmentRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPartitionAssignmentRequest_descriptor,
+        new java.lang.String[] { "ServerId", });
+    internal_static_GetPartitionAssignmentResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_GetPartitionAssignmentResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPartitionAssignmentResponse_descriptor,
+        new java.lang.String[] { "PartitionId", });
+    internal_static_ClientIdResponse_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_ClientIdResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClientIdResponse_descriptor,
+        new java.lang.String[] { "ClientId", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+    com.alibaba.maxgraph.proto.Hb.getDescriptor();
+    com.alibaba.maxgraph.proto.ClusterProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,30 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface DataPathStatusResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DataPathStatusResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.Response response = 1;</code>
+   * @return Whether the response field is set.
+   */
+  boolean hasResponse();
+  /**
+   * <code>.Response response = 1;</code>
+   * @return The response.
+   */
+  com.alibaba.maxgraph.proto.Response getResponse();
+  /**
+   * <code>.Response response = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getResponseOrBuilder();
+
+  /**
+   * <code>bool isInUse = 2;</code>
+   * @return The isInUse.
+   */
+  boolean getIsInUse();
+}
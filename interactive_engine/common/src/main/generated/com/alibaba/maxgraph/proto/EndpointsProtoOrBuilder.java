@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface EndpointsProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:EndpointsProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .EndpointProto addrs = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.EndpointProto> 
+      getAddrsList();
+  /**
+   * <code>repeated .EndpointProto addrs = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.EndpointProto getAddrs(int index);
+  /**
+   * <code>repeated .EndpointProto addrs = 1;</code>
+   */
+  int getAddrsCount();
+  /**
+   * <code>repeated .EndpointProto addrs = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.EndpointProtoOrBuilder> 
+      getAddrsOrBuilderList();
+  /**
+   * <code>repeated .EndpointProto addrs = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getAddrsOrBuilder(
+      int index);
+}
@@ -0,0 +1,122 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf enum {@code EventLevel}
+ */
+public enum EventLevel
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>SERIOUS = 0;</code>
+   */
+  SERIOUS(0),
+  /**
+   * <code>WARNING = 1;</code>
+   */
+  WARNING(1),
+  /**
+   * <code>NORMAL = 2;</code>
+   */
+  NORMAL(2),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>SERIOUS = 0;</code>
+   */
+  public static final int SERIOUS_VALUE = 0;
+  /**
+   * <code>WARNING = 1;</code>
+   */
+  public static final int WARNING_VALUE = 1;
+  /**
+   * <code>NORMAL = 2;</code>
+   */
+  public static final int NORMAL_VALUE = 2;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static EventLevel valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static EventLevel forNumber(int value) {
+    switch (value) {
+      case 0: return SERIOUS;
+      case 1: return WARNING;
+      case 2: return NORMAL;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<EventLevel>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      EventLevel> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<EventLevel>() {
+          public EventLevel findValueByNumber(int number) {
+            return EventLevel.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.SchedulerMonitor.getDescriptor().getEnumTypes().get(0);
+  }
+
+  private static final EventLevel[] VALUES = values();
+
+  public static EventLevel valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private EventLevel(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:EventLevel)
+}
+
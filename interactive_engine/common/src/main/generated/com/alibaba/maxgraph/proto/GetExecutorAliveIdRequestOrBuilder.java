@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface GetExecutorAliveIdRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetExecutorAliveIdRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>uint32 serverId = 1;</code>
+   * @return The serverId.
+   */
+  int getServerId();
+
+  /**
+   * <code>string ip = 2;</code>
+   * @return The ip.
+   */
+  java.lang.String getIp();
+  /**
+   * <code>string ip = 2;</code>
+   * @return The bytes for ip.
+   */
+  com.google.protobuf.ByteString
+      getIpBytes();
+}
@@ -0,0 +1,30 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface GetExecutorAliveIdResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetExecutorAliveIdResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.Response response = 1;</code>
+   * @return Whether the response field is set.
+   */
+  boolean hasResponse();
+  /**
+   * <code>.Response response = 1;</code>
+   * @return The response.
+   */
+  com.alibaba.maxgraph.proto.Response getResponse();
+  /**
+   * <code>.Response response = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getResponseOrBuilder();
+
+  /**
+   * <code>uint64 aliveId = 2;</code>
+   * @return The aliveId.
+   */
+  long getAliveId();
+}
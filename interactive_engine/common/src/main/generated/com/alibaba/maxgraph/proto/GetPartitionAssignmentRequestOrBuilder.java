@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface GetPartitionAssignmentRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetPartitionAssignmentRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>uint32 serverId = 1;</code>
+   * @return The serverId.
+   */
+  int getServerId();
+}
@@ -0,0 +1,599 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code GetPartitionAssignmentResponse}
+ */
+public final class GetPartitionAssignmentResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:GetPartitionAssignmentResponse)
+    GetPartitionAssignmentResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use GetPartitionAssignmentResponse.newBuilder() to construct.
+  private GetPartitionAssignmentResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GetPartitionAssignmentResponse() {
+    partitionId_ = emptyIntList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new GetPartitionAssignmentResponse();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private GetPartitionAssignmentResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              partitionId_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            partitionId_.addInt(input.readUInt32());
+            break;
+          }
+          case 10: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              partitionId_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              partitionId_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        partitionId_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Data.internal_static_GetPartitionAssignmentResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Data.internal_static_GetPartitionAssignmentResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.class, com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.Builder.class);
+  }
+
+  public static final int PARTITIONID_FIELD_NUMBER = 1;
+  private com.google.protobuf.Internal.IntList partitionId_;
+  /**
+   * <code>repeated uint32 partitionId = 1;</code>
+   * @return A list containing the partitionId.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getPartitionIdList() {
+    return partitionId_;
+  }
+  /**
+   * <code>repeated uint32 partitionId = 1;</code>
+   * @return The count of partitionId.
+   */
+  public int getPartitionIdCount() {
+    return partitionId_.size();
+  }
+  /**
+   * <code>repeated uint32 partitionId = 1;</code>
+   * @param index The index of the element to return.
+   * @return The partitionId at the given index.
+   */
+  public int getPartitionId(int index) {
+    return partitionId_.getInt(index);
+  }
+  private int partitionIdMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getPartitionIdList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(partitionIdMemoizedSerializedSize);
+    }
+    for (int i = 0; i < partitionId_.size(); i++) {
+      output.writeUInt32NoTag(partitionId_.getInt(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < partitionId_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(partitionId_.getInt(i));
+      }
+      size += dataSize;
+      if (!getPartitionIdList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      partitionIdMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse other = (com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse) obj;
+
+    if (!getPartitionIdList()
+        .equals(other.getPartitionIdList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getPartitionIdCount() > 0) {
+      hash = (37 * hash) + PARTITIONID_FIELD_NUMBER;
+      hash = (53 * hash) + getPartitionIdList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code GetPartitionAssignmentResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:GetPartitionAssignmentResponse)
+      com.alibaba.maxgraph.proto.GetPartitionAssignmentResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_GetPartitionAssignmentResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_GetPartitionAssignmentResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.class, com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      partitionId_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_GetPartitionAssignmentResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse build() {
+      com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse buildPartial() {
+      com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse result = new com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        partitionId_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.partitionId_ = partitionId_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse) {
+        return mergeFrom((com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse other) {
+      if (other == com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.getDefaultInstance()) return this;
+      if (!other.partitionId_.isEmpty()) {
+        if (partitionId_.isEmpty()) {
+          partitionId_ = other.partitionId_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensurePartitionIdIsMutable();
+          partitionId_.addAll(other.partitionId_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.IntList partitionId_ = emptyIntList();
+    private void ensurePartitionIdIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        partitionId_ = mutableCopy(partitionId_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated uint32 partitionId = 1;</code>
+     * @return A list containing the partitionId.
+     */
+    public java.util.List<java.lang.Integer>
+        getPartitionIdList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(partitionId_) : partitionId_;
+    }
+    /**
+     * <code>repeated uint32 partitionId = 1;</code>
+     * @return The count of partitionId.
+     */
+    public int getPartitionIdCount() {
+      return partitionId_.size();
+    }
+    /**
+     * <code>repeated uint32 partitionId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The partitionId at the given index.
+     */
+    public int getPartitionId(int index) {
+      return partitionId_.getInt(index);
+    }
+    /**
+     * <code>repeated uint32 partitionId = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The partitionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPartitionId(
+        int index, int value) {
+      ensurePartitionIdIsMutable();
+      partitionId_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partitionId = 1;</code>
+     * @param value The partitionId to add.
+     * @return This builder for chaining.
+     */
+    public Builder addPartitionId(int value) {
+      ensurePartitionIdIsMutable();
+      partitionId_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partitionId = 1;</code>
+     * @param values The partitionId to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllPartitionId(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensurePartitionIdIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, partitionId_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partitionId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPartitionId() {
+      partitionId_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:GetPartitionAssignmentResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:GetPartitionAssignmentResponse)
+  private static final com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse();
+  }
+
+  public static com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GetPartitionAssignmentResponse>
+      PARSER = new com.google.protobuf.AbstractParser<GetPartitionAssignmentResponse>() {
+    @java.lang.Override
+    public GetPartitionAssignmentResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new GetPartitionAssignmentResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GetPartitionAssignmentResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GetPartitionAssignmentResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface GetPartitionAssignmentResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetPartitionAssignmentResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated uint32 partitionId = 1;</code>
+   * @return A list containing the partitionId.
+   */
+  java.util.List<java.lang.Integer> getPartitionIdList();
+  /**
+   * <code>repeated uint32 partitionId = 1;</code>
+   * @return The count of partitionId.
+   */
+  int getPartitionIdCount();
+  /**
+   * <code>repeated uint32 partitionId = 1;</code>
+   * @param index The index of the element to return.
+   * @return The partitionId at the given index.
+   */
+  int getPartitionId(int index);
+}
@@ -0,0 +1,7522 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: gremlin_query.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class GremlinQuery {
+  private GremlinQuery() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface VertexScanRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.VertexScanRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 typeId = 1;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>bool order = 2;</code>
+     * @return The order.
+     */
+    boolean getOrder();
+
+    /**
+     * <code>string orderKey = 3;</code>
+     * @return The orderKey.
+     */
+    java.lang.String getOrderKey();
+    /**
+     * <code>string orderKey = 3;</code>
+     * @return The bytes for orderKey.
+     */
+    com.google.protobuf.ByteString
+        getOrderKeyBytes();
+
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    int getLimit();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.VertexScanRequest}
+   */
+  public static final class VertexScanRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.VertexScanRequest)
+      VertexScanRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use VertexScanRequest.newBuilder() to construct.
+    private VertexScanRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private VertexScanRequest() {
+      orderKey_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new VertexScanRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VertexScanRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              order_ = input.readBool();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              orderKey_ = s;
+              break;
+            }
+            case 32: {
+
+              limit_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexScanRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexScanRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.class, com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.Builder.class);
+    }
+
+    public static final int TYPEID_FIELD_NUMBER = 1;
+    private int typeId_;
+    /**
+     * <code>int32 typeId = 1;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int ORDER_FIELD_NUMBER = 2;
+    private boolean order_;
+    /**
+     * <code>bool order = 2;</code>
+     * @return The order.
+     */
+    @java.lang.Override
+    public boolean getOrder() {
+      return order_;
+    }
+
+    public static final int ORDERKEY_FIELD_NUMBER = 3;
+    private volatile java.lang.Object orderKey_;
+    /**
+     * <code>string orderKey = 3;</code>
+     * @return The orderKey.
+     */
+    @java.lang.Override
+    public java.lang.String getOrderKey() {
+      java.lang.Object ref = orderKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        orderKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string orderKey = 3;</code>
+     * @return The bytes for orderKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOrderKeyBytes() {
+      java.lang.Object ref = orderKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        orderKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (typeId_ != 0) {
+        output.writeInt32(1, typeId_);
+      }
+      if (order_ != false) {
+        output.writeBool(2, order_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(orderKey_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, orderKey_);
+      }
+      if (limit_ != 0) {
+        output.writeInt32(4, limit_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, typeId_);
+      }
+      if (order_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, order_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(orderKey_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, orderKey_);
+      }
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest other = (com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest) obj;
+
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (getOrder()
+          != other.getOrder()) return false;
+      if (!getOrderKey()
+          .equals(other.getOrderKey())) return false;
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPEID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      hash = (37 * hash) + ORDER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getOrder());
+      hash = (37 * hash) + ORDERKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getOrderKey().hashCode();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.VertexScanRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.VertexScanRequest)
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexScanRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexScanRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.class, com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        typeId_ = 0;
+
+        order_ = false;
+
+        orderKey_ = "";
+
+        limit_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexScanRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest build() {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest buildPartial() {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest result = new com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest(this);
+        result.typeId_ = typeId_;
+        result.order_ = order_;
+        result.orderKey_ = orderKey_;
+        result.limit_ = limit_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest other) {
+        if (other == com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.getDefaultInstance()) return this;
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (other.getOrder() != false) {
+          setOrder(other.getOrder());
+        }
+        if (!other.getOrderKey().isEmpty()) {
+          orderKey_ = other.orderKey_;
+          onChanged();
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 typeId = 1;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 typeId = 1;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 typeId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean order_ ;
+      /**
+       * <code>bool order = 2;</code>
+       * @return The order.
+       */
+      @java.lang.Override
+      public boolean getOrder() {
+        return order_;
+      }
+      /**
+       * <code>bool order = 2;</code>
+       * @param value The order to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrder(boolean value) {
+        
+        order_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool order = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrder() {
+        
+        order_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object orderKey_ = "";
+      /**
+       * <code>string orderKey = 3;</code>
+       * @return The orderKey.
+       */
+      public java.lang.String getOrderKey() {
+        java.lang.Object ref = orderKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          orderKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string orderKey = 3;</code>
+       * @return The bytes for orderKey.
+       */
+      public com.google.protobuf.ByteString
+          getOrderKeyBytes() {
+        java.lang.Object ref = orderKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          orderKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string orderKey = 3;</code>
+       * @param value The orderKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        orderKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string orderKey = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrderKey() {
+        
+        orderKey_ = getDefaultInstance().getOrderKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string orderKey = 3;</code>
+       * @param value The bytes for orderKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        orderKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.VertexScanRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.VertexScanRequest)
+    private static final com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VertexScanRequest>
+        PARSER = new com.google.protobuf.AbstractParser<VertexScanRequest>() {
+      @java.lang.Override
+      public VertexScanRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VertexScanRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<VertexScanRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VertexScanRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VertexIdOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.VertexId)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    long getId();
+
+    /**
+     * <code>int32 typeId = 2;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.VertexId}
+   */
+  public static final class VertexId extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.VertexId)
+      VertexIdOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use VertexId.newBuilder() to construct.
+    private VertexId(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private VertexId() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new VertexId();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VertexId(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexId_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexId_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.class, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public long getId() {
+      return id_;
+    }
+
+    public static final int TYPEID_FIELD_NUMBER = 2;
+    private int typeId_;
+    /**
+     * <code>int32 typeId = 2;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(2, typeId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, typeId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.GremlinQuery.VertexId)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexId other = (com.alibaba.maxgraph.proto.GremlinQuery.VertexId) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      hash = (37 * hash) + TYPEID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.GremlinQuery.VertexId prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.VertexId}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.VertexId)
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexId_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexId_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexId.class, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+
+        typeId_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexId_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId build() {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexId result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId buildPartial() {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexId result = new com.alibaba.maxgraph.proto.GremlinQuery.VertexId(this);
+        result.id_ = id_;
+        result.typeId_ = typeId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.GremlinQuery.VertexId) {
+          return mergeFrom((com.alibaba.maxgraph.proto.GremlinQuery.VertexId)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.GremlinQuery.VertexId other) {
+        if (other == com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexId parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.GremlinQuery.VertexId) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 1;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 typeId = 2;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 typeId = 2;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 typeId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.VertexId)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.VertexId)
+    private static final com.alibaba.maxgraph.proto.GremlinQuery.VertexId DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GremlinQuery.VertexId();
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VertexId>
+        PARSER = new com.google.protobuf.AbstractParser<VertexId>() {
+      @java.lang.Override
+      public VertexId parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VertexId(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<VertexId> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VertexId> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VertexRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.VertexRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> 
+        getIdsList();
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getIds(int index);
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+        getIdsOrBuilderList();
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getIdsOrBuilder(
+        int index);
+
+    /**
+     * <code>bool order = 2;</code>
+     * @return The order.
+     */
+    boolean getOrder();
+
+    /**
+     * <code>string orderKey = 3;</code>
+     * @return The orderKey.
+     */
+    java.lang.String getOrderKey();
+    /**
+     * <code>string orderKey = 3;</code>
+     * @return The bytes for orderKey.
+     */
+    com.google.protobuf.ByteString
+        getOrderKeyBytes();
+
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    int getLimit();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.VertexRequest}
+   */
+  public static final class VertexRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.VertexRequest)
+      VertexRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use VertexRequest.newBuilder() to construct.
+    private VertexRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private VertexRequest() {
+      ids_ = java.util.Collections.emptyList();
+      orderKey_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new VertexRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VertexRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                ids_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.GremlinQuery.VertexId>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.add(
+                  input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry));
+              break;
+            }
+            case 16: {
+
+              order_ = input.readBool();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              orderKey_ = s;
+              break;
+            }
+            case 32: {
+
+              limit_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          ids_ = java.util.Collections.unmodifiableList(ids_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.class, com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.Builder.class);
+    }
+
+    public static final int IDS_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> ids_;
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+        getIdsOrBuilderList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    @java.lang.Override
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getIds(int index) {
+      return ids_.get(index);
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getIdsOrBuilder(
+        int index) {
+      return ids_.get(index);
+    }
+
+    public static final int ORDER_FIELD_NUMBER = 2;
+    private boolean order_;
+    /**
+     * <code>bool order = 2;</code>
+     * @return The order.
+     */
+    @java.lang.Override
+    public boolean getOrder() {
+      return order_;
+    }
+
+    public static final int ORDERKEY_FIELD_NUMBER = 3;
+    private volatile java.lang.Object orderKey_;
+    /**
+     * <code>string orderKey = 3;</code>
+     * @return The orderKey.
+     */
+    @java.lang.Override
+    public java.lang.String getOrderKey() {
+      java.lang.Object ref = orderKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        orderKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string orderKey = 3;</code>
+     * @return The bytes for orderKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOrderKeyBytes() {
+      java.lang.Object ref = orderKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        orderKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeMessage(1, ids_.get(i));
+      }
+      if (order_ != false) {
+        output.writeBool(2, order_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(orderKey_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, orderKey_);
+      }
+      if (limit_ != 0) {
+        output.writeInt32(4, limit_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < ids_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, ids_.get(i));
+      }
+      if (order_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, order_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(orderKey_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, orderKey_);
+      }
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest other = (com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest) obj;
+
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (getOrder()
+          != other.getOrder()) return false;
+      if (!getOrderKey()
+          .equals(other.getOrderKey())) return false;
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      hash = (37 * hash) + ORDER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getOrder());
+      hash = (37 * hash) + ORDERKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getOrderKey().hashCode();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.VertexRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.VertexRequest)
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.class, com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getIdsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (idsBuilder_ == null) {
+          ids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          idsBuilder_.clear();
+        }
+        order_ = false;
+
+        orderKey_ = "";
+
+        limit_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest build() {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest buildPartial() {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest result = new com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (idsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            ids_ = java.util.Collections.unmodifiableList(ids_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.ids_ = ids_;
+        } else {
+          result.ids_ = idsBuilder_.build();
+        }
+        result.order_ = order_;
+        result.orderKey_ = orderKey_;
+        result.limit_ = limit_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest other) {
+        if (other == com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.getDefaultInstance()) return this;
+        if (idsBuilder_ == null) {
+          if (!other.ids_.isEmpty()) {
+            if (ids_.isEmpty()) {
+              ids_ = other.ids_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureIdsIsMutable();
+              ids_.addAll(other.ids_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.ids_.isEmpty()) {
+            if (idsBuilder_.isEmpty()) {
+              idsBuilder_.dispose();
+              idsBuilder_ = null;
+              ids_ = other.ids_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              idsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getIdsFieldBuilder() : null;
+            } else {
+              idsBuilder_.addAllMessages(other.ids_);
+            }
+          }
+        }
+        if (other.getOrder() != false) {
+          setOrder(other.getOrder());
+        }
+        if (!other.getOrderKey().isEmpty()) {
+          orderKey_ = other.orderKey_;
+          onChanged();
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> ids_ =
+        java.util.Collections.emptyList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.GremlinQuery.VertexId>(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> idsBuilder_;
+
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> getIdsList() {
+        if (idsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(ids_);
+        } else {
+          return idsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public int getIdsCount() {
+        if (idsBuilder_ == null) {
+          return ids_.size();
+        } else {
+          return idsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getIds(int index) {
+        if (idsBuilder_ == null) {
+          return ids_.get(index);
+        } else {
+          return idsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder setIds(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.set(index, value);
+          onChanged();
+        } else {
+          idsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder setIds(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder addIds(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.add(value);
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder addIds(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.add(index, value);
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder addIds(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.add(builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder addIds(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexId> values) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, ids_);
+          onChanged();
+        } else {
+          idsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder clearIds() {
+        if (idsBuilder_ == null) {
+          ids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          idsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public Builder removeIds(int index) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.remove(index);
+          onChanged();
+        } else {
+          idsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getIdsBuilder(
+          int index) {
+        return getIdsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getIdsOrBuilder(
+          int index) {
+        if (idsBuilder_ == null) {
+          return ids_.get(index);  } else {
+          return idsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+           getIdsOrBuilderList() {
+        if (idsBuilder_ != null) {
+          return idsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(ids_);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder addIdsBuilder() {
+        return getIdsFieldBuilder().addBuilder(
+            com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder addIdsBuilder(
+          int index) {
+        return getIdsFieldBuilder().addBuilder(
+            index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId ids = 1;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder> 
+           getIdsBuilderList() {
+        return getIdsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getIdsFieldBuilder() {
+        if (idsBuilder_ == null) {
+          idsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  ids_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          ids_ = null;
+        }
+        return idsBuilder_;
+      }
+
+      private boolean order_ ;
+      /**
+       * <code>bool order = 2;</code>
+       * @return The order.
+       */
+      @java.lang.Override
+      public boolean getOrder() {
+        return order_;
+      }
+      /**
+       * <code>bool order = 2;</code>
+       * @param value The order to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrder(boolean value) {
+        
+        order_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool order = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrder() {
+        
+        order_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object orderKey_ = "";
+      /**
+       * <code>string orderKey = 3;</code>
+       * @return The orderKey.
+       */
+      public java.lang.String getOrderKey() {
+        java.lang.Object ref = orderKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          orderKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string orderKey = 3;</code>
+       * @return The bytes for orderKey.
+       */
+      public com.google.protobuf.ByteString
+          getOrderKeyBytes() {
+        java.lang.Object ref = orderKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          orderKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string orderKey = 3;</code>
+       * @param value The orderKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        orderKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string orderKey = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrderKey() {
+        
+        orderKey_ = getDefaultInstance().getOrderKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string orderKey = 3;</code>
+       * @param value The bytes for orderKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        orderKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.VertexRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.VertexRequest)
+    private static final com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VertexRequest>
+        PARSER = new com.google.protobuf.AbstractParser<VertexRequest>() {
+      @java.lang.Override
+      public VertexRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VertexRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<VertexRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VertexRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VertexResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.VertexResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.tinkerpop.VertexId id = 1;</code>
+     * @return Whether the id field is set.
+     */
+    boolean hasId();
+    /**
+     * <code>.tinkerpop.VertexId id = 1;</code>
+     * @return The id.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getId();
+    /**
+     * <code>.tinkerpop.VertexId id = 1;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getIdOrBuilder();
+
+    /**
+     * <code>bytes pros = 2;</code>
+     * @return The pros.
+     */
+    com.google.protobuf.ByteString getPros();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.VertexResponse}
+   */
+  public static final class VertexResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.VertexResponse)
+      VertexResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use VertexResponse.newBuilder() to construct.
+    private VertexResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private VertexResponse() {
+      pros_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new VertexResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VertexResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder subBuilder = null;
+              if (id_ != null) {
+                subBuilder = id_.toBuilder();
+              }
+              id_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(id_);
+                id_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+
+              pros_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.class, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private com.alibaba.maxgraph.proto.GremlinQuery.VertexId id_;
+    /**
+     * <code>.tinkerpop.VertexId id = 1;</code>
+     * @return Whether the id field is set.
+     */
+    @java.lang.Override
+    public boolean hasId() {
+      return id_ != null;
+    }
+    /**
+     * <code>.tinkerpop.VertexId id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getId() {
+      return id_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : id_;
+    }
+    /**
+     * <code>.tinkerpop.VertexId id = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getIdOrBuilder() {
+      return getId();
+    }
+
+    public static final int PROS_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString pros_;
+    /**
+     * <code>bytes pros = 2;</code>
+     * @return The pros.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPros() {
+      return pros_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != null) {
+        output.writeMessage(1, getId());
+      }
+      if (!pros_.isEmpty()) {
+        output.writeBytes(2, pros_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getId());
+      }
+      if (!pros_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, pros_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse other = (com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse) obj;
+
+      if (hasId() != other.hasId()) return false;
+      if (hasId()) {
+        if (!getId()
+            .equals(other.getId())) return false;
+      }
+      if (!getPros()
+          .equals(other.getPros())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasId()) {
+        hash = (37 * hash) + ID_FIELD_NUMBER;
+        hash = (53 * hash) + getId().hashCode();
+      }
+      hash = (37 * hash) + PROS_FIELD_NUMBER;
+      hash = (53 * hash) + getPros().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.VertexResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.VertexResponse)
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.class, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (idBuilder_ == null) {
+          id_ = null;
+        } else {
+          id_ = null;
+          idBuilder_ = null;
+        }
+        pros_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_VertexResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse build() {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse buildPartial() {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse result = new com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse(this);
+        if (idBuilder_ == null) {
+          result.id_ = id_;
+        } else {
+          result.id_ = idBuilder_.build();
+        }
+        result.pros_ = pros_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse other) {
+        if (other == com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          mergeId(other.getId());
+        }
+        if (other.getPros() != com.google.protobuf.ByteString.EMPTY) {
+          setPros(other.getPros());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.VertexId id_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> idBuilder_;
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       * @return Whether the id field is set.
+       */
+      public boolean hasId() {
+        return idBuilder_ != null || id_ != null;
+      }
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       * @return The id.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getId() {
+        if (idBuilder_ == null) {
+          return id_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : id_;
+        } else {
+          return idBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       */
+      public Builder setId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (idBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          id_ = value;
+          onChanged();
+        } else {
+          idBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       */
+      public Builder setId(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (idBuilder_ == null) {
+          id_ = builderForValue.build();
+          onChanged();
+        } else {
+          idBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       */
+      public Builder mergeId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (idBuilder_ == null) {
+          if (id_ != null) {
+            id_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder(id_).mergeFrom(value).buildPartial();
+          } else {
+            id_ = value;
+          }
+          onChanged();
+        } else {
+          idBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       */
+      public Builder clearId() {
+        if (idBuilder_ == null) {
+          id_ = null;
+          onChanged();
+        } else {
+          id_ = null;
+          idBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getIdBuilder() {
+        
+        onChanged();
+        return getIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getIdOrBuilder() {
+        if (idBuilder_ != null) {
+          return idBuilder_.getMessageOrBuilder();
+        } else {
+          return id_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : id_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getIdFieldBuilder() {
+        if (idBuilder_ == null) {
+          idBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  getId(),
+                  getParentForChildren(),
+                  isClean());
+          id_ = null;
+        }
+        return idBuilder_;
+      }
+
+      private com.google.protobuf.ByteString pros_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes pros = 2;</code>
+       * @return The pros.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPros() {
+        return pros_;
+      }
+      /**
+       * <code>bytes pros = 2;</code>
+       * @param value The pros to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPros(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pros_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes pros = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPros() {
+        
+        pros_ = getDefaultInstance().getPros();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.VertexResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.VertexResponse)
+    private static final com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VertexResponse>
+        PARSER = new com.google.protobuf.AbstractParser<VertexResponse>() {
+      @java.lang.Override
+      public VertexResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VertexResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<VertexResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VertexResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EdgesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.EdgesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated int64 srcId = 1;</code>
+     * @return A list containing the srcId.
+     */
+    java.util.List<java.lang.Long> getSrcIdList();
+    /**
+     * <code>repeated int64 srcId = 1;</code>
+     * @return The count of srcId.
+     */
+    int getSrcIdCount();
+    /**
+     * <code>repeated int64 srcId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The srcId at the given index.
+     */
+    long getSrcId(int index);
+
+    /**
+     * <code>bool d = 2;</code>
+     * @return The d.
+     */
+    boolean getD();
+
+    /**
+     * <code>repeated string label = 3;</code>
+     * @return A list containing the label.
+     */
+    java.util.List<java.lang.String>
+        getLabelList();
+    /**
+     * <code>repeated string label = 3;</code>
+     * @return The count of label.
+     */
+    int getLabelCount();
+    /**
+     * <code>repeated string label = 3;</code>
+     * @param index The index of the element to return.
+     * @return The label at the given index.
+     */
+    java.lang.String getLabel(int index);
+    /**
+     * <code>repeated string label = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the label at the given index.
+     */
+    com.google.protobuf.ByteString
+        getLabelBytes(int index);
+
+    /**
+     * <code>bool idOnly = 4;</code>
+     * @return The idOnly.
+     */
+    boolean getIdOnly();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.EdgesRequest}
+   */
+  public static final class EdgesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.EdgesRequest)
+      EdgesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EdgesRequest.newBuilder() to construct.
+    private EdgesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EdgesRequest() {
+      srcId_ = emptyLongList();
+      label_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EdgesRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EdgesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                srcId_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              srcId_.addLong(input.readInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                srcId_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                srcId_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 16: {
+
+              d_ = input.readBool();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                label_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              label_.add(s);
+              break;
+            }
+            case 32: {
+
+              idOnly_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          srcId_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          label_ = label_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.class, com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.Builder.class);
+    }
+
+    public static final int SRCID_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.LongList srcId_;
+    /**
+     * <code>repeated int64 srcId = 1;</code>
+     * @return A list containing the srcId.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getSrcIdList() {
+      return srcId_;
+    }
+    /**
+     * <code>repeated int64 srcId = 1;</code>
+     * @return The count of srcId.
+     */
+    public int getSrcIdCount() {
+      return srcId_.size();
+    }
+    /**
+     * <code>repeated int64 srcId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The srcId at the given index.
+     */
+    public long getSrcId(int index) {
+      return srcId_.getLong(index);
+    }
+    private int srcIdMemoizedSerializedSize = -1;
+
+    public static final int D_FIELD_NUMBER = 2;
+    private boolean d_;
+    /**
+     * <code>bool d = 2;</code>
+     * @return The d.
+     */
+    @java.lang.Override
+    public boolean getD() {
+      return d_;
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList label_;
+    /**
+     * <code>repeated string label = 3;</code>
+     * @return A list containing the label.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getLabelList() {
+      return label_;
+    }
+    /**
+     * <code>repeated string label = 3;</code>
+     * @return The count of label.
+     */
+    public int getLabelCount() {
+      return label_.size();
+    }
+    /**
+     * <code>repeated string label = 3;</code>
+     * @param index The index of the element to return.
+     * @return The label at the given index.
+     */
+    public java.lang.String getLabel(int index) {
+      return label_.get(index);
+    }
+    /**
+     * <code>repeated string label = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the label at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes(int index) {
+      return label_.getByteString(index);
+    }
+
+    public static final int IDONLY_FIELD_NUMBER = 4;
+    private boolean idOnly_;
+    /**
+     * <code>bool idOnly = 4;</code>
+     * @return The idOnly.
+     */
+    @java.lang.Override
+    public boolean getIdOnly() {
+      return idOnly_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getSrcIdList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(srcIdMemoizedSerializedSize);
+      }
+      for (int i = 0; i < srcId_.size(); i++) {
+        output.writeInt64NoTag(srcId_.getLong(i));
+      }
+      if (d_ != false) {
+        output.writeBool(2, d_);
+      }
+      for (int i = 0; i < label_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, label_.getRaw(i));
+      }
+      if (idOnly_ != false) {
+        output.writeBool(4, idOnly_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < srcId_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(srcId_.getLong(i));
+        }
+        size += dataSize;
+        if (!getSrcIdList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        srcIdMemoizedSerializedSize = dataSize;
+      }
+      if (d_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, d_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < label_.size(); i++) {
+          dataSize += computeStringSizeNoTag(label_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getLabelList().size();
+      }
+      if (idOnly_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, idOnly_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest other = (com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest) obj;
+
+      if (!getSrcIdList()
+          .equals(other.getSrcIdList())) return false;
+      if (getD()
+          != other.getD()) return false;
+      if (!getLabelList()
+          .equals(other.getLabelList())) return false;
+      if (getIdOnly()
+          != other.getIdOnly()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getSrcIdCount() > 0) {
+        hash = (37 * hash) + SRCID_FIELD_NUMBER;
+        hash = (53 * hash) + getSrcIdList().hashCode();
+      }
+      hash = (37 * hash) + D_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getD());
+      if (getLabelCount() > 0) {
+        hash = (37 * hash) + LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getLabelList().hashCode();
+      }
+      hash = (37 * hash) + IDONLY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIdOnly());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.EdgesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.EdgesRequest)
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.class, com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        srcId_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        d_ = false;
+
+        label_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        idOnly_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest build() {
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest buildPartial() {
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest result = new com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          srcId_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.srcId_ = srcId_;
+        result.d_ = d_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          label_ = label_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.label_ = label_;
+        result.idOnly_ = idOnly_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest other) {
+        if (other == com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.getDefaultInstance()) return this;
+        if (!other.srcId_.isEmpty()) {
+          if (srcId_.isEmpty()) {
+            srcId_ = other.srcId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureSrcIdIsMutable();
+            srcId_.addAll(other.srcId_);
+          }
+          onChanged();
+        }
+        if (other.getD() != false) {
+          setD(other.getD());
+        }
+        if (!other.label_.isEmpty()) {
+          if (label_.isEmpty()) {
+            label_ = other.label_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureLabelIsMutable();
+            label_.addAll(other.label_);
+          }
+          onChanged();
+        }
+        if (other.getIdOnly() != false) {
+          setIdOnly(other.getIdOnly());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.LongList srcId_ = emptyLongList();
+      private void ensureSrcIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          srcId_ = mutableCopy(srcId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 srcId = 1;</code>
+       * @return A list containing the srcId.
+       */
+      public java.util.List<java.lang.Long>
+          getSrcIdList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(srcId_) : srcId_;
+      }
+      /**
+       * <code>repeated int64 srcId = 1;</code>
+       * @return The count of srcId.
+       */
+      public int getSrcIdCount() {
+        return srcId_.size();
+      }
+      /**
+       * <code>repeated int64 srcId = 1;</code>
+       * @param index The index of the element to return.
+       * @return The srcId at the given index.
+       */
+      public long getSrcId(int index) {
+        return srcId_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 srcId = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The srcId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSrcId(
+          int index, long value) {
+        ensureSrcIdIsMutable();
+        srcId_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 srcId = 1;</code>
+       * @param value The srcId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSrcId(long value) {
+        ensureSrcIdIsMutable();
+        srcId_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 srcId = 1;</code>
+       * @param values The srcId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSrcId(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureSrcIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, srcId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 srcId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSrcId() {
+        srcId_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private boolean d_ ;
+      /**
+       * <code>bool d = 2;</code>
+       * @return The d.
+       */
+      @java.lang.Override
+      public boolean getD() {
+        return d_;
+      }
+      /**
+       * <code>bool d = 2;</code>
+       * @param value The d to set.
+       * @return This builder for chaining.
+       */
+      public Builder setD(boolean value) {
+        
+        d_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool d = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearD() {
+        
+        d_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList label_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureLabelIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          label_ = new com.google.protobuf.LazyStringArrayList(label_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @return A list containing the label.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getLabelList() {
+        return label_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @return The count of label.
+       */
+      public int getLabelCount() {
+        return label_.size();
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @param index The index of the element to return.
+       * @return The label at the given index.
+       */
+      public java.lang.String getLabel(int index) {
+        return label_.get(index);
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the label at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getLabelBytes(int index) {
+        return label_.getByteString(index);
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabel(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureLabelIsMutable();
+        label_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @param value The label to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabel(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureLabelIsMutable();
+        label_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @param values The label to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLabel(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureLabelIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, label_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabel() {
+        label_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string label = 3;</code>
+       * @param value The bytes of the label to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureLabelIsMutable();
+        label_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private boolean idOnly_ ;
+      /**
+       * <code>bool idOnly = 4;</code>
+       * @return The idOnly.
+       */
+      @java.lang.Override
+      public boolean getIdOnly() {
+        return idOnly_;
+      }
+      /**
+       * <code>bool idOnly = 4;</code>
+       * @param value The idOnly to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdOnly(boolean value) {
+        
+        idOnly_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool idOnly = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdOnly() {
+        
+        idOnly_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.EdgesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.EdgesRequest)
+    private static final com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EdgesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<EdgesRequest>() {
+      @java.lang.Override
+      public EdgesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgesRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<EdgesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EdgesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EdgesReponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.EdgesReponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 size = 1;</code>
+     * @return The size.
+     */
+    int getSize();
+
+    /**
+     * <code>int64 srcid = 2;</code>
+     * @return The srcid.
+     */
+    long getSrcid();
+
+    /**
+     * <code>string label = 3;</code>
+     * @return The label.
+     */
+    java.lang.String getLabel();
+    /**
+     * <code>string label = 3;</code>
+     * @return The bytes for label.
+     */
+    com.google.protobuf.ByteString
+        getLabelBytes();
+
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> 
+        getDstidsList();
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstids(int index);
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    int getDstidsCount();
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+        getDstidsOrBuilderList();
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstidsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated bytes pros = 5;</code>
+     * @return A list containing the pros.
+     */
+    java.util.List<com.google.protobuf.ByteString> getProsList();
+    /**
+     * <code>repeated bytes pros = 5;</code>
+     * @return The count of pros.
+     */
+    int getProsCount();
+    /**
+     * <code>repeated bytes pros = 5;</code>
+     * @param index The index of the element to return.
+     * @return The pros at the given index.
+     */
+    com.google.protobuf.ByteString getPros(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.EdgesReponse}
+   */
+  public static final class EdgesReponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.EdgesReponse)
+      EdgesReponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EdgesReponse.newBuilder() to construct.
+    private EdgesReponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EdgesReponse() {
+      label_ = "";
+      dstids_ = java.util.Collections.emptyList();
+      pros_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EdgesReponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EdgesReponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              size_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              srcid_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              label_ = s;
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                dstids_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.GremlinQuery.VertexId>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              dstids_.add(
+                  input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                pros_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              pros_.add(input.readBytes());
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          dstids_ = java.util.Collections.unmodifiableList(dstids_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          pros_ = java.util.Collections.unmodifiableList(pros_); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesReponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesReponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.class, com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.Builder.class);
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 1;
+    private int size_;
+    /**
+     * <code>int32 size = 1;</code>
+     * @return The size.
+     */
+    @java.lang.Override
+    public int getSize() {
+      return size_;
+    }
+
+    public static final int SRCID_FIELD_NUMBER = 2;
+    private long srcid_;
+    /**
+     * <code>int64 srcid = 2;</code>
+     * @return The srcid.
+     */
+    @java.lang.Override
+    public long getSrcid() {
+      return srcid_;
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 3;
+    private volatile java.lang.Object label_;
+    /**
+     * <code>string label = 3;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string label = 3;</code>
+     * @return The bytes for label.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DSTIDS_FIELD_NUMBER = 4;
+    private java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> dstids_;
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> getDstidsList() {
+      return dstids_;
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+        getDstidsOrBuilderList() {
+      return dstids_;
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    @java.lang.Override
+    public int getDstidsCount() {
+      return dstids_.size();
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstids(int index) {
+      return dstids_.get(index);
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstidsOrBuilder(
+        int index) {
+      return dstids_.get(index);
+    }
+
+    public static final int PROS_FIELD_NUMBER = 5;
+    private java.util.List<com.google.protobuf.ByteString> pros_;
+    /**
+     * <code>repeated bytes pros = 5;</code>
+     * @return A list containing the pros.
+     */
+    @java.lang.Override
+    public java.util.List<com.google.protobuf.ByteString>
+        getProsList() {
+      return pros_;
+    }
+    /**
+     * <code>repeated bytes pros = 5;</code>
+     * @return The count of pros.
+     */
+    public int getProsCount() {
+      return pros_.size();
+    }
+    /**
+     * <code>repeated bytes pros = 5;</code>
+     * @param index The index of the element to return.
+     * @return The pros at the given index.
+     */
+    public com.google.protobuf.ByteString getPros(int index) {
+      return pros_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (size_ != 0) {
+        output.writeInt32(1, size_);
+      }
+      if (srcid_ != 0L) {
+        output.writeInt64(2, srcid_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(label_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, label_);
+      }
+      for (int i = 0; i < dstids_.size(); i++) {
+        output.writeMessage(4, dstids_.get(i));
+      }
+      for (int i = 0; i < pros_.size(); i++) {
+        output.writeBytes(5, pros_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (size_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, size_);
+      }
+      if (srcid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, srcid_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(label_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, label_);
+      }
+      for (int i = 0; i < dstids_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, dstids_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < pros_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(pros_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getProsList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse other = (com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse) obj;
+
+      if (getSize()
+          != other.getSize()) return false;
+      if (getSrcid()
+          != other.getSrcid()) return false;
+      if (!getLabel()
+          .equals(other.getLabel())) return false;
+      if (!getDstidsList()
+          .equals(other.getDstidsList())) return false;
+      if (!getProsList()
+          .equals(other.getProsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getSize();
+      hash = (37 * hash) + SRCID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSrcid());
+      hash = (37 * hash) + LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getLabel().hashCode();
+      if (getDstidsCount() > 0) {
+        hash = (37 * hash) + DSTIDS_FIELD_NUMBER;
+        hash = (53 * hash) + getDstidsList().hashCode();
+      }
+      if (getProsCount() > 0) {
+        hash = (37 * hash) + PROS_FIELD_NUMBER;
+        hash = (53 * hash) + getProsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.EdgesReponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.EdgesReponse)
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesReponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesReponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.class, com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getDstidsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        size_ = 0;
+
+        srcid_ = 0L;
+
+        label_ = "";
+
+        if (dstidsBuilder_ == null) {
+          dstids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          dstidsBuilder_.clear();
+        }
+        pros_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_EdgesReponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse build() {
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse buildPartial() {
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse result = new com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse(this);
+        int from_bitField0_ = bitField0_;
+        result.size_ = size_;
+        result.srcid_ = srcid_;
+        result.label_ = label_;
+        if (dstidsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            dstids_ = java.util.Collections.unmodifiableList(dstids_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.dstids_ = dstids_;
+        } else {
+          result.dstids_ = dstidsBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          pros_ = java.util.Collections.unmodifiableList(pros_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.pros_ = pros_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse other) {
+        if (other == com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.getDefaultInstance()) return this;
+        if (other.getSize() != 0) {
+          setSize(other.getSize());
+        }
+        if (other.getSrcid() != 0L) {
+          setSrcid(other.getSrcid());
+        }
+        if (!other.getLabel().isEmpty()) {
+          label_ = other.label_;
+          onChanged();
+        }
+        if (dstidsBuilder_ == null) {
+          if (!other.dstids_.isEmpty()) {
+            if (dstids_.isEmpty()) {
+              dstids_ = other.dstids_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureDstidsIsMutable();
+              dstids_.addAll(other.dstids_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.dstids_.isEmpty()) {
+            if (dstidsBuilder_.isEmpty()) {
+              dstidsBuilder_.dispose();
+              dstidsBuilder_ = null;
+              dstids_ = other.dstids_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              dstidsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDstidsFieldBuilder() : null;
+            } else {
+              dstidsBuilder_.addAllMessages(other.dstids_);
+            }
+          }
+        }
+        if (!other.pros_.isEmpty()) {
+          if (pros_.isEmpty()) {
+            pros_ = other.pros_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureProsIsMutable();
+            pros_.addAll(other.pros_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int size_ ;
+      /**
+       * <code>int32 size = 1;</code>
+       * @return The size.
+       */
+      @java.lang.Override
+      public int getSize() {
+        return size_;
+      }
+      /**
+       * <code>int32 size = 1;</code>
+       * @param value The size to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSize(int value) {
+        
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 size = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSize() {
+        
+        size_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long srcid_ ;
+      /**
+       * <code>int64 srcid = 2;</code>
+       * @return The srcid.
+       */
+      @java.lang.Override
+      public long getSrcid() {
+        return srcid_;
+      }
+      /**
+       * <code>int64 srcid = 2;</code>
+       * @param value The srcid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSrcid(long value) {
+        
+        srcid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 srcid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSrcid() {
+        
+        srcid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object label_ = "";
+      /**
+       * <code>string label = 3;</code>
+       * @return The label.
+       */
+      public java.lang.String getLabel() {
+        java.lang.Object ref = label_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          label_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string label = 3;</code>
+       * @return The bytes for label.
+       */
+      public com.google.protobuf.ByteString
+          getLabelBytes() {
+        java.lang.Object ref = label_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          label_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string label = 3;</code>
+       * @param value The label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabel(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        label_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string label = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabel() {
+        
+        label_ = getDefaultInstance().getLabel();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string label = 3;</code>
+       * @param value The bytes for label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabelBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        label_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> dstids_ =
+        java.util.Collections.emptyList();
+      private void ensureDstidsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          dstids_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.GremlinQuery.VertexId>(dstids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> dstidsBuilder_;
+
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> getDstidsList() {
+        if (dstidsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(dstids_);
+        } else {
+          return dstidsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public int getDstidsCount() {
+        if (dstidsBuilder_ == null) {
+          return dstids_.size();
+        } else {
+          return dstidsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstids(int index) {
+        if (dstidsBuilder_ == null) {
+          return dstids_.get(index);
+        } else {
+          return dstidsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder setDstids(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (dstidsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDstidsIsMutable();
+          dstids_.set(index, value);
+          onChanged();
+        } else {
+          dstidsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder setDstids(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (dstidsBuilder_ == null) {
+          ensureDstidsIsMutable();
+          dstids_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          dstidsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder addDstids(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (dstidsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDstidsIsMutable();
+          dstids_.add(value);
+          onChanged();
+        } else {
+          dstidsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder addDstids(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (dstidsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDstidsIsMutable();
+          dstids_.add(index, value);
+          onChanged();
+        } else {
+          dstidsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder addDstids(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (dstidsBuilder_ == null) {
+          ensureDstidsIsMutable();
+          dstids_.add(builderForValue.build());
+          onChanged();
+        } else {
+          dstidsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder addDstids(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (dstidsBuilder_ == null) {
+          ensureDstidsIsMutable();
+          dstids_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          dstidsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder addAllDstids(
+          java.lang.Iterable<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexId> values) {
+        if (dstidsBuilder_ == null) {
+          ensureDstidsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, dstids_);
+          onChanged();
+        } else {
+          dstidsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder clearDstids() {
+        if (dstidsBuilder_ == null) {
+          dstids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          dstidsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public Builder removeDstids(int index) {
+        if (dstidsBuilder_ == null) {
+          ensureDstidsIsMutable();
+          dstids_.remove(index);
+          onChanged();
+        } else {
+          dstidsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getDstidsBuilder(
+          int index) {
+        return getDstidsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstidsOrBuilder(
+          int index) {
+        if (dstidsBuilder_ == null) {
+          return dstids_.get(index);  } else {
+          return dstidsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+           getDstidsOrBuilderList() {
+        if (dstidsBuilder_ != null) {
+          return dstidsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(dstids_);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder addDstidsBuilder() {
+        return getDstidsFieldBuilder().addBuilder(
+            com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder addDstidsBuilder(
+          int index) {
+        return getDstidsFieldBuilder().addBuilder(
+            index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId dstids = 4;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder> 
+           getDstidsBuilderList() {
+        return getDstidsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getDstidsFieldBuilder() {
+        if (dstidsBuilder_ == null) {
+          dstidsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  dstids_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          dstids_ = null;
+        }
+        return dstidsBuilder_;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> pros_ = java.util.Collections.emptyList();
+      private void ensureProsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          pros_ = new java.util.ArrayList<com.google.protobuf.ByteString>(pros_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated bytes pros = 5;</code>
+       * @return A list containing the pros.
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getProsList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(pros_) : pros_;
+      }
+      /**
+       * <code>repeated bytes pros = 5;</code>
+       * @return The count of pros.
+       */
+      public int getProsCount() {
+        return pros_.size();
+      }
+      /**
+       * <code>repeated bytes pros = 5;</code>
+       * @param index The index of the element to return.
+       * @return The pros at the given index.
+       */
+      public com.google.protobuf.ByteString getPros(int index) {
+        return pros_.get(index);
+      }
+      /**
+       * <code>repeated bytes pros = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The pros to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPros(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureProsIsMutable();
+        pros_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pros = 5;</code>
+       * @param value The pros to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPros(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureProsIsMutable();
+        pros_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pros = 5;</code>
+       * @param values The pros to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPros(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureProsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, pros_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes pros = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPros() {
+        pros_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.EdgesReponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.EdgesReponse)
+    private static final com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EdgesReponse>
+        PARSER = new com.google.protobuf.AbstractParser<EdgesReponse>() {
+      @java.lang.Override
+      public EdgesReponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgesReponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<EdgesReponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EdgesReponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LimitEdgeRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.LimitEdgeRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.tinkerpop.EdgesRequest req = 1;</code>
+     * @return Whether the req field is set.
+     */
+    boolean hasReq();
+    /**
+     * <code>.tinkerpop.EdgesRequest req = 1;</code>
+     * @return The req.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest getReq();
+    /**
+     * <code>.tinkerpop.EdgesRequest req = 1;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequestOrBuilder getReqOrBuilder();
+
+    /**
+     * <code>bool order = 2;</code>
+     * @return The order.
+     */
+    boolean getOrder();
+
+    /**
+     * <code>repeated string orderKey = 3;</code>
+     * @return A list containing the orderKey.
+     */
+    java.util.List<java.lang.String>
+        getOrderKeyList();
+    /**
+     * <code>repeated string orderKey = 3;</code>
+     * @return The count of orderKey.
+     */
+    int getOrderKeyCount();
+    /**
+     * <code>repeated string orderKey = 3;</code>
+     * @param index The index of the element to return.
+     * @return The orderKey at the given index.
+     */
+    java.lang.String getOrderKey(int index);
+    /**
+     * <code>repeated string orderKey = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the orderKey at the given index.
+     */
+    com.google.protobuf.ByteString
+        getOrderKeyBytes(int index);
+
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    int getLimit();
+
+    /**
+     * <code>bool idOnly = 5;</code>
+     * @return The idOnly.
+     */
+    boolean getIdOnly();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.LimitEdgeRequest}
+   */
+  public static final class LimitEdgeRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.LimitEdgeRequest)
+      LimitEdgeRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LimitEdgeRequest.newBuilder() to construct.
+    private LimitEdgeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LimitEdgeRequest() {
+      orderKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LimitEdgeRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LimitEdgeRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.Builder subBuilder = null;
+              if (req_ != null) {
+                subBuilder = req_.toBuilder();
+              }
+              req_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(req_);
+                req_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 16: {
+
+              order_ = input.readBool();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                orderKey_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              orderKey_.add(s);
+              break;
+            }
+            case 32: {
+
+              limit_ = input.readInt32();
+              break;
+            }
+            case 40: {
+
+              idOnly_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          orderKey_ = orderKey_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgeRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.class, com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.Builder.class);
+    }
+
+    public static final int REQ_FIELD_NUMBER = 1;
+    private com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest req_;
+    /**
+     * <code>.tinkerpop.EdgesRequest req = 1;</code>
+     * @return Whether the req field is set.
+     */
+    @java.lang.Override
+    public boolean hasReq() {
+      return req_ != null;
+    }
+    /**
+     * <code>.tinkerpop.EdgesRequest req = 1;</code>
+     * @return The req.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest getReq() {
+      return req_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.getDefaultInstance() : req_;
+    }
+    /**
+     * <code>.tinkerpop.EdgesRequest req = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequestOrBuilder getReqOrBuilder() {
+      return getReq();
+    }
+
+    public static final int ORDER_FIELD_NUMBER = 2;
+    private boolean order_;
+    /**
+     * <code>bool order = 2;</code>
+     * @return The order.
+     */
+    @java.lang.Override
+    public boolean getOrder() {
+      return order_;
+    }
+
+    public static final int ORDERKEY_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList orderKey_;
+    /**
+     * <code>repeated string orderKey = 3;</code>
+     * @return A list containing the orderKey.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getOrderKeyList() {
+      return orderKey_;
+    }
+    /**
+     * <code>repeated string orderKey = 3;</code>
+     * @return The count of orderKey.
+     */
+    public int getOrderKeyCount() {
+      return orderKey_.size();
+    }
+    /**
+     * <code>repeated string orderKey = 3;</code>
+     * @param index The index of the element to return.
+     * @return The orderKey at the given index.
+     */
+    public java.lang.String getOrderKey(int index) {
+      return orderKey_.get(index);
+    }
+    /**
+     * <code>repeated string orderKey = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the orderKey at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getOrderKeyBytes(int index) {
+      return orderKey_.getByteString(index);
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
+    public static final int IDONLY_FIELD_NUMBER = 5;
+    private boolean idOnly_;
+    /**
+     * <code>bool idOnly = 5;</code>
+     * @return The idOnly.
+     */
+    @java.lang.Override
+    public boolean getIdOnly() {
+      return idOnly_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (req_ != null) {
+        output.writeMessage(1, getReq());
+      }
+      if (order_ != false) {
+        output.writeBool(2, order_);
+      }
+      for (int i = 0; i < orderKey_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, orderKey_.getRaw(i));
+      }
+      if (limit_ != 0) {
+        output.writeInt32(4, limit_);
+      }
+      if (idOnly_ != false) {
+        output.writeBool(5, idOnly_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (req_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getReq());
+      }
+      if (order_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, order_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < orderKey_.size(); i++) {
+          dataSize += computeStringSizeNoTag(orderKey_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getOrderKeyList().size();
+      }
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
+      }
+      if (idOnly_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, idOnly_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest other = (com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest) obj;
+
+      if (hasReq() != other.hasReq()) return false;
+      if (hasReq()) {
+        if (!getReq()
+            .equals(other.getReq())) return false;
+      }
+      if (getOrder()
+          != other.getOrder()) return false;
+      if (!getOrderKeyList()
+          .equals(other.getOrderKeyList())) return false;
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (getIdOnly()
+          != other.getIdOnly()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasReq()) {
+        hash = (37 * hash) + REQ_FIELD_NUMBER;
+        hash = (53 * hash) + getReq().hashCode();
+      }
+      hash = (37 * hash) + ORDER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getOrder());
+      if (getOrderKeyCount() > 0) {
+        hash = (37 * hash) + ORDERKEY_FIELD_NUMBER;
+        hash = (53 * hash) + getOrderKeyList().hashCode();
+      }
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (37 * hash) + IDONLY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIdOnly());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.LimitEdgeRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.LimitEdgeRequest)
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgeRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgeRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.class, com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (reqBuilder_ == null) {
+          req_ = null;
+        } else {
+          req_ = null;
+          reqBuilder_ = null;
+        }
+        order_ = false;
+
+        orderKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        limit_ = 0;
+
+        idOnly_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgeRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest build() {
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest buildPartial() {
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest result = new com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (reqBuilder_ == null) {
+          result.req_ = req_;
+        } else {
+          result.req_ = reqBuilder_.build();
+        }
+        result.order_ = order_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          orderKey_ = orderKey_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.orderKey_ = orderKey_;
+        result.limit_ = limit_;
+        result.idOnly_ = idOnly_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest other) {
+        if (other == com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.getDefaultInstance()) return this;
+        if (other.hasReq()) {
+          mergeReq(other.getReq());
+        }
+        if (other.getOrder() != false) {
+          setOrder(other.getOrder());
+        }
+        if (!other.orderKey_.isEmpty()) {
+          if (orderKey_.isEmpty()) {
+            orderKey_ = other.orderKey_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureOrderKeyIsMutable();
+            orderKey_.addAll(other.orderKey_);
+          }
+          onChanged();
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        if (other.getIdOnly() != false) {
+          setIdOnly(other.getIdOnly());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest req_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest, com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.Builder, com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequestOrBuilder> reqBuilder_;
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       * @return Whether the req field is set.
+       */
+      public boolean hasReq() {
+        return reqBuilder_ != null || req_ != null;
+      }
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       * @return The req.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest getReq() {
+        if (reqBuilder_ == null) {
+          return req_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.getDefaultInstance() : req_;
+        } else {
+          return reqBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       */
+      public Builder setReq(com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest value) {
+        if (reqBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          req_ = value;
+          onChanged();
+        } else {
+          reqBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       */
+      public Builder setReq(
+          com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.Builder builderForValue) {
+        if (reqBuilder_ == null) {
+          req_ = builderForValue.build();
+          onChanged();
+        } else {
+          reqBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       */
+      public Builder mergeReq(com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest value) {
+        if (reqBuilder_ == null) {
+          if (req_ != null) {
+            req_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.newBuilder(req_).mergeFrom(value).buildPartial();
+          } else {
+            req_ = value;
+          }
+          onChanged();
+        } else {
+          reqBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       */
+      public Builder clearReq() {
+        if (reqBuilder_ == null) {
+          req_ = null;
+          onChanged();
+        } else {
+          req_ = null;
+          reqBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.Builder getReqBuilder() {
+        
+        onChanged();
+        return getReqFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequestOrBuilder getReqOrBuilder() {
+        if (reqBuilder_ != null) {
+          return reqBuilder_.getMessageOrBuilder();
+        } else {
+          return req_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.getDefaultInstance() : req_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.EdgesRequest req = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest, com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.Builder, com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequestOrBuilder> 
+          getReqFieldBuilder() {
+        if (reqBuilder_ == null) {
+          reqBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest, com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.Builder, com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequestOrBuilder>(
+                  getReq(),
+                  getParentForChildren(),
+                  isClean());
+          req_ = null;
+        }
+        return reqBuilder_;
+      }
+
+      private boolean order_ ;
+      /**
+       * <code>bool order = 2;</code>
+       * @return The order.
+       */
+      @java.lang.Override
+      public boolean getOrder() {
+        return order_;
+      }
+      /**
+       * <code>bool order = 2;</code>
+       * @param value The order to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrder(boolean value) {
+        
+        order_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool order = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrder() {
+        
+        order_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList orderKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureOrderKeyIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          orderKey_ = new com.google.protobuf.LazyStringArrayList(orderKey_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @return A list containing the orderKey.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getOrderKeyList() {
+        return orderKey_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @return The count of orderKey.
+       */
+      public int getOrderKeyCount() {
+        return orderKey_.size();
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @param index The index of the element to return.
+       * @return The orderKey at the given index.
+       */
+      public java.lang.String getOrderKey(int index) {
+        return orderKey_.get(index);
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the orderKey at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getOrderKeyBytes(int index) {
+        return orderKey_.getByteString(index);
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The orderKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderKey(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureOrderKeyIsMutable();
+        orderKey_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @param value The orderKey to add.
+       * @return This builder for chaining.
+       */
+      public Builder addOrderKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureOrderKeyIsMutable();
+        orderKey_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @param values The orderKey to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllOrderKey(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureOrderKeyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, orderKey_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrderKey() {
+        orderKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string orderKey = 3;</code>
+       * @param value The bytes of the orderKey to add.
+       * @return This builder for chaining.
+       */
+      public Builder addOrderKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureOrderKeyIsMutable();
+        orderKey_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean idOnly_ ;
+      /**
+       * <code>bool idOnly = 5;</code>
+       * @return The idOnly.
+       */
+      @java.lang.Override
+      public boolean getIdOnly() {
+        return idOnly_;
+      }
+      /**
+       * <code>bool idOnly = 5;</code>
+       * @param value The idOnly to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdOnly(boolean value) {
+        
+        idOnly_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool idOnly = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdOnly() {
+        
+        idOnly_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.LimitEdgeRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.LimitEdgeRequest)
+    private static final com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LimitEdgeRequest>
+        PARSER = new com.google.protobuf.AbstractParser<LimitEdgeRequest>() {
+      @java.lang.Override
+      public LimitEdgeRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LimitEdgeRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LimitEdgeRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LimitEdgeRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LimitEdgesReponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.LimitEdgesReponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.tinkerpop.VertexId source = 1;</code>
+     * @return Whether the source field is set.
+     */
+    boolean hasSource();
+    /**
+     * <code>.tinkerpop.VertexId source = 1;</code>
+     * @return The source.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSource();
+    /**
+     * <code>.tinkerpop.VertexId source = 1;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSourceOrBuilder();
+
+    /**
+     * <code>.tinkerpop.VertexId destin = 2;</code>
+     * @return Whether the destin field is set.
+     */
+    boolean hasDestin();
+    /**
+     * <code>.tinkerpop.VertexId destin = 2;</code>
+     * @return The destin.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDestin();
+    /**
+     * <code>.tinkerpop.VertexId destin = 2;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDestinOrBuilder();
+
+    /**
+     * <code>int32 typeId = 3;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>bytes pros = 4;</code>
+     * @return The pros.
+     */
+    com.google.protobuf.ByteString getPros();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.LimitEdgesReponse}
+   */
+  public static final class LimitEdgesReponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.LimitEdgesReponse)
+      LimitEdgesReponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LimitEdgesReponse.newBuilder() to construct.
+    private LimitEdgesReponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LimitEdgesReponse() {
+      pros_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LimitEdgesReponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LimitEdgesReponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder subBuilder = null;
+              if (source_ != null) {
+                subBuilder = source_.toBuilder();
+              }
+              source_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(source_);
+                source_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder subBuilder = null;
+              if (destin_ != null) {
+                subBuilder = destin_.toBuilder();
+              }
+              destin_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(destin_);
+                destin_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 24: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 34: {
+
+              pros_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgesReponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgesReponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.class, com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.Builder.class);
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 1;
+    private com.alibaba.maxgraph.proto.GremlinQuery.VertexId source_;
+    /**
+     * <code>.tinkerpop.VertexId source = 1;</code>
+     * @return Whether the source field is set.
+     */
+    @java.lang.Override
+    public boolean hasSource() {
+      return source_ != null;
+    }
+    /**
+     * <code>.tinkerpop.VertexId source = 1;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSource() {
+      return source_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : source_;
+    }
+    /**
+     * <code>.tinkerpop.VertexId source = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSourceOrBuilder() {
+      return getSource();
+    }
+
+    public static final int DESTIN_FIELD_NUMBER = 2;
+    private com.alibaba.maxgraph.proto.GremlinQuery.VertexId destin_;
+    /**
+     * <code>.tinkerpop.VertexId destin = 2;</code>
+     * @return Whether the destin field is set.
+     */
+    @java.lang.Override
+    public boolean hasDestin() {
+      return destin_ != null;
+    }
+    /**
+     * <code>.tinkerpop.VertexId destin = 2;</code>
+     * @return The destin.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDestin() {
+      return destin_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : destin_;
+    }
+    /**
+     * <code>.tinkerpop.VertexId destin = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDestinOrBuilder() {
+      return getDestin();
+    }
+
+    public static final int TYPEID_FIELD_NUMBER = 3;
+    private int typeId_;
+    /**
+     * <code>int32 typeId = 3;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int PROS_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString pros_;
+    /**
+     * <code>bytes pros = 4;</code>
+     * @return The pros.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPros() {
+      return pros_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (source_ != null) {
+        output.writeMessage(1, getSource());
+      }
+      if (destin_ != null) {
+        output.writeMessage(2, getDestin());
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(3, typeId_);
+      }
+      if (!pros_.isEmpty()) {
+        output.writeBytes(4, pros_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (source_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getSource());
+      }
+      if (destin_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getDestin());
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, typeId_);
+      }
+      if (!pros_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, pros_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse other = (com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse) obj;
+
+      if (hasSource() != other.hasSource()) return false;
+      if (hasSource()) {
+        if (!getSource()
+            .equals(other.getSource())) return false;
+      }
+      if (hasDestin() != other.hasDestin()) return false;
+      if (hasDestin()) {
+        if (!getDestin()
+            .equals(other.getDestin())) return false;
+      }
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!getPros()
+          .equals(other.getPros())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSource()) {
+        hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+        hash = (53 * hash) + getSource().hashCode();
+      }
+      if (hasDestin()) {
+        hash = (37 * hash) + DESTIN_FIELD_NUMBER;
+        hash = (53 * hash) + getDestin().hashCode();
+      }
+      hash = (37 * hash) + TYPEID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      hash = (37 * hash) + PROS_FIELD_NUMBER;
+      hash = (53 * hash) + getPros().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.LimitEdgesReponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.LimitEdgesReponse)
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgesReponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgesReponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.class, com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (sourceBuilder_ == null) {
+          source_ = null;
+        } else {
+          source_ = null;
+          sourceBuilder_ = null;
+        }
+        if (destinBuilder_ == null) {
+          destin_ = null;
+        } else {
+          destin_ = null;
+          destinBuilder_ = null;
+        }
+        typeId_ = 0;
+
+        pros_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.internal_static_tinkerpop_LimitEdgesReponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse build() {
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse buildPartial() {
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse result = new com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse(this);
+        if (sourceBuilder_ == null) {
+          result.source_ = source_;
+        } else {
+          result.source_ = sourceBuilder_.build();
+        }
+        if (destinBuilder_ == null) {
+          result.destin_ = destin_;
+        } else {
+          result.destin_ = destinBuilder_.build();
+        }
+        result.typeId_ = typeId_;
+        result.pros_ = pros_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse other) {
+        if (other == com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.getDefaultInstance()) return this;
+        if (other.hasSource()) {
+          mergeSource(other.getSource());
+        }
+        if (other.hasDestin()) {
+          mergeDestin(other.getDestin());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (other.getPros() != com.google.protobuf.ByteString.EMPTY) {
+          setPros(other.getPros());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.VertexId source_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> sourceBuilder_;
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       * @return Whether the source field is set.
+       */
+      public boolean hasSource() {
+        return sourceBuilder_ != null || source_ != null;
+      }
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       * @return The source.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSource() {
+        if (sourceBuilder_ == null) {
+          return source_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : source_;
+        } else {
+          return sourceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       */
+      public Builder setSource(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (sourceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          source_ = value;
+          onChanged();
+        } else {
+          sourceBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       */
+      public Builder setSource(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (sourceBuilder_ == null) {
+          source_ = builderForValue.build();
+          onChanged();
+        } else {
+          sourceBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       */
+      public Builder mergeSource(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (sourceBuilder_ == null) {
+          if (source_ != null) {
+            source_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder(source_).mergeFrom(value).buildPartial();
+          } else {
+            source_ = value;
+          }
+          onChanged();
+        } else {
+          sourceBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       */
+      public Builder clearSource() {
+        if (sourceBuilder_ == null) {
+          source_ = null;
+          onChanged();
+        } else {
+          source_ = null;
+          sourceBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getSourceBuilder() {
+        
+        onChanged();
+        return getSourceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSourceOrBuilder() {
+        if (sourceBuilder_ != null) {
+          return sourceBuilder_.getMessageOrBuilder();
+        } else {
+          return source_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : source_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId source = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getSourceFieldBuilder() {
+        if (sourceBuilder_ == null) {
+          sourceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  getSource(),
+                  getParentForChildren(),
+                  isClean());
+          source_ = null;
+        }
+        return sourceBuilder_;
+      }
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.VertexId destin_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> destinBuilder_;
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       * @return Whether the destin field is set.
+       */
+      public boolean hasDestin() {
+        return destinBuilder_ != null || destin_ != null;
+      }
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       * @return The destin.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDestin() {
+        if (destinBuilder_ == null) {
+          return destin_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : destin_;
+        } else {
+          return destinBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       */
+      public Builder setDestin(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (destinBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          destin_ = value;
+          onChanged();
+        } else {
+          destinBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       */
+      public Builder setDestin(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (destinBuilder_ == null) {
+          destin_ = builderForValue.build();
+          onChanged();
+        } else {
+          destinBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       */
+      public Builder mergeDestin(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (destinBuilder_ == null) {
+          if (destin_ != null) {
+            destin_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder(destin_).mergeFrom(value).buildPartial();
+          } else {
+            destin_ = value;
+          }
+          onChanged();
+        } else {
+          destinBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       */
+      public Builder clearDestin() {
+        if (destinBuilder_ == null) {
+          destin_ = null;
+          onChanged();
+        } else {
+          destin_ = null;
+          destinBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getDestinBuilder() {
+        
+        onChanged();
+        return getDestinFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDestinOrBuilder() {
+        if (destinBuilder_ != null) {
+          return destinBuilder_.getMessageOrBuilder();
+        } else {
+          return destin_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : destin_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId destin = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getDestinFieldBuilder() {
+        if (destinBuilder_ == null) {
+          destinBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  getDestin(),
+                  getParentForChildren(),
+                  isClean());
+          destin_ = null;
+        }
+        return destinBuilder_;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 typeId = 3;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 typeId = 3;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 typeId = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString pros_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes pros = 4;</code>
+       * @return The pros.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPros() {
+        return pros_;
+      }
+      /**
+       * <code>bytes pros = 4;</code>
+       * @param value The pros to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPros(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pros_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes pros = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPros() {
+        
+        pros_ = getDefaultInstance().getPros();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.LimitEdgesReponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.LimitEdgesReponse)
+    private static final com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LimitEdgesReponse>
+        PARSER = new com.google.protobuf.AbstractParser<LimitEdgesReponse>() {
+      @java.lang.Override
+      public LimitEdgesReponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LimitEdgesReponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LimitEdgesReponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LimitEdgesReponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_VertexScanRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_VertexScanRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_VertexId_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_VertexId_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_VertexRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_VertexRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_VertexResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_VertexResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_EdgesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_EdgesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_EdgesReponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_EdgesReponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_LimitEdgeRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_LimitEdgeRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_LimitEdgesReponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_LimitEdgesReponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\023gremlin_query.proto\022\ttinkerpop\"S\n\021Vert" +
+      "exScanRequest\022\016\n\006typeId\030\001 \001(\005\022\r\n\005order\030\002" +
+      " \001(\010\022\020\n\010orderKey\030\003 \001(\t\022\r\n\005limit\030\004 \001(\005\"&\n" +
+      "\010VertexId\022\n\n\002id\030\001 \001(\003\022\016\n\006typeId\030\002 \001(\005\"a\n" +
+      "\rVertexRequest\022 \n\003ids\030\001 \003(\0132\023.tinkerpop." +
+      "VertexId\022\r\n\005order\030\002 \001(\010\022\020\n\010orderKey\030\003 \001(" +
+      "\t\022\r\n\005limit\030\004 \001(\005\"?\n\016VertexResponse\022\037\n\002id" +
+      "\030\001 \001(\0132\023.tinkerpop.VertexId\022\014\n\004pros\030\002 \001(" +
+      "\014\"G\n\014EdgesRequest\022\r\n\005srcId\030\001 \003(\003\022\t\n\001d\030\002 " +
+      "\001(\010\022\r\n\005label\030\003 \003(\t\022\016\n\006idOnly\030\004 \001(\010\"m\n\014Ed" +
+      "gesReponse\022\014\n\004size\030\001 \001(\005\022\r\n\005srcid\030\002 \001(\003\022" +
+      "\r\n\005label\030\003 \001(\t\022#\n\006dstids\030\004 \003(\0132\023.tinkerp" +
+      "op.VertexId\022\014\n\004pros\030\005 \003(\014\"x\n\020LimitEdgeRe" +
+      "quest\022$\n\003req\030\001 \001(\0132\027.tinkerpop.EdgesRequ" +
+      "est\022\r\n\005order\030\002 \001(\010\022\020\n\010orderKey\030\003 \003(\t\022\r\n\005" +
+      "limit\030\004 \001(\005\022\016\n\006idOnly\030\005 \001(\010\"{\n\021LimitEdge" +
+      "sReponse\022#\n\006source\030\001 \001(\0132\023.tinkerpop.Ver" +
+      "texId\022#\n\006destin\030\002 \001(\0132\023.tinkerpop.Vertex" +
+      "Id\022\016\n\006typeId\030\003 \001(\005\022\014\n\004pros\030\004 \001(\0142\246\002\n\016Gre" +
+      "mlinService\022>\n\010getEdges\022\027.tinkerpop.Edge" +
+      "sRequest\032\027.tinkerpop.EdgesReponse0\001\022C\n\ng" +
+      "etVertexs\022\030.tinkerpop.VertexRequest\032\031.ti" +
+      "nkerpop.VertexResponse0\001\022L\n\rgetLimitEdge" +
+      "s\022\033.tinkerpop.LimitEdgeRequest\032\034.tinkerp" +
+      "op.LimitEdgesReponse0\001\022A\n\004scan\022\034.tinkerp" +
+      "op.VertexScanRequest\032\031.tinkerpop.VertexR" +
+      "esponse0\001B\034\n\032com.alibaba.maxgraph.protob" +
+      "\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_tinkerpop_VertexScanRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_tinkerpop_VertexScanRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_VertexScanRequest_descriptor,
+        new java.lang.String[] { "TypeId", "Order", "OrderKey", "Limit", });
+    internal_static_tinkerpop_VertexId_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_tinkerpop_VertexId_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_VertexId_descriptor,
+        new java.lang.String[] { "Id", "TypeId", });
+    internal_static_tinkerpop_VertexRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_tinkerpop_VertexRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_VertexRequest_descriptor,
+        new java.lang.String[] { "Ids", "Order", "OrderKey", "Limit", });
+    internal_static_tinkerpop_VertexResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_tinkerpop_VertexResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_VertexResponse_descriptor,
+        new java.lang.String[] { "Id", "Pros", });
+    internal_static_tinkerpop_EdgesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_tinkerpop_EdgesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_EdgesRequest_descriptor,
+        new java.lang.String[] { "SrcId", "D", "Label", "IdOnly", });
+    internal_static_tinkerpop_EdgesReponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_tinkerpop_EdgesReponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_EdgesReponse_descriptor,
+        new java.lang.String[] { "Size", "Srcid", "Label", "Dstids", "Pros", });
+    internal_static_tinkerpop_LimitEdgeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_tinkerpop_LimitEdgeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_LimitEdgeRequest_descriptor,
+        new java.lang.String[] { "Req", "Order", "OrderKey", "Limit", "IdOnly", });
+    internal_static_tinkerpop_LimitEdgesReponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_tinkerpop_LimitEdgesReponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_LimitEdgesReponse_descriptor,
+        new java.lang.String[] { "Source", "Destin", "TypeId", "Pros", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,485 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * The gremlin service definition.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: gremlin_query.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class GremlinServiceGrpc {
+
+  private GremlinServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "tinkerpop.GremlinService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse> getGetEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getEdges",
+      requestType = com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse> getGetEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest, com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse> getGetEdgesMethod;
+    if ((getGetEdgesMethod = GremlinServiceGrpc.getGetEdgesMethod) == null) {
+      synchronized (GremlinServiceGrpc.class) {
+        if ((getGetEdgesMethod = GremlinServiceGrpc.getGetEdgesMethod) == null) {
+          GremlinServiceGrpc.getGetEdgesMethod = getGetEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest, com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse.getDefaultInstance()))
+              .setSchemaDescriptor(new GremlinServiceMethodDescriptorSupplier("getEdges"))
+              .build();
+        }
+      }
+    }
+    return getGetEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVertexsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getVertexs",
+      requestType = com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVertexsMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVertexsMethod;
+    if ((getGetVertexsMethod = GremlinServiceGrpc.getGetVertexsMethod) == null) {
+      synchronized (GremlinServiceGrpc.class) {
+        if ((getGetVertexsMethod = GremlinServiceGrpc.getGetVertexsMethod) == null) {
+          GremlinServiceGrpc.getGetVertexsMethod = getGetVertexsMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getVertexs"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new GremlinServiceMethodDescriptorSupplier("getVertexs"))
+              .build();
+        }
+      }
+    }
+    return getGetVertexsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse> getGetLimitEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getLimitEdges",
+      requestType = com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse> getGetLimitEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest, com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse> getGetLimitEdgesMethod;
+    if ((getGetLimitEdgesMethod = GremlinServiceGrpc.getGetLimitEdgesMethod) == null) {
+      synchronized (GremlinServiceGrpc.class) {
+        if ((getGetLimitEdgesMethod = GremlinServiceGrpc.getGetLimitEdgesMethod) == null) {
+          GremlinServiceGrpc.getGetLimitEdgesMethod = getGetLimitEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest, com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getLimitEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse.getDefaultInstance()))
+              .setSchemaDescriptor(new GremlinServiceMethodDescriptorSupplier("getLimitEdges"))
+              .build();
+        }
+      }
+    }
+    return getGetLimitEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getScanMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "scan",
+      requestType = com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getScanMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getScanMethod;
+    if ((getScanMethod = GremlinServiceGrpc.getScanMethod) == null) {
+      synchronized (GremlinServiceGrpc.class) {
+        if ((getScanMethod = GremlinServiceGrpc.getScanMethod) == null) {
+          GremlinServiceGrpc.getScanMethod = getScanMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "scan"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new GremlinServiceMethodDescriptorSupplier("scan"))
+              .build();
+        }
+      }
+    }
+    return getScanMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static GremlinServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<GremlinServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<GremlinServiceStub>() {
+        @java.lang.Override
+        public GremlinServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new GremlinServiceStub(channel, callOptions);
+        }
+      };
+    return GremlinServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static GremlinServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<GremlinServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<GremlinServiceBlockingStub>() {
+        @java.lang.Override
+        public GremlinServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new GremlinServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return GremlinServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static GremlinServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<GremlinServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<GremlinServiceFutureStub>() {
+        @java.lang.Override
+        public GremlinServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new GremlinServiceFutureStub(channel, callOptions);
+        }
+      };
+    return GremlinServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * The gremlin service definition.
+   * </pre>
+   */
+  public static abstract class GremlinServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void getEdges(com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getVertexs(com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetVertexsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getLimitEdges(com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetLimitEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void scan(com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getScanMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest,
+                com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse>(
+                  this, METHODID_GET_EDGES)))
+          .addMethod(
+            getGetVertexsMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest,
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>(
+                  this, METHODID_GET_VERTEXS)))
+          .addMethod(
+            getGetLimitEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest,
+                com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse>(
+                  this, METHODID_GET_LIMIT_EDGES)))
+          .addMethod(
+            getScanMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest,
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>(
+                  this, METHODID_SCAN)))
+          .build();
+    }
+  }
+
+  /**
+   * <pre>
+   * The gremlin service definition.
+   * </pre>
+   */
+  public static final class GremlinServiceStub extends io.grpc.stub.AbstractAsyncStub<GremlinServiceStub> {
+    private GremlinServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected GremlinServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new GremlinServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getEdges(com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getVertexs(com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetVertexsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getLimitEdges(com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetLimitEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void scan(com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getScanMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   * <pre>
+   * The gremlin service definition.
+   * </pre>
+   */
+  public static final class GremlinServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<GremlinServiceBlockingStub> {
+    private GremlinServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected GremlinServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new GremlinServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse> getEdges(
+        com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getVertexs(
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetVertexsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse> getLimitEdges(
+        com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetLimitEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> scan(
+        com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getScanMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * <pre>
+   * The gremlin service definition.
+   * </pre>
+   */
+  public static final class GremlinServiceFutureStub extends io.grpc.stub.AbstractFutureStub<GremlinServiceFutureStub> {
+    private GremlinServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected GremlinServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new GremlinServiceFutureStub(channel, callOptions);
+    }
+  }
+
+  private static final int METHODID_GET_EDGES = 0;
+  private static final int METHODID_GET_VERTEXS = 1;
+  private static final int METHODID_GET_LIMIT_EDGES = 2;
+  private static final int METHODID_SCAN = 3;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final GremlinServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(GremlinServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_EDGES:
+          serviceImpl.getEdges((com.alibaba.maxgraph.proto.GremlinQuery.EdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.EdgesReponse>) responseObserver);
+          break;
+        case METHODID_GET_VERTEXS:
+          serviceImpl.getVertexs((com.alibaba.maxgraph.proto.GremlinQuery.VertexRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>) responseObserver);
+          break;
+        case METHODID_GET_LIMIT_EDGES:
+          serviceImpl.getLimitEdges((com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgeRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.LimitEdgesReponse>) responseObserver);
+          break;
+        case METHODID_SCAN:
+          serviceImpl.scan((com.alibaba.maxgraph.proto.GremlinQuery.VertexScanRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class GremlinServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    GremlinServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.GremlinQuery.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("GremlinService");
+    }
+  }
+
+  private static final class GremlinServiceFileDescriptorSupplier
+      extends GremlinServiceBaseDescriptorSupplier {
+    GremlinServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class GremlinServiceMethodDescriptorSupplier
+      extends GremlinServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    GremlinServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (GremlinServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new GremlinServiceFileDescriptorSupplier())
+              .addMethod(getGetEdgesMethod())
+              .addMethod(getGetVertexsMethod())
+              .addMethod(getGetLimitEdgesMethod())
+              .addMethod(getScanMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
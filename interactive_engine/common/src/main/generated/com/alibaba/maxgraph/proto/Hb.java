@@ -0,0 +1,272 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class Hb {
+  private Hb() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EndpointsProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EndpointsProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Statistics_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Statistics_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Statistics_MetricsEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Statistics_MetricsEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RuntimeHBReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RuntimeHBReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RuntimeHBResp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RuntimeHBResp_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RuntimeTaskPartitionProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RuntimeTaskPartitionProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RuntimeAddressProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RuntimeAddressProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServerHBReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ServerHBReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SimpleServerHBReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SimpleServerHBReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServerHBResp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ServerHBResp_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SimpleServerHBResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SimpleServerHBResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WorkerInfoProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WorkerInfoProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RoutingServerInfoResp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RoutingServerInfoResp_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WorkerInfoProtos_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WorkerInfoProtos_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PartitionProtos_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PartitionProtos_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TimestampRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TimestampRequest_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\010hb.proto\032\020sdk/common.proto\032\020sdk/schema" +
+      ".proto\032\rcluster.proto\"/\n\016EndpointsProto\022" +
+      "\035\n\005addrs\030\001 \003(\0132\016.EndpointProto\"g\n\nStatis" +
+      "tics\022)\n\007metrics\030\001 \003(\0132\030.Statistics.Metri" +
+      "csEntry\032.\n\014MetricsEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005" +
+      "value\030\002 \001(\001:\0028\001\"\314\001\n\014RuntimeHBReq\0221\n\014serv" +
+      "erStatus\030\001 \001(\0162\033.RuntimeHBReq.RuntimeSta" +
+      "tus\022\023\n\013runtimePort\030\002 \001(\005\022\036\n\026worker_num_p" +
+      "er_process\030\003 \001(\r\022\036\n\026process_partition_li" +
+      "st\030\004 \003(\r\"4\n\rRuntimeStatus\022\010\n\004DOWN\020\000\022\014\n\010S" +
+      "TARTING\020\001\022\013\n\007RUNNING\020\002\"\245\001\n\rRuntimeHBResp" +
+      "\022\017\n\007version\030\001 \001(\003\022\020\n\010workerId\030\002 \001(\r\022\'\n\ta" +
+      "ddresses\030\003 \003(\0132\024.RuntimeAddressProto\022\017\n\007" +
+      "groupId\030\004 \001(\r\0227\n\023task_partition_list\030\005 \003" +
+      "(\0132\032.RuntimeTaskPartitionProto\"^\n\031Runtim" +
+      "eTaskPartitionProto\022\022\n\ntask_index\030\001 \001(\r\022" +
+      "\025\n\rprocess_index\030\002 \001(\r\022\026\n\016partition_list" +
+      "\030\003 \003(\r\"K\n\023RuntimeAddressProto\022\n\n\002ip\030\001 \001(" +
+      "\t\022\022\n\nstore_port\030\002 \001(\005\022\024\n\014runtime_port\030\003 " +
+      "\001(\005\"\352\001\n\013ServerHBReq\022\n\n\002id\030\001 \001(\r\022 \n\010endpo" +
+      "int\030\002 \001(\0132\016.EndpointProto\022\025\n\rheartbeatTi" +
+      "me\030\010 \001(\003\022\037\n\nstatistics\030\t \001(\0132\013.Statistic" +
+      "s\022!\n\nruntimeReq\030\n \001(\0132\r.RuntimeHBReq\022\017\n\007" +
+      "aliveId\030\013 \001(\004\022\034\n\006status\030\014 \001(\0162\014.StoreSta" +
+      "tus\022#\n\tinfoProto\030\r \001(\0132\020.MetricInfoProto" +
+      "\"\325\001\n\021SimpleServerHBReq\022\n\n\002id\030\001 \001(\r\022 \n\010en" +
+      "dpoint\030\002 \001(\0132\016.EndpointProto\022\033\n\010roleType" +
+      "\030\003 \001(\0162\t.RoleType\022\037\n\nstatistics\030\004 \001(\0132\013." +
+      "Statistics\022\016\n\006logDir\030\005 \001(\t\022\017\n\007aliveId\030\006 " +
+      "\001(\004\022\016\n\006nodeId\030\007 \001(\005\022#\n\tinfoProto\030\010 \001(\0132\020" +
+      ".MetricInfoProto\"\246\001\n\014ServerHBResp\022\027\n\004res" +
+      "p\030\001 \001(\0132\t.Response\022\022\n\npartitions\030\004 \003(\r\022#" +
+      "\n\013runtimeResp\030\006 \001(\0132\016.RuntimeHBResp\022\017\n\007i" +
+      "sLegal\030\007 \001(\010\022\"\n\014targetStatus\030\n \001(\0162\014.Sto" +
+      "reStatus\022\017\n\007aliveId\030\013 \001(\004\"\255\001\n\026SimpleServ" +
+      "erHBResponse\022\027\n\004resp\030\001 \001(\0132\t.Response\022+\n" +
+      "\020workerInfoProtos\030\002 \001(\0132\021.WorkerInfoProt" +
+      "os\022\017\n\007isLegal\030\003 \001(\010\022\022\n\nsnapshotId\030\004 \001(\003\022" +
+      "\027\n\017servingServerId\030\005 \003(\005\022\017\n\007aliveId\030\006 \001(" +
+      "\004\"\337\001\n\017WorkerInfoProto\022\n\n\002id\030\001 \001(\005\022\037\n\007add" +
+      "ress\030\002 \001(\0132\016.EndpointProto\022\022\n\npartitions" +
+      "\030\003 \003(\r\022\033\n\010roleType\030\004 \001(\0162\t.RoleType\022#\n\014w" +
+      "orkerStatus\030\005 \001(\0162\r.WorkerStatus\022!\n\013serv" +
+      "erHBReq\030\006 \001(\0132\014.ServerHBReq\022\016\n\006logDir\030\007 " +
+      "\001(\t\022\026\n\016lastReportTime\030\010 \001(\003\"v\n\025RoutingSe" +
+      "rverInfoResp\022\027\n\004resp\030\001 \001(\0132\t.Response\022+\n" +
+      "\020workerInfoProtos\030\002 \001(\0132\021.WorkerInfoProt" +
+      "os\022\027\n\017servingServerId\030\003 \003(\005\"3\n\020WorkerInf" +
+      "oProtos\022\037\n\005infos\030\001 \003(\0132\020.WorkerInfoProto" +
+      "\"&\n\017PartitionProtos\022\023\n\013partitionId\030\001 \003(\005" +
+      "\"%\n\020TimestampRequest\022\021\n\ttimestamp\030\001 \001(\003*" +
+      "9\n\013StoreStatus\022\016\n\nINITIALING\020\000\022\r\n\tRECOVE" +
+      "RED\020\001\022\013\n\007STARTED\020\002*C\n\014WorkerStatus\022\013\n\007RU" +
+      "NNING\020\000\022\010\n\004LOST\020\001\022\016\n\nRESTARTING\020\002\022\014\n\010STA" +
+      "RTING\020\003B!\n\032com.alibaba.maxgraph.protoP\001\240" +
+      "\001\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+          com.alibaba.maxgraph.proto.Schema.getDescriptor(),
+          com.alibaba.maxgraph.proto.ClusterProto.getDescriptor(),
+        });
+    internal_static_EndpointsProto_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_EndpointsProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EndpointsProto_descriptor,
+        new java.lang.String[] { "Addrs", });
+    internal_static_Statistics_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Statistics_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Statistics_descriptor,
+        new java.lang.String[] { "Metrics", });
+    internal_static_Statistics_MetricsEntry_descriptor =
+      internal_static_Statistics_descriptor.getNestedTypes().get(0);
+    internal_static_Statistics_MetricsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Statistics_MetricsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_RuntimeHBReq_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_RuntimeHBReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RuntimeHBReq_descriptor,
+        new java.lang.String[] { "ServerStatus", "RuntimePort", "WorkerNumPerProcess", "ProcessPartitionList", });
+    internal_static_RuntimeHBResp_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_RuntimeHBResp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RuntimeHBResp_descriptor,
+        new java.lang.String[] { "Version", "WorkerId", "Addresses", "GroupId", "TaskPartitionList", });
+    internal_static_RuntimeTaskPartitionProto_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_RuntimeTaskPartitionProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RuntimeTaskPartitionProto_descriptor,
+        new java.lang.String[] { "TaskIndex", "ProcessIndex", "PartitionList", });
+    internal_static_RuntimeAddressProto_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_RuntimeAddressProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RuntimeAddressProto_descriptor,
+        new java.lang.String[] { "Ip", "StorePort", "RuntimePort", });
+    internal_static_ServerHBReq_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_ServerHBReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ServerHBReq_descriptor,
+        new java.lang.String[] { "Id", "Endpoint", "HeartbeatTime", "Statistics", "RuntimeReq", "AliveId", "Status", "InfoProto", });
+    internal_static_SimpleServerHBReq_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_SimpleServerHBReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SimpleServerHBReq_descriptor,
+        new java.lang.String[] { "Id", "Endpoint", "RoleType", "Statistics", "LogDir", "AliveId", "NodeId", "InfoProto", });
+    internal_static_ServerHBResp_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_ServerHBResp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ServerHBResp_descriptor,
+        new java.lang.String[] { "Resp", "Partitions", "RuntimeResp", "IsLegal", "TargetStatus", "AliveId", });
+    internal_static_SimpleServerHBResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_SimpleServerHBResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SimpleServerHBResponse_descriptor,
+        new java.lang.String[] { "Resp", "WorkerInfoProtos", "IsLegal", "SnapshotId", "ServingServerId", "AliveId", });
+    internal_static_WorkerInfoProto_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_WorkerInfoProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WorkerInfoProto_descriptor,
+        new java.lang.String[] { "Id", "Address", "Partitions", "RoleType", "WorkerStatus", "ServerHBReq", "LogDir", "LastReportTime", });
+    internal_static_RoutingServerInfoResp_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_RoutingServerInfoResp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RoutingServerInfoResp_descriptor,
+        new java.lang.String[] { "Resp", "WorkerInfoProtos", "ServingServerId", });
+    internal_static_WorkerInfoProtos_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_WorkerInfoProtos_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WorkerInfoProtos_descriptor,
+        new java.lang.String[] { "Infos", });
+    internal_static_PartitionProtos_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_PartitionProtos_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PartitionProtos_descriptor,
+        new java.lang.String[] { "PartitionId", });
+    internal_static_TimestampRequest_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_TimestampRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TimestampRequest_descriptor,
+        new java.lang.String[] { "Timestamp", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+    com.alibaba.maxgraph.proto.Schema.getDescriptor();
+    com.alibaba.maxgraph.proto.ClusterProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
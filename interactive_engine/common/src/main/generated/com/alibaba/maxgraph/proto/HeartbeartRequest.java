@@ -0,0 +1,1251 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: coordinator.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code HeartbeartRequest}
+ */
+public final class HeartbeartRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:HeartbeartRequest)
+    HeartbeartRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use HeartbeartRequest.newBuilder() to construct.
+  private HeartbeartRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private HeartbeartRequest() {
+    logDir_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new HeartbeartRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private HeartbeartRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.NodeInfo.Builder subBuilder = null;
+            if (nodeInfo_ != null) {
+              subBuilder = nodeInfo_.toBuilder();
+            }
+            nodeInfo_ = input.readMessage(com.alibaba.maxgraph.proto.NodeInfo.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(nodeInfo_);
+              nodeInfo_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            clusterStateVersion_ = input.readInt64();
+            break;
+          }
+          case 26: {
+            com.alibaba.maxgraph.proto.NodeStateProto.Builder subBuilder = null;
+            if (nodeStateProto_ != null) {
+              subBuilder = nodeStateProto_.toBuilder();
+            }
+            nodeStateProto_ = input.readMessage(com.alibaba.maxgraph.proto.NodeStateProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(nodeStateProto_);
+              nodeStateProto_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            logDir_ = s;
+            break;
+          }
+          case 40: {
+
+            aliveId_ = input.readUInt64();
+            break;
+          }
+          case 50: {
+            com.alibaba.maxgraph.proto.MetricInfoProto.Builder subBuilder = null;
+            if (metricInfo_ != null) {
+              subBuilder = metricInfo_.toBuilder();
+            }
+            metricInfo_ = input.readMessage(com.alibaba.maxgraph.proto.MetricInfoProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(metricInfo_);
+              metricInfo_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.HeartbeartRequest.class, com.alibaba.maxgraph.proto.HeartbeartRequest.Builder.class);
+  }
+
+  public static final int NODEINFO_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.NodeInfo nodeInfo_;
+  /**
+   * <code>.NodeInfo nodeInfo = 1;</code>
+   * @return Whether the nodeInfo field is set.
+   */
+  @java.lang.Override
+  public boolean hasNodeInfo() {
+    return nodeInfo_ != null;
+  }
+  /**
+   * <code>.NodeInfo nodeInfo = 1;</code>
+   * @return The nodeInfo.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeInfo getNodeInfo() {
+    return nodeInfo_ == null ? com.alibaba.maxgraph.proto.NodeInfo.getDefaultInstance() : nodeInfo_;
+  }
+  /**
+   * <code>.NodeInfo nodeInfo = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeInfoOrBuilder getNodeInfoOrBuilder() {
+    return getNodeInfo();
+  }
+
+  public static final int CLUSTERSTATEVERSION_FIELD_NUMBER = 2;
+  private long clusterStateVersion_;
+  /**
+   * <code>int64 clusterStateVersion = 2;</code>
+   * @return The clusterStateVersion.
+   */
+  @java.lang.Override
+  public long getClusterStateVersion() {
+    return clusterStateVersion_;
+  }
+
+  public static final int NODESTATEPROTO_FIELD_NUMBER = 3;
+  private com.alibaba.maxgraph.proto.NodeStateProto nodeStateProto_;
+  /**
+   * <code>.NodeStateProto nodeStateProto = 3;</code>
+   * @return Whether the nodeStateProto field is set.
+   */
+  @java.lang.Override
+  public boolean hasNodeStateProto() {
+    return nodeStateProto_ != null;
+  }
+  /**
+   * <code>.NodeStateProto nodeStateProto = 3;</code>
+   * @return The nodeStateProto.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeStateProto getNodeStateProto() {
+    return nodeStateProto_ == null ? com.alibaba.maxgraph.proto.NodeStateProto.getDefaultInstance() : nodeStateProto_;
+  }
+  /**
+   * <code>.NodeStateProto nodeStateProto = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeStateProtoOrBuilder getNodeStateProtoOrBuilder() {
+    return getNodeStateProto();
+  }
+
+  public static final int LOGDIR_FIELD_NUMBER = 4;
+  private volatile java.lang.Object logDir_;
+  /**
+   * <code>string logDir = 4;</code>
+   * @return The logDir.
+   */
+  @java.lang.Override
+  public java.lang.String getLogDir() {
+    java.lang.Object ref = logDir_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      logDir_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string logDir = 4;</code>
+   * @return The bytes for logDir.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getLogDirBytes() {
+    java.lang.Object ref = logDir_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      logDir_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ALIVEID_FIELD_NUMBER = 5;
+  private long aliveId_;
+  /**
+   * <code>uint64 aliveId = 5;</code>
+   * @return The aliveId.
+   */
+  @java.lang.Override
+  public long getAliveId() {
+    return aliveId_;
+  }
+
+  public static final int METRICINFO_FIELD_NUMBER = 6;
+  private com.alibaba.maxgraph.proto.MetricInfoProto metricInfo_;
+  /**
+   * <code>.MetricInfoProto metricInfo = 6;</code>
+   * @return Whether the metricInfo field is set.
+   */
+  @java.lang.Override
+  public boolean hasMetricInfo() {
+    return metricInfo_ != null;
+  }
+  /**
+   * <code>.MetricInfoProto metricInfo = 6;</code>
+   * @return The metricInfo.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.MetricInfoProto getMetricInfo() {
+    return metricInfo_ == null ? com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : metricInfo_;
+  }
+  /**
+   * <code>.MetricInfoProto metricInfo = 6;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getMetricInfoOrBuilder() {
+    return getMetricInfo();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (nodeInfo_ != null) {
+      output.writeMessage(1, getNodeInfo());
+    }
+    if (clusterStateVersion_ != 0L) {
+      output.writeInt64(2, clusterStateVersion_);
+    }
+    if (nodeStateProto_ != null) {
+      output.writeMessage(3, getNodeStateProto());
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(logDir_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, logDir_);
+    }
+    if (aliveId_ != 0L) {
+      output.writeUInt64(5, aliveId_);
+    }
+    if (metricInfo_ != null) {
+      output.writeMessage(6, getMetricInfo());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (nodeInfo_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getNodeInfo());
+    }
+    if (clusterStateVersion_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, clusterStateVersion_);
+    }
+    if (nodeStateProto_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getNodeStateProto());
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(logDir_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, logDir_);
+    }
+    if (aliveId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(5, aliveId_);
+    }
+    if (metricInfo_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, getMetricInfo());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.HeartbeartRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.HeartbeartRequest other = (com.alibaba.maxgraph.proto.HeartbeartRequest) obj;
+
+    if (hasNodeInfo() != other.hasNodeInfo()) return false;
+    if (hasNodeInfo()) {
+      if (!getNodeInfo()
+          .equals(other.getNodeInfo())) return false;
+    }
+    if (getClusterStateVersion()
+        != other.getClusterStateVersion()) return false;
+    if (hasNodeStateProto() != other.hasNodeStateProto()) return false;
+    if (hasNodeStateProto()) {
+      if (!getNodeStateProto()
+          .equals(other.getNodeStateProto())) return false;
+    }
+    if (!getLogDir()
+        .equals(other.getLogDir())) return false;
+    if (getAliveId()
+        != other.getAliveId()) return false;
+    if (hasMetricInfo() != other.hasMetricInfo()) return false;
+    if (hasMetricInfo()) {
+      if (!getMetricInfo()
+          .equals(other.getMetricInfo())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasNodeInfo()) {
+      hash = (37 * hash) + NODEINFO_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeInfo().hashCode();
+    }
+    hash = (37 * hash) + CLUSTERSTATEVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getClusterStateVersion());
+    if (hasNodeStateProto()) {
+      hash = (37 * hash) + NODESTATEPROTO_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeStateProto().hashCode();
+    }
+    hash = (37 * hash) + LOGDIR_FIELD_NUMBER;
+    hash = (53 * hash) + getLogDir().hashCode();
+    hash = (37 * hash) + ALIVEID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAliveId());
+    if (hasMetricInfo()) {
+      hash = (37 * hash) + METRICINFO_FIELD_NUMBER;
+      hash = (53 * hash) + getMetricInfo().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.HeartbeartRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code HeartbeartRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:HeartbeartRequest)
+      com.alibaba.maxgraph.proto.HeartbeartRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.HeartbeartRequest.class, com.alibaba.maxgraph.proto.HeartbeartRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.HeartbeartRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (nodeInfoBuilder_ == null) {
+        nodeInfo_ = null;
+      } else {
+        nodeInfo_ = null;
+        nodeInfoBuilder_ = null;
+      }
+      clusterStateVersion_ = 0L;
+
+      if (nodeStateProtoBuilder_ == null) {
+        nodeStateProto_ = null;
+      } else {
+        nodeStateProto_ = null;
+        nodeStateProtoBuilder_ = null;
+      }
+      logDir_ = "";
+
+      aliveId_ = 0L;
+
+      if (metricInfoBuilder_ == null) {
+        metricInfo_ = null;
+      } else {
+        metricInfo_ = null;
+        metricInfoBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.HeartbeartRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.HeartbeartRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.HeartbeartRequest build() {
+      com.alibaba.maxgraph.proto.HeartbeartRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.HeartbeartRequest buildPartial() {
+      com.alibaba.maxgraph.proto.HeartbeartRequest result = new com.alibaba.maxgraph.proto.HeartbeartRequest(this);
+      if (nodeInfoBuilder_ == null) {
+        result.nodeInfo_ = nodeInfo_;
+      } else {
+        result.nodeInfo_ = nodeInfoBuilder_.build();
+      }
+      result.clusterStateVersion_ = clusterStateVersion_;
+      if (nodeStateProtoBuilder_ == null) {
+        result.nodeStateProto_ = nodeStateProto_;
+      } else {
+        result.nodeStateProto_ = nodeStateProtoBuilder_.build();
+      }
+      result.logDir_ = logDir_;
+      result.aliveId_ = aliveId_;
+      if (metricInfoBuilder_ == null) {
+        result.metricInfo_ = metricInfo_;
+      } else {
+        result.metricInfo_ = metricInfoBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.HeartbeartRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.HeartbeartRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.HeartbeartRequest other) {
+      if (other == com.alibaba.maxgraph.proto.HeartbeartRequest.getDefaultInstance()) return this;
+      if (other.hasNodeInfo()) {
+        mergeNodeInfo(other.getNodeInfo());
+      }
+      if (other.getClusterStateVersion() != 0L) {
+        setClusterStateVersion(other.getClusterStateVersion());
+      }
+      if (other.hasNodeStateProto()) {
+        mergeNodeStateProto(other.getNodeStateProto());
+      }
+      if (!other.getLogDir().isEmpty()) {
+        logDir_ = other.logDir_;
+        onChanged();
+      }
+      if (other.getAliveId() != 0L) {
+        setAliveId(other.getAliveId());
+      }
+      if (other.hasMetricInfo()) {
+        mergeMetricInfo(other.getMetricInfo());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.HeartbeartRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.HeartbeartRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.NodeInfo nodeInfo_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.NodeInfo, com.alibaba.maxgraph.proto.NodeInfo.Builder, com.alibaba.maxgraph.proto.NodeInfoOrBuilder> nodeInfoBuilder_;
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     * @return Whether the nodeInfo field is set.
+     */
+    public boolean hasNodeInfo() {
+      return nodeInfoBuilder_ != null || nodeInfo_ != null;
+    }
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     * @return The nodeInfo.
+     */
+    public com.alibaba.maxgraph.proto.NodeInfo getNodeInfo() {
+      if (nodeInfoBuilder_ == null) {
+        return nodeInfo_ == null ? com.alibaba.maxgraph.proto.NodeInfo.getDefaultInstance() : nodeInfo_;
+      } else {
+        return nodeInfoBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     */
+    public Builder setNodeInfo(com.alibaba.maxgraph.proto.NodeInfo value) {
+      if (nodeInfoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        nodeInfo_ = value;
+        onChanged();
+      } else {
+        nodeInfoBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     */
+    public Builder setNodeInfo(
+        com.alibaba.maxgraph.proto.NodeInfo.Builder builderForValue) {
+      if (nodeInfoBuilder_ == null) {
+        nodeInfo_ = builderForValue.build();
+        onChanged();
+      } else {
+        nodeInfoBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     */
+    public Builder mergeNodeInfo(com.alibaba.maxgraph.proto.NodeInfo value) {
+      if (nodeInfoBuilder_ == null) {
+        if (nodeInfo_ != null) {
+          nodeInfo_ =
+            com.alibaba.maxgraph.proto.NodeInfo.newBuilder(nodeInfo_).mergeFrom(value).buildPartial();
+        } else {
+          nodeInfo_ = value;
+        }
+        onChanged();
+      } else {
+        nodeInfoBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     */
+    public Builder clearNodeInfo() {
+      if (nodeInfoBuilder_ == null) {
+        nodeInfo_ = null;
+        onChanged();
+      } else {
+        nodeInfo_ = null;
+        nodeInfoBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeInfo.Builder getNodeInfoBuilder() {
+      
+      onChanged();
+      return getNodeInfoFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeInfoOrBuilder getNodeInfoOrBuilder() {
+      if (nodeInfoBuilder_ != null) {
+        return nodeInfoBuilder_.getMessageOrBuilder();
+      } else {
+        return nodeInfo_ == null ?
+            com.alibaba.maxgraph.proto.NodeInfo.getDefaultInstance() : nodeInfo_;
+      }
+    }
+    /**
+     * <code>.NodeInfo nodeInfo = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.NodeInfo, com.alibaba.maxgraph.proto.NodeInfo.Builder, com.alibaba.maxgraph.proto.NodeInfoOrBuilder> 
+        getNodeInfoFieldBuilder() {
+      if (nodeInfoBuilder_ == null) {
+        nodeInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.NodeInfo, com.alibaba.maxgraph.proto.NodeInfo.Builder, com.alibaba.maxgraph.proto.NodeInfoOrBuilder>(
+                getNodeInfo(),
+                getParentForChildren(),
+                isClean());
+        nodeInfo_ = null;
+      }
+      return nodeInfoBuilder_;
+    }
+
+    private long clusterStateVersion_ ;
+    /**
+     * <code>int64 clusterStateVersion = 2;</code>
+     * @return The clusterStateVersion.
+     */
+    @java.lang.Override
+    public long getClusterStateVersion() {
+      return clusterStateVersion_;
+    }
+    /**
+     * <code>int64 clusterStateVersion = 2;</code>
+     * @param value The clusterStateVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setClusterStateVersion(long value) {
+      
+      clusterStateVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 clusterStateVersion = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearClusterStateVersion() {
+      
+      clusterStateVersion_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.NodeStateProto nodeStateProto_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.NodeStateProto, com.alibaba.maxgraph.proto.NodeStateProto.Builder, com.alibaba.maxgraph.proto.NodeStateProtoOrBuilder> nodeStateProtoBuilder_;
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     * @return Whether the nodeStateProto field is set.
+     */
+    public boolean hasNodeStateProto() {
+      return nodeStateProtoBuilder_ != null || nodeStateProto_ != null;
+    }
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     * @return The nodeStateProto.
+     */
+    public com.alibaba.maxgraph.proto.NodeStateProto getNodeStateProto() {
+      if (nodeStateProtoBuilder_ == null) {
+        return nodeStateProto_ == null ? com.alibaba.maxgraph.proto.NodeStateProto.getDefaultInstance() : nodeStateProto_;
+      } else {
+        return nodeStateProtoBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     */
+    public Builder setNodeStateProto(com.alibaba.maxgraph.proto.NodeStateProto value) {
+      if (nodeStateProtoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        nodeStateProto_ = value;
+        onChanged();
+      } else {
+        nodeStateProtoBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     */
+    public Builder setNodeStateProto(
+        com.alibaba.maxgraph.proto.NodeStateProto.Builder builderForValue) {
+      if (nodeStateProtoBuilder_ == null) {
+        nodeStateProto_ = builderForValue.build();
+        onChanged();
+      } else {
+        nodeStateProtoBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     */
+    public Builder mergeNodeStateProto(com.alibaba.maxgraph.proto.NodeStateProto value) {
+      if (nodeStateProtoBuilder_ == null) {
+        if (nodeStateProto_ != null) {
+          nodeStateProto_ =
+            com.alibaba.maxgraph.proto.NodeStateProto.newBuilder(nodeStateProto_).mergeFrom(value).buildPartial();
+        } else {
+          nodeStateProto_ = value;
+        }
+        onChanged();
+      } else {
+        nodeStateProtoBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     */
+    public Builder clearNodeStateProto() {
+      if (nodeStateProtoBuilder_ == null) {
+        nodeStateProto_ = null;
+        onChanged();
+      } else {
+        nodeStateProto_ = null;
+        nodeStateProtoBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeStateProto.Builder getNodeStateProtoBuilder() {
+      
+      onChanged();
+      return getNodeStateProtoFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeStateProtoOrBuilder getNodeStateProtoOrBuilder() {
+      if (nodeStateProtoBuilder_ != null) {
+        return nodeStateProtoBuilder_.getMessageOrBuilder();
+      } else {
+        return nodeStateProto_ == null ?
+            com.alibaba.maxgraph.proto.NodeStateProto.getDefaultInstance() : nodeStateProto_;
+      }
+    }
+    /**
+     * <code>.NodeStateProto nodeStateProto = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.NodeStateProto, com.alibaba.maxgraph.proto.NodeStateProto.Builder, com.alibaba.maxgraph.proto.NodeStateProtoOrBuilder> 
+        getNodeStateProtoFieldBuilder() {
+      if (nodeStateProtoBuilder_ == null) {
+        nodeStateProtoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.NodeStateProto, com.alibaba.maxgraph.proto.NodeStateProto.Builder, com.alibaba.maxgraph.proto.NodeStateProtoOrBuilder>(
+                getNodeStateProto(),
+                getParentForChildren(),
+                isClean());
+        nodeStateProto_ = null;
+      }
+      return nodeStateProtoBuilder_;
+    }
+
+    private java.lang.Object logDir_ = "";
+    /**
+     * <code>string logDir = 4;</code>
+     * @return The logDir.
+     */
+    public java.lang.String getLogDir() {
+      java.lang.Object ref = logDir_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        logDir_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string logDir = 4;</code>
+     * @return The bytes for logDir.
+     */
+    public com.google.protobuf.ByteString
+        getLogDirBytes() {
+      java.lang.Object ref = logDir_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        logDir_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string logDir = 4;</code>
+     * @param value The logDir to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLogDir(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      logDir_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string logDir = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLogDir() {
+      
+      logDir_ = getDefaultInstance().getLogDir();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string logDir = 4;</code>
+     * @param value The bytes for logDir to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLogDirBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      logDir_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long aliveId_ ;
+    /**
+     * <code>uint64 aliveId = 5;</code>
+     * @return The aliveId.
+     */
+    @java.lang.Override
+    public long getAliveId() {
+      return aliveId_;
+    }
+    /**
+     * <code>uint64 aliveId = 5;</code>
+     * @param value The aliveId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAliveId(long value) {
+      
+      aliveId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 aliveId = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAliveId() {
+      
+      aliveId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.MetricInfoProto metricInfo_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder> metricInfoBuilder_;
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     * @return Whether the metricInfo field is set.
+     */
+    public boolean hasMetricInfo() {
+      return metricInfoBuilder_ != null || metricInfo_ != null;
+    }
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     * @return The metricInfo.
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProto getMetricInfo() {
+      if (metricInfoBuilder_ == null) {
+        return metricInfo_ == null ? com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : metricInfo_;
+      } else {
+        return metricInfoBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     */
+    public Builder setMetricInfo(com.alibaba.maxgraph.proto.MetricInfoProto value) {
+      if (metricInfoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        metricInfo_ = value;
+        onChanged();
+      } else {
+        metricInfoBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     */
+    public Builder setMetricInfo(
+        com.alibaba.maxgraph.proto.MetricInfoProto.Builder builderForValue) {
+      if (metricInfoBuilder_ == null) {
+        metricInfo_ = builderForValue.build();
+        onChanged();
+      } else {
+        metricInfoBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     */
+    public Builder mergeMetricInfo(com.alibaba.maxgraph.proto.MetricInfoProto value) {
+      if (metricInfoBuilder_ == null) {
+        if (metricInfo_ != null) {
+          metricInfo_ =
+            com.alibaba.maxgraph.proto.MetricInfoProto.newBuilder(metricInfo_).mergeFrom(value).buildPartial();
+        } else {
+          metricInfo_ = value;
+        }
+        onChanged();
+      } else {
+        metricInfoBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     */
+    public Builder clearMetricInfo() {
+      if (metricInfoBuilder_ == null) {
+        metricInfo_ = null;
+        onChanged();
+      } else {
+        metricInfo_ = null;
+        metricInfoBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProto.Builder getMetricInfoBuilder() {
+      
+      onChanged();
+      return getMetricInfoFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getMetricInfoOrBuilder() {
+      if (metricInfoBuilder_ != null) {
+        return metricInfoBuilder_.getMessageOrBuilder();
+      } else {
+        return metricInfo_ == null ?
+            com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : metricInfo_;
+      }
+    }
+    /**
+     * <code>.MetricInfoProto metricInfo = 6;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder> 
+        getMetricInfoFieldBuilder() {
+      if (metricInfoBuilder_ == null) {
+        metricInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder>(
+                getMetricInfo(),
+                getParentForChildren(),
+                isClean());
+        metricInfo_ = null;
+      }
+      return metricInfoBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:HeartbeartRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:HeartbeartRequest)
+  private static final com.alibaba.maxgraph.proto.HeartbeartRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.HeartbeartRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.HeartbeartRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<HeartbeartRequest>
+      PARSER = new com.google.protobuf.AbstractParser<HeartbeartRequest>() {
+    @java.lang.Override
+    public HeartbeartRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new HeartbeartRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<HeartbeartRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<HeartbeartRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.HeartbeartRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
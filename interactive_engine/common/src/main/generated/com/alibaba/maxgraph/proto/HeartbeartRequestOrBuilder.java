@@ -0,0 +1,78 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: coordinator.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface HeartbeartRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:HeartbeartRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.NodeInfo nodeInfo = 1;</code>
+   * @return Whether the nodeInfo field is set.
+   */
+  boolean hasNodeInfo();
+  /**
+   * <code>.NodeInfo nodeInfo = 1;</code>
+   * @return The nodeInfo.
+   */
+  com.alibaba.maxgraph.proto.NodeInfo getNodeInfo();
+  /**
+   * <code>.NodeInfo nodeInfo = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.NodeInfoOrBuilder getNodeInfoOrBuilder();
+
+  /**
+   * <code>int64 clusterStateVersion = 2;</code>
+   * @return The clusterStateVersion.
+   */
+  long getClusterStateVersion();
+
+  /**
+   * <code>.NodeStateProto nodeStateProto = 3;</code>
+   * @return Whether the nodeStateProto field is set.
+   */
+  boolean hasNodeStateProto();
+  /**
+   * <code>.NodeStateProto nodeStateProto = 3;</code>
+   * @return The nodeStateProto.
+   */
+  com.alibaba.maxgraph.proto.NodeStateProto getNodeStateProto();
+  /**
+   * <code>.NodeStateProto nodeStateProto = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.NodeStateProtoOrBuilder getNodeStateProtoOrBuilder();
+
+  /**
+   * <code>string logDir = 4;</code>
+   * @return The logDir.
+   */
+  java.lang.String getLogDir();
+  /**
+   * <code>string logDir = 4;</code>
+   * @return The bytes for logDir.
+   */
+  com.google.protobuf.ByteString
+      getLogDirBytes();
+
+  /**
+   * <code>uint64 aliveId = 5;</code>
+   * @return The aliveId.
+   */
+  long getAliveId();
+
+  /**
+   * <code>.MetricInfoProto metricInfo = 6;</code>
+   * @return Whether the metricInfo field is set.
+   */
+  boolean hasMetricInfo();
+  /**
+   * <code>.MetricInfoProto metricInfo = 6;</code>
+   * @return The metricInfo.
+   */
+  com.alibaba.maxgraph.proto.MetricInfoProto getMetricInfo();
+  /**
+   * <code>.MetricInfoProto metricInfo = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getMetricInfoOrBuilder();
+}
@@ -0,0 +1,802 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: coordinator.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code HeartbeartResponse}
+ */
+public final class HeartbeartResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:HeartbeartResponse)
+    HeartbeartResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use HeartbeartResponse.newBuilder() to construct.
+  private HeartbeartResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private HeartbeartResponse() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new HeartbeartResponse();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private HeartbeartResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            clusterStateVersion_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.ClusterStateProto.Builder subBuilder = null;
+            if (clusterState_ != null) {
+              subBuilder = clusterState_.toBuilder();
+            }
+            clusterState_ = input.readMessage(com.alibaba.maxgraph.proto.ClusterStateProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(clusterState_);
+              clusterState_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 24: {
+
+            aliveId_ = input.readUInt64();
+            break;
+          }
+          case 32: {
+
+            isLegal_ = input.readBool();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.HeartbeartResponse.class, com.alibaba.maxgraph.proto.HeartbeartResponse.Builder.class);
+  }
+
+  public static final int CLUSTERSTATEVERSION_FIELD_NUMBER = 1;
+  private long clusterStateVersion_;
+  /**
+   * <code>int64 clusterStateVersion = 1;</code>
+   * @return The clusterStateVersion.
+   */
+  @java.lang.Override
+  public long getClusterStateVersion() {
+    return clusterStateVersion_;
+  }
+
+  public static final int CLUSTERSTATE_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.ClusterStateProto clusterState_;
+  /**
+   * <code>.ClusterStateProto clusterState = 2;</code>
+   * @return Whether the clusterState field is set.
+   */
+  @java.lang.Override
+  public boolean hasClusterState() {
+    return clusterState_ != null;
+  }
+  /**
+   * <code>.ClusterStateProto clusterState = 2;</code>
+   * @return The clusterState.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ClusterStateProto getClusterState() {
+    return clusterState_ == null ? com.alibaba.maxgraph.proto.ClusterStateProto.getDefaultInstance() : clusterState_;
+  }
+  /**
+   * <code>.ClusterStateProto clusterState = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ClusterStateProtoOrBuilder getClusterStateOrBuilder() {
+    return getClusterState();
+  }
+
+  public static final int ALIVEID_FIELD_NUMBER = 3;
+  private long aliveId_;
+  /**
+   * <code>uint64 aliveId = 3;</code>
+   * @return The aliveId.
+   */
+  @java.lang.Override
+  public long getAliveId() {
+    return aliveId_;
+  }
+
+  public static final int ISLEGAL_FIELD_NUMBER = 4;
+  private boolean isLegal_;
+  /**
+   * <code>bool isLegal = 4;</code>
+   * @return The isLegal.
+   */
+  @java.lang.Override
+  public boolean getIsLegal() {
+    return isLegal_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (clusterStateVersion_ != 0L) {
+      output.writeInt64(1, clusterStateVersion_);
+    }
+    if (clusterState_ != null) {
+      output.writeMessage(2, getClusterState());
+    }
+    if (aliveId_ != 0L) {
+      output.writeUInt64(3, aliveId_);
+    }
+    if (isLegal_ != false) {
+      output.writeBool(4, isLegal_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (clusterStateVersion_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, clusterStateVersion_);
+    }
+    if (clusterState_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getClusterState());
+    }
+    if (aliveId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(3, aliveId_);
+    }
+    if (isLegal_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(4, isLegal_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.HeartbeartResponse)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.HeartbeartResponse other = (com.alibaba.maxgraph.proto.HeartbeartResponse) obj;
+
+    if (getClusterStateVersion()
+        != other.getClusterStateVersion()) return false;
+    if (hasClusterState() != other.hasClusterState()) return false;
+    if (hasClusterState()) {
+      if (!getClusterState()
+          .equals(other.getClusterState())) return false;
+    }
+    if (getAliveId()
+        != other.getAliveId()) return false;
+    if (getIsLegal()
+        != other.getIsLegal()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + CLUSTERSTATEVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getClusterStateVersion());
+    if (hasClusterState()) {
+      hash = (37 * hash) + CLUSTERSTATE_FIELD_NUMBER;
+      hash = (53 * hash) + getClusterState().hashCode();
+    }
+    hash = (37 * hash) + ALIVEID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAliveId());
+    hash = (37 * hash) + ISLEGAL_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getIsLegal());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.HeartbeartResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code HeartbeartResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:HeartbeartResponse)
+      com.alibaba.maxgraph.proto.HeartbeartResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.HeartbeartResponse.class, com.alibaba.maxgraph.proto.HeartbeartResponse.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.HeartbeartResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      clusterStateVersion_ = 0L;
+
+      if (clusterStateBuilder_ == null) {
+        clusterState_ = null;
+      } else {
+        clusterState_ = null;
+        clusterStateBuilder_ = null;
+      }
+      aliveId_ = 0L;
+
+      isLegal_ = false;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.CoordinatorOuterClass.internal_static_HeartbeartResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.HeartbeartResponse getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.HeartbeartResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.HeartbeartResponse build() {
+      com.alibaba.maxgraph.proto.HeartbeartResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.HeartbeartResponse buildPartial() {
+      com.alibaba.maxgraph.proto.HeartbeartResponse result = new com.alibaba.maxgraph.proto.HeartbeartResponse(this);
+      result.clusterStateVersion_ = clusterStateVersion_;
+      if (clusterStateBuilder_ == null) {
+        result.clusterState_ = clusterState_;
+      } else {
+        result.clusterState_ = clusterStateBuilder_.build();
+      }
+      result.aliveId_ = aliveId_;
+      result.isLegal_ = isLegal_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.HeartbeartResponse) {
+        return mergeFrom((com.alibaba.maxgraph.proto.HeartbeartResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.HeartbeartResponse other) {
+      if (other == com.alibaba.maxgraph.proto.HeartbeartResponse.getDefaultInstance()) return this;
+      if (other.getClusterStateVersion() != 0L) {
+        setClusterStateVersion(other.getClusterStateVersion());
+      }
+      if (other.hasClusterState()) {
+        mergeClusterState(other.getClusterState());
+      }
+      if (other.getAliveId() != 0L) {
+        setAliveId(other.getAliveId());
+      }
+      if (other.getIsLegal() != false) {
+        setIsLegal(other.getIsLegal());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.HeartbeartResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.HeartbeartResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long clusterStateVersion_ ;
+    /**
+     * <code>int64 clusterStateVersion = 1;</code>
+     * @return The clusterStateVersion.
+     */
+    @java.lang.Override
+    public long getClusterStateVersion() {
+      return clusterStateVersion_;
+    }
+    /**
+     * <code>int64 clusterStateVersion = 1;</code>
+     * @param value The clusterStateVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setClusterStateVersion(long value) {
+      
+      clusterStateVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 clusterStateVersion = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearClusterStateVersion() {
+      
+      clusterStateVersion_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.ClusterStateProto clusterState_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.ClusterStateProto, com.alibaba.maxgraph.proto.ClusterStateProto.Builder, com.alibaba.maxgraph.proto.ClusterStateProtoOrBuilder> clusterStateBuilder_;
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     * @return Whether the clusterState field is set.
+     */
+    public boolean hasClusterState() {
+      return clusterStateBuilder_ != null || clusterState_ != null;
+    }
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     * @return The clusterState.
+     */
+    public com.alibaba.maxgraph.proto.ClusterStateProto getClusterState() {
+      if (clusterStateBuilder_ == null) {
+        return clusterState_ == null ? com.alibaba.maxgraph.proto.ClusterStateProto.getDefaultInstance() : clusterState_;
+      } else {
+        return clusterStateBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     */
+    public Builder setClusterState(com.alibaba.maxgraph.proto.ClusterStateProto value) {
+      if (clusterStateBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        clusterState_ = value;
+        onChanged();
+      } else {
+        clusterStateBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     */
+    public Builder setClusterState(
+        com.alibaba.maxgraph.proto.ClusterStateProto.Builder builderForValue) {
+      if (clusterStateBuilder_ == null) {
+        clusterState_ = builderForValue.build();
+        onChanged();
+      } else {
+        clusterStateBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     */
+    public Builder mergeClusterState(com.alibaba.maxgraph.proto.ClusterStateProto value) {
+      if (clusterStateBuilder_ == null) {
+        if (clusterState_ != null) {
+          clusterState_ =
+            com.alibaba.maxgraph.proto.ClusterStateProto.newBuilder(clusterState_).mergeFrom(value).buildPartial();
+        } else {
+          clusterState_ = value;
+        }
+        onChanged();
+      } else {
+        clusterStateBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     */
+    public Builder clearClusterState() {
+      if (clusterStateBuilder_ == null) {
+        clusterState_ = null;
+        onChanged();
+      } else {
+        clusterState_ = null;
+        clusterStateBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.ClusterStateProto.Builder getClusterStateBuilder() {
+      
+      onChanged();
+      return getClusterStateFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.ClusterStateProtoOrBuilder getClusterStateOrBuilder() {
+      if (clusterStateBuilder_ != null) {
+        return clusterStateBuilder_.getMessageOrBuilder();
+      } else {
+        return clusterState_ == null ?
+            com.alibaba.maxgraph.proto.ClusterStateProto.getDefaultInstance() : clusterState_;
+      }
+    }
+    /**
+     * <code>.ClusterStateProto clusterState = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.ClusterStateProto, com.alibaba.maxgraph.proto.ClusterStateProto.Builder, com.alibaba.maxgraph.proto.ClusterStateProtoOrBuilder> 
+        getClusterStateFieldBuilder() {
+      if (clusterStateBuilder_ == null) {
+        clusterStateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.ClusterStateProto, com.alibaba.maxgraph.proto.ClusterStateProto.Builder, com.alibaba.maxgraph.proto.ClusterStateProtoOrBuilder>(
+                getClusterState(),
+                getParentForChildren(),
+                isClean());
+        clusterState_ = null;
+      }
+      return clusterStateBuilder_;
+    }
+
+    private long aliveId_ ;
+    /**
+     * <code>uint64 aliveId = 3;</code>
+     * @return The aliveId.
+     */
+    @java.lang.Override
+    public long getAliveId() {
+      return aliveId_;
+    }
+    /**
+     * <code>uint64 aliveId = 3;</code>
+     * @param value The aliveId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAliveId(long value) {
+      
+      aliveId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 aliveId = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAliveId() {
+      
+      aliveId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private boolean isLegal_ ;
+    /**
+     * <code>bool isLegal = 4;</code>
+     * @return The isLegal.
+     */
+    @java.lang.Override
+    public boolean getIsLegal() {
+      return isLegal_;
+    }
+    /**
+     * <code>bool isLegal = 4;</code>
+     * @param value The isLegal to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsLegal(boolean value) {
+      
+      isLegal_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool isLegal = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIsLegal() {
+      
+      isLegal_ = false;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:HeartbeartResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:HeartbeartResponse)
+  private static final com.alibaba.maxgraph.proto.HeartbeartResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.HeartbeartResponse();
+  }
+
+  public static com.alibaba.maxgraph.proto.HeartbeartResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<HeartbeartResponse>
+      PARSER = new com.google.protobuf.AbstractParser<HeartbeartResponse>() {
+    @java.lang.Override
+    public HeartbeartResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new HeartbeartResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<HeartbeartResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<HeartbeartResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.HeartbeartResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
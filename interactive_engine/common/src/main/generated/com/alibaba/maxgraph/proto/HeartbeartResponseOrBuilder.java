@@ -0,0 +1,42 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: coordinator.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface HeartbeartResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:HeartbeartResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 clusterStateVersion = 1;</code>
+   * @return The clusterStateVersion.
+   */
+  long getClusterStateVersion();
+
+  /**
+   * <code>.ClusterStateProto clusterState = 2;</code>
+   * @return Whether the clusterState field is set.
+   */
+  boolean hasClusterState();
+  /**
+   * <code>.ClusterStateProto clusterState = 2;</code>
+   * @return The clusterState.
+   */
+  com.alibaba.maxgraph.proto.ClusterStateProto getClusterState();
+  /**
+   * <code>.ClusterStateProto clusterState = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.ClusterStateProtoOrBuilder getClusterStateOrBuilder();
+
+  /**
+   * <code>uint64 aliveId = 3;</code>
+   * @return The aliveId.
+   */
+  long getAliveId();
+
+  /**
+   * <code>bool isLegal = 4;</code>
+   * @return The isLegal.
+   */
+  boolean getIsLegal();
+}
@@ -0,0 +1,1317 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code InstanceInfoProto}
+ */
+public final class InstanceInfoProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:InstanceInfoProto)
+    InstanceInfoProtoOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use InstanceInfoProto.newBuilder() to construct.
+  private InstanceInfoProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private InstanceInfoProto() {
+    status_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new InstanceInfoProto();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private InstanceInfoProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              assignment_ = com.google.protobuf.MapField.newMapField(
+                  AssignmentDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>
+            assignment__ = input.readMessage(
+                AssignmentDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            assignment_.getMutableMap().put(
+                assignment__.getKey(), assignment__.getValue());
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              workerInfos_ = com.google.protobuf.MapField.newMapField(
+                  WorkerInfosDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000002;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>
+            workerInfos__ = input.readMessage(
+                WorkerInfosDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            workerInfos_.getMutableMap().put(
+                workerInfos__.getKey(), workerInfos__.getValue());
+            break;
+          }
+          case 32: {
+
+            offlineVersion_ = input.readInt64();
+            break;
+          }
+          case 56: {
+            int rawValue = input.readEnum();
+
+            status_ = rawValue;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoProto_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 1:
+        return internalGetAssignment();
+      case 2:
+        return internalGetWorkerInfos();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.InstanceInfoProto.class, com.alibaba.maxgraph.proto.InstanceInfoProto.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code InstanceInfoProto.Status}
+   */
+  public enum Status
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>NORMAL = 0;</code>
+     */
+    NORMAL(0),
+    /**
+     * <code>ABNORMAL = 1;</code>
+     */
+    ABNORMAL(1),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>NORMAL = 0;</code>
+     */
+    public static final int NORMAL_VALUE = 0;
+    /**
+     * <code>ABNORMAL = 1;</code>
+     */
+    public static final int ABNORMAL_VALUE = 1;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Status valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Status forNumber(int value) {
+      switch (value) {
+        case 0: return NORMAL;
+        case 1: return ABNORMAL;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Status>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Status> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Status>() {
+            public Status findValueByNumber(int number) {
+              return Status.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.InstanceInfoProto.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Status[] VALUES = values();
+
+    public static Status valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Status(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:InstanceInfoProto.Status)
+  }
+
+  public static final int ASSIGNMENT_FIELD_NUMBER = 1;
+  private static final class AssignmentDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>newDefaultInstance(
+                com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoProto_AssignmentEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.PartitionProtos.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> assignment_;
+  private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>
+  internalGetAssignment() {
+    if (assignment_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          AssignmentDefaultEntryHolder.defaultEntry);
+    }
+    return assignment_;
+  }
+
+  public int getAssignmentCount() {
+    return internalGetAssignment().getMap().size();
+  }
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsAssignment(
+      int key) {
+    
+    return internalGetAssignment().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getAssignmentMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> getAssignment() {
+    return getAssignmentMap();
+  }
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> getAssignmentMap() {
+    return internalGetAssignment().getMap();
+  }
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.PartitionProtos getAssignmentOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.PartitionProtos defaultValue) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> map =
+        internalGetAssignment().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.PartitionProtos getAssignmentOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> map =
+        internalGetAssignment().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int WORKERINFOS_FIELD_NUMBER = 2;
+  private static final class WorkerInfosDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>newDefaultInstance(
+                com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoProto_WorkerInfosEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.WorkerInfoProtos.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> workerInfos_;
+  private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>
+  internalGetWorkerInfos() {
+    if (workerInfos_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          WorkerInfosDefaultEntryHolder.defaultEntry);
+    }
+    return workerInfos_;
+  }
+
+  public int getWorkerInfosCount() {
+    return internalGetWorkerInfos().getMap().size();
+  }
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsWorkerInfos(
+      int key) {
+    
+    return internalGetWorkerInfos().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getWorkerInfosMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> getWorkerInfos() {
+    return getWorkerInfosMap();
+  }
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> getWorkerInfosMap() {
+    return internalGetWorkerInfos().getMap();
+  }
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfosOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.WorkerInfoProtos defaultValue) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> map =
+        internalGetWorkerInfos().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfosOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> map =
+        internalGetWorkerInfos().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int OFFLINEVERSION_FIELD_NUMBER = 4;
+  private long offlineVersion_;
+  /**
+   * <code>int64 offlineVersion = 4;</code>
+   * @return The offlineVersion.
+   */
+  @java.lang.Override
+  public long getOfflineVersion() {
+    return offlineVersion_;
+  }
+
+  public static final int STATUS_FIELD_NUMBER = 7;
+  private int status_;
+  /**
+   * <code>.InstanceInfoProto.Status status = 7;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  @java.lang.Override public int getStatusValue() {
+    return status_;
+  }
+  /**
+   * <code>.InstanceInfoProto.Status status = 7;</code>
+   * @return The status.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.InstanceInfoProto.Status getStatus() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.InstanceInfoProto.Status result = com.alibaba.maxgraph.proto.InstanceInfoProto.Status.valueOf(status_);
+    return result == null ? com.alibaba.maxgraph.proto.InstanceInfoProto.Status.UNRECOGNIZED : result;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetAssignment(),
+        AssignmentDefaultEntryHolder.defaultEntry,
+        1);
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetWorkerInfos(),
+        WorkerInfosDefaultEntryHolder.defaultEntry,
+        2);
+    if (offlineVersion_ != 0L) {
+      output.writeInt64(4, offlineVersion_);
+    }
+    if (status_ != com.alibaba.maxgraph.proto.InstanceInfoProto.Status.NORMAL.getNumber()) {
+      output.writeEnum(7, status_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> entry
+         : internalGetAssignment().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>
+      assignment__ = AssignmentDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, assignment__);
+    }
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> entry
+         : internalGetWorkerInfos().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>
+      workerInfos__ = WorkerInfosDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, workerInfos__);
+    }
+    if (offlineVersion_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, offlineVersion_);
+    }
+    if (status_ != com.alibaba.maxgraph.proto.InstanceInfoProto.Status.NORMAL.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(7, status_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.InstanceInfoProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.InstanceInfoProto other = (com.alibaba.maxgraph.proto.InstanceInfoProto) obj;
+
+    if (!internalGetAssignment().equals(
+        other.internalGetAssignment())) return false;
+    if (!internalGetWorkerInfos().equals(
+        other.internalGetWorkerInfos())) return false;
+    if (getOfflineVersion()
+        != other.getOfflineVersion()) return false;
+    if (status_ != other.status_) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (!internalGetAssignment().getMap().isEmpty()) {
+      hash = (37 * hash) + ASSIGNMENT_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetAssignment().hashCode();
+    }
+    if (!internalGetWorkerInfos().getMap().isEmpty()) {
+      hash = (37 * hash) + WORKERINFOS_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetWorkerInfos().hashCode();
+    }
+    hash = (37 * hash) + OFFLINEVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getOfflineVersion());
+    hash = (37 * hash) + STATUS_FIELD_NUMBER;
+    hash = (53 * hash) + status_;
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.InstanceInfoProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code InstanceInfoProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:InstanceInfoProto)
+      com.alibaba.maxgraph.proto.InstanceInfoProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoProto_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetAssignment();
+        case 2:
+          return internalGetWorkerInfos();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMutableAssignment();
+        case 2:
+          return internalGetMutableWorkerInfos();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.InstanceInfoProto.class, com.alibaba.maxgraph.proto.InstanceInfoProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.InstanceInfoProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      internalGetMutableAssignment().clear();
+      internalGetMutableWorkerInfos().clear();
+      offlineVersion_ = 0L;
+
+      status_ = 0;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoProto_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.InstanceInfoProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.InstanceInfoProto.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.InstanceInfoProto build() {
+      com.alibaba.maxgraph.proto.InstanceInfoProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.InstanceInfoProto buildPartial() {
+      com.alibaba.maxgraph.proto.InstanceInfoProto result = new com.alibaba.maxgraph.proto.InstanceInfoProto(this);
+      int from_bitField0_ = bitField0_;
+      result.assignment_ = internalGetAssignment();
+      result.assignment_.makeImmutable();
+      result.workerInfos_ = internalGetWorkerInfos();
+      result.workerInfos_.makeImmutable();
+      result.offlineVersion_ = offlineVersion_;
+      result.status_ = status_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.InstanceInfoProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.InstanceInfoProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.InstanceInfoProto other) {
+      if (other == com.alibaba.maxgraph.proto.InstanceInfoProto.getDefaultInstance()) return this;
+      internalGetMutableAssignment().mergeFrom(
+          other.internalGetAssignment());
+      internalGetMutableWorkerInfos().mergeFrom(
+          other.internalGetWorkerInfos());
+      if (other.getOfflineVersion() != 0L) {
+        setOfflineVersion(other.getOfflineVersion());
+      }
+      if (other.status_ != 0) {
+        setStatusValue(other.getStatusValue());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.InstanceInfoProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.InstanceInfoProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> assignment_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>
+    internalGetAssignment() {
+      if (assignment_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            AssignmentDefaultEntryHolder.defaultEntry);
+      }
+      return assignment_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>
+    internalGetMutableAssignment() {
+      onChanged();;
+      if (assignment_ == null) {
+        assignment_ = com.google.protobuf.MapField.newMapField(
+            AssignmentDefaultEntryHolder.defaultEntry);
+      }
+      if (!assignment_.isMutable()) {
+        assignment_ = assignment_.copy();
+      }
+      return assignment_;
+    }
+
+    public int getAssignmentCount() {
+      return internalGetAssignment().getMap().size();
+    }
+    /**
+     * <pre>
+     * serverId -&gt; partitionList
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsAssignment(
+        int key) {
+      
+      return internalGetAssignment().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getAssignmentMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> getAssignment() {
+      return getAssignmentMap();
+    }
+    /**
+     * <pre>
+     * serverId -&gt; partitionList
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> getAssignmentMap() {
+      return internalGetAssignment().getMap();
+    }
+    /**
+     * <pre>
+     * serverId -&gt; partitionList
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.PartitionProtos getAssignmentOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.PartitionProtos defaultValue) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> map =
+          internalGetAssignment().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * serverId -&gt; partitionList
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.PartitionProtos getAssignmentOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> map =
+          internalGetAssignment().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearAssignment() {
+      internalGetMutableAssignment().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * serverId -&gt; partitionList
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+     */
+
+    public Builder removeAssignment(
+        int key) {
+      
+      internalGetMutableAssignment().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>
+    getMutableAssignment() {
+      return internalGetMutableAssignment().getMutableMap();
+    }
+    /**
+     * <pre>
+     * serverId -&gt; partitionList
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+     */
+    public Builder putAssignment(
+        int key,
+        com.alibaba.maxgraph.proto.PartitionProtos value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableAssignment().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * serverId -&gt; partitionList
+     * </pre>
+     *
+     * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+     */
+
+    public Builder putAllAssignment(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos> values) {
+      internalGetMutableAssignment().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> workerInfos_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>
+    internalGetWorkerInfos() {
+      if (workerInfos_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            WorkerInfosDefaultEntryHolder.defaultEntry);
+      }
+      return workerInfos_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>
+    internalGetMutableWorkerInfos() {
+      onChanged();;
+      if (workerInfos_ == null) {
+        workerInfos_ = com.google.protobuf.MapField.newMapField(
+            WorkerInfosDefaultEntryHolder.defaultEntry);
+      }
+      if (!workerInfos_.isMutable()) {
+        workerInfos_ = workerInfos_.copy();
+      }
+      return workerInfos_;
+    }
+
+    public int getWorkerInfosCount() {
+      return internalGetWorkerInfos().getMap().size();
+    }
+    /**
+     * <pre>
+     * roleType -&gt; workInfoList
+     * </pre>
+     *
+     * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsWorkerInfos(
+        int key) {
+      
+      return internalGetWorkerInfos().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getWorkerInfosMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> getWorkerInfos() {
+      return getWorkerInfosMap();
+    }
+    /**
+     * <pre>
+     * roleType -&gt; workInfoList
+     * </pre>
+     *
+     * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> getWorkerInfosMap() {
+      return internalGetWorkerInfos().getMap();
+    }
+    /**
+     * <pre>
+     * roleType -&gt; workInfoList
+     * </pre>
+     *
+     * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfosOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.WorkerInfoProtos defaultValue) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> map =
+          internalGetWorkerInfos().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * roleType -&gt; workInfoList
+     * </pre>
+     *
+     * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfosOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> map =
+          internalGetWorkerInfos().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearWorkerInfos() {
+      internalGetMutableWorkerInfos().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * roleType -&gt; workInfoList
+     * </pre>
+     *
+     * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+     */
+
+    public Builder removeWorkerInfos(
+        int key) {
+      
+      internalGetMutableWorkerInfos().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>
+    getMutableWorkerInfos() {
+      return internalGetMutableWorkerInfos().getMutableMap();
+    }
+    /**
+     * <pre>
+     * roleType -&gt; workInfoList
+     * </pre>
+     *
+     * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+     */
+    public Builder putWorkerInfos(
+        int key,
+        com.alibaba.maxgraph.proto.WorkerInfoProtos value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableWorkerInfos().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * roleType -&gt; workInfoList
+     * </pre>
+     *
+     * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+     */
+
+    public Builder putAllWorkerInfos(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos> values) {
+      internalGetMutableWorkerInfos().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+
+    private long offlineVersion_ ;
+    /**
+     * <code>int64 offlineVersion = 4;</code>
+     * @return The offlineVersion.
+     */
+    @java.lang.Override
+    public long getOfflineVersion() {
+      return offlineVersion_;
+    }
+    /**
+     * <code>int64 offlineVersion = 4;</code>
+     * @param value The offlineVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOfflineVersion(long value) {
+      
+      offlineVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 offlineVersion = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOfflineVersion() {
+      
+      offlineVersion_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int status_ = 0;
+    /**
+     * <code>.InstanceInfoProto.Status status = 7;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>.InstanceInfoProto.Status status = 7;</code>
+     * @param value The enum numeric value on the wire for status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatusValue(int value) {
+      
+      status_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.InstanceInfoProto.Status status = 7;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.InstanceInfoProto.Status getStatus() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.InstanceInfoProto.Status result = com.alibaba.maxgraph.proto.InstanceInfoProto.Status.valueOf(status_);
+      return result == null ? com.alibaba.maxgraph.proto.InstanceInfoProto.Status.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.InstanceInfoProto.Status status = 7;</code>
+     * @param value The status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatus(com.alibaba.maxgraph.proto.InstanceInfoProto.Status value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      status_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.InstanceInfoProto.Status status = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStatus() {
+      
+      status_ = 0;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:InstanceInfoProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:InstanceInfoProto)
+  private static final com.alibaba.maxgraph.proto.InstanceInfoProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.InstanceInfoProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.InstanceInfoProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<InstanceInfoProto>
+      PARSER = new com.google.protobuf.AbstractParser<InstanceInfoProto>() {
+    @java.lang.Override
+    public InstanceInfoProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new InstanceInfoProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<InstanceInfoProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<InstanceInfoProto> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.InstanceInfoProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,134 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface InstanceInfoProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:InstanceInfoProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+  int getAssignmentCount();
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+  boolean containsAssignment(
+      int key);
+  /**
+   * Use {@link #getAssignmentMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>
+  getAssignment();
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.PartitionProtos>
+  getAssignmentMap();
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.PartitionProtos getAssignmentOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.PartitionProtos defaultValue);
+  /**
+   * <pre>
+   * serverId -&gt; partitionList
+   * </pre>
+   *
+   * <code>map&lt;int32, .PartitionProtos&gt; assignment = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.PartitionProtos getAssignmentOrThrow(
+      int key);
+
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+  int getWorkerInfosCount();
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+  boolean containsWorkerInfos(
+      int key);
+  /**
+   * Use {@link #getWorkerInfosMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>
+  getWorkerInfos();
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.WorkerInfoProtos>
+  getWorkerInfosMap();
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+
+  com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfosOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.WorkerInfoProtos defaultValue);
+  /**
+   * <pre>
+   * roleType -&gt; workInfoList
+   * </pre>
+   *
+   * <code>map&lt;int32, .WorkerInfoProtos&gt; workerInfos = 2;</code>
+   */
+
+  com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfosOrThrow(
+      int key);
+
+  /**
+   * <code>int64 offlineVersion = 4;</code>
+   * @return The offlineVersion.
+   */
+  long getOfflineVersion();
+
+  /**
+   * <code>.InstanceInfoProto.Status status = 7;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  int getStatusValue();
+  /**
+   * <code>.InstanceInfoProto.Status status = 7;</code>
+   * @return The status.
+   */
+  com.alibaba.maxgraph.proto.InstanceInfoProto.Status getStatus();
+}
@@ -0,0 +1,795 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code InstanceInfoResp}
+ */
+public final class InstanceInfoResp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:InstanceInfoResp)
+    InstanceInfoRespOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use InstanceInfoResp.newBuilder() to construct.
+  private InstanceInfoResp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private InstanceInfoResp() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new InstanceInfoResp();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private InstanceInfoResp(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.Response.Builder subBuilder = null;
+            if (resp_ != null) {
+              subBuilder = resp_.toBuilder();
+            }
+            resp_ = input.readMessage(com.alibaba.maxgraph.proto.Response.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(resp_);
+              resp_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.InstanceInfoProto.Builder subBuilder = null;
+            if (instanceInfoProto_ != null) {
+              subBuilder = instanceInfoProto_.toBuilder();
+            }
+            instanceInfoProto_ = input.readMessage(com.alibaba.maxgraph.proto.InstanceInfoProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(instanceInfoProto_);
+              instanceInfoProto_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoResp_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoResp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.InstanceInfoResp.class, com.alibaba.maxgraph.proto.InstanceInfoResp.Builder.class);
+  }
+
+  public static final int RESP_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.Response resp_;
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return Whether the resp field is set.
+   */
+  @java.lang.Override
+  public boolean hasResp() {
+    return resp_ != null;
+  }
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return The resp.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.Response getResp() {
+    return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+  }
+  /**
+   * <code>.Response resp = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+    return getResp();
+  }
+
+  public static final int INSTANCEINFOPROTO_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.InstanceInfoProto instanceInfoProto_;
+  /**
+   * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+   * @return Whether the instanceInfoProto field is set.
+   */
+  @java.lang.Override
+  public boolean hasInstanceInfoProto() {
+    return instanceInfoProto_ != null;
+  }
+  /**
+   * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+   * @return The instanceInfoProto.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.InstanceInfoProto getInstanceInfoProto() {
+    return instanceInfoProto_ == null ? com.alibaba.maxgraph.proto.InstanceInfoProto.getDefaultInstance() : instanceInfoProto_;
+  }
+  /**
+   * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.InstanceInfoProtoOrBuilder getInstanceInfoProtoOrBuilder() {
+    return getInstanceInfoProto();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (resp_ != null) {
+      output.writeMessage(1, getResp());
+    }
+    if (instanceInfoProto_ != null) {
+      output.writeMessage(2, getInstanceInfoProto());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (resp_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getResp());
+    }
+    if (instanceInfoProto_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getInstanceInfoProto());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.InstanceInfoResp)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.InstanceInfoResp other = (com.alibaba.maxgraph.proto.InstanceInfoResp) obj;
+
+    if (hasResp() != other.hasResp()) return false;
+    if (hasResp()) {
+      if (!getResp()
+          .equals(other.getResp())) return false;
+    }
+    if (hasInstanceInfoProto() != other.hasInstanceInfoProto()) return false;
+    if (hasInstanceInfoProto()) {
+      if (!getInstanceInfoProto()
+          .equals(other.getInstanceInfoProto())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasResp()) {
+      hash = (37 * hash) + RESP_FIELD_NUMBER;
+      hash = (53 * hash) + getResp().hashCode();
+    }
+    if (hasInstanceInfoProto()) {
+      hash = (37 * hash) + INSTANCEINFOPROTO_FIELD_NUMBER;
+      hash = (53 * hash) + getInstanceInfoProto().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.InstanceInfoResp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code InstanceInfoResp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:InstanceInfoResp)
+      com.alibaba.maxgraph.proto.InstanceInfoRespOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoResp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.InstanceInfoResp.class, com.alibaba.maxgraph.proto.InstanceInfoResp.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.InstanceInfoResp.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (respBuilder_ == null) {
+        resp_ = null;
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+      if (instanceInfoProtoBuilder_ == null) {
+        instanceInfoProto_ = null;
+      } else {
+        instanceInfoProto_ = null;
+        instanceInfoProtoBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_InstanceInfoResp_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.InstanceInfoResp getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.InstanceInfoResp.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.InstanceInfoResp build() {
+      com.alibaba.maxgraph.proto.InstanceInfoResp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.InstanceInfoResp buildPartial() {
+      com.alibaba.maxgraph.proto.InstanceInfoResp result = new com.alibaba.maxgraph.proto.InstanceInfoResp(this);
+      if (respBuilder_ == null) {
+        result.resp_ = resp_;
+      } else {
+        result.resp_ = respBuilder_.build();
+      }
+      if (instanceInfoProtoBuilder_ == null) {
+        result.instanceInfoProto_ = instanceInfoProto_;
+      } else {
+        result.instanceInfoProto_ = instanceInfoProtoBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.InstanceInfoResp) {
+        return mergeFrom((com.alibaba.maxgraph.proto.InstanceInfoResp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.InstanceInfoResp other) {
+      if (other == com.alibaba.maxgraph.proto.InstanceInfoResp.getDefaultInstance()) return this;
+      if (other.hasResp()) {
+        mergeResp(other.getResp());
+      }
+      if (other.hasInstanceInfoProto()) {
+        mergeInstanceInfoProto(other.getInstanceInfoProto());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.InstanceInfoResp parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.InstanceInfoResp) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.Response resp_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> respBuilder_;
+    /**
+     * <code>.Response resp = 1;</code>
+     * @return Whether the resp field is set.
+     */
+    public boolean hasResp() {
+      return respBuilder_ != null || resp_ != null;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     * @return The resp.
+     */
+    public com.alibaba.maxgraph.proto.Response getResp() {
+      if (respBuilder_ == null) {
+        return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      } else {
+        return respBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder setResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        resp_ = value;
+        onChanged();
+      } else {
+        respBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder setResp(
+        com.alibaba.maxgraph.proto.Response.Builder builderForValue) {
+      if (respBuilder_ == null) {
+        resp_ = builderForValue.build();
+        onChanged();
+      } else {
+        respBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder mergeResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (resp_ != null) {
+          resp_ =
+            com.alibaba.maxgraph.proto.Response.newBuilder(resp_).mergeFrom(value).buildPartial();
+        } else {
+          resp_ = value;
+        }
+        onChanged();
+      } else {
+        respBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder clearResp() {
+      if (respBuilder_ == null) {
+        resp_ = null;
+        onChanged();
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response.Builder getRespBuilder() {
+      
+      onChanged();
+      return getRespFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+      if (respBuilder_ != null) {
+        return respBuilder_.getMessageOrBuilder();
+      } else {
+        return resp_ == null ?
+            com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      }
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> 
+        getRespFieldBuilder() {
+      if (respBuilder_ == null) {
+        respBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder>(
+                getResp(),
+                getParentForChildren(),
+                isClean());
+        resp_ = null;
+      }
+      return respBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.InstanceInfoProto instanceInfoProto_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.InstanceInfoProto, com.alibaba.maxgraph.proto.InstanceInfoProto.Builder, com.alibaba.maxgraph.proto.InstanceInfoProtoOrBuilder> instanceInfoProtoBuilder_;
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     * @return Whether the instanceInfoProto field is set.
+     */
+    public boolean hasInstanceInfoProto() {
+      return instanceInfoProtoBuilder_ != null || instanceInfoProto_ != null;
+    }
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     * @return The instanceInfoProto.
+     */
+    public com.alibaba.maxgraph.proto.InstanceInfoProto getInstanceInfoProto() {
+      if (instanceInfoProtoBuilder_ == null) {
+        return instanceInfoProto_ == null ? com.alibaba.maxgraph.proto.InstanceInfoProto.getDefaultInstance() : instanceInfoProto_;
+      } else {
+        return instanceInfoProtoBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     */
+    public Builder setInstanceInfoProto(com.alibaba.maxgraph.proto.InstanceInfoProto value) {
+      if (instanceInfoProtoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        instanceInfoProto_ = value;
+        onChanged();
+      } else {
+        instanceInfoProtoBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     */
+    public Builder setInstanceInfoProto(
+        com.alibaba.maxgraph.proto.InstanceInfoProto.Builder builderForValue) {
+      if (instanceInfoProtoBuilder_ == null) {
+        instanceInfoProto_ = builderForValue.build();
+        onChanged();
+      } else {
+        instanceInfoProtoBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     */
+    public Builder mergeInstanceInfoProto(com.alibaba.maxgraph.proto.InstanceInfoProto value) {
+      if (instanceInfoProtoBuilder_ == null) {
+        if (instanceInfoProto_ != null) {
+          instanceInfoProto_ =
+            com.alibaba.maxgraph.proto.InstanceInfoProto.newBuilder(instanceInfoProto_).mergeFrom(value).buildPartial();
+        } else {
+          instanceInfoProto_ = value;
+        }
+        onChanged();
+      } else {
+        instanceInfoProtoBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     */
+    public Builder clearInstanceInfoProto() {
+      if (instanceInfoProtoBuilder_ == null) {
+        instanceInfoProto_ = null;
+        onChanged();
+      } else {
+        instanceInfoProto_ = null;
+        instanceInfoProtoBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.InstanceInfoProto.Builder getInstanceInfoProtoBuilder() {
+      
+      onChanged();
+      return getInstanceInfoProtoFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.InstanceInfoProtoOrBuilder getInstanceInfoProtoOrBuilder() {
+      if (instanceInfoProtoBuilder_ != null) {
+        return instanceInfoProtoBuilder_.getMessageOrBuilder();
+      } else {
+        return instanceInfoProto_ == null ?
+            com.alibaba.maxgraph.proto.InstanceInfoProto.getDefaultInstance() : instanceInfoProto_;
+      }
+    }
+    /**
+     * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.InstanceInfoProto, com.alibaba.maxgraph.proto.InstanceInfoProto.Builder, com.alibaba.maxgraph.proto.InstanceInfoProtoOrBuilder> 
+        getInstanceInfoProtoFieldBuilder() {
+      if (instanceInfoProtoBuilder_ == null) {
+        instanceInfoProtoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.InstanceInfoProto, com.alibaba.maxgraph.proto.InstanceInfoProto.Builder, com.alibaba.maxgraph.proto.InstanceInfoProtoOrBuilder>(
+                getInstanceInfoProto(),
+                getParentForChildren(),
+                isClean());
+        instanceInfoProto_ = null;
+      }
+      return instanceInfoProtoBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:InstanceInfoResp)
+  }
+
+  // @@protoc_insertion_point(class_scope:InstanceInfoResp)
+  private static final com.alibaba.maxgraph.proto.InstanceInfoResp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.InstanceInfoResp();
+  }
+
+  public static com.alibaba.maxgraph.proto.InstanceInfoResp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<InstanceInfoResp>
+      PARSER = new com.google.protobuf.AbstractParser<InstanceInfoResp>() {
+    @java.lang.Override
+    public InstanceInfoResp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new InstanceInfoResp(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<InstanceInfoResp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<InstanceInfoResp> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.InstanceInfoResp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,39 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface InstanceInfoRespOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:InstanceInfoResp)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return Whether the resp field is set.
+   */
+  boolean hasResp();
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return The resp.
+   */
+  com.alibaba.maxgraph.proto.Response getResp();
+  /**
+   * <code>.Response resp = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder();
+
+  /**
+   * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+   * @return Whether the instanceInfoProto field is set.
+   */
+  boolean hasInstanceInfoProto();
+  /**
+   * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+   * @return The instanceInfoProto.
+   */
+  com.alibaba.maxgraph.proto.InstanceInfoProto getInstanceInfoProto();
+  /**
+   * <code>.InstanceInfoProto instanceInfoProto = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.InstanceInfoProtoOrBuilder getInstanceInfoProtoOrBuilder();
+}
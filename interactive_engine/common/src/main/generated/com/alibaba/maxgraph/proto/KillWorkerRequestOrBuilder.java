@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: am.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface KillWorkerRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:KillWorkerRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 workerId = 1;</code>
+   * @return The workerId.
+   */
+  int getWorkerId();
+}
@@ -0,0 +1,572 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: lambda_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class LambdaServiceGrpc {
+
+  private LambdaServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "maxgraph.LambdaService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase,
+      com.alibaba.maxgraph.Message.OperationResponse> getPrepareMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "prepare",
+      requestType = com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.class,
+      responseType = com.alibaba.maxgraph.Message.OperationResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase,
+      com.alibaba.maxgraph.Message.OperationResponse> getPrepareMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase, com.alibaba.maxgraph.Message.OperationResponse> getPrepareMethod;
+    if ((getPrepareMethod = LambdaServiceGrpc.getPrepareMethod) == null) {
+      synchronized (LambdaServiceGrpc.class) {
+        if ((getPrepareMethod = LambdaServiceGrpc.getPrepareMethod) == null) {
+          LambdaServiceGrpc.getPrepareMethod = getPrepareMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase, com.alibaba.maxgraph.Message.OperationResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "prepare"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.OperationResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new LambdaServiceMethodDescriptorSupplier("prepare"))
+              .build();
+        }
+      }
+    }
+    return getPrepareMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase,
+      com.alibaba.maxgraph.Message.OperationResponse> getRemoveMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "remove",
+      requestType = com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.class,
+      responseType = com.alibaba.maxgraph.Message.OperationResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase,
+      com.alibaba.maxgraph.Message.OperationResponse> getRemoveMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase, com.alibaba.maxgraph.Message.OperationResponse> getRemoveMethod;
+    if ((getRemoveMethod = LambdaServiceGrpc.getRemoveMethod) == null) {
+      synchronized (LambdaServiceGrpc.class) {
+        if ((getRemoveMethod = LambdaServiceGrpc.getRemoveMethod) == null) {
+          LambdaServiceGrpc.getRemoveMethod = getRemoveMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase, com.alibaba.maxgraph.Message.OperationResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "remove"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.OperationResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new LambdaServiceMethodDescriptorSupplier("remove"))
+              .build();
+        }
+      }
+    }
+    return getRemoveMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getFilterMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "filter",
+      requestType = com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.class,
+      responseType = com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getFilterMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getFilterMethod;
+    if ((getFilterMethod = LambdaServiceGrpc.getFilterMethod) == null) {
+      synchronized (LambdaServiceGrpc.class) {
+        if ((getFilterMethod = LambdaServiceGrpc.getFilterMethod) == null) {
+          LambdaServiceGrpc.getFilterMethod = getFilterMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "filter"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.getDefaultInstance()))
+              .setSchemaDescriptor(new LambdaServiceMethodDescriptorSupplier("filter"))
+              .build();
+        }
+      }
+    }
+    return getFilterMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getMapMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "map",
+      requestType = com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.class,
+      responseType = com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getMapMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getMapMethod;
+    if ((getMapMethod = LambdaServiceGrpc.getMapMethod) == null) {
+      synchronized (LambdaServiceGrpc.class) {
+        if ((getMapMethod = LambdaServiceGrpc.getMapMethod) == null) {
+          LambdaServiceGrpc.getMapMethod = getMapMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "map"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.getDefaultInstance()))
+              .setSchemaDescriptor(new LambdaServiceMethodDescriptorSupplier("map"))
+              .build();
+        }
+      }
+    }
+    return getMapMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getFlatmapMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "flatmap",
+      requestType = com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.class,
+      responseType = com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getFlatmapMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> getFlatmapMethod;
+    if ((getFlatmapMethod = LambdaServiceGrpc.getFlatmapMethod) == null) {
+      synchronized (LambdaServiceGrpc.class) {
+        if ((getFlatmapMethod = LambdaServiceGrpc.getFlatmapMethod) == null) {
+          LambdaServiceGrpc.getFlatmapMethod = getFlatmapMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "flatmap"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.getDefaultInstance()))
+              .setSchemaDescriptor(new LambdaServiceMethodDescriptorSupplier("flatmap"))
+              .build();
+        }
+      }
+    }
+    return getFlatmapMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static LambdaServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<LambdaServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<LambdaServiceStub>() {
+        @java.lang.Override
+        public LambdaServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new LambdaServiceStub(channel, callOptions);
+        }
+      };
+    return LambdaServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static LambdaServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<LambdaServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<LambdaServiceBlockingStub>() {
+        @java.lang.Override
+        public LambdaServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new LambdaServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return LambdaServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static LambdaServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<LambdaServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<LambdaServiceFutureStub>() {
+        @java.lang.Override
+        public LambdaServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new LambdaServiceFutureStub(channel, callOptions);
+        }
+      };
+    return LambdaServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class LambdaServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void prepare(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getPrepareMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void remove(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getRemoveMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void filter(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getFilterMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void map(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getMapMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void flatmap(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getFlatmapMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getPrepareMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase,
+                com.alibaba.maxgraph.Message.OperationResponse>(
+                  this, METHODID_PREPARE)))
+          .addMethod(
+            getRemoveMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase,
+                com.alibaba.maxgraph.Message.OperationResponse>(
+                  this, METHODID_REMOVE)))
+          .addMethod(
+            getFilterMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>(
+                  this, METHODID_FILTER)))
+          .addMethod(
+            getMapMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>(
+                  this, METHODID_MAP)))
+          .addMethod(
+            getFlatmapMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData,
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>(
+                  this, METHODID_FLATMAP)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class LambdaServiceStub extends io.grpc.stub.AbstractAsyncStub<LambdaServiceStub> {
+    private LambdaServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected LambdaServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new LambdaServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void prepare(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getPrepareMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void remove(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getRemoveMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void filter(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getFilterMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void map(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getMapMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void flatmap(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getFlatmapMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class LambdaServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<LambdaServiceBlockingStub> {
+    private LambdaServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected LambdaServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new LambdaServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.Message.OperationResponse prepare(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getPrepareMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.Message.OperationResponse remove(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getRemoveMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult filter(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getFilterMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult map(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getMapMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult flatmap(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getFlatmapMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class LambdaServiceFutureStub extends io.grpc.stub.AbstractFutureStub<LambdaServiceFutureStub> {
+    private LambdaServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected LambdaServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new LambdaServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.Message.OperationResponse> prepare(
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getPrepareMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.Message.OperationResponse> remove(
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getRemoveMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> filter(
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getFilterMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> map(
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getMapMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult> flatmap(
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getFlatmapMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_PREPARE = 0;
+  private static final int METHODID_REMOVE = 1;
+  private static final int METHODID_FILTER = 2;
+  private static final int METHODID_MAP = 3;
+  private static final int METHODID_FLATMAP = 4;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final LambdaServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(LambdaServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_PREPARE:
+          serviceImpl.prepare((com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse>) responseObserver);
+          break;
+        case METHODID_REMOVE:
+          serviceImpl.remove((com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse>) responseObserver);
+          break;
+        case METHODID_FILTER:
+          serviceImpl.filter((com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>) responseObserver);
+          break;
+        case METHODID_MAP:
+          serviceImpl.map((com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>) responseObserver);
+          break;
+        case METHODID_FLATMAP:
+          serviceImpl.flatmap((com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class LambdaServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    LambdaServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("LambdaService");
+    }
+  }
+
+  private static final class LambdaServiceFileDescriptorSupplier
+      extends LambdaServiceBaseDescriptorSupplier {
+    LambdaServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class LambdaServiceMethodDescriptorSupplier
+      extends LambdaServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    LambdaServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (LambdaServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new LambdaServiceFileDescriptorSupplier())
+              .addMethod(getPrepareMethod())
+              .addMethod(getRemoveMethod())
+              .addMethod(getFilterMethod())
+              .addMethod(getMapMethod())
+              .addMethod(getFlatmapMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,3202 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: lambda_service.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class LambdaServiceOuterClass {
+  private LambdaServiceOuterClass() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface LambdaBaseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:maxgraph.LambdaBase)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The queryId.
+     */
+    java.lang.String getQueryId();
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The bytes for queryId.
+     */
+    com.google.protobuf.ByteString
+        getQueryIdBytes();
+
+    /**
+     * <code>string script = 2;</code>
+     * @return The script.
+     */
+    java.lang.String getScript();
+    /**
+     * <code>string script = 2;</code>
+     * @return The bytes for script.
+     */
+    com.google.protobuf.ByteString
+        getScriptBytes();
+
+    /**
+     * <code>bytes bytecode = 3;</code>
+     * @return The bytecode.
+     */
+    com.google.protobuf.ByteString getBytecode();
+
+    /**
+     * <code>.SchemaProto schema = 4;</code>
+     * @return Whether the schema field is set.
+     */
+    boolean hasSchema();
+    /**
+     * <code>.SchemaProto schema = 4;</code>
+     * @return The schema.
+     */
+    com.alibaba.maxgraph.proto.SchemaProto getSchema();
+    /**
+     * <code>.SchemaProto schema = 4;</code>
+     */
+    com.alibaba.maxgraph.proto.SchemaProtoOrBuilder getSchemaOrBuilder();
+
+    /**
+     * <code>uint64 timeout_ms = 5;</code>
+     * @return The timeoutMs.
+     */
+    long getTimeoutMs();
+  }
+  /**
+   * Protobuf type {@code maxgraph.LambdaBase}
+   */
+  public static final class LambdaBase extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:maxgraph.LambdaBase)
+      LambdaBaseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LambdaBase.newBuilder() to construct.
+    private LambdaBase(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LambdaBase() {
+      queryId_ = "";
+      script_ = "";
+      bytecode_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LambdaBase();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LambdaBase(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              queryId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              script_ = s;
+              break;
+            }
+            case 26: {
+
+              bytecode_ = input.readBytes();
+              break;
+            }
+            case 34: {
+              com.alibaba.maxgraph.proto.SchemaProto.Builder subBuilder = null;
+              if (schema_ != null) {
+                subBuilder = schema_.toBuilder();
+              }
+              schema_ = input.readMessage(com.alibaba.maxgraph.proto.SchemaProto.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(schema_);
+                schema_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 40: {
+
+              timeoutMs_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaBase_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaBase_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.class, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.Builder.class);
+    }
+
+    public static final int QUERY_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object queryId_;
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The queryId.
+     */
+    @java.lang.Override
+    public java.lang.String getQueryId() {
+      java.lang.Object ref = queryId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        queryId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The bytes for queryId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getQueryIdBytes() {
+      java.lang.Object ref = queryId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        queryId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SCRIPT_FIELD_NUMBER = 2;
+    private volatile java.lang.Object script_;
+    /**
+     * <code>string script = 2;</code>
+     * @return The script.
+     */
+    @java.lang.Override
+    public java.lang.String getScript() {
+      java.lang.Object ref = script_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        script_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string script = 2;</code>
+     * @return The bytes for script.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getScriptBytes() {
+      java.lang.Object ref = script_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        script_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BYTECODE_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString bytecode_;
+    /**
+     * <code>bytes bytecode = 3;</code>
+     * @return The bytecode.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getBytecode() {
+      return bytecode_;
+    }
+
+    public static final int SCHEMA_FIELD_NUMBER = 4;
+    private com.alibaba.maxgraph.proto.SchemaProto schema_;
+    /**
+     * <code>.SchemaProto schema = 4;</code>
+     * @return Whether the schema field is set.
+     */
+    @java.lang.Override
+    public boolean hasSchema() {
+      return schema_ != null;
+    }
+    /**
+     * <code>.SchemaProto schema = 4;</code>
+     * @return The schema.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchemaProto getSchema() {
+      return schema_ == null ? com.alibaba.maxgraph.proto.SchemaProto.getDefaultInstance() : schema_;
+    }
+    /**
+     * <code>.SchemaProto schema = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchemaProtoOrBuilder getSchemaOrBuilder() {
+      return getSchema();
+    }
+
+    public static final int TIMEOUT_MS_FIELD_NUMBER = 5;
+    private long timeoutMs_;
+    /**
+     * <code>uint64 timeout_ms = 5;</code>
+     * @return The timeoutMs.
+     */
+    @java.lang.Override
+    public long getTimeoutMs() {
+      return timeoutMs_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(queryId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, queryId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(script_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, script_);
+      }
+      if (!bytecode_.isEmpty()) {
+        output.writeBytes(3, bytecode_);
+      }
+      if (schema_ != null) {
+        output.writeMessage(4, getSchema());
+      }
+      if (timeoutMs_ != 0L) {
+        output.writeUInt64(5, timeoutMs_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(queryId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, queryId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(script_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, script_);
+      }
+      if (!bytecode_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, bytecode_);
+      }
+      if (schema_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getSchema());
+      }
+      if (timeoutMs_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, timeoutMs_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase other = (com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase) obj;
+
+      if (!getQueryId()
+          .equals(other.getQueryId())) return false;
+      if (!getScript()
+          .equals(other.getScript())) return false;
+      if (!getBytecode()
+          .equals(other.getBytecode())) return false;
+      if (hasSchema() != other.hasSchema()) return false;
+      if (hasSchema()) {
+        if (!getSchema()
+            .equals(other.getSchema())) return false;
+      }
+      if (getTimeoutMs()
+          != other.getTimeoutMs()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + QUERY_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getQueryId().hashCode();
+      hash = (37 * hash) + SCRIPT_FIELD_NUMBER;
+      hash = (53 * hash) + getScript().hashCode();
+      hash = (37 * hash) + BYTECODE_FIELD_NUMBER;
+      hash = (53 * hash) + getBytecode().hashCode();
+      if (hasSchema()) {
+        hash = (37 * hash) + SCHEMA_FIELD_NUMBER;
+        hash = (53 * hash) + getSchema().hashCode();
+      }
+      hash = (37 * hash) + TIMEOUT_MS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimeoutMs());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code maxgraph.LambdaBase}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:maxgraph.LambdaBase)
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBaseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaBase_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaBase_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.class, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        queryId_ = "";
+
+        script_ = "";
+
+        bytecode_ = com.google.protobuf.ByteString.EMPTY;
+
+        if (schemaBuilder_ == null) {
+          schema_ = null;
+        } else {
+          schema_ = null;
+          schemaBuilder_ = null;
+        }
+        timeoutMs_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaBase_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase build() {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase buildPartial() {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase result = new com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase(this);
+        result.queryId_ = queryId_;
+        result.script_ = script_;
+        result.bytecode_ = bytecode_;
+        if (schemaBuilder_ == null) {
+          result.schema_ = schema_;
+        } else {
+          result.schema_ = schemaBuilder_.build();
+        }
+        result.timeoutMs_ = timeoutMs_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase) {
+          return mergeFrom((com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase other) {
+        if (other == com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase.getDefaultInstance()) return this;
+        if (!other.getQueryId().isEmpty()) {
+          queryId_ = other.queryId_;
+          onChanged();
+        }
+        if (!other.getScript().isEmpty()) {
+          script_ = other.script_;
+          onChanged();
+        }
+        if (other.getBytecode() != com.google.protobuf.ByteString.EMPTY) {
+          setBytecode(other.getBytecode());
+        }
+        if (other.hasSchema()) {
+          mergeSchema(other.getSchema());
+        }
+        if (other.getTimeoutMs() != 0L) {
+          setTimeoutMs(other.getTimeoutMs());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object queryId_ = "";
+      /**
+       * <code>string query_id = 1;</code>
+       * @return The queryId.
+       */
+      public java.lang.String getQueryId() {
+        java.lang.Object ref = queryId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          queryId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @return The bytes for queryId.
+       */
+      public com.google.protobuf.ByteString
+          getQueryIdBytes() {
+        java.lang.Object ref = queryId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          queryId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @param value The queryId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQueryId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        queryId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQueryId() {
+        
+        queryId_ = getDefaultInstance().getQueryId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @param value The bytes for queryId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQueryIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        queryId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object script_ = "";
+      /**
+       * <code>string script = 2;</code>
+       * @return The script.
+       */
+      public java.lang.String getScript() {
+        java.lang.Object ref = script_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          script_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string script = 2;</code>
+       * @return The bytes for script.
+       */
+      public com.google.protobuf.ByteString
+          getScriptBytes() {
+        java.lang.Object ref = script_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          script_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string script = 2;</code>
+       * @param value The script to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScript(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        script_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string script = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearScript() {
+        
+        script_ = getDefaultInstance().getScript();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string script = 2;</code>
+       * @param value The bytes for script to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScriptBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        script_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString bytecode_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes bytecode = 3;</code>
+       * @return The bytecode.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getBytecode() {
+        return bytecode_;
+      }
+      /**
+       * <code>bytes bytecode = 3;</code>
+       * @param value The bytecode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBytecode(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        bytecode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes bytecode = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBytecode() {
+        
+        bytecode_ = getDefaultInstance().getBytecode();
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.maxgraph.proto.SchemaProto schema_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.SchemaProto, com.alibaba.maxgraph.proto.SchemaProto.Builder, com.alibaba.maxgraph.proto.SchemaProtoOrBuilder> schemaBuilder_;
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       * @return Whether the schema field is set.
+       */
+      public boolean hasSchema() {
+        return schemaBuilder_ != null || schema_ != null;
+      }
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       * @return The schema.
+       */
+      public com.alibaba.maxgraph.proto.SchemaProto getSchema() {
+        if (schemaBuilder_ == null) {
+          return schema_ == null ? com.alibaba.maxgraph.proto.SchemaProto.getDefaultInstance() : schema_;
+        } else {
+          return schemaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       */
+      public Builder setSchema(com.alibaba.maxgraph.proto.SchemaProto value) {
+        if (schemaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          schema_ = value;
+          onChanged();
+        } else {
+          schemaBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       */
+      public Builder setSchema(
+          com.alibaba.maxgraph.proto.SchemaProto.Builder builderForValue) {
+        if (schemaBuilder_ == null) {
+          schema_ = builderForValue.build();
+          onChanged();
+        } else {
+          schemaBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       */
+      public Builder mergeSchema(com.alibaba.maxgraph.proto.SchemaProto value) {
+        if (schemaBuilder_ == null) {
+          if (schema_ != null) {
+            schema_ =
+              com.alibaba.maxgraph.proto.SchemaProto.newBuilder(schema_).mergeFrom(value).buildPartial();
+          } else {
+            schema_ = value;
+          }
+          onChanged();
+        } else {
+          schemaBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       */
+      public Builder clearSchema() {
+        if (schemaBuilder_ == null) {
+          schema_ = null;
+          onChanged();
+        } else {
+          schema_ = null;
+          schemaBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.SchemaProto.Builder getSchemaBuilder() {
+        
+        onChanged();
+        return getSchemaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.SchemaProtoOrBuilder getSchemaOrBuilder() {
+        if (schemaBuilder_ != null) {
+          return schemaBuilder_.getMessageOrBuilder();
+        } else {
+          return schema_ == null ?
+              com.alibaba.maxgraph.proto.SchemaProto.getDefaultInstance() : schema_;
+        }
+      }
+      /**
+       * <code>.SchemaProto schema = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.SchemaProto, com.alibaba.maxgraph.proto.SchemaProto.Builder, com.alibaba.maxgraph.proto.SchemaProtoOrBuilder> 
+          getSchemaFieldBuilder() {
+        if (schemaBuilder_ == null) {
+          schemaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.SchemaProto, com.alibaba.maxgraph.proto.SchemaProto.Builder, com.alibaba.maxgraph.proto.SchemaProtoOrBuilder>(
+                  getSchema(),
+                  getParentForChildren(),
+                  isClean());
+          schema_ = null;
+        }
+        return schemaBuilder_;
+      }
+
+      private long timeoutMs_ ;
+      /**
+       * <code>uint64 timeout_ms = 5;</code>
+       * @return The timeoutMs.
+       */
+      @java.lang.Override
+      public long getTimeoutMs() {
+        return timeoutMs_;
+      }
+      /**
+       * <code>uint64 timeout_ms = 5;</code>
+       * @param value The timeoutMs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeoutMs(long value) {
+        
+        timeoutMs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 timeout_ms = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeoutMs() {
+        
+        timeoutMs_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:maxgraph.LambdaBase)
+    }
+
+    // @@protoc_insertion_point(class_scope:maxgraph.LambdaBase)
+    private static final com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase();
+    }
+
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LambdaBase>
+        PARSER = new com.google.protobuf.AbstractParser<LambdaBase>() {
+      @java.lang.Override
+      public LambdaBase parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LambdaBase(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LambdaBase> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LambdaBase> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaBase getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LambdaDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:maxgraph.LambdaData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The queryId.
+     */
+    java.lang.String getQueryId();
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The bytes for queryId.
+     */
+    com.google.protobuf.ByteString
+        getQueryIdBytes();
+
+    /**
+     * <code>string lambda_index = 2;</code>
+     * @return The lambdaIndex.
+     */
+    java.lang.String getLambdaIndex();
+    /**
+     * <code>string lambda_index = 2;</code>
+     * @return The bytes for lambdaIndex.
+     */
+    com.google.protobuf.ByteString
+        getLambdaIndexBytes();
+
+    /**
+     * <code>.maxgraph.ListProto message_list = 3;</code>
+     * @return Whether the messageList field is set.
+     */
+    boolean hasMessageList();
+    /**
+     * <code>.maxgraph.ListProto message_list = 3;</code>
+     * @return The messageList.
+     */
+    com.alibaba.maxgraph.Message.ListProto getMessageList();
+    /**
+     * <code>.maxgraph.ListProto message_list = 3;</code>
+     */
+    com.alibaba.maxgraph.Message.ListProtoOrBuilder getMessageListOrBuilder();
+  }
+  /**
+   * Protobuf type {@code maxgraph.LambdaData}
+   */
+  public static final class LambdaData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:maxgraph.LambdaData)
+      LambdaDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LambdaData.newBuilder() to construct.
+    private LambdaData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LambdaData() {
+      queryId_ = "";
+      lambdaIndex_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LambdaData();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LambdaData(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              queryId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              lambdaIndex_ = s;
+              break;
+            }
+            case 26: {
+              com.alibaba.maxgraph.Message.ListProto.Builder subBuilder = null;
+              if (messageList_ != null) {
+                subBuilder = messageList_.toBuilder();
+              }
+              messageList_ = input.readMessage(com.alibaba.maxgraph.Message.ListProto.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(messageList_);
+                messageList_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.class, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.Builder.class);
+    }
+
+    public static final int QUERY_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object queryId_;
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The queryId.
+     */
+    @java.lang.Override
+    public java.lang.String getQueryId() {
+      java.lang.Object ref = queryId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        queryId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The bytes for queryId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getQueryIdBytes() {
+      java.lang.Object ref = queryId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        queryId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LAMBDA_INDEX_FIELD_NUMBER = 2;
+    private volatile java.lang.Object lambdaIndex_;
+    /**
+     * <code>string lambda_index = 2;</code>
+     * @return The lambdaIndex.
+     */
+    @java.lang.Override
+    public java.lang.String getLambdaIndex() {
+      java.lang.Object ref = lambdaIndex_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        lambdaIndex_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string lambda_index = 2;</code>
+     * @return The bytes for lambdaIndex.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLambdaIndexBytes() {
+      java.lang.Object ref = lambdaIndex_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lambdaIndex_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MESSAGE_LIST_FIELD_NUMBER = 3;
+    private com.alibaba.maxgraph.Message.ListProto messageList_;
+    /**
+     * <code>.maxgraph.ListProto message_list = 3;</code>
+     * @return Whether the messageList field is set.
+     */
+    @java.lang.Override
+    public boolean hasMessageList() {
+      return messageList_ != null;
+    }
+    /**
+     * <code>.maxgraph.ListProto message_list = 3;</code>
+     * @return The messageList.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.ListProto getMessageList() {
+      return messageList_ == null ? com.alibaba.maxgraph.Message.ListProto.getDefaultInstance() : messageList_;
+    }
+    /**
+     * <code>.maxgraph.ListProto message_list = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.ListProtoOrBuilder getMessageListOrBuilder() {
+      return getMessageList();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(queryId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, queryId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lambdaIndex_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, lambdaIndex_);
+      }
+      if (messageList_ != null) {
+        output.writeMessage(3, getMessageList());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(queryId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, queryId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lambdaIndex_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, lambdaIndex_);
+      }
+      if (messageList_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getMessageList());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData other = (com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData) obj;
+
+      if (!getQueryId()
+          .equals(other.getQueryId())) return false;
+      if (!getLambdaIndex()
+          .equals(other.getLambdaIndex())) return false;
+      if (hasMessageList() != other.hasMessageList()) return false;
+      if (hasMessageList()) {
+        if (!getMessageList()
+            .equals(other.getMessageList())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + QUERY_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getQueryId().hashCode();
+      hash = (37 * hash) + LAMBDA_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLambdaIndex().hashCode();
+      if (hasMessageList()) {
+        hash = (37 * hash) + MESSAGE_LIST_FIELD_NUMBER;
+        hash = (53 * hash) + getMessageList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code maxgraph.LambdaData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:maxgraph.LambdaData)
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.class, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        queryId_ = "";
+
+        lambdaIndex_ = "";
+
+        if (messageListBuilder_ == null) {
+          messageList_ = null;
+        } else {
+          messageList_ = null;
+          messageListBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaData_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData build() {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData buildPartial() {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData result = new com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData(this);
+        result.queryId_ = queryId_;
+        result.lambdaIndex_ = lambdaIndex_;
+        if (messageListBuilder_ == null) {
+          result.messageList_ = messageList_;
+        } else {
+          result.messageList_ = messageListBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData) {
+          return mergeFrom((com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData other) {
+        if (other == com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData.getDefaultInstance()) return this;
+        if (!other.getQueryId().isEmpty()) {
+          queryId_ = other.queryId_;
+          onChanged();
+        }
+        if (!other.getLambdaIndex().isEmpty()) {
+          lambdaIndex_ = other.lambdaIndex_;
+          onChanged();
+        }
+        if (other.hasMessageList()) {
+          mergeMessageList(other.getMessageList());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object queryId_ = "";
+      /**
+       * <code>string query_id = 1;</code>
+       * @return The queryId.
+       */
+      public java.lang.String getQueryId() {
+        java.lang.Object ref = queryId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          queryId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @return The bytes for queryId.
+       */
+      public com.google.protobuf.ByteString
+          getQueryIdBytes() {
+        java.lang.Object ref = queryId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          queryId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @param value The queryId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQueryId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        queryId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQueryId() {
+        
+        queryId_ = getDefaultInstance().getQueryId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @param value The bytes for queryId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQueryIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        queryId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lambdaIndex_ = "";
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @return The lambdaIndex.
+       */
+      public java.lang.String getLambdaIndex() {
+        java.lang.Object ref = lambdaIndex_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          lambdaIndex_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @return The bytes for lambdaIndex.
+       */
+      public com.google.protobuf.ByteString
+          getLambdaIndexBytes() {
+        java.lang.Object ref = lambdaIndex_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lambdaIndex_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @param value The lambdaIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLambdaIndex(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        lambdaIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLambdaIndex() {
+        
+        lambdaIndex_ = getDefaultInstance().getLambdaIndex();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @param value The bytes for lambdaIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLambdaIndexBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        lambdaIndex_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.maxgraph.Message.ListProto messageList_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.Message.ListProto, com.alibaba.maxgraph.Message.ListProto.Builder, com.alibaba.maxgraph.Message.ListProtoOrBuilder> messageListBuilder_;
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       * @return Whether the messageList field is set.
+       */
+      public boolean hasMessageList() {
+        return messageListBuilder_ != null || messageList_ != null;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       * @return The messageList.
+       */
+      public com.alibaba.maxgraph.Message.ListProto getMessageList() {
+        if (messageListBuilder_ == null) {
+          return messageList_ == null ? com.alibaba.maxgraph.Message.ListProto.getDefaultInstance() : messageList_;
+        } else {
+          return messageListBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       */
+      public Builder setMessageList(com.alibaba.maxgraph.Message.ListProto value) {
+        if (messageListBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          messageList_ = value;
+          onChanged();
+        } else {
+          messageListBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       */
+      public Builder setMessageList(
+          com.alibaba.maxgraph.Message.ListProto.Builder builderForValue) {
+        if (messageListBuilder_ == null) {
+          messageList_ = builderForValue.build();
+          onChanged();
+        } else {
+          messageListBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       */
+      public Builder mergeMessageList(com.alibaba.maxgraph.Message.ListProto value) {
+        if (messageListBuilder_ == null) {
+          if (messageList_ != null) {
+            messageList_ =
+              com.alibaba.maxgraph.Message.ListProto.newBuilder(messageList_).mergeFrom(value).buildPartial();
+          } else {
+            messageList_ = value;
+          }
+          onChanged();
+        } else {
+          messageListBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       */
+      public Builder clearMessageList() {
+        if (messageListBuilder_ == null) {
+          messageList_ = null;
+          onChanged();
+        } else {
+          messageList_ = null;
+          messageListBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.ListProto.Builder getMessageListBuilder() {
+        
+        onChanged();
+        return getMessageListFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.ListProtoOrBuilder getMessageListOrBuilder() {
+        if (messageListBuilder_ != null) {
+          return messageListBuilder_.getMessageOrBuilder();
+        } else {
+          return messageList_ == null ?
+              com.alibaba.maxgraph.Message.ListProto.getDefaultInstance() : messageList_;
+        }
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.Message.ListProto, com.alibaba.maxgraph.Message.ListProto.Builder, com.alibaba.maxgraph.Message.ListProtoOrBuilder> 
+          getMessageListFieldBuilder() {
+        if (messageListBuilder_ == null) {
+          messageListBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.Message.ListProto, com.alibaba.maxgraph.Message.ListProto.Builder, com.alibaba.maxgraph.Message.ListProtoOrBuilder>(
+                  getMessageList(),
+                  getParentForChildren(),
+                  isClean());
+          messageList_ = null;
+        }
+        return messageListBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:maxgraph.LambdaData)
+    }
+
+    // @@protoc_insertion_point(class_scope:maxgraph.LambdaData)
+    private static final com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData();
+    }
+
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LambdaData>
+        PARSER = new com.google.protobuf.AbstractParser<LambdaData>() {
+      @java.lang.Override
+      public LambdaData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LambdaData(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LambdaData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LambdaData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LambdaResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:maxgraph.LambdaResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The queryId.
+     */
+    java.lang.String getQueryId();
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The bytes for queryId.
+     */
+    com.google.protobuf.ByteString
+        getQueryIdBytes();
+
+    /**
+     * <code>string lambda_index = 2;</code>
+     * @return The lambdaIndex.
+     */
+    java.lang.String getLambdaIndex();
+    /**
+     * <code>string lambda_index = 2;</code>
+     * @return The bytes for lambdaIndex.
+     */
+    com.google.protobuf.ByteString
+        getLambdaIndexBytes();
+
+    /**
+     * <code>.maxgraph.ListLong result_id_list = 3;</code>
+     * @return Whether the resultIdList field is set.
+     */
+    boolean hasResultIdList();
+    /**
+     * <code>.maxgraph.ListLong result_id_list = 3;</code>
+     * @return The resultIdList.
+     */
+    com.alibaba.maxgraph.Message.ListLong getResultIdList();
+    /**
+     * <code>.maxgraph.ListLong result_id_list = 3;</code>
+     */
+    com.alibaba.maxgraph.Message.ListLongOrBuilder getResultIdListOrBuilder();
+
+    /**
+     * <code>.maxgraph.ListProto message_list = 4;</code>
+     * @return Whether the messageList field is set.
+     */
+    boolean hasMessageList();
+    /**
+     * <code>.maxgraph.ListProto message_list = 4;</code>
+     * @return The messageList.
+     */
+    com.alibaba.maxgraph.Message.ListProto getMessageList();
+    /**
+     * <code>.maxgraph.ListProto message_list = 4;</code>
+     */
+    com.alibaba.maxgraph.Message.ListProtoOrBuilder getMessageListOrBuilder();
+  }
+  /**
+   * Protobuf type {@code maxgraph.LambdaResult}
+   */
+  public static final class LambdaResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:maxgraph.LambdaResult)
+      LambdaResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LambdaResult.newBuilder() to construct.
+    private LambdaResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LambdaResult() {
+      queryId_ = "";
+      lambdaIndex_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LambdaResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LambdaResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              queryId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              lambdaIndex_ = s;
+              break;
+            }
+            case 26: {
+              com.alibaba.maxgraph.Message.ListLong.Builder subBuilder = null;
+              if (resultIdList_ != null) {
+                subBuilder = resultIdList_.toBuilder();
+              }
+              resultIdList_ = input.readMessage(com.alibaba.maxgraph.Message.ListLong.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(resultIdList_);
+                resultIdList_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 34: {
+              com.alibaba.maxgraph.Message.ListProto.Builder subBuilder = null;
+              if (messageList_ != null) {
+                subBuilder = messageList_.toBuilder();
+              }
+              messageList_ = input.readMessage(com.alibaba.maxgraph.Message.ListProto.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(messageList_);
+                messageList_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.class, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.Builder.class);
+    }
+
+    public static final int QUERY_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object queryId_;
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The queryId.
+     */
+    @java.lang.Override
+    public java.lang.String getQueryId() {
+      java.lang.Object ref = queryId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        queryId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string query_id = 1;</code>
+     * @return The bytes for queryId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getQueryIdBytes() {
+      java.lang.Object ref = queryId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        queryId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LAMBDA_INDEX_FIELD_NUMBER = 2;
+    private volatile java.lang.Object lambdaIndex_;
+    /**
+     * <code>string lambda_index = 2;</code>
+     * @return The lambdaIndex.
+     */
+    @java.lang.Override
+    public java.lang.String getLambdaIndex() {
+      java.lang.Object ref = lambdaIndex_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        lambdaIndex_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string lambda_index = 2;</code>
+     * @return The bytes for lambdaIndex.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLambdaIndexBytes() {
+      java.lang.Object ref = lambdaIndex_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lambdaIndex_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESULT_ID_LIST_FIELD_NUMBER = 3;
+    private com.alibaba.maxgraph.Message.ListLong resultIdList_;
+    /**
+     * <code>.maxgraph.ListLong result_id_list = 3;</code>
+     * @return Whether the resultIdList field is set.
+     */
+    @java.lang.Override
+    public boolean hasResultIdList() {
+      return resultIdList_ != null;
+    }
+    /**
+     * <code>.maxgraph.ListLong result_id_list = 3;</code>
+     * @return The resultIdList.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.ListLong getResultIdList() {
+      return resultIdList_ == null ? com.alibaba.maxgraph.Message.ListLong.getDefaultInstance() : resultIdList_;
+    }
+    /**
+     * <code>.maxgraph.ListLong result_id_list = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.ListLongOrBuilder getResultIdListOrBuilder() {
+      return getResultIdList();
+    }
+
+    public static final int MESSAGE_LIST_FIELD_NUMBER = 4;
+    private com.alibaba.maxgraph.Message.ListProto messageList_;
+    /**
+     * <code>.maxgraph.ListProto message_list = 4;</code>
+     * @return Whether the messageList field is set.
+     */
+    @java.lang.Override
+    public boolean hasMessageList() {
+      return messageList_ != null;
+    }
+    /**
+     * <code>.maxgraph.ListProto message_list = 4;</code>
+     * @return The messageList.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.ListProto getMessageList() {
+      return messageList_ == null ? com.alibaba.maxgraph.Message.ListProto.getDefaultInstance() : messageList_;
+    }
+    /**
+     * <code>.maxgraph.ListProto message_list = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.ListProtoOrBuilder getMessageListOrBuilder() {
+      return getMessageList();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(queryId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, queryId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lambdaIndex_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, lambdaIndex_);
+      }
+      if (resultIdList_ != null) {
+        output.writeMessage(3, getResultIdList());
+      }
+      if (messageList_ != null) {
+        output.writeMessage(4, getMessageList());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(queryId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, queryId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lambdaIndex_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, lambdaIndex_);
+      }
+      if (resultIdList_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getResultIdList());
+      }
+      if (messageList_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getMessageList());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult other = (com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult) obj;
+
+      if (!getQueryId()
+          .equals(other.getQueryId())) return false;
+      if (!getLambdaIndex()
+          .equals(other.getLambdaIndex())) return false;
+      if (hasResultIdList() != other.hasResultIdList()) return false;
+      if (hasResultIdList()) {
+        if (!getResultIdList()
+            .equals(other.getResultIdList())) return false;
+      }
+      if (hasMessageList() != other.hasMessageList()) return false;
+      if (hasMessageList()) {
+        if (!getMessageList()
+            .equals(other.getMessageList())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + QUERY_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getQueryId().hashCode();
+      hash = (37 * hash) + LAMBDA_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLambdaIndex().hashCode();
+      if (hasResultIdList()) {
+        hash = (37 * hash) + RESULT_ID_LIST_FIELD_NUMBER;
+        hash = (53 * hash) + getResultIdList().hashCode();
+      }
+      if (hasMessageList()) {
+        hash = (37 * hash) + MESSAGE_LIST_FIELD_NUMBER;
+        hash = (53 * hash) + getMessageList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code maxgraph.LambdaResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:maxgraph.LambdaResult)
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.class, com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        queryId_ = "";
+
+        lambdaIndex_ = "";
+
+        if (resultIdListBuilder_ == null) {
+          resultIdList_ = null;
+        } else {
+          resultIdList_ = null;
+          resultIdListBuilder_ = null;
+        }
+        if (messageListBuilder_ == null) {
+          messageList_ = null;
+        } else {
+          messageList_ = null;
+          messageListBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.internal_static_maxgraph_LambdaResult_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult build() {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult buildPartial() {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult result = new com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult(this);
+        result.queryId_ = queryId_;
+        result.lambdaIndex_ = lambdaIndex_;
+        if (resultIdListBuilder_ == null) {
+          result.resultIdList_ = resultIdList_;
+        } else {
+          result.resultIdList_ = resultIdListBuilder_.build();
+        }
+        if (messageListBuilder_ == null) {
+          result.messageList_ = messageList_;
+        } else {
+          result.messageList_ = messageListBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult) {
+          return mergeFrom((com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult other) {
+        if (other == com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult.getDefaultInstance()) return this;
+        if (!other.getQueryId().isEmpty()) {
+          queryId_ = other.queryId_;
+          onChanged();
+        }
+        if (!other.getLambdaIndex().isEmpty()) {
+          lambdaIndex_ = other.lambdaIndex_;
+          onChanged();
+        }
+        if (other.hasResultIdList()) {
+          mergeResultIdList(other.getResultIdList());
+        }
+        if (other.hasMessageList()) {
+          mergeMessageList(other.getMessageList());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object queryId_ = "";
+      /**
+       * <code>string query_id = 1;</code>
+       * @return The queryId.
+       */
+      public java.lang.String getQueryId() {
+        java.lang.Object ref = queryId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          queryId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @return The bytes for queryId.
+       */
+      public com.google.protobuf.ByteString
+          getQueryIdBytes() {
+        java.lang.Object ref = queryId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          queryId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @param value The queryId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQueryId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        queryId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQueryId() {
+        
+        queryId_ = getDefaultInstance().getQueryId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string query_id = 1;</code>
+       * @param value The bytes for queryId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQueryIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        queryId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lambdaIndex_ = "";
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @return The lambdaIndex.
+       */
+      public java.lang.String getLambdaIndex() {
+        java.lang.Object ref = lambdaIndex_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          lambdaIndex_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @return The bytes for lambdaIndex.
+       */
+      public com.google.protobuf.ByteString
+          getLambdaIndexBytes() {
+        java.lang.Object ref = lambdaIndex_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lambdaIndex_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @param value The lambdaIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLambdaIndex(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        lambdaIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLambdaIndex() {
+        
+        lambdaIndex_ = getDefaultInstance().getLambdaIndex();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string lambda_index = 2;</code>
+       * @param value The bytes for lambdaIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLambdaIndexBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        lambdaIndex_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.maxgraph.Message.ListLong resultIdList_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.Message.ListLong, com.alibaba.maxgraph.Message.ListLong.Builder, com.alibaba.maxgraph.Message.ListLongOrBuilder> resultIdListBuilder_;
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       * @return Whether the resultIdList field is set.
+       */
+      public boolean hasResultIdList() {
+        return resultIdListBuilder_ != null || resultIdList_ != null;
+      }
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       * @return The resultIdList.
+       */
+      public com.alibaba.maxgraph.Message.ListLong getResultIdList() {
+        if (resultIdListBuilder_ == null) {
+          return resultIdList_ == null ? com.alibaba.maxgraph.Message.ListLong.getDefaultInstance() : resultIdList_;
+        } else {
+          return resultIdListBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       */
+      public Builder setResultIdList(com.alibaba.maxgraph.Message.ListLong value) {
+        if (resultIdListBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          resultIdList_ = value;
+          onChanged();
+        } else {
+          resultIdListBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       */
+      public Builder setResultIdList(
+          com.alibaba.maxgraph.Message.ListLong.Builder builderForValue) {
+        if (resultIdListBuilder_ == null) {
+          resultIdList_ = builderForValue.build();
+          onChanged();
+        } else {
+          resultIdListBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       */
+      public Builder mergeResultIdList(com.alibaba.maxgraph.Message.ListLong value) {
+        if (resultIdListBuilder_ == null) {
+          if (resultIdList_ != null) {
+            resultIdList_ =
+              com.alibaba.maxgraph.Message.ListLong.newBuilder(resultIdList_).mergeFrom(value).buildPartial();
+          } else {
+            resultIdList_ = value;
+          }
+          onChanged();
+        } else {
+          resultIdListBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       */
+      public Builder clearResultIdList() {
+        if (resultIdListBuilder_ == null) {
+          resultIdList_ = null;
+          onChanged();
+        } else {
+          resultIdList_ = null;
+          resultIdListBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.ListLong.Builder getResultIdListBuilder() {
+        
+        onChanged();
+        return getResultIdListFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.ListLongOrBuilder getResultIdListOrBuilder() {
+        if (resultIdListBuilder_ != null) {
+          return resultIdListBuilder_.getMessageOrBuilder();
+        } else {
+          return resultIdList_ == null ?
+              com.alibaba.maxgraph.Message.ListLong.getDefaultInstance() : resultIdList_;
+        }
+      }
+      /**
+       * <code>.maxgraph.ListLong result_id_list = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.Message.ListLong, com.alibaba.maxgraph.Message.ListLong.Builder, com.alibaba.maxgraph.Message.ListLongOrBuilder> 
+          getResultIdListFieldBuilder() {
+        if (resultIdListBuilder_ == null) {
+          resultIdListBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.Message.ListLong, com.alibaba.maxgraph.Message.ListLong.Builder, com.alibaba.maxgraph.Message.ListLongOrBuilder>(
+                  getResultIdList(),
+                  getParentForChildren(),
+                  isClean());
+          resultIdList_ = null;
+        }
+        return resultIdListBuilder_;
+      }
+
+      private com.alibaba.maxgraph.Message.ListProto messageList_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.Message.ListProto, com.alibaba.maxgraph.Message.ListProto.Builder, com.alibaba.maxgraph.Message.ListProtoOrBuilder> messageListBuilder_;
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       * @return Whether the messageList field is set.
+       */
+      public boolean hasMessageList() {
+        return messageListBuilder_ != null || messageList_ != null;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       * @return The messageList.
+       */
+      public com.alibaba.maxgraph.Message.ListProto getMessageList() {
+        if (messageListBuilder_ == null) {
+          return messageList_ == null ? com.alibaba.maxgraph.Message.ListProto.getDefaultInstance() : messageList_;
+        } else {
+          return messageListBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       */
+      public Builder setMessageList(com.alibaba.maxgraph.Message.ListProto value) {
+        if (messageListBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          messageList_ = value;
+          onChanged();
+        } else {
+          messageListBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       */
+      public Builder setMessageList(
+          com.alibaba.maxgraph.Message.ListProto.Builder builderForValue) {
+        if (messageListBuilder_ == null) {
+          messageList_ = builderForValue.build();
+          onChanged();
+        } else {
+          messageListBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       */
+      public Builder mergeMessageList(com.alibaba.maxgraph.Message.ListProto value) {
+        if (messageListBuilder_ == null) {
+          if (messageList_ != null) {
+            messageList_ =
+              com.alibaba.maxgraph.Message.ListProto.newBuilder(messageList_).mergeFrom(value).buildPartial();
+          } else {
+            messageList_ = value;
+          }
+          onChanged();
+        } else {
+          messageListBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       */
+      public Builder clearMessageList() {
+        if (messageListBuilder_ == null) {
+          messageList_ = null;
+          onChanged();
+        } else {
+          messageList_ = null;
+          messageListBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       */
+      public com.alibaba.maxgraph.Message.ListProto.Builder getMessageListBuilder() {
+        
+        onChanged();
+        return getMessageListFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       */
+      public com.alibaba.maxgraph.Message.ListProtoOrBuilder getMessageListOrBuilder() {
+        if (messageListBuilder_ != null) {
+          return messageListBuilder_.getMessageOrBuilder();
+        } else {
+          return messageList_ == null ?
+              com.alibaba.maxgraph.Message.ListProto.getDefaultInstance() : messageList_;
+        }
+      }
+      /**
+       * <code>.maxgraph.ListProto message_list = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.Message.ListProto, com.alibaba.maxgraph.Message.ListProto.Builder, com.alibaba.maxgraph.Message.ListProtoOrBuilder> 
+          getMessageListFieldBuilder() {
+        if (messageListBuilder_ == null) {
+          messageListBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.Message.ListProto, com.alibaba.maxgraph.Message.ListProto.Builder, com.alibaba.maxgraph.Message.ListProtoOrBuilder>(
+                  getMessageList(),
+                  getParentForChildren(),
+                  isClean());
+          messageList_ = null;
+        }
+        return messageListBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:maxgraph.LambdaResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:maxgraph.LambdaResult)
+    private static final com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult();
+    }
+
+    public static com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LambdaResult>
+        PARSER = new com.google.protobuf.AbstractParser<LambdaResult>() {
+      @java.lang.Override
+      public LambdaResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LambdaResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LambdaResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LambdaResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.LambdaServiceOuterClass.LambdaResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_LambdaBase_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_LambdaBase_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_LambdaData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_LambdaData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_LambdaResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_LambdaResult_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\024lambda_service.proto\022\010maxgraph\032\020sdk/sc" +
+      "hema.proto\032\021sdk/message.proto\"r\n\nLambdaB" +
+      "ase\022\020\n\010query_id\030\001 \001(\t\022\016\n\006script\030\002 \001(\t\022\020\n" +
+      "\010bytecode\030\003 \001(\014\022\034\n\006schema\030\004 \001(\0132\014.Schema" +
+      "Proto\022\022\n\ntimeout_ms\030\005 \001(\004\"_\n\nLambdaData\022" +
+      "\020\n\010query_id\030\001 \001(\t\022\024\n\014lambda_index\030\002 \001(\t\022" +
+      ")\n\014message_list\030\003 \001(\0132\023.maxgraph.ListPro" +
+      "to\"\215\001\n\014LambdaResult\022\020\n\010query_id\030\001 \001(\t\022\024\n" +
+      "\014lambda_index\030\002 \001(\t\022*\n\016result_id_list\030\003 " +
+      "\001(\0132\022.maxgraph.ListLong\022)\n\014message_list\030" +
+      "\004 \001(\0132\023.maxgraph.ListProto2\272\002\n\rLambdaSer" +
+      "vice\022>\n\007prepare\022\024.maxgraph.LambdaBase\032\033." +
+      "maxgraph.OperationResponse\"\000\022=\n\006remove\022\024" +
+      ".maxgraph.LambdaBase\032\033.maxgraph.Operatio" +
+      "nResponse\"\000\0228\n\006filter\022\024.maxgraph.LambdaD" +
+      "ata\032\026.maxgraph.LambdaResult\"\000\0225\n\003map\022\024.m" +
+      "axgraph.LambdaData\032\026.maxgraph.LambdaResu" +
+      "lt\"\000\0229\n\007flatmap\022\024.maxgraph.LambdaData\032\026." +
+      "maxgraph.LambdaResult\"\000B\034\n\032com.alibaba.m" +
+      "axgraph.protob\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.Schema.getDescriptor(),
+          com.alibaba.maxgraph.Message.getDescriptor(),
+        });
+    internal_static_maxgraph_LambdaBase_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_maxgraph_LambdaBase_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_LambdaBase_descriptor,
+        new java.lang.String[] { "QueryId", "Script", "Bytecode", "Schema", "TimeoutMs", });
+    internal_static_maxgraph_LambdaData_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_maxgraph_LambdaData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_LambdaData_descriptor,
+        new java.lang.String[] { "QueryId", "LambdaIndex", "MessageList", });
+    internal_static_maxgraph_LambdaResult_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_maxgraph_LambdaResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_LambdaResult_descriptor,
+        new java.lang.String[] { "QueryId", "LambdaIndex", "ResultIdList", "MessageList", });
+    com.alibaba.maxgraph.proto.Schema.getDescriptor();
+    com.alibaba.maxgraph.Message.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface NodeIDOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:NodeID)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 id = 1;</code>
+   * @return The id.
+   */
+  int getId();
+
+  /**
+   * <code>.RoleType role = 2;</code>
+   * @return The enum numeric value on the wire for role.
+   */
+  int getRoleValue();
+  /**
+   * <code>.RoleType role = 2;</code>
+   * @return The role.
+   */
+  com.alibaba.maxgraph.proto.RoleType getRole();
+}
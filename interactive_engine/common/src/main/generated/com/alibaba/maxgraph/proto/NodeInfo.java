@@ -0,0 +1,873 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code NodeInfo}
+ */
+public final class NodeInfo extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:NodeInfo)
+    NodeInfoOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use NodeInfo.newBuilder() to construct.
+  private NodeInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private NodeInfo() {
+    host_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new NodeInfo();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private NodeInfo(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.NodeID.Builder subBuilder = null;
+            if (nodeId_ != null) {
+              subBuilder = nodeId_.toBuilder();
+            }
+            nodeId_ = input.readMessage(com.alibaba.maxgraph.proto.NodeID.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(nodeId_);
+              nodeId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            serverId_ = input.readInt32();
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            host_ = s;
+            break;
+          }
+          case 32: {
+
+            port_ = input.readInt32();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeInfo_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeInfo_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.NodeInfo.class, com.alibaba.maxgraph.proto.NodeInfo.Builder.class);
+  }
+
+  public static final int NODEID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.NodeID nodeId_;
+  /**
+   * <code>.NodeID nodeId = 1;</code>
+   * @return Whether the nodeId field is set.
+   */
+  @java.lang.Override
+  public boolean hasNodeId() {
+    return nodeId_ != null;
+  }
+  /**
+   * <code>.NodeID nodeId = 1;</code>
+   * @return The nodeId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeID getNodeId() {
+    return nodeId_ == null ? com.alibaba.maxgraph.proto.NodeID.getDefaultInstance() : nodeId_;
+  }
+  /**
+   * <code>.NodeID nodeId = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeIDOrBuilder getNodeIdOrBuilder() {
+    return getNodeId();
+  }
+
+  public static final int SERVERID_FIELD_NUMBER = 2;
+  private int serverId_;
+  /**
+   * <code>int32 serverId = 2;</code>
+   * @return The serverId.
+   */
+  @java.lang.Override
+  public int getServerId() {
+    return serverId_;
+  }
+
+  public static final int HOST_FIELD_NUMBER = 3;
+  private volatile java.lang.Object host_;
+  /**
+   * <code>string host = 3;</code>
+   * @return The host.
+   */
+  @java.lang.Override
+  public java.lang.String getHost() {
+    java.lang.Object ref = host_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      host_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string host = 3;</code>
+   * @return The bytes for host.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getHostBytes() {
+    java.lang.Object ref = host_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      host_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int PORT_FIELD_NUMBER = 4;
+  private int port_;
+  /**
+   * <code>int32 port = 4;</code>
+   * @return The port.
+   */
+  @java.lang.Override
+  public int getPort() {
+    return port_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (nodeId_ != null) {
+      output.writeMessage(1, getNodeId());
+    }
+    if (serverId_ != 0) {
+      output.writeInt32(2, serverId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(host_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, host_);
+    }
+    if (port_ != 0) {
+      output.writeInt32(4, port_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (nodeId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getNodeId());
+    }
+    if (serverId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, serverId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(host_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, host_);
+    }
+    if (port_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, port_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.NodeInfo)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.NodeInfo other = (com.alibaba.maxgraph.proto.NodeInfo) obj;
+
+    if (hasNodeId() != other.hasNodeId()) return false;
+    if (hasNodeId()) {
+      if (!getNodeId()
+          .equals(other.getNodeId())) return false;
+    }
+    if (getServerId()
+        != other.getServerId()) return false;
+    if (!getHost()
+        .equals(other.getHost())) return false;
+    if (getPort()
+        != other.getPort()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasNodeId()) {
+      hash = (37 * hash) + NODEID_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeId().hashCode();
+    }
+    hash = (37 * hash) + SERVERID_FIELD_NUMBER;
+    hash = (53 * hash) + getServerId();
+    hash = (37 * hash) + HOST_FIELD_NUMBER;
+    hash = (53 * hash) + getHost().hashCode();
+    hash = (37 * hash) + PORT_FIELD_NUMBER;
+    hash = (53 * hash) + getPort();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.NodeInfo parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.NodeInfo prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code NodeInfo}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:NodeInfo)
+      com.alibaba.maxgraph.proto.NodeInfoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.NodeInfo.class, com.alibaba.maxgraph.proto.NodeInfo.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.NodeInfo.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (nodeIdBuilder_ == null) {
+        nodeId_ = null;
+      } else {
+        nodeId_ = null;
+        nodeIdBuilder_ = null;
+      }
+      serverId_ = 0;
+
+      host_ = "";
+
+      port_ = 0;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeInfo_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.NodeInfo getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.NodeInfo.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.NodeInfo build() {
+      com.alibaba.maxgraph.proto.NodeInfo result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.NodeInfo buildPartial() {
+      com.alibaba.maxgraph.proto.NodeInfo result = new com.alibaba.maxgraph.proto.NodeInfo(this);
+      if (nodeIdBuilder_ == null) {
+        result.nodeId_ = nodeId_;
+      } else {
+        result.nodeId_ = nodeIdBuilder_.build();
+      }
+      result.serverId_ = serverId_;
+      result.host_ = host_;
+      result.port_ = port_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.NodeInfo) {
+        return mergeFrom((com.alibaba.maxgraph.proto.NodeInfo)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.NodeInfo other) {
+      if (other == com.alibaba.maxgraph.proto.NodeInfo.getDefaultInstance()) return this;
+      if (other.hasNodeId()) {
+        mergeNodeId(other.getNodeId());
+      }
+      if (other.getServerId() != 0) {
+        setServerId(other.getServerId());
+      }
+      if (!other.getHost().isEmpty()) {
+        host_ = other.host_;
+        onChanged();
+      }
+      if (other.getPort() != 0) {
+        setPort(other.getPort());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.NodeInfo parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.NodeInfo) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.NodeID nodeId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.NodeID, com.alibaba.maxgraph.proto.NodeID.Builder, com.alibaba.maxgraph.proto.NodeIDOrBuilder> nodeIdBuilder_;
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     * @return Whether the nodeId field is set.
+     */
+    public boolean hasNodeId() {
+      return nodeIdBuilder_ != null || nodeId_ != null;
+    }
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    public com.alibaba.maxgraph.proto.NodeID getNodeId() {
+      if (nodeIdBuilder_ == null) {
+        return nodeId_ == null ? com.alibaba.maxgraph.proto.NodeID.getDefaultInstance() : nodeId_;
+      } else {
+        return nodeIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     */
+    public Builder setNodeId(com.alibaba.maxgraph.proto.NodeID value) {
+      if (nodeIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        nodeId_ = value;
+        onChanged();
+      } else {
+        nodeIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     */
+    public Builder setNodeId(
+        com.alibaba.maxgraph.proto.NodeID.Builder builderForValue) {
+      if (nodeIdBuilder_ == null) {
+        nodeId_ = builderForValue.build();
+        onChanged();
+      } else {
+        nodeIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     */
+    public Builder mergeNodeId(com.alibaba.maxgraph.proto.NodeID value) {
+      if (nodeIdBuilder_ == null) {
+        if (nodeId_ != null) {
+          nodeId_ =
+            com.alibaba.maxgraph.proto.NodeID.newBuilder(nodeId_).mergeFrom(value).buildPartial();
+        } else {
+          nodeId_ = value;
+        }
+        onChanged();
+      } else {
+        nodeIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     */
+    public Builder clearNodeId() {
+      if (nodeIdBuilder_ == null) {
+        nodeId_ = null;
+        onChanged();
+      } else {
+        nodeId_ = null;
+        nodeIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeID.Builder getNodeIdBuilder() {
+      
+      onChanged();
+      return getNodeIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.NodeIDOrBuilder getNodeIdOrBuilder() {
+      if (nodeIdBuilder_ != null) {
+        return nodeIdBuilder_.getMessageOrBuilder();
+      } else {
+        return nodeId_ == null ?
+            com.alibaba.maxgraph.proto.NodeID.getDefaultInstance() : nodeId_;
+      }
+    }
+    /**
+     * <code>.NodeID nodeId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.NodeID, com.alibaba.maxgraph.proto.NodeID.Builder, com.alibaba.maxgraph.proto.NodeIDOrBuilder> 
+        getNodeIdFieldBuilder() {
+      if (nodeIdBuilder_ == null) {
+        nodeIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.NodeID, com.alibaba.maxgraph.proto.NodeID.Builder, com.alibaba.maxgraph.proto.NodeIDOrBuilder>(
+                getNodeId(),
+                getParentForChildren(),
+                isClean());
+        nodeId_ = null;
+      }
+      return nodeIdBuilder_;
+    }
+
+    private int serverId_ ;
+    /**
+     * <code>int32 serverId = 2;</code>
+     * @return The serverId.
+     */
+    @java.lang.Override
+    public int getServerId() {
+      return serverId_;
+    }
+    /**
+     * <code>int32 serverId = 2;</code>
+     * @param value The serverId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setServerId(int value) {
+      
+      serverId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 serverId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearServerId() {
+      
+      serverId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object host_ = "";
+    /**
+     * <code>string host = 3;</code>
+     * @return The host.
+     */
+    public java.lang.String getHost() {
+      java.lang.Object ref = host_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        host_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string host = 3;</code>
+     * @return The bytes for host.
+     */
+    public com.google.protobuf.ByteString
+        getHostBytes() {
+      java.lang.Object ref = host_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        host_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string host = 3;</code>
+     * @param value The host to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHost(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      host_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string host = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHost() {
+      
+      host_ = getDefaultInstance().getHost();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string host = 3;</code>
+     * @param value The bytes for host to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHostBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      host_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int port_ ;
+    /**
+     * <code>int32 port = 4;</code>
+     * @return The port.
+     */
+    @java.lang.Override
+    public int getPort() {
+      return port_;
+    }
+    /**
+     * <code>int32 port = 4;</code>
+     * @param value The port to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPort(int value) {
+      
+      port_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 port = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPort() {
+      
+      port_ = 0;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:NodeInfo)
+  }
+
+  // @@protoc_insertion_point(class_scope:NodeInfo)
+  private static final com.alibaba.maxgraph.proto.NodeInfo DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.NodeInfo();
+  }
+
+  public static com.alibaba.maxgraph.proto.NodeInfo getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NodeInfo>
+      PARSER = new com.google.protobuf.AbstractParser<NodeInfo>() {
+    @java.lang.Override
+    public NodeInfo parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new NodeInfo(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<NodeInfo> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NodeInfo> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeInfo getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
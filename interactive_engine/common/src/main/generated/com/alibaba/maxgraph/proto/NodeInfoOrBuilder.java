@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface NodeInfoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:NodeInfo)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.NodeID nodeId = 1;</code>
+   * @return Whether the nodeId field is set.
+   */
+  boolean hasNodeId();
+  /**
+   * <code>.NodeID nodeId = 1;</code>
+   * @return The nodeId.
+   */
+  com.alibaba.maxgraph.proto.NodeID getNodeId();
+  /**
+   * <code>.NodeID nodeId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.NodeIDOrBuilder getNodeIdOrBuilder();
+
+  /**
+   * <code>int32 serverId = 2;</code>
+   * @return The serverId.
+   */
+  int getServerId();
+
+  /**
+   * <code>string host = 3;</code>
+   * @return The host.
+   */
+  java.lang.String getHost();
+  /**
+   * <code>string host = 3;</code>
+   * @return The bytes for host.
+   */
+  com.google.protobuf.ByteString
+      getHostBytes();
+
+  /**
+   * <code>int32 port = 4;</code>
+   * @return The port.
+   */
+  int getPort();
+}
@@ -0,0 +1,749 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code NodeStateProto}
+ */
+public final class NodeStateProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:NodeStateProto)
+    NodeStateProtoOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use NodeStateProto.newBuilder() to construct.
+  private NodeStateProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private NodeStateProto() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new NodeStateProto();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private NodeStateProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              nodeStateMap_ = com.google.protobuf.MapField.newMapField(
+                  NodeStateMapDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>
+            nodeStateMap__ = input.readMessage(
+                NodeStateMapDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            nodeStateMap_.getMutableMap().put(
+                nodeStateMap__.getKey(), nodeStateMap__.getValue());
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeStateProto_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 1:
+        return internalGetNodeStateMap();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeStateProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.NodeStateProto.class, com.alibaba.maxgraph.proto.NodeStateProto.Builder.class);
+  }
+
+  public static final int NODESTATEMAP_FIELD_NUMBER = 1;
+  private static final class NodeStateMapDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, com.alibaba.maxgraph.proto.StateList> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>newDefaultInstance(
+                com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeStateProto_NodeStateMapEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.StateList.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, com.alibaba.maxgraph.proto.StateList> nodeStateMap_;
+  private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>
+  internalGetNodeStateMap() {
+    if (nodeStateMap_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          NodeStateMapDefaultEntryHolder.defaultEntry);
+    }
+    return nodeStateMap_;
+  }
+
+  public int getNodeStateMapCount() {
+    return internalGetNodeStateMap().getMap().size();
+  }
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsNodeStateMap(
+      int key) {
+    
+    return internalGetNodeStateMap().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getNodeStateMapMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> getNodeStateMap() {
+    return getNodeStateMapMap();
+  }
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> getNodeStateMapMap() {
+    return internalGetNodeStateMap().getMap();
+  }
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.StateList getNodeStateMapOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.StateList defaultValue) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> map =
+        internalGetNodeStateMap().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.StateList getNodeStateMapOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> map =
+        internalGetNodeStateMap().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetNodeStateMap(),
+        NodeStateMapDefaultEntryHolder.defaultEntry,
+        1);
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> entry
+         : internalGetNodeStateMap().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>
+      nodeStateMap__ = NodeStateMapDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, nodeStateMap__);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.NodeStateProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.NodeStateProto other = (com.alibaba.maxgraph.proto.NodeStateProto) obj;
+
+    if (!internalGetNodeStateMap().equals(
+        other.internalGetNodeStateMap())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (!internalGetNodeStateMap().getMap().isEmpty()) {
+      hash = (37 * hash) + NODESTATEMAP_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetNodeStateMap().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.NodeStateProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.NodeStateProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code NodeStateProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:NodeStateProto)
+      com.alibaba.maxgraph.proto.NodeStateProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeStateProto_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetNodeStateMap();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMutableNodeStateMap();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeStateProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.NodeStateProto.class, com.alibaba.maxgraph.proto.NodeStateProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.NodeStateProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      internalGetMutableNodeStateMap().clear();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_NodeStateProto_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.NodeStateProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.NodeStateProto.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.NodeStateProto build() {
+      com.alibaba.maxgraph.proto.NodeStateProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.NodeStateProto buildPartial() {
+      com.alibaba.maxgraph.proto.NodeStateProto result = new com.alibaba.maxgraph.proto.NodeStateProto(this);
+      int from_bitField0_ = bitField0_;
+      result.nodeStateMap_ = internalGetNodeStateMap();
+      result.nodeStateMap_.makeImmutable();
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.NodeStateProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.NodeStateProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.NodeStateProto other) {
+      if (other == com.alibaba.maxgraph.proto.NodeStateProto.getDefaultInstance()) return this;
+      internalGetMutableNodeStateMap().mergeFrom(
+          other.internalGetNodeStateMap());
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.NodeStateProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.NodeStateProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.alibaba.maxgraph.proto.StateList> nodeStateMap_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>
+    internalGetNodeStateMap() {
+      if (nodeStateMap_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            NodeStateMapDefaultEntryHolder.defaultEntry);
+      }
+      return nodeStateMap_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>
+    internalGetMutableNodeStateMap() {
+      onChanged();;
+      if (nodeStateMap_ == null) {
+        nodeStateMap_ = com.google.protobuf.MapField.newMapField(
+            NodeStateMapDefaultEntryHolder.defaultEntry);
+      }
+      if (!nodeStateMap_.isMutable()) {
+        nodeStateMap_ = nodeStateMap_.copy();
+      }
+      return nodeStateMap_;
+    }
+
+    public int getNodeStateMapCount() {
+      return internalGetNodeStateMap().getMap().size();
+    }
+    /**
+     * <pre>
+     * entityID : List&lt;entityState&gt;
+     * </pre>
+     *
+     * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsNodeStateMap(
+        int key) {
+      
+      return internalGetNodeStateMap().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getNodeStateMapMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> getNodeStateMap() {
+      return getNodeStateMapMap();
+    }
+    /**
+     * <pre>
+     * entityID : List&lt;entityState&gt;
+     * </pre>
+     *
+     * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> getNodeStateMapMap() {
+      return internalGetNodeStateMap().getMap();
+    }
+    /**
+     * <pre>
+     * entityID : List&lt;entityState&gt;
+     * </pre>
+     *
+     * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.StateList getNodeStateMapOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.StateList defaultValue) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> map =
+          internalGetNodeStateMap().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * entityID : List&lt;entityState&gt;
+     * </pre>
+     *
+     * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.StateList getNodeStateMapOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> map =
+          internalGetNodeStateMap().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearNodeStateMap() {
+      internalGetMutableNodeStateMap().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * entityID : List&lt;entityState&gt;
+     * </pre>
+     *
+     * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+     */
+
+    public Builder removeNodeStateMap(
+        int key) {
+      
+      internalGetMutableNodeStateMap().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>
+    getMutableNodeStateMap() {
+      return internalGetMutableNodeStateMap().getMutableMap();
+    }
+    /**
+     * <pre>
+     * entityID : List&lt;entityState&gt;
+     * </pre>
+     *
+     * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+     */
+    public Builder putNodeStateMap(
+        int key,
+        com.alibaba.maxgraph.proto.StateList value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableNodeStateMap().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * entityID : List&lt;entityState&gt;
+     * </pre>
+     *
+     * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+     */
+
+    public Builder putAllNodeStateMap(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList> values) {
+      internalGetMutableNodeStateMap().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:NodeStateProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:NodeStateProto)
+  private static final com.alibaba.maxgraph.proto.NodeStateProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.NodeStateProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.NodeStateProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NodeStateProto>
+      PARSER = new com.google.protobuf.AbstractParser<NodeStateProto>() {
+    @java.lang.Override
+    public NodeStateProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new NodeStateProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<NodeStateProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NodeStateProto> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.NodeStateProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,63 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface NodeStateProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:NodeStateProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+  int getNodeStateMapCount();
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+  boolean containsNodeStateMap(
+      int key);
+  /**
+   * Use {@link #getNodeStateMapMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>
+  getNodeStateMap();
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.StateList>
+  getNodeStateMapMap();
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.StateList getNodeStateMapOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.StateList defaultValue);
+  /**
+   * <pre>
+   * entityID : List&lt;entityState&gt;
+   * </pre>
+   *
+   * <code>map&lt;int32, .StateList&gt; nodeStateMap = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.StateList getNodeStateMapOrThrow(
+      int key);
+}
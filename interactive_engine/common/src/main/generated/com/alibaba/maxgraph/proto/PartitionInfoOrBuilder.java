@@ -0,0 +1,97 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface PartitionInfoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:PartitionInfo)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * serverID : STATE
+   * </pre>
+   *
+   * <code>map&lt;int32, .ShardState&gt; shardInfos = 1;</code>
+   */
+  int getShardInfosCount();
+  /**
+   * <pre>
+   * serverID : STATE
+   * </pre>
+   *
+   * <code>map&lt;int32, .ShardState&gt; shardInfos = 1;</code>
+   */
+  boolean containsShardInfos(
+      int key);
+  /**
+   * Use {@link #getShardInfosMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.ShardState>
+  getShardInfos();
+  /**
+   * <pre>
+   * serverID : STATE
+   * </pre>
+   *
+   * <code>map&lt;int32, .ShardState&gt; shardInfos = 1;</code>
+   */
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.ShardState>
+  getShardInfosMap();
+  /**
+   * <pre>
+   * serverID : STATE
+   * </pre>
+   *
+   * <code>map&lt;int32, .ShardState&gt; shardInfos = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ShardState getShardInfosOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.ShardState defaultValue);
+  /**
+   * <pre>
+   * serverID : STATE
+   * </pre>
+   *
+   * <code>map&lt;int32, .ShardState&gt; shardInfos = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ShardState getShardInfosOrThrow(
+      int key);
+  /**
+   * Use {@link #getShardInfosValueMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, java.lang.Integer>
+  getShardInfosValue();
+  /**
+   * <pre>
+   * serverID : STATE
+   * </pre>
+   *
+   * <code>map&lt;int32, .ShardState&gt; shardInfos = 1;</code>
+   */
+  java.util.Map<java.lang.Integer, java.lang.Integer>
+  getShardInfosValueMap();
+  /**
+   * <pre>
+   * serverID : STATE
+   * </pre>
+   *
+   * <code>map&lt;int32, .ShardState&gt; shardInfos = 1;</code>
+   */
+
+  int getShardInfosValueOrDefault(
+      int key,
+      int defaultValue);
+  /**
+   * <pre>
+   * serverID : STATE
+   * </pre>
+   *
+   * <code>map&lt;int32, .ShardState&gt; shardInfos = 1;</code>
+   */
+
+  int getShardInfosValueOrThrow(
+      int key);
+}
@@ -0,0 +1,11292 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: remote_api.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class RemoteApi {
+  private RemoteApi() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface BatchVerticesEdgesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.BatchVerticesEdgesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>repeated int64 vertex_id = 2;</code>
+     * @return A list containing the vertexId.
+     */
+    java.util.List<java.lang.Long> getVertexIdList();
+    /**
+     * <code>repeated int64 vertex_id = 2;</code>
+     * @return The count of vertexId.
+     */
+    int getVertexIdCount();
+    /**
+     * <code>repeated int64 vertex_id = 2;</code>
+     * @param index The index of the element to return.
+     * @return The vertexId at the given index.
+     */
+    long getVertexId(int index);
+
+    /**
+     * <code>repeated uint32 label_list = 3;</code>
+     * @return A list containing the labelList.
+     */
+    java.util.List<java.lang.Integer> getLabelListList();
+    /**
+     * <code>repeated uint32 label_list = 3;</code>
+     * @return The count of labelList.
+     */
+    int getLabelListCount();
+    /**
+     * <code>repeated uint32 label_list = 3;</code>
+     * @param index The index of the element to return.
+     * @return The labelList at the given index.
+     */
+    int getLabelList(int index);
+
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> 
+        getLogicalCompareList();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index);
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    int getLogicalCompareCount();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+        getLogicalCompareOrBuilderList();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+        int index);
+
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+     * @return Whether the conditions field is set.
+     */
+    boolean hasConditions();
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+     * @return The conditions.
+     */
+    com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getConditions();
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+     */
+    com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder getConditionsOrBuilder();
+
+    /**
+     * <code>bool vertex_flag = 6;</code>
+     * @return The vertexFlag.
+     */
+    boolean getVertexFlag();
+
+    /**
+     * <code>repeated uint32 partition_ids = 7;</code>
+     * @return A list containing the partitionIds.
+     */
+    java.util.List<java.lang.Integer> getPartitionIdsList();
+    /**
+     * <code>repeated uint32 partition_ids = 7;</code>
+     * @return The count of partitionIds.
+     */
+    int getPartitionIdsCount();
+    /**
+     * <code>repeated uint32 partition_ids = 7;</code>
+     * @param index The index of the element to return.
+     * @return The partitionIds at the given index.
+     */
+    int getPartitionIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.BatchVerticesEdgesRequest}
+   */
+  public static final class BatchVerticesEdgesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.BatchVerticesEdgesRequest)
+      BatchVerticesEdgesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchVerticesEdgesRequest.newBuilder() to construct.
+    private BatchVerticesEdgesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchVerticesEdgesRequest() {
+      vertexId_ = emptyLongList();
+      labelList_ = emptyIntList();
+      logicalCompare_ = java.util.Collections.emptyList();
+      partitionIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchVerticesEdgesRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchVerticesEdgesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                vertexId_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              vertexId_.addLong(input.readInt64());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                vertexId_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                vertexId_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                labelList_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              labelList_.addInt(input.readUInt32());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                labelList_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                labelList_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                logicalCompare_ = new java.util.ArrayList<com.alibaba.maxgraph.Message.LogicalCompare>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              logicalCompare_.add(
+                  input.readMessage(com.alibaba.maxgraph.Message.LogicalCompare.parser(), extensionRegistry));
+              break;
+            }
+            case 42: {
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder subBuilder = null;
+              if (conditions_ != null) {
+                subBuilder = conditions_.toBuilder();
+              }
+              conditions_ = input.readMessage(com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(conditions_);
+                conditions_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 48: {
+
+              vertexFlag_ = input.readBool();
+              break;
+            }
+            case 56: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                partitionIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              partitionIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 58: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) != 0) && input.getBytesUntilLimit() > 0) {
+                partitionIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                partitionIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          vertexId_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          labelList_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          logicalCompare_ = java.util.Collections.unmodifiableList(logicalCompare_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          partitionIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.class, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int VERTEX_ID_FIELD_NUMBER = 2;
+    private com.google.protobuf.Internal.LongList vertexId_;
+    /**
+     * <code>repeated int64 vertex_id = 2;</code>
+     * @return A list containing the vertexId.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getVertexIdList() {
+      return vertexId_;
+    }
+    /**
+     * <code>repeated int64 vertex_id = 2;</code>
+     * @return The count of vertexId.
+     */
+    public int getVertexIdCount() {
+      return vertexId_.size();
+    }
+    /**
+     * <code>repeated int64 vertex_id = 2;</code>
+     * @param index The index of the element to return.
+     * @return The vertexId at the given index.
+     */
+    public long getVertexId(int index) {
+      return vertexId_.getLong(index);
+    }
+    private int vertexIdMemoizedSerializedSize = -1;
+
+    public static final int LABEL_LIST_FIELD_NUMBER = 3;
+    private com.google.protobuf.Internal.IntList labelList_;
+    /**
+     * <code>repeated uint32 label_list = 3;</code>
+     * @return A list containing the labelList.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLabelListList() {
+      return labelList_;
+    }
+    /**
+     * <code>repeated uint32 label_list = 3;</code>
+     * @return The count of labelList.
+     */
+    public int getLabelListCount() {
+      return labelList_.size();
+    }
+    /**
+     * <code>repeated uint32 label_list = 3;</code>
+     * @param index The index of the element to return.
+     * @return The labelList at the given index.
+     */
+    public int getLabelList(int index) {
+      return labelList_.getInt(index);
+    }
+    private int labelListMemoizedSerializedSize = -1;
+
+    public static final int LOGICAL_COMPARE_FIELD_NUMBER = 4;
+    private java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> logicalCompare_;
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> getLogicalCompareList() {
+      return logicalCompare_;
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+        getLogicalCompareOrBuilderList() {
+      return logicalCompare_;
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    @java.lang.Override
+    public int getLogicalCompareCount() {
+      return logicalCompare_.size();
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index) {
+      return logicalCompare_.get(index);
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+        int index) {
+      return logicalCompare_.get(index);
+    }
+
+    public static final int CONDITIONS_FIELD_NUMBER = 5;
+    private com.alibaba.maxgraph.proto.RemoteApi.OutputCondition conditions_;
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+     * @return Whether the conditions field is set.
+     */
+    @java.lang.Override
+    public boolean hasConditions() {
+      return conditions_ != null;
+    }
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+     * @return The conditions.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getConditions() {
+      return conditions_ == null ? com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.getDefaultInstance() : conditions_;
+    }
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder getConditionsOrBuilder() {
+      return getConditions();
+    }
+
+    public static final int VERTEX_FLAG_FIELD_NUMBER = 6;
+    private boolean vertexFlag_;
+    /**
+     * <code>bool vertex_flag = 6;</code>
+     * @return The vertexFlag.
+     */
+    @java.lang.Override
+    public boolean getVertexFlag() {
+      return vertexFlag_;
+    }
+
+    public static final int PARTITION_IDS_FIELD_NUMBER = 7;
+    private com.google.protobuf.Internal.IntList partitionIds_;
+    /**
+     * <code>repeated uint32 partition_ids = 7;</code>
+     * @return A list containing the partitionIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPartitionIdsList() {
+      return partitionIds_;
+    }
+    /**
+     * <code>repeated uint32 partition_ids = 7;</code>
+     * @return The count of partitionIds.
+     */
+    public int getPartitionIdsCount() {
+      return partitionIds_.size();
+    }
+    /**
+     * <code>repeated uint32 partition_ids = 7;</code>
+     * @param index The index of the element to return.
+     * @return The partitionIds at the given index.
+     */
+    public int getPartitionIds(int index) {
+      return partitionIds_.getInt(index);
+    }
+    private int partitionIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (getVertexIdList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(vertexIdMemoizedSerializedSize);
+      }
+      for (int i = 0; i < vertexId_.size(); i++) {
+        output.writeInt64NoTag(vertexId_.getLong(i));
+      }
+      if (getLabelListList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(labelListMemoizedSerializedSize);
+      }
+      for (int i = 0; i < labelList_.size(); i++) {
+        output.writeUInt32NoTag(labelList_.getInt(i));
+      }
+      for (int i = 0; i < logicalCompare_.size(); i++) {
+        output.writeMessage(4, logicalCompare_.get(i));
+      }
+      if (conditions_ != null) {
+        output.writeMessage(5, getConditions());
+      }
+      if (vertexFlag_ != false) {
+        output.writeBool(6, vertexFlag_);
+      }
+      if (getPartitionIdsList().size() > 0) {
+        output.writeUInt32NoTag(58);
+        output.writeUInt32NoTag(partitionIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < partitionIds_.size(); i++) {
+        output.writeUInt32NoTag(partitionIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < vertexId_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(vertexId_.getLong(i));
+        }
+        size += dataSize;
+        if (!getVertexIdList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        vertexIdMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < labelList_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(labelList_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLabelListList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        labelListMemoizedSerializedSize = dataSize;
+      }
+      for (int i = 0; i < logicalCompare_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, logicalCompare_.get(i));
+      }
+      if (conditions_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getConditions());
+      }
+      if (vertexFlag_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, vertexFlag_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < partitionIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(partitionIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPartitionIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        partitionIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest other = (com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (!getVertexIdList()
+          .equals(other.getVertexIdList())) return false;
+      if (!getLabelListList()
+          .equals(other.getLabelListList())) return false;
+      if (!getLogicalCompareList()
+          .equals(other.getLogicalCompareList())) return false;
+      if (hasConditions() != other.hasConditions()) return false;
+      if (hasConditions()) {
+        if (!getConditions()
+            .equals(other.getConditions())) return false;
+      }
+      if (getVertexFlag()
+          != other.getVertexFlag()) return false;
+      if (!getPartitionIdsList()
+          .equals(other.getPartitionIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      if (getVertexIdCount() > 0) {
+        hash = (37 * hash) + VERTEX_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getVertexIdList().hashCode();
+      }
+      if (getLabelListCount() > 0) {
+        hash = (37 * hash) + LABEL_LIST_FIELD_NUMBER;
+        hash = (53 * hash) + getLabelListList().hashCode();
+      }
+      if (getLogicalCompareCount() > 0) {
+        hash = (37 * hash) + LOGICAL_COMPARE_FIELD_NUMBER;
+        hash = (53 * hash) + getLogicalCompareList().hashCode();
+      }
+      if (hasConditions()) {
+        hash = (37 * hash) + CONDITIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getConditions().hashCode();
+      }
+      hash = (37 * hash) + VERTEX_FLAG_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getVertexFlag());
+      if (getPartitionIdsCount() > 0) {
+        hash = (37 * hash) + PARTITION_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPartitionIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.BatchVerticesEdgesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.BatchVerticesEdgesRequest)
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.class, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getLogicalCompareFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        vertexId_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        labelList_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (logicalCompareBuilder_ == null) {
+          logicalCompare_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          logicalCompareBuilder_.clear();
+        }
+        if (conditionsBuilder_ == null) {
+          conditions_ = null;
+        } else {
+          conditions_ = null;
+          conditionsBuilder_ = null;
+        }
+        vertexFlag_ = false;
+
+        partitionIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest build() {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest result = new com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          vertexId_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.vertexId_ = vertexId_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          labelList_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.labelList_ = labelList_;
+        if (logicalCompareBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            logicalCompare_ = java.util.Collections.unmodifiableList(logicalCompare_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.logicalCompare_ = logicalCompare_;
+        } else {
+          result.logicalCompare_ = logicalCompareBuilder_.build();
+        }
+        if (conditionsBuilder_ == null) {
+          result.conditions_ = conditions_;
+        } else {
+          result.conditions_ = conditionsBuilder_.build();
+        }
+        result.vertexFlag_ = vertexFlag_;
+        if (((bitField0_ & 0x00000008) != 0)) {
+          partitionIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.partitionIds_ = partitionIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (!other.vertexId_.isEmpty()) {
+          if (vertexId_.isEmpty()) {
+            vertexId_ = other.vertexId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureVertexIdIsMutable();
+            vertexId_.addAll(other.vertexId_);
+          }
+          onChanged();
+        }
+        if (!other.labelList_.isEmpty()) {
+          if (labelList_.isEmpty()) {
+            labelList_ = other.labelList_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureLabelListIsMutable();
+            labelList_.addAll(other.labelList_);
+          }
+          onChanged();
+        }
+        if (logicalCompareBuilder_ == null) {
+          if (!other.logicalCompare_.isEmpty()) {
+            if (logicalCompare_.isEmpty()) {
+              logicalCompare_ = other.logicalCompare_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureLogicalCompareIsMutable();
+              logicalCompare_.addAll(other.logicalCompare_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.logicalCompare_.isEmpty()) {
+            if (logicalCompareBuilder_.isEmpty()) {
+              logicalCompareBuilder_.dispose();
+              logicalCompareBuilder_ = null;
+              logicalCompare_ = other.logicalCompare_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              logicalCompareBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLogicalCompareFieldBuilder() : null;
+            } else {
+              logicalCompareBuilder_.addAllMessages(other.logicalCompare_);
+            }
+          }
+        }
+        if (other.hasConditions()) {
+          mergeConditions(other.getConditions());
+        }
+        if (other.getVertexFlag() != false) {
+          setVertexFlag(other.getVertexFlag());
+        }
+        if (!other.partitionIds_.isEmpty()) {
+          if (partitionIds_.isEmpty()) {
+            partitionIds_ = other.partitionIds_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensurePartitionIdsIsMutable();
+            partitionIds_.addAll(other.partitionIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList vertexId_ = emptyLongList();
+      private void ensureVertexIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          vertexId_ = mutableCopy(vertexId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 vertex_id = 2;</code>
+       * @return A list containing the vertexId.
+       */
+      public java.util.List<java.lang.Long>
+          getVertexIdList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(vertexId_) : vertexId_;
+      }
+      /**
+       * <code>repeated int64 vertex_id = 2;</code>
+       * @return The count of vertexId.
+       */
+      public int getVertexIdCount() {
+        return vertexId_.size();
+      }
+      /**
+       * <code>repeated int64 vertex_id = 2;</code>
+       * @param index The index of the element to return.
+       * @return The vertexId at the given index.
+       */
+      public long getVertexId(int index) {
+        return vertexId_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 vertex_id = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The vertexId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVertexId(
+          int index, long value) {
+        ensureVertexIdIsMutable();
+        vertexId_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 vertex_id = 2;</code>
+       * @param value The vertexId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVertexId(long value) {
+        ensureVertexIdIsMutable();
+        vertexId_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 vertex_id = 2;</code>
+       * @param values The vertexId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllVertexId(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureVertexIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, vertexId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 vertex_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVertexId() {
+        vertexId_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList labelList_ = emptyIntList();
+      private void ensureLabelListIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          labelList_ = mutableCopy(labelList_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated uint32 label_list = 3;</code>
+       * @return A list containing the labelList.
+       */
+      public java.util.List<java.lang.Integer>
+          getLabelListList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(labelList_) : labelList_;
+      }
+      /**
+       * <code>repeated uint32 label_list = 3;</code>
+       * @return The count of labelList.
+       */
+      public int getLabelListCount() {
+        return labelList_.size();
+      }
+      /**
+       * <code>repeated uint32 label_list = 3;</code>
+       * @param index The index of the element to return.
+       * @return The labelList at the given index.
+       */
+      public int getLabelList(int index) {
+        return labelList_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 label_list = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The labelList to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabelList(
+          int index, int value) {
+        ensureLabelListIsMutable();
+        labelList_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_list = 3;</code>
+       * @param value The labelList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelList(int value) {
+        ensureLabelListIsMutable();
+        labelList_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_list = 3;</code>
+       * @param values The labelList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLabelList(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLabelListIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, labelList_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_list = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabelList() {
+        labelList_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> logicalCompare_ =
+        java.util.Collections.emptyList();
+      private void ensureLogicalCompareIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          logicalCompare_ = new java.util.ArrayList<com.alibaba.maxgraph.Message.LogicalCompare>(logicalCompare_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> logicalCompareBuilder_;
+
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> getLogicalCompareList() {
+        if (logicalCompareBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(logicalCompare_);
+        } else {
+          return logicalCompareBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public int getLogicalCompareCount() {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.size();
+        } else {
+          return logicalCompareBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index) {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.get(index);
+        } else {
+          return logicalCompareBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder setLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.set(index, value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder setLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder addLogicalCompare(com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder addLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(index, value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder addLogicalCompare(
+          com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder addLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder addAllLogicalCompare(
+          java.lang.Iterable<? extends com.alibaba.maxgraph.Message.LogicalCompare> values) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, logicalCompare_);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder clearLogicalCompare() {
+        if (logicalCompareBuilder_ == null) {
+          logicalCompare_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public Builder removeLogicalCompare(int index) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.remove(index);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder getLogicalCompareBuilder(
+          int index) {
+        return getLogicalCompareFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+          int index) {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.get(index);  } else {
+          return logicalCompareBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+           getLogicalCompareOrBuilderList() {
+        if (logicalCompareBuilder_ != null) {
+          return logicalCompareBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(logicalCompare_);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder addLogicalCompareBuilder() {
+        return getLogicalCompareFieldBuilder().addBuilder(
+            com.alibaba.maxgraph.Message.LogicalCompare.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder addLogicalCompareBuilder(
+          int index) {
+        return getLogicalCompareFieldBuilder().addBuilder(
+            index, com.alibaba.maxgraph.Message.LogicalCompare.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 4;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare.Builder> 
+           getLogicalCompareBuilderList() {
+        return getLogicalCompareFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+          getLogicalCompareFieldBuilder() {
+        if (logicalCompareBuilder_ == null) {
+          logicalCompareBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder>(
+                  logicalCompare_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          logicalCompare_ = null;
+        }
+        return logicalCompareBuilder_;
+      }
+
+      private com.alibaba.maxgraph.proto.RemoteApi.OutputCondition conditions_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.RemoteApi.OutputCondition, com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder, com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder> conditionsBuilder_;
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       * @return Whether the conditions field is set.
+       */
+      public boolean hasConditions() {
+        return conditionsBuilder_ != null || conditions_ != null;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       * @return The conditions.
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getConditions() {
+        if (conditionsBuilder_ == null) {
+          return conditions_ == null ? com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.getDefaultInstance() : conditions_;
+        } else {
+          return conditionsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       */
+      public Builder setConditions(com.alibaba.maxgraph.proto.RemoteApi.OutputCondition value) {
+        if (conditionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          conditions_ = value;
+          onChanged();
+        } else {
+          conditionsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       */
+      public Builder setConditions(
+          com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder builderForValue) {
+        if (conditionsBuilder_ == null) {
+          conditions_ = builderForValue.build();
+          onChanged();
+        } else {
+          conditionsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       */
+      public Builder mergeConditions(com.alibaba.maxgraph.proto.RemoteApi.OutputCondition value) {
+        if (conditionsBuilder_ == null) {
+          if (conditions_ != null) {
+            conditions_ =
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.newBuilder(conditions_).mergeFrom(value).buildPartial();
+          } else {
+            conditions_ = value;
+          }
+          onChanged();
+        } else {
+          conditionsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       */
+      public Builder clearConditions() {
+        if (conditionsBuilder_ == null) {
+          conditions_ = null;
+          onChanged();
+        } else {
+          conditions_ = null;
+          conditionsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder getConditionsBuilder() {
+        
+        onChanged();
+        return getConditionsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder getConditionsOrBuilder() {
+        if (conditionsBuilder_ != null) {
+          return conditionsBuilder_.getMessageOrBuilder();
+        } else {
+          return conditions_ == null ?
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.getDefaultInstance() : conditions_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.RemoteApi.OutputCondition, com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder, com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder> 
+          getConditionsFieldBuilder() {
+        if (conditionsBuilder_ == null) {
+          conditionsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition, com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder, com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder>(
+                  getConditions(),
+                  getParentForChildren(),
+                  isClean());
+          conditions_ = null;
+        }
+        return conditionsBuilder_;
+      }
+
+      private boolean vertexFlag_ ;
+      /**
+       * <code>bool vertex_flag = 6;</code>
+       * @return The vertexFlag.
+       */
+      @java.lang.Override
+      public boolean getVertexFlag() {
+        return vertexFlag_;
+      }
+      /**
+       * <code>bool vertex_flag = 6;</code>
+       * @param value The vertexFlag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVertexFlag(boolean value) {
+        
+        vertexFlag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool vertex_flag = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVertexFlag() {
+        
+        vertexFlag_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList partitionIds_ = emptyIntList();
+      private void ensurePartitionIdsIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          partitionIds_ = mutableCopy(partitionIds_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 7;</code>
+       * @return A list containing the partitionIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPartitionIdsList() {
+        return ((bitField0_ & 0x00000008) != 0) ?
+                 java.util.Collections.unmodifiableList(partitionIds_) : partitionIds_;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 7;</code>
+       * @return The count of partitionIds.
+       */
+      public int getPartitionIdsCount() {
+        return partitionIds_.size();
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 7;</code>
+       * @param index The index of the element to return.
+       * @return The partitionIds at the given index.
+       */
+      public int getPartitionIds(int index) {
+        return partitionIds_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 7;</code>
+       * @param index The index to set the value at.
+       * @param value The partitionIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartitionIds(
+          int index, int value) {
+        ensurePartitionIdsIsMutable();
+        partitionIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 7;</code>
+       * @param value The partitionIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPartitionIds(int value) {
+        ensurePartitionIdsIsMutable();
+        partitionIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 7;</code>
+       * @param values The partitionIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPartitionIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePartitionIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, partitionIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartitionIds() {
+        partitionIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.BatchVerticesEdgesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.BatchVerticesEdgesRequest)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchVerticesEdgesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchVerticesEdgesRequest>() {
+      @java.lang.Override
+      public BatchVerticesEdgesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchVerticesEdgesRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchVerticesEdgesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchVerticesEdgesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchVerticesEdgesResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.BatchVerticesEdgesResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     * @return Whether the srcId field is set.
+     */
+    boolean hasSrcId();
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     * @return The srcId.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSrcId();
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSrcIdOrBuilder();
+
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     * @return Whether the dstId field is set.
+     */
+    boolean hasDstId();
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     * @return The dstId.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstId();
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstIdOrBuilder();
+
+    /**
+     * <code>int64 edge_id = 3;</code>
+     * @return The edgeId.
+     */
+    long getEdgeId();
+
+    /**
+     * <code>uint32 type_id = 4;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>bytes pros = 5;</code>
+     * @return The pros.
+     */
+    com.google.protobuf.ByteString getPros();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.BatchVerticesEdgesResponse}
+   */
+  public static final class BatchVerticesEdgesResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.BatchVerticesEdgesResponse)
+      BatchVerticesEdgesResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchVerticesEdgesResponse.newBuilder() to construct.
+    private BatchVerticesEdgesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchVerticesEdgesResponse() {
+      pros_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchVerticesEdgesResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchVerticesEdgesResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder subBuilder = null;
+              if (srcId_ != null) {
+                subBuilder = srcId_.toBuilder();
+              }
+              srcId_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(srcId_);
+                srcId_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder subBuilder = null;
+              if (dstId_ != null) {
+                subBuilder = dstId_.toBuilder();
+              }
+              dstId_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(dstId_);
+                dstId_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 24: {
+
+              edgeId_ = input.readInt64();
+              break;
+            }
+            case 32: {
+
+              typeId_ = input.readUInt32();
+              break;
+            }
+            case 42: {
+
+              pros_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.class, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.Builder.class);
+    }
+
+    public static final int SRC_ID_FIELD_NUMBER = 1;
+    private com.alibaba.maxgraph.proto.GremlinQuery.VertexId srcId_;
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     * @return Whether the srcId field is set.
+     */
+    @java.lang.Override
+    public boolean hasSrcId() {
+      return srcId_ != null;
+    }
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     * @return The srcId.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSrcId() {
+      return srcId_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : srcId_;
+    }
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSrcIdOrBuilder() {
+      return getSrcId();
+    }
+
+    public static final int DST_ID_FIELD_NUMBER = 2;
+    private com.alibaba.maxgraph.proto.GremlinQuery.VertexId dstId_;
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     * @return Whether the dstId field is set.
+     */
+    @java.lang.Override
+    public boolean hasDstId() {
+      return dstId_ != null;
+    }
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     * @return The dstId.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstId() {
+      return dstId_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : dstId_;
+    }
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstIdOrBuilder() {
+      return getDstId();
+    }
+
+    public static final int EDGE_ID_FIELD_NUMBER = 3;
+    private long edgeId_;
+    /**
+     * <code>int64 edge_id = 3;</code>
+     * @return The edgeId.
+     */
+    @java.lang.Override
+    public long getEdgeId() {
+      return edgeId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 4;
+    private int typeId_;
+    /**
+     * <code>uint32 type_id = 4;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int PROS_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString pros_;
+    /**
+     * <code>bytes pros = 5;</code>
+     * @return The pros.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPros() {
+      return pros_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (srcId_ != null) {
+        output.writeMessage(1, getSrcId());
+      }
+      if (dstId_ != null) {
+        output.writeMessage(2, getDstId());
+      }
+      if (edgeId_ != 0L) {
+        output.writeInt64(3, edgeId_);
+      }
+      if (typeId_ != 0) {
+        output.writeUInt32(4, typeId_);
+      }
+      if (!pros_.isEmpty()) {
+        output.writeBytes(5, pros_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (srcId_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getSrcId());
+      }
+      if (dstId_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getDstId());
+      }
+      if (edgeId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, edgeId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, typeId_);
+      }
+      if (!pros_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, pros_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse other = (com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse) obj;
+
+      if (hasSrcId() != other.hasSrcId()) return false;
+      if (hasSrcId()) {
+        if (!getSrcId()
+            .equals(other.getSrcId())) return false;
+      }
+      if (hasDstId() != other.hasDstId()) return false;
+      if (hasDstId()) {
+        if (!getDstId()
+            .equals(other.getDstId())) return false;
+      }
+      if (getEdgeId()
+          != other.getEdgeId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!getPros()
+          .equals(other.getPros())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSrcId()) {
+        hash = (37 * hash) + SRC_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getSrcId().hashCode();
+      }
+      if (hasDstId()) {
+        hash = (37 * hash) + DST_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getDstId().hashCode();
+      }
+      hash = (37 * hash) + EDGE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getEdgeId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      hash = (37 * hash) + PROS_FIELD_NUMBER;
+      hash = (53 * hash) + getPros().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.BatchVerticesEdgesResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.BatchVerticesEdgesResponse)
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.class, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (srcIdBuilder_ == null) {
+          srcId_ = null;
+        } else {
+          srcId_ = null;
+          srcIdBuilder_ = null;
+        }
+        if (dstIdBuilder_ == null) {
+          dstId_ = null;
+        } else {
+          dstId_ = null;
+          dstIdBuilder_ = null;
+        }
+        edgeId_ = 0L;
+
+        typeId_ = 0;
+
+        pros_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesEdgesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse build() {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse result = new com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse(this);
+        if (srcIdBuilder_ == null) {
+          result.srcId_ = srcId_;
+        } else {
+          result.srcId_ = srcIdBuilder_.build();
+        }
+        if (dstIdBuilder_ == null) {
+          result.dstId_ = dstId_;
+        } else {
+          result.dstId_ = dstIdBuilder_.build();
+        }
+        result.edgeId_ = edgeId_;
+        result.typeId_ = typeId_;
+        result.pros_ = pros_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.getDefaultInstance()) return this;
+        if (other.hasSrcId()) {
+          mergeSrcId(other.getSrcId());
+        }
+        if (other.hasDstId()) {
+          mergeDstId(other.getDstId());
+        }
+        if (other.getEdgeId() != 0L) {
+          setEdgeId(other.getEdgeId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (other.getPros() != com.google.protobuf.ByteString.EMPTY) {
+          setPros(other.getPros());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.VertexId srcId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> srcIdBuilder_;
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       * @return Whether the srcId field is set.
+       */
+      public boolean hasSrcId() {
+        return srcIdBuilder_ != null || srcId_ != null;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       * @return The srcId.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSrcId() {
+        if (srcIdBuilder_ == null) {
+          return srcId_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : srcId_;
+        } else {
+          return srcIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public Builder setSrcId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (srcIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          srcId_ = value;
+          onChanged();
+        } else {
+          srcIdBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public Builder setSrcId(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (srcIdBuilder_ == null) {
+          srcId_ = builderForValue.build();
+          onChanged();
+        } else {
+          srcIdBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public Builder mergeSrcId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (srcIdBuilder_ == null) {
+          if (srcId_ != null) {
+            srcId_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder(srcId_).mergeFrom(value).buildPartial();
+          } else {
+            srcId_ = value;
+          }
+          onChanged();
+        } else {
+          srcIdBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public Builder clearSrcId() {
+        if (srcIdBuilder_ == null) {
+          srcId_ = null;
+          onChanged();
+        } else {
+          srcId_ = null;
+          srcIdBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getSrcIdBuilder() {
+        
+        onChanged();
+        return getSrcIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSrcIdOrBuilder() {
+        if (srcIdBuilder_ != null) {
+          return srcIdBuilder_.getMessageOrBuilder();
+        } else {
+          return srcId_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : srcId_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getSrcIdFieldBuilder() {
+        if (srcIdBuilder_ == null) {
+          srcIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  getSrcId(),
+                  getParentForChildren(),
+                  isClean());
+          srcId_ = null;
+        }
+        return srcIdBuilder_;
+      }
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.VertexId dstId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> dstIdBuilder_;
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       * @return Whether the dstId field is set.
+       */
+      public boolean hasDstId() {
+        return dstIdBuilder_ != null || dstId_ != null;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       * @return The dstId.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstId() {
+        if (dstIdBuilder_ == null) {
+          return dstId_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : dstId_;
+        } else {
+          return dstIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public Builder setDstId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (dstIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dstId_ = value;
+          onChanged();
+        } else {
+          dstIdBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public Builder setDstId(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (dstIdBuilder_ == null) {
+          dstId_ = builderForValue.build();
+          onChanged();
+        } else {
+          dstIdBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public Builder mergeDstId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (dstIdBuilder_ == null) {
+          if (dstId_ != null) {
+            dstId_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder(dstId_).mergeFrom(value).buildPartial();
+          } else {
+            dstId_ = value;
+          }
+          onChanged();
+        } else {
+          dstIdBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public Builder clearDstId() {
+        if (dstIdBuilder_ == null) {
+          dstId_ = null;
+          onChanged();
+        } else {
+          dstId_ = null;
+          dstIdBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getDstIdBuilder() {
+        
+        onChanged();
+        return getDstIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstIdOrBuilder() {
+        if (dstIdBuilder_ != null) {
+          return dstIdBuilder_.getMessageOrBuilder();
+        } else {
+          return dstId_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : dstId_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getDstIdFieldBuilder() {
+        if (dstIdBuilder_ == null) {
+          dstIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  getDstId(),
+                  getParentForChildren(),
+                  isClean());
+          dstId_ = null;
+        }
+        return dstIdBuilder_;
+      }
+
+      private long edgeId_ ;
+      /**
+       * <code>int64 edge_id = 3;</code>
+       * @return The edgeId.
+       */
+      @java.lang.Override
+      public long getEdgeId() {
+        return edgeId_;
+      }
+      /**
+       * <code>int64 edge_id = 3;</code>
+       * @param value The edgeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEdgeId(long value) {
+        
+        edgeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 edge_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEdgeId() {
+        
+        edgeId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>uint32 type_id = 4;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>uint32 type_id = 4;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 type_id = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString pros_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes pros = 5;</code>
+       * @return The pros.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPros() {
+        return pros_;
+      }
+      /**
+       * <code>bytes pros = 5;</code>
+       * @param value The pros to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPros(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pros_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes pros = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPros() {
+        
+        pros_ = getDefaultInstance().getPros();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.BatchVerticesEdgesResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.BatchVerticesEdgesResponse)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchVerticesEdgesResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchVerticesEdgesResponse>() {
+      @java.lang.Override
+      public BatchVerticesEdgesResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchVerticesEdgesResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchVerticesEdgesResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchVerticesEdgesResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchVerticesCountResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.BatchVerticesCountResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 vid = 1;</code>
+     * @return The vid.
+     */
+    long getVid();
+
+    /**
+     * <code>int64 count_val = 2;</code>
+     * @return The countVal.
+     */
+    long getCountVal();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.BatchVerticesCountResponse}
+   */
+  public static final class BatchVerticesCountResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.BatchVerticesCountResponse)
+      BatchVerticesCountResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchVerticesCountResponse.newBuilder() to construct.
+    private BatchVerticesCountResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchVerticesCountResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchVerticesCountResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchVerticesCountResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              vid_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              countVal_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesCountResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesCountResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.class, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.Builder.class);
+    }
+
+    public static final int VID_FIELD_NUMBER = 1;
+    private long vid_;
+    /**
+     * <code>int64 vid = 1;</code>
+     * @return The vid.
+     */
+    @java.lang.Override
+    public long getVid() {
+      return vid_;
+    }
+
+    public static final int COUNT_VAL_FIELD_NUMBER = 2;
+    private long countVal_;
+    /**
+     * <code>int64 count_val = 2;</code>
+     * @return The countVal.
+     */
+    @java.lang.Override
+    public long getCountVal() {
+      return countVal_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (vid_ != 0L) {
+        output.writeInt64(1, vid_);
+      }
+      if (countVal_ != 0L) {
+        output.writeInt64(2, countVal_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (vid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, vid_);
+      }
+      if (countVal_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, countVal_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse other = (com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse) obj;
+
+      if (getVid()
+          != other.getVid()) return false;
+      if (getCountVal()
+          != other.getCountVal()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + VID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getVid());
+      hash = (37 * hash) + COUNT_VAL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCountVal());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.BatchVerticesCountResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.BatchVerticesCountResponse)
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesCountResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesCountResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.class, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        vid_ = 0L;
+
+        countVal_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_BatchVerticesCountResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse build() {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse result = new com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse(this);
+        result.vid_ = vid_;
+        result.countVal_ = countVal_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.getDefaultInstance()) return this;
+        if (other.getVid() != 0L) {
+          setVid(other.getVid());
+        }
+        if (other.getCountVal() != 0L) {
+          setCountVal(other.getCountVal());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long vid_ ;
+      /**
+       * <code>int64 vid = 1;</code>
+       * @return The vid.
+       */
+      @java.lang.Override
+      public long getVid() {
+        return vid_;
+      }
+      /**
+       * <code>int64 vid = 1;</code>
+       * @param value The vid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVid(long value) {
+        
+        vid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 vid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVid() {
+        
+        vid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long countVal_ ;
+      /**
+       * <code>int64 count_val = 2;</code>
+       * @return The countVal.
+       */
+      @java.lang.Override
+      public long getCountVal() {
+        return countVal_;
+      }
+      /**
+       * <code>int64 count_val = 2;</code>
+       * @param value The countVal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCountVal(long value) {
+        
+        countVal_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 count_val = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCountVal() {
+        
+        countVal_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.BatchVerticesCountResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.BatchVerticesCountResponse)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchVerticesCountResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchVerticesCountResponse>() {
+      @java.lang.Override
+      public BatchVerticesCountResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchVerticesCountResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchVerticesCountResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchVerticesCountResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VerticesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.VerticesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>uint32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return A list containing the ids.
+     */
+    java.util.List<java.lang.Long> getIdsList();
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return The count of ids.
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    long getIds(int index);
+
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return A list containing the propIds.
+     */
+    java.util.List<java.lang.Integer> getPropIdsList();
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return The count of propIds.
+     */
+    int getPropIdsCount();
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propIds at the given index.
+     */
+    int getPropIds(int index);
+
+    /**
+     * <code>bool prop_flag = 5;</code>
+     * @return The propFlag.
+     */
+    boolean getPropFlag();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.VerticesRequest}
+   */
+  public static final class VerticesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.VerticesRequest)
+      VerticesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use VerticesRequest.newBuilder() to construct.
+    private VerticesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private VerticesRequest() {
+      ids_ = emptyLongList();
+      propIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new VerticesRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VerticesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              typeId_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                ids_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.addLong(input.readInt64());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                ids_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                ids_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                propIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              propIds_.addInt(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                propIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propIds_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 40: {
+
+              propFlag_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          propIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_VerticesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_VerticesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.class, com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 2;
+    private int typeId_;
+    /**
+     * <code>uint32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int IDS_FIELD_NUMBER = 3;
+    private com.google.protobuf.Internal.LongList ids_;
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return A list containing the ids.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return The count of ids.
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    public long getIds(int index) {
+      return ids_.getLong(index);
+    }
+    private int idsMemoizedSerializedSize = -1;
+
+    public static final int PROP_IDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList propIds_;
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return A list containing the propIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropIdsList() {
+      return propIds_;
+    }
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return The count of propIds.
+     */
+    public int getPropIdsCount() {
+      return propIds_.size();
+    }
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propIds at the given index.
+     */
+    public int getPropIds(int index) {
+      return propIds_.getInt(index);
+    }
+    private int propIdsMemoizedSerializedSize = -1;
+
+    public static final int PROP_FLAG_FIELD_NUMBER = 5;
+    private boolean propFlag_;
+    /**
+     * <code>bool prop_flag = 5;</code>
+     * @return The propFlag.
+     */
+    @java.lang.Override
+    public boolean getPropFlag() {
+      return propFlag_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        output.writeUInt32(2, typeId_);
+      }
+      if (getIdsList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(idsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeInt64NoTag(ids_.getLong(i));
+      }
+      if (getPropIdsList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(propIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propIds_.size(); i++) {
+        output.writeInt32NoTag(propIds_.getInt(i));
+      }
+      if (propFlag_ != false) {
+        output.writeBool(5, propFlag_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, typeId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(ids_.getLong(i));
+        }
+        size += dataSize;
+        if (!getIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(propIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propIdsMemoizedSerializedSize = dataSize;
+      }
+      if (propFlag_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, propFlag_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest other = (com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (!getPropIdsList()
+          .equals(other.getPropIdsList())) return false;
+      if (getPropFlag()
+          != other.getPropFlag()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      if (getPropIdsCount() > 0) {
+        hash = (37 * hash) + PROP_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropIdsList().hashCode();
+      }
+      hash = (37 * hash) + PROP_FLAG_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getPropFlag());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.VerticesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.VerticesRequest)
+        com.alibaba.maxgraph.proto.RemoteApi.VerticesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_VerticesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_VerticesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.class, com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        typeId_ = 0;
+
+        ids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        propIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        propFlag_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_VerticesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest build() {
+        com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest result = new com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        result.typeId_ = typeId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ids_ = ids_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          propIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.propIds_ = propIds_;
+        result.propFlag_ = propFlag_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        if (!other.propIds_.isEmpty()) {
+          if (propIds_.isEmpty()) {
+            propIds_ = other.propIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePropIdsIsMutable();
+            propIds_.addAll(other.propIds_);
+          }
+          onChanged();
+        }
+        if (other.getPropFlag() != false) {
+          setPropFlag(other.getPropFlag());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>uint32 type_id = 2;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>uint32 type_id = 2;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 type_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList ids_ = emptyLongList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = mutableCopy(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return A list containing the ids.
+       */
+      public java.util.List<java.lang.Long>
+          getIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(ids_) : ids_;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return The count of ids.
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param index The index of the element to return.
+       * @return The ids at the given index.
+       */
+      public long getIds(int index) {
+        return ids_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The ids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIds(
+          int index, long value) {
+        ensureIdsIsMutable();
+        ids_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param value The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIds(long value) {
+        ensureIdsIsMutable();
+        ids_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param values The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIds() {
+        ids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList propIds_ = emptyIntList();
+      private void ensurePropIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          propIds_ = mutableCopy(propIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return A list containing the propIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropIdsList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(propIds_) : propIds_;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return The count of propIds.
+       */
+      public int getPropIdsCount() {
+        return propIds_.size();
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param index The index of the element to return.
+       * @return The propIds at the given index.
+       */
+      public int getPropIds(int index) {
+        return propIds_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The propIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropIds(
+          int index, int value) {
+        ensurePropIdsIsMutable();
+        propIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param value The propIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropIds(int value) {
+        ensurePropIdsIsMutable();
+        propIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param values The propIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropIds() {
+        propIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private boolean propFlag_ ;
+      /**
+       * <code>bool prop_flag = 5;</code>
+       * @return The propFlag.
+       */
+      @java.lang.Override
+      public boolean getPropFlag() {
+        return propFlag_;
+      }
+      /**
+       * <code>bool prop_flag = 5;</code>
+       * @param value The propFlag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropFlag(boolean value) {
+        
+        propFlag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool prop_flag = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropFlag() {
+        
+        propFlag_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.VerticesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.VerticesRequest)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VerticesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<VerticesRequest>() {
+      @java.lang.Override
+      public VerticesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VerticesRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<VerticesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VerticesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GraphEdgesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.GraphEdgesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>.tinkerpop.EdgeType type_id = 2;</code>
+     * @return Whether the typeId field is set.
+     */
+    boolean hasTypeId();
+    /**
+     * <code>.tinkerpop.EdgeType type_id = 2;</code>
+     * @return The typeId.
+     */
+    com.alibaba.maxgraph.proto.RemoteApi.EdgeType getTypeId();
+    /**
+     * <code>.tinkerpop.EdgeType type_id = 2;</code>
+     */
+    com.alibaba.maxgraph.proto.RemoteApi.EdgeTypeOrBuilder getTypeIdOrBuilder();
+
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    java.util.List<com.alibaba.maxgraph.proto.RemoteApi.EdgeId> 
+        getIdsList();
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    com.alibaba.maxgraph.proto.RemoteApi.EdgeId getIds(int index);
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    java.util.List<? extends com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder> 
+        getIdsOrBuilderList();
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder getIdsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return A list containing the propIds.
+     */
+    java.util.List<java.lang.Integer> getPropIdsList();
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return The count of propIds.
+     */
+    int getPropIdsCount();
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propIds at the given index.
+     */
+    int getPropIds(int index);
+
+    /**
+     * <code>bool prop_flag = 5;</code>
+     * @return The propFlag.
+     */
+    boolean getPropFlag();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.GraphEdgesRequest}
+   */
+  public static final class GraphEdgesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.GraphEdgesRequest)
+      GraphEdgesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GraphEdgesRequest.newBuilder() to construct.
+    private GraphEdgesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GraphEdgesRequest() {
+      ids_ = java.util.Collections.emptyList();
+      propIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GraphEdgesRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GraphEdgesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              com.alibaba.maxgraph.proto.RemoteApi.EdgeType.Builder subBuilder = null;
+              if (typeId_ != null) {
+                subBuilder = typeId_.toBuilder();
+              }
+              typeId_ = input.readMessage(com.alibaba.maxgraph.proto.RemoteApi.EdgeType.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(typeId_);
+                typeId_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                ids_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RemoteApi.EdgeId>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.add(
+                  input.readMessage(com.alibaba.maxgraph.proto.RemoteApi.EdgeId.parser(), extensionRegistry));
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                propIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              propIds_.addInt(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                propIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propIds_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 40: {
+
+              propFlag_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          ids_ = java.util.Collections.unmodifiableList(ids_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          propIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_GraphEdgesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_GraphEdgesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.class, com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 2;
+    private com.alibaba.maxgraph.proto.RemoteApi.EdgeType typeId_;
+    /**
+     * <code>.tinkerpop.EdgeType type_id = 2;</code>
+     * @return Whether the typeId field is set.
+     */
+    @java.lang.Override
+    public boolean hasTypeId() {
+      return typeId_ != null;
+    }
+    /**
+     * <code>.tinkerpop.EdgeType type_id = 2;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.EdgeType getTypeId() {
+      return typeId_ == null ? com.alibaba.maxgraph.proto.RemoteApi.EdgeType.getDefaultInstance() : typeId_;
+    }
+    /**
+     * <code>.tinkerpop.EdgeType type_id = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.EdgeTypeOrBuilder getTypeIdOrBuilder() {
+      return getTypeId();
+    }
+
+    public static final int IDS_FIELD_NUMBER = 3;
+    private java.util.List<com.alibaba.maxgraph.proto.RemoteApi.EdgeId> ids_;
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.maxgraph.proto.RemoteApi.EdgeId> getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder> 
+        getIdsOrBuilderList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    @java.lang.Override
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.EdgeId getIds(int index) {
+      return ids_.get(index);
+    }
+    /**
+     * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder getIdsOrBuilder(
+        int index) {
+      return ids_.get(index);
+    }
+
+    public static final int PROP_IDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList propIds_;
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return A list containing the propIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropIdsList() {
+      return propIds_;
+    }
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return The count of propIds.
+     */
+    public int getPropIdsCount() {
+      return propIds_.size();
+    }
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propIds at the given index.
+     */
+    public int getPropIds(int index) {
+      return propIds_.getInt(index);
+    }
+    private int propIdsMemoizedSerializedSize = -1;
+
+    public static final int PROP_FLAG_FIELD_NUMBER = 5;
+    private boolean propFlag_;
+    /**
+     * <code>bool prop_flag = 5;</code>
+     * @return The propFlag.
+     */
+    @java.lang.Override
+    public boolean getPropFlag() {
+      return propFlag_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (typeId_ != null) {
+        output.writeMessage(2, getTypeId());
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeMessage(3, ids_.get(i));
+      }
+      if (getPropIdsList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(propIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propIds_.size(); i++) {
+        output.writeInt32NoTag(propIds_.getInt(i));
+      }
+      if (propFlag_ != false) {
+        output.writeBool(5, propFlag_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (typeId_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getTypeId());
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, ids_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(propIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propIdsMemoizedSerializedSize = dataSize;
+      }
+      if (propFlag_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, propFlag_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest other = (com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (hasTypeId() != other.hasTypeId()) return false;
+      if (hasTypeId()) {
+        if (!getTypeId()
+            .equals(other.getTypeId())) return false;
+      }
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (!getPropIdsList()
+          .equals(other.getPropIdsList())) return false;
+      if (getPropFlag()
+          != other.getPropFlag()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      if (hasTypeId()) {
+        hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getTypeId().hashCode();
+      }
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      if (getPropIdsCount() > 0) {
+        hash = (37 * hash) + PROP_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropIdsList().hashCode();
+      }
+      hash = (37 * hash) + PROP_FLAG_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getPropFlag());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.GraphEdgesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.GraphEdgesRequest)
+        com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_GraphEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_GraphEdgesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.class, com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getIdsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        if (typeIdBuilder_ == null) {
+          typeId_ = null;
+        } else {
+          typeId_ = null;
+          typeIdBuilder_ = null;
+        }
+        if (idsBuilder_ == null) {
+          ids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          idsBuilder_.clear();
+        }
+        propIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        propFlag_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_GraphEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest build() {
+        com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest result = new com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        if (typeIdBuilder_ == null) {
+          result.typeId_ = typeId_;
+        } else {
+          result.typeId_ = typeIdBuilder_.build();
+        }
+        if (idsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            ids_ = java.util.Collections.unmodifiableList(ids_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.ids_ = ids_;
+        } else {
+          result.ids_ = idsBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          propIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.propIds_ = propIds_;
+        result.propFlag_ = propFlag_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.hasTypeId()) {
+          mergeTypeId(other.getTypeId());
+        }
+        if (idsBuilder_ == null) {
+          if (!other.ids_.isEmpty()) {
+            if (ids_.isEmpty()) {
+              ids_ = other.ids_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureIdsIsMutable();
+              ids_.addAll(other.ids_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.ids_.isEmpty()) {
+            if (idsBuilder_.isEmpty()) {
+              idsBuilder_.dispose();
+              idsBuilder_ = null;
+              ids_ = other.ids_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              idsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getIdsFieldBuilder() : null;
+            } else {
+              idsBuilder_.addAllMessages(other.ids_);
+            }
+          }
+        }
+        if (!other.propIds_.isEmpty()) {
+          if (propIds_.isEmpty()) {
+            propIds_ = other.propIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePropIdsIsMutable();
+            propIds_.addAll(other.propIds_);
+          }
+          onChanged();
+        }
+        if (other.getPropFlag() != false) {
+          setPropFlag(other.getPropFlag());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.maxgraph.proto.RemoteApi.EdgeType typeId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.RemoteApi.EdgeType, com.alibaba.maxgraph.proto.RemoteApi.EdgeType.Builder, com.alibaba.maxgraph.proto.RemoteApi.EdgeTypeOrBuilder> typeIdBuilder_;
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       * @return Whether the typeId field is set.
+       */
+      public boolean hasTypeId() {
+        return typeIdBuilder_ != null || typeId_ != null;
+      }
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       * @return The typeId.
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeType getTypeId() {
+        if (typeIdBuilder_ == null) {
+          return typeId_ == null ? com.alibaba.maxgraph.proto.RemoteApi.EdgeType.getDefaultInstance() : typeId_;
+        } else {
+          return typeIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       */
+      public Builder setTypeId(com.alibaba.maxgraph.proto.RemoteApi.EdgeType value) {
+        if (typeIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          typeId_ = value;
+          onChanged();
+        } else {
+          typeIdBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       */
+      public Builder setTypeId(
+          com.alibaba.maxgraph.proto.RemoteApi.EdgeType.Builder builderForValue) {
+        if (typeIdBuilder_ == null) {
+          typeId_ = builderForValue.build();
+          onChanged();
+        } else {
+          typeIdBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       */
+      public Builder mergeTypeId(com.alibaba.maxgraph.proto.RemoteApi.EdgeType value) {
+        if (typeIdBuilder_ == null) {
+          if (typeId_ != null) {
+            typeId_ =
+              com.alibaba.maxgraph.proto.RemoteApi.EdgeType.newBuilder(typeId_).mergeFrom(value).buildPartial();
+          } else {
+            typeId_ = value;
+          }
+          onChanged();
+        } else {
+          typeIdBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       */
+      public Builder clearTypeId() {
+        if (typeIdBuilder_ == null) {
+          typeId_ = null;
+          onChanged();
+        } else {
+          typeId_ = null;
+          typeIdBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeType.Builder getTypeIdBuilder() {
+        
+        onChanged();
+        return getTypeIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeTypeOrBuilder getTypeIdOrBuilder() {
+        if (typeIdBuilder_ != null) {
+          return typeIdBuilder_.getMessageOrBuilder();
+        } else {
+          return typeId_ == null ?
+              com.alibaba.maxgraph.proto.RemoteApi.EdgeType.getDefaultInstance() : typeId_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.EdgeType type_id = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.RemoteApi.EdgeType, com.alibaba.maxgraph.proto.RemoteApi.EdgeType.Builder, com.alibaba.maxgraph.proto.RemoteApi.EdgeTypeOrBuilder> 
+          getTypeIdFieldBuilder() {
+        if (typeIdBuilder_ == null) {
+          typeIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.RemoteApi.EdgeType, com.alibaba.maxgraph.proto.RemoteApi.EdgeType.Builder, com.alibaba.maxgraph.proto.RemoteApi.EdgeTypeOrBuilder>(
+                  getTypeId(),
+                  getParentForChildren(),
+                  isClean());
+          typeId_ = null;
+        }
+        return typeIdBuilder_;
+      }
+
+      private java.util.List<com.alibaba.maxgraph.proto.RemoteApi.EdgeId> ids_ =
+        java.util.Collections.emptyList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RemoteApi.EdgeId>(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.proto.RemoteApi.EdgeId, com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder, com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder> idsBuilder_;
+
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.proto.RemoteApi.EdgeId> getIdsList() {
+        if (idsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(ids_);
+        } else {
+          return idsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public int getIdsCount() {
+        if (idsBuilder_ == null) {
+          return ids_.size();
+        } else {
+          return idsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeId getIds(int index) {
+        if (idsBuilder_ == null) {
+          return ids_.get(index);
+        } else {
+          return idsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder setIds(
+          int index, com.alibaba.maxgraph.proto.RemoteApi.EdgeId value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.set(index, value);
+          onChanged();
+        } else {
+          idsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder setIds(
+          int index, com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder addIds(com.alibaba.maxgraph.proto.RemoteApi.EdgeId value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.add(value);
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder addIds(
+          int index, com.alibaba.maxgraph.proto.RemoteApi.EdgeId value) {
+        if (idsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIdsIsMutable();
+          ids_.add(index, value);
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder addIds(
+          com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.add(builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder addIds(
+          int index, com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder builderForValue) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          idsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends com.alibaba.maxgraph.proto.RemoteApi.EdgeId> values) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, ids_);
+          onChanged();
+        } else {
+          idsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder clearIds() {
+        if (idsBuilder_ == null) {
+          ids_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          idsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public Builder removeIds(int index) {
+        if (idsBuilder_ == null) {
+          ensureIdsIsMutable();
+          ids_.remove(index);
+          onChanged();
+        } else {
+          idsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder getIdsBuilder(
+          int index) {
+        return getIdsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder getIdsOrBuilder(
+          int index) {
+        if (idsBuilder_ == null) {
+          return ids_.get(index);  } else {
+          return idsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public java.util.List<? extends com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder> 
+           getIdsOrBuilderList() {
+        if (idsBuilder_ != null) {
+          return idsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(ids_);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder addIdsBuilder() {
+        return getIdsFieldBuilder().addBuilder(
+            com.alibaba.maxgraph.proto.RemoteApi.EdgeId.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder addIdsBuilder(
+          int index) {
+        return getIdsFieldBuilder().addBuilder(
+            index, com.alibaba.maxgraph.proto.RemoteApi.EdgeId.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tinkerpop.EdgeId ids = 3;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder> 
+           getIdsBuilderList() {
+        return getIdsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.proto.RemoteApi.EdgeId, com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder, com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder> 
+          getIdsFieldBuilder() {
+        if (idsBuilder_ == null) {
+          idsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.maxgraph.proto.RemoteApi.EdgeId, com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder, com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder>(
+                  ids_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          ids_ = null;
+        }
+        return idsBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList propIds_ = emptyIntList();
+      private void ensurePropIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          propIds_ = mutableCopy(propIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return A list containing the propIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropIdsList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(propIds_) : propIds_;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return The count of propIds.
+       */
+      public int getPropIdsCount() {
+        return propIds_.size();
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param index The index of the element to return.
+       * @return The propIds at the given index.
+       */
+      public int getPropIds(int index) {
+        return propIds_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The propIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropIds(
+          int index, int value) {
+        ensurePropIdsIsMutable();
+        propIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param value The propIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropIds(int value) {
+        ensurePropIdsIsMutable();
+        propIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param values The propIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropIds() {
+        propIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private boolean propFlag_ ;
+      /**
+       * <code>bool prop_flag = 5;</code>
+       * @return The propFlag.
+       */
+      @java.lang.Override
+      public boolean getPropFlag() {
+        return propFlag_;
+      }
+      /**
+       * <code>bool prop_flag = 5;</code>
+       * @param value The propFlag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropFlag(boolean value) {
+        
+        propFlag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool prop_flag = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropFlag() {
+        
+        propFlag_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.GraphEdgesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.GraphEdgesRequest)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GraphEdgesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GraphEdgesRequest>() {
+      @java.lang.Override
+      public GraphEdgesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GraphEdgesRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GraphEdgesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GraphEdgesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.QueryRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @return A list containing the labelId.
+     */
+    java.util.List<java.lang.Integer> getLabelIdList();
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @return The count of labelId.
+     */
+    int getLabelIdCount();
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @param index The index of the element to return.
+     * @return The labelId at the given index.
+     */
+    int getLabelId(int index);
+
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> 
+        getLogicalCompareList();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index);
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    int getLogicalCompareCount();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+        getLogicalCompareOrBuilderList();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+        int index);
+
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+     * @return Whether the conditions field is set.
+     */
+    boolean hasConditions();
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+     * @return The conditions.
+     */
+    com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getConditions();
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+     */
+    com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder getConditionsOrBuilder();
+
+    /**
+     * <code>repeated uint32 partition_ids = 5;</code>
+     * @return A list containing the partitionIds.
+     */
+    java.util.List<java.lang.Integer> getPartitionIdsList();
+    /**
+     * <code>repeated uint32 partition_ids = 5;</code>
+     * @return The count of partitionIds.
+     */
+    int getPartitionIdsCount();
+    /**
+     * <code>repeated uint32 partition_ids = 5;</code>
+     * @param index The index of the element to return.
+     * @return The partitionIds at the given index.
+     */
+    int getPartitionIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.QueryRequest}
+   */
+  public static final class QueryRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.QueryRequest)
+      QueryRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryRequest.newBuilder() to construct.
+    private QueryRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryRequest() {
+      labelId_ = emptyIntList();
+      logicalCompare_ = java.util.Collections.emptyList();
+      partitionIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QueryRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                labelId_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              labelId_.addInt(input.readUInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                labelId_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                labelId_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                logicalCompare_ = new java.util.ArrayList<com.alibaba.maxgraph.Message.LogicalCompare>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              logicalCompare_.add(
+                  input.readMessage(com.alibaba.maxgraph.Message.LogicalCompare.parser(), extensionRegistry));
+              break;
+            }
+            case 34: {
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder subBuilder = null;
+              if (conditions_ != null) {
+                subBuilder = conditions_.toBuilder();
+              }
+              conditions_ = input.readMessage(com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(conditions_);
+                conditions_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                partitionIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              partitionIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) != 0) && input.getBytesUntilLimit() > 0) {
+                partitionIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                partitionIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          labelId_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          logicalCompare_ = java.util.Collections.unmodifiableList(logicalCompare_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          partitionIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.class, com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int LABEL_ID_FIELD_NUMBER = 2;
+    private com.google.protobuf.Internal.IntList labelId_;
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @return A list containing the labelId.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLabelIdList() {
+      return labelId_;
+    }
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @return The count of labelId.
+     */
+    public int getLabelIdCount() {
+      return labelId_.size();
+    }
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @param index The index of the element to return.
+     * @return The labelId at the given index.
+     */
+    public int getLabelId(int index) {
+      return labelId_.getInt(index);
+    }
+    private int labelIdMemoizedSerializedSize = -1;
+
+    public static final int LOGICAL_COMPARE_FIELD_NUMBER = 3;
+    private java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> logicalCompare_;
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> getLogicalCompareList() {
+      return logicalCompare_;
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+        getLogicalCompareOrBuilderList() {
+      return logicalCompare_;
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public int getLogicalCompareCount() {
+      return logicalCompare_.size();
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index) {
+      return logicalCompare_.get(index);
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+        int index) {
+      return logicalCompare_.get(index);
+    }
+
+    public static final int CONDITIONS_FIELD_NUMBER = 4;
+    private com.alibaba.maxgraph.proto.RemoteApi.OutputCondition conditions_;
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+     * @return Whether the conditions field is set.
+     */
+    @java.lang.Override
+    public boolean hasConditions() {
+      return conditions_ != null;
+    }
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+     * @return The conditions.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getConditions() {
+      return conditions_ == null ? com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.getDefaultInstance() : conditions_;
+    }
+    /**
+     * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder getConditionsOrBuilder() {
+      return getConditions();
+    }
+
+    public static final int PARTITION_IDS_FIELD_NUMBER = 5;
+    private com.google.protobuf.Internal.IntList partitionIds_;
+    /**
+     * <code>repeated uint32 partition_ids = 5;</code>
+     * @return A list containing the partitionIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPartitionIdsList() {
+      return partitionIds_;
+    }
+    /**
+     * <code>repeated uint32 partition_ids = 5;</code>
+     * @return The count of partitionIds.
+     */
+    public int getPartitionIdsCount() {
+      return partitionIds_.size();
+    }
+    /**
+     * <code>repeated uint32 partition_ids = 5;</code>
+     * @param index The index of the element to return.
+     * @return The partitionIds at the given index.
+     */
+    public int getPartitionIds(int index) {
+      return partitionIds_.getInt(index);
+    }
+    private int partitionIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (getLabelIdList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(labelIdMemoizedSerializedSize);
+      }
+      for (int i = 0; i < labelId_.size(); i++) {
+        output.writeUInt32NoTag(labelId_.getInt(i));
+      }
+      for (int i = 0; i < logicalCompare_.size(); i++) {
+        output.writeMessage(3, logicalCompare_.get(i));
+      }
+      if (conditions_ != null) {
+        output.writeMessage(4, getConditions());
+      }
+      if (getPartitionIdsList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(partitionIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < partitionIds_.size(); i++) {
+        output.writeUInt32NoTag(partitionIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < labelId_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(labelId_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLabelIdList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        labelIdMemoizedSerializedSize = dataSize;
+      }
+      for (int i = 0; i < logicalCompare_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, logicalCompare_.get(i));
+      }
+      if (conditions_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getConditions());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < partitionIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(partitionIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPartitionIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        partitionIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.QueryRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.QueryRequest other = (com.alibaba.maxgraph.proto.RemoteApi.QueryRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (!getLabelIdList()
+          .equals(other.getLabelIdList())) return false;
+      if (!getLogicalCompareList()
+          .equals(other.getLogicalCompareList())) return false;
+      if (hasConditions() != other.hasConditions()) return false;
+      if (hasConditions()) {
+        if (!getConditions()
+            .equals(other.getConditions())) return false;
+      }
+      if (!getPartitionIdsList()
+          .equals(other.getPartitionIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      if (getLabelIdCount() > 0) {
+        hash = (37 * hash) + LABEL_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getLabelIdList().hashCode();
+      }
+      if (getLogicalCompareCount() > 0) {
+        hash = (37 * hash) + LOGICAL_COMPARE_FIELD_NUMBER;
+        hash = (53 * hash) + getLogicalCompareList().hashCode();
+      }
+      if (hasConditions()) {
+        hash = (37 * hash) + CONDITIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getConditions().hashCode();
+      }
+      if (getPartitionIdsCount() > 0) {
+        hash = (37 * hash) + PARTITION_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPartitionIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.QueryRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.QueryRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.QueryRequest)
+        com.alibaba.maxgraph.proto.RemoteApi.QueryRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.class, com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getLogicalCompareFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        labelId_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (logicalCompareBuilder_ == null) {
+          logicalCompare_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          logicalCompareBuilder_.clear();
+        }
+        if (conditionsBuilder_ == null) {
+          conditions_ = null;
+        } else {
+          conditions_ = null;
+          conditionsBuilder_ = null;
+        }
+        partitionIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.QueryRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.QueryRequest build() {
+        com.alibaba.maxgraph.proto.RemoteApi.QueryRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.QueryRequest buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.QueryRequest result = new com.alibaba.maxgraph.proto.RemoteApi.QueryRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          labelId_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.labelId_ = labelId_;
+        if (logicalCompareBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            logicalCompare_ = java.util.Collections.unmodifiableList(logicalCompare_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.logicalCompare_ = logicalCompare_;
+        } else {
+          result.logicalCompare_ = logicalCompareBuilder_.build();
+        }
+        if (conditionsBuilder_ == null) {
+          result.conditions_ = conditions_;
+        } else {
+          result.conditions_ = conditionsBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          partitionIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.partitionIds_ = partitionIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.QueryRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.QueryRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.QueryRequest other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (!other.labelId_.isEmpty()) {
+          if (labelId_.isEmpty()) {
+            labelId_ = other.labelId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureLabelIdIsMutable();
+            labelId_.addAll(other.labelId_);
+          }
+          onChanged();
+        }
+        if (logicalCompareBuilder_ == null) {
+          if (!other.logicalCompare_.isEmpty()) {
+            if (logicalCompare_.isEmpty()) {
+              logicalCompare_ = other.logicalCompare_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureLogicalCompareIsMutable();
+              logicalCompare_.addAll(other.logicalCompare_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.logicalCompare_.isEmpty()) {
+            if (logicalCompareBuilder_.isEmpty()) {
+              logicalCompareBuilder_.dispose();
+              logicalCompareBuilder_ = null;
+              logicalCompare_ = other.logicalCompare_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              logicalCompareBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLogicalCompareFieldBuilder() : null;
+            } else {
+              logicalCompareBuilder_.addAllMessages(other.logicalCompare_);
+            }
+          }
+        }
+        if (other.hasConditions()) {
+          mergeConditions(other.getConditions());
+        }
+        if (!other.partitionIds_.isEmpty()) {
+          if (partitionIds_.isEmpty()) {
+            partitionIds_ = other.partitionIds_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensurePartitionIdsIsMutable();
+            partitionIds_.addAll(other.partitionIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.QueryRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.QueryRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList labelId_ = emptyIntList();
+      private void ensureLabelIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          labelId_ = mutableCopy(labelId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @return A list containing the labelId.
+       */
+      public java.util.List<java.lang.Integer>
+          getLabelIdList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(labelId_) : labelId_;
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @return The count of labelId.
+       */
+      public int getLabelIdCount() {
+        return labelId_.size();
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @param index The index of the element to return.
+       * @return The labelId at the given index.
+       */
+      public int getLabelId(int index) {
+        return labelId_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The labelId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabelId(
+          int index, int value) {
+        ensureLabelIdIsMutable();
+        labelId_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @param value The labelId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelId(int value) {
+        ensureLabelIdIsMutable();
+        labelId_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @param values The labelId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLabelId(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLabelIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, labelId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabelId() {
+        labelId_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> logicalCompare_ =
+        java.util.Collections.emptyList();
+      private void ensureLogicalCompareIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          logicalCompare_ = new java.util.ArrayList<com.alibaba.maxgraph.Message.LogicalCompare>(logicalCompare_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> logicalCompareBuilder_;
+
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> getLogicalCompareList() {
+        if (logicalCompareBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(logicalCompare_);
+        } else {
+          return logicalCompareBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public int getLogicalCompareCount() {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.size();
+        } else {
+          return logicalCompareBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index) {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.get(index);
+        } else {
+          return logicalCompareBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder setLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.set(index, value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder setLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addLogicalCompare(com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(index, value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addLogicalCompare(
+          com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addAllLogicalCompare(
+          java.lang.Iterable<? extends com.alibaba.maxgraph.Message.LogicalCompare> values) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, logicalCompare_);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder clearLogicalCompare() {
+        if (logicalCompareBuilder_ == null) {
+          logicalCompare_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder removeLogicalCompare(int index) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.remove(index);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder getLogicalCompareBuilder(
+          int index) {
+        return getLogicalCompareFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+          int index) {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.get(index);  } else {
+          return logicalCompareBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+           getLogicalCompareOrBuilderList() {
+        if (logicalCompareBuilder_ != null) {
+          return logicalCompareBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(logicalCompare_);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder addLogicalCompareBuilder() {
+        return getLogicalCompareFieldBuilder().addBuilder(
+            com.alibaba.maxgraph.Message.LogicalCompare.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder addLogicalCompareBuilder(
+          int index) {
+        return getLogicalCompareFieldBuilder().addBuilder(
+            index, com.alibaba.maxgraph.Message.LogicalCompare.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare.Builder> 
+           getLogicalCompareBuilderList() {
+        return getLogicalCompareFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+          getLogicalCompareFieldBuilder() {
+        if (logicalCompareBuilder_ == null) {
+          logicalCompareBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder>(
+                  logicalCompare_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          logicalCompare_ = null;
+        }
+        return logicalCompareBuilder_;
+      }
+
+      private com.alibaba.maxgraph.proto.RemoteApi.OutputCondition conditions_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.RemoteApi.OutputCondition, com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder, com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder> conditionsBuilder_;
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       * @return Whether the conditions field is set.
+       */
+      public boolean hasConditions() {
+        return conditionsBuilder_ != null || conditions_ != null;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       * @return The conditions.
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getConditions() {
+        if (conditionsBuilder_ == null) {
+          return conditions_ == null ? com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.getDefaultInstance() : conditions_;
+        } else {
+          return conditionsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       */
+      public Builder setConditions(com.alibaba.maxgraph.proto.RemoteApi.OutputCondition value) {
+        if (conditionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          conditions_ = value;
+          onChanged();
+        } else {
+          conditionsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       */
+      public Builder setConditions(
+          com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder builderForValue) {
+        if (conditionsBuilder_ == null) {
+          conditions_ = builderForValue.build();
+          onChanged();
+        } else {
+          conditionsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       */
+      public Builder mergeConditions(com.alibaba.maxgraph.proto.RemoteApi.OutputCondition value) {
+        if (conditionsBuilder_ == null) {
+          if (conditions_ != null) {
+            conditions_ =
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.newBuilder(conditions_).mergeFrom(value).buildPartial();
+          } else {
+            conditions_ = value;
+          }
+          onChanged();
+        } else {
+          conditionsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       */
+      public Builder clearConditions() {
+        if (conditionsBuilder_ == null) {
+          conditions_ = null;
+          onChanged();
+        } else {
+          conditions_ = null;
+          conditionsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder getConditionsBuilder() {
+        
+        onChanged();
+        return getConditionsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder getConditionsOrBuilder() {
+        if (conditionsBuilder_ != null) {
+          return conditionsBuilder_.getMessageOrBuilder();
+        } else {
+          return conditions_ == null ?
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.getDefaultInstance() : conditions_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.OutputCondition conditions = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.RemoteApi.OutputCondition, com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder, com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder> 
+          getConditionsFieldBuilder() {
+        if (conditionsBuilder_ == null) {
+          conditionsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition, com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder, com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder>(
+                  getConditions(),
+                  getParentForChildren(),
+                  isClean());
+          conditions_ = null;
+        }
+        return conditionsBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList partitionIds_ = emptyIntList();
+      private void ensurePartitionIdsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          partitionIds_ = mutableCopy(partitionIds_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 5;</code>
+       * @return A list containing the partitionIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPartitionIdsList() {
+        return ((bitField0_ & 0x00000004) != 0) ?
+                 java.util.Collections.unmodifiableList(partitionIds_) : partitionIds_;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 5;</code>
+       * @return The count of partitionIds.
+       */
+      public int getPartitionIdsCount() {
+        return partitionIds_.size();
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 5;</code>
+       * @param index The index of the element to return.
+       * @return The partitionIds at the given index.
+       */
+      public int getPartitionIds(int index) {
+        return partitionIds_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The partitionIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartitionIds(
+          int index, int value) {
+        ensurePartitionIdsIsMutable();
+        partitionIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 5;</code>
+       * @param value The partitionIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPartitionIds(int value) {
+        ensurePartitionIdsIsMutable();
+        partitionIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 5;</code>
+       * @param values The partitionIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPartitionIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePartitionIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, partitionIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartitionIds() {
+        partitionIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.QueryRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.QueryRequest)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.QueryRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.QueryRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryRequest>
+        PARSER = new com.google.protobuf.AbstractParser<QueryRequest>() {
+      @java.lang.Override
+      public QueryRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QueryRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.QueryRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryCountRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.QueryCountRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @return A list containing the labelId.
+     */
+    java.util.List<java.lang.Integer> getLabelIdList();
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @return The count of labelId.
+     */
+    int getLabelIdCount();
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @param index The index of the element to return.
+     * @return The labelId at the given index.
+     */
+    int getLabelId(int index);
+
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> 
+        getLogicalCompareList();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index);
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    int getLogicalCompareCount();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+        getLogicalCompareOrBuilderList();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated uint32 partition_ids = 4;</code>
+     * @return A list containing the partitionIds.
+     */
+    java.util.List<java.lang.Integer> getPartitionIdsList();
+    /**
+     * <code>repeated uint32 partition_ids = 4;</code>
+     * @return The count of partitionIds.
+     */
+    int getPartitionIdsCount();
+    /**
+     * <code>repeated uint32 partition_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The partitionIds at the given index.
+     */
+    int getPartitionIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.QueryCountRequest}
+   */
+  public static final class QueryCountRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.QueryCountRequest)
+      QueryCountRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryCountRequest.newBuilder() to construct.
+    private QueryCountRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryCountRequest() {
+      labelId_ = emptyIntList();
+      logicalCompare_ = java.util.Collections.emptyList();
+      partitionIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryCountRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QueryCountRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                labelId_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              labelId_.addInt(input.readUInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                labelId_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                labelId_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                logicalCompare_ = new java.util.ArrayList<com.alibaba.maxgraph.Message.LogicalCompare>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              logicalCompare_.add(
+                  input.readMessage(com.alibaba.maxgraph.Message.LogicalCompare.parser(), extensionRegistry));
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                partitionIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              partitionIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) != 0) && input.getBytesUntilLimit() > 0) {
+                partitionIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                partitionIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          labelId_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          logicalCompare_ = java.util.Collections.unmodifiableList(logicalCompare_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          partitionIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryCountRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryCountRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.class, com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int LABEL_ID_FIELD_NUMBER = 2;
+    private com.google.protobuf.Internal.IntList labelId_;
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @return A list containing the labelId.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLabelIdList() {
+      return labelId_;
+    }
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @return The count of labelId.
+     */
+    public int getLabelIdCount() {
+      return labelId_.size();
+    }
+    /**
+     * <code>repeated uint32 label_id = 2;</code>
+     * @param index The index of the element to return.
+     * @return The labelId at the given index.
+     */
+    public int getLabelId(int index) {
+      return labelId_.getInt(index);
+    }
+    private int labelIdMemoizedSerializedSize = -1;
+
+    public static final int LOGICAL_COMPARE_FIELD_NUMBER = 3;
+    private java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> logicalCompare_;
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> getLogicalCompareList() {
+      return logicalCompare_;
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+        getLogicalCompareOrBuilderList() {
+      return logicalCompare_;
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public int getLogicalCompareCount() {
+      return logicalCompare_.size();
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index) {
+      return logicalCompare_.get(index);
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+        int index) {
+      return logicalCompare_.get(index);
+    }
+
+    public static final int PARTITION_IDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList partitionIds_;
+    /**
+     * <code>repeated uint32 partition_ids = 4;</code>
+     * @return A list containing the partitionIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPartitionIdsList() {
+      return partitionIds_;
+    }
+    /**
+     * <code>repeated uint32 partition_ids = 4;</code>
+     * @return The count of partitionIds.
+     */
+    public int getPartitionIdsCount() {
+      return partitionIds_.size();
+    }
+    /**
+     * <code>repeated uint32 partition_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The partitionIds at the given index.
+     */
+    public int getPartitionIds(int index) {
+      return partitionIds_.getInt(index);
+    }
+    private int partitionIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (getLabelIdList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(labelIdMemoizedSerializedSize);
+      }
+      for (int i = 0; i < labelId_.size(); i++) {
+        output.writeUInt32NoTag(labelId_.getInt(i));
+      }
+      for (int i = 0; i < logicalCompare_.size(); i++) {
+        output.writeMessage(3, logicalCompare_.get(i));
+      }
+      if (getPartitionIdsList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(partitionIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < partitionIds_.size(); i++) {
+        output.writeUInt32NoTag(partitionIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < labelId_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(labelId_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLabelIdList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        labelIdMemoizedSerializedSize = dataSize;
+      }
+      for (int i = 0; i < logicalCompare_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, logicalCompare_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < partitionIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(partitionIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPartitionIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        partitionIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest other = (com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (!getLabelIdList()
+          .equals(other.getLabelIdList())) return false;
+      if (!getLogicalCompareList()
+          .equals(other.getLogicalCompareList())) return false;
+      if (!getPartitionIdsList()
+          .equals(other.getPartitionIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      if (getLabelIdCount() > 0) {
+        hash = (37 * hash) + LABEL_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getLabelIdList().hashCode();
+      }
+      if (getLogicalCompareCount() > 0) {
+        hash = (37 * hash) + LOGICAL_COMPARE_FIELD_NUMBER;
+        hash = (53 * hash) + getLogicalCompareList().hashCode();
+      }
+      if (getPartitionIdsCount() > 0) {
+        hash = (37 * hash) + PARTITION_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPartitionIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.QueryCountRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.QueryCountRequest)
+        com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryCountRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryCountRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.class, com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getLogicalCompareFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        labelId_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (logicalCompareBuilder_ == null) {
+          logicalCompare_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          logicalCompareBuilder_.clear();
+        }
+        partitionIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_QueryCountRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest build() {
+        com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest result = new com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          labelId_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.labelId_ = labelId_;
+        if (logicalCompareBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            logicalCompare_ = java.util.Collections.unmodifiableList(logicalCompare_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.logicalCompare_ = logicalCompare_;
+        } else {
+          result.logicalCompare_ = logicalCompareBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          partitionIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.partitionIds_ = partitionIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (!other.labelId_.isEmpty()) {
+          if (labelId_.isEmpty()) {
+            labelId_ = other.labelId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureLabelIdIsMutable();
+            labelId_.addAll(other.labelId_);
+          }
+          onChanged();
+        }
+        if (logicalCompareBuilder_ == null) {
+          if (!other.logicalCompare_.isEmpty()) {
+            if (logicalCompare_.isEmpty()) {
+              logicalCompare_ = other.logicalCompare_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureLogicalCompareIsMutable();
+              logicalCompare_.addAll(other.logicalCompare_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.logicalCompare_.isEmpty()) {
+            if (logicalCompareBuilder_.isEmpty()) {
+              logicalCompareBuilder_.dispose();
+              logicalCompareBuilder_ = null;
+              logicalCompare_ = other.logicalCompare_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              logicalCompareBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLogicalCompareFieldBuilder() : null;
+            } else {
+              logicalCompareBuilder_.addAllMessages(other.logicalCompare_);
+            }
+          }
+        }
+        if (!other.partitionIds_.isEmpty()) {
+          if (partitionIds_.isEmpty()) {
+            partitionIds_ = other.partitionIds_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensurePartitionIdsIsMutable();
+            partitionIds_.addAll(other.partitionIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList labelId_ = emptyIntList();
+      private void ensureLabelIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          labelId_ = mutableCopy(labelId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @return A list containing the labelId.
+       */
+      public java.util.List<java.lang.Integer>
+          getLabelIdList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(labelId_) : labelId_;
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @return The count of labelId.
+       */
+      public int getLabelIdCount() {
+        return labelId_.size();
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @param index The index of the element to return.
+       * @return The labelId at the given index.
+       */
+      public int getLabelId(int index) {
+        return labelId_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The labelId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabelId(
+          int index, int value) {
+        ensureLabelIdIsMutable();
+        labelId_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @param value The labelId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelId(int value) {
+        ensureLabelIdIsMutable();
+        labelId_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @param values The labelId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLabelId(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLabelIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, labelId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabelId() {
+        labelId_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> logicalCompare_ =
+        java.util.Collections.emptyList();
+      private void ensureLogicalCompareIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          logicalCompare_ = new java.util.ArrayList<com.alibaba.maxgraph.Message.LogicalCompare>(logicalCompare_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> logicalCompareBuilder_;
+
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> getLogicalCompareList() {
+        if (logicalCompareBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(logicalCompare_);
+        } else {
+          return logicalCompareBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public int getLogicalCompareCount() {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.size();
+        } else {
+          return logicalCompareBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index) {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.get(index);
+        } else {
+          return logicalCompareBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder setLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.set(index, value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder setLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addLogicalCompare(com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(index, value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addLogicalCompare(
+          com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder addAllLogicalCompare(
+          java.lang.Iterable<? extends com.alibaba.maxgraph.Message.LogicalCompare> values) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, logicalCompare_);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder clearLogicalCompare() {
+        if (logicalCompareBuilder_ == null) {
+          logicalCompare_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public Builder removeLogicalCompare(int index) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.remove(index);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder getLogicalCompareBuilder(
+          int index) {
+        return getLogicalCompareFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+          int index) {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.get(index);  } else {
+          return logicalCompareBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+           getLogicalCompareOrBuilderList() {
+        if (logicalCompareBuilder_ != null) {
+          return logicalCompareBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(logicalCompare_);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder addLogicalCompareBuilder() {
+        return getLogicalCompareFieldBuilder().addBuilder(
+            com.alibaba.maxgraph.Message.LogicalCompare.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder addLogicalCompareBuilder(
+          int index) {
+        return getLogicalCompareFieldBuilder().addBuilder(
+            index, com.alibaba.maxgraph.Message.LogicalCompare.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 3;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare.Builder> 
+           getLogicalCompareBuilderList() {
+        return getLogicalCompareFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+          getLogicalCompareFieldBuilder() {
+        if (logicalCompareBuilder_ == null) {
+          logicalCompareBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder>(
+                  logicalCompare_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          logicalCompare_ = null;
+        }
+        return logicalCompareBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList partitionIds_ = emptyIntList();
+      private void ensurePartitionIdsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          partitionIds_ = mutableCopy(partitionIds_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 4;</code>
+       * @return A list containing the partitionIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPartitionIdsList() {
+        return ((bitField0_ & 0x00000004) != 0) ?
+                 java.util.Collections.unmodifiableList(partitionIds_) : partitionIds_;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 4;</code>
+       * @return The count of partitionIds.
+       */
+      public int getPartitionIdsCount() {
+        return partitionIds_.size();
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 4;</code>
+       * @param index The index of the element to return.
+       * @return The partitionIds at the given index.
+       */
+      public int getPartitionIds(int index) {
+        return partitionIds_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The partitionIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartitionIds(
+          int index, int value) {
+        ensurePartitionIdsIsMutable();
+        partitionIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 4;</code>
+       * @param value The partitionIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPartitionIds(int value) {
+        ensurePartitionIdsIsMutable();
+        partitionIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 4;</code>
+       * @param values The partitionIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPartitionIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePartitionIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, partitionIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 partition_ids = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartitionIds() {
+        partitionIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.QueryCountRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.QueryCountRequest)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryCountRequest>
+        PARSER = new com.google.protobuf.AbstractParser<QueryCountRequest>() {
+      @java.lang.Override
+      public QueryCountRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QueryCountRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryCountRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryCountRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CountResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.CountResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 count_val = 1;</code>
+     * @return The countVal.
+     */
+    long getCountVal();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.CountResponse}
+   */
+  public static final class CountResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.CountResponse)
+      CountResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CountResponse.newBuilder() to construct.
+    private CountResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CountResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CountResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CountResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              countVal_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_CountResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_CountResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.CountResponse.class, com.alibaba.maxgraph.proto.RemoteApi.CountResponse.Builder.class);
+    }
+
+    public static final int COUNT_VAL_FIELD_NUMBER = 1;
+    private long countVal_;
+    /**
+     * <code>int64 count_val = 1;</code>
+     * @return The countVal.
+     */
+    @java.lang.Override
+    public long getCountVal() {
+      return countVal_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (countVal_ != 0L) {
+        output.writeInt64(1, countVal_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (countVal_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, countVal_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.CountResponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.CountResponse other = (com.alibaba.maxgraph.proto.RemoteApi.CountResponse) obj;
+
+      if (getCountVal()
+          != other.getCountVal()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + COUNT_VAL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCountVal());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.CountResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.CountResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.CountResponse)
+        com.alibaba.maxgraph.proto.RemoteApi.CountResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_CountResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_CountResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.CountResponse.class, com.alibaba.maxgraph.proto.RemoteApi.CountResponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.CountResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        countVal_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_CountResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.CountResponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.CountResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.CountResponse build() {
+        com.alibaba.maxgraph.proto.RemoteApi.CountResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.CountResponse buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.CountResponse result = new com.alibaba.maxgraph.proto.RemoteApi.CountResponse(this);
+        result.countVal_ = countVal_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.CountResponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.CountResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.CountResponse other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.CountResponse.getDefaultInstance()) return this;
+        if (other.getCountVal() != 0L) {
+          setCountVal(other.getCountVal());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.CountResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.CountResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long countVal_ ;
+      /**
+       * <code>int64 count_val = 1;</code>
+       * @return The countVal.
+       */
+      @java.lang.Override
+      public long getCountVal() {
+        return countVal_;
+      }
+      /**
+       * <code>int64 count_val = 1;</code>
+       * @param value The countVal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCountVal(long value) {
+        
+        countVal_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 count_val = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCountVal() {
+        
+        countVal_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.CountResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.CountResponse)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.CountResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.CountResponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.CountResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CountResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CountResponse>() {
+      @java.lang.Override
+      public CountResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CountResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CountResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CountResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.CountResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface OutputConditionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.OutputCondition)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated uint32 dedup_prop_ids = 1;</code>
+     * @return A list containing the dedupPropIds.
+     */
+    java.util.List<java.lang.Integer> getDedupPropIdsList();
+    /**
+     * <code>repeated uint32 dedup_prop_ids = 1;</code>
+     * @return The count of dedupPropIds.
+     */
+    int getDedupPropIdsCount();
+    /**
+     * <code>repeated uint32 dedup_prop_ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The dedupPropIds at the given index.
+     */
+    int getDedupPropIds(int index);
+
+    /**
+     * <code>uint64 limit = 2;</code>
+     * @return The limit.
+     */
+    long getLimit();
+
+    /**
+     * <code>bool prop_flag = 3;</code>
+     * @return The propFlag.
+     */
+    boolean getPropFlag();
+
+    /**
+     * <code>repeated uint32 prop_ids = 4;</code>
+     * @return A list containing the propIds.
+     */
+    java.util.List<java.lang.Integer> getPropIdsList();
+    /**
+     * <code>repeated uint32 prop_ids = 4;</code>
+     * @return The count of propIds.
+     */
+    int getPropIdsCount();
+    /**
+     * <code>repeated uint32 prop_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propIds at the given index.
+     */
+    int getPropIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.OutputCondition}
+   */
+  public static final class OutputCondition extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.OutputCondition)
+      OutputConditionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use OutputCondition.newBuilder() to construct.
+    private OutputCondition(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private OutputCondition() {
+      dedupPropIds_ = emptyIntList();
+      propIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new OutputCondition();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private OutputCondition(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                dedupPropIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              dedupPropIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                dedupPropIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                dedupPropIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 16: {
+
+              limit_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+
+              propFlag_ = input.readBool();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                propIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              propIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                propIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          dedupPropIds_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          propIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_OutputCondition_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_OutputCondition_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.class, com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder.class);
+    }
+
+    public static final int DEDUP_PROP_IDS_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.IntList dedupPropIds_;
+    /**
+     * <code>repeated uint32 dedup_prop_ids = 1;</code>
+     * @return A list containing the dedupPropIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getDedupPropIdsList() {
+      return dedupPropIds_;
+    }
+    /**
+     * <code>repeated uint32 dedup_prop_ids = 1;</code>
+     * @return The count of dedupPropIds.
+     */
+    public int getDedupPropIdsCount() {
+      return dedupPropIds_.size();
+    }
+    /**
+     * <code>repeated uint32 dedup_prop_ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The dedupPropIds at the given index.
+     */
+    public int getDedupPropIds(int index) {
+      return dedupPropIds_.getInt(index);
+    }
+    private int dedupPropIdsMemoizedSerializedSize = -1;
+
+    public static final int LIMIT_FIELD_NUMBER = 2;
+    private long limit_;
+    /**
+     * <code>uint64 limit = 2;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public long getLimit() {
+      return limit_;
+    }
+
+    public static final int PROP_FLAG_FIELD_NUMBER = 3;
+    private boolean propFlag_;
+    /**
+     * <code>bool prop_flag = 3;</code>
+     * @return The propFlag.
+     */
+    @java.lang.Override
+    public boolean getPropFlag() {
+      return propFlag_;
+    }
+
+    public static final int PROP_IDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList propIds_;
+    /**
+     * <code>repeated uint32 prop_ids = 4;</code>
+     * @return A list containing the propIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropIdsList() {
+      return propIds_;
+    }
+    /**
+     * <code>repeated uint32 prop_ids = 4;</code>
+     * @return The count of propIds.
+     */
+    public int getPropIdsCount() {
+      return propIds_.size();
+    }
+    /**
+     * <code>repeated uint32 prop_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propIds at the given index.
+     */
+    public int getPropIds(int index) {
+      return propIds_.getInt(index);
+    }
+    private int propIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getDedupPropIdsList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(dedupPropIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < dedupPropIds_.size(); i++) {
+        output.writeUInt32NoTag(dedupPropIds_.getInt(i));
+      }
+      if (limit_ != 0L) {
+        output.writeUInt64(2, limit_);
+      }
+      if (propFlag_ != false) {
+        output.writeBool(3, propFlag_);
+      }
+      if (getPropIdsList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(propIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propIds_.size(); i++) {
+        output.writeUInt32NoTag(propIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dedupPropIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(dedupPropIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getDedupPropIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        dedupPropIdsMemoizedSerializedSize = dataSize;
+      }
+      if (limit_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, limit_);
+      }
+      if (propFlag_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, propFlag_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(propIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.OutputCondition)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.OutputCondition other = (com.alibaba.maxgraph.proto.RemoteApi.OutputCondition) obj;
+
+      if (!getDedupPropIdsList()
+          .equals(other.getDedupPropIdsList())) return false;
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (getPropFlag()
+          != other.getPropFlag()) return false;
+      if (!getPropIdsList()
+          .equals(other.getPropIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getDedupPropIdsCount() > 0) {
+        hash = (37 * hash) + DEDUP_PROP_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getDedupPropIdsList().hashCode();
+      }
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLimit());
+      hash = (37 * hash) + PROP_FLAG_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getPropFlag());
+      if (getPropIdsCount() > 0) {
+        hash = (37 * hash) + PROP_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.OutputCondition prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.OutputCondition}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.OutputCondition)
+        com.alibaba.maxgraph.proto.RemoteApi.OutputConditionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_OutputCondition_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_OutputCondition_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.class, com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        dedupPropIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        limit_ = 0L;
+
+        propFlag_ = false;
+
+        propIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_OutputCondition_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition build() {
+        com.alibaba.maxgraph.proto.RemoteApi.OutputCondition result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.OutputCondition result = new com.alibaba.maxgraph.proto.RemoteApi.OutputCondition(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          dedupPropIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.dedupPropIds_ = dedupPropIds_;
+        result.limit_ = limit_;
+        result.propFlag_ = propFlag_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          propIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.propIds_ = propIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.OutputCondition) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.OutputCondition)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.OutputCondition other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.OutputCondition.getDefaultInstance()) return this;
+        if (!other.dedupPropIds_.isEmpty()) {
+          if (dedupPropIds_.isEmpty()) {
+            dedupPropIds_ = other.dedupPropIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDedupPropIdsIsMutable();
+            dedupPropIds_.addAll(other.dedupPropIds_);
+          }
+          onChanged();
+        }
+        if (other.getLimit() != 0L) {
+          setLimit(other.getLimit());
+        }
+        if (other.getPropFlag() != false) {
+          setPropFlag(other.getPropFlag());
+        }
+        if (!other.propIds_.isEmpty()) {
+          if (propIds_.isEmpty()) {
+            propIds_ = other.propIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePropIdsIsMutable();
+            propIds_.addAll(other.propIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.OutputCondition parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.OutputCondition) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.IntList dedupPropIds_ = emptyIntList();
+      private void ensureDedupPropIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          dedupPropIds_ = mutableCopy(dedupPropIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated uint32 dedup_prop_ids = 1;</code>
+       * @return A list containing the dedupPropIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getDedupPropIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(dedupPropIds_) : dedupPropIds_;
+      }
+      /**
+       * <code>repeated uint32 dedup_prop_ids = 1;</code>
+       * @return The count of dedupPropIds.
+       */
+      public int getDedupPropIdsCount() {
+        return dedupPropIds_.size();
+      }
+      /**
+       * <code>repeated uint32 dedup_prop_ids = 1;</code>
+       * @param index The index of the element to return.
+       * @return The dedupPropIds at the given index.
+       */
+      public int getDedupPropIds(int index) {
+        return dedupPropIds_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 dedup_prop_ids = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The dedupPropIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDedupPropIds(
+          int index, int value) {
+        ensureDedupPropIdsIsMutable();
+        dedupPropIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 dedup_prop_ids = 1;</code>
+       * @param value The dedupPropIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDedupPropIds(int value) {
+        ensureDedupPropIdsIsMutable();
+        dedupPropIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 dedup_prop_ids = 1;</code>
+       * @param values The dedupPropIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDedupPropIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureDedupPropIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dedupPropIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 dedup_prop_ids = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDedupPropIds() {
+        dedupPropIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private long limit_ ;
+      /**
+       * <code>uint64 limit = 2;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public long getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>uint64 limit = 2;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(long value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 limit = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean propFlag_ ;
+      /**
+       * <code>bool prop_flag = 3;</code>
+       * @return The propFlag.
+       */
+      @java.lang.Override
+      public boolean getPropFlag() {
+        return propFlag_;
+      }
+      /**
+       * <code>bool prop_flag = 3;</code>
+       * @param value The propFlag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropFlag(boolean value) {
+        
+        propFlag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool prop_flag = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropFlag() {
+        
+        propFlag_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList propIds_ = emptyIntList();
+      private void ensurePropIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          propIds_ = mutableCopy(propIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated uint32 prop_ids = 4;</code>
+       * @return A list containing the propIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropIdsList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(propIds_) : propIds_;
+      }
+      /**
+       * <code>repeated uint32 prop_ids = 4;</code>
+       * @return The count of propIds.
+       */
+      public int getPropIdsCount() {
+        return propIds_.size();
+      }
+      /**
+       * <code>repeated uint32 prop_ids = 4;</code>
+       * @param index The index of the element to return.
+       * @return The propIds at the given index.
+       */
+      public int getPropIds(int index) {
+        return propIds_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 prop_ids = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The propIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropIds(
+          int index, int value) {
+        ensurePropIdsIsMutable();
+        propIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 prop_ids = 4;</code>
+       * @param value The propIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropIds(int value) {
+        ensurePropIdsIsMutable();
+        propIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 prop_ids = 4;</code>
+       * @param values The propIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 prop_ids = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropIds() {
+        propIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.OutputCondition)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.OutputCondition)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.OutputCondition DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.OutputCondition();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<OutputCondition>
+        PARSER = new com.google.protobuf.AbstractParser<OutputCondition>() {
+      @java.lang.Override
+      public OutputCondition parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new OutputCondition(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<OutputCondition> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<OutputCondition> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.OutputCondition getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EdgeIdOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.EdgeId)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 src_id = 1;</code>
+     * @return The srcId.
+     */
+    long getSrcId();
+
+    /**
+     * <code>int64 dst_id = 2;</code>
+     * @return The dstId.
+     */
+    long getDstId();
+
+    /**
+     * <code>int64 inner_id = 3;</code>
+     * @return The innerId.
+     */
+    long getInnerId();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.EdgeId}
+   */
+  public static final class EdgeId extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.EdgeId)
+      EdgeIdOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EdgeId.newBuilder() to construct.
+    private EdgeId(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EdgeId() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EdgeId();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EdgeId(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              srcId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              dstId_ = input.readInt64();
+              break;
+            }
+            case 24: {
+
+              innerId_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeId_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeId_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.EdgeId.class, com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder.class);
+    }
+
+    public static final int SRC_ID_FIELD_NUMBER = 1;
+    private long srcId_;
+    /**
+     * <code>int64 src_id = 1;</code>
+     * @return The srcId.
+     */
+    @java.lang.Override
+    public long getSrcId() {
+      return srcId_;
+    }
+
+    public static final int DST_ID_FIELD_NUMBER = 2;
+    private long dstId_;
+    /**
+     * <code>int64 dst_id = 2;</code>
+     * @return The dstId.
+     */
+    @java.lang.Override
+    public long getDstId() {
+      return dstId_;
+    }
+
+    public static final int INNER_ID_FIELD_NUMBER = 3;
+    private long innerId_;
+    /**
+     * <code>int64 inner_id = 3;</code>
+     * @return The innerId.
+     */
+    @java.lang.Override
+    public long getInnerId() {
+      return innerId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (srcId_ != 0L) {
+        output.writeInt64(1, srcId_);
+      }
+      if (dstId_ != 0L) {
+        output.writeInt64(2, dstId_);
+      }
+      if (innerId_ != 0L) {
+        output.writeInt64(3, innerId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (srcId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, srcId_);
+      }
+      if (dstId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, dstId_);
+      }
+      if (innerId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, innerId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.EdgeId)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.EdgeId other = (com.alibaba.maxgraph.proto.RemoteApi.EdgeId) obj;
+
+      if (getSrcId()
+          != other.getSrcId()) return false;
+      if (getDstId()
+          != other.getDstId()) return false;
+      if (getInnerId()
+          != other.getInnerId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SRC_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSrcId());
+      hash = (37 * hash) + DST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDstId());
+      hash = (37 * hash) + INNER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getInnerId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.EdgeId prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.EdgeId}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.EdgeId)
+        com.alibaba.maxgraph.proto.RemoteApi.EdgeIdOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeId_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeId_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.EdgeId.class, com.alibaba.maxgraph.proto.RemoteApi.EdgeId.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.EdgeId.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        srcId_ = 0L;
+
+        dstId_ = 0L;
+
+        innerId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeId_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeId getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.EdgeId.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeId build() {
+        com.alibaba.maxgraph.proto.RemoteApi.EdgeId result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeId buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.EdgeId result = new com.alibaba.maxgraph.proto.RemoteApi.EdgeId(this);
+        result.srcId_ = srcId_;
+        result.dstId_ = dstId_;
+        result.innerId_ = innerId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.EdgeId) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.EdgeId)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.EdgeId other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.EdgeId.getDefaultInstance()) return this;
+        if (other.getSrcId() != 0L) {
+          setSrcId(other.getSrcId());
+        }
+        if (other.getDstId() != 0L) {
+          setDstId(other.getDstId());
+        }
+        if (other.getInnerId() != 0L) {
+          setInnerId(other.getInnerId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.EdgeId parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.EdgeId) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long srcId_ ;
+      /**
+       * <code>int64 src_id = 1;</code>
+       * @return The srcId.
+       */
+      @java.lang.Override
+      public long getSrcId() {
+        return srcId_;
+      }
+      /**
+       * <code>int64 src_id = 1;</code>
+       * @param value The srcId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSrcId(long value) {
+        
+        srcId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 src_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSrcId() {
+        
+        srcId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long dstId_ ;
+      /**
+       * <code>int64 dst_id = 2;</code>
+       * @return The dstId.
+       */
+      @java.lang.Override
+      public long getDstId() {
+        return dstId_;
+      }
+      /**
+       * <code>int64 dst_id = 2;</code>
+       * @param value The dstId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDstId(long value) {
+        
+        dstId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 dst_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDstId() {
+        
+        dstId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long innerId_ ;
+      /**
+       * <code>int64 inner_id = 3;</code>
+       * @return The innerId.
+       */
+      @java.lang.Override
+      public long getInnerId() {
+        return innerId_;
+      }
+      /**
+       * <code>int64 inner_id = 3;</code>
+       * @param value The innerId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInnerId(long value) {
+        
+        innerId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 inner_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInnerId() {
+        
+        innerId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.EdgeId)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.EdgeId)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.EdgeId DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.EdgeId();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeId getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EdgeId>
+        PARSER = new com.google.protobuf.AbstractParser<EdgeId>() {
+      @java.lang.Override
+      public EdgeId parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeId(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<EdgeId> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EdgeId> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.EdgeId getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EdgeTypeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.EdgeType)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 label = 1;</code>
+     * @return The label.
+     */
+    int getLabel();
+
+    /**
+     * <code>uint32 src_label = 2;</code>
+     * @return The srcLabel.
+     */
+    int getSrcLabel();
+
+    /**
+     * <code>uint32 dst_label = 3;</code>
+     * @return The dstLabel.
+     */
+    int getDstLabel();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.EdgeType}
+   */
+  public static final class EdgeType extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.EdgeType)
+      EdgeTypeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EdgeType.newBuilder() to construct.
+    private EdgeType(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EdgeType() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EdgeType();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EdgeType(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              label_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+
+              srcLabel_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+
+              dstLabel_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeType_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeType_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RemoteApi.EdgeType.class, com.alibaba.maxgraph.proto.RemoteApi.EdgeType.Builder.class);
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 1;
+    private int label_;
+    /**
+     * <code>uint32 label = 1;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public int getLabel() {
+      return label_;
+    }
+
+    public static final int SRC_LABEL_FIELD_NUMBER = 2;
+    private int srcLabel_;
+    /**
+     * <code>uint32 src_label = 2;</code>
+     * @return The srcLabel.
+     */
+    @java.lang.Override
+    public int getSrcLabel() {
+      return srcLabel_;
+    }
+
+    public static final int DST_LABEL_FIELD_NUMBER = 3;
+    private int dstLabel_;
+    /**
+     * <code>uint32 dst_label = 3;</code>
+     * @return The dstLabel.
+     */
+    @java.lang.Override
+    public int getDstLabel() {
+      return dstLabel_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (label_ != 0) {
+        output.writeUInt32(1, label_);
+      }
+      if (srcLabel_ != 0) {
+        output.writeUInt32(2, srcLabel_);
+      }
+      if (dstLabel_ != 0) {
+        output.writeUInt32(3, dstLabel_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (label_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, label_);
+      }
+      if (srcLabel_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, srcLabel_);
+      }
+      if (dstLabel_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, dstLabel_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.RemoteApi.EdgeType)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.RemoteApi.EdgeType other = (com.alibaba.maxgraph.proto.RemoteApi.EdgeType) obj;
+
+      if (getLabel()
+          != other.getLabel()) return false;
+      if (getSrcLabel()
+          != other.getSrcLabel()) return false;
+      if (getDstLabel()
+          != other.getDstLabel()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getLabel();
+      hash = (37 * hash) + SRC_LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getSrcLabel();
+      hash = (37 * hash) + DST_LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getDstLabel();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.RemoteApi.EdgeType prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.EdgeType}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.EdgeType)
+        com.alibaba.maxgraph.proto.RemoteApi.EdgeTypeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeType_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeType_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.RemoteApi.EdgeType.class, com.alibaba.maxgraph.proto.RemoteApi.EdgeType.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.RemoteApi.EdgeType.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        label_ = 0;
+
+        srcLabel_ = 0;
+
+        dstLabel_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.internal_static_tinkerpop_EdgeType_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeType getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.RemoteApi.EdgeType.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeType build() {
+        com.alibaba.maxgraph.proto.RemoteApi.EdgeType result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.RemoteApi.EdgeType buildPartial() {
+        com.alibaba.maxgraph.proto.RemoteApi.EdgeType result = new com.alibaba.maxgraph.proto.RemoteApi.EdgeType(this);
+        result.label_ = label_;
+        result.srcLabel_ = srcLabel_;
+        result.dstLabel_ = dstLabel_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.RemoteApi.EdgeType) {
+          return mergeFrom((com.alibaba.maxgraph.proto.RemoteApi.EdgeType)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.RemoteApi.EdgeType other) {
+        if (other == com.alibaba.maxgraph.proto.RemoteApi.EdgeType.getDefaultInstance()) return this;
+        if (other.getLabel() != 0) {
+          setLabel(other.getLabel());
+        }
+        if (other.getSrcLabel() != 0) {
+          setSrcLabel(other.getSrcLabel());
+        }
+        if (other.getDstLabel() != 0) {
+          setDstLabel(other.getDstLabel());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.RemoteApi.EdgeType parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.RemoteApi.EdgeType) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int label_ ;
+      /**
+       * <code>uint32 label = 1;</code>
+       * @return The label.
+       */
+      @java.lang.Override
+      public int getLabel() {
+        return label_;
+      }
+      /**
+       * <code>uint32 label = 1;</code>
+       * @param value The label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabel(int value) {
+        
+        label_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 label = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabel() {
+        
+        label_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int srcLabel_ ;
+      /**
+       * <code>uint32 src_label = 2;</code>
+       * @return The srcLabel.
+       */
+      @java.lang.Override
+      public int getSrcLabel() {
+        return srcLabel_;
+      }
+      /**
+       * <code>uint32 src_label = 2;</code>
+       * @param value The srcLabel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSrcLabel(int value) {
+        
+        srcLabel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 src_label = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSrcLabel() {
+        
+        srcLabel_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int dstLabel_ ;
+      /**
+       * <code>uint32 dst_label = 3;</code>
+       * @return The dstLabel.
+       */
+      @java.lang.Override
+      public int getDstLabel() {
+        return dstLabel_;
+      }
+      /**
+       * <code>uint32 dst_label = 3;</code>
+       * @param value The dstLabel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDstLabel(int value) {
+        
+        dstLabel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 dst_label = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDstLabel() {
+        
+        dstLabel_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.EdgeType)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.EdgeType)
+    private static final com.alibaba.maxgraph.proto.RemoteApi.EdgeType DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RemoteApi.EdgeType();
+    }
+
+    public static com.alibaba.maxgraph.proto.RemoteApi.EdgeType getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EdgeType>
+        PARSER = new com.google.protobuf.AbstractParser<EdgeType>() {
+      @java.lang.Override
+      public EdgeType parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeType(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<EdgeType> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EdgeType> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RemoteApi.EdgeType getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_BatchVerticesEdgesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_BatchVerticesEdgesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_BatchVerticesEdgesResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_BatchVerticesEdgesResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_BatchVerticesCountResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_BatchVerticesCountResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_VerticesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_VerticesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_GraphEdgesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_GraphEdgesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_QueryRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_QueryRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_QueryCountRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_QueryCountRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_CountResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_CountResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_OutputCondition_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_OutputCondition_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_EdgeId_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_EdgeId_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_EdgeType_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_EdgeType_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020remote_api.proto\022\ttinkerpop\032\023gremlin_q" +
+      "uery.proto\032\021sdk/message.proto\032\022meta_serv" +
+      "ice.proto\032\017store_api.proto\"\346\001\n\031BatchVert" +
+      "icesEdgesRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\021\n" +
+      "\tvertex_id\030\002 \003(\003\022\022\n\nlabel_list\030\003 \003(\r\0221\n\017" +
+      "logical_compare\030\004 \003(\0132\030.maxgraph.Logical" +
+      "Compare\022.\n\nconditions\030\005 \001(\0132\032.tinkerpop." +
+      "OutputCondition\022\023\n\013vertex_flag\030\006 \001(\010\022\025\n\r" +
+      "partition_ids\030\007 \003(\r\"\226\001\n\032BatchVerticesEdg" +
+      "esResponse\022#\n\006src_id\030\001 \001(\0132\023.tinkerpop.V" +
+      "ertexId\022#\n\006dst_id\030\002 \001(\0132\023.tinkerpop.Vert" +
+      "exId\022\017\n\007edge_id\030\003 \001(\003\022\017\n\007type_id\030\004 \001(\r\022\014" +
+      "\n\004pros\030\005 \001(\014\"<\n\032BatchVerticesCountRespon" +
+      "se\022\013\n\003vid\030\001 \001(\003\022\021\n\tcount_val\030\002 \001(\003\"i\n\017Ve" +
+      "rticesRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\017\n\007ty" +
+      "pe_id\030\002 \001(\r\022\013\n\003ids\030\003 \003(\003\022\020\n\010prop_ids\030\004 \003" +
+      "(\005\022\021\n\tprop_flag\030\005 \001(\010\"\223\001\n\021GraphEdgesRequ" +
+      "est\022\023\n\013snapshot_id\030\001 \001(\003\022$\n\007type_id\030\002 \001(" +
+      "\0132\023.tinkerpop.EdgeType\022\036\n\003ids\030\003 \003(\0132\021.ti" +
+      "nkerpop.EdgeId\022\020\n\010prop_ids\030\004 \003(\005\022\021\n\tprop" +
+      "_flag\030\005 \001(\010\"\257\001\n\014QueryRequest\022\023\n\013snapshot" +
+      "_id\030\001 \001(\003\022\020\n\010label_id\030\002 \003(\r\0221\n\017logical_c" +
+      "ompare\030\003 \003(\0132\030.maxgraph.LogicalCompare\022." +
+      "\n\nconditions\030\004 \001(\0132\032.tinkerpop.OutputCon" +
+      "dition\022\025\n\rpartition_ids\030\005 \003(\r\"\204\001\n\021QueryC" +
+      "ountRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\020\n\010labe" +
+      "l_id\030\002 \003(\r\0221\n\017logical_compare\030\003 \003(\0132\030.ma" +
+      "xgraph.LogicalCompare\022\025\n\rpartition_ids\030\004" +
+      " \003(\r\"\"\n\rCountResponse\022\021\n\tcount_val\030\001 \001(\003" +
+      "\"]\n\017OutputCondition\022\026\n\016dedup_prop_ids\030\001 " +
+      "\003(\r\022\r\n\005limit\030\002 \001(\004\022\021\n\tprop_flag\030\003 \001(\010\022\020\n" +
+      "\010prop_ids\030\004 \003(\r\":\n\006EdgeId\022\016\n\006src_id\030\001 \001(" +
+      "\003\022\016\n\006dst_id\030\002 \001(\003\022\020\n\010inner_id\030\003 \001(\003\"?\n\010E" +
+      "dgeType\022\r\n\005label\030\001 \001(\r\022\021\n\tsrc_label\030\002 \001(" +
+      "\r\022\021\n\tdst_label\030\003 \001(\r2\303\006\n\022RemoteStoreServ" +
+      "ice\022\\\n\013getBatchOut\022$.tinkerpop.BatchVert" +
+      "icesEdgesRequest\032%.tinkerpop.BatchVertic" +
+      "esEdgesResponse0\001\022[\n\ngetBatchIn\022$.tinker" +
+      "pop.BatchVerticesEdgesRequest\032%.tinkerpo" +
+      "p.BatchVerticesEdgesResponse0\001\022_\n\016getBat" +
+      "chOutCnt\022$.tinkerpop.BatchVerticesEdgesR" +
+      "equest\032%.tinkerpop.BatchVerticesCountRes" +
+      "ponse0\001\022^\n\rgetBatchInCnt\022$.tinkerpop.Bat" +
+      "chVerticesEdgesRequest\032%.tinkerpop.Batch" +
+      "VerticesCountResponse0\001\022F\n\013getVertices\022\032" +
+      ".tinkerpop.VerticesRequest\032\031.tinkerpop.V" +
+      "ertexResponse0\001\022L\n\rgetGraphEdges\022\034.tinke" +
+      "rpop.GraphEdgesRequest\032\033.tinkerpop.Graph" +
+      "EdgeReponse0\001\022F\n\016query_vertices\022\027.tinker" +
+      "pop.QueryRequest\032\031.tinkerpop.VertexRespo" +
+      "nse0\001\022E\n\013query_edges\022\027.tinkerpop.QueryRe" +
+      "quest\032\033.tinkerpop.GraphEdgeReponse0\001\022F\n\014" +
+      "vertex_count\022\034.tinkerpop.QueryCountReque" +
+      "st\032\030.tinkerpop.CountResponse\022D\n\nedge_cou" +
+      "nt\022\034.tinkerpop.QueryCountRequest\032\030.tinke" +
+      "rpop.CountResponseB\034\n\032com.alibaba.maxgra" +
+      "ph.protob\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.GremlinQuery.getDescriptor(),
+          com.alibaba.maxgraph.Message.getDescriptor(),
+          com.alibaba.maxgraph.proto.store.MetaServiceOuterClass.getDescriptor(),
+          com.alibaba.maxgraph.proto.StoreApi.getDescriptor(),
+        });
+    internal_static_tinkerpop_BatchVerticesEdgesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_tinkerpop_BatchVerticesEdgesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_BatchVerticesEdgesRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "VertexId", "LabelList", "LogicalCompare", "Conditions", "VertexFlag", "PartitionIds", });
+    internal_static_tinkerpop_BatchVerticesEdgesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_tinkerpop_BatchVerticesEdgesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_BatchVerticesEdgesResponse_descriptor,
+        new java.lang.String[] { "SrcId", "DstId", "EdgeId", "TypeId", "Pros", });
+    internal_static_tinkerpop_BatchVerticesCountResponse_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_tinkerpop_BatchVerticesCountResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_BatchVerticesCountResponse_descriptor,
+        new java.lang.String[] { "Vid", "CountVal", });
+    internal_static_tinkerpop_VerticesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_tinkerpop_VerticesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_VerticesRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "TypeId", "Ids", "PropIds", "PropFlag", });
+    internal_static_tinkerpop_GraphEdgesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_tinkerpop_GraphEdgesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_GraphEdgesRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "TypeId", "Ids", "PropIds", "PropFlag", });
+    internal_static_tinkerpop_QueryRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_tinkerpop_QueryRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_QueryRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "LabelId", "LogicalCompare", "Conditions", "PartitionIds", });
+    internal_static_tinkerpop_QueryCountRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_tinkerpop_QueryCountRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_QueryCountRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "LabelId", "LogicalCompare", "PartitionIds", });
+    internal_static_tinkerpop_CountResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_tinkerpop_CountResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_CountResponse_descriptor,
+        new java.lang.String[] { "CountVal", });
+    internal_static_tinkerpop_OutputCondition_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_tinkerpop_OutputCondition_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_OutputCondition_descriptor,
+        new java.lang.String[] { "DedupPropIds", "Limit", "PropFlag", "PropIds", });
+    internal_static_tinkerpop_EdgeId_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_tinkerpop_EdgeId_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_EdgeId_descriptor,
+        new java.lang.String[] { "SrcId", "DstId", "InnerId", });
+    internal_static_tinkerpop_EdgeType_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_tinkerpop_EdgeType_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_EdgeType_descriptor,
+        new java.lang.String[] { "Label", "SrcLabel", "DstLabel", });
+    com.alibaba.maxgraph.proto.GremlinQuery.getDescriptor();
+    com.alibaba.maxgraph.Message.getDescriptor();
+    com.alibaba.maxgraph.proto.store.MetaServiceOuterClass.getDescriptor();
+    com.alibaba.maxgraph.proto.StoreApi.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
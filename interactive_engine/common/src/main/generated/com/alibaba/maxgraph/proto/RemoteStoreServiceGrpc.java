@@ -0,0 +1,910 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * The store service definition.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: remote_api.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class RemoteStoreServiceGrpc {
+
+  private RemoteStoreServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "tinkerpop.RemoteStoreService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> getGetBatchOutMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getBatchOut",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> getGetBatchOutMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> getGetBatchOutMethod;
+    if ((getGetBatchOutMethod = RemoteStoreServiceGrpc.getGetBatchOutMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getGetBatchOutMethod = RemoteStoreServiceGrpc.getGetBatchOutMethod) == null) {
+          RemoteStoreServiceGrpc.getGetBatchOutMethod = getGetBatchOutMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getBatchOut"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("getBatchOut"))
+              .build();
+        }
+      }
+    }
+    return getGetBatchOutMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> getGetBatchInMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getBatchIn",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> getGetBatchInMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> getGetBatchInMethod;
+    if ((getGetBatchInMethod = RemoteStoreServiceGrpc.getGetBatchInMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getGetBatchInMethod = RemoteStoreServiceGrpc.getGetBatchInMethod) == null) {
+          RemoteStoreServiceGrpc.getGetBatchInMethod = getGetBatchInMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getBatchIn"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("getBatchIn"))
+              .build();
+        }
+      }
+    }
+    return getGetBatchInMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> getGetBatchOutCntMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getBatchOutCnt",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> getGetBatchOutCntMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> getGetBatchOutCntMethod;
+    if ((getGetBatchOutCntMethod = RemoteStoreServiceGrpc.getGetBatchOutCntMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getGetBatchOutCntMethod = RemoteStoreServiceGrpc.getGetBatchOutCntMethod) == null) {
+          RemoteStoreServiceGrpc.getGetBatchOutCntMethod = getGetBatchOutCntMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getBatchOutCnt"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("getBatchOutCnt"))
+              .build();
+        }
+      }
+    }
+    return getGetBatchOutCntMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> getGetBatchInCntMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getBatchInCnt",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> getGetBatchInCntMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> getGetBatchInCntMethod;
+    if ((getGetBatchInCntMethod = RemoteStoreServiceGrpc.getGetBatchInCntMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getGetBatchInCntMethod = RemoteStoreServiceGrpc.getGetBatchInCntMethod) == null) {
+          RemoteStoreServiceGrpc.getGetBatchInCntMethod = getGetBatchInCntMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest, com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getBatchInCnt"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("getBatchInCnt"))
+              .build();
+        }
+      }
+    }
+    return getGetBatchInCntMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVerticesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getVertices",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVerticesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVerticesMethod;
+    if ((getGetVerticesMethod = RemoteStoreServiceGrpc.getGetVerticesMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getGetVerticesMethod = RemoteStoreServiceGrpc.getGetVerticesMethod) == null) {
+          RemoteStoreServiceGrpc.getGetVerticesMethod = getGetVerticesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getVertices"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("getVertices"))
+              .build();
+        }
+      }
+    }
+    return getGetVerticesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetGraphEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getGraphEdges",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetGraphEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetGraphEdgesMethod;
+    if ((getGetGraphEdgesMethod = RemoteStoreServiceGrpc.getGetGraphEdgesMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getGetGraphEdgesMethod = RemoteStoreServiceGrpc.getGetGraphEdgesMethod) == null) {
+          RemoteStoreServiceGrpc.getGetGraphEdgesMethod = getGetGraphEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getGraphEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("getGraphEdges"))
+              .build();
+        }
+      }
+    }
+    return getGetGraphEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getQueryVerticesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "query_vertices",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getQueryVerticesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getQueryVerticesMethod;
+    if ((getQueryVerticesMethod = RemoteStoreServiceGrpc.getQueryVerticesMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getQueryVerticesMethod = RemoteStoreServiceGrpc.getQueryVerticesMethod) == null) {
+          RemoteStoreServiceGrpc.getQueryVerticesMethod = getQueryVerticesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.QueryRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "query_vertices"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("query_vertices"))
+              .build();
+        }
+      }
+    }
+    return getQueryVerticesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getQueryEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "query_edges",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getQueryEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getQueryEdgesMethod;
+    if ((getQueryEdgesMethod = RemoteStoreServiceGrpc.getQueryEdgesMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getQueryEdgesMethod = RemoteStoreServiceGrpc.getQueryEdgesMethod) == null) {
+          RemoteStoreServiceGrpc.getQueryEdgesMethod = getQueryEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.QueryRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "query_edges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.QueryRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("query_edges"))
+              .build();
+        }
+      }
+    }
+    return getQueryEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.CountResponse> getVertexCountMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "vertex_count",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.class,
+      responseType = com.alibaba.maxgraph.proto.RemoteApi.CountResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.CountResponse> getVertexCountMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest, com.alibaba.maxgraph.proto.RemoteApi.CountResponse> getVertexCountMethod;
+    if ((getVertexCountMethod = RemoteStoreServiceGrpc.getVertexCountMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getVertexCountMethod = RemoteStoreServiceGrpc.getVertexCountMethod) == null) {
+          RemoteStoreServiceGrpc.getVertexCountMethod = getVertexCountMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest, com.alibaba.maxgraph.proto.RemoteApi.CountResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "vertex_count"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.CountResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("vertex_count"))
+              .build();
+        }
+      }
+    }
+    return getVertexCountMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.CountResponse> getEdgeCountMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "edge_count",
+      requestType = com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.class,
+      responseType = com.alibaba.maxgraph.proto.RemoteApi.CountResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest,
+      com.alibaba.maxgraph.proto.RemoteApi.CountResponse> getEdgeCountMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest, com.alibaba.maxgraph.proto.RemoteApi.CountResponse> getEdgeCountMethod;
+    if ((getEdgeCountMethod = RemoteStoreServiceGrpc.getEdgeCountMethod) == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        if ((getEdgeCountMethod = RemoteStoreServiceGrpc.getEdgeCountMethod) == null) {
+          RemoteStoreServiceGrpc.getEdgeCountMethod = getEdgeCountMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest, com.alibaba.maxgraph.proto.RemoteApi.CountResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "edge_count"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RemoteApi.CountResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new RemoteStoreServiceMethodDescriptorSupplier("edge_count"))
+              .build();
+        }
+      }
+    }
+    return getEdgeCountMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static RemoteStoreServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<RemoteStoreServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<RemoteStoreServiceStub>() {
+        @java.lang.Override
+        public RemoteStoreServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new RemoteStoreServiceStub(channel, callOptions);
+        }
+      };
+    return RemoteStoreServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static RemoteStoreServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<RemoteStoreServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<RemoteStoreServiceBlockingStub>() {
+        @java.lang.Override
+        public RemoteStoreServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new RemoteStoreServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return RemoteStoreServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static RemoteStoreServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<RemoteStoreServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<RemoteStoreServiceFutureStub>() {
+        @java.lang.Override
+        public RemoteStoreServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new RemoteStoreServiceFutureStub(channel, callOptions);
+        }
+      };
+    return RemoteStoreServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * The store service definition.
+   * </pre>
+   */
+  public static abstract class RemoteStoreServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     * <pre>
+     * batch requests
+     * </pre>
+     */
+    public void getBatchOut(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetBatchOutMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchIn(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetBatchInMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchOutCnt(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetBatchOutCntMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchInCnt(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetBatchInCntMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getVertices(com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetVerticesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getGraphEdges(com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetGraphEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void queryVertices(com.alibaba.maxgraph.proto.RemoteApi.QueryRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getQueryVerticesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void queryEdges(com.alibaba.maxgraph.proto.RemoteApi.QueryRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getQueryEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void vertexCount(com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.CountResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getVertexCountMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void edgeCount(com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.CountResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getEdgeCountMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetBatchOutMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse>(
+                  this, METHODID_GET_BATCH_OUT)))
+          .addMethod(
+            getGetBatchInMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse>(
+                  this, METHODID_GET_BATCH_IN)))
+          .addMethod(
+            getGetBatchOutCntMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse>(
+                  this, METHODID_GET_BATCH_OUT_CNT)))
+          .addMethod(
+            getGetBatchInCntMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest,
+                com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse>(
+                  this, METHODID_GET_BATCH_IN_CNT)))
+          .addMethod(
+            getGetVerticesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest,
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>(
+                  this, METHODID_GET_VERTICES)))
+          .addMethod(
+            getGetGraphEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest,
+                com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>(
+                  this, METHODID_GET_GRAPH_EDGES)))
+          .addMethod(
+            getQueryVerticesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.QueryRequest,
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>(
+                  this, METHODID_QUERY_VERTICES)))
+          .addMethod(
+            getQueryEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.QueryRequest,
+                com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>(
+                  this, METHODID_QUERY_EDGES)))
+          .addMethod(
+            getVertexCountMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest,
+                com.alibaba.maxgraph.proto.RemoteApi.CountResponse>(
+                  this, METHODID_VERTEX_COUNT)))
+          .addMethod(
+            getEdgeCountMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest,
+                com.alibaba.maxgraph.proto.RemoteApi.CountResponse>(
+                  this, METHODID_EDGE_COUNT)))
+          .build();
+    }
+  }
+
+  /**
+   * <pre>
+   * The store service definition.
+   * </pre>
+   */
+  public static final class RemoteStoreServiceStub extends io.grpc.stub.AbstractAsyncStub<RemoteStoreServiceStub> {
+    private RemoteStoreServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected RemoteStoreServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new RemoteStoreServiceStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * batch requests
+     * </pre>
+     */
+    public void getBatchOut(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetBatchOutMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchIn(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetBatchInMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchOutCnt(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetBatchOutCntMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchInCnt(com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetBatchInCntMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getVertices(com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetVerticesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getGraphEdges(com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetGraphEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void queryVertices(com.alibaba.maxgraph.proto.RemoteApi.QueryRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getQueryVerticesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void queryEdges(com.alibaba.maxgraph.proto.RemoteApi.QueryRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getQueryEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void vertexCount(com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.CountResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getVertexCountMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void edgeCount(com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.CountResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getEdgeCountMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   * <pre>
+   * The store service definition.
+   * </pre>
+   */
+  public static final class RemoteStoreServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<RemoteStoreServiceBlockingStub> {
+    private RemoteStoreServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected RemoteStoreServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new RemoteStoreServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * batch requests
+     * </pre>
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> getBatchOut(
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetBatchOutMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse> getBatchIn(
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetBatchInMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> getBatchOutCnt(
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetBatchOutCntMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse> getBatchInCnt(
+        com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetBatchInCntMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getVertices(
+        com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetVerticesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGraphEdges(
+        com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetGraphEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> queryVertices(
+        com.alibaba.maxgraph.proto.RemoteApi.QueryRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getQueryVerticesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> queryEdges(
+        com.alibaba.maxgraph.proto.RemoteApi.QueryRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getQueryEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.RemoteApi.CountResponse vertexCount(com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getVertexCountMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.RemoteApi.CountResponse edgeCount(com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getEdgeCountMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * <pre>
+   * The store service definition.
+   * </pre>
+   */
+  public static final class RemoteStoreServiceFutureStub extends io.grpc.stub.AbstractFutureStub<RemoteStoreServiceFutureStub> {
+    private RemoteStoreServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected RemoteStoreServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new RemoteStoreServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.RemoteApi.CountResponse> vertexCount(
+        com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getVertexCountMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.RemoteApi.CountResponse> edgeCount(
+        com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getEdgeCountMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_BATCH_OUT = 0;
+  private static final int METHODID_GET_BATCH_IN = 1;
+  private static final int METHODID_GET_BATCH_OUT_CNT = 2;
+  private static final int METHODID_GET_BATCH_IN_CNT = 3;
+  private static final int METHODID_GET_VERTICES = 4;
+  private static final int METHODID_GET_GRAPH_EDGES = 5;
+  private static final int METHODID_QUERY_VERTICES = 6;
+  private static final int METHODID_QUERY_EDGES = 7;
+  private static final int METHODID_VERTEX_COUNT = 8;
+  private static final int METHODID_EDGE_COUNT = 9;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final RemoteStoreServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(RemoteStoreServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_BATCH_OUT:
+          serviceImpl.getBatchOut((com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse>) responseObserver);
+          break;
+        case METHODID_GET_BATCH_IN:
+          serviceImpl.getBatchIn((com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesResponse>) responseObserver);
+          break;
+        case METHODID_GET_BATCH_OUT_CNT:
+          serviceImpl.getBatchOutCnt((com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse>) responseObserver);
+          break;
+        case METHODID_GET_BATCH_IN_CNT:
+          serviceImpl.getBatchInCnt((com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.BatchVerticesCountResponse>) responseObserver);
+          break;
+        case METHODID_GET_VERTICES:
+          serviceImpl.getVertices((com.alibaba.maxgraph.proto.RemoteApi.VerticesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>) responseObserver);
+          break;
+        case METHODID_GET_GRAPH_EDGES:
+          serviceImpl.getGraphEdges((com.alibaba.maxgraph.proto.RemoteApi.GraphEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>) responseObserver);
+          break;
+        case METHODID_QUERY_VERTICES:
+          serviceImpl.queryVertices((com.alibaba.maxgraph.proto.RemoteApi.QueryRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>) responseObserver);
+          break;
+        case METHODID_QUERY_EDGES:
+          serviceImpl.queryEdges((com.alibaba.maxgraph.proto.RemoteApi.QueryRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>) responseObserver);
+          break;
+        case METHODID_VERTEX_COUNT:
+          serviceImpl.vertexCount((com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.CountResponse>) responseObserver);
+          break;
+        case METHODID_EDGE_COUNT:
+          serviceImpl.edgeCount((com.alibaba.maxgraph.proto.RemoteApi.QueryCountRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RemoteApi.CountResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class RemoteStoreServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    RemoteStoreServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.RemoteApi.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("RemoteStoreService");
+    }
+  }
+
+  private static final class RemoteStoreServiceFileDescriptorSupplier
+      extends RemoteStoreServiceBaseDescriptorSupplier {
+    RemoteStoreServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class RemoteStoreServiceMethodDescriptorSupplier
+      extends RemoteStoreServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    RemoteStoreServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (RemoteStoreServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new RemoteStoreServiceFileDescriptorSupplier())
+              .addMethod(getGetBatchOutMethod())
+              .addMethod(getGetBatchInMethod())
+              .addMethod(getGetBatchOutCntMethod())
+              .addMethod(getGetBatchInCntMethod())
+              .addMethod(getGetVerticesMethod())
+              .addMethod(getGetGraphEdgesMethod())
+              .addMethod(getQueryVerticesMethod())
+              .addMethod(getQueryEdgesMethod())
+              .addMethod(getVertexCountMethod())
+              .addMethod(getEdgeCountMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
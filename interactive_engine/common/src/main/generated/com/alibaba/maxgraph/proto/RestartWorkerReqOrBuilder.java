@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RestartWorkerReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RestartWorkerReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int32 toRestartWorkerIdList = 1;</code>
+   * @return A list containing the toRestartWorkerIdList.
+   */
+  java.util.List<java.lang.Integer> getToRestartWorkerIdListList();
+  /**
+   * <code>repeated int32 toRestartWorkerIdList = 1;</code>
+   * @return The count of toRestartWorkerIdList.
+   */
+  int getToRestartWorkerIdListCount();
+  /**
+   * <code>repeated int32 toRestartWorkerIdList = 1;</code>
+   * @param index The index of the element to return.
+   * @return The toRestartWorkerIdList at the given index.
+   */
+  int getToRestartWorkerIdList(int index);
+}
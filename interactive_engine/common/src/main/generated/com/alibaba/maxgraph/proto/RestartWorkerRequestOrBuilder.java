@@ -0,0 +1,69 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: am.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RestartWorkerRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RestartWorkerRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 workerId = 1;</code>
+   * @return The workerId.
+   */
+  int getWorkerId();
+
+  /**
+   * <pre>
+   * 只包含aliveId
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; parameters = 2;</code>
+   */
+  int getParametersCount();
+  /**
+   * <pre>
+   * 只包含aliveId
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; parameters = 2;</code>
+   */
+  boolean containsParameters(
+      java.lang.String key);
+  /**
+   * Use {@link #getParametersMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getParameters();
+  /**
+   * <pre>
+   * 只包含aliveId
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; parameters = 2;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getParametersMap();
+  /**
+   * <pre>
+   * 只包含aliveId
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; parameters = 2;</code>
+   */
+
+  java.lang.String getParametersOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <pre>
+   * 只包含aliveId
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; parameters = 2;</code>
+   */
+
+  java.lang.String getParametersOrThrow(
+      java.lang.String key);
+}
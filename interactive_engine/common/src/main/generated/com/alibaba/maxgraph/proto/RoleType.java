@@ -0,0 +1,176 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf enum {@code RoleType}
+ */
+public enum RoleType
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>AM = 0;</code>
+   */
+  AM(0),
+  /**
+   * <code>EXECUTOR = 1;</code>
+   */
+  EXECUTOR(1),
+  /**
+   * <code>COORDINATOR = 2;</code>
+   */
+  COORDINATOR(2),
+  /**
+   * <code>ID_SERVICE = 3;</code>
+   */
+  ID_SERVICE(3),
+  /**
+   * <code>FRONTEND = 4;</code>
+   */
+  FRONTEND(4),
+  /**
+   * <code>INGEST_NODE = 5;</code>
+   */
+  INGEST_NODE(5),
+  /**
+   * <code>STORE_NODE = 6;</code>
+   */
+  STORE_NODE(6),
+  /**
+   * <code>COMPUTE_WORKER = 7;</code>
+   */
+  COMPUTE_WORKER(7),
+  /**
+   * <code>COMPUTE_MASTER = 8;</code>
+   */
+  COMPUTE_MASTER(8),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>AM = 0;</code>
+   */
+  public static final int AM_VALUE = 0;
+  /**
+   * <code>EXECUTOR = 1;</code>
+   */
+  public static final int EXECUTOR_VALUE = 1;
+  /**
+   * <code>COORDINATOR = 2;</code>
+   */
+  public static final int COORDINATOR_VALUE = 2;
+  /**
+   * <code>ID_SERVICE = 3;</code>
+   */
+  public static final int ID_SERVICE_VALUE = 3;
+  /**
+   * <code>FRONTEND = 4;</code>
+   */
+  public static final int FRONTEND_VALUE = 4;
+  /**
+   * <code>INGEST_NODE = 5;</code>
+   */
+  public static final int INGEST_NODE_VALUE = 5;
+  /**
+   * <code>STORE_NODE = 6;</code>
+   */
+  public static final int STORE_NODE_VALUE = 6;
+  /**
+   * <code>COMPUTE_WORKER = 7;</code>
+   */
+  public static final int COMPUTE_WORKER_VALUE = 7;
+  /**
+   * <code>COMPUTE_MASTER = 8;</code>
+   */
+  public static final int COMPUTE_MASTER_VALUE = 8;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static RoleType valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static RoleType forNumber(int value) {
+    switch (value) {
+      case 0: return AM;
+      case 1: return EXECUTOR;
+      case 2: return COORDINATOR;
+      case 3: return ID_SERVICE;
+      case 4: return FRONTEND;
+      case 5: return INGEST_NODE;
+      case 6: return STORE_NODE;
+      case 7: return COMPUTE_WORKER;
+      case 8: return COMPUTE_MASTER;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<RoleType>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      RoleType> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<RoleType>() {
+          public RoleType findValueByNumber(int number) {
+            return RoleType.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.ClusterProto.getDescriptor().getEnumTypes().get(0);
+  }
+
+  private static final RoleType[] VALUES = values();
+
+  public static RoleType valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private RoleType(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:RoleType)
+}
+
@@ -0,0 +1,975 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RoutingServerInfoResp}
+ */
+public final class RoutingServerInfoResp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RoutingServerInfoResp)
+    RoutingServerInfoRespOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RoutingServerInfoResp.newBuilder() to construct.
+  private RoutingServerInfoResp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RoutingServerInfoResp() {
+    servingServerId_ = emptyIntList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RoutingServerInfoResp();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RoutingServerInfoResp(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.Response.Builder subBuilder = null;
+            if (resp_ != null) {
+              subBuilder = resp_.toBuilder();
+            }
+            resp_ = input.readMessage(com.alibaba.maxgraph.proto.Response.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(resp_);
+              resp_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.WorkerInfoProtos.Builder subBuilder = null;
+            if (workerInfoProtos_ != null) {
+              subBuilder = workerInfoProtos_.toBuilder();
+            }
+            workerInfoProtos_ = input.readMessage(com.alibaba.maxgraph.proto.WorkerInfoProtos.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(workerInfoProtos_);
+              workerInfoProtos_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 24: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              servingServerId_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            servingServerId_.addInt(input.readInt32());
+            break;
+          }
+          case 26: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              servingServerId_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              servingServerId_.addInt(input.readInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        servingServerId_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_RoutingServerInfoResp_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_RoutingServerInfoResp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RoutingServerInfoResp.class, com.alibaba.maxgraph.proto.RoutingServerInfoResp.Builder.class);
+  }
+
+  public static final int RESP_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.Response resp_;
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return Whether the resp field is set.
+   */
+  @java.lang.Override
+  public boolean hasResp() {
+    return resp_ != null;
+  }
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return The resp.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.Response getResp() {
+    return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+  }
+  /**
+   * <code>.Response resp = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+    return getResp();
+  }
+
+  public static final int WORKERINFOPROTOS_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.WorkerInfoProtos workerInfoProtos_;
+  /**
+   * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+   * @return Whether the workerInfoProtos field is set.
+   */
+  @java.lang.Override
+  public boolean hasWorkerInfoProtos() {
+    return workerInfoProtos_ != null;
+  }
+  /**
+   * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+   * @return The workerInfoProtos.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfoProtos() {
+    return workerInfoProtos_ == null ? com.alibaba.maxgraph.proto.WorkerInfoProtos.getDefaultInstance() : workerInfoProtos_;
+  }
+  /**
+   * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.WorkerInfoProtosOrBuilder getWorkerInfoProtosOrBuilder() {
+    return getWorkerInfoProtos();
+  }
+
+  public static final int SERVINGSERVERID_FIELD_NUMBER = 3;
+  private com.google.protobuf.Internal.IntList servingServerId_;
+  /**
+   * <code>repeated int32 servingServerId = 3;</code>
+   * @return A list containing the servingServerId.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getServingServerIdList() {
+    return servingServerId_;
+  }
+  /**
+   * <code>repeated int32 servingServerId = 3;</code>
+   * @return The count of servingServerId.
+   */
+  public int getServingServerIdCount() {
+    return servingServerId_.size();
+  }
+  /**
+   * <code>repeated int32 servingServerId = 3;</code>
+   * @param index The index of the element to return.
+   * @return The servingServerId at the given index.
+   */
+  public int getServingServerId(int index) {
+    return servingServerId_.getInt(index);
+  }
+  private int servingServerIdMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (resp_ != null) {
+      output.writeMessage(1, getResp());
+    }
+    if (workerInfoProtos_ != null) {
+      output.writeMessage(2, getWorkerInfoProtos());
+    }
+    if (getServingServerIdList().size() > 0) {
+      output.writeUInt32NoTag(26);
+      output.writeUInt32NoTag(servingServerIdMemoizedSerializedSize);
+    }
+    for (int i = 0; i < servingServerId_.size(); i++) {
+      output.writeInt32NoTag(servingServerId_.getInt(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (resp_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getResp());
+    }
+    if (workerInfoProtos_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getWorkerInfoProtos());
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < servingServerId_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(servingServerId_.getInt(i));
+      }
+      size += dataSize;
+      if (!getServingServerIdList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      servingServerIdMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RoutingServerInfoResp)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RoutingServerInfoResp other = (com.alibaba.maxgraph.proto.RoutingServerInfoResp) obj;
+
+    if (hasResp() != other.hasResp()) return false;
+    if (hasResp()) {
+      if (!getResp()
+          .equals(other.getResp())) return false;
+    }
+    if (hasWorkerInfoProtos() != other.hasWorkerInfoProtos()) return false;
+    if (hasWorkerInfoProtos()) {
+      if (!getWorkerInfoProtos()
+          .equals(other.getWorkerInfoProtos())) return false;
+    }
+    if (!getServingServerIdList()
+        .equals(other.getServingServerIdList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasResp()) {
+      hash = (37 * hash) + RESP_FIELD_NUMBER;
+      hash = (53 * hash) + getResp().hashCode();
+    }
+    if (hasWorkerInfoProtos()) {
+      hash = (37 * hash) + WORKERINFOPROTOS_FIELD_NUMBER;
+      hash = (53 * hash) + getWorkerInfoProtos().hashCode();
+    }
+    if (getServingServerIdCount() > 0) {
+      hash = (37 * hash) + SERVINGSERVERID_FIELD_NUMBER;
+      hash = (53 * hash) + getServingServerIdList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RoutingServerInfoResp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RoutingServerInfoResp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RoutingServerInfoResp)
+      com.alibaba.maxgraph.proto.RoutingServerInfoRespOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RoutingServerInfoResp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RoutingServerInfoResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RoutingServerInfoResp.class, com.alibaba.maxgraph.proto.RoutingServerInfoResp.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RoutingServerInfoResp.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (respBuilder_ == null) {
+        resp_ = null;
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+      if (workerInfoProtosBuilder_ == null) {
+        workerInfoProtos_ = null;
+      } else {
+        workerInfoProtos_ = null;
+        workerInfoProtosBuilder_ = null;
+      }
+      servingServerId_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RoutingServerInfoResp_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RoutingServerInfoResp getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RoutingServerInfoResp.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RoutingServerInfoResp build() {
+      com.alibaba.maxgraph.proto.RoutingServerInfoResp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RoutingServerInfoResp buildPartial() {
+      com.alibaba.maxgraph.proto.RoutingServerInfoResp result = new com.alibaba.maxgraph.proto.RoutingServerInfoResp(this);
+      int from_bitField0_ = bitField0_;
+      if (respBuilder_ == null) {
+        result.resp_ = resp_;
+      } else {
+        result.resp_ = respBuilder_.build();
+      }
+      if (workerInfoProtosBuilder_ == null) {
+        result.workerInfoProtos_ = workerInfoProtos_;
+      } else {
+        result.workerInfoProtos_ = workerInfoProtosBuilder_.build();
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        servingServerId_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.servingServerId_ = servingServerId_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RoutingServerInfoResp) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RoutingServerInfoResp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RoutingServerInfoResp other) {
+      if (other == com.alibaba.maxgraph.proto.RoutingServerInfoResp.getDefaultInstance()) return this;
+      if (other.hasResp()) {
+        mergeResp(other.getResp());
+      }
+      if (other.hasWorkerInfoProtos()) {
+        mergeWorkerInfoProtos(other.getWorkerInfoProtos());
+      }
+      if (!other.servingServerId_.isEmpty()) {
+        if (servingServerId_.isEmpty()) {
+          servingServerId_ = other.servingServerId_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureServingServerIdIsMutable();
+          servingServerId_.addAll(other.servingServerId_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RoutingServerInfoResp parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RoutingServerInfoResp) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.alibaba.maxgraph.proto.Response resp_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> respBuilder_;
+    /**
+     * <code>.Response resp = 1;</code>
+     * @return Whether the resp field is set.
+     */
+    public boolean hasResp() {
+      return respBuilder_ != null || resp_ != null;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     * @return The resp.
+     */
+    public com.alibaba.maxgraph.proto.Response getResp() {
+      if (respBuilder_ == null) {
+        return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      } else {
+        return respBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder setResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        resp_ = value;
+        onChanged();
+      } else {
+        respBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder setResp(
+        com.alibaba.maxgraph.proto.Response.Builder builderForValue) {
+      if (respBuilder_ == null) {
+        resp_ = builderForValue.build();
+        onChanged();
+      } else {
+        respBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder mergeResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (resp_ != null) {
+          resp_ =
+            com.alibaba.maxgraph.proto.Response.newBuilder(resp_).mergeFrom(value).buildPartial();
+        } else {
+          resp_ = value;
+        }
+        onChanged();
+      } else {
+        respBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder clearResp() {
+      if (respBuilder_ == null) {
+        resp_ = null;
+        onChanged();
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response.Builder getRespBuilder() {
+      
+      onChanged();
+      return getRespFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+      if (respBuilder_ != null) {
+        return respBuilder_.getMessageOrBuilder();
+      } else {
+        return resp_ == null ?
+            com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      }
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> 
+        getRespFieldBuilder() {
+      if (respBuilder_ == null) {
+        respBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder>(
+                getResp(),
+                getParentForChildren(),
+                isClean());
+        resp_ = null;
+      }
+      return respBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.WorkerInfoProtos workerInfoProtos_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.WorkerInfoProtos, com.alibaba.maxgraph.proto.WorkerInfoProtos.Builder, com.alibaba.maxgraph.proto.WorkerInfoProtosOrBuilder> workerInfoProtosBuilder_;
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     * @return Whether the workerInfoProtos field is set.
+     */
+    public boolean hasWorkerInfoProtos() {
+      return workerInfoProtosBuilder_ != null || workerInfoProtos_ != null;
+    }
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     * @return The workerInfoProtos.
+     */
+    public com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfoProtos() {
+      if (workerInfoProtosBuilder_ == null) {
+        return workerInfoProtos_ == null ? com.alibaba.maxgraph.proto.WorkerInfoProtos.getDefaultInstance() : workerInfoProtos_;
+      } else {
+        return workerInfoProtosBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     */
+    public Builder setWorkerInfoProtos(com.alibaba.maxgraph.proto.WorkerInfoProtos value) {
+      if (workerInfoProtosBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        workerInfoProtos_ = value;
+        onChanged();
+      } else {
+        workerInfoProtosBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     */
+    public Builder setWorkerInfoProtos(
+        com.alibaba.maxgraph.proto.WorkerInfoProtos.Builder builderForValue) {
+      if (workerInfoProtosBuilder_ == null) {
+        workerInfoProtos_ = builderForValue.build();
+        onChanged();
+      } else {
+        workerInfoProtosBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     */
+    public Builder mergeWorkerInfoProtos(com.alibaba.maxgraph.proto.WorkerInfoProtos value) {
+      if (workerInfoProtosBuilder_ == null) {
+        if (workerInfoProtos_ != null) {
+          workerInfoProtos_ =
+            com.alibaba.maxgraph.proto.WorkerInfoProtos.newBuilder(workerInfoProtos_).mergeFrom(value).buildPartial();
+        } else {
+          workerInfoProtos_ = value;
+        }
+        onChanged();
+      } else {
+        workerInfoProtosBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     */
+    public Builder clearWorkerInfoProtos() {
+      if (workerInfoProtosBuilder_ == null) {
+        workerInfoProtos_ = null;
+        onChanged();
+      } else {
+        workerInfoProtos_ = null;
+        workerInfoProtosBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.WorkerInfoProtos.Builder getWorkerInfoProtosBuilder() {
+      
+      onChanged();
+      return getWorkerInfoProtosFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.WorkerInfoProtosOrBuilder getWorkerInfoProtosOrBuilder() {
+      if (workerInfoProtosBuilder_ != null) {
+        return workerInfoProtosBuilder_.getMessageOrBuilder();
+      } else {
+        return workerInfoProtos_ == null ?
+            com.alibaba.maxgraph.proto.WorkerInfoProtos.getDefaultInstance() : workerInfoProtos_;
+      }
+    }
+    /**
+     * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.WorkerInfoProtos, com.alibaba.maxgraph.proto.WorkerInfoProtos.Builder, com.alibaba.maxgraph.proto.WorkerInfoProtosOrBuilder> 
+        getWorkerInfoProtosFieldBuilder() {
+      if (workerInfoProtosBuilder_ == null) {
+        workerInfoProtosBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.WorkerInfoProtos, com.alibaba.maxgraph.proto.WorkerInfoProtos.Builder, com.alibaba.maxgraph.proto.WorkerInfoProtosOrBuilder>(
+                getWorkerInfoProtos(),
+                getParentForChildren(),
+                isClean());
+        workerInfoProtos_ = null;
+      }
+      return workerInfoProtosBuilder_;
+    }
+
+    private com.google.protobuf.Internal.IntList servingServerId_ = emptyIntList();
+    private void ensureServingServerIdIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        servingServerId_ = mutableCopy(servingServerId_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated int32 servingServerId = 3;</code>
+     * @return A list containing the servingServerId.
+     */
+    public java.util.List<java.lang.Integer>
+        getServingServerIdList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(servingServerId_) : servingServerId_;
+    }
+    /**
+     * <code>repeated int32 servingServerId = 3;</code>
+     * @return The count of servingServerId.
+     */
+    public int getServingServerIdCount() {
+      return servingServerId_.size();
+    }
+    /**
+     * <code>repeated int32 servingServerId = 3;</code>
+     * @param index The index of the element to return.
+     * @return The servingServerId at the given index.
+     */
+    public int getServingServerId(int index) {
+      return servingServerId_.getInt(index);
+    }
+    /**
+     * <code>repeated int32 servingServerId = 3;</code>
+     * @param index The index to set the value at.
+     * @param value The servingServerId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setServingServerId(
+        int index, int value) {
+      ensureServingServerIdIsMutable();
+      servingServerId_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 servingServerId = 3;</code>
+     * @param value The servingServerId to add.
+     * @return This builder for chaining.
+     */
+    public Builder addServingServerId(int value) {
+      ensureServingServerIdIsMutable();
+      servingServerId_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 servingServerId = 3;</code>
+     * @param values The servingServerId to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllServingServerId(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureServingServerIdIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, servingServerId_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 servingServerId = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearServingServerId() {
+      servingServerId_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RoutingServerInfoResp)
+  }
+
+  // @@protoc_insertion_point(class_scope:RoutingServerInfoResp)
+  private static final com.alibaba.maxgraph.proto.RoutingServerInfoResp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RoutingServerInfoResp();
+  }
+
+  public static com.alibaba.maxgraph.proto.RoutingServerInfoResp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RoutingServerInfoResp>
+      PARSER = new com.google.protobuf.AbstractParser<RoutingServerInfoResp>() {
+    @java.lang.Override
+    public RoutingServerInfoResp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RoutingServerInfoResp(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RoutingServerInfoResp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RoutingServerInfoResp> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RoutingServerInfoResp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
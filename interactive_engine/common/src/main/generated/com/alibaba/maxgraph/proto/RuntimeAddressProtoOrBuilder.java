@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RuntimeAddressProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RuntimeAddressProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string ip = 1;</code>
+   * @return The ip.
+   */
+  java.lang.String getIp();
+  /**
+   * <code>string ip = 1;</code>
+   * @return The bytes for ip.
+   */
+  com.google.protobuf.ByteString
+      getIpBytes();
+
+  /**
+   * <code>int32 store_port = 2;</code>
+   * @return The storePort.
+   */
+  int getStorePort();
+
+  /**
+   * <code>int32 runtime_port = 3;</code>
+   * @return The runtimePort.
+   */
+  int getRuntimePort();
+}
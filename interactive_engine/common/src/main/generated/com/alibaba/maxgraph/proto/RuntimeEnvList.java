@@ -0,0 +1,614 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RuntimeEnvList}
+ */
+public final class RuntimeEnvList extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RuntimeEnvList)
+    RuntimeEnvListOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RuntimeEnvList.newBuilder() to construct.
+  private RuntimeEnvList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RuntimeEnvList() {
+    envs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RuntimeEnvList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RuntimeEnvList(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              envs_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            envs_.add(s);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        envs_ = envs_.getUnmodifiableView();
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.ClusterProto.internal_static_RuntimeEnvList_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.ClusterProto.internal_static_RuntimeEnvList_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RuntimeEnvList.class, com.alibaba.maxgraph.proto.RuntimeEnvList.Builder.class);
+  }
+
+  public static final int ENVS_FIELD_NUMBER = 1;
+  private com.google.protobuf.LazyStringList envs_;
+  /**
+   * <code>repeated string envs = 1;</code>
+   * @return A list containing the envs.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getEnvsList() {
+    return envs_;
+  }
+  /**
+   * <code>repeated string envs = 1;</code>
+   * @return The count of envs.
+   */
+  public int getEnvsCount() {
+    return envs_.size();
+  }
+  /**
+   * <code>repeated string envs = 1;</code>
+   * @param index The index of the element to return.
+   * @return The envs at the given index.
+   */
+  public java.lang.String getEnvs(int index) {
+    return envs_.get(index);
+  }
+  /**
+   * <code>repeated string envs = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the envs at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getEnvsBytes(int index) {
+    return envs_.getByteString(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < envs_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, envs_.getRaw(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < envs_.size(); i++) {
+        dataSize += computeStringSizeNoTag(envs_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getEnvsList().size();
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RuntimeEnvList)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RuntimeEnvList other = (com.alibaba.maxgraph.proto.RuntimeEnvList) obj;
+
+    if (!getEnvsList()
+        .equals(other.getEnvsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getEnvsCount() > 0) {
+      hash = (37 * hash) + ENVS_FIELD_NUMBER;
+      hash = (53 * hash) + getEnvsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RuntimeEnvList prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RuntimeEnvList}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RuntimeEnvList)
+      com.alibaba.maxgraph.proto.RuntimeEnvListOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_RuntimeEnvList_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_RuntimeEnvList_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RuntimeEnvList.class, com.alibaba.maxgraph.proto.RuntimeEnvList.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RuntimeEnvList.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      envs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.ClusterProto.internal_static_RuntimeEnvList_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeEnvList getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RuntimeEnvList.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeEnvList build() {
+      com.alibaba.maxgraph.proto.RuntimeEnvList result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeEnvList buildPartial() {
+      com.alibaba.maxgraph.proto.RuntimeEnvList result = new com.alibaba.maxgraph.proto.RuntimeEnvList(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        envs_ = envs_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.envs_ = envs_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RuntimeEnvList) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RuntimeEnvList)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RuntimeEnvList other) {
+      if (other == com.alibaba.maxgraph.proto.RuntimeEnvList.getDefaultInstance()) return this;
+      if (!other.envs_.isEmpty()) {
+        if (envs_.isEmpty()) {
+          envs_ = other.envs_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureEnvsIsMutable();
+          envs_.addAll(other.envs_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RuntimeEnvList parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RuntimeEnvList) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.LazyStringList envs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureEnvsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        envs_ = new com.google.protobuf.LazyStringArrayList(envs_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @return A list containing the envs.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getEnvsList() {
+      return envs_.getUnmodifiableView();
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @return The count of envs.
+     */
+    public int getEnvsCount() {
+      return envs_.size();
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @param index The index of the element to return.
+     * @return The envs at the given index.
+     */
+    public java.lang.String getEnvs(int index) {
+      return envs_.get(index);
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the envs at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getEnvsBytes(int index) {
+      return envs_.getByteString(index);
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The envs to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEnvs(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureEnvsIsMutable();
+      envs_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @param value The envs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addEnvs(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureEnvsIsMutable();
+      envs_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @param values The envs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllEnvs(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureEnvsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, envs_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearEnvs() {
+      envs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string envs = 1;</code>
+     * @param value The bytes of the envs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addEnvsBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureEnvsIsMutable();
+      envs_.add(value);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RuntimeEnvList)
+  }
+
+  // @@protoc_insertion_point(class_scope:RuntimeEnvList)
+  private static final com.alibaba.maxgraph.proto.RuntimeEnvList DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RuntimeEnvList();
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeEnvList getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RuntimeEnvList>
+      PARSER = new com.google.protobuf.AbstractParser<RuntimeEnvList>() {
+    @java.lang.Override
+    public RuntimeEnvList parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RuntimeEnvList(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RuntimeEnvList> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RuntimeEnvList> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeEnvList getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RuntimeEnvListOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RuntimeEnvList)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated string envs = 1;</code>
+   * @return A list containing the envs.
+   */
+  java.util.List<java.lang.String>
+      getEnvsList();
+  /**
+   * <code>repeated string envs = 1;</code>
+   * @return The count of envs.
+   */
+  int getEnvsCount();
+  /**
+   * <code>repeated string envs = 1;</code>
+   * @param index The index of the element to return.
+   * @return The envs at the given index.
+   */
+  java.lang.String getEnvs(int index);
+  /**
+   * <code>repeated string envs = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the envs at the given index.
+   */
+  com.google.protobuf.ByteString
+      getEnvsBytes(int index);
+}
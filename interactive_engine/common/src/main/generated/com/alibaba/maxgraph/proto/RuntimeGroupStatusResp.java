@@ -0,0 +1,1161 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: data.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RuntimeGroupStatusResp}
+ */
+public final class RuntimeGroupStatusResp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RuntimeGroupStatusResp)
+    RuntimeGroupStatusRespOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RuntimeGroupStatusResp.newBuilder() to construct.
+  private RuntimeGroupStatusResp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RuntimeGroupStatusResp() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RuntimeGroupStatusResp();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RuntimeGroupStatusResp(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.Response.Builder subBuilder = null;
+            if (response_ != null) {
+              subBuilder = response_.toBuilder();
+            }
+            response_ = input.readMessage(com.alibaba.maxgraph.proto.Response.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(response_);
+              response_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              runtimeGroupsStstus_ = com.google.protobuf.MapField.newMapField(
+                  RuntimeGroupsStstusDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+            runtimeGroupsStstus__ = input.readMessage(
+                RuntimeGroupsStstusDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            runtimeGroupsStstus_.getMutableMap().put(
+                runtimeGroupsStstus__.getKey(), runtimeGroupsStstus__.getValue());
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Data.internal_static_RuntimeGroupStatusResp_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 2:
+        return internalGetRuntimeGroupsStstus();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Data.internal_static_RuntimeGroupStatusResp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.class, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code RuntimeGroupStatusResp.Status}
+   */
+  public enum Status
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>STARTING = 0;</code>
+     */
+    STARTING(0),
+    /**
+     * <code>READY = 1;</code>
+     */
+    READY(1),
+    /**
+     * <code>RUNNING = 2;</code>
+     */
+    RUNNING(2),
+    /**
+     * <code>RESTORE = 3;</code>
+     */
+    RESTORE(3),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>STARTING = 0;</code>
+     */
+    public static final int STARTING_VALUE = 0;
+    /**
+     * <code>READY = 1;</code>
+     */
+    public static final int READY_VALUE = 1;
+    /**
+     * <code>RUNNING = 2;</code>
+     */
+    public static final int RUNNING_VALUE = 2;
+    /**
+     * <code>RESTORE = 3;</code>
+     */
+    public static final int RESTORE_VALUE = 3;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Status valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Status forNumber(int value) {
+      switch (value) {
+        case 0: return STARTING;
+        case 1: return READY;
+        case 2: return RUNNING;
+        case 3: return RESTORE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Status>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Status> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Status>() {
+            public Status findValueByNumber(int number) {
+              return Status.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Status[] VALUES = values();
+
+    public static Status valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Status(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:RuntimeGroupStatusResp.Status)
+  }
+
+  public static final int RESPONSE_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.Response response_;
+  /**
+   * <code>.Response response = 1;</code>
+   * @return Whether the response field is set.
+   */
+  @java.lang.Override
+  public boolean hasResponse() {
+    return response_ != null;
+  }
+  /**
+   * <code>.Response response = 1;</code>
+   * @return The response.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.Response getResponse() {
+    return response_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : response_;
+  }
+  /**
+   * <code>.Response response = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ResponseOrBuilder getResponseOrBuilder() {
+    return getResponse();
+  }
+
+  public static final int RUNTIMEGROUPSSTSTUS_FIELD_NUMBER = 2;
+  private static final class RuntimeGroupsStstusDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, java.lang.Integer> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, java.lang.Integer>newDefaultInstance(
+                com.alibaba.maxgraph.proto.Data.internal_static_RuntimeGroupStatusResp_RuntimeGroupsStstusEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.ENUM,
+                com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status.STARTING.getNumber());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, java.lang.Integer> runtimeGroupsStstus_;
+  private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+  internalGetRuntimeGroupsStstus() {
+    if (runtimeGroupsStstus_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          RuntimeGroupsStstusDefaultEntryHolder.defaultEntry);
+    }
+    return runtimeGroupsStstus_;
+  }
+  private static final
+  com.google.protobuf.Internal.MapAdapter.Converter<
+      java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status> runtimeGroupsStstusValueConverter =
+          com.google.protobuf.Internal.MapAdapter.newEnumConverter(
+              com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status.internalGetValueMap(),
+              com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status.UNRECOGNIZED);
+  private static final java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status>
+  internalGetAdaptedRuntimeGroupsStstusMap(
+      java.util.Map<java.lang.Integer, java.lang.Integer> map) {
+    return new com.google.protobuf.Internal.MapAdapter<
+        java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status, java.lang.Integer>(
+            map, runtimeGroupsStstusValueConverter);
+  }
+
+  public int getRuntimeGroupsStstusCount() {
+    return internalGetRuntimeGroupsStstus().getMap().size();
+  }
+  /**
+   * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsRuntimeGroupsStstus(
+      int key) {
+    
+    return internalGetRuntimeGroupsStstus().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getRuntimeGroupsStstusMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status>
+  getRuntimeGroupsStstus() {
+    return getRuntimeGroupsStstusMap();
+  }
+  /**
+   * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status>
+  getRuntimeGroupsStstusMap() {
+    return internalGetAdaptedRuntimeGroupsStstusMap(
+        internalGetRuntimeGroupsStstus().getMap());}
+  /**
+   * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status getRuntimeGroupsStstusOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status defaultValue) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetRuntimeGroupsStstus().getMap();
+    return map.containsKey(key)
+           ? runtimeGroupsStstusValueConverter.doForward(map.get(key))
+           : defaultValue;
+  }
+  /**
+   * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status getRuntimeGroupsStstusOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetRuntimeGroupsStstus().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return runtimeGroupsStstusValueConverter.doForward(map.get(key));
+  }
+  /**
+   * Use {@link #getRuntimeGroupsStstusValueMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, java.lang.Integer>
+  getRuntimeGroupsStstusValue() {
+    return getRuntimeGroupsStstusValueMap();
+  }
+  /**
+   * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, java.lang.Integer>
+  getRuntimeGroupsStstusValueMap() {
+    return internalGetRuntimeGroupsStstus().getMap();
+  }
+  /**
+   * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+   */
+  @java.lang.Override
+
+  public int getRuntimeGroupsStstusValueOrDefault(
+      int key,
+      int defaultValue) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetRuntimeGroupsStstus().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+   */
+  @java.lang.Override
+
+  public int getRuntimeGroupsStstusValueOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetRuntimeGroupsStstus().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (response_ != null) {
+      output.writeMessage(1, getResponse());
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetRuntimeGroupsStstus(),
+        RuntimeGroupsStstusDefaultEntryHolder.defaultEntry,
+        2);
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (response_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getResponse());
+    }
+    for (java.util.Map.Entry<java.lang.Integer, java.lang.Integer> entry
+         : internalGetRuntimeGroupsStstus().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+      runtimeGroupsStstus__ = RuntimeGroupsStstusDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, runtimeGroupsStstus__);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RuntimeGroupStatusResp)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RuntimeGroupStatusResp other = (com.alibaba.maxgraph.proto.RuntimeGroupStatusResp) obj;
+
+    if (hasResponse() != other.hasResponse()) return false;
+    if (hasResponse()) {
+      if (!getResponse()
+          .equals(other.getResponse())) return false;
+    }
+    if (!internalGetRuntimeGroupsStstus().equals(
+        other.internalGetRuntimeGroupsStstus())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasResponse()) {
+      hash = (37 * hash) + RESPONSE_FIELD_NUMBER;
+      hash = (53 * hash) + getResponse().hashCode();
+    }
+    if (!internalGetRuntimeGroupsStstus().getMap().isEmpty()) {
+      hash = (37 * hash) + RUNTIMEGROUPSSTSTUS_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetRuntimeGroupsStstus().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RuntimeGroupStatusResp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RuntimeGroupStatusResp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RuntimeGroupStatusResp)
+      com.alibaba.maxgraph.proto.RuntimeGroupStatusRespOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_RuntimeGroupStatusResp_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetRuntimeGroupsStstus();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetMutableRuntimeGroupsStstus();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_RuntimeGroupStatusResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.class, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (responseBuilder_ == null) {
+        response_ = null;
+      } else {
+        response_ = null;
+        responseBuilder_ = null;
+      }
+      internalGetMutableRuntimeGroupsStstus().clear();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Data.internal_static_RuntimeGroupStatusResp_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp build() {
+      com.alibaba.maxgraph.proto.RuntimeGroupStatusResp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp buildPartial() {
+      com.alibaba.maxgraph.proto.RuntimeGroupStatusResp result = new com.alibaba.maxgraph.proto.RuntimeGroupStatusResp(this);
+      int from_bitField0_ = bitField0_;
+      if (responseBuilder_ == null) {
+        result.response_ = response_;
+      } else {
+        result.response_ = responseBuilder_.build();
+      }
+      result.runtimeGroupsStstus_ = internalGetRuntimeGroupsStstus();
+      result.runtimeGroupsStstus_.makeImmutable();
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RuntimeGroupStatusResp) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RuntimeGroupStatusResp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RuntimeGroupStatusResp other) {
+      if (other == com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.getDefaultInstance()) return this;
+      if (other.hasResponse()) {
+        mergeResponse(other.getResponse());
+      }
+      internalGetMutableRuntimeGroupsStstus().mergeFrom(
+          other.internalGetRuntimeGroupsStstus());
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RuntimeGroupStatusResp parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RuntimeGroupStatusResp) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.alibaba.maxgraph.proto.Response response_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> responseBuilder_;
+    /**
+     * <code>.Response response = 1;</code>
+     * @return Whether the response field is set.
+     */
+    public boolean hasResponse() {
+      return responseBuilder_ != null || response_ != null;
+    }
+    /**
+     * <code>.Response response = 1;</code>
+     * @return The response.
+     */
+    public com.alibaba.maxgraph.proto.Response getResponse() {
+      if (responseBuilder_ == null) {
+        return response_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : response_;
+      } else {
+        return responseBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.Response response = 1;</code>
+     */
+    public Builder setResponse(com.alibaba.maxgraph.proto.Response value) {
+      if (responseBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        response_ = value;
+        onChanged();
+      } else {
+        responseBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response response = 1;</code>
+     */
+    public Builder setResponse(
+        com.alibaba.maxgraph.proto.Response.Builder builderForValue) {
+      if (responseBuilder_ == null) {
+        response_ = builderForValue.build();
+        onChanged();
+      } else {
+        responseBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response response = 1;</code>
+     */
+    public Builder mergeResponse(com.alibaba.maxgraph.proto.Response value) {
+      if (responseBuilder_ == null) {
+        if (response_ != null) {
+          response_ =
+            com.alibaba.maxgraph.proto.Response.newBuilder(response_).mergeFrom(value).buildPartial();
+        } else {
+          response_ = value;
+        }
+        onChanged();
+      } else {
+        responseBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response response = 1;</code>
+     */
+    public Builder clearResponse() {
+      if (responseBuilder_ == null) {
+        response_ = null;
+        onChanged();
+      } else {
+        response_ = null;
+        responseBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response response = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response.Builder getResponseBuilder() {
+      
+      onChanged();
+      return getResponseFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.Response response = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.ResponseOrBuilder getResponseOrBuilder() {
+      if (responseBuilder_ != null) {
+        return responseBuilder_.getMessageOrBuilder();
+      } else {
+        return response_ == null ?
+            com.alibaba.maxgraph.proto.Response.getDefaultInstance() : response_;
+      }
+    }
+    /**
+     * <code>.Response response = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> 
+        getResponseFieldBuilder() {
+      if (responseBuilder_ == null) {
+        responseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder>(
+                getResponse(),
+                getParentForChildren(),
+                isClean());
+        response_ = null;
+      }
+      return responseBuilder_;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, java.lang.Integer> runtimeGroupsStstus_;
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetRuntimeGroupsStstus() {
+      if (runtimeGroupsStstus_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            RuntimeGroupsStstusDefaultEntryHolder.defaultEntry);
+      }
+      return runtimeGroupsStstus_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetMutableRuntimeGroupsStstus() {
+      onChanged();;
+      if (runtimeGroupsStstus_ == null) {
+        runtimeGroupsStstus_ = com.google.protobuf.MapField.newMapField(
+            RuntimeGroupsStstusDefaultEntryHolder.defaultEntry);
+      }
+      if (!runtimeGroupsStstus_.isMutable()) {
+        runtimeGroupsStstus_ = runtimeGroupsStstus_.copy();
+      }
+      return runtimeGroupsStstus_;
+    }
+
+    public int getRuntimeGroupsStstusCount() {
+      return internalGetRuntimeGroupsStstus().getMap().size();
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsRuntimeGroupsStstus(
+        int key) {
+      
+      return internalGetRuntimeGroupsStstus().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getRuntimeGroupsStstusMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status>
+    getRuntimeGroupsStstus() {
+      return getRuntimeGroupsStstusMap();
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status>
+    getRuntimeGroupsStstusMap() {
+      return internalGetAdaptedRuntimeGroupsStstusMap(
+          internalGetRuntimeGroupsStstus().getMap());}
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status getRuntimeGroupsStstusOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status defaultValue) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetRuntimeGroupsStstus().getMap();
+      return map.containsKey(key)
+             ? runtimeGroupsStstusValueConverter.doForward(map.get(key))
+             : defaultValue;
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status getRuntimeGroupsStstusOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetRuntimeGroupsStstus().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return runtimeGroupsStstusValueConverter.doForward(map.get(key));
+    }
+    /**
+     * Use {@link #getRuntimeGroupsStstusValueMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer>
+    getRuntimeGroupsStstusValue() {
+      return getRuntimeGroupsStstusValueMap();
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, java.lang.Integer>
+    getRuntimeGroupsStstusValueMap() {
+      return internalGetRuntimeGroupsStstus().getMap();
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    @java.lang.Override
+
+    public int getRuntimeGroupsStstusValueOrDefault(
+        int key,
+        int defaultValue) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetRuntimeGroupsStstus().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    @java.lang.Override
+
+    public int getRuntimeGroupsStstusValueOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetRuntimeGroupsStstus().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearRuntimeGroupsStstus() {
+      internalGetMutableRuntimeGroupsStstus().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+
+    public Builder removeRuntimeGroupsStstus(
+        int key) {
+      
+      internalGetMutableRuntimeGroupsStstus().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status>
+    getMutableRuntimeGroupsStstus() {
+      return internalGetAdaptedRuntimeGroupsStstusMap(
+           internalGetMutableRuntimeGroupsStstus().getMutableMap());
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    public Builder putRuntimeGroupsStstus(
+        int key,
+        com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutableRuntimeGroupsStstus().getMutableMap()
+          .put(key, runtimeGroupsStstusValueConverter.doBackward(value));
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    public Builder putAllRuntimeGroupsStstus(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.Status> values) {
+      internalGetAdaptedRuntimeGroupsStstusMap(
+          internalGetMutableRuntimeGroupsStstus().getMutableMap())
+              .putAll(values);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer>
+    getMutableRuntimeGroupsStstusValue() {
+      return internalGetMutableRuntimeGroupsStstus().getMutableMap();
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    public Builder putRuntimeGroupsStstusValue(
+        int key,
+        int value) {
+      
+      internalGetMutableRuntimeGroupsStstus().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .RuntimeGroupStatusResp.Status&gt; runtimeGroupsStstus = 2;</code>
+     */
+    public Builder putAllRuntimeGroupsStstusValue(
+        java.util.Map<java.lang.Integer, java.lang.Integer> values) {
+      internalGetMutableRuntimeGroupsStstus().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RuntimeGroupStatusResp)
+  }
+
+  // @@protoc_insertion_point(class_scope:RuntimeGroupStatusResp)
+  private static final com.alibaba.maxgraph.proto.RuntimeGroupStatusResp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RuntimeGroupStatusResp();
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeGroupStatusResp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RuntimeGroupStatusResp>
+      PARSER = new com.google.protobuf.AbstractParser<RuntimeGroupStatusResp>() {
+    @java.lang.Override
+    public RuntimeGroupStatusResp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RuntimeGroupStatusResp(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RuntimeGroupStatusResp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RuntimeGroupStatusResp> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,940 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RuntimeHBReq}
+ */
+public final class RuntimeHBReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RuntimeHBReq)
+    RuntimeHBReqOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RuntimeHBReq.newBuilder() to construct.
+  private RuntimeHBReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RuntimeHBReq() {
+    serverStatus_ = 0;
+    processPartitionList_ = emptyIntList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RuntimeHBReq();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RuntimeHBReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            int rawValue = input.readEnum();
+
+            serverStatus_ = rawValue;
+            break;
+          }
+          case 16: {
+
+            runtimePort_ = input.readInt32();
+            break;
+          }
+          case 24: {
+
+            workerNumPerProcess_ = input.readUInt32();
+            break;
+          }
+          case 32: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              processPartitionList_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            processPartitionList_.addInt(input.readUInt32());
+            break;
+          }
+          case 34: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              processPartitionList_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              processPartitionList_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        processPartitionList_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBReq_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RuntimeHBReq.class, com.alibaba.maxgraph.proto.RuntimeHBReq.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code RuntimeHBReq.RuntimeStatus}
+   */
+  public enum RuntimeStatus
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>DOWN = 0;</code>
+     */
+    DOWN(0),
+    /**
+     * <code>STARTING = 1;</code>
+     */
+    STARTING(1),
+    /**
+     * <code>RUNNING = 2;</code>
+     */
+    RUNNING(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>DOWN = 0;</code>
+     */
+    public static final int DOWN_VALUE = 0;
+    /**
+     * <code>STARTING = 1;</code>
+     */
+    public static final int STARTING_VALUE = 1;
+    /**
+     * <code>RUNNING = 2;</code>
+     */
+    public static final int RUNNING_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static RuntimeStatus valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static RuntimeStatus forNumber(int value) {
+      switch (value) {
+        case 0: return DOWN;
+        case 1: return STARTING;
+        case 2: return RUNNING;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<RuntimeStatus>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        RuntimeStatus> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<RuntimeStatus>() {
+            public RuntimeStatus findValueByNumber(int number) {
+              return RuntimeStatus.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.RuntimeHBReq.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final RuntimeStatus[] VALUES = values();
+
+    public static RuntimeStatus valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private RuntimeStatus(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:RuntimeHBReq.RuntimeStatus)
+  }
+
+  public static final int SERVERSTATUS_FIELD_NUMBER = 1;
+  private int serverStatus_;
+  /**
+   * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+   * @return The enum numeric value on the wire for serverStatus.
+   */
+  @java.lang.Override public int getServerStatusValue() {
+    return serverStatus_;
+  }
+  /**
+   * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+   * @return The serverStatus.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus getServerStatus() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus result = com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus.valueOf(serverStatus_);
+    return result == null ? com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus.UNRECOGNIZED : result;
+  }
+
+  public static final int RUNTIMEPORT_FIELD_NUMBER = 2;
+  private int runtimePort_;
+  /**
+   * <code>int32 runtimePort = 2;</code>
+   * @return The runtimePort.
+   */
+  @java.lang.Override
+  public int getRuntimePort() {
+    return runtimePort_;
+  }
+
+  public static final int WORKER_NUM_PER_PROCESS_FIELD_NUMBER = 3;
+  private int workerNumPerProcess_;
+  /**
+   * <code>uint32 worker_num_per_process = 3;</code>
+   * @return The workerNumPerProcess.
+   */
+  @java.lang.Override
+  public int getWorkerNumPerProcess() {
+    return workerNumPerProcess_;
+  }
+
+  public static final int PROCESS_PARTITION_LIST_FIELD_NUMBER = 4;
+  private com.google.protobuf.Internal.IntList processPartitionList_;
+  /**
+   * <code>repeated uint32 process_partition_list = 4;</code>
+   * @return A list containing the processPartitionList.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getProcessPartitionListList() {
+    return processPartitionList_;
+  }
+  /**
+   * <code>repeated uint32 process_partition_list = 4;</code>
+   * @return The count of processPartitionList.
+   */
+  public int getProcessPartitionListCount() {
+    return processPartitionList_.size();
+  }
+  /**
+   * <code>repeated uint32 process_partition_list = 4;</code>
+   * @param index The index of the element to return.
+   * @return The processPartitionList at the given index.
+   */
+  public int getProcessPartitionList(int index) {
+    return processPartitionList_.getInt(index);
+  }
+  private int processPartitionListMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (serverStatus_ != com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus.DOWN.getNumber()) {
+      output.writeEnum(1, serverStatus_);
+    }
+    if (runtimePort_ != 0) {
+      output.writeInt32(2, runtimePort_);
+    }
+    if (workerNumPerProcess_ != 0) {
+      output.writeUInt32(3, workerNumPerProcess_);
+    }
+    if (getProcessPartitionListList().size() > 0) {
+      output.writeUInt32NoTag(34);
+      output.writeUInt32NoTag(processPartitionListMemoizedSerializedSize);
+    }
+    for (int i = 0; i < processPartitionList_.size(); i++) {
+      output.writeUInt32NoTag(processPartitionList_.getInt(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (serverStatus_ != com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus.DOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, serverStatus_);
+    }
+    if (runtimePort_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, runtimePort_);
+    }
+    if (workerNumPerProcess_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(3, workerNumPerProcess_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < processPartitionList_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(processPartitionList_.getInt(i));
+      }
+      size += dataSize;
+      if (!getProcessPartitionListList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      processPartitionListMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RuntimeHBReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RuntimeHBReq other = (com.alibaba.maxgraph.proto.RuntimeHBReq) obj;
+
+    if (serverStatus_ != other.serverStatus_) return false;
+    if (getRuntimePort()
+        != other.getRuntimePort()) return false;
+    if (getWorkerNumPerProcess()
+        != other.getWorkerNumPerProcess()) return false;
+    if (!getProcessPartitionListList()
+        .equals(other.getProcessPartitionListList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SERVERSTATUS_FIELD_NUMBER;
+    hash = (53 * hash) + serverStatus_;
+    hash = (37 * hash) + RUNTIMEPORT_FIELD_NUMBER;
+    hash = (53 * hash) + getRuntimePort();
+    hash = (37 * hash) + WORKER_NUM_PER_PROCESS_FIELD_NUMBER;
+    hash = (53 * hash) + getWorkerNumPerProcess();
+    if (getProcessPartitionListCount() > 0) {
+      hash = (37 * hash) + PROCESS_PARTITION_LIST_FIELD_NUMBER;
+      hash = (53 * hash) + getProcessPartitionListList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RuntimeHBReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RuntimeHBReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RuntimeHBReq)
+      com.alibaba.maxgraph.proto.RuntimeHBReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBReq_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RuntimeHBReq.class, com.alibaba.maxgraph.proto.RuntimeHBReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RuntimeHBReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      serverStatus_ = 0;
+
+      runtimePort_ = 0;
+
+      workerNumPerProcess_ = 0;
+
+      processPartitionList_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBReq_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeHBReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RuntimeHBReq.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeHBReq build() {
+      com.alibaba.maxgraph.proto.RuntimeHBReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeHBReq buildPartial() {
+      com.alibaba.maxgraph.proto.RuntimeHBReq result = new com.alibaba.maxgraph.proto.RuntimeHBReq(this);
+      int from_bitField0_ = bitField0_;
+      result.serverStatus_ = serverStatus_;
+      result.runtimePort_ = runtimePort_;
+      result.workerNumPerProcess_ = workerNumPerProcess_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        processPartitionList_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.processPartitionList_ = processPartitionList_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RuntimeHBReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RuntimeHBReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RuntimeHBReq other) {
+      if (other == com.alibaba.maxgraph.proto.RuntimeHBReq.getDefaultInstance()) return this;
+      if (other.serverStatus_ != 0) {
+        setServerStatusValue(other.getServerStatusValue());
+      }
+      if (other.getRuntimePort() != 0) {
+        setRuntimePort(other.getRuntimePort());
+      }
+      if (other.getWorkerNumPerProcess() != 0) {
+        setWorkerNumPerProcess(other.getWorkerNumPerProcess());
+      }
+      if (!other.processPartitionList_.isEmpty()) {
+        if (processPartitionList_.isEmpty()) {
+          processPartitionList_ = other.processPartitionList_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureProcessPartitionListIsMutable();
+          processPartitionList_.addAll(other.processPartitionList_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RuntimeHBReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RuntimeHBReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int serverStatus_ = 0;
+    /**
+     * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+     * @return The enum numeric value on the wire for serverStatus.
+     */
+    @java.lang.Override public int getServerStatusValue() {
+      return serverStatus_;
+    }
+    /**
+     * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+     * @param value The enum numeric value on the wire for serverStatus to set.
+     * @return This builder for chaining.
+     */
+    public Builder setServerStatusValue(int value) {
+      
+      serverStatus_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+     * @return The serverStatus.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus getServerStatus() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus result = com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus.valueOf(serverStatus_);
+      return result == null ? com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+     * @param value The serverStatus to set.
+     * @return This builder for chaining.
+     */
+    public Builder setServerStatus(com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      serverStatus_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearServerStatus() {
+      
+      serverStatus_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int runtimePort_ ;
+    /**
+     * <code>int32 runtimePort = 2;</code>
+     * @return The runtimePort.
+     */
+    @java.lang.Override
+    public int getRuntimePort() {
+      return runtimePort_;
+    }
+    /**
+     * <code>int32 runtimePort = 2;</code>
+     * @param value The runtimePort to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRuntimePort(int value) {
+      
+      runtimePort_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 runtimePort = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRuntimePort() {
+      
+      runtimePort_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int workerNumPerProcess_ ;
+    /**
+     * <code>uint32 worker_num_per_process = 3;</code>
+     * @return The workerNumPerProcess.
+     */
+    @java.lang.Override
+    public int getWorkerNumPerProcess() {
+      return workerNumPerProcess_;
+    }
+    /**
+     * <code>uint32 worker_num_per_process = 3;</code>
+     * @param value The workerNumPerProcess to set.
+     * @return This builder for chaining.
+     */
+    public Builder setWorkerNumPerProcess(int value) {
+      
+      workerNumPerProcess_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 worker_num_per_process = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearWorkerNumPerProcess() {
+      
+      workerNumPerProcess_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList processPartitionList_ = emptyIntList();
+    private void ensureProcessPartitionListIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        processPartitionList_ = mutableCopy(processPartitionList_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated uint32 process_partition_list = 4;</code>
+     * @return A list containing the processPartitionList.
+     */
+    public java.util.List<java.lang.Integer>
+        getProcessPartitionListList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(processPartitionList_) : processPartitionList_;
+    }
+    /**
+     * <code>repeated uint32 process_partition_list = 4;</code>
+     * @return The count of processPartitionList.
+     */
+    public int getProcessPartitionListCount() {
+      return processPartitionList_.size();
+    }
+    /**
+     * <code>repeated uint32 process_partition_list = 4;</code>
+     * @param index The index of the element to return.
+     * @return The processPartitionList at the given index.
+     */
+    public int getProcessPartitionList(int index) {
+      return processPartitionList_.getInt(index);
+    }
+    /**
+     * <code>repeated uint32 process_partition_list = 4;</code>
+     * @param index The index to set the value at.
+     * @param value The processPartitionList to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProcessPartitionList(
+        int index, int value) {
+      ensureProcessPartitionListIsMutable();
+      processPartitionList_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 process_partition_list = 4;</code>
+     * @param value The processPartitionList to add.
+     * @return This builder for chaining.
+     */
+    public Builder addProcessPartitionList(int value) {
+      ensureProcessPartitionListIsMutable();
+      processPartitionList_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 process_partition_list = 4;</code>
+     * @param values The processPartitionList to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllProcessPartitionList(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureProcessPartitionListIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, processPartitionList_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 process_partition_list = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProcessPartitionList() {
+      processPartitionList_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RuntimeHBReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:RuntimeHBReq)
+  private static final com.alibaba.maxgraph.proto.RuntimeHBReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RuntimeHBReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeHBReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RuntimeHBReq>
+      PARSER = new com.google.protobuf.AbstractParser<RuntimeHBReq>() {
+    @java.lang.Override
+    public RuntimeHBReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RuntimeHBReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RuntimeHBReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RuntimeHBReq> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeHBReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,49 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RuntimeHBReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RuntimeHBReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+   * @return The enum numeric value on the wire for serverStatus.
+   */
+  int getServerStatusValue();
+  /**
+   * <code>.RuntimeHBReq.RuntimeStatus serverStatus = 1;</code>
+   * @return The serverStatus.
+   */
+  com.alibaba.maxgraph.proto.RuntimeHBReq.RuntimeStatus getServerStatus();
+
+  /**
+   * <code>int32 runtimePort = 2;</code>
+   * @return The runtimePort.
+   */
+  int getRuntimePort();
+
+  /**
+   * <code>uint32 worker_num_per_process = 3;</code>
+   * @return The workerNumPerProcess.
+   */
+  int getWorkerNumPerProcess();
+
+  /**
+   * <code>repeated uint32 process_partition_list = 4;</code>
+   * @return A list containing the processPartitionList.
+   */
+  java.util.List<java.lang.Integer> getProcessPartitionListList();
+  /**
+   * <code>repeated uint32 process_partition_list = 4;</code>
+   * @return The count of processPartitionList.
+   */
+  int getProcessPartitionListCount();
+  /**
+   * <code>repeated uint32 process_partition_list = 4;</code>
+   * @param index The index of the element to return.
+   * @return The processPartitionList at the given index.
+   */
+  int getProcessPartitionList(int index);
+}
@@ -0,0 +1,1311 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RuntimeHBResp}
+ */
+public final class RuntimeHBResp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RuntimeHBResp)
+    RuntimeHBRespOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RuntimeHBResp.newBuilder() to construct.
+  private RuntimeHBResp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RuntimeHBResp() {
+    addresses_ = java.util.Collections.emptyList();
+    taskPartitionList_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RuntimeHBResp();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RuntimeHBResp(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            version_ = input.readInt64();
+            break;
+          }
+          case 16: {
+
+            workerId_ = input.readUInt32();
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              addresses_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RuntimeAddressProto>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            addresses_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.RuntimeAddressProto.parser(), extensionRegistry));
+            break;
+          }
+          case 32: {
+
+            groupId_ = input.readUInt32();
+            break;
+          }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              taskPartitionList_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            taskPartitionList_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        addresses_ = java.util.Collections.unmodifiableList(addresses_);
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        taskPartitionList_ = java.util.Collections.unmodifiableList(taskPartitionList_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBResp_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBResp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RuntimeHBResp.class, com.alibaba.maxgraph.proto.RuntimeHBResp.Builder.class);
+  }
+
+  public static final int VERSION_FIELD_NUMBER = 1;
+  private long version_;
+  /**
+   * <code>int64 version = 1;</code>
+   * @return The version.
+   */
+  @java.lang.Override
+  public long getVersion() {
+    return version_;
+  }
+
+  public static final int WORKERID_FIELD_NUMBER = 2;
+  private int workerId_;
+  /**
+   * <code>uint32 workerId = 2;</code>
+   * @return The workerId.
+   */
+  @java.lang.Override
+  public int getWorkerId() {
+    return workerId_;
+  }
+
+  public static final int ADDRESSES_FIELD_NUMBER = 3;
+  private java.util.List<com.alibaba.maxgraph.proto.RuntimeAddressProto> addresses_;
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.RuntimeAddressProto> getAddressesList() {
+    return addresses_;
+  }
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder> 
+      getAddressesOrBuilderList() {
+    return addresses_;
+  }
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  @java.lang.Override
+  public int getAddressesCount() {
+    return addresses_.size();
+  }
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeAddressProto getAddresses(int index) {
+    return addresses_.get(index);
+  }
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder getAddressesOrBuilder(
+      int index) {
+    return addresses_.get(index);
+  }
+
+  public static final int GROUPID_FIELD_NUMBER = 4;
+  private int groupId_;
+  /**
+   * <code>uint32 groupId = 4;</code>
+   * @return The groupId.
+   */
+  @java.lang.Override
+  public int getGroupId() {
+    return groupId_;
+  }
+
+  public static final int TASK_PARTITION_LIST_FIELD_NUMBER = 5;
+  private java.util.List<com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto> taskPartitionList_;
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto> getTaskPartitionListList() {
+    return taskPartitionList_;
+  }
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder> 
+      getTaskPartitionListOrBuilderList() {
+    return taskPartitionList_;
+  }
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  @java.lang.Override
+  public int getTaskPartitionListCount() {
+    return taskPartitionList_.size();
+  }
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto getTaskPartitionList(int index) {
+    return taskPartitionList_.get(index);
+  }
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder getTaskPartitionListOrBuilder(
+      int index) {
+    return taskPartitionList_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (version_ != 0L) {
+      output.writeInt64(1, version_);
+    }
+    if (workerId_ != 0) {
+      output.writeUInt32(2, workerId_);
+    }
+    for (int i = 0; i < addresses_.size(); i++) {
+      output.writeMessage(3, addresses_.get(i));
+    }
+    if (groupId_ != 0) {
+      output.writeUInt32(4, groupId_);
+    }
+    for (int i = 0; i < taskPartitionList_.size(); i++) {
+      output.writeMessage(5, taskPartitionList_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (version_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, version_);
+    }
+    if (workerId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(2, workerId_);
+    }
+    for (int i = 0; i < addresses_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, addresses_.get(i));
+    }
+    if (groupId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(4, groupId_);
+    }
+    for (int i = 0; i < taskPartitionList_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, taskPartitionList_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RuntimeHBResp)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RuntimeHBResp other = (com.alibaba.maxgraph.proto.RuntimeHBResp) obj;
+
+    if (getVersion()
+        != other.getVersion()) return false;
+    if (getWorkerId()
+        != other.getWorkerId()) return false;
+    if (!getAddressesList()
+        .equals(other.getAddressesList())) return false;
+    if (getGroupId()
+        != other.getGroupId()) return false;
+    if (!getTaskPartitionListList()
+        .equals(other.getTaskPartitionListList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getVersion());
+    hash = (37 * hash) + WORKERID_FIELD_NUMBER;
+    hash = (53 * hash) + getWorkerId();
+    if (getAddressesCount() > 0) {
+      hash = (37 * hash) + ADDRESSES_FIELD_NUMBER;
+      hash = (53 * hash) + getAddressesList().hashCode();
+    }
+    hash = (37 * hash) + GROUPID_FIELD_NUMBER;
+    hash = (53 * hash) + getGroupId();
+    if (getTaskPartitionListCount() > 0) {
+      hash = (37 * hash) + TASK_PARTITION_LIST_FIELD_NUMBER;
+      hash = (53 * hash) + getTaskPartitionListList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RuntimeHBResp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RuntimeHBResp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RuntimeHBResp)
+      com.alibaba.maxgraph.proto.RuntimeHBRespOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBResp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RuntimeHBResp.class, com.alibaba.maxgraph.proto.RuntimeHBResp.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RuntimeHBResp.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getAddressesFieldBuilder();
+        getTaskPartitionListFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      version_ = 0L;
+
+      workerId_ = 0;
+
+      if (addressesBuilder_ == null) {
+        addresses_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        addressesBuilder_.clear();
+      }
+      groupId_ = 0;
+
+      if (taskPartitionListBuilder_ == null) {
+        taskPartitionList_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        taskPartitionListBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeHBResp_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeHBResp getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RuntimeHBResp.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeHBResp build() {
+      com.alibaba.maxgraph.proto.RuntimeHBResp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeHBResp buildPartial() {
+      com.alibaba.maxgraph.proto.RuntimeHBResp result = new com.alibaba.maxgraph.proto.RuntimeHBResp(this);
+      int from_bitField0_ = bitField0_;
+      result.version_ = version_;
+      result.workerId_ = workerId_;
+      if (addressesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          addresses_ = java.util.Collections.unmodifiableList(addresses_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.addresses_ = addresses_;
+      } else {
+        result.addresses_ = addressesBuilder_.build();
+      }
+      result.groupId_ = groupId_;
+      if (taskPartitionListBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) != 0)) {
+          taskPartitionList_ = java.util.Collections.unmodifiableList(taskPartitionList_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.taskPartitionList_ = taskPartitionList_;
+      } else {
+        result.taskPartitionList_ = taskPartitionListBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RuntimeHBResp) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RuntimeHBResp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RuntimeHBResp other) {
+      if (other == com.alibaba.maxgraph.proto.RuntimeHBResp.getDefaultInstance()) return this;
+      if (other.getVersion() != 0L) {
+        setVersion(other.getVersion());
+      }
+      if (other.getWorkerId() != 0) {
+        setWorkerId(other.getWorkerId());
+      }
+      if (addressesBuilder_ == null) {
+        if (!other.addresses_.isEmpty()) {
+          if (addresses_.isEmpty()) {
+            addresses_ = other.addresses_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureAddressesIsMutable();
+            addresses_.addAll(other.addresses_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.addresses_.isEmpty()) {
+          if (addressesBuilder_.isEmpty()) {
+            addressesBuilder_.dispose();
+            addressesBuilder_ = null;
+            addresses_ = other.addresses_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            addressesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getAddressesFieldBuilder() : null;
+          } else {
+            addressesBuilder_.addAllMessages(other.addresses_);
+          }
+        }
+      }
+      if (other.getGroupId() != 0) {
+        setGroupId(other.getGroupId());
+      }
+      if (taskPartitionListBuilder_ == null) {
+        if (!other.taskPartitionList_.isEmpty()) {
+          if (taskPartitionList_.isEmpty()) {
+            taskPartitionList_ = other.taskPartitionList_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureTaskPartitionListIsMutable();
+            taskPartitionList_.addAll(other.taskPartitionList_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.taskPartitionList_.isEmpty()) {
+          if (taskPartitionListBuilder_.isEmpty()) {
+            taskPartitionListBuilder_.dispose();
+            taskPartitionListBuilder_ = null;
+            taskPartitionList_ = other.taskPartitionList_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            taskPartitionListBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getTaskPartitionListFieldBuilder() : null;
+          } else {
+            taskPartitionListBuilder_.addAllMessages(other.taskPartitionList_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RuntimeHBResp parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RuntimeHBResp) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private long version_ ;
+    /**
+     * <code>int64 version = 1;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+    /**
+     * <code>int64 version = 1;</code>
+     * @param value The version to set.
+     * @return This builder for chaining.
+     */
+    public Builder setVersion(long value) {
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 version = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearVersion() {
+      
+      version_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int workerId_ ;
+    /**
+     * <code>uint32 workerId = 2;</code>
+     * @return The workerId.
+     */
+    @java.lang.Override
+    public int getWorkerId() {
+      return workerId_;
+    }
+    /**
+     * <code>uint32 workerId = 2;</code>
+     * @param value The workerId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setWorkerId(int value) {
+      
+      workerId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 workerId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearWorkerId() {
+      
+      workerId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.RuntimeAddressProto> addresses_ =
+      java.util.Collections.emptyList();
+    private void ensureAddressesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        addresses_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RuntimeAddressProto>(addresses_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RuntimeAddressProto, com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder, com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder> addressesBuilder_;
+
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RuntimeAddressProto> getAddressesList() {
+      if (addressesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(addresses_);
+      } else {
+        return addressesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public int getAddressesCount() {
+      if (addressesBuilder_ == null) {
+        return addresses_.size();
+      } else {
+        return addressesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeAddressProto getAddresses(int index) {
+      if (addressesBuilder_ == null) {
+        return addresses_.get(index);
+      } else {
+        return addressesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder setAddresses(
+        int index, com.alibaba.maxgraph.proto.RuntimeAddressProto value) {
+      if (addressesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddressesIsMutable();
+        addresses_.set(index, value);
+        onChanged();
+      } else {
+        addressesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder setAddresses(
+        int index, com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder builderForValue) {
+      if (addressesBuilder_ == null) {
+        ensureAddressesIsMutable();
+        addresses_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        addressesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder addAddresses(com.alibaba.maxgraph.proto.RuntimeAddressProto value) {
+      if (addressesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddressesIsMutable();
+        addresses_.add(value);
+        onChanged();
+      } else {
+        addressesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder addAddresses(
+        int index, com.alibaba.maxgraph.proto.RuntimeAddressProto value) {
+      if (addressesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddressesIsMutable();
+        addresses_.add(index, value);
+        onChanged();
+      } else {
+        addressesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder addAddresses(
+        com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder builderForValue) {
+      if (addressesBuilder_ == null) {
+        ensureAddressesIsMutable();
+        addresses_.add(builderForValue.build());
+        onChanged();
+      } else {
+        addressesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder addAddresses(
+        int index, com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder builderForValue) {
+      if (addressesBuilder_ == null) {
+        ensureAddressesIsMutable();
+        addresses_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        addressesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder addAllAddresses(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.RuntimeAddressProto> values) {
+      if (addressesBuilder_ == null) {
+        ensureAddressesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, addresses_);
+        onChanged();
+      } else {
+        addressesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder clearAddresses() {
+      if (addressesBuilder_ == null) {
+        addresses_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        addressesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public Builder removeAddresses(int index) {
+      if (addressesBuilder_ == null) {
+        ensureAddressesIsMutable();
+        addresses_.remove(index);
+        onChanged();
+      } else {
+        addressesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder getAddressesBuilder(
+        int index) {
+      return getAddressesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder getAddressesOrBuilder(
+        int index) {
+      if (addressesBuilder_ == null) {
+        return addresses_.get(index);  } else {
+        return addressesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder> 
+         getAddressesOrBuilderList() {
+      if (addressesBuilder_ != null) {
+        return addressesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(addresses_);
+      }
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder addAddressesBuilder() {
+      return getAddressesFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.RuntimeAddressProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder addAddressesBuilder(
+        int index) {
+      return getAddressesFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.RuntimeAddressProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder> 
+         getAddressesBuilderList() {
+      return getAddressesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RuntimeAddressProto, com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder, com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder> 
+        getAddressesFieldBuilder() {
+      if (addressesBuilder_ == null) {
+        addressesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.RuntimeAddressProto, com.alibaba.maxgraph.proto.RuntimeAddressProto.Builder, com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder>(
+                addresses_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        addresses_ = null;
+      }
+      return addressesBuilder_;
+    }
+
+    private int groupId_ ;
+    /**
+     * <code>uint32 groupId = 4;</code>
+     * @return The groupId.
+     */
+    @java.lang.Override
+    public int getGroupId() {
+      return groupId_;
+    }
+    /**
+     * <code>uint32 groupId = 4;</code>
+     * @param value The groupId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGroupId(int value) {
+      
+      groupId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 groupId = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearGroupId() {
+      
+      groupId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto> taskPartitionList_ =
+      java.util.Collections.emptyList();
+    private void ensureTaskPartitionListIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        taskPartitionList_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto>(taskPartitionList_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder> taskPartitionListBuilder_;
+
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto> getTaskPartitionListList() {
+      if (taskPartitionListBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(taskPartitionList_);
+      } else {
+        return taskPartitionListBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public int getTaskPartitionListCount() {
+      if (taskPartitionListBuilder_ == null) {
+        return taskPartitionList_.size();
+      } else {
+        return taskPartitionListBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto getTaskPartitionList(int index) {
+      if (taskPartitionListBuilder_ == null) {
+        return taskPartitionList_.get(index);
+      } else {
+        return taskPartitionListBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder setTaskPartitionList(
+        int index, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto value) {
+      if (taskPartitionListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTaskPartitionListIsMutable();
+        taskPartitionList_.set(index, value);
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder setTaskPartitionList(
+        int index, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder builderForValue) {
+      if (taskPartitionListBuilder_ == null) {
+        ensureTaskPartitionListIsMutable();
+        taskPartitionList_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder addTaskPartitionList(com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto value) {
+      if (taskPartitionListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTaskPartitionListIsMutable();
+        taskPartitionList_.add(value);
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder addTaskPartitionList(
+        int index, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto value) {
+      if (taskPartitionListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTaskPartitionListIsMutable();
+        taskPartitionList_.add(index, value);
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder addTaskPartitionList(
+        com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder builderForValue) {
+      if (taskPartitionListBuilder_ == null) {
+        ensureTaskPartitionListIsMutable();
+        taskPartitionList_.add(builderForValue.build());
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder addTaskPartitionList(
+        int index, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder builderForValue) {
+      if (taskPartitionListBuilder_ == null) {
+        ensureTaskPartitionListIsMutable();
+        taskPartitionList_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder addAllTaskPartitionList(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto> values) {
+      if (taskPartitionListBuilder_ == null) {
+        ensureTaskPartitionListIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, taskPartitionList_);
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder clearTaskPartitionList() {
+      if (taskPartitionListBuilder_ == null) {
+        taskPartitionList_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public Builder removeTaskPartitionList(int index) {
+      if (taskPartitionListBuilder_ == null) {
+        ensureTaskPartitionListIsMutable();
+        taskPartitionList_.remove(index);
+        onChanged();
+      } else {
+        taskPartitionListBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder getTaskPartitionListBuilder(
+        int index) {
+      return getTaskPartitionListFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder getTaskPartitionListOrBuilder(
+        int index) {
+      if (taskPartitionListBuilder_ == null) {
+        return taskPartitionList_.get(index);  } else {
+        return taskPartitionListBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder> 
+         getTaskPartitionListOrBuilderList() {
+      if (taskPartitionListBuilder_ != null) {
+        return taskPartitionListBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(taskPartitionList_);
+      }
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder addTaskPartitionListBuilder() {
+      return getTaskPartitionListFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder addTaskPartitionListBuilder(
+        int index) {
+      return getTaskPartitionListFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder> 
+         getTaskPartitionListBuilderList() {
+      return getTaskPartitionListFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder> 
+        getTaskPartitionListFieldBuilder() {
+      if (taskPartitionListBuilder_ == null) {
+        taskPartitionListBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder>(
+                taskPartitionList_,
+                ((bitField0_ & 0x00000002) != 0),
+                getParentForChildren(),
+                isClean());
+        taskPartitionList_ = null;
+      }
+      return taskPartitionListBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RuntimeHBResp)
+  }
+
+  // @@protoc_insertion_point(class_scope:RuntimeHBResp)
+  private static final com.alibaba.maxgraph.proto.RuntimeHBResp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RuntimeHBResp();
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeHBResp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RuntimeHBResp>
+      PARSER = new com.google.protobuf.AbstractParser<RuntimeHBResp>() {
+    @java.lang.Override
+    public RuntimeHBResp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RuntimeHBResp(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RuntimeHBResp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RuntimeHBResp> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeHBResp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,75 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RuntimeHBRespOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RuntimeHBResp)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 version = 1;</code>
+   * @return The version.
+   */
+  long getVersion();
+
+  /**
+   * <code>uint32 workerId = 2;</code>
+   * @return The workerId.
+   */
+  int getWorkerId();
+
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.RuntimeAddressProto> 
+      getAddressesList();
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.RuntimeAddressProto getAddresses(int index);
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  int getAddressesCount();
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder> 
+      getAddressesOrBuilderList();
+  /**
+   * <code>repeated .RuntimeAddressProto addresses = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.RuntimeAddressProtoOrBuilder getAddressesOrBuilder(
+      int index);
+
+  /**
+   * <code>uint32 groupId = 4;</code>
+   * @return The groupId.
+   */
+  int getGroupId();
+
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto> 
+      getTaskPartitionListList();
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto getTaskPartitionList(int index);
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  int getTaskPartitionListCount();
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder> 
+      getTaskPartitionListOrBuilderList();
+  /**
+   * <code>repeated .RuntimeTaskPartitionProto task_partition_list = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder getTaskPartitionListOrBuilder(
+      int index);
+}
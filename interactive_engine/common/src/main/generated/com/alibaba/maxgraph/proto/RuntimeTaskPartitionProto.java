@@ -0,0 +1,727 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RuntimeTaskPartitionProto}
+ */
+public final class RuntimeTaskPartitionProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RuntimeTaskPartitionProto)
+    RuntimeTaskPartitionProtoOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RuntimeTaskPartitionProto.newBuilder() to construct.
+  private RuntimeTaskPartitionProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RuntimeTaskPartitionProto() {
+    partitionList_ = emptyIntList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RuntimeTaskPartitionProto();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RuntimeTaskPartitionProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            taskIndex_ = input.readUInt32();
+            break;
+          }
+          case 16: {
+
+            processIndex_ = input.readUInt32();
+            break;
+          }
+          case 24: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              partitionList_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            partitionList_.addInt(input.readUInt32());
+            break;
+          }
+          case 26: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              partitionList_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              partitionList_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        partitionList_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeTaskPartitionProto_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeTaskPartitionProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.class, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder.class);
+  }
+
+  public static final int TASK_INDEX_FIELD_NUMBER = 1;
+  private int taskIndex_;
+  /**
+   * <code>uint32 task_index = 1;</code>
+   * @return The taskIndex.
+   */
+  @java.lang.Override
+  public int getTaskIndex() {
+    return taskIndex_;
+  }
+
+  public static final int PROCESS_INDEX_FIELD_NUMBER = 2;
+  private int processIndex_;
+  /**
+   * <code>uint32 process_index = 2;</code>
+   * @return The processIndex.
+   */
+  @java.lang.Override
+  public int getProcessIndex() {
+    return processIndex_;
+  }
+
+  public static final int PARTITION_LIST_FIELD_NUMBER = 3;
+  private com.google.protobuf.Internal.IntList partitionList_;
+  /**
+   * <code>repeated uint32 partition_list = 3;</code>
+   * @return A list containing the partitionList.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getPartitionListList() {
+    return partitionList_;
+  }
+  /**
+   * <code>repeated uint32 partition_list = 3;</code>
+   * @return The count of partitionList.
+   */
+  public int getPartitionListCount() {
+    return partitionList_.size();
+  }
+  /**
+   * <code>repeated uint32 partition_list = 3;</code>
+   * @param index The index of the element to return.
+   * @return The partitionList at the given index.
+   */
+  public int getPartitionList(int index) {
+    return partitionList_.getInt(index);
+  }
+  private int partitionListMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (taskIndex_ != 0) {
+      output.writeUInt32(1, taskIndex_);
+    }
+    if (processIndex_ != 0) {
+      output.writeUInt32(2, processIndex_);
+    }
+    if (getPartitionListList().size() > 0) {
+      output.writeUInt32NoTag(26);
+      output.writeUInt32NoTag(partitionListMemoizedSerializedSize);
+    }
+    for (int i = 0; i < partitionList_.size(); i++) {
+      output.writeUInt32NoTag(partitionList_.getInt(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (taskIndex_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(1, taskIndex_);
+    }
+    if (processIndex_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(2, processIndex_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < partitionList_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(partitionList_.getInt(i));
+      }
+      size += dataSize;
+      if (!getPartitionListList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      partitionListMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto other = (com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto) obj;
+
+    if (getTaskIndex()
+        != other.getTaskIndex()) return false;
+    if (getProcessIndex()
+        != other.getProcessIndex()) return false;
+    if (!getPartitionListList()
+        .equals(other.getPartitionListList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + TASK_INDEX_FIELD_NUMBER;
+    hash = (53 * hash) + getTaskIndex();
+    hash = (37 * hash) + PROCESS_INDEX_FIELD_NUMBER;
+    hash = (53 * hash) + getProcessIndex();
+    if (getPartitionListCount() > 0) {
+      hash = (37 * hash) + PARTITION_LIST_FIELD_NUMBER;
+      hash = (53 * hash) + getPartitionListList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RuntimeTaskPartitionProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RuntimeTaskPartitionProto)
+      com.alibaba.maxgraph.proto.RuntimeTaskPartitionProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeTaskPartitionProto_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeTaskPartitionProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.class, com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      taskIndex_ = 0;
+
+      processIndex_ = 0;
+
+      partitionList_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_RuntimeTaskPartitionProto_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto build() {
+      com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto buildPartial() {
+      com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto result = new com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto(this);
+      int from_bitField0_ = bitField0_;
+      result.taskIndex_ = taskIndex_;
+      result.processIndex_ = processIndex_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        partitionList_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.partitionList_ = partitionList_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto other) {
+      if (other == com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto.getDefaultInstance()) return this;
+      if (other.getTaskIndex() != 0) {
+        setTaskIndex(other.getTaskIndex());
+      }
+      if (other.getProcessIndex() != 0) {
+        setProcessIndex(other.getProcessIndex());
+      }
+      if (!other.partitionList_.isEmpty()) {
+        if (partitionList_.isEmpty()) {
+          partitionList_ = other.partitionList_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensurePartitionListIsMutable();
+          partitionList_.addAll(other.partitionList_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int taskIndex_ ;
+    /**
+     * <code>uint32 task_index = 1;</code>
+     * @return The taskIndex.
+     */
+    @java.lang.Override
+    public int getTaskIndex() {
+      return taskIndex_;
+    }
+    /**
+     * <code>uint32 task_index = 1;</code>
+     * @param value The taskIndex to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTaskIndex(int value) {
+      
+      taskIndex_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 task_index = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTaskIndex() {
+      
+      taskIndex_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int processIndex_ ;
+    /**
+     * <code>uint32 process_index = 2;</code>
+     * @return The processIndex.
+     */
+    @java.lang.Override
+    public int getProcessIndex() {
+      return processIndex_;
+    }
+    /**
+     * <code>uint32 process_index = 2;</code>
+     * @param value The processIndex to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProcessIndex(int value) {
+      
+      processIndex_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 process_index = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProcessIndex() {
+      
+      processIndex_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList partitionList_ = emptyIntList();
+    private void ensurePartitionListIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        partitionList_ = mutableCopy(partitionList_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated uint32 partition_list = 3;</code>
+     * @return A list containing the partitionList.
+     */
+    public java.util.List<java.lang.Integer>
+        getPartitionListList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(partitionList_) : partitionList_;
+    }
+    /**
+     * <code>repeated uint32 partition_list = 3;</code>
+     * @return The count of partitionList.
+     */
+    public int getPartitionListCount() {
+      return partitionList_.size();
+    }
+    /**
+     * <code>repeated uint32 partition_list = 3;</code>
+     * @param index The index of the element to return.
+     * @return The partitionList at the given index.
+     */
+    public int getPartitionList(int index) {
+      return partitionList_.getInt(index);
+    }
+    /**
+     * <code>repeated uint32 partition_list = 3;</code>
+     * @param index The index to set the value at.
+     * @param value The partitionList to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPartitionList(
+        int index, int value) {
+      ensurePartitionListIsMutable();
+      partitionList_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partition_list = 3;</code>
+     * @param value The partitionList to add.
+     * @return This builder for chaining.
+     */
+    public Builder addPartitionList(int value) {
+      ensurePartitionListIsMutable();
+      partitionList_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partition_list = 3;</code>
+     * @param values The partitionList to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllPartitionList(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensurePartitionListIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, partitionList_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partition_list = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPartitionList() {
+      partitionList_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RuntimeTaskPartitionProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:RuntimeTaskPartitionProto)
+  private static final com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RuntimeTaskPartitionProto>
+      PARSER = new com.google.protobuf.AbstractParser<RuntimeTaskPartitionProto>() {
+    @java.lang.Override
+    public RuntimeTaskPartitionProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RuntimeTaskPartitionProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RuntimeTaskPartitionProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RuntimeTaskPartitionProto> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeTaskPartitionProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
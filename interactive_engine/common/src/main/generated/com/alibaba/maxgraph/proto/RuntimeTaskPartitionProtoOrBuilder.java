@@ -0,0 +1,38 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RuntimeTaskPartitionProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RuntimeTaskPartitionProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>uint32 task_index = 1;</code>
+   * @return The taskIndex.
+   */
+  int getTaskIndex();
+
+  /**
+   * <code>uint32 process_index = 2;</code>
+   * @return The processIndex.
+   */
+  int getProcessIndex();
+
+  /**
+   * <code>repeated uint32 partition_list = 3;</code>
+   * @return A list containing the partitionList.
+   */
+  java.util.List<java.lang.Integer> getPartitionListList();
+  /**
+   * <code>repeated uint32 partition_list = 3;</code>
+   * @return The count of partitionList.
+   */
+  int getPartitionListCount();
+  /**
+   * <code>repeated uint32 partition_list = 3;</code>
+   * @param index The index of the element to return.
+   * @return The partitionList at the given index.
+   */
+  int getPartitionList(int index);
+}
@@ -0,0 +1,350 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: scheduler_monitor.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class SchedulerApiGrpc {
+
+  private SchedulerApiGrpc() {}
+
+  public static final String SERVICE_NAME = "SchedulerApi";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RestartWorkerReq,
+      com.alibaba.maxgraph.proto.Response> getRestartWorkerManuallyMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "restartWorkerManually",
+      requestType = com.alibaba.maxgraph.proto.RestartWorkerReq.class,
+      responseType = com.alibaba.maxgraph.proto.Response.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RestartWorkerReq,
+      com.alibaba.maxgraph.proto.Response> getRestartWorkerManuallyMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RestartWorkerReq, com.alibaba.maxgraph.proto.Response> getRestartWorkerManuallyMethod;
+    if ((getRestartWorkerManuallyMethod = SchedulerApiGrpc.getRestartWorkerManuallyMethod) == null) {
+      synchronized (SchedulerApiGrpc.class) {
+        if ((getRestartWorkerManuallyMethod = SchedulerApiGrpc.getRestartWorkerManuallyMethod) == null) {
+          SchedulerApiGrpc.getRestartWorkerManuallyMethod = getRestartWorkerManuallyMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RestartWorkerReq, com.alibaba.maxgraph.proto.Response>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "restartWorkerManually"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RestartWorkerReq.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Response.getDefaultInstance()))
+              .setSchemaDescriptor(new SchedulerApiMethodDescriptorSupplier("restartWorkerManually"))
+              .build();
+        }
+      }
+    }
+    return getRestartWorkerManuallyMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.SchedulerEventReq,
+      com.alibaba.maxgraph.proto.SchedulerEventResp> getGetSchedulerEventMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getSchedulerEvent",
+      requestType = com.alibaba.maxgraph.proto.SchedulerEventReq.class,
+      responseType = com.alibaba.maxgraph.proto.SchedulerEventResp.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.SchedulerEventReq,
+      com.alibaba.maxgraph.proto.SchedulerEventResp> getGetSchedulerEventMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.SchedulerEventReq, com.alibaba.maxgraph.proto.SchedulerEventResp> getGetSchedulerEventMethod;
+    if ((getGetSchedulerEventMethod = SchedulerApiGrpc.getGetSchedulerEventMethod) == null) {
+      synchronized (SchedulerApiGrpc.class) {
+        if ((getGetSchedulerEventMethod = SchedulerApiGrpc.getGetSchedulerEventMethod) == null) {
+          SchedulerApiGrpc.getGetSchedulerEventMethod = getGetSchedulerEventMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.SchedulerEventReq, com.alibaba.maxgraph.proto.SchedulerEventResp>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getSchedulerEvent"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.SchedulerEventReq.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.SchedulerEventResp.getDefaultInstance()))
+              .setSchemaDescriptor(new SchedulerApiMethodDescriptorSupplier("getSchedulerEvent"))
+              .build();
+        }
+      }
+    }
+    return getGetSchedulerEventMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static SchedulerApiStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SchedulerApiStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SchedulerApiStub>() {
+        @java.lang.Override
+        public SchedulerApiStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SchedulerApiStub(channel, callOptions);
+        }
+      };
+    return SchedulerApiStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static SchedulerApiBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SchedulerApiBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SchedulerApiBlockingStub>() {
+        @java.lang.Override
+        public SchedulerApiBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SchedulerApiBlockingStub(channel, callOptions);
+        }
+      };
+    return SchedulerApiBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static SchedulerApiFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SchedulerApiFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SchedulerApiFutureStub>() {
+        @java.lang.Override
+        public SchedulerApiFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SchedulerApiFutureStub(channel, callOptions);
+        }
+      };
+    return SchedulerApiFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class SchedulerApiImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void restartWorkerManually(com.alibaba.maxgraph.proto.RestartWorkerReq request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getRestartWorkerManuallyMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getSchedulerEvent(com.alibaba.maxgraph.proto.SchedulerEventReq request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.SchedulerEventResp> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetSchedulerEventMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getRestartWorkerManuallyMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RestartWorkerReq,
+                com.alibaba.maxgraph.proto.Response>(
+                  this, METHODID_RESTART_WORKER_MANUALLY)))
+          .addMethod(
+            getGetSchedulerEventMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.SchedulerEventReq,
+                com.alibaba.maxgraph.proto.SchedulerEventResp>(
+                  this, METHODID_GET_SCHEDULER_EVENT)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class SchedulerApiStub extends io.grpc.stub.AbstractAsyncStub<SchedulerApiStub> {
+    private SchedulerApiStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SchedulerApiStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SchedulerApiStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void restartWorkerManually(com.alibaba.maxgraph.proto.RestartWorkerReq request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getRestartWorkerManuallyMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getSchedulerEvent(com.alibaba.maxgraph.proto.SchedulerEventReq request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.SchedulerEventResp> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetSchedulerEventMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class SchedulerApiBlockingStub extends io.grpc.stub.AbstractBlockingStub<SchedulerApiBlockingStub> {
+    private SchedulerApiBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SchedulerApiBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SchedulerApiBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.Response restartWorkerManually(com.alibaba.maxgraph.proto.RestartWorkerReq request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getRestartWorkerManuallyMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.SchedulerEventResp getSchedulerEvent(com.alibaba.maxgraph.proto.SchedulerEventReq request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetSchedulerEventMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class SchedulerApiFutureStub extends io.grpc.stub.AbstractFutureStub<SchedulerApiFutureStub> {
+    private SchedulerApiFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SchedulerApiFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SchedulerApiFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.Response> restartWorkerManually(
+        com.alibaba.maxgraph.proto.RestartWorkerReq request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getRestartWorkerManuallyMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.SchedulerEventResp> getSchedulerEvent(
+        com.alibaba.maxgraph.proto.SchedulerEventReq request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetSchedulerEventMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_RESTART_WORKER_MANUALLY = 0;
+  private static final int METHODID_GET_SCHEDULER_EVENT = 1;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final SchedulerApiImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(SchedulerApiImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_RESTART_WORKER_MANUALLY:
+          serviceImpl.restartWorkerManually((com.alibaba.maxgraph.proto.RestartWorkerReq) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Response>) responseObserver);
+          break;
+        case METHODID_GET_SCHEDULER_EVENT:
+          serviceImpl.getSchedulerEvent((com.alibaba.maxgraph.proto.SchedulerEventReq) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.SchedulerEventResp>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class SchedulerApiBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    SchedulerApiBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("SchedulerApi");
+    }
+  }
+
+  private static final class SchedulerApiFileDescriptorSupplier
+      extends SchedulerApiBaseDescriptorSupplier {
+    SchedulerApiFileDescriptorSupplier() {}
+  }
+
+  private static final class SchedulerApiMethodDescriptorSupplier
+      extends SchedulerApiBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    SchedulerApiMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (SchedulerApiGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new SchedulerApiFileDescriptorSupplier())
+              .addMethod(getRestartWorkerManuallyMethod())
+              .addMethod(getGetSchedulerEventMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
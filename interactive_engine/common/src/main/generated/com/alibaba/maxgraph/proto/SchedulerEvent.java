@@ -0,0 +1,887 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code SchedulerEvent}
+ */
+public final class SchedulerEvent extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:SchedulerEvent)
+    SchedulerEventOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SchedulerEvent.newBuilder() to construct.
+  private SchedulerEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SchedulerEvent() {
+    level_ = 0;
+    type_ = 0;
+    msg_ = "";
+    date_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SchedulerEvent();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SchedulerEvent(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            int rawValue = input.readEnum();
+
+            level_ = rawValue;
+            break;
+          }
+          case 16: {
+            int rawValue = input.readEnum();
+
+            type_ = rawValue;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            msg_ = s;
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            date_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEvent_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEvent_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.SchedulerEvent.class, com.alibaba.maxgraph.proto.SchedulerEvent.Builder.class);
+  }
+
+  public static final int LEVEL_FIELD_NUMBER = 1;
+  private int level_;
+  /**
+   * <code>.EventLevel level = 1;</code>
+   * @return The enum numeric value on the wire for level.
+   */
+  @java.lang.Override public int getLevelValue() {
+    return level_;
+  }
+  /**
+   * <code>.EventLevel level = 1;</code>
+   * @return The level.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.EventLevel getLevel() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.EventLevel result = com.alibaba.maxgraph.proto.EventLevel.valueOf(level_);
+    return result == null ? com.alibaba.maxgraph.proto.EventLevel.UNRECOGNIZED : result;
+  }
+
+  public static final int TYPE_FIELD_NUMBER = 2;
+  private int type_;
+  /**
+   * <code>.EventType type = 2;</code>
+   * @return The enum numeric value on the wire for type.
+   */
+  @java.lang.Override public int getTypeValue() {
+    return type_;
+  }
+  /**
+   * <code>.EventType type = 2;</code>
+   * @return The type.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.EventType getType() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.EventType result = com.alibaba.maxgraph.proto.EventType.valueOf(type_);
+    return result == null ? com.alibaba.maxgraph.proto.EventType.UNRECOGNIZED : result;
+  }
+
+  public static final int MSG_FIELD_NUMBER = 3;
+  private volatile java.lang.Object msg_;
+  /**
+   * <code>string msg = 3;</code>
+   * @return The msg.
+   */
+  @java.lang.Override
+  public java.lang.String getMsg() {
+    java.lang.Object ref = msg_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      msg_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string msg = 3;</code>
+   * @return The bytes for msg.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getMsgBytes() {
+    java.lang.Object ref = msg_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      msg_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DATE_FIELD_NUMBER = 4;
+  private volatile java.lang.Object date_;
+  /**
+   * <code>string date = 4;</code>
+   * @return The date.
+   */
+  @java.lang.Override
+  public java.lang.String getDate() {
+    java.lang.Object ref = date_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      date_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string date = 4;</code>
+   * @return The bytes for date.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getDateBytes() {
+    java.lang.Object ref = date_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      date_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (level_ != com.alibaba.maxgraph.proto.EventLevel.SERIOUS.getNumber()) {
+      output.writeEnum(1, level_);
+    }
+    if (type_ != com.alibaba.maxgraph.proto.EventType.RESOURCE_SCHEDULER.getNumber()) {
+      output.writeEnum(2, type_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(msg_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, msg_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(date_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, date_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (level_ != com.alibaba.maxgraph.proto.EventLevel.SERIOUS.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, level_);
+    }
+    if (type_ != com.alibaba.maxgraph.proto.EventType.RESOURCE_SCHEDULER.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(2, type_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(msg_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, msg_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(date_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, date_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.SchedulerEvent)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.SchedulerEvent other = (com.alibaba.maxgraph.proto.SchedulerEvent) obj;
+
+    if (level_ != other.level_) return false;
+    if (type_ != other.type_) return false;
+    if (!getMsg()
+        .equals(other.getMsg())) return false;
+    if (!getDate()
+        .equals(other.getDate())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + LEVEL_FIELD_NUMBER;
+    hash = (53 * hash) + level_;
+    hash = (37 * hash) + TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + type_;
+    hash = (37 * hash) + MSG_FIELD_NUMBER;
+    hash = (53 * hash) + getMsg().hashCode();
+    hash = (37 * hash) + DATE_FIELD_NUMBER;
+    hash = (53 * hash) + getDate().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEvent parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.SchedulerEvent prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code SchedulerEvent}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:SchedulerEvent)
+      com.alibaba.maxgraph.proto.SchedulerEventOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEvent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEvent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.SchedulerEvent.class, com.alibaba.maxgraph.proto.SchedulerEvent.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.SchedulerEvent.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      level_ = 0;
+
+      type_ = 0;
+
+      msg_ = "";
+
+      date_ = "";
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEvent_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEvent getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.SchedulerEvent.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEvent build() {
+      com.alibaba.maxgraph.proto.SchedulerEvent result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEvent buildPartial() {
+      com.alibaba.maxgraph.proto.SchedulerEvent result = new com.alibaba.maxgraph.proto.SchedulerEvent(this);
+      result.level_ = level_;
+      result.type_ = type_;
+      result.msg_ = msg_;
+      result.date_ = date_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.SchedulerEvent) {
+        return mergeFrom((com.alibaba.maxgraph.proto.SchedulerEvent)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.SchedulerEvent other) {
+      if (other == com.alibaba.maxgraph.proto.SchedulerEvent.getDefaultInstance()) return this;
+      if (other.level_ != 0) {
+        setLevelValue(other.getLevelValue());
+      }
+      if (other.type_ != 0) {
+        setTypeValue(other.getTypeValue());
+      }
+      if (!other.getMsg().isEmpty()) {
+        msg_ = other.msg_;
+        onChanged();
+      }
+      if (!other.getDate().isEmpty()) {
+        date_ = other.date_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.SchedulerEvent parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.SchedulerEvent) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int level_ = 0;
+    /**
+     * <code>.EventLevel level = 1;</code>
+     * @return The enum numeric value on the wire for level.
+     */
+    @java.lang.Override public int getLevelValue() {
+      return level_;
+    }
+    /**
+     * <code>.EventLevel level = 1;</code>
+     * @param value The enum numeric value on the wire for level to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLevelValue(int value) {
+      
+      level_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.EventLevel level = 1;</code>
+     * @return The level.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.EventLevel getLevel() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.EventLevel result = com.alibaba.maxgraph.proto.EventLevel.valueOf(level_);
+      return result == null ? com.alibaba.maxgraph.proto.EventLevel.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.EventLevel level = 1;</code>
+     * @param value The level to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLevel(com.alibaba.maxgraph.proto.EventLevel value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      level_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.EventLevel level = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLevel() {
+      
+      level_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int type_ = 0;
+    /**
+     * <code>.EventType type = 2;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.EventType type = 2;</code>
+     * @param value The enum numeric value on the wire for type to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeValue(int value) {
+      
+      type_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.EventType type = 2;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.EventType getType() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.EventType result = com.alibaba.maxgraph.proto.EventType.valueOf(type_);
+      return result == null ? com.alibaba.maxgraph.proto.EventType.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.EventType type = 2;</code>
+     * @param value The type to set.
+     * @return This builder for chaining.
+     */
+    public Builder setType(com.alibaba.maxgraph.proto.EventType value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      type_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.EventType type = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearType() {
+      
+      type_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object msg_ = "";
+    /**
+     * <code>string msg = 3;</code>
+     * @return The msg.
+     */
+    public java.lang.String getMsg() {
+      java.lang.Object ref = msg_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        msg_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string msg = 3;</code>
+     * @return The bytes for msg.
+     */
+    public com.google.protobuf.ByteString
+        getMsgBytes() {
+      java.lang.Object ref = msg_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        msg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string msg = 3;</code>
+     * @param value The msg to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMsg(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      msg_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string msg = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMsg() {
+      
+      msg_ = getDefaultInstance().getMsg();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string msg = 3;</code>
+     * @param value The bytes for msg to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMsgBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      msg_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object date_ = "";
+    /**
+     * <code>string date = 4;</code>
+     * @return The date.
+     */
+    public java.lang.String getDate() {
+      java.lang.Object ref = date_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        date_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string date = 4;</code>
+     * @return The bytes for date.
+     */
+    public com.google.protobuf.ByteString
+        getDateBytes() {
+      java.lang.Object ref = date_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        date_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string date = 4;</code>
+     * @param value The date to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDate(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      date_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string date = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDate() {
+      
+      date_ = getDefaultInstance().getDate();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string date = 4;</code>
+     * @param value The bytes for date to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDateBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      date_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:SchedulerEvent)
+  }
+
+  // @@protoc_insertion_point(class_scope:SchedulerEvent)
+  private static final com.alibaba.maxgraph.proto.SchedulerEvent DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.SchedulerEvent();
+  }
+
+  public static com.alibaba.maxgraph.proto.SchedulerEvent getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SchedulerEvent>
+      PARSER = new com.google.protobuf.AbstractParser<SchedulerEvent>() {
+    @java.lang.Override
+    public SchedulerEvent parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SchedulerEvent(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SchedulerEvent> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SchedulerEvent> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.SchedulerEvent getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
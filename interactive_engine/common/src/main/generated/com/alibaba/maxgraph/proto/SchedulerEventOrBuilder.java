@@ -0,0 +1,55 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface SchedulerEventOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SchedulerEvent)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.EventLevel level = 1;</code>
+   * @return The enum numeric value on the wire for level.
+   */
+  int getLevelValue();
+  /**
+   * <code>.EventLevel level = 1;</code>
+   * @return The level.
+   */
+  com.alibaba.maxgraph.proto.EventLevel getLevel();
+
+  /**
+   * <code>.EventType type = 2;</code>
+   * @return The enum numeric value on the wire for type.
+   */
+  int getTypeValue();
+  /**
+   * <code>.EventType type = 2;</code>
+   * @return The type.
+   */
+  com.alibaba.maxgraph.proto.EventType getType();
+
+  /**
+   * <code>string msg = 3;</code>
+   * @return The msg.
+   */
+  java.lang.String getMsg();
+  /**
+   * <code>string msg = 3;</code>
+   * @return The bytes for msg.
+   */
+  com.google.protobuf.ByteString
+      getMsgBytes();
+
+  /**
+   * <code>string date = 4;</code>
+   * @return The date.
+   */
+  java.lang.String getDate();
+  /**
+   * <code>string date = 4;</code>
+   * @return The bytes for date.
+   */
+  com.google.protobuf.ByteString
+      getDateBytes();
+}
@@ -0,0 +1,759 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code SchedulerEventReq}
+ */
+public final class SchedulerEventReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:SchedulerEventReq)
+    SchedulerEventReqOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SchedulerEventReq.newBuilder() to construct.
+  private SchedulerEventReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SchedulerEventReq() {
+    eventLevel_ = "";
+    eventType_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SchedulerEventReq();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SchedulerEventReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            latestEventNum_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            eventLevel_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            eventType_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventReq_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.SchedulerEventReq.class, com.alibaba.maxgraph.proto.SchedulerEventReq.Builder.class);
+  }
+
+  public static final int LATESTEVENTNUM_FIELD_NUMBER = 1;
+  private int latestEventNum_;
+  /**
+   * <code>int32 latestEventNum = 1;</code>
+   * @return The latestEventNum.
+   */
+  @java.lang.Override
+  public int getLatestEventNum() {
+    return latestEventNum_;
+  }
+
+  public static final int EVENTLEVEL_FIELD_NUMBER = 2;
+  private volatile java.lang.Object eventLevel_;
+  /**
+   * <code>string eventLevel = 2;</code>
+   * @return The eventLevel.
+   */
+  @java.lang.Override
+  public java.lang.String getEventLevel() {
+    java.lang.Object ref = eventLevel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      eventLevel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string eventLevel = 2;</code>
+   * @return The bytes for eventLevel.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getEventLevelBytes() {
+    java.lang.Object ref = eventLevel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      eventLevel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int EVENTTYPE_FIELD_NUMBER = 3;
+  private volatile java.lang.Object eventType_;
+  /**
+   * <code>string eventType = 3;</code>
+   * @return The eventType.
+   */
+  @java.lang.Override
+  public java.lang.String getEventType() {
+    java.lang.Object ref = eventType_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      eventType_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string eventType = 3;</code>
+   * @return The bytes for eventType.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getEventTypeBytes() {
+    java.lang.Object ref = eventType_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      eventType_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (latestEventNum_ != 0) {
+      output.writeInt32(1, latestEventNum_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(eventLevel_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, eventLevel_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(eventType_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, eventType_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (latestEventNum_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, latestEventNum_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(eventLevel_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, eventLevel_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(eventType_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, eventType_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.SchedulerEventReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.SchedulerEventReq other = (com.alibaba.maxgraph.proto.SchedulerEventReq) obj;
+
+    if (getLatestEventNum()
+        != other.getLatestEventNum()) return false;
+    if (!getEventLevel()
+        .equals(other.getEventLevel())) return false;
+    if (!getEventType()
+        .equals(other.getEventType())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + LATESTEVENTNUM_FIELD_NUMBER;
+    hash = (53 * hash) + getLatestEventNum();
+    hash = (37 * hash) + EVENTLEVEL_FIELD_NUMBER;
+    hash = (53 * hash) + getEventLevel().hashCode();
+    hash = (37 * hash) + EVENTTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + getEventType().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.SchedulerEventReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code SchedulerEventReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:SchedulerEventReq)
+      com.alibaba.maxgraph.proto.SchedulerEventReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventReq_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.SchedulerEventReq.class, com.alibaba.maxgraph.proto.SchedulerEventReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.SchedulerEventReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      latestEventNum_ = 0;
+
+      eventLevel_ = "";
+
+      eventType_ = "";
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventReq_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEventReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.SchedulerEventReq.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEventReq build() {
+      com.alibaba.maxgraph.proto.SchedulerEventReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEventReq buildPartial() {
+      com.alibaba.maxgraph.proto.SchedulerEventReq result = new com.alibaba.maxgraph.proto.SchedulerEventReq(this);
+      result.latestEventNum_ = latestEventNum_;
+      result.eventLevel_ = eventLevel_;
+      result.eventType_ = eventType_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.SchedulerEventReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.SchedulerEventReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.SchedulerEventReq other) {
+      if (other == com.alibaba.maxgraph.proto.SchedulerEventReq.getDefaultInstance()) return this;
+      if (other.getLatestEventNum() != 0) {
+        setLatestEventNum(other.getLatestEventNum());
+      }
+      if (!other.getEventLevel().isEmpty()) {
+        eventLevel_ = other.eventLevel_;
+        onChanged();
+      }
+      if (!other.getEventType().isEmpty()) {
+        eventType_ = other.eventType_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.SchedulerEventReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.SchedulerEventReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int latestEventNum_ ;
+    /**
+     * <code>int32 latestEventNum = 1;</code>
+     * @return The latestEventNum.
+     */
+    @java.lang.Override
+    public int getLatestEventNum() {
+      return latestEventNum_;
+    }
+    /**
+     * <code>int32 latestEventNum = 1;</code>
+     * @param value The latestEventNum to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLatestEventNum(int value) {
+      
+      latestEventNum_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 latestEventNum = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLatestEventNum() {
+      
+      latestEventNum_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object eventLevel_ = "";
+    /**
+     * <code>string eventLevel = 2;</code>
+     * @return The eventLevel.
+     */
+    public java.lang.String getEventLevel() {
+      java.lang.Object ref = eventLevel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        eventLevel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string eventLevel = 2;</code>
+     * @return The bytes for eventLevel.
+     */
+    public com.google.protobuf.ByteString
+        getEventLevelBytes() {
+      java.lang.Object ref = eventLevel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        eventLevel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string eventLevel = 2;</code>
+     * @param value The eventLevel to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEventLevel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      eventLevel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string eventLevel = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearEventLevel() {
+      
+      eventLevel_ = getDefaultInstance().getEventLevel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string eventLevel = 2;</code>
+     * @param value The bytes for eventLevel to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEventLevelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      eventLevel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object eventType_ = "";
+    /**
+     * <code>string eventType = 3;</code>
+     * @return The eventType.
+     */
+    public java.lang.String getEventType() {
+      java.lang.Object ref = eventType_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        eventType_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string eventType = 3;</code>
+     * @return The bytes for eventType.
+     */
+    public com.google.protobuf.ByteString
+        getEventTypeBytes() {
+      java.lang.Object ref = eventType_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        eventType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string eventType = 3;</code>
+     * @param value The eventType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEventType(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      eventType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string eventType = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearEventType() {
+      
+      eventType_ = getDefaultInstance().getEventType();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string eventType = 3;</code>
+     * @param value The bytes for eventType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEventTypeBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      eventType_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:SchedulerEventReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:SchedulerEventReq)
+  private static final com.alibaba.maxgraph.proto.SchedulerEventReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.SchedulerEventReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.SchedulerEventReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SchedulerEventReq>
+      PARSER = new com.google.protobuf.AbstractParser<SchedulerEventReq>() {
+    @java.lang.Override
+    public SchedulerEventReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SchedulerEventReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SchedulerEventReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SchedulerEventReq> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.SchedulerEventReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
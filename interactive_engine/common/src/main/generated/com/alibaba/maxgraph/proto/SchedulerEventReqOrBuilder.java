@@ -0,0 +1,39 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface SchedulerEventReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SchedulerEventReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 latestEventNum = 1;</code>
+   * @return The latestEventNum.
+   */
+  int getLatestEventNum();
+
+  /**
+   * <code>string eventLevel = 2;</code>
+   * @return The eventLevel.
+   */
+  java.lang.String getEventLevel();
+  /**
+   * <code>string eventLevel = 2;</code>
+   * @return The bytes for eventLevel.
+   */
+  com.google.protobuf.ByteString
+      getEventLevelBytes();
+
+  /**
+   * <code>string eventType = 3;</code>
+   * @return The eventType.
+   */
+  java.lang.String getEventType();
+  /**
+   * <code>string eventType = 3;</code>
+   * @return The bytes for eventType.
+   */
+  com.google.protobuf.ByteString
+      getEventTypeBytes();
+}
@@ -0,0 +1,958 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code SchedulerEventResp}
+ */
+public final class SchedulerEventResp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:SchedulerEventResp)
+    SchedulerEventRespOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SchedulerEventResp.newBuilder() to construct.
+  private SchedulerEventResp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SchedulerEventResp() {
+    eventList_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SchedulerEventResp();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SchedulerEventResp(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              eventList_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.SchedulerEvent>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            eventList_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.SchedulerEvent.parser(), extensionRegistry));
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.Response.Builder subBuilder = null;
+            if (resp_ != null) {
+              subBuilder = resp_.toBuilder();
+            }
+            resp_ = input.readMessage(com.alibaba.maxgraph.proto.Response.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(resp_);
+              resp_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        eventList_ = java.util.Collections.unmodifiableList(eventList_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventResp_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventResp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.SchedulerEventResp.class, com.alibaba.maxgraph.proto.SchedulerEventResp.Builder.class);
+  }
+
+  public static final int EVENTLIST_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.SchedulerEvent> eventList_;
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.SchedulerEvent> getEventListList() {
+    return eventList_;
+  }
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.SchedulerEventOrBuilder> 
+      getEventListOrBuilderList() {
+    return eventList_;
+  }
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  @java.lang.Override
+  public int getEventListCount() {
+    return eventList_.size();
+  }
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.SchedulerEvent getEventList(int index) {
+    return eventList_.get(index);
+  }
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.SchedulerEventOrBuilder getEventListOrBuilder(
+      int index) {
+    return eventList_.get(index);
+  }
+
+  public static final int RESP_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.Response resp_;
+  /**
+   * <code>.Response resp = 2;</code>
+   * @return Whether the resp field is set.
+   */
+  @java.lang.Override
+  public boolean hasResp() {
+    return resp_ != null;
+  }
+  /**
+   * <code>.Response resp = 2;</code>
+   * @return The resp.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.Response getResp() {
+    return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+  }
+  /**
+   * <code>.Response resp = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+    return getResp();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < eventList_.size(); i++) {
+      output.writeMessage(1, eventList_.get(i));
+    }
+    if (resp_ != null) {
+      output.writeMessage(2, getResp());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < eventList_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, eventList_.get(i));
+    }
+    if (resp_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getResp());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.SchedulerEventResp)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.SchedulerEventResp other = (com.alibaba.maxgraph.proto.SchedulerEventResp) obj;
+
+    if (!getEventListList()
+        .equals(other.getEventListList())) return false;
+    if (hasResp() != other.hasResp()) return false;
+    if (hasResp()) {
+      if (!getResp()
+          .equals(other.getResp())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getEventListCount() > 0) {
+      hash = (37 * hash) + EVENTLIST_FIELD_NUMBER;
+      hash = (53 * hash) + getEventListList().hashCode();
+    }
+    if (hasResp()) {
+      hash = (37 * hash) + RESP_FIELD_NUMBER;
+      hash = (53 * hash) + getResp().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.SchedulerEventResp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code SchedulerEventResp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:SchedulerEventResp)
+      com.alibaba.maxgraph.proto.SchedulerEventRespOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventResp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.SchedulerEventResp.class, com.alibaba.maxgraph.proto.SchedulerEventResp.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.SchedulerEventResp.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getEventListFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (eventListBuilder_ == null) {
+        eventList_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        eventListBuilder_.clear();
+      }
+      if (respBuilder_ == null) {
+        resp_ = null;
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.SchedulerMonitor.internal_static_SchedulerEventResp_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEventResp getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.SchedulerEventResp.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEventResp build() {
+      com.alibaba.maxgraph.proto.SchedulerEventResp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SchedulerEventResp buildPartial() {
+      com.alibaba.maxgraph.proto.SchedulerEventResp result = new com.alibaba.maxgraph.proto.SchedulerEventResp(this);
+      int from_bitField0_ = bitField0_;
+      if (eventListBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          eventList_ = java.util.Collections.unmodifiableList(eventList_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.eventList_ = eventList_;
+      } else {
+        result.eventList_ = eventListBuilder_.build();
+      }
+      if (respBuilder_ == null) {
+        result.resp_ = resp_;
+      } else {
+        result.resp_ = respBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.SchedulerEventResp) {
+        return mergeFrom((com.alibaba.maxgraph.proto.SchedulerEventResp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.SchedulerEventResp other) {
+      if (other == com.alibaba.maxgraph.proto.SchedulerEventResp.getDefaultInstance()) return this;
+      if (eventListBuilder_ == null) {
+        if (!other.eventList_.isEmpty()) {
+          if (eventList_.isEmpty()) {
+            eventList_ = other.eventList_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureEventListIsMutable();
+            eventList_.addAll(other.eventList_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.eventList_.isEmpty()) {
+          if (eventListBuilder_.isEmpty()) {
+            eventListBuilder_.dispose();
+            eventListBuilder_ = null;
+            eventList_ = other.eventList_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            eventListBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getEventListFieldBuilder() : null;
+          } else {
+            eventListBuilder_.addAllMessages(other.eventList_);
+          }
+        }
+      }
+      if (other.hasResp()) {
+        mergeResp(other.getResp());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.SchedulerEventResp parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.SchedulerEventResp) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.SchedulerEvent> eventList_ =
+      java.util.Collections.emptyList();
+    private void ensureEventListIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        eventList_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.SchedulerEvent>(eventList_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.SchedulerEvent, com.alibaba.maxgraph.proto.SchedulerEvent.Builder, com.alibaba.maxgraph.proto.SchedulerEventOrBuilder> eventListBuilder_;
+
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.SchedulerEvent> getEventListList() {
+      if (eventListBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(eventList_);
+      } else {
+        return eventListBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public int getEventListCount() {
+      if (eventListBuilder_ == null) {
+        return eventList_.size();
+      } else {
+        return eventListBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.SchedulerEvent getEventList(int index) {
+      if (eventListBuilder_ == null) {
+        return eventList_.get(index);
+      } else {
+        return eventListBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder setEventList(
+        int index, com.alibaba.maxgraph.proto.SchedulerEvent value) {
+      if (eventListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEventListIsMutable();
+        eventList_.set(index, value);
+        onChanged();
+      } else {
+        eventListBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder setEventList(
+        int index, com.alibaba.maxgraph.proto.SchedulerEvent.Builder builderForValue) {
+      if (eventListBuilder_ == null) {
+        ensureEventListIsMutable();
+        eventList_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        eventListBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder addEventList(com.alibaba.maxgraph.proto.SchedulerEvent value) {
+      if (eventListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEventListIsMutable();
+        eventList_.add(value);
+        onChanged();
+      } else {
+        eventListBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder addEventList(
+        int index, com.alibaba.maxgraph.proto.SchedulerEvent value) {
+      if (eventListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEventListIsMutable();
+        eventList_.add(index, value);
+        onChanged();
+      } else {
+        eventListBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder addEventList(
+        com.alibaba.maxgraph.proto.SchedulerEvent.Builder builderForValue) {
+      if (eventListBuilder_ == null) {
+        ensureEventListIsMutable();
+        eventList_.add(builderForValue.build());
+        onChanged();
+      } else {
+        eventListBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder addEventList(
+        int index, com.alibaba.maxgraph.proto.SchedulerEvent.Builder builderForValue) {
+      if (eventListBuilder_ == null) {
+        ensureEventListIsMutable();
+        eventList_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        eventListBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder addAllEventList(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.SchedulerEvent> values) {
+      if (eventListBuilder_ == null) {
+        ensureEventListIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, eventList_);
+        onChanged();
+      } else {
+        eventListBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder clearEventList() {
+      if (eventListBuilder_ == null) {
+        eventList_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        eventListBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public Builder removeEventList(int index) {
+      if (eventListBuilder_ == null) {
+        ensureEventListIsMutable();
+        eventList_.remove(index);
+        onChanged();
+      } else {
+        eventListBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.SchedulerEvent.Builder getEventListBuilder(
+        int index) {
+      return getEventListFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.SchedulerEventOrBuilder getEventListOrBuilder(
+        int index) {
+      if (eventListBuilder_ == null) {
+        return eventList_.get(index);  } else {
+        return eventListBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.SchedulerEventOrBuilder> 
+         getEventListOrBuilderList() {
+      if (eventListBuilder_ != null) {
+        return eventListBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(eventList_);
+      }
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.SchedulerEvent.Builder addEventListBuilder() {
+      return getEventListFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.SchedulerEvent.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.SchedulerEvent.Builder addEventListBuilder(
+        int index) {
+      return getEventListFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.SchedulerEvent.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .SchedulerEvent eventList = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.SchedulerEvent.Builder> 
+         getEventListBuilderList() {
+      return getEventListFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.SchedulerEvent, com.alibaba.maxgraph.proto.SchedulerEvent.Builder, com.alibaba.maxgraph.proto.SchedulerEventOrBuilder> 
+        getEventListFieldBuilder() {
+      if (eventListBuilder_ == null) {
+        eventListBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.SchedulerEvent, com.alibaba.maxgraph.proto.SchedulerEvent.Builder, com.alibaba.maxgraph.proto.SchedulerEventOrBuilder>(
+                eventList_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        eventList_ = null;
+      }
+      return eventListBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.Response resp_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> respBuilder_;
+    /**
+     * <code>.Response resp = 2;</code>
+     * @return Whether the resp field is set.
+     */
+    public boolean hasResp() {
+      return respBuilder_ != null || resp_ != null;
+    }
+    /**
+     * <code>.Response resp = 2;</code>
+     * @return The resp.
+     */
+    public com.alibaba.maxgraph.proto.Response getResp() {
+      if (respBuilder_ == null) {
+        return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      } else {
+        return respBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.Response resp = 2;</code>
+     */
+    public Builder setResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        resp_ = value;
+        onChanged();
+      } else {
+        respBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 2;</code>
+     */
+    public Builder setResp(
+        com.alibaba.maxgraph.proto.Response.Builder builderForValue) {
+      if (respBuilder_ == null) {
+        resp_ = builderForValue.build();
+        onChanged();
+      } else {
+        respBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 2;</code>
+     */
+    public Builder mergeResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (resp_ != null) {
+          resp_ =
+            com.alibaba.maxgraph.proto.Response.newBuilder(resp_).mergeFrom(value).buildPartial();
+        } else {
+          resp_ = value;
+        }
+        onChanged();
+      } else {
+        respBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 2;</code>
+     */
+    public Builder clearResp() {
+      if (respBuilder_ == null) {
+        resp_ = null;
+        onChanged();
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response.Builder getRespBuilder() {
+      
+      onChanged();
+      return getRespFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.Response resp = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+      if (respBuilder_ != null) {
+        return respBuilder_.getMessageOrBuilder();
+      } else {
+        return resp_ == null ?
+            com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      }
+    }
+    /**
+     * <code>.Response resp = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> 
+        getRespFieldBuilder() {
+      if (respBuilder_ == null) {
+        respBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder>(
+                getResp(),
+                getParentForChildren(),
+                isClean());
+        resp_ = null;
+      }
+      return respBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:SchedulerEventResp)
+  }
+
+  // @@protoc_insertion_point(class_scope:SchedulerEventResp)
+  private static final com.alibaba.maxgraph.proto.SchedulerEventResp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.SchedulerEventResp();
+  }
+
+  public static com.alibaba.maxgraph.proto.SchedulerEventResp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SchedulerEventResp>
+      PARSER = new com.google.protobuf.AbstractParser<SchedulerEventResp>() {
+    @java.lang.Override
+    public SchedulerEventResp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SchedulerEventResp(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SchedulerEventResp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SchedulerEventResp> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.SchedulerEventResp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface SchedulerEventRespOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SchedulerEventResp)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.SchedulerEvent> 
+      getEventListList();
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.SchedulerEvent getEventList(int index);
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  int getEventListCount();
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.SchedulerEventOrBuilder> 
+      getEventListOrBuilderList();
+  /**
+   * <code>repeated .SchedulerEvent eventList = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.SchedulerEventOrBuilder getEventListOrBuilder(
+      int index);
+
+  /**
+   * <code>.Response resp = 2;</code>
+   * @return Whether the resp field is set.
+   */
+  boolean hasResp();
+  /**
+   * <code>.Response resp = 2;</code>
+   * @return The resp.
+   */
+  com.alibaba.maxgraph.proto.Response getResp();
+  /**
+   * <code>.Response resp = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder();
+}
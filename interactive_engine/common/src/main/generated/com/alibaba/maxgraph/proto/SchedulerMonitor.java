@@ -0,0 +1,98 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: scheduler_monitor.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class SchedulerMonitor {
+  private SchedulerMonitor() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SchedulerEvent_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SchedulerEvent_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestartWorkerReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestartWorkerReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SchedulerEventReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SchedulerEventReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SchedulerEventResp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SchedulerEventResp_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\027scheduler_monitor.proto\032\020sdk/common.pr" +
+      "oto\"a\n\016SchedulerEvent\022\032\n\005level\030\001 \001(\0162\013.E" +
+      "ventLevel\022\030\n\004type\030\002 \001(\0162\n.EventType\022\013\n\003m" +
+      "sg\030\003 \001(\t\022\014\n\004date\030\004 \001(\t\"1\n\020RestartWorkerR" +
+      "eq\022\035\n\025toRestartWorkerIdList\030\001 \003(\005\"R\n\021Sch" +
+      "edulerEventReq\022\026\n\016latestEventNum\030\001 \001(\005\022\022" +
+      "\n\neventLevel\030\002 \001(\t\022\021\n\teventType\030\003 \001(\t\"Q\n" +
+      "\022SchedulerEventResp\022\"\n\teventList\030\001 \003(\0132\017" +
+      ".SchedulerEvent\022\027\n\004resp\030\002 \001(\0132\t.Response" +
+      "*2\n\nEventLevel\022\013\n\007SERIOUS\020\000\022\013\n\007WARNING\020\001" +
+      "\022\n\n\006NORMAL\020\002*^\n\tEventType\022\026\n\022RESOURCE_SC" +
+      "HEDULER\020\000\022\024\n\020WORKER_OPERATION\020\001\022\022\n\016EXCEP" +
+      "TION_INFO\020\002\022\017\n\013NORMAL_INFO\020\0032\203\001\n\014Schedul" +
+      "erApi\0225\n\025restartWorkerManually\022\021.Restart" +
+      "WorkerReq\032\t.Response\022<\n\021getSchedulerEven" +
+      "t\022\022.SchedulerEventReq\032\023.SchedulerEventRe" +
+      "spB!\n\032com.alibaba.maxgraph.protoP\001\240\001\001b\006p" +
+      "roto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+        });
+    internal_static_SchedulerEvent_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_SchedulerEvent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SchedulerEvent_descriptor,
+        new java.lang.String[] { "Level", "Type", "Msg", "Date", });
+    internal_static_RestartWorkerReq_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_RestartWorkerReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestartWorkerReq_descriptor,
+        new java.lang.String[] { "ToRestartWorkerIdList", });
+    internal_static_SchedulerEventReq_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_SchedulerEventReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SchedulerEventReq_descriptor,
+        new java.lang.String[] { "LatestEventNum", "EventLevel", "EventType", });
+    internal_static_SchedulerEventResp_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_SchedulerEventResp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SchedulerEventResp_descriptor,
+        new java.lang.String[] { "EventList", "Resp", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,1150 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: data.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class ServerDataApiGrpc {
+
+  private ServerDataApiGrpc() {}
+
+  public static final String SERVICE_NAME = "ServerDataApi";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request,
+      com.alibaba.maxgraph.proto.InstanceInfoResp> getGetInstanceInfoMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getInstanceInfo",
+      requestType = com.alibaba.maxgraph.proto.Request.class,
+      responseType = com.alibaba.maxgraph.proto.InstanceInfoResp.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request,
+      com.alibaba.maxgraph.proto.InstanceInfoResp> getGetInstanceInfoMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request, com.alibaba.maxgraph.proto.InstanceInfoResp> getGetInstanceInfoMethod;
+    if ((getGetInstanceInfoMethod = ServerDataApiGrpc.getGetInstanceInfoMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getGetInstanceInfoMethod = ServerDataApiGrpc.getGetInstanceInfoMethod) == null) {
+          ServerDataApiGrpc.getGetInstanceInfoMethod = getGetInstanceInfoMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.Request, com.alibaba.maxgraph.proto.InstanceInfoResp>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getInstanceInfo"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Request.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.InstanceInfoResp.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("getInstanceInfo"))
+              .build();
+        }
+      }
+    }
+    return getGetInstanceInfoMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.ServerHBReq,
+      com.alibaba.maxgraph.proto.ServerHBResp> getHeartbeatMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "heartbeat",
+      requestType = com.alibaba.maxgraph.proto.ServerHBReq.class,
+      responseType = com.alibaba.maxgraph.proto.ServerHBResp.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.ServerHBReq,
+      com.alibaba.maxgraph.proto.ServerHBResp> getHeartbeatMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.ServerHBReq, com.alibaba.maxgraph.proto.ServerHBResp> getHeartbeatMethod;
+    if ((getHeartbeatMethod = ServerDataApiGrpc.getHeartbeatMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getHeartbeatMethod = ServerDataApiGrpc.getHeartbeatMethod) == null) {
+          ServerDataApiGrpc.getHeartbeatMethod = getHeartbeatMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.ServerHBReq, com.alibaba.maxgraph.proto.ServerHBResp>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "heartbeat"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.ServerHBReq.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.ServerHBResp.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("heartbeat"))
+              .build();
+        }
+      }
+    }
+    return getHeartbeatMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RuntimeEnv,
+      com.alibaba.maxgraph.proto.RuntimeEnvList> getUpdateRuntimeEnvMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "updateRuntimeEnv",
+      requestType = com.alibaba.maxgraph.proto.RuntimeEnv.class,
+      responseType = com.alibaba.maxgraph.proto.RuntimeEnvList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RuntimeEnv,
+      com.alibaba.maxgraph.proto.RuntimeEnvList> getUpdateRuntimeEnvMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.RuntimeEnv, com.alibaba.maxgraph.proto.RuntimeEnvList> getUpdateRuntimeEnvMethod;
+    if ((getUpdateRuntimeEnvMethod = ServerDataApiGrpc.getUpdateRuntimeEnvMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getUpdateRuntimeEnvMethod = ServerDataApiGrpc.getUpdateRuntimeEnvMethod) == null) {
+          ServerDataApiGrpc.getUpdateRuntimeEnvMethod = getUpdateRuntimeEnvMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.RuntimeEnv, com.alibaba.maxgraph.proto.RuntimeEnvList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "updateRuntimeEnv"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RuntimeEnv.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RuntimeEnvList.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("updateRuntimeEnv"))
+              .build();
+        }
+      }
+    }
+    return getUpdateRuntimeEnvMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Empty,
+      com.alibaba.maxgraph.proto.Empty> getResetRuntimeEnvMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "resetRuntimeEnv",
+      requestType = com.alibaba.maxgraph.proto.Empty.class,
+      responseType = com.alibaba.maxgraph.proto.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Empty,
+      com.alibaba.maxgraph.proto.Empty> getResetRuntimeEnvMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Empty, com.alibaba.maxgraph.proto.Empty> getResetRuntimeEnvMethod;
+    if ((getResetRuntimeEnvMethod = ServerDataApiGrpc.getResetRuntimeEnvMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getResetRuntimeEnvMethod = ServerDataApiGrpc.getResetRuntimeEnvMethod) == null) {
+          ServerDataApiGrpc.getResetRuntimeEnvMethod = getResetRuntimeEnvMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.Empty, com.alibaba.maxgraph.proto.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "resetRuntimeEnv"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("resetRuntimeEnv"))
+              .build();
+        }
+      }
+    }
+    return getResetRuntimeEnvMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.SimpleServerHBReq,
+      com.alibaba.maxgraph.proto.SimpleServerHBResponse> getSimpleHeartbeatMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "simpleHeartbeat",
+      requestType = com.alibaba.maxgraph.proto.SimpleServerHBReq.class,
+      responseType = com.alibaba.maxgraph.proto.SimpleServerHBResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.SimpleServerHBReq,
+      com.alibaba.maxgraph.proto.SimpleServerHBResponse> getSimpleHeartbeatMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.SimpleServerHBReq, com.alibaba.maxgraph.proto.SimpleServerHBResponse> getSimpleHeartbeatMethod;
+    if ((getSimpleHeartbeatMethod = ServerDataApiGrpc.getSimpleHeartbeatMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getSimpleHeartbeatMethod = ServerDataApiGrpc.getSimpleHeartbeatMethod) == null) {
+          ServerDataApiGrpc.getSimpleHeartbeatMethod = getSimpleHeartbeatMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.SimpleServerHBReq, com.alibaba.maxgraph.proto.SimpleServerHBResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "simpleHeartbeat"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.SimpleServerHBReq.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.SimpleServerHBResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("simpleHeartbeat"))
+              .build();
+        }
+      }
+    }
+    return getSimpleHeartbeatMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Empty,
+      com.alibaba.maxgraph.proto.RuntimeGroupStatusResp> getGetRuntimeGroupStatusMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getRuntimeGroupStatus",
+      requestType = com.alibaba.maxgraph.proto.Empty.class,
+      responseType = com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Empty,
+      com.alibaba.maxgraph.proto.RuntimeGroupStatusResp> getGetRuntimeGroupStatusMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Empty, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp> getGetRuntimeGroupStatusMethod;
+    if ((getGetRuntimeGroupStatusMethod = ServerDataApiGrpc.getGetRuntimeGroupStatusMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getGetRuntimeGroupStatusMethod = ServerDataApiGrpc.getGetRuntimeGroupStatusMethod) == null) {
+          ServerDataApiGrpc.getGetRuntimeGroupStatusMethod = getGetRuntimeGroupStatusMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.Empty, com.alibaba.maxgraph.proto.RuntimeGroupStatusResp>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getRuntimeGroupStatus"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RuntimeGroupStatusResp.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("getRuntimeGroupStatus"))
+              .build();
+        }
+      }
+    }
+    return getGetRuntimeGroupStatusMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.ServerIdAliveIdProto,
+      com.alibaba.maxgraph.proto.DataPathStatusResponse> getIsDataPathInUseMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "isDataPathInUse",
+      requestType = com.alibaba.maxgraph.proto.ServerIdAliveIdProto.class,
+      responseType = com.alibaba.maxgraph.proto.DataPathStatusResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.ServerIdAliveIdProto,
+      com.alibaba.maxgraph.proto.DataPathStatusResponse> getIsDataPathInUseMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.ServerIdAliveIdProto, com.alibaba.maxgraph.proto.DataPathStatusResponse> getIsDataPathInUseMethod;
+    if ((getIsDataPathInUseMethod = ServerDataApiGrpc.getIsDataPathInUseMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getIsDataPathInUseMethod = ServerDataApiGrpc.getIsDataPathInUseMethod) == null) {
+          ServerDataApiGrpc.getIsDataPathInUseMethod = getIsDataPathInUseMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.ServerIdAliveIdProto, com.alibaba.maxgraph.proto.DataPathStatusResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "isDataPathInUse"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.ServerIdAliveIdProto.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.DataPathStatusResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("isDataPathInUse"))
+              .build();
+        }
+      }
+    }
+    return getIsDataPathInUseMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request,
+      com.alibaba.maxgraph.proto.RoutingServerInfoResp> getGetWorkerInfoAndRoutingServerListMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getWorkerInfoAndRoutingServerList",
+      requestType = com.alibaba.maxgraph.proto.Request.class,
+      responseType = com.alibaba.maxgraph.proto.RoutingServerInfoResp.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request,
+      com.alibaba.maxgraph.proto.RoutingServerInfoResp> getGetWorkerInfoAndRoutingServerListMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request, com.alibaba.maxgraph.proto.RoutingServerInfoResp> getGetWorkerInfoAndRoutingServerListMethod;
+    if ((getGetWorkerInfoAndRoutingServerListMethod = ServerDataApiGrpc.getGetWorkerInfoAndRoutingServerListMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getGetWorkerInfoAndRoutingServerListMethod = ServerDataApiGrpc.getGetWorkerInfoAndRoutingServerListMethod) == null) {
+          ServerDataApiGrpc.getGetWorkerInfoAndRoutingServerListMethod = getGetWorkerInfoAndRoutingServerListMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.Request, com.alibaba.maxgraph.proto.RoutingServerInfoResp>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getWorkerInfoAndRoutingServerList"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Request.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.RoutingServerInfoResp.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("getWorkerInfoAndRoutingServerList"))
+              .build();
+        }
+      }
+    }
+    return getGetWorkerInfoAndRoutingServerListMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.MetricInfoRequest,
+      com.alibaba.maxgraph.proto.MetricInfoResp> getGetRealTimeMetricMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getRealTimeMetric",
+      requestType = com.alibaba.maxgraph.proto.MetricInfoRequest.class,
+      responseType = com.alibaba.maxgraph.proto.MetricInfoResp.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.MetricInfoRequest,
+      com.alibaba.maxgraph.proto.MetricInfoResp> getGetRealTimeMetricMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.MetricInfoRequest, com.alibaba.maxgraph.proto.MetricInfoResp> getGetRealTimeMetricMethod;
+    if ((getGetRealTimeMetricMethod = ServerDataApiGrpc.getGetRealTimeMetricMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getGetRealTimeMetricMethod = ServerDataApiGrpc.getGetRealTimeMetricMethod) == null) {
+          ServerDataApiGrpc.getGetRealTimeMetricMethod = getGetRealTimeMetricMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.MetricInfoRequest, com.alibaba.maxgraph.proto.MetricInfoResp>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getRealTimeMetric"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.MetricInfoRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.MetricInfoResp.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("getRealTimeMetric"))
+              .build();
+        }
+      }
+    }
+    return getGetRealTimeMetricMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request,
+      com.alibaba.maxgraph.proto.AllMetricsInfoResp> getGetAllRealTimeMetricsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getAllRealTimeMetrics",
+      requestType = com.alibaba.maxgraph.proto.Request.class,
+      responseType = com.alibaba.maxgraph.proto.AllMetricsInfoResp.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request,
+      com.alibaba.maxgraph.proto.AllMetricsInfoResp> getGetAllRealTimeMetricsMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.Request, com.alibaba.maxgraph.proto.AllMetricsInfoResp> getGetAllRealTimeMetricsMethod;
+    if ((getGetAllRealTimeMetricsMethod = ServerDataApiGrpc.getGetAllRealTimeMetricsMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getGetAllRealTimeMetricsMethod = ServerDataApiGrpc.getGetAllRealTimeMetricsMethod) == null) {
+          ServerDataApiGrpc.getGetAllRealTimeMetricsMethod = getGetAllRealTimeMetricsMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.Request, com.alibaba.maxgraph.proto.AllMetricsInfoResp>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getAllRealTimeMetrics"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.Request.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.AllMetricsInfoResp.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("getAllRealTimeMetrics"))
+              .build();
+        }
+      }
+    }
+    return getGetAllRealTimeMetricsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest,
+      com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse> getGetExecutorAliveIdMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getExecutorAliveId",
+      requestType = com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest,
+      com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse> getGetExecutorAliveIdMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest, com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse> getGetExecutorAliveIdMethod;
+    if ((getGetExecutorAliveIdMethod = ServerDataApiGrpc.getGetExecutorAliveIdMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getGetExecutorAliveIdMethod = ServerDataApiGrpc.getGetExecutorAliveIdMethod) == null) {
+          ServerDataApiGrpc.getGetExecutorAliveIdMethod = getGetExecutorAliveIdMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest, com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getExecutorAliveId"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("getExecutorAliveId"))
+              .build();
+        }
+      }
+    }
+    return getGetExecutorAliveIdMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest,
+      com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse> getGetPartitionAssignmentMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getPartitionAssignment",
+      requestType = com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest,
+      com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse> getGetPartitionAssignmentMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest, com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse> getGetPartitionAssignmentMethod;
+    if ((getGetPartitionAssignmentMethod = ServerDataApiGrpc.getGetPartitionAssignmentMethod) == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        if ((getGetPartitionAssignmentMethod = ServerDataApiGrpc.getGetPartitionAssignmentMethod) == null) {
+          ServerDataApiGrpc.getGetPartitionAssignmentMethod = getGetPartitionAssignmentMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest, com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getPartitionAssignment"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new ServerDataApiMethodDescriptorSupplier("getPartitionAssignment"))
+              .build();
+        }
+      }
+    }
+    return getGetPartitionAssignmentMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static ServerDataApiStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ServerDataApiStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ServerDataApiStub>() {
+        @java.lang.Override
+        public ServerDataApiStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ServerDataApiStub(channel, callOptions);
+        }
+      };
+    return ServerDataApiStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static ServerDataApiBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ServerDataApiBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ServerDataApiBlockingStub>() {
+        @java.lang.Override
+        public ServerDataApiBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ServerDataApiBlockingStub(channel, callOptions);
+        }
+      };
+    return ServerDataApiBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static ServerDataApiFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ServerDataApiFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ServerDataApiFutureStub>() {
+        @java.lang.Override
+        public ServerDataApiFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ServerDataApiFutureStub(channel, callOptions);
+        }
+      };
+    return ServerDataApiFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class ServerDataApiImplBase implements io.grpc.BindableService {
+
+    /**
+     * <pre>
+     * get Server status
+     * </pre>
+     */
+    public void getInstanceInfo(com.alibaba.maxgraph.proto.Request request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.InstanceInfoResp> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetInstanceInfoMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * heartbeat
+     * </pre>
+     */
+    public void heartbeat(com.alibaba.maxgraph.proto.ServerHBReq request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.ServerHBResp> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getHeartbeatMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * update runtime env
+     * </pre>
+     */
+    public void updateRuntimeEnv(com.alibaba.maxgraph.proto.RuntimeEnv request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RuntimeEnvList> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getUpdateRuntimeEnvMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * reset runtime envs
+     * </pre>
+     */
+    public void resetRuntimeEnv(com.alibaba.maxgraph.proto.Empty request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getResetRuntimeEnvMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void simpleHeartbeat(com.alibaba.maxgraph.proto.SimpleServerHBReq request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.SimpleServerHBResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSimpleHeartbeatMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getRuntimeGroupStatus(com.alibaba.maxgraph.proto.Empty request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RuntimeGroupStatusResp> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetRuntimeGroupStatusMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * query data path is stale or not
+     * </pre>
+     */
+    public void isDataPathInUse(com.alibaba.maxgraph.proto.ServerIdAliveIdProto request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.DataPathStatusResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getIsDataPathInUseMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getWorkerInfoAndRoutingServerList(com.alibaba.maxgraph.proto.Request request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RoutingServerInfoResp> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetWorkerInfoAndRoutingServerListMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getRealTimeMetric(com.alibaba.maxgraph.proto.MetricInfoRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.MetricInfoResp> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetRealTimeMetricMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getAllRealTimeMetrics(com.alibaba.maxgraph.proto.Request request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.AllMetricsInfoResp> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetAllRealTimeMetricsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getExecutorAliveId(com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetExecutorAliveIdMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getPartitionAssignment(com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPartitionAssignmentMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetInstanceInfoMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.Request,
+                com.alibaba.maxgraph.proto.InstanceInfoResp>(
+                  this, METHODID_GET_INSTANCE_INFO)))
+          .addMethod(
+            getHeartbeatMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.ServerHBReq,
+                com.alibaba.maxgraph.proto.ServerHBResp>(
+                  this, METHODID_HEARTBEAT)))
+          .addMethod(
+            getUpdateRuntimeEnvMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.RuntimeEnv,
+                com.alibaba.maxgraph.proto.RuntimeEnvList>(
+                  this, METHODID_UPDATE_RUNTIME_ENV)))
+          .addMethod(
+            getResetRuntimeEnvMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.Empty,
+                com.alibaba.maxgraph.proto.Empty>(
+                  this, METHODID_RESET_RUNTIME_ENV)))
+          .addMethod(
+            getSimpleHeartbeatMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.SimpleServerHBReq,
+                com.alibaba.maxgraph.proto.SimpleServerHBResponse>(
+                  this, METHODID_SIMPLE_HEARTBEAT)))
+          .addMethod(
+            getGetRuntimeGroupStatusMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.Empty,
+                com.alibaba.maxgraph.proto.RuntimeGroupStatusResp>(
+                  this, METHODID_GET_RUNTIME_GROUP_STATUS)))
+          .addMethod(
+            getIsDataPathInUseMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.ServerIdAliveIdProto,
+                com.alibaba.maxgraph.proto.DataPathStatusResponse>(
+                  this, METHODID_IS_DATA_PATH_IN_USE)))
+          .addMethod(
+            getGetWorkerInfoAndRoutingServerListMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.Request,
+                com.alibaba.maxgraph.proto.RoutingServerInfoResp>(
+                  this, METHODID_GET_WORKER_INFO_AND_ROUTING_SERVER_LIST)))
+          .addMethod(
+            getGetRealTimeMetricMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.MetricInfoRequest,
+                com.alibaba.maxgraph.proto.MetricInfoResp>(
+                  this, METHODID_GET_REAL_TIME_METRIC)))
+          .addMethod(
+            getGetAllRealTimeMetricsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.Request,
+                com.alibaba.maxgraph.proto.AllMetricsInfoResp>(
+                  this, METHODID_GET_ALL_REAL_TIME_METRICS)))
+          .addMethod(
+            getGetExecutorAliveIdMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest,
+                com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse>(
+                  this, METHODID_GET_EXECUTOR_ALIVE_ID)))
+          .addMethod(
+            getGetPartitionAssignmentMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest,
+                com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse>(
+                  this, METHODID_GET_PARTITION_ASSIGNMENT)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class ServerDataApiStub extends io.grpc.stub.AbstractAsyncStub<ServerDataApiStub> {
+    private ServerDataApiStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ServerDataApiStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ServerDataApiStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * get Server status
+     * </pre>
+     */
+    public void getInstanceInfo(com.alibaba.maxgraph.proto.Request request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.InstanceInfoResp> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetInstanceInfoMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * heartbeat
+     * </pre>
+     */
+    public void heartbeat(com.alibaba.maxgraph.proto.ServerHBReq request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.ServerHBResp> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getHeartbeatMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * update runtime env
+     * </pre>
+     */
+    public void updateRuntimeEnv(com.alibaba.maxgraph.proto.RuntimeEnv request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RuntimeEnvList> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getUpdateRuntimeEnvMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * reset runtime envs
+     * </pre>
+     */
+    public void resetRuntimeEnv(com.alibaba.maxgraph.proto.Empty request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getResetRuntimeEnvMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void simpleHeartbeat(com.alibaba.maxgraph.proto.SimpleServerHBReq request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.SimpleServerHBResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getSimpleHeartbeatMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getRuntimeGroupStatus(com.alibaba.maxgraph.proto.Empty request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RuntimeGroupStatusResp> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetRuntimeGroupStatusMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * query data path is stale or not
+     * </pre>
+     */
+    public void isDataPathInUse(com.alibaba.maxgraph.proto.ServerIdAliveIdProto request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.DataPathStatusResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getIsDataPathInUseMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getWorkerInfoAndRoutingServerList(com.alibaba.maxgraph.proto.Request request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RoutingServerInfoResp> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetWorkerInfoAndRoutingServerListMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getRealTimeMetric(com.alibaba.maxgraph.proto.MetricInfoRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.MetricInfoResp> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetRealTimeMetricMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getAllRealTimeMetrics(com.alibaba.maxgraph.proto.Request request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.AllMetricsInfoResp> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetAllRealTimeMetricsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getExecutorAliveId(com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetExecutorAliveIdMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getPartitionAssignment(com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetPartitionAssignmentMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class ServerDataApiBlockingStub extends io.grpc.stub.AbstractBlockingStub<ServerDataApiBlockingStub> {
+    private ServerDataApiBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ServerDataApiBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ServerDataApiBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * get Server status
+     * </pre>
+     */
+    public com.alibaba.maxgraph.proto.InstanceInfoResp getInstanceInfo(com.alibaba.maxgraph.proto.Request request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetInstanceInfoMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * heartbeat
+     * </pre>
+     */
+    public com.alibaba.maxgraph.proto.ServerHBResp heartbeat(com.alibaba.maxgraph.proto.ServerHBReq request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getHeartbeatMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * update runtime env
+     * </pre>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeEnvList updateRuntimeEnv(com.alibaba.maxgraph.proto.RuntimeEnv request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getUpdateRuntimeEnvMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * reset runtime envs
+     * </pre>
+     */
+    public com.alibaba.maxgraph.proto.Empty resetRuntimeEnv(com.alibaba.maxgraph.proto.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getResetRuntimeEnvMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.SimpleServerHBResponse simpleHeartbeat(com.alibaba.maxgraph.proto.SimpleServerHBReq request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getSimpleHeartbeatMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.RuntimeGroupStatusResp getRuntimeGroupStatus(com.alibaba.maxgraph.proto.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetRuntimeGroupStatusMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * query data path is stale or not
+     * </pre>
+     */
+    public com.alibaba.maxgraph.proto.DataPathStatusResponse isDataPathInUse(com.alibaba.maxgraph.proto.ServerIdAliveIdProto request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getIsDataPathInUseMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.RoutingServerInfoResp getWorkerInfoAndRoutingServerList(com.alibaba.maxgraph.proto.Request request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetWorkerInfoAndRoutingServerListMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoResp getRealTimeMetric(com.alibaba.maxgraph.proto.MetricInfoRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetRealTimeMetricMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.AllMetricsInfoResp getAllRealTimeMetrics(com.alibaba.maxgraph.proto.Request request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetAllRealTimeMetricsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse getExecutorAliveId(com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetExecutorAliveIdMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse getPartitionAssignment(com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetPartitionAssignmentMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class ServerDataApiFutureStub extends io.grpc.stub.AbstractFutureStub<ServerDataApiFutureStub> {
+    private ServerDataApiFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ServerDataApiFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ServerDataApiFutureStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * get Server status
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.InstanceInfoResp> getInstanceInfo(
+        com.alibaba.maxgraph.proto.Request request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetInstanceInfoMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * heartbeat
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.ServerHBResp> heartbeat(
+        com.alibaba.maxgraph.proto.ServerHBReq request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getHeartbeatMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * update runtime env
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.RuntimeEnvList> updateRuntimeEnv(
+        com.alibaba.maxgraph.proto.RuntimeEnv request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getUpdateRuntimeEnvMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * reset runtime envs
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.Empty> resetRuntimeEnv(
+        com.alibaba.maxgraph.proto.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getResetRuntimeEnvMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.SimpleServerHBResponse> simpleHeartbeat(
+        com.alibaba.maxgraph.proto.SimpleServerHBReq request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getSimpleHeartbeatMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.RuntimeGroupStatusResp> getRuntimeGroupStatus(
+        com.alibaba.maxgraph.proto.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetRuntimeGroupStatusMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * query data path is stale or not
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.DataPathStatusResponse> isDataPathInUse(
+        com.alibaba.maxgraph.proto.ServerIdAliveIdProto request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getIsDataPathInUseMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.RoutingServerInfoResp> getWorkerInfoAndRoutingServerList(
+        com.alibaba.maxgraph.proto.Request request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetWorkerInfoAndRoutingServerListMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.MetricInfoResp> getRealTimeMetric(
+        com.alibaba.maxgraph.proto.MetricInfoRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetRealTimeMetricMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.AllMetricsInfoResp> getAllRealTimeMetrics(
+        com.alibaba.maxgraph.proto.Request request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetAllRealTimeMetricsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse> getExecutorAliveId(
+        com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetExecutorAliveIdMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse> getPartitionAssignment(
+        com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetPartitionAssignmentMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_INSTANCE_INFO = 0;
+  private static final int METHODID_HEARTBEAT = 1;
+  private static final int METHODID_UPDATE_RUNTIME_ENV = 2;
+  private static final int METHODID_RESET_RUNTIME_ENV = 3;
+  private static final int METHODID_SIMPLE_HEARTBEAT = 4;
+  private static final int METHODID_GET_RUNTIME_GROUP_STATUS = 5;
+  private static final int METHODID_IS_DATA_PATH_IN_USE = 6;
+  private static final int METHODID_GET_WORKER_INFO_AND_ROUTING_SERVER_LIST = 7;
+  private static final int METHODID_GET_REAL_TIME_METRIC = 8;
+  private static final int METHODID_GET_ALL_REAL_TIME_METRICS = 9;
+  private static final int METHODID_GET_EXECUTOR_ALIVE_ID = 10;
+  private static final int METHODID_GET_PARTITION_ASSIGNMENT = 11;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final ServerDataApiImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(ServerDataApiImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_INSTANCE_INFO:
+          serviceImpl.getInstanceInfo((com.alibaba.maxgraph.proto.Request) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.InstanceInfoResp>) responseObserver);
+          break;
+        case METHODID_HEARTBEAT:
+          serviceImpl.heartbeat((com.alibaba.maxgraph.proto.ServerHBReq) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.ServerHBResp>) responseObserver);
+          break;
+        case METHODID_UPDATE_RUNTIME_ENV:
+          serviceImpl.updateRuntimeEnv((com.alibaba.maxgraph.proto.RuntimeEnv) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RuntimeEnvList>) responseObserver);
+          break;
+        case METHODID_RESET_RUNTIME_ENV:
+          serviceImpl.resetRuntimeEnv((com.alibaba.maxgraph.proto.Empty) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.Empty>) responseObserver);
+          break;
+        case METHODID_SIMPLE_HEARTBEAT:
+          serviceImpl.simpleHeartbeat((com.alibaba.maxgraph.proto.SimpleServerHBReq) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.SimpleServerHBResponse>) responseObserver);
+          break;
+        case METHODID_GET_RUNTIME_GROUP_STATUS:
+          serviceImpl.getRuntimeGroupStatus((com.alibaba.maxgraph.proto.Empty) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RuntimeGroupStatusResp>) responseObserver);
+          break;
+        case METHODID_IS_DATA_PATH_IN_USE:
+          serviceImpl.isDataPathInUse((com.alibaba.maxgraph.proto.ServerIdAliveIdProto) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.DataPathStatusResponse>) responseObserver);
+          break;
+        case METHODID_GET_WORKER_INFO_AND_ROUTING_SERVER_LIST:
+          serviceImpl.getWorkerInfoAndRoutingServerList((com.alibaba.maxgraph.proto.Request) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.RoutingServerInfoResp>) responseObserver);
+          break;
+        case METHODID_GET_REAL_TIME_METRIC:
+          serviceImpl.getRealTimeMetric((com.alibaba.maxgraph.proto.MetricInfoRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.MetricInfoResp>) responseObserver);
+          break;
+        case METHODID_GET_ALL_REAL_TIME_METRICS:
+          serviceImpl.getAllRealTimeMetrics((com.alibaba.maxgraph.proto.Request) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.AllMetricsInfoResp>) responseObserver);
+          break;
+        case METHODID_GET_EXECUTOR_ALIVE_ID:
+          serviceImpl.getExecutorAliveId((com.alibaba.maxgraph.proto.GetExecutorAliveIdRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GetExecutorAliveIdResponse>) responseObserver);
+          break;
+        case METHODID_GET_PARTITION_ASSIGNMENT:
+          serviceImpl.getPartitionAssignment((com.alibaba.maxgraph.proto.GetPartitionAssignmentRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GetPartitionAssignmentResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class ServerDataApiBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    ServerDataApiBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.Data.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("ServerDataApi");
+    }
+  }
+
+  private static final class ServerDataApiFileDescriptorSupplier
+      extends ServerDataApiBaseDescriptorSupplier {
+    ServerDataApiFileDescriptorSupplier() {}
+  }
+
+  private static final class ServerDataApiMethodDescriptorSupplier
+      extends ServerDataApiBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    ServerDataApiMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (ServerDataApiGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new ServerDataApiFileDescriptorSupplier())
+              .addMethod(getGetInstanceInfoMethod())
+              .addMethod(getHeartbeatMethod())
+              .addMethod(getUpdateRuntimeEnvMethod())
+              .addMethod(getResetRuntimeEnvMethod())
+              .addMethod(getSimpleHeartbeatMethod())
+              .addMethod(getGetRuntimeGroupStatusMethod())
+              .addMethod(getIsDataPathInUseMethod())
+              .addMethod(getGetWorkerInfoAndRoutingServerListMethod())
+              .addMethod(getGetRealTimeMetricMethod())
+              .addMethod(getGetAllRealTimeMetricsMethod())
+              .addMethod(getGetExecutorAliveIdMethod())
+              .addMethod(getGetPartitionAssignmentMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
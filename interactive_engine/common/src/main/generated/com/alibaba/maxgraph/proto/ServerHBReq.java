@@ -0,0 +1,1541 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code ServerHBReq}
+ */
+public final class ServerHBReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:ServerHBReq)
+    ServerHBReqOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ServerHBReq.newBuilder() to construct.
+  private ServerHBReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ServerHBReq() {
+    status_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ServerHBReq();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ServerHBReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            id_ = input.readUInt32();
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.EndpointProto.Builder subBuilder = null;
+            if (endpoint_ != null) {
+              subBuilder = endpoint_.toBuilder();
+            }
+            endpoint_ = input.readMessage(com.alibaba.maxgraph.proto.EndpointProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(endpoint_);
+              endpoint_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 64: {
+
+            heartbeatTime_ = input.readInt64();
+            break;
+          }
+          case 74: {
+            com.alibaba.maxgraph.proto.Statistics.Builder subBuilder = null;
+            if (statistics_ != null) {
+              subBuilder = statistics_.toBuilder();
+            }
+            statistics_ = input.readMessage(com.alibaba.maxgraph.proto.Statistics.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(statistics_);
+              statistics_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 82: {
+            com.alibaba.maxgraph.proto.RuntimeHBReq.Builder subBuilder = null;
+            if (runtimeReq_ != null) {
+              subBuilder = runtimeReq_.toBuilder();
+            }
+            runtimeReq_ = input.readMessage(com.alibaba.maxgraph.proto.RuntimeHBReq.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(runtimeReq_);
+              runtimeReq_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 88: {
+
+            aliveId_ = input.readUInt64();
+            break;
+          }
+          case 96: {
+            int rawValue = input.readEnum();
+
+            status_ = rawValue;
+            break;
+          }
+          case 106: {
+            com.alibaba.maxgraph.proto.MetricInfoProto.Builder subBuilder = null;
+            if (infoProto_ != null) {
+              subBuilder = infoProto_.toBuilder();
+            }
+            infoProto_ = input.readMessage(com.alibaba.maxgraph.proto.MetricInfoProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(infoProto_);
+              infoProto_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBReq_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.ServerHBReq.class, com.alibaba.maxgraph.proto.ServerHBReq.Builder.class);
+  }
+
+  public static final int ID_FIELD_NUMBER = 1;
+  private int id_;
+  /**
+   * <pre>
+   * server id
+   * </pre>
+   *
+   * <code>uint32 id = 1;</code>
+   * @return The id.
+   */
+  @java.lang.Override
+  public int getId() {
+    return id_;
+  }
+
+  public static final int ENDPOINT_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.EndpointProto endpoint_;
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   * @return Whether the endpoint field is set.
+   */
+  @java.lang.Override
+  public boolean hasEndpoint() {
+    return endpoint_ != null;
+  }
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   * @return The endpoint.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.EndpointProto getEndpoint() {
+    return endpoint_ == null ? com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : endpoint_;
+  }
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getEndpointOrBuilder() {
+    return getEndpoint();
+  }
+
+  public static final int HEARTBEATTIME_FIELD_NUMBER = 8;
+  private long heartbeatTime_;
+  /**
+   * <pre>
+   * hbtime
+   * </pre>
+   *
+   * <code>int64 heartbeatTime = 8;</code>
+   * @return The heartbeatTime.
+   */
+  @java.lang.Override
+  public long getHeartbeatTime() {
+    return heartbeatTime_;
+  }
+
+  public static final int STATISTICS_FIELD_NUMBER = 9;
+  private com.alibaba.maxgraph.proto.Statistics statistics_;
+  /**
+   * <code>.Statistics statistics = 9;</code>
+   * @return Whether the statistics field is set.
+   */
+  @java.lang.Override
+  public boolean hasStatistics() {
+    return statistics_ != null;
+  }
+  /**
+   * <code>.Statistics statistics = 9;</code>
+   * @return The statistics.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.Statistics getStatistics() {
+    return statistics_ == null ? com.alibaba.maxgraph.proto.Statistics.getDefaultInstance() : statistics_;
+  }
+  /**
+   * <code>.Statistics statistics = 9;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.StatisticsOrBuilder getStatisticsOrBuilder() {
+    return getStatistics();
+  }
+
+  public static final int RUNTIMEREQ_FIELD_NUMBER = 10;
+  private com.alibaba.maxgraph.proto.RuntimeHBReq runtimeReq_;
+  /**
+   * <pre>
+   * for runtime_manager in coordinator
+   * </pre>
+   *
+   * <code>.RuntimeHBReq runtimeReq = 10;</code>
+   * @return Whether the runtimeReq field is set.
+   */
+  @java.lang.Override
+  public boolean hasRuntimeReq() {
+    return runtimeReq_ != null;
+  }
+  /**
+   * <pre>
+   * for runtime_manager in coordinator
+   * </pre>
+   *
+   * <code>.RuntimeHBReq runtimeReq = 10;</code>
+   * @return The runtimeReq.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeHBReq getRuntimeReq() {
+    return runtimeReq_ == null ? com.alibaba.maxgraph.proto.RuntimeHBReq.getDefaultInstance() : runtimeReq_;
+  }
+  /**
+   * <pre>
+   * for runtime_manager in coordinator
+   * </pre>
+   *
+   * <code>.RuntimeHBReq runtimeReq = 10;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeHBReqOrBuilder getRuntimeReqOrBuilder() {
+    return getRuntimeReq();
+  }
+
+  public static final int ALIVEID_FIELD_NUMBER = 11;
+  private long aliveId_;
+  /**
+   * <code>uint64 aliveId = 11;</code>
+   * @return The aliveId.
+   */
+  @java.lang.Override
+  public long getAliveId() {
+    return aliveId_;
+  }
+
+  public static final int STATUS_FIELD_NUMBER = 12;
+  private int status_;
+  /**
+   * <code>.StoreStatus status = 12;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  @java.lang.Override public int getStatusValue() {
+    return status_;
+  }
+  /**
+   * <code>.StoreStatus status = 12;</code>
+   * @return The status.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.StoreStatus getStatus() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.StoreStatus result = com.alibaba.maxgraph.proto.StoreStatus.valueOf(status_);
+    return result == null ? com.alibaba.maxgraph.proto.StoreStatus.UNRECOGNIZED : result;
+  }
+
+  public static final int INFOPROTO_FIELD_NUMBER = 13;
+  private com.alibaba.maxgraph.proto.MetricInfoProto infoProto_;
+  /**
+   * <code>.MetricInfoProto infoProto = 13;</code>
+   * @return Whether the infoProto field is set.
+   */
+  @java.lang.Override
+  public boolean hasInfoProto() {
+    return infoProto_ != null;
+  }
+  /**
+   * <code>.MetricInfoProto infoProto = 13;</code>
+   * @return The infoProto.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.MetricInfoProto getInfoProto() {
+    return infoProto_ == null ? com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : infoProto_;
+  }
+  /**
+   * <code>.MetricInfoProto infoProto = 13;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getInfoProtoOrBuilder() {
+    return getInfoProto();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (id_ != 0) {
+      output.writeUInt32(1, id_);
+    }
+    if (endpoint_ != null) {
+      output.writeMessage(2, getEndpoint());
+    }
+    if (heartbeatTime_ != 0L) {
+      output.writeInt64(8, heartbeatTime_);
+    }
+    if (statistics_ != null) {
+      output.writeMessage(9, getStatistics());
+    }
+    if (runtimeReq_ != null) {
+      output.writeMessage(10, getRuntimeReq());
+    }
+    if (aliveId_ != 0L) {
+      output.writeUInt64(11, aliveId_);
+    }
+    if (status_ != com.alibaba.maxgraph.proto.StoreStatus.INITIALING.getNumber()) {
+      output.writeEnum(12, status_);
+    }
+    if (infoProto_ != null) {
+      output.writeMessage(13, getInfoProto());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (id_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(1, id_);
+    }
+    if (endpoint_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getEndpoint());
+    }
+    if (heartbeatTime_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(8, heartbeatTime_);
+    }
+    if (statistics_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(9, getStatistics());
+    }
+    if (runtimeReq_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(10, getRuntimeReq());
+    }
+    if (aliveId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(11, aliveId_);
+    }
+    if (status_ != com.alibaba.maxgraph.proto.StoreStatus.INITIALING.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(12, status_);
+    }
+    if (infoProto_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(13, getInfoProto());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.ServerHBReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.ServerHBReq other = (com.alibaba.maxgraph.proto.ServerHBReq) obj;
+
+    if (getId()
+        != other.getId()) return false;
+    if (hasEndpoint() != other.hasEndpoint()) return false;
+    if (hasEndpoint()) {
+      if (!getEndpoint()
+          .equals(other.getEndpoint())) return false;
+    }
+    if (getHeartbeatTime()
+        != other.getHeartbeatTime()) return false;
+    if (hasStatistics() != other.hasStatistics()) return false;
+    if (hasStatistics()) {
+      if (!getStatistics()
+          .equals(other.getStatistics())) return false;
+    }
+    if (hasRuntimeReq() != other.hasRuntimeReq()) return false;
+    if (hasRuntimeReq()) {
+      if (!getRuntimeReq()
+          .equals(other.getRuntimeReq())) return false;
+    }
+    if (getAliveId()
+        != other.getAliveId()) return false;
+    if (status_ != other.status_) return false;
+    if (hasInfoProto() != other.hasInfoProto()) return false;
+    if (hasInfoProto()) {
+      if (!getInfoProto()
+          .equals(other.getInfoProto())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ID_FIELD_NUMBER;
+    hash = (53 * hash) + getId();
+    if (hasEndpoint()) {
+      hash = (37 * hash) + ENDPOINT_FIELD_NUMBER;
+      hash = (53 * hash) + getEndpoint().hashCode();
+    }
+    hash = (37 * hash) + HEARTBEATTIME_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getHeartbeatTime());
+    if (hasStatistics()) {
+      hash = (37 * hash) + STATISTICS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatistics().hashCode();
+    }
+    if (hasRuntimeReq()) {
+      hash = (37 * hash) + RUNTIMEREQ_FIELD_NUMBER;
+      hash = (53 * hash) + getRuntimeReq().hashCode();
+    }
+    hash = (37 * hash) + ALIVEID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAliveId());
+    hash = (37 * hash) + STATUS_FIELD_NUMBER;
+    hash = (53 * hash) + status_;
+    if (hasInfoProto()) {
+      hash = (37 * hash) + INFOPROTO_FIELD_NUMBER;
+      hash = (53 * hash) + getInfoProto().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.ServerHBReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ServerHBReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:ServerHBReq)
+      com.alibaba.maxgraph.proto.ServerHBReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBReq_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.ServerHBReq.class, com.alibaba.maxgraph.proto.ServerHBReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.ServerHBReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      id_ = 0;
+
+      if (endpointBuilder_ == null) {
+        endpoint_ = null;
+      } else {
+        endpoint_ = null;
+        endpointBuilder_ = null;
+      }
+      heartbeatTime_ = 0L;
+
+      if (statisticsBuilder_ == null) {
+        statistics_ = null;
+      } else {
+        statistics_ = null;
+        statisticsBuilder_ = null;
+      }
+      if (runtimeReqBuilder_ == null) {
+        runtimeReq_ = null;
+      } else {
+        runtimeReq_ = null;
+        runtimeReqBuilder_ = null;
+      }
+      aliveId_ = 0L;
+
+      status_ = 0;
+
+      if (infoProtoBuilder_ == null) {
+        infoProto_ = null;
+      } else {
+        infoProto_ = null;
+        infoProtoBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBReq_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ServerHBReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.ServerHBReq.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ServerHBReq build() {
+      com.alibaba.maxgraph.proto.ServerHBReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ServerHBReq buildPartial() {
+      com.alibaba.maxgraph.proto.ServerHBReq result = new com.alibaba.maxgraph.proto.ServerHBReq(this);
+      result.id_ = id_;
+      if (endpointBuilder_ == null) {
+        result.endpoint_ = endpoint_;
+      } else {
+        result.endpoint_ = endpointBuilder_.build();
+      }
+      result.heartbeatTime_ = heartbeatTime_;
+      if (statisticsBuilder_ == null) {
+        result.statistics_ = statistics_;
+      } else {
+        result.statistics_ = statisticsBuilder_.build();
+      }
+      if (runtimeReqBuilder_ == null) {
+        result.runtimeReq_ = runtimeReq_;
+      } else {
+        result.runtimeReq_ = runtimeReqBuilder_.build();
+      }
+      result.aliveId_ = aliveId_;
+      result.status_ = status_;
+      if (infoProtoBuilder_ == null) {
+        result.infoProto_ = infoProto_;
+      } else {
+        result.infoProto_ = infoProtoBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.ServerHBReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.ServerHBReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.ServerHBReq other) {
+      if (other == com.alibaba.maxgraph.proto.ServerHBReq.getDefaultInstance()) return this;
+      if (other.getId() != 0) {
+        setId(other.getId());
+      }
+      if (other.hasEndpoint()) {
+        mergeEndpoint(other.getEndpoint());
+      }
+      if (other.getHeartbeatTime() != 0L) {
+        setHeartbeatTime(other.getHeartbeatTime());
+      }
+      if (other.hasStatistics()) {
+        mergeStatistics(other.getStatistics());
+      }
+      if (other.hasRuntimeReq()) {
+        mergeRuntimeReq(other.getRuntimeReq());
+      }
+      if (other.getAliveId() != 0L) {
+        setAliveId(other.getAliveId());
+      }
+      if (other.status_ != 0) {
+        setStatusValue(other.getStatusValue());
+      }
+      if (other.hasInfoProto()) {
+        mergeInfoProto(other.getInfoProto());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.ServerHBReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.ServerHBReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int id_ ;
+    /**
+     * <pre>
+     * server id
+     * </pre>
+     *
+     * <code>uint32 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+    /**
+     * <pre>
+     * server id
+     * </pre>
+     *
+     * <code>uint32 id = 1;</code>
+     * @param value The id to set.
+     * @return This builder for chaining.
+     */
+    public Builder setId(int value) {
+      
+      id_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * server id
+     * </pre>
+     *
+     * <code>uint32 id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearId() {
+      
+      id_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.EndpointProto endpoint_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder> endpointBuilder_;
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     * @return Whether the endpoint field is set.
+     */
+    public boolean hasEndpoint() {
+      return endpointBuilder_ != null || endpoint_ != null;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     * @return The endpoint.
+     */
+    public com.alibaba.maxgraph.proto.EndpointProto getEndpoint() {
+      if (endpointBuilder_ == null) {
+        return endpoint_ == null ? com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : endpoint_;
+      } else {
+        return endpointBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public Builder setEndpoint(com.alibaba.maxgraph.proto.EndpointProto value) {
+      if (endpointBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        endpoint_ = value;
+        onChanged();
+      } else {
+        endpointBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public Builder setEndpoint(
+        com.alibaba.maxgraph.proto.EndpointProto.Builder builderForValue) {
+      if (endpointBuilder_ == null) {
+        endpoint_ = builderForValue.build();
+        onChanged();
+      } else {
+        endpointBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public Builder mergeEndpoint(com.alibaba.maxgraph.proto.EndpointProto value) {
+      if (endpointBuilder_ == null) {
+        if (endpoint_ != null) {
+          endpoint_ =
+            com.alibaba.maxgraph.proto.EndpointProto.newBuilder(endpoint_).mergeFrom(value).buildPartial();
+        } else {
+          endpoint_ = value;
+        }
+        onChanged();
+      } else {
+        endpointBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public Builder clearEndpoint() {
+      if (endpointBuilder_ == null) {
+        endpoint_ = null;
+        onChanged();
+      } else {
+        endpoint_ = null;
+        endpointBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.EndpointProto.Builder getEndpointBuilder() {
+      
+      onChanged();
+      return getEndpointFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getEndpointOrBuilder() {
+      if (endpointBuilder_ != null) {
+        return endpointBuilder_.getMessageOrBuilder();
+      } else {
+        return endpoint_ == null ?
+            com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : endpoint_;
+      }
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder> 
+        getEndpointFieldBuilder() {
+      if (endpointBuilder_ == null) {
+        endpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder>(
+                getEndpoint(),
+                getParentForChildren(),
+                isClean());
+        endpoint_ = null;
+      }
+      return endpointBuilder_;
+    }
+
+    private long heartbeatTime_ ;
+    /**
+     * <pre>
+     * hbtime
+     * </pre>
+     *
+     * <code>int64 heartbeatTime = 8;</code>
+     * @return The heartbeatTime.
+     */
+    @java.lang.Override
+    public long getHeartbeatTime() {
+      return heartbeatTime_;
+    }
+    /**
+     * <pre>
+     * hbtime
+     * </pre>
+     *
+     * <code>int64 heartbeatTime = 8;</code>
+     * @param value The heartbeatTime to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHeartbeatTime(long value) {
+      
+      heartbeatTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * hbtime
+     * </pre>
+     *
+     * <code>int64 heartbeatTime = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHeartbeatTime() {
+      
+      heartbeatTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.Statistics statistics_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Statistics, com.alibaba.maxgraph.proto.Statistics.Builder, com.alibaba.maxgraph.proto.StatisticsOrBuilder> statisticsBuilder_;
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     * @return Whether the statistics field is set.
+     */
+    public boolean hasStatistics() {
+      return statisticsBuilder_ != null || statistics_ != null;
+    }
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     * @return The statistics.
+     */
+    public com.alibaba.maxgraph.proto.Statistics getStatistics() {
+      if (statisticsBuilder_ == null) {
+        return statistics_ == null ? com.alibaba.maxgraph.proto.Statistics.getDefaultInstance() : statistics_;
+      } else {
+        return statisticsBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     */
+    public Builder setStatistics(com.alibaba.maxgraph.proto.Statistics value) {
+      if (statisticsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        statistics_ = value;
+        onChanged();
+      } else {
+        statisticsBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     */
+    public Builder setStatistics(
+        com.alibaba.maxgraph.proto.Statistics.Builder builderForValue) {
+      if (statisticsBuilder_ == null) {
+        statistics_ = builderForValue.build();
+        onChanged();
+      } else {
+        statisticsBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     */
+    public Builder mergeStatistics(com.alibaba.maxgraph.proto.Statistics value) {
+      if (statisticsBuilder_ == null) {
+        if (statistics_ != null) {
+          statistics_ =
+            com.alibaba.maxgraph.proto.Statistics.newBuilder(statistics_).mergeFrom(value).buildPartial();
+        } else {
+          statistics_ = value;
+        }
+        onChanged();
+      } else {
+        statisticsBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     */
+    public Builder clearStatistics() {
+      if (statisticsBuilder_ == null) {
+        statistics_ = null;
+        onChanged();
+      } else {
+        statistics_ = null;
+        statisticsBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     */
+    public com.alibaba.maxgraph.proto.Statistics.Builder getStatisticsBuilder() {
+      
+      onChanged();
+      return getStatisticsFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     */
+    public com.alibaba.maxgraph.proto.StatisticsOrBuilder getStatisticsOrBuilder() {
+      if (statisticsBuilder_ != null) {
+        return statisticsBuilder_.getMessageOrBuilder();
+      } else {
+        return statistics_ == null ?
+            com.alibaba.maxgraph.proto.Statistics.getDefaultInstance() : statistics_;
+      }
+    }
+    /**
+     * <code>.Statistics statistics = 9;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Statistics, com.alibaba.maxgraph.proto.Statistics.Builder, com.alibaba.maxgraph.proto.StatisticsOrBuilder> 
+        getStatisticsFieldBuilder() {
+      if (statisticsBuilder_ == null) {
+        statisticsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Statistics, com.alibaba.maxgraph.proto.Statistics.Builder, com.alibaba.maxgraph.proto.StatisticsOrBuilder>(
+                getStatistics(),
+                getParentForChildren(),
+                isClean());
+        statistics_ = null;
+      }
+      return statisticsBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.RuntimeHBReq runtimeReq_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RuntimeHBReq, com.alibaba.maxgraph.proto.RuntimeHBReq.Builder, com.alibaba.maxgraph.proto.RuntimeHBReqOrBuilder> runtimeReqBuilder_;
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     * @return Whether the runtimeReq field is set.
+     */
+    public boolean hasRuntimeReq() {
+      return runtimeReqBuilder_ != null || runtimeReq_ != null;
+    }
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     * @return The runtimeReq.
+     */
+    public com.alibaba.maxgraph.proto.RuntimeHBReq getRuntimeReq() {
+      if (runtimeReqBuilder_ == null) {
+        return runtimeReq_ == null ? com.alibaba.maxgraph.proto.RuntimeHBReq.getDefaultInstance() : runtimeReq_;
+      } else {
+        return runtimeReqBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     */
+    public Builder setRuntimeReq(com.alibaba.maxgraph.proto.RuntimeHBReq value) {
+      if (runtimeReqBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        runtimeReq_ = value;
+        onChanged();
+      } else {
+        runtimeReqBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     */
+    public Builder setRuntimeReq(
+        com.alibaba.maxgraph.proto.RuntimeHBReq.Builder builderForValue) {
+      if (runtimeReqBuilder_ == null) {
+        runtimeReq_ = builderForValue.build();
+        onChanged();
+      } else {
+        runtimeReqBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     */
+    public Builder mergeRuntimeReq(com.alibaba.maxgraph.proto.RuntimeHBReq value) {
+      if (runtimeReqBuilder_ == null) {
+        if (runtimeReq_ != null) {
+          runtimeReq_ =
+            com.alibaba.maxgraph.proto.RuntimeHBReq.newBuilder(runtimeReq_).mergeFrom(value).buildPartial();
+        } else {
+          runtimeReq_ = value;
+        }
+        onChanged();
+      } else {
+        runtimeReqBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     */
+    public Builder clearRuntimeReq() {
+      if (runtimeReqBuilder_ == null) {
+        runtimeReq_ = null;
+        onChanged();
+      } else {
+        runtimeReq_ = null;
+        runtimeReqBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeHBReq.Builder getRuntimeReqBuilder() {
+      
+      onChanged();
+      return getRuntimeReqFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeHBReqOrBuilder getRuntimeReqOrBuilder() {
+      if (runtimeReqBuilder_ != null) {
+        return runtimeReqBuilder_.getMessageOrBuilder();
+      } else {
+        return runtimeReq_ == null ?
+            com.alibaba.maxgraph.proto.RuntimeHBReq.getDefaultInstance() : runtimeReq_;
+      }
+    }
+    /**
+     * <pre>
+     * for runtime_manager in coordinator
+     * </pre>
+     *
+     * <code>.RuntimeHBReq runtimeReq = 10;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RuntimeHBReq, com.alibaba.maxgraph.proto.RuntimeHBReq.Builder, com.alibaba.maxgraph.proto.RuntimeHBReqOrBuilder> 
+        getRuntimeReqFieldBuilder() {
+      if (runtimeReqBuilder_ == null) {
+        runtimeReqBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.RuntimeHBReq, com.alibaba.maxgraph.proto.RuntimeHBReq.Builder, com.alibaba.maxgraph.proto.RuntimeHBReqOrBuilder>(
+                getRuntimeReq(),
+                getParentForChildren(),
+                isClean());
+        runtimeReq_ = null;
+      }
+      return runtimeReqBuilder_;
+    }
+
+    private long aliveId_ ;
+    /**
+     * <code>uint64 aliveId = 11;</code>
+     * @return The aliveId.
+     */
+    @java.lang.Override
+    public long getAliveId() {
+      return aliveId_;
+    }
+    /**
+     * <code>uint64 aliveId = 11;</code>
+     * @param value The aliveId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAliveId(long value) {
+      
+      aliveId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 aliveId = 11;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAliveId() {
+      
+      aliveId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int status_ = 0;
+    /**
+     * <code>.StoreStatus status = 12;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>.StoreStatus status = 12;</code>
+     * @param value The enum numeric value on the wire for status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatusValue(int value) {
+      
+      status_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.StoreStatus status = 12;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreStatus getStatus() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.StoreStatus result = com.alibaba.maxgraph.proto.StoreStatus.valueOf(status_);
+      return result == null ? com.alibaba.maxgraph.proto.StoreStatus.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.StoreStatus status = 12;</code>
+     * @param value The status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatus(com.alibaba.maxgraph.proto.StoreStatus value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      status_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.StoreStatus status = 12;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStatus() {
+      
+      status_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.MetricInfoProto infoProto_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder> infoProtoBuilder_;
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     * @return Whether the infoProto field is set.
+     */
+    public boolean hasInfoProto() {
+      return infoProtoBuilder_ != null || infoProto_ != null;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     * @return The infoProto.
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProto getInfoProto() {
+      if (infoProtoBuilder_ == null) {
+        return infoProto_ == null ? com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : infoProto_;
+      } else {
+        return infoProtoBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     */
+    public Builder setInfoProto(com.alibaba.maxgraph.proto.MetricInfoProto value) {
+      if (infoProtoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        infoProto_ = value;
+        onChanged();
+      } else {
+        infoProtoBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     */
+    public Builder setInfoProto(
+        com.alibaba.maxgraph.proto.MetricInfoProto.Builder builderForValue) {
+      if (infoProtoBuilder_ == null) {
+        infoProto_ = builderForValue.build();
+        onChanged();
+      } else {
+        infoProtoBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     */
+    public Builder mergeInfoProto(com.alibaba.maxgraph.proto.MetricInfoProto value) {
+      if (infoProtoBuilder_ == null) {
+        if (infoProto_ != null) {
+          infoProto_ =
+            com.alibaba.maxgraph.proto.MetricInfoProto.newBuilder(infoProto_).mergeFrom(value).buildPartial();
+        } else {
+          infoProto_ = value;
+        }
+        onChanged();
+      } else {
+        infoProtoBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     */
+    public Builder clearInfoProto() {
+      if (infoProtoBuilder_ == null) {
+        infoProto_ = null;
+        onChanged();
+      } else {
+        infoProto_ = null;
+        infoProtoBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProto.Builder getInfoProtoBuilder() {
+      
+      onChanged();
+      return getInfoProtoFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getInfoProtoOrBuilder() {
+      if (infoProtoBuilder_ != null) {
+        return infoProtoBuilder_.getMessageOrBuilder();
+      } else {
+        return infoProto_ == null ?
+            com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : infoProto_;
+      }
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 13;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder> 
+        getInfoProtoFieldBuilder() {
+      if (infoProtoBuilder_ == null) {
+        infoProtoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder>(
+                getInfoProto(),
+                getParentForChildren(),
+                isClean());
+        infoProto_ = null;
+      }
+      return infoProtoBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:ServerHBReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:ServerHBReq)
+  private static final com.alibaba.maxgraph.proto.ServerHBReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.ServerHBReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.ServerHBReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ServerHBReq>
+      PARSER = new com.google.protobuf.AbstractParser<ServerHBReq>() {
+    @java.lang.Override
+    public ServerHBReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ServerHBReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ServerHBReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ServerHBReq> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ServerHBReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,118 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface ServerHBReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ServerHBReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * server id
+   * </pre>
+   *
+   * <code>uint32 id = 1;</code>
+   * @return The id.
+   */
+  int getId();
+
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   * @return Whether the endpoint field is set.
+   */
+  boolean hasEndpoint();
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   * @return The endpoint.
+   */
+  com.alibaba.maxgraph.proto.EndpointProto getEndpoint();
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getEndpointOrBuilder();
+
+  /**
+   * <pre>
+   * hbtime
+   * </pre>
+   *
+   * <code>int64 heartbeatTime = 8;</code>
+   * @return The heartbeatTime.
+   */
+  long getHeartbeatTime();
+
+  /**
+   * <code>.Statistics statistics = 9;</code>
+   * @return Whether the statistics field is set.
+   */
+  boolean hasStatistics();
+  /**
+   * <code>.Statistics statistics = 9;</code>
+   * @return The statistics.
+   */
+  com.alibaba.maxgraph.proto.Statistics getStatistics();
+  /**
+   * <code>.Statistics statistics = 9;</code>
+   */
+  com.alibaba.maxgraph.proto.StatisticsOrBuilder getStatisticsOrBuilder();
+
+  /**
+   * <pre>
+   * for runtime_manager in coordinator
+   * </pre>
+   *
+   * <code>.RuntimeHBReq runtimeReq = 10;</code>
+   * @return Whether the runtimeReq field is set.
+   */
+  boolean hasRuntimeReq();
+  /**
+   * <pre>
+   * for runtime_manager in coordinator
+   * </pre>
+   *
+   * <code>.RuntimeHBReq runtimeReq = 10;</code>
+   * @return The runtimeReq.
+   */
+  com.alibaba.maxgraph.proto.RuntimeHBReq getRuntimeReq();
+  /**
+   * <pre>
+   * for runtime_manager in coordinator
+   * </pre>
+   *
+   * <code>.RuntimeHBReq runtimeReq = 10;</code>
+   */
+  com.alibaba.maxgraph.proto.RuntimeHBReqOrBuilder getRuntimeReqOrBuilder();
+
+  /**
+   * <code>uint64 aliveId = 11;</code>
+   * @return The aliveId.
+   */
+  long getAliveId();
+
+  /**
+   * <code>.StoreStatus status = 12;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  int getStatusValue();
+  /**
+   * <code>.StoreStatus status = 12;</code>
+   * @return The status.
+   */
+  com.alibaba.maxgraph.proto.StoreStatus getStatus();
+
+  /**
+   * <code>.MetricInfoProto infoProto = 13;</code>
+   * @return Whether the infoProto field is set.
+   */
+  boolean hasInfoProto();
+  /**
+   * <code>.MetricInfoProto infoProto = 13;</code>
+   * @return The infoProto.
+   */
+  com.alibaba.maxgraph.proto.MetricInfoProto getInfoProto();
+  /**
+   * <code>.MetricInfoProto infoProto = 13;</code>
+   */
+  com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getInfoProtoOrBuilder();
+}
@@ -0,0 +1,1289 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code ServerHBResp}
+ */
+public final class ServerHBResp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:ServerHBResp)
+    ServerHBRespOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ServerHBResp.newBuilder() to construct.
+  private ServerHBResp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ServerHBResp() {
+    partitions_ = emptyIntList();
+    targetStatus_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ServerHBResp();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ServerHBResp(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.Response.Builder subBuilder = null;
+            if (resp_ != null) {
+              subBuilder = resp_.toBuilder();
+            }
+            resp_ = input.readMessage(com.alibaba.maxgraph.proto.Response.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(resp_);
+              resp_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 32: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              partitions_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            partitions_.addInt(input.readUInt32());
+            break;
+          }
+          case 34: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              partitions_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              partitions_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 50: {
+            com.alibaba.maxgraph.proto.RuntimeHBResp.Builder subBuilder = null;
+            if (runtimeResp_ != null) {
+              subBuilder = runtimeResp_.toBuilder();
+            }
+            runtimeResp_ = input.readMessage(com.alibaba.maxgraph.proto.RuntimeHBResp.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(runtimeResp_);
+              runtimeResp_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 56: {
+
+            isLegal_ = input.readBool();
+            break;
+          }
+          case 80: {
+            int rawValue = input.readEnum();
+
+            targetStatus_ = rawValue;
+            break;
+          }
+          case 88: {
+
+            aliveId_ = input.readUInt64();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        partitions_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBResp_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBResp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.ServerHBResp.class, com.alibaba.maxgraph.proto.ServerHBResp.Builder.class);
+  }
+
+  public static final int RESP_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.Response resp_;
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return Whether the resp field is set.
+   */
+  @java.lang.Override
+  public boolean hasResp() {
+    return resp_ != null;
+  }
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return The resp.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.Response getResp() {
+    return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+  }
+  /**
+   * <code>.Response resp = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+    return getResp();
+  }
+
+  public static final int PARTITIONS_FIELD_NUMBER = 4;
+  private com.google.protobuf.Internal.IntList partitions_;
+  /**
+   * <pre>
+   * assign when init/scale up/down
+   * </pre>
+   *
+   * <code>repeated uint32 partitions = 4;</code>
+   * @return A list containing the partitions.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getPartitionsList() {
+    return partitions_;
+  }
+  /**
+   * <pre>
+   * assign when init/scale up/down
+   * </pre>
+   *
+   * <code>repeated uint32 partitions = 4;</code>
+   * @return The count of partitions.
+   */
+  public int getPartitionsCount() {
+    return partitions_.size();
+  }
+  /**
+   * <pre>
+   * assign when init/scale up/down
+   * </pre>
+   *
+   * <code>repeated uint32 partitions = 4;</code>
+   * @param index The index of the element to return.
+   * @return The partitions at the given index.
+   */
+  public int getPartitions(int index) {
+    return partitions_.getInt(index);
+  }
+  private int partitionsMemoizedSerializedSize = -1;
+
+  public static final int RUNTIMERESP_FIELD_NUMBER = 6;
+  private com.alibaba.maxgraph.proto.RuntimeHBResp runtimeResp_;
+  /**
+   * <pre>
+   * for timely_server_manager
+   * </pre>
+   *
+   * <code>.RuntimeHBResp runtimeResp = 6;</code>
+   * @return Whether the runtimeResp field is set.
+   */
+  @java.lang.Override
+  public boolean hasRuntimeResp() {
+    return runtimeResp_ != null;
+  }
+  /**
+   * <pre>
+   * for timely_server_manager
+   * </pre>
+   *
+   * <code>.RuntimeHBResp runtimeResp = 6;</code>
+   * @return The runtimeResp.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeHBResp getRuntimeResp() {
+    return runtimeResp_ == null ? com.alibaba.maxgraph.proto.RuntimeHBResp.getDefaultInstance() : runtimeResp_;
+  }
+  /**
+   * <pre>
+   * for timely_server_manager
+   * </pre>
+   *
+   * <code>.RuntimeHBResp runtimeResp = 6;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.RuntimeHBRespOrBuilder getRuntimeRespOrBuilder() {
+    return getRuntimeResp();
+  }
+
+  public static final int ISLEGAL_FIELD_NUMBER = 7;
+  private boolean isLegal_;
+  /**
+   * <code>bool isLegal = 7;</code>
+   * @return The isLegal.
+   */
+  @java.lang.Override
+  public boolean getIsLegal() {
+    return isLegal_;
+  }
+
+  public static final int TARGETSTATUS_FIELD_NUMBER = 10;
+  private int targetStatus_;
+  /**
+   * <code>.StoreStatus targetStatus = 10;</code>
+   * @return The enum numeric value on the wire for targetStatus.
+   */
+  @java.lang.Override public int getTargetStatusValue() {
+    return targetStatus_;
+  }
+  /**
+   * <code>.StoreStatus targetStatus = 10;</code>
+   * @return The targetStatus.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.StoreStatus getTargetStatus() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.StoreStatus result = com.alibaba.maxgraph.proto.StoreStatus.valueOf(targetStatus_);
+    return result == null ? com.alibaba.maxgraph.proto.StoreStatus.UNRECOGNIZED : result;
+  }
+
+  public static final int ALIVEID_FIELD_NUMBER = 11;
+  private long aliveId_;
+  /**
+   * <code>uint64 aliveId = 11;</code>
+   * @return The aliveId.
+   */
+  @java.lang.Override
+  public long getAliveId() {
+    return aliveId_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (resp_ != null) {
+      output.writeMessage(1, getResp());
+    }
+    if (getPartitionsList().size() > 0) {
+      output.writeUInt32NoTag(34);
+      output.writeUInt32NoTag(partitionsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < partitions_.size(); i++) {
+      output.writeUInt32NoTag(partitions_.getInt(i));
+    }
+    if (runtimeResp_ != null) {
+      output.writeMessage(6, getRuntimeResp());
+    }
+    if (isLegal_ != false) {
+      output.writeBool(7, isLegal_);
+    }
+    if (targetStatus_ != com.alibaba.maxgraph.proto.StoreStatus.INITIALING.getNumber()) {
+      output.writeEnum(10, targetStatus_);
+    }
+    if (aliveId_ != 0L) {
+      output.writeUInt64(11, aliveId_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (resp_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getResp());
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < partitions_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(partitions_.getInt(i));
+      }
+      size += dataSize;
+      if (!getPartitionsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      partitionsMemoizedSerializedSize = dataSize;
+    }
+    if (runtimeResp_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, getRuntimeResp());
+    }
+    if (isLegal_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(7, isLegal_);
+    }
+    if (targetStatus_ != com.alibaba.maxgraph.proto.StoreStatus.INITIALING.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(10, targetStatus_);
+    }
+    if (aliveId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(11, aliveId_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.ServerHBResp)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.ServerHBResp other = (com.alibaba.maxgraph.proto.ServerHBResp) obj;
+
+    if (hasResp() != other.hasResp()) return false;
+    if (hasResp()) {
+      if (!getResp()
+          .equals(other.getResp())) return false;
+    }
+    if (!getPartitionsList()
+        .equals(other.getPartitionsList())) return false;
+    if (hasRuntimeResp() != other.hasRuntimeResp()) return false;
+    if (hasRuntimeResp()) {
+      if (!getRuntimeResp()
+          .equals(other.getRuntimeResp())) return false;
+    }
+    if (getIsLegal()
+        != other.getIsLegal()) return false;
+    if (targetStatus_ != other.targetStatus_) return false;
+    if (getAliveId()
+        != other.getAliveId()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasResp()) {
+      hash = (37 * hash) + RESP_FIELD_NUMBER;
+      hash = (53 * hash) + getResp().hashCode();
+    }
+    if (getPartitionsCount() > 0) {
+      hash = (37 * hash) + PARTITIONS_FIELD_NUMBER;
+      hash = (53 * hash) + getPartitionsList().hashCode();
+    }
+    if (hasRuntimeResp()) {
+      hash = (37 * hash) + RUNTIMERESP_FIELD_NUMBER;
+      hash = (53 * hash) + getRuntimeResp().hashCode();
+    }
+    hash = (37 * hash) + ISLEGAL_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getIsLegal());
+    hash = (37 * hash) + TARGETSTATUS_FIELD_NUMBER;
+    hash = (53 * hash) + targetStatus_;
+    hash = (37 * hash) + ALIVEID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAliveId());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerHBResp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.ServerHBResp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ServerHBResp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:ServerHBResp)
+      com.alibaba.maxgraph.proto.ServerHBRespOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBResp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.ServerHBResp.class, com.alibaba.maxgraph.proto.ServerHBResp.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.ServerHBResp.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (respBuilder_ == null) {
+        resp_ = null;
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+      partitions_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      if (runtimeRespBuilder_ == null) {
+        runtimeResp_ = null;
+      } else {
+        runtimeResp_ = null;
+        runtimeRespBuilder_ = null;
+      }
+      isLegal_ = false;
+
+      targetStatus_ = 0;
+
+      aliveId_ = 0L;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_ServerHBResp_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ServerHBResp getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.ServerHBResp.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ServerHBResp build() {
+      com.alibaba.maxgraph.proto.ServerHBResp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.ServerHBResp buildPartial() {
+      com.alibaba.maxgraph.proto.ServerHBResp result = new com.alibaba.maxgraph.proto.ServerHBResp(this);
+      int from_bitField0_ = bitField0_;
+      if (respBuilder_ == null) {
+        result.resp_ = resp_;
+      } else {
+        result.resp_ = respBuilder_.build();
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        partitions_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.partitions_ = partitions_;
+      if (runtimeRespBuilder_ == null) {
+        result.runtimeResp_ = runtimeResp_;
+      } else {
+        result.runtimeResp_ = runtimeRespBuilder_.build();
+      }
+      result.isLegal_ = isLegal_;
+      result.targetStatus_ = targetStatus_;
+      result.aliveId_ = aliveId_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.ServerHBResp) {
+        return mergeFrom((com.alibaba.maxgraph.proto.ServerHBResp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.ServerHBResp other) {
+      if (other == com.alibaba.maxgraph.proto.ServerHBResp.getDefaultInstance()) return this;
+      if (other.hasResp()) {
+        mergeResp(other.getResp());
+      }
+      if (!other.partitions_.isEmpty()) {
+        if (partitions_.isEmpty()) {
+          partitions_ = other.partitions_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensurePartitionsIsMutable();
+          partitions_.addAll(other.partitions_);
+        }
+        onChanged();
+      }
+      if (other.hasRuntimeResp()) {
+        mergeRuntimeResp(other.getRuntimeResp());
+      }
+      if (other.getIsLegal() != false) {
+        setIsLegal(other.getIsLegal());
+      }
+      if (other.targetStatus_ != 0) {
+        setTargetStatusValue(other.getTargetStatusValue());
+      }
+      if (other.getAliveId() != 0L) {
+        setAliveId(other.getAliveId());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.ServerHBResp parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.ServerHBResp) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.alibaba.maxgraph.proto.Response resp_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> respBuilder_;
+    /**
+     * <code>.Response resp = 1;</code>
+     * @return Whether the resp field is set.
+     */
+    public boolean hasResp() {
+      return respBuilder_ != null || resp_ != null;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     * @return The resp.
+     */
+    public com.alibaba.maxgraph.proto.Response getResp() {
+      if (respBuilder_ == null) {
+        return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      } else {
+        return respBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder setResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        resp_ = value;
+        onChanged();
+      } else {
+        respBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder setResp(
+        com.alibaba.maxgraph.proto.Response.Builder builderForValue) {
+      if (respBuilder_ == null) {
+        resp_ = builderForValue.build();
+        onChanged();
+      } else {
+        respBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder mergeResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (resp_ != null) {
+          resp_ =
+            com.alibaba.maxgraph.proto.Response.newBuilder(resp_).mergeFrom(value).buildPartial();
+        } else {
+          resp_ = value;
+        }
+        onChanged();
+      } else {
+        respBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public Builder clearResp() {
+      if (respBuilder_ == null) {
+        resp_ = null;
+        onChanged();
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response.Builder getRespBuilder() {
+      
+      onChanged();
+      return getRespFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+      if (respBuilder_ != null) {
+        return respBuilder_.getMessageOrBuilder();
+      } else {
+        return resp_ == null ?
+            com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      }
+    }
+    /**
+     * <code>.Response resp = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> 
+        getRespFieldBuilder() {
+      if (respBuilder_ == null) {
+        respBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder>(
+                getResp(),
+                getParentForChildren(),
+                isClean());
+        resp_ = null;
+      }
+      return respBuilder_;
+    }
+
+    private com.google.protobuf.Internal.IntList partitions_ = emptyIntList();
+    private void ensurePartitionsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        partitions_ = mutableCopy(partitions_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <pre>
+     * assign when init/scale up/down
+     * </pre>
+     *
+     * <code>repeated uint32 partitions = 4;</code>
+     * @return A list containing the partitions.
+     */
+    public java.util.List<java.lang.Integer>
+        getPartitionsList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(partitions_) : partitions_;
+    }
+    /**
+     * <pre>
+     * assign when init/scale up/down
+     * </pre>
+     *
+     * <code>repeated uint32 partitions = 4;</code>
+     * @return The count of partitions.
+     */
+    public int getPartitionsCount() {
+      return partitions_.size();
+    }
+    /**
+     * <pre>
+     * assign when init/scale up/down
+     * </pre>
+     *
+     * <code>repeated uint32 partitions = 4;</code>
+     * @param index The index of the element to return.
+     * @return The partitions at the given index.
+     */
+    public int getPartitions(int index) {
+      return partitions_.getInt(index);
+    }
+    /**
+     * <pre>
+     * assign when init/scale up/down
+     * </pre>
+     *
+     * <code>repeated uint32 partitions = 4;</code>
+     * @param index The index to set the value at.
+     * @param value The partitions to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPartitions(
+        int index, int value) {
+      ensurePartitionsIsMutable();
+      partitions_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * assign when init/scale up/down
+     * </pre>
+     *
+     * <code>repeated uint32 partitions = 4;</code>
+     * @param value The partitions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addPartitions(int value) {
+      ensurePartitionsIsMutable();
+      partitions_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * assign when init/scale up/down
+     * </pre>
+     *
+     * <code>repeated uint32 partitions = 4;</code>
+     * @param values The partitions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllPartitions(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensurePartitionsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, partitions_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * assign when init/scale up/down
+     * </pre>
+     *
+     * <code>repeated uint32 partitions = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPartitions() {
+      partitions_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.RuntimeHBResp runtimeResp_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RuntimeHBResp, com.alibaba.maxgraph.proto.RuntimeHBResp.Builder, com.alibaba.maxgraph.proto.RuntimeHBRespOrBuilder> runtimeRespBuilder_;
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     * @return Whether the runtimeResp field is set.
+     */
+    public boolean hasRuntimeResp() {
+      return runtimeRespBuilder_ != null || runtimeResp_ != null;
+    }
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     * @return The runtimeResp.
+     */
+    public com.alibaba.maxgraph.proto.RuntimeHBResp getRuntimeResp() {
+      if (runtimeRespBuilder_ == null) {
+        return runtimeResp_ == null ? com.alibaba.maxgraph.proto.RuntimeHBResp.getDefaultInstance() : runtimeResp_;
+      } else {
+        return runtimeRespBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     */
+    public Builder setRuntimeResp(com.alibaba.maxgraph.proto.RuntimeHBResp value) {
+      if (runtimeRespBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        runtimeResp_ = value;
+        onChanged();
+      } else {
+        runtimeRespBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     */
+    public Builder setRuntimeResp(
+        com.alibaba.maxgraph.proto.RuntimeHBResp.Builder builderForValue) {
+      if (runtimeRespBuilder_ == null) {
+        runtimeResp_ = builderForValue.build();
+        onChanged();
+      } else {
+        runtimeRespBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     */
+    public Builder mergeRuntimeResp(com.alibaba.maxgraph.proto.RuntimeHBResp value) {
+      if (runtimeRespBuilder_ == null) {
+        if (runtimeResp_ != null) {
+          runtimeResp_ =
+            com.alibaba.maxgraph.proto.RuntimeHBResp.newBuilder(runtimeResp_).mergeFrom(value).buildPartial();
+        } else {
+          runtimeResp_ = value;
+        }
+        onChanged();
+      } else {
+        runtimeRespBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     */
+    public Builder clearRuntimeResp() {
+      if (runtimeRespBuilder_ == null) {
+        runtimeResp_ = null;
+        onChanged();
+      } else {
+        runtimeResp_ = null;
+        runtimeRespBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeHBResp.Builder getRuntimeRespBuilder() {
+      
+      onChanged();
+      return getRuntimeRespFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.RuntimeHBRespOrBuilder getRuntimeRespOrBuilder() {
+      if (runtimeRespBuilder_ != null) {
+        return runtimeRespBuilder_.getMessageOrBuilder();
+      } else {
+        return runtimeResp_ == null ?
+            com.alibaba.maxgraph.proto.RuntimeHBResp.getDefaultInstance() : runtimeResp_;
+      }
+    }
+    /**
+     * <pre>
+     * for timely_server_manager
+     * </pre>
+     *
+     * <code>.RuntimeHBResp runtimeResp = 6;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RuntimeHBResp, com.alibaba.maxgraph.proto.RuntimeHBResp.Builder, com.alibaba.maxgraph.proto.RuntimeHBRespOrBuilder> 
+        getRuntimeRespFieldBuilder() {
+      if (runtimeRespBuilder_ == null) {
+        runtimeRespBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.RuntimeHBResp, com.alibaba.maxgraph.proto.RuntimeHBResp.Builder, com.alibaba.maxgraph.proto.RuntimeHBRespOrBuilder>(
+                getRuntimeResp(),
+                getParentForChildren(),
+                isClean());
+        runtimeResp_ = null;
+      }
+      return runtimeRespBuilder_;
+    }
+
+    private boolean isLegal_ ;
+    /**
+     * <code>bool isLegal = 7;</code>
+     * @return The isLegal.
+     */
+    @java.lang.Override
+    public boolean getIsLegal() {
+      return isLegal_;
+    }
+    /**
+     * <code>bool isLegal = 7;</code>
+     * @param value The isLegal to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsLegal(boolean value) {
+      
+      isLegal_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool isLegal = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIsLegal() {
+      
+      isLegal_ = false;
+      onChanged();
+      return this;
+    }
+
+    private int targetStatus_ = 0;
+    /**
+     * <code>.StoreStatus targetStatus = 10;</code>
+     * @return The enum numeric value on the wire for targetStatus.
+     */
+    @java.lang.Override public int getTargetStatusValue() {
+      return targetStatus_;
+    }
+    /**
+     * <code>.StoreStatus targetStatus = 10;</code>
+     * @param value The enum numeric value on the wire for targetStatus to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTargetStatusValue(int value) {
+      
+      targetStatus_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.StoreStatus targetStatus = 10;</code>
+     * @return The targetStatus.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreStatus getTargetStatus() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.StoreStatus result = com.alibaba.maxgraph.proto.StoreStatus.valueOf(targetStatus_);
+      return result == null ? com.alibaba.maxgraph.proto.StoreStatus.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.StoreStatus targetStatus = 10;</code>
+     * @param value The targetStatus to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTargetStatus(com.alibaba.maxgraph.proto.StoreStatus value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      targetStatus_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.StoreStatus targetStatus = 10;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTargetStatus() {
+      
+      targetStatus_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long aliveId_ ;
+    /**
+     * <code>uint64 aliveId = 11;</code>
+     * @return The aliveId.
+     */
+    @java.lang.Override
+    public long getAliveId() {
+      return aliveId_;
+    }
+    /**
+     * <code>uint64 aliveId = 11;</code>
+     * @param value The aliveId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAliveId(long value) {
+      
+      aliveId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 aliveId = 11;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAliveId() {
+      
+      aliveId_ = 0L;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:ServerHBResp)
+  }
+
+  // @@protoc_insertion_point(class_scope:ServerHBResp)
+  private static final com.alibaba.maxgraph.proto.ServerHBResp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.ServerHBResp();
+  }
+
+  public static com.alibaba.maxgraph.proto.ServerHBResp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ServerHBResp>
+      PARSER = new com.google.protobuf.AbstractParser<ServerHBResp>() {
+    @java.lang.Override
+    public ServerHBResp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ServerHBResp(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ServerHBResp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ServerHBResp> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ServerHBResp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
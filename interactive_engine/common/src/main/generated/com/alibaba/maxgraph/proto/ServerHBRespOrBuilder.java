@@ -0,0 +1,103 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface ServerHBRespOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ServerHBResp)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return Whether the resp field is set.
+   */
+  boolean hasResp();
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return The resp.
+   */
+  com.alibaba.maxgraph.proto.Response getResp();
+  /**
+   * <code>.Response resp = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder();
+
+  /**
+   * <pre>
+   * assign when init/scale up/down
+   * </pre>
+   *
+   * <code>repeated uint32 partitions = 4;</code>
+   * @return A list containing the partitions.
+   */
+  java.util.List<java.lang.Integer> getPartitionsList();
+  /**
+   * <pre>
+   * assign when init/scale up/down
+   * </pre>
+   *
+   * <code>repeated uint32 partitions = 4;</code>
+   * @return The count of partitions.
+   */
+  int getPartitionsCount();
+  /**
+   * <pre>
+   * assign when init/scale up/down
+   * </pre>
+   *
+   * <code>repeated uint32 partitions = 4;</code>
+   * @param index The index of the element to return.
+   * @return The partitions at the given index.
+   */
+  int getPartitions(int index);
+
+  /**
+   * <pre>
+   * for timely_server_manager
+   * </pre>
+   *
+   * <code>.RuntimeHBResp runtimeResp = 6;</code>
+   * @return Whether the runtimeResp field is set.
+   */
+  boolean hasRuntimeResp();
+  /**
+   * <pre>
+   * for timely_server_manager
+   * </pre>
+   *
+   * <code>.RuntimeHBResp runtimeResp = 6;</code>
+   * @return The runtimeResp.
+   */
+  com.alibaba.maxgraph.proto.RuntimeHBResp getRuntimeResp();
+  /**
+   * <pre>
+   * for timely_server_manager
+   * </pre>
+   *
+   * <code>.RuntimeHBResp runtimeResp = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.RuntimeHBRespOrBuilder getRuntimeRespOrBuilder();
+
+  /**
+   * <code>bool isLegal = 7;</code>
+   * @return The isLegal.
+   */
+  boolean getIsLegal();
+
+  /**
+   * <code>.StoreStatus targetStatus = 10;</code>
+   * @return The enum numeric value on the wire for targetStatus.
+   */
+  int getTargetStatusValue();
+  /**
+   * <code>.StoreStatus targetStatus = 10;</code>
+   * @return The targetStatus.
+   */
+  com.alibaba.maxgraph.proto.StoreStatus getTargetStatus();
+
+  /**
+   * <code>uint64 aliveId = 11;</code>
+   * @return The aliveId.
+   */
+  long getAliveId();
+}
@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface ServerIdAliveIdProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ServerIdAliveIdProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 serverId = 1;</code>
+   * @return The serverId.
+   */
+  int getServerId();
+
+  /**
+   * <code>int64 aliveId = 2;</code>
+   * @return The aliveId.
+   */
+  long getAliveId();
+}
@@ -0,0 +1,122 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf enum {@code ShardState}
+ */
+public enum ShardState
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>CREATED = 0;</code>
+   */
+  CREATED(0),
+  /**
+   * <code>RECOVERING = 1;</code>
+   */
+  RECOVERING(1),
+  /**
+   * <code>ONLINING = 2;</code>
+   */
+  ONLINING(2),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>CREATED = 0;</code>
+   */
+  public static final int CREATED_VALUE = 0;
+  /**
+   * <code>RECOVERING = 1;</code>
+   */
+  public static final int RECOVERING_VALUE = 1;
+  /**
+   * <code>ONLINING = 2;</code>
+   */
+  public static final int ONLINING_VALUE = 2;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static ShardState valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static ShardState forNumber(int value) {
+    switch (value) {
+      case 0: return CREATED;
+      case 1: return RECOVERING;
+      case 2: return ONLINING;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<ShardState>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      ShardState> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<ShardState>() {
+          public ShardState findValueByNumber(int number) {
+            return ShardState.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.ClusterProto.getDescriptor().getEnumTypes().get(1);
+  }
+
+  private static final ShardState[] VALUES = values();
+
+  public static ShardState valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private ShardState(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:ShardState)
+}
+
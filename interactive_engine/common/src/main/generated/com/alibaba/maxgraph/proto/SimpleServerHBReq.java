@@ -0,0 +1,1410 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code SimpleServerHBReq}
+ */
+public final class SimpleServerHBReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:SimpleServerHBReq)
+    SimpleServerHBReqOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SimpleServerHBReq.newBuilder() to construct.
+  private SimpleServerHBReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SimpleServerHBReq() {
+    roleType_ = 0;
+    logDir_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SimpleServerHBReq();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SimpleServerHBReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            id_ = input.readUInt32();
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.EndpointProto.Builder subBuilder = null;
+            if (endpoint_ != null) {
+              subBuilder = endpoint_.toBuilder();
+            }
+            endpoint_ = input.readMessage(com.alibaba.maxgraph.proto.EndpointProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(endpoint_);
+              endpoint_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 24: {
+            int rawValue = input.readEnum();
+
+            roleType_ = rawValue;
+            break;
+          }
+          case 34: {
+            com.alibaba.maxgraph.proto.Statistics.Builder subBuilder = null;
+            if (statistics_ != null) {
+              subBuilder = statistics_.toBuilder();
+            }
+            statistics_ = input.readMessage(com.alibaba.maxgraph.proto.Statistics.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(statistics_);
+              statistics_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            logDir_ = s;
+            break;
+          }
+          case 48: {
+
+            aliveId_ = input.readUInt64();
+            break;
+          }
+          case 56: {
+
+            nodeId_ = input.readInt32();
+            break;
+          }
+          case 66: {
+            com.alibaba.maxgraph.proto.MetricInfoProto.Builder subBuilder = null;
+            if (infoProto_ != null) {
+              subBuilder = infoProto_.toBuilder();
+            }
+            infoProto_ = input.readMessage(com.alibaba.maxgraph.proto.MetricInfoProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(infoProto_);
+              infoProto_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_SimpleServerHBReq_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_SimpleServerHBReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.SimpleServerHBReq.class, com.alibaba.maxgraph.proto.SimpleServerHBReq.Builder.class);
+  }
+
+  public static final int ID_FIELD_NUMBER = 1;
+  private int id_;
+  /**
+   * <code>uint32 id = 1;</code>
+   * @return The id.
+   */
+  @java.lang.Override
+  public int getId() {
+    return id_;
+  }
+
+  public static final int ENDPOINT_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.EndpointProto endpoint_;
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   * @return Whether the endpoint field is set.
+   */
+  @java.lang.Override
+  public boolean hasEndpoint() {
+    return endpoint_ != null;
+  }
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   * @return The endpoint.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.EndpointProto getEndpoint() {
+    return endpoint_ == null ? com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : endpoint_;
+  }
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getEndpointOrBuilder() {
+    return getEndpoint();
+  }
+
+  public static final int ROLETYPE_FIELD_NUMBER = 3;
+  private int roleType_;
+  /**
+   * <code>.RoleType roleType = 3;</code>
+   * @return The enum numeric value on the wire for roleType.
+   */
+  @java.lang.Override public int getRoleTypeValue() {
+    return roleType_;
+  }
+  /**
+   * <code>.RoleType roleType = 3;</code>
+   * @return The roleType.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.RoleType getRoleType() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.RoleType result = com.alibaba.maxgraph.proto.RoleType.valueOf(roleType_);
+    return result == null ? com.alibaba.maxgraph.proto.RoleType.UNRECOGNIZED : result;
+  }
+
+  public static final int STATISTICS_FIELD_NUMBER = 4;
+  private com.alibaba.maxgraph.proto.Statistics statistics_;
+  /**
+   * <code>.Statistics statistics = 4;</code>
+   * @return Whether the statistics field is set.
+   */
+  @java.lang.Override
+  public boolean hasStatistics() {
+    return statistics_ != null;
+  }
+  /**
+   * <code>.Statistics statistics = 4;</code>
+   * @return The statistics.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.Statistics getStatistics() {
+    return statistics_ == null ? com.alibaba.maxgraph.proto.Statistics.getDefaultInstance() : statistics_;
+  }
+  /**
+   * <code>.Statistics statistics = 4;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.StatisticsOrBuilder getStatisticsOrBuilder() {
+    return getStatistics();
+  }
+
+  public static final int LOGDIR_FIELD_NUMBER = 5;
+  private volatile java.lang.Object logDir_;
+  /**
+   * <code>string logDir = 5;</code>
+   * @return The logDir.
+   */
+  @java.lang.Override
+  public java.lang.String getLogDir() {
+    java.lang.Object ref = logDir_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      logDir_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string logDir = 5;</code>
+   * @return The bytes for logDir.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getLogDirBytes() {
+    java.lang.Object ref = logDir_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      logDir_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ALIVEID_FIELD_NUMBER = 6;
+  private long aliveId_;
+  /**
+   * <code>uint64 aliveId = 6;</code>
+   * @return The aliveId.
+   */
+  @java.lang.Override
+  public long getAliveId() {
+    return aliveId_;
+  }
+
+  public static final int NODEID_FIELD_NUMBER = 7;
+  private int nodeId_;
+  /**
+   * <code>int32 nodeId = 7;</code>
+   * @return The nodeId.
+   */
+  @java.lang.Override
+  public int getNodeId() {
+    return nodeId_;
+  }
+
+  public static final int INFOPROTO_FIELD_NUMBER = 8;
+  private com.alibaba.maxgraph.proto.MetricInfoProto infoProto_;
+  /**
+   * <code>.MetricInfoProto infoProto = 8;</code>
+   * @return Whether the infoProto field is set.
+   */
+  @java.lang.Override
+  public boolean hasInfoProto() {
+    return infoProto_ != null;
+  }
+  /**
+   * <code>.MetricInfoProto infoProto = 8;</code>
+   * @return The infoProto.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.MetricInfoProto getInfoProto() {
+    return infoProto_ == null ? com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : infoProto_;
+  }
+  /**
+   * <code>.MetricInfoProto infoProto = 8;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getInfoProtoOrBuilder() {
+    return getInfoProto();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (id_ != 0) {
+      output.writeUInt32(1, id_);
+    }
+    if (endpoint_ != null) {
+      output.writeMessage(2, getEndpoint());
+    }
+    if (roleType_ != com.alibaba.maxgraph.proto.RoleType.AM.getNumber()) {
+      output.writeEnum(3, roleType_);
+    }
+    if (statistics_ != null) {
+      output.writeMessage(4, getStatistics());
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(logDir_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, logDir_);
+    }
+    if (aliveId_ != 0L) {
+      output.writeUInt64(6, aliveId_);
+    }
+    if (nodeId_ != 0) {
+      output.writeInt32(7, nodeId_);
+    }
+    if (infoProto_ != null) {
+      output.writeMessage(8, getInfoProto());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (id_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(1, id_);
+    }
+    if (endpoint_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getEndpoint());
+    }
+    if (roleType_ != com.alibaba.maxgraph.proto.RoleType.AM.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, roleType_);
+    }
+    if (statistics_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, getStatistics());
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(logDir_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, logDir_);
+    }
+    if (aliveId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(6, aliveId_);
+    }
+    if (nodeId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(7, nodeId_);
+    }
+    if (infoProto_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(8, getInfoProto());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.SimpleServerHBReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.SimpleServerHBReq other = (com.alibaba.maxgraph.proto.SimpleServerHBReq) obj;
+
+    if (getId()
+        != other.getId()) return false;
+    if (hasEndpoint() != other.hasEndpoint()) return false;
+    if (hasEndpoint()) {
+      if (!getEndpoint()
+          .equals(other.getEndpoint())) return false;
+    }
+    if (roleType_ != other.roleType_) return false;
+    if (hasStatistics() != other.hasStatistics()) return false;
+    if (hasStatistics()) {
+      if (!getStatistics()
+          .equals(other.getStatistics())) return false;
+    }
+    if (!getLogDir()
+        .equals(other.getLogDir())) return false;
+    if (getAliveId()
+        != other.getAliveId()) return false;
+    if (getNodeId()
+        != other.getNodeId()) return false;
+    if (hasInfoProto() != other.hasInfoProto()) return false;
+    if (hasInfoProto()) {
+      if (!getInfoProto()
+          .equals(other.getInfoProto())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ID_FIELD_NUMBER;
+    hash = (53 * hash) + getId();
+    if (hasEndpoint()) {
+      hash = (37 * hash) + ENDPOINT_FIELD_NUMBER;
+      hash = (53 * hash) + getEndpoint().hashCode();
+    }
+    hash = (37 * hash) + ROLETYPE_FIELD_NUMBER;
+    hash = (53 * hash) + roleType_;
+    if (hasStatistics()) {
+      hash = (37 * hash) + STATISTICS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatistics().hashCode();
+    }
+    hash = (37 * hash) + LOGDIR_FIELD_NUMBER;
+    hash = (53 * hash) + getLogDir().hashCode();
+    hash = (37 * hash) + ALIVEID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAliveId());
+    hash = (37 * hash) + NODEID_FIELD_NUMBER;
+    hash = (53 * hash) + getNodeId();
+    if (hasInfoProto()) {
+      hash = (37 * hash) + INFOPROTO_FIELD_NUMBER;
+      hash = (53 * hash) + getInfoProto().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.SimpleServerHBReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code SimpleServerHBReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:SimpleServerHBReq)
+      com.alibaba.maxgraph.proto.SimpleServerHBReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_SimpleServerHBReq_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_SimpleServerHBReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.SimpleServerHBReq.class, com.alibaba.maxgraph.proto.SimpleServerHBReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.SimpleServerHBReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      id_ = 0;
+
+      if (endpointBuilder_ == null) {
+        endpoint_ = null;
+      } else {
+        endpoint_ = null;
+        endpointBuilder_ = null;
+      }
+      roleType_ = 0;
+
+      if (statisticsBuilder_ == null) {
+        statistics_ = null;
+      } else {
+        statistics_ = null;
+        statisticsBuilder_ = null;
+      }
+      logDir_ = "";
+
+      aliveId_ = 0L;
+
+      nodeId_ = 0;
+
+      if (infoProtoBuilder_ == null) {
+        infoProto_ = null;
+      } else {
+        infoProto_ = null;
+        infoProtoBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_SimpleServerHBReq_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SimpleServerHBReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.SimpleServerHBReq.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SimpleServerHBReq build() {
+      com.alibaba.maxgraph.proto.SimpleServerHBReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.SimpleServerHBReq buildPartial() {
+      com.alibaba.maxgraph.proto.SimpleServerHBReq result = new com.alibaba.maxgraph.proto.SimpleServerHBReq(this);
+      result.id_ = id_;
+      if (endpointBuilder_ == null) {
+        result.endpoint_ = endpoint_;
+      } else {
+        result.endpoint_ = endpointBuilder_.build();
+      }
+      result.roleType_ = roleType_;
+      if (statisticsBuilder_ == null) {
+        result.statistics_ = statistics_;
+      } else {
+        result.statistics_ = statisticsBuilder_.build();
+      }
+      result.logDir_ = logDir_;
+      result.aliveId_ = aliveId_;
+      result.nodeId_ = nodeId_;
+      if (infoProtoBuilder_ == null) {
+        result.infoProto_ = infoProto_;
+      } else {
+        result.infoProto_ = infoProtoBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.SimpleServerHBReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.SimpleServerHBReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.SimpleServerHBReq other) {
+      if (other == com.alibaba.maxgraph.proto.SimpleServerHBReq.getDefaultInstance()) return this;
+      if (other.getId() != 0) {
+        setId(other.getId());
+      }
+      if (other.hasEndpoint()) {
+        mergeEndpoint(other.getEndpoint());
+      }
+      if (other.roleType_ != 0) {
+        setRoleTypeValue(other.getRoleTypeValue());
+      }
+      if (other.hasStatistics()) {
+        mergeStatistics(other.getStatistics());
+      }
+      if (!other.getLogDir().isEmpty()) {
+        logDir_ = other.logDir_;
+        onChanged();
+      }
+      if (other.getAliveId() != 0L) {
+        setAliveId(other.getAliveId());
+      }
+      if (other.getNodeId() != 0) {
+        setNodeId(other.getNodeId());
+      }
+      if (other.hasInfoProto()) {
+        mergeInfoProto(other.getInfoProto());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.SimpleServerHBReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.SimpleServerHBReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int id_ ;
+    /**
+     * <code>uint32 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+    /**
+     * <code>uint32 id = 1;</code>
+     * @param value The id to set.
+     * @return This builder for chaining.
+     */
+    public Builder setId(int value) {
+      
+      id_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearId() {
+      
+      id_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.EndpointProto endpoint_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder> endpointBuilder_;
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     * @return Whether the endpoint field is set.
+     */
+    public boolean hasEndpoint() {
+      return endpointBuilder_ != null || endpoint_ != null;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     * @return The endpoint.
+     */
+    public com.alibaba.maxgraph.proto.EndpointProto getEndpoint() {
+      if (endpointBuilder_ == null) {
+        return endpoint_ == null ? com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : endpoint_;
+      } else {
+        return endpointBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public Builder setEndpoint(com.alibaba.maxgraph.proto.EndpointProto value) {
+      if (endpointBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        endpoint_ = value;
+        onChanged();
+      } else {
+        endpointBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public Builder setEndpoint(
+        com.alibaba.maxgraph.proto.EndpointProto.Builder builderForValue) {
+      if (endpointBuilder_ == null) {
+        endpoint_ = builderForValue.build();
+        onChanged();
+      } else {
+        endpointBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public Builder mergeEndpoint(com.alibaba.maxgraph.proto.EndpointProto value) {
+      if (endpointBuilder_ == null) {
+        if (endpoint_ != null) {
+          endpoint_ =
+            com.alibaba.maxgraph.proto.EndpointProto.newBuilder(endpoint_).mergeFrom(value).buildPartial();
+        } else {
+          endpoint_ = value;
+        }
+        onChanged();
+      } else {
+        endpointBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public Builder clearEndpoint() {
+      if (endpointBuilder_ == null) {
+        endpoint_ = null;
+        onChanged();
+      } else {
+        endpoint_ = null;
+        endpointBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.EndpointProto.Builder getEndpointBuilder() {
+      
+      onChanged();
+      return getEndpointFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getEndpointOrBuilder() {
+      if (endpointBuilder_ != null) {
+        return endpointBuilder_.getMessageOrBuilder();
+      } else {
+        return endpoint_ == null ?
+            com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : endpoint_;
+      }
+    }
+    /**
+     * <code>.EndpointProto endpoint = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder> 
+        getEndpointFieldBuilder() {
+      if (endpointBuilder_ == null) {
+        endpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder>(
+                getEndpoint(),
+                getParentForChildren(),
+                isClean());
+        endpoint_ = null;
+      }
+      return endpointBuilder_;
+    }
+
+    private int roleType_ = 0;
+    /**
+     * <code>.RoleType roleType = 3;</code>
+     * @return The enum numeric value on the wire for roleType.
+     */
+    @java.lang.Override public int getRoleTypeValue() {
+      return roleType_;
+    }
+    /**
+     * <code>.RoleType roleType = 3;</code>
+     * @param value The enum numeric value on the wire for roleType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRoleTypeValue(int value) {
+      
+      roleType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.RoleType roleType = 3;</code>
+     * @return The roleType.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RoleType getRoleType() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.RoleType result = com.alibaba.maxgraph.proto.RoleType.valueOf(roleType_);
+      return result == null ? com.alibaba.maxgraph.proto.RoleType.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.RoleType roleType = 3;</code>
+     * @param value The roleType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRoleType(com.alibaba.maxgraph.proto.RoleType value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      roleType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.RoleType roleType = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRoleType() {
+      
+      roleType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.Statistics statistics_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Statistics, com.alibaba.maxgraph.proto.Statistics.Builder, com.alibaba.maxgraph.proto.StatisticsOrBuilder> statisticsBuilder_;
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     * @return Whether the statistics field is set.
+     */
+    public boolean hasStatistics() {
+      return statisticsBuilder_ != null || statistics_ != null;
+    }
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     * @return The statistics.
+     */
+    public com.alibaba.maxgraph.proto.Statistics getStatistics() {
+      if (statisticsBuilder_ == null) {
+        return statistics_ == null ? com.alibaba.maxgraph.proto.Statistics.getDefaultInstance() : statistics_;
+      } else {
+        return statisticsBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     */
+    public Builder setStatistics(com.alibaba.maxgraph.proto.Statistics value) {
+      if (statisticsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        statistics_ = value;
+        onChanged();
+      } else {
+        statisticsBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     */
+    public Builder setStatistics(
+        com.alibaba.maxgraph.proto.Statistics.Builder builderForValue) {
+      if (statisticsBuilder_ == null) {
+        statistics_ = builderForValue.build();
+        onChanged();
+      } else {
+        statisticsBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     */
+    public Builder mergeStatistics(com.alibaba.maxgraph.proto.Statistics value) {
+      if (statisticsBuilder_ == null) {
+        if (statistics_ != null) {
+          statistics_ =
+            com.alibaba.maxgraph.proto.Statistics.newBuilder(statistics_).mergeFrom(value).buildPartial();
+        } else {
+          statistics_ = value;
+        }
+        onChanged();
+      } else {
+        statisticsBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     */
+    public Builder clearStatistics() {
+      if (statisticsBuilder_ == null) {
+        statistics_ = null;
+        onChanged();
+      } else {
+        statistics_ = null;
+        statisticsBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.Statistics.Builder getStatisticsBuilder() {
+      
+      onChanged();
+      return getStatisticsFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.StatisticsOrBuilder getStatisticsOrBuilder() {
+      if (statisticsBuilder_ != null) {
+        return statisticsBuilder_.getMessageOrBuilder();
+      } else {
+        return statistics_ == null ?
+            com.alibaba.maxgraph.proto.Statistics.getDefaultInstance() : statistics_;
+      }
+    }
+    /**
+     * <code>.Statistics statistics = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Statistics, com.alibaba.maxgraph.proto.Statistics.Builder, com.alibaba.maxgraph.proto.StatisticsOrBuilder> 
+        getStatisticsFieldBuilder() {
+      if (statisticsBuilder_ == null) {
+        statisticsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Statistics, com.alibaba.maxgraph.proto.Statistics.Builder, com.alibaba.maxgraph.proto.StatisticsOrBuilder>(
+                getStatistics(),
+                getParentForChildren(),
+                isClean());
+        statistics_ = null;
+      }
+      return statisticsBuilder_;
+    }
+
+    private java.lang.Object logDir_ = "";
+    /**
+     * <code>string logDir = 5;</code>
+     * @return The logDir.
+     */
+    public java.lang.String getLogDir() {
+      java.lang.Object ref = logDir_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        logDir_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string logDir = 5;</code>
+     * @return The bytes for logDir.
+     */
+    public com.google.protobuf.ByteString
+        getLogDirBytes() {
+      java.lang.Object ref = logDir_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        logDir_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string logDir = 5;</code>
+     * @param value The logDir to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLogDir(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      logDir_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string logDir = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLogDir() {
+      
+      logDir_ = getDefaultInstance().getLogDir();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string logDir = 5;</code>
+     * @param value The bytes for logDir to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLogDirBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      logDir_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long aliveId_ ;
+    /**
+     * <code>uint64 aliveId = 6;</code>
+     * @return The aliveId.
+     */
+    @java.lang.Override
+    public long getAliveId() {
+      return aliveId_;
+    }
+    /**
+     * <code>uint64 aliveId = 6;</code>
+     * @param value The aliveId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAliveId(long value) {
+      
+      aliveId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 aliveId = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAliveId() {
+      
+      aliveId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int nodeId_ ;
+    /**
+     * <code>int32 nodeId = 7;</code>
+     * @return The nodeId.
+     */
+    @java.lang.Override
+    public int getNodeId() {
+      return nodeId_;
+    }
+    /**
+     * <code>int32 nodeId = 7;</code>
+     * @param value The nodeId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setNodeId(int value) {
+      
+      nodeId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 nodeId = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearNodeId() {
+      
+      nodeId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.MetricInfoProto infoProto_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder> infoProtoBuilder_;
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     * @return Whether the infoProto field is set.
+     */
+    public boolean hasInfoProto() {
+      return infoProtoBuilder_ != null || infoProto_ != null;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     * @return The infoProto.
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProto getInfoProto() {
+      if (infoProtoBuilder_ == null) {
+        return infoProto_ == null ? com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : infoProto_;
+      } else {
+        return infoProtoBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     */
+    public Builder setInfoProto(com.alibaba.maxgraph.proto.MetricInfoProto value) {
+      if (infoProtoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        infoProto_ = value;
+        onChanged();
+      } else {
+        infoProtoBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     */
+    public Builder setInfoProto(
+        com.alibaba.maxgraph.proto.MetricInfoProto.Builder builderForValue) {
+      if (infoProtoBuilder_ == null) {
+        infoProto_ = builderForValue.build();
+        onChanged();
+      } else {
+        infoProtoBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     */
+    public Builder mergeInfoProto(com.alibaba.maxgraph.proto.MetricInfoProto value) {
+      if (infoProtoBuilder_ == null) {
+        if (infoProto_ != null) {
+          infoProto_ =
+            com.alibaba.maxgraph.proto.MetricInfoProto.newBuilder(infoProto_).mergeFrom(value).buildPartial();
+        } else {
+          infoProto_ = value;
+        }
+        onChanged();
+      } else {
+        infoProtoBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     */
+    public Builder clearInfoProto() {
+      if (infoProtoBuilder_ == null) {
+        infoProto_ = null;
+        onChanged();
+      } else {
+        infoProto_ = null;
+        infoProtoBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProto.Builder getInfoProtoBuilder() {
+      
+      onChanged();
+      return getInfoProtoFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     */
+    public com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getInfoProtoOrBuilder() {
+      if (infoProtoBuilder_ != null) {
+        return infoProtoBuilder_.getMessageOrBuilder();
+      } else {
+        return infoProto_ == null ?
+            com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance() : infoProto_;
+      }
+    }
+    /**
+     * <code>.MetricInfoProto infoProto = 8;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder> 
+        getInfoProtoFieldBuilder() {
+      if (infoProtoBuilder_ == null) {
+        infoProtoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.MetricInfoProto, com.alibaba.maxgraph.proto.MetricInfoProto.Builder, com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder>(
+                getInfoProto(),
+                getParentForChildren(),
+                isClean());
+        infoProto_ = null;
+      }
+      return infoProtoBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:SimpleServerHBReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:SimpleServerHBReq)
+  private static final com.alibaba.maxgraph.proto.SimpleServerHBReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.SimpleServerHBReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.SimpleServerHBReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SimpleServerHBReq>
+      PARSER = new com.google.protobuf.AbstractParser<SimpleServerHBReq>() {
+    @java.lang.Override
+    public SimpleServerHBReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SimpleServerHBReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SimpleServerHBReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SimpleServerHBReq> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.SimpleServerHBReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
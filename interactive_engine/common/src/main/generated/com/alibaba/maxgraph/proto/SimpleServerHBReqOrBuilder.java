@@ -0,0 +1,95 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface SimpleServerHBReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SimpleServerHBReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>uint32 id = 1;</code>
+   * @return The id.
+   */
+  int getId();
+
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   * @return Whether the endpoint field is set.
+   */
+  boolean hasEndpoint();
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   * @return The endpoint.
+   */
+  com.alibaba.maxgraph.proto.EndpointProto getEndpoint();
+  /**
+   * <code>.EndpointProto endpoint = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getEndpointOrBuilder();
+
+  /**
+   * <code>.RoleType roleType = 3;</code>
+   * @return The enum numeric value on the wire for roleType.
+   */
+  int getRoleTypeValue();
+  /**
+   * <code>.RoleType roleType = 3;</code>
+   * @return The roleType.
+   */
+  com.alibaba.maxgraph.proto.RoleType getRoleType();
+
+  /**
+   * <code>.Statistics statistics = 4;</code>
+   * @return Whether the statistics field is set.
+   */
+  boolean hasStatistics();
+  /**
+   * <code>.Statistics statistics = 4;</code>
+   * @return The statistics.
+   */
+  com.alibaba.maxgraph.proto.Statistics getStatistics();
+  /**
+   * <code>.Statistics statistics = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.StatisticsOrBuilder getStatisticsOrBuilder();
+
+  /**
+   * <code>string logDir = 5;</code>
+   * @return The logDir.
+   */
+  java.lang.String getLogDir();
+  /**
+   * <code>string logDir = 5;</code>
+   * @return The bytes for logDir.
+   */
+  com.google.protobuf.ByteString
+      getLogDirBytes();
+
+  /**
+   * <code>uint64 aliveId = 6;</code>
+   * @return The aliveId.
+   */
+  long getAliveId();
+
+  /**
+   * <code>int32 nodeId = 7;</code>
+   * @return The nodeId.
+   */
+  int getNodeId();
+
+  /**
+   * <code>.MetricInfoProto infoProto = 8;</code>
+   * @return Whether the infoProto field is set.
+   */
+  boolean hasInfoProto();
+  /**
+   * <code>.MetricInfoProto infoProto = 8;</code>
+   * @return The infoProto.
+   */
+  com.alibaba.maxgraph.proto.MetricInfoProto getInfoProto();
+  /**
+   * <code>.MetricInfoProto infoProto = 8;</code>
+   */
+  com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder getInfoProtoOrBuilder();
+}
@@ -0,0 +1,74 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface SimpleServerHBResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SimpleServerHBResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return Whether the resp field is set.
+   */
+  boolean hasResp();
+  /**
+   * <code>.Response resp = 1;</code>
+   * @return The resp.
+   */
+  com.alibaba.maxgraph.proto.Response getResp();
+  /**
+   * <code>.Response resp = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder();
+
+  /**
+   * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+   * @return Whether the workerInfoProtos field is set.
+   */
+  boolean hasWorkerInfoProtos();
+  /**
+   * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+   * @return The workerInfoProtos.
+   */
+  com.alibaba.maxgraph.proto.WorkerInfoProtos getWorkerInfoProtos();
+  /**
+   * <code>.WorkerInfoProtos workerInfoProtos = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.WorkerInfoProtosOrBuilder getWorkerInfoProtosOrBuilder();
+
+  /**
+   * <code>bool isLegal = 3;</code>
+   * @return The isLegal.
+   */
+  boolean getIsLegal();
+
+  /**
+   * <code>int64 snapshotId = 4;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>repeated int32 servingServerId = 5;</code>
+   * @return A list containing the servingServerId.
+   */
+  java.util.List<java.lang.Integer> getServingServerIdList();
+  /**
+   * <code>repeated int32 servingServerId = 5;</code>
+   * @return The count of servingServerId.
+   */
+  int getServingServerIdCount();
+  /**
+   * <code>repeated int32 servingServerId = 5;</code>
+   * @param index The index of the element to return.
+   * @return The servingServerId at the given index.
+   */
+  int getServingServerId(int index);
+
+  /**
+   * <code>uint64 aliveId = 6;</code>
+   * @return The aliveId.
+   */
+  long getAliveId();
+}
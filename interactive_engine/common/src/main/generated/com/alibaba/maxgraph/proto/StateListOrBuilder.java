@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: cluster.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface StateListOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StateList)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int64 states = 1;</code>
+   * @return A list containing the states.
+   */
+  java.util.List<java.lang.Long> getStatesList();
+  /**
+   * <code>repeated int64 states = 1;</code>
+   * @return The count of states.
+   */
+  int getStatesCount();
+  /**
+   * <code>repeated int64 states = 1;</code>
+   * @param index The index of the element to return.
+   * @return The states at the given index.
+   */
+  long getStates(int index);
+}
@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface StatisticsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:Statistics)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>map&lt;string, double&gt; metrics = 1;</code>
+   */
+  int getMetricsCount();
+  /**
+   * <code>map&lt;string, double&gt; metrics = 1;</code>
+   */
+  boolean containsMetrics(
+      java.lang.String key);
+  /**
+   * Use {@link #getMetricsMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.Double>
+  getMetrics();
+  /**
+   * <code>map&lt;string, double&gt; metrics = 1;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.Double>
+  getMetricsMap();
+  /**
+   * <code>map&lt;string, double&gt; metrics = 1;</code>
+   */
+
+  double getMetricsOrDefault(
+      java.lang.String key,
+      double defaultValue);
+  /**
+   * <code>map&lt;string, double&gt; metrics = 1;</code>
+   */
+
+  double getMetricsOrThrow(
+      java.lang.String key);
+}
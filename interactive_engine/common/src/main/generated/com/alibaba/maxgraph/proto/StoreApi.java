@@ -0,0 +1,10593 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_api.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class StoreApi {
+  private StoreApi() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface ScanRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.ScanRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>int32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>int32 offset = 3;</code>
+     * @return The offset.
+     */
+    int getOffset();
+
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    int getLimit();
+
+    /**
+     * <code>int32 partition_id = 5;</code>
+     * @return The partitionId.
+     */
+    int getPartitionId();
+
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @return A list containing the propertyIds.
+     */
+    java.util.List<java.lang.Integer> getPropertyIdsList();
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @return The count of propertyIds.
+     */
+    int getPropertyIdsCount();
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @param index The index of the element to return.
+     * @return The propertyIds at the given index.
+     */
+    int getPropertyIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.ScanRequest}
+   */
+  public static final class ScanRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.ScanRequest)
+      ScanRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ScanRequest.newBuilder() to construct.
+    private ScanRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ScanRequest() {
+      propertyIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ScanRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ScanRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              offset_ = input.readInt32();
+              break;
+            }
+            case 32: {
+
+              limit_ = input.readInt32();
+              break;
+            }
+            case 40: {
+
+              partitionId_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                propertyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              propertyIds_.addInt(input.readInt32());
+              break;
+            }
+            case 50: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                propertyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propertyIds_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          propertyIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.ScanRequest.class, com.alibaba.maxgraph.proto.StoreApi.ScanRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 2;
+    private int typeId_;
+    /**
+     * <code>int32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 3;
+    private int offset_;
+    /**
+     * <code>int32 offset = 3;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public int getOffset() {
+      return offset_;
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
+    public static final int PARTITION_ID_FIELD_NUMBER = 5;
+    private int partitionId_;
+    /**
+     * <code>int32 partition_id = 5;</code>
+     * @return The partitionId.
+     */
+    @java.lang.Override
+    public int getPartitionId() {
+      return partitionId_;
+    }
+
+    public static final int PROPERTY_IDS_FIELD_NUMBER = 6;
+    private com.google.protobuf.Internal.IntList propertyIds_;
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @return A list containing the propertyIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropertyIdsList() {
+      return propertyIds_;
+    }
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @return The count of propertyIds.
+     */
+    public int getPropertyIdsCount() {
+      return propertyIds_.size();
+    }
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @param index The index of the element to return.
+     * @return The propertyIds at the given index.
+     */
+    public int getPropertyIds(int index) {
+      return propertyIds_.getInt(index);
+    }
+    private int propertyIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(2, typeId_);
+      }
+      if (offset_ != 0) {
+        output.writeInt32(3, offset_);
+      }
+      if (limit_ != 0) {
+        output.writeInt32(4, limit_);
+      }
+      if (partitionId_ != 0) {
+        output.writeInt32(5, partitionId_);
+      }
+      if (getPropertyIdsList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(propertyIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propertyIds_.size(); i++) {
+        output.writeInt32NoTag(propertyIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, typeId_);
+      }
+      if (offset_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, offset_);
+      }
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
+      }
+      if (partitionId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, partitionId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propertyIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(propertyIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropertyIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propertyIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.ScanRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.ScanRequest other = (com.alibaba.maxgraph.proto.StoreApi.ScanRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (getPartitionId()
+          != other.getPartitionId()) return false;
+      if (!getPropertyIdsList()
+          .equals(other.getPropertyIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + getOffset();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (37 * hash) + PARTITION_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getPartitionId();
+      if (getPropertyIdsCount() > 0) {
+        hash = (37 * hash) + PROPERTY_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropertyIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.ScanRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.ScanRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.ScanRequest)
+        com.alibaba.maxgraph.proto.StoreApi.ScanRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.ScanRequest.class, com.alibaba.maxgraph.proto.StoreApi.ScanRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.ScanRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        typeId_ = 0;
+
+        offset_ = 0;
+
+        limit_ = 0;
+
+        partitionId_ = 0;
+
+        propertyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.ScanRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.ScanRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.ScanRequest build() {
+        com.alibaba.maxgraph.proto.StoreApi.ScanRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.ScanRequest buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.ScanRequest result = new com.alibaba.maxgraph.proto.StoreApi.ScanRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        result.typeId_ = typeId_;
+        result.offset_ = offset_;
+        result.limit_ = limit_;
+        result.partitionId_ = partitionId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          propertyIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.propertyIds_ = propertyIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.ScanRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.ScanRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.ScanRequest other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.ScanRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (other.getOffset() != 0) {
+          setOffset(other.getOffset());
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        if (other.getPartitionId() != 0) {
+          setPartitionId(other.getPartitionId());
+        }
+        if (!other.propertyIds_.isEmpty()) {
+          if (propertyIds_.isEmpty()) {
+            propertyIds_ = other.propertyIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePropertyIdsIsMutable();
+            propertyIds_.addAll(other.propertyIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.ScanRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.ScanRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int offset_ ;
+      /**
+       * <code>int32 offset = 3;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public int getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>int32 offset = 3;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(int value) {
+        
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 offset = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        
+        offset_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int partitionId_ ;
+      /**
+       * <code>int32 partition_id = 5;</code>
+       * @return The partitionId.
+       */
+      @java.lang.Override
+      public int getPartitionId() {
+        return partitionId_;
+      }
+      /**
+       * <code>int32 partition_id = 5;</code>
+       * @param value The partitionId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartitionId(int value) {
+        
+        partitionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 partition_id = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartitionId() {
+        
+        partitionId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList propertyIds_ = emptyIntList();
+      private void ensurePropertyIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          propertyIds_ = mutableCopy(propertyIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @return A list containing the propertyIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropertyIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(propertyIds_) : propertyIds_;
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @return The count of propertyIds.
+       */
+      public int getPropertyIdsCount() {
+        return propertyIds_.size();
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @param index The index of the element to return.
+       * @return The propertyIds at the given index.
+       */
+      public int getPropertyIds(int index) {
+        return propertyIds_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The propertyIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropertyIds(
+          int index, int value) {
+        ensurePropertyIdsIsMutable();
+        propertyIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @param value The propertyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropertyIds(int value) {
+        ensurePropertyIdsIsMutable();
+        propertyIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @param values The propertyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropertyIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropertyIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propertyIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropertyIds() {
+        propertyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.ScanRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.ScanRequest)
+    private static final com.alibaba.maxgraph.proto.StoreApi.ScanRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.ScanRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ScanRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ScanRequest>() {
+      @java.lang.Override
+      public ScanRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ScanRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ScanRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ScanRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.ScanRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ScanEdgeRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.ScanEdgeRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>int32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>int32 offset = 3;</code>
+     * @return The offset.
+     */
+    int getOffset();
+
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    int getLimit();
+
+    /**
+     * <code>int32 partition_id = 5;</code>
+     * @return The partitionId.
+     */
+    int getPartitionId();
+
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @return A list containing the propertyIds.
+     */
+    java.util.List<java.lang.Integer> getPropertyIdsList();
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @return The count of propertyIds.
+     */
+    int getPropertyIdsCount();
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @param index The index of the element to return.
+     * @return The propertyIds at the given index.
+     */
+    int getPropertyIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.ScanEdgeRequest}
+   */
+  public static final class ScanEdgeRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.ScanEdgeRequest)
+      ScanEdgeRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ScanEdgeRequest.newBuilder() to construct.
+    private ScanEdgeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ScanEdgeRequest() {
+      propertyIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ScanEdgeRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ScanEdgeRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              offset_ = input.readInt32();
+              break;
+            }
+            case 32: {
+
+              limit_ = input.readInt32();
+              break;
+            }
+            case 40: {
+
+              partitionId_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                propertyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              propertyIds_.addInt(input.readInt32());
+              break;
+            }
+            case 50: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                propertyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propertyIds_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          propertyIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanEdgeRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanEdgeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.class, com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 2;
+    private int typeId_;
+    /**
+     * <code>int32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 3;
+    private int offset_;
+    /**
+     * <code>int32 offset = 3;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public int getOffset() {
+      return offset_;
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>int32 limit = 4;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
+    public static final int PARTITION_ID_FIELD_NUMBER = 5;
+    private int partitionId_;
+    /**
+     * <code>int32 partition_id = 5;</code>
+     * @return The partitionId.
+     */
+    @java.lang.Override
+    public int getPartitionId() {
+      return partitionId_;
+    }
+
+    public static final int PROPERTY_IDS_FIELD_NUMBER = 6;
+    private com.google.protobuf.Internal.IntList propertyIds_;
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @return A list containing the propertyIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropertyIdsList() {
+      return propertyIds_;
+    }
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @return The count of propertyIds.
+     */
+    public int getPropertyIdsCount() {
+      return propertyIds_.size();
+    }
+    /**
+     * <code>repeated int32 property_ids = 6;</code>
+     * @param index The index of the element to return.
+     * @return The propertyIds at the given index.
+     */
+    public int getPropertyIds(int index) {
+      return propertyIds_.getInt(index);
+    }
+    private int propertyIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(2, typeId_);
+      }
+      if (offset_ != 0) {
+        output.writeInt32(3, offset_);
+      }
+      if (limit_ != 0) {
+        output.writeInt32(4, limit_);
+      }
+      if (partitionId_ != 0) {
+        output.writeInt32(5, partitionId_);
+      }
+      if (getPropertyIdsList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(propertyIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propertyIds_.size(); i++) {
+        output.writeInt32NoTag(propertyIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, typeId_);
+      }
+      if (offset_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, offset_);
+      }
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
+      }
+      if (partitionId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, partitionId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propertyIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(propertyIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropertyIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propertyIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest other = (com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (getPartitionId()
+          != other.getPartitionId()) return false;
+      if (!getPropertyIdsList()
+          .equals(other.getPropertyIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + getOffset();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (37 * hash) + PARTITION_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getPartitionId();
+      if (getPropertyIdsCount() > 0) {
+        hash = (37 * hash) + PROPERTY_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropertyIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.ScanEdgeRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.ScanEdgeRequest)
+        com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanEdgeRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanEdgeRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.class, com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        typeId_ = 0;
+
+        offset_ = 0;
+
+        limit_ = 0;
+
+        partitionId_ = 0;
+
+        propertyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_ScanEdgeRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest build() {
+        com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest result = new com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        result.typeId_ = typeId_;
+        result.offset_ = offset_;
+        result.limit_ = limit_;
+        result.partitionId_ = partitionId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          propertyIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.propertyIds_ = propertyIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (other.getOffset() != 0) {
+          setOffset(other.getOffset());
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        if (other.getPartitionId() != 0) {
+          setPartitionId(other.getPartitionId());
+        }
+        if (!other.propertyIds_.isEmpty()) {
+          if (propertyIds_.isEmpty()) {
+            propertyIds_ = other.propertyIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePropertyIdsIsMutable();
+            propertyIds_.addAll(other.propertyIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int offset_ ;
+      /**
+       * <code>int32 offset = 3;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public int getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>int32 offset = 3;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(int value) {
+        
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 offset = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        
+        offset_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 limit = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int partitionId_ ;
+      /**
+       * <code>int32 partition_id = 5;</code>
+       * @return The partitionId.
+       */
+      @java.lang.Override
+      public int getPartitionId() {
+        return partitionId_;
+      }
+      /**
+       * <code>int32 partition_id = 5;</code>
+       * @param value The partitionId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartitionId(int value) {
+        
+        partitionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 partition_id = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartitionId() {
+        
+        partitionId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList propertyIds_ = emptyIntList();
+      private void ensurePropertyIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          propertyIds_ = mutableCopy(propertyIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @return A list containing the propertyIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropertyIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(propertyIds_) : propertyIds_;
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @return The count of propertyIds.
+       */
+      public int getPropertyIdsCount() {
+        return propertyIds_.size();
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @param index The index of the element to return.
+       * @return The propertyIds at the given index.
+       */
+      public int getPropertyIds(int index) {
+        return propertyIds_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The propertyIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropertyIds(
+          int index, int value) {
+        ensurePropertyIdsIsMutable();
+        propertyIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @param value The propertyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropertyIds(int value) {
+        ensurePropertyIdsIsMutable();
+        propertyIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @param values The propertyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropertyIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropertyIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propertyIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropertyIds() {
+        propertyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.ScanEdgeRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.ScanEdgeRequest)
+    private static final com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ScanEdgeRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ScanEdgeRequest>() {
+      @java.lang.Override
+      public ScanEdgeRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ScanEdgeRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ScanEdgeRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ScanEdgeRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetOutEdgesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.GetOutEdgesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>int64 src_id = 2;</code>
+     * @return The srcId.
+     */
+    long getSrcId();
+
+    /**
+     * <code>int32 type_id = 3;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @return A list containing the propertyIds.
+     */
+    java.util.List<java.lang.Integer> getPropertyIdsList();
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @return The count of propertyIds.
+     */
+    int getPropertyIdsCount();
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propertyIds at the given index.
+     */
+    int getPropertyIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.GetOutEdgesRequest}
+   */
+  public static final class GetOutEdgesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.GetOutEdgesRequest)
+      GetOutEdgesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetOutEdgesRequest.newBuilder() to construct.
+    private GetOutEdgesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetOutEdgesRequest() {
+      propertyIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetOutEdgesRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetOutEdgesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              srcId_ = input.readInt64();
+              break;
+            }
+            case 24: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                propertyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              propertyIds_.addInt(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                propertyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propertyIds_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          propertyIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetOutEdgesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetOutEdgesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.class, com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int SRC_ID_FIELD_NUMBER = 2;
+    private long srcId_;
+    /**
+     * <code>int64 src_id = 2;</code>
+     * @return The srcId.
+     */
+    @java.lang.Override
+    public long getSrcId() {
+      return srcId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 3;
+    private int typeId_;
+    /**
+     * <code>int32 type_id = 3;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int PROPERTY_IDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList propertyIds_;
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @return A list containing the propertyIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropertyIdsList() {
+      return propertyIds_;
+    }
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @return The count of propertyIds.
+     */
+    public int getPropertyIdsCount() {
+      return propertyIds_.size();
+    }
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propertyIds at the given index.
+     */
+    public int getPropertyIds(int index) {
+      return propertyIds_.getInt(index);
+    }
+    private int propertyIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (srcId_ != 0L) {
+        output.writeInt64(2, srcId_);
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(3, typeId_);
+      }
+      if (getPropertyIdsList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(propertyIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propertyIds_.size(); i++) {
+        output.writeInt32NoTag(propertyIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (srcId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, srcId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, typeId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propertyIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(propertyIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropertyIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propertyIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest other = (com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (getSrcId()
+          != other.getSrcId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!getPropertyIdsList()
+          .equals(other.getPropertyIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      hash = (37 * hash) + SRC_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSrcId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      if (getPropertyIdsCount() > 0) {
+        hash = (37 * hash) + PROPERTY_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropertyIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.GetOutEdgesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.GetOutEdgesRequest)
+        com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetOutEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetOutEdgesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.class, com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        srcId_ = 0L;
+
+        typeId_ = 0;
+
+        propertyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetOutEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest build() {
+        com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest result = new com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        result.srcId_ = srcId_;
+        result.typeId_ = typeId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          propertyIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.propertyIds_ = propertyIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.getSrcId() != 0L) {
+          setSrcId(other.getSrcId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (!other.propertyIds_.isEmpty()) {
+          if (propertyIds_.isEmpty()) {
+            propertyIds_ = other.propertyIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePropertyIdsIsMutable();
+            propertyIds_.addAll(other.propertyIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long srcId_ ;
+      /**
+       * <code>int64 src_id = 2;</code>
+       * @return The srcId.
+       */
+      @java.lang.Override
+      public long getSrcId() {
+        return srcId_;
+      }
+      /**
+       * <code>int64 src_id = 2;</code>
+       * @param value The srcId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSrcId(long value) {
+        
+        srcId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 src_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSrcId() {
+        
+        srcId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 type_id = 3;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 type_id = 3;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList propertyIds_ = emptyIntList();
+      private void ensurePropertyIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          propertyIds_ = mutableCopy(propertyIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @return A list containing the propertyIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropertyIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(propertyIds_) : propertyIds_;
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @return The count of propertyIds.
+       */
+      public int getPropertyIdsCount() {
+        return propertyIds_.size();
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @param index The index of the element to return.
+       * @return The propertyIds at the given index.
+       */
+      public int getPropertyIds(int index) {
+        return propertyIds_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The propertyIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropertyIds(
+          int index, int value) {
+        ensurePropertyIdsIsMutable();
+        propertyIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @param value The propertyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropertyIds(int value) {
+        ensurePropertyIdsIsMutable();
+        propertyIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @param values The propertyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropertyIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropertyIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propertyIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropertyIds() {
+        propertyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.GetOutEdgesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.GetOutEdgesRequest)
+    private static final com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetOutEdgesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetOutEdgesRequest>() {
+      @java.lang.Override
+      public GetOutEdgesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetOutEdgesRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetOutEdgesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetOutEdgesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetInEdgesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.GetInEdgesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>int64 dst_id = 2;</code>
+     * @return The dstId.
+     */
+    long getDstId();
+
+    /**
+     * <code>int32 type_id = 3;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @return A list containing the propertyIds.
+     */
+    java.util.List<java.lang.Integer> getPropertyIdsList();
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @return The count of propertyIds.
+     */
+    int getPropertyIdsCount();
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propertyIds at the given index.
+     */
+    int getPropertyIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.GetInEdgesRequest}
+   */
+  public static final class GetInEdgesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.GetInEdgesRequest)
+      GetInEdgesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetInEdgesRequest.newBuilder() to construct.
+    private GetInEdgesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetInEdgesRequest() {
+      propertyIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetInEdgesRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetInEdgesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              dstId_ = input.readInt64();
+              break;
+            }
+            case 24: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                propertyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              propertyIds_.addInt(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                propertyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propertyIds_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          propertyIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetInEdgesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetInEdgesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.class, com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int DST_ID_FIELD_NUMBER = 2;
+    private long dstId_;
+    /**
+     * <code>int64 dst_id = 2;</code>
+     * @return The dstId.
+     */
+    @java.lang.Override
+    public long getDstId() {
+      return dstId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 3;
+    private int typeId_;
+    /**
+     * <code>int32 type_id = 3;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int PROPERTY_IDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList propertyIds_;
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @return A list containing the propertyIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropertyIdsList() {
+      return propertyIds_;
+    }
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @return The count of propertyIds.
+     */
+    public int getPropertyIdsCount() {
+      return propertyIds_.size();
+    }
+    /**
+     * <code>repeated int32 property_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propertyIds at the given index.
+     */
+    public int getPropertyIds(int index) {
+      return propertyIds_.getInt(index);
+    }
+    private int propertyIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (dstId_ != 0L) {
+        output.writeInt64(2, dstId_);
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(3, typeId_);
+      }
+      if (getPropertyIdsList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(propertyIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propertyIds_.size(); i++) {
+        output.writeInt32NoTag(propertyIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (dstId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, dstId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, typeId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propertyIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(propertyIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropertyIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propertyIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest other = (com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (getDstId()
+          != other.getDstId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!getPropertyIdsList()
+          .equals(other.getPropertyIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      hash = (37 * hash) + DST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDstId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      if (getPropertyIdsCount() > 0) {
+        hash = (37 * hash) + PROPERTY_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropertyIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.GetInEdgesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.GetInEdgesRequest)
+        com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetInEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetInEdgesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.class, com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        dstId_ = 0L;
+
+        typeId_ = 0;
+
+        propertyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetInEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest build() {
+        com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest result = new com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        result.dstId_ = dstId_;
+        result.typeId_ = typeId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          propertyIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.propertyIds_ = propertyIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.getDstId() != 0L) {
+          setDstId(other.getDstId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (!other.propertyIds_.isEmpty()) {
+          if (propertyIds_.isEmpty()) {
+            propertyIds_ = other.propertyIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePropertyIdsIsMutable();
+            propertyIds_.addAll(other.propertyIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long dstId_ ;
+      /**
+       * <code>int64 dst_id = 2;</code>
+       * @return The dstId.
+       */
+      @java.lang.Override
+      public long getDstId() {
+        return dstId_;
+      }
+      /**
+       * <code>int64 dst_id = 2;</code>
+       * @param value The dstId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDstId(long value) {
+        
+        dstId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 dst_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDstId() {
+        
+        dstId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 type_id = 3;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 type_id = 3;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList propertyIds_ = emptyIntList();
+      private void ensurePropertyIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          propertyIds_ = mutableCopy(propertyIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @return A list containing the propertyIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropertyIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(propertyIds_) : propertyIds_;
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @return The count of propertyIds.
+       */
+      public int getPropertyIdsCount() {
+        return propertyIds_.size();
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @param index The index of the element to return.
+       * @return The propertyIds at the given index.
+       */
+      public int getPropertyIds(int index) {
+        return propertyIds_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The propertyIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropertyIds(
+          int index, int value) {
+        ensurePropertyIdsIsMutable();
+        propertyIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @param value The propertyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropertyIds(int value) {
+        ensurePropertyIdsIsMutable();
+        propertyIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @param values The propertyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropertyIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropertyIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propertyIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 property_ids = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropertyIds() {
+        propertyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.GetInEdgesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.GetInEdgesRequest)
+    private static final com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetInEdgesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetInEdgesRequest>() {
+      @java.lang.Override
+      public GetInEdgesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetInEdgesRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetInEdgesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetInEdgesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GraphEdgeReponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.GraphEdgeReponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     * @return Whether the srcId field is set.
+     */
+    boolean hasSrcId();
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     * @return The srcId.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSrcId();
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSrcIdOrBuilder();
+
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     * @return Whether the dstId field is set.
+     */
+    boolean hasDstId();
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     * @return The dstId.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstId();
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstIdOrBuilder();
+
+    /**
+     * <code>int64 edge_id = 3;</code>
+     * @return The edgeId.
+     */
+    long getEdgeId();
+
+    /**
+     * <code>int32 type_id = 4;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>bytes pros = 5;</code>
+     * @return The pros.
+     */
+    com.google.protobuf.ByteString getPros();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.GraphEdgeReponse}
+   */
+  public static final class GraphEdgeReponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.GraphEdgeReponse)
+      GraphEdgeReponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GraphEdgeReponse.newBuilder() to construct.
+    private GraphEdgeReponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GraphEdgeReponse() {
+      pros_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GraphEdgeReponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GraphEdgeReponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder subBuilder = null;
+              if (srcId_ != null) {
+                subBuilder = srcId_.toBuilder();
+              }
+              srcId_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(srcId_);
+                srcId_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder subBuilder = null;
+              if (dstId_ != null) {
+                subBuilder = dstId_.toBuilder();
+              }
+              dstId_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(dstId_);
+                dstId_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 24: {
+
+              edgeId_ = input.readInt64();
+              break;
+            }
+            case 32: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 42: {
+
+              pros_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GraphEdgeReponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GraphEdgeReponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.class, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.Builder.class);
+    }
+
+    public static final int SRC_ID_FIELD_NUMBER = 1;
+    private com.alibaba.maxgraph.proto.GremlinQuery.VertexId srcId_;
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     * @return Whether the srcId field is set.
+     */
+    @java.lang.Override
+    public boolean hasSrcId() {
+      return srcId_ != null;
+    }
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     * @return The srcId.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSrcId() {
+      return srcId_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : srcId_;
+    }
+    /**
+     * <code>.tinkerpop.VertexId src_id = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSrcIdOrBuilder() {
+      return getSrcId();
+    }
+
+    public static final int DST_ID_FIELD_NUMBER = 2;
+    private com.alibaba.maxgraph.proto.GremlinQuery.VertexId dstId_;
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     * @return Whether the dstId field is set.
+     */
+    @java.lang.Override
+    public boolean hasDstId() {
+      return dstId_ != null;
+    }
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     * @return The dstId.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstId() {
+      return dstId_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : dstId_;
+    }
+    /**
+     * <code>.tinkerpop.VertexId dst_id = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstIdOrBuilder() {
+      return getDstId();
+    }
+
+    public static final int EDGE_ID_FIELD_NUMBER = 3;
+    private long edgeId_;
+    /**
+     * <code>int64 edge_id = 3;</code>
+     * @return The edgeId.
+     */
+    @java.lang.Override
+    public long getEdgeId() {
+      return edgeId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 4;
+    private int typeId_;
+    /**
+     * <code>int32 type_id = 4;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int PROS_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString pros_;
+    /**
+     * <code>bytes pros = 5;</code>
+     * @return The pros.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPros() {
+      return pros_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (srcId_ != null) {
+        output.writeMessage(1, getSrcId());
+      }
+      if (dstId_ != null) {
+        output.writeMessage(2, getDstId());
+      }
+      if (edgeId_ != 0L) {
+        output.writeInt64(3, edgeId_);
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(4, typeId_);
+      }
+      if (!pros_.isEmpty()) {
+        output.writeBytes(5, pros_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (srcId_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getSrcId());
+      }
+      if (dstId_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getDstId());
+      }
+      if (edgeId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, edgeId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, typeId_);
+      }
+      if (!pros_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, pros_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse other = (com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse) obj;
+
+      if (hasSrcId() != other.hasSrcId()) return false;
+      if (hasSrcId()) {
+        if (!getSrcId()
+            .equals(other.getSrcId())) return false;
+      }
+      if (hasDstId() != other.hasDstId()) return false;
+      if (hasDstId()) {
+        if (!getDstId()
+            .equals(other.getDstId())) return false;
+      }
+      if (getEdgeId()
+          != other.getEdgeId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!getPros()
+          .equals(other.getPros())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSrcId()) {
+        hash = (37 * hash) + SRC_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getSrcId().hashCode();
+      }
+      if (hasDstId()) {
+        hash = (37 * hash) + DST_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getDstId().hashCode();
+      }
+      hash = (37 * hash) + EDGE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getEdgeId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      hash = (37 * hash) + PROS_FIELD_NUMBER;
+      hash = (53 * hash) + getPros().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.GraphEdgeReponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.GraphEdgeReponse)
+        com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GraphEdgeReponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GraphEdgeReponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.class, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (srcIdBuilder_ == null) {
+          srcId_ = null;
+        } else {
+          srcId_ = null;
+          srcIdBuilder_ = null;
+        }
+        if (dstIdBuilder_ == null) {
+          dstId_ = null;
+        } else {
+          dstId_ = null;
+          dstIdBuilder_ = null;
+        }
+        edgeId_ = 0L;
+
+        typeId_ = 0;
+
+        pros_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GraphEdgeReponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse build() {
+        com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse result = new com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse(this);
+        if (srcIdBuilder_ == null) {
+          result.srcId_ = srcId_;
+        } else {
+          result.srcId_ = srcIdBuilder_.build();
+        }
+        if (dstIdBuilder_ == null) {
+          result.dstId_ = dstId_;
+        } else {
+          result.dstId_ = dstIdBuilder_.build();
+        }
+        result.edgeId_ = edgeId_;
+        result.typeId_ = typeId_;
+        result.pros_ = pros_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.getDefaultInstance()) return this;
+        if (other.hasSrcId()) {
+          mergeSrcId(other.getSrcId());
+        }
+        if (other.hasDstId()) {
+          mergeDstId(other.getDstId());
+        }
+        if (other.getEdgeId() != 0L) {
+          setEdgeId(other.getEdgeId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (other.getPros() != com.google.protobuf.ByteString.EMPTY) {
+          setPros(other.getPros());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.VertexId srcId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> srcIdBuilder_;
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       * @return Whether the srcId field is set.
+       */
+      public boolean hasSrcId() {
+        return srcIdBuilder_ != null || srcId_ != null;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       * @return The srcId.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getSrcId() {
+        if (srcIdBuilder_ == null) {
+          return srcId_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : srcId_;
+        } else {
+          return srcIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public Builder setSrcId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (srcIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          srcId_ = value;
+          onChanged();
+        } else {
+          srcIdBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public Builder setSrcId(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (srcIdBuilder_ == null) {
+          srcId_ = builderForValue.build();
+          onChanged();
+        } else {
+          srcIdBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public Builder mergeSrcId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (srcIdBuilder_ == null) {
+          if (srcId_ != null) {
+            srcId_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder(srcId_).mergeFrom(value).buildPartial();
+          } else {
+            srcId_ = value;
+          }
+          onChanged();
+        } else {
+          srcIdBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public Builder clearSrcId() {
+        if (srcIdBuilder_ == null) {
+          srcId_ = null;
+          onChanged();
+        } else {
+          srcId_ = null;
+          srcIdBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getSrcIdBuilder() {
+        
+        onChanged();
+        return getSrcIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getSrcIdOrBuilder() {
+        if (srcIdBuilder_ != null) {
+          return srcIdBuilder_.getMessageOrBuilder();
+        } else {
+          return srcId_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : srcId_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId src_id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getSrcIdFieldBuilder() {
+        if (srcIdBuilder_ == null) {
+          srcIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  getSrcId(),
+                  getParentForChildren(),
+                  isClean());
+          srcId_ = null;
+        }
+        return srcIdBuilder_;
+      }
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.VertexId dstId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> dstIdBuilder_;
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       * @return Whether the dstId field is set.
+       */
+      public boolean hasDstId() {
+        return dstIdBuilder_ != null || dstId_ != null;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       * @return The dstId.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getDstId() {
+        if (dstIdBuilder_ == null) {
+          return dstId_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : dstId_;
+        } else {
+          return dstIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public Builder setDstId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (dstIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dstId_ = value;
+          onChanged();
+        } else {
+          dstIdBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public Builder setDstId(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (dstIdBuilder_ == null) {
+          dstId_ = builderForValue.build();
+          onChanged();
+        } else {
+          dstIdBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public Builder mergeDstId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (dstIdBuilder_ == null) {
+          if (dstId_ != null) {
+            dstId_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder(dstId_).mergeFrom(value).buildPartial();
+          } else {
+            dstId_ = value;
+          }
+          onChanged();
+        } else {
+          dstIdBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public Builder clearDstId() {
+        if (dstIdBuilder_ == null) {
+          dstId_ = null;
+          onChanged();
+        } else {
+          dstId_ = null;
+          dstIdBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getDstIdBuilder() {
+        
+        onChanged();
+        return getDstIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getDstIdOrBuilder() {
+        if (dstIdBuilder_ != null) {
+          return dstIdBuilder_.getMessageOrBuilder();
+        } else {
+          return dstId_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : dstId_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId dst_id = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getDstIdFieldBuilder() {
+        if (dstIdBuilder_ == null) {
+          dstIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  getDstId(),
+                  getParentForChildren(),
+                  isClean());
+          dstId_ = null;
+        }
+        return dstIdBuilder_;
+      }
+
+      private long edgeId_ ;
+      /**
+       * <code>int64 edge_id = 3;</code>
+       * @return The edgeId.
+       */
+      @java.lang.Override
+      public long getEdgeId() {
+        return edgeId_;
+      }
+      /**
+       * <code>int64 edge_id = 3;</code>
+       * @param value The edgeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEdgeId(long value) {
+        
+        edgeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 edge_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEdgeId() {
+        
+        edgeId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 type_id = 4;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 type_id = 4;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type_id = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString pros_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes pros = 5;</code>
+       * @return The pros.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPros() {
+        return pros_;
+      }
+      /**
+       * <code>bytes pros = 5;</code>
+       * @param value The pros to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPros(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pros_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes pros = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPros() {
+        
+        pros_ = getDefaultInstance().getPros();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.GraphEdgeReponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.GraphEdgeReponse)
+    private static final com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GraphEdgeReponse>
+        PARSER = new com.google.protobuf.AbstractParser<GraphEdgeReponse>() {
+      @java.lang.Override
+      public GraphEdgeReponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GraphEdgeReponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GraphEdgeReponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GraphEdgeReponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetVertexsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.GetVertexsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>int32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return A list containing the ids.
+     */
+    java.util.List<java.lang.Long> getIdsList();
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return The count of ids.
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    long getIds(int index);
+
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return A list containing the propIds.
+     */
+    java.util.List<java.lang.Integer> getPropIdsList();
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return The count of propIds.
+     */
+    int getPropIdsCount();
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propIds at the given index.
+     */
+    int getPropIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.GetVertexsRequest}
+   */
+  public static final class GetVertexsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.GetVertexsRequest)
+      GetVertexsRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetVertexsRequest.newBuilder() to construct.
+    private GetVertexsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetVertexsRequest() {
+      ids_ = emptyLongList();
+      propIds_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetVertexsRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetVertexsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                ids_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.addLong(input.readInt64());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                ids_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                ids_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                propIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              propIds_.addInt(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                propIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propIds_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          propIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetVertexsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetVertexsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.class, com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 2;
+    private int typeId_;
+    /**
+     * <code>int32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int IDS_FIELD_NUMBER = 3;
+    private com.google.protobuf.Internal.LongList ids_;
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return A list containing the ids.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return The count of ids.
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    public long getIds(int index) {
+      return ids_.getLong(index);
+    }
+    private int idsMemoizedSerializedSize = -1;
+
+    public static final int PROP_IDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList propIds_;
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return A list containing the propIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropIdsList() {
+      return propIds_;
+    }
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @return The count of propIds.
+     */
+    public int getPropIdsCount() {
+      return propIds_.size();
+    }
+    /**
+     * <code>repeated int32 prop_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propIds at the given index.
+     */
+    public int getPropIds(int index) {
+      return propIds_.getInt(index);
+    }
+    private int propIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(2, typeId_);
+      }
+      if (getIdsList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(idsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeInt64NoTag(ids_.getLong(i));
+      }
+      if (getPropIdsList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(propIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propIds_.size(); i++) {
+        output.writeInt32NoTag(propIds_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, typeId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(ids_.getLong(i));
+        }
+        size += dataSize;
+        if (!getIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(propIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest other = (com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (!getPropIdsList()
+          .equals(other.getPropIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      if (getPropIdsCount() > 0) {
+        hash = (37 * hash) + PROP_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.GetVertexsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.GetVertexsRequest)
+        com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetVertexsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetVertexsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.class, com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        typeId_ = 0;
+
+        ids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        propIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetVertexsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest build() {
+        com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest result = new com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        result.typeId_ = typeId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ids_ = ids_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          propIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.propIds_ = propIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        if (!other.propIds_.isEmpty()) {
+          if (propIds_.isEmpty()) {
+            propIds_ = other.propIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePropIdsIsMutable();
+            propIds_.addAll(other.propIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList ids_ = emptyLongList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = mutableCopy(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return A list containing the ids.
+       */
+      public java.util.List<java.lang.Long>
+          getIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(ids_) : ids_;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return The count of ids.
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param index The index of the element to return.
+       * @return The ids at the given index.
+       */
+      public long getIds(int index) {
+        return ids_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The ids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIds(
+          int index, long value) {
+        ensureIdsIsMutable();
+        ids_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param value The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIds(long value) {
+        ensureIdsIsMutable();
+        ids_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param values The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIds() {
+        ids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList propIds_ = emptyIntList();
+      private void ensurePropIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          propIds_ = mutableCopy(propIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return A list containing the propIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropIdsList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(propIds_) : propIds_;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return The count of propIds.
+       */
+      public int getPropIdsCount() {
+        return propIds_.size();
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param index The index of the element to return.
+       * @return The propIds at the given index.
+       */
+      public int getPropIds(int index) {
+        return propIds_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The propIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropIds(
+          int index, int value) {
+        ensurePropIdsIsMutable();
+        propIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param value The propIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropIds(int value) {
+        ensurePropIdsIsMutable();
+        propIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @param values The propIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 prop_ids = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropIds() {
+        propIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.GetVertexsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.GetVertexsRequest)
+    private static final com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetVertexsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetVertexsRequest>() {
+      @java.lang.Override
+      public GetVertexsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetVertexsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetVertexsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetVertexsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetEdgesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.GetEdgesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>int32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    int getTypeId();
+
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return A list containing the ids.
+     */
+    java.util.List<java.lang.Long> getIdsList();
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return The count of ids.
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    long getIds(int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.GetEdgesRequest}
+   */
+  public static final class GetEdgesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.GetEdgesRequest)
+      GetEdgesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetEdgesRequest.newBuilder() to construct.
+    private GetEdgesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetEdgesRequest() {
+      ids_ = emptyLongList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetEdgesRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetEdgesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              typeId_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                ids_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.addLong(input.readInt64());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                ids_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                ids_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetEdgesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetEdgesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.class, com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int TYPE_ID_FIELD_NUMBER = 2;
+    private int typeId_;
+    /**
+     * <code>int32 type_id = 2;</code>
+     * @return The typeId.
+     */
+    @java.lang.Override
+    public int getTypeId() {
+      return typeId_;
+    }
+
+    public static final int IDS_FIELD_NUMBER = 3;
+    private com.google.protobuf.Internal.LongList ids_;
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return A list containing the ids.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @return The count of ids.
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated int64 ids = 3;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    public long getIds(int index) {
+      return ids_.getLong(index);
+    }
+    private int idsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        output.writeInt32(2, typeId_);
+      }
+      if (getIdsList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(idsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeInt64NoTag(ids_.getLong(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (typeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, typeId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(ids_.getLong(i));
+        }
+        size += dataSize;
+        if (!getIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest other = (com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (getTypeId()
+          != other.getTypeId()) return false;
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.GetEdgesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.GetEdgesRequest)
+        com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetEdgesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.class, com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        typeId_ = 0;
+
+        ids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_GetEdgesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest build() {
+        com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest result = new com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        result.typeId_ = typeId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ids_ = ids_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.getTypeId() != 0) {
+          setTypeId(other.getTypeId());
+        }
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int typeId_ ;
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @return The typeId.
+       */
+      @java.lang.Override
+      public int getTypeId() {
+        return typeId_;
+      }
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @param value The typeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeId(int value) {
+        
+        typeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeId() {
+        
+        typeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList ids_ = emptyLongList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = mutableCopy(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return A list containing the ids.
+       */
+      public java.util.List<java.lang.Long>
+          getIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(ids_) : ids_;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return The count of ids.
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param index The index of the element to return.
+       * @return The ids at the given index.
+       */
+      public long getIds(int index) {
+        return ids_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The ids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIds(
+          int index, long value) {
+        ensureIdsIsMutable();
+        ids_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param value The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIds(long value) {
+        ensureIdsIsMutable();
+        ids_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @param values The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIds() {
+        ids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.GetEdgesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.GetEdgesRequest)
+    private static final com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetEdgesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetEdgesRequest>() {
+      @java.lang.Override
+      public GetEdgesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetEdgesRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetEdgesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetEdgesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchVertexEdgeRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.BatchVertexEdgeRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> 
+        getVertexIdList();
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getVertexId(int index);
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    int getVertexIdCount();
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+        getVertexIdOrBuilderList();
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getVertexIdOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated int64 seq = 3;</code>
+     * @return A list containing the seq.
+     */
+    java.util.List<java.lang.Long> getSeqList();
+    /**
+     * <code>repeated int64 seq = 3;</code>
+     * @return The count of seq.
+     */
+    int getSeqCount();
+    /**
+     * <code>repeated int64 seq = 3;</code>
+     * @param index The index of the element to return.
+     * @return The seq at the given index.
+     */
+    long getSeq(int index);
+
+    /**
+     * <code>repeated uint32 label_list = 4;</code>
+     * @return A list containing the labelList.
+     */
+    java.util.List<java.lang.Integer> getLabelListList();
+    /**
+     * <code>repeated uint32 label_list = 4;</code>
+     * @return The count of labelList.
+     */
+    int getLabelListCount();
+    /**
+     * <code>repeated uint32 label_list = 4;</code>
+     * @param index The index of the element to return.
+     * @return The labelList at the given index.
+     */
+    int getLabelList(int index);
+
+    /**
+     * <code>bool edge_prop_flag = 5;</code>
+     * @return The edgePropFlag.
+     */
+    boolean getEdgePropFlag();
+
+    /**
+     * <code>uint64 limit_count = 6;</code>
+     * @return The limitCount.
+     */
+    long getLimitCount();
+
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> 
+        getLogicalCompareList();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index);
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    int getLogicalCompareCount();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+        getLogicalCompareOrBuilderList();
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code tinkerpop.BatchVertexEdgeRequest}
+   */
+  public static final class BatchVertexEdgeRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.BatchVertexEdgeRequest)
+      BatchVertexEdgeRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchVertexEdgeRequest.newBuilder() to construct.
+    private BatchVertexEdgeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchVertexEdgeRequest() {
+      vertexId_ = java.util.Collections.emptyList();
+      seq_ = emptyLongList();
+      labelList_ = emptyIntList();
+      logicalCompare_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchVertexEdgeRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchVertexEdgeRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                vertexId_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.GremlinQuery.VertexId>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              vertexId_.add(
+                  input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry));
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                seq_ = newLongList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              seq_.addLong(input.readInt64());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                seq_ = newLongList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                seq_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                labelList_ = newIntList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              labelList_.addInt(input.readUInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) != 0) && input.getBytesUntilLimit() > 0) {
+                labelList_ = newIntList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                labelList_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 40: {
+
+              edgePropFlag_ = input.readBool();
+              break;
+            }
+            case 48: {
+
+              limitCount_ = input.readUInt64();
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                logicalCompare_ = new java.util.ArrayList<com.alibaba.maxgraph.Message.LogicalCompare>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              logicalCompare_.add(
+                  input.readMessage(com.alibaba.maxgraph.Message.LogicalCompare.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          vertexId_ = java.util.Collections.unmodifiableList(vertexId_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          seq_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          labelList_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          logicalCompare_ = java.util.Collections.unmodifiableList(logicalCompare_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.class, com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int VERTEX_ID_FIELD_NUMBER = 2;
+    private java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> vertexId_;
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> getVertexIdList() {
+      return vertexId_;
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+        getVertexIdOrBuilderList() {
+      return vertexId_;
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    @java.lang.Override
+    public int getVertexIdCount() {
+      return vertexId_.size();
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getVertexId(int index) {
+      return vertexId_.get(index);
+    }
+    /**
+     * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getVertexIdOrBuilder(
+        int index) {
+      return vertexId_.get(index);
+    }
+
+    public static final int SEQ_FIELD_NUMBER = 3;
+    private com.google.protobuf.Internal.LongList seq_;
+    /**
+     * <code>repeated int64 seq = 3;</code>
+     * @return A list containing the seq.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getSeqList() {
+      return seq_;
+    }
+    /**
+     * <code>repeated int64 seq = 3;</code>
+     * @return The count of seq.
+     */
+    public int getSeqCount() {
+      return seq_.size();
+    }
+    /**
+     * <code>repeated int64 seq = 3;</code>
+     * @param index The index of the element to return.
+     * @return The seq at the given index.
+     */
+    public long getSeq(int index) {
+      return seq_.getLong(index);
+    }
+    private int seqMemoizedSerializedSize = -1;
+
+    public static final int LABEL_LIST_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList labelList_;
+    /**
+     * <code>repeated uint32 label_list = 4;</code>
+     * @return A list containing the labelList.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLabelListList() {
+      return labelList_;
+    }
+    /**
+     * <code>repeated uint32 label_list = 4;</code>
+     * @return The count of labelList.
+     */
+    public int getLabelListCount() {
+      return labelList_.size();
+    }
+    /**
+     * <code>repeated uint32 label_list = 4;</code>
+     * @param index The index of the element to return.
+     * @return The labelList at the given index.
+     */
+    public int getLabelList(int index) {
+      return labelList_.getInt(index);
+    }
+    private int labelListMemoizedSerializedSize = -1;
+
+    public static final int EDGE_PROP_FLAG_FIELD_NUMBER = 5;
+    private boolean edgePropFlag_;
+    /**
+     * <code>bool edge_prop_flag = 5;</code>
+     * @return The edgePropFlag.
+     */
+    @java.lang.Override
+    public boolean getEdgePropFlag() {
+      return edgePropFlag_;
+    }
+
+    public static final int LIMIT_COUNT_FIELD_NUMBER = 6;
+    private long limitCount_;
+    /**
+     * <code>uint64 limit_count = 6;</code>
+     * @return The limitCount.
+     */
+    @java.lang.Override
+    public long getLimitCount() {
+      return limitCount_;
+    }
+
+    public static final int LOGICAL_COMPARE_FIELD_NUMBER = 7;
+    private java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> logicalCompare_;
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> getLogicalCompareList() {
+      return logicalCompare_;
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+        getLogicalCompareOrBuilderList() {
+      return logicalCompare_;
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    @java.lang.Override
+    public int getLogicalCompareCount() {
+      return logicalCompare_.size();
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index) {
+      return logicalCompare_.get(index);
+    }
+    /**
+     * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+        int index) {
+      return logicalCompare_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      for (int i = 0; i < vertexId_.size(); i++) {
+        output.writeMessage(2, vertexId_.get(i));
+      }
+      if (getSeqList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(seqMemoizedSerializedSize);
+      }
+      for (int i = 0; i < seq_.size(); i++) {
+        output.writeInt64NoTag(seq_.getLong(i));
+      }
+      if (getLabelListList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(labelListMemoizedSerializedSize);
+      }
+      for (int i = 0; i < labelList_.size(); i++) {
+        output.writeUInt32NoTag(labelList_.getInt(i));
+      }
+      if (edgePropFlag_ != false) {
+        output.writeBool(5, edgePropFlag_);
+      }
+      if (limitCount_ != 0L) {
+        output.writeUInt64(6, limitCount_);
+      }
+      for (int i = 0; i < logicalCompare_.size(); i++) {
+        output.writeMessage(7, logicalCompare_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      for (int i = 0; i < vertexId_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, vertexId_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < seq_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(seq_.getLong(i));
+        }
+        size += dataSize;
+        if (!getSeqList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        seqMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < labelList_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(labelList_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLabelListList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        labelListMemoizedSerializedSize = dataSize;
+      }
+      if (edgePropFlag_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, edgePropFlag_);
+      }
+      if (limitCount_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, limitCount_);
+      }
+      for (int i = 0; i < logicalCompare_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, logicalCompare_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest other = (com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (!getVertexIdList()
+          .equals(other.getVertexIdList())) return false;
+      if (!getSeqList()
+          .equals(other.getSeqList())) return false;
+      if (!getLabelListList()
+          .equals(other.getLabelListList())) return false;
+      if (getEdgePropFlag()
+          != other.getEdgePropFlag()) return false;
+      if (getLimitCount()
+          != other.getLimitCount()) return false;
+      if (!getLogicalCompareList()
+          .equals(other.getLogicalCompareList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      if (getVertexIdCount() > 0) {
+        hash = (37 * hash) + VERTEX_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getVertexIdList().hashCode();
+      }
+      if (getSeqCount() > 0) {
+        hash = (37 * hash) + SEQ_FIELD_NUMBER;
+        hash = (53 * hash) + getSeqList().hashCode();
+      }
+      if (getLabelListCount() > 0) {
+        hash = (37 * hash) + LABEL_LIST_FIELD_NUMBER;
+        hash = (53 * hash) + getLabelListList().hashCode();
+      }
+      hash = (37 * hash) + EDGE_PROP_FLAG_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getEdgePropFlag());
+      hash = (37 * hash) + LIMIT_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLimitCount());
+      if (getLogicalCompareCount() > 0) {
+        hash = (37 * hash) + LOGICAL_COMPARE_FIELD_NUMBER;
+        hash = (53 * hash) + getLogicalCompareList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.BatchVertexEdgeRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.BatchVertexEdgeRequest)
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.class, com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getVertexIdFieldBuilder();
+          getLogicalCompareFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        if (vertexIdBuilder_ == null) {
+          vertexId_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          vertexIdBuilder_.clear();
+        }
+        seq_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        labelList_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        edgePropFlag_ = false;
+
+        limitCount_ = 0L;
+
+        if (logicalCompareBuilder_ == null) {
+          logicalCompare_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          logicalCompareBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest build() {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest result = new com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        if (vertexIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            vertexId_ = java.util.Collections.unmodifiableList(vertexId_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.vertexId_ = vertexId_;
+        } else {
+          result.vertexId_ = vertexIdBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          seq_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.seq_ = seq_;
+        if (((bitField0_ & 0x00000004) != 0)) {
+          labelList_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.labelList_ = labelList_;
+        result.edgePropFlag_ = edgePropFlag_;
+        result.limitCount_ = limitCount_;
+        if (logicalCompareBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            logicalCompare_ = java.util.Collections.unmodifiableList(logicalCompare_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.logicalCompare_ = logicalCompare_;
+        } else {
+          result.logicalCompare_ = logicalCompareBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (vertexIdBuilder_ == null) {
+          if (!other.vertexId_.isEmpty()) {
+            if (vertexId_.isEmpty()) {
+              vertexId_ = other.vertexId_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureVertexIdIsMutable();
+              vertexId_.addAll(other.vertexId_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.vertexId_.isEmpty()) {
+            if (vertexIdBuilder_.isEmpty()) {
+              vertexIdBuilder_.dispose();
+              vertexIdBuilder_ = null;
+              vertexId_ = other.vertexId_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              vertexIdBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getVertexIdFieldBuilder() : null;
+            } else {
+              vertexIdBuilder_.addAllMessages(other.vertexId_);
+            }
+          }
+        }
+        if (!other.seq_.isEmpty()) {
+          if (seq_.isEmpty()) {
+            seq_ = other.seq_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureSeqIsMutable();
+            seq_.addAll(other.seq_);
+          }
+          onChanged();
+        }
+        if (!other.labelList_.isEmpty()) {
+          if (labelList_.isEmpty()) {
+            labelList_ = other.labelList_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureLabelListIsMutable();
+            labelList_.addAll(other.labelList_);
+          }
+          onChanged();
+        }
+        if (other.getEdgePropFlag() != false) {
+          setEdgePropFlag(other.getEdgePropFlag());
+        }
+        if (other.getLimitCount() != 0L) {
+          setLimitCount(other.getLimitCount());
+        }
+        if (logicalCompareBuilder_ == null) {
+          if (!other.logicalCompare_.isEmpty()) {
+            if (logicalCompare_.isEmpty()) {
+              logicalCompare_ = other.logicalCompare_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureLogicalCompareIsMutable();
+              logicalCompare_.addAll(other.logicalCompare_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.logicalCompare_.isEmpty()) {
+            if (logicalCompareBuilder_.isEmpty()) {
+              logicalCompareBuilder_.dispose();
+              logicalCompareBuilder_ = null;
+              logicalCompare_ = other.logicalCompare_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              logicalCompareBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLogicalCompareFieldBuilder() : null;
+            } else {
+              logicalCompareBuilder_.addAllMessages(other.logicalCompare_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> vertexId_ =
+        java.util.Collections.emptyList();
+      private void ensureVertexIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          vertexId_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.GremlinQuery.VertexId>(vertexId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> vertexIdBuilder_;
+
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId> getVertexIdList() {
+        if (vertexIdBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(vertexId_);
+        } else {
+          return vertexIdBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public int getVertexIdCount() {
+        if (vertexIdBuilder_ == null) {
+          return vertexId_.size();
+        } else {
+          return vertexIdBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getVertexId(int index) {
+        if (vertexIdBuilder_ == null) {
+          return vertexId_.get(index);
+        } else {
+          return vertexIdBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder setVertexId(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (vertexIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVertexIdIsMutable();
+          vertexId_.set(index, value);
+          onChanged();
+        } else {
+          vertexIdBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder setVertexId(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (vertexIdBuilder_ == null) {
+          ensureVertexIdIsMutable();
+          vertexId_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          vertexIdBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder addVertexId(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (vertexIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVertexIdIsMutable();
+          vertexId_.add(value);
+          onChanged();
+        } else {
+          vertexIdBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder addVertexId(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (vertexIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVertexIdIsMutable();
+          vertexId_.add(index, value);
+          onChanged();
+        } else {
+          vertexIdBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder addVertexId(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (vertexIdBuilder_ == null) {
+          ensureVertexIdIsMutable();
+          vertexId_.add(builderForValue.build());
+          onChanged();
+        } else {
+          vertexIdBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder addVertexId(
+          int index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (vertexIdBuilder_ == null) {
+          ensureVertexIdIsMutable();
+          vertexId_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          vertexIdBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder addAllVertexId(
+          java.lang.Iterable<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexId> values) {
+        if (vertexIdBuilder_ == null) {
+          ensureVertexIdIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, vertexId_);
+          onChanged();
+        } else {
+          vertexIdBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder clearVertexId() {
+        if (vertexIdBuilder_ == null) {
+          vertexId_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          vertexIdBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public Builder removeVertexId(int index) {
+        if (vertexIdBuilder_ == null) {
+          ensureVertexIdIsMutable();
+          vertexId_.remove(index);
+          onChanged();
+        } else {
+          vertexIdBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getVertexIdBuilder(
+          int index) {
+        return getVertexIdFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getVertexIdOrBuilder(
+          int index) {
+        if (vertexIdBuilder_ == null) {
+          return vertexId_.get(index);  } else {
+          return vertexIdBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public java.util.List<? extends com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+           getVertexIdOrBuilderList() {
+        if (vertexIdBuilder_ != null) {
+          return vertexIdBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(vertexId_);
+        }
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder addVertexIdBuilder() {
+        return getVertexIdFieldBuilder().addBuilder(
+            com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder addVertexIdBuilder(
+          int index) {
+        return getVertexIdFieldBuilder().addBuilder(
+            index, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .tinkerpop.VertexId vertex_id = 2;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder> 
+           getVertexIdBuilderList() {
+        return getVertexIdFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getVertexIdFieldBuilder() {
+        if (vertexIdBuilder_ == null) {
+          vertexIdBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  vertexId_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          vertexId_ = null;
+        }
+        return vertexIdBuilder_;
+      }
+
+      private com.google.protobuf.Internal.LongList seq_ = emptyLongList();
+      private void ensureSeqIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          seq_ = mutableCopy(seq_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int64 seq = 3;</code>
+       * @return A list containing the seq.
+       */
+      public java.util.List<java.lang.Long>
+          getSeqList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(seq_) : seq_;
+      }
+      /**
+       * <code>repeated int64 seq = 3;</code>
+       * @return The count of seq.
+       */
+      public int getSeqCount() {
+        return seq_.size();
+      }
+      /**
+       * <code>repeated int64 seq = 3;</code>
+       * @param index The index of the element to return.
+       * @return The seq at the given index.
+       */
+      public long getSeq(int index) {
+        return seq_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 seq = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The seq to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeq(
+          int index, long value) {
+        ensureSeqIsMutable();
+        seq_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 seq = 3;</code>
+       * @param value The seq to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSeq(long value) {
+        ensureSeqIsMutable();
+        seq_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 seq = 3;</code>
+       * @param values The seq to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSeq(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureSeqIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, seq_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 seq = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSeq() {
+        seq_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList labelList_ = emptyIntList();
+      private void ensureLabelListIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          labelList_ = mutableCopy(labelList_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated uint32 label_list = 4;</code>
+       * @return A list containing the labelList.
+       */
+      public java.util.List<java.lang.Integer>
+          getLabelListList() {
+        return ((bitField0_ & 0x00000004) != 0) ?
+                 java.util.Collections.unmodifiableList(labelList_) : labelList_;
+      }
+      /**
+       * <code>repeated uint32 label_list = 4;</code>
+       * @return The count of labelList.
+       */
+      public int getLabelListCount() {
+        return labelList_.size();
+      }
+      /**
+       * <code>repeated uint32 label_list = 4;</code>
+       * @param index The index of the element to return.
+       * @return The labelList at the given index.
+       */
+      public int getLabelList(int index) {
+        return labelList_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 label_list = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The labelList to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabelList(
+          int index, int value) {
+        ensureLabelListIsMutable();
+        labelList_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_list = 4;</code>
+       * @param value The labelList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelList(int value) {
+        ensureLabelListIsMutable();
+        labelList_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_list = 4;</code>
+       * @param values The labelList to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLabelList(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLabelListIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, labelList_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 label_list = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabelList() {
+        labelList_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private boolean edgePropFlag_ ;
+      /**
+       * <code>bool edge_prop_flag = 5;</code>
+       * @return The edgePropFlag.
+       */
+      @java.lang.Override
+      public boolean getEdgePropFlag() {
+        return edgePropFlag_;
+      }
+      /**
+       * <code>bool edge_prop_flag = 5;</code>
+       * @param value The edgePropFlag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEdgePropFlag(boolean value) {
+        
+        edgePropFlag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool edge_prop_flag = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEdgePropFlag() {
+        
+        edgePropFlag_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long limitCount_ ;
+      /**
+       * <code>uint64 limit_count = 6;</code>
+       * @return The limitCount.
+       */
+      @java.lang.Override
+      public long getLimitCount() {
+        return limitCount_;
+      }
+      /**
+       * <code>uint64 limit_count = 6;</code>
+       * @param value The limitCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimitCount(long value) {
+        
+        limitCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 limit_count = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimitCount() {
+        
+        limitCount_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> logicalCompare_ =
+        java.util.Collections.emptyList();
+      private void ensureLogicalCompareIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          logicalCompare_ = new java.util.ArrayList<com.alibaba.maxgraph.Message.LogicalCompare>(logicalCompare_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> logicalCompareBuilder_;
+
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare> getLogicalCompareList() {
+        if (logicalCompareBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(logicalCompare_);
+        } else {
+          return logicalCompareBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public int getLogicalCompareCount() {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.size();
+        } else {
+          return logicalCompareBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare getLogicalCompare(int index) {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.get(index);
+        } else {
+          return logicalCompareBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder setLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.set(index, value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder setLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder addLogicalCompare(com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder addLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare value) {
+        if (logicalCompareBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(index, value);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder addLogicalCompare(
+          com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder addLogicalCompare(
+          int index, com.alibaba.maxgraph.Message.LogicalCompare.Builder builderForValue) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder addAllLogicalCompare(
+          java.lang.Iterable<? extends com.alibaba.maxgraph.Message.LogicalCompare> values) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, logicalCompare_);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder clearLogicalCompare() {
+        if (logicalCompareBuilder_ == null) {
+          logicalCompare_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public Builder removeLogicalCompare(int index) {
+        if (logicalCompareBuilder_ == null) {
+          ensureLogicalCompareIsMutable();
+          logicalCompare_.remove(index);
+          onChanged();
+        } else {
+          logicalCompareBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder getLogicalCompareBuilder(
+          int index) {
+        return getLogicalCompareFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompareOrBuilder getLogicalCompareOrBuilder(
+          int index) {
+        if (logicalCompareBuilder_ == null) {
+          return logicalCompare_.get(index);  } else {
+          return logicalCompareBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public java.util.List<? extends com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+           getLogicalCompareOrBuilderList() {
+        if (logicalCompareBuilder_ != null) {
+          return logicalCompareBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(logicalCompare_);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder addLogicalCompareBuilder() {
+        return getLogicalCompareFieldBuilder().addBuilder(
+            com.alibaba.maxgraph.Message.LogicalCompare.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public com.alibaba.maxgraph.Message.LogicalCompare.Builder addLogicalCompareBuilder(
+          int index) {
+        return getLogicalCompareFieldBuilder().addBuilder(
+            index, com.alibaba.maxgraph.Message.LogicalCompare.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph.LogicalCompare logical_compare = 7;</code>
+       */
+      public java.util.List<com.alibaba.maxgraph.Message.LogicalCompare.Builder> 
+           getLogicalCompareBuilderList() {
+        return getLogicalCompareFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder> 
+          getLogicalCompareFieldBuilder() {
+        if (logicalCompareBuilder_ == null) {
+          logicalCompareBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.maxgraph.Message.LogicalCompare, com.alibaba.maxgraph.Message.LogicalCompare.Builder, com.alibaba.maxgraph.Message.LogicalCompareOrBuilder>(
+                  logicalCompare_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          logicalCompare_ = null;
+        }
+        return logicalCompareBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.BatchVertexEdgeRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.BatchVertexEdgeRequest)
+    private static final com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchVertexEdgeRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchVertexEdgeRequest>() {
+      @java.lang.Override
+      public BatchVertexEdgeRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchVertexEdgeRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchVertexEdgeRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchVertexEdgeRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchVertexEdgeResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.BatchVertexEdgeResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 seq = 1;</code>
+     * @return The seq.
+     */
+    long getSeq();
+
+    /**
+     * <code>int64 edge_id = 2;</code>
+     * @return The edgeId.
+     */
+    long getEdgeId();
+
+    /**
+     * <code>int32 edge_label_id = 3;</code>
+     * @return The edgeLabelId.
+     */
+    int getEdgeLabelId();
+
+    /**
+     * <code>.tinkerpop.VertexId target_vid = 4;</code>
+     * @return Whether the targetVid field is set.
+     */
+    boolean hasTargetVid();
+    /**
+     * <code>.tinkerpop.VertexId target_vid = 4;</code>
+     * @return The targetVid.
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexId getTargetVid();
+    /**
+     * <code>.tinkerpop.VertexId target_vid = 4;</code>
+     */
+    com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getTargetVidOrBuilder();
+
+    /**
+     * <code>bytes edge_props = 5;</code>
+     * @return The edgeProps.
+     */
+    com.google.protobuf.ByteString getEdgeProps();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.BatchVertexEdgeResponse}
+   */
+  public static final class BatchVertexEdgeResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.BatchVertexEdgeResponse)
+      BatchVertexEdgeResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchVertexEdgeResponse.newBuilder() to construct.
+    private BatchVertexEdgeResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchVertexEdgeResponse() {
+      edgeProps_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchVertexEdgeResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchVertexEdgeResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              seq_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              edgeId_ = input.readInt64();
+              break;
+            }
+            case 24: {
+
+              edgeLabelId_ = input.readInt32();
+              break;
+            }
+            case 34: {
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder subBuilder = null;
+              if (targetVid_ != null) {
+                subBuilder = targetVid_.toBuilder();
+              }
+              targetVid_ = input.readMessage(com.alibaba.maxgraph.proto.GremlinQuery.VertexId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(targetVid_);
+                targetVid_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 42: {
+
+              edgeProps_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.class, com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.Builder.class);
+    }
+
+    public static final int SEQ_FIELD_NUMBER = 1;
+    private long seq_;
+    /**
+     * <code>int64 seq = 1;</code>
+     * @return The seq.
+     */
+    @java.lang.Override
+    public long getSeq() {
+      return seq_;
+    }
+
+    public static final int EDGE_ID_FIELD_NUMBER = 2;
+    private long edgeId_;
+    /**
+     * <code>int64 edge_id = 2;</code>
+     * @return The edgeId.
+     */
+    @java.lang.Override
+    public long getEdgeId() {
+      return edgeId_;
+    }
+
+    public static final int EDGE_LABEL_ID_FIELD_NUMBER = 3;
+    private int edgeLabelId_;
+    /**
+     * <code>int32 edge_label_id = 3;</code>
+     * @return The edgeLabelId.
+     */
+    @java.lang.Override
+    public int getEdgeLabelId() {
+      return edgeLabelId_;
+    }
+
+    public static final int TARGET_VID_FIELD_NUMBER = 4;
+    private com.alibaba.maxgraph.proto.GremlinQuery.VertexId targetVid_;
+    /**
+     * <code>.tinkerpop.VertexId target_vid = 4;</code>
+     * @return Whether the targetVid field is set.
+     */
+    @java.lang.Override
+    public boolean hasTargetVid() {
+      return targetVid_ != null;
+    }
+    /**
+     * <code>.tinkerpop.VertexId target_vid = 4;</code>
+     * @return The targetVid.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getTargetVid() {
+      return targetVid_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : targetVid_;
+    }
+    /**
+     * <code>.tinkerpop.VertexId target_vid = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getTargetVidOrBuilder() {
+      return getTargetVid();
+    }
+
+    public static final int EDGE_PROPS_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString edgeProps_;
+    /**
+     * <code>bytes edge_props = 5;</code>
+     * @return The edgeProps.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getEdgeProps() {
+      return edgeProps_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (seq_ != 0L) {
+        output.writeInt64(1, seq_);
+      }
+      if (edgeId_ != 0L) {
+        output.writeInt64(2, edgeId_);
+      }
+      if (edgeLabelId_ != 0) {
+        output.writeInt32(3, edgeLabelId_);
+      }
+      if (targetVid_ != null) {
+        output.writeMessage(4, getTargetVid());
+      }
+      if (!edgeProps_.isEmpty()) {
+        output.writeBytes(5, edgeProps_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (seq_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, seq_);
+      }
+      if (edgeId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, edgeId_);
+      }
+      if (edgeLabelId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, edgeLabelId_);
+      }
+      if (targetVid_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getTargetVid());
+      }
+      if (!edgeProps_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, edgeProps_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse other = (com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse) obj;
+
+      if (getSeq()
+          != other.getSeq()) return false;
+      if (getEdgeId()
+          != other.getEdgeId()) return false;
+      if (getEdgeLabelId()
+          != other.getEdgeLabelId()) return false;
+      if (hasTargetVid() != other.hasTargetVid()) return false;
+      if (hasTargetVid()) {
+        if (!getTargetVid()
+            .equals(other.getTargetVid())) return false;
+      }
+      if (!getEdgeProps()
+          .equals(other.getEdgeProps())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SEQ_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSeq());
+      hash = (37 * hash) + EDGE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getEdgeId());
+      hash = (37 * hash) + EDGE_LABEL_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeLabelId();
+      if (hasTargetVid()) {
+        hash = (37 * hash) + TARGET_VID_FIELD_NUMBER;
+        hash = (53 * hash) + getTargetVid().hashCode();
+      }
+      hash = (37 * hash) + EDGE_PROPS_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeProps().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.BatchVertexEdgeResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.BatchVertexEdgeResponse)
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.class, com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        seq_ = 0L;
+
+        edgeId_ = 0L;
+
+        edgeLabelId_ = 0;
+
+        if (targetVidBuilder_ == null) {
+          targetVid_ = null;
+        } else {
+          targetVid_ = null;
+          targetVidBuilder_ = null;
+        }
+        edgeProps_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexEdgeResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse build() {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse result = new com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse(this);
+        result.seq_ = seq_;
+        result.edgeId_ = edgeId_;
+        result.edgeLabelId_ = edgeLabelId_;
+        if (targetVidBuilder_ == null) {
+          result.targetVid_ = targetVid_;
+        } else {
+          result.targetVid_ = targetVidBuilder_.build();
+        }
+        result.edgeProps_ = edgeProps_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.getDefaultInstance()) return this;
+        if (other.getSeq() != 0L) {
+          setSeq(other.getSeq());
+        }
+        if (other.getEdgeId() != 0L) {
+          setEdgeId(other.getEdgeId());
+        }
+        if (other.getEdgeLabelId() != 0) {
+          setEdgeLabelId(other.getEdgeLabelId());
+        }
+        if (other.hasTargetVid()) {
+          mergeTargetVid(other.getTargetVid());
+        }
+        if (other.getEdgeProps() != com.google.protobuf.ByteString.EMPTY) {
+          setEdgeProps(other.getEdgeProps());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long seq_ ;
+      /**
+       * <code>int64 seq = 1;</code>
+       * @return The seq.
+       */
+      @java.lang.Override
+      public long getSeq() {
+        return seq_;
+      }
+      /**
+       * <code>int64 seq = 1;</code>
+       * @param value The seq to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeq(long value) {
+        
+        seq_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 seq = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSeq() {
+        
+        seq_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long edgeId_ ;
+      /**
+       * <code>int64 edge_id = 2;</code>
+       * @return The edgeId.
+       */
+      @java.lang.Override
+      public long getEdgeId() {
+        return edgeId_;
+      }
+      /**
+       * <code>int64 edge_id = 2;</code>
+       * @param value The edgeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEdgeId(long value) {
+        
+        edgeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 edge_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEdgeId() {
+        
+        edgeId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int edgeLabelId_ ;
+      /**
+       * <code>int32 edge_label_id = 3;</code>
+       * @return The edgeLabelId.
+       */
+      @java.lang.Override
+      public int getEdgeLabelId() {
+        return edgeLabelId_;
+      }
+      /**
+       * <code>int32 edge_label_id = 3;</code>
+       * @param value The edgeLabelId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEdgeLabelId(int value) {
+        
+        edgeLabelId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 edge_label_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEdgeLabelId() {
+        
+        edgeLabelId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.maxgraph.proto.GremlinQuery.VertexId targetVid_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> targetVidBuilder_;
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       * @return Whether the targetVid field is set.
+       */
+      public boolean hasTargetVid() {
+        return targetVidBuilder_ != null || targetVid_ != null;
+      }
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       * @return The targetVid.
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId getTargetVid() {
+        if (targetVidBuilder_ == null) {
+          return targetVid_ == null ? com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : targetVid_;
+        } else {
+          return targetVidBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       */
+      public Builder setTargetVid(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (targetVidBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          targetVid_ = value;
+          onChanged();
+        } else {
+          targetVidBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       */
+      public Builder setTargetVid(
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder builderForValue) {
+        if (targetVidBuilder_ == null) {
+          targetVid_ = builderForValue.build();
+          onChanged();
+        } else {
+          targetVidBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       */
+      public Builder mergeTargetVid(com.alibaba.maxgraph.proto.GremlinQuery.VertexId value) {
+        if (targetVidBuilder_ == null) {
+          if (targetVid_ != null) {
+            targetVid_ =
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.newBuilder(targetVid_).mergeFrom(value).buildPartial();
+          } else {
+            targetVid_ = value;
+          }
+          onChanged();
+        } else {
+          targetVidBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       */
+      public Builder clearTargetVid() {
+        if (targetVidBuilder_ == null) {
+          targetVid_ = null;
+          onChanged();
+        } else {
+          targetVid_ = null;
+          targetVidBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder getTargetVidBuilder() {
+        
+        onChanged();
+        return getTargetVidFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       */
+      public com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder getTargetVidOrBuilder() {
+        if (targetVidBuilder_ != null) {
+          return targetVidBuilder_.getMessageOrBuilder();
+        } else {
+          return targetVid_ == null ?
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId.getDefaultInstance() : targetVid_;
+        }
+      }
+      /**
+       * <code>.tinkerpop.VertexId target_vid = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder> 
+          getTargetVidFieldBuilder() {
+        if (targetVidBuilder_ == null) {
+          targetVidBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.maxgraph.proto.GremlinQuery.VertexId, com.alibaba.maxgraph.proto.GremlinQuery.VertexId.Builder, com.alibaba.maxgraph.proto.GremlinQuery.VertexIdOrBuilder>(
+                  getTargetVid(),
+                  getParentForChildren(),
+                  isClean());
+          targetVid_ = null;
+        }
+        return targetVidBuilder_;
+      }
+
+      private com.google.protobuf.ByteString edgeProps_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes edge_props = 5;</code>
+       * @return The edgeProps.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getEdgeProps() {
+        return edgeProps_;
+      }
+      /**
+       * <code>bytes edge_props = 5;</code>
+       * @param value The edgeProps to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEdgeProps(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        edgeProps_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes edge_props = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEdgeProps() {
+        
+        edgeProps_ = getDefaultInstance().getEdgeProps();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.BatchVertexEdgeResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.BatchVertexEdgeResponse)
+    private static final com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchVertexEdgeResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchVertexEdgeResponse>() {
+      @java.lang.Override
+      public BatchVertexEdgeResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchVertexEdgeResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchVertexEdgeResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchVertexEdgeResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchVertexCountResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.BatchVertexCountResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 vid = 1;</code>
+     * @return The vid.
+     */
+    long getVid();
+
+    /**
+     * <code>int64 count_val = 2;</code>
+     * @return The countVal.
+     */
+    long getCountVal();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.BatchVertexCountResponse}
+   */
+  public static final class BatchVertexCountResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.BatchVertexCountResponse)
+      BatchVertexCountResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchVertexCountResponse.newBuilder() to construct.
+    private BatchVertexCountResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchVertexCountResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchVertexCountResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchVertexCountResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              vid_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              countVal_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexCountResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexCountResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.class, com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.Builder.class);
+    }
+
+    public static final int VID_FIELD_NUMBER = 1;
+    private long vid_;
+    /**
+     * <code>int64 vid = 1;</code>
+     * @return The vid.
+     */
+    @java.lang.Override
+    public long getVid() {
+      return vid_;
+    }
+
+    public static final int COUNT_VAL_FIELD_NUMBER = 2;
+    private long countVal_;
+    /**
+     * <code>int64 count_val = 2;</code>
+     * @return The countVal.
+     */
+    @java.lang.Override
+    public long getCountVal() {
+      return countVal_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (vid_ != 0L) {
+        output.writeInt64(1, vid_);
+      }
+      if (countVal_ != 0L) {
+        output.writeInt64(2, countVal_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (vid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, vid_);
+      }
+      if (countVal_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, countVal_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse other = (com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse) obj;
+
+      if (getVid()
+          != other.getVid()) return false;
+      if (getCountVal()
+          != other.getCountVal()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + VID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getVid());
+      hash = (37 * hash) + COUNT_VAL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCountVal());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.BatchVertexCountResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.BatchVertexCountResponse)
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexCountResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexCountResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.class, com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        vid_ = 0L;
+
+        countVal_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_BatchVertexCountResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse build() {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse result = new com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse(this);
+        result.vid_ = vid_;
+        result.countVal_ = countVal_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.getDefaultInstance()) return this;
+        if (other.getVid() != 0L) {
+          setVid(other.getVid());
+        }
+        if (other.getCountVal() != 0L) {
+          setCountVal(other.getCountVal());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long vid_ ;
+      /**
+       * <code>int64 vid = 1;</code>
+       * @return The vid.
+       */
+      @java.lang.Override
+      public long getVid() {
+        return vid_;
+      }
+      /**
+       * <code>int64 vid = 1;</code>
+       * @param value The vid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVid(long value) {
+        
+        vid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 vid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVid() {
+        
+        vid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long countVal_ ;
+      /**
+       * <code>int64 count_val = 2;</code>
+       * @return The countVal.
+       */
+      @java.lang.Override
+      public long getCountVal() {
+        return countVal_;
+      }
+      /**
+       * <code>int64 count_val = 2;</code>
+       * @param value The countVal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCountVal(long value) {
+        
+        countVal_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 count_val = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCountVal() {
+        
+        countVal_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.BatchVertexCountResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.BatchVertexCountResponse)
+    private static final com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchVertexCountResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchVertexCountResponse>() {
+      @java.lang.Override
+      public BatchVertexCountResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchVertexCountResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchVertexCountResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchVertexCountResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tinkerpop.QueryResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated bytes value = 1;</code>
+     * @return A list containing the value.
+     */
+    java.util.List<com.google.protobuf.ByteString> getValueList();
+    /**
+     * <code>repeated bytes value = 1;</code>
+     * @return The count of value.
+     */
+    int getValueCount();
+    /**
+     * <code>repeated bytes value = 1;</code>
+     * @param index The index of the element to return.
+     * @return The value at the given index.
+     */
+    com.google.protobuf.ByteString getValue(int index);
+
+    /**
+     * <code>int32 error_code = 2;</code>
+     * @return The errorCode.
+     */
+    int getErrorCode();
+
+    /**
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    java.lang.String getMessage();
+    /**
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+  }
+  /**
+   * Protobuf type {@code tinkerpop.QueryResponse}
+   */
+  public static final class QueryResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:tinkerpop.QueryResponse)
+      QueryResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryResponse.newBuilder() to construct.
+    private QueryResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryResponse() {
+      value_ = java.util.Collections.emptyList();
+      message_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QueryResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                value_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              value_.add(input.readBytes());
+              break;
+            }
+            case 16: {
+
+              errorCode_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              message_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          value_ = java.util.Collections.unmodifiableList(value_); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_QueryResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_QueryResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.StoreApi.QueryResponse.class, com.alibaba.maxgraph.proto.StoreApi.QueryResponse.Builder.class);
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 1;
+    private java.util.List<com.google.protobuf.ByteString> value_;
+    /**
+     * <code>repeated bytes value = 1;</code>
+     * @return A list containing the value.
+     */
+    @java.lang.Override
+    public java.util.List<com.google.protobuf.ByteString>
+        getValueList() {
+      return value_;
+    }
+    /**
+     * <code>repeated bytes value = 1;</code>
+     * @return The count of value.
+     */
+    public int getValueCount() {
+      return value_.size();
+    }
+    /**
+     * <code>repeated bytes value = 1;</code>
+     * @param index The index of the element to return.
+     * @return The value at the given index.
+     */
+    public com.google.protobuf.ByteString getValue(int index) {
+      return value_.get(index);
+    }
+
+    public static final int ERROR_CODE_FIELD_NUMBER = 2;
+    private int errorCode_;
+    /**
+     * <code>int32 error_code = 2;</code>
+     * @return The errorCode.
+     */
+    @java.lang.Override
+    public int getErrorCode() {
+      return errorCode_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object message_;
+    /**
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    @java.lang.Override
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < value_.size(); i++) {
+        output.writeBytes(1, value_.get(i));
+      }
+      if (errorCode_ != 0) {
+        output.writeInt32(2, errorCode_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, message_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < value_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(value_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getValueList().size();
+      }
+      if (errorCode_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, errorCode_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, message_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.maxgraph.proto.StoreApi.QueryResponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.maxgraph.proto.StoreApi.QueryResponse other = (com.alibaba.maxgraph.proto.StoreApi.QueryResponse) obj;
+
+      if (!getValueList()
+          .equals(other.getValueList())) return false;
+      if (getErrorCode()
+          != other.getErrorCode()) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getValueCount() > 0) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValueList().hashCode();
+      }
+      hash = (37 * hash) + ERROR_CODE_FIELD_NUMBER;
+      hash = (53 * hash) + getErrorCode();
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.maxgraph.proto.StoreApi.QueryResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tinkerpop.QueryResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tinkerpop.QueryResponse)
+        com.alibaba.maxgraph.proto.StoreApi.QueryResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_QueryResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_QueryResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.maxgraph.proto.StoreApi.QueryResponse.class, com.alibaba.maxgraph.proto.StoreApi.QueryResponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.maxgraph.proto.StoreApi.QueryResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        value_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        errorCode_ = 0;
+
+        message_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.internal_static_tinkerpop_QueryResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.QueryResponse getDefaultInstanceForType() {
+        return com.alibaba.maxgraph.proto.StoreApi.QueryResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.QueryResponse build() {
+        com.alibaba.maxgraph.proto.StoreApi.QueryResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.maxgraph.proto.StoreApi.QueryResponse buildPartial() {
+        com.alibaba.maxgraph.proto.StoreApi.QueryResponse result = new com.alibaba.maxgraph.proto.StoreApi.QueryResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          value_ = java.util.Collections.unmodifiableList(value_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.value_ = value_;
+        result.errorCode_ = errorCode_;
+        result.message_ = message_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.maxgraph.proto.StoreApi.QueryResponse) {
+          return mergeFrom((com.alibaba.maxgraph.proto.StoreApi.QueryResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.maxgraph.proto.StoreApi.QueryResponse other) {
+        if (other == com.alibaba.maxgraph.proto.StoreApi.QueryResponse.getDefaultInstance()) return this;
+        if (!other.value_.isEmpty()) {
+          if (value_.isEmpty()) {
+            value_ = other.value_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureValueIsMutable();
+            value_.addAll(other.value_);
+          }
+          onChanged();
+        }
+        if (other.getErrorCode() != 0) {
+          setErrorCode(other.getErrorCode());
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.maxgraph.proto.StoreApi.QueryResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.maxgraph.proto.StoreApi.QueryResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.google.protobuf.ByteString> value_ = java.util.Collections.emptyList();
+      private void ensureValueIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          value_ = new java.util.ArrayList<com.google.protobuf.ByteString>(value_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated bytes value = 1;</code>
+       * @return A list containing the value.
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getValueList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(value_) : value_;
+      }
+      /**
+       * <code>repeated bytes value = 1;</code>
+       * @return The count of value.
+       */
+      public int getValueCount() {
+        return value_.size();
+      }
+      /**
+       * <code>repeated bytes value = 1;</code>
+       * @param index The index of the element to return.
+       * @return The value at the given index.
+       */
+      public com.google.protobuf.ByteString getValue(int index) {
+        return value_.get(index);
+      }
+      /**
+       * <code>repeated bytes value = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureValueIsMutable();
+        value_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes value = 1;</code>
+       * @param value The value to add.
+       * @return This builder for chaining.
+       */
+      public Builder addValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureValueIsMutable();
+        value_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes value = 1;</code>
+       * @param values The value to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllValue(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureValueIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, value_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes value = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        value_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private int errorCode_ ;
+      /**
+       * <code>int32 error_code = 2;</code>
+       * @return The errorCode.
+       */
+      @java.lang.Override
+      public int getErrorCode() {
+        return errorCode_;
+      }
+      /**
+       * <code>int32 error_code = 2;</code>
+       * @param value The errorCode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorCode(int value) {
+        
+        errorCode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 error_code = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorCode() {
+        
+        errorCode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>string message = 3;</code>
+       * @return The message.
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
+        
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @param value The bytes for message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:tinkerpop.QueryResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:tinkerpop.QueryResponse)
+    private static final com.alibaba.maxgraph.proto.StoreApi.QueryResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.StoreApi.QueryResponse();
+    }
+
+    public static com.alibaba.maxgraph.proto.StoreApi.QueryResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryResponse>
+        PARSER = new com.google.protobuf.AbstractParser<QueryResponse>() {
+      @java.lang.Override
+      public QueryResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QueryResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.StoreApi.QueryResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_ScanRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_ScanRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_ScanEdgeRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_ScanEdgeRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_GetOutEdgesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_GetOutEdgesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_GetInEdgesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_GetInEdgesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_GraphEdgeReponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_GraphEdgeReponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_GetVertexsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_GetVertexsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_GetEdgesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_GetEdgesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_BatchVertexEdgeRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_BatchVertexEdgeRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_BatchVertexEdgeResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_BatchVertexEdgeResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_BatchVertexCountResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_BatchVertexCountResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tinkerpop_QueryResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_tinkerpop_QueryResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\017store_api.proto\022\ttinkerpop\032\023gremlin_qu" +
+      "ery.proto\032\021sdk/message.proto\"~\n\013ScanRequ" +
+      "est\022\023\n\013snapshot_id\030\001 \001(\003\022\017\n\007type_id\030\002 \001(" +
+      "\005\022\016\n\006offset\030\003 \001(\005\022\r\n\005limit\030\004 \001(\005\022\024\n\014part" +
+      "ition_id\030\005 \001(\005\022\024\n\014property_ids\030\006 \003(\005\"\202\001\n" +
+      "\017ScanEdgeRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\017\n" +
+      "\007type_id\030\002 \001(\005\022\016\n\006offset\030\003 \001(\005\022\r\n\005limit\030" +
+      "\004 \001(\005\022\024\n\014partition_id\030\005 \001(\005\022\024\n\014property_" +
+      "ids\030\006 \003(\005\"`\n\022GetOutEdgesRequest\022\023\n\013snaps" +
+      "hot_id\030\001 \001(\003\022\016\n\006src_id\030\002 \001(\003\022\017\n\007type_id\030" +
+      "\003 \001(\005\022\024\n\014property_ids\030\004 \003(\005\"_\n\021GetInEdge" +
+      "sRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\016\n\006dst_id\030" +
+      "\002 \001(\003\022\017\n\007type_id\030\003 \001(\005\022\024\n\014property_ids\030\004" +
+      " \003(\005\"\214\001\n\020GraphEdgeReponse\022#\n\006src_id\030\001 \001(" +
+      "\0132\023.tinkerpop.VertexId\022#\n\006dst_id\030\002 \001(\0132\023" +
+      ".tinkerpop.VertexId\022\017\n\007edge_id\030\003 \001(\003\022\017\n\007" +
+      "type_id\030\004 \001(\005\022\014\n\004pros\030\005 \001(\014\"X\n\021GetVertex" +
+      "sRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\017\n\007type_id" +
+      "\030\002 \001(\005\022\013\n\003ids\030\003 \003(\003\022\020\n\010prop_ids\030\004 \003(\005\"D\n" +
+      "\017GetEdgesRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\017\n" +
+      "\007type_id\030\002 \001(\005\022\013\n\003ids\030\003 \003(\003\"\326\001\n\026BatchVer" +
+      "texEdgeRequest\022\023\n\013snapshot_id\030\001 \001(\003\022&\n\tv" +
+      "ertex_id\030\002 \003(\0132\023.tinkerpop.VertexId\022\013\n\003s" +
+      "eq\030\003 \003(\003\022\022\n\nlabel_list\030\004 \003(\r\022\026\n\016edge_pro" +
+      "p_flag\030\005 \001(\010\022\023\n\013limit_count\030\006 \001(\004\0221\n\017log" +
+      "ical_compare\030\007 \003(\0132\030.maxgraph.LogicalCom" +
+      "pare\"\213\001\n\027BatchVertexEdgeResponse\022\013\n\003seq\030" +
+      "\001 \001(\003\022\017\n\007edge_id\030\002 \001(\003\022\025\n\redge_label_id\030" +
+      "\003 \001(\005\022\'\n\ntarget_vid\030\004 \001(\0132\023.tinkerpop.Ve" +
+      "rtexId\022\022\n\nedge_props\030\005 \001(\014\":\n\030BatchVerte" +
+      "xCountResponse\022\013\n\003vid\030\001 \001(\003\022\021\n\tcount_val" +
+      "\030\002 \001(\003\"C\n\rQueryResponse\022\r\n\005value\030\001 \003(\014\022\022" +
+      "\n\nerror_code\030\002 \001(\005\022\017\n\007message\030\003 \001(\t2\261\006\n\014" +
+      "StoreService\022K\n\013getOutEdges\022\035.tinkerpop." +
+      "GetOutEdgesRequest\032\033.tinkerpop.GraphEdge" +
+      "Reponse0\001\022\\\n\021getBatchOutTarget\022!.tinkerp" +
+      "op.BatchVertexEdgeRequest\032\".tinkerpop.Ba" +
+      "tchVertexEdgeResponse0\001\022\\\n\020getBatchOutCo" +
+      "unt\022!.tinkerpop.BatchVertexEdgeRequest\032#" +
+      ".tinkerpop.BatchVertexCountResponse0\001\022I\n" +
+      "\ngetInEdges\022\034.tinkerpop.GetInEdgesReques" +
+      "t\032\033.tinkerpop.GraphEdgeReponse0\001\022[\n\020getB" +
+      "atchInTarget\022!.tinkerpop.BatchVertexEdge" +
+      "Request\032\".tinkerpop.BatchVertexEdgeRespo" +
+      "nse0\001\022[\n\017getBatchInCount\022!.tinkerpop.Bat" +
+      "chVertexEdgeRequest\032#.tinkerpop.BatchVer" +
+      "texCountResponse0\001\022G\n\ngetVertexs\022\034.tinke" +
+      "rpop.GetVertexsRequest\032\031.tinkerpop.Verte" +
+      "xResponse0\001\022E\n\010getEdges\022\032.tinkerpop.GetE" +
+      "dgesRequest\032\033.tinkerpop.GraphEdgeReponse" +
+      "0\001\022F\n\tscanEdges\022\032.tinkerpop.ScanEdgeRequ" +
+      "est\032\033.tinkerpop.GraphEdgeReponse0\001\022;\n\004sc" +
+      "an\022\026.tinkerpop.ScanRequest\032\031.tinkerpop.V" +
+      "ertexResponse0\001B\034\n\032com.alibaba.maxgraph." +
+      "protob\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.GremlinQuery.getDescriptor(),
+          com.alibaba.maxgraph.Message.getDescriptor(),
+        });
+    internal_static_tinkerpop_ScanRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_tinkerpop_ScanRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_ScanRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "TypeId", "Offset", "Limit", "PartitionId", "PropertyIds", });
+    internal_static_tinkerpop_ScanEdgeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_tinkerpop_ScanEdgeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_ScanEdgeRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "TypeId", "Offset", "Limit", "PartitionId", "PropertyIds", });
+    internal_static_tinkerpop_GetOutEdgesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_tinkerpop_GetOutEdgesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_GetOutEdgesRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "SrcId", "TypeId", "PropertyIds", });
+    internal_static_tinkerpop_GetInEdgesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_tinkerpop_GetInEdgesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_GetInEdgesRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "DstId", "TypeId", "PropertyIds", });
+    internal_static_tinkerpop_GraphEdgeReponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_tinkerpop_GraphEdgeReponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_GraphEdgeReponse_descriptor,
+        new java.lang.String[] { "SrcId", "DstId", "EdgeId", "TypeId", "Pros", });
+    internal_static_tinkerpop_GetVertexsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_tinkerpop_GetVertexsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_GetVertexsRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "TypeId", "Ids", "PropIds", });
+    internal_static_tinkerpop_GetEdgesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_tinkerpop_GetEdgesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_GetEdgesRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "TypeId", "Ids", });
+    internal_static_tinkerpop_BatchVertexEdgeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_tinkerpop_BatchVertexEdgeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_BatchVertexEdgeRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "VertexId", "Seq", "LabelList", "EdgePropFlag", "LimitCount", "LogicalCompare", });
+    internal_static_tinkerpop_BatchVertexEdgeResponse_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_tinkerpop_BatchVertexEdgeResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_BatchVertexEdgeResponse_descriptor,
+        new java.lang.String[] { "Seq", "EdgeId", "EdgeLabelId", "TargetVid", "EdgeProps", });
+    internal_static_tinkerpop_BatchVertexCountResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_tinkerpop_BatchVertexCountResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_BatchVertexCountResponse_descriptor,
+        new java.lang.String[] { "Vid", "CountVal", });
+    internal_static_tinkerpop_QueryResponse_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_tinkerpop_QueryResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_tinkerpop_QueryResponse_descriptor,
+        new java.lang.String[] { "Value", "ErrorCode", "Message", });
+    com.alibaba.maxgraph.proto.GremlinQuery.getDescriptor();
+    com.alibaba.maxgraph.Message.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
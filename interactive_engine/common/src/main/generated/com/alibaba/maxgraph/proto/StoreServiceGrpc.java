@@ -0,0 +1,887 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * The store service definition.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: store_api.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class StoreServiceGrpc {
+
+  private StoreServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "tinkerpop.StoreService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetOutEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getOutEdges",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetOutEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetOutEdgesMethod;
+    if ((getGetOutEdgesMethod = StoreServiceGrpc.getGetOutEdgesMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getGetOutEdgesMethod = StoreServiceGrpc.getGetOutEdgesMethod) == null) {
+          StoreServiceGrpc.getGetOutEdgesMethod = getGetOutEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getOutEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("getOutEdges"))
+              .build();
+        }
+      }
+    }
+    return getGetOutEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> getGetBatchOutTargetMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getBatchOutTarget",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> getGetBatchOutTargetMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> getGetBatchOutTargetMethod;
+    if ((getGetBatchOutTargetMethod = StoreServiceGrpc.getGetBatchOutTargetMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getGetBatchOutTargetMethod = StoreServiceGrpc.getGetBatchOutTargetMethod) == null) {
+          StoreServiceGrpc.getGetBatchOutTargetMethod = getGetBatchOutTargetMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getBatchOutTarget"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("getBatchOutTarget"))
+              .build();
+        }
+      }
+    }
+    return getGetBatchOutTargetMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> getGetBatchOutCountMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getBatchOutCount",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> getGetBatchOutCountMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> getGetBatchOutCountMethod;
+    if ((getGetBatchOutCountMethod = StoreServiceGrpc.getGetBatchOutCountMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getGetBatchOutCountMethod = StoreServiceGrpc.getGetBatchOutCountMethod) == null) {
+          StoreServiceGrpc.getGetBatchOutCountMethod = getGetBatchOutCountMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getBatchOutCount"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("getBatchOutCount"))
+              .build();
+        }
+      }
+    }
+    return getGetBatchOutCountMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetInEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getInEdges",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetInEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetInEdgesMethod;
+    if ((getGetInEdgesMethod = StoreServiceGrpc.getGetInEdgesMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getGetInEdgesMethod = StoreServiceGrpc.getGetInEdgesMethod) == null) {
+          StoreServiceGrpc.getGetInEdgesMethod = getGetInEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getInEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("getInEdges"))
+              .build();
+        }
+      }
+    }
+    return getGetInEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> getGetBatchInTargetMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getBatchInTarget",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> getGetBatchInTargetMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> getGetBatchInTargetMethod;
+    if ((getGetBatchInTargetMethod = StoreServiceGrpc.getGetBatchInTargetMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getGetBatchInTargetMethod = StoreServiceGrpc.getGetBatchInTargetMethod) == null) {
+          StoreServiceGrpc.getGetBatchInTargetMethod = getGetBatchInTargetMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getBatchInTarget"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("getBatchInTarget"))
+              .build();
+        }
+      }
+    }
+    return getGetBatchInTargetMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> getGetBatchInCountMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getBatchInCount",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> getGetBatchInCountMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> getGetBatchInCountMethod;
+    if ((getGetBatchInCountMethod = StoreServiceGrpc.getGetBatchInCountMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getGetBatchInCountMethod = StoreServiceGrpc.getGetBatchInCountMethod) == null) {
+          StoreServiceGrpc.getGetBatchInCountMethod = getGetBatchInCountMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getBatchInCount"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("getBatchInCount"))
+              .build();
+        }
+      }
+    }
+    return getGetBatchInCountMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVertexsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getVertexs",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVertexsMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getGetVertexsMethod;
+    if ((getGetVertexsMethod = StoreServiceGrpc.getGetVertexsMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getGetVertexsMethod = StoreServiceGrpc.getGetVertexsMethod) == null) {
+          StoreServiceGrpc.getGetVertexsMethod = getGetVertexsMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getVertexs"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("getVertexs"))
+              .build();
+        }
+      }
+    }
+    return getGetVertexsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getEdges",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getGetEdgesMethod;
+    if ((getGetEdgesMethod = StoreServiceGrpc.getGetEdgesMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getGetEdgesMethod = StoreServiceGrpc.getGetEdgesMethod) == null) {
+          StoreServiceGrpc.getGetEdgesMethod = getGetEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("getEdges"))
+              .build();
+        }
+      }
+    }
+    return getGetEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getScanEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "scanEdges",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.class,
+      responseType = com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest,
+      com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getScanEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getScanEdgesMethod;
+    if ((getScanEdgesMethod = StoreServiceGrpc.getScanEdgesMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getScanEdgesMethod = StoreServiceGrpc.getScanEdgesMethod) == null) {
+          StoreServiceGrpc.getScanEdgesMethod = getScanEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest, com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "scanEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("scanEdges"))
+              .build();
+        }
+      }
+    }
+    return getScanEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.ScanRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getScanMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "scan",
+      requestType = com.alibaba.maxgraph.proto.StoreApi.ScanRequest.class,
+      responseType = com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.ScanRequest,
+      com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getScanMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.StoreApi.ScanRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getScanMethod;
+    if ((getScanMethod = StoreServiceGrpc.getScanMethod) == null) {
+      synchronized (StoreServiceGrpc.class) {
+        if ((getScanMethod = StoreServiceGrpc.getScanMethod) == null) {
+          StoreServiceGrpc.getScanMethod = getScanMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.StoreApi.ScanRequest, com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "scan"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.StoreApi.ScanRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreServiceMethodDescriptorSupplier("scan"))
+              .build();
+        }
+      }
+    }
+    return getScanMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static StoreServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreServiceStub>() {
+        @java.lang.Override
+        public StoreServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreServiceStub(channel, callOptions);
+        }
+      };
+    return StoreServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static StoreServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreServiceBlockingStub>() {
+        @java.lang.Override
+        public StoreServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return StoreServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static StoreServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreServiceFutureStub>() {
+        @java.lang.Override
+        public StoreServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreServiceFutureStub(channel, callOptions);
+        }
+      };
+    return StoreServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * The store service definition.
+   * </pre>
+   */
+  public static abstract class StoreServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void getOutEdges(com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetOutEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchOutTarget(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetBatchOutTargetMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchOutCount(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetBatchOutCountMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getInEdges(com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetInEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchInTarget(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetBatchInTargetMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchInCount(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetBatchInCountMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getVertexs(com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetVertexsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getEdges(com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void scanEdges(com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getScanEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void scan(com.alibaba.maxgraph.proto.StoreApi.ScanRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getScanMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetOutEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest,
+                com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>(
+                  this, METHODID_GET_OUT_EDGES)))
+          .addMethod(
+            getGetBatchOutTargetMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse>(
+                  this, METHODID_GET_BATCH_OUT_TARGET)))
+          .addMethod(
+            getGetBatchOutCountMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse>(
+                  this, METHODID_GET_BATCH_OUT_COUNT)))
+          .addMethod(
+            getGetInEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest,
+                com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>(
+                  this, METHODID_GET_IN_EDGES)))
+          .addMethod(
+            getGetBatchInTargetMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse>(
+                  this, METHODID_GET_BATCH_IN_TARGET)))
+          .addMethod(
+            getGetBatchInCountMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest,
+                com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse>(
+                  this, METHODID_GET_BATCH_IN_COUNT)))
+          .addMethod(
+            getGetVertexsMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest,
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>(
+                  this, METHODID_GET_VERTEXS)))
+          .addMethod(
+            getGetEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest,
+                com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>(
+                  this, METHODID_GET_EDGES)))
+          .addMethod(
+            getScanEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest,
+                com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>(
+                  this, METHODID_SCAN_EDGES)))
+          .addMethod(
+            getScanMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.StoreApi.ScanRequest,
+                com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>(
+                  this, METHODID_SCAN)))
+          .build();
+    }
+  }
+
+  /**
+   * <pre>
+   * The store service definition.
+   * </pre>
+   */
+  public static final class StoreServiceStub extends io.grpc.stub.AbstractAsyncStub<StoreServiceStub> {
+    private StoreServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getOutEdges(com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetOutEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchOutTarget(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetBatchOutTargetMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchOutCount(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetBatchOutCountMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getInEdges(com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetInEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchInTarget(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetBatchInTargetMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getBatchInCount(com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetBatchInCountMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getVertexs(com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetVertexsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getEdges(com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void scanEdges(com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getScanEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void scan(com.alibaba.maxgraph.proto.StoreApi.ScanRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getScanMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   * <pre>
+   * The store service definition.
+   * </pre>
+   */
+  public static final class StoreServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<StoreServiceBlockingStub> {
+    private StoreServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getOutEdges(
+        com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetOutEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> getBatchOutTarget(
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetBatchOutTargetMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> getBatchOutCount(
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetBatchOutCountMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getInEdges(
+        com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetInEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse> getBatchInTarget(
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetBatchInTargetMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse> getBatchInCount(
+        com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetBatchInCountMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> getVertexs(
+        com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetVertexsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> getEdges(
+        com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse> scanEdges(
+        com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getScanEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse> scan(
+        com.alibaba.maxgraph.proto.StoreApi.ScanRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getScanMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * <pre>
+   * The store service definition.
+   * </pre>
+   */
+  public static final class StoreServiceFutureStub extends io.grpc.stub.AbstractFutureStub<StoreServiceFutureStub> {
+    private StoreServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreServiceFutureStub(channel, callOptions);
+    }
+  }
+
+  private static final int METHODID_GET_OUT_EDGES = 0;
+  private static final int METHODID_GET_BATCH_OUT_TARGET = 1;
+  private static final int METHODID_GET_BATCH_OUT_COUNT = 2;
+  private static final int METHODID_GET_IN_EDGES = 3;
+  private static final int METHODID_GET_BATCH_IN_TARGET = 4;
+  private static final int METHODID_GET_BATCH_IN_COUNT = 5;
+  private static final int METHODID_GET_VERTEXS = 6;
+  private static final int METHODID_GET_EDGES = 7;
+  private static final int METHODID_SCAN_EDGES = 8;
+  private static final int METHODID_SCAN = 9;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final StoreServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(StoreServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_OUT_EDGES:
+          serviceImpl.getOutEdges((com.alibaba.maxgraph.proto.StoreApi.GetOutEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>) responseObserver);
+          break;
+        case METHODID_GET_BATCH_OUT_TARGET:
+          serviceImpl.getBatchOutTarget((com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse>) responseObserver);
+          break;
+        case METHODID_GET_BATCH_OUT_COUNT:
+          serviceImpl.getBatchOutCount((com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse>) responseObserver);
+          break;
+        case METHODID_GET_IN_EDGES:
+          serviceImpl.getInEdges((com.alibaba.maxgraph.proto.StoreApi.GetInEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>) responseObserver);
+          break;
+        case METHODID_GET_BATCH_IN_TARGET:
+          serviceImpl.getBatchInTarget((com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeResponse>) responseObserver);
+          break;
+        case METHODID_GET_BATCH_IN_COUNT:
+          serviceImpl.getBatchInCount((com.alibaba.maxgraph.proto.StoreApi.BatchVertexEdgeRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.BatchVertexCountResponse>) responseObserver);
+          break;
+        case METHODID_GET_VERTEXS:
+          serviceImpl.getVertexs((com.alibaba.maxgraph.proto.StoreApi.GetVertexsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>) responseObserver);
+          break;
+        case METHODID_GET_EDGES:
+          serviceImpl.getEdges((com.alibaba.maxgraph.proto.StoreApi.GetEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>) responseObserver);
+          break;
+        case METHODID_SCAN_EDGES:
+          serviceImpl.scanEdges((com.alibaba.maxgraph.proto.StoreApi.ScanEdgeRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.StoreApi.GraphEdgeReponse>) responseObserver);
+          break;
+        case METHODID_SCAN:
+          serviceImpl.scan((com.alibaba.maxgraph.proto.StoreApi.ScanRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.GremlinQuery.VertexResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class StoreServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    StoreServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.StoreApi.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("StoreService");
+    }
+  }
+
+  private static final class StoreServiceFileDescriptorSupplier
+      extends StoreServiceBaseDescriptorSupplier {
+    StoreServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class StoreServiceMethodDescriptorSupplier
+      extends StoreServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    StoreServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (StoreServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new StoreServiceFileDescriptorSupplier())
+              .addMethod(getGetOutEdgesMethod())
+              .addMethod(getGetBatchOutTargetMethod())
+              .addMethod(getGetBatchOutCountMethod())
+              .addMethod(getGetInEdgesMethod())
+              .addMethod(getGetBatchInTargetMethod())
+              .addMethod(getGetBatchInCountMethod())
+              .addMethod(getGetVertexsMethod())
+              .addMethod(getGetEdgesMethod())
+              .addMethod(getScanEdgesMethod())
+              .addMethod(getScanMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,122 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf enum {@code StoreStatus}
+ */
+public enum StoreStatus
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>INITIALING = 0;</code>
+   */
+  INITIALING(0),
+  /**
+   * <code>RECOVERED = 1;</code>
+   */
+  RECOVERED(1),
+  /**
+   * <code>STARTED = 2;</code>
+   */
+  STARTED(2),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>INITIALING = 0;</code>
+   */
+  public static final int INITIALING_VALUE = 0;
+  /**
+   * <code>RECOVERED = 1;</code>
+   */
+  public static final int RECOVERED_VALUE = 1;
+  /**
+   * <code>STARTED = 2;</code>
+   */
+  public static final int STARTED_VALUE = 2;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static StoreStatus valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static StoreStatus forNumber(int value) {
+    switch (value) {
+      case 0: return INITIALING;
+      case 1: return RECOVERED;
+      case 2: return STARTED;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<StoreStatus>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      StoreStatus> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<StoreStatus>() {
+          public StoreStatus findValueByNumber(int number) {
+            return StoreStatus.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.getDescriptor().getEnumTypes().get(0);
+  }
+
+  private static final StoreStatus[] VALUES = values();
+
+  public static StoreStatus valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private StoreStatus(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:StoreStatus)
+}
+
@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface TimestampRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TimestampRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 timestamp = 1;</code>
+   * @return The timestamp.
+   */
+  long getTimestamp();
+}
@@ -0,0 +1,291 @@
+package com.alibaba.maxgraph.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * The data transfer service definition.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: rpc.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class TransferServiceGrpc {
+
+  private TransferServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "tinkerpop.TransferService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.TransferProto.TransferRequest,
+      com.alibaba.maxgraph.proto.TransferProto.TransferResponse> getSendMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "send",
+      requestType = com.alibaba.maxgraph.proto.TransferProto.TransferRequest.class,
+      responseType = com.alibaba.maxgraph.proto.TransferProto.TransferResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.TransferProto.TransferRequest,
+      com.alibaba.maxgraph.proto.TransferProto.TransferResponse> getSendMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.TransferProto.TransferRequest, com.alibaba.maxgraph.proto.TransferProto.TransferResponse> getSendMethod;
+    if ((getSendMethod = TransferServiceGrpc.getSendMethod) == null) {
+      synchronized (TransferServiceGrpc.class) {
+        if ((getSendMethod = TransferServiceGrpc.getSendMethod) == null) {
+          TransferServiceGrpc.getSendMethod = getSendMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.TransferProto.TransferRequest, com.alibaba.maxgraph.proto.TransferProto.TransferResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "send"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.TransferProto.TransferRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.TransferProto.TransferResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TransferServiceMethodDescriptorSupplier("send"))
+              .build();
+        }
+      }
+    }
+    return getSendMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static TransferServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TransferServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TransferServiceStub>() {
+        @java.lang.Override
+        public TransferServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TransferServiceStub(channel, callOptions);
+        }
+      };
+    return TransferServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static TransferServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TransferServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TransferServiceBlockingStub>() {
+        @java.lang.Override
+        public TransferServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TransferServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return TransferServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static TransferServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TransferServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TransferServiceFutureStub>() {
+        @java.lang.Override
+        public TransferServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TransferServiceFutureStub(channel, callOptions);
+        }
+      };
+    return TransferServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * The data transfer service definition.
+   * </pre>
+   */
+  public static abstract class TransferServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void send(com.alibaba.maxgraph.proto.TransferProto.TransferRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.TransferProto.TransferResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSendMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getSendMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.TransferProto.TransferRequest,
+                com.alibaba.maxgraph.proto.TransferProto.TransferResponse>(
+                  this, METHODID_SEND)))
+          .build();
+    }
+  }
+
+  /**
+   * <pre>
+   * The data transfer service definition.
+   * </pre>
+   */
+  public static final class TransferServiceStub extends io.grpc.stub.AbstractAsyncStub<TransferServiceStub> {
+    private TransferServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TransferServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TransferServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void send(com.alibaba.maxgraph.proto.TransferProto.TransferRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.TransferProto.TransferResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getSendMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   * <pre>
+   * The data transfer service definition.
+   * </pre>
+   */
+  public static final class TransferServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<TransferServiceBlockingStub> {
+    private TransferServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TransferServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TransferServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.TransferProto.TransferResponse send(com.alibaba.maxgraph.proto.TransferProto.TransferRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getSendMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * <pre>
+   * The data transfer service definition.
+   * </pre>
+   */
+  public static final class TransferServiceFutureStub extends io.grpc.stub.AbstractFutureStub<TransferServiceFutureStub> {
+    private TransferServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TransferServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TransferServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.TransferProto.TransferResponse> send(
+        com.alibaba.maxgraph.proto.TransferProto.TransferRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getSendMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_SEND = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final TransferServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(TransferServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_SEND:
+          serviceImpl.send((com.alibaba.maxgraph.proto.TransferProto.TransferRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.TransferProto.TransferResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class TransferServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    TransferServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.TransferProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("TransferService");
+    }
+  }
+
+  private static final class TransferServiceFileDescriptorSupplier
+      extends TransferServiceBaseDescriptorSupplier {
+    TransferServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class TransferServiceMethodDescriptorSupplier
+      extends TransferServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    TransferServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (TransferServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new TransferServiceFileDescriptorSupplier())
+              .addMethod(getSendMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
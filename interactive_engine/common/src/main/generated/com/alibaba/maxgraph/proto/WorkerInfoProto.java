@@ -0,0 +1,1434 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code WorkerInfoProto}
+ */
+public final class WorkerInfoProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:WorkerInfoProto)
+    WorkerInfoProtoOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use WorkerInfoProto.newBuilder() to construct.
+  private WorkerInfoProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private WorkerInfoProto() {
+    partitions_ = emptyIntList();
+    roleType_ = 0;
+    workerStatus_ = 0;
+    logDir_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new WorkerInfoProto();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private WorkerInfoProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            id_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.EndpointProto.Builder subBuilder = null;
+            if (address_ != null) {
+              subBuilder = address_.toBuilder();
+            }
+            address_ = input.readMessage(com.alibaba.maxgraph.proto.EndpointProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(address_);
+              address_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 24: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              partitions_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            partitions_.addInt(input.readUInt32());
+            break;
+          }
+          case 26: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              partitions_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              partitions_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 32: {
+            int rawValue = input.readEnum();
+
+            roleType_ = rawValue;
+            break;
+          }
+          case 40: {
+            int rawValue = input.readEnum();
+
+            workerStatus_ = rawValue;
+            break;
+          }
+          case 50: {
+            com.alibaba.maxgraph.proto.ServerHBReq.Builder subBuilder = null;
+            if (serverHBReq_ != null) {
+              subBuilder = serverHBReq_.toBuilder();
+            }
+            serverHBReq_ = input.readMessage(com.alibaba.maxgraph.proto.ServerHBReq.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(serverHBReq_);
+              serverHBReq_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 58: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            logDir_ = s;
+            break;
+          }
+          case 64: {
+
+            lastReportTime_ = input.readInt64();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        partitions_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProto_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.WorkerInfoProto.class, com.alibaba.maxgraph.proto.WorkerInfoProto.Builder.class);
+  }
+
+  public static final int ID_FIELD_NUMBER = 1;
+  private int id_;
+  /**
+   * <code>int32 id = 1;</code>
+   * @return The id.
+   */
+  @java.lang.Override
+  public int getId() {
+    return id_;
+  }
+
+  public static final int ADDRESS_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.EndpointProto address_;
+  /**
+   * <code>.EndpointProto address = 2;</code>
+   * @return Whether the address field is set.
+   */
+  @java.lang.Override
+  public boolean hasAddress() {
+    return address_ != null;
+  }
+  /**
+   * <code>.EndpointProto address = 2;</code>
+   * @return The address.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.EndpointProto getAddress() {
+    return address_ == null ? com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : address_;
+  }
+  /**
+   * <code>.EndpointProto address = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getAddressOrBuilder() {
+    return getAddress();
+  }
+
+  public static final int PARTITIONS_FIELD_NUMBER = 3;
+  private com.google.protobuf.Internal.IntList partitions_;
+  /**
+   * <code>repeated uint32 partitions = 3;</code>
+   * @return A list containing the partitions.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getPartitionsList() {
+    return partitions_;
+  }
+  /**
+   * <code>repeated uint32 partitions = 3;</code>
+   * @return The count of partitions.
+   */
+  public int getPartitionsCount() {
+    return partitions_.size();
+  }
+  /**
+   * <code>repeated uint32 partitions = 3;</code>
+   * @param index The index of the element to return.
+   * @return The partitions at the given index.
+   */
+  public int getPartitions(int index) {
+    return partitions_.getInt(index);
+  }
+  private int partitionsMemoizedSerializedSize = -1;
+
+  public static final int ROLETYPE_FIELD_NUMBER = 4;
+  private int roleType_;
+  /**
+   * <code>.RoleType roleType = 4;</code>
+   * @return The enum numeric value on the wire for roleType.
+   */
+  @java.lang.Override public int getRoleTypeValue() {
+    return roleType_;
+  }
+  /**
+   * <code>.RoleType roleType = 4;</code>
+   * @return The roleType.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.RoleType getRoleType() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.RoleType result = com.alibaba.maxgraph.proto.RoleType.valueOf(roleType_);
+    return result == null ? com.alibaba.maxgraph.proto.RoleType.UNRECOGNIZED : result;
+  }
+
+  public static final int WORKERSTATUS_FIELD_NUMBER = 5;
+  private int workerStatus_;
+  /**
+   * <code>.WorkerStatus workerStatus = 5;</code>
+   * @return The enum numeric value on the wire for workerStatus.
+   */
+  @java.lang.Override public int getWorkerStatusValue() {
+    return workerStatus_;
+  }
+  /**
+   * <code>.WorkerStatus workerStatus = 5;</code>
+   * @return The workerStatus.
+   */
+  @java.lang.Override public com.alibaba.maxgraph.proto.WorkerStatus getWorkerStatus() {
+    @SuppressWarnings("deprecation")
+    com.alibaba.maxgraph.proto.WorkerStatus result = com.alibaba.maxgraph.proto.WorkerStatus.valueOf(workerStatus_);
+    return result == null ? com.alibaba.maxgraph.proto.WorkerStatus.UNRECOGNIZED : result;
+  }
+
+  public static final int SERVERHBREQ_FIELD_NUMBER = 6;
+  private com.alibaba.maxgraph.proto.ServerHBReq serverHBReq_;
+  /**
+   * <code>.ServerHBReq serverHBReq = 6;</code>
+   * @return Whether the serverHBReq field is set.
+   */
+  @java.lang.Override
+  public boolean hasServerHBReq() {
+    return serverHBReq_ != null;
+  }
+  /**
+   * <code>.ServerHBReq serverHBReq = 6;</code>
+   * @return The serverHBReq.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ServerHBReq getServerHBReq() {
+    return serverHBReq_ == null ? com.alibaba.maxgraph.proto.ServerHBReq.getDefaultInstance() : serverHBReq_;
+  }
+  /**
+   * <code>.ServerHBReq serverHBReq = 6;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.ServerHBReqOrBuilder getServerHBReqOrBuilder() {
+    return getServerHBReq();
+  }
+
+  public static final int LOGDIR_FIELD_NUMBER = 7;
+  private volatile java.lang.Object logDir_;
+  /**
+   * <code>string logDir = 7;</code>
+   * @return The logDir.
+   */
+  @java.lang.Override
+  public java.lang.String getLogDir() {
+    java.lang.Object ref = logDir_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      logDir_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string logDir = 7;</code>
+   * @return The bytes for logDir.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getLogDirBytes() {
+    java.lang.Object ref = logDir_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      logDir_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int LASTREPORTTIME_FIELD_NUMBER = 8;
+  private long lastReportTime_;
+  /**
+   * <code>int64 lastReportTime = 8;</code>
+   * @return The lastReportTime.
+   */
+  @java.lang.Override
+  public long getLastReportTime() {
+    return lastReportTime_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (id_ != 0) {
+      output.writeInt32(1, id_);
+    }
+    if (address_ != null) {
+      output.writeMessage(2, getAddress());
+    }
+    if (getPartitionsList().size() > 0) {
+      output.writeUInt32NoTag(26);
+      output.writeUInt32NoTag(partitionsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < partitions_.size(); i++) {
+      output.writeUInt32NoTag(partitions_.getInt(i));
+    }
+    if (roleType_ != com.alibaba.maxgraph.proto.RoleType.AM.getNumber()) {
+      output.writeEnum(4, roleType_);
+    }
+    if (workerStatus_ != com.alibaba.maxgraph.proto.WorkerStatus.RUNNING.getNumber()) {
+      output.writeEnum(5, workerStatus_);
+    }
+    if (serverHBReq_ != null) {
+      output.writeMessage(6, getServerHBReq());
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(logDir_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 7, logDir_);
+    }
+    if (lastReportTime_ != 0L) {
+      output.writeInt64(8, lastReportTime_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (id_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, id_);
+    }
+    if (address_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getAddress());
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < partitions_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(partitions_.getInt(i));
+      }
+      size += dataSize;
+      if (!getPartitionsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      partitionsMemoizedSerializedSize = dataSize;
+    }
+    if (roleType_ != com.alibaba.maxgraph.proto.RoleType.AM.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(4, roleType_);
+    }
+    if (workerStatus_ != com.alibaba.maxgraph.proto.WorkerStatus.RUNNING.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(5, workerStatus_);
+    }
+    if (serverHBReq_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, getServerHBReq());
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(logDir_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, logDir_);
+    }
+    if (lastReportTime_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(8, lastReportTime_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.WorkerInfoProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.WorkerInfoProto other = (com.alibaba.maxgraph.proto.WorkerInfoProto) obj;
+
+    if (getId()
+        != other.getId()) return false;
+    if (hasAddress() != other.hasAddress()) return false;
+    if (hasAddress()) {
+      if (!getAddress()
+          .equals(other.getAddress())) return false;
+    }
+    if (!getPartitionsList()
+        .equals(other.getPartitionsList())) return false;
+    if (roleType_ != other.roleType_) return false;
+    if (workerStatus_ != other.workerStatus_) return false;
+    if (hasServerHBReq() != other.hasServerHBReq()) return false;
+    if (hasServerHBReq()) {
+      if (!getServerHBReq()
+          .equals(other.getServerHBReq())) return false;
+    }
+    if (!getLogDir()
+        .equals(other.getLogDir())) return false;
+    if (getLastReportTime()
+        != other.getLastReportTime()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ID_FIELD_NUMBER;
+    hash = (53 * hash) + getId();
+    if (hasAddress()) {
+      hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getAddress().hashCode();
+    }
+    if (getPartitionsCount() > 0) {
+      hash = (37 * hash) + PARTITIONS_FIELD_NUMBER;
+      hash = (53 * hash) + getPartitionsList().hashCode();
+    }
+    hash = (37 * hash) + ROLETYPE_FIELD_NUMBER;
+    hash = (53 * hash) + roleType_;
+    hash = (37 * hash) + WORKERSTATUS_FIELD_NUMBER;
+    hash = (53 * hash) + workerStatus_;
+    if (hasServerHBReq()) {
+      hash = (37 * hash) + SERVERHBREQ_FIELD_NUMBER;
+      hash = (53 * hash) + getServerHBReq().hashCode();
+    }
+    hash = (37 * hash) + LOGDIR_FIELD_NUMBER;
+    hash = (53 * hash) + getLogDir().hashCode();
+    hash = (37 * hash) + LASTREPORTTIME_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getLastReportTime());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.WorkerInfoProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code WorkerInfoProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:WorkerInfoProto)
+      com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProto_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.WorkerInfoProto.class, com.alibaba.maxgraph.proto.WorkerInfoProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.WorkerInfoProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      id_ = 0;
+
+      if (addressBuilder_ == null) {
+        address_ = null;
+      } else {
+        address_ = null;
+        addressBuilder_ = null;
+      }
+      partitions_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      roleType_ = 0;
+
+      workerStatus_ = 0;
+
+      if (serverHBReqBuilder_ == null) {
+        serverHBReq_ = null;
+      } else {
+        serverHBReq_ = null;
+        serverHBReqBuilder_ = null;
+      }
+      logDir_ = "";
+
+      lastReportTime_ = 0L;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProto_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.WorkerInfoProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.WorkerInfoProto.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.WorkerInfoProto build() {
+      com.alibaba.maxgraph.proto.WorkerInfoProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.WorkerInfoProto buildPartial() {
+      com.alibaba.maxgraph.proto.WorkerInfoProto result = new com.alibaba.maxgraph.proto.WorkerInfoProto(this);
+      int from_bitField0_ = bitField0_;
+      result.id_ = id_;
+      if (addressBuilder_ == null) {
+        result.address_ = address_;
+      } else {
+        result.address_ = addressBuilder_.build();
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        partitions_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.partitions_ = partitions_;
+      result.roleType_ = roleType_;
+      result.workerStatus_ = workerStatus_;
+      if (serverHBReqBuilder_ == null) {
+        result.serverHBReq_ = serverHBReq_;
+      } else {
+        result.serverHBReq_ = serverHBReqBuilder_.build();
+      }
+      result.logDir_ = logDir_;
+      result.lastReportTime_ = lastReportTime_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.WorkerInfoProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.WorkerInfoProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.WorkerInfoProto other) {
+      if (other == com.alibaba.maxgraph.proto.WorkerInfoProto.getDefaultInstance()) return this;
+      if (other.getId() != 0) {
+        setId(other.getId());
+      }
+      if (other.hasAddress()) {
+        mergeAddress(other.getAddress());
+      }
+      if (!other.partitions_.isEmpty()) {
+        if (partitions_.isEmpty()) {
+          partitions_ = other.partitions_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensurePartitionsIsMutable();
+          partitions_.addAll(other.partitions_);
+        }
+        onChanged();
+      }
+      if (other.roleType_ != 0) {
+        setRoleTypeValue(other.getRoleTypeValue());
+      }
+      if (other.workerStatus_ != 0) {
+        setWorkerStatusValue(other.getWorkerStatusValue());
+      }
+      if (other.hasServerHBReq()) {
+        mergeServerHBReq(other.getServerHBReq());
+      }
+      if (!other.getLogDir().isEmpty()) {
+        logDir_ = other.logDir_;
+        onChanged();
+      }
+      if (other.getLastReportTime() != 0L) {
+        setLastReportTime(other.getLastReportTime());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.WorkerInfoProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.WorkerInfoProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int id_ ;
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+    /**
+     * <code>int32 id = 1;</code>
+     * @param value The id to set.
+     * @return This builder for chaining.
+     */
+    public Builder setId(int value) {
+      
+      id_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearId() {
+      
+      id_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.EndpointProto address_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder> addressBuilder_;
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     * @return Whether the address field is set.
+     */
+    public boolean hasAddress() {
+      return addressBuilder_ != null || address_ != null;
+    }
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     * @return The address.
+     */
+    public com.alibaba.maxgraph.proto.EndpointProto getAddress() {
+      if (addressBuilder_ == null) {
+        return address_ == null ? com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : address_;
+      } else {
+        return addressBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     */
+    public Builder setAddress(com.alibaba.maxgraph.proto.EndpointProto value) {
+      if (addressBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        address_ = value;
+        onChanged();
+      } else {
+        addressBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     */
+    public Builder setAddress(
+        com.alibaba.maxgraph.proto.EndpointProto.Builder builderForValue) {
+      if (addressBuilder_ == null) {
+        address_ = builderForValue.build();
+        onChanged();
+      } else {
+        addressBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     */
+    public Builder mergeAddress(com.alibaba.maxgraph.proto.EndpointProto value) {
+      if (addressBuilder_ == null) {
+        if (address_ != null) {
+          address_ =
+            com.alibaba.maxgraph.proto.EndpointProto.newBuilder(address_).mergeFrom(value).buildPartial();
+        } else {
+          address_ = value;
+        }
+        onChanged();
+      } else {
+        addressBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     */
+    public Builder clearAddress() {
+      if (addressBuilder_ == null) {
+        address_ = null;
+        onChanged();
+      } else {
+        address_ = null;
+        addressBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.EndpointProto.Builder getAddressBuilder() {
+      
+      onChanged();
+      return getAddressFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getAddressOrBuilder() {
+      if (addressBuilder_ != null) {
+        return addressBuilder_.getMessageOrBuilder();
+      } else {
+        return address_ == null ?
+            com.alibaba.maxgraph.proto.EndpointProto.getDefaultInstance() : address_;
+      }
+    }
+    /**
+     * <code>.EndpointProto address = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder> 
+        getAddressFieldBuilder() {
+      if (addressBuilder_ == null) {
+        addressBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.EndpointProto, com.alibaba.maxgraph.proto.EndpointProto.Builder, com.alibaba.maxgraph.proto.EndpointProtoOrBuilder>(
+                getAddress(),
+                getParentForChildren(),
+                isClean());
+        address_ = null;
+      }
+      return addressBuilder_;
+    }
+
+    private com.google.protobuf.Internal.IntList partitions_ = emptyIntList();
+    private void ensurePartitionsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        partitions_ = mutableCopy(partitions_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated uint32 partitions = 3;</code>
+     * @return A list containing the partitions.
+     */
+    public java.util.List<java.lang.Integer>
+        getPartitionsList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(partitions_) : partitions_;
+    }
+    /**
+     * <code>repeated uint32 partitions = 3;</code>
+     * @return The count of partitions.
+     */
+    public int getPartitionsCount() {
+      return partitions_.size();
+    }
+    /**
+     * <code>repeated uint32 partitions = 3;</code>
+     * @param index The index of the element to return.
+     * @return The partitions at the given index.
+     */
+    public int getPartitions(int index) {
+      return partitions_.getInt(index);
+    }
+    /**
+     * <code>repeated uint32 partitions = 3;</code>
+     * @param index The index to set the value at.
+     * @param value The partitions to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPartitions(
+        int index, int value) {
+      ensurePartitionsIsMutable();
+      partitions_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partitions = 3;</code>
+     * @param value The partitions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addPartitions(int value) {
+      ensurePartitionsIsMutable();
+      partitions_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partitions = 3;</code>
+     * @param values The partitions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllPartitions(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensurePartitionsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, partitions_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated uint32 partitions = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPartitions() {
+      partitions_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+
+    private int roleType_ = 0;
+    /**
+     * <code>.RoleType roleType = 4;</code>
+     * @return The enum numeric value on the wire for roleType.
+     */
+    @java.lang.Override public int getRoleTypeValue() {
+      return roleType_;
+    }
+    /**
+     * <code>.RoleType roleType = 4;</code>
+     * @param value The enum numeric value on the wire for roleType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRoleTypeValue(int value) {
+      
+      roleType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.RoleType roleType = 4;</code>
+     * @return The roleType.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.RoleType getRoleType() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.RoleType result = com.alibaba.maxgraph.proto.RoleType.valueOf(roleType_);
+      return result == null ? com.alibaba.maxgraph.proto.RoleType.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.RoleType roleType = 4;</code>
+     * @param value The roleType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRoleType(com.alibaba.maxgraph.proto.RoleType value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      roleType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.RoleType roleType = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRoleType() {
+      
+      roleType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int workerStatus_ = 0;
+    /**
+     * <code>.WorkerStatus workerStatus = 5;</code>
+     * @return The enum numeric value on the wire for workerStatus.
+     */
+    @java.lang.Override public int getWorkerStatusValue() {
+      return workerStatus_;
+    }
+    /**
+     * <code>.WorkerStatus workerStatus = 5;</code>
+     * @param value The enum numeric value on the wire for workerStatus to set.
+     * @return This builder for chaining.
+     */
+    public Builder setWorkerStatusValue(int value) {
+      
+      workerStatus_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.WorkerStatus workerStatus = 5;</code>
+     * @return The workerStatus.
+     */
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.WorkerStatus getWorkerStatus() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.maxgraph.proto.WorkerStatus result = com.alibaba.maxgraph.proto.WorkerStatus.valueOf(workerStatus_);
+      return result == null ? com.alibaba.maxgraph.proto.WorkerStatus.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.WorkerStatus workerStatus = 5;</code>
+     * @param value The workerStatus to set.
+     * @return This builder for chaining.
+     */
+    public Builder setWorkerStatus(com.alibaba.maxgraph.proto.WorkerStatus value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      workerStatus_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.WorkerStatus workerStatus = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearWorkerStatus() {
+      
+      workerStatus_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.ServerHBReq serverHBReq_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.ServerHBReq, com.alibaba.maxgraph.proto.ServerHBReq.Builder, com.alibaba.maxgraph.proto.ServerHBReqOrBuilder> serverHBReqBuilder_;
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     * @return Whether the serverHBReq field is set.
+     */
+    public boolean hasServerHBReq() {
+      return serverHBReqBuilder_ != null || serverHBReq_ != null;
+    }
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     * @return The serverHBReq.
+     */
+    public com.alibaba.maxgraph.proto.ServerHBReq getServerHBReq() {
+      if (serverHBReqBuilder_ == null) {
+        return serverHBReq_ == null ? com.alibaba.maxgraph.proto.ServerHBReq.getDefaultInstance() : serverHBReq_;
+      } else {
+        return serverHBReqBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     */
+    public Builder setServerHBReq(com.alibaba.maxgraph.proto.ServerHBReq value) {
+      if (serverHBReqBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        serverHBReq_ = value;
+        onChanged();
+      } else {
+        serverHBReqBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     */
+    public Builder setServerHBReq(
+        com.alibaba.maxgraph.proto.ServerHBReq.Builder builderForValue) {
+      if (serverHBReqBuilder_ == null) {
+        serverHBReq_ = builderForValue.build();
+        onChanged();
+      } else {
+        serverHBReqBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     */
+    public Builder mergeServerHBReq(com.alibaba.maxgraph.proto.ServerHBReq value) {
+      if (serverHBReqBuilder_ == null) {
+        if (serverHBReq_ != null) {
+          serverHBReq_ =
+            com.alibaba.maxgraph.proto.ServerHBReq.newBuilder(serverHBReq_).mergeFrom(value).buildPartial();
+        } else {
+          serverHBReq_ = value;
+        }
+        onChanged();
+      } else {
+        serverHBReqBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     */
+    public Builder clearServerHBReq() {
+      if (serverHBReqBuilder_ == null) {
+        serverHBReq_ = null;
+        onChanged();
+      } else {
+        serverHBReq_ = null;
+        serverHBReqBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.ServerHBReq.Builder getServerHBReqBuilder() {
+      
+      onChanged();
+      return getServerHBReqFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.ServerHBReqOrBuilder getServerHBReqOrBuilder() {
+      if (serverHBReqBuilder_ != null) {
+        return serverHBReqBuilder_.getMessageOrBuilder();
+      } else {
+        return serverHBReq_ == null ?
+            com.alibaba.maxgraph.proto.ServerHBReq.getDefaultInstance() : serverHBReq_;
+      }
+    }
+    /**
+     * <code>.ServerHBReq serverHBReq = 6;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.ServerHBReq, com.alibaba.maxgraph.proto.ServerHBReq.Builder, com.alibaba.maxgraph.proto.ServerHBReqOrBuilder> 
+        getServerHBReqFieldBuilder() {
+      if (serverHBReqBuilder_ == null) {
+        serverHBReqBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.ServerHBReq, com.alibaba.maxgraph.proto.ServerHBReq.Builder, com.alibaba.maxgraph.proto.ServerHBReqOrBuilder>(
+                getServerHBReq(),
+                getParentForChildren(),
+                isClean());
+        serverHBReq_ = null;
+      }
+      return serverHBReqBuilder_;
+    }
+
+    private java.lang.Object logDir_ = "";
+    /**
+     * <code>string logDir = 7;</code>
+     * @return The logDir.
+     */
+    public java.lang.String getLogDir() {
+      java.lang.Object ref = logDir_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        logDir_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string logDir = 7;</code>
+     * @return The bytes for logDir.
+     */
+    public com.google.protobuf.ByteString
+        getLogDirBytes() {
+      java.lang.Object ref = logDir_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        logDir_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string logDir = 7;</code>
+     * @param value The logDir to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLogDir(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      logDir_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string logDir = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLogDir() {
+      
+      logDir_ = getDefaultInstance().getLogDir();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string logDir = 7;</code>
+     * @param value The bytes for logDir to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLogDirBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      logDir_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long lastReportTime_ ;
+    /**
+     * <code>int64 lastReportTime = 8;</code>
+     * @return The lastReportTime.
+     */
+    @java.lang.Override
+    public long getLastReportTime() {
+      return lastReportTime_;
+    }
+    /**
+     * <code>int64 lastReportTime = 8;</code>
+     * @param value The lastReportTime to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLastReportTime(long value) {
+      
+      lastReportTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 lastReportTime = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLastReportTime() {
+      
+      lastReportTime_ = 0L;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:WorkerInfoProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:WorkerInfoProto)
+  private static final com.alibaba.maxgraph.proto.WorkerInfoProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.WorkerInfoProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.WorkerInfoProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<WorkerInfoProto>
+      PARSER = new com.google.protobuf.AbstractParser<WorkerInfoProto>() {
+    @java.lang.Override
+    public WorkerInfoProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new WorkerInfoProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<WorkerInfoProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<WorkerInfoProto> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.WorkerInfoProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
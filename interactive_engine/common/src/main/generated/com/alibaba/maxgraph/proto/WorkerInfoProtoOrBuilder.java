@@ -0,0 +1,102 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface WorkerInfoProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:WorkerInfoProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 id = 1;</code>
+   * @return The id.
+   */
+  int getId();
+
+  /**
+   * <code>.EndpointProto address = 2;</code>
+   * @return Whether the address field is set.
+   */
+  boolean hasAddress();
+  /**
+   * <code>.EndpointProto address = 2;</code>
+   * @return The address.
+   */
+  com.alibaba.maxgraph.proto.EndpointProto getAddress();
+  /**
+   * <code>.EndpointProto address = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.EndpointProtoOrBuilder getAddressOrBuilder();
+
+  /**
+   * <code>repeated uint32 partitions = 3;</code>
+   * @return A list containing the partitions.
+   */
+  java.util.List<java.lang.Integer> getPartitionsList();
+  /**
+   * <code>repeated uint32 partitions = 3;</code>
+   * @return The count of partitions.
+   */
+  int getPartitionsCount();
+  /**
+   * <code>repeated uint32 partitions = 3;</code>
+   * @param index The index of the element to return.
+   * @return The partitions at the given index.
+   */
+  int getPartitions(int index);
+
+  /**
+   * <code>.RoleType roleType = 4;</code>
+   * @return The enum numeric value on the wire for roleType.
+   */
+  int getRoleTypeValue();
+  /**
+   * <code>.RoleType roleType = 4;</code>
+   * @return The roleType.
+   */
+  com.alibaba.maxgraph.proto.RoleType getRoleType();
+
+  /**
+   * <code>.WorkerStatus workerStatus = 5;</code>
+   * @return The enum numeric value on the wire for workerStatus.
+   */
+  int getWorkerStatusValue();
+  /**
+   * <code>.WorkerStatus workerStatus = 5;</code>
+   * @return The workerStatus.
+   */
+  com.alibaba.maxgraph.proto.WorkerStatus getWorkerStatus();
+
+  /**
+   * <code>.ServerHBReq serverHBReq = 6;</code>
+   * @return Whether the serverHBReq field is set.
+   */
+  boolean hasServerHBReq();
+  /**
+   * <code>.ServerHBReq serverHBReq = 6;</code>
+   * @return The serverHBReq.
+   */
+  com.alibaba.maxgraph.proto.ServerHBReq getServerHBReq();
+  /**
+   * <code>.ServerHBReq serverHBReq = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.ServerHBReqOrBuilder getServerHBReqOrBuilder();
+
+  /**
+   * <code>string logDir = 7;</code>
+   * @return The logDir.
+   */
+  java.lang.String getLogDir();
+  /**
+   * <code>string logDir = 7;</code>
+   * @return The bytes for logDir.
+   */
+  com.google.protobuf.ByteString
+      getLogDirBytes();
+
+  /**
+   * <code>int64 lastReportTime = 8;</code>
+   * @return The lastReportTime.
+   */
+  long getLastReportTime();
+}
@@ -0,0 +1,770 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code WorkerInfoProtos}
+ */
+public final class WorkerInfoProtos extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:WorkerInfoProtos)
+    WorkerInfoProtosOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use WorkerInfoProtos.newBuilder() to construct.
+  private WorkerInfoProtos(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private WorkerInfoProtos() {
+    infos_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new WorkerInfoProtos();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private WorkerInfoProtos(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              infos_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.WorkerInfoProto>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            infos_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.WorkerInfoProto.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        infos_ = java.util.Collections.unmodifiableList(infos_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProtos_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProtos_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.WorkerInfoProtos.class, com.alibaba.maxgraph.proto.WorkerInfoProtos.Builder.class);
+  }
+
+  public static final int INFOS_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.WorkerInfoProto> infos_;
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.WorkerInfoProto> getInfosList() {
+    return infos_;
+  }
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder> 
+      getInfosOrBuilderList() {
+    return infos_;
+  }
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  @java.lang.Override
+  public int getInfosCount() {
+    return infos_.size();
+  }
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.WorkerInfoProto getInfos(int index) {
+    return infos_.get(index);
+  }
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder getInfosOrBuilder(
+      int index) {
+    return infos_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < infos_.size(); i++) {
+      output.writeMessage(1, infos_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < infos_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, infos_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.WorkerInfoProtos)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.WorkerInfoProtos other = (com.alibaba.maxgraph.proto.WorkerInfoProtos) obj;
+
+    if (!getInfosList()
+        .equals(other.getInfosList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getInfosCount() > 0) {
+      hash = (37 * hash) + INFOS_FIELD_NUMBER;
+      hash = (53 * hash) + getInfosList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.WorkerInfoProtos prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code WorkerInfoProtos}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:WorkerInfoProtos)
+      com.alibaba.maxgraph.proto.WorkerInfoProtosOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProtos_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProtos_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.WorkerInfoProtos.class, com.alibaba.maxgraph.proto.WorkerInfoProtos.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.WorkerInfoProtos.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getInfosFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (infosBuilder_ == null) {
+        infos_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        infosBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Hb.internal_static_WorkerInfoProtos_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.WorkerInfoProtos getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.WorkerInfoProtos.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.WorkerInfoProtos build() {
+      com.alibaba.maxgraph.proto.WorkerInfoProtos result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.WorkerInfoProtos buildPartial() {
+      com.alibaba.maxgraph.proto.WorkerInfoProtos result = new com.alibaba.maxgraph.proto.WorkerInfoProtos(this);
+      int from_bitField0_ = bitField0_;
+      if (infosBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          infos_ = java.util.Collections.unmodifiableList(infos_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.infos_ = infos_;
+      } else {
+        result.infos_ = infosBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.WorkerInfoProtos) {
+        return mergeFrom((com.alibaba.maxgraph.proto.WorkerInfoProtos)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.WorkerInfoProtos other) {
+      if (other == com.alibaba.maxgraph.proto.WorkerInfoProtos.getDefaultInstance()) return this;
+      if (infosBuilder_ == null) {
+        if (!other.infos_.isEmpty()) {
+          if (infos_.isEmpty()) {
+            infos_ = other.infos_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureInfosIsMutable();
+            infos_.addAll(other.infos_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.infos_.isEmpty()) {
+          if (infosBuilder_.isEmpty()) {
+            infosBuilder_.dispose();
+            infosBuilder_ = null;
+            infos_ = other.infos_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            infosBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getInfosFieldBuilder() : null;
+          } else {
+            infosBuilder_.addAllMessages(other.infos_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.WorkerInfoProtos parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.WorkerInfoProtos) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.WorkerInfoProto> infos_ =
+      java.util.Collections.emptyList();
+    private void ensureInfosIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        infos_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.WorkerInfoProto>(infos_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.WorkerInfoProto, com.alibaba.maxgraph.proto.WorkerInfoProto.Builder, com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder> infosBuilder_;
+
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.WorkerInfoProto> getInfosList() {
+      if (infosBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(infos_);
+      } else {
+        return infosBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public int getInfosCount() {
+      if (infosBuilder_ == null) {
+        return infos_.size();
+      } else {
+        return infosBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.WorkerInfoProto getInfos(int index) {
+      if (infosBuilder_ == null) {
+        return infos_.get(index);
+      } else {
+        return infosBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder setInfos(
+        int index, com.alibaba.maxgraph.proto.WorkerInfoProto value) {
+      if (infosBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureInfosIsMutable();
+        infos_.set(index, value);
+        onChanged();
+      } else {
+        infosBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder setInfos(
+        int index, com.alibaba.maxgraph.proto.WorkerInfoProto.Builder builderForValue) {
+      if (infosBuilder_ == null) {
+        ensureInfosIsMutable();
+        infos_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        infosBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder addInfos(com.alibaba.maxgraph.proto.WorkerInfoProto value) {
+      if (infosBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureInfosIsMutable();
+        infos_.add(value);
+        onChanged();
+      } else {
+        infosBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder addInfos(
+        int index, com.alibaba.maxgraph.proto.WorkerInfoProto value) {
+      if (infosBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureInfosIsMutable();
+        infos_.add(index, value);
+        onChanged();
+      } else {
+        infosBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder addInfos(
+        com.alibaba.maxgraph.proto.WorkerInfoProto.Builder builderForValue) {
+      if (infosBuilder_ == null) {
+        ensureInfosIsMutable();
+        infos_.add(builderForValue.build());
+        onChanged();
+      } else {
+        infosBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder addInfos(
+        int index, com.alibaba.maxgraph.proto.WorkerInfoProto.Builder builderForValue) {
+      if (infosBuilder_ == null) {
+        ensureInfosIsMutable();
+        infos_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        infosBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder addAllInfos(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.WorkerInfoProto> values) {
+      if (infosBuilder_ == null) {
+        ensureInfosIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, infos_);
+        onChanged();
+      } else {
+        infosBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder clearInfos() {
+      if (infosBuilder_ == null) {
+        infos_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        infosBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public Builder removeInfos(int index) {
+      if (infosBuilder_ == null) {
+        ensureInfosIsMutable();
+        infos_.remove(index);
+        onChanged();
+      } else {
+        infosBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.WorkerInfoProto.Builder getInfosBuilder(
+        int index) {
+      return getInfosFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder getInfosOrBuilder(
+        int index) {
+      if (infosBuilder_ == null) {
+        return infos_.get(index);  } else {
+        return infosBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder> 
+         getInfosOrBuilderList() {
+      if (infosBuilder_ != null) {
+        return infosBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(infos_);
+      }
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.WorkerInfoProto.Builder addInfosBuilder() {
+      return getInfosFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.WorkerInfoProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.WorkerInfoProto.Builder addInfosBuilder(
+        int index) {
+      return getInfosFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.WorkerInfoProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .WorkerInfoProto infos = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.WorkerInfoProto.Builder> 
+         getInfosBuilderList() {
+      return getInfosFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.WorkerInfoProto, com.alibaba.maxgraph.proto.WorkerInfoProto.Builder, com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder> 
+        getInfosFieldBuilder() {
+      if (infosBuilder_ == null) {
+        infosBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.WorkerInfoProto, com.alibaba.maxgraph.proto.WorkerInfoProto.Builder, com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder>(
+                infos_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        infos_ = null;
+      }
+      return infosBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:WorkerInfoProtos)
+  }
+
+  // @@protoc_insertion_point(class_scope:WorkerInfoProtos)
+  private static final com.alibaba.maxgraph.proto.WorkerInfoProtos DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.WorkerInfoProtos();
+  }
+
+  public static com.alibaba.maxgraph.proto.WorkerInfoProtos getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<WorkerInfoProtos>
+      PARSER = new com.google.protobuf.AbstractParser<WorkerInfoProtos>() {
+    @java.lang.Override
+    public WorkerInfoProtos parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new WorkerInfoProtos(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<WorkerInfoProtos> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<WorkerInfoProtos> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.WorkerInfoProtos getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
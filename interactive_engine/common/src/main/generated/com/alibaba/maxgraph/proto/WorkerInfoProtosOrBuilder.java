@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface WorkerInfoProtosOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:WorkerInfoProtos)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.WorkerInfoProto> 
+      getInfosList();
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.WorkerInfoProto getInfos(int index);
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  int getInfosCount();
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder> 
+      getInfosOrBuilderList();
+  /**
+   * <code>repeated .WorkerInfoProto infos = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.WorkerInfoProtoOrBuilder getInfosOrBuilder(
+      int index);
+}
@@ -0,0 +1,131 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: hb.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf enum {@code WorkerStatus}
+ */
+public enum WorkerStatus
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>RUNNING = 0;</code>
+   */
+  RUNNING(0),
+  /**
+   * <code>LOST = 1;</code>
+   */
+  LOST(1),
+  /**
+   * <code>RESTARTING = 2;</code>
+   */
+  RESTARTING(2),
+  /**
+   * <code>STARTING = 3;</code>
+   */
+  STARTING(3),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>RUNNING = 0;</code>
+   */
+  public static final int RUNNING_VALUE = 0;
+  /**
+   * <code>LOST = 1;</code>
+   */
+  public static final int LOST_VALUE = 1;
+  /**
+   * <code>RESTARTING = 2;</code>
+   */
+  public static final int RESTARTING_VALUE = 2;
+  /**
+   * <code>STARTING = 3;</code>
+   */
+  public static final int STARTING_VALUE = 3;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static WorkerStatus valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static WorkerStatus forNumber(int value) {
+    switch (value) {
+      case 0: return RUNNING;
+      case 1: return LOST;
+      case 2: return RESTARTING;
+      case 3: return STARTING;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<WorkerStatus>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      WorkerStatus> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<WorkerStatus>() {
+          public WorkerStatus findValueByNumber(int number) {
+            return WorkerStatus.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Hb.getDescriptor().getEnumTypes().get(1);
+  }
+
+  private static final WorkerStatus[] VALUES = values();
+
+  public static WorkerStatus valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private WorkerStatus(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:WorkerStatus)
+}
+
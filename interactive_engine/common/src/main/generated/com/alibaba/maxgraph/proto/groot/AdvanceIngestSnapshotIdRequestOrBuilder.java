@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingestor_snapshot_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AdvanceIngestSnapshotIdRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AdvanceIngestSnapshotIdRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 snapshotId = 1;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+}
@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingestor_snapshot_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AdvanceIngestSnapshotIdResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AdvanceIngestSnapshotIdResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 previousSnapshotId = 1;</code>
+   * @return The previousSnapshotId.
+   */
+  long getPreviousSnapshotId();
+}
@@ -0,0 +1,672 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: frontend_snapshot_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code AdvanceQuerySnapshotRequest}
+ */
+public final class AdvanceQuerySnapshotRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:AdvanceQuerySnapshotRequest)
+    AdvanceQuerySnapshotRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use AdvanceQuerySnapshotRequest.newBuilder() to construct.
+  private AdvanceQuerySnapshotRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private AdvanceQuerySnapshotRequest() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new AdvanceQuerySnapshotRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private AdvanceQuerySnapshotRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            snapshotId_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder subBuilder = null;
+            if (graphDef_ != null) {
+              subBuilder = graphDef_.toBuilder();
+            }
+            graphDef_ = input.readMessage(com.alibaba.maxgraph.proto.groot.GraphDefPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(graphDef_);
+              graphDef_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.FrontendSnapshotService.internal_static_AdvanceQuerySnapshotRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.FrontendSnapshotService.internal_static_AdvanceQuerySnapshotRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.class, com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.Builder.class);
+  }
+
+  public static final int SNAPSHOTID_FIELD_NUMBER = 1;
+  private long snapshotId_;
+  /**
+   * <code>int64 snapshotId = 1;</code>
+   * @return The snapshotId.
+   */
+  @java.lang.Override
+  public long getSnapshotId() {
+    return snapshotId_;
+  }
+
+  public static final int GRAPHDEF_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.groot.GraphDefPb graphDef_;
+  /**
+   * <code>.GraphDefPb graphDef = 2;</code>
+   * @return Whether the graphDef field is set.
+   */
+  @java.lang.Override
+  public boolean hasGraphDef() {
+    return graphDef_ != null;
+  }
+  /**
+   * <code>.GraphDefPb graphDef = 2;</code>
+   * @return The graphDef.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef() {
+    return graphDef_ == null ? com.alibaba.maxgraph.proto.groot.GraphDefPb.getDefaultInstance() : graphDef_;
+  }
+  /**
+   * <code>.GraphDefPb graphDef = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder() {
+    return getGraphDef();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (snapshotId_ != 0L) {
+      output.writeInt64(1, snapshotId_);
+    }
+    if (graphDef_ != null) {
+      output.writeMessage(2, getGraphDef());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (snapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, snapshotId_);
+    }
+    if (graphDef_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getGraphDef());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest other = (com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest) obj;
+
+    if (getSnapshotId()
+        != other.getSnapshotId()) return false;
+    if (hasGraphDef() != other.hasGraphDef()) return false;
+    if (hasGraphDef()) {
+      if (!getGraphDef()
+          .equals(other.getGraphDef())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSnapshotId());
+    if (hasGraphDef()) {
+      hash = (37 * hash) + GRAPHDEF_FIELD_NUMBER;
+      hash = (53 * hash) + getGraphDef().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code AdvanceQuerySnapshotRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:AdvanceQuerySnapshotRequest)
+      com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.FrontendSnapshotService.internal_static_AdvanceQuerySnapshotRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.FrontendSnapshotService.internal_static_AdvanceQuerySnapshotRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.class, com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      snapshotId_ = 0L;
+
+      if (graphDefBuilder_ == null) {
+        graphDef_ = null;
+      } else {
+        graphDef_ = null;
+        graphDefBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.FrontendSnapshotService.internal_static_AdvanceQuerySnapshotRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest build() {
+      com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest result = new com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest(this);
+      result.snapshotId_ = snapshotId_;
+      if (graphDefBuilder_ == null) {
+        result.graphDef_ = graphDef_;
+      } else {
+        result.graphDef_ = graphDefBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.getDefaultInstance()) return this;
+      if (other.getSnapshotId() != 0L) {
+        setSnapshotId(other.getSnapshotId());
+      }
+      if (other.hasGraphDef()) {
+        mergeGraphDef(other.getGraphDef());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long snapshotId_ ;
+    /**
+     * <code>int64 snapshotId = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+    /**
+     * <code>int64 snapshotId = 1;</code>
+     * @param value The snapshotId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSnapshotId(long value) {
+      
+      snapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 snapshotId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSnapshotId() {
+      
+      snapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.GraphDefPb graphDef_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.GraphDefPb, com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder, com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder> graphDefBuilder_;
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     * @return Whether the graphDef field is set.
+     */
+    public boolean hasGraphDef() {
+      return graphDefBuilder_ != null || graphDef_ != null;
+    }
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     * @return The graphDef.
+     */
+    public com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef() {
+      if (graphDefBuilder_ == null) {
+        return graphDef_ == null ? com.alibaba.maxgraph.proto.groot.GraphDefPb.getDefaultInstance() : graphDef_;
+      } else {
+        return graphDefBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     */
+    public Builder setGraphDef(com.alibaba.maxgraph.proto.groot.GraphDefPb value) {
+      if (graphDefBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        graphDef_ = value;
+        onChanged();
+      } else {
+        graphDefBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     */
+    public Builder setGraphDef(
+        com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder builderForValue) {
+      if (graphDefBuilder_ == null) {
+        graphDef_ = builderForValue.build();
+        onChanged();
+      } else {
+        graphDefBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     */
+    public Builder mergeGraphDef(com.alibaba.maxgraph.proto.groot.GraphDefPb value) {
+      if (graphDefBuilder_ == null) {
+        if (graphDef_ != null) {
+          graphDef_ =
+            com.alibaba.maxgraph.proto.groot.GraphDefPb.newBuilder(graphDef_).mergeFrom(value).buildPartial();
+        } else {
+          graphDef_ = value;
+        }
+        onChanged();
+      } else {
+        graphDefBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     */
+    public Builder clearGraphDef() {
+      if (graphDefBuilder_ == null) {
+        graphDef_ = null;
+        onChanged();
+      } else {
+        graphDef_ = null;
+        graphDefBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder getGraphDefBuilder() {
+      
+      onChanged();
+      return getGraphDefFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder() {
+      if (graphDefBuilder_ != null) {
+        return graphDefBuilder_.getMessageOrBuilder();
+      } else {
+        return graphDef_ == null ?
+            com.alibaba.maxgraph.proto.groot.GraphDefPb.getDefaultInstance() : graphDef_;
+      }
+    }
+    /**
+     * <code>.GraphDefPb graphDef = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.GraphDefPb, com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder, com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder> 
+        getGraphDefFieldBuilder() {
+      if (graphDefBuilder_ == null) {
+        graphDefBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.GraphDefPb, com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder, com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder>(
+                getGraphDef(),
+                getParentForChildren(),
+                isClean());
+        graphDef_ = null;
+      }
+      return graphDefBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:AdvanceQuerySnapshotRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:AdvanceQuerySnapshotRequest)
+  private static final com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<AdvanceQuerySnapshotRequest>
+      PARSER = new com.google.protobuf.AbstractParser<AdvanceQuerySnapshotRequest>() {
+    @java.lang.Override
+    public AdvanceQuerySnapshotRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new AdvanceQuerySnapshotRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<AdvanceQuerySnapshotRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<AdvanceQuerySnapshotRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
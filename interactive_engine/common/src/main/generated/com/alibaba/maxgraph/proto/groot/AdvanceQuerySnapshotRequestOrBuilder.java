@@ -0,0 +1,30 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: frontend_snapshot_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AdvanceQuerySnapshotRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AdvanceQuerySnapshotRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 snapshotId = 1;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>.GraphDefPb graphDef = 2;</code>
+   * @return Whether the graphDef field is set.
+   */
+  boolean hasGraphDef();
+  /**
+   * <code>.GraphDefPb graphDef = 2;</code>
+   * @return The graphDef.
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef();
+  /**
+   * <code>.GraphDefPb graphDef = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder();
+}
@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: frontend_snapshot_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AdvanceQuerySnapshotResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AdvanceQuerySnapshotResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 previousSnapshotId = 1;</code>
+   * @return The previousSnapshotId.
+   */
+  long getPreviousSnapshotId();
+}
@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: id_allocate_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AllocateIdRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AllocateIdRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 allocate_size = 1;</code>
+   * @return The allocateSize.
+   */
+  int getAllocateSize();
+}
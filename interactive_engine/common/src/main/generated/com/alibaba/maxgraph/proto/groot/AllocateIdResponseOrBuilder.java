@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: id_allocate_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AllocateIdResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AllocateIdResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 start_id = 1;</code>
+   * @return The startId.
+   */
+  long getStartId();
+}
@@ -0,0 +1,705 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code ClearUnavailableStoreBackupsRequest}
+ */
+public final class ClearUnavailableStoreBackupsRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:ClearUnavailableStoreBackupsRequest)
+    ClearUnavailableStoreBackupsRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ClearUnavailableStoreBackupsRequest.newBuilder() to construct.
+  private ClearUnavailableStoreBackupsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ClearUnavailableStoreBackupsRequest() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ClearUnavailableStoreBackupsRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ClearUnavailableStoreBackupsRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              partitionToReadyBackupIds_ = com.google.protobuf.MapField.newMapField(
+                  PartitionToReadyBackupIdsDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>
+            partitionToReadyBackupIds__ = input.readMessage(
+                PartitionToReadyBackupIdsDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            partitionToReadyBackupIds_.getMutableMap().put(
+                partitionToReadyBackupIds__.getKey(), partitionToReadyBackupIds__.getValue());
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_ClearUnavailableStoreBackupsRequest_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 1:
+        return internalGetPartitionToReadyBackupIds();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_ClearUnavailableStoreBackupsRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.class, com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.Builder.class);
+  }
+
+  public static final int PARTITIONTOREADYBACKUPIDS_FIELD_NUMBER = 1;
+  private static final class PartitionToReadyBackupIdsDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_ClearUnavailableStoreBackupsRequest_PartitionToReadyBackupIdsEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> partitionToReadyBackupIds_;
+  private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>
+  internalGetPartitionToReadyBackupIds() {
+    if (partitionToReadyBackupIds_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PartitionToReadyBackupIdsDefaultEntryHolder.defaultEntry);
+    }
+    return partitionToReadyBackupIds_;
+  }
+
+  public int getPartitionToReadyBackupIdsCount() {
+    return internalGetPartitionToReadyBackupIds().getMap().size();
+  }
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsPartitionToReadyBackupIds(
+      int key) {
+    
+    return internalGetPartitionToReadyBackupIds().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPartitionToReadyBackupIdsMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> getPartitionToReadyBackupIds() {
+    return getPartitionToReadyBackupIdsMap();
+  }
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> getPartitionToReadyBackupIdsMap() {
+    return internalGetPartitionToReadyBackupIds().getMap();
+  }
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getPartitionToReadyBackupIdsOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb defaultValue) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> map =
+        internalGetPartitionToReadyBackupIds().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getPartitionToReadyBackupIdsOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> map =
+        internalGetPartitionToReadyBackupIds().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetPartitionToReadyBackupIds(),
+        PartitionToReadyBackupIdsDefaultEntryHolder.defaultEntry,
+        1);
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> entry
+         : internalGetPartitionToReadyBackupIds().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>
+      partitionToReadyBackupIds__ = PartitionToReadyBackupIdsDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, partitionToReadyBackupIds__);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest other = (com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest) obj;
+
+    if (!internalGetPartitionToReadyBackupIds().equals(
+        other.internalGetPartitionToReadyBackupIds())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (!internalGetPartitionToReadyBackupIds().getMap().isEmpty()) {
+      hash = (37 * hash) + PARTITIONTOREADYBACKUPIDS_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetPartitionToReadyBackupIds().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ClearUnavailableStoreBackupsRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:ClearUnavailableStoreBackupsRequest)
+      com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_ClearUnavailableStoreBackupsRequest_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetPartitionToReadyBackupIds();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMutablePartitionToReadyBackupIds();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_ClearUnavailableStoreBackupsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.class, com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      internalGetMutablePartitionToReadyBackupIds().clear();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_ClearUnavailableStoreBackupsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest build() {
+      com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest result = new com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest(this);
+      int from_bitField0_ = bitField0_;
+      result.partitionToReadyBackupIds_ = internalGetPartitionToReadyBackupIds();
+      result.partitionToReadyBackupIds_.makeImmutable();
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.getDefaultInstance()) return this;
+      internalGetMutablePartitionToReadyBackupIds().mergeFrom(
+          other.internalGetPartitionToReadyBackupIds());
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> partitionToReadyBackupIds_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>
+    internalGetPartitionToReadyBackupIds() {
+      if (partitionToReadyBackupIds_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PartitionToReadyBackupIdsDefaultEntryHolder.defaultEntry);
+      }
+      return partitionToReadyBackupIds_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>
+    internalGetMutablePartitionToReadyBackupIds() {
+      onChanged();;
+      if (partitionToReadyBackupIds_ == null) {
+        partitionToReadyBackupIds_ = com.google.protobuf.MapField.newMapField(
+            PartitionToReadyBackupIdsDefaultEntryHolder.defaultEntry);
+      }
+      if (!partitionToReadyBackupIds_.isMutable()) {
+        partitionToReadyBackupIds_ = partitionToReadyBackupIds_.copy();
+      }
+      return partitionToReadyBackupIds_;
+    }
+
+    public int getPartitionToReadyBackupIdsCount() {
+      return internalGetPartitionToReadyBackupIds().getMap().size();
+    }
+    /**
+     * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsPartitionToReadyBackupIds(
+        int key) {
+      
+      return internalGetPartitionToReadyBackupIds().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPartitionToReadyBackupIdsMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> getPartitionToReadyBackupIds() {
+      return getPartitionToReadyBackupIdsMap();
+    }
+    /**
+     * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> getPartitionToReadyBackupIdsMap() {
+      return internalGetPartitionToReadyBackupIds().getMap();
+    }
+    /**
+     * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getPartitionToReadyBackupIdsOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb defaultValue) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> map =
+          internalGetPartitionToReadyBackupIds().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getPartitionToReadyBackupIdsOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> map =
+          internalGetPartitionToReadyBackupIds().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearPartitionToReadyBackupIds() {
+      internalGetMutablePartitionToReadyBackupIds().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+     */
+
+    public Builder removePartitionToReadyBackupIds(
+        int key) {
+      
+      internalGetMutablePartitionToReadyBackupIds().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>
+    getMutablePartitionToReadyBackupIds() {
+      return internalGetMutablePartitionToReadyBackupIds().getMutableMap();
+    }
+    /**
+     * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+     */
+    public Builder putPartitionToReadyBackupIds(
+        int key,
+        com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutablePartitionToReadyBackupIds().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+     */
+
+    public Builder putAllPartitionToReadyBackupIds(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb> values) {
+      internalGetMutablePartitionToReadyBackupIds().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:ClearUnavailableStoreBackupsRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:ClearUnavailableStoreBackupsRequest)
+  private static final com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ClearUnavailableStoreBackupsRequest>
+      PARSER = new com.google.protobuf.AbstractParser<ClearUnavailableStoreBackupsRequest>() {
+    @java.lang.Override
+    public ClearUnavailableStoreBackupsRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ClearUnavailableStoreBackupsRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ClearUnavailableStoreBackupsRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ClearUnavailableStoreBackupsRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
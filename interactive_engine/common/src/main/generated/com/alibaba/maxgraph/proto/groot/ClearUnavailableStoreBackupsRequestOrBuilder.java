@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface ClearUnavailableStoreBackupsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ClearUnavailableStoreBackupsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+  int getPartitionToReadyBackupIdsCount();
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+  boolean containsPartitionToReadyBackupIds(
+      int key);
+  /**
+   * Use {@link #getPartitionToReadyBackupIdsMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>
+  getPartitionToReadyBackupIds();
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb>
+  getPartitionToReadyBackupIdsMap();
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getPartitionToReadyBackupIdsOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb defaultValue);
+  /**
+   * <code>map&lt;int32, .PartitionBackupIdListPb&gt; partitionToReadyBackupIds = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getPartitionToReadyBackupIdsOrThrow(
+      int key);
+}
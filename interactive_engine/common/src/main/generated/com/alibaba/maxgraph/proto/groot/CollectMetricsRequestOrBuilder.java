@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: metrics_collect_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CollectMetricsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CollectMetricsRequest)
+    com.google.protobuf.MessageOrBuilder {
+}
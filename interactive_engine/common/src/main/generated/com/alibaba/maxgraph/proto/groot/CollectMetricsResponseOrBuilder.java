@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: metrics_collect_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CollectMetricsResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CollectMetricsResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>map&lt;string, string&gt; metrics = 1;</code>
+   */
+  int getMetricsCount();
+  /**
+   * <code>map&lt;string, string&gt; metrics = 1;</code>
+   */
+  boolean containsMetrics(
+      java.lang.String key);
+  /**
+   * Use {@link #getMetricsMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getMetrics();
+  /**
+   * <code>map&lt;string, string&gt; metrics = 1;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getMetricsMap();
+  /**
+   * <code>map&lt;string, string&gt; metrics = 1;</code>
+   */
+
+  java.lang.String getMetricsOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; metrics = 1;</code>
+   */
+
+  java.lang.String getMetricsOrThrow(
+      java.lang.String key);
+}
@@ -0,0 +1,793 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshot_commit_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code CommitSnapshotIdRequest}
+ */
+public final class CommitSnapshotIdRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CommitSnapshotIdRequest)
+    CommitSnapshotIdRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use CommitSnapshotIdRequest.newBuilder() to construct.
+  private CommitSnapshotIdRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CommitSnapshotIdRequest() {
+    queueOffsets_ = emptyLongList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new CommitSnapshotIdRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private CommitSnapshotIdRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            storeId_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            snapshotId_ = input.readInt64();
+            break;
+          }
+          case 24: {
+
+            ddlSnapshotId_ = input.readInt64();
+            break;
+          }
+          case 32: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              queueOffsets_ = newLongList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            queueOffsets_.addLong(input.readInt64());
+            break;
+          }
+          case 34: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              queueOffsets_ = newLongList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              queueOffsets_.addLong(input.readInt64());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        queueOffsets_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.SnapshotCommitService.internal_static_CommitSnapshotIdRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.SnapshotCommitService.internal_static_CommitSnapshotIdRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.class, com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.Builder.class);
+  }
+
+  public static final int STOREID_FIELD_NUMBER = 1;
+  private int storeId_;
+  /**
+   * <code>int32 storeId = 1;</code>
+   * @return The storeId.
+   */
+  @java.lang.Override
+  public int getStoreId() {
+    return storeId_;
+  }
+
+  public static final int SNAPSHOTID_FIELD_NUMBER = 2;
+  private long snapshotId_;
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  @java.lang.Override
+  public long getSnapshotId() {
+    return snapshotId_;
+  }
+
+  public static final int DDLSNAPSHOTID_FIELD_NUMBER = 3;
+  private long ddlSnapshotId_;
+  /**
+   * <code>int64 ddlSnapshotId = 3;</code>
+   * @return The ddlSnapshotId.
+   */
+  @java.lang.Override
+  public long getDdlSnapshotId() {
+    return ddlSnapshotId_;
+  }
+
+  public static final int QUEUEOFFSETS_FIELD_NUMBER = 4;
+  private com.google.protobuf.Internal.LongList queueOffsets_;
+  /**
+   * <code>repeated int64 queueOffsets = 4;</code>
+   * @return A list containing the queueOffsets.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Long>
+      getQueueOffsetsList() {
+    return queueOffsets_;
+  }
+  /**
+   * <code>repeated int64 queueOffsets = 4;</code>
+   * @return The count of queueOffsets.
+   */
+  public int getQueueOffsetsCount() {
+    return queueOffsets_.size();
+  }
+  /**
+   * <code>repeated int64 queueOffsets = 4;</code>
+   * @param index The index of the element to return.
+   * @return The queueOffsets at the given index.
+   */
+  public long getQueueOffsets(int index) {
+    return queueOffsets_.getLong(index);
+  }
+  private int queueOffsetsMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (storeId_ != 0) {
+      output.writeInt32(1, storeId_);
+    }
+    if (snapshotId_ != 0L) {
+      output.writeInt64(2, snapshotId_);
+    }
+    if (ddlSnapshotId_ != 0L) {
+      output.writeInt64(3, ddlSnapshotId_);
+    }
+    if (getQueueOffsetsList().size() > 0) {
+      output.writeUInt32NoTag(34);
+      output.writeUInt32NoTag(queueOffsetsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < queueOffsets_.size(); i++) {
+      output.writeInt64NoTag(queueOffsets_.getLong(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (storeId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, storeId_);
+    }
+    if (snapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, snapshotId_);
+    }
+    if (ddlSnapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, ddlSnapshotId_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < queueOffsets_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt64SizeNoTag(queueOffsets_.getLong(i));
+      }
+      size += dataSize;
+      if (!getQueueOffsetsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      queueOffsetsMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest other = (com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest) obj;
+
+    if (getStoreId()
+        != other.getStoreId()) return false;
+    if (getSnapshotId()
+        != other.getSnapshotId()) return false;
+    if (getDdlSnapshotId()
+        != other.getDdlSnapshotId()) return false;
+    if (!getQueueOffsetsList()
+        .equals(other.getQueueOffsetsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + STOREID_FIELD_NUMBER;
+    hash = (53 * hash) + getStoreId();
+    hash = (37 * hash) + SNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSnapshotId());
+    hash = (37 * hash) + DDLSNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getDdlSnapshotId());
+    if (getQueueOffsetsCount() > 0) {
+      hash = (37 * hash) + QUEUEOFFSETS_FIELD_NUMBER;
+      hash = (53 * hash) + getQueueOffsetsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CommitSnapshotIdRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CommitSnapshotIdRequest)
+      com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.SnapshotCommitService.internal_static_CommitSnapshotIdRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.SnapshotCommitService.internal_static_CommitSnapshotIdRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.class, com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      storeId_ = 0;
+
+      snapshotId_ = 0L;
+
+      ddlSnapshotId_ = 0L;
+
+      queueOffsets_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.SnapshotCommitService.internal_static_CommitSnapshotIdRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest build() {
+      com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest result = new com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest(this);
+      int from_bitField0_ = bitField0_;
+      result.storeId_ = storeId_;
+      result.snapshotId_ = snapshotId_;
+      result.ddlSnapshotId_ = ddlSnapshotId_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        queueOffsets_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.queueOffsets_ = queueOffsets_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.getDefaultInstance()) return this;
+      if (other.getStoreId() != 0) {
+        setStoreId(other.getStoreId());
+      }
+      if (other.getSnapshotId() != 0L) {
+        setSnapshotId(other.getSnapshotId());
+      }
+      if (other.getDdlSnapshotId() != 0L) {
+        setDdlSnapshotId(other.getDdlSnapshotId());
+      }
+      if (!other.queueOffsets_.isEmpty()) {
+        if (queueOffsets_.isEmpty()) {
+          queueOffsets_ = other.queueOffsets_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureQueueOffsetsIsMutable();
+          queueOffsets_.addAll(other.queueOffsets_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int storeId_ ;
+    /**
+     * <code>int32 storeId = 1;</code>
+     * @return The storeId.
+     */
+    @java.lang.Override
+    public int getStoreId() {
+      return storeId_;
+    }
+    /**
+     * <code>int32 storeId = 1;</code>
+     * @param value The storeId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStoreId(int value) {
+      
+      storeId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 storeId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStoreId() {
+      
+      storeId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long snapshotId_ ;
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @param value The snapshotId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSnapshotId(long value) {
+      
+      snapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSnapshotId() {
+      
+      snapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long ddlSnapshotId_ ;
+    /**
+     * <code>int64 ddlSnapshotId = 3;</code>
+     * @return The ddlSnapshotId.
+     */
+    @java.lang.Override
+    public long getDdlSnapshotId() {
+      return ddlSnapshotId_;
+    }
+    /**
+     * <code>int64 ddlSnapshotId = 3;</code>
+     * @param value The ddlSnapshotId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDdlSnapshotId(long value) {
+      
+      ddlSnapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 ddlSnapshotId = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDdlSnapshotId() {
+      
+      ddlSnapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.LongList queueOffsets_ = emptyLongList();
+    private void ensureQueueOffsetsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        queueOffsets_ = mutableCopy(queueOffsets_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated int64 queueOffsets = 4;</code>
+     * @return A list containing the queueOffsets.
+     */
+    public java.util.List<java.lang.Long>
+        getQueueOffsetsList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(queueOffsets_) : queueOffsets_;
+    }
+    /**
+     * <code>repeated int64 queueOffsets = 4;</code>
+     * @return The count of queueOffsets.
+     */
+    public int getQueueOffsetsCount() {
+      return queueOffsets_.size();
+    }
+    /**
+     * <code>repeated int64 queueOffsets = 4;</code>
+     * @param index The index of the element to return.
+     * @return The queueOffsets at the given index.
+     */
+    public long getQueueOffsets(int index) {
+      return queueOffsets_.getLong(index);
+    }
+    /**
+     * <code>repeated int64 queueOffsets = 4;</code>
+     * @param index The index to set the value at.
+     * @param value The queueOffsets to set.
+     * @return This builder for chaining.
+     */
+    public Builder setQueueOffsets(
+        int index, long value) {
+      ensureQueueOffsetsIsMutable();
+      queueOffsets_.setLong(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 queueOffsets = 4;</code>
+     * @param value The queueOffsets to add.
+     * @return This builder for chaining.
+     */
+    public Builder addQueueOffsets(long value) {
+      ensureQueueOffsetsIsMutable();
+      queueOffsets_.addLong(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 queueOffsets = 4;</code>
+     * @param values The queueOffsets to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllQueueOffsets(
+        java.lang.Iterable<? extends java.lang.Long> values) {
+      ensureQueueOffsetsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, queueOffsets_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 queueOffsets = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearQueueOffsets() {
+      queueOffsets_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CommitSnapshotIdRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:CommitSnapshotIdRequest)
+  private static final com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CommitSnapshotIdRequest>
+      PARSER = new com.google.protobuf.AbstractParser<CommitSnapshotIdRequest>() {
+    @java.lang.Override
+    public CommitSnapshotIdRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new CommitSnapshotIdRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CommitSnapshotIdRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CommitSnapshotIdRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,44 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshot_commit_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CommitSnapshotIdRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CommitSnapshotIdRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 storeId = 1;</code>
+   * @return The storeId.
+   */
+  int getStoreId();
+
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>int64 ddlSnapshotId = 3;</code>
+   * @return The ddlSnapshotId.
+   */
+  long getDdlSnapshotId();
+
+  /**
+   * <code>repeated int64 queueOffsets = 4;</code>
+   * @return A list containing the queueOffsets.
+   */
+  java.util.List<java.lang.Long> getQueueOffsetsList();
+  /**
+   * <code>repeated int64 queueOffsets = 4;</code>
+   * @return The count of queueOffsets.
+   */
+  int getQueueOffsetsCount();
+  /**
+   * <code>repeated int64 queueOffsets = 4;</code>
+   * @param index The index of the element to return.
+   * @return The queueOffsets at the given index.
+   */
+  long getQueueOffsets(int index);
+}
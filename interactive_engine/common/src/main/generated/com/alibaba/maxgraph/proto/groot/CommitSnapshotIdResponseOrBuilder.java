@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshot_commit_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CommitSnapshotIdResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CommitSnapshotIdResponse)
+    com.google.protobuf.MessageOrBuilder {
+}
@@ -0,0 +1,983 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code CompositeEdgeId}
+ */
+public final class CompositeEdgeId extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CompositeEdgeId)
+    CompositeEdgeIdOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use CompositeEdgeId.newBuilder() to construct.
+  private CompositeEdgeId(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CompositeEdgeId() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new CompositeEdgeId();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private CompositeEdgeId(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder subBuilder = null;
+            if (srcId_ != null) {
+              subBuilder = srcId_.toBuilder();
+            }
+            srcId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(srcId_);
+              srcId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder subBuilder = null;
+            if (dstId_ != null) {
+              subBuilder = dstId_.toBuilder();
+            }
+            dstId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(dstId_);
+              dstId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 26: {
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder subBuilder = null;
+            if (edgeId_ != null) {
+              subBuilder = edgeId_.toBuilder();
+            }
+            edgeId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(edgeId_);
+              edgeId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_CompositeEdgeId_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_CompositeEdgeId_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.CompositeEdgeId.class, com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder.class);
+  }
+
+  public static final int SRCID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId srcId_;
+  /**
+   * <code>.LabelVertexEdgeId srcId = 1;</code>
+   * @return Whether the srcId field is set.
+   */
+  @java.lang.Override
+  public boolean hasSrcId() {
+    return srcId_ != null;
+  }
+  /**
+   * <code>.LabelVertexEdgeId srcId = 1;</code>
+   * @return The srcId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getSrcId() {
+    return srcId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : srcId_;
+  }
+  /**
+   * <code>.LabelVertexEdgeId srcId = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getSrcIdOrBuilder() {
+    return getSrcId();
+  }
+
+  public static final int DSTID_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId dstId_;
+  /**
+   * <code>.LabelVertexEdgeId dstId = 2;</code>
+   * @return Whether the dstId field is set.
+   */
+  @java.lang.Override
+  public boolean hasDstId() {
+    return dstId_ != null;
+  }
+  /**
+   * <code>.LabelVertexEdgeId dstId = 2;</code>
+   * @return The dstId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getDstId() {
+    return dstId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : dstId_;
+  }
+  /**
+   * <code>.LabelVertexEdgeId dstId = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getDstIdOrBuilder() {
+    return getDstId();
+  }
+
+  public static final int EDGEID_FIELD_NUMBER = 3;
+  private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId edgeId_;
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 3;</code>
+   * @return Whether the edgeId field is set.
+   */
+  @java.lang.Override
+  public boolean hasEdgeId() {
+    return edgeId_ != null;
+  }
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 3;</code>
+   * @return The edgeId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getEdgeId() {
+    return edgeId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : edgeId_;
+  }
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getEdgeIdOrBuilder() {
+    return getEdgeId();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (srcId_ != null) {
+      output.writeMessage(1, getSrcId());
+    }
+    if (dstId_ != null) {
+      output.writeMessage(2, getDstId());
+    }
+    if (edgeId_ != null) {
+      output.writeMessage(3, getEdgeId());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (srcId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getSrcId());
+    }
+    if (dstId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getDstId());
+    }
+    if (edgeId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getEdgeId());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.CompositeEdgeId)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.CompositeEdgeId other = (com.alibaba.maxgraph.proto.groot.CompositeEdgeId) obj;
+
+    if (hasSrcId() != other.hasSrcId()) return false;
+    if (hasSrcId()) {
+      if (!getSrcId()
+          .equals(other.getSrcId())) return false;
+    }
+    if (hasDstId() != other.hasDstId()) return false;
+    if (hasDstId()) {
+      if (!getDstId()
+          .equals(other.getDstId())) return false;
+    }
+    if (hasEdgeId() != other.hasEdgeId()) return false;
+    if (hasEdgeId()) {
+      if (!getEdgeId()
+          .equals(other.getEdgeId())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasSrcId()) {
+      hash = (37 * hash) + SRCID_FIELD_NUMBER;
+      hash = (53 * hash) + getSrcId().hashCode();
+    }
+    if (hasDstId()) {
+      hash = (37 * hash) + DSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getDstId().hashCode();
+    }
+    if (hasEdgeId()) {
+      hash = (37 * hash) + EDGEID_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeId().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.CompositeEdgeId prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CompositeEdgeId}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CompositeEdgeId)
+      com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_CompositeEdgeId_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_CompositeEdgeId_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.CompositeEdgeId.class, com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.CompositeEdgeId.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (srcIdBuilder_ == null) {
+        srcId_ = null;
+      } else {
+        srcId_ = null;
+        srcIdBuilder_ = null;
+      }
+      if (dstIdBuilder_ == null) {
+        dstId_ = null;
+      } else {
+        dstId_ = null;
+        dstIdBuilder_ = null;
+      }
+      if (edgeIdBuilder_ == null) {
+        edgeId_ = null;
+      } else {
+        edgeId_ = null;
+        edgeIdBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_CompositeEdgeId_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.CompositeEdgeId getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.CompositeEdgeId.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.CompositeEdgeId build() {
+      com.alibaba.maxgraph.proto.groot.CompositeEdgeId result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.CompositeEdgeId buildPartial() {
+      com.alibaba.maxgraph.proto.groot.CompositeEdgeId result = new com.alibaba.maxgraph.proto.groot.CompositeEdgeId(this);
+      if (srcIdBuilder_ == null) {
+        result.srcId_ = srcId_;
+      } else {
+        result.srcId_ = srcIdBuilder_.build();
+      }
+      if (dstIdBuilder_ == null) {
+        result.dstId_ = dstId_;
+      } else {
+        result.dstId_ = dstIdBuilder_.build();
+      }
+      if (edgeIdBuilder_ == null) {
+        result.edgeId_ = edgeId_;
+      } else {
+        result.edgeId_ = edgeIdBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.CompositeEdgeId) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.CompositeEdgeId)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.CompositeEdgeId other) {
+      if (other == com.alibaba.maxgraph.proto.groot.CompositeEdgeId.getDefaultInstance()) return this;
+      if (other.hasSrcId()) {
+        mergeSrcId(other.getSrcId());
+      }
+      if (other.hasDstId()) {
+        mergeDstId(other.getDstId());
+      }
+      if (other.hasEdgeId()) {
+        mergeEdgeId(other.getEdgeId());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.CompositeEdgeId parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.CompositeEdgeId) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId srcId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> srcIdBuilder_;
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     * @return Whether the srcId field is set.
+     */
+    public boolean hasSrcId() {
+      return srcIdBuilder_ != null || srcId_ != null;
+    }
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     * @return The srcId.
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getSrcId() {
+      if (srcIdBuilder_ == null) {
+        return srcId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : srcId_;
+      } else {
+        return srcIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     */
+    public Builder setSrcId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (srcIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        srcId_ = value;
+        onChanged();
+      } else {
+        srcIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     */
+    public Builder setSrcId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (srcIdBuilder_ == null) {
+        srcId_ = builderForValue.build();
+        onChanged();
+      } else {
+        srcIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     */
+    public Builder mergeSrcId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (srcIdBuilder_ == null) {
+        if (srcId_ != null) {
+          srcId_ =
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.newBuilder(srcId_).mergeFrom(value).buildPartial();
+        } else {
+          srcId_ = value;
+        }
+        onChanged();
+      } else {
+        srcIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     */
+    public Builder clearSrcId() {
+      if (srcIdBuilder_ == null) {
+        srcId_ = null;
+        onChanged();
+      } else {
+        srcId_ = null;
+        srcIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getSrcIdBuilder() {
+      
+      onChanged();
+      return getSrcIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getSrcIdOrBuilder() {
+      if (srcIdBuilder_ != null) {
+        return srcIdBuilder_.getMessageOrBuilder();
+      } else {
+        return srcId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : srcId_;
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId srcId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getSrcIdFieldBuilder() {
+      if (srcIdBuilder_ == null) {
+        srcIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                getSrcId(),
+                getParentForChildren(),
+                isClean());
+        srcId_ = null;
+      }
+      return srcIdBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId dstId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> dstIdBuilder_;
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     * @return Whether the dstId field is set.
+     */
+    public boolean hasDstId() {
+      return dstIdBuilder_ != null || dstId_ != null;
+    }
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     * @return The dstId.
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getDstId() {
+      if (dstIdBuilder_ == null) {
+        return dstId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : dstId_;
+      } else {
+        return dstIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     */
+    public Builder setDstId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (dstIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        dstId_ = value;
+        onChanged();
+      } else {
+        dstIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     */
+    public Builder setDstId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (dstIdBuilder_ == null) {
+        dstId_ = builderForValue.build();
+        onChanged();
+      } else {
+        dstIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     */
+    public Builder mergeDstId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (dstIdBuilder_ == null) {
+        if (dstId_ != null) {
+          dstId_ =
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.newBuilder(dstId_).mergeFrom(value).buildPartial();
+        } else {
+          dstId_ = value;
+        }
+        onChanged();
+      } else {
+        dstIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     */
+    public Builder clearDstId() {
+      if (dstIdBuilder_ == null) {
+        dstId_ = null;
+        onChanged();
+      } else {
+        dstId_ = null;
+        dstIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getDstIdBuilder() {
+      
+      onChanged();
+      return getDstIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getDstIdOrBuilder() {
+      if (dstIdBuilder_ != null) {
+        return dstIdBuilder_.getMessageOrBuilder();
+      } else {
+        return dstId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : dstId_;
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId dstId = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getDstIdFieldBuilder() {
+      if (dstIdBuilder_ == null) {
+        dstIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                getDstId(),
+                getParentForChildren(),
+                isClean());
+        dstId_ = null;
+      }
+      return dstIdBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId edgeId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> edgeIdBuilder_;
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     * @return Whether the edgeId field is set.
+     */
+    public boolean hasEdgeId() {
+      return edgeIdBuilder_ != null || edgeId_ != null;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     * @return The edgeId.
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getEdgeId() {
+      if (edgeIdBuilder_ == null) {
+        return edgeId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : edgeId_;
+      } else {
+        return edgeIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     */
+    public Builder setEdgeId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (edgeIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        edgeId_ = value;
+        onChanged();
+      } else {
+        edgeIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     */
+    public Builder setEdgeId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (edgeIdBuilder_ == null) {
+        edgeId_ = builderForValue.build();
+        onChanged();
+      } else {
+        edgeIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     */
+    public Builder mergeEdgeId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (edgeIdBuilder_ == null) {
+        if (edgeId_ != null) {
+          edgeId_ =
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.newBuilder(edgeId_).mergeFrom(value).buildPartial();
+        } else {
+          edgeId_ = value;
+        }
+        onChanged();
+      } else {
+        edgeIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     */
+    public Builder clearEdgeId() {
+      if (edgeIdBuilder_ == null) {
+        edgeId_ = null;
+        onChanged();
+      } else {
+        edgeId_ = null;
+        edgeIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getEdgeIdBuilder() {
+      
+      onChanged();
+      return getEdgeIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getEdgeIdOrBuilder() {
+      if (edgeIdBuilder_ != null) {
+        return edgeIdBuilder_.getMessageOrBuilder();
+      } else {
+        return edgeId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : edgeId_;
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getEdgeIdFieldBuilder() {
+      if (edgeIdBuilder_ == null) {
+        edgeIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                getEdgeId(),
+                getParentForChildren(),
+                isClean());
+        edgeId_ = null;
+      }
+      return edgeIdBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CompositeEdgeId)
+  }
+
+  // @@protoc_insertion_point(class_scope:CompositeEdgeId)
+  private static final com.alibaba.maxgraph.proto.groot.CompositeEdgeId DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.CompositeEdgeId();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.CompositeEdgeId getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CompositeEdgeId>
+      PARSER = new com.google.protobuf.AbstractParser<CompositeEdgeId>() {
+    @java.lang.Override
+    public CompositeEdgeId parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new CompositeEdgeId(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CompositeEdgeId> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CompositeEdgeId> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.CompositeEdgeId getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
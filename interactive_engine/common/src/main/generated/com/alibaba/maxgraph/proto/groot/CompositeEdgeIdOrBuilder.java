@@ -0,0 +1,54 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CompositeEdgeIdOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CompositeEdgeId)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.LabelVertexEdgeId srcId = 1;</code>
+   * @return Whether the srcId field is set.
+   */
+  boolean hasSrcId();
+  /**
+   * <code>.LabelVertexEdgeId srcId = 1;</code>
+   * @return The srcId.
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getSrcId();
+  /**
+   * <code>.LabelVertexEdgeId srcId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getSrcIdOrBuilder();
+
+  /**
+   * <code>.LabelVertexEdgeId dstId = 2;</code>
+   * @return Whether the dstId field is set.
+   */
+  boolean hasDstId();
+  /**
+   * <code>.LabelVertexEdgeId dstId = 2;</code>
+   * @return The dstId.
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getDstId();
+  /**
+   * <code>.LabelVertexEdgeId dstId = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getDstIdOrBuilder();
+
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 3;</code>
+   * @return Whether the edgeId field is set.
+   */
+  boolean hasEdgeId();
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 3;</code>
+   * @return The edgeId.
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getEdgeId();
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getEdgeIdOrBuilder();
+}
@@ -0,0 +1,350 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: snapshot_commit_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class CoordinatorSnapshotServiceGrpc {
+
+  private CoordinatorSnapshotServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "CoordinatorSnapshotService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest,
+      com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse> getUpdateMinQuerySnapshotIdMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "updateMinQuerySnapshotId",
+      requestType = com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest,
+      com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse> getUpdateMinQuerySnapshotIdMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest, com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse> getUpdateMinQuerySnapshotIdMethod;
+    if ((getUpdateMinQuerySnapshotIdMethod = CoordinatorSnapshotServiceGrpc.getUpdateMinQuerySnapshotIdMethod) == null) {
+      synchronized (CoordinatorSnapshotServiceGrpc.class) {
+        if ((getUpdateMinQuerySnapshotIdMethod = CoordinatorSnapshotServiceGrpc.getUpdateMinQuerySnapshotIdMethod) == null) {
+          CoordinatorSnapshotServiceGrpc.getUpdateMinQuerySnapshotIdMethod = getUpdateMinQuerySnapshotIdMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest, com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "updateMinQuerySnapshotId"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new CoordinatorSnapshotServiceMethodDescriptorSupplier("updateMinQuerySnapshotId"))
+              .build();
+        }
+      }
+    }
+    return getUpdateMinQuerySnapshotIdMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest,
+      com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse> getSynchronizeMinQuerySnapshotIdMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "synchronizeMinQuerySnapshotId",
+      requestType = com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest,
+      com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse> getSynchronizeMinQuerySnapshotIdMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest, com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse> getSynchronizeMinQuerySnapshotIdMethod;
+    if ((getSynchronizeMinQuerySnapshotIdMethod = CoordinatorSnapshotServiceGrpc.getSynchronizeMinQuerySnapshotIdMethod) == null) {
+      synchronized (CoordinatorSnapshotServiceGrpc.class) {
+        if ((getSynchronizeMinQuerySnapshotIdMethod = CoordinatorSnapshotServiceGrpc.getSynchronizeMinQuerySnapshotIdMethod) == null) {
+          CoordinatorSnapshotServiceGrpc.getSynchronizeMinQuerySnapshotIdMethod = getSynchronizeMinQuerySnapshotIdMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest, com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "synchronizeMinQuerySnapshotId"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new CoordinatorSnapshotServiceMethodDescriptorSupplier("synchronizeMinQuerySnapshotId"))
+              .build();
+        }
+      }
+    }
+    return getSynchronizeMinQuerySnapshotIdMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static CoordinatorSnapshotServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CoordinatorSnapshotServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CoordinatorSnapshotServiceStub>() {
+        @java.lang.Override
+        public CoordinatorSnapshotServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CoordinatorSnapshotServiceStub(channel, callOptions);
+        }
+      };
+    return CoordinatorSnapshotServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static CoordinatorSnapshotServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CoordinatorSnapshotServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CoordinatorSnapshotServiceBlockingStub>() {
+        @java.lang.Override
+        public CoordinatorSnapshotServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CoordinatorSnapshotServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return CoordinatorSnapshotServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static CoordinatorSnapshotServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CoordinatorSnapshotServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CoordinatorSnapshotServiceFutureStub>() {
+        @java.lang.Override
+        public CoordinatorSnapshotServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CoordinatorSnapshotServiceFutureStub(channel, callOptions);
+        }
+      };
+    return CoordinatorSnapshotServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class CoordinatorSnapshotServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void updateMinQuerySnapshotId(com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getUpdateMinQuerySnapshotIdMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void synchronizeMinQuerySnapshotId(com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSynchronizeMinQuerySnapshotIdMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getUpdateMinQuerySnapshotIdMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest,
+                com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse>(
+                  this, METHODID_UPDATE_MIN_QUERY_SNAPSHOT_ID)))
+          .addMethod(
+            getSynchronizeMinQuerySnapshotIdMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest,
+                com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse>(
+                  this, METHODID_SYNCHRONIZE_MIN_QUERY_SNAPSHOT_ID)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class CoordinatorSnapshotServiceStub extends io.grpc.stub.AbstractAsyncStub<CoordinatorSnapshotServiceStub> {
+    private CoordinatorSnapshotServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CoordinatorSnapshotServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CoordinatorSnapshotServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void updateMinQuerySnapshotId(com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getUpdateMinQuerySnapshotIdMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void synchronizeMinQuerySnapshotId(com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getSynchronizeMinQuerySnapshotIdMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class CoordinatorSnapshotServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<CoordinatorSnapshotServiceBlockingStub> {
+    private CoordinatorSnapshotServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CoordinatorSnapshotServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CoordinatorSnapshotServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse updateMinQuerySnapshotId(com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getUpdateMinQuerySnapshotIdMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse synchronizeMinQuerySnapshotId(com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getSynchronizeMinQuerySnapshotIdMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class CoordinatorSnapshotServiceFutureStub extends io.grpc.stub.AbstractFutureStub<CoordinatorSnapshotServiceFutureStub> {
+    private CoordinatorSnapshotServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CoordinatorSnapshotServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CoordinatorSnapshotServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse> updateMinQuerySnapshotId(
+        com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getUpdateMinQuerySnapshotIdMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse> synchronizeMinQuerySnapshotId(
+        com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getSynchronizeMinQuerySnapshotIdMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_UPDATE_MIN_QUERY_SNAPSHOT_ID = 0;
+  private static final int METHODID_SYNCHRONIZE_MIN_QUERY_SNAPSHOT_ID = 1;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final CoordinatorSnapshotServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(CoordinatorSnapshotServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_UPDATE_MIN_QUERY_SNAPSHOT_ID:
+          serviceImpl.updateMinQuerySnapshotId((com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.UpdateMinQuerySnapshotIdResponse>) responseObserver);
+          break;
+        case METHODID_SYNCHRONIZE_MIN_QUERY_SNAPSHOT_ID:
+          serviceImpl.synchronizeMinQuerySnapshotId((com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SynchronizeMinQuerySnapshotIdResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class CoordinatorSnapshotServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    CoordinatorSnapshotServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.SnapshotCommitService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("CoordinatorSnapshotService");
+    }
+  }
+
+  private static final class CoordinatorSnapshotServiceFileDescriptorSupplier
+      extends CoordinatorSnapshotServiceBaseDescriptorSupplier {
+    CoordinatorSnapshotServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class CoordinatorSnapshotServiceMethodDescriptorSupplier
+      extends CoordinatorSnapshotServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    CoordinatorSnapshotServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (CoordinatorSnapshotServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new CoordinatorSnapshotServiceFileDescriptorSupplier())
+              .addMethod(getUpdateMinQuerySnapshotIdMethod())
+              .addMethod(getSynchronizeMinQuerySnapshotIdMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CreateStoreBackupRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CreateStoreBackupRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 globalBackupId = 1;</code>
+   * @return The globalBackupId.
+   */
+  int getGlobalBackupId();
+}
@@ -0,0 +1,24 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CreateStoreBackupResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CreateStoreBackupResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   * @return Whether the storeBackupId field is set.
+   */
+  boolean hasStoreBackupId();
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   * @return The storeBackupId.
+   */
+  com.alibaba.maxgraph.proto.groot.StoreBackupIdPb getStoreBackupId();
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder getStoreBackupIdOrBuilder();
+}
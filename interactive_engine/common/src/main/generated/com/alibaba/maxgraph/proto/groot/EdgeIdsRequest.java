@@ -0,0 +1,900 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code EdgeIdsRequest}
+ */
+public final class EdgeIdsRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:EdgeIdsRequest)
+    EdgeIdsRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use EdgeIdsRequest.newBuilder() to construct.
+  private EdgeIdsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private EdgeIdsRequest() {
+    edgeIds_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new EdgeIdsRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private EdgeIdsRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            requestId_ = input.readInt64();
+            break;
+          }
+          case 16: {
+
+            snapshotId_ = input.readInt64();
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              edgeIds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.CompositeEdgeId>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            edgeIds_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.CompositeEdgeId.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        edgeIds_ = java.util.Collections.unmodifiableList(edgeIds_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_EdgeIdsRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_EdgeIdsRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.class, com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.Builder.class);
+  }
+
+  public static final int REQUESTID_FIELD_NUMBER = 1;
+  private long requestId_;
+  /**
+   * <code>int64 requestId = 1;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public long getRequestId() {
+    return requestId_;
+  }
+
+  public static final int SNAPSHOTID_FIELD_NUMBER = 2;
+  private long snapshotId_;
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  @java.lang.Override
+  public long getSnapshotId() {
+    return snapshotId_;
+  }
+
+  public static final int EDGEIDS_FIELD_NUMBER = 3;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.CompositeEdgeId> edgeIds_;
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.groot.CompositeEdgeId> getEdgeIdsList() {
+    return edgeIds_;
+  }
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder> 
+      getEdgeIdsOrBuilderList() {
+    return edgeIds_;
+  }
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  @java.lang.Override
+  public int getEdgeIdsCount() {
+    return edgeIds_.size();
+  }
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.CompositeEdgeId getEdgeIds(int index) {
+    return edgeIds_.get(index);
+  }
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder getEdgeIdsOrBuilder(
+      int index) {
+    return edgeIds_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (requestId_ != 0L) {
+      output.writeInt64(1, requestId_);
+    }
+    if (snapshotId_ != 0L) {
+      output.writeInt64(2, snapshotId_);
+    }
+    for (int i = 0; i < edgeIds_.size(); i++) {
+      output.writeMessage(3, edgeIds_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (requestId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, requestId_);
+    }
+    if (snapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, snapshotId_);
+    }
+    for (int i = 0; i < edgeIds_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, edgeIds_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.EdgeIdsRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.EdgeIdsRequest other = (com.alibaba.maxgraph.proto.groot.EdgeIdsRequest) obj;
+
+    if (getRequestId()
+        != other.getRequestId()) return false;
+    if (getSnapshotId()
+        != other.getSnapshotId()) return false;
+    if (!getEdgeIdsList()
+        .equals(other.getEdgeIdsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRequestId());
+    hash = (37 * hash) + SNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSnapshotId());
+    if (getEdgeIdsCount() > 0) {
+      hash = (37 * hash) + EDGEIDS_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeIdsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.EdgeIdsRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code EdgeIdsRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:EdgeIdsRequest)
+      com.alibaba.maxgraph.proto.groot.EdgeIdsRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_EdgeIdsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_EdgeIdsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.class, com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getEdgeIdsFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      requestId_ = 0L;
+
+      snapshotId_ = 0L;
+
+      if (edgeIdsBuilder_ == null) {
+        edgeIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        edgeIdsBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_EdgeIdsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.EdgeIdsRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.EdgeIdsRequest build() {
+      com.alibaba.maxgraph.proto.groot.EdgeIdsRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.EdgeIdsRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.EdgeIdsRequest result = new com.alibaba.maxgraph.proto.groot.EdgeIdsRequest(this);
+      int from_bitField0_ = bitField0_;
+      result.requestId_ = requestId_;
+      result.snapshotId_ = snapshotId_;
+      if (edgeIdsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          edgeIds_ = java.util.Collections.unmodifiableList(edgeIds_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.edgeIds_ = edgeIds_;
+      } else {
+        result.edgeIds_ = edgeIdsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.EdgeIdsRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.EdgeIdsRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.EdgeIdsRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.getDefaultInstance()) return this;
+      if (other.getRequestId() != 0L) {
+        setRequestId(other.getRequestId());
+      }
+      if (other.getSnapshotId() != 0L) {
+        setSnapshotId(other.getSnapshotId());
+      }
+      if (edgeIdsBuilder_ == null) {
+        if (!other.edgeIds_.isEmpty()) {
+          if (edgeIds_.isEmpty()) {
+            edgeIds_ = other.edgeIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureEdgeIdsIsMutable();
+            edgeIds_.addAll(other.edgeIds_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.edgeIds_.isEmpty()) {
+          if (edgeIdsBuilder_.isEmpty()) {
+            edgeIdsBuilder_.dispose();
+            edgeIdsBuilder_ = null;
+            edgeIds_ = other.edgeIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            edgeIdsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getEdgeIdsFieldBuilder() : null;
+          } else {
+            edgeIdsBuilder_.addAllMessages(other.edgeIds_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.EdgeIdsRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.EdgeIdsRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private long requestId_ ;
+    /**
+     * <code>int64 requestId = 1;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+    /**
+     * <code>int64 requestId = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(long value) {
+      
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 requestId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      
+      requestId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long snapshotId_ ;
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @param value The snapshotId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSnapshotId(long value) {
+      
+      snapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSnapshotId() {
+      
+      snapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.CompositeEdgeId> edgeIds_ =
+      java.util.Collections.emptyList();
+    private void ensureEdgeIdsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        edgeIds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.CompositeEdgeId>(edgeIds_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.CompositeEdgeId, com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder, com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder> edgeIdsBuilder_;
+
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.CompositeEdgeId> getEdgeIdsList() {
+      if (edgeIdsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(edgeIds_);
+      } else {
+        return edgeIdsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public int getEdgeIdsCount() {
+      if (edgeIdsBuilder_ == null) {
+        return edgeIds_.size();
+      } else {
+        return edgeIdsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.CompositeEdgeId getEdgeIds(int index) {
+      if (edgeIdsBuilder_ == null) {
+        return edgeIds_.get(index);
+      } else {
+        return edgeIdsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder setEdgeIds(
+        int index, com.alibaba.maxgraph.proto.groot.CompositeEdgeId value) {
+      if (edgeIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeIdsIsMutable();
+        edgeIds_.set(index, value);
+        onChanged();
+      } else {
+        edgeIdsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder setEdgeIds(
+        int index, com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder builderForValue) {
+      if (edgeIdsBuilder_ == null) {
+        ensureEdgeIdsIsMutable();
+        edgeIds_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        edgeIdsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder addEdgeIds(com.alibaba.maxgraph.proto.groot.CompositeEdgeId value) {
+      if (edgeIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeIdsIsMutable();
+        edgeIds_.add(value);
+        onChanged();
+      } else {
+        edgeIdsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder addEdgeIds(
+        int index, com.alibaba.maxgraph.proto.groot.CompositeEdgeId value) {
+      if (edgeIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeIdsIsMutable();
+        edgeIds_.add(index, value);
+        onChanged();
+      } else {
+        edgeIdsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder addEdgeIds(
+        com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder builderForValue) {
+      if (edgeIdsBuilder_ == null) {
+        ensureEdgeIdsIsMutable();
+        edgeIds_.add(builderForValue.build());
+        onChanged();
+      } else {
+        edgeIdsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder addEdgeIds(
+        int index, com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder builderForValue) {
+      if (edgeIdsBuilder_ == null) {
+        ensureEdgeIdsIsMutable();
+        edgeIds_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        edgeIdsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder addAllEdgeIds(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.CompositeEdgeId> values) {
+      if (edgeIdsBuilder_ == null) {
+        ensureEdgeIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, edgeIds_);
+        onChanged();
+      } else {
+        edgeIdsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder clearEdgeIds() {
+      if (edgeIdsBuilder_ == null) {
+        edgeIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        edgeIdsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public Builder removeEdgeIds(int index) {
+      if (edgeIdsBuilder_ == null) {
+        ensureEdgeIdsIsMutable();
+        edgeIds_.remove(index);
+        onChanged();
+      } else {
+        edgeIdsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder getEdgeIdsBuilder(
+        int index) {
+      return getEdgeIdsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder getEdgeIdsOrBuilder(
+        int index) {
+      if (edgeIdsBuilder_ == null) {
+        return edgeIds_.get(index);  } else {
+        return edgeIdsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder> 
+         getEdgeIdsOrBuilderList() {
+      if (edgeIdsBuilder_ != null) {
+        return edgeIdsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(edgeIds_);
+      }
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder addEdgeIdsBuilder() {
+      return getEdgeIdsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.CompositeEdgeId.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder addEdgeIdsBuilder(
+        int index) {
+      return getEdgeIdsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.CompositeEdgeId.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder> 
+         getEdgeIdsBuilderList() {
+      return getEdgeIdsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.CompositeEdgeId, com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder, com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder> 
+        getEdgeIdsFieldBuilder() {
+      if (edgeIdsBuilder_ == null) {
+        edgeIdsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.CompositeEdgeId, com.alibaba.maxgraph.proto.groot.CompositeEdgeId.Builder, com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder>(
+                edgeIds_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        edgeIds_ = null;
+      }
+      return edgeIdsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:EdgeIdsRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:EdgeIdsRequest)
+  private static final com.alibaba.maxgraph.proto.groot.EdgeIdsRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.EdgeIdsRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdsRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EdgeIdsRequest>
+      PARSER = new com.google.protobuf.AbstractParser<EdgeIdsRequest>() {
+    @java.lang.Override
+    public EdgeIdsRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new EdgeIdsRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<EdgeIdsRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EdgeIdsRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.EdgeIdsRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface EdgeIdsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:EdgeIdsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 requestId = 1;</code>
+   * @return The requestId.
+   */
+  long getRequestId();
+
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.CompositeEdgeId> 
+      getEdgeIdsList();
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.CompositeEdgeId getEdgeIds(int index);
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  int getEdgeIdsCount();
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder> 
+      getEdgeIdsOrBuilderList();
+  /**
+   * <code>repeated .CompositeEdgeId edgeIds = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder getEdgeIdsOrBuilder(
+      int index);
+}
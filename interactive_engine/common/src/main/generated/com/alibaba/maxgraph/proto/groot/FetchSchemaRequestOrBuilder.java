@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_schema_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface FetchSchemaRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:FetchSchemaRequest)
+    com.google.protobuf.MessageOrBuilder {
+}
@@ -0,0 +1,24 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_schema_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface FetchSchemaResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:FetchSchemaResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.GraphDefPb graphDef = 1;</code>
+   * @return Whether the graphDef field is set.
+   */
+  boolean hasGraphDef();
+  /**
+   * <code>.GraphDefPb graphDef = 1;</code>
+   * @return The graphDef.
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef();
+  /**
+   * <code>.GraphDefPb graphDef = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder();
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: frontend_snapshot_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class FrontendSnapshotGrpc {
+
+  private FrontendSnapshotGrpc() {}
+
+  public static final String SERVICE_NAME = "FrontendSnapshot";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest,
+      com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse> getAdvanceQuerySnapshotMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "advanceQuerySnapshot",
+      requestType = com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest,
+      com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse> getAdvanceQuerySnapshotMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest, com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse> getAdvanceQuerySnapshotMethod;
+    if ((getAdvanceQuerySnapshotMethod = FrontendSnapshotGrpc.getAdvanceQuerySnapshotMethod) == null) {
+      synchronized (FrontendSnapshotGrpc.class) {
+        if ((getAdvanceQuerySnapshotMethod = FrontendSnapshotGrpc.getAdvanceQuerySnapshotMethod) == null) {
+          FrontendSnapshotGrpc.getAdvanceQuerySnapshotMethod = getAdvanceQuerySnapshotMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest, com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "advanceQuerySnapshot"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new FrontendSnapshotMethodDescriptorSupplier("advanceQuerySnapshot"))
+              .build();
+        }
+      }
+    }
+    return getAdvanceQuerySnapshotMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static FrontendSnapshotStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FrontendSnapshotStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FrontendSnapshotStub>() {
+        @java.lang.Override
+        public FrontendSnapshotStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FrontendSnapshotStub(channel, callOptions);
+        }
+      };
+    return FrontendSnapshotStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static FrontendSnapshotBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FrontendSnapshotBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FrontendSnapshotBlockingStub>() {
+        @java.lang.Override
+        public FrontendSnapshotBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FrontendSnapshotBlockingStub(channel, callOptions);
+        }
+      };
+    return FrontendSnapshotBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static FrontendSnapshotFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FrontendSnapshotFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FrontendSnapshotFutureStub>() {
+        @java.lang.Override
+        public FrontendSnapshotFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FrontendSnapshotFutureStub(channel, callOptions);
+        }
+      };
+    return FrontendSnapshotFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class FrontendSnapshotImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void advanceQuerySnapshot(com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAdvanceQuerySnapshotMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getAdvanceQuerySnapshotMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest,
+                com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse>(
+                  this, METHODID_ADVANCE_QUERY_SNAPSHOT)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class FrontendSnapshotStub extends io.grpc.stub.AbstractAsyncStub<FrontendSnapshotStub> {
+    private FrontendSnapshotStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FrontendSnapshotStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FrontendSnapshotStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void advanceQuerySnapshot(com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAdvanceQuerySnapshotMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class FrontendSnapshotBlockingStub extends io.grpc.stub.AbstractBlockingStub<FrontendSnapshotBlockingStub> {
+    private FrontendSnapshotBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FrontendSnapshotBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FrontendSnapshotBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse advanceQuerySnapshot(com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAdvanceQuerySnapshotMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class FrontendSnapshotFutureStub extends io.grpc.stub.AbstractFutureStub<FrontendSnapshotFutureStub> {
+    private FrontendSnapshotFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FrontendSnapshotFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FrontendSnapshotFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse> advanceQuerySnapshot(
+        com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAdvanceQuerySnapshotMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_ADVANCE_QUERY_SNAPSHOT = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final FrontendSnapshotImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(FrontendSnapshotImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_ADVANCE_QUERY_SNAPSHOT:
+          serviceImpl.advanceQuerySnapshot((com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AdvanceQuerySnapshotResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class FrontendSnapshotBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    FrontendSnapshotBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.FrontendSnapshotService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("FrontendSnapshot");
+    }
+  }
+
+  private static final class FrontendSnapshotFileDescriptorSupplier
+      extends FrontendSnapshotBaseDescriptorSupplier {
+    FrontendSnapshotFileDescriptorSupplier() {}
+  }
+
+  private static final class FrontendSnapshotMethodDescriptorSupplier
+      extends FrontendSnapshotBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    FrontendSnapshotMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (FrontendSnapshotGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new FrontendSnapshotFileDescriptorSupplier())
+              .addMethod(getAdvanceQuerySnapshotMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
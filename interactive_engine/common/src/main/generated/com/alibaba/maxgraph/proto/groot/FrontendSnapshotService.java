@@ -0,0 +1,70 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: frontend_snapshot_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class FrontendSnapshotService {
+  private FrontendSnapshotService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AdvanceQuerySnapshotRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AdvanceQuerySnapshotRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AdvanceQuerySnapshotResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AdvanceQuerySnapshotResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\037frontend_snapshot_service.proto\032\020sdk/c" +
+      "ommon.proto\032\017sdk/model.proto\"P\n\033AdvanceQ" +
+      "uerySnapshotRequest\022\022\n\nsnapshotId\030\001 \001(\003\022" +
+      "\035\n\010graphDef\030\002 \001(\0132\013.GraphDefPb\":\n\034Advanc" +
+      "eQuerySnapshotResponse\022\032\n\022previousSnapsh" +
+      "otId\030\001 \001(\0032g\n\020FrontendSnapshot\022S\n\024advanc" +
+      "eQuerySnapshot\022\034.AdvanceQuerySnapshotReq" +
+      "uest\032\035.AdvanceQuerySnapshotResponseB$\n c" +
+      "om.alibaba.maxgraph.proto.grootP\001b\006proto" +
+      "3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        });
+    internal_static_AdvanceQuerySnapshotRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_AdvanceQuerySnapshotRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AdvanceQuerySnapshotRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "GraphDef", });
+    internal_static_AdvanceQuerySnapshotResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_AdvanceQuerySnapshotResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AdvanceQuerySnapshotResponse_descriptor,
+        new java.lang.String[] { "PreviousSnapshotId", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
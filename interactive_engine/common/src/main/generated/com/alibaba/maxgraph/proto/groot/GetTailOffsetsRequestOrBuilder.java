@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingest_progress_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetTailOffsetsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetTailOffsetsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int32 queueId = 1;</code>
+   * @return A list containing the queueId.
+   */
+  java.util.List<java.lang.Integer> getQueueIdList();
+  /**
+   * <code>repeated int32 queueId = 1;</code>
+   * @return The count of queueId.
+   */
+  int getQueueIdCount();
+  /**
+   * <code>repeated int32 queueId = 1;</code>
+   * @param index The index of the element to return.
+   * @return The queueId at the given index.
+   */
+  int getQueueId(int index);
+}
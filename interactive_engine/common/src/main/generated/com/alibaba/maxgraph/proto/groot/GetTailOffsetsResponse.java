@@ -0,0 +1,599 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingest_progress_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code GetTailOffsetsResponse}
+ */
+public final class GetTailOffsetsResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:GetTailOffsetsResponse)
+    GetTailOffsetsResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use GetTailOffsetsResponse.newBuilder() to construct.
+  private GetTailOffsetsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GetTailOffsetsResponse() {
+    offsets_ = emptyLongList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new GetTailOffsetsResponse();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private GetTailOffsetsResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              offsets_ = newLongList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            offsets_.addLong(input.readInt64());
+            break;
+          }
+          case 10: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              offsets_ = newLongList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              offsets_.addLong(input.readInt64());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        offsets_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.IngestProgressService.internal_static_GetTailOffsetsResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.IngestProgressService.internal_static_GetTailOffsetsResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.class, com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.Builder.class);
+  }
+
+  public static final int OFFSETS_FIELD_NUMBER = 1;
+  private com.google.protobuf.Internal.LongList offsets_;
+  /**
+   * <code>repeated int64 offsets = 1;</code>
+   * @return A list containing the offsets.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Long>
+      getOffsetsList() {
+    return offsets_;
+  }
+  /**
+   * <code>repeated int64 offsets = 1;</code>
+   * @return The count of offsets.
+   */
+  public int getOffsetsCount() {
+    return offsets_.size();
+  }
+  /**
+   * <code>repeated int64 offsets = 1;</code>
+   * @param index The index of the element to return.
+   * @return The offsets at the given index.
+   */
+  public long getOffsets(int index) {
+    return offsets_.getLong(index);
+  }
+  private int offsetsMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getOffsetsList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(offsetsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < offsets_.size(); i++) {
+      output.writeInt64NoTag(offsets_.getLong(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < offsets_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt64SizeNoTag(offsets_.getLong(i));
+      }
+      size += dataSize;
+      if (!getOffsetsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      offsetsMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse other = (com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse) obj;
+
+    if (!getOffsetsList()
+        .equals(other.getOffsetsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getOffsetsCount() > 0) {
+      hash = (37 * hash) + OFFSETS_FIELD_NUMBER;
+      hash = (53 * hash) + getOffsetsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code GetTailOffsetsResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:GetTailOffsetsResponse)
+      com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.IngestProgressService.internal_static_GetTailOffsetsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.IngestProgressService.internal_static_GetTailOffsetsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.class, com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      offsets_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.IngestProgressService.internal_static_GetTailOffsetsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse build() {
+      com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse buildPartial() {
+      com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse result = new com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        offsets_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.offsets_ = offsets_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse other) {
+      if (other == com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.getDefaultInstance()) return this;
+      if (!other.offsets_.isEmpty()) {
+        if (offsets_.isEmpty()) {
+          offsets_ = other.offsets_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureOffsetsIsMutable();
+          offsets_.addAll(other.offsets_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.LongList offsets_ = emptyLongList();
+    private void ensureOffsetsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        offsets_ = mutableCopy(offsets_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated int64 offsets = 1;</code>
+     * @return A list containing the offsets.
+     */
+    public java.util.List<java.lang.Long>
+        getOffsetsList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(offsets_) : offsets_;
+    }
+    /**
+     * <code>repeated int64 offsets = 1;</code>
+     * @return The count of offsets.
+     */
+    public int getOffsetsCount() {
+      return offsets_.size();
+    }
+    /**
+     * <code>repeated int64 offsets = 1;</code>
+     * @param index The index of the element to return.
+     * @return The offsets at the given index.
+     */
+    public long getOffsets(int index) {
+      return offsets_.getLong(index);
+    }
+    /**
+     * <code>repeated int64 offsets = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The offsets to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOffsets(
+        int index, long value) {
+      ensureOffsetsIsMutable();
+      offsets_.setLong(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 offsets = 1;</code>
+     * @param value The offsets to add.
+     * @return This builder for chaining.
+     */
+    public Builder addOffsets(long value) {
+      ensureOffsetsIsMutable();
+      offsets_.addLong(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 offsets = 1;</code>
+     * @param values The offsets to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllOffsets(
+        java.lang.Iterable<? extends java.lang.Long> values) {
+      ensureOffsetsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, offsets_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 offsets = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOffsets() {
+      offsets_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:GetTailOffsetsResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:GetTailOffsetsResponse)
+  private static final com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GetTailOffsetsResponse>
+      PARSER = new com.google.protobuf.AbstractParser<GetTailOffsetsResponse>() {
+    @java.lang.Override
+    public GetTailOffsetsResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new GetTailOffsetsResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GetTailOffsetsResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GetTailOffsetsResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingest_progress_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetTailOffsetsResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetTailOffsetsResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int64 offsets = 1;</code>
+   * @return A list containing the offsets.
+   */
+  java.util.List<java.lang.Long> getOffsetsList();
+  /**
+   * <code>repeated int64 offsets = 1;</code>
+   * @return The count of offsets.
+   */
+  int getOffsetsCount();
+  /**
+   * <code>repeated int64 offsets = 1;</code>
+   * @param index The index of the element to return.
+   * @return The offsets at the given index.
+   */
+  long getOffsets(int index);
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: id_allocate_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class IdAllocateGrpc {
+
+  private IdAllocateGrpc() {}
+
+  public static final String SERVICE_NAME = "IdAllocate";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AllocateIdRequest,
+      com.alibaba.maxgraph.proto.groot.AllocateIdResponse> getAllocateIdMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "allocateId",
+      requestType = com.alibaba.maxgraph.proto.groot.AllocateIdRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.AllocateIdResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AllocateIdRequest,
+      com.alibaba.maxgraph.proto.groot.AllocateIdResponse> getAllocateIdMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AllocateIdRequest, com.alibaba.maxgraph.proto.groot.AllocateIdResponse> getAllocateIdMethod;
+    if ((getAllocateIdMethod = IdAllocateGrpc.getAllocateIdMethod) == null) {
+      synchronized (IdAllocateGrpc.class) {
+        if ((getAllocateIdMethod = IdAllocateGrpc.getAllocateIdMethod) == null) {
+          IdAllocateGrpc.getAllocateIdMethod = getAllocateIdMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.AllocateIdRequest, com.alibaba.maxgraph.proto.groot.AllocateIdResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "allocateId"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.AllocateIdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.AllocateIdResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new IdAllocateMethodDescriptorSupplier("allocateId"))
+              .build();
+        }
+      }
+    }
+    return getAllocateIdMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static IdAllocateStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IdAllocateStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IdAllocateStub>() {
+        @java.lang.Override
+        public IdAllocateStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IdAllocateStub(channel, callOptions);
+        }
+      };
+    return IdAllocateStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static IdAllocateBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IdAllocateBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IdAllocateBlockingStub>() {
+        @java.lang.Override
+        public IdAllocateBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IdAllocateBlockingStub(channel, callOptions);
+        }
+      };
+    return IdAllocateBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static IdAllocateFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IdAllocateFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IdAllocateFutureStub>() {
+        @java.lang.Override
+        public IdAllocateFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IdAllocateFutureStub(channel, callOptions);
+        }
+      };
+    return IdAllocateFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class IdAllocateImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void allocateId(com.alibaba.maxgraph.proto.groot.AllocateIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AllocateIdResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAllocateIdMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getAllocateIdMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.AllocateIdRequest,
+                com.alibaba.maxgraph.proto.groot.AllocateIdResponse>(
+                  this, METHODID_ALLOCATE_ID)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class IdAllocateStub extends io.grpc.stub.AbstractAsyncStub<IdAllocateStub> {
+    private IdAllocateStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IdAllocateStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IdAllocateStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void allocateId(com.alibaba.maxgraph.proto.groot.AllocateIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AllocateIdResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAllocateIdMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class IdAllocateBlockingStub extends io.grpc.stub.AbstractBlockingStub<IdAllocateBlockingStub> {
+    private IdAllocateBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IdAllocateBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IdAllocateBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.AllocateIdResponse allocateId(com.alibaba.maxgraph.proto.groot.AllocateIdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAllocateIdMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class IdAllocateFutureStub extends io.grpc.stub.AbstractFutureStub<IdAllocateFutureStub> {
+    private IdAllocateFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IdAllocateFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IdAllocateFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.AllocateIdResponse> allocateId(
+        com.alibaba.maxgraph.proto.groot.AllocateIdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAllocateIdMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_ALLOCATE_ID = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final IdAllocateImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(IdAllocateImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_ALLOCATE_ID:
+          serviceImpl.allocateId((com.alibaba.maxgraph.proto.groot.AllocateIdRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AllocateIdResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class IdAllocateBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    IdAllocateBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.IdAllocateService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("IdAllocate");
+    }
+  }
+
+  private static final class IdAllocateFileDescriptorSupplier
+      extends IdAllocateBaseDescriptorSupplier {
+    IdAllocateFileDescriptorSupplier() {}
+  }
+
+  private static final class IdAllocateMethodDescriptorSupplier
+      extends IdAllocateBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    IdAllocateMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (IdAllocateGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new IdAllocateFileDescriptorSupplier())
+              .addMethod(getAllocateIdMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,62 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: id_allocate_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class IdAllocateService {
+  private IdAllocateService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AllocateIdRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AllocateIdRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AllocateIdResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AllocateIdResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\031id_allocate_service.proto\"*\n\021AllocateI" +
+      "dRequest\022\025\n\rallocate_size\030\001 \001(\005\"&\n\022Alloc" +
+      "ateIdResponse\022\020\n\010start_id\030\001 \001(\0032C\n\nIdAll" +
+      "ocate\0225\n\nallocateId\022\022.AllocateIdRequest\032" +
+      "\023.AllocateIdResponseB$\n com.alibaba.maxg" +
+      "raph.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_AllocateIdRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_AllocateIdRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AllocateIdRequest_descriptor,
+        new java.lang.String[] { "AllocateSize", });
+    internal_static_AllocateIdResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_AllocateIdResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AllocateIdResponse_descriptor,
+        new java.lang.String[] { "StartId", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: ingest_progress_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class IngestProgressGrpc {
+
+  private IngestProgressGrpc() {}
+
+  public static final String SERVICE_NAME = "IngestProgress";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest,
+      com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse> getGetTailOffsetsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getTailOffsets",
+      requestType = com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest,
+      com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse> getGetTailOffsetsMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest, com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse> getGetTailOffsetsMethod;
+    if ((getGetTailOffsetsMethod = IngestProgressGrpc.getGetTailOffsetsMethod) == null) {
+      synchronized (IngestProgressGrpc.class) {
+        if ((getGetTailOffsetsMethod = IngestProgressGrpc.getGetTailOffsetsMethod) == null) {
+          IngestProgressGrpc.getGetTailOffsetsMethod = getGetTailOffsetsMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest, com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getTailOffsets"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new IngestProgressMethodDescriptorSupplier("getTailOffsets"))
+              .build();
+        }
+      }
+    }
+    return getGetTailOffsetsMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static IngestProgressStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestProgressStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestProgressStub>() {
+        @java.lang.Override
+        public IngestProgressStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestProgressStub(channel, callOptions);
+        }
+      };
+    return IngestProgressStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static IngestProgressBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestProgressBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestProgressBlockingStub>() {
+        @java.lang.Override
+        public IngestProgressBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestProgressBlockingStub(channel, callOptions);
+        }
+      };
+    return IngestProgressBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static IngestProgressFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestProgressFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestProgressFutureStub>() {
+        @java.lang.Override
+        public IngestProgressFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestProgressFutureStub(channel, callOptions);
+        }
+      };
+    return IngestProgressFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class IngestProgressImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void getTailOffsets(com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetTailOffsetsMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetTailOffsetsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest,
+                com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse>(
+                  this, METHODID_GET_TAIL_OFFSETS)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class IngestProgressStub extends io.grpc.stub.AbstractAsyncStub<IngestProgressStub> {
+    private IngestProgressStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestProgressStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestProgressStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getTailOffsets(com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetTailOffsetsMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class IngestProgressBlockingStub extends io.grpc.stub.AbstractBlockingStub<IngestProgressBlockingStub> {
+    private IngestProgressBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestProgressBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestProgressBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse getTailOffsets(com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetTailOffsetsMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class IngestProgressFutureStub extends io.grpc.stub.AbstractFutureStub<IngestProgressFutureStub> {
+    private IngestProgressFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestProgressFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestProgressFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse> getTailOffsets(
+        com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetTailOffsetsMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_TAIL_OFFSETS = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final IngestProgressImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(IngestProgressImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_TAIL_OFFSETS:
+          serviceImpl.getTailOffsets((com.alibaba.maxgraph.proto.groot.GetTailOffsetsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetTailOffsetsResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class IngestProgressBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    IngestProgressBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.IngestProgressService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("IngestProgress");
+    }
+  }
+
+  private static final class IngestProgressFileDescriptorSupplier
+      extends IngestProgressBaseDescriptorSupplier {
+    IngestProgressFileDescriptorSupplier() {}
+  }
+
+  private static final class IngestProgressMethodDescriptorSupplier
+      extends IngestProgressBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    IngestProgressMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (IngestProgressGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new IngestProgressFileDescriptorSupplier())
+              .addMethod(getGetTailOffsetsMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
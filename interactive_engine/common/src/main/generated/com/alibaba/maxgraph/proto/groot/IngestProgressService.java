@@ -0,0 +1,63 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingest_progress_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class IngestProgressService {
+  private IngestProgressService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetTailOffsetsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetTailOffsetsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetTailOffsetsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetTailOffsetsResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\035ingest_progress_service.proto\"(\n\025GetTa" +
+      "ilOffsetsRequest\022\017\n\007queueId\030\001 \003(\005\")\n\026Get" +
+      "TailOffsetsResponse\022\017\n\007offsets\030\001 \003(\0032S\n\016" +
+      "IngestProgress\022A\n\016getTailOffsets\022\026.GetTa" +
+      "ilOffsetsRequest\032\027.GetTailOffsetsRespons" +
+      "eB$\n com.alibaba.maxgraph.proto.grootP\001b" +
+      "\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_GetTailOffsetsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_GetTailOffsetsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetTailOffsetsRequest_descriptor,
+        new java.lang.String[] { "QueueId", });
+    internal_static_GetTailOffsetsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_GetTailOffsetsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetTailOffsetsResponse_descriptor,
+        new java.lang.String[] { "Offsets", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: ingestor_snapshot_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class IngestorSnapshotGrpc {
+
+  private IngestorSnapshotGrpc() {}
+
+  public static final String SERVICE_NAME = "IngestorSnapshot";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest,
+      com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse> getAdvanceIngestSnapshotIdMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "advanceIngestSnapshotId",
+      requestType = com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest,
+      com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse> getAdvanceIngestSnapshotIdMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest, com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse> getAdvanceIngestSnapshotIdMethod;
+    if ((getAdvanceIngestSnapshotIdMethod = IngestorSnapshotGrpc.getAdvanceIngestSnapshotIdMethod) == null) {
+      synchronized (IngestorSnapshotGrpc.class) {
+        if ((getAdvanceIngestSnapshotIdMethod = IngestorSnapshotGrpc.getAdvanceIngestSnapshotIdMethod) == null) {
+          IngestorSnapshotGrpc.getAdvanceIngestSnapshotIdMethod = getAdvanceIngestSnapshotIdMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest, com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "advanceIngestSnapshotId"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new IngestorSnapshotMethodDescriptorSupplier("advanceIngestSnapshotId"))
+              .build();
+        }
+      }
+    }
+    return getAdvanceIngestSnapshotIdMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static IngestorSnapshotStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestorSnapshotStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestorSnapshotStub>() {
+        @java.lang.Override
+        public IngestorSnapshotStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestorSnapshotStub(channel, callOptions);
+        }
+      };
+    return IngestorSnapshotStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static IngestorSnapshotBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestorSnapshotBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestorSnapshotBlockingStub>() {
+        @java.lang.Override
+        public IngestorSnapshotBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestorSnapshotBlockingStub(channel, callOptions);
+        }
+      };
+    return IngestorSnapshotBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static IngestorSnapshotFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestorSnapshotFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestorSnapshotFutureStub>() {
+        @java.lang.Override
+        public IngestorSnapshotFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestorSnapshotFutureStub(channel, callOptions);
+        }
+      };
+    return IngestorSnapshotFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class IngestorSnapshotImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void advanceIngestSnapshotId(com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAdvanceIngestSnapshotIdMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getAdvanceIngestSnapshotIdMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest,
+                com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse>(
+                  this, METHODID_ADVANCE_INGEST_SNAPSHOT_ID)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class IngestorSnapshotStub extends io.grpc.stub.AbstractAsyncStub<IngestorSnapshotStub> {
+    private IngestorSnapshotStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestorSnapshotStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestorSnapshotStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void advanceIngestSnapshotId(com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAdvanceIngestSnapshotIdMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class IngestorSnapshotBlockingStub extends io.grpc.stub.AbstractBlockingStub<IngestorSnapshotBlockingStub> {
+    private IngestorSnapshotBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestorSnapshotBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestorSnapshotBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse advanceIngestSnapshotId(com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAdvanceIngestSnapshotIdMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class IngestorSnapshotFutureStub extends io.grpc.stub.AbstractFutureStub<IngestorSnapshotFutureStub> {
+    private IngestorSnapshotFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestorSnapshotFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestorSnapshotFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse> advanceIngestSnapshotId(
+        com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAdvanceIngestSnapshotIdMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_ADVANCE_INGEST_SNAPSHOT_ID = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final IngestorSnapshotImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(IngestorSnapshotImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_ADVANCE_INGEST_SNAPSHOT_ID:
+          serviceImpl.advanceIngestSnapshotId((com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class IngestorSnapshotBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    IngestorSnapshotBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.IngestorSnapshotService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("IngestorSnapshot");
+    }
+  }
+
+  private static final class IngestorSnapshotFileDescriptorSupplier
+      extends IngestorSnapshotBaseDescriptorSupplier {
+    IngestorSnapshotFileDescriptorSupplier() {}
+  }
+
+  private static final class IngestorSnapshotMethodDescriptorSupplier
+      extends IngestorSnapshotBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    IngestorSnapshotMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (IngestorSnapshotGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new IngestorSnapshotFileDescriptorSupplier())
+              .addMethod(getAdvanceIngestSnapshotIdMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
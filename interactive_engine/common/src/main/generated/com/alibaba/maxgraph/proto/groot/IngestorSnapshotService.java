@@ -0,0 +1,64 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingestor_snapshot_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class IngestorSnapshotService {
+  private IngestorSnapshotService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AdvanceIngestSnapshotIdRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AdvanceIngestSnapshotIdRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AdvanceIngestSnapshotIdResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AdvanceIngestSnapshotIdResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\037ingestor_snapshot_service.proto\"4\n\036Adv" +
+      "anceIngestSnapshotIdRequest\022\022\n\nsnapshotI" +
+      "d\030\001 \001(\003\"=\n\037AdvanceIngestSnapshotIdRespon" +
+      "se\022\032\n\022previousSnapshotId\030\001 \001(\0032p\n\020Ingest" +
+      "orSnapshot\022\\\n\027advanceIngestSnapshotId\022\037." +
+      "AdvanceIngestSnapshotIdRequest\032 .Advance" +
+      "IngestSnapshotIdResponseB$\n com.alibaba." +
+      "maxgraph.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_AdvanceIngestSnapshotIdRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_AdvanceIngestSnapshotIdRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AdvanceIngestSnapshotIdRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", });
+    internal_static_AdvanceIngestSnapshotIdResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_AdvanceIngestSnapshotIdResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AdvanceIngestSnapshotIdResponse_descriptor,
+        new java.lang.String[] { "PreviousSnapshotId", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: ingestor_write_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class IngestorWriteGrpc {
+
+  private IngestorWriteGrpc() {}
+
+  public static final String SERVICE_NAME = "IngestorWrite";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.WriteIngestorRequest,
+      com.alibaba.maxgraph.proto.groot.WriteIngestorResponse> getWriteIngestorMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "writeIngestor",
+      requestType = com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.WriteIngestorResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.WriteIngestorRequest,
+      com.alibaba.maxgraph.proto.groot.WriteIngestorResponse> getWriteIngestorMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.WriteIngestorRequest, com.alibaba.maxgraph.proto.groot.WriteIngestorResponse> getWriteIngestorMethod;
+    if ((getWriteIngestorMethod = IngestorWriteGrpc.getWriteIngestorMethod) == null) {
+      synchronized (IngestorWriteGrpc.class) {
+        if ((getWriteIngestorMethod = IngestorWriteGrpc.getWriteIngestorMethod) == null) {
+          IngestorWriteGrpc.getWriteIngestorMethod = getWriteIngestorMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.WriteIngestorRequest, com.alibaba.maxgraph.proto.groot.WriteIngestorResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "writeIngestor"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.WriteIngestorResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new IngestorWriteMethodDescriptorSupplier("writeIngestor"))
+              .build();
+        }
+      }
+    }
+    return getWriteIngestorMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static IngestorWriteStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestorWriteStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestorWriteStub>() {
+        @java.lang.Override
+        public IngestorWriteStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestorWriteStub(channel, callOptions);
+        }
+      };
+    return IngestorWriteStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static IngestorWriteBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestorWriteBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestorWriteBlockingStub>() {
+        @java.lang.Override
+        public IngestorWriteBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestorWriteBlockingStub(channel, callOptions);
+        }
+      };
+    return IngestorWriteBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static IngestorWriteFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<IngestorWriteFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<IngestorWriteFutureStub>() {
+        @java.lang.Override
+        public IngestorWriteFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new IngestorWriteFutureStub(channel, callOptions);
+        }
+      };
+    return IngestorWriteFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class IngestorWriteImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void writeIngestor(com.alibaba.maxgraph.proto.groot.WriteIngestorRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.WriteIngestorResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getWriteIngestorMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getWriteIngestorMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.WriteIngestorRequest,
+                com.alibaba.maxgraph.proto.groot.WriteIngestorResponse>(
+                  this, METHODID_WRITE_INGESTOR)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class IngestorWriteStub extends io.grpc.stub.AbstractAsyncStub<IngestorWriteStub> {
+    private IngestorWriteStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestorWriteStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestorWriteStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void writeIngestor(com.alibaba.maxgraph.proto.groot.WriteIngestorRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.WriteIngestorResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getWriteIngestorMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class IngestorWriteBlockingStub extends io.grpc.stub.AbstractBlockingStub<IngestorWriteBlockingStub> {
+    private IngestorWriteBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestorWriteBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestorWriteBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.WriteIngestorResponse writeIngestor(com.alibaba.maxgraph.proto.groot.WriteIngestorRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getWriteIngestorMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class IngestorWriteFutureStub extends io.grpc.stub.AbstractFutureStub<IngestorWriteFutureStub> {
+    private IngestorWriteFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected IngestorWriteFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new IngestorWriteFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.WriteIngestorResponse> writeIngestor(
+        com.alibaba.maxgraph.proto.groot.WriteIngestorRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getWriteIngestorMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_WRITE_INGESTOR = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final IngestorWriteImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(IngestorWriteImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_WRITE_INGESTOR:
+          serviceImpl.writeIngestor((com.alibaba.maxgraph.proto.groot.WriteIngestorRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.WriteIngestorResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class IngestorWriteBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    IngestorWriteBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.IngestorWriteService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("IngestorWrite");
+    }
+  }
+
+  private static final class IngestorWriteFileDescriptorSupplier
+      extends IngestorWriteBaseDescriptorSupplier {
+    IngestorWriteFileDescriptorSupplier() {}
+  }
+
+  private static final class IngestorWriteMethodDescriptorSupplier
+      extends IngestorWriteBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    IngestorWriteMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (IngestorWriteGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new IngestorWriteFileDescriptorSupplier())
+              .addMethod(getWriteIngestorMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,67 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingestor_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class IngestorWriteService {
+  private IngestorWriteService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WriteIngestorRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WriteIngestorRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WriteIngestorResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WriteIngestorResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\034ingestor_write_service.proto\032\017sdk/mode" +
+      "l.proto\"\203\001\n\024WriteIngestorRequest\022\021\n\trequ" +
+      "estId\030\001 \001(\t\022\017\n\007queueId\030\002 \001(\005\022)\n\016operatio" +
+      "nBatch\030\003 \001(\0132\021.OperationBatchPb\022\034\n\005trace" +
+      "\030\004 \001(\0132\r.WriteTracePb\"+\n\025WriteIngestorRe" +
+      "sponse\022\022\n\nsnapshotId\030\001 \001(\0032O\n\rIngestorWr" +
+      "ite\022>\n\rwriteIngestor\022\025.WriteIngestorRequ" +
+      "est\032\026.WriteIngestorResponseB$\n com.aliba" +
+      "ba.maxgraph.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        });
+    internal_static_WriteIngestorRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_WriteIngestorRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WriteIngestorRequest_descriptor,
+        new java.lang.String[] { "RequestId", "QueueId", "OperationBatch", "Trace", });
+    internal_static_WriteIngestorResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_WriteIngestorResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WriteIngestorResponse_descriptor,
+        new java.lang.String[] { "SnapshotId", });
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface LabelVertexEdgeIdOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:LabelVertexEdgeId)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 labelId = 1;</code>
+   * @return The labelId.
+   */
+  int getLabelId();
+
+  /**
+   * <code>int64 id = 2;</code>
+   * @return The id.
+   */
+  long getId();
+}
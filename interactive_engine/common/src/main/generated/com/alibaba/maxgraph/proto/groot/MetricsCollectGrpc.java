@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: metrics_collect_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class MetricsCollectGrpc {
+
+  private MetricsCollectGrpc() {}
+
+  public static final String SERVICE_NAME = "MetricsCollect";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CollectMetricsRequest,
+      com.alibaba.maxgraph.proto.groot.CollectMetricsResponse> getCollectMetricsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "collectMetrics",
+      requestType = com.alibaba.maxgraph.proto.groot.CollectMetricsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.CollectMetricsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CollectMetricsRequest,
+      com.alibaba.maxgraph.proto.groot.CollectMetricsResponse> getCollectMetricsMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CollectMetricsRequest, com.alibaba.maxgraph.proto.groot.CollectMetricsResponse> getCollectMetricsMethod;
+    if ((getCollectMetricsMethod = MetricsCollectGrpc.getCollectMetricsMethod) == null) {
+      synchronized (MetricsCollectGrpc.class) {
+        if ((getCollectMetricsMethod = MetricsCollectGrpc.getCollectMetricsMethod) == null) {
+          MetricsCollectGrpc.getCollectMetricsMethod = getCollectMetricsMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.CollectMetricsRequest, com.alibaba.maxgraph.proto.groot.CollectMetricsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "collectMetrics"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.CollectMetricsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.CollectMetricsResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MetricsCollectMethodDescriptorSupplier("collectMetrics"))
+              .build();
+        }
+      }
+    }
+    return getCollectMetricsMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static MetricsCollectStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MetricsCollectStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MetricsCollectStub>() {
+        @java.lang.Override
+        public MetricsCollectStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MetricsCollectStub(channel, callOptions);
+        }
+      };
+    return MetricsCollectStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static MetricsCollectBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MetricsCollectBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MetricsCollectBlockingStub>() {
+        @java.lang.Override
+        public MetricsCollectBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MetricsCollectBlockingStub(channel, callOptions);
+        }
+      };
+    return MetricsCollectBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static MetricsCollectFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MetricsCollectFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MetricsCollectFutureStub>() {
+        @java.lang.Override
+        public MetricsCollectFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MetricsCollectFutureStub(channel, callOptions);
+        }
+      };
+    return MetricsCollectFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class MetricsCollectImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void collectMetrics(com.alibaba.maxgraph.proto.groot.CollectMetricsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CollectMetricsResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCollectMetricsMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getCollectMetricsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.CollectMetricsRequest,
+                com.alibaba.maxgraph.proto.groot.CollectMetricsResponse>(
+                  this, METHODID_COLLECT_METRICS)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class MetricsCollectStub extends io.grpc.stub.AbstractAsyncStub<MetricsCollectStub> {
+    private MetricsCollectStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MetricsCollectStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MetricsCollectStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void collectMetrics(com.alibaba.maxgraph.proto.groot.CollectMetricsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CollectMetricsResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCollectMetricsMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class MetricsCollectBlockingStub extends io.grpc.stub.AbstractBlockingStub<MetricsCollectBlockingStub> {
+    private MetricsCollectBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MetricsCollectBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MetricsCollectBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.CollectMetricsResponse collectMetrics(com.alibaba.maxgraph.proto.groot.CollectMetricsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCollectMetricsMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class MetricsCollectFutureStub extends io.grpc.stub.AbstractFutureStub<MetricsCollectFutureStub> {
+    private MetricsCollectFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MetricsCollectFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MetricsCollectFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.CollectMetricsResponse> collectMetrics(
+        com.alibaba.maxgraph.proto.groot.CollectMetricsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCollectMetricsMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_COLLECT_METRICS = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final MetricsCollectImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(MetricsCollectImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_COLLECT_METRICS:
+          serviceImpl.collectMetrics((com.alibaba.maxgraph.proto.groot.CollectMetricsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CollectMetricsResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class MetricsCollectBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    MetricsCollectBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.MetricsCollectService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("MetricsCollect");
+    }
+  }
+
+  private static final class MetricsCollectFileDescriptorSupplier
+      extends MetricsCollectBaseDescriptorSupplier {
+    MetricsCollectFileDescriptorSupplier() {}
+  }
+
+  private static final class MetricsCollectMethodDescriptorSupplier
+      extends MetricsCollectBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    MetricsCollectMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (MetricsCollectGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new MetricsCollectFileDescriptorSupplier())
+              .addMethod(getCollectMetricsMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,75 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: metrics_collect_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class MetricsCollectService {
+  private MetricsCollectService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CollectMetricsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CollectMetricsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CollectMetricsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CollectMetricsResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CollectMetricsResponse_MetricsEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CollectMetricsResponse_MetricsEntry_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\035metrics_collect_service.proto\"\027\n\025Colle" +
+      "ctMetricsRequest\"\177\n\026CollectMetricsRespon" +
+      "se\0225\n\007metrics\030\001 \003(\0132$.CollectMetricsResp" +
+      "onse.MetricsEntry\032.\n\014MetricsEntry\022\013\n\003key" +
+      "\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\0012S\n\016MetricsColl" +
+      "ect\022A\n\016collectMetrics\022\026.CollectMetricsRe" +
+      "quest\032\027.CollectMetricsResponseB$\n com.al" +
+      "ibaba.maxgraph.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_CollectMetricsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_CollectMetricsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CollectMetricsRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_CollectMetricsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CollectMetricsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CollectMetricsResponse_descriptor,
+        new java.lang.String[] { "Metrics", });
+    internal_static_CollectMetricsResponse_MetricsEntry_descriptor =
+      internal_static_CollectMetricsResponse_descriptor.getNestedTypes().get(0);
+    internal_static_CollectMetricsResponse_MetricsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CollectMetricsResponse_MetricsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,599 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code PartitionBackupIdListPb}
+ */
+public final class PartitionBackupIdListPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:PartitionBackupIdListPb)
+    PartitionBackupIdListPbOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use PartitionBackupIdListPb.newBuilder() to construct.
+  private PartitionBackupIdListPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PartitionBackupIdListPb() {
+    readyPartitionBackupIds_ = emptyIntList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new PartitionBackupIdListPb();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private PartitionBackupIdListPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              readyPartitionBackupIds_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            readyPartitionBackupIds_.addInt(input.readInt32());
+            break;
+          }
+          case 10: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              readyPartitionBackupIds_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              readyPartitionBackupIds_.addInt(input.readInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        readyPartitionBackupIds_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_PartitionBackupIdListPb_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_PartitionBackupIdListPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb.class, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb.Builder.class);
+  }
+
+  public static final int READYPARTITIONBACKUPIDS_FIELD_NUMBER = 1;
+  private com.google.protobuf.Internal.IntList readyPartitionBackupIds_;
+  /**
+   * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+   * @return A list containing the readyPartitionBackupIds.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getReadyPartitionBackupIdsList() {
+    return readyPartitionBackupIds_;
+  }
+  /**
+   * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+   * @return The count of readyPartitionBackupIds.
+   */
+  public int getReadyPartitionBackupIdsCount() {
+    return readyPartitionBackupIds_.size();
+  }
+  /**
+   * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+   * @param index The index of the element to return.
+   * @return The readyPartitionBackupIds at the given index.
+   */
+  public int getReadyPartitionBackupIds(int index) {
+    return readyPartitionBackupIds_.getInt(index);
+  }
+  private int readyPartitionBackupIdsMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getReadyPartitionBackupIdsList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(readyPartitionBackupIdsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < readyPartitionBackupIds_.size(); i++) {
+      output.writeInt32NoTag(readyPartitionBackupIds_.getInt(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < readyPartitionBackupIds_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(readyPartitionBackupIds_.getInt(i));
+      }
+      size += dataSize;
+      if (!getReadyPartitionBackupIdsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      readyPartitionBackupIdsMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb other = (com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb) obj;
+
+    if (!getReadyPartitionBackupIdsList()
+        .equals(other.getReadyPartitionBackupIdsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getReadyPartitionBackupIdsCount() > 0) {
+      hash = (37 * hash) + READYPARTITIONBACKUPIDS_FIELD_NUMBER;
+      hash = (53 * hash) + getReadyPartitionBackupIdsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code PartitionBackupIdListPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:PartitionBackupIdListPb)
+      com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_PartitionBackupIdListPb_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_PartitionBackupIdListPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb.class, com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      readyPartitionBackupIds_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_PartitionBackupIdListPb_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb build() {
+      com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb result = new com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        readyPartitionBackupIds_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.readyPartitionBackupIds_ = readyPartitionBackupIds_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb.getDefaultInstance()) return this;
+      if (!other.readyPartitionBackupIds_.isEmpty()) {
+        if (readyPartitionBackupIds_.isEmpty()) {
+          readyPartitionBackupIds_ = other.readyPartitionBackupIds_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureReadyPartitionBackupIdsIsMutable();
+          readyPartitionBackupIds_.addAll(other.readyPartitionBackupIds_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.IntList readyPartitionBackupIds_ = emptyIntList();
+    private void ensureReadyPartitionBackupIdsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        readyPartitionBackupIds_ = mutableCopy(readyPartitionBackupIds_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+     * @return A list containing the readyPartitionBackupIds.
+     */
+    public java.util.List<java.lang.Integer>
+        getReadyPartitionBackupIdsList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(readyPartitionBackupIds_) : readyPartitionBackupIds_;
+    }
+    /**
+     * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+     * @return The count of readyPartitionBackupIds.
+     */
+    public int getReadyPartitionBackupIdsCount() {
+      return readyPartitionBackupIds_.size();
+    }
+    /**
+     * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+     * @param index The index of the element to return.
+     * @return The readyPartitionBackupIds at the given index.
+     */
+    public int getReadyPartitionBackupIds(int index) {
+      return readyPartitionBackupIds_.getInt(index);
+    }
+    /**
+     * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The readyPartitionBackupIds to set.
+     * @return This builder for chaining.
+     */
+    public Builder setReadyPartitionBackupIds(
+        int index, int value) {
+      ensureReadyPartitionBackupIdsIsMutable();
+      readyPartitionBackupIds_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+     * @param value The readyPartitionBackupIds to add.
+     * @return This builder for chaining.
+     */
+    public Builder addReadyPartitionBackupIds(int value) {
+      ensureReadyPartitionBackupIdsIsMutable();
+      readyPartitionBackupIds_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+     * @param values The readyPartitionBackupIds to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllReadyPartitionBackupIds(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureReadyPartitionBackupIdsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, readyPartitionBackupIds_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearReadyPartitionBackupIds() {
+      readyPartitionBackupIds_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:PartitionBackupIdListPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:PartitionBackupIdListPb)
+  private static final com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PartitionBackupIdListPb>
+      PARSER = new com.google.protobuf.AbstractParser<PartitionBackupIdListPb>() {
+    @java.lang.Override
+    public PartitionBackupIdListPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new PartitionBackupIdListPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<PartitionBackupIdListPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<PartitionBackupIdListPb> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.PartitionBackupIdListPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
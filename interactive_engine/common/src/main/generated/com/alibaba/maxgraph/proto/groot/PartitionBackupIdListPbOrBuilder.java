@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface PartitionBackupIdListPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:PartitionBackupIdListPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+   * @return A list containing the readyPartitionBackupIds.
+   */
+  java.util.List<java.lang.Integer> getReadyPartitionBackupIdsList();
+  /**
+   * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+   * @return The count of readyPartitionBackupIds.
+   */
+  int getReadyPartitionBackupIdsCount();
+  /**
+   * <code>repeated int32 readyPartitionBackupIds = 1;</code>
+   * @param index The index of the element to return.
+   * @return The readyPartitionBackupIds at the given index.
+   */
+  int getReadyPartitionBackupIds(int index);
+}
@@ -0,0 +1,705 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code PartitionToBatchPb}
+ */
+public final class PartitionToBatchPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:PartitionToBatchPb)
+    PartitionToBatchPbOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use PartitionToBatchPb.newBuilder() to construct.
+  private PartitionToBatchPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PartitionToBatchPb() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new PartitionToBatchPb();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private PartitionToBatchPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              partitionToBatch_ = com.google.protobuf.MapField.newMapField(
+                  PartitionToBatchDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>
+            partitionToBatch__ = input.readMessage(
+                PartitionToBatchDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            partitionToBatch_.getMutableMap().put(
+                partitionToBatch__.getKey(), partitionToBatch__.getValue());
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_PartitionToBatchPb_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 1:
+        return internalGetPartitionToBatch();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_PartitionToBatchPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.class, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder.class);
+  }
+
+  public static final int PARTITIONTOBATCH_FIELD_NUMBER = 1;
+  private static final class PartitionToBatchDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_PartitionToBatchPb_PartitionToBatchEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> partitionToBatch_;
+  private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>
+  internalGetPartitionToBatch() {
+    if (partitionToBatch_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PartitionToBatchDefaultEntryHolder.defaultEntry);
+    }
+    return partitionToBatch_;
+  }
+
+  public int getPartitionToBatchCount() {
+    return internalGetPartitionToBatch().getMap().size();
+  }
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsPartitionToBatch(
+      int key) {
+    
+    return internalGetPartitionToBatch().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPartitionToBatchMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> getPartitionToBatch() {
+    return getPartitionToBatchMap();
+  }
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> getPartitionToBatchMap() {
+    return internalGetPartitionToBatch().getMap();
+  }
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.groot.OperationBatchPb getPartitionToBatchOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.groot.OperationBatchPb defaultValue) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> map =
+        internalGetPartitionToBatch().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+  @java.lang.Override
+
+  public com.alibaba.maxgraph.proto.groot.OperationBatchPb getPartitionToBatchOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> map =
+        internalGetPartitionToBatch().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetPartitionToBatch(),
+        PartitionToBatchDefaultEntryHolder.defaultEntry,
+        1);
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> entry
+         : internalGetPartitionToBatch().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>
+      partitionToBatch__ = PartitionToBatchDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, partitionToBatch__);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.PartitionToBatchPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.PartitionToBatchPb other = (com.alibaba.maxgraph.proto.groot.PartitionToBatchPb) obj;
+
+    if (!internalGetPartitionToBatch().equals(
+        other.internalGetPartitionToBatch())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (!internalGetPartitionToBatch().getMap().isEmpty()) {
+      hash = (37 * hash) + PARTITIONTOBATCH_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetPartitionToBatch().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.PartitionToBatchPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code PartitionToBatchPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:PartitionToBatchPb)
+      com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_PartitionToBatchPb_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetPartitionToBatch();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMutablePartitionToBatch();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_PartitionToBatchPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.class, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      internalGetMutablePartitionToBatch().clear();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_PartitionToBatchPb_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb build() {
+      com.alibaba.maxgraph.proto.groot.PartitionToBatchPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.PartitionToBatchPb result = new com.alibaba.maxgraph.proto.groot.PartitionToBatchPb(this);
+      int from_bitField0_ = bitField0_;
+      result.partitionToBatch_ = internalGetPartitionToBatch();
+      result.partitionToBatch_.makeImmutable();
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.PartitionToBatchPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.PartitionToBatchPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.PartitionToBatchPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.getDefaultInstance()) return this;
+      internalGetMutablePartitionToBatch().mergeFrom(
+          other.internalGetPartitionToBatch());
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.PartitionToBatchPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.PartitionToBatchPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> partitionToBatch_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>
+    internalGetPartitionToBatch() {
+      if (partitionToBatch_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PartitionToBatchDefaultEntryHolder.defaultEntry);
+      }
+      return partitionToBatch_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>
+    internalGetMutablePartitionToBatch() {
+      onChanged();;
+      if (partitionToBatch_ == null) {
+        partitionToBatch_ = com.google.protobuf.MapField.newMapField(
+            PartitionToBatchDefaultEntryHolder.defaultEntry);
+      }
+      if (!partitionToBatch_.isMutable()) {
+        partitionToBatch_ = partitionToBatch_.copy();
+      }
+      return partitionToBatch_;
+    }
+
+    public int getPartitionToBatchCount() {
+      return internalGetPartitionToBatch().getMap().size();
+    }
+    /**
+     * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsPartitionToBatch(
+        int key) {
+      
+      return internalGetPartitionToBatch().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPartitionToBatchMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> getPartitionToBatch() {
+      return getPartitionToBatchMap();
+    }
+    /**
+     * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> getPartitionToBatchMap() {
+      return internalGetPartitionToBatch().getMap();
+    }
+    /**
+     * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb getPartitionToBatchOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.groot.OperationBatchPb defaultValue) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> map =
+          internalGetPartitionToBatch().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+     */
+    @java.lang.Override
+
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb getPartitionToBatchOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> map =
+          internalGetPartitionToBatch().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearPartitionToBatch() {
+      internalGetMutablePartitionToBatch().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+     */
+
+    public Builder removePartitionToBatch(
+        int key) {
+      
+      internalGetMutablePartitionToBatch().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>
+    getMutablePartitionToBatch() {
+      return internalGetMutablePartitionToBatch().getMutableMap();
+    }
+    /**
+     * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+     */
+    public Builder putPartitionToBatch(
+        int key,
+        com.alibaba.maxgraph.proto.groot.OperationBatchPb value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      internalGetMutablePartitionToBatch().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+     */
+
+    public Builder putAllPartitionToBatch(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb> values) {
+      internalGetMutablePartitionToBatch().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:PartitionToBatchPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:PartitionToBatchPb)
+  private static final com.alibaba.maxgraph.proto.groot.PartitionToBatchPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.PartitionToBatchPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.PartitionToBatchPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PartitionToBatchPb>
+      PARSER = new com.google.protobuf.AbstractParser<PartitionToBatchPb>() {
+    @java.lang.Override
+    public PartitionToBatchPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new PartitionToBatchPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<PartitionToBatchPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<PartitionToBatchPb> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface PartitionToBatchPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:PartitionToBatchPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+  int getPartitionToBatchCount();
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+  boolean containsPartitionToBatch(
+      int key);
+  /**
+   * Use {@link #getPartitionToBatchMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>
+  getPartitionToBatch();
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.OperationBatchPb>
+  getPartitionToBatchMap();
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.groot.OperationBatchPb getPartitionToBatchOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.groot.OperationBatchPb defaultValue);
+  /**
+   * <code>map&lt;int32, .OperationBatchPb&gt; partitionToBatch = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.groot.OperationBatchPb getPartitionToBatchOrThrow(
+      int key);
+}
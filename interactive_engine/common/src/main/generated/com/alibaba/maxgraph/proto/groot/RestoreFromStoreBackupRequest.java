@@ -0,0 +1,745 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code RestoreFromStoreBackupRequest}
+ */
+public final class RestoreFromStoreBackupRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RestoreFromStoreBackupRequest)
+    RestoreFromStoreBackupRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RestoreFromStoreBackupRequest.newBuilder() to construct.
+  private RestoreFromStoreBackupRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RestoreFromStoreBackupRequest() {
+    restoreRootPath_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RestoreFromStoreBackupRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RestoreFromStoreBackupRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder subBuilder = null;
+            if (storeBackupId_ != null) {
+              subBuilder = storeBackupId_.toBuilder();
+            }
+            storeBackupId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(storeBackupId_);
+              storeBackupId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            restoreRootPath_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_RestoreFromStoreBackupRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_RestoreFromStoreBackupRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.class, com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.Builder.class);
+  }
+
+  public static final int STOREBACKUPID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.StoreBackupIdPb storeBackupId_;
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   * @return Whether the storeBackupId field is set.
+   */
+  @java.lang.Override
+  public boolean hasStoreBackupId() {
+    return storeBackupId_ != null;
+  }
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   * @return The storeBackupId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb getStoreBackupId() {
+    return storeBackupId_ == null ? com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.getDefaultInstance() : storeBackupId_;
+  }
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder getStoreBackupIdOrBuilder() {
+    return getStoreBackupId();
+  }
+
+  public static final int RESTORE_ROOT_PATH_FIELD_NUMBER = 2;
+  private volatile java.lang.Object restoreRootPath_;
+  /**
+   * <code>string restore_root_path = 2;</code>
+   * @return The restoreRootPath.
+   */
+  @java.lang.Override
+  public java.lang.String getRestoreRootPath() {
+    java.lang.Object ref = restoreRootPath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      restoreRootPath_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string restore_root_path = 2;</code>
+   * @return The bytes for restoreRootPath.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRestoreRootPathBytes() {
+    java.lang.Object ref = restoreRootPath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      restoreRootPath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (storeBackupId_ != null) {
+      output.writeMessage(1, getStoreBackupId());
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(restoreRootPath_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, restoreRootPath_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (storeBackupId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getStoreBackupId());
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(restoreRootPath_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, restoreRootPath_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest other = (com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest) obj;
+
+    if (hasStoreBackupId() != other.hasStoreBackupId()) return false;
+    if (hasStoreBackupId()) {
+      if (!getStoreBackupId()
+          .equals(other.getStoreBackupId())) return false;
+    }
+    if (!getRestoreRootPath()
+        .equals(other.getRestoreRootPath())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasStoreBackupId()) {
+      hash = (37 * hash) + STOREBACKUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getStoreBackupId().hashCode();
+    }
+    hash = (37 * hash) + RESTORE_ROOT_PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getRestoreRootPath().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RestoreFromStoreBackupRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RestoreFromStoreBackupRequest)
+      com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_RestoreFromStoreBackupRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_RestoreFromStoreBackupRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.class, com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (storeBackupIdBuilder_ == null) {
+        storeBackupId_ = null;
+      } else {
+        storeBackupId_ = null;
+        storeBackupIdBuilder_ = null;
+      }
+      restoreRootPath_ = "";
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_RestoreFromStoreBackupRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest build() {
+      com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest result = new com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest(this);
+      if (storeBackupIdBuilder_ == null) {
+        result.storeBackupId_ = storeBackupId_;
+      } else {
+        result.storeBackupId_ = storeBackupIdBuilder_.build();
+      }
+      result.restoreRootPath_ = restoreRootPath_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.getDefaultInstance()) return this;
+      if (other.hasStoreBackupId()) {
+        mergeStoreBackupId(other.getStoreBackupId());
+      }
+      if (!other.getRestoreRootPath().isEmpty()) {
+        restoreRootPath_ = other.restoreRootPath_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.StoreBackupIdPb storeBackupId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StoreBackupIdPb, com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder, com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder> storeBackupIdBuilder_;
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     * @return Whether the storeBackupId field is set.
+     */
+    public boolean hasStoreBackupId() {
+      return storeBackupIdBuilder_ != null || storeBackupId_ != null;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     * @return The storeBackupId.
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb getStoreBackupId() {
+      if (storeBackupIdBuilder_ == null) {
+        return storeBackupId_ == null ? com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.getDefaultInstance() : storeBackupId_;
+      } else {
+        return storeBackupIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public Builder setStoreBackupId(com.alibaba.maxgraph.proto.groot.StoreBackupIdPb value) {
+      if (storeBackupIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        storeBackupId_ = value;
+        onChanged();
+      } else {
+        storeBackupIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public Builder setStoreBackupId(
+        com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder builderForValue) {
+      if (storeBackupIdBuilder_ == null) {
+        storeBackupId_ = builderForValue.build();
+        onChanged();
+      } else {
+        storeBackupIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public Builder mergeStoreBackupId(com.alibaba.maxgraph.proto.groot.StoreBackupIdPb value) {
+      if (storeBackupIdBuilder_ == null) {
+        if (storeBackupId_ != null) {
+          storeBackupId_ =
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.newBuilder(storeBackupId_).mergeFrom(value).buildPartial();
+        } else {
+          storeBackupId_ = value;
+        }
+        onChanged();
+      } else {
+        storeBackupIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public Builder clearStoreBackupId() {
+      if (storeBackupIdBuilder_ == null) {
+        storeBackupId_ = null;
+        onChanged();
+      } else {
+        storeBackupId_ = null;
+        storeBackupIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder getStoreBackupIdBuilder() {
+      
+      onChanged();
+      return getStoreBackupIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder getStoreBackupIdOrBuilder() {
+      if (storeBackupIdBuilder_ != null) {
+        return storeBackupIdBuilder_.getMessageOrBuilder();
+      } else {
+        return storeBackupId_ == null ?
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.getDefaultInstance() : storeBackupId_;
+      }
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StoreBackupIdPb, com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder, com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder> 
+        getStoreBackupIdFieldBuilder() {
+      if (storeBackupIdBuilder_ == null) {
+        storeBackupIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb, com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder, com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder>(
+                getStoreBackupId(),
+                getParentForChildren(),
+                isClean());
+        storeBackupId_ = null;
+      }
+      return storeBackupIdBuilder_;
+    }
+
+    private java.lang.Object restoreRootPath_ = "";
+    /**
+     * <code>string restore_root_path = 2;</code>
+     * @return The restoreRootPath.
+     */
+    public java.lang.String getRestoreRootPath() {
+      java.lang.Object ref = restoreRootPath_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        restoreRootPath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string restore_root_path = 2;</code>
+     * @return The bytes for restoreRootPath.
+     */
+    public com.google.protobuf.ByteString
+        getRestoreRootPathBytes() {
+      java.lang.Object ref = restoreRootPath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        restoreRootPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string restore_root_path = 2;</code>
+     * @param value The restoreRootPath to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRestoreRootPath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      restoreRootPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string restore_root_path = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRestoreRootPath() {
+      
+      restoreRootPath_ = getDefaultInstance().getRestoreRootPath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string restore_root_path = 2;</code>
+     * @param value The bytes for restoreRootPath to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRestoreRootPathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      restoreRootPath_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RestoreFromStoreBackupRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:RestoreFromStoreBackupRequest)
+  private static final com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RestoreFromStoreBackupRequest>
+      PARSER = new com.google.protobuf.AbstractParser<RestoreFromStoreBackupRequest>() {
+    @java.lang.Override
+    public RestoreFromStoreBackupRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RestoreFromStoreBackupRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RestoreFromStoreBackupRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RestoreFromStoreBackupRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface RestoreFromStoreBackupResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RestoreFromStoreBackupResponse)
+    com.google.protobuf.MessageOrBuilder {
+}
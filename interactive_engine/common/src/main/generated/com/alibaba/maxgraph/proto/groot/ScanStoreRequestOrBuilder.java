@@ -0,0 +1,38 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface ScanStoreRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ScanStoreRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 requestId = 1;</code>
+   * @return The requestId.
+   */
+  long getRequestId();
+
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>repeated int32 labelId = 3;</code>
+   * @return A list containing the labelId.
+   */
+  java.util.List<java.lang.Integer> getLabelIdList();
+  /**
+   * <code>repeated int32 labelId = 3;</code>
+   * @return The count of labelId.
+   */
+  int getLabelIdCount();
+  /**
+   * <code>repeated int32 labelId = 3;</code>
+   * @param index The index of the element to return.
+   * @return The labelId at the given index.
+   */
+  int getLabelId(int index);
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: schema_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class SchemaGrpc {
+
+  private SchemaGrpc() {}
+
+  public static final String SERVICE_NAME = "Schema";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest,
+      com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse> getSubmitBatchDdlMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "submitBatchDdl",
+      requestType = com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest,
+      com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse> getSubmitBatchDdlMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest, com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse> getSubmitBatchDdlMethod;
+    if ((getSubmitBatchDdlMethod = SchemaGrpc.getSubmitBatchDdlMethod) == null) {
+      synchronized (SchemaGrpc.class) {
+        if ((getSubmitBatchDdlMethod = SchemaGrpc.getSubmitBatchDdlMethod) == null) {
+          SchemaGrpc.getSubmitBatchDdlMethod = getSubmitBatchDdlMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest, com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "submitBatchDdl"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new SchemaMethodDescriptorSupplier("submitBatchDdl"))
+              .build();
+        }
+      }
+    }
+    return getSubmitBatchDdlMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static SchemaStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SchemaStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SchemaStub>() {
+        @java.lang.Override
+        public SchemaStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SchemaStub(channel, callOptions);
+        }
+      };
+    return SchemaStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static SchemaBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SchemaBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SchemaBlockingStub>() {
+        @java.lang.Override
+        public SchemaBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SchemaBlockingStub(channel, callOptions);
+        }
+      };
+    return SchemaBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static SchemaFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SchemaFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SchemaFutureStub>() {
+        @java.lang.Override
+        public SchemaFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SchemaFutureStub(channel, callOptions);
+        }
+      };
+    return SchemaFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class SchemaImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void submitBatchDdl(com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSubmitBatchDdlMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getSubmitBatchDdlMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest,
+                com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse>(
+                  this, METHODID_SUBMIT_BATCH_DDL)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class SchemaStub extends io.grpc.stub.AbstractAsyncStub<SchemaStub> {
+    private SchemaStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SchemaStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SchemaStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void submitBatchDdl(com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getSubmitBatchDdlMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class SchemaBlockingStub extends io.grpc.stub.AbstractBlockingStub<SchemaBlockingStub> {
+    private SchemaBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SchemaBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SchemaBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse submitBatchDdl(com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getSubmitBatchDdlMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class SchemaFutureStub extends io.grpc.stub.AbstractFutureStub<SchemaFutureStub> {
+    private SchemaFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SchemaFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SchemaFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse> submitBatchDdl(
+        com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getSubmitBatchDdlMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_SUBMIT_BATCH_DDL = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final SchemaImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(SchemaImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_SUBMIT_BATCH_DDL:
+          serviceImpl.submitBatchDdl((com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SubmitBatchDdlResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class SchemaBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    SchemaBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.SchemaService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("Schema");
+    }
+  }
+
+  private static final class SchemaFileDescriptorSupplier
+      extends SchemaBaseDescriptorSupplier {
+    SchemaFileDescriptorSupplier() {}
+  }
+
+  private static final class SchemaMethodDescriptorSupplier
+      extends SchemaBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    SchemaMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (SchemaGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new SchemaFileDescriptorSupplier())
+              .addMethod(getSubmitBatchDdlMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
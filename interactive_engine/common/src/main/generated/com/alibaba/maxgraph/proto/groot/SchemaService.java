@@ -0,0 +1,67 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: schema_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class SchemaService {
+  private SchemaService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SubmitBatchDdlRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SubmitBatchDdlRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SubmitBatchDdlResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SubmitBatchDdlResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\024schema_service.proto\032\017sdk/model.proto\"" +
+      "f\n\025SubmitBatchDdlRequest\022\021\n\trequestId\030\001 " +
+      "\001(\t\022\021\n\tsessionId\030\002 \001(\t\022\'\n\013ddlRequests\030\003 " +
+      "\001(\0132\022.DdlRequestBatchPb\"M\n\026SubmitBatchDd" +
+      "lResponse\022\017\n\007success\030\001 \001(\010\022\025\n\rddlSnapsho" +
+      "tId\030\002 \001(\003\022\013\n\003msg\030\003 \001(\t2K\n\006Schema\022A\n\016subm" +
+      "itBatchDdl\022\026.SubmitBatchDdlRequest\032\027.Sub" +
+      "mitBatchDdlResponseB$\n com.alibaba.maxgr" +
+      "aph.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        });
+    internal_static_SubmitBatchDdlRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_SubmitBatchDdlRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SubmitBatchDdlRequest_descriptor,
+        new java.lang.String[] { "RequestId", "SessionId", "DdlRequests", });
+    internal_static_SubmitBatchDdlResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_SubmitBatchDdlResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SubmitBatchDdlResponse_descriptor,
+        new java.lang.String[] { "Success", "DdlSnapshotId", "Msg", });
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: snapshot_commit_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class SnapshotCommitGrpc {
+
+  private SnapshotCommitGrpc() {}
+
+  public static final String SERVICE_NAME = "SnapshotCommit";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest,
+      com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse> getCommitSnapshotIdMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "commitSnapshotId",
+      requestType = com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest,
+      com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse> getCommitSnapshotIdMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest, com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse> getCommitSnapshotIdMethod;
+    if ((getCommitSnapshotIdMethod = SnapshotCommitGrpc.getCommitSnapshotIdMethod) == null) {
+      synchronized (SnapshotCommitGrpc.class) {
+        if ((getCommitSnapshotIdMethod = SnapshotCommitGrpc.getCommitSnapshotIdMethod) == null) {
+          SnapshotCommitGrpc.getCommitSnapshotIdMethod = getCommitSnapshotIdMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest, com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "commitSnapshotId"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new SnapshotCommitMethodDescriptorSupplier("commitSnapshotId"))
+              .build();
+        }
+      }
+    }
+    return getCommitSnapshotIdMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static SnapshotCommitStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SnapshotCommitStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SnapshotCommitStub>() {
+        @java.lang.Override
+        public SnapshotCommitStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SnapshotCommitStub(channel, callOptions);
+        }
+      };
+    return SnapshotCommitStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static SnapshotCommitBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SnapshotCommitBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SnapshotCommitBlockingStub>() {
+        @java.lang.Override
+        public SnapshotCommitBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SnapshotCommitBlockingStub(channel, callOptions);
+        }
+      };
+    return SnapshotCommitBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static SnapshotCommitFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<SnapshotCommitFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<SnapshotCommitFutureStub>() {
+        @java.lang.Override
+        public SnapshotCommitFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new SnapshotCommitFutureStub(channel, callOptions);
+        }
+      };
+    return SnapshotCommitFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class SnapshotCommitImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void commitSnapshotId(com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCommitSnapshotIdMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getCommitSnapshotIdMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest,
+                com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse>(
+                  this, METHODID_COMMIT_SNAPSHOT_ID)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class SnapshotCommitStub extends io.grpc.stub.AbstractAsyncStub<SnapshotCommitStub> {
+    private SnapshotCommitStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SnapshotCommitStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SnapshotCommitStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void commitSnapshotId(com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCommitSnapshotIdMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class SnapshotCommitBlockingStub extends io.grpc.stub.AbstractBlockingStub<SnapshotCommitBlockingStub> {
+    private SnapshotCommitBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SnapshotCommitBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SnapshotCommitBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse commitSnapshotId(com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCommitSnapshotIdMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class SnapshotCommitFutureStub extends io.grpc.stub.AbstractFutureStub<SnapshotCommitFutureStub> {
+    private SnapshotCommitFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected SnapshotCommitFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new SnapshotCommitFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse> commitSnapshotId(
+        com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCommitSnapshotIdMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_COMMIT_SNAPSHOT_ID = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final SnapshotCommitImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(SnapshotCommitImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_COMMIT_SNAPSHOT_ID:
+          serviceImpl.commitSnapshotId((com.alibaba.maxgraph.proto.groot.CommitSnapshotIdRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CommitSnapshotIdResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class SnapshotCommitBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    SnapshotCommitBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.SnapshotCommitService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("SnapshotCommit");
+    }
+  }
+
+  private static final class SnapshotCommitFileDescriptorSupplier
+      extends SnapshotCommitBaseDescriptorSupplier {
+    SnapshotCommitFileDescriptorSupplier() {}
+  }
+
+  private static final class SnapshotCommitMethodDescriptorSupplier
+      extends SnapshotCommitBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    SnapshotCommitMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (SnapshotCommitGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new SnapshotCommitFileDescriptorSupplier())
+              .addMethod(getCommitSnapshotIdMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,121 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshot_commit_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class SnapshotCommitService {
+  private SnapshotCommitService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CommitSnapshotIdRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CommitSnapshotIdRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CommitSnapshotIdResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CommitSnapshotIdResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_UpdateMinQuerySnapshotIdRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_UpdateMinQuerySnapshotIdRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_UpdateMinQuerySnapshotIdResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_UpdateMinQuerySnapshotIdResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SynchronizeMinQuerySnapshotIdRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SynchronizeMinQuerySnapshotIdRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SynchronizeMinQuerySnapshotIdResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SynchronizeMinQuerySnapshotIdResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\035snapshot_commit_service.proto\"k\n\027Commi" +
+      "tSnapshotIdRequest\022\017\n\007storeId\030\001 \001(\005\022\022\n\ns" +
+      "napshotId\030\002 \001(\003\022\025\n\rddlSnapshotId\030\003 \001(\003\022\024" +
+      "\n\014queueOffsets\030\004 \003(\003\"\032\n\030CommitSnapshotId" +
+      "Response\"I\n\037UpdateMinQuerySnapshotIdRequ" +
+      "est\022\022\n\nfrontendId\030\001 \001(\005\022\022\n\nsnapshotId\030\002 " +
+      "\001(\003\"C\n UpdateMinQuerySnapshotIdResponse\022" +
+      "\017\n\007success\030\001 \001(\010\022\016\n\006errMsg\030\002 \001(\t\":\n$Sync" +
+      "hronizeMinQuerySnapshotIdRequest\022\022\n\nsnap" +
+      "shotId\030\001 \001(\003\"H\n%SynchronizeMinQuerySnaps" +
+      "hotIdResponse\022\017\n\007success\030\001 \001(\010\022\016\n\006errMsg" +
+      "\030\002 \001(\t2Y\n\016SnapshotCommit\022G\n\020commitSnapsh" +
+      "otId\022\030.CommitSnapshotIdRequest\032\031.CommitS" +
+      "napshotIdResponse2\355\001\n\032CoordinatorSnapsho" +
+      "tService\022_\n\030updateMinQuerySnapshotId\022 .U" +
+      "pdateMinQuerySnapshotIdRequest\032!.UpdateM" +
+      "inQuerySnapshotIdResponse\022n\n\035synchronize" +
+      "MinQuerySnapshotId\022%.SynchronizeMinQuery" +
+      "SnapshotIdRequest\032&.SynchronizeMinQueryS" +
+      "napshotIdResponseB$\n com.alibaba.maxgrap" +
+      "h.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_CommitSnapshotIdRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_CommitSnapshotIdRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CommitSnapshotIdRequest_descriptor,
+        new java.lang.String[] { "StoreId", "SnapshotId", "DdlSnapshotId", "QueueOffsets", });
+    internal_static_CommitSnapshotIdResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CommitSnapshotIdResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CommitSnapshotIdResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_UpdateMinQuerySnapshotIdRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_UpdateMinQuerySnapshotIdRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_UpdateMinQuerySnapshotIdRequest_descriptor,
+        new java.lang.String[] { "FrontendId", "SnapshotId", });
+    internal_static_UpdateMinQuerySnapshotIdResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_UpdateMinQuerySnapshotIdResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_UpdateMinQuerySnapshotIdResponse_descriptor,
+        new java.lang.String[] { "Success", "ErrMsg", });
+    internal_static_SynchronizeMinQuerySnapshotIdRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_SynchronizeMinQuerySnapshotIdRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SynchronizeMinQuerySnapshotIdRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", });
+    internal_static_SynchronizeMinQuerySnapshotIdResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_SynchronizeMinQuerySnapshotIdResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SynchronizeMinQuerySnapshotIdResponse_descriptor,
+        new java.lang.String[] { "Success", "ErrMsg", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,498 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: store_backup_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class StoreBackupGrpc {
+
+  private StoreBackupGrpc() {}
+
+  public static final String SERVICE_NAME = "StoreBackup";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest,
+      com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse> getCreateStoreBackupMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "createStoreBackup",
+      requestType = com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest,
+      com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse> getCreateStoreBackupMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest, com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse> getCreateStoreBackupMethod;
+    if ((getCreateStoreBackupMethod = StoreBackupGrpc.getCreateStoreBackupMethod) == null) {
+      synchronized (StoreBackupGrpc.class) {
+        if ((getCreateStoreBackupMethod = StoreBackupGrpc.getCreateStoreBackupMethod) == null) {
+          StoreBackupGrpc.getCreateStoreBackupMethod = getCreateStoreBackupMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest, com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "createStoreBackup"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreBackupMethodDescriptorSupplier("createStoreBackup"))
+              .build();
+        }
+      }
+    }
+    return getCreateStoreBackupMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest,
+      com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse> getVerifyStoreBackupMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "verifyStoreBackup",
+      requestType = com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest,
+      com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse> getVerifyStoreBackupMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest, com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse> getVerifyStoreBackupMethod;
+    if ((getVerifyStoreBackupMethod = StoreBackupGrpc.getVerifyStoreBackupMethod) == null) {
+      synchronized (StoreBackupGrpc.class) {
+        if ((getVerifyStoreBackupMethod = StoreBackupGrpc.getVerifyStoreBackupMethod) == null) {
+          StoreBackupGrpc.getVerifyStoreBackupMethod = getVerifyStoreBackupMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest, com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "verifyStoreBackup"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreBackupMethodDescriptorSupplier("verifyStoreBackup"))
+              .build();
+        }
+      }
+    }
+    return getVerifyStoreBackupMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest,
+      com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse> getClearUnavailableStoreBackupsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "clearUnavailableStoreBackups",
+      requestType = com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest,
+      com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse> getClearUnavailableStoreBackupsMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest, com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse> getClearUnavailableStoreBackupsMethod;
+    if ((getClearUnavailableStoreBackupsMethod = StoreBackupGrpc.getClearUnavailableStoreBackupsMethod) == null) {
+      synchronized (StoreBackupGrpc.class) {
+        if ((getClearUnavailableStoreBackupsMethod = StoreBackupGrpc.getClearUnavailableStoreBackupsMethod) == null) {
+          StoreBackupGrpc.getClearUnavailableStoreBackupsMethod = getClearUnavailableStoreBackupsMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest, com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "clearUnavailableStoreBackups"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreBackupMethodDescriptorSupplier("clearUnavailableStoreBackups"))
+              .build();
+        }
+      }
+    }
+    return getClearUnavailableStoreBackupsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest,
+      com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse> getRestoreFromStoreBackupMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "restoreFromStoreBackup",
+      requestType = com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest,
+      com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse> getRestoreFromStoreBackupMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest, com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse> getRestoreFromStoreBackupMethod;
+    if ((getRestoreFromStoreBackupMethod = StoreBackupGrpc.getRestoreFromStoreBackupMethod) == null) {
+      synchronized (StoreBackupGrpc.class) {
+        if ((getRestoreFromStoreBackupMethod = StoreBackupGrpc.getRestoreFromStoreBackupMethod) == null) {
+          StoreBackupGrpc.getRestoreFromStoreBackupMethod = getRestoreFromStoreBackupMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest, com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "restoreFromStoreBackup"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreBackupMethodDescriptorSupplier("restoreFromStoreBackup"))
+              .build();
+        }
+      }
+    }
+    return getRestoreFromStoreBackupMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static StoreBackupStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreBackupStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreBackupStub>() {
+        @java.lang.Override
+        public StoreBackupStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreBackupStub(channel, callOptions);
+        }
+      };
+    return StoreBackupStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static StoreBackupBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreBackupBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreBackupBlockingStub>() {
+        @java.lang.Override
+        public StoreBackupBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreBackupBlockingStub(channel, callOptions);
+        }
+      };
+    return StoreBackupBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static StoreBackupFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreBackupFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreBackupFutureStub>() {
+        @java.lang.Override
+        public StoreBackupFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreBackupFutureStub(channel, callOptions);
+        }
+      };
+    return StoreBackupFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class StoreBackupImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void createStoreBackup(com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateStoreBackupMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void verifyStoreBackup(com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getVerifyStoreBackupMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void clearUnavailableStoreBackups(com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getClearUnavailableStoreBackupsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void restoreFromStoreBackup(com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getRestoreFromStoreBackupMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getCreateStoreBackupMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest,
+                com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse>(
+                  this, METHODID_CREATE_STORE_BACKUP)))
+          .addMethod(
+            getVerifyStoreBackupMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest,
+                com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse>(
+                  this, METHODID_VERIFY_STORE_BACKUP)))
+          .addMethod(
+            getClearUnavailableStoreBackupsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest,
+                com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse>(
+                  this, METHODID_CLEAR_UNAVAILABLE_STORE_BACKUPS)))
+          .addMethod(
+            getRestoreFromStoreBackupMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest,
+                com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse>(
+                  this, METHODID_RESTORE_FROM_STORE_BACKUP)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class StoreBackupStub extends io.grpc.stub.AbstractAsyncStub<StoreBackupStub> {
+    private StoreBackupStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreBackupStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreBackupStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void createStoreBackup(com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCreateStoreBackupMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void verifyStoreBackup(com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getVerifyStoreBackupMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void clearUnavailableStoreBackups(com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getClearUnavailableStoreBackupsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void restoreFromStoreBackup(com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getRestoreFromStoreBackupMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreBackupBlockingStub extends io.grpc.stub.AbstractBlockingStub<StoreBackupBlockingStub> {
+    private StoreBackupBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreBackupBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreBackupBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse createStoreBackup(com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCreateStoreBackupMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse verifyStoreBackup(com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getVerifyStoreBackupMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse clearUnavailableStoreBackups(com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getClearUnavailableStoreBackupsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse restoreFromStoreBackup(com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getRestoreFromStoreBackupMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreBackupFutureStub extends io.grpc.stub.AbstractFutureStub<StoreBackupFutureStub> {
+    private StoreBackupFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreBackupFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreBackupFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse> createStoreBackup(
+        com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCreateStoreBackupMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse> verifyStoreBackup(
+        com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getVerifyStoreBackupMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse> clearUnavailableStoreBackups(
+        com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getClearUnavailableStoreBackupsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse> restoreFromStoreBackup(
+        com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getRestoreFromStoreBackupMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_CREATE_STORE_BACKUP = 0;
+  private static final int METHODID_VERIFY_STORE_BACKUP = 1;
+  private static final int METHODID_CLEAR_UNAVAILABLE_STORE_BACKUPS = 2;
+  private static final int METHODID_RESTORE_FROM_STORE_BACKUP = 3;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final StoreBackupImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(StoreBackupImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_CREATE_STORE_BACKUP:
+          serviceImpl.createStoreBackup((com.alibaba.maxgraph.proto.groot.CreateStoreBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateStoreBackupResponse>) responseObserver);
+          break;
+        case METHODID_VERIFY_STORE_BACKUP:
+          serviceImpl.verifyStoreBackup((com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyStoreBackupResponse>) responseObserver);
+          break;
+        case METHODID_CLEAR_UNAVAILABLE_STORE_BACKUPS:
+          serviceImpl.clearUnavailableStoreBackups((com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.ClearUnavailableStoreBackupsResponse>) responseObserver);
+          break;
+        case METHODID_RESTORE_FROM_STORE_BACKUP:
+          serviceImpl.restoreFromStoreBackup((com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromStoreBackupResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class StoreBackupBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    StoreBackupBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("StoreBackup");
+    }
+  }
+
+  private static final class StoreBackupFileDescriptorSupplier
+      extends StoreBackupBaseDescriptorSupplier {
+    StoreBackupFileDescriptorSupplier() {}
+  }
+
+  private static final class StoreBackupMethodDescriptorSupplier
+      extends StoreBackupBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    StoreBackupMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (StoreBackupGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new StoreBackupFileDescriptorSupplier())
+              .addMethod(getCreateStoreBackupMethod())
+              .addMethod(getVerifyStoreBackupMethod())
+              .addMethod(getClearUnavailableStoreBackupsMethod())
+              .addMethod(getRestoreFromStoreBackupMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,769 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code StoreBackupIdPb}
+ */
+public final class StoreBackupIdPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StoreBackupIdPb)
+    StoreBackupIdPbOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StoreBackupIdPb.newBuilder() to construct.
+  private StoreBackupIdPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StoreBackupIdPb() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new StoreBackupIdPb();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private StoreBackupIdPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            globalBackupId_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              partitionToBackupId_ = com.google.protobuf.MapField.newMapField(
+                  PartitionToBackupIdDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+            partitionToBackupId__ = input.readMessage(
+                PartitionToBackupIdDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            partitionToBackupId_.getMutableMap().put(
+                partitionToBackupId__.getKey(), partitionToBackupId__.getValue());
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_StoreBackupIdPb_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 2:
+        return internalGetPartitionToBackupId();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_StoreBackupIdPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.class, com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder.class);
+  }
+
+  public static final int GLOBALBACKUPID_FIELD_NUMBER = 1;
+  private int globalBackupId_;
+  /**
+   * <code>int32 globalBackupId = 1;</code>
+   * @return The globalBackupId.
+   */
+  @java.lang.Override
+  public int getGlobalBackupId() {
+    return globalBackupId_;
+  }
+
+  public static final int PARTITIONTOBACKUPID_FIELD_NUMBER = 2;
+  private static final class PartitionToBackupIdDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, java.lang.Integer> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, java.lang.Integer>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_StoreBackupIdPb_PartitionToBackupIdEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0);
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, java.lang.Integer> partitionToBackupId_;
+  private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+  internalGetPartitionToBackupId() {
+    if (partitionToBackupId_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PartitionToBackupIdDefaultEntryHolder.defaultEntry);
+    }
+    return partitionToBackupId_;
+  }
+
+  public int getPartitionToBackupIdCount() {
+    return internalGetPartitionToBackupId().getMap().size();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsPartitionToBackupId(
+      int key) {
+    
+    return internalGetPartitionToBackupId().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPartitionToBackupIdMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, java.lang.Integer> getPartitionToBackupId() {
+    return getPartitionToBackupIdMap();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.Integer, java.lang.Integer> getPartitionToBackupIdMap() {
+    return internalGetPartitionToBackupId().getMap();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+  @java.lang.Override
+
+  public int getPartitionToBackupIdOrDefault(
+      int key,
+      int defaultValue) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetPartitionToBackupId().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+  @java.lang.Override
+
+  public int getPartitionToBackupIdOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetPartitionToBackupId().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (globalBackupId_ != 0) {
+      output.writeInt32(1, globalBackupId_);
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeIntegerMapTo(
+        output,
+        internalGetPartitionToBackupId(),
+        PartitionToBackupIdDefaultEntryHolder.defaultEntry,
+        2);
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (globalBackupId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, globalBackupId_);
+    }
+    for (java.util.Map.Entry<java.lang.Integer, java.lang.Integer> entry
+         : internalGetPartitionToBackupId().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+      partitionToBackupId__ = PartitionToBackupIdDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, partitionToBackupId__);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.StoreBackupIdPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.StoreBackupIdPb other = (com.alibaba.maxgraph.proto.groot.StoreBackupIdPb) obj;
+
+    if (getGlobalBackupId()
+        != other.getGlobalBackupId()) return false;
+    if (!internalGetPartitionToBackupId().equals(
+        other.internalGetPartitionToBackupId())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + GLOBALBACKUPID_FIELD_NUMBER;
+    hash = (53 * hash) + getGlobalBackupId();
+    if (!internalGetPartitionToBackupId().getMap().isEmpty()) {
+      hash = (37 * hash) + PARTITIONTOBACKUPID_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetPartitionToBackupId().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.StoreBackupIdPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StoreBackupIdPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StoreBackupIdPb)
+      com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_StoreBackupIdPb_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetPartitionToBackupId();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetMutablePartitionToBackupId();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_StoreBackupIdPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.class, com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      globalBackupId_ = 0;
+
+      internalGetMutablePartitionToBackupId().clear();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_StoreBackupIdPb_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb build() {
+      com.alibaba.maxgraph.proto.groot.StoreBackupIdPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.StoreBackupIdPb result = new com.alibaba.maxgraph.proto.groot.StoreBackupIdPb(this);
+      int from_bitField0_ = bitField0_;
+      result.globalBackupId_ = globalBackupId_;
+      result.partitionToBackupId_ = internalGetPartitionToBackupId();
+      result.partitionToBackupId_.makeImmutable();
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.StoreBackupIdPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.StoreBackupIdPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.StoreBackupIdPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.getDefaultInstance()) return this;
+      if (other.getGlobalBackupId() != 0) {
+        setGlobalBackupId(other.getGlobalBackupId());
+      }
+      internalGetMutablePartitionToBackupId().mergeFrom(
+          other.internalGetPartitionToBackupId());
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.StoreBackupIdPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.StoreBackupIdPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int globalBackupId_ ;
+    /**
+     * <code>int32 globalBackupId = 1;</code>
+     * @return The globalBackupId.
+     */
+    @java.lang.Override
+    public int getGlobalBackupId() {
+      return globalBackupId_;
+    }
+    /**
+     * <code>int32 globalBackupId = 1;</code>
+     * @param value The globalBackupId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGlobalBackupId(int value) {
+      
+      globalBackupId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 globalBackupId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearGlobalBackupId() {
+      
+      globalBackupId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, java.lang.Integer> partitionToBackupId_;
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetPartitionToBackupId() {
+      if (partitionToBackupId_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PartitionToBackupIdDefaultEntryHolder.defaultEntry);
+      }
+      return partitionToBackupId_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetMutablePartitionToBackupId() {
+      onChanged();;
+      if (partitionToBackupId_ == null) {
+        partitionToBackupId_ = com.google.protobuf.MapField.newMapField(
+            PartitionToBackupIdDefaultEntryHolder.defaultEntry);
+      }
+      if (!partitionToBackupId_.isMutable()) {
+        partitionToBackupId_ = partitionToBackupId_.copy();
+      }
+      return partitionToBackupId_;
+    }
+
+    public int getPartitionToBackupIdCount() {
+      return internalGetPartitionToBackupId().getMap().size();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsPartitionToBackupId(
+        int key) {
+      
+      return internalGetPartitionToBackupId().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPartitionToBackupIdMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer> getPartitionToBackupId() {
+      return getPartitionToBackupIdMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, java.lang.Integer> getPartitionToBackupIdMap() {
+      return internalGetPartitionToBackupId().getMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+     */
+    @java.lang.Override
+
+    public int getPartitionToBackupIdOrDefault(
+        int key,
+        int defaultValue) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetPartitionToBackupId().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+     */
+    @java.lang.Override
+
+    public int getPartitionToBackupIdOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetPartitionToBackupId().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearPartitionToBackupId() {
+      internalGetMutablePartitionToBackupId().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+     */
+
+    public Builder removePartitionToBackupId(
+        int key) {
+      
+      internalGetMutablePartitionToBackupId().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer>
+    getMutablePartitionToBackupId() {
+      return internalGetMutablePartitionToBackupId().getMutableMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+     */
+    public Builder putPartitionToBackupId(
+        int key,
+        int value) {
+      
+      
+      internalGetMutablePartitionToBackupId().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+     */
+
+    public Builder putAllPartitionToBackupId(
+        java.util.Map<java.lang.Integer, java.lang.Integer> values) {
+      internalGetMutablePartitionToBackupId().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StoreBackupIdPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:StoreBackupIdPb)
+  private static final com.alibaba.maxgraph.proto.groot.StoreBackupIdPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.StoreBackupIdPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreBackupIdPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StoreBackupIdPb>
+      PARSER = new com.google.protobuf.AbstractParser<StoreBackupIdPb>() {
+    @java.lang.Override
+    public StoreBackupIdPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new StoreBackupIdPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StoreBackupIdPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StoreBackupIdPb> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,49 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreBackupIdPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreBackupIdPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 globalBackupId = 1;</code>
+   * @return The globalBackupId.
+   */
+  int getGlobalBackupId();
+
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+  int getPartitionToBackupIdCount();
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+  boolean containsPartitionToBackupId(
+      int key);
+  /**
+   * Use {@link #getPartitionToBackupIdMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, java.lang.Integer>
+  getPartitionToBackupId();
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+  java.util.Map<java.lang.Integer, java.lang.Integer>
+  getPartitionToBackupIdMap();
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+
+  int getPartitionToBackupIdOrDefault(
+      int key,
+      int defaultValue);
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 2;</code>
+   */
+
+  int getPartitionToBackupIdOrThrow(
+      int key);
+}
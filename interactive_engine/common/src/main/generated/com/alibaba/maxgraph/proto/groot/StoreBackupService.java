@@ -0,0 +1,199 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class StoreBackupService {
+  private StoreBackupService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreBackupIdPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreBackupIdPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreBackupIdPb_PartitionToBackupIdEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreBackupIdPb_PartitionToBackupIdEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateStoreBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateStoreBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VerifyStoreBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VerifyStoreBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VerifyStoreBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VerifyStoreBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateStoreBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateStoreBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PartitionBackupIdListPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PartitionBackupIdListPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClearUnavailableStoreBackupsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClearUnavailableStoreBackupsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClearUnavailableStoreBackupsRequest_PartitionToReadyBackupIdsEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClearUnavailableStoreBackupsRequest_PartitionToReadyBackupIdsEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClearUnavailableStoreBackupsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClearUnavailableStoreBackupsResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestoreFromStoreBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestoreFromStoreBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestoreFromStoreBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestoreFromStoreBackupResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\032store_backup_service.proto\"\255\001\n\017StoreBa" +
+      "ckupIdPb\022\026\n\016globalBackupId\030\001 \001(\005\022F\n\023part" +
+      "itionToBackupId\030\002 \003(\0132).StoreBackupIdPb." +
+      "PartitionToBackupIdEntry\032:\n\030PartitionToB" +
+      "ackupIdEntry\022\013\n\003key\030\001 \001(\005\022\r\n\005value\030\002 \001(\005" +
+      ":\0028\001\"2\n\030CreateStoreBackupRequest\022\026\n\016glob" +
+      "alBackupId\030\001 \001(\005\"C\n\030VerifyStoreBackupReq" +
+      "uest\022\'\n\rstoreBackupId\030\001 \001(\0132\020.StoreBacku" +
+      "pIdPb\"\033\n\031VerifyStoreBackupResponse\"D\n\031Cr" +
+      "eateStoreBackupResponse\022\'\n\rstoreBackupId" +
+      "\030\001 \001(\0132\020.StoreBackupIdPb\":\n\027PartitionBac" +
+      "kupIdListPb\022\037\n\027readyPartitionBackupIds\030\001" +
+      " \003(\005\"\351\001\n#ClearUnavailableStoreBackupsReq" +
+      "uest\022f\n\031partitionToReadyBackupIds\030\001 \003(\0132" +
+      "C.ClearUnavailableStoreBackupsRequest.Pa" +
+      "rtitionToReadyBackupIdsEntry\032Z\n\036Partitio" +
+      "nToReadyBackupIdsEntry\022\013\n\003key\030\001 \001(\005\022\'\n\005v" +
+      "alue\030\002 \001(\0132\030.PartitionBackupIdListPb:\0028\001" +
+      "\"&\n$ClearUnavailableStoreBackupsResponse" +
+      "\"c\n\035RestoreFromStoreBackupRequest\022\'\n\rsto" +
+      "reBackupId\030\001 \001(\0132\020.StoreBackupIdPb\022\031\n\021re" +
+      "store_root_path\030\002 \001(\t\" \n\036RestoreFromStor" +
+      "eBackupResponse2\355\002\n\013StoreBackup\022J\n\021creat" +
+      "eStoreBackup\022\031.CreateStoreBackupRequest\032" +
+      "\032.CreateStoreBackupResponse\022J\n\021verifySto" +
+      "reBackup\022\031.VerifyStoreBackupRequest\032\032.Ve" +
+      "rifyStoreBackupResponse\022k\n\034clearUnavaila" +
+      "bleStoreBackups\022$.ClearUnavailableStoreB" +
+      "ackupsRequest\032%.ClearUnavailableStoreBac" +
+      "kupsResponse\022Y\n\026restoreFromStoreBackup\022\036" +
+      ".RestoreFromStoreBackupRequest\032\037.Restore" +
+      "FromStoreBackupResponseB$\n com.alibaba.m" +
+      "axgraph.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_StoreBackupIdPb_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_StoreBackupIdPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreBackupIdPb_descriptor,
+        new java.lang.String[] { "GlobalBackupId", "PartitionToBackupId", });
+    internal_static_StoreBackupIdPb_PartitionToBackupIdEntry_descriptor =
+      internal_static_StoreBackupIdPb_descriptor.getNestedTypes().get(0);
+    internal_static_StoreBackupIdPb_PartitionToBackupIdEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreBackupIdPb_PartitionToBackupIdEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_CreateStoreBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CreateStoreBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateStoreBackupRequest_descriptor,
+        new java.lang.String[] { "GlobalBackupId", });
+    internal_static_VerifyStoreBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_VerifyStoreBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VerifyStoreBackupRequest_descriptor,
+        new java.lang.String[] { "StoreBackupId", });
+    internal_static_VerifyStoreBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_VerifyStoreBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VerifyStoreBackupResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_CreateStoreBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_CreateStoreBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateStoreBackupResponse_descriptor,
+        new java.lang.String[] { "StoreBackupId", });
+    internal_static_PartitionBackupIdListPb_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_PartitionBackupIdListPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PartitionBackupIdListPb_descriptor,
+        new java.lang.String[] { "ReadyPartitionBackupIds", });
+    internal_static_ClearUnavailableStoreBackupsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_ClearUnavailableStoreBackupsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClearUnavailableStoreBackupsRequest_descriptor,
+        new java.lang.String[] { "PartitionToReadyBackupIds", });
+    internal_static_ClearUnavailableStoreBackupsRequest_PartitionToReadyBackupIdsEntry_descriptor =
+      internal_static_ClearUnavailableStoreBackupsRequest_descriptor.getNestedTypes().get(0);
+    internal_static_ClearUnavailableStoreBackupsRequest_PartitionToReadyBackupIdsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClearUnavailableStoreBackupsRequest_PartitionToReadyBackupIdsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_ClearUnavailableStoreBackupsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_ClearUnavailableStoreBackupsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClearUnavailableStoreBackupsResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_RestoreFromStoreBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_RestoreFromStoreBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestoreFromStoreBackupRequest_descriptor,
+        new java.lang.String[] { "StoreBackupId", "RestoreRootPath", });
+    internal_static_RestoreFromStoreBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_RestoreFromStoreBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestoreFromStoreBackupResponse_descriptor,
+        new java.lang.String[] { });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
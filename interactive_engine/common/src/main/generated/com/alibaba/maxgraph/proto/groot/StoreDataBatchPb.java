@@ -0,0 +1,1290 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code StoreDataBatchPb}
+ */
+public final class StoreDataBatchPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StoreDataBatchPb)
+    StoreDataBatchPbOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StoreDataBatchPb.newBuilder() to construct.
+  private StoreDataBatchPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StoreDataBatchPb() {
+    requestId_ = "";
+    dataBatch_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new StoreDataBatchPb();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private StoreDataBatchPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            requestId_ = s;
+            break;
+          }
+          case 16: {
+
+            queueId_ = input.readInt32();
+            break;
+          }
+          case 24: {
+
+            snapshotId_ = input.readInt64();
+            break;
+          }
+          case 32: {
+
+            offset_ = input.readInt64();
+            break;
+          }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              dataBatch_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.PartitionToBatchPb>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            dataBatch_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.parser(), extensionRegistry));
+            break;
+          }
+          case 50: {
+            com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder subBuilder = null;
+            if (trace_ != null) {
+              subBuilder = trace_.toBuilder();
+            }
+            trace_ = input.readMessage(com.alibaba.maxgraph.proto.groot.WriteTracePb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(trace_);
+              trace_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        dataBatch_ = java.util.Collections.unmodifiableList(dataBatch_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_StoreDataBatchPb_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_StoreDataBatchPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.class, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder.class);
+  }
+
+  public static final int REQUESTID_FIELD_NUMBER = 1;
+  private volatile java.lang.Object requestId_;
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public java.lang.String getRequestId() {
+    java.lang.Object ref = requestId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      requestId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRequestIdBytes() {
+    java.lang.Object ref = requestId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      requestId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int QUEUEID_FIELD_NUMBER = 2;
+  private int queueId_;
+  /**
+   * <code>int32 queueId = 2;</code>
+   * @return The queueId.
+   */
+  @java.lang.Override
+  public int getQueueId() {
+    return queueId_;
+  }
+
+  public static final int SNAPSHOTID_FIELD_NUMBER = 3;
+  private long snapshotId_;
+  /**
+   * <code>int64 snapshotId = 3;</code>
+   * @return The snapshotId.
+   */
+  @java.lang.Override
+  public long getSnapshotId() {
+    return snapshotId_;
+  }
+
+  public static final int OFFSET_FIELD_NUMBER = 4;
+  private long offset_;
+  /**
+   * <code>int64 offset = 4;</code>
+   * @return The offset.
+   */
+  @java.lang.Override
+  public long getOffset() {
+    return offset_;
+  }
+
+  public static final int DATABATCH_FIELD_NUMBER = 5;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.PartitionToBatchPb> dataBatch_;
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.groot.PartitionToBatchPb> getDataBatchList() {
+    return dataBatch_;
+  }
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder> 
+      getDataBatchOrBuilderList() {
+    return dataBatch_;
+  }
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  @java.lang.Override
+  public int getDataBatchCount() {
+    return dataBatch_.size();
+  }
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb getDataBatch(int index) {
+    return dataBatch_.get(index);
+  }
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder getDataBatchOrBuilder(
+      int index) {
+    return dataBatch_.get(index);
+  }
+
+  public static final int TRACE_FIELD_NUMBER = 6;
+  private com.alibaba.maxgraph.proto.groot.WriteTracePb trace_;
+  /**
+   * <code>.WriteTracePb trace = 6;</code>
+   * @return Whether the trace field is set.
+   */
+  @java.lang.Override
+  public boolean hasTrace() {
+    return trace_ != null;
+  }
+  /**
+   * <code>.WriteTracePb trace = 6;</code>
+   * @return The trace.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.WriteTracePb getTrace() {
+    return trace_ == null ? com.alibaba.maxgraph.proto.groot.WriteTracePb.getDefaultInstance() : trace_;
+  }
+  /**
+   * <code>.WriteTracePb trace = 6;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder getTraceOrBuilder() {
+    return getTrace();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, requestId_);
+    }
+    if (queueId_ != 0) {
+      output.writeInt32(2, queueId_);
+    }
+    if (snapshotId_ != 0L) {
+      output.writeInt64(3, snapshotId_);
+    }
+    if (offset_ != 0L) {
+      output.writeInt64(4, offset_);
+    }
+    for (int i = 0; i < dataBatch_.size(); i++) {
+      output.writeMessage(5, dataBatch_.get(i));
+    }
+    if (trace_ != null) {
+      output.writeMessage(6, getTrace());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, requestId_);
+    }
+    if (queueId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, queueId_);
+    }
+    if (snapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, snapshotId_);
+    }
+    if (offset_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, offset_);
+    }
+    for (int i = 0; i < dataBatch_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, dataBatch_.get(i));
+    }
+    if (trace_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, getTrace());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.StoreDataBatchPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.StoreDataBatchPb other = (com.alibaba.maxgraph.proto.groot.StoreDataBatchPb) obj;
+
+    if (!getRequestId()
+        .equals(other.getRequestId())) return false;
+    if (getQueueId()
+        != other.getQueueId()) return false;
+    if (getSnapshotId()
+        != other.getSnapshotId()) return false;
+    if (getOffset()
+        != other.getOffset()) return false;
+    if (!getDataBatchList()
+        .equals(other.getDataBatchList())) return false;
+    if (hasTrace() != other.hasTrace()) return false;
+    if (hasTrace()) {
+      if (!getTrace()
+          .equals(other.getTrace())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+    hash = (53 * hash) + getRequestId().hashCode();
+    hash = (37 * hash) + QUEUEID_FIELD_NUMBER;
+    hash = (53 * hash) + getQueueId();
+    hash = (37 * hash) + SNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSnapshotId());
+    hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getOffset());
+    if (getDataBatchCount() > 0) {
+      hash = (37 * hash) + DATABATCH_FIELD_NUMBER;
+      hash = (53 * hash) + getDataBatchList().hashCode();
+    }
+    if (hasTrace()) {
+      hash = (37 * hash) + TRACE_FIELD_NUMBER;
+      hash = (53 * hash) + getTrace().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.StoreDataBatchPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StoreDataBatchPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StoreDataBatchPb)
+      com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_StoreDataBatchPb_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_StoreDataBatchPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.class, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getDataBatchFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      requestId_ = "";
+
+      queueId_ = 0;
+
+      snapshotId_ = 0L;
+
+      offset_ = 0L;
+
+      if (dataBatchBuilder_ == null) {
+        dataBatch_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        dataBatchBuilder_.clear();
+      }
+      if (traceBuilder_ == null) {
+        trace_ = null;
+      } else {
+        trace_ = null;
+        traceBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_StoreDataBatchPb_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb build() {
+      com.alibaba.maxgraph.proto.groot.StoreDataBatchPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.StoreDataBatchPb result = new com.alibaba.maxgraph.proto.groot.StoreDataBatchPb(this);
+      int from_bitField0_ = bitField0_;
+      result.requestId_ = requestId_;
+      result.queueId_ = queueId_;
+      result.snapshotId_ = snapshotId_;
+      result.offset_ = offset_;
+      if (dataBatchBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          dataBatch_ = java.util.Collections.unmodifiableList(dataBatch_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.dataBatch_ = dataBatch_;
+      } else {
+        result.dataBatch_ = dataBatchBuilder_.build();
+      }
+      if (traceBuilder_ == null) {
+        result.trace_ = trace_;
+      } else {
+        result.trace_ = traceBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.StoreDataBatchPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.StoreDataBatchPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.StoreDataBatchPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.getDefaultInstance()) return this;
+      if (!other.getRequestId().isEmpty()) {
+        requestId_ = other.requestId_;
+        onChanged();
+      }
+      if (other.getQueueId() != 0) {
+        setQueueId(other.getQueueId());
+      }
+      if (other.getSnapshotId() != 0L) {
+        setSnapshotId(other.getSnapshotId());
+      }
+      if (other.getOffset() != 0L) {
+        setOffset(other.getOffset());
+      }
+      if (dataBatchBuilder_ == null) {
+        if (!other.dataBatch_.isEmpty()) {
+          if (dataBatch_.isEmpty()) {
+            dataBatch_ = other.dataBatch_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDataBatchIsMutable();
+            dataBatch_.addAll(other.dataBatch_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.dataBatch_.isEmpty()) {
+          if (dataBatchBuilder_.isEmpty()) {
+            dataBatchBuilder_.dispose();
+            dataBatchBuilder_ = null;
+            dataBatch_ = other.dataBatch_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            dataBatchBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getDataBatchFieldBuilder() : null;
+          } else {
+            dataBatchBuilder_.addAllMessages(other.dataBatch_);
+          }
+        }
+      }
+      if (other.hasTrace()) {
+        mergeTrace(other.getTrace());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.StoreDataBatchPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.StoreDataBatchPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object requestId_ = "";
+    /**
+     * <code>string requestId = 1;</code>
+     * @return The requestId.
+     */
+    public java.lang.String getRequestId() {
+      java.lang.Object ref = requestId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        requestId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @return The bytes for requestId.
+     */
+    public com.google.protobuf.ByteString
+        getRequestIdBytes() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        requestId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      
+      requestId_ = getDefaultInstance().getRequestId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @param value The bytes for requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int queueId_ ;
+    /**
+     * <code>int32 queueId = 2;</code>
+     * @return The queueId.
+     */
+    @java.lang.Override
+    public int getQueueId() {
+      return queueId_;
+    }
+    /**
+     * <code>int32 queueId = 2;</code>
+     * @param value The queueId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setQueueId(int value) {
+      
+      queueId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 queueId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearQueueId() {
+      
+      queueId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long snapshotId_ ;
+    /**
+     * <code>int64 snapshotId = 3;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+    /**
+     * <code>int64 snapshotId = 3;</code>
+     * @param value The snapshotId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSnapshotId(long value) {
+      
+      snapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 snapshotId = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSnapshotId() {
+      
+      snapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long offset_ ;
+    /**
+     * <code>int64 offset = 4;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
+    }
+    /**
+     * <code>int64 offset = 4;</code>
+     * @param value The offset to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOffset(long value) {
+      
+      offset_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 offset = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOffset() {
+      
+      offset_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.PartitionToBatchPb> dataBatch_ =
+      java.util.Collections.emptyList();
+    private void ensureDataBatchIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        dataBatch_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.PartitionToBatchPb>(dataBatch_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.PartitionToBatchPb, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder, com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder> dataBatchBuilder_;
+
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.PartitionToBatchPb> getDataBatchList() {
+      if (dataBatchBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(dataBatch_);
+      } else {
+        return dataBatchBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public int getDataBatchCount() {
+      if (dataBatchBuilder_ == null) {
+        return dataBatch_.size();
+      } else {
+        return dataBatchBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb getDataBatch(int index) {
+      if (dataBatchBuilder_ == null) {
+        return dataBatch_.get(index);
+      } else {
+        return dataBatchBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder setDataBatch(
+        int index, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb value) {
+      if (dataBatchBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataBatchIsMutable();
+        dataBatch_.set(index, value);
+        onChanged();
+      } else {
+        dataBatchBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder setDataBatch(
+        int index, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder builderForValue) {
+      if (dataBatchBuilder_ == null) {
+        ensureDataBatchIsMutable();
+        dataBatch_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        dataBatchBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder addDataBatch(com.alibaba.maxgraph.proto.groot.PartitionToBatchPb value) {
+      if (dataBatchBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataBatchIsMutable();
+        dataBatch_.add(value);
+        onChanged();
+      } else {
+        dataBatchBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder addDataBatch(
+        int index, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb value) {
+      if (dataBatchBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataBatchIsMutable();
+        dataBatch_.add(index, value);
+        onChanged();
+      } else {
+        dataBatchBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder addDataBatch(
+        com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder builderForValue) {
+      if (dataBatchBuilder_ == null) {
+        ensureDataBatchIsMutable();
+        dataBatch_.add(builderForValue.build());
+        onChanged();
+      } else {
+        dataBatchBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder addDataBatch(
+        int index, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder builderForValue) {
+      if (dataBatchBuilder_ == null) {
+        ensureDataBatchIsMutable();
+        dataBatch_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        dataBatchBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder addAllDataBatch(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.PartitionToBatchPb> values) {
+      if (dataBatchBuilder_ == null) {
+        ensureDataBatchIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dataBatch_);
+        onChanged();
+      } else {
+        dataBatchBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder clearDataBatch() {
+      if (dataBatchBuilder_ == null) {
+        dataBatch_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        dataBatchBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public Builder removeDataBatch(int index) {
+      if (dataBatchBuilder_ == null) {
+        ensureDataBatchIsMutable();
+        dataBatch_.remove(index);
+        onChanged();
+      } else {
+        dataBatchBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder getDataBatchBuilder(
+        int index) {
+      return getDataBatchFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder getDataBatchOrBuilder(
+        int index) {
+      if (dataBatchBuilder_ == null) {
+        return dataBatch_.get(index);  } else {
+        return dataBatchBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder> 
+         getDataBatchOrBuilderList() {
+      if (dataBatchBuilder_ != null) {
+        return dataBatchBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(dataBatch_);
+      }
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder addDataBatchBuilder() {
+      return getDataBatchFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder addDataBatchBuilder(
+        int index) {
+      return getDataBatchFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder> 
+         getDataBatchBuilderList() {
+      return getDataBatchFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.PartitionToBatchPb, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder, com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder> 
+        getDataBatchFieldBuilder() {
+      if (dataBatchBuilder_ == null) {
+        dataBatchBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.PartitionToBatchPb, com.alibaba.maxgraph.proto.groot.PartitionToBatchPb.Builder, com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder>(
+                dataBatch_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        dataBatch_ = null;
+      }
+      return dataBatchBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.WriteTracePb trace_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.WriteTracePb, com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder, com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder> traceBuilder_;
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     * @return Whether the trace field is set.
+     */
+    public boolean hasTrace() {
+      return traceBuilder_ != null || trace_ != null;
+    }
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     * @return The trace.
+     */
+    public com.alibaba.maxgraph.proto.groot.WriteTracePb getTrace() {
+      if (traceBuilder_ == null) {
+        return trace_ == null ? com.alibaba.maxgraph.proto.groot.WriteTracePb.getDefaultInstance() : trace_;
+      } else {
+        return traceBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     */
+    public Builder setTrace(com.alibaba.maxgraph.proto.groot.WriteTracePb value) {
+      if (traceBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        trace_ = value;
+        onChanged();
+      } else {
+        traceBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     */
+    public Builder setTrace(
+        com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder builderForValue) {
+      if (traceBuilder_ == null) {
+        trace_ = builderForValue.build();
+        onChanged();
+      } else {
+        traceBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     */
+    public Builder mergeTrace(com.alibaba.maxgraph.proto.groot.WriteTracePb value) {
+      if (traceBuilder_ == null) {
+        if (trace_ != null) {
+          trace_ =
+            com.alibaba.maxgraph.proto.groot.WriteTracePb.newBuilder(trace_).mergeFrom(value).buildPartial();
+        } else {
+          trace_ = value;
+        }
+        onChanged();
+      } else {
+        traceBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     */
+    public Builder clearTrace() {
+      if (traceBuilder_ == null) {
+        trace_ = null;
+        onChanged();
+      } else {
+        trace_ = null;
+        traceBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder getTraceBuilder() {
+      
+      onChanged();
+      return getTraceFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder getTraceOrBuilder() {
+      if (traceBuilder_ != null) {
+        return traceBuilder_.getMessageOrBuilder();
+      } else {
+        return trace_ == null ?
+            com.alibaba.maxgraph.proto.groot.WriteTracePb.getDefaultInstance() : trace_;
+      }
+    }
+    /**
+     * <code>.WriteTracePb trace = 6;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.WriteTracePb, com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder, com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder> 
+        getTraceFieldBuilder() {
+      if (traceBuilder_ == null) {
+        traceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.WriteTracePb, com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder, com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder>(
+                getTrace(),
+                getParentForChildren(),
+                isClean());
+        trace_ = null;
+      }
+      return traceBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StoreDataBatchPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:StoreDataBatchPb)
+  private static final com.alibaba.maxgraph.proto.groot.StoreDataBatchPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.StoreDataBatchPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreDataBatchPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StoreDataBatchPb>
+      PARSER = new com.google.protobuf.AbstractParser<StoreDataBatchPb>() {
+    @java.lang.Override
+    public StoreDataBatchPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new StoreDataBatchPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StoreDataBatchPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StoreDataBatchPb> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
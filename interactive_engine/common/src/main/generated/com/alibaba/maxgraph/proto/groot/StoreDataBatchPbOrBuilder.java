@@ -0,0 +1,78 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreDataBatchPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreDataBatchPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  java.lang.String getRequestId();
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  com.google.protobuf.ByteString
+      getRequestIdBytes();
+
+  /**
+   * <code>int32 queueId = 2;</code>
+   * @return The queueId.
+   */
+  int getQueueId();
+
+  /**
+   * <code>int64 snapshotId = 3;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>int64 offset = 4;</code>
+   * @return The offset.
+   */
+  long getOffset();
+
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.PartitionToBatchPb> 
+      getDataBatchList();
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.PartitionToBatchPb getDataBatch(int index);
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  int getDataBatchCount();
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder> 
+      getDataBatchOrBuilderList();
+  /**
+   * <code>repeated .PartitionToBatchPb dataBatch = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.PartitionToBatchPbOrBuilder getDataBatchOrBuilder(
+      int index);
+
+  /**
+   * <code>.WriteTracePb trace = 6;</code>
+   * @return Whether the trace field is set.
+   */
+  boolean hasTrace();
+  /**
+   * <code>.WriteTracePb trace = 6;</code>
+   * @return The trace.
+   */
+  com.alibaba.maxgraph.proto.groot.WriteTracePb getTrace();
+  /**
+   * <code>.WriteTracePb trace = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder getTraceOrBuilder();
+}
@@ -0,0 +1,30 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreEdgeResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreEdgeResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.CompositeEdgeId edgeId = 1;</code>
+   * @return Whether the edgeId field is set.
+   */
+  boolean hasEdgeId();
+  /**
+   * <code>.CompositeEdgeId edgeId = 1;</code>
+   * @return The edgeId.
+   */
+  com.alibaba.maxgraph.proto.groot.CompositeEdgeId getEdgeId();
+  /**
+   * <code>.CompositeEdgeId edgeId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.CompositeEdgeIdOrBuilder getEdgeIdOrBuilder();
+
+  /**
+   * <code>bytes properties = 2;</code>
+   * @return The properties.
+   */
+  com.google.protobuf.ByteString getProperties();
+}
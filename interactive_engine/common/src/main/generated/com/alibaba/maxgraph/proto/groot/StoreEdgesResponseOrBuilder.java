@@ -0,0 +1,51 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreEdgesResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreEdgesResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 errorCode = 1;</code>
+   * @return The errorCode.
+   */
+  int getErrorCode();
+
+  /**
+   * <code>string errorMessage = 2;</code>
+   * @return The errorMessage.
+   */
+  java.lang.String getErrorMessage();
+  /**
+   * <code>string errorMessage = 2;</code>
+   * @return The bytes for errorMessage.
+   */
+  com.google.protobuf.ByteString
+      getErrorMessageBytes();
+
+  /**
+   * <code>repeated .StoreEdgeResult results = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.StoreEdgeResult> 
+      getResultsList();
+  /**
+   * <code>repeated .StoreEdgeResult results = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreEdgeResult getResults(int index);
+  /**
+   * <code>repeated .StoreEdgeResult results = 3;</code>
+   */
+  int getResultsCount();
+  /**
+   * <code>repeated .StoreEdgeResult results = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreEdgeResultOrBuilder> 
+      getResultsOrBuilderList();
+  /**
+   * <code>repeated .StoreEdgeResult results = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreEdgeResultOrBuilder getResultsOrBuilder(
+      int index);
+}
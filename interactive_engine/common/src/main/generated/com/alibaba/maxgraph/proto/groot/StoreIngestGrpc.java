@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: store_ingest_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class StoreIngestGrpc {
+
+  private StoreIngestGrpc() {}
+
+  public static final String SERVICE_NAME = "StoreIngest";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.StoreIngestRequest,
+      com.alibaba.maxgraph.proto.groot.StoreIngestResponse> getStoreIngestMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "storeIngest",
+      requestType = com.alibaba.maxgraph.proto.groot.StoreIngestRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreIngestResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.StoreIngestRequest,
+      com.alibaba.maxgraph.proto.groot.StoreIngestResponse> getStoreIngestMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.StoreIngestRequest, com.alibaba.maxgraph.proto.groot.StoreIngestResponse> getStoreIngestMethod;
+    if ((getStoreIngestMethod = StoreIngestGrpc.getStoreIngestMethod) == null) {
+      synchronized (StoreIngestGrpc.class) {
+        if ((getStoreIngestMethod = StoreIngestGrpc.getStoreIngestMethod) == null) {
+          StoreIngestGrpc.getStoreIngestMethod = getStoreIngestMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.StoreIngestRequest, com.alibaba.maxgraph.proto.groot.StoreIngestResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "storeIngest"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreIngestRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreIngestResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreIngestMethodDescriptorSupplier("storeIngest"))
+              .build();
+        }
+      }
+    }
+    return getStoreIngestMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static StoreIngestStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreIngestStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreIngestStub>() {
+        @java.lang.Override
+        public StoreIngestStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreIngestStub(channel, callOptions);
+        }
+      };
+    return StoreIngestStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static StoreIngestBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreIngestBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreIngestBlockingStub>() {
+        @java.lang.Override
+        public StoreIngestBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreIngestBlockingStub(channel, callOptions);
+        }
+      };
+    return StoreIngestBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static StoreIngestFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreIngestFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreIngestFutureStub>() {
+        @java.lang.Override
+        public StoreIngestFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreIngestFutureStub(channel, callOptions);
+        }
+      };
+    return StoreIngestFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class StoreIngestImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void storeIngest(com.alibaba.maxgraph.proto.groot.StoreIngestRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreIngestResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStoreIngestMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getStoreIngestMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.StoreIngestRequest,
+                com.alibaba.maxgraph.proto.groot.StoreIngestResponse>(
+                  this, METHODID_STORE_INGEST)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class StoreIngestStub extends io.grpc.stub.AbstractAsyncStub<StoreIngestStub> {
+    private StoreIngestStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreIngestStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreIngestStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void storeIngest(com.alibaba.maxgraph.proto.groot.StoreIngestRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreIngestResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getStoreIngestMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreIngestBlockingStub extends io.grpc.stub.AbstractBlockingStub<StoreIngestBlockingStub> {
+    private StoreIngestBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreIngestBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreIngestBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreIngestResponse storeIngest(com.alibaba.maxgraph.proto.groot.StoreIngestRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getStoreIngestMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreIngestFutureStub extends io.grpc.stub.AbstractFutureStub<StoreIngestFutureStub> {
+    private StoreIngestFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreIngestFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreIngestFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreIngestResponse> storeIngest(
+        com.alibaba.maxgraph.proto.groot.StoreIngestRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getStoreIngestMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_STORE_INGEST = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final StoreIngestImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(StoreIngestImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_STORE_INGEST:
+          serviceImpl.storeIngest((com.alibaba.maxgraph.proto.groot.StoreIngestRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreIngestResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class StoreIngestBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    StoreIngestBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreIngestService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("StoreIngest");
+    }
+  }
+
+  private static final class StoreIngestFileDescriptorSupplier
+      extends StoreIngestBaseDescriptorSupplier {
+    StoreIngestFileDescriptorSupplier() {}
+  }
+
+  private static final class StoreIngestMethodDescriptorSupplier
+      extends StoreIngestBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    StoreIngestMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (StoreIngestGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new StoreIngestFileDescriptorSupplier())
+              .addMethod(getStoreIngestMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_ingest_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreIngestRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreIngestRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string dataPath = 1;</code>
+   * @return The dataPath.
+   */
+  java.lang.String getDataPath();
+  /**
+   * <code>string dataPath = 1;</code>
+   * @return The bytes for dataPath.
+   */
+  com.google.protobuf.ByteString
+      getDataPathBytes();
+}
@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_ingest_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreIngestResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreIngestResponse)
+    com.google.protobuf.MessageOrBuilder {
+}
@@ -0,0 +1,64 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_ingest_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class StoreIngestService {
+  private StoreIngestService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreIngestRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreIngestRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreIngestResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreIngestResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\032store_ingest_service.proto\032\017sdk/model." +
+      "proto\"&\n\022StoreIngestRequest\022\020\n\010dataPath\030" +
+      "\001 \001(\t\"\025\n\023StoreIngestResponse2G\n\013StoreIng" +
+      "est\0228\n\013storeIngest\022\023.StoreIngestRequest\032" +
+      "\024.StoreIngestResponseB$\n com.alibaba.max" +
+      "graph.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        });
+    internal_static_StoreIngestRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_StoreIngestRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreIngestRequest_descriptor,
+        new java.lang.String[] { "DataPath", });
+    internal_static_StoreIngestResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_StoreIngestResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreIngestResponse_descriptor,
+        new java.lang.String[] { });
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,794 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: store_read_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class StoreReadGrpc {
+
+  private StoreReadGrpc() {}
+
+  public static final String SERVICE_NAME = "StoreRead";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ScanStoreRequest,
+      com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> getScanVerticesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "scanVertices",
+      requestType = com.alibaba.maxgraph.proto.groot.ScanStoreRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreVerticesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ScanStoreRequest,
+      com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> getScanVerticesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ScanStoreRequest, com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> getScanVerticesMethod;
+    if ((getScanVerticesMethod = StoreReadGrpc.getScanVerticesMethod) == null) {
+      synchronized (StoreReadGrpc.class) {
+        if ((getScanVerticesMethod = StoreReadGrpc.getScanVerticesMethod) == null) {
+          StoreReadGrpc.getScanVerticesMethod = getScanVerticesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.ScanStoreRequest, com.alibaba.maxgraph.proto.groot.StoreVerticesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "scanVertices"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.ScanStoreRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreVerticesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreReadMethodDescriptorSupplier("scanVertices"))
+              .build();
+        }
+      }
+    }
+    return getScanVerticesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ScanStoreRequest,
+      com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> getScanEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "scanEdges",
+      requestType = com.alibaba.maxgraph.proto.groot.ScanStoreRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreEdgesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ScanStoreRequest,
+      com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> getScanEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.ScanStoreRequest, com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> getScanEdgesMethod;
+    if ((getScanEdgesMethod = StoreReadGrpc.getScanEdgesMethod) == null) {
+      synchronized (StoreReadGrpc.class) {
+        if ((getScanEdgesMethod = StoreReadGrpc.getScanEdgesMethod) == null) {
+          StoreReadGrpc.getScanEdgesMethod = getScanEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.ScanStoreRequest, com.alibaba.maxgraph.proto.groot.StoreEdgesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "scanEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.ScanStoreRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreEdgesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreReadMethodDescriptorSupplier("scanEdges"))
+              .build();
+        }
+      }
+    }
+    return getScanEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> getGetOutVerticesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getOutVertices",
+      requestType = com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> getGetOutVerticesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> getGetOutVerticesMethod;
+    if ((getGetOutVerticesMethod = StoreReadGrpc.getGetOutVerticesMethod) == null) {
+      synchronized (StoreReadGrpc.class) {
+        if ((getGetOutVerticesMethod = StoreReadGrpc.getGetOutVerticesMethod) == null) {
+          StoreReadGrpc.getGetOutVerticesMethod = getGetOutVerticesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getOutVertices"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreReadMethodDescriptorSupplier("getOutVertices"))
+              .build();
+        }
+      }
+    }
+    return getGetOutVerticesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> getGetInVerticesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getInVertices",
+      requestType = com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> getGetInVerticesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> getGetInVerticesMethod;
+    if ((getGetInVerticesMethod = StoreReadGrpc.getGetInVerticesMethod) == null) {
+      synchronized (StoreReadGrpc.class) {
+        if ((getGetInVerticesMethod = StoreReadGrpc.getGetInVerticesMethod) == null) {
+          StoreReadGrpc.getGetInVerticesMethod = getGetInVerticesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getInVertices"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreReadMethodDescriptorSupplier("getInVertices"))
+              .build();
+        }
+      }
+    }
+    return getGetInVerticesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> getGetOutEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getOutEdges",
+      requestType = com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> getGetOutEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> getGetOutEdgesMethod;
+    if ((getGetOutEdgesMethod = StoreReadGrpc.getGetOutEdgesMethod) == null) {
+      synchronized (StoreReadGrpc.class) {
+        if ((getGetOutEdgesMethod = StoreReadGrpc.getGetOutEdgesMethod) == null) {
+          StoreReadGrpc.getGetOutEdgesMethod = getGetOutEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getOutEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreReadMethodDescriptorSupplier("getOutEdges"))
+              .build();
+        }
+      }
+    }
+    return getGetOutEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> getGetInEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getInEdges",
+      requestType = com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> getGetInEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> getGetInEdgesMethod;
+    if ((getGetInEdgesMethod = StoreReadGrpc.getGetInEdgesMethod) == null) {
+      synchronized (StoreReadGrpc.class) {
+        if ((getGetInEdgesMethod = StoreReadGrpc.getGetInEdgesMethod) == null) {
+          StoreReadGrpc.getGetInEdgesMethod = getGetInEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getInEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreReadMethodDescriptorSupplier("getInEdges"))
+              .build();
+        }
+      }
+    }
+    return getGetInEdgesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> getQueryVerticesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "queryVertices",
+      requestType = com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreVerticesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> getQueryVerticesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> getQueryVerticesMethod;
+    if ((getQueryVerticesMethod = StoreReadGrpc.getQueryVerticesMethod) == null) {
+      synchronized (StoreReadGrpc.class) {
+        if ((getQueryVerticesMethod = StoreReadGrpc.getQueryVerticesMethod) == null) {
+          StoreReadGrpc.getQueryVerticesMethod = getQueryVerticesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest, com.alibaba.maxgraph.proto.groot.StoreVerticesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "queryVertices"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreVerticesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreReadMethodDescriptorSupplier("queryVertices"))
+              .build();
+        }
+      }
+    }
+    return getQueryVerticesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.EdgeIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> getQueryEdgesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "queryEdges",
+      requestType = com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.StoreEdgesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.EdgeIdsRequest,
+      com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> getQueryEdgesMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.EdgeIdsRequest, com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> getQueryEdgesMethod;
+    if ((getQueryEdgesMethod = StoreReadGrpc.getQueryEdgesMethod) == null) {
+      synchronized (StoreReadGrpc.class) {
+        if ((getQueryEdgesMethod = StoreReadGrpc.getQueryEdgesMethod) == null) {
+          StoreReadGrpc.getQueryEdgesMethod = getQueryEdgesMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.EdgeIdsRequest, com.alibaba.maxgraph.proto.groot.StoreEdgesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "queryEdges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.EdgeIdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.StoreEdgesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreReadMethodDescriptorSupplier("queryEdges"))
+              .build();
+        }
+      }
+    }
+    return getQueryEdgesMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static StoreReadStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreReadStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreReadStub>() {
+        @java.lang.Override
+        public StoreReadStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreReadStub(channel, callOptions);
+        }
+      };
+    return StoreReadStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static StoreReadBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreReadBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreReadBlockingStub>() {
+        @java.lang.Override
+        public StoreReadBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreReadBlockingStub(channel, callOptions);
+        }
+      };
+    return StoreReadBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static StoreReadFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreReadFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreReadFutureStub>() {
+        @java.lang.Override
+        public StoreReadFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreReadFutureStub(channel, callOptions);
+        }
+      };
+    return StoreReadFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class StoreReadImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void scanVertices(com.alibaba.maxgraph.proto.groot.ScanStoreRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getScanVerticesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void scanEdges(com.alibaba.maxgraph.proto.groot.ScanStoreRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getScanEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getOutVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetOutVerticesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getInVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetInVerticesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getOutEdges(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetOutEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getInEdges(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetInEdgesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void queryVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getQueryVerticesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void queryEdges(com.alibaba.maxgraph.proto.groot.EdgeIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getQueryEdgesMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getScanVerticesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.ScanStoreRequest,
+                com.alibaba.maxgraph.proto.groot.StoreVerticesResponse>(
+                  this, METHODID_SCAN_VERTICES)))
+          .addMethod(
+            getScanEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.ScanStoreRequest,
+                com.alibaba.maxgraph.proto.groot.StoreEdgesResponse>(
+                  this, METHODID_SCAN_EDGES)))
+          .addMethod(
+            getGetOutVerticesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+                com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse>(
+                  this, METHODID_GET_OUT_VERTICES)))
+          .addMethod(
+            getGetInVerticesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+                com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse>(
+                  this, METHODID_GET_IN_VERTICES)))
+          .addMethod(
+            getGetOutEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+                com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse>(
+                  this, METHODID_GET_OUT_EDGES)))
+          .addMethod(
+            getGetInEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+                com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse>(
+                  this, METHODID_GET_IN_EDGES)))
+          .addMethod(
+            getQueryVerticesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest,
+                com.alibaba.maxgraph.proto.groot.StoreVerticesResponse>(
+                  this, METHODID_QUERY_VERTICES)))
+          .addMethod(
+            getQueryEdgesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.EdgeIdsRequest,
+                com.alibaba.maxgraph.proto.groot.StoreEdgesResponse>(
+                  this, METHODID_QUERY_EDGES)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class StoreReadStub extends io.grpc.stub.AbstractAsyncStub<StoreReadStub> {
+    private StoreReadStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreReadStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreReadStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void scanVertices(com.alibaba.maxgraph.proto.groot.ScanStoreRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getScanVerticesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void scanEdges(com.alibaba.maxgraph.proto.groot.ScanStoreRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getScanEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getOutVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetOutVerticesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getInVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetInVerticesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getOutEdges(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetOutEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getInEdges(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetInEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void queryVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getQueryVerticesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void queryEdges(com.alibaba.maxgraph.proto.groot.EdgeIdsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getQueryEdgesMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreReadBlockingStub extends io.grpc.stub.AbstractBlockingStub<StoreReadBlockingStub> {
+    private StoreReadBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreReadBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreReadBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreVerticesResponse scanVertices(com.alibaba.maxgraph.proto.groot.ScanStoreRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getScanVerticesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreEdgesResponse scanEdges(com.alibaba.maxgraph.proto.groot.ScanStoreRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getScanEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse getOutVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetOutVerticesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse getInVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetInVerticesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse getOutEdges(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetOutEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse getInEdges(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetInEdgesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreVerticesResponse queryVertices(com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getQueryVerticesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreEdgesResponse queryEdges(com.alibaba.maxgraph.proto.groot.EdgeIdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getQueryEdgesMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreReadFutureStub extends io.grpc.stub.AbstractFutureStub<StoreReadFutureStub> {
+    private StoreReadFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreReadFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreReadFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> scanVertices(
+        com.alibaba.maxgraph.proto.groot.ScanStoreRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getScanVerticesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> scanEdges(
+        com.alibaba.maxgraph.proto.groot.ScanStoreRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getScanEdgesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> getOutVertices(
+        com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetOutVerticesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse> getInVertices(
+        com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetInVerticesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> getOutEdges(
+        com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetOutEdgesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse> getInEdges(
+        com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetInEdgesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreVerticesResponse> queryVertices(
+        com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getQueryVerticesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.StoreEdgesResponse> queryEdges(
+        com.alibaba.maxgraph.proto.groot.EdgeIdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getQueryEdgesMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_SCAN_VERTICES = 0;
+  private static final int METHODID_SCAN_EDGES = 1;
+  private static final int METHODID_GET_OUT_VERTICES = 2;
+  private static final int METHODID_GET_IN_VERTICES = 3;
+  private static final int METHODID_GET_OUT_EDGES = 4;
+  private static final int METHODID_GET_IN_EDGES = 5;
+  private static final int METHODID_QUERY_VERTICES = 6;
+  private static final int METHODID_QUERY_EDGES = 7;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final StoreReadImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(StoreReadImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_SCAN_VERTICES:
+          serviceImpl.scanVertices((com.alibaba.maxgraph.proto.groot.ScanStoreRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVerticesResponse>) responseObserver);
+          break;
+        case METHODID_SCAN_EDGES:
+          serviceImpl.scanEdges((com.alibaba.maxgraph.proto.groot.ScanStoreRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreEdgesResponse>) responseObserver);
+          break;
+        case METHODID_GET_OUT_VERTICES:
+          serviceImpl.getOutVertices((com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse>) responseObserver);
+          break;
+        case METHODID_GET_IN_VERTICES:
+          serviceImpl.getInVertices((com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResponse>) responseObserver);
+          break;
+        case METHODID_GET_OUT_EDGES:
+          serviceImpl.getOutEdges((com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse>) responseObserver);
+          break;
+        case METHODID_GET_IN_EDGES:
+          serviceImpl.getInEdges((com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResponse>) responseObserver);
+          break;
+        case METHODID_QUERY_VERTICES:
+          serviceImpl.queryVertices((com.alibaba.maxgraph.proto.groot.VertexLabelIdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreVerticesResponse>) responseObserver);
+          break;
+        case METHODID_QUERY_EDGES:
+          serviceImpl.queryEdges((com.alibaba.maxgraph.proto.groot.EdgeIdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.StoreEdgesResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class StoreReadBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    StoreReadBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("StoreRead");
+    }
+  }
+
+  private static final class StoreReadFileDescriptorSupplier
+      extends StoreReadBaseDescriptorSupplier {
+    StoreReadFileDescriptorSupplier() {}
+  }
+
+  private static final class StoreReadMethodDescriptorSupplier
+      extends StoreReadBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    StoreReadMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (StoreReadGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new StoreReadFileDescriptorSupplier())
+              .addMethod(getScanVerticesMethod())
+              .addMethod(getScanEdgesMethod())
+              .addMethod(getGetOutVerticesMethod())
+              .addMethod(getGetInVerticesMethod())
+              .addMethod(getGetOutEdgesMethod())
+              .addMethod(getGetInEdgesMethod())
+              .addMethod(getQueryVerticesMethod())
+              .addMethod(getQueryEdgesMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,256 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class StoreReadService {
+  private StoreReadService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ScanStoreRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ScanStoreRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LabelVertexEdgeId_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LabelVertexEdgeId_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CompositeEdgeId_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CompositeEdgeId_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreVertexResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreVertexResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreVerticesResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreVerticesResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreEdgeResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreEdgeResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreEdgesResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreEdgesResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VertexIdsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VertexIdsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VertexLabelIdsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VertexLabelIdsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreVertexIdsResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreVertexIdsResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreVertexIdsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreVertexIdsResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreTargetEdgeResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreTargetEdgeResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreTargetEdgesResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreTargetEdgesResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreTargetEdgesResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreTargetEdgesResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeIdsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeIdsRequest_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\030store_read_service.proto\032\020sdk/common.p" +
+      "roto\032\017sdk/model.proto\"J\n\020ScanStoreReques" +
+      "t\022\021\n\trequestId\030\001 \001(\003\022\022\n\nsnapshotId\030\002 \001(\003" +
+      "\022\017\n\007labelId\030\003 \003(\005\"0\n\021LabelVertexEdgeId\022\017" +
+      "\n\007labelId\030\001 \001(\005\022\n\n\002id\030\002 \001(\003\"{\n\017Composite" +
+      "EdgeId\022!\n\005srcId\030\001 \001(\0132\022.LabelVertexEdgeI" +
+      "d\022!\n\005dstId\030\002 \001(\0132\022.LabelVertexEdgeId\022\"\n\006" +
+      "edgeId\030\003 \001(\0132\022.LabelVertexEdgeId\"M\n\021Stor" +
+      "eVertexResult\022$\n\010vertexId\030\001 \001(\0132\022.LabelV" +
+      "ertexEdgeId\022\022\n\nproperties\030\002 \001(\014\"e\n\025Store" +
+      "VerticesResponse\022\021\n\terrorCode\030\001 \001(\005\022\024\n\014e" +
+      "rrorMessage\030\002 \001(\t\022#\n\007results\030\003 \003(\0132\022.Sto" +
+      "reVertexResult\"G\n\017StoreEdgeResult\022 \n\006edg" +
+      "eId\030\001 \001(\0132\020.CompositeEdgeId\022\022\n\npropertie" +
+      "s\030\002 \001(\014\"`\n\022StoreEdgesResponse\022\021\n\terrorCo" +
+      "de\030\001 \001(\005\022\024\n\014errorMessage\030\002 \001(\t\022!\n\007result" +
+      "s\030\003 \003(\0132\020.StoreEdgeResult\"_\n\020VertexIdsRe" +
+      "quest\022\021\n\trequestId\030\001 \001(\003\022\022\n\nsnapshotId\030\002" +
+      " \001(\003\022$\n\010vertexId\030\003 \003(\0132\022.LabelVertexEdge" +
+      "Id\"x\n\025VertexLabelIdsRequest\022\021\n\trequestId" +
+      "\030\001 \001(\003\022\022\n\nsnapshotId\030\002 \001(\003\022$\n\010vertexId\030\003" +
+      " \003(\0132\022.LabelVertexEdgeId\022\022\n\nedgeLabels\030\004" +
+      " \003(\005\"i\n\024StoreVertexIdsResult\022$\n\010vertexId" +
+      "\030\001 \001(\0132\022.LabelVertexEdgeId\022+\n\017targetVert" +
+      "exIds\030\002 \003(\0132\022.LabelVertexEdgeId\"i\n\026Store" +
+      "VertexIdsResponse\022\021\n\terrorCode\030\001 \001(\005\022\024\n\014" +
+      "errorMessage\030\002 \001(\t\022&\n\007results\030\003 \003(\0132\025.St" +
+      "oreVertexIdsResult\"u\n\025StoreTargetEdgeRes" +
+      "ult\022$\n\010targetId\030\001 \001(\0132\022.LabelVertexEdgeI" +
+      "d\022\"\n\006edgeId\030\002 \001(\0132\022.LabelVertexEdgeId\022\022\n" +
+      "\nproperties\030\003 \001(\014\"k\n\026StoreTargetEdgesRes" +
+      "ult\022$\n\010vertexId\030\001 \001(\0132\022.LabelVertexEdgeI" +
+      "d\022+\n\013targetEdges\030\002 \003(\0132\026.StoreTargetEdge" +
+      "Result\"m\n\030StoreTargetEdgesResponse\022\021\n\ter" +
+      "rorCode\030\001 \001(\005\022\024\n\014errorMessage\030\002 \001(\t\022(\n\007r" +
+      "esults\030\003 \003(\0132\027.StoreTargetEdgesResult\"Z\n" +
+      "\016EdgeIdsRequest\022\021\n\trequestId\030\001 \001(\003\022\022\n\nsn" +
+      "apshotId\030\002 \001(\003\022!\n\007edgeIds\030\003 \003(\0132\020.Compos" +
+      "iteEdgeId2\370\003\n\tStoreRead\0229\n\014scanVertices\022" +
+      "\021.ScanStoreRequest\032\026.StoreVerticesRespon" +
+      "se\0223\n\tscanEdges\022\021.ScanStoreRequest\032\023.Sto" +
+      "reEdgesResponse\022A\n\016getOutVertices\022\026.Vert" +
+      "exLabelIdsRequest\032\027.StoreVertexIdsRespon" +
+      "se\022@\n\rgetInVertices\022\026.VertexLabelIdsRequ" +
+      "est\032\027.StoreVertexIdsResponse\022@\n\013getOutEd" +
+      "ges\022\026.VertexLabelIdsRequest\032\031.StoreTarge" +
+      "tEdgesResponse\022?\n\ngetInEdges\022\026.VertexLab" +
+      "elIdsRequest\032\031.StoreTargetEdgesResponse\022" +
+      "?\n\rqueryVertices\022\026.VertexLabelIdsRequest" +
+      "\032\026.StoreVerticesResponse\0222\n\nqueryEdges\022\017" +
+      ".EdgeIdsRequest\032\023.StoreEdgesResponseB$\n " +
+      "com.alibaba.maxgraph.proto.grootP\001b\006prot" +
+      "o3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        });
+    internal_static_ScanStoreRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_ScanStoreRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ScanStoreRequest_descriptor,
+        new java.lang.String[] { "RequestId", "SnapshotId", "LabelId", });
+    internal_static_LabelVertexEdgeId_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_LabelVertexEdgeId_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LabelVertexEdgeId_descriptor,
+        new java.lang.String[] { "LabelId", "Id", });
+    internal_static_CompositeEdgeId_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_CompositeEdgeId_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CompositeEdgeId_descriptor,
+        new java.lang.String[] { "SrcId", "DstId", "EdgeId", });
+    internal_static_StoreVertexResult_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_StoreVertexResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreVertexResult_descriptor,
+        new java.lang.String[] { "VertexId", "Properties", });
+    internal_static_StoreVerticesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_StoreVerticesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreVerticesResponse_descriptor,
+        new java.lang.String[] { "ErrorCode", "ErrorMessage", "Results", });
+    internal_static_StoreEdgeResult_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_StoreEdgeResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreEdgeResult_descriptor,
+        new java.lang.String[] { "EdgeId", "Properties", });
+    internal_static_StoreEdgesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_StoreEdgesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreEdgesResponse_descriptor,
+        new java.lang.String[] { "ErrorCode", "ErrorMessage", "Results", });
+    internal_static_VertexIdsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_VertexIdsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VertexIdsRequest_descriptor,
+        new java.lang.String[] { "RequestId", "SnapshotId", "VertexId", });
+    internal_static_VertexLabelIdsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_VertexLabelIdsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VertexLabelIdsRequest_descriptor,
+        new java.lang.String[] { "RequestId", "SnapshotId", "VertexId", "EdgeLabels", });
+    internal_static_StoreVertexIdsResult_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_StoreVertexIdsResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreVertexIdsResult_descriptor,
+        new java.lang.String[] { "VertexId", "TargetVertexIds", });
+    internal_static_StoreVertexIdsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_StoreVertexIdsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreVertexIdsResponse_descriptor,
+        new java.lang.String[] { "ErrorCode", "ErrorMessage", "Results", });
+    internal_static_StoreTargetEdgeResult_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_StoreTargetEdgeResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreTargetEdgeResult_descriptor,
+        new java.lang.String[] { "TargetId", "EdgeId", "Properties", });
+    internal_static_StoreTargetEdgesResult_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_StoreTargetEdgesResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreTargetEdgesResult_descriptor,
+        new java.lang.String[] { "VertexId", "TargetEdges", });
+    internal_static_StoreTargetEdgesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_StoreTargetEdgesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreTargetEdgesResponse_descriptor,
+        new java.lang.String[] { "ErrorCode", "ErrorMessage", "Results", });
+    internal_static_EdgeIdsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_EdgeIdsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeIdsRequest_descriptor,
+        new java.lang.String[] { "RequestId", "SnapshotId", "EdgeIds", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
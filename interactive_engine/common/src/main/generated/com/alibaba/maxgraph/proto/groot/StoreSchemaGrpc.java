@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: store_schema_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class StoreSchemaGrpc {
+
+  private StoreSchemaGrpc() {}
+
+  public static final String SERVICE_NAME = "StoreSchema";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.FetchSchemaRequest,
+      com.alibaba.maxgraph.proto.groot.FetchSchemaResponse> getFetchSchemaMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "fetchSchema",
+      requestType = com.alibaba.maxgraph.proto.groot.FetchSchemaRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.FetchSchemaResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.FetchSchemaRequest,
+      com.alibaba.maxgraph.proto.groot.FetchSchemaResponse> getFetchSchemaMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.FetchSchemaRequest, com.alibaba.maxgraph.proto.groot.FetchSchemaResponse> getFetchSchemaMethod;
+    if ((getFetchSchemaMethod = StoreSchemaGrpc.getFetchSchemaMethod) == null) {
+      synchronized (StoreSchemaGrpc.class) {
+        if ((getFetchSchemaMethod = StoreSchemaGrpc.getFetchSchemaMethod) == null) {
+          StoreSchemaGrpc.getFetchSchemaMethod = getFetchSchemaMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.FetchSchemaRequest, com.alibaba.maxgraph.proto.groot.FetchSchemaResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "fetchSchema"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.FetchSchemaRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.FetchSchemaResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreSchemaMethodDescriptorSupplier("fetchSchema"))
+              .build();
+        }
+      }
+    }
+    return getFetchSchemaMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static StoreSchemaStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreSchemaStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreSchemaStub>() {
+        @java.lang.Override
+        public StoreSchemaStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreSchemaStub(channel, callOptions);
+        }
+      };
+    return StoreSchemaStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static StoreSchemaBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreSchemaBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreSchemaBlockingStub>() {
+        @java.lang.Override
+        public StoreSchemaBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreSchemaBlockingStub(channel, callOptions);
+        }
+      };
+    return StoreSchemaBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static StoreSchemaFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreSchemaFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreSchemaFutureStub>() {
+        @java.lang.Override
+        public StoreSchemaFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreSchemaFutureStub(channel, callOptions);
+        }
+      };
+    return StoreSchemaFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class StoreSchemaImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void fetchSchema(com.alibaba.maxgraph.proto.groot.FetchSchemaRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.FetchSchemaResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getFetchSchemaMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getFetchSchemaMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.FetchSchemaRequest,
+                com.alibaba.maxgraph.proto.groot.FetchSchemaResponse>(
+                  this, METHODID_FETCH_SCHEMA)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class StoreSchemaStub extends io.grpc.stub.AbstractAsyncStub<StoreSchemaStub> {
+    private StoreSchemaStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreSchemaStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreSchemaStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void fetchSchema(com.alibaba.maxgraph.proto.groot.FetchSchemaRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.FetchSchemaResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getFetchSchemaMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreSchemaBlockingStub extends io.grpc.stub.AbstractBlockingStub<StoreSchemaBlockingStub> {
+    private StoreSchemaBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreSchemaBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreSchemaBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.FetchSchemaResponse fetchSchema(com.alibaba.maxgraph.proto.groot.FetchSchemaRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getFetchSchemaMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreSchemaFutureStub extends io.grpc.stub.AbstractFutureStub<StoreSchemaFutureStub> {
+    private StoreSchemaFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreSchemaFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreSchemaFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.FetchSchemaResponse> fetchSchema(
+        com.alibaba.maxgraph.proto.groot.FetchSchemaRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getFetchSchemaMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_FETCH_SCHEMA = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final StoreSchemaImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(StoreSchemaImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_FETCH_SCHEMA:
+          serviceImpl.fetchSchema((com.alibaba.maxgraph.proto.groot.FetchSchemaRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.FetchSchemaResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class StoreSchemaBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    StoreSchemaBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreSchemaService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("StoreSchema");
+    }
+  }
+
+  private static final class StoreSchemaFileDescriptorSupplier
+      extends StoreSchemaBaseDescriptorSupplier {
+    StoreSchemaFileDescriptorSupplier() {}
+  }
+
+  private static final class StoreSchemaMethodDescriptorSupplier
+      extends StoreSchemaBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    StoreSchemaMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (StoreSchemaGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new StoreSchemaFileDescriptorSupplier())
+              .addMethod(getFetchSchemaMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
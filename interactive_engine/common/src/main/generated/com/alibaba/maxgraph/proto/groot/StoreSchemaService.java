@@ -0,0 +1,64 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_schema_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class StoreSchemaService {
+  private StoreSchemaService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_FetchSchemaRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_FetchSchemaRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_FetchSchemaResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_FetchSchemaResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\032store_schema_service.proto\032\017sdk/model." +
+      "proto\"\024\n\022FetchSchemaRequest\"4\n\023FetchSche" +
+      "maResponse\022\035\n\010graphDef\030\001 \001(\0132\013.GraphDefP" +
+      "b2G\n\013StoreSchema\0228\n\013fetchSchema\022\023.FetchS" +
+      "chemaRequest\032\024.FetchSchemaResponseB$\n co" +
+      "m.alibaba.maxgraph.proto.grootP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        });
+    internal_static_FetchSchemaRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_FetchSchemaRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_FetchSchemaRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_FetchSchemaResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_FetchSchemaResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_FetchSchemaResponse_descriptor,
+        new java.lang.String[] { "GraphDef", });
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,863 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code StoreTargetEdgeResult}
+ */
+public final class StoreTargetEdgeResult extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StoreTargetEdgeResult)
+    StoreTargetEdgeResultOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StoreTargetEdgeResult.newBuilder() to construct.
+  private StoreTargetEdgeResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StoreTargetEdgeResult() {
+    properties_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new StoreTargetEdgeResult();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private StoreTargetEdgeResult(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder subBuilder = null;
+            if (targetId_ != null) {
+              subBuilder = targetId_.toBuilder();
+            }
+            targetId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(targetId_);
+              targetId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder subBuilder = null;
+            if (edgeId_ != null) {
+              subBuilder = edgeId_.toBuilder();
+            }
+            edgeId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(edgeId_);
+              edgeId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 26: {
+
+            properties_ = input.readBytes();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgeResult_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgeResult_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.class, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder.class);
+  }
+
+  public static final int TARGETID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId targetId_;
+  /**
+   * <code>.LabelVertexEdgeId targetId = 1;</code>
+   * @return Whether the targetId field is set.
+   */
+  @java.lang.Override
+  public boolean hasTargetId() {
+    return targetId_ != null;
+  }
+  /**
+   * <code>.LabelVertexEdgeId targetId = 1;</code>
+   * @return The targetId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getTargetId() {
+    return targetId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : targetId_;
+  }
+  /**
+   * <code>.LabelVertexEdgeId targetId = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getTargetIdOrBuilder() {
+    return getTargetId();
+  }
+
+  public static final int EDGEID_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId edgeId_;
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 2;</code>
+   * @return Whether the edgeId field is set.
+   */
+  @java.lang.Override
+  public boolean hasEdgeId() {
+    return edgeId_ != null;
+  }
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 2;</code>
+   * @return The edgeId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getEdgeId() {
+    return edgeId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : edgeId_;
+  }
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getEdgeIdOrBuilder() {
+    return getEdgeId();
+  }
+
+  public static final int PROPERTIES_FIELD_NUMBER = 3;
+  private com.google.protobuf.ByteString properties_;
+  /**
+   * <code>bytes properties = 3;</code>
+   * @return The properties.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString getProperties() {
+    return properties_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (targetId_ != null) {
+      output.writeMessage(1, getTargetId());
+    }
+    if (edgeId_ != null) {
+      output.writeMessage(2, getEdgeId());
+    }
+    if (!properties_.isEmpty()) {
+      output.writeBytes(3, properties_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (targetId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getTargetId());
+    }
+    if (edgeId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getEdgeId());
+    }
+    if (!properties_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(3, properties_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult other = (com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult) obj;
+
+    if (hasTargetId() != other.hasTargetId()) return false;
+    if (hasTargetId()) {
+      if (!getTargetId()
+          .equals(other.getTargetId())) return false;
+    }
+    if (hasEdgeId() != other.hasEdgeId()) return false;
+    if (hasEdgeId()) {
+      if (!getEdgeId()
+          .equals(other.getEdgeId())) return false;
+    }
+    if (!getProperties()
+        .equals(other.getProperties())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasTargetId()) {
+      hash = (37 * hash) + TARGETID_FIELD_NUMBER;
+      hash = (53 * hash) + getTargetId().hashCode();
+    }
+    if (hasEdgeId()) {
+      hash = (37 * hash) + EDGEID_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeId().hashCode();
+    }
+    hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
+    hash = (53 * hash) + getProperties().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StoreTargetEdgeResult}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StoreTargetEdgeResult)
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgeResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgeResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.class, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (targetIdBuilder_ == null) {
+        targetId_ = null;
+      } else {
+        targetId_ = null;
+        targetIdBuilder_ = null;
+      }
+      if (edgeIdBuilder_ == null) {
+        edgeId_ = null;
+      } else {
+        edgeId_ = null;
+        edgeIdBuilder_ = null;
+      }
+      properties_ = com.google.protobuf.ByteString.EMPTY;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgeResult_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult build() {
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult buildPartial() {
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult result = new com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult(this);
+      if (targetIdBuilder_ == null) {
+        result.targetId_ = targetId_;
+      } else {
+        result.targetId_ = targetIdBuilder_.build();
+      }
+      if (edgeIdBuilder_ == null) {
+        result.edgeId_ = edgeId_;
+      } else {
+        result.edgeId_ = edgeIdBuilder_.build();
+      }
+      result.properties_ = properties_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult other) {
+      if (other == com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.getDefaultInstance()) return this;
+      if (other.hasTargetId()) {
+        mergeTargetId(other.getTargetId());
+      }
+      if (other.hasEdgeId()) {
+        mergeEdgeId(other.getEdgeId());
+      }
+      if (other.getProperties() != com.google.protobuf.ByteString.EMPTY) {
+        setProperties(other.getProperties());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId targetId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> targetIdBuilder_;
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     * @return Whether the targetId field is set.
+     */
+    public boolean hasTargetId() {
+      return targetIdBuilder_ != null || targetId_ != null;
+    }
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     * @return The targetId.
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getTargetId() {
+      if (targetIdBuilder_ == null) {
+        return targetId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : targetId_;
+      } else {
+        return targetIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     */
+    public Builder setTargetId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (targetIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        targetId_ = value;
+        onChanged();
+      } else {
+        targetIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     */
+    public Builder setTargetId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (targetIdBuilder_ == null) {
+        targetId_ = builderForValue.build();
+        onChanged();
+      } else {
+        targetIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     */
+    public Builder mergeTargetId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (targetIdBuilder_ == null) {
+        if (targetId_ != null) {
+          targetId_ =
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.newBuilder(targetId_).mergeFrom(value).buildPartial();
+        } else {
+          targetId_ = value;
+        }
+        onChanged();
+      } else {
+        targetIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     */
+    public Builder clearTargetId() {
+      if (targetIdBuilder_ == null) {
+        targetId_ = null;
+        onChanged();
+      } else {
+        targetId_ = null;
+        targetIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getTargetIdBuilder() {
+      
+      onChanged();
+      return getTargetIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getTargetIdOrBuilder() {
+      if (targetIdBuilder_ != null) {
+        return targetIdBuilder_.getMessageOrBuilder();
+      } else {
+        return targetId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : targetId_;
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId targetId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getTargetIdFieldBuilder() {
+      if (targetIdBuilder_ == null) {
+        targetIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                getTargetId(),
+                getParentForChildren(),
+                isClean());
+        targetId_ = null;
+      }
+      return targetIdBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId edgeId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> edgeIdBuilder_;
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     * @return Whether the edgeId field is set.
+     */
+    public boolean hasEdgeId() {
+      return edgeIdBuilder_ != null || edgeId_ != null;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     * @return The edgeId.
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getEdgeId() {
+      if (edgeIdBuilder_ == null) {
+        return edgeId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : edgeId_;
+      } else {
+        return edgeIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     */
+    public Builder setEdgeId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (edgeIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        edgeId_ = value;
+        onChanged();
+      } else {
+        edgeIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     */
+    public Builder setEdgeId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (edgeIdBuilder_ == null) {
+        edgeId_ = builderForValue.build();
+        onChanged();
+      } else {
+        edgeIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     */
+    public Builder mergeEdgeId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (edgeIdBuilder_ == null) {
+        if (edgeId_ != null) {
+          edgeId_ =
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.newBuilder(edgeId_).mergeFrom(value).buildPartial();
+        } else {
+          edgeId_ = value;
+        }
+        onChanged();
+      } else {
+        edgeIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     */
+    public Builder clearEdgeId() {
+      if (edgeIdBuilder_ == null) {
+        edgeId_ = null;
+        onChanged();
+      } else {
+        edgeId_ = null;
+        edgeIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getEdgeIdBuilder() {
+      
+      onChanged();
+      return getEdgeIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getEdgeIdOrBuilder() {
+      if (edgeIdBuilder_ != null) {
+        return edgeIdBuilder_.getMessageOrBuilder();
+      } else {
+        return edgeId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : edgeId_;
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId edgeId = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getEdgeIdFieldBuilder() {
+      if (edgeIdBuilder_ == null) {
+        edgeIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                getEdgeId(),
+                getParentForChildren(),
+                isClean());
+        edgeId_ = null;
+      }
+      return edgeIdBuilder_;
+    }
+
+    private com.google.protobuf.ByteString properties_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes properties = 3;</code>
+     * @return The properties.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getProperties() {
+      return properties_;
+    }
+    /**
+     * <code>bytes properties = 3;</code>
+     * @param value The properties to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProperties(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      properties_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes properties = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProperties() {
+      
+      properties_ = getDefaultInstance().getProperties();
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StoreTargetEdgeResult)
+  }
+
+  // @@protoc_insertion_point(class_scope:StoreTargetEdgeResult)
+  private static final com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StoreTargetEdgeResult>
+      PARSER = new com.google.protobuf.AbstractParser<StoreTargetEdgeResult>() {
+    @java.lang.Override
+    public StoreTargetEdgeResult parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new StoreTargetEdgeResult(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StoreTargetEdgeResult> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StoreTargetEdgeResult> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
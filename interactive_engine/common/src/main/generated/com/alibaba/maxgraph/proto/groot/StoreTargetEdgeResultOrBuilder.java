@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreTargetEdgeResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreTargetEdgeResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.LabelVertexEdgeId targetId = 1;</code>
+   * @return Whether the targetId field is set.
+   */
+  boolean hasTargetId();
+  /**
+   * <code>.LabelVertexEdgeId targetId = 1;</code>
+   * @return The targetId.
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getTargetId();
+  /**
+   * <code>.LabelVertexEdgeId targetId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getTargetIdOrBuilder();
+
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 2;</code>
+   * @return Whether the edgeId field is set.
+   */
+  boolean hasEdgeId();
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 2;</code>
+   * @return The edgeId.
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getEdgeId();
+  /**
+   * <code>.LabelVertexEdgeId edgeId = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getEdgeIdOrBuilder();
+
+  /**
+   * <code>bytes properties = 3;</code>
+   * @return The properties.
+   */
+  com.google.protobuf.ByteString getProperties();
+}
@@ -0,0 +1,51 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreTargetEdgesResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreTargetEdgesResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 errorCode = 1;</code>
+   * @return The errorCode.
+   */
+  int getErrorCode();
+
+  /**
+   * <code>string errorMessage = 2;</code>
+   * @return The errorMessage.
+   */
+  java.lang.String getErrorMessage();
+  /**
+   * <code>string errorMessage = 2;</code>
+   * @return The bytes for errorMessage.
+   */
+  com.google.protobuf.ByteString
+      getErrorMessageBytes();
+
+  /**
+   * <code>repeated .StoreTargetEdgesResult results = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult> 
+      getResultsList();
+  /**
+   * <code>repeated .StoreTargetEdgesResult results = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult getResults(int index);
+  /**
+   * <code>repeated .StoreTargetEdgesResult results = 3;</code>
+   */
+  int getResultsCount();
+  /**
+   * <code>repeated .StoreTargetEdgesResult results = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResultOrBuilder> 
+      getResultsOrBuilderList();
+  /**
+   * <code>repeated .StoreTargetEdgesResult results = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResultOrBuilder getResultsOrBuilder(
+      int index);
+}
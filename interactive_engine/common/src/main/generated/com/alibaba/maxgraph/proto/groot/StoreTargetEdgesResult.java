@@ -0,0 +1,958 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code StoreTargetEdgesResult}
+ */
+public final class StoreTargetEdgesResult extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StoreTargetEdgesResult)
+    StoreTargetEdgesResultOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StoreTargetEdgesResult.newBuilder() to construct.
+  private StoreTargetEdgesResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StoreTargetEdgesResult() {
+    targetEdges_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new StoreTargetEdgesResult();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private StoreTargetEdgesResult(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder subBuilder = null;
+            if (vertexId_ != null) {
+              subBuilder = vertexId_.toBuilder();
+            }
+            vertexId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(vertexId_);
+              vertexId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              targetEdges_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            targetEdges_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        targetEdges_ = java.util.Collections.unmodifiableList(targetEdges_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgesResult_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgesResult_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult.class, com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult.Builder.class);
+  }
+
+  public static final int VERTEXID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId vertexId_;
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return Whether the vertexId field is set.
+   */
+  @java.lang.Override
+  public boolean hasVertexId() {
+    return vertexId_ != null;
+  }
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return The vertexId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId() {
+    return vertexId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+  }
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder() {
+    return getVertexId();
+  }
+
+  public static final int TARGETEDGES_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult> targetEdges_;
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult> getTargetEdgesList() {
+    return targetEdges_;
+  }
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder> 
+      getTargetEdgesOrBuilderList() {
+    return targetEdges_;
+  }
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  @java.lang.Override
+  public int getTargetEdgesCount() {
+    return targetEdges_.size();
+  }
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult getTargetEdges(int index) {
+    return targetEdges_.get(index);
+  }
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder getTargetEdgesOrBuilder(
+      int index) {
+    return targetEdges_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (vertexId_ != null) {
+      output.writeMessage(1, getVertexId());
+    }
+    for (int i = 0; i < targetEdges_.size(); i++) {
+      output.writeMessage(2, targetEdges_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (vertexId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getVertexId());
+    }
+    for (int i = 0; i < targetEdges_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, targetEdges_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult other = (com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult) obj;
+
+    if (hasVertexId() != other.hasVertexId()) return false;
+    if (hasVertexId()) {
+      if (!getVertexId()
+          .equals(other.getVertexId())) return false;
+    }
+    if (!getTargetEdgesList()
+        .equals(other.getTargetEdgesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasVertexId()) {
+      hash = (37 * hash) + VERTEXID_FIELD_NUMBER;
+      hash = (53 * hash) + getVertexId().hashCode();
+    }
+    if (getTargetEdgesCount() > 0) {
+      hash = (37 * hash) + TARGETEDGES_FIELD_NUMBER;
+      hash = (53 * hash) + getTargetEdgesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StoreTargetEdgesResult}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StoreTargetEdgesResult)
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResultOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgesResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgesResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult.class, com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getTargetEdgesFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = null;
+      } else {
+        vertexId_ = null;
+        vertexIdBuilder_ = null;
+      }
+      if (targetEdgesBuilder_ == null) {
+        targetEdges_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        targetEdgesBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreTargetEdgesResult_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult build() {
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult buildPartial() {
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult result = new com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult(this);
+      int from_bitField0_ = bitField0_;
+      if (vertexIdBuilder_ == null) {
+        result.vertexId_ = vertexId_;
+      } else {
+        result.vertexId_ = vertexIdBuilder_.build();
+      }
+      if (targetEdgesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          targetEdges_ = java.util.Collections.unmodifiableList(targetEdges_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.targetEdges_ = targetEdges_;
+      } else {
+        result.targetEdges_ = targetEdgesBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult other) {
+      if (other == com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult.getDefaultInstance()) return this;
+      if (other.hasVertexId()) {
+        mergeVertexId(other.getVertexId());
+      }
+      if (targetEdgesBuilder_ == null) {
+        if (!other.targetEdges_.isEmpty()) {
+          if (targetEdges_.isEmpty()) {
+            targetEdges_ = other.targetEdges_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureTargetEdgesIsMutable();
+            targetEdges_.addAll(other.targetEdges_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.targetEdges_.isEmpty()) {
+          if (targetEdgesBuilder_.isEmpty()) {
+            targetEdgesBuilder_.dispose();
+            targetEdgesBuilder_ = null;
+            targetEdges_ = other.targetEdges_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            targetEdgesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getTargetEdgesFieldBuilder() : null;
+          } else {
+            targetEdgesBuilder_.addAllMessages(other.targetEdges_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId vertexId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> vertexIdBuilder_;
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     * @return Whether the vertexId field is set.
+     */
+    public boolean hasVertexId() {
+      return vertexIdBuilder_ != null || vertexId_ != null;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     * @return The vertexId.
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId() {
+      if (vertexIdBuilder_ == null) {
+        return vertexId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+      } else {
+        return vertexIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder setVertexId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        vertexId_ = value;
+        onChanged();
+      } else {
+        vertexIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder setVertexId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = builderForValue.build();
+        onChanged();
+      } else {
+        vertexIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder mergeVertexId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (vertexId_ != null) {
+          vertexId_ =
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.newBuilder(vertexId_).mergeFrom(value).buildPartial();
+        } else {
+          vertexId_ = value;
+        }
+        onChanged();
+      } else {
+        vertexIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder clearVertexId() {
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = null;
+        onChanged();
+      } else {
+        vertexId_ = null;
+        vertexIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getVertexIdBuilder() {
+      
+      onChanged();
+      return getVertexIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder() {
+      if (vertexIdBuilder_ != null) {
+        return vertexIdBuilder_.getMessageOrBuilder();
+      } else {
+        return vertexId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getVertexIdFieldBuilder() {
+      if (vertexIdBuilder_ == null) {
+        vertexIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                getVertexId(),
+                getParentForChildren(),
+                isClean());
+        vertexId_ = null;
+      }
+      return vertexIdBuilder_;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult> targetEdges_ =
+      java.util.Collections.emptyList();
+    private void ensureTargetEdgesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        targetEdges_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult>(targetEdges_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder> targetEdgesBuilder_;
+
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult> getTargetEdgesList() {
+      if (targetEdgesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(targetEdges_);
+      } else {
+        return targetEdgesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public int getTargetEdgesCount() {
+      if (targetEdgesBuilder_ == null) {
+        return targetEdges_.size();
+      } else {
+        return targetEdgesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult getTargetEdges(int index) {
+      if (targetEdgesBuilder_ == null) {
+        return targetEdges_.get(index);
+      } else {
+        return targetEdgesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder setTargetEdges(
+        int index, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult value) {
+      if (targetEdgesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTargetEdgesIsMutable();
+        targetEdges_.set(index, value);
+        onChanged();
+      } else {
+        targetEdgesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder setTargetEdges(
+        int index, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder builderForValue) {
+      if (targetEdgesBuilder_ == null) {
+        ensureTargetEdgesIsMutable();
+        targetEdges_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        targetEdgesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder addTargetEdges(com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult value) {
+      if (targetEdgesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTargetEdgesIsMutable();
+        targetEdges_.add(value);
+        onChanged();
+      } else {
+        targetEdgesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder addTargetEdges(
+        int index, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult value) {
+      if (targetEdgesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTargetEdgesIsMutable();
+        targetEdges_.add(index, value);
+        onChanged();
+      } else {
+        targetEdgesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder addTargetEdges(
+        com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder builderForValue) {
+      if (targetEdgesBuilder_ == null) {
+        ensureTargetEdgesIsMutable();
+        targetEdges_.add(builderForValue.build());
+        onChanged();
+      } else {
+        targetEdgesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder addTargetEdges(
+        int index, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder builderForValue) {
+      if (targetEdgesBuilder_ == null) {
+        ensureTargetEdgesIsMutable();
+        targetEdges_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        targetEdgesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder addAllTargetEdges(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult> values) {
+      if (targetEdgesBuilder_ == null) {
+        ensureTargetEdgesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, targetEdges_);
+        onChanged();
+      } else {
+        targetEdgesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder clearTargetEdges() {
+      if (targetEdgesBuilder_ == null) {
+        targetEdges_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        targetEdgesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public Builder removeTargetEdges(int index) {
+      if (targetEdgesBuilder_ == null) {
+        ensureTargetEdgesIsMutable();
+        targetEdges_.remove(index);
+        onChanged();
+      } else {
+        targetEdgesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder getTargetEdgesBuilder(
+        int index) {
+      return getTargetEdgesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder getTargetEdgesOrBuilder(
+        int index) {
+      if (targetEdgesBuilder_ == null) {
+        return targetEdges_.get(index);  } else {
+        return targetEdgesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder> 
+         getTargetEdgesOrBuilderList() {
+      if (targetEdgesBuilder_ != null) {
+        return targetEdgesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(targetEdges_);
+      }
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder addTargetEdgesBuilder() {
+      return getTargetEdgesFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder addTargetEdgesBuilder(
+        int index) {
+      return getTargetEdgesFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder> 
+         getTargetEdgesBuilderList() {
+      return getTargetEdgesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder> 
+        getTargetEdgesFieldBuilder() {
+      if (targetEdgesBuilder_ == null) {
+        targetEdgesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult.Builder, com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder>(
+                targetEdges_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        targetEdges_ = null;
+      }
+      return targetEdgesBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StoreTargetEdgesResult)
+  }
+
+  // @@protoc_insertion_point(class_scope:StoreTargetEdgesResult)
+  private static final com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StoreTargetEdgesResult>
+      PARSER = new com.google.protobuf.AbstractParser<StoreTargetEdgesResult>() {
+    @java.lang.Override
+    public StoreTargetEdgesResult parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new StoreTargetEdgesResult(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StoreTargetEdgesResult> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StoreTargetEdgesResult> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreTargetEdgesResult getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreTargetEdgesResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreTargetEdgesResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return Whether the vertexId field is set.
+   */
+  boolean hasVertexId();
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return The vertexId.
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId();
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder();
+
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult> 
+      getTargetEdgesList();
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResult getTargetEdges(int index);
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  int getTargetEdgesCount();
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder> 
+      getTargetEdgesOrBuilderList();
+  /**
+   * <code>repeated .StoreTargetEdgeResult targetEdges = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreTargetEdgeResultOrBuilder getTargetEdgesOrBuilder(
+      int index);
+}
@@ -0,0 +1,51 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreVertexIdsResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreVertexIdsResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 errorCode = 1;</code>
+   * @return The errorCode.
+   */
+  int getErrorCode();
+
+  /**
+   * <code>string errorMessage = 2;</code>
+   * @return The errorMessage.
+   */
+  java.lang.String getErrorMessage();
+  /**
+   * <code>string errorMessage = 2;</code>
+   * @return The bytes for errorMessage.
+   */
+  com.google.protobuf.ByteString
+      getErrorMessageBytes();
+
+  /**
+   * <code>repeated .StoreVertexIdsResult results = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult> 
+      getResultsList();
+  /**
+   * <code>repeated .StoreVertexIdsResult results = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult getResults(int index);
+  /**
+   * <code>repeated .StoreVertexIdsResult results = 3;</code>
+   */
+  int getResultsCount();
+  /**
+   * <code>repeated .StoreVertexIdsResult results = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreVertexIdsResultOrBuilder> 
+      getResultsOrBuilderList();
+  /**
+   * <code>repeated .StoreVertexIdsResult results = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreVertexIdsResultOrBuilder getResultsOrBuilder(
+      int index);
+}
@@ -0,0 +1,958 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code StoreVertexIdsResult}
+ */
+public final class StoreVertexIdsResult extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StoreVertexIdsResult)
+    StoreVertexIdsResultOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StoreVertexIdsResult.newBuilder() to construct.
+  private StoreVertexIdsResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StoreVertexIdsResult() {
+    targetVertexIds_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new StoreVertexIdsResult();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private StoreVertexIdsResult(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder subBuilder = null;
+            if (vertexId_ != null) {
+              subBuilder = vertexId_.toBuilder();
+            }
+            vertexId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(vertexId_);
+              vertexId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              targetVertexIds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            targetVertexIds_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        targetVertexIds_ = java.util.Collections.unmodifiableList(targetVertexIds_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexIdsResult_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexIdsResult_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult.class, com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult.Builder.class);
+  }
+
+  public static final int VERTEXID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId vertexId_;
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return Whether the vertexId field is set.
+   */
+  @java.lang.Override
+  public boolean hasVertexId() {
+    return vertexId_ != null;
+  }
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return The vertexId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId() {
+    return vertexId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+  }
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder() {
+    return getVertexId();
+  }
+
+  public static final int TARGETVERTEXIDS_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> targetVertexIds_;
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> getTargetVertexIdsList() {
+    return targetVertexIds_;
+  }
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+      getTargetVertexIdsOrBuilderList() {
+    return targetVertexIds_;
+  }
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  @java.lang.Override
+  public int getTargetVertexIdsCount() {
+    return targetVertexIds_.size();
+  }
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getTargetVertexIds(int index) {
+    return targetVertexIds_.get(index);
+  }
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getTargetVertexIdsOrBuilder(
+      int index) {
+    return targetVertexIds_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (vertexId_ != null) {
+      output.writeMessage(1, getVertexId());
+    }
+    for (int i = 0; i < targetVertexIds_.size(); i++) {
+      output.writeMessage(2, targetVertexIds_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (vertexId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getVertexId());
+    }
+    for (int i = 0; i < targetVertexIds_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, targetVertexIds_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult other = (com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult) obj;
+
+    if (hasVertexId() != other.hasVertexId()) return false;
+    if (hasVertexId()) {
+      if (!getVertexId()
+          .equals(other.getVertexId())) return false;
+    }
+    if (!getTargetVertexIdsList()
+        .equals(other.getTargetVertexIdsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasVertexId()) {
+      hash = (37 * hash) + VERTEXID_FIELD_NUMBER;
+      hash = (53 * hash) + getVertexId().hashCode();
+    }
+    if (getTargetVertexIdsCount() > 0) {
+      hash = (37 * hash) + TARGETVERTEXIDS_FIELD_NUMBER;
+      hash = (53 * hash) + getTargetVertexIdsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StoreVertexIdsResult}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StoreVertexIdsResult)
+      com.alibaba.maxgraph.proto.groot.StoreVertexIdsResultOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexIdsResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexIdsResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult.class, com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getTargetVertexIdsFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = null;
+      } else {
+        vertexId_ = null;
+        vertexIdBuilder_ = null;
+      }
+      if (targetVertexIdsBuilder_ == null) {
+        targetVertexIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        targetVertexIdsBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexIdsResult_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult build() {
+      com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult buildPartial() {
+      com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult result = new com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult(this);
+      int from_bitField0_ = bitField0_;
+      if (vertexIdBuilder_ == null) {
+        result.vertexId_ = vertexId_;
+      } else {
+        result.vertexId_ = vertexIdBuilder_.build();
+      }
+      if (targetVertexIdsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          targetVertexIds_ = java.util.Collections.unmodifiableList(targetVertexIds_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.targetVertexIds_ = targetVertexIds_;
+      } else {
+        result.targetVertexIds_ = targetVertexIdsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult other) {
+      if (other == com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult.getDefaultInstance()) return this;
+      if (other.hasVertexId()) {
+        mergeVertexId(other.getVertexId());
+      }
+      if (targetVertexIdsBuilder_ == null) {
+        if (!other.targetVertexIds_.isEmpty()) {
+          if (targetVertexIds_.isEmpty()) {
+            targetVertexIds_ = other.targetVertexIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureTargetVertexIdsIsMutable();
+            targetVertexIds_.addAll(other.targetVertexIds_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.targetVertexIds_.isEmpty()) {
+          if (targetVertexIdsBuilder_.isEmpty()) {
+            targetVertexIdsBuilder_.dispose();
+            targetVertexIdsBuilder_ = null;
+            targetVertexIds_ = other.targetVertexIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            targetVertexIdsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getTargetVertexIdsFieldBuilder() : null;
+          } else {
+            targetVertexIdsBuilder_.addAllMessages(other.targetVertexIds_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId vertexId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> vertexIdBuilder_;
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     * @return Whether the vertexId field is set.
+     */
+    public boolean hasVertexId() {
+      return vertexIdBuilder_ != null || vertexId_ != null;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     * @return The vertexId.
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId() {
+      if (vertexIdBuilder_ == null) {
+        return vertexId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+      } else {
+        return vertexIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder setVertexId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        vertexId_ = value;
+        onChanged();
+      } else {
+        vertexIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder setVertexId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = builderForValue.build();
+        onChanged();
+      } else {
+        vertexIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder mergeVertexId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (vertexId_ != null) {
+          vertexId_ =
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.newBuilder(vertexId_).mergeFrom(value).buildPartial();
+        } else {
+          vertexId_ = value;
+        }
+        onChanged();
+      } else {
+        vertexIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder clearVertexId() {
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = null;
+        onChanged();
+      } else {
+        vertexId_ = null;
+        vertexIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getVertexIdBuilder() {
+      
+      onChanged();
+      return getVertexIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder() {
+      if (vertexIdBuilder_ != null) {
+        return vertexIdBuilder_.getMessageOrBuilder();
+      } else {
+        return vertexId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getVertexIdFieldBuilder() {
+      if (vertexIdBuilder_ == null) {
+        vertexIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                getVertexId(),
+                getParentForChildren(),
+                isClean());
+        vertexId_ = null;
+      }
+      return vertexIdBuilder_;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> targetVertexIds_ =
+      java.util.Collections.emptyList();
+    private void ensureTargetVertexIdsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        targetVertexIds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId>(targetVertexIds_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> targetVertexIdsBuilder_;
+
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> getTargetVertexIdsList() {
+      if (targetVertexIdsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(targetVertexIds_);
+      } else {
+        return targetVertexIdsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public int getTargetVertexIdsCount() {
+      if (targetVertexIdsBuilder_ == null) {
+        return targetVertexIds_.size();
+      } else {
+        return targetVertexIdsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getTargetVertexIds(int index) {
+      if (targetVertexIdsBuilder_ == null) {
+        return targetVertexIds_.get(index);
+      } else {
+        return targetVertexIdsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder setTargetVertexIds(
+        int index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (targetVertexIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTargetVertexIdsIsMutable();
+        targetVertexIds_.set(index, value);
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder setTargetVertexIds(
+        int index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (targetVertexIdsBuilder_ == null) {
+        ensureTargetVertexIdsIsMutable();
+        targetVertexIds_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder addTargetVertexIds(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (targetVertexIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTargetVertexIdsIsMutable();
+        targetVertexIds_.add(value);
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder addTargetVertexIds(
+        int index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (targetVertexIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTargetVertexIdsIsMutable();
+        targetVertexIds_.add(index, value);
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder addTargetVertexIds(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (targetVertexIdsBuilder_ == null) {
+        ensureTargetVertexIdsIsMutable();
+        targetVertexIds_.add(builderForValue.build());
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder addTargetVertexIds(
+        int index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (targetVertexIdsBuilder_ == null) {
+        ensureTargetVertexIdsIsMutable();
+        targetVertexIds_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder addAllTargetVertexIds(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> values) {
+      if (targetVertexIdsBuilder_ == null) {
+        ensureTargetVertexIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, targetVertexIds_);
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder clearTargetVertexIds() {
+      if (targetVertexIdsBuilder_ == null) {
+        targetVertexIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public Builder removeTargetVertexIds(int index) {
+      if (targetVertexIdsBuilder_ == null) {
+        ensureTargetVertexIdsIsMutable();
+        targetVertexIds_.remove(index);
+        onChanged();
+      } else {
+        targetVertexIdsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getTargetVertexIdsBuilder(
+        int index) {
+      return getTargetVertexIdsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getTargetVertexIdsOrBuilder(
+        int index) {
+      if (targetVertexIdsBuilder_ == null) {
+        return targetVertexIds_.get(index);  } else {
+        return targetVertexIdsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+         getTargetVertexIdsOrBuilderList() {
+      if (targetVertexIdsBuilder_ != null) {
+        return targetVertexIdsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(targetVertexIds_);
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder addTargetVertexIdsBuilder() {
+      return getTargetVertexIdsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder addTargetVertexIdsBuilder(
+        int index) {
+      return getTargetVertexIdsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder> 
+         getTargetVertexIdsBuilderList() {
+      return getTargetVertexIdsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getTargetVertexIdsFieldBuilder() {
+      if (targetVertexIdsBuilder_ == null) {
+        targetVertexIdsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                targetVertexIds_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        targetVertexIds_ = null;
+      }
+      return targetVertexIdsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StoreVertexIdsResult)
+  }
+
+  // @@protoc_insertion_point(class_scope:StoreVertexIdsResult)
+  private static final com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StoreVertexIdsResult>
+      PARSER = new com.google.protobuf.AbstractParser<StoreVertexIdsResult>() {
+    @java.lang.Override
+    public StoreVertexIdsResult parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new StoreVertexIdsResult(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StoreVertexIdsResult> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StoreVertexIdsResult> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreVertexIdsResult getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
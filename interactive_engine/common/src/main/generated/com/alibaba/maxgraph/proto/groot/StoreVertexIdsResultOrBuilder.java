@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreVertexIdsResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreVertexIdsResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return Whether the vertexId field is set.
+   */
+  boolean hasVertexId();
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return The vertexId.
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId();
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder();
+
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> 
+      getTargetVertexIdsList();
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getTargetVertexIds(int index);
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  int getTargetVertexIdsCount();
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+      getTargetVertexIdsOrBuilderList();
+  /**
+   * <code>repeated .LabelVertexEdgeId targetVertexIds = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getTargetVertexIdsOrBuilder(
+      int index);
+}
@@ -0,0 +1,675 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code StoreVertexResult}
+ */
+public final class StoreVertexResult extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StoreVertexResult)
+    StoreVertexResultOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StoreVertexResult.newBuilder() to construct.
+  private StoreVertexResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StoreVertexResult() {
+    properties_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new StoreVertexResult();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private StoreVertexResult(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder subBuilder = null;
+            if (vertexId_ != null) {
+              subBuilder = vertexId_.toBuilder();
+            }
+            vertexId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(vertexId_);
+              vertexId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+
+            properties_ = input.readBytes();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexResult_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexResult_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.StoreVertexResult.class, com.alibaba.maxgraph.proto.groot.StoreVertexResult.Builder.class);
+  }
+
+  public static final int VERTEXID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId vertexId_;
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return Whether the vertexId field is set.
+   */
+  @java.lang.Override
+  public boolean hasVertexId() {
+    return vertexId_ != null;
+  }
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return The vertexId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId() {
+    return vertexId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+  }
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder() {
+    return getVertexId();
+  }
+
+  public static final int PROPERTIES_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString properties_;
+  /**
+   * <code>bytes properties = 2;</code>
+   * @return The properties.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString getProperties() {
+    return properties_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (vertexId_ != null) {
+      output.writeMessage(1, getVertexId());
+    }
+    if (!properties_.isEmpty()) {
+      output.writeBytes(2, properties_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (vertexId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getVertexId());
+    }
+    if (!properties_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, properties_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.StoreVertexResult)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.StoreVertexResult other = (com.alibaba.maxgraph.proto.groot.StoreVertexResult) obj;
+
+    if (hasVertexId() != other.hasVertexId()) return false;
+    if (hasVertexId()) {
+      if (!getVertexId()
+          .equals(other.getVertexId())) return false;
+    }
+    if (!getProperties()
+        .equals(other.getProperties())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasVertexId()) {
+      hash = (37 * hash) + VERTEXID_FIELD_NUMBER;
+      hash = (53 * hash) + getVertexId().hashCode();
+    }
+    hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
+    hash = (53 * hash) + getProperties().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.StoreVertexResult prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StoreVertexResult}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StoreVertexResult)
+      com.alibaba.maxgraph.proto.groot.StoreVertexResultOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.StoreVertexResult.class, com.alibaba.maxgraph.proto.groot.StoreVertexResult.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.StoreVertexResult.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = null;
+      } else {
+        vertexId_ = null;
+        vertexIdBuilder_ = null;
+      }
+      properties_ = com.google.protobuf.ByteString.EMPTY;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_StoreVertexResult_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreVertexResult getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreVertexResult.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreVertexResult build() {
+      com.alibaba.maxgraph.proto.groot.StoreVertexResult result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.StoreVertexResult buildPartial() {
+      com.alibaba.maxgraph.proto.groot.StoreVertexResult result = new com.alibaba.maxgraph.proto.groot.StoreVertexResult(this);
+      if (vertexIdBuilder_ == null) {
+        result.vertexId_ = vertexId_;
+      } else {
+        result.vertexId_ = vertexIdBuilder_.build();
+      }
+      result.properties_ = properties_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.StoreVertexResult) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.StoreVertexResult)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.StoreVertexResult other) {
+      if (other == com.alibaba.maxgraph.proto.groot.StoreVertexResult.getDefaultInstance()) return this;
+      if (other.hasVertexId()) {
+        mergeVertexId(other.getVertexId());
+      }
+      if (other.getProperties() != com.google.protobuf.ByteString.EMPTY) {
+        setProperties(other.getProperties());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.StoreVertexResult parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.StoreVertexResult) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId vertexId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> vertexIdBuilder_;
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     * @return Whether the vertexId field is set.
+     */
+    public boolean hasVertexId() {
+      return vertexIdBuilder_ != null || vertexId_ != null;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     * @return The vertexId.
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId() {
+      if (vertexIdBuilder_ == null) {
+        return vertexId_ == null ? com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+      } else {
+        return vertexIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder setVertexId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        vertexId_ = value;
+        onChanged();
+      } else {
+        vertexIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder setVertexId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = builderForValue.build();
+        onChanged();
+      } else {
+        vertexIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder mergeVertexId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (vertexId_ != null) {
+          vertexId_ =
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.newBuilder(vertexId_).mergeFrom(value).buildPartial();
+        } else {
+          vertexId_ = value;
+        }
+        onChanged();
+      } else {
+        vertexIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public Builder clearVertexId() {
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = null;
+        onChanged();
+      } else {
+        vertexId_ = null;
+        vertexIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getVertexIdBuilder() {
+      
+      onChanged();
+      return getVertexIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder() {
+      if (vertexIdBuilder_ != null) {
+        return vertexIdBuilder_.getMessageOrBuilder();
+      } else {
+        return vertexId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance() : vertexId_;
+      }
+    }
+    /**
+     * <code>.LabelVertexEdgeId vertexId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getVertexIdFieldBuilder() {
+      if (vertexIdBuilder_ == null) {
+        vertexIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                getVertexId(),
+                getParentForChildren(),
+                isClean());
+        vertexId_ = null;
+      }
+      return vertexIdBuilder_;
+    }
+
+    private com.google.protobuf.ByteString properties_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes properties = 2;</code>
+     * @return The properties.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getProperties() {
+      return properties_;
+    }
+    /**
+     * <code>bytes properties = 2;</code>
+     * @param value The properties to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProperties(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      properties_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes properties = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProperties() {
+      
+      properties_ = getDefaultInstance().getProperties();
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StoreVertexResult)
+  }
+
+  // @@protoc_insertion_point(class_scope:StoreVertexResult)
+  private static final com.alibaba.maxgraph.proto.groot.StoreVertexResult DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.StoreVertexResult();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StoreVertexResult getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StoreVertexResult>
+      PARSER = new com.google.protobuf.AbstractParser<StoreVertexResult>() {
+    @java.lang.Override
+    public StoreVertexResult parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new StoreVertexResult(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StoreVertexResult> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StoreVertexResult> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreVertexResult getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
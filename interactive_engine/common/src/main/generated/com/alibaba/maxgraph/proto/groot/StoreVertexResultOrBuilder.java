@@ -0,0 +1,30 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreVertexResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreVertexResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return Whether the vertexId field is set.
+   */
+  boolean hasVertexId();
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   * @return The vertexId.
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId();
+  /**
+   * <code>.LabelVertexEdgeId vertexId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder();
+
+  /**
+   * <code>bytes properties = 2;</code>
+   * @return The properties.
+   */
+  com.google.protobuf.ByteString getProperties();
+}
@@ -0,0 +1,51 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StoreVerticesResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StoreVerticesResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 errorCode = 1;</code>
+   * @return The errorCode.
+   */
+  int getErrorCode();
+
+  /**
+   * <code>string errorMessage = 2;</code>
+   * @return The errorMessage.
+   */
+  java.lang.String getErrorMessage();
+  /**
+   * <code>string errorMessage = 2;</code>
+   * @return The bytes for errorMessage.
+   */
+  com.google.protobuf.ByteString
+      getErrorMessageBytes();
+
+  /**
+   * <code>repeated .StoreVertexResult results = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.StoreVertexResult> 
+      getResultsList();
+  /**
+   * <code>repeated .StoreVertexResult results = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreVertexResult getResults(int index);
+  /**
+   * <code>repeated .StoreVertexResult results = 3;</code>
+   */
+  int getResultsCount();
+  /**
+   * <code>repeated .StoreVertexResult results = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreVertexResultOrBuilder> 
+      getResultsOrBuilderList();
+  /**
+   * <code>repeated .StoreVertexResult results = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreVertexResultOrBuilder getResultsOrBuilder(
+      int index);
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: store_write_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class StoreWriteGrpc {
+
+  private StoreWriteGrpc() {}
+
+  public static final String SERVICE_NAME = "StoreWrite";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.WriteStoreRequest,
+      com.alibaba.maxgraph.proto.groot.WriteStoreResponse> getWriteStoreMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "writeStore",
+      requestType = com.alibaba.maxgraph.proto.groot.WriteStoreRequest.class,
+      responseType = com.alibaba.maxgraph.proto.groot.WriteStoreResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.WriteStoreRequest,
+      com.alibaba.maxgraph.proto.groot.WriteStoreResponse> getWriteStoreMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.WriteStoreRequest, com.alibaba.maxgraph.proto.groot.WriteStoreResponse> getWriteStoreMethod;
+    if ((getWriteStoreMethod = StoreWriteGrpc.getWriteStoreMethod) == null) {
+      synchronized (StoreWriteGrpc.class) {
+        if ((getWriteStoreMethod = StoreWriteGrpc.getWriteStoreMethod) == null) {
+          StoreWriteGrpc.getWriteStoreMethod = getWriteStoreMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.groot.WriteStoreRequest, com.alibaba.maxgraph.proto.groot.WriteStoreResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "writeStore"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.WriteStoreRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.groot.WriteStoreResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new StoreWriteMethodDescriptorSupplier("writeStore"))
+              .build();
+        }
+      }
+    }
+    return getWriteStoreMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static StoreWriteStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreWriteStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreWriteStub>() {
+        @java.lang.Override
+        public StoreWriteStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreWriteStub(channel, callOptions);
+        }
+      };
+    return StoreWriteStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static StoreWriteBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreWriteBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreWriteBlockingStub>() {
+        @java.lang.Override
+        public StoreWriteBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreWriteBlockingStub(channel, callOptions);
+        }
+      };
+    return StoreWriteBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static StoreWriteFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<StoreWriteFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<StoreWriteFutureStub>() {
+        @java.lang.Override
+        public StoreWriteFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new StoreWriteFutureStub(channel, callOptions);
+        }
+      };
+    return StoreWriteFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class StoreWriteImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void writeStore(com.alibaba.maxgraph.proto.groot.WriteStoreRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.WriteStoreResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getWriteStoreMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getWriteStoreMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.WriteStoreRequest,
+                com.alibaba.maxgraph.proto.groot.WriteStoreResponse>(
+                  this, METHODID_WRITE_STORE)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class StoreWriteStub extends io.grpc.stub.AbstractAsyncStub<StoreWriteStub> {
+    private StoreWriteStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreWriteStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreWriteStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void writeStore(com.alibaba.maxgraph.proto.groot.WriteStoreRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.WriteStoreResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getWriteStoreMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreWriteBlockingStub extends io.grpc.stub.AbstractBlockingStub<StoreWriteBlockingStub> {
+    private StoreWriteBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreWriteBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreWriteBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.WriteStoreResponse writeStore(com.alibaba.maxgraph.proto.groot.WriteStoreRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getWriteStoreMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class StoreWriteFutureStub extends io.grpc.stub.AbstractFutureStub<StoreWriteFutureStub> {
+    private StoreWriteFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected StoreWriteFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new StoreWriteFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.WriteStoreResponse> writeStore(
+        com.alibaba.maxgraph.proto.groot.WriteStoreRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getWriteStoreMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_WRITE_STORE = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final StoreWriteImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(StoreWriteImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_WRITE_STORE:
+          serviceImpl.writeStore((com.alibaba.maxgraph.proto.groot.WriteStoreRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.WriteStoreResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class StoreWriteBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    StoreWriteBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("StoreWrite");
+    }
+  }
+
+  private static final class StoreWriteFileDescriptorSupplier
+      extends StoreWriteBaseDescriptorSupplier {
+    StoreWriteFileDescriptorSupplier() {}
+  }
+
+  private static final class StoreWriteMethodDescriptorSupplier
+      extends StoreWriteBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    StoreWriteMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (StoreWriteGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new StoreWriteFileDescriptorSupplier())
+              .addMethod(getWriteStoreMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,107 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class StoreWriteService {
+  private StoreWriteService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PartitionToBatchPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PartitionToBatchPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PartitionToBatchPb_PartitionToBatchEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PartitionToBatchPb_PartitionToBatchEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StoreDataBatchPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StoreDataBatchPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WriteStoreRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WriteStoreRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WriteStoreResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WriteStoreResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\031store_write_service.proto\032\017sdk/model.p" +
+      "roto\"\245\001\n\022PartitionToBatchPb\022C\n\020partition" +
+      "ToBatch\030\001 \003(\0132).PartitionToBatchPb.Parti" +
+      "tionToBatchEntry\032J\n\025PartitionToBatchEntr" +
+      "y\022\013\n\003key\030\001 \001(\005\022 \n\005value\030\002 \001(\0132\021.Operatio" +
+      "nBatchPb:\0028\001\"\240\001\n\020StoreDataBatchPb\022\021\n\treq" +
+      "uestId\030\001 \001(\t\022\017\n\007queueId\030\002 \001(\005\022\022\n\nsnapsho" +
+      "tId\030\003 \001(\003\022\016\n\006offset\030\004 \001(\003\022&\n\tdataBatch\030\005" +
+      " \003(\0132\023.PartitionToBatchPb\022\034\n\005trace\030\006 \001(\013" +
+      "2\r.WriteTracePb\"<\n\021WriteStoreRequest\022\'\n\014" +
+      "data_batches\030\001 \003(\0132\021.StoreDataBatchPb\":\n" +
+      "\022WriteStoreResponse\022\017\n\007success\030\001 \001(\010\022\023\n\013" +
+      "queue_depth\030\002 \001(\0052C\n\nStoreWrite\0225\n\nwrite" +
+      "Store\022\022.WriteStoreRequest\032\023.WriteStoreRe" +
+      "sponseB$\n com.alibaba.maxgraph.proto.gro" +
+      "otP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        });
+    internal_static_PartitionToBatchPb_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_PartitionToBatchPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PartitionToBatchPb_descriptor,
+        new java.lang.String[] { "PartitionToBatch", });
+    internal_static_PartitionToBatchPb_PartitionToBatchEntry_descriptor =
+      internal_static_PartitionToBatchPb_descriptor.getNestedTypes().get(0);
+    internal_static_PartitionToBatchPb_PartitionToBatchEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PartitionToBatchPb_PartitionToBatchEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_StoreDataBatchPb_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_StoreDataBatchPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StoreDataBatchPb_descriptor,
+        new java.lang.String[] { "RequestId", "QueueId", "SnapshotId", "Offset", "DataBatch", "Trace", });
+    internal_static_WriteStoreRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_WriteStoreRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WriteStoreRequest_descriptor,
+        new java.lang.String[] { "DataBatches", });
+    internal_static_WriteStoreResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_WriteStoreResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WriteStoreResponse_descriptor,
+        new java.lang.String[] { "Success", "QueueDepth", });
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
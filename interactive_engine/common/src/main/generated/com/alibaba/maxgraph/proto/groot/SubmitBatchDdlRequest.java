@@ -0,0 +1,883 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: schema_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code SubmitBatchDdlRequest}
+ */
+public final class SubmitBatchDdlRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:SubmitBatchDdlRequest)
+    SubmitBatchDdlRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SubmitBatchDdlRequest.newBuilder() to construct.
+  private SubmitBatchDdlRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SubmitBatchDdlRequest() {
+    requestId_ = "";
+    sessionId_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SubmitBatchDdlRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SubmitBatchDdlRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            requestId_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            sessionId_ = s;
+            break;
+          }
+          case 26: {
+            com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.Builder subBuilder = null;
+            if (ddlRequests_ != null) {
+              subBuilder = ddlRequests_.toBuilder();
+            }
+            ddlRequests_ = input.readMessage(com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(ddlRequests_);
+              ddlRequests_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.SchemaService.internal_static_SubmitBatchDdlRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.SchemaService.internal_static_SubmitBatchDdlRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.class, com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.Builder.class);
+  }
+
+  public static final int REQUESTID_FIELD_NUMBER = 1;
+  private volatile java.lang.Object requestId_;
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public java.lang.String getRequestId() {
+    java.lang.Object ref = requestId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      requestId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRequestIdBytes() {
+    java.lang.Object ref = requestId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      requestId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SESSIONID_FIELD_NUMBER = 2;
+  private volatile java.lang.Object sessionId_;
+  /**
+   * <code>string sessionId = 2;</code>
+   * @return The sessionId.
+   */
+  @java.lang.Override
+  public java.lang.String getSessionId() {
+    java.lang.Object ref = sessionId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      sessionId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string sessionId = 2;</code>
+   * @return The bytes for sessionId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getSessionIdBytes() {
+    java.lang.Object ref = sessionId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      sessionId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DDLREQUESTS_FIELD_NUMBER = 3;
+  private com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb ddlRequests_;
+  /**
+   * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+   * @return Whether the ddlRequests field is set.
+   */
+  @java.lang.Override
+  public boolean hasDdlRequests() {
+    return ddlRequests_ != null;
+  }
+  /**
+   * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+   * @return The ddlRequests.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb getDdlRequests() {
+    return ddlRequests_ == null ? com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.getDefaultInstance() : ddlRequests_;
+  }
+  /**
+   * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.DdlRequestBatchPbOrBuilder getDdlRequestsOrBuilder() {
+    return getDdlRequests();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, requestId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sessionId_);
+    }
+    if (ddlRequests_ != null) {
+      output.writeMessage(3, getDdlRequests());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, requestId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, sessionId_);
+    }
+    if (ddlRequests_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getDdlRequests());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest other = (com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest) obj;
+
+    if (!getRequestId()
+        .equals(other.getRequestId())) return false;
+    if (!getSessionId()
+        .equals(other.getSessionId())) return false;
+    if (hasDdlRequests() != other.hasDdlRequests()) return false;
+    if (hasDdlRequests()) {
+      if (!getDdlRequests()
+          .equals(other.getDdlRequests())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+    hash = (53 * hash) + getRequestId().hashCode();
+    hash = (37 * hash) + SESSIONID_FIELD_NUMBER;
+    hash = (53 * hash) + getSessionId().hashCode();
+    if (hasDdlRequests()) {
+      hash = (37 * hash) + DDLREQUESTS_FIELD_NUMBER;
+      hash = (53 * hash) + getDdlRequests().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code SubmitBatchDdlRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:SubmitBatchDdlRequest)
+      com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.SchemaService.internal_static_SubmitBatchDdlRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.SchemaService.internal_static_SubmitBatchDdlRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.class, com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      requestId_ = "";
+
+      sessionId_ = "";
+
+      if (ddlRequestsBuilder_ == null) {
+        ddlRequests_ = null;
+      } else {
+        ddlRequests_ = null;
+        ddlRequestsBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.SchemaService.internal_static_SubmitBatchDdlRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest build() {
+      com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest result = new com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest(this);
+      result.requestId_ = requestId_;
+      result.sessionId_ = sessionId_;
+      if (ddlRequestsBuilder_ == null) {
+        result.ddlRequests_ = ddlRequests_;
+      } else {
+        result.ddlRequests_ = ddlRequestsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest.getDefaultInstance()) return this;
+      if (!other.getRequestId().isEmpty()) {
+        requestId_ = other.requestId_;
+        onChanged();
+      }
+      if (!other.getSessionId().isEmpty()) {
+        sessionId_ = other.sessionId_;
+        onChanged();
+      }
+      if (other.hasDdlRequests()) {
+        mergeDdlRequests(other.getDdlRequests());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object requestId_ = "";
+    /**
+     * <code>string requestId = 1;</code>
+     * @return The requestId.
+     */
+    public java.lang.String getRequestId() {
+      java.lang.Object ref = requestId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        requestId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @return The bytes for requestId.
+     */
+    public com.google.protobuf.ByteString
+        getRequestIdBytes() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        requestId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      
+      requestId_ = getDefaultInstance().getRequestId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @param value The bytes for requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object sessionId_ = "";
+    /**
+     * <code>string sessionId = 2;</code>
+     * @return The sessionId.
+     */
+    public java.lang.String getSessionId() {
+      java.lang.Object ref = sessionId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sessionId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string sessionId = 2;</code>
+     * @return The bytes for sessionId.
+     */
+    public com.google.protobuf.ByteString
+        getSessionIdBytes() {
+      java.lang.Object ref = sessionId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sessionId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string sessionId = 2;</code>
+     * @param value The sessionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSessionId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      sessionId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string sessionId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSessionId() {
+      
+      sessionId_ = getDefaultInstance().getSessionId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string sessionId = 2;</code>
+     * @param value The bytes for sessionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSessionIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      sessionId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb ddlRequests_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb, com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.Builder, com.alibaba.maxgraph.proto.groot.DdlRequestBatchPbOrBuilder> ddlRequestsBuilder_;
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     * @return Whether the ddlRequests field is set.
+     */
+    public boolean hasDdlRequests() {
+      return ddlRequestsBuilder_ != null || ddlRequests_ != null;
+    }
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     * @return The ddlRequests.
+     */
+    public com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb getDdlRequests() {
+      if (ddlRequestsBuilder_ == null) {
+        return ddlRequests_ == null ? com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.getDefaultInstance() : ddlRequests_;
+      } else {
+        return ddlRequestsBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     */
+    public Builder setDdlRequests(com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb value) {
+      if (ddlRequestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ddlRequests_ = value;
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     */
+    public Builder setDdlRequests(
+        com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.Builder builderForValue) {
+      if (ddlRequestsBuilder_ == null) {
+        ddlRequests_ = builderForValue.build();
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     */
+    public Builder mergeDdlRequests(com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb value) {
+      if (ddlRequestsBuilder_ == null) {
+        if (ddlRequests_ != null) {
+          ddlRequests_ =
+            com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.newBuilder(ddlRequests_).mergeFrom(value).buildPartial();
+        } else {
+          ddlRequests_ = value;
+        }
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     */
+    public Builder clearDdlRequests() {
+      if (ddlRequestsBuilder_ == null) {
+        ddlRequests_ = null;
+        onChanged();
+      } else {
+        ddlRequests_ = null;
+        ddlRequestsBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.Builder getDdlRequestsBuilder() {
+      
+      onChanged();
+      return getDdlRequestsFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.DdlRequestBatchPbOrBuilder getDdlRequestsOrBuilder() {
+      if (ddlRequestsBuilder_ != null) {
+        return ddlRequestsBuilder_.getMessageOrBuilder();
+      } else {
+        return ddlRequests_ == null ?
+            com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.getDefaultInstance() : ddlRequests_;
+      }
+    }
+    /**
+     * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb, com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.Builder, com.alibaba.maxgraph.proto.groot.DdlRequestBatchPbOrBuilder> 
+        getDdlRequestsFieldBuilder() {
+      if (ddlRequestsBuilder_ == null) {
+        ddlRequestsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb, com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb.Builder, com.alibaba.maxgraph.proto.groot.DdlRequestBatchPbOrBuilder>(
+                getDdlRequests(),
+                getParentForChildren(),
+                isClean());
+        ddlRequests_ = null;
+      }
+      return ddlRequestsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:SubmitBatchDdlRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:SubmitBatchDdlRequest)
+  private static final com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SubmitBatchDdlRequest>
+      PARSER = new com.google.protobuf.AbstractParser<SubmitBatchDdlRequest>() {
+    @java.lang.Override
+    public SubmitBatchDdlRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SubmitBatchDdlRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SubmitBatchDdlRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SubmitBatchDdlRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.SubmitBatchDdlRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
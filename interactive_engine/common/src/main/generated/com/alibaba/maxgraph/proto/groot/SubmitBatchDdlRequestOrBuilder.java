@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: schema_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface SubmitBatchDdlRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SubmitBatchDdlRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  java.lang.String getRequestId();
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  com.google.protobuf.ByteString
+      getRequestIdBytes();
+
+  /**
+   * <code>string sessionId = 2;</code>
+   * @return The sessionId.
+   */
+  java.lang.String getSessionId();
+  /**
+   * <code>string sessionId = 2;</code>
+   * @return The bytes for sessionId.
+   */
+  com.google.protobuf.ByteString
+      getSessionIdBytes();
+
+  /**
+   * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+   * @return Whether the ddlRequests field is set.
+   */
+  boolean hasDdlRequests();
+  /**
+   * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+   * @return The ddlRequests.
+   */
+  com.alibaba.maxgraph.proto.groot.DdlRequestBatchPb getDdlRequests();
+  /**
+   * <code>.DdlRequestBatchPb ddlRequests = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.DdlRequestBatchPbOrBuilder getDdlRequestsOrBuilder();
+}
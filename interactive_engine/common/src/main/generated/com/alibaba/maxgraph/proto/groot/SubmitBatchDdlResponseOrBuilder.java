@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: schema_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface SubmitBatchDdlResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SubmitBatchDdlResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>bool success = 1;</code>
+   * @return The success.
+   */
+  boolean getSuccess();
+
+  /**
+   * <code>int64 ddlSnapshotId = 2;</code>
+   * @return The ddlSnapshotId.
+   */
+  long getDdlSnapshotId();
+
+  /**
+   * <code>string msg = 3;</code>
+   * @return The msg.
+   */
+  java.lang.String getMsg();
+  /**
+   * <code>string msg = 3;</code>
+   * @return The bytes for msg.
+   */
+  com.google.protobuf.ByteString
+      getMsgBytes();
+}
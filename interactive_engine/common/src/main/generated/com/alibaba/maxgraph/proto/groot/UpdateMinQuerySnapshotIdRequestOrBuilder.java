@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshot_commit_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface UpdateMinQuerySnapshotIdRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:UpdateMinQuerySnapshotIdRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 frontendId = 1;</code>
+   * @return The frontendId.
+   */
+  int getFrontendId();
+
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+}
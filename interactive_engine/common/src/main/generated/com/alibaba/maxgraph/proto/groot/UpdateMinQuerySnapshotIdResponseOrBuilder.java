@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshot_commit_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface UpdateMinQuerySnapshotIdResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:UpdateMinQuerySnapshotIdResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>bool success = 1;</code>
+   * @return The success.
+   */
+  boolean getSuccess();
+
+  /**
+   * <code>string errMsg = 2;</code>
+   * @return The errMsg.
+   */
+  java.lang.String getErrMsg();
+  /**
+   * <code>string errMsg = 2;</code>
+   * @return The bytes for errMsg.
+   */
+  com.google.protobuf.ByteString
+      getErrMsgBytes();
+}
@@ -0,0 +1,607 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code VerifyStoreBackupRequest}
+ */
+public final class VerifyStoreBackupRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:VerifyStoreBackupRequest)
+    VerifyStoreBackupRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use VerifyStoreBackupRequest.newBuilder() to construct.
+  private VerifyStoreBackupRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private VerifyStoreBackupRequest() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new VerifyStoreBackupRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private VerifyStoreBackupRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder subBuilder = null;
+            if (storeBackupId_ != null) {
+              subBuilder = storeBackupId_.toBuilder();
+            }
+            storeBackupId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(storeBackupId_);
+              storeBackupId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_VerifyStoreBackupRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_VerifyStoreBackupRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.class, com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.Builder.class);
+  }
+
+  public static final int STOREBACKUPID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.StoreBackupIdPb storeBackupId_;
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   * @return Whether the storeBackupId field is set.
+   */
+  @java.lang.Override
+  public boolean hasStoreBackupId() {
+    return storeBackupId_ != null;
+  }
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   * @return The storeBackupId.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb getStoreBackupId() {
+    return storeBackupId_ == null ? com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.getDefaultInstance() : storeBackupId_;
+  }
+  /**
+   * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder getStoreBackupIdOrBuilder() {
+    return getStoreBackupId();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (storeBackupId_ != null) {
+      output.writeMessage(1, getStoreBackupId());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (storeBackupId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getStoreBackupId());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest other = (com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest) obj;
+
+    if (hasStoreBackupId() != other.hasStoreBackupId()) return false;
+    if (hasStoreBackupId()) {
+      if (!getStoreBackupId()
+          .equals(other.getStoreBackupId())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasStoreBackupId()) {
+      hash = (37 * hash) + STOREBACKUPID_FIELD_NUMBER;
+      hash = (53 * hash) + getStoreBackupId().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code VerifyStoreBackupRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:VerifyStoreBackupRequest)
+      com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_VerifyStoreBackupRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_VerifyStoreBackupRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.class, com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (storeBackupIdBuilder_ == null) {
+        storeBackupId_ = null;
+      } else {
+        storeBackupId_ = null;
+        storeBackupIdBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreBackupService.internal_static_VerifyStoreBackupRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest build() {
+      com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest result = new com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest(this);
+      if (storeBackupIdBuilder_ == null) {
+        result.storeBackupId_ = storeBackupId_;
+      } else {
+        result.storeBackupId_ = storeBackupIdBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest.getDefaultInstance()) return this;
+      if (other.hasStoreBackupId()) {
+        mergeStoreBackupId(other.getStoreBackupId());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.StoreBackupIdPb storeBackupId_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StoreBackupIdPb, com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder, com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder> storeBackupIdBuilder_;
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     * @return Whether the storeBackupId field is set.
+     */
+    public boolean hasStoreBackupId() {
+      return storeBackupIdBuilder_ != null || storeBackupId_ != null;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     * @return The storeBackupId.
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb getStoreBackupId() {
+      if (storeBackupIdBuilder_ == null) {
+        return storeBackupId_ == null ? com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.getDefaultInstance() : storeBackupId_;
+      } else {
+        return storeBackupIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public Builder setStoreBackupId(com.alibaba.maxgraph.proto.groot.StoreBackupIdPb value) {
+      if (storeBackupIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        storeBackupId_ = value;
+        onChanged();
+      } else {
+        storeBackupIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public Builder setStoreBackupId(
+        com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder builderForValue) {
+      if (storeBackupIdBuilder_ == null) {
+        storeBackupId_ = builderForValue.build();
+        onChanged();
+      } else {
+        storeBackupIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public Builder mergeStoreBackupId(com.alibaba.maxgraph.proto.groot.StoreBackupIdPb value) {
+      if (storeBackupIdBuilder_ == null) {
+        if (storeBackupId_ != null) {
+          storeBackupId_ =
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.newBuilder(storeBackupId_).mergeFrom(value).buildPartial();
+        } else {
+          storeBackupId_ = value;
+        }
+        onChanged();
+      } else {
+        storeBackupIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public Builder clearStoreBackupId() {
+      if (storeBackupIdBuilder_ == null) {
+        storeBackupId_ = null;
+        onChanged();
+      } else {
+        storeBackupId_ = null;
+        storeBackupIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder getStoreBackupIdBuilder() {
+      
+      onChanged();
+      return getStoreBackupIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder getStoreBackupIdOrBuilder() {
+      if (storeBackupIdBuilder_ != null) {
+        return storeBackupIdBuilder_.getMessageOrBuilder();
+      } else {
+        return storeBackupId_ == null ?
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.getDefaultInstance() : storeBackupId_;
+      }
+    }
+    /**
+     * <code>.StoreBackupIdPb storeBackupId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StoreBackupIdPb, com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder, com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder> 
+        getStoreBackupIdFieldBuilder() {
+      if (storeBackupIdBuilder_ == null) {
+        storeBackupIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.StoreBackupIdPb, com.alibaba.maxgraph.proto.groot.StoreBackupIdPb.Builder, com.alibaba.maxgraph.proto.groot.StoreBackupIdPbOrBuilder>(
+                getStoreBackupId(),
+                getParentForChildren(),
+                isClean());
+        storeBackupId_ = null;
+      }
+      return storeBackupIdBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:VerifyStoreBackupRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:VerifyStoreBackupRequest)
+  private static final com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<VerifyStoreBackupRequest>
+      PARSER = new com.google.protobuf.AbstractParser<VerifyStoreBackupRequest>() {
+    @java.lang.Override
+    public VerifyStoreBackupRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new VerifyStoreBackupRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<VerifyStoreBackupRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<VerifyStoreBackupRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.VerifyStoreBackupRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,900 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code VertexIdsRequest}
+ */
+public final class VertexIdsRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:VertexIdsRequest)
+    VertexIdsRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use VertexIdsRequest.newBuilder() to construct.
+  private VertexIdsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private VertexIdsRequest() {
+    vertexId_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new VertexIdsRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private VertexIdsRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            requestId_ = input.readInt64();
+            break;
+          }
+          case 16: {
+
+            snapshotId_ = input.readInt64();
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              vertexId_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            vertexId_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        vertexId_ = java.util.Collections.unmodifiableList(vertexId_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_VertexIdsRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_VertexIdsRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.VertexIdsRequest.class, com.alibaba.maxgraph.proto.groot.VertexIdsRequest.Builder.class);
+  }
+
+  public static final int REQUESTID_FIELD_NUMBER = 1;
+  private long requestId_;
+  /**
+   * <code>int64 requestId = 1;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public long getRequestId() {
+    return requestId_;
+  }
+
+  public static final int SNAPSHOTID_FIELD_NUMBER = 2;
+  private long snapshotId_;
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  @java.lang.Override
+  public long getSnapshotId() {
+    return snapshotId_;
+  }
+
+  public static final int VERTEXID_FIELD_NUMBER = 3;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> vertexId_;
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> getVertexIdList() {
+    return vertexId_;
+  }
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+      getVertexIdOrBuilderList() {
+    return vertexId_;
+  }
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  @java.lang.Override
+  public int getVertexIdCount() {
+    return vertexId_.size();
+  }
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId(int index) {
+    return vertexId_.get(index);
+  }
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder(
+      int index) {
+    return vertexId_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (requestId_ != 0L) {
+      output.writeInt64(1, requestId_);
+    }
+    if (snapshotId_ != 0L) {
+      output.writeInt64(2, snapshotId_);
+    }
+    for (int i = 0; i < vertexId_.size(); i++) {
+      output.writeMessage(3, vertexId_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (requestId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, requestId_);
+    }
+    if (snapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, snapshotId_);
+    }
+    for (int i = 0; i < vertexId_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, vertexId_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.VertexIdsRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.VertexIdsRequest other = (com.alibaba.maxgraph.proto.groot.VertexIdsRequest) obj;
+
+    if (getRequestId()
+        != other.getRequestId()) return false;
+    if (getSnapshotId()
+        != other.getSnapshotId()) return false;
+    if (!getVertexIdList()
+        .equals(other.getVertexIdList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRequestId());
+    hash = (37 * hash) + SNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSnapshotId());
+    if (getVertexIdCount() > 0) {
+      hash = (37 * hash) + VERTEXID_FIELD_NUMBER;
+      hash = (53 * hash) + getVertexIdList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.VertexIdsRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code VertexIdsRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:VertexIdsRequest)
+      com.alibaba.maxgraph.proto.groot.VertexIdsRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_VertexIdsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_VertexIdsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.VertexIdsRequest.class, com.alibaba.maxgraph.proto.groot.VertexIdsRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.VertexIdsRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getVertexIdFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      requestId_ = 0L;
+
+      snapshotId_ = 0L;
+
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        vertexIdBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreReadService.internal_static_VertexIdsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.VertexIdsRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.VertexIdsRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.VertexIdsRequest build() {
+      com.alibaba.maxgraph.proto.groot.VertexIdsRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.VertexIdsRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.VertexIdsRequest result = new com.alibaba.maxgraph.proto.groot.VertexIdsRequest(this);
+      int from_bitField0_ = bitField0_;
+      result.requestId_ = requestId_;
+      result.snapshotId_ = snapshotId_;
+      if (vertexIdBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          vertexId_ = java.util.Collections.unmodifiableList(vertexId_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.vertexId_ = vertexId_;
+      } else {
+        result.vertexId_ = vertexIdBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.VertexIdsRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.VertexIdsRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.VertexIdsRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.VertexIdsRequest.getDefaultInstance()) return this;
+      if (other.getRequestId() != 0L) {
+        setRequestId(other.getRequestId());
+      }
+      if (other.getSnapshotId() != 0L) {
+        setSnapshotId(other.getSnapshotId());
+      }
+      if (vertexIdBuilder_ == null) {
+        if (!other.vertexId_.isEmpty()) {
+          if (vertexId_.isEmpty()) {
+            vertexId_ = other.vertexId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureVertexIdIsMutable();
+            vertexId_.addAll(other.vertexId_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.vertexId_.isEmpty()) {
+          if (vertexIdBuilder_.isEmpty()) {
+            vertexIdBuilder_.dispose();
+            vertexIdBuilder_ = null;
+            vertexId_ = other.vertexId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            vertexIdBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getVertexIdFieldBuilder() : null;
+          } else {
+            vertexIdBuilder_.addAllMessages(other.vertexId_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.VertexIdsRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.VertexIdsRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private long requestId_ ;
+    /**
+     * <code>int64 requestId = 1;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+    /**
+     * <code>int64 requestId = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(long value) {
+      
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 requestId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      
+      requestId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long snapshotId_ ;
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @param value The snapshotId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSnapshotId(long value) {
+      
+      snapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 snapshotId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSnapshotId() {
+      
+      snapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> vertexId_ =
+      java.util.Collections.emptyList();
+    private void ensureVertexIdIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        vertexId_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId>(vertexId_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> vertexIdBuilder_;
+
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> getVertexIdList() {
+      if (vertexIdBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(vertexId_);
+      } else {
+        return vertexIdBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public int getVertexIdCount() {
+      if (vertexIdBuilder_ == null) {
+        return vertexId_.size();
+      } else {
+        return vertexIdBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId(int index) {
+      if (vertexIdBuilder_ == null) {
+        return vertexId_.get(index);
+      } else {
+        return vertexIdBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder setVertexId(
+        int index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureVertexIdIsMutable();
+        vertexId_.set(index, value);
+        onChanged();
+      } else {
+        vertexIdBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder setVertexId(
+        int index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (vertexIdBuilder_ == null) {
+        ensureVertexIdIsMutable();
+        vertexId_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        vertexIdBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder addVertexId(com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureVertexIdIsMutable();
+        vertexId_.add(value);
+        onChanged();
+      } else {
+        vertexIdBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder addVertexId(
+        int index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId value) {
+      if (vertexIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureVertexIdIsMutable();
+        vertexId_.add(index, value);
+        onChanged();
+      } else {
+        vertexIdBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder addVertexId(
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (vertexIdBuilder_ == null) {
+        ensureVertexIdIsMutable();
+        vertexId_.add(builderForValue.build());
+        onChanged();
+      } else {
+        vertexIdBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder addVertexId(
+        int index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder builderForValue) {
+      if (vertexIdBuilder_ == null) {
+        ensureVertexIdIsMutable();
+        vertexId_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        vertexIdBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder addAllVertexId(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> values) {
+      if (vertexIdBuilder_ == null) {
+        ensureVertexIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, vertexId_);
+        onChanged();
+      } else {
+        vertexIdBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder clearVertexId() {
+      if (vertexIdBuilder_ == null) {
+        vertexId_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        vertexIdBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public Builder removeVertexId(int index) {
+      if (vertexIdBuilder_ == null) {
+        ensureVertexIdIsMutable();
+        vertexId_.remove(index);
+        onChanged();
+      } else {
+        vertexIdBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder getVertexIdBuilder(
+        int index) {
+      return getVertexIdFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder(
+        int index) {
+      if (vertexIdBuilder_ == null) {
+        return vertexId_.get(index);  } else {
+        return vertexIdBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+         getVertexIdOrBuilderList() {
+      if (vertexIdBuilder_ != null) {
+        return vertexIdBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(vertexId_);
+      }
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder addVertexIdBuilder() {
+      return getVertexIdFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder addVertexIdBuilder(
+        int index) {
+      return getVertexIdFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder> 
+         getVertexIdBuilderList() {
+      return getVertexIdFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+        getVertexIdFieldBuilder() {
+      if (vertexIdBuilder_ == null) {
+        vertexIdBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId.Builder, com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder>(
+                vertexId_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        vertexId_ = null;
+      }
+      return vertexIdBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:VertexIdsRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:VertexIdsRequest)
+  private static final com.alibaba.maxgraph.proto.groot.VertexIdsRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.VertexIdsRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.VertexIdsRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<VertexIdsRequest>
+      PARSER = new com.google.protobuf.AbstractParser<VertexIdsRequest>() {
+    @java.lang.Override
+    public VertexIdsRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new VertexIdsRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<VertexIdsRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<VertexIdsRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.VertexIdsRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
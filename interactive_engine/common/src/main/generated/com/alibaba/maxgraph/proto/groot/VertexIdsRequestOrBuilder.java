@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface VertexIdsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VertexIdsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 requestId = 1;</code>
+   * @return The requestId.
+   */
+  long getRequestId();
+
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> 
+      getVertexIdList();
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId(int index);
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  int getVertexIdCount();
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+      getVertexIdOrBuilderList();
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder(
+      int index);
+}
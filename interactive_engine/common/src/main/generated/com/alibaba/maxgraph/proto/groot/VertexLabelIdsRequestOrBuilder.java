@@ -0,0 +1,62 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_read_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface VertexLabelIdsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VertexLabelIdsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 requestId = 1;</code>
+   * @return The requestId.
+   */
+  long getRequestId();
+
+  /**
+   * <code>int64 snapshotId = 2;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId> 
+      getVertexIdList();
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeId getVertexId(int index);
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  int getVertexIdCount();
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder> 
+      getVertexIdOrBuilderList();
+  /**
+   * <code>repeated .LabelVertexEdgeId vertexId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelVertexEdgeIdOrBuilder getVertexIdOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated int32 edgeLabels = 4;</code>
+   * @return A list containing the edgeLabels.
+   */
+  java.util.List<java.lang.Integer> getEdgeLabelsList();
+  /**
+   * <code>repeated int32 edgeLabels = 4;</code>
+   * @return The count of edgeLabels.
+   */
+  int getEdgeLabelsCount();
+  /**
+   * <code>repeated int32 edgeLabels = 4;</code>
+   * @param index The index of the element to return.
+   * @return The edgeLabels at the given index.
+   */
+  int getEdgeLabels(int index);
+}
@@ -0,0 +1,997 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingestor_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code WriteIngestorRequest}
+ */
+public final class WriteIngestorRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:WriteIngestorRequest)
+    WriteIngestorRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use WriteIngestorRequest.newBuilder() to construct.
+  private WriteIngestorRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private WriteIngestorRequest() {
+    requestId_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new WriteIngestorRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private WriteIngestorRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            requestId_ = s;
+            break;
+          }
+          case 16: {
+
+            queueId_ = input.readInt32();
+            break;
+          }
+          case 26: {
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder subBuilder = null;
+            if (operationBatch_ != null) {
+              subBuilder = operationBatch_.toBuilder();
+            }
+            operationBatch_ = input.readMessage(com.alibaba.maxgraph.proto.groot.OperationBatchPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(operationBatch_);
+              operationBatch_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 34: {
+            com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder subBuilder = null;
+            if (trace_ != null) {
+              subBuilder = trace_.toBuilder();
+            }
+            trace_ = input.readMessage(com.alibaba.maxgraph.proto.groot.WriteTracePb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(trace_);
+              trace_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.IngestorWriteService.internal_static_WriteIngestorRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.IngestorWriteService.internal_static_WriteIngestorRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.class, com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.Builder.class);
+  }
+
+  public static final int REQUESTID_FIELD_NUMBER = 1;
+  private volatile java.lang.Object requestId_;
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public java.lang.String getRequestId() {
+    java.lang.Object ref = requestId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      requestId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRequestIdBytes() {
+    java.lang.Object ref = requestId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      requestId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int QUEUEID_FIELD_NUMBER = 2;
+  private int queueId_;
+  /**
+   * <code>int32 queueId = 2;</code>
+   * @return The queueId.
+   */
+  @java.lang.Override
+  public int getQueueId() {
+    return queueId_;
+  }
+
+  public static final int OPERATIONBATCH_FIELD_NUMBER = 3;
+  private com.alibaba.maxgraph.proto.groot.OperationBatchPb operationBatch_;
+  /**
+   * <code>.OperationBatchPb operationBatch = 3;</code>
+   * @return Whether the operationBatch field is set.
+   */
+  @java.lang.Override
+  public boolean hasOperationBatch() {
+    return operationBatch_ != null;
+  }
+  /**
+   * <code>.OperationBatchPb operationBatch = 3;</code>
+   * @return The operationBatch.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.OperationBatchPb getOperationBatch() {
+    return operationBatch_ == null ? com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance() : operationBatch_;
+  }
+  /**
+   * <code>.OperationBatchPb operationBatch = 3;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder getOperationBatchOrBuilder() {
+    return getOperationBatch();
+  }
+
+  public static final int TRACE_FIELD_NUMBER = 4;
+  private com.alibaba.maxgraph.proto.groot.WriteTracePb trace_;
+  /**
+   * <code>.WriteTracePb trace = 4;</code>
+   * @return Whether the trace field is set.
+   */
+  @java.lang.Override
+  public boolean hasTrace() {
+    return trace_ != null;
+  }
+  /**
+   * <code>.WriteTracePb trace = 4;</code>
+   * @return The trace.
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.WriteTracePb getTrace() {
+    return trace_ == null ? com.alibaba.maxgraph.proto.groot.WriteTracePb.getDefaultInstance() : trace_;
+  }
+  /**
+   * <code>.WriteTracePb trace = 4;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder getTraceOrBuilder() {
+    return getTrace();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, requestId_);
+    }
+    if (queueId_ != 0) {
+      output.writeInt32(2, queueId_);
+    }
+    if (operationBatch_ != null) {
+      output.writeMessage(3, getOperationBatch());
+    }
+    if (trace_ != null) {
+      output.writeMessage(4, getTrace());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, requestId_);
+    }
+    if (queueId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, queueId_);
+    }
+    if (operationBatch_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getOperationBatch());
+    }
+    if (trace_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, getTrace());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.WriteIngestorRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.WriteIngestorRequest other = (com.alibaba.maxgraph.proto.groot.WriteIngestorRequest) obj;
+
+    if (!getRequestId()
+        .equals(other.getRequestId())) return false;
+    if (getQueueId()
+        != other.getQueueId()) return false;
+    if (hasOperationBatch() != other.hasOperationBatch()) return false;
+    if (hasOperationBatch()) {
+      if (!getOperationBatch()
+          .equals(other.getOperationBatch())) return false;
+    }
+    if (hasTrace() != other.hasTrace()) return false;
+    if (hasTrace()) {
+      if (!getTrace()
+          .equals(other.getTrace())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+    hash = (53 * hash) + getRequestId().hashCode();
+    hash = (37 * hash) + QUEUEID_FIELD_NUMBER;
+    hash = (53 * hash) + getQueueId();
+    if (hasOperationBatch()) {
+      hash = (37 * hash) + OPERATIONBATCH_FIELD_NUMBER;
+      hash = (53 * hash) + getOperationBatch().hashCode();
+    }
+    if (hasTrace()) {
+      hash = (37 * hash) + TRACE_FIELD_NUMBER;
+      hash = (53 * hash) + getTrace().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.WriteIngestorRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code WriteIngestorRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:WriteIngestorRequest)
+      com.alibaba.maxgraph.proto.groot.WriteIngestorRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.IngestorWriteService.internal_static_WriteIngestorRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.IngestorWriteService.internal_static_WriteIngestorRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.class, com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      requestId_ = "";
+
+      queueId_ = 0;
+
+      if (operationBatchBuilder_ == null) {
+        operationBatch_ = null;
+      } else {
+        operationBatch_ = null;
+        operationBatchBuilder_ = null;
+      }
+      if (traceBuilder_ == null) {
+        trace_ = null;
+      } else {
+        trace_ = null;
+        traceBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.IngestorWriteService.internal_static_WriteIngestorRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.WriteIngestorRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.WriteIngestorRequest build() {
+      com.alibaba.maxgraph.proto.groot.WriteIngestorRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.WriteIngestorRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.WriteIngestorRequest result = new com.alibaba.maxgraph.proto.groot.WriteIngestorRequest(this);
+      result.requestId_ = requestId_;
+      result.queueId_ = queueId_;
+      if (operationBatchBuilder_ == null) {
+        result.operationBatch_ = operationBatch_;
+      } else {
+        result.operationBatch_ = operationBatchBuilder_.build();
+      }
+      if (traceBuilder_ == null) {
+        result.trace_ = trace_;
+      } else {
+        result.trace_ = traceBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.WriteIngestorRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.WriteIngestorRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.WriteIngestorRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.WriteIngestorRequest.getDefaultInstance()) return this;
+      if (!other.getRequestId().isEmpty()) {
+        requestId_ = other.requestId_;
+        onChanged();
+      }
+      if (other.getQueueId() != 0) {
+        setQueueId(other.getQueueId());
+      }
+      if (other.hasOperationBatch()) {
+        mergeOperationBatch(other.getOperationBatch());
+      }
+      if (other.hasTrace()) {
+        mergeTrace(other.getTrace());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.WriteIngestorRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.WriteIngestorRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object requestId_ = "";
+    /**
+     * <code>string requestId = 1;</code>
+     * @return The requestId.
+     */
+    public java.lang.String getRequestId() {
+      java.lang.Object ref = requestId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        requestId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @return The bytes for requestId.
+     */
+    public com.google.protobuf.ByteString
+        getRequestIdBytes() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        requestId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      
+      requestId_ = getDefaultInstance().getRequestId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @param value The bytes for requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int queueId_ ;
+    /**
+     * <code>int32 queueId = 2;</code>
+     * @return The queueId.
+     */
+    @java.lang.Override
+    public int getQueueId() {
+      return queueId_;
+    }
+    /**
+     * <code>int32 queueId = 2;</code>
+     * @param value The queueId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setQueueId(int value) {
+      
+      queueId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 queueId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearQueueId() {
+      
+      queueId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.OperationBatchPb operationBatch_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.OperationBatchPb, com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder, com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder> operationBatchBuilder_;
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     * @return Whether the operationBatch field is set.
+     */
+    public boolean hasOperationBatch() {
+      return operationBatchBuilder_ != null || operationBatch_ != null;
+    }
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     * @return The operationBatch.
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb getOperationBatch() {
+      if (operationBatchBuilder_ == null) {
+        return operationBatch_ == null ? com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance() : operationBatch_;
+      } else {
+        return operationBatchBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     */
+    public Builder setOperationBatch(com.alibaba.maxgraph.proto.groot.OperationBatchPb value) {
+      if (operationBatchBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        operationBatch_ = value;
+        onChanged();
+      } else {
+        operationBatchBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     */
+    public Builder setOperationBatch(
+        com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder builderForValue) {
+      if (operationBatchBuilder_ == null) {
+        operationBatch_ = builderForValue.build();
+        onChanged();
+      } else {
+        operationBatchBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     */
+    public Builder mergeOperationBatch(com.alibaba.maxgraph.proto.groot.OperationBatchPb value) {
+      if (operationBatchBuilder_ == null) {
+        if (operationBatch_ != null) {
+          operationBatch_ =
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb.newBuilder(operationBatch_).mergeFrom(value).buildPartial();
+        } else {
+          operationBatch_ = value;
+        }
+        onChanged();
+      } else {
+        operationBatchBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     */
+    public Builder clearOperationBatch() {
+      if (operationBatchBuilder_ == null) {
+        operationBatch_ = null;
+        onChanged();
+      } else {
+        operationBatch_ = null;
+        operationBatchBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder getOperationBatchBuilder() {
+      
+      onChanged();
+      return getOperationBatchFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder getOperationBatchOrBuilder() {
+      if (operationBatchBuilder_ != null) {
+        return operationBatchBuilder_.getMessageOrBuilder();
+      } else {
+        return operationBatch_ == null ?
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance() : operationBatch_;
+      }
+    }
+    /**
+     * <code>.OperationBatchPb operationBatch = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.OperationBatchPb, com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder, com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder> 
+        getOperationBatchFieldBuilder() {
+      if (operationBatchBuilder_ == null) {
+        operationBatchBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb, com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder, com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder>(
+                getOperationBatch(),
+                getParentForChildren(),
+                isClean());
+        operationBatch_ = null;
+      }
+      return operationBatchBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.WriteTracePb trace_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.WriteTracePb, com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder, com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder> traceBuilder_;
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     * @return Whether the trace field is set.
+     */
+    public boolean hasTrace() {
+      return traceBuilder_ != null || trace_ != null;
+    }
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     * @return The trace.
+     */
+    public com.alibaba.maxgraph.proto.groot.WriteTracePb getTrace() {
+      if (traceBuilder_ == null) {
+        return trace_ == null ? com.alibaba.maxgraph.proto.groot.WriteTracePb.getDefaultInstance() : trace_;
+      } else {
+        return traceBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     */
+    public Builder setTrace(com.alibaba.maxgraph.proto.groot.WriteTracePb value) {
+      if (traceBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        trace_ = value;
+        onChanged();
+      } else {
+        traceBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     */
+    public Builder setTrace(
+        com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder builderForValue) {
+      if (traceBuilder_ == null) {
+        trace_ = builderForValue.build();
+        onChanged();
+      } else {
+        traceBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     */
+    public Builder mergeTrace(com.alibaba.maxgraph.proto.groot.WriteTracePb value) {
+      if (traceBuilder_ == null) {
+        if (trace_ != null) {
+          trace_ =
+            com.alibaba.maxgraph.proto.groot.WriteTracePb.newBuilder(trace_).mergeFrom(value).buildPartial();
+        } else {
+          trace_ = value;
+        }
+        onChanged();
+      } else {
+        traceBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     */
+    public Builder clearTrace() {
+      if (traceBuilder_ == null) {
+        trace_ = null;
+        onChanged();
+      } else {
+        trace_ = null;
+        traceBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder getTraceBuilder() {
+      
+      onChanged();
+      return getTraceFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder getTraceOrBuilder() {
+      if (traceBuilder_ != null) {
+        return traceBuilder_.getMessageOrBuilder();
+      } else {
+        return trace_ == null ?
+            com.alibaba.maxgraph.proto.groot.WriteTracePb.getDefaultInstance() : trace_;
+      }
+    }
+    /**
+     * <code>.WriteTracePb trace = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.WriteTracePb, com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder, com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder> 
+        getTraceFieldBuilder() {
+      if (traceBuilder_ == null) {
+        traceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.WriteTracePb, com.alibaba.maxgraph.proto.groot.WriteTracePb.Builder, com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder>(
+                getTrace(),
+                getParentForChildren(),
+                isClean());
+        trace_ = null;
+      }
+      return traceBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:WriteIngestorRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:WriteIngestorRequest)
+  private static final com.alibaba.maxgraph.proto.groot.WriteIngestorRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.WriteIngestorRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.WriteIngestorRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<WriteIngestorRequest>
+      PARSER = new com.google.protobuf.AbstractParser<WriteIngestorRequest>() {
+    @java.lang.Override
+    public WriteIngestorRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new WriteIngestorRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<WriteIngestorRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<WriteIngestorRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.WriteIngestorRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,57 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingestor_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface WriteIngestorRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:WriteIngestorRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  java.lang.String getRequestId();
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  com.google.protobuf.ByteString
+      getRequestIdBytes();
+
+  /**
+   * <code>int32 queueId = 2;</code>
+   * @return The queueId.
+   */
+  int getQueueId();
+
+  /**
+   * <code>.OperationBatchPb operationBatch = 3;</code>
+   * @return Whether the operationBatch field is set.
+   */
+  boolean hasOperationBatch();
+  /**
+   * <code>.OperationBatchPb operationBatch = 3;</code>
+   * @return The operationBatch.
+   */
+  com.alibaba.maxgraph.proto.groot.OperationBatchPb getOperationBatch();
+  /**
+   * <code>.OperationBatchPb operationBatch = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder getOperationBatchOrBuilder();
+
+  /**
+   * <code>.WriteTracePb trace = 4;</code>
+   * @return Whether the trace field is set.
+   */
+  boolean hasTrace();
+  /**
+   * <code>.WriteTracePb trace = 4;</code>
+   * @return The trace.
+   */
+  com.alibaba.maxgraph.proto.groot.WriteTracePb getTrace();
+  /**
+   * <code>.WriteTracePb trace = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.WriteTracePbOrBuilder getTraceOrBuilder();
+}
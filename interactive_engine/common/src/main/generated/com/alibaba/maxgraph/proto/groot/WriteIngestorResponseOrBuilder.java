@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ingestor_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface WriteIngestorResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:WriteIngestorResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 snapshotId = 1;</code>
+   * @return The snapshotId.
+   */
+  long getSnapshotId();
+}
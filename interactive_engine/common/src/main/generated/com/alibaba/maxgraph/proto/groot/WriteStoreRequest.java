@@ -0,0 +1,770 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code WriteStoreRequest}
+ */
+public final class WriteStoreRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:WriteStoreRequest)
+    WriteStoreRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use WriteStoreRequest.newBuilder() to construct.
+  private WriteStoreRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private WriteStoreRequest() {
+    dataBatches_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new WriteStoreRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private WriteStoreRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              dataBatches_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.StoreDataBatchPb>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            dataBatches_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        dataBatches_ = java.util.Collections.unmodifiableList(dataBatches_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_WriteStoreRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_WriteStoreRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.WriteStoreRequest.class, com.alibaba.maxgraph.proto.groot.WriteStoreRequest.Builder.class);
+  }
+
+  public static final int DATA_BATCHES_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.StoreDataBatchPb> dataBatches_;
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.groot.StoreDataBatchPb> getDataBatchesList() {
+    return dataBatches_;
+  }
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder> 
+      getDataBatchesOrBuilderList() {
+    return dataBatches_;
+  }
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  @java.lang.Override
+  public int getDataBatchesCount() {
+    return dataBatches_.size();
+  }
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb getDataBatches(int index) {
+    return dataBatches_.get(index);
+  }
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder getDataBatchesOrBuilder(
+      int index) {
+    return dataBatches_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < dataBatches_.size(); i++) {
+      output.writeMessage(1, dataBatches_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < dataBatches_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, dataBatches_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.WriteStoreRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.WriteStoreRequest other = (com.alibaba.maxgraph.proto.groot.WriteStoreRequest) obj;
+
+    if (!getDataBatchesList()
+        .equals(other.getDataBatchesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getDataBatchesCount() > 0) {
+      hash = (37 * hash) + DATA_BATCHES_FIELD_NUMBER;
+      hash = (53 * hash) + getDataBatchesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.WriteStoreRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code WriteStoreRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:WriteStoreRequest)
+      com.alibaba.maxgraph.proto.groot.WriteStoreRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_WriteStoreRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_WriteStoreRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.WriteStoreRequest.class, com.alibaba.maxgraph.proto.groot.WriteStoreRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.WriteStoreRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getDataBatchesFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (dataBatchesBuilder_ == null) {
+        dataBatches_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        dataBatchesBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.StoreWriteService.internal_static_WriteStoreRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.WriteStoreRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.WriteStoreRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.WriteStoreRequest build() {
+      com.alibaba.maxgraph.proto.groot.WriteStoreRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.groot.WriteStoreRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.WriteStoreRequest result = new com.alibaba.maxgraph.proto.groot.WriteStoreRequest(this);
+      int from_bitField0_ = bitField0_;
+      if (dataBatchesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          dataBatches_ = java.util.Collections.unmodifiableList(dataBatches_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.dataBatches_ = dataBatches_;
+      } else {
+        result.dataBatches_ = dataBatchesBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.WriteStoreRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.WriteStoreRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.WriteStoreRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.WriteStoreRequest.getDefaultInstance()) return this;
+      if (dataBatchesBuilder_ == null) {
+        if (!other.dataBatches_.isEmpty()) {
+          if (dataBatches_.isEmpty()) {
+            dataBatches_ = other.dataBatches_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDataBatchesIsMutable();
+            dataBatches_.addAll(other.dataBatches_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.dataBatches_.isEmpty()) {
+          if (dataBatchesBuilder_.isEmpty()) {
+            dataBatchesBuilder_.dispose();
+            dataBatchesBuilder_ = null;
+            dataBatches_ = other.dataBatches_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            dataBatchesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getDataBatchesFieldBuilder() : null;
+          } else {
+            dataBatchesBuilder_.addAllMessages(other.dataBatches_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.WriteStoreRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.WriteStoreRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.StoreDataBatchPb> dataBatches_ =
+      java.util.Collections.emptyList();
+    private void ensureDataBatchesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        dataBatches_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.StoreDataBatchPb>(dataBatches_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StoreDataBatchPb, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder, com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder> dataBatchesBuilder_;
+
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.StoreDataBatchPb> getDataBatchesList() {
+      if (dataBatchesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(dataBatches_);
+      } else {
+        return dataBatchesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public int getDataBatchesCount() {
+      if (dataBatchesBuilder_ == null) {
+        return dataBatches_.size();
+      } else {
+        return dataBatchesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb getDataBatches(int index) {
+      if (dataBatchesBuilder_ == null) {
+        return dataBatches_.get(index);
+      } else {
+        return dataBatchesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder setDataBatches(
+        int index, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb value) {
+      if (dataBatchesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataBatchesIsMutable();
+        dataBatches_.set(index, value);
+        onChanged();
+      } else {
+        dataBatchesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder setDataBatches(
+        int index, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder builderForValue) {
+      if (dataBatchesBuilder_ == null) {
+        ensureDataBatchesIsMutable();
+        dataBatches_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        dataBatchesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder addDataBatches(com.alibaba.maxgraph.proto.groot.StoreDataBatchPb value) {
+      if (dataBatchesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataBatchesIsMutable();
+        dataBatches_.add(value);
+        onChanged();
+      } else {
+        dataBatchesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder addDataBatches(
+        int index, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb value) {
+      if (dataBatchesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataBatchesIsMutable();
+        dataBatches_.add(index, value);
+        onChanged();
+      } else {
+        dataBatchesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder addDataBatches(
+        com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder builderForValue) {
+      if (dataBatchesBuilder_ == null) {
+        ensureDataBatchesIsMutable();
+        dataBatches_.add(builderForValue.build());
+        onChanged();
+      } else {
+        dataBatchesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder addDataBatches(
+        int index, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder builderForValue) {
+      if (dataBatchesBuilder_ == null) {
+        ensureDataBatchesIsMutable();
+        dataBatches_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        dataBatchesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder addAllDataBatches(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.StoreDataBatchPb> values) {
+      if (dataBatchesBuilder_ == null) {
+        ensureDataBatchesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dataBatches_);
+        onChanged();
+      } else {
+        dataBatchesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder clearDataBatches() {
+      if (dataBatchesBuilder_ == null) {
+        dataBatches_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        dataBatchesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public Builder removeDataBatches(int index) {
+      if (dataBatchesBuilder_ == null) {
+        ensureDataBatchesIsMutable();
+        dataBatches_.remove(index);
+        onChanged();
+      } else {
+        dataBatchesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder getDataBatchesBuilder(
+        int index) {
+      return getDataBatchesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder getDataBatchesOrBuilder(
+        int index) {
+      if (dataBatchesBuilder_ == null) {
+        return dataBatches_.get(index);  } else {
+        return dataBatchesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder> 
+         getDataBatchesOrBuilderList() {
+      if (dataBatchesBuilder_ != null) {
+        return dataBatchesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(dataBatches_);
+      }
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder addDataBatchesBuilder() {
+      return getDataBatchesFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder addDataBatchesBuilder(
+        int index) {
+      return getDataBatchesFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder> 
+         getDataBatchesBuilderList() {
+      return getDataBatchesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StoreDataBatchPb, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder, com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder> 
+        getDataBatchesFieldBuilder() {
+      if (dataBatchesBuilder_ == null) {
+        dataBatchesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.StoreDataBatchPb, com.alibaba.maxgraph.proto.groot.StoreDataBatchPb.Builder, com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder>(
+                dataBatches_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        dataBatches_ = null;
+      }
+      return dataBatchesBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:WriteStoreRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:WriteStoreRequest)
+  private static final com.alibaba.maxgraph.proto.groot.WriteStoreRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.WriteStoreRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.WriteStoreRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<WriteStoreRequest>
+      PARSER = new com.google.protobuf.AbstractParser<WriteStoreRequest>() {
+    @java.lang.Override
+    public WriteStoreRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new WriteStoreRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<WriteStoreRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<WriteStoreRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.groot.WriteStoreRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
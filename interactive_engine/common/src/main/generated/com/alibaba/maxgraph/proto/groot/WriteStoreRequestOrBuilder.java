@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface WriteStoreRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:WriteStoreRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.StoreDataBatchPb> 
+      getDataBatchesList();
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreDataBatchPb getDataBatches(int index);
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  int getDataBatchesCount();
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder> 
+      getDataBatchesOrBuilderList();
+  /**
+   * <code>repeated .StoreDataBatchPb data_batches = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StoreDataBatchPbOrBuilder getDataBatchesOrBuilder(
+      int index);
+}
@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_write_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface WriteStoreResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:WriteStoreResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>bool success = 1;</code>
+   * @return The success.
+   */
+  boolean getSuccess();
+
+  /**
+   * <pre>
+   * Number of batches buffered in the store for the queue of the request, used by ingestor as
+   * flow control credits
+   * </pre>
+   *
+   * <code>int32 queue_depth = 2;</code>
+   * @return The queueDepth.
+   */
+  int getQueueDepth();
+}
@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: meta_service.proto
+
+package com.alibaba.maxgraph.proto.store;
+
+public interface GetStoreListRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:maxgraph_store.GetStoreListRequest)
+    com.google.protobuf.MessageOrBuilder {
+}
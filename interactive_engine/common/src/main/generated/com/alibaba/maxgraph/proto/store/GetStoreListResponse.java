@@ -0,0 +1,770 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: meta_service.proto
+
+package com.alibaba.maxgraph.proto.store;
+
+/**
+ * Protobuf type {@code maxgraph_store.GetStoreListResponse}
+ */
+public final class GetStoreListResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:maxgraph_store.GetStoreListResponse)
+    GetStoreListResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use GetStoreListResponse.newBuilder() to construct.
+  private GetStoreListResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GetStoreListResponse() {
+    stores_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new GetStoreListResponse();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private GetStoreListResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              stores_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.store.StoreInfo>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            stores_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.store.StoreInfo.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        stores_ = java.util.Collections.unmodifiableList(stores_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.store.MetaServiceOuterClass.internal_static_maxgraph_store_GetStoreListResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.store.MetaServiceOuterClass.internal_static_maxgraph_store_GetStoreListResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.store.GetStoreListResponse.class, com.alibaba.maxgraph.proto.store.GetStoreListResponse.Builder.class);
+  }
+
+  public static final int STORES_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.store.StoreInfo> stores_;
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.alibaba.maxgraph.proto.store.StoreInfo> getStoresList() {
+    return stores_;
+  }
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder> 
+      getStoresOrBuilderList() {
+    return stores_;
+  }
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  @java.lang.Override
+  public int getStoresCount() {
+    return stores_.size();
+  }
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.store.StoreInfo getStores(int index) {
+    return stores_.get(index);
+  }
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder getStoresOrBuilder(
+      int index) {
+    return stores_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < stores_.size(); i++) {
+      output.writeMessage(1, stores_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < stores_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, stores_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.store.GetStoreListResponse)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.store.GetStoreListResponse other = (com.alibaba.maxgraph.proto.store.GetStoreListResponse) obj;
+
+    if (!getStoresList()
+        .equals(other.getStoresList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getStoresCount() > 0) {
+      hash = (37 * hash) + STORES_FIELD_NUMBER;
+      hash = (53 * hash) + getStoresList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.store.GetStoreListResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code maxgraph_store.GetStoreListResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:maxgraph_store.GetStoreListResponse)
+      com.alibaba.maxgraph.proto.store.GetStoreListResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.store.MetaServiceOuterClass.internal_static_maxgraph_store_GetStoreListResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.store.MetaServiceOuterClass.internal_static_maxgraph_store_GetStoreListResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.store.GetStoreListResponse.class, com.alibaba.maxgraph.proto.store.GetStoreListResponse.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.store.GetStoreListResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getStoresFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (storesBuilder_ == null) {
+        stores_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        storesBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.store.MetaServiceOuterClass.internal_static_maxgraph_store_GetStoreListResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.store.GetStoreListResponse getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.store.GetStoreListResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.store.GetStoreListResponse build() {
+      com.alibaba.maxgraph.proto.store.GetStoreListResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.alibaba.maxgraph.proto.store.GetStoreListResponse buildPartial() {
+      com.alibaba.maxgraph.proto.store.GetStoreListResponse result = new com.alibaba.maxgraph.proto.store.GetStoreListResponse(this);
+      int from_bitField0_ = bitField0_;
+      if (storesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          stores_ = java.util.Collections.unmodifiableList(stores_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.stores_ = stores_;
+      } else {
+        result.stores_ = storesBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.store.GetStoreListResponse) {
+        return mergeFrom((com.alibaba.maxgraph.proto.store.GetStoreListResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.store.GetStoreListResponse other) {
+      if (other == com.alibaba.maxgraph.proto.store.GetStoreListResponse.getDefaultInstance()) return this;
+      if (storesBuilder_ == null) {
+        if (!other.stores_.isEmpty()) {
+          if (stores_.isEmpty()) {
+            stores_ = other.stores_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureStoresIsMutable();
+            stores_.addAll(other.stores_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.stores_.isEmpty()) {
+          if (storesBuilder_.isEmpty()) {
+            storesBuilder_.dispose();
+            storesBuilder_ = null;
+            stores_ = other.stores_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            storesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getStoresFieldBuilder() : null;
+          } else {
+            storesBuilder_.addAllMessages(other.stores_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.store.GetStoreListResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.store.GetStoreListResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.store.StoreInfo> stores_ =
+      java.util.Collections.emptyList();
+    private void ensureStoresIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        stores_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.store.StoreInfo>(stores_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.store.StoreInfo, com.alibaba.maxgraph.proto.store.StoreInfo.Builder, com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder> storesBuilder_;
+
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.store.StoreInfo> getStoresList() {
+      if (storesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(stores_);
+      } else {
+        return storesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public int getStoresCount() {
+      if (storesBuilder_ == null) {
+        return stores_.size();
+      } else {
+        return storesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.store.StoreInfo getStores(int index) {
+      if (storesBuilder_ == null) {
+        return stores_.get(index);
+      } else {
+        return storesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder setStores(
+        int index, com.alibaba.maxgraph.proto.store.StoreInfo value) {
+      if (storesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureStoresIsMutable();
+        stores_.set(index, value);
+        onChanged();
+      } else {
+        storesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder setStores(
+        int index, com.alibaba.maxgraph.proto.store.StoreInfo.Builder builderForValue) {
+      if (storesBuilder_ == null) {
+        ensureStoresIsMutable();
+        stores_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        storesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder addStores(com.alibaba.maxgraph.proto.store.StoreInfo value) {
+      if (storesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureStoresIsMutable();
+        stores_.add(value);
+        onChanged();
+      } else {
+        storesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder addStores(
+        int index, com.alibaba.maxgraph.proto.store.StoreInfo value) {
+      if (storesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureStoresIsMutable();
+        stores_.add(index, value);
+        onChanged();
+      } else {
+        storesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder addStores(
+        com.alibaba.maxgraph.proto.store.StoreInfo.Builder builderForValue) {
+      if (storesBuilder_ == null) {
+        ensureStoresIsMutable();
+        stores_.add(builderForValue.build());
+        onChanged();
+      } else {
+        storesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder addStores(
+        int index, com.alibaba.maxgraph.proto.store.StoreInfo.Builder builderForValue) {
+      if (storesBuilder_ == null) {
+        ensureStoresIsMutable();
+        stores_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        storesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder addAllStores(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.store.StoreInfo> values) {
+      if (storesBuilder_ == null) {
+        ensureStoresIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, stores_);
+        onChanged();
+      } else {
+        storesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder clearStores() {
+      if (storesBuilder_ == null) {
+        stores_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        storesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public Builder removeStores(int index) {
+      if (storesBuilder_ == null) {
+        ensureStoresIsMutable();
+        stores_.remove(index);
+        onChanged();
+      } else {
+        storesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.store.StoreInfo.Builder getStoresBuilder(
+        int index) {
+      return getStoresFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder getStoresOrBuilder(
+        int index) {
+      if (storesBuilder_ == null) {
+        return stores_.get(index);  } else {
+        return storesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder> 
+         getStoresOrBuilderList() {
+      if (storesBuilder_ != null) {
+        return storesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(stores_);
+      }
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.store.StoreInfo.Builder addStoresBuilder() {
+      return getStoresFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.store.StoreInfo.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.store.StoreInfo.Builder addStoresBuilder(
+        int index) {
+      return getStoresFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.store.StoreInfo.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.store.StoreInfo.Builder> 
+         getStoresBuilderList() {
+      return getStoresFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.store.StoreInfo, com.alibaba.maxgraph.proto.store.StoreInfo.Builder, com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder> 
+        getStoresFieldBuilder() {
+      if (storesBuilder_ == null) {
+        storesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.store.StoreInfo, com.alibaba.maxgraph.proto.store.StoreInfo.Builder, com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder>(
+                stores_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        stores_ = null;
+      }
+      return storesBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:maxgraph_store.GetStoreListResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:maxgraph_store.GetStoreListResponse)
+  private static final com.alibaba.maxgraph.proto.store.GetStoreListResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.store.GetStoreListResponse();
+  }
+
+  public static com.alibaba.maxgraph.proto.store.GetStoreListResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GetStoreListResponse>
+      PARSER = new com.google.protobuf.AbstractParser<GetStoreListResponse>() {
+    @java.lang.Override
+    public GetStoreListResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new GetStoreListResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GetStoreListResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GetStoreListResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.alibaba.maxgraph.proto.store.GetStoreListResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: meta_service.proto
+
+package com.alibaba.maxgraph.proto.store;
+
+public interface GetStoreListResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:maxgraph_store.GetStoreListResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.store.StoreInfo> 
+      getStoresList();
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.store.StoreInfo getStores(int index);
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  int getStoresCount();
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder> 
+      getStoresOrBuilderList();
+  /**
+   * <code>repeated .maxgraph_store.StoreInfo stores = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.store.StoreInfoOrBuilder getStoresOrBuilder(
+      int index);
+}
@@ -0,0 +1,276 @@
+package com.alibaba.maxgraph.proto.store;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: meta_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class MetaServiceGrpc {
+
+  private MetaServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "maxgraph_store.MetaService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.store.GetStoreListRequest,
+      com.alibaba.maxgraph.proto.store.GetStoreListResponse> getGetStoreListMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "get_store_list",
+      requestType = com.alibaba.maxgraph.proto.store.GetStoreListRequest.class,
+      responseType = com.alibaba.maxgraph.proto.store.GetStoreListResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.store.GetStoreListRequest,
+      com.alibaba.maxgraph.proto.store.GetStoreListResponse> getGetStoreListMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.store.GetStoreListRequest, com.alibaba.maxgraph.proto.store.GetStoreListResponse> getGetStoreListMethod;
+    if ((getGetStoreListMethod = MetaServiceGrpc.getGetStoreListMethod) == null) {
+      synchronized (MetaServiceGrpc.class) {
+        if ((getGetStoreListMethod = MetaServiceGrpc.getGetStoreListMethod) == null) {
+          MetaServiceGrpc.getGetStoreListMethod = getGetStoreListMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.proto.store.GetStoreListRequest, com.alibaba.maxgraph.proto.store.GetStoreListResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "get_store_list"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.store.GetStoreListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.proto.store.GetStoreListResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MetaServiceMethodDescriptorSupplier("get_store_list"))
+              .build();
+        }
+      }
+    }
+    return getGetStoreListMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static MetaServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MetaServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MetaServiceStub>() {
+        @java.lang.Override
+        public MetaServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MetaServiceStub(channel, callOptions);
+        }
+      };
+    return MetaServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static MetaServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MetaServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MetaServiceBlockingStub>() {
+        @java.lang.Override
+        public MetaServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MetaServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return MetaServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static MetaServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MetaServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MetaServiceFutureStub>() {
+        @java.lang.Override
+        public MetaServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MetaServiceFutureStub(channel, callOptions);
+        }
+      };
+    return MetaServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class MetaServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void getStoreList(com.alibaba.maxgraph.proto.store.GetStoreListRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.store.GetStoreListResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetStoreListMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetStoreListMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.store.GetStoreListRequest,
+                com.alibaba.maxgraph.proto.store.GetStoreListResponse>(
+                  this, METHODID_GET_STORE_LIST)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class MetaServiceStub extends io.grpc.stub.AbstractAsyncStub<MetaServiceStub> {
+    private MetaServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MetaServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MetaServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getStoreList(com.alibaba.maxgraph.proto.store.GetStoreListRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.store.GetStoreListResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetStoreListMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class MetaServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<MetaServiceBlockingStub> {
+    private MetaServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MetaServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MetaServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.store.GetStoreListResponse getStoreList(com.alibaba.maxgraph.proto.store.GetStoreListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetStoreListMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class MetaServiceFutureStub extends io.grpc.stub.AbstractFutureStub<MetaServiceFutureStub> {
+    private MetaServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MetaServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MetaServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.store.GetStoreListResponse> getStoreList(
+        com.alibaba.maxgraph.proto.store.GetStoreListRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetStoreListMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_STORE_LIST = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final MetaServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(MetaServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_STORE_LIST:
+          serviceImpl.getStoreList((com.alibaba.maxgraph.proto.store.GetStoreListRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.store.GetStoreListResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class MetaServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    MetaServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.proto.store.MetaServiceOuterClass.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("MetaService");
+    }
+  }
+
+  private static final class MetaServiceFileDescriptorSupplier
+      extends MetaServiceBaseDescriptorSupplier {
+    MetaServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class MetaServiceMethodDescriptorSupplier
+      extends MetaServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    MetaServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (MetaServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new MetaServiceFileDescriptorSupplier())
+              .addMethod(getGetStoreListMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,76 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: meta_service.proto
+
+package com.alibaba.maxgraph.proto.store;
+
+public final class MetaServiceOuterClass {
+  private MetaServiceOuterClass() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_store_GetStoreListRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_store_GetStoreListRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_store_GetStoreListResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_store_GetStoreListResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_store_StoreInfo_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_store_StoreInfo_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\022meta_service.proto\022\016maxgraph_store\"\025\n\023" +
+      "GetStoreListRequest\"A\n\024GetStoreListRespo" +
+      "nse\022)\n\006stores\030\001 \003(\0132\031.maxgraph_store.Sto" +
+      "reInfo\"E\n\tStoreInfo\022\n\n\002id\030\001 \001(\005\022\n\n\002ip\030\002 " +
+      "\001(\t\022\014\n\004port\030\003 \001(\005\022\022\n\npartitions\030\004 \003(\0052j\n" +
+      "\013MetaService\022[\n\016get_store_list\022#.maxgrap" +
+      "h_store.GetStoreListRequest\032$.maxgraph_s" +
+      "tore.GetStoreListResponseB\'\n com.alibaba" +
+      ".maxgraph.proto.storeP\001\240\001\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_maxgraph_store_GetStoreListRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_maxgraph_store_GetStoreListRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_store_GetStoreListRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_maxgraph_store_GetStoreListResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_maxgraph_store_GetStoreListResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_store_GetStoreListResponse_descriptor,
+        new java.lang.String[] { "Stores", });
+    internal_static_maxgraph_store_StoreInfo_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_maxgraph_store_StoreInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_store_StoreInfo_descriptor,
+        new java.lang.String[] { "Id", "Ip", "Port", "Partitions", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
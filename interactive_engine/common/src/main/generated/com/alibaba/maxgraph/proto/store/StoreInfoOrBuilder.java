@@ -0,0 +1,50 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: meta_service.proto
+
+package com.alibaba.maxgraph.proto.store;
+
+public interface StoreInfoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:maxgraph_store.StoreInfo)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 id = 1;</code>
+   * @return The id.
+   */
+  int getId();
+
+  /**
+   * <code>string ip = 2;</code>
+   * @return The ip.
+   */
+  java.lang.String getIp();
+  /**
+   * <code>string ip = 2;</code>
+   * @return The bytes for ip.
+   */
+  com.google.protobuf.ByteString
+      getIpBytes();
+
+  /**
+   * <code>int32 port = 3;</code>
+   * @return The port.
+   */
+  int getPort();
+
+  /**
+   * <code>repeated int32 partitions = 4;</code>
+   * @return A list containing the partitions.
+   */
+  java.util.List<java.lang.Integer> getPartitionsList();
+  /**
+   * <code>repeated int32 partitions = 4;</code>
+   * @return The count of partitions.
+   */
+  int getPartitionsCount();
+  /**
+   * <code>repeated int32 partitions = 4;</code>
+   * @param index The index of the element to return.
+   * @return The partitions at the given index.
+   */
+  int getPartitions(int index);
+}
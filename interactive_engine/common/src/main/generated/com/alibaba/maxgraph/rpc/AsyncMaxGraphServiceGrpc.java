@@ -0,0 +1,551 @@
+package com.alibaba.maxgraph.rpc;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: gremlin_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class AsyncMaxGraphServiceGrpc {
+
+  private AsyncMaxGraphServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "maxgraph.AsyncMaxGraphService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.QueryResponse> getAsyncQueryMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "asyncQuery",
+      requestType = com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.class,
+      responseType = com.alibaba.maxgraph.Message.QueryResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.QueryResponse> getAsyncQueryMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.QueryResponse> getAsyncQueryMethod;
+    if ((getAsyncQueryMethod = AsyncMaxGraphServiceGrpc.getAsyncQueryMethod) == null) {
+      synchronized (AsyncMaxGraphServiceGrpc.class) {
+        if ((getAsyncQueryMethod = AsyncMaxGraphServiceGrpc.getAsyncQueryMethod) == null) {
+          AsyncMaxGraphServiceGrpc.getAsyncQueryMethod = getAsyncQueryMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.QueryResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "asyncQuery"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.QueryResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new AsyncMaxGraphServiceMethodDescriptorSupplier("asyncQuery"))
+              .build();
+        }
+      }
+    }
+    return getAsyncQueryMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.OperationResponse> getAsyncPrepareMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "asyncPrepare",
+      requestType = com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.class,
+      responseType = com.alibaba.maxgraph.Message.OperationResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.OperationResponse> getAsyncPrepareMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.OperationResponse> getAsyncPrepareMethod;
+    if ((getAsyncPrepareMethod = AsyncMaxGraphServiceGrpc.getAsyncPrepareMethod) == null) {
+      synchronized (AsyncMaxGraphServiceGrpc.class) {
+        if ((getAsyncPrepareMethod = AsyncMaxGraphServiceGrpc.getAsyncPrepareMethod) == null) {
+          AsyncMaxGraphServiceGrpc.getAsyncPrepareMethod = getAsyncPrepareMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.OperationResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "asyncPrepare"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.OperationResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new AsyncMaxGraphServiceMethodDescriptorSupplier("asyncPrepare"))
+              .build();
+        }
+      }
+    }
+    return getAsyncPrepareMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.Query,
+      com.alibaba.maxgraph.Message.QueryResponse> getAsyncQuery2Method;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "asyncQuery2",
+      requestType = com.alibaba.maxgraph.QueryFlowOuterClass.Query.class,
+      responseType = com.alibaba.maxgraph.Message.QueryResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.Query,
+      com.alibaba.maxgraph.Message.QueryResponse> getAsyncQuery2Method() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.Query, com.alibaba.maxgraph.Message.QueryResponse> getAsyncQuery2Method;
+    if ((getAsyncQuery2Method = AsyncMaxGraphServiceGrpc.getAsyncQuery2Method) == null) {
+      synchronized (AsyncMaxGraphServiceGrpc.class) {
+        if ((getAsyncQuery2Method = AsyncMaxGraphServiceGrpc.getAsyncQuery2Method) == null) {
+          AsyncMaxGraphServiceGrpc.getAsyncQuery2Method = getAsyncQuery2Method =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.QueryFlowOuterClass.Query, com.alibaba.maxgraph.Message.QueryResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "asyncQuery2"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.QueryFlowOuterClass.Query.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.QueryResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new AsyncMaxGraphServiceMethodDescriptorSupplier("asyncQuery2"))
+              .build();
+        }
+      }
+    }
+    return getAsyncQuery2Method;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.QueryResponse> getAsyncExecuteMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "asyncExecute",
+      requestType = com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.class,
+      responseType = com.alibaba.maxgraph.Message.QueryResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.QueryResponse> getAsyncExecuteMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.QueryResponse> getAsyncExecuteMethod;
+    if ((getAsyncExecuteMethod = AsyncMaxGraphServiceGrpc.getAsyncExecuteMethod) == null) {
+      synchronized (AsyncMaxGraphServiceGrpc.class) {
+        if ((getAsyncExecuteMethod = AsyncMaxGraphServiceGrpc.getAsyncExecuteMethod) == null) {
+          AsyncMaxGraphServiceGrpc.getAsyncExecuteMethod = getAsyncExecuteMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.QueryResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "asyncExecute"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.QueryResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new AsyncMaxGraphServiceMethodDescriptorSupplier("asyncExecute"))
+              .build();
+        }
+      }
+    }
+    return getAsyncExecuteMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.Message.RemoveDataflowRequest,
+      com.alibaba.maxgraph.Message.OperationResponse> getAsyncRemoveMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "asyncRemove",
+      requestType = com.alibaba.maxgraph.Message.RemoveDataflowRequest.class,
+      responseType = com.alibaba.maxgraph.Message.OperationResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.Message.RemoveDataflowRequest,
+      com.alibaba.maxgraph.Message.OperationResponse> getAsyncRemoveMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.Message.RemoveDataflowRequest, com.alibaba.maxgraph.Message.OperationResponse> getAsyncRemoveMethod;
+    if ((getAsyncRemoveMethod = AsyncMaxGraphServiceGrpc.getAsyncRemoveMethod) == null) {
+      synchronized (AsyncMaxGraphServiceGrpc.class) {
+        if ((getAsyncRemoveMethod = AsyncMaxGraphServiceGrpc.getAsyncRemoveMethod) == null) {
+          AsyncMaxGraphServiceGrpc.getAsyncRemoveMethod = getAsyncRemoveMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.Message.RemoveDataflowRequest, com.alibaba.maxgraph.Message.OperationResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "asyncRemove"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.RemoveDataflowRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.OperationResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new AsyncMaxGraphServiceMethodDescriptorSupplier("asyncRemove"))
+              .build();
+        }
+      }
+    }
+    return getAsyncRemoveMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static AsyncMaxGraphServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AsyncMaxGraphServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AsyncMaxGraphServiceStub>() {
+        @java.lang.Override
+        public AsyncMaxGraphServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AsyncMaxGraphServiceStub(channel, callOptions);
+        }
+      };
+    return AsyncMaxGraphServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static AsyncMaxGraphServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AsyncMaxGraphServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AsyncMaxGraphServiceBlockingStub>() {
+        @java.lang.Override
+        public AsyncMaxGraphServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AsyncMaxGraphServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return AsyncMaxGraphServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static AsyncMaxGraphServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<AsyncMaxGraphServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<AsyncMaxGraphServiceFutureStub>() {
+        @java.lang.Override
+        public AsyncMaxGraphServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new AsyncMaxGraphServiceFutureStub(channel, callOptions);
+        }
+      };
+    return AsyncMaxGraphServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class AsyncMaxGraphServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void asyncQuery(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAsyncQueryMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void asyncPrepare(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAsyncPrepareMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void asyncQuery2(com.alibaba.maxgraph.QueryFlowOuterClass.Query request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAsyncQuery2Method(), responseObserver);
+    }
+
+    /**
+     */
+    public void asyncExecute(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAsyncExecuteMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void asyncRemove(com.alibaba.maxgraph.Message.RemoveDataflowRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAsyncRemoveMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getAsyncQueryMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+                com.alibaba.maxgraph.Message.QueryResponse>(
+                  this, METHODID_ASYNC_QUERY)))
+          .addMethod(
+            getAsyncPrepareMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+                com.alibaba.maxgraph.Message.OperationResponse>(
+                  this, METHODID_ASYNC_PREPARE)))
+          .addMethod(
+            getAsyncQuery2Method(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.QueryFlowOuterClass.Query,
+                com.alibaba.maxgraph.Message.QueryResponse>(
+                  this, METHODID_ASYNC_QUERY2)))
+          .addMethod(
+            getAsyncExecuteMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+                com.alibaba.maxgraph.Message.QueryResponse>(
+                  this, METHODID_ASYNC_EXECUTE)))
+          .addMethod(
+            getAsyncRemoveMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.Message.RemoveDataflowRequest,
+                com.alibaba.maxgraph.Message.OperationResponse>(
+                  this, METHODID_ASYNC_REMOVE)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class AsyncMaxGraphServiceStub extends io.grpc.stub.AbstractAsyncStub<AsyncMaxGraphServiceStub> {
+    private AsyncMaxGraphServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AsyncMaxGraphServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AsyncMaxGraphServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void asyncQuery(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getAsyncQueryMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void asyncPrepare(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAsyncPrepareMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void asyncQuery2(com.alibaba.maxgraph.QueryFlowOuterClass.Query request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getAsyncQuery2Method(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void asyncExecute(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getAsyncExecuteMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void asyncRemove(com.alibaba.maxgraph.Message.RemoveDataflowRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAsyncRemoveMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class AsyncMaxGraphServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<AsyncMaxGraphServiceBlockingStub> {
+    private AsyncMaxGraphServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AsyncMaxGraphServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AsyncMaxGraphServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.Message.QueryResponse> asyncQuery(
+        com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getAsyncQueryMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.Message.OperationResponse asyncPrepare(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAsyncPrepareMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.Message.QueryResponse> asyncQuery2(
+        com.alibaba.maxgraph.QueryFlowOuterClass.Query request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getAsyncQuery2Method(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.Message.QueryResponse> asyncExecute(
+        com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getAsyncExecuteMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.Message.OperationResponse asyncRemove(com.alibaba.maxgraph.Message.RemoveDataflowRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAsyncRemoveMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class AsyncMaxGraphServiceFutureStub extends io.grpc.stub.AbstractFutureStub<AsyncMaxGraphServiceFutureStub> {
+    private AsyncMaxGraphServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected AsyncMaxGraphServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new AsyncMaxGraphServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.Message.OperationResponse> asyncPrepare(
+        com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAsyncPrepareMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.Message.OperationResponse> asyncRemove(
+        com.alibaba.maxgraph.Message.RemoveDataflowRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAsyncRemoveMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_ASYNC_QUERY = 0;
+  private static final int METHODID_ASYNC_PREPARE = 1;
+  private static final int METHODID_ASYNC_QUERY2 = 2;
+  private static final int METHODID_ASYNC_EXECUTE = 3;
+  private static final int METHODID_ASYNC_REMOVE = 4;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AsyncMaxGraphServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AsyncMaxGraphServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_ASYNC_QUERY:
+          serviceImpl.asyncQuery((com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse>) responseObserver);
+          break;
+        case METHODID_ASYNC_PREPARE:
+          serviceImpl.asyncPrepare((com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse>) responseObserver);
+          break;
+        case METHODID_ASYNC_QUERY2:
+          serviceImpl.asyncQuery2((com.alibaba.maxgraph.QueryFlowOuterClass.Query) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse>) responseObserver);
+          break;
+        case METHODID_ASYNC_EXECUTE:
+          serviceImpl.asyncExecute((com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse>) responseObserver);
+          break;
+        case METHODID_ASYNC_REMOVE:
+          serviceImpl.asyncRemove((com.alibaba.maxgraph.Message.RemoveDataflowRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class AsyncMaxGraphServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    AsyncMaxGraphServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.rpc.GremlinService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("AsyncMaxGraphService");
+    }
+  }
+
+  private static final class AsyncMaxGraphServiceFileDescriptorSupplier
+      extends AsyncMaxGraphServiceBaseDescriptorSupplier {
+    AsyncMaxGraphServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class AsyncMaxGraphServiceMethodDescriptorSupplier
+      extends AsyncMaxGraphServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    AsyncMaxGraphServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (AsyncMaxGraphServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new AsyncMaxGraphServiceFileDescriptorSupplier())
+              .addMethod(getAsyncQueryMethod())
+              .addMethod(getAsyncPrepareMethod())
+              .addMethod(getAsyncQuery2Method())
+              .addMethod(getAsyncExecuteMethod())
+              .addMethod(getAsyncRemoveMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
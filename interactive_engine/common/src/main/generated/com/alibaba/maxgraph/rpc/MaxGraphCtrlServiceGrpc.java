@@ -0,0 +1,424 @@
+package com.alibaba.maxgraph.rpc;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: gremlin_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class MaxGraphCtrlServiceGrpc {
+
+  private MaxGraphCtrlServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "maxgraph.MaxGraphCtrlService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest,
+      com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse> getShowProcessListMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "showProcessList",
+      requestType = com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest.class,
+      responseType = com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest,
+      com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse> getShowProcessListMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest, com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse> getShowProcessListMethod;
+    if ((getShowProcessListMethod = MaxGraphCtrlServiceGrpc.getShowProcessListMethod) == null) {
+      synchronized (MaxGraphCtrlServiceGrpc.class) {
+        if ((getShowProcessListMethod = MaxGraphCtrlServiceGrpc.getShowProcessListMethod) == null) {
+          MaxGraphCtrlServiceGrpc.getShowProcessListMethod = getShowProcessListMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest, com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "showProcessList"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MaxGraphCtrlServiceMethodDescriptorSupplier("showProcessList"))
+              .build();
+        }
+      }
+    }
+    return getShowProcessListMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest,
+      com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> getCancelDataflowMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "cancelDataflow",
+      requestType = com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest.class,
+      responseType = com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest,
+      com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> getCancelDataflowMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest, com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> getCancelDataflowMethod;
+    if ((getCancelDataflowMethod = MaxGraphCtrlServiceGrpc.getCancelDataflowMethod) == null) {
+      synchronized (MaxGraphCtrlServiceGrpc.class) {
+        if ((getCancelDataflowMethod = MaxGraphCtrlServiceGrpc.getCancelDataflowMethod) == null) {
+          MaxGraphCtrlServiceGrpc.getCancelDataflowMethod = getCancelDataflowMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest, com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "cancelDataflow"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MaxGraphCtrlServiceMethodDescriptorSupplier("cancelDataflow"))
+              .build();
+        }
+      }
+    }
+    return getCancelDataflowMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest,
+      com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> getCancelDataflowByFrontMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "cancelDataflowByFront",
+      requestType = com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest.class,
+      responseType = com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest,
+      com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> getCancelDataflowByFrontMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest, com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> getCancelDataflowByFrontMethod;
+    if ((getCancelDataflowByFrontMethod = MaxGraphCtrlServiceGrpc.getCancelDataflowByFrontMethod) == null) {
+      synchronized (MaxGraphCtrlServiceGrpc.class) {
+        if ((getCancelDataflowByFrontMethod = MaxGraphCtrlServiceGrpc.getCancelDataflowByFrontMethod) == null) {
+          MaxGraphCtrlServiceGrpc.getCancelDataflowByFrontMethod = getCancelDataflowByFrontMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest, com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "cancelDataflowByFront"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MaxGraphCtrlServiceMethodDescriptorSupplier("cancelDataflowByFront"))
+              .build();
+        }
+      }
+    }
+    return getCancelDataflowByFrontMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static MaxGraphCtrlServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MaxGraphCtrlServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MaxGraphCtrlServiceStub>() {
+        @java.lang.Override
+        public MaxGraphCtrlServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MaxGraphCtrlServiceStub(channel, callOptions);
+        }
+      };
+    return MaxGraphCtrlServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static MaxGraphCtrlServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MaxGraphCtrlServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MaxGraphCtrlServiceBlockingStub>() {
+        @java.lang.Override
+        public MaxGraphCtrlServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MaxGraphCtrlServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return MaxGraphCtrlServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static MaxGraphCtrlServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MaxGraphCtrlServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MaxGraphCtrlServiceFutureStub>() {
+        @java.lang.Override
+        public MaxGraphCtrlServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MaxGraphCtrlServiceFutureStub(channel, callOptions);
+        }
+      };
+    return MaxGraphCtrlServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class MaxGraphCtrlServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void showProcessList(com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getShowProcessListMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void cancelDataflow(com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCancelDataflowMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void cancelDataflowByFront(com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCancelDataflowByFrontMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getShowProcessListMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest,
+                com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse>(
+                  this, METHODID_SHOW_PROCESS_LIST)))
+          .addMethod(
+            getCancelDataflowMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest,
+                com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse>(
+                  this, METHODID_CANCEL_DATAFLOW)))
+          .addMethod(
+            getCancelDataflowByFrontMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest,
+                com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse>(
+                  this, METHODID_CANCEL_DATAFLOW_BY_FRONT)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class MaxGraphCtrlServiceStub extends io.grpc.stub.AbstractAsyncStub<MaxGraphCtrlServiceStub> {
+    private MaxGraphCtrlServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MaxGraphCtrlServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MaxGraphCtrlServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void showProcessList(com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getShowProcessListMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void cancelDataflow(com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCancelDataflowMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void cancelDataflowByFront(com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCancelDataflowByFrontMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class MaxGraphCtrlServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<MaxGraphCtrlServiceBlockingStub> {
+    private MaxGraphCtrlServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MaxGraphCtrlServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MaxGraphCtrlServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse showProcessList(com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getShowProcessListMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse cancelDataflow(com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCancelDataflowMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse cancelDataflowByFront(com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCancelDataflowByFrontMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class MaxGraphCtrlServiceFutureStub extends io.grpc.stub.AbstractFutureStub<MaxGraphCtrlServiceFutureStub> {
+    private MaxGraphCtrlServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MaxGraphCtrlServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MaxGraphCtrlServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse> showProcessList(
+        com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getShowProcessListMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> cancelDataflow(
+        com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCancelDataflowMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse> cancelDataflowByFront(
+        com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCancelDataflowByFrontMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_SHOW_PROCESS_LIST = 0;
+  private static final int METHODID_CANCEL_DATAFLOW = 1;
+  private static final int METHODID_CANCEL_DATAFLOW_BY_FRONT = 2;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final MaxGraphCtrlServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(MaxGraphCtrlServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_SHOW_PROCESS_LIST:
+          serviceImpl.showProcessList((com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.ShowProcessListResponse>) responseObserver);
+          break;
+        case METHODID_CANCEL_DATAFLOW:
+          serviceImpl.cancelDataflow((com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse>) responseObserver);
+          break;
+        case METHODID_CANCEL_DATAFLOW_BY_FRONT:
+          serviceImpl.cancelDataflowByFront((com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowByFrontRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.rpc.GremlinService.CancelDataflowResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class MaxGraphCtrlServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    MaxGraphCtrlServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.rpc.GremlinService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("MaxGraphCtrlService");
+    }
+  }
+
+  private static final class MaxGraphCtrlServiceFileDescriptorSupplier
+      extends MaxGraphCtrlServiceBaseDescriptorSupplier {
+    MaxGraphCtrlServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class MaxGraphCtrlServiceMethodDescriptorSupplier
+      extends MaxGraphCtrlServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    MaxGraphCtrlServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (MaxGraphCtrlServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new MaxGraphCtrlServiceFileDescriptorSupplier())
+              .addMethod(getShowProcessListMethod())
+              .addMethod(getCancelDataflowMethod())
+              .addMethod(getCancelDataflowByFrontMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
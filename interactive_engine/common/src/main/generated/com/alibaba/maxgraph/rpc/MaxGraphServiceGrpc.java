@@ -0,0 +1,551 @@
+package com.alibaba.maxgraph.rpc;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: gremlin_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class MaxGraphServiceGrpc {
+
+  private MaxGraphServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "maxgraph.MaxGraphService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.QueryResponse> getQueryMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "query",
+      requestType = com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.class,
+      responseType = com.alibaba.maxgraph.Message.QueryResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.QueryResponse> getQueryMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.QueryResponse> getQueryMethod;
+    if ((getQueryMethod = MaxGraphServiceGrpc.getQueryMethod) == null) {
+      synchronized (MaxGraphServiceGrpc.class) {
+        if ((getQueryMethod = MaxGraphServiceGrpc.getQueryMethod) == null) {
+          MaxGraphServiceGrpc.getQueryMethod = getQueryMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.QueryResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "query"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.QueryResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MaxGraphServiceMethodDescriptorSupplier("query"))
+              .build();
+        }
+      }
+    }
+    return getQueryMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.OperationResponse> getPrepareMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "prepare",
+      requestType = com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.class,
+      responseType = com.alibaba.maxgraph.Message.OperationResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.OperationResponse> getPrepareMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.OperationResponse> getPrepareMethod;
+    if ((getPrepareMethod = MaxGraphServiceGrpc.getPrepareMethod) == null) {
+      synchronized (MaxGraphServiceGrpc.class) {
+        if ((getPrepareMethod = MaxGraphServiceGrpc.getPrepareMethod) == null) {
+          MaxGraphServiceGrpc.getPrepareMethod = getPrepareMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.OperationResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "prepare"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.OperationResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MaxGraphServiceMethodDescriptorSupplier("prepare"))
+              .build();
+        }
+      }
+    }
+    return getPrepareMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.Query,
+      com.alibaba.maxgraph.Message.QueryResponse> getQuery2Method;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "query2",
+      requestType = com.alibaba.maxgraph.QueryFlowOuterClass.Query.class,
+      responseType = com.alibaba.maxgraph.Message.QueryResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.Query,
+      com.alibaba.maxgraph.Message.QueryResponse> getQuery2Method() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.Query, com.alibaba.maxgraph.Message.QueryResponse> getQuery2Method;
+    if ((getQuery2Method = MaxGraphServiceGrpc.getQuery2Method) == null) {
+      synchronized (MaxGraphServiceGrpc.class) {
+        if ((getQuery2Method = MaxGraphServiceGrpc.getQuery2Method) == null) {
+          MaxGraphServiceGrpc.getQuery2Method = getQuery2Method =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.QueryFlowOuterClass.Query, com.alibaba.maxgraph.Message.QueryResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "query2"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.QueryFlowOuterClass.Query.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.QueryResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MaxGraphServiceMethodDescriptorSupplier("query2"))
+              .build();
+        }
+      }
+    }
+    return getQuery2Method;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.QueryResponse> getExecuteMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "execute",
+      requestType = com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.class,
+      responseType = com.alibaba.maxgraph.Message.QueryResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+      com.alibaba.maxgraph.Message.QueryResponse> getExecuteMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.QueryResponse> getExecuteMethod;
+    if ((getExecuteMethod = MaxGraphServiceGrpc.getExecuteMethod) == null) {
+      synchronized (MaxGraphServiceGrpc.class) {
+        if ((getExecuteMethod = MaxGraphServiceGrpc.getExecuteMethod) == null) {
+          MaxGraphServiceGrpc.getExecuteMethod = getExecuteMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow, com.alibaba.maxgraph.Message.QueryResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "execute"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.QueryResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MaxGraphServiceMethodDescriptorSupplier("execute"))
+              .build();
+        }
+      }
+    }
+    return getExecuteMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.alibaba.maxgraph.Message.RemoveDataflowRequest,
+      com.alibaba.maxgraph.Message.OperationResponse> getRemoveMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "remove",
+      requestType = com.alibaba.maxgraph.Message.RemoveDataflowRequest.class,
+      responseType = com.alibaba.maxgraph.Message.OperationResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.alibaba.maxgraph.Message.RemoveDataflowRequest,
+      com.alibaba.maxgraph.Message.OperationResponse> getRemoveMethod() {
+    io.grpc.MethodDescriptor<com.alibaba.maxgraph.Message.RemoveDataflowRequest, com.alibaba.maxgraph.Message.OperationResponse> getRemoveMethod;
+    if ((getRemoveMethod = MaxGraphServiceGrpc.getRemoveMethod) == null) {
+      synchronized (MaxGraphServiceGrpc.class) {
+        if ((getRemoveMethod = MaxGraphServiceGrpc.getRemoveMethod) == null) {
+          MaxGraphServiceGrpc.getRemoveMethod = getRemoveMethod =
+              io.grpc.MethodDescriptor.<com.alibaba.maxgraph.Message.RemoveDataflowRequest, com.alibaba.maxgraph.Message.OperationResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "remove"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.RemoveDataflowRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.alibaba.maxgraph.Message.OperationResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MaxGraphServiceMethodDescriptorSupplier("remove"))
+              .build();
+        }
+      }
+    }
+    return getRemoveMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static MaxGraphServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MaxGraphServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MaxGraphServiceStub>() {
+        @java.lang.Override
+        public MaxGraphServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MaxGraphServiceStub(channel, callOptions);
+        }
+      };
+    return MaxGraphServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static MaxGraphServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MaxGraphServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MaxGraphServiceBlockingStub>() {
+        @java.lang.Override
+        public MaxGraphServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MaxGraphServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return MaxGraphServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static MaxGraphServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<MaxGraphServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<MaxGraphServiceFutureStub>() {
+        @java.lang.Override
+        public MaxGraphServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new MaxGraphServiceFutureStub(channel, callOptions);
+        }
+      };
+    return MaxGraphServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class MaxGraphServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void query(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getQueryMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void prepare(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getPrepareMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void query2(com.alibaba.maxgraph.QueryFlowOuterClass.Query request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getQuery2Method(), responseObserver);
+    }
+
+    /**
+     */
+    public void execute(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getExecuteMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void remove(com.alibaba.maxgraph.Message.RemoveDataflowRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getRemoveMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getQueryMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+                com.alibaba.maxgraph.Message.QueryResponse>(
+                  this, METHODID_QUERY)))
+          .addMethod(
+            getPrepareMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+                com.alibaba.maxgraph.Message.OperationResponse>(
+                  this, METHODID_PREPARE)))
+          .addMethod(
+            getQuery2Method(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.QueryFlowOuterClass.Query,
+                com.alibaba.maxgraph.Message.QueryResponse>(
+                  this, METHODID_QUERY2)))
+          .addMethod(
+            getExecuteMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow,
+                com.alibaba.maxgraph.Message.QueryResponse>(
+                  this, METHODID_EXECUTE)))
+          .addMethod(
+            getRemoveMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.Message.RemoveDataflowRequest,
+                com.alibaba.maxgraph.Message.OperationResponse>(
+                  this, METHODID_REMOVE)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class MaxGraphServiceStub extends io.grpc.stub.AbstractAsyncStub<MaxGraphServiceStub> {
+    private MaxGraphServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MaxGraphServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MaxGraphServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void query(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getQueryMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void prepare(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getPrepareMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void query2(com.alibaba.maxgraph.QueryFlowOuterClass.Query request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getQuery2Method(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void execute(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getExecuteMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void remove(com.alibaba.maxgraph.Message.RemoveDataflowRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getRemoveMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class MaxGraphServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<MaxGraphServiceBlockingStub> {
+    private MaxGraphServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MaxGraphServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MaxGraphServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.Message.QueryResponse> query(
+        com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getQueryMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.Message.OperationResponse prepare(com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getPrepareMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.Message.QueryResponse> query2(
+        com.alibaba.maxgraph.QueryFlowOuterClass.Query request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getQuery2Method(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.alibaba.maxgraph.Message.QueryResponse> execute(
+        com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getExecuteMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.Message.OperationResponse remove(com.alibaba.maxgraph.Message.RemoveDataflowRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getRemoveMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class MaxGraphServiceFutureStub extends io.grpc.stub.AbstractFutureStub<MaxGraphServiceFutureStub> {
+    private MaxGraphServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected MaxGraphServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new MaxGraphServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.Message.OperationResponse> prepare(
+        com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getPrepareMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.Message.OperationResponse> remove(
+        com.alibaba.maxgraph.Message.RemoveDataflowRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getRemoveMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_QUERY = 0;
+  private static final int METHODID_PREPARE = 1;
+  private static final int METHODID_QUERY2 = 2;
+  private static final int METHODID_EXECUTE = 3;
+  private static final int METHODID_REMOVE = 4;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final MaxGraphServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(MaxGraphServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_QUERY:
+          serviceImpl.query((com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse>) responseObserver);
+          break;
+        case METHODID_PREPARE:
+          serviceImpl.prepare((com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse>) responseObserver);
+          break;
+        case METHODID_QUERY2:
+          serviceImpl.query2((com.alibaba.maxgraph.QueryFlowOuterClass.Query) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse>) responseObserver);
+          break;
+        case METHODID_EXECUTE:
+          serviceImpl.execute((com.alibaba.maxgraph.QueryFlowOuterClass.QueryFlow) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.QueryResponse>) responseObserver);
+          break;
+        case METHODID_REMOVE:
+          serviceImpl.remove((com.alibaba.maxgraph.Message.RemoveDataflowRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.Message.OperationResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class MaxGraphServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    MaxGraphServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.alibaba.maxgraph.rpc.GremlinService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("MaxGraphService");
+    }
+  }
+
+  private static final class MaxGraphServiceFileDescriptorSupplier
+      extends MaxGraphServiceBaseDescriptorSupplier {
+    MaxGraphServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class MaxGraphServiceMethodDescriptorSupplier
+      extends MaxGraphServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    MaxGraphServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (MaxGraphServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new MaxGraphServiceFileDescriptorSupplier())
+              .addMethod(getQueryMethod())
+              .addMethod(getPrepareMethod())
+              .addMethod(getQuery2Method())
+              .addMethod(getExecuteMethod())
+              .addMethod(getRemoveMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,336 @@
+package maxgraph_store;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.42.1)",
+    comments = "Source: store_node.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class GraphStoreServiceGrpc {
+
+  private GraphStoreServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "maxgraph_store.GraphStoreService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<maxgraph_store.StoreNode.ScanDataRequest,
+      maxgraph_store.StoreNode.VertexData> getScanVertexMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "scanVertex",
+      requestType = maxgraph_store.StoreNode.ScanDataRequest.class,
+      responseType = maxgraph_store.StoreNode.VertexData.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<maxgraph_store.StoreNode.ScanDataRequest,
+      maxgraph_store.StoreNode.VertexData> getScanVertexMethod() {
+    io.grpc.MethodDescriptor<maxgraph_store.StoreNode.ScanDataRequest, maxgraph_store.StoreNode.VertexData> getScanVertexMethod;
+    if ((getScanVertexMethod = GraphStoreServiceGrpc.getScanVertexMethod) == null) {
+      synchronized (GraphStoreServiceGrpc.class) {
+        if ((getScanVertexMethod = GraphStoreServiceGrpc.getScanVertexMethod) == null) {
+          GraphStoreServiceGrpc.getScanVertexMethod = getScanVertexMethod =
+              io.grpc.MethodDescriptor.<maxgraph_store.StoreNode.ScanDataRequest, maxgraph_store.StoreNode.VertexData>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "scanVertex"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  maxgraph_store.StoreNode.ScanDataRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  maxgraph_store.StoreNode.VertexData.getDefaultInstance()))
+              .setSchemaDescriptor(new GraphStoreServiceMethodDescriptorSupplier("scanVertex"))
+              .build();
+        }
+      }
+    }
+    return getScanVertexMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<maxgraph_store.StoreNode.ScanDataRequest,
+      maxgraph_store.StoreNode.EdgeData> getScanEdgeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "scanEdge",
+      requestType = maxgraph_store.StoreNode.ScanDataRequest.class,
+      responseType = maxgraph_store.StoreNode.EdgeData.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<maxgraph_store.StoreNode.ScanDataRequest,
+      maxgraph_store.StoreNode.EdgeData> getScanEdgeMethod() {
+    io.grpc.MethodDescriptor<maxgraph_store.StoreNode.ScanDataRequest, maxgraph_store.StoreNode.EdgeData> getScanEdgeMethod;
+    if ((getScanEdgeMethod = GraphStoreServiceGrpc.getScanEdgeMethod) == null) {
+      synchronized (GraphStoreServiceGrpc.class) {
+        if ((getScanEdgeMethod = GraphStoreServiceGrpc.getScanEdgeMethod) == null) {
+          GraphStoreServiceGrpc.getScanEdgeMethod = getScanEdgeMethod =
+              io.grpc.MethodDescriptor.<maxgraph_store.StoreNode.ScanDataRequest, maxgraph_store.StoreNode.EdgeData>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "scanEdge"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  maxgraph_store.StoreNode.ScanDataRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  maxgraph_store.StoreNode.EdgeData.getDefaultInstance()))
+              .setSchemaDescriptor(new GraphStoreServiceMethodDescriptorSupplier("scanEdge"))
+              .build();
+        }
+      }
+    }
+    return getScanEdgeMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static GraphStoreServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<GraphStoreServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<GraphStoreServiceStub>() {
+        @java.lang.Override
+        public GraphStoreServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new GraphStoreServiceStub(channel, callOptions);
+        }
+      };
+    return GraphStoreServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static GraphStoreServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<GraphStoreServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<GraphStoreServiceBlockingStub>() {
+        @java.lang.Override
+        public GraphStoreServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new GraphStoreServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return GraphStoreServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static GraphStoreServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<GraphStoreServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<GraphStoreServiceFutureStub>() {
+        @java.lang.Override
+        public GraphStoreServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new GraphStoreServiceFutureStub(channel, callOptions);
+        }
+      };
+    return GraphStoreServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class GraphStoreServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void scanVertex(maxgraph_store.StoreNode.ScanDataRequest request,
+        io.grpc.stub.StreamObserver<maxgraph_store.StoreNode.VertexData> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getScanVertexMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void scanEdge(maxgraph_store.StoreNode.ScanDataRequest request,
+        io.grpc.stub.StreamObserver<maxgraph_store.StoreNode.EdgeData> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getScanEdgeMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getScanVertexMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                maxgraph_store.StoreNode.ScanDataRequest,
+                maxgraph_store.StoreNode.VertexData>(
+                  this, METHODID_SCAN_VERTEX)))
+          .addMethod(
+            getScanEdgeMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                maxgraph_store.StoreNode.ScanDataRequest,
+                maxgraph_store.StoreNode.EdgeData>(
+                  this, METHODID_SCAN_EDGE)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class GraphStoreServiceStub extends io.grpc.stub.AbstractAsyncStub<GraphStoreServiceStub> {
+    private GraphStoreServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected GraphStoreServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new GraphStoreServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void scanVertex(maxgraph_store.StoreNode.ScanDataRequest request,
+        io.grpc.stub.StreamObserver<maxgraph_store.StoreNode.VertexData> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getScanVertexMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void scanEdge(maxgraph_store.StoreNode.ScanDataRequest request,
+        io.grpc.stub.StreamObserver<maxgraph_store.StoreNode.EdgeData> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getScanEdgeMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class GraphStoreServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<GraphStoreServiceBlockingStub> {
+    private GraphStoreServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected GraphStoreServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new GraphStoreServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public java.util.Iterator<maxgraph_store.StoreNode.VertexData> scanVertex(
+        maxgraph_store.StoreNode.ScanDataRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getScanVertexMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<maxgraph_store.StoreNode.EdgeData> scanEdge(
+        maxgraph_store.StoreNode.ScanDataRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getScanEdgeMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class GraphStoreServiceFutureStub extends io.grpc.stub.AbstractFutureStub<GraphStoreServiceFutureStub> {
+    private GraphStoreServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected GraphStoreServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new GraphStoreServiceFutureStub(channel, callOptions);
+    }
+  }
+
+  private static final int METHODID_SCAN_VERTEX = 0;
+  private static final int METHODID_SCAN_EDGE = 1;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final GraphStoreServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(GraphStoreServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_SCAN_VERTEX:
+          serviceImpl.scanVertex((maxgraph_store.StoreNode.ScanDataRequest) request,
+              (io.grpc.stub.StreamObserver<maxgraph_store.StoreNode.VertexData>) responseObserver);
+          break;
+        case METHODID_SCAN_EDGE:
+          serviceImpl.scanEdge((maxgraph_store.StoreNode.ScanDataRequest) request,
+              (io.grpc.stub.StreamObserver<maxgraph_store.StoreNode.EdgeData>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class GraphStoreServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    GraphStoreServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return maxgraph_store.StoreNode.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("GraphStoreService");
+    }
+  }
+
+  private static final class GraphStoreServiceFileDescriptorSupplier
+      extends GraphStoreServiceBaseDescriptorSupplier {
+    GraphStoreServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class GraphStoreServiceMethodDescriptorSupplier
+      extends GraphStoreServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    GraphStoreServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (GraphStoreServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new GraphStoreServiceFileDescriptorSupplier())
+              .addMethod(getScanVertexMethod())
+              .addMethod(getScanEdgeMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,3748 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: store_node.proto
+
+package maxgraph_store;
+
+public final class StoreNode {
+  private StoreNode() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface ScanDataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:maxgraph_store.ScanDataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    long getSnapshotId();
+
+    /**
+     * <pre>
+     * if label &lt;= 0, all types of data will be return
+     * </pre>
+     *
+     * <code>int32 label = 2;</code>
+     * @return The label.
+     */
+    int getLabel();
+
+    /**
+     * <pre>
+     * if partition_id &lt; 0, all partitions of data will be return
+     * </pre>
+     *
+     * <code>int32 partition_id = 3;</code>
+     * @return The partitionId.
+     */
+    int getPartitionId();
+
+    /**
+     * <pre>
+     * select some properties, if prop_id list is empty, all properties will be return.
+     * </pre>
+     *
+     * <code>repeated int32 prop_id = 4;</code>
+     * @return A list containing the propId.
+     */
+    java.util.List<java.lang.Integer> getPropIdList();
+    /**
+     * <pre>
+     * select some properties, if prop_id list is empty, all properties will be return.
+     * </pre>
+     *
+     * <code>repeated int32 prop_id = 4;</code>
+     * @return The count of propId.
+     */
+    int getPropIdCount();
+    /**
+     * <pre>
+     * select some properties, if prop_id list is empty, all properties will be return.
+     * </pre>
+     *
+     * <code>repeated int32 prop_id = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propId at the given index.
+     */
+    int getPropId(int index);
+  }
+  /**
+   * Protobuf type {@code maxgraph_store.ScanDataRequest}
+   */
+  public static final class ScanDataRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:maxgraph_store.ScanDataRequest)
+      ScanDataRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ScanDataRequest.newBuilder() to construct.
+    private ScanDataRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ScanDataRequest() {
+      propId_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ScanDataRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ScanDataRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              snapshotId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              label_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              partitionId_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                propId_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              propId_.addInt(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                propId_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                propId_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          propId_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return maxgraph_store.StoreNode.internal_static_maxgraph_store_ScanDataRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return maxgraph_store.StoreNode.internal_static_maxgraph_store_ScanDataRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              maxgraph_store.StoreNode.ScanDataRequest.class, maxgraph_store.StoreNode.ScanDataRequest.Builder.class);
+    }
+
+    public static final int SNAPSHOT_ID_FIELD_NUMBER = 1;
+    private long snapshotId_;
+    /**
+     * <code>int64 snapshot_id = 1;</code>
+     * @return The snapshotId.
+     */
+    @java.lang.Override
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 2;
+    private int label_;
+    /**
+     * <pre>
+     * if label &lt;= 0, all types of data will be return
+     * </pre>
+     *
+     * <code>int32 label = 2;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public int getLabel() {
+      return label_;
+    }
+
+    public static final int PARTITION_ID_FIELD_NUMBER = 3;
+    private int partitionId_;
+    /**
+     * <pre>
+     * if partition_id &lt; 0, all partitions of data will be return
+     * </pre>
+     *
+     * <code>int32 partition_id = 3;</code>
+     * @return The partitionId.
+     */
+    @java.lang.Override
+    public int getPartitionId() {
+      return partitionId_;
+    }
+
+    public static final int PROP_ID_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList propId_;
+    /**
+     * <pre>
+     * select some properties, if prop_id list is empty, all properties will be return.
+     * </pre>
+     *
+     * <code>repeated int32 prop_id = 4;</code>
+     * @return A list containing the propId.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getPropIdList() {
+      return propId_;
+    }
+    /**
+     * <pre>
+     * select some properties, if prop_id list is empty, all properties will be return.
+     * </pre>
+     *
+     * <code>repeated int32 prop_id = 4;</code>
+     * @return The count of propId.
+     */
+    public int getPropIdCount() {
+      return propId_.size();
+    }
+    /**
+     * <pre>
+     * select some properties, if prop_id list is empty, all properties will be return.
+     * </pre>
+     *
+     * <code>repeated int32 prop_id = 4;</code>
+     * @param index The index of the element to return.
+     * @return The propId at the given index.
+     */
+    public int getPropId(int index) {
+      return propId_.getInt(index);
+    }
+    private int propIdMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (snapshotId_ != 0L) {
+        output.writeInt64(1, snapshotId_);
+      }
+      if (label_ != 0) {
+        output.writeInt32(2, label_);
+      }
+      if (partitionId_ != 0) {
+        output.writeInt32(3, partitionId_);
+      }
+      if (getPropIdList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(propIdMemoizedSerializedSize);
+      }
+      for (int i = 0; i < propId_.size(); i++) {
+        output.writeInt32NoTag(propId_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (snapshotId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, snapshotId_);
+      }
+      if (label_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, label_);
+      }
+      if (partitionId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, partitionId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < propId_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(propId_.getInt(i));
+        }
+        size += dataSize;
+        if (!getPropIdList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        propIdMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof maxgraph_store.StoreNode.ScanDataRequest)) {
+        return super.equals(obj);
+      }
+      maxgraph_store.StoreNode.ScanDataRequest other = (maxgraph_store.StoreNode.ScanDataRequest) obj;
+
+      if (getSnapshotId()
+          != other.getSnapshotId()) return false;
+      if (getLabel()
+          != other.getLabel()) return false;
+      if (getPartitionId()
+          != other.getPartitionId()) return false;
+      if (!getPropIdList()
+          .equals(other.getPropIdList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SNAPSHOT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSnapshotId());
+      hash = (37 * hash) + LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getLabel();
+      hash = (37 * hash) + PARTITION_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getPartitionId();
+      if (getPropIdCount() > 0) {
+        hash = (37 * hash) + PROP_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getPropIdList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.ScanDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(maxgraph_store.StoreNode.ScanDataRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code maxgraph_store.ScanDataRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:maxgraph_store.ScanDataRequest)
+        maxgraph_store.StoreNode.ScanDataRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_ScanDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_ScanDataRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                maxgraph_store.StoreNode.ScanDataRequest.class, maxgraph_store.StoreNode.ScanDataRequest.Builder.class);
+      }
+
+      // Construct using maxgraph_store.StoreNode.ScanDataRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        snapshotId_ = 0L;
+
+        label_ = 0;
+
+        partitionId_ = 0;
+
+        propId_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_ScanDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.ScanDataRequest getDefaultInstanceForType() {
+        return maxgraph_store.StoreNode.ScanDataRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.ScanDataRequest build() {
+        maxgraph_store.StoreNode.ScanDataRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.ScanDataRequest buildPartial() {
+        maxgraph_store.StoreNode.ScanDataRequest result = new maxgraph_store.StoreNode.ScanDataRequest(this);
+        int from_bitField0_ = bitField0_;
+        result.snapshotId_ = snapshotId_;
+        result.label_ = label_;
+        result.partitionId_ = partitionId_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          propId_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.propId_ = propId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof maxgraph_store.StoreNode.ScanDataRequest) {
+          return mergeFrom((maxgraph_store.StoreNode.ScanDataRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(maxgraph_store.StoreNode.ScanDataRequest other) {
+        if (other == maxgraph_store.StoreNode.ScanDataRequest.getDefaultInstance()) return this;
+        if (other.getSnapshotId() != 0L) {
+          setSnapshotId(other.getSnapshotId());
+        }
+        if (other.getLabel() != 0) {
+          setLabel(other.getLabel());
+        }
+        if (other.getPartitionId() != 0) {
+          setPartitionId(other.getPartitionId());
+        }
+        if (!other.propId_.isEmpty()) {
+          if (propId_.isEmpty()) {
+            propId_ = other.propId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePropIdIsMutable();
+            propId_.addAll(other.propId_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        maxgraph_store.StoreNode.ScanDataRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (maxgraph_store.StoreNode.ScanDataRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long snapshotId_ ;
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return The snapshotId.
+       */
+      @java.lang.Override
+      public long getSnapshotId() {
+        return snapshotId_;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @param value The snapshotId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshotId(long value) {
+        
+        snapshotId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 snapshot_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshotId() {
+        
+        snapshotId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int label_ ;
+      /**
+       * <pre>
+       * if label &lt;= 0, all types of data will be return
+       * </pre>
+       *
+       * <code>int32 label = 2;</code>
+       * @return The label.
+       */
+      @java.lang.Override
+      public int getLabel() {
+        return label_;
+      }
+      /**
+       * <pre>
+       * if label &lt;= 0, all types of data will be return
+       * </pre>
+       *
+       * <code>int32 label = 2;</code>
+       * @param value The label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabel(int value) {
+        
+        label_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * if label &lt;= 0, all types of data will be return
+       * </pre>
+       *
+       * <code>int32 label = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabel() {
+        
+        label_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int partitionId_ ;
+      /**
+       * <pre>
+       * if partition_id &lt; 0, all partitions of data will be return
+       * </pre>
+       *
+       * <code>int32 partition_id = 3;</code>
+       * @return The partitionId.
+       */
+      @java.lang.Override
+      public int getPartitionId() {
+        return partitionId_;
+      }
+      /**
+       * <pre>
+       * if partition_id &lt; 0, all partitions of data will be return
+       * </pre>
+       *
+       * <code>int32 partition_id = 3;</code>
+       * @param value The partitionId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartitionId(int value) {
+        
+        partitionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * if partition_id &lt; 0, all partitions of data will be return
+       * </pre>
+       *
+       * <code>int32 partition_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartitionId() {
+        
+        partitionId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList propId_ = emptyIntList();
+      private void ensurePropIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          propId_ = mutableCopy(propId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <pre>
+       * select some properties, if prop_id list is empty, all properties will be return.
+       * </pre>
+       *
+       * <code>repeated int32 prop_id = 4;</code>
+       * @return A list containing the propId.
+       */
+      public java.util.List<java.lang.Integer>
+          getPropIdList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(propId_) : propId_;
+      }
+      /**
+       * <pre>
+       * select some properties, if prop_id list is empty, all properties will be return.
+       * </pre>
+       *
+       * <code>repeated int32 prop_id = 4;</code>
+       * @return The count of propId.
+       */
+      public int getPropIdCount() {
+        return propId_.size();
+      }
+      /**
+       * <pre>
+       * select some properties, if prop_id list is empty, all properties will be return.
+       * </pre>
+       *
+       * <code>repeated int32 prop_id = 4;</code>
+       * @param index The index of the element to return.
+       * @return The propId at the given index.
+       */
+      public int getPropId(int index) {
+        return propId_.getInt(index);
+      }
+      /**
+       * <pre>
+       * select some properties, if prop_id list is empty, all properties will be return.
+       * </pre>
+       *
+       * <code>repeated int32 prop_id = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The propId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropId(
+          int index, int value) {
+        ensurePropIdIsMutable();
+        propId_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * select some properties, if prop_id list is empty, all properties will be return.
+       * </pre>
+       *
+       * <code>repeated int32 prop_id = 4;</code>
+       * @param value The propId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPropId(int value) {
+        ensurePropIdIsMutable();
+        propId_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * select some properties, if prop_id list is empty, all properties will be return.
+       * </pre>
+       *
+       * <code>repeated int32 prop_id = 4;</code>
+       * @param values The propId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPropId(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePropIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, propId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * select some properties, if prop_id list is empty, all properties will be return.
+       * </pre>
+       *
+       * <code>repeated int32 prop_id = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropId() {
+        propId_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:maxgraph_store.ScanDataRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:maxgraph_store.ScanDataRequest)
+    private static final maxgraph_store.StoreNode.ScanDataRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new maxgraph_store.StoreNode.ScanDataRequest();
+    }
+
+    public static maxgraph_store.StoreNode.ScanDataRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ScanDataRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ScanDataRequest>() {
+      @java.lang.Override
+      public ScanDataRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ScanDataRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ScanDataRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ScanDataRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public maxgraph_store.StoreNode.ScanDataRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VertexDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:maxgraph_store.VertexData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    long getId();
+
+    /**
+     * <code>int32 label = 2;</code>
+     * @return The label.
+     */
+    int getLabel();
+
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    java.util.List<maxgraph_store.StoreNode.Property> 
+        getPropsList();
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    maxgraph_store.StoreNode.Property getProps(int index);
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    int getPropsCount();
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    java.util.List<? extends maxgraph_store.StoreNode.PropertyOrBuilder> 
+        getPropsOrBuilderList();
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    maxgraph_store.StoreNode.PropertyOrBuilder getPropsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code maxgraph_store.VertexData}
+   */
+  public static final class VertexData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:maxgraph_store.VertexData)
+      VertexDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use VertexData.newBuilder() to construct.
+    private VertexData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private VertexData() {
+      props_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new VertexData();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VertexData(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              label_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                props_ = new java.util.ArrayList<maxgraph_store.StoreNode.Property>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              props_.add(
+                  input.readMessage(maxgraph_store.StoreNode.Property.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          props_ = java.util.Collections.unmodifiableList(props_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return maxgraph_store.StoreNode.internal_static_maxgraph_store_VertexData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return maxgraph_store.StoreNode.internal_static_maxgraph_store_VertexData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              maxgraph_store.StoreNode.VertexData.class, maxgraph_store.StoreNode.VertexData.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public long getId() {
+      return id_;
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 2;
+    private int label_;
+    /**
+     * <code>int32 label = 2;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public int getLabel() {
+      return label_;
+    }
+
+    public static final int PROPS_FIELD_NUMBER = 3;
+    private java.util.List<maxgraph_store.StoreNode.Property> props_;
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<maxgraph_store.StoreNode.Property> getPropsList() {
+      return props_;
+    }
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends maxgraph_store.StoreNode.PropertyOrBuilder> 
+        getPropsOrBuilderList() {
+      return props_;
+    }
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    @java.lang.Override
+    public int getPropsCount() {
+      return props_.size();
+    }
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    @java.lang.Override
+    public maxgraph_store.StoreNode.Property getProps(int index) {
+      return props_.get(index);
+    }
+    /**
+     * <code>repeated .maxgraph_store.Property props = 3;</code>
+     */
+    @java.lang.Override
+    public maxgraph_store.StoreNode.PropertyOrBuilder getPropsOrBuilder(
+        int index) {
+      return props_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      if (label_ != 0) {
+        output.writeInt32(2, label_);
+      }
+      for (int i = 0; i < props_.size(); i++) {
+        output.writeMessage(3, props_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      if (label_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, label_);
+      }
+      for (int i = 0; i < props_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, props_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof maxgraph_store.StoreNode.VertexData)) {
+        return super.equals(obj);
+      }
+      maxgraph_store.StoreNode.VertexData other = (maxgraph_store.StoreNode.VertexData) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (getLabel()
+          != other.getLabel()) return false;
+      if (!getPropsList()
+          .equals(other.getPropsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      hash = (37 * hash) + LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getLabel();
+      if (getPropsCount() > 0) {
+        hash = (37 * hash) + PROPS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static maxgraph_store.StoreNode.VertexData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.VertexData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(maxgraph_store.StoreNode.VertexData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code maxgraph_store.VertexData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:maxgraph_store.VertexData)
+        maxgraph_store.StoreNode.VertexDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_VertexData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_VertexData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                maxgraph_store.StoreNode.VertexData.class, maxgraph_store.StoreNode.VertexData.Builder.class);
+      }
+
+      // Construct using maxgraph_store.StoreNode.VertexData.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPropsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+
+        label_ = 0;
+
+        if (propsBuilder_ == null) {
+          props_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          propsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_VertexData_descriptor;
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.VertexData getDefaultInstanceForType() {
+        return maxgraph_store.StoreNode.VertexData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.VertexData build() {
+        maxgraph_store.StoreNode.VertexData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.VertexData buildPartial() {
+        maxgraph_store.StoreNode.VertexData result = new maxgraph_store.StoreNode.VertexData(this);
+        int from_bitField0_ = bitField0_;
+        result.id_ = id_;
+        result.label_ = label_;
+        if (propsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            props_ = java.util.Collections.unmodifiableList(props_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.props_ = props_;
+        } else {
+          result.props_ = propsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof maxgraph_store.StoreNode.VertexData) {
+          return mergeFrom((maxgraph_store.StoreNode.VertexData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(maxgraph_store.StoreNode.VertexData other) {
+        if (other == maxgraph_store.StoreNode.VertexData.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        if (other.getLabel() != 0) {
+          setLabel(other.getLabel());
+        }
+        if (propsBuilder_ == null) {
+          if (!other.props_.isEmpty()) {
+            if (props_.isEmpty()) {
+              props_ = other.props_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePropsIsMutable();
+              props_.addAll(other.props_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.props_.isEmpty()) {
+            if (propsBuilder_.isEmpty()) {
+              propsBuilder_.dispose();
+              propsBuilder_ = null;
+              props_ = other.props_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              propsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPropsFieldBuilder() : null;
+            } else {
+              propsBuilder_.addAllMessages(other.props_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        maxgraph_store.StoreNode.VertexData parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (maxgraph_store.StoreNode.VertexData) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 1;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int label_ ;
+      /**
+       * <code>int32 label = 2;</code>
+       * @return The label.
+       */
+      @java.lang.Override
+      public int getLabel() {
+        return label_;
+      }
+      /**
+       * <code>int32 label = 2;</code>
+       * @param value The label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabel(int value) {
+        
+        label_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 label = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabel() {
+        
+        label_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<maxgraph_store.StoreNode.Property> props_ =
+        java.util.Collections.emptyList();
+      private void ensurePropsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          props_ = new java.util.ArrayList<maxgraph_store.StoreNode.Property>(props_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          maxgraph_store.StoreNode.Property, maxgraph_store.StoreNode.Property.Builder, maxgraph_store.StoreNode.PropertyOrBuilder> propsBuilder_;
+
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public java.util.List<maxgraph_store.StoreNode.Property> getPropsList() {
+        if (propsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(props_);
+        } else {
+          return propsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public int getPropsCount() {
+        if (propsBuilder_ == null) {
+          return props_.size();
+        } else {
+          return propsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public maxgraph_store.StoreNode.Property getProps(int index) {
+        if (propsBuilder_ == null) {
+          return props_.get(index);
+        } else {
+          return propsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder setProps(
+          int index, maxgraph_store.StoreNode.Property value) {
+        if (propsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropsIsMutable();
+          props_.set(index, value);
+          onChanged();
+        } else {
+          propsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder setProps(
+          int index, maxgraph_store.StoreNode.Property.Builder builderForValue) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          props_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          propsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder addProps(maxgraph_store.StoreNode.Property value) {
+        if (propsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropsIsMutable();
+          props_.add(value);
+          onChanged();
+        } else {
+          propsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder addProps(
+          int index, maxgraph_store.StoreNode.Property value) {
+        if (propsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropsIsMutable();
+          props_.add(index, value);
+          onChanged();
+        } else {
+          propsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder addProps(
+          maxgraph_store.StoreNode.Property.Builder builderForValue) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          props_.add(builderForValue.build());
+          onChanged();
+        } else {
+          propsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder addProps(
+          int index, maxgraph_store.StoreNode.Property.Builder builderForValue) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          props_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          propsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder addAllProps(
+          java.lang.Iterable<? extends maxgraph_store.StoreNode.Property> values) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, props_);
+          onChanged();
+        } else {
+          propsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder clearProps() {
+        if (propsBuilder_ == null) {
+          props_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          propsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public Builder removeProps(int index) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          props_.remove(index);
+          onChanged();
+        } else {
+          propsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public maxgraph_store.StoreNode.Property.Builder getPropsBuilder(
+          int index) {
+        return getPropsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public maxgraph_store.StoreNode.PropertyOrBuilder getPropsOrBuilder(
+          int index) {
+        if (propsBuilder_ == null) {
+          return props_.get(index);  } else {
+          return propsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public java.util.List<? extends maxgraph_store.StoreNode.PropertyOrBuilder> 
+           getPropsOrBuilderList() {
+        if (propsBuilder_ != null) {
+          return propsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(props_);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public maxgraph_store.StoreNode.Property.Builder addPropsBuilder() {
+        return getPropsFieldBuilder().addBuilder(
+            maxgraph_store.StoreNode.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public maxgraph_store.StoreNode.Property.Builder addPropsBuilder(
+          int index) {
+        return getPropsFieldBuilder().addBuilder(
+            index, maxgraph_store.StoreNode.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 3;</code>
+       */
+      public java.util.List<maxgraph_store.StoreNode.Property.Builder> 
+           getPropsBuilderList() {
+        return getPropsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          maxgraph_store.StoreNode.Property, maxgraph_store.StoreNode.Property.Builder, maxgraph_store.StoreNode.PropertyOrBuilder> 
+          getPropsFieldBuilder() {
+        if (propsBuilder_ == null) {
+          propsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              maxgraph_store.StoreNode.Property, maxgraph_store.StoreNode.Property.Builder, maxgraph_store.StoreNode.PropertyOrBuilder>(
+                  props_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          props_ = null;
+        }
+        return propsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:maxgraph_store.VertexData)
+    }
+
+    // @@protoc_insertion_point(class_scope:maxgraph_store.VertexData)
+    private static final maxgraph_store.StoreNode.VertexData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new maxgraph_store.StoreNode.VertexData();
+    }
+
+    public static maxgraph_store.StoreNode.VertexData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VertexData>
+        PARSER = new com.google.protobuf.AbstractParser<VertexData>() {
+      @java.lang.Override
+      public VertexData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VertexData(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<VertexData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VertexData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public maxgraph_store.StoreNode.VertexData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EdgeDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:maxgraph_store.EdgeData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 edge_id = 1;</code>
+     * @return The edgeId.
+     */
+    long getEdgeId();
+
+    /**
+     * <code>int64 src_id = 2;</code>
+     * @return The srcId.
+     */
+    long getSrcId();
+
+    /**
+     * <code>int64 dst_id = 3;</code>
+     * @return The dstId.
+     */
+    long getDstId();
+
+    /**
+     * <code>int32 label = 4;</code>
+     * @return The label.
+     */
+    int getLabel();
+
+    /**
+     * <code>int32 src_label = 5;</code>
+     * @return The srcLabel.
+     */
+    int getSrcLabel();
+
+    /**
+     * <code>int32 dst_label = 6;</code>
+     * @return The dstLabel.
+     */
+    int getDstLabel();
+
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    java.util.List<maxgraph_store.StoreNode.Property> 
+        getPropsList();
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    maxgraph_store.StoreNode.Property getProps(int index);
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    int getPropsCount();
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    java.util.List<? extends maxgraph_store.StoreNode.PropertyOrBuilder> 
+        getPropsOrBuilderList();
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    maxgraph_store.StoreNode.PropertyOrBuilder getPropsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code maxgraph_store.EdgeData}
+   */
+  public static final class EdgeData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:maxgraph_store.EdgeData)
+      EdgeDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EdgeData.newBuilder() to construct.
+    private EdgeData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EdgeData() {
+      props_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EdgeData();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EdgeData(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              edgeId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              srcId_ = input.readInt64();
+              break;
+            }
+            case 24: {
+
+              dstId_ = input.readInt64();
+              break;
+            }
+            case 32: {
+
+              label_ = input.readInt32();
+              break;
+            }
+            case 40: {
+
+              srcLabel_ = input.readInt32();
+              break;
+            }
+            case 48: {
+
+              dstLabel_ = input.readInt32();
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                props_ = new java.util.ArrayList<maxgraph_store.StoreNode.Property>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              props_.add(
+                  input.readMessage(maxgraph_store.StoreNode.Property.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          props_ = java.util.Collections.unmodifiableList(props_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return maxgraph_store.StoreNode.internal_static_maxgraph_store_EdgeData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return maxgraph_store.StoreNode.internal_static_maxgraph_store_EdgeData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              maxgraph_store.StoreNode.EdgeData.class, maxgraph_store.StoreNode.EdgeData.Builder.class);
+    }
+
+    public static final int EDGE_ID_FIELD_NUMBER = 1;
+    private long edgeId_;
+    /**
+     * <code>int64 edge_id = 1;</code>
+     * @return The edgeId.
+     */
+    @java.lang.Override
+    public long getEdgeId() {
+      return edgeId_;
+    }
+
+    public static final int SRC_ID_FIELD_NUMBER = 2;
+    private long srcId_;
+    /**
+     * <code>int64 src_id = 2;</code>
+     * @return The srcId.
+     */
+    @java.lang.Override
+    public long getSrcId() {
+      return srcId_;
+    }
+
+    public static final int DST_ID_FIELD_NUMBER = 3;
+    private long dstId_;
+    /**
+     * <code>int64 dst_id = 3;</code>
+     * @return The dstId.
+     */
+    @java.lang.Override
+    public long getDstId() {
+      return dstId_;
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 4;
+    private int label_;
+    /**
+     * <code>int32 label = 4;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public int getLabel() {
+      return label_;
+    }
+
+    public static final int SRC_LABEL_FIELD_NUMBER = 5;
+    private int srcLabel_;
+    /**
+     * <code>int32 src_label = 5;</code>
+     * @return The srcLabel.
+     */
+    @java.lang.Override
+    public int getSrcLabel() {
+      return srcLabel_;
+    }
+
+    public static final int DST_LABEL_FIELD_NUMBER = 6;
+    private int dstLabel_;
+    /**
+     * <code>int32 dst_label = 6;</code>
+     * @return The dstLabel.
+     */
+    @java.lang.Override
+    public int getDstLabel() {
+      return dstLabel_;
+    }
+
+    public static final int PROPS_FIELD_NUMBER = 7;
+    private java.util.List<maxgraph_store.StoreNode.Property> props_;
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<maxgraph_store.StoreNode.Property> getPropsList() {
+      return props_;
+    }
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends maxgraph_store.StoreNode.PropertyOrBuilder> 
+        getPropsOrBuilderList() {
+      return props_;
+    }
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    @java.lang.Override
+    public int getPropsCount() {
+      return props_.size();
+    }
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    @java.lang.Override
+    public maxgraph_store.StoreNode.Property getProps(int index) {
+      return props_.get(index);
+    }
+    /**
+     * <code>repeated .maxgraph_store.Property props = 7;</code>
+     */
+    @java.lang.Override
+    public maxgraph_store.StoreNode.PropertyOrBuilder getPropsOrBuilder(
+        int index) {
+      return props_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (edgeId_ != 0L) {
+        output.writeInt64(1, edgeId_);
+      }
+      if (srcId_ != 0L) {
+        output.writeInt64(2, srcId_);
+      }
+      if (dstId_ != 0L) {
+        output.writeInt64(3, dstId_);
+      }
+      if (label_ != 0) {
+        output.writeInt32(4, label_);
+      }
+      if (srcLabel_ != 0) {
+        output.writeInt32(5, srcLabel_);
+      }
+      if (dstLabel_ != 0) {
+        output.writeInt32(6, dstLabel_);
+      }
+      for (int i = 0; i < props_.size(); i++) {
+        output.writeMessage(7, props_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (edgeId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, edgeId_);
+      }
+      if (srcId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, srcId_);
+      }
+      if (dstId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, dstId_);
+      }
+      if (label_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, label_);
+      }
+      if (srcLabel_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, srcLabel_);
+      }
+      if (dstLabel_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, dstLabel_);
+      }
+      for (int i = 0; i < props_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, props_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof maxgraph_store.StoreNode.EdgeData)) {
+        return super.equals(obj);
+      }
+      maxgraph_store.StoreNode.EdgeData other = (maxgraph_store.StoreNode.EdgeData) obj;
+
+      if (getEdgeId()
+          != other.getEdgeId()) return false;
+      if (getSrcId()
+          != other.getSrcId()) return false;
+      if (getDstId()
+          != other.getDstId()) return false;
+      if (getLabel()
+          != other.getLabel()) return false;
+      if (getSrcLabel()
+          != other.getSrcLabel()) return false;
+      if (getDstLabel()
+          != other.getDstLabel()) return false;
+      if (!getPropsList()
+          .equals(other.getPropsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + EDGE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getEdgeId());
+      hash = (37 * hash) + SRC_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSrcId());
+      hash = (37 * hash) + DST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDstId());
+      hash = (37 * hash) + LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getLabel();
+      hash = (37 * hash) + SRC_LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getSrcLabel();
+      hash = (37 * hash) + DST_LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getDstLabel();
+      if (getPropsCount() > 0) {
+        hash = (37 * hash) + PROPS_FIELD_NUMBER;
+        hash = (53 * hash) + getPropsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.EdgeData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(maxgraph_store.StoreNode.EdgeData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code maxgraph_store.EdgeData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:maxgraph_store.EdgeData)
+        maxgraph_store.StoreNode.EdgeDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_EdgeData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_EdgeData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                maxgraph_store.StoreNode.EdgeData.class, maxgraph_store.StoreNode.EdgeData.Builder.class);
+      }
+
+      // Construct using maxgraph_store.StoreNode.EdgeData.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPropsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        edgeId_ = 0L;
+
+        srcId_ = 0L;
+
+        dstId_ = 0L;
+
+        label_ = 0;
+
+        srcLabel_ = 0;
+
+        dstLabel_ = 0;
+
+        if (propsBuilder_ == null) {
+          props_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          propsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_EdgeData_descriptor;
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.EdgeData getDefaultInstanceForType() {
+        return maxgraph_store.StoreNode.EdgeData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.EdgeData build() {
+        maxgraph_store.StoreNode.EdgeData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.EdgeData buildPartial() {
+        maxgraph_store.StoreNode.EdgeData result = new maxgraph_store.StoreNode.EdgeData(this);
+        int from_bitField0_ = bitField0_;
+        result.edgeId_ = edgeId_;
+        result.srcId_ = srcId_;
+        result.dstId_ = dstId_;
+        result.label_ = label_;
+        result.srcLabel_ = srcLabel_;
+        result.dstLabel_ = dstLabel_;
+        if (propsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            props_ = java.util.Collections.unmodifiableList(props_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.props_ = props_;
+        } else {
+          result.props_ = propsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof maxgraph_store.StoreNode.EdgeData) {
+          return mergeFrom((maxgraph_store.StoreNode.EdgeData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(maxgraph_store.StoreNode.EdgeData other) {
+        if (other == maxgraph_store.StoreNode.EdgeData.getDefaultInstance()) return this;
+        if (other.getEdgeId() != 0L) {
+          setEdgeId(other.getEdgeId());
+        }
+        if (other.getSrcId() != 0L) {
+          setSrcId(other.getSrcId());
+        }
+        if (other.getDstId() != 0L) {
+          setDstId(other.getDstId());
+        }
+        if (other.getLabel() != 0) {
+          setLabel(other.getLabel());
+        }
+        if (other.getSrcLabel() != 0) {
+          setSrcLabel(other.getSrcLabel());
+        }
+        if (other.getDstLabel() != 0) {
+          setDstLabel(other.getDstLabel());
+        }
+        if (propsBuilder_ == null) {
+          if (!other.props_.isEmpty()) {
+            if (props_.isEmpty()) {
+              props_ = other.props_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePropsIsMutable();
+              props_.addAll(other.props_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.props_.isEmpty()) {
+            if (propsBuilder_.isEmpty()) {
+              propsBuilder_.dispose();
+              propsBuilder_ = null;
+              props_ = other.props_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              propsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPropsFieldBuilder() : null;
+            } else {
+              propsBuilder_.addAllMessages(other.props_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        maxgraph_store.StoreNode.EdgeData parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (maxgraph_store.StoreNode.EdgeData) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long edgeId_ ;
+      /**
+       * <code>int64 edge_id = 1;</code>
+       * @return The edgeId.
+       */
+      @java.lang.Override
+      public long getEdgeId() {
+        return edgeId_;
+      }
+      /**
+       * <code>int64 edge_id = 1;</code>
+       * @param value The edgeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEdgeId(long value) {
+        
+        edgeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 edge_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEdgeId() {
+        
+        edgeId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long srcId_ ;
+      /**
+       * <code>int64 src_id = 2;</code>
+       * @return The srcId.
+       */
+      @java.lang.Override
+      public long getSrcId() {
+        return srcId_;
+      }
+      /**
+       * <code>int64 src_id = 2;</code>
+       * @param value The srcId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSrcId(long value) {
+        
+        srcId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 src_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSrcId() {
+        
+        srcId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long dstId_ ;
+      /**
+       * <code>int64 dst_id = 3;</code>
+       * @return The dstId.
+       */
+      @java.lang.Override
+      public long getDstId() {
+        return dstId_;
+      }
+      /**
+       * <code>int64 dst_id = 3;</code>
+       * @param value The dstId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDstId(long value) {
+        
+        dstId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 dst_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDstId() {
+        
+        dstId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int label_ ;
+      /**
+       * <code>int32 label = 4;</code>
+       * @return The label.
+       */
+      @java.lang.Override
+      public int getLabel() {
+        return label_;
+      }
+      /**
+       * <code>int32 label = 4;</code>
+       * @param value The label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabel(int value) {
+        
+        label_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 label = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabel() {
+        
+        label_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int srcLabel_ ;
+      /**
+       * <code>int32 src_label = 5;</code>
+       * @return The srcLabel.
+       */
+      @java.lang.Override
+      public int getSrcLabel() {
+        return srcLabel_;
+      }
+      /**
+       * <code>int32 src_label = 5;</code>
+       * @param value The srcLabel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSrcLabel(int value) {
+        
+        srcLabel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 src_label = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSrcLabel() {
+        
+        srcLabel_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int dstLabel_ ;
+      /**
+       * <code>int32 dst_label = 6;</code>
+       * @return The dstLabel.
+       */
+      @java.lang.Override
+      public int getDstLabel() {
+        return dstLabel_;
+      }
+      /**
+       * <code>int32 dst_label = 6;</code>
+       * @param value The dstLabel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDstLabel(int value) {
+        
+        dstLabel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 dst_label = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDstLabel() {
+        
+        dstLabel_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<maxgraph_store.StoreNode.Property> props_ =
+        java.util.Collections.emptyList();
+      private void ensurePropsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          props_ = new java.util.ArrayList<maxgraph_store.StoreNode.Property>(props_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          maxgraph_store.StoreNode.Property, maxgraph_store.StoreNode.Property.Builder, maxgraph_store.StoreNode.PropertyOrBuilder> propsBuilder_;
+
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public java.util.List<maxgraph_store.StoreNode.Property> getPropsList() {
+        if (propsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(props_);
+        } else {
+          return propsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public int getPropsCount() {
+        if (propsBuilder_ == null) {
+          return props_.size();
+        } else {
+          return propsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public maxgraph_store.StoreNode.Property getProps(int index) {
+        if (propsBuilder_ == null) {
+          return props_.get(index);
+        } else {
+          return propsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder setProps(
+          int index, maxgraph_store.StoreNode.Property value) {
+        if (propsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropsIsMutable();
+          props_.set(index, value);
+          onChanged();
+        } else {
+          propsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder setProps(
+          int index, maxgraph_store.StoreNode.Property.Builder builderForValue) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          props_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          propsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder addProps(maxgraph_store.StoreNode.Property value) {
+        if (propsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropsIsMutable();
+          props_.add(value);
+          onChanged();
+        } else {
+          propsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder addProps(
+          int index, maxgraph_store.StoreNode.Property value) {
+        if (propsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropsIsMutable();
+          props_.add(index, value);
+          onChanged();
+        } else {
+          propsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder addProps(
+          maxgraph_store.StoreNode.Property.Builder builderForValue) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          props_.add(builderForValue.build());
+          onChanged();
+        } else {
+          propsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder addProps(
+          int index, maxgraph_store.StoreNode.Property.Builder builderForValue) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          props_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          propsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder addAllProps(
+          java.lang.Iterable<? extends maxgraph_store.StoreNode.Property> values) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, props_);
+          onChanged();
+        } else {
+          propsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder clearProps() {
+        if (propsBuilder_ == null) {
+          props_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          propsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public Builder removeProps(int index) {
+        if (propsBuilder_ == null) {
+          ensurePropsIsMutable();
+          props_.remove(index);
+          onChanged();
+        } else {
+          propsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public maxgraph_store.StoreNode.Property.Builder getPropsBuilder(
+          int index) {
+        return getPropsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public maxgraph_store.StoreNode.PropertyOrBuilder getPropsOrBuilder(
+          int index) {
+        if (propsBuilder_ == null) {
+          return props_.get(index);  } else {
+          return propsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public java.util.List<? extends maxgraph_store.StoreNode.PropertyOrBuilder> 
+           getPropsOrBuilderList() {
+        if (propsBuilder_ != null) {
+          return propsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(props_);
+        }
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public maxgraph_store.StoreNode.Property.Builder addPropsBuilder() {
+        return getPropsFieldBuilder().addBuilder(
+            maxgraph_store.StoreNode.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public maxgraph_store.StoreNode.Property.Builder addPropsBuilder(
+          int index) {
+        return getPropsFieldBuilder().addBuilder(
+            index, maxgraph_store.StoreNode.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .maxgraph_store.Property props = 7;</code>
+       */
+      public java.util.List<maxgraph_store.StoreNode.Property.Builder> 
+           getPropsBuilderList() {
+        return getPropsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          maxgraph_store.StoreNode.Property, maxgraph_store.StoreNode.Property.Builder, maxgraph_store.StoreNode.PropertyOrBuilder> 
+          getPropsFieldBuilder() {
+        if (propsBuilder_ == null) {
+          propsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              maxgraph_store.StoreNode.Property, maxgraph_store.StoreNode.Property.Builder, maxgraph_store.StoreNode.PropertyOrBuilder>(
+                  props_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          props_ = null;
+        }
+        return propsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:maxgraph_store.EdgeData)
+    }
+
+    // @@protoc_insertion_point(class_scope:maxgraph_store.EdgeData)
+    private static final maxgraph_store.StoreNode.EdgeData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new maxgraph_store.StoreNode.EdgeData();
+    }
+
+    public static maxgraph_store.StoreNode.EdgeData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EdgeData>
+        PARSER = new com.google.protobuf.AbstractParser<EdgeData>() {
+      @java.lang.Override
+      public EdgeData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeData(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<EdgeData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EdgeData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public maxgraph_store.StoreNode.EdgeData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PropertyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:maxgraph_store.Property)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 prop_id = 1;</code>
+     * @return The propId.
+     */
+    int getPropId();
+
+    /**
+     * <pre>
+     * property data in binary format, e.g.
+     * int value is 4B, double is 8B, string is a byte list without '&#92;0'
+     * </pre>
+     *
+     * <code>bytes value = 2;</code>
+     * @return The value.
+     */
+    com.google.protobuf.ByteString getValue();
+  }
+  /**
+   * Protobuf type {@code maxgraph_store.Property}
+   */
+  public static final class Property extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:maxgraph_store.Property)
+      PropertyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Property.newBuilder() to construct.
+    private Property(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Property() {
+      value_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Property();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Property(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              propId_ = input.readInt32();
+              break;
+            }
+            case 18: {
+
+              value_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return maxgraph_store.StoreNode.internal_static_maxgraph_store_Property_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return maxgraph_store.StoreNode.internal_static_maxgraph_store_Property_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              maxgraph_store.StoreNode.Property.class, maxgraph_store.StoreNode.Property.Builder.class);
+    }
+
+    public static final int PROP_ID_FIELD_NUMBER = 1;
+    private int propId_;
+    /**
+     * <code>int32 prop_id = 1;</code>
+     * @return The propId.
+     */
+    @java.lang.Override
+    public int getPropId() {
+      return propId_;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <pre>
+     * property data in binary format, e.g.
+     * int value is 4B, double is 8B, string is a byte list without '&#92;0'
+     * </pre>
+     *
+     * <code>bytes value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (propId_ != 0) {
+        output.writeInt32(1, propId_);
+      }
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (propId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, propId_);
+      }
+      if (!value_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof maxgraph_store.StoreNode.Property)) {
+        return super.equals(obj);
+      }
+      maxgraph_store.StoreNode.Property other = (maxgraph_store.StoreNode.Property) obj;
+
+      if (getPropId()
+          != other.getPropId()) return false;
+      if (!getValue()
+          .equals(other.getValue())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PROP_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getPropId();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static maxgraph_store.StoreNode.Property parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.Property parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.Property parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static maxgraph_store.StoreNode.Property parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(maxgraph_store.StoreNode.Property prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code maxgraph_store.Property}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:maxgraph_store.Property)
+        maxgraph_store.StoreNode.PropertyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_Property_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_Property_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                maxgraph_store.StoreNode.Property.class, maxgraph_store.StoreNode.Property.Builder.class);
+      }
+
+      // Construct using maxgraph_store.StoreNode.Property.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        propId_ = 0;
+
+        value_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return maxgraph_store.StoreNode.internal_static_maxgraph_store_Property_descriptor;
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.Property getDefaultInstanceForType() {
+        return maxgraph_store.StoreNode.Property.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.Property build() {
+        maxgraph_store.StoreNode.Property result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public maxgraph_store.StoreNode.Property buildPartial() {
+        maxgraph_store.StoreNode.Property result = new maxgraph_store.StoreNode.Property(this);
+        result.propId_ = propId_;
+        result.value_ = value_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof maxgraph_store.StoreNode.Property) {
+          return mergeFrom((maxgraph_store.StoreNode.Property)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(maxgraph_store.StoreNode.Property other) {
+        if (other == maxgraph_store.StoreNode.Property.getDefaultInstance()) return this;
+        if (other.getPropId() != 0) {
+          setPropId(other.getPropId());
+        }
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        maxgraph_store.StoreNode.Property parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (maxgraph_store.StoreNode.Property) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int propId_ ;
+      /**
+       * <code>int32 prop_id = 1;</code>
+       * @return The propId.
+       */
+      @java.lang.Override
+      public int getPropId() {
+        return propId_;
+      }
+      /**
+       * <code>int32 prop_id = 1;</code>
+       * @param value The propId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPropId(int value) {
+        
+        propId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 prop_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPropId() {
+        
+        propId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * property data in binary format, e.g.
+       * int value is 4B, double is 8B, string is a byte list without '&#92;0'
+       * </pre>
+       *
+       * <code>bytes value = 2;</code>
+       * @return The value.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <pre>
+       * property data in binary format, e.g.
+       * int value is 4B, double is 8B, string is a byte list without '&#92;0'
+       * </pre>
+       *
+       * <code>bytes value = 2;</code>
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * property data in binary format, e.g.
+       * int value is 4B, double is 8B, string is a byte list without '&#92;0'
+       * </pre>
+       *
+       * <code>bytes value = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:maxgraph_store.Property)
+    }
+
+    // @@protoc_insertion_point(class_scope:maxgraph_store.Property)
+    private static final maxgraph_store.StoreNode.Property DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new maxgraph_store.StoreNode.Property();
+    }
+
+    public static maxgraph_store.StoreNode.Property getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Property>
+        PARSER = new com.google.protobuf.AbstractParser<Property>() {
+      @java.lang.Override
+      public Property parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Property(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Property> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Property> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public maxgraph_store.StoreNode.Property getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_store_ScanDataRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_store_ScanDataRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_store_VertexData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_store_VertexData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_store_EdgeData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_store_EdgeData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_maxgraph_store_Property_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_maxgraph_store_Property_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020store_node.proto\022\016maxgraph_store\"\\\n\017Sc" +
+      "anDataRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\r\n\005la" +
+      "bel\030\002 \001(\005\022\024\n\014partition_id\030\003 \001(\005\022\017\n\007prop_" +
+      "id\030\004 \003(\005\"P\n\nVertexData\022\n\n\002id\030\001 \001(\003\022\r\n\005la" +
+      "bel\030\002 \001(\005\022\'\n\005props\030\003 \003(\0132\030.maxgraph_stor" +
+      "e.Property\"\231\001\n\010EdgeData\022\017\n\007edge_id\030\001 \001(\003" +
+      "\022\016\n\006src_id\030\002 \001(\003\022\016\n\006dst_id\030\003 \001(\003\022\r\n\005labe" +
+      "l\030\004 \001(\005\022\021\n\tsrc_label\030\005 \001(\005\022\021\n\tdst_label\030" +
+      "\006 \001(\005\022\'\n\005props\030\007 \003(\0132\030.maxgraph_store.Pr" +
+      "operty\"*\n\010Property\022\017\n\007prop_id\030\001 \001(\005\022\r\n\005v" +
+      "alue\030\002 \001(\0142\251\001\n\021GraphStoreService\022K\n\nscan" +
+      "Vertex\022\037.maxgraph_store.ScanDataRequest\032" +
+      "\032.maxgraph_store.VertexData0\001\022G\n\010scanEdg" +
+      "e\022\037.maxgraph_store.ScanDataRequest\032\030.max" +
+      "graph_store.EdgeData0\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_maxgraph_store_ScanDataRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_maxgraph_store_ScanDataRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_store_ScanDataRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "Label", "PartitionId", "PropId", });
+    internal_static_maxgraph_store_VertexData_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_maxgraph_store_VertexData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_store_VertexData_descriptor,
+        new java.lang.String[] { "Id", "Label", "Props", });
+    internal_static_maxgraph_store_EdgeData_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_maxgraph_store_EdgeData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_store_EdgeData_descriptor,
+        new java.lang.String[] { "EdgeId", "SrcId", "DstId", "Label", "SrcLabel", "DstLabel", "Props", });
+    internal_static_maxgraph_store_Property_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_maxgraph_store_Property_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_maxgraph_store_Property_descriptor,
+        new java.lang.String[] { "PropId", "Value", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -306,6 +306,13 @@ public class InstanceConfig extends MaxGraphConfiguration {
 
     public static final String TIMELY_GLOBAL_PULL_GRAPH_FLAG = "timely.global.pull.graph.flag";
 
+    public static final String TIMELY_STATISTICS_INTERVAL_SEC = "timely.statistics.interval.sec";
+
+    public static final String TIMELY_STATISTICS_TASKS_PER_ROUND =
+            "timely.statistics.tasks.per.round";
+
+    public static final String TIMELY_STATISTICS_SAMPLE_SIZE = "timely.statistics.sample.size";
+
     public static final String REQUEST_CONTAINER_MAX_RETRY_TIMES =
             "request.container.max.retry.times";
 
@@ -811,6 +818,19 @@ public class InstanceConfig extends MaxGraphConfiguration {
         return getInt(TIMELY_RESULT_ITERATION_BATCH_SIZE, 64);
     }
 
+    /** Interval to collect the statistics for the cost model, disabled if not positive */
+    public long getStatisticsIntervalSec() {
+        return getLong(TIMELY_STATISTICS_INTERVAL_SEC, 0L);
+    }
+
+    public int getStatisticsTasksPerRound() {
+        return getInt(TIMELY_STATISTICS_TASKS_PER_ROUND, 4);
+    }
+
+    public int getStatisticsSampleSize() {
+        return getInt(TIMELY_STATISTICS_SAMPLE_SIZE, 1000);
+    }
+
     public int getYarnRequestContaienrIntervalMs() {
         return getInt(YARN_REQUEST_CONTAINER_TIME_INTERVAL_MS, 1000);
     }
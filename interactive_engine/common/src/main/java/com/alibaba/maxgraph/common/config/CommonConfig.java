@@ -60,6 +60,13 @@ public class CommonConfig {
     public static final Config<Long> METRIC_UPDATE_INTERVAL_MS =
             Config.longConfig("metric.update.interval.ms", 5000L);
 
+    /**
+     * Port of the Prometheus metrics endpoint of each node, negative to disable it. MaxNode runs
+     * all the nodes in one process and gives them consecutive ports from this one.
+     */
+    public static final Config<Integer> METRICS_HTTP_PORT =
+            Config.intConfig("metrics.http.port", -1);
+
     /**
      * Get the engine type
      *
@@ -72,6 +79,18 @@ public class CommonConfig {
     public static final Config<String> DISCOVERY_MODE =
             Config.stringConfig("discovery.mode", "file"); // others: zookeeper
 
+    public static final Config<String> LOG_SERVICE_MODE =
+            Config.stringConfig("log.service.mode", "kafka"); // others: file
+
     public static final Config<Integer> ID_ALLOCATE_SIZE =
             Config.intConfig("id.allocate.size", 1000000);
+
+    public static final Config<Integer> ID_ALLOCATE_SIZE_MIN =
+            Config.intConfig("id.allocate.size.min", 10000);
+
+    public static final Config<Integer> ID_ALLOCATE_SIZE_MAX =
+            Config.intConfig("id.allocate.size.max", 64000000);
+
+    public static final Config<Long> ID_ALLOCATE_TARGET_INTERVAL_MS =
+            Config.longConfig("id.allocate.target.interval.ms", 10000L);
 }
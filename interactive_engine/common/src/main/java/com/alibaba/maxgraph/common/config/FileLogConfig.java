@@ -0,0 +1,25 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.common.config;
+
+public class FileLogConfig {
+    public static final Config<String> FILE_LOG_PATH =
+            Config.stringConfig("file.log.path", "./wal");
+
+    public static final Config<Integer> FILE_LOG_SEGMENT_SIZE_MB =
+            Config.intConfig("file.log.segment.size.mb", 64);
+
+    public static final Config<Boolean> FILE_LOG_SYNC_ENABLE =
+            Config.boolConfig("file.log.sync.enable", true);
+}
@@ -25,4 +25,12 @@ public class FrontendConfig {
             Config.intConfig(
                     "frontend.service.thread.count",
                     Math.max(Math.min(Runtime.getRuntime().availableProcessors() / 2, 64), 4));
+
+    /** Trace one of every N write requests from frontend to store, 0 to disable tracing */
+    public static final Config<Integer> WRITE_TRACE_SAMPLE_INTERVAL =
+            Config.intConfig("write.trace.sample.interval", 100);
+
+    /** Traced writes that take longer than this to become visible are logged */
+    public static final Config<Long> WRITE_TRACE_SLOW_THRESHOLD_MS =
+            Config.longConfig("write.trace.slow.threshold.ms", 3000L);
 }
@@ -17,12 +17,21 @@ public class IngestorConfig {
     public static final Config<Integer> INGESTOR_QUEUE_BUFFER_MAX_COUNT =
             Config.intConfig("ingsetor.queue.buffer.max.count", 128);
 
+    public static final Config<Integer> INGESTOR_WAL_PIPELINE_MAX_COUNT =
+            Config.intConfig("ingestor.wal.pipeline.max.count", 32);
+
     public static final Config<Integer> INGESTOR_SENDER_BUFFER_MAX_COUNT =
             Config.intConfig("ingestor.sender.buffer.max.count", 128);
 
     public static final Config<Integer> INGESTOR_SENDER_OPERATION_MAX_COUNT =
             Config.intConfig("ingestor.sender.operation.max.count", 8192);
 
+    public static final Config<Long> INGESTOR_SENDER_LINGER_MS =
+            Config.longConfig("ingestor.sender.linger.ms", 2L);
+
+    public static final Config<Long> INGESTOR_SENDER_BACKOFF_MS =
+            Config.longConfig("ingestor.sender.backoff.ms", 10L);
+
     public static final Config<Long> INGESTOR_CHECK_PROCESSOR_INTERVAL_MS =
             Config.longConfig("ingestor.check.processor.interval.ms", 3000L);
 }
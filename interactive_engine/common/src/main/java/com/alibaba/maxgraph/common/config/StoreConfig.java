@@ -18,7 +18,12 @@ public class StoreConfig {
             Config.stringConfig("store.data.path", "/maxgraph_data");
 
     public static final Config<Integer> STORE_WRITE_THREAD_COUNT =
-            Config.intConfig("store.write.thread.count", 1);
+            Config.intConfig(
+                    "store.write.thread.count",
+                    Math.max(Math.min(Runtime.getRuntime().availableProcessors(), 64), 1));
+
+    public static final Config<Integer> STORE_WRITE_INFLIGHT_BATCH_COUNT =
+            Config.intConfig("store.write.inflight.batch.count", 128);
 
     public static final Config<Integer> STORE_QUEUE_BUFFER_SIZE =
             Config.intConfig("store.queue.buffer.size", 128);
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.api.query;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Track the snapshots of the running queries without locks. The running queries are kept in a
+ * concurrent set, so the queries can be registered and finished in any order, and the minimum
+ * snapshot still in use is computed by {@link #updateMinSnapshotId()} periodically.
+ *
+ * <p>A query is registered before its snapshot is fetched, and it pins the minimum snapshot where it
+ * is until the snapshot is set, so the minimum never passes a snapshot that is fetched but not set
+ * yet. The minimum snapshot never goes backward, and it never passes the largest snapshot set, so
+ * it's advanced only by the queries that have been seen.
+ */
+public class InflightQueryManager implements QueryCallbackManager {
+    private final Set<QueryStatus> inflightQueries = ConcurrentHashMap.newKeySet();
+    private final AtomicLong maxSnapshotId = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong minSnapshotId = new AtomicLong(Long.MIN_VALUE);
+
+    @Override
+    public QueryStatus beforeExecution() {
+        QueryStatus query = new QueryStatus(QueryStatus.PENDING_SNAPSHOT_ID, false);
+        inflightQueries.add(query);
+        return query;
+    }
+
+    @Override
+    public void setSnapshotId(QueryStatus query, long snapshotId) {
+        maxSnapshotId.accumulateAndGet(snapshotId, Math::max);
+        query.snapshotId = snapshotId;
+    }
+
+    @Override
+    public void afterExecution(QueryStatus query) {
+        if (query != null) {
+            query.isDone = true;
+            inflightQueries.remove(query);
+        }
+    }
+
+    /**
+     * Compute the minimum snapshot of the running queries, or the largest snapshot set if there's
+     * no running query. The pending queries keep the minimum snapshot unchanged.
+     *
+     * @return The minimum snapshot in use, Long.MIN_VALUE if no snapshot is set yet
+     */
+    public long updateMinSnapshotId() {
+        long snapshotId = maxSnapshotId.get();
+        for (QueryStatus query : inflightQueries) {
+            if (!query.isDone) {
+                snapshotId = Math.min(snapshotId, query.snapshotId);
+            }
+        }
+        return minSnapshotId.accumulateAndGet(snapshotId, Math::max);
+    }
+
+    public int getInflightCount() {
+        return inflightQueries.size();
+    }
+}
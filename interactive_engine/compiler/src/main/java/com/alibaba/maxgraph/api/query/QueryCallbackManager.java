@@ -15,8 +15,19 @@
  */
 package com.alibaba.maxgraph.api.query;
 
+/**
+ * Callbacks around the execution of the queries, called concurrently by the query processors
+ * without any lock, see {@link InflightQueryManager}
+ */
 public interface QueryCallbackManager {
-    QueryStatus beforeExecution(Long snapshotId);
+    /**
+     * Register the query before its snapshot is fetched, so that the snapshot is tracked as soon as
+     * it's fetched
+     */
+    QueryStatus beforeExecution();
+
+    /** Set the snapshot fetched for the query registered by {@link #beforeExecution()} */
+    void setSnapshotId(QueryStatus query, long snapshotId);
 
     void afterExecution(QueryStatus query);
 }
@@ -16,8 +16,11 @@
 package com.alibaba.maxgraph.api.query;
 
 public class QueryStatus {
-    public long snapshotId;
-    public boolean isDone;
+    // the snapshot is not fetched yet
+    public static final long PENDING_SNAPSHOT_ID = Long.MIN_VALUE;
+
+    public volatile long snapshotId;
+    public volatile boolean isDone;
 
     public QueryStatus(long snapshotId, boolean isDone) {
         this.snapshotId = snapshotId;
@@ -15,16 +15,20 @@
  */
 package com.alibaba.maxgraph.cache;
 
-import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
+import static com.codahale.metrics.MetricRegistry.name;
+
+import com.codahale.metrics.Gauge;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 
-import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class CacheFactory {
+    private static final long VERTEX_CACHE_MAX_BYTES = 256L * 1024 * 1024;
+
     private static CacheFactory cacheFactory = new CacheFactory();
 
     private Cache<String, List<Object>> queryCache =
@@ -32,19 +36,24 @@ public class CacheFactory {
                     .expireAfterAccess(10, TimeUnit.SECONDS)
                     .maximumSize(100)
                     .build();
-    private Cache<ElementId, Vertex> vertexCache =
-            CacheBuilder.newBuilder()
-                    .expireAfterAccess(30, TimeUnit.SECONDS)
-                    .maximumSize(100000)
-                    .build();
-
-    private CacheFactory() {}
+    private VertexCache vertexCache = new VertexCache(VERTEX_CACHE_MAX_BYTES, 30);
+
+    private CacheFactory() {
+        MetricManager.INSTANCE.getGuage(
+                (Gauge<Double>) vertexCache::getHitRate, name(VertexCache.class, "hit", "rate"));
+        MetricManager.INSTANCE.getGuage(
+                (Gauge<Long>) vertexCache::getHitCount, name(VertexCache.class, "hit", "count"));
+        MetricManager.INSTANCE.getGuage(
+                (Gauge<Long>) vertexCache::getMissCount, name(VertexCache.class, "miss", "count"));
+        MetricManager.INSTANCE.getGuage(
+                (Gauge<Long>) vertexCache::size, name(VertexCache.class, "size"));
+    }
 
     public Cache<String, List<Object>> getQueryCache() {
         return queryCache;
     }
 
-    public Cache<ElementId, Vertex> getVertexCache() {
+    public VertexCache getVertexCache() {
         return vertexCache;
     }
 
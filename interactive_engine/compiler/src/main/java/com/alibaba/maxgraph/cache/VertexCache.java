@@ -0,0 +1,265 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.cache;
+
+import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
+import com.alibaba.maxgraph.structure.MxVertex;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the materialized vertices. A vertex is cached with the snapshot id and schema version it
+ * is read at, and is only served to the queries of the same schema version and a snapshot no older
+ * than it.
+ *
+ * <p>If all the writes to the graph are reported by {@link #beginWrite(Collection)} and {@link
+ * #endWrite(Collection, long)}, the vertices are valid until they are written, so they are also
+ * served to the queries of the later snapshots. The written vertices are invalidated once the write
+ * begins, and are not cached until the query snapshot is advanced past the snapshot of the write by
+ * {@link #advance(long)}. Otherwise a vertex is only served to the queries of the same snapshot.
+ *
+ * <p>A write that fails on the client side, e.g. by a timeout, may still be applied later in an
+ * unknown snapshot. The vertices of such a write are only served to the queries of the same
+ * snapshot from then on, as if the writes were not tracked.
+ *
+ * <p>The cache is bounded by the estimated serialized size of the vertices.
+ */
+public class VertexCache {
+    private static final int VERTEX_OVERHEAD_BYTES = 64;
+    private static final int PROPERTY_OVERHEAD_BYTES = 32;
+
+    private final Cache<ElementId, Entry> cache;
+    // vertices being written, they can't be cached until the snapshot of the write is available
+    private final Map<ElementId, Pin> pins = new ConcurrentHashMap<>();
+    // the vertices read before the latest unpinned write may be stale, they are not cached
+    private final AtomicLong minCacheableSnapshotId = new AtomicLong(-1L);
+    private volatile boolean writesTracked = false;
+
+    private final AtomicLong hitCount = new AtomicLong(0L);
+    private final AtomicLong missCount = new AtomicLong(0L);
+
+    public VertexCache(long maxBytes, long expireAfterAccessSec) {
+        this.cache =
+                CacheBuilder.newBuilder()
+                        .expireAfterAccess(expireAfterAccessSec, TimeUnit.SECONDS)
+                        .maximumWeight(maxBytes)
+                        .<ElementId, Entry>weigher((k, v) -> v.bytes)
+                        .build();
+    }
+
+    /**
+     * Set if all the writes to the graph are reported to the cache, i.e. there is a single frontend
+     * to write the graph
+     */
+    public void setWritesTracked(boolean writesTracked) {
+        this.writesTracked = writesTracked;
+    }
+
+    /**
+     * @return the cached vertex, or null if it is absent or not visible in the snapshot
+     */
+    public Vertex get(ElementId id, long snapshotId, long schemaVersion) {
+        Entry entry = cache.getIfPresent(id);
+        if (entry != null
+                && entry.schemaVersion == schemaVersion
+                && (entry.snapshotId == snapshotId
+                        || (writesTracked
+                                && entry.snapshotId < snapshotId
+                                && !isWriteFailed(id)))) {
+            hitCount.incrementAndGet();
+            return entry.vertex;
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /** Cache the vertex read in the snapshot */
+    public void put(Vertex vertex, long snapshotId, long schemaVersion) {
+        ElementId id = (ElementId) vertex.id();
+        Entry entry = new Entry(vertex, snapshotId, schemaVersion);
+        Entry prev = cache.asMap().get(id);
+        if (prev != null && prev.snapshotId > snapshotId) {
+            return;
+        }
+        cache.put(id, entry);
+        // a write may begin after the entry is put, the pin is checked after the put, so that
+        // either the write invalidates the entry or the entry is removed here
+        if (!isCacheable(id, snapshotId) || snapshotId < minCacheableSnapshotId.get()) {
+            cache.asMap().remove(id, entry);
+        }
+    }
+
+    /** Called before the vertices are written, the cached vertices are invalidated */
+    public void beginWrite(Collection<ElementId> ids) {
+        for (ElementId id : ids) {
+            pins.compute(
+                    id,
+                    (k, pin) -> {
+                        Pin curr = (pin == null) ? new Pin() : pin;
+                        curr.writing++;
+                        return curr;
+                    });
+        }
+        cache.invalidateAll(ids);
+    }
+
+    /**
+     * Called after the vertices are written
+     *
+     * @param snapshotId the snapshot id of the write, or a negative value if the write fails, then
+     *     the pins of the vertices are kept to serve them in the same snapshot only
+     */
+    public void endWrite(Collection<ElementId> ids, long snapshotId) {
+        for (ElementId id : ids) {
+            pins.computeIfPresent(
+                    id,
+                    (k, pin) -> {
+                        pin.writing--;
+                        pin.snapshotId = Math.max(pin.snapshotId, snapshotId);
+                        if (snapshotId < 0) {
+                            pin.failed = true;
+                        }
+                        return pin;
+                    });
+        }
+    }
+
+    /** Called when the query snapshot is advanced, the written vertices can be cached again */
+    public void advance(long snapshotId) {
+        long maxWriteSnapshotId = -1L;
+        for (Pin pin : pins.values()) {
+            if (pin.writing == 0 && pin.snapshotId <= snapshotId) {
+                maxWriteSnapshotId = Math.max(maxWriteSnapshotId, pin.snapshotId);
+            }
+        }
+        // raised before the pins are removed, see put()
+        long writeSnapshotId = maxWriteSnapshotId;
+        minCacheableSnapshotId.updateAndGet(x -> Math.max(x, writeSnapshotId));
+        for (ElementId id : pins.keySet()) {
+            pins.computeIfPresent(
+                    id,
+                    (k, pin) ->
+                            (!pin.failed && pin.writing == 0 && pin.snapshotId <= writeSnapshotId)
+                                    ? null
+                                    : pin);
+        }
+    }
+
+    public void invalidate(ElementId id) {
+        cache.invalidate(id);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return (total == 0) ? 1.0 : (double) hits / total;
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private boolean isCacheable(ElementId id, long snapshotId) {
+        Pin pin = pins.get(id);
+        return pin == null || (pin.writing == 0 && pin.snapshotId <= snapshotId);
+    }
+
+    private boolean isWriteFailed(ElementId id) {
+        Pin pin = pins.get(id);
+        return pin != null && pin.failed;
+    }
+
+    static int estimateBytes(Vertex vertex) {
+        int bytes = VERTEX_OVERHEAD_BYTES + estimateBytes(vertex.label());
+        if (vertex instanceof MxVertex) {
+            for (Map.Entry<String, Object> property :
+                    ((MxVertex) vertex).getBaseVertex().getProperties().entrySet()) {
+                bytes +=
+                        PROPERTY_OVERHEAD_BYTES
+                                + estimateBytes(property.getKey())
+                                + estimateBytes(property.getValue());
+            }
+        } else {
+            Iterator<VertexProperty<Object>> properties = vertex.properties();
+            while (properties.hasNext()) {
+                VertexProperty<Object> property = properties.next();
+                bytes +=
+                        PROPERTY_OVERHEAD_BYTES
+                                + estimateBytes(property.key())
+                                + estimateBytes(property.value());
+            }
+        }
+        return bytes;
+    }
+
+    private static int estimateBytes(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return 2 * ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else if (value instanceof Collection) {
+            int bytes = 0;
+            for (Object item : (Collection<?>) value) {
+                bytes += 8 + estimateBytes(item);
+            }
+            return bytes;
+        } else {
+            return 8;
+        }
+    }
+
+    private static class Entry {
+        private final Vertex vertex;
+        private final long snapshotId;
+        private final long schemaVersion;
+        private final int bytes;
+
+        public Entry(Vertex vertex, long snapshotId, long schemaVersion) {
+            this.vertex = vertex;
+            this.snapshotId = snapshotId;
+            this.schemaVersion = schemaVersion;
+            this.bytes = estimateBytes(vertex);
+        }
+    }
+
+    // only updated in the compute of the pin map
+    private static class Pin {
+        private volatile int writing = 0;
+        private volatile long snapshotId = -1L;
+        // never removed, see endWrite()
+        private volatile boolean failed = false;
+    }
+}
@@ -22,6 +22,7 @@ import com.alibaba.maxgraph.compiler.api.schema.SchemaFetcher;
 import com.alibaba.maxgraph.compiler.tree.EdgeOtherVertexTreeNode;
 import com.alibaba.maxgraph.compiler.tree.EdgeTreeNode;
 import com.alibaba.maxgraph.compiler.tree.EdgeVertexTreeNode;
+import com.alibaba.maxgraph.compiler.tree.HasTreeNode;
 import com.alibaba.maxgraph.compiler.tree.NodeType;
 import com.alibaba.maxgraph.compiler.tree.TreeNode;
 import com.alibaba.maxgraph.compiler.tree.VertexTreeNode;
@@ -30,8 +31,10 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,6 +53,12 @@ public class CostDataStatistics {
 
     private Map<String, Double> vertexCountList = Maps.newConcurrentMap();
     private Map<String, Double> edgeCountList = Maps.newConcurrentMap();
+    // relation key -> degree statistics of the source/target vertices
+    private Map<String, DegreeStatistics> outDegreeList = Maps.newConcurrentMap();
+    private Map<String, DegreeStatistics> inDegreeList = Maps.newConcurrentMap();
+    // vertex label -> property name -> property statistics
+    private Map<String, Map<String, PropertyStatistics>> propertyStatisticsList =
+            Maps.newConcurrentMap();
     private SchemaFetcher schemaFetcher = null;
     private AtomicBoolean initFlag = new AtomicBoolean(false);
 
@@ -59,6 +68,9 @@ public class CostDataStatistics {
 
     public static synchronized void initialize(SchemaFetcher schemaFetcher) {
         INSTANCE.schemaFetcher = schemaFetcher;
+        INSTANCE.outDegreeList.clear();
+        INSTANCE.inDegreeList.clear();
+        INSTANCE.propertyStatisticsList.clear();
     }
 
     public static CostDataStatistics getInstance() {
@@ -121,6 +133,129 @@ public class CostDataStatistics {
         this.edgeCountList.put(edgeLabel, count);
     }
 
+    /**
+     * Add the out degree statistics of the source vertices in the given edge relation
+     *
+     * @param sourceLabel The given source vertex label
+     * @param edgeLabel The given edge label
+     * @param targetLabel The given target vertex label
+     * @param degreeStatistics The given degree statistics
+     */
+    public void addOutDegree(
+            String sourceLabel,
+            String edgeLabel,
+            String targetLabel,
+            DegreeStatistics degreeStatistics) {
+        this.outDegreeList.put(relationKey(sourceLabel, edgeLabel, targetLabel), degreeStatistics);
+    }
+
+    /**
+     * Add the in degree statistics of the target vertices in the given edge relation
+     *
+     * @param sourceLabel The given source vertex label
+     * @param edgeLabel The given edge label
+     * @param targetLabel The given target vertex label
+     * @param degreeStatistics The given degree statistics
+     */
+    public void addInDegree(
+            String sourceLabel,
+            String edgeLabel,
+            String targetLabel,
+            DegreeStatistics degreeStatistics) {
+        this.inDegreeList.put(relationKey(sourceLabel, edgeLabel, targetLabel), degreeStatistics);
+    }
+
+    public void addPropertyStatistics(
+            String vertexLabel, String propertyName, PropertyStatistics propertyStatistics) {
+        this.propertyStatisticsList
+                .computeIfAbsent(vertexLabel, k -> Maps.newConcurrentMap())
+                .put(propertyName, propertyStatistics);
+    }
+
+    public DegreeStatistics getOutDegree(String sourceLabel, String edgeLabel, String targetLabel) {
+        return this.outDegreeList.get(relationKey(sourceLabel, edgeLabel, targetLabel));
+    }
+
+    public DegreeStatistics getInDegree(String sourceLabel, String edgeLabel, String targetLabel) {
+        return this.inDegreeList.get(relationKey(sourceLabel, edgeLabel, targetLabel));
+    }
+
+    private static String relationKey(String sourceLabel, String edgeLabel, String targetLabel) {
+        return sourceLabel + "-" + edgeLabel + "->" + targetLabel;
+    }
+
+    /**
+     * Compute the average count of the edges of each vertex in the relation, the collected degree
+     * statistics is used if exists, otherwise the edges are assumed to be evenly distributed to the
+     * relations of the edge label. The vertices reached by the edges of the same label are more
+     * likely to be the ones with more edges, their expected degree is the skewed degree.
+     */
+    private double getAvgDegree(
+            GraphEdge edge,
+            EdgeRelation relation,
+            boolean outDirection,
+            Set<String> reachedEdgeList) {
+        String sourceLabel = relation.getSource().getLabel();
+        String targetLabel = relation.getTarget().getLabel();
+        DegreeStatistics degreeStatistics =
+                outDirection
+                        ? getOutDegree(sourceLabel, edge.getLabel(), targetLabel)
+                        : getInDegree(sourceLabel, edge.getLabel(), targetLabel);
+        if (null != degreeStatistics) {
+            return reachedEdgeList.contains(edge.getLabel())
+                    ? degreeStatistics.getSkewedDegree()
+                    : degreeStatistics.getAvgDegree();
+        }
+        double avgRelationRatio = 1.0 / edge.getRelationList().size();
+        return this.edgeCountList.getOrDefault(edge.getLabel(), INIT_EDGE_COUNT)
+                * avgRelationRatio
+                / this.vertexCountList.getOrDefault(
+                        outDirection ? sourceLabel : targetLabel, INIT_VERTEX_COUNT);
+    }
+
+    /**
+     * Compute the ratio of the vertices of the label that match all the given has containers
+     *
+     * @param vertexLabel The given vertex label
+     * @param hasContainerList The given has container list
+     * @return The result ratio, {@link #FILTER_RATIO} if there's no statistics for the properties
+     */
+    private double getFilterRatio(String vertexLabel, List<HasContainer> hasContainerList) {
+        Map<String, PropertyStatistics> propertyList = this.propertyStatisticsList.get(vertexLabel);
+        if (null == propertyList) {
+            return FILTER_RATIO;
+        }
+        boolean estimated = false;
+        double ratio = 1.0;
+        for (HasContainer hasContainer : hasContainerList) {
+            PropertyStatistics propertyStatistics = propertyList.get(hasContainer.getKey());
+            if (null == propertyStatistics) {
+                continue;
+            }
+            double selectivity = propertyStatistics.getSelectivity(hasContainer.getPredicate());
+            if (selectivity >= 0) {
+                ratio *= selectivity;
+                estimated = true;
+            }
+        }
+        return estimated ? ratio : FILTER_RATIO;
+    }
+
+    private NodeStatistics getFilterRatio(NodeStatistics input, HasTreeNode hasTreeNode) {
+        NodeStatistics nodeStatistics =
+                new NodeStatistics(schemaFetcher.getSchemaSnapshotPair().getLeft());
+        for (Map.Entry<String, Double> entry : input.getVertexCountList().entrySet()) {
+            nodeStatistics.addVertexCount(
+                    entry.getKey(),
+                    entry.getValue()
+                            * getFilterRatio(entry.getKey(), hasTreeNode.getHasContainerList()));
+        }
+        for (Map.Entry<String, Double> entry : input.getEdgeCountList().entrySet()) {
+            nodeStatistics.addEdgeCount(entry.getKey(), entry.getValue() * FILTER_RATIO);
+        }
+        return nodeStatistics;
+    }
+
     private double getVertexCount(String label) {
         return this.vertexCountList.getOrDefault(label, INIT_VERTEX_COUNT);
     }
@@ -137,7 +272,20 @@ public class CostDataStatistics {
      * @return The result ratio
      */
     public NodeStatistics getOutRatio(NodeStatistics input, Set<String> edgeList) {
-        return getDirectionRatio(input, edgeList, true);
+        return getOutRatio(input, edgeList, Collections.emptySet());
+    }
+
+    /**
+     * Compute out scale ratio with start vertex label list and edge list
+     *
+     * @param input The given start vertex label list
+     * @param edgeList The given edge label list
+     * @param reachedEdgeList The given edge labels by which the start vertices are reached
+     * @return The result ratio
+     */
+    public NodeStatistics getOutRatio(
+            NodeStatistics input, Set<String> edgeList, Set<String> reachedEdgeList) {
+        return getDirectionRatio(input, edgeList, true, reachedEdgeList);
     }
 
     /**
@@ -148,7 +296,20 @@ public class CostDataStatistics {
      * @return The result ratio
      */
     public NodeStatistics getInRatio(NodeStatistics input, Set<String> edgeList) {
-        return getDirectionRatio(input, edgeList, false);
+        return getInRatio(input, edgeList, Collections.emptySet());
+    }
+
+    /**
+     * Compute in scale ratio with start vertex label list and edge list
+     *
+     * @param input The given start vertex label list
+     * @param edgeList The given edge label list
+     * @param reachedEdgeList The given edge labels by which the start vertices are reached
+     * @return The result ratio
+     */
+    public NodeStatistics getInRatio(
+            NodeStatistics input, Set<String> edgeList, Set<String> reachedEdgeList) {
+        return getDirectionRatio(input, edgeList, false, reachedEdgeList);
     }
 
     /**
@@ -163,7 +324,10 @@ public class CostDataStatistics {
     }
 
     private NodeStatistics getDirectionRatio(
-            NodeStatistics input, Set<String> edgeList, boolean outDirection) {
+            NodeStatistics input,
+            Set<String> edgeList,
+            boolean outDirection,
+            Set<String> reachedEdgeList) {
         GraphSchema schema = schemaFetcher.getSchemaSnapshotPair().getLeft();
         if (schema.getEdgeList().isEmpty()) {
             return new NodeStatistics(schema);
@@ -195,56 +359,23 @@ public class CostDataStatistics {
                 .filter(v -> v.getRelationList().size() > 0)
                 .forEach(
                         v -> {
-                            double avgRelationRatio = 1.0 / v.getRelationList().size();
-                            v.getRelationList().stream()
-                                    .filter(
-                                            vv ->
-                                                    (outDirection
-                                                                    && vertexCountList.containsKey(
-                                                                            vv.getSource()
-                                                                                    .getLabel()))
-                                                            || ((!outDirection)
-                                                                    && vertexCountList.containsKey(
-                                                                            vv.getTarget()
-                                                                                    .getLabel())))
-                                    .forEach(
-                                            vv -> {
-                                                if (outDirection) {
-                                                    Double edgeCount =
-                                                            this.edgeCountList.getOrDefault(
-                                                                    v.getLabel(), INIT_EDGE_COUNT);
-                                                    Double sourceVertexCount =
-                                                            this.vertexCountList.getOrDefault(
-                                                                    vv.getSource().getLabel(),
-                                                                    INIT_VERTEX_COUNT);
-                                                    Double currSourceVertexCount =
-                                                            vertexCountList.getOrDefault(
-                                                                    vv.getSource().getLabel(),
-                                                                    INIT_VERTEX_COUNT);
-                                                    nodeStatistics.addVertexCount(
-                                                            vv.getTarget().getLabel(),
-                                                            (edgeCount
-                                                                            * avgRelationRatio
-                                                                            / sourceVertexCount)
-                                                                    * currSourceVertexCount);
-                                                } else {
-                                                    nodeStatistics.addVertexCount(
-                                                            vv.getSource().getLabel(),
-                                                            (this.edgeCountList.getOrDefault(
-                                                                                    v.getLabel(),
-                                                                                    INIT_EDGE_COUNT)
-                                                                            * avgRelationRatio
-                                                                            / this.vertexCountList
-                                                                                    .getOrDefault(
-                                                                                            vv.getTarget()
-                                                                                                    .getLabel(),
-                                                                                            INIT_VERTEX_COUNT))
-                                                                    * vertexCountList.getOrDefault(
-                                                                            vv.getTarget()
-                                                                                    .getLabel(),
-                                                                            INIT_VERTEX_COUNT));
-                                                }
-                                            });
+                            for (EdgeRelation relation : v.getRelationList()) {
+                                String startLabel =
+                                        outDirection
+                                                ? relation.getSource().getLabel()
+                                                : relation.getTarget().getLabel();
+                                String endLabel =
+                                        outDirection
+                                                ? relation.getTarget().getLabel()
+                                                : relation.getSource().getLabel();
+                                if (!vertexCountList.containsKey(startLabel)) {
+                                    continue;
+                                }
+                                nodeStatistics.addVertexCount(
+                                        endLabel,
+                                        getAvgDegree(v, relation, outDirection, reachedEdgeList)
+                                                * vertexCountList.get(startLabel));
+                            }
                         });
 
         return nodeStatistics;
@@ -258,6 +389,11 @@ public class CostDataStatistics {
      * @return The result ratio
      */
     public NodeStatistics getOutERatio(NodeStatistics input, Set<String> edgeList) {
+        return getOutERatio(input, edgeList, Collections.emptySet());
+    }
+
+    private NodeStatistics getOutERatio(
+            NodeStatistics input, Set<String> edgeList, Set<String> reachedEdgeList) {
         GraphSchema schema = schemaFetcher.getSchemaSnapshotPair().getLeft();
         NodeStatistics nodeStatistics = new NodeStatistics(schema);
         Map<String, Double> inputVertexCountList = input.getVertexCountList();
@@ -266,7 +402,6 @@ public class CostDataStatistics {
                 GraphEdge edge = (GraphEdge) schema.getElement(edgeLabel);
                 List<EdgeRelation> relationList = edge.getRelationList();
                 if (relationList.size() > 0) {
-                    double avgRelationRatio = 1.0 / edge.getRelationList().size();
                     relationList.stream()
                             .filter(v -> inputVertexCountList.containsKey(v.getSource().getLabel()))
                             .forEach(
@@ -276,13 +411,7 @@ public class CostDataStatistics {
                                                         v.getSource().getLabel(),
                                                         INIT_VERTEX_COUNT);
                                         double currEdgeCount =
-                                                (this.edgeCountList.getOrDefault(
-                                                                        edge.getLabel(),
-                                                                        INIT_EDGE_COUNT)
-                                                                * avgRelationRatio
-                                                                / this.vertexCountList.getOrDefault(
-                                                                        v.getSource().getLabel(),
-                                                                        INIT_VERTEX_COUNT))
+                                                getAvgDegree(edge, v, true, reachedEdgeList)
                                                         * sourceVertexCount;
                                         nodeStatistics.addEdgeCount(edgeLabel, currEdgeCount);
                                     });
@@ -302,6 +431,11 @@ public class CostDataStatistics {
      * @return The result ratio
      */
     public NodeStatistics getInERatio(NodeStatistics input, Set<String> edgeList) {
+        return getInERatio(input, edgeList, Collections.emptySet());
+    }
+
+    private NodeStatistics getInERatio(
+            NodeStatistics input, Set<String> edgeList, Set<String> reachedEdgeList) {
         GraphSchema schema = schemaFetcher.getSchemaSnapshotPair().getLeft();
         NodeStatistics nodeStatistics = new NodeStatistics(schema);
         Map<String, Double> inputVertexCountList = input.getVertexCountList();
@@ -310,7 +444,6 @@ public class CostDataStatistics {
                 GraphEdge edge = (GraphEdge) schema.getElement(edgeLabel);
                 List<EdgeRelation> relationList = edge.getRelationList();
                 if (relationList.size() > 0) {
-                    double avgRelationRatio = 1.0 / edge.getRelationList().size();
                     relationList.stream()
                             .filter(v -> inputVertexCountList.containsKey(v.getTarget().getLabel()))
                             .forEach(
@@ -320,13 +453,7 @@ public class CostDataStatistics {
                                                         v.getTarget().getLabel(),
                                                         INIT_VERTEX_COUNT);
                                         double currEdgeCount =
-                                                (this.edgeCountList.getOrDefault(
-                                                                        edge.getLabel(),
-                                                                        INIT_EDGE_COUNT)
-                                                                * avgRelationRatio
-                                                                / this.vertexCountList.getOrDefault(
-                                                                        v.getTarget().getLabel(),
-                                                                        INIT_VERTEX_COUNT))
+                                                getAvgDegree(edge, v, false, reachedEdgeList)
                                                         * sourceVertexCount;
                                         nodeStatistics.addEdgeCount(edgeLabel, currEdgeCount);
                                     });
@@ -365,11 +492,14 @@ public class CostDataStatistics {
             NodeLabelManager nodeLabelManager, List<TreeNode> treeNodeList) {
         List<NodeStatistics> nodeStatisticsList = Lists.newArrayList();
         List<NodeLabelList> nodeLabelLists = nodeLabelManager.getNodeLabelList();
+        Set<String> reachedEdgeList = Collections.emptySet();
         for (int i = 0; i < nodeLabelLists.size(); i++) {
             NodeStatistics inputStatistics = i == 0 ? null : nodeStatisticsList.get(i - 1);
             NodeLabelList currNodeLabel = nodeLabelLists.get(i);
             TreeNode treeNode = treeNodeList.get(i);
-            nodeStatisticsList.add(computeStepCount(inputStatistics, treeNode, currNodeLabel));
+            nodeStatisticsList.add(
+                    computeStepCount(inputStatistics, treeNode, currNodeLabel, reachedEdgeList));
+            reachedEdgeList = getReachedEdgeList(treeNode, currNodeLabel, reachedEdgeList);
         }
 
         return nodeStatisticsList.stream()
@@ -377,16 +507,48 @@ public class CostDataStatistics {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Compute the edge labels by which the output of the given node is reached
+     *
+     * @param treeNode The given tree node
+     * @param currNodeLabel The given current node label
+     * @param reachedEdgeList The given edge labels by which the input of the node is reached
+     * @return The result edge labels, empty if the output is not reached by edges
+     */
+    private Set<String> getReachedEdgeList(
+            TreeNode treeNode, NodeLabelList currNodeLabel, Set<String> reachedEdgeList) {
+        if (treeNode instanceof VertexTreeNode) {
+            String[] edgeLabels = ((VertexTreeNode) treeNode).getEdgeLabels();
+            if (null == edgeLabels || edgeLabels.length == 0) {
+                return schemaFetcher.getSchemaSnapshotPair().getLeft().getEdgeList().stream()
+                        .map(GraphElement::getLabel)
+                        .collect(Collectors.toSet());
+            }
+            return Sets.newHashSet(edgeLabels);
+        } else if (treeNode instanceof EdgeTreeNode) {
+            return currNodeLabel.getEdgeLabelList();
+        } else if (treeNode instanceof EdgeVertexTreeNode
+                || treeNode instanceof EdgeOtherVertexTreeNode
+                || NodeType.FILTER == treeNode.getNodeType()) {
+            return reachedEdgeList;
+        }
+        return Collections.emptySet();
+    }
+
     /**
      * Compute step count with given node and node label
      *
      * @param inputStatistics The given input statistics
      * @param treeNode The given tree node
      * @param currNodeLabel The given current node label
+     * @param reachedEdgeList The given edge labels by which the input is reached
      * @return The result step count
      */
     private NodeStatistics computeStepCount(
-            NodeStatistics inputStatistics, TreeNode treeNode, NodeLabelList currNodeLabel) {
+            NodeStatistics inputStatistics,
+            TreeNode treeNode,
+            NodeLabelList currNodeLabel,
+            Set<String> reachedEdgeList) {
         GraphSchema schema = schemaFetcher.getSchemaSnapshotPair().getLeft();
         NodeStatistics nodeStatistics = new NodeStatistics(schema);
         if (null == inputStatistics) {
@@ -427,18 +589,22 @@ public class CostDataStatistics {
                 switch (direction) {
                     case OUT:
                         {
-                            nodeStatistics.merge(getOutRatio(inputStatistics, edgeLabelList));
+                            nodeStatistics.merge(
+                                    getOutRatio(inputStatistics, edgeLabelList, reachedEdgeList));
                             break;
                         }
                     case IN:
                         {
-                            nodeStatistics.merge(getInRatio(inputStatistics, edgeLabelList));
+                            nodeStatistics.merge(
+                                    getInRatio(inputStatistics, edgeLabelList, reachedEdgeList));
                             break;
                         }
                     case BOTH:
                         {
-                            nodeStatistics.merge(getOutRatio(inputStatistics, edgeLabelList));
-                            nodeStatistics.merge(getInRatio(inputStatistics, edgeLabelList));
+                            nodeStatistics.merge(
+                                    getOutRatio(inputStatistics, edgeLabelList, reachedEdgeList));
+                            nodeStatistics.merge(
+                                    getInRatio(inputStatistics, edgeLabelList, reachedEdgeList));
                             break;
                         }
                 }
@@ -448,18 +614,22 @@ public class CostDataStatistics {
                 switch (direction) {
                     case OUT:
                         {
-                            nodeStatistics.merge(getOutERatio(inputStatistics, edgeLabelList));
+                            nodeStatistics.merge(
+                                    getOutERatio(inputStatistics, edgeLabelList, reachedEdgeList));
                             break;
                         }
                     case IN:
                         {
-                            nodeStatistics.merge(getInERatio(inputStatistics, edgeLabelList));
+                            nodeStatistics.merge(
+                                    getInERatio(inputStatistics, edgeLabelList, reachedEdgeList));
                             break;
                         }
                     case BOTH:
                         {
-                            nodeStatistics.merge(getOutERatio(inputStatistics, edgeLabelList));
-                            nodeStatistics.merge(getInERatio(inputStatistics, edgeLabelList));
+                            nodeStatistics.merge(
+                                    getOutERatio(inputStatistics, edgeLabelList, reachedEdgeList));
+                            nodeStatistics.merge(
+                                    getInERatio(inputStatistics, edgeLabelList, reachedEdgeList));
                             break;
                         }
                 }
@@ -541,7 +711,12 @@ public class CostDataStatistics {
                 if (NodeType.MAP == nodeType) {
                     nodeStatistics.addElementCount(inputStatistics.totalCount());
                 } else if (NodeType.FILTER == nodeType) {
-                    nodeStatistics.merge(inputStatistics, FILTER_RATIO);
+                    if (treeNode instanceof HasTreeNode && !propertyStatisticsList.isEmpty()) {
+                        nodeStatistics.merge(
+                                getFilterRatio(inputStatistics, (HasTreeNode) treeNode));
+                    } else {
+                        nodeStatistics.merge(inputStatistics, FILTER_RATIO);
+                    }
                 } else if (NodeType.FLATMAP == nodeType) {
                     nodeStatistics.addElementCount(inputStatistics.totalCount() * FLATMAP_RATIO);
                 } else if (NodeType.AGGREGATE == nodeType) {
@@ -561,7 +736,30 @@ public class CostDataStatistics {
         JSONObject edgeObject = JSONObject.parseObject(JSONObject.toJSONString(edgeCountList));
         jsonObject.put("vertex", vertexObject);
         jsonObject.put("edge", edgeObject);
+        JSONObject degreeObject = new JSONObject();
+        outDegreeList.forEach((k, v) -> degreeObject.put("out:" + k, formatDegree(v)));
+        inDegreeList.forEach((k, v) -> degreeObject.put("in:" + k, formatDegree(v)));
+        jsonObject.put("degree", degreeObject);
+        JSONObject propertyObject = new JSONObject();
+        propertyStatisticsList.forEach(
+                (label, propertyList) ->
+                        propertyList.forEach(
+                                (property, v) -> {
+                                    JSONObject valueObject = new JSONObject();
+                                    valueObject.put("ndv", v.getDistinctCount());
+                                    valueObject.put("sample", v.getSortedSampleList().size());
+                                    propertyObject.put(label + "." + property, valueObject);
+                                }));
+        jsonObject.put("property", propertyObject);
 
         return jsonObject.toJSONString();
     }
+
+    private static JSONObject formatDegree(DegreeStatistics degreeStatistics) {
+        JSONObject degreeObject = new JSONObject();
+        degreeObject.put("avg", degreeStatistics.getAvgDegree());
+        degreeObject.put("skewed", degreeStatistics.getSkewedDegree());
+        degreeObject.put("max", degreeStatistics.getMaxDegree());
+        return degreeObject;
+    }
 }
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.compiler.cost.statistics;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Map;
+
+/** Degree distribution of the vertices of a label in an edge relation */
+public class DegreeStatistics {
+    private final double vertexCount;
+    private final double edgeCount;
+    private final double degreeSquareSum;
+    private final long maxDegree;
+
+    public DegreeStatistics(
+            double vertexCount, double edgeCount, double degreeSquareSum, long maxDegree) {
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.degreeSquareSum = degreeSquareSum;
+        this.maxDegree = maxDegree;
+    }
+
+    /**
+     * Build degree statistics from the vertex count of each degree
+     *
+     * @param degreeCountList The given degree to vertex count list
+     * @return The result degree statistics
+     */
+    public static DegreeStatistics fromDegreeCountList(Map<Long, Long> degreeCountList) {
+        double vertexCount = 0;
+        double edgeCount = 0;
+        double degreeSquareSum = 0;
+        long maxDegree = 0;
+        for (Map.Entry<Long, Long> entry : degreeCountList.entrySet()) {
+            long degree = entry.getKey();
+            long count = entry.getValue();
+            vertexCount += count;
+            edgeCount += (double) degree * count;
+            degreeSquareSum += (double) degree * degree * count;
+            maxDegree = Math.max(maxDegree, degree);
+        }
+        return new DegreeStatistics(vertexCount, edgeCount, degreeSquareSum, maxDegree);
+    }
+
+    public double getVertexCount() {
+        return vertexCount;
+    }
+
+    public double getEdgeCount() {
+        return edgeCount;
+    }
+
+    public double getAvgDegree() {
+        return vertexCount > 0 ? edgeCount / vertexCount : 0;
+    }
+
+    /**
+     * The expected degree of a vertex reached by a random edge, which is much larger than the
+     * average degree when the degrees are skewed
+     */
+    public double getSkewedDegree() {
+        return edgeCount > 0 ? degreeSquareSum / edgeCount : 0;
+    }
+
+    public long getMaxDegree() {
+        return maxDegree;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("vertexCount", vertexCount)
+                .add("avgDegree", getAvgDegree())
+                .add("skewedDegree", getSkewedDegree())
+                .add("maxDegree", maxDegree)
+                .toString();
+    }
+}
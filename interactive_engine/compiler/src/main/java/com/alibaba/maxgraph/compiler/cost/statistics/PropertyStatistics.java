@@ -0,0 +1,187 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.compiler.cost.statistics;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.OrP;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Number of distinct values and a histogram of a property, the histogram is kept as the sorted
+ * sample of the values, each of which is a bucket boundary of an equal-depth histogram.
+ */
+public class PropertyStatistics {
+    public static final double UNKNOWN_SELECTIVITY = -1;
+
+    private final double distinctCount;
+    private final List<Object> sortedSampleList;
+
+    public PropertyStatistics(double distinctCount, List<Object> sampleList) {
+        this.distinctCount = distinctCount;
+        this.sortedSampleList = Lists.newArrayList();
+        for (Object value : sampleList) {
+            if (value instanceof Number || value instanceof String) {
+                this.sortedSampleList.add(value);
+            }
+        }
+        try {
+            this.sortedSampleList.sort(PropertyStatistics::compareValue);
+        } catch (IllegalArgumentException e) {
+            // mixed value types, the histogram is not usable
+            this.sortedSampleList.clear();
+        }
+    }
+
+    /**
+     * Estimate the number of distinct values from a uniform sample by GEE, i.e. sqrt(N / n) * f1 +
+     * sum(fj, j >= 2), where fj is the number of values that appear j times in the sample of size n
+     * out of N values
+     *
+     * @param sampleList The given sample of the values
+     * @param totalCount The given total count of the values
+     * @return The result distinct count
+     */
+    public static double estimateDistinctCount(List<Object> sampleList, double totalCount) {
+        Map<Object, Integer> valueCountList = Maps.newHashMap();
+        for (Object value : sampleList) {
+            valueCountList.merge(value, 1, Integer::sum);
+        }
+        if (sampleList.size() >= totalCount) {
+            return valueCountList.size();
+        }
+        double distinctCount = 0;
+        for (int count : valueCountList.values()) {
+            distinctCount += count == 1 ? Math.sqrt(totalCount / sampleList.size()) : 1;
+        }
+        return Math.min(distinctCount, totalCount);
+    }
+
+    public double getDistinctCount() {
+        return distinctCount;
+    }
+
+    public List<Object> getSortedSampleList() {
+        return sortedSampleList;
+    }
+
+    /**
+     * Estimate the ratio of the values that match the given predicate
+     *
+     * @param predicate The given predicate
+     * @return The result ratio, or {@link #UNKNOWN_SELECTIVITY} if it can't be estimated
+     */
+    public double getSelectivity(P<?> predicate) {
+        if (predicate instanceof AndP || predicate instanceof OrP) {
+            List<? extends P<?>> predicateList =
+                    predicate instanceof AndP
+                            ? ((AndP<?>) predicate).getPredicates()
+                            : ((OrP<?>) predicate).getPredicates();
+            double selectivitySum = 0;
+            for (P<?> p : predicateList) {
+                double selectivity = getSelectivity(p);
+                if (selectivity < 0) {
+                    return UNKNOWN_SELECTIVITY;
+                }
+                selectivitySum += selectivity;
+            }
+            // the lower bound of the conjunction, which is exact for the range of a and(gte, lt)
+            return predicate instanceof AndP
+                    ? Math.max(0, selectivitySum - (predicateList.size() - 1))
+                    : Math.min(1, selectivitySum);
+        }
+
+        BiPredicate<?, ?> biPredicate = predicate.getBiPredicate();
+        Object value = predicate.getValue();
+        if (biPredicate == Compare.eq) {
+            return getEqualSelectivity();
+        } else if (biPredicate == Compare.neq) {
+            return distinctCount > 0 ? 1 - getEqualSelectivity() : UNKNOWN_SELECTIVITY;
+        } else if (biPredicate == Contains.within && value instanceof Collection) {
+            return distinctCount > 0
+                    ? Math.min(1, ((Collection<?>) value).size() * getEqualSelectivity())
+                    : UNKNOWN_SELECTIVITY;
+        } else if (biPredicate == Contains.without && value instanceof Collection) {
+            return distinctCount > 0
+                    ? Math.max(0, 1 - ((Collection<?>) value).size() * getEqualSelectivity())
+                    : UNKNOWN_SELECTIVITY;
+        } else if (biPredicate == Compare.lt) {
+            return getLessRatio(value, false);
+        } else if (biPredicate == Compare.lte) {
+            return getLessRatio(value, true);
+        } else if (biPredicate == Compare.gt) {
+            double ratio = getLessRatio(value, true);
+            return ratio < 0 ? UNKNOWN_SELECTIVITY : 1 - ratio;
+        } else if (biPredicate == Compare.gte) {
+            double ratio = getLessRatio(value, false);
+            return ratio < 0 ? UNKNOWN_SELECTIVITY : 1 - ratio;
+        }
+        return UNKNOWN_SELECTIVITY;
+    }
+
+    private double getEqualSelectivity() {
+        return distinctCount > 0 ? 1.0 / distinctCount : UNKNOWN_SELECTIVITY;
+    }
+
+    /** Ratio of the sampled values less than (or equal to) the given value */
+    private double getLessRatio(Object value, boolean inclusive) {
+        if (sortedSampleList.isEmpty() || !(value instanceof Number || value instanceof String)) {
+            return UNKNOWN_SELECTIVITY;
+        }
+        // the first index whose value is not less than (or greater than) the given value
+        int low = 0;
+        int high = sortedSampleList.size();
+        try {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int compare = compareValue(sortedSampleList.get(mid), value);
+                if (compare < 0 || (inclusive && compare == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN_SELECTIVITY;
+        }
+        return (double) low / sortedSampleList.size();
+    }
+
+    private static int compareValue(Object left, Object right) {
+        if (left instanceof Number && right instanceof Number) {
+            return Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue());
+        } else if (left instanceof String && right instanceof String) {
+            return ((String) left).compareTo((String) right);
+        }
+        throw new IllegalArgumentException("can't compare " + left + " with " + right);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("distinctCount", distinctCount)
+                .add("sampleCount", sortedSampleList.size())
+                .toString();
+    }
+}
@@ -0,0 +1,236 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.compiler.cost.statistics;
+
+import com.alibaba.maxgraph.compiler.api.schema.EdgeRelation;
+import com.alibaba.maxgraph.compiler.api.schema.GraphEdge;
+import com.alibaba.maxgraph.compiler.api.schema.GraphProperty;
+import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
+import com.alibaba.maxgraph.compiler.api.schema.GraphVertex;
+import com.alibaba.maxgraph.compiler.api.schema.SchemaFetcher;
+import com.alibaba.maxgraph.structure.graph.TinkerMaxGraph;
+import com.alibaba.maxgraph.tinkerpop.traversal.MaxGraphTraversalSource;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Collect the statistics of the graph for the cost model in background. The statistics are
+ * vertex/edge counts of each label, degree distributions of each edge relation, and the number of
+ * distinct values and histograms of the primary keys. The number of distinct values is the vertex
+ * count for a single primary key, and is estimated from the histogram sample otherwise, so that no
+ * query scans the values for it. Each round refreshes a few of them that are the least recently
+ * refreshed, so the new labels in the schema are collected first and the full scans are spread over
+ * the rounds.
+ */
+public class StatisticsCollector implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsCollector.class);
+
+    /** Execute the statistics query in the engine */
+    public interface QueryExecutor {
+        List<Object> execute(GraphTraversal traversal) throws Exception;
+    }
+
+    private interface StatisticsTask {
+        void collect(CostDataStatistics statistics) throws Exception;
+    }
+
+    private final SchemaFetcher schemaFetcher;
+    private final QueryExecutor queryExecutor;
+    private final int tasksPerRound;
+    private final int sampleSize;
+    private final MaxGraphTraversalSource g;
+    // task key -> the last time it's refreshed
+    private final Map<String, Long> refreshTimeList = Maps.newConcurrentMap();
+    private ScheduledExecutorService scheduler;
+
+    public StatisticsCollector(
+            SchemaFetcher schemaFetcher,
+            QueryExecutor queryExecutor,
+            int tasksPerRound,
+            int sampleSize) {
+        this.schemaFetcher = schemaFetcher;
+        this.queryExecutor = queryExecutor;
+        this.tasksPerRound = tasksPerRound;
+        this.sampleSize = sampleSize;
+        this.g = (MaxGraphTraversalSource) new TinkerMaxGraph(null, null, null).traversal();
+    }
+
+    public synchronized void start(long intervalSec) {
+        if (this.scheduler != null) {
+            return;
+        }
+        this.scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("statistics-collector")
+                                .setDaemon(true)
+                                .build());
+        this.scheduler.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        collect();
+                    } catch (Throwable t) {
+                        logger.error("collect statistics failed", t);
+                    }
+                },
+                intervalSec,
+                intervalSec,
+                TimeUnit.SECONDS);
+        logger.info("statistics collector started with interval " + intervalSec + "s");
+    }
+
+    /** Refresh the least recently refreshed statistics */
+    public void collect() {
+        CostDataStatistics statistics = CostDataStatistics.getInstance();
+        Map<String, StatisticsTask> taskList =
+                buildTaskList(schemaFetcher.getSchemaSnapshotPair().getLeft());
+        refreshTimeList.keySet().retainAll(taskList.keySet());
+        List<String> keyList =
+                taskList.keySet().stream()
+                        .sorted(Comparator.comparingLong(k -> refreshTimeList.getOrDefault(k, 0L)))
+                        .limit(tasksPerRound)
+                        .collect(Collectors.toList());
+        for (String key : keyList) {
+            try {
+                taskList.get(key).collect(statistics);
+            } catch (Exception e) {
+                logger.warn("collect statistics " + key + " failed", e);
+            }
+            // failed tasks are not retried until the others are refreshed
+            refreshTimeList.put(key, System.currentTimeMillis());
+        }
+    }
+
+    private Map<String, StatisticsTask> buildTaskList(GraphSchema schema) {
+        Map<String, StatisticsTask> taskList = Maps.newLinkedHashMap();
+        for (GraphVertex vertex : schema.getVertexList()) {
+            String label = vertex.getLabel();
+            taskList.put(
+                    "vertex:" + label,
+                    s -> s.addVertexCount(label, parseCount(execute(g.estimateVCount(label)))));
+            boolean uniqueFlag = vertex.getPrimaryKeyList().size() == 1;
+            for (GraphProperty property : vertex.getPrimaryKeyList()) {
+                String name = property.getName();
+                taskList.put(
+                        "property:" + label + "." + name,
+                        s ->
+                                s.addPropertyStatistics(
+                                        label, name, collectProperty(label, name, uniqueFlag)));
+            }
+        }
+        for (GraphEdge edge : schema.getEdgeList()) {
+            String label = edge.getLabel();
+            taskList.put(
+                    "edge:" + label,
+                    s -> s.addEdgeCount(label, parseCount(execute(g.estimateECount(label)))));
+            for (EdgeRelation relation : edge.getRelationList()) {
+                String sourceLabel = relation.getSource().getLabel();
+                String targetLabel = relation.getTarget().getLabel();
+                taskList.put(
+                        "degree:" + sourceLabel + "-" + label + "->" + targetLabel,
+                        s -> {
+                            s.addOutDegree(
+                                    sourceLabel,
+                                    label,
+                                    targetLabel,
+                                    collectDegree(
+                                            g.V()
+                                                    .hasLabel(sourceLabel)
+                                                    .groupCount()
+                                                    .by(
+                                                            __.out(label)
+                                                                    .hasLabel(targetLabel)
+                                                                    .count())));
+                            s.addInDegree(
+                                    sourceLabel,
+                                    label,
+                                    targetLabel,
+                                    collectDegree(
+                                            g.V()
+                                                    .hasLabel(targetLabel)
+                                                    .groupCount()
+                                                    .by(
+                                                            __.in(label)
+                                                                    .hasLabel(sourceLabel)
+                                                                    .count())));
+                        });
+            }
+        }
+        return taskList;
+    }
+
+    private PropertyStatistics collectProperty(String label, String name, boolean uniqueFlag)
+            throws Exception {
+        List<Object> sampleList = execute(g.V().hasLabel(label).values(name).sample(sampleSize));
+        double vertexCount = parseCount(execute(g.estimateVCount(label)));
+        double distinctCount =
+                uniqueFlag
+                        ? vertexCount
+                        : PropertyStatistics.estimateDistinctCount(sampleList, vertexCount);
+        return new PropertyStatistics(distinctCount, sampleList);
+    }
+
+    private DegreeStatistics collectDegree(GraphTraversal traversal) throws Exception {
+        Map<Long, Long> degreeCountList = Maps.newHashMap();
+        for (Object result : execute(traversal)) {
+            if (result instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                    degreeCountList.merge(
+                            parseLong(entry.getKey()), parseLong(entry.getValue()), Long::sum);
+                }
+            } else if (result instanceof Map.Entry) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) result;
+                degreeCountList.merge(
+                        parseLong(entry.getKey()), parseLong(entry.getValue()), Long::sum);
+            }
+        }
+        return DegreeStatistics.fromDegreeCountList(degreeCountList);
+    }
+
+    private List<Object> execute(GraphTraversal traversal) throws Exception {
+        return queryExecutor.execute(traversal);
+    }
+
+    private static double parseCount(List<Object> resultList) {
+        return resultList.isEmpty() ? 0 : Double.parseDouble(resultList.get(0).toString());
+    }
+
+    private static long parseLong(Object value) {
+        return value instanceof Number
+                ? ((Number) value).longValue()
+                : Long.parseLong(value.toString());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+}
@@ -16,9 +16,12 @@
 package com.alibaba.maxgraph.compiler.executor;
 
 import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
+import com.alibaba.maxgraph.compiler.optimizer.QueryFlowManager;
 import com.alibaba.maxgraph.compiler.query.TimelyQuery;
 import com.alibaba.maxgraph.rpc.TimelyResultProcessor;
 
+import java.util.List;
+
 /**
  * Defines methods to execute queries that are described by an Query object.
  * This interface is intended for implementation by query executors.
@@ -45,22 +48,25 @@ public interface QueryExecutor<V> {
             String queryId);
 
     /**
-     * PREPARE the query
+     * PREPARE the query, the compiled query flow is kept in the statement store
      *
-     * @param prepareId     The prepare query id
-     * @param timelyQuery   The given expression tree
-     * @param executeConfig The config of execute
-     * @return The instance of PrepareStoreEntity
+     * @param prepareId   The prepare query id
+     * @param timelyQuery The given expression tree
+     * @param schema      The schema the query is compiled with
      */
-    void prepare(String prepareId, TimelyQuery timelyQuery, ExecuteConfig executeConfig);
+    void prepare(String prepareId, TimelyQuery timelyQuery, GraphSchema schema);
 
     /**
-     * @param prepareId
-     * @param timelyQuery
-     * @param schema
+     * Bind the params to the prepared query flow, so the query is executed without compiling
+     *
+     * @param prepareId  The prepare query id
+     * @param paramList  The params of the query
+     * @param schema     The current schema
+     * @param snapshotId The snapshot to query
+     * @return The query flow to execute
      */
-    void executePrepare(
-            String prepareId, TimelyQuery timelyQuery, GraphSchema schema, String queryId);
+    QueryFlowManager bindPrepare(
+            String prepareId, List<List<Object>> paramList, GraphSchema schema, long snapshotId);
 
     /**
      * Query current process list.
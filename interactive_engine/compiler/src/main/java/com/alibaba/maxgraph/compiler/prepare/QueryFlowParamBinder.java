@@ -0,0 +1,310 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.compiler.prepare;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.alibaba.maxgraph.Message;
+import com.alibaba.maxgraph.QueryFlowOuterClass;
+import com.alibaba.maxgraph.compiler.optimizer.OperatorListManager;
+import com.alibaba.maxgraph.compiler.utils.CompilerUtils;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageOrBuilder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bind the params of the prepared query to its compiled {@link QueryFlowOuterClass.QueryFlow}.
+ *
+ * <p>The params are referred in the prepared traversal by the placeholders "@1", "@2", ..., i.e.
+ * g.V().has("person", "id", "@1").out(). The placeholders are compiled as string constants, and
+ * they are replaced by the params in the compare values and the primary keys of the source when the
+ * query is executed, so the traversal is compiled only once. The nested plans of repeat and the
+ * label value operators are bound as well, and a query with placeholders anywhere else is rejected
+ * by {@link #getParamIndexSet(QueryFlowOuterClass.QueryFlow)} when it's prepared.
+ */
+public class QueryFlowParamBinder {
+    // null if the placeholders are only collected
+    private final List<List<Object>> paramList;
+    private final Set<Integer> paramIndexSet = Sets.newTreeSet();
+
+    private QueryFlowParamBinder(List<List<Object>> paramList) {
+        this.paramList = paramList;
+    }
+
+    /**
+     * @param queryFlow The prepared query flow
+     * @return The index of the params referred in the query flow, starting from 1
+     * @throws IllegalArgumentException if there's a placeholder that can't be bound
+     */
+    public static Set<Integer> getParamIndexSet(QueryFlowOuterClass.QueryFlow queryFlow) {
+        QueryFlowParamBinder binder = new QueryFlowParamBinder(null);
+        binder.bindQueryPlan(queryFlow.getQueryPlan().toBuilder());
+        // bind arbitrary values, the placeholders left are not supported
+        List<List<Object>> paramList = Lists.newArrayList();
+        int maxIndex = binder.paramIndexSet.isEmpty() ? 0 : Collections.max(binder.paramIndexSet);
+        for (int i = 0; i < maxIndex; i++) {
+            paramList.add(Lists.newArrayList("0"));
+        }
+        checkBound(bind(queryFlow, paramList).getQueryPlan());
+        return binder.paramIndexSet;
+    }
+
+    /**
+     * @param queryFlow The prepared query flow
+     * @param paramList The params, each param is a list of values, and the list of a single value
+     *     is bound as the value itself
+     * @return The query flow with the params bound
+     */
+    public static QueryFlowOuterClass.QueryFlow.Builder bind(
+            QueryFlowOuterClass.QueryFlow queryFlow, List<List<Object>> paramList) {
+        QueryFlowOuterClass.QueryFlow.Builder builder = queryFlow.toBuilder();
+        new QueryFlowParamBinder(paramList).bindQueryPlan(builder.getQueryPlanBuilder());
+        return builder;
+    }
+
+    private void bindQueryPlan(QueryFlowOuterClass.QueryPlan.Builder queryPlan) {
+        QueryFlowOuterClass.OperatorBase.Builder sourceBase =
+                queryPlan.getSourceOpBuilder().getBaseBuilder();
+        bindOperator(sourceBase);
+        if (isPrimaryKeySource(sourceBase)) {
+            bindPrimaryKeys(sourceBase.getArgumentBuilder());
+        }
+        for (QueryFlowOuterClass.UnaryOperator.Builder unaryOp :
+                queryPlan.getUnaryOpBuilderList()) {
+            bindOperator(unaryOp.getBaseBuilder());
+        }
+        for (QueryFlowOuterClass.BinaryOperator.Builder binaryOp :
+                queryPlan.getBinaryOpBuilderList()) {
+            bindOperator(binaryOp.getBaseBuilder());
+        }
+    }
+
+    private void bindOperator(QueryFlowOuterClass.OperatorBase.Builder base) {
+        for (Message.LogicalCompare.Builder compare : base.getLogicalCompareBuilderList()) {
+            bindCompare(compare);
+        }
+        for (QueryFlowOuterClass.OperatorBase.Builder chained :
+                base.getChainedFunctionBuilderList()) {
+            bindOperator(chained);
+        }
+        ByteString payload = base.getArgument().getPayload();
+        if (payload.isEmpty()) {
+            return;
+        }
+        ByteString boundPayload;
+        switch (base.getOperatorType()) {
+            case REPEAT:
+                {
+                    QueryFlowOuterClass.RepeatArgumentProto.Builder repeat =
+                            ((QueryFlowOuterClass.RepeatArgumentProto) parseNestedPayload(base))
+                                    .toBuilder();
+                    bindQueryPlan(repeat.getPlanBuilder());
+                    boundPayload = repeat.build().toByteString();
+                    break;
+                }
+            case LABEL_VALUE:
+                {
+                    QueryFlowOuterClass.OperatorBase.Builder labelValue =
+                            ((QueryFlowOuterClass.OperatorBase) parseNestedPayload(base))
+                                    .toBuilder();
+                    bindOperator(labelValue);
+                    boundPayload = labelValue.build().toByteString();
+                    break;
+                }
+            default:
+                return;
+        }
+        if (paramList != null) {
+            base.getArgumentBuilder().setPayload(boundPayload);
+        }
+    }
+
+    private void bindCompare(Message.LogicalCompare.Builder compare) {
+        for (Message.LogicalCompare.Builder child : compare.getChildCompareListBuilderList()) {
+            bindCompare(child);
+        }
+        Message.Value value = compare.getValue();
+        Object param;
+        if (value.getValueType() == Message.VariantType.VT_STRING) {
+            int index = parseParamIndex(value.getStrValue());
+            if (index == PrepareConstants.EMPTY_INDEX || paramList == null) {
+                return;
+            }
+            List<Object> values = getParam(index);
+            checkArgument(
+                    values.size() == 1,
+                    "There must be one value in param[" + index + "]=>" + values);
+            param = values.get(0);
+        } else if (value.getValueType() == Message.VariantType.VT_STRING_LIST) {
+            // within("@1", "@2", "tom"), the values of the params are put in place
+            List<Object> values = Lists.newArrayList();
+            boolean bound = false;
+            for (String str : value.getStrValueListList()) {
+                int index = parseParamIndex(str);
+                if (index == PrepareConstants.EMPTY_INDEX) {
+                    values.add(str);
+                } else {
+                    bound = true;
+                    if (paramList != null) {
+                        values.addAll(getParam(index));
+                    }
+                }
+            }
+            if (!bound || paramList == null) {
+                return;
+            }
+            param = values;
+        } else {
+            return;
+        }
+        Message.Value.Builder valueBuilder =
+                CompilerUtils.parseValueBuilder(param).setBoolFlag(value.getBoolFlag());
+        compare.setValue(valueBuilder).setType(valueBuilder.getValueType());
+    }
+
+    private void bindPrimaryKeys(Message.Value.Builder argument) {
+        QueryFlowOuterClass.VertexPrimaryKeyListProto primaryKeyList;
+        try {
+            primaryKeyList =
+                    QueryFlowOuterClass.VertexPrimaryKeyListProto.parseFrom(argument.getPayload());
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("Invalid primary keys in source", e);
+        }
+        QueryFlowOuterClass.VertexPrimaryKeyListProto.Builder builder =
+                QueryFlowOuterClass.VertexPrimaryKeyListProto.newBuilder();
+        for (QueryFlowOuterClass.VertexPrimaryKeyProto primaryKey :
+                primaryKeyList.getPrimaryKeysList()) {
+            int index = parseParamIndex(primaryKey.getPrimaryKeyValue());
+            if (index == PrepareConstants.EMPTY_INDEX || paramList == null) {
+                builder.addPrimaryKeys(primaryKey);
+            } else {
+                for (Object value : getParam(index)) {
+                    builder.addPrimaryKeys(
+                            primaryKey.toBuilder().setPrimaryKeyValue(value.toString()));
+                }
+            }
+        }
+        if (paramList != null) {
+            argument.setPayload(builder.build().toByteString());
+        }
+    }
+
+    // return the index of the param if the value is a placeholder, otherwise EMPTY_INDEX
+    private int parseParamIndex(String value) {
+        int index = getPlaceholderIndex(value);
+        if (index != PrepareConstants.EMPTY_INDEX) {
+            paramIndexSet.add(index);
+        }
+        return index;
+    }
+
+    private List<Object> getParam(int index) {
+        checkArgument(
+                index <= paramList.size(),
+                "Can't get param[" + index + "] from paramList=>" + paramList);
+        List<Object> values = paramList.get(index - 1);
+        checkArgument(
+                values != null && !values.isEmpty(), "There's no value in param[" + index + "]");
+        return values;
+    }
+
+    private static int getPlaceholderIndex(String value) {
+        if (!OperatorListManager.isPrepareValue(value)) {
+            return PrepareConstants.EMPTY_INDEX;
+        }
+        int index;
+        try {
+            index = OperatorListManager.getPrepareValue(value);
+        } catch (NumberFormatException e) {
+            return PrepareConstants.EMPTY_INDEX;
+        }
+        return index > 0 ? index : PrepareConstants.EMPTY_INDEX;
+    }
+
+    private static boolean isPrimaryKeySource(QueryFlowOuterClass.OperatorBaseOrBuilder base) {
+        QueryFlowOuterClass.OperatorType type = base.getOperatorType();
+        return (type == QueryFlowOuterClass.OperatorType.V
+                        || type == QueryFlowOuterClass.OperatorType.V_COUNT)
+                && !base.getArgument().getPayload().isEmpty();
+    }
+
+    /**
+     * @return The message in the payload of the operator, null if there's no nested message
+     */
+    private static com.google.protobuf.Message parseNestedPayload(
+            QueryFlowOuterClass.OperatorBaseOrBuilder base) {
+        ByteString payload = base.getArgument().getPayload();
+        if (payload.isEmpty()) {
+            return null;
+        }
+        try {
+            switch (base.getOperatorType()) {
+                case REPEAT:
+                    return QueryFlowOuterClass.RepeatArgumentProto.parseFrom(payload);
+                case LABEL_VALUE:
+                    return QueryFlowOuterClass.OperatorBase.parseFrom(payload);
+                case V:
+                case V_COUNT:
+                    return QueryFlowOuterClass.VertexPrimaryKeyListProto.parseFrom(payload);
+                default:
+                    return null;
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException(
+                    "Invalid payload of " + base.getOperatorType() + " operator", e);
+        }
+    }
+
+    // check that no placeholder is left in any string of the message, including the nested ones
+    private static void checkBound(MessageOrBuilder message) {
+        for (Map.Entry<Descriptors.FieldDescriptor, Object> field :
+                message.getAllFields().entrySet()) {
+            Collection<?> values =
+                    field.getKey().isRepeated()
+                            ? (Collection<?>) field.getValue()
+                            : Collections.singletonList(field.getValue());
+            for (Object value : values) {
+                if (value instanceof String) {
+                    checkArgument(
+                            getPlaceholderIndex((String) value) == PrepareConstants.EMPTY_INDEX,
+                            "Placeholder "
+                                    + value
+                                    + " in "
+                                    + field.getKey().getFullName()
+                                    + " can't be bound to param");
+                } else if (value instanceof MessageOrBuilder) {
+                    checkBound((MessageOrBuilder) value);
+                }
+            }
+        }
+        if (message instanceof QueryFlowOuterClass.OperatorBaseOrBuilder) {
+            com.google.protobuf.Message nested =
+                    parseNestedPayload((QueryFlowOuterClass.OperatorBaseOrBuilder) message);
+            if (nested != null) {
+                checkBound(nested);
+            }
+        }
+    }
+}
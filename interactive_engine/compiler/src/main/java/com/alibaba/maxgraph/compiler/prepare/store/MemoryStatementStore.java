@@ -22,7 +22,8 @@ import com.google.common.collect.Maps;
 import java.util.Map;
 
 public class MemoryStatementStore implements StatementStore {
-    private Map<String, PrepareStoreEntity> prepareStoreEntityMap = Maps.newHashMap();
+    // prepared and executed by the concurrent requests
+    private Map<String, PrepareStoreEntity> prepareStoreEntityMap = Maps.newConcurrentMap();
 
     @Override
     public void save(String prepareId, PrepareStoreEntity prepareStoreEntity) {
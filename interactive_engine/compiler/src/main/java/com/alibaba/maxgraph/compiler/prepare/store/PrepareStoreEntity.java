@@ -32,6 +32,8 @@ public class PrepareStoreEntity implements Serializable {
     private List<PrepareEntity> prepareEntityList;
     private TreeNodeLabelManager labelManager;
     private ValueType resultValueType;
+    // the version of the schema the query is compiled with
+    private int schemaVersion;
 
     // queryFlow will not be serialized, which has been serialized by pb
     private transient QueryFlowOuterClass.QueryFlow queryFlow;
@@ -40,10 +42,12 @@ public class PrepareStoreEntity implements Serializable {
             List<PrepareEntity> prepareEntityList,
             TreeNodeLabelManager labelManager,
             ValueType resultValueType,
+            int schemaVersion,
             QueryFlowOuterClass.QueryFlow queryFlow) {
         this.prepareEntityList = prepareEntityList;
         this.labelManager = labelManager;
         this.resultValueType = resultValueType;
+        this.schemaVersion = schemaVersion;
         this.queryFlow = queryFlow;
     }
 
@@ -81,6 +85,7 @@ public class PrepareStoreEntity implements Serializable {
         this.prepareEntityList = prepareStoreEntity.prepareEntityList;
         this.labelManager = prepareStoreEntity.labelManager;
         this.resultValueType = prepareStoreEntity.resultValueType;
+        this.schemaVersion = prepareStoreEntity.schemaVersion;
     }
 
     public List<PrepareEntity> getPrepareEntityList() {
@@ -95,6 +100,10 @@ public class PrepareStoreEntity implements Serializable {
         return resultValueType;
     }
 
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
     public QueryFlowOuterClass.QueryFlow getQueryFlow() {
         return queryFlow;
     }
@@ -258,7 +258,7 @@ public class CompilerUtils {
         }
     }
 
-    private static Message.Value.Builder parseValueBuilder(Object value) {
+    public static Message.Value.Builder parseValueBuilder(Object value) {
         if (null == value) {
             throw new IllegalArgumentException("Cant parse null value");
         }
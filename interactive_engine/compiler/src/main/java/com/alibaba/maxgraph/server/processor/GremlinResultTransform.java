@@ -14,6 +14,7 @@
 package com.alibaba.maxgraph.server.processor;
 
 import com.alibaba.maxgraph.cache.CacheFactory;
+import com.alibaba.maxgraph.cache.VertexCache;
 import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
 import com.alibaba.maxgraph.compiler.tree.value.ValueType;
 import com.alibaba.maxgraph.result.EdgeResult;
@@ -34,7 +35,6 @@ import com.alibaba.maxgraph.server.query.RpcProcessorType;
 import com.alibaba.maxgraph.structure.MxVertex;
 import com.alibaba.maxgraph.structure.Vertex;
 import com.alibaba.maxgraph.structure.graph.TinkerMaxGraph;
-import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -44,7 +44,6 @@ import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.structure.Edge;
-import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,19 +60,23 @@ public class GremlinResultTransform {
     private final TinkerMaxGraph graph;
     private final boolean vertexCacheFlag;
     private final ValueType resultValueType;
-    private Cache<ElementId, org.apache.tinkerpop.gremlin.structure.Vertex> vertexCache;
+    // the snapshot of the query, the cached vertices must be visible in it
+    private final long snapshotId;
+    private VertexCache vertexCache;
 
     public GremlinResultTransform(
             RemoteRpcConnector remoteRpcConnector,
             RemoteRpcProcessor remoteRpcProcessor,
             TinkerMaxGraph graph,
             ValueType resultValueType,
-            boolean vertexCacheFlag) {
+            boolean vertexCacheFlag,
+            long snapshotId) {
         this.remoteRpcConnector = remoteRpcConnector;
         this.remoteRpcProcessor = remoteRpcProcessor;
         this.graph = graph;
         this.resultValueType = resultValueType;
         this.vertexCacheFlag = vertexCacheFlag;
+        this.snapshotId = snapshotId;
         if (this.vertexCacheFlag) {
             vertexCache = CacheFactory.getCacheFactory().getVertexCache();
         }
@@ -89,14 +92,14 @@ public class GremlinResultTransform {
         }
     }
 
+    /**
+     * Rebuild the result structure, the vertices in it are resolved from the vertices fetched for
+     * the whole batch
+     */
     private Object parseResultValue(
             QueryResult queryResult,
-            GraphSchema schema,
-            Graph graph,
             Map<Integer, String> labelIndexNameList,
-            Context context,
-            int batchSize,
-            String queryId) {
+            Map<CompositeId, org.apache.tinkerpop.gremlin.structure.Vertex> idToVertexList) {
         if (queryResult instanceof VertexPropertyResult || queryResult instanceof PropertyResult) {
             return queryResult;
         } else if (queryResult instanceof MapValueResult) {
@@ -104,22 +107,8 @@ public class GremlinResultTransform {
             for (Map.Entry<QueryResult, QueryResult> entry :
                     ((MapValueResult) queryResult).getValueMap().entrySet()) {
                 resultMap.put(
-                        parseResultValue(
-                                entry.getKey(),
-                                schema,
-                                graph,
-                                labelIndexNameList,
-                                context,
-                                batchSize,
-                                queryId),
-                        parseResultValue(
-                                entry.getValue(),
-                                schema,
-                                graph,
-                                labelIndexNameList,
-                                context,
-                                batchSize,
-                                queryId));
+                        parseResultValue(entry.getKey(), labelIndexNameList, idToVertexList),
+                        parseResultValue(entry.getValue(), labelIndexNameList, idToVertexList));
             }
             return resultMap;
         } else if (queryResult instanceof EdgeResult) {
@@ -144,12 +133,8 @@ public class GremlinResultTransform {
                             path.extend(
                                     parseResultValue(
                                             pathValueResult.getValue(),
-                                            schema,
-                                            graph,
                                             labelIndexNameList,
-                                            context,
-                                            batchSize,
-                                            queryId),
+                                            idToVertexList),
                                     labelNameList);
                         });
                 return DetachedFactory.detach(path, true);
@@ -158,14 +143,7 @@ public class GremlinResultTransform {
                 resultList.forEach(
                         v ->
                                 listValue.add(
-                                        parseResultValue(
-                                                v,
-                                                schema,
-                                                graph,
-                                                labelIndexNameList,
-                                                context,
-                                                batchSize,
-                                                queryId)));
+                                        parseResultValue(v, labelIndexNameList, idToVertexList)));
                 return listValue;
             }
         } else if (queryResult instanceof EntryValueResult) {
@@ -173,55 +151,127 @@ public class GremlinResultTransform {
             mapValue.put(
                     parseResultValue(
                             ((EntryValueResult) queryResult).getKey(),
-                            schema,
-                            graph,
                             labelIndexNameList,
-                            context,
-                            batchSize,
-                            queryId),
+                            idToVertexList),
                     parseResultValue(
                             ((EntryValueResult) queryResult).getValue(),
-                            schema,
-                            graph,
                             labelIndexNameList,
-                            context,
-                            batchSize,
-                            queryId));
+                            idToVertexList));
             return mapValue.entrySet().iterator().next();
         } else if (queryResult instanceof PropertyValueResult) {
             return ((PropertyValueResult) queryResult).getValue();
         } else if (queryResult instanceof VertexResult) {
-            VertexResult vertexResult = (VertexResult) queryResult;
-            CompositeId compositeId = CompositeId.class.cast(vertexResult.id());
-            org.apache.tinkerpop.gremlin.structure.Vertex cachedVertex =
-                    vertexCache.getIfPresent(compositeId);
-            if (null == cachedVertex) {
-                List<Object> resultList = Lists.newArrayList();
-                Map<ElementId, Integer> elementIdIntegerMap = Maps.newHashMap();
-                elementIdIntegerMap.put(compositeId, 1);
-                Map<CompositeId, Map<String, Object>> existPropMap = Maps.newHashMap();
-                extractExistProp(existPropMap, vertexResult, compositeId);
-                Map<Integer, Set<ElementId>> storeVertexList = Maps.newHashMap();
-                storeVertexList.put(vertexResult.getStoreId(), Sets.newHashSet(compositeId));
-                queryVertices(
+            return idToVertexList.get(CompositeId.class.cast(((VertexResult) queryResult).id()));
+        } else {
+            return queryResult;
+        }
+    }
+
+    /**
+     * Collect the vertices in the result structure, the cached ones are put to idToVertexList and
+     * the others are grouped by store to be fetched
+     */
+    private void collectVertices(
+            QueryResult queryResult,
+            GraphSchema schema,
+            Map<ElementId, Integer> vertexCountList,
+            Map<Integer, Set<ElementId>> storeVertexList,
+            Map<CompositeId, Map<String, Object>> existPropMap,
+            Map<CompositeId, org.apache.tinkerpop.gremlin.structure.Vertex> idToVertexList) {
+        if (queryResult instanceof MapValueResult) {
+            for (Map.Entry<QueryResult, QueryResult> entry :
+                    ((MapValueResult) queryResult).getValueMap().entrySet()) {
+                collectVertices(
+                        entry.getKey(),
                         schema,
-                        context,
-                        batchSize,
-                        resultList,
-                        elementIdIntegerMap,
+                        vertexCountList,
                         storeVertexList,
                         existPropMap,
-                        RpcProcessorType.MEMORY,
-                        queryId);
-                cachedVertex =
-                        org.apache.tinkerpop.gremlin.structure.Vertex.class.cast(resultList.get(0));
+                        idToVertexList);
+                collectVertices(
+                        entry.getValue(),
+                        schema,
+                        vertexCountList,
+                        storeVertexList,
+                        existPropMap,
+                        idToVertexList);
+            }
+        } else if (queryResult instanceof ListResult) {
+            for (QueryResult v : ((ListResult) queryResult).getResultList()) {
+                collectVertices(
+                        v, schema, vertexCountList, storeVertexList, existPropMap, idToVertexList);
             }
-            return cachedVertex;
+        } else if (queryResult instanceof PathValueResult) {
+            collectVertices(
+                    ((PathValueResult) queryResult).getValue(),
+                    schema,
+                    vertexCountList,
+                    storeVertexList,
+                    existPropMap,
+                    idToVertexList);
+        } else if (queryResult instanceof EntryValueResult) {
+            collectVertices(
+                    ((EntryValueResult) queryResult).getKey(),
+                    schema,
+                    vertexCountList,
+                    storeVertexList,
+                    existPropMap,
+                    idToVertexList);
+            collectVertices(
+                    ((EntryValueResult) queryResult).getValue(),
+                    schema,
+                    vertexCountList,
+                    storeVertexList,
+                    existPropMap,
+                    idToVertexList);
+        } else if (queryResult instanceof VertexResult) {
+            VertexResult vertexResult = (VertexResult) queryResult;
+            collectVertex(
+                    vertexResult,
+                    CompositeId.class.cast(vertexResult.id()),
+                    schema,
+                    vertexCountList,
+                    storeVertexList,
+                    existPropMap,
+                    idToVertexList);
+        }
+    }
+
+    private void collectVertex(
+            VertexResult vertexResult,
+            CompositeId compositeId,
+            GraphSchema schema,
+            Map<ElementId, Integer> vertexCountList,
+            Map<Integer, Set<ElementId>> storeVertexList,
+            Map<CompositeId, Map<String, Object>> existPropMap,
+            Map<CompositeId, org.apache.tinkerpop.gremlin.structure.Vertex> idToVertexList) {
+        if (idToVertexList.containsKey(compositeId)) {
+            return;
+        }
+        if (vertexCountList.containsKey(compositeId)) {
+            vertexCountList.computeIfPresent(compositeId, (key, oldValue) -> oldValue + 1);
+            // the properties of the last occurrence win
+            extractExistProp(existPropMap, vertexResult, compositeId);
+            return;
+        }
+        org.apache.tinkerpop.gremlin.structure.Vertex cachedVertex =
+                getCachedVertex(compositeId, schema);
+        if (null != cachedVertex) {
+            idToVertexList.put(compositeId, cachedVertex);
         } else {
-            return queryResult;
+            vertexCountList.put(compositeId, 1);
+            storeVertexList
+                    .computeIfAbsent(vertexResult.getStoreId(), k -> Sets.newHashSet())
+                    .add(compositeId);
+            extractExistProp(existPropMap, vertexResult, compositeId);
         }
     }
 
+    /**
+     * Transform a batch of results in two passes: the vertices in the results (including the ones
+     * nested in maps, lists and paths) are collected and fetched with one request per store, then
+     * the results are rebuilt with the fetched vertices in the original order
+     */
     public void transform(
             List<QueryResult> resultObjectList,
             GraphSchema schema,
@@ -231,57 +281,37 @@ public class GremlinResultTransform {
             List<Object> resultList,
             String queryId) {
         Map<ElementId, Integer> vertexCountList = Maps.newHashMap();
-        List<CompositeId> resultVertexIdList =
-                Lists.newArrayListWithCapacity(resultObjectList.size());
         Map<CompositeId, org.apache.tinkerpop.gremlin.structure.Vertex> idToVertexList =
                 Maps.newHashMap();
         Map<CompositeId, Map<String, Object>> existPropMap = Maps.newHashMap();
         Map<Integer, Set<ElementId>> storeVertexList = Maps.newHashMap();
-        for (int i = 0; i < resultObjectList.size(); i++) {
-            QueryResult queryResult = resultObjectList.get(i);
+        List<CompositeId> resultVertexIdList =
+                Lists.newArrayListWithCapacity(resultObjectList.size());
+        for (QueryResult queryResult : resultObjectList) {
             if (queryResult instanceof VertexResult) {
                 VertexResult vertexResult = VertexResult.class.cast(queryResult);
                 CompositeId compositeId =
                         new CompositeId(
                                 vertexResult.id,
                                 schema.getElement(vertexResult.label).getLabelId());
-                org.apache.tinkerpop.gremlin.structure.Vertex cachedVertex =
-                        vertexCache.getIfPresent(compositeId);
-                if (null != cachedVertex) {
-                    resultVertexIdList.add(compositeId);
-                    idToVertexList.put(compositeId, cachedVertex);
-                } else {
-                    resultVertexIdList.add(compositeId);
-                    vertexCountList.compute(
-                            compositeId,
-                            (key, oldValue) -> {
-                                if (null == oldValue) {
-                                    return 1;
-                                } else {
-                                    return oldValue + 1;
-                                }
-                            });
-                    Set<ElementId> storeVertices =
-                            storeVertexList.computeIfAbsent(
-                                    vertexResult.getStoreId(), k -> Sets.newHashSet());
-                    storeVertices.add(compositeId);
-
-                    extractExistProp(existPropMap, vertexResult, compositeId);
-                }
+                resultVertexIdList.add(compositeId);
+                collectVertex(
+                        vertexResult,
+                        compositeId,
+                        schema,
+                        vertexCountList,
+                        storeVertexList,
+                        existPropMap,
+                        idToVertexList);
             } else {
-                Object result =
-                        parseResultValue(
-                                queryResult,
-                                schema,
-                                this.graph,
-                                labelIndexNameList,
-                                context,
-                                batchSize,
-                                queryId);
-                if (null != resultList) {
-                    resultList.add(result);
-                }
-                remoteRpcProcessor.process(result);
+                resultVertexIdList.add(null);
+                collectVertices(
+                        queryResult,
+                        schema,
+                        vertexCountList,
+                        storeVertexList,
+                        existPropMap,
+                        idToVertexList);
             }
         }
         if (!vertexCountList.isEmpty()) {
@@ -300,18 +330,36 @@ public class GremlinResultTransform {
                 org.apache.tinkerpop.gremlin.structure.Vertex currVertex =
                         org.apache.tinkerpop.gremlin.structure.Vertex.class.cast(currResult);
                 CompositeId vertexId = CompositeId.class.cast(currVertex.id());
-                idToVertexList.put(vertexId, currVertex);
+                if (null == idToVertexList.put(vertexId, currVertex)) {
+                    cacheVertex(currVertex, schema);
+                }
             }
         }
-        if (!resultVertexIdList.isEmpty()) {
-            for (CompositeId compositeId : resultVertexIdList) {
-                org.apache.tinkerpop.gremlin.structure.Vertex resultVertex =
-                        idToVertexList.get(compositeId);
-                remoteRpcProcessor.process(resultVertex);
-                if (null != resultList) {
-                    resultList.add(resultVertex);
-                }
+        for (int i = 0; i < resultObjectList.size(); i++) {
+            CompositeId compositeId = resultVertexIdList.get(i);
+            Object result =
+                    (null != compositeId)
+                            ? idToVertexList.get(compositeId)
+                            : parseResultValue(
+                                    resultObjectList.get(i), labelIndexNameList, idToVertexList);
+            if (null != resultList) {
+                resultList.add(result);
             }
+            remoteRpcProcessor.process(result);
+        }
+    }
+
+    private org.apache.tinkerpop.gremlin.structure.Vertex getCachedVertex(
+            CompositeId compositeId, GraphSchema schema) {
+        return vertexCacheFlag
+                ? vertexCache.get(compositeId, snapshotId, schema.getVersion())
+                : null;
+    }
+
+    private void cacheVertex(
+            org.apache.tinkerpop.gremlin.structure.Vertex vertex, GraphSchema schema) {
+        if (vertexCacheFlag) {
+            vertexCache.put(vertex, snapshotId, schema.getVersion());
         }
     }
 
@@ -354,14 +402,7 @@ public class GremlinResultTransform {
         }
         if (null == rpcProcessorType) {
             remoteRpcConnector.queryVertices(
-                    classifiedList,
-                    schema,
-                    graph,
-                    context,
-                    batchSize,
-                    resultList,
-                    vertexCacheFlag,
-                    existPropMap);
+                    classifiedList, schema, graph, context, batchSize, resultList, existPropMap);
         } else {
             remoteRpcConnector.queryVertices(
                     classifiedList,
@@ -370,7 +411,6 @@ public class GremlinResultTransform {
                     context,
                     batchSize,
                     resultList,
-                    vertexCacheFlag,
                     rpcProcessorType,
                     existPropMap);
         }
@@ -386,9 +426,6 @@ public class GremlinResultTransform {
                                         Maps.newHashMap(),
                                         this.graph.getBaseGraph()),
                                 this.graph);
-                if (vertexCacheFlag) {
-                    vertexCache.put(elementId, vertex);
-                }
                 if (null != resultList) {
                     resultList.add(vertex);
                 }
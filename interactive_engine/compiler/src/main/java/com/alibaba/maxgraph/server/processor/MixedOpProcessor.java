@@ -26,6 +26,7 @@ import com.alibaba.maxgraph.compiler.api.schema.SchemaFetcher;
 import com.alibaba.maxgraph.compiler.cost.CostModelManager;
 import com.alibaba.maxgraph.compiler.cost.CostPath;
 import com.alibaba.maxgraph.compiler.cost.statistics.CostDataStatistics;
+import com.alibaba.maxgraph.compiler.cost.statistics.StatisticsCollector;
 import com.alibaba.maxgraph.compiler.dfs.DfsTraversal;
 import com.alibaba.maxgraph.compiler.exception.RetryGremlinException;
 import com.alibaba.maxgraph.compiler.executor.ExecuteConfig;
@@ -102,6 +103,7 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
     private RecordProcessorManager recordProcessorManager;
     private QueryCallbackManager queryCallbackManager;
     private TinkerMaxGraph graph;
+    private StatisticsCollector statisticsCollector;
 
     private ExecuteConfig executeConfig = new ExecuteConfig();
     private boolean lambdaEnableFlag;
@@ -137,6 +139,27 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
 
         this.graphName = instanceConfig.getGraphName();
         this.serverId = instanceConfig.getInt("node.idx", -1);
+
+        long statisticsIntervalSec = instanceConfig.getStatisticsIntervalSec();
+        if (statisticsIntervalSec > 0) {
+            long statisticsTimeout =
+                    TimeUnit.SECONDS.toMillis(instanceConfig.getTimelyQueryTimeoutSec());
+            this.statisticsCollector =
+                    new StatisticsCollector(
+                            schemaFetcher,
+                            traversal -> executeStatisticsQuery(traversal, statisticsTimeout),
+                            instanceConfig.getStatisticsTasksPerRound(),
+                            instanceConfig.getStatisticsSampleSize());
+            this.statisticsCollector.start(statisticsIntervalSec);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (null != this.statisticsCollector) {
+            this.statisticsCollector.close();
+        }
+        super.close();
     }
 
     @Override
@@ -231,7 +254,9 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
         Pair<GraphSchema, Long> snapshotSchema;
         GraphSchema schema;
 
-        if (traversal instanceof GraphTraversal || traversal instanceof DfsTraversal) {
+        if (traversal instanceof GraphTraversal
+                || traversal instanceof DfsTraversal
+                || traversal instanceof PreparedExecuteParam) {
             final int resultIterationBatchSize =
                     (Integer)
                             context.getRequestMessage()
@@ -262,16 +287,22 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
             snapshotSchema = this.schemaFetcher.getSchemaSnapshotPair();
             schema = snapshotSchema.getLeft();
             if (traversal instanceof PreparedTraversal) {
-                throw new UnsupportedOperationException();
-            } else if (traversal instanceof PreparedExecuteParam) {
-                throw new UnsupportedOperationException();
+                PreparedTraversal preparedTraversal = (PreparedTraversal) traversal;
+                prepareQueryTraversal(script, preparedTraversal, snapshotSchema);
+                writeResultList(
+                        context,
+                        Lists.newArrayList(
+                                "PREPARE " + preparedTraversal.getPrepareId() + " success"),
+                        ResponseStatusCode.SUCCESS);
             } else if (traversal instanceof ShowProcessListQuery) {
                 TimelyResultProcessor nettyResultProcessor =
-                        newNettyResultProcessor(queryId, script, context, graph, schema);
+                        newNettyResultProcessor(
+                                queryId, script, context, graph, schema, snapshotSchema.getRight());
                 timelyExecutor.showProcessList(nettyResultProcessor);
             } else if (traversal instanceof CancelDataflow) {
                 NettyResultProcessor nettyResultProcessor =
-                        newNettyResultProcessor(queryId, script, context, graph, schema);
+                        newNettyResultProcessor(
+                                queryId, script, context, graph, schema, snapshotSchema.getRight());
                 timelyExecutor.cancelDataflow(
                         nettyResultProcessor, ((CancelDataflow) traversal).queryId);
             } else if (traversal instanceof RecordManager) {
@@ -338,8 +369,6 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
 
     private Object processEstimateManager(EstimateRequest request, long timeout)
             throws RetryGremlinException {
-        Stopwatch timer = Stopwatch.createStarted();
-
         CostDataStatistics statistics = CostDataStatistics.getInstance();
         TinkerMaxGraph emptyGraph = new TinkerMaxGraph(null, null, null);
         MaxGraphTraversalSource g = (MaxGraphTraversalSource) emptyGraph.traversal();
@@ -347,45 +376,17 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
         GraphSchema graphSchema = schemaFetcher.getSchemaSnapshotPair().getLeft();
         Map<String, Double> vertexCountList = Maps.newHashMap();
         for (GraphElement vertex : graphSchema.getVertexList()) {
-            String queryId = String.valueOf(ThreadLocalRandom.current().nextLong());
-            GraphTraversal vertexQuery = g.estimateVCount(vertex.getLabel());
-            RemoteRpcProcessor remoteRpcProcessor = new DefaultVertexRpcProcessor();
-            MemoryResultProcessor resultProcessor =
-                    new MemoryResultProcessor(
-                            executeConfig.getBatchQuerySize(), resultIterationBatchSize, queryId);
-            processQueryTraversal(
-                    vertexQuery.toString(),
-                    vertexQuery,
-                    timeout,
-                    queryId,
-                    timer,
-                    this.httpRpcConnector,
-                    remoteRpcProcessor,
-                    resultProcessor);
-            double countValue =
-                    Double.parseDouble(resultProcessor.getResultList().get(0).toString());
+            List<Object> resultList =
+                    executeStatisticsQuery(g.estimateVCount(vertex.getLabel()), timeout);
+            double countValue = Double.parseDouble(resultList.get(0).toString());
             vertexCountList.put(vertex.getLabel(), countValue);
         }
 
         Map<String, Double> edgeCountList = Maps.newHashMap();
         for (GraphElement edge : graphSchema.getEdgeList()) {
-            GraphTraversal edgeQuery = g.estimateECount(edge.getLabel());
-            String queryId = String.valueOf(ThreadLocalRandom.current().nextLong());
-            RemoteRpcProcessor remoteRpcProcessor = new DefaultVertexRpcProcessor();
-            MemoryResultProcessor resultProcessor =
-                    new MemoryResultProcessor(
-                            executeConfig.getBatchQuerySize(), resultIterationBatchSize, queryId);
-            processQueryTraversal(
-                    edgeQuery.toString(),
-                    edgeQuery,
-                    timeout,
-                    queryId,
-                    timer,
-                    this.httpRpcConnector,
-                    remoteRpcProcessor,
-                    resultProcessor);
-            double countValue =
-                    Double.parseDouble(resultProcessor.getResultList().get(0).toString());
+            List<Object> resultList =
+                    executeStatisticsQuery(g.estimateECount(edge.getLabel()), timeout);
+            double countValue = Double.parseDouble(resultList.get(0).toString());
             edgeCountList.put(edge.getLabel(), countValue);
         }
 
@@ -399,6 +400,39 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
         return "Estimate vertex/edge count success";
     }
 
+    /** Execute the query to collect statistics, the results are kept in memory */
+    private List<Object> executeStatisticsQuery(GraphTraversal traversal, long timeout)
+            throws RetryGremlinException {
+        String queryId = String.valueOf(ThreadLocalRandom.current().nextLong());
+        RemoteRpcProcessor remoteRpcProcessor = new DefaultVertexRpcProcessor();
+        MemoryResultProcessor resultProcessor =
+                new MemoryResultProcessor(
+                        executeConfig.getBatchQuerySize(), resultIterationBatchSize, queryId);
+        processQueryTraversal(
+                traversal.toString(),
+                traversal,
+                timeout,
+                queryId,
+                Stopwatch.createStarted(),
+                this.httpRpcConnector,
+                remoteRpcProcessor,
+                resultProcessor);
+        return resultProcessor.getResultList();
+    }
+
+    /** Compile the traversal and keep the query flow, the params are bound when it's executed */
+    private void prepareQueryTraversal(
+            String script,
+            PreparedTraversal preparedTraversal,
+            Pair<GraphSchema, Long> snapshotSchema) {
+        QueryFlowManager queryFlowManager =
+                buildQueryFlow(preparedTraversal.getTraversal(), script, snapshotSchema);
+        timelyExecutor.prepare(
+                preparedTraversal.getPrepareId(),
+                new TimelyQuery(queryFlowManager, this.graph),
+                snapshotSchema.getLeft());
+    }
+
     private Long processQueryTraversal(
             String script,
             Object traversal,
@@ -415,21 +449,73 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
         QueryStatus queryStatus;
         QueryFlowManager queryFlowManager;
 
-        // 保证一查看到snapshotId就开始维护query_status
-        synchronized (queryCallbackManager) {
+        // the query is registered before its snapshot is fetched, so that the snapshot is in use
+        // once it's fetched, and the queries are not serialized here
+        queryStatus = queryCallbackManager.beforeExecution();
+        try {
             snapshotSchema = this.schemaFetcher.getSchemaSnapshotPair();
-            queryStatus = queryCallbackManager.beforeExecution(snapshotSchema.getRight());
+            queryCallbackManager.setSnapshotId(queryStatus, snapshotSchema.getRight());
+            schema = snapshotSchema.getLeft();
+
+            if (traversal instanceof PreparedExecuteParam) {
+                PreparedExecuteParam executeParam = (PreparedExecuteParam) traversal;
+                queryFlowManager =
+                        timelyExecutor.bindPrepare(
+                                executeParam.getPrepareId(),
+                                executeParam.getParamList(),
+                                schema,
+                                snapshotSchema.getRight());
+                queryFlowManager.getQueryFlow().setScript(script).setFrontId(serverId);
+            } else {
+                queryFlowManager = buildQueryFlow(traversal, script, snapshotSchema);
+            }
+            nettyResultProcessor.setResultTransform(
+                    new GremlinResultTransform(
+                            remoteRpcConnector,
+                            remoteRpcProcessor,
+                            this.graph,
+                            queryFlowManager.getResultValueType(),
+                            vertexCacheFlag,
+                            snapshotSchema.getRight()));
+            nettyResultProcessor.setLabelIndexNameList(
+                    queryFlowManager.getTreeNodeLabelManager().getUserIndexLabelList());
+            nettyResultProcessor.setSchema(schema);
+
+            try {
+                TimelyQuery timelyQuery =
+                        new TimelyQuery(queryFlowManager, nettyResultProcessor, this.graph);
+                Logging.query(
+                        this.graphName,
+                        com.alibaba.maxgraph.proto.RoleType.FRONTEND,
+                        this.serverId,
+                        queryId,
+                        QueryType.EXECUTE,
+                        QueryEvent.PLAN_GENERATED,
+                        timer.elapsed(TimeUnit.NANOSECONDS),
+                        null,
+                        null,
+                        script);
+                timelyExecutor.execute(timelyQuery, schema, timeout, queryId);
+                totalResultNum = nettyResultProcessor.total();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        } finally {
+            queryCallbackManager.afterExecution(queryStatus);
         }
-        schema = snapshotSchema.getLeft();
+        return totalResultNum;
+    }
 
+    private QueryFlowManager buildQueryFlow(
+            Object traversal, String script, Pair<GraphSchema, Long> snapshotSchema) {
         LogicalPlanOptimizer logicalPlanOptimizer =
                 new LogicalPlanOptimizer(
                         new OptimizeConfig(),
                         this.globalPullGraphFlag,
-                        schema,
+                        snapshotSchema.getLeft(),
                         snapshotSchema.getRight(),
                         this.lambdaEnableFlag);
-        queryFlowManager =
+        QueryFlowManager queryFlowManager =
                 (traversal instanceof GraphTraversal)
                         ? logicalPlanOptimizer.build(GraphTraversal.class.cast(traversal))
                         : logicalPlanOptimizer.build(DfsTraversal.class.cast(traversal));
@@ -440,39 +526,7 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
         if (this.lambdaEnableFlag && isLambdaExisted) {
             queryFlowManager.getQueryFlow().setLambdaExisted(isLambdaExisted);
         }
-        nettyResultProcessor.setResultTransform(
-                new GremlinResultTransform(
-                        remoteRpcConnector,
-                        remoteRpcProcessor,
-                        this.graph,
-                        queryFlowManager.getResultValueType(),
-                        vertexCacheFlag));
-        nettyResultProcessor.setLabelIndexNameList(
-                queryFlowManager.getTreeNodeLabelManager().getUserIndexLabelList());
-        nettyResultProcessor.setSchema(schema);
-
-        try {
-            TimelyQuery timelyQuery =
-                    new TimelyQuery(queryFlowManager, nettyResultProcessor, this.graph);
-            Logging.query(
-                    this.graphName,
-                    com.alibaba.maxgraph.proto.RoleType.FRONTEND,
-                    this.serverId,
-                    queryId,
-                    QueryType.EXECUTE,
-                    QueryEvent.PLAN_GENERATED,
-                    timer.elapsed(TimeUnit.NANOSECONDS),
-                    null,
-                    null,
-                    script);
-            timelyExecutor.execute(timelyQuery, schema, timeout, queryId);
-            totalResultNum = nettyResultProcessor.total();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        } finally {
-            queryCallbackManager.afterExecution(queryStatus);
-        }
-        return totalResultNum;
+        return queryFlowManager;
     }
 
     private Object processRecordManager(RecordManager recordManager) {
@@ -507,7 +561,12 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
     }
 
     private NettyResultProcessor newNettyResultProcessor(
-            String queryId, String script, Context context, Graph graph, GraphSchema schema) {
+            String queryId,
+            String script,
+            Context context,
+            Graph graph,
+            GraphSchema schema,
+            long snapshotId) {
         NettyVertexRpcProcessor nettyVertexRpcProcessor =
                 new NettyVertexRpcProcessor(context, resultIterationBatchSize, false);
         GremlinResultTransform gremlinResultTransform =
@@ -516,7 +575,8 @@ public class MixedOpProcessor extends AbstractMixedOpProcessor {
                         nettyVertexRpcProcessor,
                         this.graph,
                         new ListValueType(new ValueValueType(Message.VariantType.VT_STRING)),
-                        vertexCacheFlag);
+                        vertexCacheFlag,
+                        snapshotId);
         NettyResultProcessor nettyResultProcessor =
                 new NettyResultProcessor(
                         queryId,
@@ -195,11 +195,16 @@ public class MixedTraversalOpProcessor extends AbstractMixedTraversalOpProcessor
             NettyVertexRpcProcessor nettyVertexRpcProcessor;
             QueryFlowManager queryFlowManager;
 
-            // 保证一查看到snapshotId就开始维护query_status
-            synchronized (queryCallbackManager) {
+            // the query is registered before its snapshot is fetched, so that the snapshot is in
+            // use once it's fetched, and the queries are not serialized here
+            queryStatus = queryCallbackManager.beforeExecution();
+            try {
                 snapshotSchema = schemaFetcher.getSchemaSnapshotPair();
-                queryStatus = queryCallbackManager.beforeExecution(snapshotSchema.getRight());
+            } catch (RuntimeException e) {
+                queryCallbackManager.afterExecution(queryStatus);
+                throw e;
             }
+            queryCallbackManager.setSnapshotId(queryStatus, snapshotSchema.getRight());
             schema = snapshotSchema.getLeft();
             LogicalPlanOptimizer planOptimizer =
                     new LogicalPlanOptimizer(
@@ -260,7 +265,8 @@ public class MixedTraversalOpProcessor extends AbstractMixedTraversalOpProcessor
                                 nettyVertexRpcProcessor,
                                 this.graph,
                                 queryFlowManager.getResultValueType(),
-                                vertexCacheFlag);
+                                vertexCacheFlag,
+                                snapshotSchema.getRight());
                 NettyResultProcessor nettyResultProcessor =
                         new NettyResultProcessor(
                                 queryId,
@@ -110,7 +110,6 @@ public class RemoteRpcConnector implements Cloneable {
             Context context,
             int batchSize,
             List<Object> resultList,
-            boolean vertexCacheFlag,
             RpcProcessorType rpcProcessorType,
             Map<CompositeId, Map<String, Object>> existPropMap) {
         List<RpcAddress> remoteAddressList = addressFetcher.getAddressList();
@@ -159,7 +158,6 @@ public class RemoteRpcConnector implements Cloneable {
                                 exceptionHolder,
                                 latch,
                                 vertexCountList,
-                                vertexCacheFlag,
                                 existPropMap);
                 gremlinServiceStub.getVertexs(reqBuilder.build(), vertexStreamObserver);
             } catch (ExecutionException e) {
@@ -191,7 +189,6 @@ public class RemoteRpcConnector implements Cloneable {
             Context context,
             int batchSize,
             List<Object> resultList,
-            boolean vertexCacheFlag,
             Map<CompositeId, Map<String, Object>> existPropMap) {
         queryVertices(
                 classified,
@@ -200,7 +197,6 @@ public class RemoteRpcConnector implements Cloneable {
                 context,
                 batchSize,
                 resultList,
-                vertexCacheFlag,
                 this.rpcProcessorType,
                 existPropMap);
     }
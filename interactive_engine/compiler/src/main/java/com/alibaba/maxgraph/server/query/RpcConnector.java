@@ -28,7 +28,6 @@ import com.alibaba.maxgraph.result.PropertyValueResult;
 import com.alibaba.maxgraph.rpc.*;
 import com.alibaba.maxgraph.rpc.GremlinService.*;
 import com.alibaba.maxgraph.rpc.MaxGraphCtrlServiceGrpc.MaxGraphCtrlServiceBlockingStub;
-import com.alibaba.maxgraph.rpc.MaxGraphServiceGrpc.MaxGraphServiceBlockingStub;
 import com.alibaba.maxgraph.rpc.MaxGraphServiceGrpc.MaxGraphServiceStub;
 import com.alibaba.maxgraph.sdk.exception.ExceptionHolder;
 import com.alibaba.maxgraph.sdkcommon.client.Endpoint;
@@ -287,77 +286,6 @@ public class RpcConnector implements Closeable {
         }
     }
 
-    public void prepare(QueryFlowOuterClass.QueryFlow queryFlow, boolean isAsync) throws Exception {
-        Message.OperationResponse operationResponse;
-        if (isAsync) {
-            IpPort address =
-                    IpPort.fromCtrlAndAsyncEndpoint(addressFetcher.getServiceAddress().get(0));
-            ManagedChannel randomChannel =
-                    channels.get(address).get(RandomUtils.nextInt(0, channelCount)).getRight();
-            operationResponse =
-                    AsyncMaxGraphServiceGrpc.newBlockingStub(randomChannel).asyncPrepare(queryFlow);
-        } else {
-            IpPort address = IpPort.fromGremlinEndpoint(addressFetcher.getServiceAddress().get(0));
-            ManagedChannel randomChannel =
-                    channels.get(address).get(RandomUtils.nextInt(0, channelCount)).getRight();
-            MaxGraphServiceBlockingStub gremlinServiceStub =
-                    MaxGraphServiceGrpc.newBlockingStub(randomChannel);
-            operationResponse = gremlinServiceStub.prepare(queryFlow);
-        }
-        if (!operationResponse.getSuccess()) {
-            LOG.error("PREPARE query flow fail.");
-            throw new RuntimeException(operationResponse.getMessage());
-        }
-    }
-
-    public void executePrepare(
-            QueryFlowOuterClass.Query.Builder query,
-            TimelyResultProcessor resultProcessor,
-            GraphSchema schema,
-            Graph graph,
-            boolean isAsync)
-            throws Exception {
-        ExceptionHolder exceptionHolder = new ExceptionHolder();
-        CountDownLatch latch = new CountDownLatch(1);
-        Stopwatch stopwatch = Stopwatch.createStarted();
-        StreamObserver streamObserver =
-                new QueryStreamObserver(
-                        resultProcessor, schema, graph, exceptionHolder, latch, query.getQueryId());
-
-        query.setTimeoutSeconds(rpcConfig.getQueryTimeoutSec());
-
-        if (isAsync) {
-            IpPort address =
-                    IpPort.fromCtrlAndAsyncEndpoint(addressFetcher.getServiceAddress().get(0));
-            ManagedChannel randomChannel =
-                    channels.get(address).get(RandomUtils.nextInt(0, channelCount)).getRight();
-            AsyncMaxGraphServiceGrpc.newStub(randomChannel)
-                    .asyncQuery2(query.build(), streamObserver);
-        } else {
-            IpPort address = IpPort.fromGremlinEndpoint(addressFetcher.getServiceAddress().get(0));
-            ManagedChannel randomChannel =
-                    channels.get(address).get(RandomUtils.nextInt(0, channelCount)).getRight();
-            MaxGraphServiceStub gremlinServiceStub = MaxGraphServiceGrpc.newStub(randomChannel);
-            gremlinServiceStub.query2(query.build(), streamObserver);
-        }
-        if (!latch.await(rpcConfig.getQueryTimeoutSec(), TimeUnit.SECONDS)) {
-            throw new RuntimeException(
-                    "Wait query complete time out " + rpcConfig.getQueryTimeoutSec() + " secs");
-        }
-        if (exceptionHolder.getException() != null) {
-            LOG.error("query from timely fail", exceptionHolder.getException());
-            throw new RuntimeException(exceptionHolder.getException());
-        }
-        resultProcessor.finish();
-        LOG.info(
-                "execute prepare query "
-                        + query.getQueryId()
-                        + " finish cost=>"
-                        + stopwatch.elapsed(TimeUnit.MILLISECONDS)
-                        + " ms, count=> "
-                        + resultProcessor.total());
-    }
-
     public void showProcessList(TimelyResultProcessor resultProcessor) throws Exception {
         MaxGraphCtrlServiceBlockingStub stub = randomCtrlStub(getTargetExecutorAddrs().get(0));
         ShowProcessListResponse resp =
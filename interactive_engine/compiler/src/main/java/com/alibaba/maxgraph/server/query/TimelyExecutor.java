@@ -15,21 +15,21 @@
  */
 package com.alibaba.maxgraph.server.query;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.alibaba.maxgraph.QueryFlowOuterClass;
 import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
 import com.alibaba.maxgraph.compiler.executor.ExecuteConfig;
 import com.alibaba.maxgraph.compiler.executor.QueryExecutor;
-import com.alibaba.maxgraph.compiler.optimizer.OperatorListManager;
 import com.alibaba.maxgraph.compiler.optimizer.QueryFlowManager;
+import com.alibaba.maxgraph.compiler.prepare.QueryFlowParamBinder;
 import com.alibaba.maxgraph.compiler.prepare.store.MemoryStatementStore;
 import com.alibaba.maxgraph.compiler.prepare.store.PrepareStoreEntity;
 import com.alibaba.maxgraph.compiler.prepare.store.StatementStore;
 import com.alibaba.maxgraph.compiler.query.TimelyQuery;
 import com.alibaba.maxgraph.rpc.TimelyResultProcessor;
 import com.alibaba.maxgraph.sdkcommon.graph.QueryResult;
+import com.google.common.collect.Lists;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,10 +37,9 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
-/**
- * Executor for timely
- */
+/** Executor for timely */
 public class TimelyExecutor implements QueryExecutor<List<QueryResult>>, Closeable {
     private static final Logger logger = LoggerFactory.getLogger(TimelyExecutor.class);
 
@@ -86,12 +85,8 @@ public class TimelyExecutor implements QueryExecutor<List<QueryResult>>, Closeab
     }
 
     @Override
-    public void prepare(String prepareId, TimelyQuery timelyQuery, ExecuteConfig executeConfig) {
+    public void prepare(String prepareId, TimelyQuery timelyQuery, GraphSchema schema) {
         QueryFlowManager queryFlowManager = timelyQuery.getQueryFlowManager();
-        checkArgument(
-                queryFlowManager.checkValidPrepareFlow(),
-                "There's no argument for prepare statement");
-
         try {
             if (statementStore.checkExist(prepareId)) {
                 throw new RuntimeException(
@@ -100,24 +95,55 @@ public class TimelyExecutor implements QueryExecutor<List<QueryResult>>, Closeab
                                 + " fail for the same name statement has been exist.");
             }
 
+            // the query flow is kept in frontend, and the params are bound before it's executed
             QueryFlowOuterClass.QueryFlow queryFlow =
                     queryFlowManager.getQueryFlow().setQueryId(prepareId).build();
-            rpcConnector.prepare(queryFlow, this.isAsyncGrpc);
-
-            OperatorListManager operatorListManager = queryFlowManager.getOperatorListManager();
+            // rejected if there's a placeholder can't be bound
+            Set<Integer> paramIndexSet = QueryFlowParamBinder.getParamIndexSet(queryFlow);
             statementStore.save(
                     prepareId,
                     new PrepareStoreEntity(
-                            operatorListManager.getPrepareEntityList(),
-                            operatorListManager.getLabelManager(),
+                            Lists.newArrayList(),
+                            queryFlowManager.getTreeNodeLabelManager(),
                             queryFlowManager.getResultValueType(),
+                            schema.getVersion(),
                             queryFlow));
-            logger.info("PREPARE " + prepareId + " success");
+            logger.info("PREPARE " + prepareId + " success with params " + paramIndexSet);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public QueryFlowManager bindPrepare(
+            String prepareId, List<List<Object>> paramList, GraphSchema schema, long snapshotId) {
+        PrepareStoreEntity prepareStoreEntity = statementStore.get(prepareId);
+        if (prepareStoreEntity.getSchemaVersion() != schema.getVersion()) {
+            // the label and property ids in the query flow may be changed
+            statementStore.delete(prepareId);
+            throw new IllegalStateException(
+                    "PREPARE "
+                            + prepareId
+                            + " is removed for the schema is changed from version "
+                            + prepareStoreEntity.getSchemaVersion()
+                            + " to "
+                            + schema.getVersion()
+                            + ", prepare it again");
+        }
+
+        QueryFlowOuterClass.QueryFlow.Builder queryFlow =
+                QueryFlowParamBinder.bind(prepareStoreEntity.getQueryFlow(), paramList);
+        // the snapshot may be disabled in the query
+        if (queryFlow.getSnapshot() != Long.MAX_VALUE) {
+            queryFlow.setSnapshot(snapshotId);
+        }
+        return new QueryFlowManager(
+                queryFlow,
+                null,
+                prepareStoreEntity.getLabelManager(),
+                prepareStoreEntity.getResultValueType());
+    }
+
     @Override
     public void close() throws IOException {
         rpcConnector.close();
@@ -127,28 +153,6 @@ public class TimelyExecutor implements QueryExecutor<List<QueryResult>>, Closeab
         return checkNotNull(statementStore);
     }
 
-    @Override
-    public void executePrepare(
-            String prepareId, TimelyQuery timelyQuery, GraphSchema schema, String queryId) {
-        //    timelyQuery.getQueryFlowManager().getQueryFlow();
-        QueryFlowOuterClass.Query.Builder query =
-                QueryFlowOuterClass.Query.newBuilder()
-                        .setDataflowId(prepareId)
-                        .setInput(timelyQuery.getQueryInput())
-                        .setQueryId(queryId);
-
-        try {
-            rpcConnector.executePrepare(
-                    query,
-                    timelyQuery.getResultProcessor(),
-                    schema,
-                    timelyQuery.getGraph(),
-                    this.isAsyncGrpc);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     @Override
     public void showProcessList(TimelyResultProcessor resultProcessor) {
         try {
@@ -13,7 +13,6 @@
  */
 package com.alibaba.maxgraph.server.query;
 
-import com.alibaba.maxgraph.cache.CacheFactory;
 import com.alibaba.maxgraph.compiler.api.schema.GraphElement;
 import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
 import com.alibaba.maxgraph.proto.GremlinQuery;
@@ -23,7 +22,6 @@ import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
 import com.alibaba.maxgraph.structure.MxVertex;
 import com.alibaba.maxgraph.structure.Vertex;
 import com.alibaba.maxgraph.structure.graph.TinkerMaxGraph;
-import com.google.common.cache.Cache;
 import com.google.common.collect.Maps;
 
 import io.grpc.stub.StreamObserver;
@@ -44,8 +42,6 @@ public class VertexStreamObserver implements StreamObserver<GremlinQuery.VertexR
     private ExceptionHolder exceptionHolder;
     private CountDownLatch latch;
     private Map<ElementId, Integer> vertexCountList;
-    private boolean vertexCacheFlag;
-    private Cache<ElementId, org.apache.tinkerpop.gremlin.structure.Vertex> vertexCache;
 
     public VertexStreamObserver(
             RemoteRpcProcessor resultProcessor,
@@ -54,7 +50,6 @@ public class VertexStreamObserver implements StreamObserver<GremlinQuery.VertexR
             ExceptionHolder exceptionHolder,
             CountDownLatch latch,
             Map<ElementId, Integer> vertexCountList,
-            boolean vertexCacheFlag,
             Map<CompositeId, Map<String, Object>> existPropMap) {
         this.resultProcessor = resultProcessor;
         this.schema = schema;
@@ -62,10 +57,6 @@ public class VertexStreamObserver implements StreamObserver<GremlinQuery.VertexR
         this.exceptionHolder = exceptionHolder;
         this.latch = latch;
         this.vertexCountList = vertexCountList;
-        this.vertexCacheFlag = vertexCacheFlag;
-        if (this.vertexCacheFlag) {
-            vertexCache = CacheFactory.getCacheFactory().getVertexCache();
-        }
         this.existPropMap = existPropMap;
     }
 
@@ -96,9 +87,6 @@ public class VertexStreamObserver implements StreamObserver<GremlinQuery.VertexR
                 new MxVertex(
                         new Vertex(rId, type.getLabel(), properties, this.graph.getBaseGraph()),
                         this.graph);
-        if (vertexCacheFlag) {
-            vertexCache.put(rId, vertex);
-        }
         int count = vertexCountList.remove(rId);
         if (count > 1) {
             for (int i = 0; i < count; i++) {
@@ -129,9 +117,6 @@ public class VertexStreamObserver implements StreamObserver<GremlinQuery.VertexR
                                         Maps.newHashMap(),
                                         this.graph.getBaseGraph()),
                                 this.graph);
-                if (vertexCacheFlag) {
-                    vertexCache.put(elementId, vertex);
-                }
                 for (int i = 0; i < entry.getValue(); i++) {
                     resultProcessor.process(vertex);
                 }
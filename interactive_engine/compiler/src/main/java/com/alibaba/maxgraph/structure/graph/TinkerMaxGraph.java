@@ -20,6 +20,7 @@ import com.alibaba.maxgraph.compiler.api.schema.GraphElement;
 import com.alibaba.maxgraph.compiler.api.schema.GraphProperty;
 import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
 import com.alibaba.maxgraph.compiler.api.schema.GraphVertex;
+import com.alibaba.maxgraph.compiler.prepare.DefaultGraphPrepare;
 import com.alibaba.maxgraph.sdkcommon.graph.CancelDataflow;
 import com.alibaba.maxgraph.sdkcommon.graph.CompositeId;
 import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
@@ -27,6 +28,7 @@ import com.alibaba.maxgraph.sdkcommon.graph.EstimateRequest;
 import com.alibaba.maxgraph.sdkcommon.graph.ShowPlanPathListRequest;
 import com.alibaba.maxgraph.sdkcommon.graph.ShowProcessListQuery;
 import com.alibaba.maxgraph.sdkcommon.graph.StatisticsRequest;
+import com.alibaba.maxgraph.structure.GraphPrepare;
 import com.alibaba.maxgraph.structure.MxEdge;
 import com.alibaba.maxgraph.structure.MxVertex;
 import com.alibaba.maxgraph.structure.dfs.GraphDfs;
@@ -62,11 +64,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-public class TinkerMaxGraph implements Graph, WrappedGraph<MaxGraph> {
+public class TinkerMaxGraph implements Graph, WrappedGraph<MaxGraph>, GraphPrepare {
     private MaxGraph graph;
     private MaxGraphConfiguration configuration;
     private GraphDfs graphDfs;
     private Configuration graphConfig = new BaseConfiguration();
+    private GraphPrepare graphPrepare = new DefaultGraphPrepare();
 
     static {
         TraversalStrategies.GlobalCache.registerStrategies(
@@ -304,6 +307,26 @@ public class TinkerMaxGraph implements Graph, WrappedGraph<MaxGraph> {
         return new ShowPlanPathListRequest(traversal);
     }
 
+    /**
+     * Prepare the traversal with the placeholders "@1", "@2", ... as the params, i.e.
+     * graph.prepare("q1", g.V().has("person", "id", "@1").out())
+     */
+    @Override
+    public Object prepare(String prepareId, GraphTraversal traversal) {
+        return graphPrepare.prepare(prepareId, traversal);
+    }
+
+    /** Execute the prepared traversal, i.e. graph.execute("q1", graph.param(1L)) */
+    @Override
+    public Object execute(String prepareId, List<Object>... paramList) {
+        return graphPrepare.execute(prepareId, paramList);
+    }
+
+    @Override
+    public List<Object> param(Object... paramValue) {
+        return graphPrepare.param(paramValue);
+    }
+
     /**
      * Generate a reusable {@link GraphTraversalSource} instance. The {@link GraphTraversalSource}
      * provides methods for creating {@link
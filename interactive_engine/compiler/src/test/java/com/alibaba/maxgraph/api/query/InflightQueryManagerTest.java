@@ -0,0 +1,154 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.api.query;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InflightQueryManagerTest {
+    private static QueryStatus register(InflightQueryManager manager, long snapshotId) {
+        QueryStatus query = manager.beforeExecution();
+        manager.setSnapshotId(query, snapshotId);
+        return query;
+    }
+
+    @Test
+    public void testMinSnapshotId() {
+        InflightQueryManager manager = new InflightQueryManager();
+        Assert.assertEquals(Long.MIN_VALUE, manager.updateMinSnapshotId());
+
+        QueryStatus query5 = register(manager, 5L);
+        QueryStatus query3 = register(manager, 3L);
+        QueryStatus query7 = register(manager, 7L);
+        Assert.assertEquals(3L, manager.updateMinSnapshotId());
+
+        // finished out of order
+        manager.afterExecution(query5);
+        Assert.assertEquals(3L, manager.updateMinSnapshotId());
+        manager.afterExecution(query3);
+        Assert.assertEquals(7L, manager.updateMinSnapshotId());
+        manager.afterExecution(query7);
+        Assert.assertEquals(7L, manager.updateMinSnapshotId());
+        Assert.assertEquals(0, manager.getInflightCount());
+
+        // never goes backward
+        QueryStatus query6 = register(manager, 6L);
+        Assert.assertEquals(7L, manager.updateMinSnapshotId());
+        manager.afterExecution(query6);
+        manager.afterExecution(null);
+    }
+
+    @Test
+    public void testPendingQuery() {
+        InflightQueryManager manager = new InflightQueryManager();
+        manager.afterExecution(register(manager, 3L));
+        Assert.assertEquals(3L, manager.updateMinSnapshotId());
+
+        // snapshot 5 is fetched, and the minimum is updated before it's set
+        QueryStatus pending = manager.beforeExecution();
+        manager.afterExecution(register(manager, 8L));
+        Assert.assertEquals(3L, manager.updateMinSnapshotId());
+
+        manager.setSnapshotId(pending, 5L);
+        Assert.assertEquals(5L, manager.updateMinSnapshotId());
+        manager.afterExecution(pending);
+        Assert.assertEquals(8L, manager.updateMinSnapshotId());
+
+        // a query failed before its snapshot is fetched
+        manager.afterExecution(manager.beforeExecution());
+        Assert.assertEquals(8L, manager.updateMinSnapshotId());
+        Assert.assertEquals(0, manager.getInflightCount());
+    }
+
+    @Test
+    public void testConcurrentQueries() throws Exception {
+        InflightQueryManager manager = new InflightQueryManager();
+        QueryStatus pinned = register(manager, 1L);
+        Assert.assertEquals(1L, manager.updateMinSnapshotId());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (long snapshotId = 2L; snapshotId < 10000L; snapshotId++) {
+                                        manager.afterExecution(register(manager, snapshotId));
+                                    }
+                                }));
+            }
+            for (Future<?> future : futures) {
+                Assert.assertEquals(1L, manager.updateMinSnapshotId());
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, manager.getInflightCount());
+        manager.afterExecution(pinned);
+        Assert.assertEquals(9999L, manager.updateMinSnapshotId());
+    }
+
+    @Test
+    public void testConcurrentSnapshotFetch() throws Exception {
+        InflightQueryManager manager = new InflightQueryManager();
+        // the latest snapshot, it's increasing
+        AtomicLong latestSnapshotId = new AtomicLong(0L);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                for (int i = 0; i < 10000; i++) {
+                                    manager.afterExecution(
+                                            register(manager, latestSnapshotId.incrementAndGet()));
+                                    manager.updateMinSnapshotId();
+                                }
+                            }));
+            for (int t = 0; t < 2; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < 10000; i++) {
+                                        QueryStatus query = manager.beforeExecution();
+                                        long snapshotId = latestSnapshotId.get();
+                                        Thread.yield();
+                                        manager.setSnapshotId(query, snapshotId);
+                                        // the snapshot is still in use
+                                        Assert.assertTrue(
+                                                manager.updateMinSnapshotId() <= snapshotId);
+                                        manager.afterExecution(query);
+                                    }
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(0, manager.getInflightCount());
+        Assert.assertEquals(latestSnapshotId.get(), manager.updateMinSnapshotId());
+    }
+}
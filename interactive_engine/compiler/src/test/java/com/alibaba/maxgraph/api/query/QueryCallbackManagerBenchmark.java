@@ -0,0 +1,147 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.api.query;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission of the concurrent queries in the MaxGraph query processors: registering a query,
+ * fetching its snapshot, then unregistering it when it's done. The "locked" manager is the former
+ * one, the queries are kept in a queue in the order of the snapshots, so the snapshot is fetched and
+ * registered under a global lock. The "lockFree" one is {@link InflightQueryManager}.
+ *
+ * <p>It's not run with the unit tests, run {@link #main(String[])} instead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryCallbackManagerBenchmark {
+    private static final int QUEUE_SIZE = 1024 * 1024;
+
+    @State(Scope.Benchmark)
+    public static class ManagerState {
+        @Param({"locked", "lockFree"})
+        private String manager;
+
+        // cpu tokens spent to fetch the snapshot and the schema of a query
+        @Param({"0", "100"})
+        private long fetchTokens;
+
+        private LockedQueryManager lockedManager;
+        private InflightQueryManager inflightManager;
+        private AtomicLong snapshotId;
+        private ScheduledExecutorService updateExecutor;
+
+        @Setup
+        public void setup() {
+            this.snapshotId = new AtomicLong(0L);
+            this.updateExecutor = Executors.newSingleThreadScheduledExecutor();
+            Runnable update;
+            if ("locked".equals(manager)) {
+                this.lockedManager = new LockedQueryManager();
+                update = lockedManager::removeDone;
+            } else {
+                this.inflightManager = new InflightQueryManager();
+                update = inflightManager::updateMinSnapshotId;
+            }
+            // the queue of the locked manager is drained much more often than in the frontend, so
+            // that it never fills up in the benchmark
+            this.updateExecutor.scheduleWithFixedDelay(update, 1, 1, TimeUnit.MILLISECONDS);
+        }
+
+        @TearDown
+        public void tearDown() {
+            this.updateExecutor.shutdownNow();
+        }
+
+        private long fetchSnapshot() {
+            Blackhole.consumeCPU(fetchTokens);
+            return snapshotId.get();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public QueryStatus admission1(ManagerState state) {
+        return admit(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public QueryStatus admission4(ManagerState state) {
+        return admit(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public QueryStatus admission16(ManagerState state) {
+        return admit(state);
+    }
+
+    private static QueryStatus admit(ManagerState state) {
+        QueryStatus queryStatus;
+        if (state.lockedManager != null) {
+            LockedQueryManager manager = state.lockedManager;
+            synchronized (manager) {
+                queryStatus = manager.register(state.fetchSnapshot());
+            }
+            queryStatus.isDone = true;
+        } else {
+            InflightQueryManager manager = state.inflightManager;
+            queryStatus = manager.beforeExecution();
+            manager.setSnapshotId(queryStatus, state.fetchSnapshot());
+            manager.afterExecution(queryStatus);
+        }
+        return queryStatus;
+    }
+
+    /** The queries are kept in a queue in the order of the snapshots, drained from the head */
+    private static class LockedQueryManager {
+        private final BlockingQueue<QueryStatus> queryQueue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+
+        private QueryStatus register(long snapshotId) {
+            QueryStatus query = new QueryStatus(snapshotId, false);
+            try {
+                queryQueue.put(query);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return query;
+        }
+
+        private void removeDone() {
+            while (!queryQueue.isEmpty() && queryQueue.peek().isDone) {
+                queryQueue.remove();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(QueryCallbackManagerBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
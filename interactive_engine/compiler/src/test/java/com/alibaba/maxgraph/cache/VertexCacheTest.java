@@ -0,0 +1,119 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.cache;
+
+import com.alibaba.maxgraph.sdkcommon.graph.CompositeId;
+import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class VertexCacheTest {
+    private static final ElementId ID = new CompositeId(1L, 2);
+
+    private Vertex vertex() {
+        return new DetachedVertex(ID, "person", Collections.emptyMap());
+    }
+
+    @Test
+    public void testUntrackedWrites() {
+        VertexCache cache = new VertexCache(1024 * 1024, 60);
+        Vertex vertex = vertex();
+        cache.put(vertex, 10L, 1L);
+        Assert.assertSame(vertex, cache.get(ID, 10L, 1L));
+        // may be written in the later snapshots by the other frontends
+        Assert.assertNull(cache.get(ID, 11L, 1L));
+        // schema changed
+        Assert.assertNull(cache.get(ID, 10L, 2L));
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testTrackedWrites() {
+        VertexCache cache = new VertexCache(1024 * 1024, 60);
+        cache.setWritesTracked(true);
+        Vertex vertex = vertex();
+        cache.put(vertex, 10L, 1L);
+        Assert.assertSame(vertex, cache.get(ID, 12L, 1L));
+        Assert.assertNull(cache.get(ID, 9L, 1L));
+
+        List<ElementId> ids = Collections.singletonList(ID);
+        cache.beginWrite(ids);
+        Assert.assertNull(cache.get(ID, 12L, 1L));
+        // read before the write is visible
+        cache.put(vertex(), 12L, 1L);
+        Assert.assertNull(cache.get(ID, 12L, 1L));
+
+        cache.endWrite(ids, 13L);
+        cache.put(vertex(), 12L, 1L);
+        Assert.assertNull(cache.get(ID, 13L, 1L));
+
+        cache.advance(13L);
+        // a stale read of the old snapshot finished after the write is visible
+        cache.put(vertex(), 12L, 1L);
+        Assert.assertNull(cache.get(ID, 13L, 1L));
+        vertex = vertex();
+        cache.put(vertex, 13L, 1L);
+        Assert.assertSame(vertex, cache.get(ID, 14L, 1L));
+    }
+
+    @Test
+    public void testFailedWrite() {
+        VertexCache cache = new VertexCache(1024 * 1024, 60);
+        cache.setWritesTracked(true);
+        List<ElementId> ids = Collections.singletonList(ID);
+        cache.beginWrite(ids);
+        cache.endWrite(ids, -1L);
+        Vertex vertex = vertex();
+        cache.put(vertex, 10L, 1L);
+        Assert.assertSame(vertex, cache.get(ID, 10L, 1L));
+        // the failed write may still be applied in a later snapshot
+        Assert.assertNull(cache.get(ID, 11L, 1L));
+        cache.advance(20L);
+        Assert.assertNull(cache.get(ID, 21L, 1L));
+        vertex = vertex();
+        cache.put(vertex, 21L, 1L);
+        Assert.assertSame(vertex, cache.get(ID, 21L, 1L));
+        Assert.assertNull(cache.get(ID, 22L, 1L));
+
+        // a later successful write still hides the vertex until its snapshot is visible
+        cache.beginWrite(ids);
+        cache.endWrite(ids, 30L);
+        cache.put(vertex(), 25L, 1L);
+        Assert.assertNull(cache.get(ID, 25L, 1L));
+        cache.advance(30L);
+        cache.put(vertex(), 25L, 1L);
+        Assert.assertNull(cache.get(ID, 25L, 1L));
+    }
+
+    @Test
+    public void testWeightBound() {
+        VertexCache cache = new VertexCache(VertexCache.estimateBytes(vertex()) * 4L, 60);
+        for (long i = 0; i < 64; i++) {
+            cache.put(
+                    new DetachedVertex(new CompositeId(i, 2), "person", Collections.emptyMap()),
+                    1L,
+                    1L);
+        }
+        Assert.assertTrue(cache.size() <= 4);
+    }
+}
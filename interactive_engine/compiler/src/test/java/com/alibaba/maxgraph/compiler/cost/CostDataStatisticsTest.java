@@ -20,6 +20,7 @@ import com.alibaba.maxgraph.compiler.api.schema.GraphEdge;
 import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
 import com.alibaba.maxgraph.compiler.api.schema.GraphVertex;
 import com.alibaba.maxgraph.compiler.cost.statistics.CostDataStatistics;
+import com.alibaba.maxgraph.compiler.cost.statistics.DegreeStatistics;
 import com.alibaba.maxgraph.compiler.cost.statistics.NodeStatistics;
 import com.alibaba.maxgraph.compiler.schema.DefaultEdgeRelation;
 import com.alibaba.maxgraph.compiler.schema.DefaultGraphEdge;
@@ -150,4 +151,35 @@ public class CostDataStatisticsTest {
         Map<String, Double> bothVertexCountList = bothRatio.getVertexCountList();
         Assert.assertEquals((Double) 200.0, bothVertexCountList.get("comment"));
     }
+
+    @Test
+    public void testDegreeRatio() {
+        Map<Long, Long> degreeCountList = Maps.newHashMap();
+        degreeCountList.put(0L, 5000L);
+        degreeCountList.put(10L, 4000L);
+        degreeCountList.put(100L, 1000L);
+        DegreeStatistics degreeStatistics = DegreeStatistics.fromDegreeCountList(degreeCountList);
+        Assert.assertEquals(14.0, degreeStatistics.getAvgDegree(), 1e-6);
+        Assert.assertEquals(10400000.0 / 140000, degreeStatistics.getSkewedDegree(), 1e-6);
+        Assert.assertEquals(100L, degreeStatistics.getMaxDegree());
+        statistics.addOutDegree("person", "knows", "person", degreeStatistics);
+
+        NodeStatistics startStatistics = new NodeStatistics(schema);
+        startStatistics.addVertexCount("person", 10);
+        NodeStatistics outRatio = statistics.getOutRatio(startStatistics, Sets.newHashSet("knows"));
+        Assert.assertEquals((Double) 140.0, outRatio.getVertexCountList().get("person"));
+        // the persons reached by knows edges are expected to have the skewed degree
+        NodeStatistics skewedOutRatio =
+                statistics.getOutRatio(
+                        startStatistics, Sets.newHashSet("knows"), Sets.newHashSet("knows"));
+        Assert.assertEquals(
+                10 * 10400000.0 / 140000, skewedOutRatio.getVertexCountList().get("person"), 1e-6);
+        NodeStatistics otherOutRatio =
+                statistics.getOutRatio(
+                        startStatistics, Sets.newHashSet("knows"), Sets.newHashSet("create"));
+        Assert.assertEquals((Double) 140.0, otherOutRatio.getVertexCountList().get("person"));
+        // no in degree statistics, the edges are assumed to be evenly distributed
+        NodeStatistics inRatio = statistics.getInRatio(startStatistics, Sets.newHashSet("knows"));
+        Assert.assertEquals((Double) 1000.0, inRatio.getVertexCountList().get("person"));
+    }
 }
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.compiler.cost;
+
+import com.alibaba.maxgraph.compiler.cost.statistics.PropertyStatistics;
+import com.google.common.collect.Lists;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class PropertyStatisticsTest {
+    private PropertyStatistics buildStatistics() {
+        List<Object> sampleList = Lists.newArrayList();
+        for (long i = 99; i >= 0; i--) {
+            sampleList.add(i);
+        }
+        return new PropertyStatistics(50, sampleList);
+    }
+
+    @Test
+    public void testEqualSelectivity() {
+        PropertyStatistics statistics = buildStatistics();
+        Assert.assertEquals(0.02, statistics.getSelectivity(P.eq(1)), 1e-6);
+        Assert.assertEquals(0.98, statistics.getSelectivity(P.neq(1)), 1e-6);
+        Assert.assertEquals(0.06, statistics.getSelectivity(P.within(1, 2, 3)), 1e-6);
+    }
+
+    @Test
+    public void testRangeSelectivity() {
+        PropertyStatistics statistics = buildStatistics();
+        Assert.assertEquals(0.1, statistics.getSelectivity(P.lt(10)), 1e-6);
+        Assert.assertEquals(0.11, statistics.getSelectivity(P.lte(10)), 1e-6);
+        Assert.assertEquals(0.89, statistics.getSelectivity(P.gt(10)), 1e-6);
+        Assert.assertEquals(0.3, statistics.getSelectivity(P.gte(10).and(P.lt(40))), 1e-6);
+        Assert.assertEquals(0.3, statistics.getSelectivity(P.between(10, 40)), 1e-6);
+        Assert.assertEquals(0.5, statistics.getSelectivity(P.lt(10.5).or(P.gte(61))), 1e-6);
+    }
+
+    @Test
+    public void testEstimateDistinctCount() {
+        List<Object> sampleList = Lists.newArrayList();
+        for (long i = 0; i < 100; i++) {
+            sampleList.add(i % 50);
+        }
+        // every value repeats in the sample, they are assumed to be all the distinct values
+        Assert.assertEquals(50, PropertyStatistics.estimateDistinctCount(sampleList, 10000), 1e-6);
+
+        sampleList.clear();
+        for (long i = 0; i < 100; i++) {
+            sampleList.add(i);
+        }
+        // every value is seen once in 1% of the values, each stands for sqrt(100) values
+        Assert.assertEquals(
+                1000, PropertyStatistics.estimateDistinctCount(sampleList, 10000), 1e-6);
+        // the sample covers all the values
+        Assert.assertEquals(100, PropertyStatistics.estimateDistinctCount(sampleList, 100), 1e-6);
+    }
+
+    @Test
+    public void testUnknownSelectivity() {
+        PropertyStatistics statistics = buildStatistics();
+        Assert.assertEquals(
+                PropertyStatistics.UNKNOWN_SELECTIVITY,
+                statistics.getSelectivity(P.lt("abc")),
+                1e-6);
+        Assert.assertEquals(
+                PropertyStatistics.UNKNOWN_SELECTIVITY,
+                new PropertyStatistics(0, Lists.newArrayList()).getSelectivity(P.eq(1)),
+                1e-6);
+    }
+}
@@ -0,0 +1,250 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.compiler.prepare;
+
+import com.alibaba.maxgraph.Message;
+import com.alibaba.maxgraph.QueryFlowOuterClass;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class QueryFlowParamBinderTest {
+    private QueryFlowOuterClass.QueryFlow buildQueryFlow() {
+        QueryFlowOuterClass.VertexPrimaryKeyListProto primaryKeys =
+                QueryFlowOuterClass.VertexPrimaryKeyListProto.newBuilder()
+                        .addPrimaryKeys(
+                                QueryFlowOuterClass.VertexPrimaryKeyProto.newBuilder()
+                                        .setLabelId(1)
+                                        .setPrimaryKeyValue("@1"))
+                        .build();
+        QueryFlowOuterClass.OperatorBase.Builder sourceBase =
+                QueryFlowOuterClass.OperatorBase.newBuilder()
+                        .setOperatorType(QueryFlowOuterClass.OperatorType.V)
+                        .setArgument(
+                                Message.Value.newBuilder().setPayload(primaryKeys.toByteString()));
+        Message.LogicalCompare ageCompare =
+                Message.LogicalCompare.newBuilder()
+                        .setPropId(2)
+                        .setCompare(Message.CompareType.GT)
+                        .setValue(
+                                Message.Value.newBuilder()
+                                        .setValueType(Message.VariantType.VT_STRING)
+                                        .setStrValue("@2"))
+                        .setType(Message.VariantType.VT_STRING)
+                        .build();
+        Message.LogicalCompare nameCompare =
+                Message.LogicalCompare.newBuilder()
+                        .setPropId(3)
+                        .setCompare(Message.CompareType.WITHIN)
+                        .setValue(
+                                Message.Value.newBuilder()
+                                        .setValueType(Message.VariantType.VT_STRING_LIST)
+                                        .addStrValueList("@3"))
+                        .setType(Message.VariantType.VT_STRING_LIST)
+                        .build();
+        QueryFlowOuterClass.UnaryOperator.Builder filterOp =
+                QueryFlowOuterClass.UnaryOperator.newBuilder()
+                        .setBase(
+                                QueryFlowOuterClass.OperatorBase.newBuilder()
+                                        .setOperatorType(QueryFlowOuterClass.OperatorType.FILTER)
+                                        .addLogicalCompare(ageCompare)
+                                        .addLogicalCompare(nameCompare));
+        return QueryFlowOuterClass.QueryFlow.newBuilder()
+                .setQueryPlan(
+                        QueryFlowOuterClass.QueryPlan.newBuilder()
+                                .setSourceOp(
+                                        QueryFlowOuterClass.SourceOperator.newBuilder()
+                                                .setBase(sourceBase))
+                                .addUnaryOp(filterOp))
+                .build();
+    }
+
+    @Test
+    public void testGetParamIndexSet() {
+        Assert.assertEquals(
+                Sets.newHashSet(1, 2, 3), QueryFlowParamBinder.getParamIndexSet(buildQueryFlow()));
+    }
+
+    @Test
+    public void testBindParams() throws Exception {
+        List<List<Object>> paramList =
+                Lists.newArrayList(
+                        Lists.newArrayList(1L, 2L),
+                        Lists.newArrayList(30),
+                        Lists.newArrayList("tom", "jack"));
+        QueryFlowOuterClass.QueryPlan queryPlan =
+                QueryFlowParamBinder.bind(buildQueryFlow(), paramList).getQueryPlan();
+
+        QueryFlowOuterClass.VertexPrimaryKeyListProto primaryKeys =
+                QueryFlowOuterClass.VertexPrimaryKeyListProto.parseFrom(
+                        queryPlan.getSourceOp().getBase().getArgument().getPayload());
+        Assert.assertEquals(2, primaryKeys.getPrimaryKeysCount());
+        Assert.assertEquals("1", primaryKeys.getPrimaryKeys(0).getPrimaryKeyValue());
+        Assert.assertEquals("2", primaryKeys.getPrimaryKeys(1).getPrimaryKeyValue());
+        Assert.assertEquals(1, primaryKeys.getPrimaryKeys(1).getLabelId());
+
+        List<Message.LogicalCompare> compareList =
+                queryPlan.getUnaryOp(0).getBase().getLogicalCompareList();
+        Assert.assertEquals(Message.VariantType.VT_INT, compareList.get(0).getType());
+        Assert.assertEquals(30, compareList.get(0).getValue().getIntValue());
+        Assert.assertEquals(Message.CompareType.GT, compareList.get(0).getCompare());
+        Assert.assertEquals(Message.VariantType.VT_STRING_LIST, compareList.get(1).getType());
+        Assert.assertEquals(
+                Lists.newArrayList("tom", "jack"),
+                compareList.get(1).getValue().getStrValueListList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBindMissingParam() {
+        QueryFlowParamBinder.bind(
+                buildQueryFlow(),
+                Lists.newArrayList(Lists.newArrayList(1L), Lists.newArrayList(30)));
+    }
+
+    private static Message.LogicalCompare stringCompare(
+            int propId, Message.CompareType compareType, String value) {
+        return Message.LogicalCompare.newBuilder()
+                .setPropId(propId)
+                .setCompare(compareType)
+                .setValue(
+                        Message.Value.newBuilder()
+                                .setValueType(Message.VariantType.VT_STRING)
+                                .setStrValue(value))
+                .setType(Message.VariantType.VT_STRING)
+                .build();
+    }
+
+    private QueryFlowOuterClass.QueryFlow buildRepeatQueryFlow(
+            QueryFlowOuterClass.OperatorBase.Builder nestedBase) {
+        QueryFlowOuterClass.QueryPlan repeatPlan =
+                QueryFlowOuterClass.QueryPlan.newBuilder()
+                        .setSourceOp(
+                                QueryFlowOuterClass.SourceOperator.newBuilder()
+                                        .setBase(
+                                                QueryFlowOuterClass.OperatorBase.newBuilder()
+                                                        .setOperatorType(
+                                                                QueryFlowOuterClass.OperatorType
+                                                                        .SOURCE_CHAIN)))
+                        .addUnaryOp(
+                                QueryFlowOuterClass.UnaryOperator.newBuilder().setBase(nestedBase))
+                        .build();
+        QueryFlowOuterClass.RepeatArgumentProto repeatArgument =
+                QueryFlowOuterClass.RepeatArgumentProto.newBuilder()
+                        .setPlan(repeatPlan)
+                        .setLoopLimit(3)
+                        .build();
+        QueryFlowOuterClass.UnaryOperator.Builder repeatOp =
+                QueryFlowOuterClass.UnaryOperator.newBuilder()
+                        .setBase(
+                                QueryFlowOuterClass.OperatorBase.newBuilder()
+                                        .setOperatorType(QueryFlowOuterClass.OperatorType.REPEAT)
+                                        .setArgument(
+                                                Message.Value.newBuilder()
+                                                        .setPayload(
+                                                                repeatArgument.toByteString())));
+        QueryFlowOuterClass.QueryFlow.Builder queryFlow = buildQueryFlow().toBuilder();
+        queryFlow.getQueryPlanBuilder().addUnaryOp(repeatOp);
+        return queryFlow.build();
+    }
+
+    @Test
+    public void testBindNestedPlan() throws Exception {
+        QueryFlowOuterClass.OperatorBase.Builder nestedFilter =
+                QueryFlowOuterClass.OperatorBase.newBuilder()
+                        .setOperatorType(QueryFlowOuterClass.OperatorType.FILTER)
+                        .addLogicalCompare(stringCompare(2, Message.CompareType.LT, "@4"));
+        QueryFlowOuterClass.QueryFlow queryFlow = buildRepeatQueryFlow(nestedFilter);
+        Assert.assertEquals(
+                Sets.newHashSet(1, 2, 3, 4), QueryFlowParamBinder.getParamIndexSet(queryFlow));
+
+        List<List<Object>> paramList =
+                Lists.newArrayList(
+                        Lists.newArrayList(1L),
+                        Lists.newArrayList(30),
+                        Lists.newArrayList("tom"),
+                        Lists.newArrayList(40));
+        QueryFlowOuterClass.QueryPlan queryPlan =
+                QueryFlowParamBinder.bind(queryFlow, paramList).getQueryPlan();
+        QueryFlowOuterClass.RepeatArgumentProto repeatArgument =
+                QueryFlowOuterClass.RepeatArgumentProto.parseFrom(
+                        queryPlan.getUnaryOp(1).getBase().getArgument().getPayload());
+        Assert.assertEquals(3, repeatArgument.getLoopLimit());
+        Message.LogicalCompare compare =
+                repeatArgument.getPlan().getUnaryOp(0).getBase().getLogicalCompare(0);
+        Assert.assertEquals(Message.VariantType.VT_INT, compare.getType());
+        Assert.assertEquals(40, compare.getValue().getIntValue());
+    }
+
+    @Test
+    public void testBindWithinPlaceholders() {
+        Message.LogicalCompare withinCompare =
+                Message.LogicalCompare.newBuilder()
+                        .setPropId(3)
+                        .setCompare(Message.CompareType.WITHIN)
+                        .setValue(
+                                Message.Value.newBuilder()
+                                        .setValueType(Message.VariantType.VT_STRING_LIST)
+                                        .addStrValueList("@1")
+                                        .addStrValueList("lily")
+                                        .addStrValueList("@2"))
+                        .setType(Message.VariantType.VT_STRING_LIST)
+                        .build();
+        QueryFlowOuterClass.OperatorBase.Builder sourceBase =
+                QueryFlowOuterClass.OperatorBase.newBuilder()
+                        .setOperatorType(QueryFlowOuterClass.OperatorType.V)
+                        .addLogicalCompare(withinCompare);
+        QueryFlowOuterClass.QueryFlow queryFlow =
+                QueryFlowOuterClass.QueryFlow.newBuilder()
+                        .setQueryPlan(
+                                QueryFlowOuterClass.QueryPlan.newBuilder()
+                                        .setSourceOp(
+                                                QueryFlowOuterClass.SourceOperator.newBuilder()
+                                                        .setBase(sourceBase)))
+                        .build();
+        Assert.assertEquals(
+                Sets.newHashSet(1, 2), QueryFlowParamBinder.getParamIndexSet(queryFlow));
+
+        List<List<Object>> paramList =
+                Lists.newArrayList(Lists.newArrayList("tom", "jack"), Lists.newArrayList("marko"));
+        Message.LogicalCompare compare =
+                QueryFlowParamBinder.bind(queryFlow, paramList)
+                        .getQueryPlan()
+                        .getSourceOp()
+                        .getBase()
+                        .getLogicalCompare(0);
+        Assert.assertEquals(Message.VariantType.VT_STRING_LIST, compare.getType());
+        Assert.assertEquals(
+                Lists.newArrayList("tom", "jack", "lily", "marko"),
+                compare.getValue().getStrValueListList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectUnboundPlaceholder() {
+        // the placeholder in the argument of the nested operator can't be bound
+        QueryFlowOuterClass.OperatorBase.Builder nestedConstant =
+                QueryFlowOuterClass.OperatorBase.newBuilder()
+                        .setOperatorType(QueryFlowOuterClass.OperatorType.CONSTANT)
+                        .setArgument(
+                                Message.Value.newBuilder()
+                                        .setValueType(Message.VariantType.VT_STRING)
+                                        .setStrValue("@4"));
+        QueryFlowParamBinder.getParamIndexSet(buildRepeatQueryFlow(nestedConstant));
+    }
+}
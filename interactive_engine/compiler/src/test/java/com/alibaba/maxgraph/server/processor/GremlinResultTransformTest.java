@@ -0,0 +1,231 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.server.processor;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.alibaba.maxgraph.cache.CacheFactory;
+import com.alibaba.maxgraph.compiler.api.schema.GraphElement;
+import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
+import com.alibaba.maxgraph.result.ListResult;
+import com.alibaba.maxgraph.result.MapValueResult;
+import com.alibaba.maxgraph.result.PathValueResult;
+import com.alibaba.maxgraph.result.PropertyValueResult;
+import com.alibaba.maxgraph.result.VertexPropertyResult;
+import com.alibaba.maxgraph.result.VertexResult;
+import com.alibaba.maxgraph.sdkcommon.graph.CompositeId;
+import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
+import com.alibaba.maxgraph.sdkcommon.graph.QueryResult;
+import com.alibaba.maxgraph.server.query.RemoteRpcConnector;
+import com.alibaba.maxgraph.server.query.RemoteRpcProcessor;
+import com.alibaba.maxgraph.server.query.RpcProcessorType;
+import com.alibaba.maxgraph.structure.graph.TinkerMaxGraph;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class GremlinResultTransformTest {
+    private static final int LABEL_ID = 1;
+    private static final String LABEL = "person";
+
+    private GraphSchema schema;
+    private RemoteRpcConnector connector;
+    private RemoteRpcProcessor processor;
+    // the vertices requested by each queryVertices call, store id -> vertex id -> count
+    private List<Map<Integer, Map<ElementId, Integer>>> requests;
+    private Map<CompositeId, Map<String, Object>> requestedExistProps;
+
+    @Before
+    public void setUp() {
+        GraphElement element = mock(GraphElement.class);
+        when(element.getLabelId()).thenReturn(LABEL_ID);
+        when(element.getLabel()).thenReturn(LABEL);
+        schema = mock(GraphSchema.class);
+        when(schema.getElement(LABEL)).thenReturn(element);
+        when(schema.getElement(LABEL_ID)).thenReturn(element);
+        when(schema.getVersion()).thenReturn(1);
+
+        requests = Lists.newArrayList();
+        requestedExistProps = Maps.newHashMap();
+        connector = mock(RemoteRpcConnector.class);
+        doAnswer(
+                        invocation -> {
+                            Map<Integer, Map<ElementId, Integer>> classified =
+                                    invocation.getArgument(0);
+                            List<Object> resultList = invocation.getArgument(5);
+                            requestedExistProps.putAll(invocation.getArgument(7));
+                            Map<Integer, Map<ElementId, Integer>> request = Maps.newHashMap();
+                            for (Map.Entry<Integer, Map<ElementId, Integer>> entry :
+                                    classified.entrySet()) {
+                                request.put(entry.getKey(), Maps.newHashMap(entry.getValue()));
+                                for (Map.Entry<ElementId, Integer> count :
+                                        entry.getValue().entrySet()) {
+                                    Vertex vertex =
+                                            new DetachedVertex(
+                                                    count.getKey(), LABEL, Collections.emptyMap());
+                                    for (int i = 0; i < count.getValue(); i++) {
+                                        resultList.add(vertex);
+                                    }
+                                }
+                                entry.getValue().clear();
+                            }
+                            requests.add(request);
+                            return null;
+                        })
+                .when(connector)
+                .queryVertices(
+                        anyMap(),
+                        any(),
+                        any(),
+                        any(),
+                        anyInt(),
+                        anyList(),
+                        any(RpcProcessorType.class),
+                        anyMap());
+        processor = mock(RemoteRpcProcessor.class);
+    }
+
+    private GremlinResultTransform createTransform(boolean vertexCacheFlag, long snapshotId) {
+        return new GremlinResultTransform(
+                connector,
+                processor,
+                mock(TinkerMaxGraph.class),
+                null,
+                vertexCacheFlag,
+                snapshotId);
+    }
+
+    private static VertexResult vertexResult(long id, int storeId) {
+        return new VertexResult(id, LABEL_ID, LABEL, null, storeId);
+    }
+
+    private static CompositeId vertexId(long id) {
+        return new CompositeId(id, LABEL_ID);
+    }
+
+    private static Object idOf(Object vertex) {
+        return ((Vertex) vertex).id();
+    }
+
+    @Test
+    public void testNestedVertices() {
+        MapValueResult mapResult = new MapValueResult();
+        mapResult.addMapValue(new PropertyValueResult("friend"), vertexResult(1L, 0));
+        ListResult listResult =
+                new ListResult(Lists.newArrayList(vertexResult(2L, 0), vertexResult(1L, 0)));
+        ListResult pathResult =
+                new ListResult(
+                        Lists.newArrayList(
+                                new PathValueResult(vertexResult(3L, 1), Sets.newHashSet(0)),
+                                new PathValueResult(vertexResult(2L, 0), Sets.newHashSet(1))));
+        List<QueryResult> results =
+                Lists.newArrayList(mapResult, listResult, pathResult, vertexResult(4L, 1));
+
+        List<Object> resultList = Lists.newArrayList();
+        Map<Integer, String> labelIndexNameList = Maps.newHashMap();
+        labelIndexNameList.put(0, "a");
+        labelIndexNameList.put(1, "b");
+        createTransform(false, 1L)
+                .transform(results, schema, labelIndexNameList, null, 10, resultList, "q1");
+
+        // all the vertices of the batch are fetched at once, grouped by store
+        Assert.assertEquals(1, requests.size());
+        Assert.assertEquals(
+                Sets.newHashSet(vertexId(1L), vertexId(2L)), requests.get(0).get(0).keySet());
+        Assert.assertEquals(
+                Sets.newHashSet(vertexId(3L), vertexId(4L)), requests.get(0).get(1).keySet());
+        Assert.assertEquals(2, requests.get(0).get(0).get(vertexId(1L)).intValue());
+
+        // rebuilt in the original order
+        Assert.assertEquals(4, resultList.size());
+        Assert.assertEquals(vertexId(1L), idOf(((Map) resultList.get(0)).get("friend")));
+        List<Object> list = (List<Object>) resultList.get(1);
+        Assert.assertEquals(vertexId(2L), idOf(list.get(0)));
+        Assert.assertEquals(vertexId(1L), idOf(list.get(1)));
+        Path path = (Path) resultList.get(2);
+        Assert.assertEquals(2, path.size());
+        Assert.assertEquals(vertexId(3L), idOf(path.get(0)));
+        Assert.assertEquals(vertexId(2L), idOf(path.get(1)));
+        Assert.assertEquals(Sets.newHashSet("a"), path.labels().get(0));
+        Assert.assertEquals(vertexId(4L), idOf(resultList.get(3)));
+        verify(processor, times(4)).process(any());
+    }
+
+    @Test
+    public void testDuplicateVertexIds() {
+        VertexResult first = vertexResult(1L, 0);
+        first.addProperty(new VertexPropertyResult<>(1, "name", "tom", first));
+        VertexResult last = vertexResult(1L, 0);
+        last.addProperty(new VertexPropertyResult<>(1, "name", "jack", last));
+        List<QueryResult> results =
+                Lists.newArrayList(first, new ListResult(Lists.newArrayList(last)), last);
+
+        List<Object> resultList = Lists.newArrayList();
+        createTransform(false, 1L)
+                .transform(results, schema, Maps.newHashMap(), null, 10, resultList, "q2");
+
+        Assert.assertEquals(1, requests.size());
+        Assert.assertEquals(Collections.singletonMap(vertexId(1L), 3), requests.get(0).get(0));
+        // the properties of the last occurrence are kept
+        Assert.assertEquals("jack", requestedExistProps.get(vertexId(1L)).get("name"));
+        Assert.assertEquals(3, resultList.size());
+        Assert.assertSame(resultList.get(0), resultList.get(2));
+        Assert.assertSame(resultList.get(0), ((List) resultList.get(1)).get(0));
+    }
+
+    @Test
+    public void testCachedVertices() {
+        long snapshotId = 100L;
+        Vertex cached = new DetachedVertex(vertexId(5L), LABEL, Collections.emptyMap());
+        CacheFactory.getCacheFactory().getVertexCache().put(cached, snapshotId, 1);
+        List<QueryResult> results =
+                Lists.newArrayList(
+                        new ListResult(
+                                Lists.newArrayList(vertexResult(5L, 0), vertexResult(6L, 0))),
+                        vertexResult(5L, 0));
+
+        List<Object> resultList = Lists.newArrayList();
+        createTransform(true, snapshotId)
+                .transform(results, schema, Maps.newHashMap(), null, 10, resultList, "q3");
+
+        // only the missing vertex is fetched, and it's cached then
+        Assert.assertEquals(1, requests.size());
+        Assert.assertEquals(Collections.singletonMap(vertexId(6L), 1), requests.get(0).get(0));
+        Assert.assertSame(cached, ((List) resultList.get(0)).get(0));
+        Assert.assertSame(cached, resultList.get(1));
+        Assert.assertNotNull(
+                CacheFactory.getCacheFactory().getVertexCache().get(vertexId(6L), snapshotId, 1));
+
+        // all cached, nothing fetched
+        resultList.clear();
+        createTransform(true, snapshotId)
+                .transform(results, schema, Maps.newHashMap(), null, 10, resultList, "q4");
+        Assert.assertEquals(1, requests.size());
+        Assert.assertEquals(vertexId(6L), idOf(((List) resultList.get(0)).get(1)));
+    }
+}
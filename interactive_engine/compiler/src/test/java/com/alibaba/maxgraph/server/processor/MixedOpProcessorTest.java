@@ -0,0 +1,221 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.server.processor;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.alibaba.maxgraph.Message;
+import com.alibaba.maxgraph.QueryFlowOuterClass;
+import com.alibaba.maxgraph.api.query.InflightQueryManager;
+import com.alibaba.maxgraph.common.cluster.InstanceConfig;
+import com.alibaba.maxgraph.common.rpc.RpcAddressFetcher;
+import com.alibaba.maxgraph.compiler.CompilerBaseTest;
+import com.alibaba.maxgraph.compiler.prepare.PreparedExecuteParam;
+import com.alibaba.maxgraph.compiler.prepare.PreparedTraversal;
+import com.alibaba.maxgraph.compiler.prepare.store.MemoryStatementStore;
+import com.alibaba.maxgraph.compiler.prepare.store.StatementStore;
+import com.alibaba.maxgraph.compiler.schema.DefaultSchemaFetcher;
+import com.alibaba.maxgraph.server.query.RpcConnector;
+import com.alibaba.maxgraph.server.query.TimelyExecutor;
+import com.alibaba.maxgraph.structure.graph.TinkerMaxGraph;
+import com.google.common.collect.Lists;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.driver.ser.GraphSONMessageSerializerV3d0;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.handler.StateKey;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+public class MixedOpProcessorTest extends CompilerBaseTest {
+    private MixedOpProcessor processor;
+    private EmbeddedChannel channel;
+    // the query flows sent to the executor
+    private List<QueryFlowOuterClass.QueryFlow> queryFlowList;
+
+    public MixedOpProcessorTest() throws Exception {}
+
+    @Before
+    public void setUp() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty(InstanceConfig.GRAPH_NAME, "test");
+        StatementStore statementStore = new MemoryStatementStore();
+        processor =
+                new MixedOpProcessor(
+                        mock(TinkerMaxGraph.class),
+                        new InstanceConfig(properties),
+                        mock(RpcAddressFetcher.class),
+                        new DefaultSchemaFetcher(schema),
+                        statementStore,
+                        null,
+                        new InflightQueryManager());
+
+        queryFlowList = Lists.newArrayList();
+        RpcConnector rpcConnector = mock(RpcConnector.class);
+        doAnswer(
+                        invocation -> {
+                            QueryFlowOuterClass.QueryFlow.Builder queryFlow =
+                                    invocation.getArgument(0);
+                            queryFlowList.add(queryFlow.build());
+                            return null;
+                        })
+                .when(rpcConnector)
+                .query(any(), any(), any(), any(), anyLong(), anyBoolean());
+        FieldUtils.writeField(
+                processor,
+                "timelyExecutor",
+                new TimelyExecutor(rpcConnector, statementStore, false),
+                true);
+    }
+
+    private Context createContext(String script) {
+        ChannelHandlerContext[] handlerContext = new ChannelHandlerContext[1];
+        channel =
+                new EmbeddedChannel(
+                        new ChannelInboundHandlerAdapter() {
+                            @Override
+                            public void handlerAdded(ChannelHandlerContext ctx) {
+                                handlerContext[0] = ctx;
+                            }
+                        });
+        channel.attr(StateKey.SERIALIZER).set(new GraphSONMessageSerializerV3d0());
+        channel.attr(StateKey.USE_BINARY).set(false);
+        RequestMessage request =
+                RequestMessage.build(Tokens.OPS_EVAL).add(Tokens.ARGS_GREMLIN, script).create();
+        return new Context(request, handlerContext[0], new Settings(), null, null, null);
+    }
+
+    private void process(String script, Object traversal) {
+        processor.processGraphTraversal(script, createContext(script), traversal, 10000L);
+    }
+
+    private static List<Message.LogicalCompare> getCompareList(QueryFlowOuterClass.QueryPlan plan) {
+        List<Message.LogicalCompare> compareList = Lists.newArrayList();
+        compareList.addAll(plan.getSourceOp().getBase().getLogicalCompareList());
+        for (QueryFlowOuterClass.UnaryOperator unaryOp : plan.getUnaryOpList()) {
+            compareList.addAll(unaryOp.getBase().getLogicalCompareList());
+            for (QueryFlowOuterClass.OperatorBase chained :
+                    unaryOp.getBase().getChainedFunctionList()) {
+                compareList.addAll(chained.getLogicalCompareList());
+            }
+            if (unaryOp.getBase().getOperatorType() == QueryFlowOuterClass.OperatorType.REPEAT) {
+                try {
+                    compareList.addAll(
+                            getCompareList(
+                                    QueryFlowOuterClass.RepeatArgumentProto.parseFrom(
+                                                    unaryOp.getBase().getArgument().getPayload())
+                                            .getPlan()));
+                } catch (InvalidProtocolBufferException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        return compareList;
+    }
+
+    @Test
+    public void testPrepareAndExecute() {
+        process(
+                "prepare",
+                new PreparedTraversal(
+                        "q1",
+                        g.V()
+                                .hasLabel("person")
+                                .has("firstname", P.within("@1", "@2"))
+                                .repeat(__.out().has("lastname", "@3"))
+                                .times(2)));
+        // nothing is sent to the executor until it's executed
+        Assert.assertTrue(queryFlowList.isEmpty());
+
+        process(
+                "execute",
+                new PreparedExecuteParam(
+                        "q1",
+                        Lists.newArrayList(
+                                Lists.<Object>newArrayList("tom", "jack"),
+                                Lists.<Object>newArrayList("lily"),
+                                Lists.<Object>newArrayList("smith"))));
+        process(
+                "execute",
+                new PreparedExecuteParam(
+                        "q1",
+                        Lists.newArrayList(
+                                Lists.<Object>newArrayList("marko"),
+                                Lists.<Object>newArrayList("lily"),
+                                Lists.<Object>newArrayList("white"))));
+        Assert.assertEquals(2, queryFlowList.size());
+
+        List<Message.Value> valueList = Lists.newArrayList();
+        for (Message.LogicalCompare compare : getCompareList(queryFlowList.get(0).getQueryPlan())) {
+            valueList.add(compare.getValue());
+        }
+        Assert.assertTrue(
+                valueList.stream()
+                        .anyMatch(
+                                v ->
+                                        v.getStrValueListList()
+                                                .equals(
+                                                        Lists.newArrayList(
+                                                                "tom", "jack", "lily"))));
+        Assert.assertTrue(valueList.stream().anyMatch(v -> "smith".equals(v.getStrValue())));
+        Assert.assertTrue(
+                getCompareList(queryFlowList.get(1).getQueryPlan()).stream()
+                        .anyMatch(c -> "white".equals(c.getValue().getStrValue())));
+    }
+
+    @Test
+    public void testRejectUnboundPlaceholder() {
+        try {
+            process(
+                    "prepare",
+                    new PreparedTraversal("q2", g.V().hasLabel("person").constant("@1")));
+            Assert.fail("the placeholder in constant can't be bound");
+        } catch (RuntimeException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null && !(cause instanceof IllegalArgumentException)) {
+                cause = cause.getCause();
+            }
+            Assert.assertTrue(cause instanceof IllegalArgumentException);
+            Assert.assertTrue(cause.getMessage().startsWith("Placeholder @1"));
+        }
+        // not saved
+        try {
+            process(
+                    "execute",
+                    new PreparedExecuteParam(
+                            "q2", Lists.<List<Object>>newArrayList(Lists.newArrayList("tom"))));
+            Assert.fail("q2 is not prepared");
+        } catch (RuntimeException e) {
+            // expected
+        }
+        Assert.assertTrue(queryFlowList.isEmpty());
+    }
+}
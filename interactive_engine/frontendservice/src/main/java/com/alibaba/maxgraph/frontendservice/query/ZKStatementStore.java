@@ -15,6 +15,7 @@
  */
 package com.alibaba.maxgraph.frontendservice.query;
 
+import com.alibaba.maxgraph.QueryFlowOuterClass;
 import com.alibaba.maxgraph.common.cluster.InstanceConfig;
 import com.alibaba.maxgraph.common.zookeeper.ZKPaths;
 import com.alibaba.maxgraph.common.zookeeper.ZkUtils;
@@ -95,6 +96,10 @@ public class ZKStatementStore implements StatementStore {
         try {
             byte[] bytes = this.zkUtilsStore.readBinaryData(subCompilePath);
             PrepareStoreEntity prepareStoreEntity = PrepareStoreEntity.toPrepareStoreEntity(bytes);
+            // the query flow is persisted separately
+            prepareStoreEntity.setQueryFlow(
+                    QueryFlowOuterClass.QueryFlow.parseFrom(
+                            this.zkUtilsStore.readBinaryData(buildSubPreparePath(prepareId))));
             this.prepareStoreEntityMap.put(prepareId, prepareStoreEntity); // cache prepare query
             return prepareStoreEntity;
         } catch (Exception e) {
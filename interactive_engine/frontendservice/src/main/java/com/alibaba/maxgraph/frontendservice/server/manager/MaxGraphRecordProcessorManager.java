@@ -17,6 +17,7 @@ package com.alibaba.maxgraph.frontendservice.server.manager;
 
 import com.alibaba.maxgraph.api.manager.RecordProcessorManager;
 import com.alibaba.maxgraph.cache.CacheFactory;
+import com.alibaba.maxgraph.cache.VertexCache;
 import com.alibaba.maxgraph.common.util.CommonUtil;
 import com.alibaba.maxgraph.frontendservice.Frontend;
 import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
@@ -30,7 +31,6 @@ import com.alibaba.maxgraph.structure.manager.record.DelEdgeManager;
 import com.alibaba.maxgraph.structure.manager.record.DelVertexManager;
 import com.alibaba.maxgraph.structure.manager.record.UpdateEdgeManager;
 import com.alibaba.maxgraph.structure.manager.record.UpdateVertexManager;
-import com.google.common.cache.Cache;
 import com.google.common.collect.Sets;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -45,7 +45,7 @@ public class MaxGraphRecordProcessorManager implements RecordProcessorManager {
     private TinkerMaxGraph graph;
     private Frontend frontend;
     private Graph tinkerGraph;
-    private Cache<ElementId, Vertex> vertexCache = CacheFactory.getCacheFactory().getVertexCache();
+    private VertexCache vertexCache = CacheFactory.getCacheFactory().getVertexCache();
 
     public MaxGraphRecordProcessorManager(TinkerMaxGraph graph, Frontend frontend) {
         this.graph = graph;
@@ -62,12 +62,14 @@ public class MaxGraphRecordProcessorManager implements RecordProcessorManager {
                                         addVertexManager.getPropertyList()),
                         this.graph);
         Vertex vertex = DetachedFactory.detach(mxVertex, true);
-        vertexCache.put((ElementId) vertex.id(), vertex);
+        // the snapshot of the write is unknown, the vertex is cached once it is queried
+        vertexCache.invalidate((ElementId) vertex.id());
         return vertex;
     }
 
     public void deleteVertex(DelVertexManager delVertexManager) {
         this.graph.getBaseGraph().deleteVertex(delVertexManager.getVertexId());
+        vertexCache.invalidate(delVertexManager.getVertexId());
     }
 
     public Vertex updateVertex(UpdateVertexManager updateVertexManager) {
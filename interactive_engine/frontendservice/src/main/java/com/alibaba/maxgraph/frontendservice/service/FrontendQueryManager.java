@@ -15,6 +15,7 @@
  */
 package com.alibaba.maxgraph.frontendservice.service;
 
+import com.alibaba.maxgraph.api.query.InflightQueryManager;
 import com.alibaba.maxgraph.api.query.QueryCallbackManager;
 import com.alibaba.maxgraph.api.query.QueryStatus;
 import com.alibaba.maxgraph.common.cluster.InstanceConfig;
@@ -35,18 +36,17 @@ import java.util.concurrent.*;
 
 public class FrontendQueryManager extends AbstractLifecycleComponent
         implements QueryCallbackManager {
-    // manage queries <snapshotId, is_done>
-    private BlockingQueue<QueryStatus> queryQueue;
+    // manage the snapshots of the running queries
+    private InflightQueryManager inflightQueryManager;
     private ClientManager clientManager;
     private int frontId;
     private ScheduledExecutorService updateExecutor;
     private RpcConnector rpcConnector;
-    private static final int QUEUE_SZIE = 1024 * 1024;
 
     public FrontendQueryManager(InstanceConfig instanceConfig, ClientManager clientManager) {
         super(instanceConfig);
         frontId = settings.getServerId();
-        queryQueue = new ArrayBlockingQueue<>(QUEUE_SZIE);
+        inflightQueryManager = new InflightQueryManager();
         this.clientManager = clientManager;
         ExecutorAddressFetcher executorAddressFetcher = new ExecutorAddressFetcher(clientManager);
         RpcConfig rpcConfig = new RpcConfig();
@@ -150,28 +150,22 @@ public class FrontendQueryManager extends AbstractLifecycleComponent
     @Override
     protected void doClose() throws IOException {}
 
-    public QueryStatus beforeExecution(Long snapshotId) {
-        QueryStatus query = new QueryStatus(snapshotId, false);
-        try {
-            queryQueue.put(query);
-        } catch (InterruptedException e) {
-            logger.error("queryQueue waiting for space be interrupted", e);
-        }
-        return query;
+    public QueryStatus beforeExecution() {
+        return inflightQueryManager.beforeExecution();
+    }
+
+    public void setSnapshotId(QueryStatus query, long snapshotId) {
+        inflightQueryManager.setSnapshotId(query, snapshotId);
     }
 
     public void afterExecution(QueryStatus query) {
-        if (query != null) {
-            query.isDone = true;
-        }
+        inflightQueryManager.afterExecution(query);
     }
 
     class UpdateSnapshot implements Runnable {
         @Override
         public void run() {
-            while (!queryQueue.isEmpty() && queryQueue.peek().isDone) {
-                queryQueue.remove();
-            }
+            inflightQueryManager.updateMinSnapshotId();
         }
     }
 }
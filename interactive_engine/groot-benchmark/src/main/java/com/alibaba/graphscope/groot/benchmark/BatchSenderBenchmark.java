@@ -0,0 +1,85 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.benchmark;
+
+import com.alibaba.graphscope.groot.ingestor.BatchSender;
+import com.alibaba.graphscope.groot.ingestor.StoreWriter;
+import com.alibaba.graphscope.groot.ingestor.WriteStoreResult;
+import com.alibaba.graphscope.groot.meta.DefaultMetaService;
+import com.alibaba.graphscope.groot.metrics.MetricsCollector;
+import com.alibaba.graphscope.groot.operation.OperationBatch;
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ingestor side of {@link BatchSender#asyncSendWithRetry}: routing the operations of a batch to
+ * the partitions and stores, and buffering them for the send thread. The stores accept the batches
+ * as soon as they are sent, so the caller is only blocked by the routing and the buffers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchSenderBenchmark {
+    private static final int PARTITIONS_PER_STORE = 8;
+    // the batches of a snapshot, which are merged by the sender
+    private static final int BATCHES_PER_SNAPSHOT = 16;
+
+    @Param({"1", "4", "16"})
+    private int storeCount;
+
+    @Param({"64", "1024"})
+    private int batchSize;
+
+    private BatchSender batchSender;
+    private OperationBatch operationBatch;
+    private long offset;
+
+    @Setup
+    public void setup() {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.STORE_NODE_COUNT.getKey(), String.valueOf(storeCount))
+                        .put(
+                                CommonConfig.PARTITION_COUNT.getKey(),
+                                String.valueOf(storeCount * PARTITIONS_PER_STORE))
+                        .build();
+        DefaultMetaService metaService = new DefaultMetaService(configs);
+        metaService.start();
+        StoreWriter storeWriter =
+                (storeId, batches, callback) -> callback.onCompleted(new WriteStoreResult(0, 0));
+        this.batchSender =
+                new BatchSender(configs, metaService, storeWriter, new MetricsCollector(configs));
+        this.batchSender.start();
+        this.operationBatch = OperationSerdeBenchmark.makeBatch(batchSize);
+        this.offset = 0L;
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.batchSender.stop();
+    }
+
+    @Benchmark
+    public void asyncSendWithRetry() {
+        long snapshotId = offset / BATCHES_PER_SNAPSHOT;
+        batchSender.asyncSendWithRetry("benchmark", 0, snapshotId, offset++, operationBatch);
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.benchmark;
+
+import com.alibaba.graphscope.groot.frontend.write.GraphWriter;
+import com.alibaba.maxgraph.sdkcommon.schema.PropertyValue;
+import com.alibaba.maxgraph.sdkcommon.schema.TypeDef;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-record work of the frontend for a vertex write: parsing the raw properties of the
+ * request, and hashing the primary keys into the vertex id.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphWriterBenchmark {
+    private static final int RECORD_COUNT = 1024;
+
+    @Param({"person", "post", "comment"})
+    private String label;
+
+    private TypeDef vertexType;
+    private Map<String, Object>[] rawProperties;
+    private Map<Integer, PropertyValue>[] pkValues;
+    private int index;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        this.vertexType = LdbcSchema.getVertexType(label);
+        this.rawProperties = new Map[RECORD_COUNT];
+        this.pkValues = new Map[RECORD_COUNT];
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            long id = 933L + i * 1024L;
+            this.rawProperties[i] = LdbcSchema.vertexProperties(vertexType, id);
+            this.pkValues[i] =
+                    GraphWriter.parseRawProperties(vertexType, LdbcSchema.pkProperties(id));
+        }
+        this.index = 0;
+    }
+
+    private int next() {
+        this.index = (this.index + 1) & (RECORD_COUNT - 1);
+        return this.index;
+    }
+
+    @Benchmark
+    public Map<Integer, PropertyValue> parseRawProperties() {
+        return GraphWriter.parseRawProperties(vertexType, rawProperties[next()]);
+    }
+
+    @Benchmark
+    public long getHashId() {
+        return GraphWriter.getHashId(vertexType.getLabelId(), pkValues[next()], vertexType);
+    }
+
+    /** What an overwrite vertex request costs before it is queued */
+    @Benchmark
+    public long parseAndHash() {
+        Map<Integer, PropertyValue> properties =
+                GraphWriter.parseRawProperties(vertexType, rawProperties[next()]);
+        return GraphWriter.getHashId(vertexType.getLabelId(), properties, vertexType);
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.benchmark;
+
+import com.alibaba.maxgraph.compiler.api.schema.DataType;
+import com.alibaba.maxgraph.sdkcommon.schema.EdgeKind;
+import com.alibaba.maxgraph.sdkcommon.schema.LabelId;
+import com.alibaba.maxgraph.sdkcommon.schema.PropertyDef;
+import com.alibaba.maxgraph.sdkcommon.schema.TypeDef;
+import com.alibaba.maxgraph.sdkcommon.schema.TypeEnum;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A synthetic schema in the shape of the LDBC social network: person, post and comment vertices
+ * keyed by a long id with a mix of long, int and string properties, and the knows, hasCreator and
+ * likes edges among them. The raw property values are strings, as they arrive at the frontend in
+ * write requests.
+ */
+public class LdbcSchema {
+    private static final String[] FIRST_NAMES = {"Jose", "Hossein", "Ali", "Chen", "Mahinda"};
+    private static final String[] LAST_NAMES = {"Garcia", "Forouhar", "Ahmed", "Wang", "Perera"};
+    private static final String[] BROWSERS = {"Firefox", "Chrome", "Internet Explorer", "Safari"};
+    private static final String[] LANGUAGES = {"en", "zh", "es", "ar", "tk"};
+
+    public static final String ID = "id";
+
+    public static final TypeDef PERSON =
+            vertexType(
+                    1,
+                    "person",
+                    pk(1, ID),
+                    property(2, "firstName", DataType.STRING),
+                    property(3, "lastName", DataType.STRING),
+                    property(4, "gender", DataType.STRING),
+                    property(5, "birthday", DataType.LONG),
+                    property(6, "creationDate", DataType.LONG),
+                    property(7, "locationIP", DataType.STRING),
+                    property(8, "browserUsed", DataType.STRING));
+
+    public static final TypeDef POST =
+            vertexType(
+                    2,
+                    "post",
+                    pk(1, ID),
+                    property(9, "imageFile", DataType.STRING),
+                    property(6, "creationDate", DataType.LONG),
+                    property(7, "locationIP", DataType.STRING),
+                    property(8, "browserUsed", DataType.STRING),
+                    property(10, "language", DataType.STRING),
+                    property(11, "content", DataType.STRING),
+                    property(12, "length", DataType.INT));
+
+    public static final TypeDef COMMENT =
+            vertexType(
+                    3,
+                    "comment",
+                    pk(1, ID),
+                    property(6, "creationDate", DataType.LONG),
+                    property(7, "locationIP", DataType.STRING),
+                    property(8, "browserUsed", DataType.STRING),
+                    property(11, "content", DataType.STRING),
+                    property(12, "length", DataType.INT));
+
+    public static final TypeDef KNOWS =
+            edgeType(4, "knows", property(6, "creationDate", DataType.LONG));
+
+    public static final TypeDef HAS_CREATOR = edgeType(5, "hasCreator");
+
+    public static final TypeDef LIKES =
+            edgeType(6, "likes", property(6, "creationDate", DataType.LONG));
+
+    public static final EdgeKind PERSON_KNOWS_PERSON = edgeKind(KNOWS, PERSON, PERSON);
+    public static final EdgeKind POST_HAS_CREATOR_PERSON = edgeKind(HAS_CREATOR, POST, PERSON);
+    public static final EdgeKind PERSON_LIKES_POST = edgeKind(LIKES, PERSON, POST);
+
+    public static TypeDef getVertexType(String label) {
+        switch (label) {
+            case "person":
+                return PERSON;
+            case "post":
+                return POST;
+            case "comment":
+                return COMMENT;
+            default:
+                throw new IllegalArgumentException("unknown vertex label [" + label + "]");
+        }
+    }
+
+    /** Raw properties of the vertex, generated from its id so that the runs are reproducible */
+    public static Map<String, Object> vertexProperties(TypeDef vertexType, long id) {
+        Random random = new Random(id);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ID, String.valueOf(id));
+        properties.put("creationDate", String.valueOf(1262304000000L + random.nextInt()));
+        properties.put("locationIP", "192.168." + random.nextInt(256) + "." + random.nextInt(256));
+        properties.put("browserUsed", BROWSERS[random.nextInt(BROWSERS.length)]);
+        switch (vertexType.getLabel()) {
+            case "person":
+                properties.put("firstName", FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+                properties.put("lastName", LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+                properties.put("gender", random.nextBoolean() ? "male" : "female");
+                properties.put("birthday", String.valueOf(random.nextInt()));
+                break;
+            case "post":
+                String content = content(random, 20 + random.nextInt(200));
+                properties.put("imageFile", "");
+                properties.put("language", LANGUAGES[random.nextInt(LANGUAGES.length)]);
+                properties.put("content", content);
+                properties.put("length", String.valueOf(content.length()));
+                break;
+            case "comment":
+                String text = content(random, 5 + random.nextInt(80));
+                properties.put("content", text);
+                properties.put("length", String.valueOf(text.length()));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown vertex label " + vertexType.getLabel());
+        }
+        return properties;
+    }
+
+    public static Map<String, Object> pkProperties(long id) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ID, String.valueOf(id));
+        return properties;
+    }
+
+    private static String content(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(random.nextInt(6) == 0 ? ' ' : (char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    private static PropertyDef pk(int id, String name) {
+        return new PropertyDef(id, id, name, DataType.LONG, null, true, "");
+    }
+
+    private static PropertyDef property(int id, String name, DataType dataType) {
+        return new PropertyDef(id, id, name, dataType, null, false, "");
+    }
+
+    private static TypeDef vertexType(int labelId, String label, PropertyDef... properties) {
+        return typeDef(TypeEnum.VERTEX, labelId, label, properties);
+    }
+
+    private static TypeDef edgeType(int labelId, String label, PropertyDef... properties) {
+        return typeDef(TypeEnum.EDGE, labelId, label, properties);
+    }
+
+    private static TypeDef typeDef(
+            TypeEnum typeEnum, int labelId, String label, PropertyDef... properties) {
+        TypeDef.Builder builder =
+                TypeDef.newBuilder()
+                        .setTypeEnum(typeEnum)
+                        .setLabelId(new LabelId(labelId))
+                        .setLabel(label);
+        for (PropertyDef property : properties) {
+            builder.addPropertyDef(property);
+        }
+        return builder.build();
+    }
+
+    private static EdgeKind edgeKind(TypeDef edgeType, TypeDef srcType, TypeDef dstType) {
+        return EdgeKind.newBuilder()
+                .setEdgeLabel(edgeType.getLabel())
+                .setEdgeLabelId(edgeType.getTypeLabelId())
+                .setSrcVertexLabel(srcType.getLabel())
+                .setSrcVertexLabelId(srcType.getTypeLabelId())
+                .setDstVertexLabel(dstType.getLabel())
+                .setDstVertexLabelId(dstType.getTypeLabelId())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.benchmark;
+
+import com.alibaba.graphscope.groot.frontend.write.GraphWriter;
+import com.alibaba.graphscope.groot.operation.EdgeId;
+import com.alibaba.graphscope.groot.operation.OperationBatch;
+import com.alibaba.graphscope.groot.operation.VertexId;
+import com.alibaba.graphscope.groot.operation.dml.OverwriteEdgeOperation;
+import com.alibaba.graphscope.groot.operation.dml.OverwriteVertexOperation;
+import com.alibaba.graphscope.groot.wal.LogEntry;
+import com.alibaba.graphscope.groot.wal.kafka.LogEntryDeserializer;
+import com.alibaba.graphscope.groot.wal.kafka.LogEntrySerializer;
+import com.alibaba.maxgraph.proto.groot.OperationBatchPb;
+import com.alibaba.maxgraph.sdkcommon.schema.EdgeKind;
+import com.alibaba.maxgraph.sdkcommon.schema.PropertyValue;
+import com.alibaba.maxgraph.sdkcommon.schema.TypeDef;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the write batches on their way from the frontend to the WAL: {@link
+ * OperationBatch#toProto()} and the kafka serde of the log entries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationSerdeBenchmark {
+    private static final String TOPIC = "graph_store";
+
+    @Param({"1", "64", "1024"})
+    private int batchSize;
+
+    private OperationBatch operationBatch;
+    private LogEntry logEntry;
+    private byte[] logEntryBytes;
+    private LogEntrySerializer serializer;
+    private LogEntryDeserializer deserializer;
+
+    @Setup
+    public void setup() {
+        this.operationBatch = makeBatch(batchSize);
+        this.logEntry = new LogEntry(10L, operationBatch);
+        this.serializer = new LogEntrySerializer();
+        this.deserializer = new LogEntryDeserializer();
+        this.logEntryBytes = serializer.serialize(TOPIC, logEntry);
+    }
+
+    /**
+     * A batch of an LDBC-like update stream, half of the operations are vertices and the other half
+     * are the edges of them
+     */
+    static OperationBatch makeBatch(int batchSize) {
+        TypeDef[] vertexTypes = {LdbcSchema.PERSON, LdbcSchema.POST, LdbcSchema.COMMENT};
+        EdgeKind[] edgeKinds = {
+            LdbcSchema.PERSON_KNOWS_PERSON,
+            LdbcSchema.POST_HAS_CREATOR_PERSON,
+            LdbcSchema.PERSON_LIKES_POST
+        };
+        TypeDef[] edgeTypes = {LdbcSchema.KNOWS, LdbcSchema.HAS_CREATOR, LdbcSchema.LIKES};
+        OperationBatch.Builder builder = OperationBatch.newBuilder();
+        for (int i = 0; i < batchSize; i++) {
+            long id = 933L + i;
+            if (i % 2 == 0) {
+                TypeDef vertexType = vertexTypes[(i / 2) % vertexTypes.length];
+                Map<Integer, PropertyValue> properties =
+                        GraphWriter.parseRawProperties(
+                                vertexType, LdbcSchema.vertexProperties(vertexType, id));
+                long hashId =
+                        GraphWriter.getHashId(vertexType.getLabelId(), properties, vertexType);
+                builder.addOperation(
+                        new OverwriteVertexOperation(
+                                new VertexId(hashId), vertexType.getTypeLabelId(), properties));
+            } else {
+                int kind = (i / 2) % edgeKinds.length;
+                Map<Integer, PropertyValue> properties =
+                        edgeTypes[kind].getPropertyList().isEmpty()
+                                ? Collections.emptyMap()
+                                : GraphWriter.parseRawProperties(
+                                        edgeTypes[kind],
+                                        Collections.singletonMap(
+                                                "creationDate",
+                                                String.valueOf(1262304000000L + i)));
+                EdgeId edgeId = new EdgeId(new VertexId(id), new VertexId(id * 31L), i);
+                builder.addOperation(
+                        new OverwriteEdgeOperation(edgeId, edgeKinds[kind], properties, true));
+            }
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public OperationBatchPb toProto() {
+        return operationBatch.toProto();
+    }
+
+    @Benchmark
+    public byte[] serializeLogEntry() {
+        return serializer.serialize(TOPIC, logEntry);
+    }
+
+    @Benchmark
+    public LogEntry deserializeLogEntry() {
+        return deserializer.deserialize(TOPIC, logEntryBytes);
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.benchmark;
+
+import com.alibaba.maxgraph.sdkcommon.util.PkHashUtils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Hashing of the primary keys, by the number of keys and the length of each key in bytes. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PkHashBenchmark {
+    private static final int KEY_COUNT = 1024;
+
+    @Param({"1", "2"})
+    private int pkCount;
+
+    // 8 for a long id, the others for string keys
+    @Param({"8", "32", "256"})
+    private int pkLength;
+
+    private List<List<byte[]>> pks;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(pkCount * 31L + pkLength);
+        this.pks = new ArrayList<>(KEY_COUNT);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            List<byte[]> pk = new ArrayList<>(pkCount);
+            for (int j = 0; j < pkCount; j++) {
+                byte[] bytes = new byte[pkLength];
+                random.nextBytes(bytes);
+                pk.add(bytes);
+            }
+            this.pks.add(pk);
+        }
+        this.index = 0;
+    }
+
+    @Benchmark
+    public long hash() {
+        this.index = (this.index + 1) & (KEY_COUNT - 1);
+        return PkHashUtils.hash(1, pks.get(index));
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.benchmark;
+
+import com.alibaba.graphscope.groot.meta.DefaultMetaService;
+import com.alibaba.graphscope.groot.operation.StoreDataBatch;
+import com.alibaba.graphscope.groot.store.SnapshotSortQueue;
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.common.config.StoreConfig;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Offering the batches of the ingest queues to {@link SnapshotSortQueue} and polling them sorted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotSortQueueBenchmark {
+    private static final int CONCURRENT_QUEUE_COUNT = 4;
+
+    private static SnapshotSortQueue makeQueue(int queueCount, long queueWaitMs) {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.INGESTOR_QUEUE_COUNT.getKey(), String.valueOf(queueCount))
+                        .put(StoreConfig.STORE_QUEUE_WAIT_MS.getKey(), String.valueOf(queueWaitMs))
+                        .build();
+        return new SnapshotSortQueue(configs, new DefaultMetaService(configs));
+    }
+
+    private static StoreDataBatch makeBatch(int queueId, long snapshotId) {
+        return StoreDataBatch.newBuilder()
+                .requestId("")
+                .queueId(queueId)
+                .snapshotId(snapshotId)
+                .offset(snapshotId)
+                .build();
+    }
+
+    @State(Scope.Thread)
+    public static class SingleThreadState {
+        @Param({"1", "4", "16"})
+        private int queueCount;
+
+        private SnapshotSortQueue queue;
+        private long snapshotId;
+
+        @Setup
+        public void setup() {
+            this.queue = makeQueue(queueCount, 0L);
+            this.snapshotId = 0L;
+        }
+    }
+
+    /** One batch of a new snapshot to each queue, then all of them are polled */
+    @Benchmark
+    public StoreDataBatch offerPoll(SingleThreadState state) throws InterruptedException {
+        long snapshotId = state.snapshotId++;
+        for (int i = 0; i < state.queueCount; i++) {
+            state.queue.offerQueue(i, makeBatch(i, snapshotId));
+        }
+        StoreDataBatch batch = null;
+        for (int i = 0; i < state.queueCount; i++) {
+            batch = state.queue.poll();
+        }
+        return batch;
+    }
+
+    @State(Scope.Group)
+    public static class ConcurrentState {
+        private SnapshotSortQueue queue;
+        private AtomicInteger nextQueueId;
+
+        @Setup
+        public void setup() {
+            // short waits, so that the threads blocked by a full or not ready queue can stop
+            // soon at the end of an iteration
+            this.queue = makeQueue(CONCURRENT_QUEUE_COUNT, 10L);
+            this.nextQueueId = new AtomicInteger(0);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ProducerState {
+        private int queueId;
+        private long snapshotId;
+
+        @Setup
+        public void setup(ConcurrentState concurrentState) {
+            this.queueId = concurrentState.nextQueueId.getAndIncrement() % CONCURRENT_QUEUE_COUNT;
+            this.snapshotId = 0L;
+        }
+    }
+
+    /** Each ingest queue is written by its own thread, as the store receives them */
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(CONCURRENT_QUEUE_COUNT)
+    public boolean offer(ConcurrentState concurrentState, ProducerState producerState)
+            throws InterruptedException {
+        return concurrentState.queue.offerQueue(
+                producerState.queueId,
+                makeBatch(producerState.queueId, producerState.snapshotId++));
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(1)
+    public StoreDataBatch poll(ConcurrentState concurrentState) throws InterruptedException {
+        return concurrentState.queue.poll();
+    }
+}
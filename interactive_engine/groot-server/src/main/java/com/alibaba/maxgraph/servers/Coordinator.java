@@ -20,13 +20,16 @@ import com.alibaba.graphscope.groot.frontend.IngestorWriteClient;
 import com.alibaba.graphscope.groot.meta.DefaultMetaService;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.meta.MetaStore;
+import com.alibaba.graphscope.groot.metrics.MetricsCollectService;
+import com.alibaba.graphscope.groot.metrics.MetricsCollector;
+import com.alibaba.graphscope.groot.metrics.MetricsExporter;
 import com.alibaba.graphscope.groot.rpc.ChannelManager;
 import com.alibaba.graphscope.groot.rpc.MaxGraphNameResolverFactory;
 import com.alibaba.graphscope.groot.rpc.RoleClients;
 import com.alibaba.graphscope.groot.rpc.RpcServer;
 import com.alibaba.graphscope.groot.schema.ddl.DdlExecutors;
 import com.alibaba.graphscope.groot.wal.LogService;
-import com.alibaba.graphscope.groot.wal.kafka.KafkaLogService;
+import com.alibaba.graphscope.groot.wal.LogServiceFactory;
 import com.alibaba.maxgraph.common.RoleType;
 import com.alibaba.maxgraph.common.config.CommonConfig;
 import com.alibaba.maxgraph.common.config.Configs;
@@ -53,6 +56,7 @@ public class Coordinator extends NodeBase {
     private GraphInitializer graphInitializer;
     private IdAllocator idAllocator;
     private BackupManager backupManager;
+    private MetricsExporter metricsExporter;
 
     private GarbageCollectManager garbageCollectManager;
 
@@ -80,7 +84,7 @@ public class Coordinator extends NodeBase {
                         this.channelManager, RoleType.INGESTOR, IngestorSnapshotClient::new);
         WriteSnapshotIdNotifier writeSnapshotIdNotifier =
                 new IngestorWriteSnapshotIdNotifier(configs, ingestorSnapshotClients);
-        LogService logService = new KafkaLogService(configs);
+        LogService logService = LogServiceFactory.makeLogService(configs);
         this.snapshotManager =
                 new SnapshotManager(configs, metaStore, logService, writeSnapshotIdNotifier);
         DdlExecutors ddlExecutors = new DdlExecutors();
@@ -109,7 +113,7 @@ public class Coordinator extends NodeBase {
         SnapshotCommitService snapshotCommitService =
                 new SnapshotCommitService(this.snapshotManager);
         SchemaService schemaService = new SchemaService(this.schemaManager);
-        this.idAllocator = new IdAllocator(metaStore);
+        this.idAllocator = new IdAllocator(configs, metaStore);
         IdAllocateService idAllocateService = new IdAllocateService(this.idAllocator);
         RoleClients<StoreBackupClient> storeBackupClients =
                 new RoleClients<>(this.channelManager, RoleType.STORE, StoreBackupClient::new);
@@ -131,6 +135,9 @@ public class Coordinator extends NodeBase {
         this.garbageCollectManager = new GarbageCollectManager(configs, coordinatorSnapshotClients);
         CoordinatorSnapshotService coordinatorSnapshotService =
                 new CoordinatorSnapshotService(garbageCollectManager);
+        MetricsCollector metricsCollector = new MetricsCollector(configs);
+        MetricsCollectService metricsCollectService = new MetricsCollectService(metricsCollector);
+        this.metricsExporter = new MetricsExporter(configs, metricsCollector);
         this.rpcServer =
                 new RpcServer(
                         configs,
@@ -140,7 +147,8 @@ public class Coordinator extends NodeBase {
                         schemaService,
                         idAllocateService,
                         backupService,
-                        coordinatorSnapshotService);
+                        coordinatorSnapshotService,
+                        metricsCollectService);
         this.logRecycler = new LogRecycler(configs, logService, this.snapshotManager);
         this.graphInitializer = new GraphInitializer(configs, this.curator, metaStore, logService);
     }
@@ -166,10 +174,12 @@ public class Coordinator extends NodeBase {
         this.logRecycler.start();
         this.backupManager.start();
         this.garbageCollectManager.start();
+        this.metricsExporter.start();
     }
 
     @Override
     public void close() throws IOException {
+        this.metricsExporter.stop();
         this.backupManager.stop();
         this.logRecycler.stop();
         this.rpcServer.stop();
@@ -35,18 +35,22 @@ import com.alibaba.graphscope.groot.frontend.WriteSessionGenerator;
 import com.alibaba.graphscope.groot.frontend.write.DefaultEdgeIdGenerator;
 import com.alibaba.graphscope.groot.frontend.write.EdgeIdGenerator;
 import com.alibaba.graphscope.groot.frontend.write.GraphWriter;
+import com.alibaba.graphscope.groot.frontend.write.VertexWriteListener;
 import com.alibaba.graphscope.groot.meta.DefaultMetaService;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.MetricsAggregator;
 import com.alibaba.graphscope.groot.metrics.MetricsCollectClient;
 import com.alibaba.graphscope.groot.metrics.MetricsCollectService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
+import com.alibaba.graphscope.groot.metrics.MetricsExporter;
 import com.alibaba.graphscope.groot.rpc.AuthorizationServerInterceptor;
 import com.alibaba.graphscope.groot.rpc.ChannelManager;
 import com.alibaba.graphscope.groot.rpc.MaxGraphNameResolverFactory;
 import com.alibaba.graphscope.groot.rpc.RoleClients;
 import com.alibaba.graphscope.groot.rpc.RpcServer;
 import com.alibaba.graphscope.groot.schema.ddl.DdlExecutors;
+import com.alibaba.maxgraph.cache.CacheFactory;
+import com.alibaba.maxgraph.cache.VertexCache;
 import com.alibaba.maxgraph.common.RoleType;
 import com.alibaba.maxgraph.common.config.CommonConfig;
 import com.alibaba.maxgraph.common.config.Configs;
@@ -54,6 +58,7 @@ import com.alibaba.maxgraph.common.config.FrontendConfig;
 import com.alibaba.maxgraph.common.util.CuratorUtils;
 import com.alibaba.maxgraph.common.util.RpcUtils;
 import com.alibaba.maxgraph.compiler.api.exception.MaxGraphException;
+import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
 import com.google.common.annotations.VisibleForTesting;
 
 import io.grpc.BindableService;
@@ -64,6 +69,7 @@ import org.apache.curator.framework.CuratorFramework;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 public class Frontend extends NodeBase {
 
@@ -75,6 +81,7 @@ public class Frontend extends NodeBase {
     private RpcServer serviceServer;
     private ClientService clientService;
     private AbstractService graphService;
+    private MetricsExporter metricsExporter;
 
     public Frontend(Configs configs) {
         super(configs);
@@ -127,15 +134,18 @@ public class Frontend extends NodeBase {
                         batchDdlClient);
         ClientDdlService clientDdlService = new ClientDdlService(snapshotCache, batchDdlClient);
         MetricsCollectService metricsCollectService = new MetricsCollectService(metricsCollector);
+        this.metricsExporter = new MetricsExporter(configs, metricsCollector);
         WriteSessionGenerator writeSessionGenerator = new WriteSessionGenerator(configs);
         EdgeIdGenerator edgeIdGenerator = new DefaultEdgeIdGenerator(configs, this.channelManager);
         GraphWriter graphWriter =
                 new GraphWriter(
+                        configs,
                         snapshotCache,
                         edgeIdGenerator,
                         this.metaService,
                         ingestorWriteClients,
                         metricsCollector);
+        graphWriter.setVertexWriteListener(makeVertexWriteListener(configs));
         ClientWriteService clientWriteService =
                 new ClientWriteService(writeSessionGenerator, graphWriter);
         RoleClients<BackupClient> backupClients =
@@ -166,6 +176,31 @@ public class Frontend extends NodeBase {
                         metaService);
     }
 
+    /**
+     * The cached vertices of the queries are invalidated by the writes of this frontend, which
+     * covers all the writes only if there is a single frontend.
+     */
+    private VertexWriteListener makeVertexWriteListener(Configs configs) {
+        VertexCache vertexCache = CacheFactory.getCacheFactory().getVertexCache();
+        vertexCache.setWritesTracked(CommonConfig.FRONTEND_NODE_COUNT.get(configs) == 1);
+        return new VertexWriteListener() {
+            @Override
+            public void onWriteBegin(List<ElementId> vertexIds) {
+                vertexCache.beginWrite(vertexIds);
+            }
+
+            @Override
+            public void onWriteEnd(List<ElementId> vertexIds, long snapshotId) {
+                vertexCache.endWrite(vertexIds, snapshotId);
+            }
+
+            @Override
+            public void onWriteVisible(long snapshotId) {
+                vertexCache.advance(snapshotId);
+            }
+        };
+    }
+
     private RpcServer buildServiceServer(Configs configs, BindableService... services) {
         int port = FrontendConfig.FRONTEND_SERVICE_PORT.get(configs);
         int threadCount = FrontendConfig.FRONTEND_SERVICE_THREAD_COUNT.get(configs);
@@ -204,10 +239,12 @@ public class Frontend extends NodeBase {
         } catch (IOException e) {
             throw new MaxGraphException(e);
         }
+        this.metricsExporter.start();
     }
 
     @Override
     public void close() throws IOException {
+        this.metricsExporter.stop();
         this.serviceServer.stop();
         this.rpcServer.stop();
         this.metaService.stop();
@@ -26,11 +26,12 @@ import com.alibaba.graphscope.groot.meta.DefaultMetaService;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollectService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
+import com.alibaba.graphscope.groot.metrics.MetricsExporter;
 import com.alibaba.graphscope.groot.rpc.ChannelManager;
 import com.alibaba.graphscope.groot.rpc.MaxGraphNameResolverFactory;
 import com.alibaba.graphscope.groot.rpc.RpcServer;
 import com.alibaba.graphscope.groot.wal.LogService;
-import com.alibaba.graphscope.groot.wal.kafka.KafkaLogService;
+import com.alibaba.graphscope.groot.wal.LogServiceFactory;
 import com.alibaba.maxgraph.common.RoleType;
 import com.alibaba.maxgraph.common.config.CommonConfig;
 import com.alibaba.maxgraph.common.config.Configs;
@@ -52,6 +53,7 @@ public class Ingestor extends NodeBase {
 
     private IngestService ingestService;
     private RpcServer rpcServer;
+    private MetricsExporter metricsExporter;
 
     public Ingestor(Configs configs) {
         super(configs);
@@ -66,7 +68,7 @@ public class Ingestor extends NodeBase {
         NameResolver.Factory nameResolverFactory = new MaxGraphNameResolverFactory(this.discovery);
         this.channelManager = new ChannelManager(configs, nameResolverFactory);
         this.metaService = new DefaultMetaService(configs);
-        LogService logService = new KafkaLogService(configs);
+        LogService logService = LogServiceFactory.makeLogService(configs);
         IngestProgressFetcher ingestProgressClients =
                 new RemoteIngestProgressFetcher(this.channelManager);
         StoreWriter storeWriteClients =
@@ -82,6 +84,7 @@ public class Ingestor extends NodeBase {
                         storeWriteClients,
                         metricsCollector);
         MetricsCollectService metricsCollectService = new MetricsCollectService(metricsCollector);
+        this.metricsExporter = new MetricsExporter(configs, metricsCollector);
         IngestorSnapshotService ingestorSnapshotService =
                 new IngestorSnapshotService(this.ingestService);
         IngestorWriteService ingestorWriteService = new IngestorWriteService(this.ingestService);
@@ -108,10 +111,12 @@ public class Ingestor extends NodeBase {
         this.discovery.start();
         this.channelManager.start();
         this.ingestService.start();
+        this.metricsExporter.start();
     }
 
     @Override
     public void close() throws IOException {
+        this.metricsExporter.stop();
         this.rpcServer.stop();
         this.ingestService.stop();
         this.metaService.stop();
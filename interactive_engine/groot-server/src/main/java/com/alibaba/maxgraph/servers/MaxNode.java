@@ -35,6 +35,8 @@ public class MaxNode extends NodeBase {
     private List<NodeBase> frontends = new ArrayList<>();
     private List<NodeBase> ingestors = new ArrayList<>();
     private List<NodeBase> stores = new ArrayList<>();
+    private int metricsPort;
+    private int metricsNodeCount = 0;
 
     public MaxNode(Configs configs) throws Exception {
         Properties kafkaConfigs = new Properties();
@@ -45,6 +47,7 @@ public class MaxNode extends NodeBase {
         int frontendCount = 1;
         int ingestorCount = 2;
         int storeCount = CommonConfig.STORE_NODE_COUNT.get(configs);
+        this.metricsPort = CommonConfig.METRICS_HTTP_PORT.get(configs);
 
         Configs baseConfigs =
                 Configs.newBuilder(configs)
@@ -98,6 +101,7 @@ public class MaxNode extends NodeBase {
         Configs coordinatorConfigs =
                 Configs.newBuilder(baseConfigs)
                         .put(CommonConfig.ROLE_NAME.getKey(), RoleType.COORDINATOR.getName())
+                        .put(CommonConfig.METRICS_HTTP_PORT.getKey(), nextMetricsPort())
                         .put(CommonConfig.NODE_IDX.getKey(), "0")
                         .build();
         this.coordinator = new Coordinator(coordinatorConfigs);
@@ -105,6 +109,7 @@ public class MaxNode extends NodeBase {
             Configs frontendConfigs =
                     Configs.newBuilder(baseConfigs)
                             .put(CommonConfig.ROLE_NAME.getKey(), RoleType.FRONTEND.getName())
+                            .put(CommonConfig.METRICS_HTTP_PORT.getKey(), nextMetricsPort())
                             .put(CommonConfig.NODE_IDX.getKey(), String.valueOf(i))
                             .put(CommonConfig.RPC_PORT.getKey(), "55555")
                             .put(FrontendConfig.FRONTEND_SERVICE_PORT.getKey(), "55556")
@@ -115,6 +120,7 @@ public class MaxNode extends NodeBase {
             Configs ingestConfigs =
                     Configs.newBuilder(baseConfigs)
                             .put(CommonConfig.ROLE_NAME.getKey(), RoleType.INGESTOR.getName())
+                            .put(CommonConfig.METRICS_HTTP_PORT.getKey(), nextMetricsPort())
                             .put(CommonConfig.NODE_IDX.getKey(), String.valueOf(i))
                             .build();
             this.ingestors.add(new Ingestor(ingestConfigs));
@@ -123,12 +129,24 @@ public class MaxNode extends NodeBase {
             Configs storeConfigs =
                     Configs.newBuilder(baseConfigs)
                             .put(CommonConfig.ROLE_NAME.getKey(), RoleType.STORE.getName())
+                            .put(CommonConfig.METRICS_HTTP_PORT.getKey(), nextMetricsPort())
                             .put(CommonConfig.NODE_IDX.getKey(), String.valueOf(i))
                             .build();
             this.stores.add(new Store(storeConfigs));
         }
     }
 
+    /**
+     * All the nodes run in this process, so each of them serves its metrics on its own port, next
+     * to the configured one. Port 0 binds an ephemeral port and negative disables the exporter.
+     */
+    private String nextMetricsPort() {
+        if (this.metricsPort <= 0) {
+            return String.valueOf(this.metricsPort);
+        }
+        return String.valueOf(this.metricsPort + this.metricsNodeCount++);
+    }
+
     public void start() {
         List<Thread> startThreads = new ArrayList<>();
         for (NodeBase store : this.stores) {
@@ -18,6 +18,7 @@ import com.alibaba.graphscope.groot.meta.DefaultMetaService;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollectService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
+import com.alibaba.graphscope.groot.metrics.MetricsExporter;
 import com.alibaba.graphscope.groot.rpc.ChannelManager;
 import com.alibaba.graphscope.groot.rpc.MaxGraphNameResolverFactory;
 import com.alibaba.graphscope.groot.rpc.RpcServer;
@@ -40,6 +41,7 @@ public class Store extends NodeBase {
     private BackupAgent backupAgent;
     private RpcServer rpcServer;
     private AbstractService executorService;
+    private MetricsExporter metricsExporter;
 
     public Store(Configs configs) {
         super(configs);
@@ -55,6 +57,7 @@ public class Store extends NodeBase {
         this.storeService = new StoreService(configs, this.metaService, metricsCollector);
         SnapshotCommitter snapshotCommitter = new DefaultSnapshotCommitter(this.channelManager);
         MetricsCollectService metricsCollectService = new MetricsCollectService(metricsCollector);
+        this.metricsExporter = new MetricsExporter(configs, metricsCollector);
         this.writerAgent =
                 new WriterAgent(
                         configs,
@@ -108,10 +111,12 @@ public class Store extends NodeBase {
         this.discovery.start();
         this.channelManager.start();
         this.executorService.start();
+        this.metricsExporter.start();
     }
 
     @Override
     public void close() throws IOException {
+        this.metricsExporter.stop();
         this.executorService.stop();
         this.rpcServer.stop();
         this.backupAgent.stop();
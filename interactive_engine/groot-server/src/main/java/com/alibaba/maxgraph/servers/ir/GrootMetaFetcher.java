@@ -42,7 +42,7 @@ public class GrootMetaFetcher implements IrMetaFetcher {
         if (pair != null
                 && (schema = pair.getLeft()) != null
                 && (snapshotId = pair.getRight()) != null) {
-            return Optional.of(new IrMeta(parser.parse(schema), snapshotId));
+            return Optional.of(new IrMeta(parser.parse(schema), snapshotId, schema.getVersion()));
         } else {
             return Optional.empty();
         }
@@ -54,10 +54,13 @@ public class ReadOnlyMaxGraphProcessorLoader implements ProcessorLoader {
         QueryCallbackManager queryCallbackManager =
                 new QueryCallbackManager() {
                     @Override
-                    public QueryStatus beforeExecution(Long snapshotId) {
+                    public QueryStatus beforeExecution() {
                         return null;
                     }
 
+                    @Override
+                    public void setSnapshotId(QueryStatus query, long snapshotId) {}
+
                     @Override
                     public void afterExecution(QueryStatus query) {}
                 };
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.tests.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.alibaba.graphscope.groot.metrics.HistogramMetric;
+import com.alibaba.graphscope.groot.metrics.MetricsCollector;
+import com.alibaba.graphscope.groot.metrics.MetricsExporter;
+import com.alibaba.maxgraph.common.config.Configs;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+public class HistogramMetricTest {
+
+    @Test
+    void testPercentiles() {
+        HistogramMetric histogram = new HistogramMetric("test.latency");
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        histogram.update();
+        assertWithinError(500000L, histogram.getP50());
+        assertWithinError(990000L, histogram.getP99());
+        assertWithinError(999000L, histogram.getP999());
+        assertEquals(1000000L, histogram.getMax());
+        assertEquals(1000L, histogram.getLastUpdateCount());
+        assertEquals(500500000L, histogram.getLastUpdateSum());
+
+        // Percentiles only cover values recorded since the last update
+        histogram.record(10L);
+        histogram.update();
+        assertEquals(10L, histogram.getP50());
+        assertEquals(10L, histogram.getP999());
+        assertEquals(1001L, histogram.getLastUpdateCount());
+
+        histogram.update();
+        assertEquals(0L, histogram.getP99());
+        assertEquals(0L, histogram.getMax());
+    }
+
+    @Test
+    void testTailIsVisible() {
+        HistogramMetric histogram = new HistogramMetric("test.latency");
+        for (int i = 0; i < 985; i++) {
+            histogram.record(1000L);
+        }
+        for (int i = 0; i < 15; i++) {
+            histogram.record(5000000000L);
+        }
+        histogram.update();
+        assertWithinError(1000L, histogram.getP50());
+        assertWithinError(5000000000L, histogram.getP99());
+        assertEquals(5000000000L, histogram.getMax());
+    }
+
+    @Test
+    void testConcurrentRecord() throws InterruptedException {
+        HistogramMetric histogram = new HistogramMetric("test.latency");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 10000; i++) {
+                                    histogram.record(i);
+                                }
+                            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        histogram.update();
+        assertEquals(40000L, histogram.getLastUpdateCount());
+        assertEquals(9999L, histogram.getMax());
+    }
+
+    @Test
+    void testCollectAndExport() throws Exception {
+        Configs configs =
+                Configs.newBuilder()
+                        .put("role.name", "store")
+                        .put("node.idx", "1")
+                        .put("metrics.http.port", "0")
+                        .build();
+        MetricsCollector metricsCollector = new MetricsCollector(configs);
+        HistogramMetric histogram =
+                metricsCollector.histogram("store.partition.write.latency", "partition", "3");
+        assertSame(
+                histogram,
+                metricsCollector.histogram("store.partition.write.latency", "partition", "3"));
+        histogram.record(2000000L);
+        histogram.update();
+
+        Map<String, String> metrics = metricsCollector.collectMetrics();
+        String prefix = "store.partition.write.latency.partition.3";
+        assertWithinError(2000L, Long.parseLong(metrics.get(prefix + ".p99.us")));
+        assertEquals("1", metrics.get(prefix + ".count"));
+
+        MetricsExporter exporter = new MetricsExporter(configs, metricsCollector);
+        exporter.start();
+        try {
+            URL url = new URL("http://localhost:" + exporter.getPort() + MetricsExporter.PATH);
+            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+            assertEquals(200, conn.getResponseCode());
+            String body;
+            try (InputStream is = conn.getInputStream()) {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                byte[] buf = new byte[4096];
+                int n;
+                while ((n = is.read(buf)) > 0) {
+                    bos.write(buf, 0, n);
+                }
+                body = new String(bos.toByteArray(), StandardCharsets.UTF_8);
+            }
+            String name = "groot_store_partition_write_latency_seconds";
+            assertTrue(body.contains("# TYPE " + name + " summary"), body);
+            assertTrue(
+                    body.contains(
+                            name + "{role=\"store\",node=\"1\",partition=\"3\",quantile=\"0.99\"}"),
+                    body);
+            assertTrue(
+                    body.contains(name + "_count{role=\"store\",node=\"1\",partition=\"3\"} 1"),
+                    body);
+        } finally {
+            exporter.stop();
+        }
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue(
+                Math.abs(actual - expected) <= expected / 32 + 1,
+                "expected [" + expected + "], but was [" + actual + "]");
+    }
+}
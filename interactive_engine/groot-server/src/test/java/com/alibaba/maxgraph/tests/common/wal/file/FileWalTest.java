@@ -0,0 +1,252 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.tests.common.wal.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.alibaba.graphscope.groot.operation.OperationBatch;
+import com.alibaba.graphscope.groot.operation.OperationBlob;
+import com.alibaba.graphscope.groot.wal.LogEntry;
+import com.alibaba.graphscope.groot.wal.LogReader;
+import com.alibaba.graphscope.groot.wal.LogService;
+import com.alibaba.graphscope.groot.wal.LogWriter;
+import com.alibaba.graphscope.groot.wal.ReadLogEntry;
+import com.alibaba.graphscope.groot.wal.file.FileLogService;
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.common.config.FileLogConfig;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class FileWalTest {
+
+    private Configs makeConfigs(Path dir, int segmentSizeMb) {
+        return Configs.newBuilder()
+                .put(FileLogConfig.FILE_LOG_PATH.getKey(), dir.resolve("wal").toString())
+                .put(FileLogConfig.FILE_LOG_SEGMENT_SIZE_MB.getKey(), String.valueOf(segmentSizeMb))
+                .put(CommonConfig.INGESTOR_QUEUE_COUNT.getKey(), "1")
+                .build();
+    }
+
+    private LogEntry makeEntry(long snapshotId) {
+        return new LogEntry(
+                snapshotId,
+                OperationBatch.newBuilder()
+                        .addOperationBlob(OperationBlob.MARKER_OPERATION_BLOB)
+                        .build());
+    }
+
+    @Test
+    void testDoubleInitAndDestroy(@TempDir Path dir) {
+        LogService logService = new FileLogService(makeConfigs(dir, 1));
+        assertFalse(logService.initialized());
+        logService.init();
+        assertTrue(logService.initialized());
+        assertThrows(Exception.class, () -> logService.init());
+        logService.destroy();
+        assertThrows(Exception.class, () -> logService.destroy());
+    }
+
+    @Test
+    void testLogService(@TempDir Path dir) throws IOException {
+        LogService logService = new FileLogService(makeConfigs(dir, 1));
+        logService.init();
+        int queueId = 0;
+        long snapshotId = 1L;
+        LogReader emptyReader = logService.createReader(queueId, 0);
+        assertNull(emptyReader.readNext());
+        emptyReader.close();
+
+        LogWriter writer = logService.createWriter(queueId);
+        assertEquals(writer.append(makeEntry(snapshotId)), 0);
+
+        LogReader reader = logService.createReader(queueId, 0);
+        ReadLogEntry readLogEntry = reader.readNext();
+        reader.close();
+
+        assertAll(
+                () -> assertEquals(readLogEntry.getOffset(), 0),
+                () -> assertEquals(readLogEntry.getLogEntry().getSnapshotId(), snapshotId));
+
+        OperationBatch operationBatch = readLogEntry.getLogEntry().getOperationBatch();
+        assertEquals(operationBatch.getOperationCount(), 1);
+        assertEquals(operationBatch.getOperationBlob(0), OperationBlob.MARKER_OPERATION_BLOB);
+
+        assertEquals(writer.append(makeEntry(snapshotId)), 1);
+        assertEquals(writer.append(makeEntry(snapshotId)), 2);
+        assertEquals(writer.append(makeEntry(snapshotId)), 3);
+
+        LogReader readerTail = logService.createReader(queueId, 4);
+        assertNull(readerTail.readNext());
+        readerTail.close();
+
+        assertThrows(IllegalArgumentException.class, () -> logService.createReader(queueId, 5));
+        writer.close();
+
+        // Reopened writer continues from the tail of the queue
+        LogWriter reopened = logService.createWriter(queueId);
+        assertEquals(reopened.append(makeEntry(snapshotId + 1)), 4);
+        reopened.close();
+        logService.destroy();
+    }
+
+    @Test
+    void testAppendAsync(@TempDir Path dir) throws Exception {
+        LogService logService = new FileLogService(makeConfigs(dir, 1));
+        logService.init();
+        int queueId = 0;
+        LogWriter writer = logService.createWriter(queueId);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(writer.appendAsync(makeEntry(i)));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(futures.get(i).get(), i);
+        }
+        LogReader reader = logService.createReader(queueId, 5);
+        assertEquals(reader.readNext().getLogEntry().getSnapshotId(), 5);
+        reader.close();
+        writer.close();
+        logService.destroy();
+    }
+
+    @Test
+    void testSegmentRollAndRecycle(@TempDir Path dir) throws IOException {
+        LogService logService = new FileLogService(makeConfigs(dir, 1));
+        logService.init();
+        int queueId = 0;
+        LogWriter writer = logService.createWriter(queueId);
+        OperationBatch.Builder builder = OperationBatch.newBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.addOperationBlob(OperationBlob.MARKER_OPERATION_BLOB);
+        }
+        // Each entry is large enough that a 1MB segment holds only a few of them
+        LogEntry bigEntry = new LogEntry(1L, builder.build());
+        int count = 100;
+        for (int i = 0; i < count; i++) {
+            assertEquals(writer.append(bigEntry), i);
+        }
+
+        LogReader reader = logService.createReader(queueId, 0);
+        ReadLogEntry readLogEntry;
+        int readCount = 0;
+        while ((readLogEntry = reader.readNext()) != null) {
+            assertEquals(readLogEntry.getOffset(), readCount);
+            readCount++;
+        }
+        reader.close();
+        assertEquals(readCount, count);
+
+        logService.deleteBeforeOffset(queueId, count - 1);
+        assertThrows(IllegalArgumentException.class, () -> logService.createReader(queueId, 0));
+        LogReader tailReader = logService.createReader(queueId, count - 1);
+        assertEquals(tailReader.readNext().getOffset(), count - 1);
+        assertNull(tailReader.readNext());
+        tailReader.close();
+
+        assertEquals(writer.append(bigEntry), count);
+        writer.close();
+        logService.destroy();
+    }
+
+    @Test
+    void testInvalidSegmentSize(@TempDir Path dir) {
+        assertThrows(IllegalArgumentException.class, () -> new FileLogService(makeConfigs(dir, 0)));
+        assertThrows(
+                IllegalArgumentException.class, () -> new FileLogService(makeConfigs(dir, 2048)));
+        assertThrows(
+                IllegalArgumentException.class, () -> new FileLogService(makeConfigs(dir, 4096)));
+        new FileLogService(makeConfigs(dir, 2047));
+    }
+
+    @Test
+    void testReadFromIndexedOffsets(@TempDir Path dir) throws IOException {
+        LogService logService = new FileLogService(makeConfigs(dir, 1));
+        logService.init();
+        int queueId = 0;
+        LogWriter writer = logService.createWriter(queueId);
+        // small entries, so that there are many records between the sparse index entries
+        int count = 2000;
+        for (int i = 0; i < count; i++) {
+            assertEquals(writer.append(makeEntry(i)), i);
+        }
+        for (int offset = 0; offset < count; offset += 37) {
+            LogReader reader = logService.createReader(queueId, offset);
+            ReadLogEntry readLogEntry = reader.readNext();
+            assertEquals(readLogEntry.getOffset(), offset);
+            assertEquals(readLogEntry.getLogEntry().getSnapshotId(), offset);
+            reader.close();
+        }
+        LogReader tailReader = logService.createReader(queueId, count);
+        assertNull(tailReader.readNext());
+        tailReader.close();
+        assertThrows(
+                IllegalArgumentException.class, () -> logService.createReader(queueId, count + 1));
+        writer.close();
+        logService.destroy();
+    }
+
+    @Test
+    void testDurableOffsetTimeout(@TempDir Path dir) throws Exception {
+        Configs configs =
+                Configs.newBuilder(makeConfigs(dir, 1))
+                        .put(FileLogConfig.FILE_LOG_SYNC_ENABLE.getKey(), "true")
+                        .build();
+        LogService logService = new FileLogService(configs);
+        logService.init();
+        LogWriter writer = logService.createWriter(0);
+        assertEquals(writer.appendAsync(makeEntry(0L)).get(10, TimeUnit.SECONDS), 0);
+
+        // a sync that never finishes holds the sync lock
+        Field field = writer.getClass().getDeclaredField("syncLock");
+        field.setAccessible(true);
+        ReentrantLock syncLock = (ReentrantLock) field.get(writer);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread syncThread =
+                new Thread(
+                        () -> {
+                            syncLock.lock();
+                            try {
+                                locked.countDown();
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } finally {
+                                syncLock.unlock();
+                            }
+                        });
+        syncThread.start();
+        locked.await();
+        Future<Long> future = writer.appendAsync(makeEntry(1L));
+        assertThrows(TimeoutException.class, () -> future.get(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+        syncThread.join();
+        assertEquals(future.get(10, TimeUnit.SECONDS), 1);
+        writer.close();
+        logService.destroy();
+    }
+}
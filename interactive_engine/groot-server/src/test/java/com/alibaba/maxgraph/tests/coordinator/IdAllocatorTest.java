@@ -0,0 +1,94 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.tests.coordinator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.alibaba.graphscope.groot.coordinator.IdAllocator;
+import com.alibaba.graphscope.groot.meta.MetaStore;
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class IdAllocatorTest {
+
+    @Test
+    void testAllocateRanges() throws Exception {
+        Configs configs =
+                Configs.newBuilder().put(CommonConfig.ID_ALLOCATE_SIZE.getKey(), "100").build();
+        AtomicReference<byte[]> stored =
+                new AtomicReference<>("5".getBytes(StandardCharsets.UTF_8));
+        MetaStore metaStore = mock(MetaStore.class);
+        when(metaStore.exists(anyString())).thenReturn(true);
+        when(metaStore.read(anyString())).thenAnswer(invocation -> stored.get());
+        doAnswer(
+                        invocation -> {
+                            stored.set(invocation.getArgument(1));
+                            return null;
+                        })
+                .when(metaStore)
+                .write(anyString(), any());
+
+        IdAllocator idAllocator = new IdAllocator(configs, metaStore);
+        idAllocator.start();
+        // Skip the range that older versions may have handed out beyond the persisted tail
+        assertEquals(105L, idAllocator.allocate(10));
+        assertEquals(115L, idAllocator.allocate(20));
+        assertEquals("135", new String(stored.get(), StandardCharsets.UTF_8));
+
+        int threadCount = 8;
+        int allocateCount = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                List<Long> startIds = new ArrayList<>();
+                                for (int j = 0; j < allocateCount; j++) {
+                                    startIds.add(idAllocator.allocate(3));
+                                }
+                                return startIds;
+                            }));
+        }
+        List<Long> startIds = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            startIds.addAll(future.get());
+        }
+        executor.shutdown();
+        Collections.sort(startIds);
+        for (int i = 0; i < startIds.size(); i++) {
+            assertEquals(135L + 3L * i, startIds.get(i));
+        }
+        long tail = 135L + 3L * threadCount * allocateCount;
+        assertEquals(String.valueOf(tail), new String(stored.get(), StandardCharsets.UTF_8));
+
+        IdAllocator recovered = new IdAllocator(configs, metaStore);
+        recovered.start();
+        assertEquals(tail + 100L, recovered.allocate(1));
+    }
+}
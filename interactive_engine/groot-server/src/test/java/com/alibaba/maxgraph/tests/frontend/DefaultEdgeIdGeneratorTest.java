@@ -0,0 +1,93 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.tests.frontend;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.alibaba.graphscope.groot.CompletionCallback;
+import com.alibaba.graphscope.groot.frontend.write.DefaultEdgeIdGenerator;
+import com.alibaba.graphscope.groot.frontend.write.IdAllocateClient;
+import com.alibaba.graphscope.groot.rpc.ChannelManager;
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DefaultEdgeIdGeneratorTest {
+
+    @Test
+    void testPrefetchIdRanges() throws InterruptedException {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.ID_ALLOCATE_SIZE.getKey(), "100")
+                        .put(CommonConfig.ID_ALLOCATE_SIZE_MIN.getKey(), "100")
+                        .put(CommonConfig.ID_ALLOCATE_SIZE_MAX.getKey(), "1000")
+                        .build();
+        AtomicLong tailId = new AtomicLong(0L);
+        IdAllocateClient client = mock(IdAllocateClient.class);
+        when(client.allocateId(anyInt()))
+                .thenAnswer(invocation -> tailId.getAndAdd((int) invocation.getArgument(0)));
+        doAnswer(
+                        invocation -> {
+                            CompletionCallback<Long> callback = invocation.getArgument(1);
+                            callback.onCompleted(tailId.getAndAdd((int) invocation.getArgument(0)));
+                            return null;
+                        })
+                .when(client)
+                .allocateIdAsync(anyInt(), any());
+        DefaultEdgeIdGenerator idGenerator =
+                spy(new DefaultEdgeIdGenerator(configs, mock(ChannelManager.class)));
+        doReturn(client).when(idGenerator).getClient(0);
+
+        int threadCount = 4;
+        int idCount = 5000;
+        List<Thread> threads = new ArrayList<>();
+        List<List<Long>> ids = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            List<Long> threadIds = new ArrayList<>();
+            ids.add(threadIds);
+            threads.add(
+                    new Thread(
+                            () -> {
+                                for (int j = 0; j < idCount; j++) {
+                                    threadIds.add(idGenerator.getNextId());
+                                }
+                            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<Long> allIds = new HashSet<>();
+        for (List<Long> threadIds : ids) {
+            allIds.addAll(threadIds);
+        }
+        assertEquals(threadCount * idCount, allIds.size());
+        // Only the first range is allocated synchronously, the rest are prefetched
+        verify(client, times(1)).allocateId(anyInt());
+        verify(client, atLeastOnce()).allocateIdAsync(anyInt(), any());
+    }
+}
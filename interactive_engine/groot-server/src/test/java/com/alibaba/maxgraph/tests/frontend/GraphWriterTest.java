@@ -0,0 +1,291 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.tests.frontend;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.alibaba.graphscope.groot.CompletionCallback;
+import com.alibaba.graphscope.groot.SnapshotCache;
+import com.alibaba.graphscope.groot.SnapshotWithSchema;
+import com.alibaba.graphscope.groot.frontend.IngestorWriteClient;
+import com.alibaba.graphscope.groot.frontend.write.BulkWriteRequest;
+import com.alibaba.graphscope.groot.frontend.write.DataRecord;
+import com.alibaba.graphscope.groot.frontend.write.EdgeIdGenerator;
+import com.alibaba.graphscope.groot.frontend.write.GraphWriter;
+import com.alibaba.graphscope.groot.frontend.write.VertexWriteListener;
+import com.alibaba.graphscope.groot.frontend.write.WriteRequest;
+import com.alibaba.graphscope.groot.meta.MetaService;
+import com.alibaba.graphscope.groot.metrics.MetricsCollector;
+import com.alibaba.graphscope.groot.operation.OperationBatch;
+import com.alibaba.graphscope.groot.operation.OperationType;
+import com.alibaba.graphscope.groot.operation.WriteTrace;
+import com.alibaba.graphscope.groot.rpc.RoleClients;
+import com.alibaba.maxgraph.cache.VertexCache;
+import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.compiler.api.exception.MaxGraphException;
+import com.alibaba.maxgraph.compiler.api.schema.DataType;
+import com.alibaba.maxgraph.compiler.api.schema.GraphElement;
+import com.alibaba.maxgraph.compiler.api.schema.GraphProperty;
+import com.alibaba.maxgraph.sdkcommon.common.EdgeRecordKey;
+import com.alibaba.maxgraph.sdkcommon.common.VertexRecordKey;
+import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
+import com.alibaba.maxgraph.sdkcommon.schema.GraphDef;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GraphWriterTest {
+
+    private static final String SESSION = "0-1-0";
+
+    private SnapshotCache snapshotCache;
+
+    @Test
+    void testBulkWriteMatchesRecordWrite() {
+        List<OperationBatch> batches = new ArrayList<>();
+        GraphWriter graphWriter = makeGraphWriter(batches);
+
+        Map<String, Object> pk = Collections.singletonMap("id", "1");
+        Map<String, Object> properties = Collections.singletonMap("name", "marko");
+        graphWriter.writeBatch(
+                "r1",
+                SESSION,
+                Arrays.asList(
+                        new WriteRequest(
+                                OperationType.OVERWRITE_VERTEX,
+                                new DataRecord(new VertexRecordKey("person", pk), properties)),
+                        new WriteRequest(
+                                OperationType.OVERWRITE_EDGE,
+                                new DataRecord(
+                                        new EdgeRecordKey(
+                                                "knows",
+                                                new VertexRecordKey("person", pk),
+                                                new VertexRecordKey(
+                                                        "person",
+                                                        Collections.singletonMap("id", "2"))),
+                                        Collections.singletonMap("weight", "0.5")))));
+        graphWriter.writeBulk(
+                "r2",
+                SESSION,
+                Arrays.asList(
+                        BulkWriteRequest.forVertices(
+                                        OperationType.OVERWRITE_VERTEX,
+                                        "person",
+                                        Arrays.asList("name", "id"))
+                                .addRow("marko", "1"),
+                        BulkWriteRequest.forEdges(
+                                        "knows",
+                                        "person",
+                                        Arrays.asList("id"),
+                                        "person",
+                                        Arrays.asList("id"),
+                                        Arrays.asList("weight"))
+                                .addRow(1, 2, 0.5)));
+
+        assertEquals(2, batches.size());
+        OperationBatch recordBatch = batches.get(0);
+        OperationBatch bulkBatch = batches.get(1);
+        assertEquals(3, recordBatch.getOperationCount());
+        assertEquals(3, bulkBatch.getOperationCount());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(
+                    recordBatch.getOperationBlob(i).getPartitionKey(),
+                    bulkBatch.getOperationBlob(i).getPartitionKey());
+            assertEquals(
+                    recordBatch.getOperationBlob(i).getOperationType(),
+                    bulkBatch.getOperationBlob(i).getOperationType());
+        }
+    }
+
+    @Test
+    void testBulkWriteMissingPk() {
+        GraphWriter graphWriter = makeGraphWriter(new ArrayList<>());
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        graphWriter.writeBulk(
+                                "r1",
+                                SESSION,
+                                Arrays.asList(
+                                        BulkWriteRequest.forVertices(
+                                                        OperationType.OVERWRITE_VERTEX,
+                                                        "person",
+                                                        Arrays.asList("name"))
+                                                .addRow("marko"))));
+    }
+
+    @Test
+    void testSampledWriteIsTraced() {
+        List<OperationBatch> batches = new ArrayList<>();
+        Configs configs = Configs.newBuilder().put("write.trace.sample.interval", "2").build();
+        GraphWriter graphWriter = makeGraphWriter(batches, configs);
+        for (int i = 0; i < 3; i++) {
+            graphWriter.writeBulk(
+                    "r" + i,
+                    SESSION,
+                    Arrays.asList(
+                            BulkWriteRequest.forVertices(
+                                            OperationType.OVERWRITE_VERTEX,
+                                            "person",
+                                            Arrays.asList("id"))
+                                    .addRow(String.valueOf(i))));
+        }
+
+        assertEquals(3, batches.size());
+        WriteTrace trace = batches.get(0).getTrace();
+        assertNotNull(trace);
+        assertEquals("r0", trace.getRequestId());
+        assertTrue(trace.getFrontendStartMs() > 0L);
+        assertNull(batches.get(1).getTrace());
+        assertEquals("r2", batches.get(2).getTrace().getRequestId());
+        // Traced writes wait for the snapshot returned by ingestor to become visible
+        verify(snapshotCache, times(2)).addListener(eq(10L), any());
+    }
+
+    @Test
+    void testFailedWriteKeepsVertexPinned() {
+        GraphWriter graphWriter =
+                makeGraphWriter(
+                        new ArrayList<>(),
+                        Configs.newBuilder().build(),
+                        new IllegalStateException("write ingestor timeout"));
+        VertexCache vertexCache = new VertexCache(1024 * 1024, 60);
+        vertexCache.setWritesTracked(true);
+        List<ElementId> writtenIds = new ArrayList<>();
+        graphWriter.setVertexWriteListener(
+                new VertexWriteListener() {
+                    @Override
+                    public void onWriteBegin(List<ElementId> vertexIds) {
+                        writtenIds.addAll(vertexIds);
+                        vertexCache.beginWrite(vertexIds);
+                    }
+
+                    @Override
+                    public void onWriteEnd(List<ElementId> vertexIds, long snapshotId) {
+                        vertexCache.endWrite(vertexIds, snapshotId);
+                    }
+
+                    @Override
+                    public void onWriteVisible(long snapshotId) {
+                        vertexCache.advance(snapshotId);
+                    }
+                });
+
+        assertThrows(
+                MaxGraphException.class,
+                () ->
+                        graphWriter.writeBulk(
+                                "r1",
+                                SESSION,
+                                Arrays.asList(
+                                        BulkWriteRequest.forVertices(
+                                                        OperationType.OVERWRITE_VERTEX,
+                                                        "person",
+                                                        Arrays.asList("id"))
+                                                .addRow("1"))));
+
+        assertEquals(1, writtenIds.size());
+        ElementId id = writtenIds.get(0);
+        Vertex vertex = new DetachedVertex(id, "person", Collections.emptyMap());
+        vertexCache.put(vertex, 10L, 1L);
+        assertSame(vertex, vertexCache.get(id, 10L, 1L));
+        // The failed write may still be applied, so the vertex read before is not served later
+        vertexCache.advance(11L);
+        assertNull(vertexCache.get(id, 11L, 1L));
+    }
+
+    private GraphWriter makeGraphWriter(List<OperationBatch> batches) {
+        return makeGraphWriter(batches, Configs.newBuilder().build());
+    }
+
+    private GraphWriter makeGraphWriter(List<OperationBatch> batches, Configs configs) {
+        return makeGraphWriter(batches, configs, null);
+    }
+
+    /** The writes to ingestor fail with writeError if it's not null */
+    private GraphWriter makeGraphWriter(
+            List<OperationBatch> batches, Configs configs, Throwable writeError) {
+        GraphProperty idProperty = mockProperty(1, "id", DataType.INT);
+        GraphProperty nameProperty = mockProperty(2, "name", DataType.STRING);
+        GraphProperty weightProperty = mockProperty(3, "weight", DataType.DOUBLE);
+        GraphElement person = mock(GraphElement.class);
+        when(person.getLabel()).thenReturn("person");
+        when(person.getLabelId()).thenReturn(1);
+        when(person.getPropertyList()).thenReturn(Arrays.asList(idProperty, nameProperty));
+        when(person.getPkPropertyIndices()).thenReturn(Arrays.asList(0));
+        when(person.getProperty("id")).thenReturn(idProperty);
+        when(person.getProperty("name")).thenReturn(nameProperty);
+        GraphElement knows = mock(GraphElement.class);
+        when(knows.getLabel()).thenReturn("knows");
+        when(knows.getLabelId()).thenReturn(2);
+        when(knows.getProperty("weight")).thenReturn(weightProperty);
+
+        GraphDef graphDef = mock(GraphDef.class);
+        when(graphDef.getElement("person")).thenReturn(person);
+        when(graphDef.getElement("knows")).thenReturn(knows);
+        snapshotCache = mock(SnapshotCache.class);
+        when(snapshotCache.getSnapshotWithSchema())
+                .thenReturn(new SnapshotWithSchema(1L, graphDef));
+
+        MetaService metaService = mock(MetaService.class);
+        when(metaService.getQueueCount()).thenReturn(2);
+        IngestorWriteClient ingestorWriteClient = mock(IngestorWriteClient.class);
+        doAnswer(
+                        invocation -> {
+                            batches.add(invocation.getArgument(2));
+                            CompletionCallback<Long> callback = invocation.getArgument(3);
+                            if (writeError != null) {
+                                callback.onError(writeError);
+                            } else {
+                                callback.onCompleted(10L);
+                            }
+                            return null;
+                        })
+                .when(ingestorWriteClient)
+                .writeIngestorAsync(anyString(), anyInt(), any(), any());
+        RoleClients<IngestorWriteClient> clients = mock(RoleClients.class);
+        when(clients.getClient(anyInt())).thenReturn(ingestorWriteClient);
+
+        AtomicLong edgeId = new AtomicLong(0L);
+        EdgeIdGenerator edgeIdGenerator = () -> edgeId.getAndIncrement();
+        return new GraphWriter(
+                configs,
+                snapshotCache,
+                edgeIdGenerator,
+                metaService,
+                clients,
+                new MetricsCollector(configs));
+    }
+
+    private GraphProperty mockProperty(int id, String name, DataType dataType) {
+        GraphProperty property = mock(GraphProperty.class);
+        when(property.getId()).thenReturn(id);
+        when(property.getName()).thenReturn(name);
+        when(property.getDataType()).thenReturn(dataType);
+        return property;
+    }
+}
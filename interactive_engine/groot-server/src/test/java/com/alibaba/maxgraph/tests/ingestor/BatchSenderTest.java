@@ -20,6 +20,7 @@ import static org.mockito.Mockito.*;
 import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.ingestor.BatchSender;
 import com.alibaba.graphscope.groot.ingestor.StoreWriter;
+import com.alibaba.graphscope.groot.ingestor.WriteStoreResult;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
@@ -29,6 +30,8 @@ import com.alibaba.graphscope.groot.operation.VertexId;
 import com.alibaba.graphscope.groot.operation.dml.OverwriteVertexOperation;
 import com.alibaba.maxgraph.common.config.CommonConfig;
 import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.common.config.IngestorConfig;
+import com.alibaba.maxgraph.common.config.StoreConfig;
 import com.alibaba.maxgraph.sdkcommon.schema.LabelId;
 
 import org.junit.jupiter.api.Test;
@@ -36,8 +39,11 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class BatchSenderTest {
 
@@ -71,7 +77,9 @@ public class BatchSenderTest {
         CountDownLatch latch = new CountDownLatch(1);
         doAnswer(
                         invocationOnMock -> {
-                            StoreDataBatch storeBatch = invocationOnMock.getArgument(1);
+                            List<StoreDataBatch> storeBatches = invocationOnMock.getArgument(1);
+                            assertEquals(storeBatches.size(), 1);
+                            StoreDataBatch storeBatch = storeBatches.get(0);
                             CompletionCallback callback = invocationOnMock.getArgument(2);
                             assertAll(
                                     () -> assertEquals(storeBatch.getRequestId(), requestId),
@@ -94,7 +102,7 @@ public class BatchSenderTest {
                             assertEquals(
                                     dataBatch.get(1).get(-1).getOperationBlob(0),
                                     OperationBlob.MARKER_OPERATION_BLOB);
-                            callback.onCompleted(0);
+                            callback.onCompleted(new WriteStoreResult(0, 0));
                             latch.countDown();
                             return null;
                         })
@@ -111,4 +119,186 @@ public class BatchSenderTest {
 
         batchSender.stop();
     }
+
+    @Test
+    void testMergeBatchesOfSameSnapshot() throws InterruptedException {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.STORE_NODE_COUNT.getKey(), "1")
+                        .put(IngestorConfig.INGESTOR_SENDER_LINGER_MS.getKey(), "500")
+                        .build();
+        BlockingQueue<WriteRequest> requests = new LinkedBlockingQueue<>();
+        BatchSender batchSender =
+                new BatchSender(
+                        configs,
+                        mockMetaService(),
+                        mockStoreWriter(requests),
+                        new MetricsCollector(configs));
+        batchSender.start();
+
+        batchSender.asyncSendWithRetry("r1", 0, 10L, 50L, makeBatch(0L));
+        batchSender.asyncSendWithRetry("r2", 0, 10L, 51L, makeBatch(1L));
+        batchSender.asyncSendWithRetry("r3", 0, 11L, 52L, makeBatch(2L));
+
+        WriteRequest request = requests.poll(5L, TimeUnit.SECONDS);
+        assertNotNull(request);
+        List<StoreDataBatch> batches = request.batches;
+        assertEquals(2, batches.size());
+        assertAll(
+                () -> assertEquals(10L, batches.get(0).getSnapshotId()),
+                () -> assertEquals(51L, batches.get(0).getOffset()),
+                () -> assertEquals(2, batches.get(0).getSize()),
+                () -> assertEquals(2, batches.get(0).getDataBatch().size()),
+                () -> assertEquals(11L, batches.get(1).getSnapshotId()),
+                () -> assertEquals(52L, batches.get(1).getOffset()));
+        request.callback.onCompleted(new WriteStoreResult(0, 0));
+        batchSender.stop();
+    }
+
+    @Test
+    void testStoreQueueDepthLimitsBatches() throws InterruptedException {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.STORE_NODE_COUNT.getKey(), "1")
+                        .put(IngestorConfig.INGESTOR_SENDER_LINGER_MS.getKey(), "0")
+                        .put(StoreConfig.STORE_QUEUE_BUFFER_SIZE.getKey(), "4")
+                        .build();
+        BlockingQueue<WriteRequest> requests = new LinkedBlockingQueue<>();
+        BatchSender batchSender =
+                new BatchSender(
+                        configs,
+                        mockMetaService(),
+                        mockStoreWriter(requests),
+                        new MetricsCollector(configs));
+        batchSender.start();
+
+        batchSender.asyncSendWithRetry("r1", 0, 1L, 1L, makeBatch(0L));
+        WriteRequest first = requests.poll(5L, TimeUnit.SECONDS);
+        assertNotNull(first);
+        assertEquals(1, first.batches.size());
+
+        // Buffered while the first request is in flight
+        batchSender.asyncSendWithRetry("r2", 0, 2L, 2L, makeBatch(1L));
+        batchSender.asyncSendWithRetry("r3", 0, 3L, 3L, makeBatch(2L));
+        batchSender.asyncSendWithRetry("r4", 0, 4L, 4L, makeBatch(3L));
+
+        // Store has 1 free slot
+        first.callback.onCompleted(new WriteStoreResult(0, 3));
+        WriteRequest second = requests.poll(5L, TimeUnit.SECONDS);
+        assertNotNull(second);
+        assertEquals(1, second.batches.size());
+        assertEquals(2L, second.batches.get(0).getSnapshotId());
+
+        second.callback.onCompleted(new WriteStoreResult(0, 0));
+        WriteRequest third = requests.poll(5L, TimeUnit.SECONDS);
+        assertNotNull(third);
+        assertEquals(2, third.batches.size());
+        third.callback.onCompleted(new WriteStoreResult(0, 0));
+        batchSender.stop();
+    }
+
+    @Test
+    void testSlowStoreDoesNotBlock() throws InterruptedException {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.STORE_NODE_COUNT.getKey(), "2")
+                        .put(IngestorConfig.INGESTOR_SENDER_LINGER_MS.getKey(), "0")
+                        .put(IngestorConfig.INGESTOR_SENDER_BUFFER_MAX_COUNT.getKey(), "2")
+                        .build();
+        MetaService mockMetaService = mock(MetaService.class);
+        when(mockMetaService.getPartitionCount()).thenReturn(2);
+        when(mockMetaService.getStoreIdByPartition(anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        // Store 0 completes at once, store 1 never completes until the test does it
+        AtomicInteger store0Batches = new AtomicInteger();
+        BlockingQueue<WriteRequest> store1Requests = new LinkedBlockingQueue<>();
+        StoreWriter mockStoreWriter = mock(StoreWriter.class);
+        doAnswer(
+                        invocationOnMock -> {
+                            List<StoreDataBatch> batches = invocationOnMock.getArgument(1);
+                            CompletionCallback<WriteStoreResult> callback =
+                                    invocationOnMock.getArgument(2);
+                            if ((int) invocationOnMock.getArgument(0) == 0) {
+                                store0Batches.addAndGet(batches.size());
+                                callback.onCompleted(new WriteStoreResult(0, 0));
+                            } else {
+                                store1Requests.add(new WriteRequest(batches, callback));
+                            }
+                            return null;
+                        })
+                .when(mockStoreWriter)
+                .write(anyInt(), any(), any());
+
+        BatchSender batchSender =
+                new BatchSender(
+                        configs, mockMetaService, mockStoreWriter, new MetricsCollector(configs));
+        batchSender.start();
+
+        WriteRequest first = null;
+        for (int i = 0; i < 5; i++) {
+            batchSender.asyncSendWithRetry("r" + i, 0, i + 1, i + 1, makeBatch(0L, 1L));
+            if (first == null) {
+                first = store1Requests.poll(5L, TimeUnit.SECONDS);
+                assertNotNull(first);
+            }
+        }
+        // Store 1 holds the rest in its buffer, store 0 gets all of them
+        assertTrue(batchSender.isFull());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (store0Batches.get() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(5, store0Batches.get());
+
+        first.callback.onCompleted(new WriteStoreResult(0, 0));
+        WriteRequest second = store1Requests.poll(5L, TimeUnit.SECONDS);
+        assertNotNull(second);
+        assertEquals(4, second.batches.size());
+        assertFalse(batchSender.isFull());
+        second.callback.onCompleted(new WriteStoreResult(0, 0));
+        batchSender.stop();
+    }
+
+    static class WriteRequest {
+        List<StoreDataBatch> batches;
+        CompletionCallback<WriteStoreResult> callback;
+
+        WriteRequest(List<StoreDataBatch> batches, CompletionCallback<WriteStoreResult> callback) {
+            this.batches = batches;
+            this.callback = callback;
+        }
+    }
+
+    private MetaService mockMetaService() {
+        MetaService mockMetaService = mock(MetaService.class);
+        when(mockMetaService.getPartitionCount()).thenReturn(2);
+        when(mockMetaService.getStoreIdByPartition(anyInt())).thenReturn(0);
+        return mockMetaService;
+    }
+
+    private StoreWriter mockStoreWriter(BlockingQueue<WriteRequest> requests) {
+        StoreWriter mockStoreWriter = mock(StoreWriter.class);
+        doAnswer(
+                        invocationOnMock -> {
+                            requests.add(
+                                    new WriteRequest(
+                                            invocationOnMock.getArgument(1),
+                                            invocationOnMock.getArgument(2)));
+                            return null;
+                        })
+                .when(mockStoreWriter)
+                .write(anyInt(), any(), any());
+        return mockStoreWriter;
+    }
+
+    private OperationBatch makeBatch(long... vertexIds) {
+        OperationBatch.Builder builder = OperationBatch.newBuilder();
+        for (long vertexId : vertexIds) {
+            builder.addOperationBlob(
+                    new OverwriteVertexOperation(
+                                    new VertexId(vertexId), new LabelId(0), Collections.EMPTY_MAP)
+                            .toBlob());
+        }
+        return builder.build();
+    }
 }
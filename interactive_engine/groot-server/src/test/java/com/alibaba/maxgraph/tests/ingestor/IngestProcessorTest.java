@@ -13,11 +13,13 @@
  */
 package com.alibaba.maxgraph.tests.ingestor;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import com.alibaba.graphscope.groot.ingestor.BatchSender;
 import com.alibaba.graphscope.groot.ingestor.IngestCallback;
 import com.alibaba.graphscope.groot.ingestor.IngestProcessor;
+import com.alibaba.graphscope.groot.ingestor.IngestService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
 import com.alibaba.graphscope.groot.wal.LogReader;
@@ -25,10 +27,12 @@ import com.alibaba.graphscope.groot.wal.LogService;
 import com.alibaba.graphscope.groot.wal.LogWriter;
 import com.alibaba.graphscope.groot.wal.ReadLogEntry;
 import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.compiler.api.exception.IngestRejectException;
 
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class IngestProcessorTest {
@@ -46,7 +50,8 @@ public class IngestProcessorTest {
 
         LogWriter mockLogWriter = mock(LogWriter.class);
         when(mockLogService.createWriter(queueId)).thenReturn(mockLogWriter);
-        when(mockLogWriter.append(any())).thenReturn(tailOffset + 3);
+        when(mockLogWriter.appendAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(tailOffset + 3));
 
         OperationBatch emptyBatch = OperationBatch.newBuilder().build();
         long readSnapshotId = 5L;
@@ -91,4 +96,45 @@ public class IngestProcessorTest {
         ingestProcessor.stop();
         verify(mockLogWriter, timeout(5000L)).close();
     }
+
+    @Test
+    void testRejectWhenSendBufferFull() throws IOException {
+        int queueId = 0;
+        Configs configs = Configs.newBuilder().build();
+        LogService mockLogService = mock(LogService.class);
+        LogReader mockLogReader = mock(LogReader.class);
+        when(mockLogService.createReader(eq(queueId), anyLong())).thenReturn(mockLogReader);
+        LogWriter mockLogWriter = mock(LogWriter.class);
+        when(mockLogService.createWriter(queueId)).thenReturn(mockLogWriter);
+        when(mockLogWriter.appendAsync(any())).thenReturn(CompletableFuture.completedFuture(1L));
+
+        BatchSender mockBatchSender = mock(BatchSender.class);
+        when(mockBatchSender.isFull()).thenReturn(true);
+        AtomicLong ingestSnapshotId = new AtomicLong(10L);
+        IngestProcessor ingestProcessor =
+                new IngestProcessor(
+                        configs,
+                        mockLogService,
+                        mockBatchSender,
+                        queueId,
+                        ingestSnapshotId,
+                        new MetricsCollector(configs));
+        ingestProcessor.start();
+
+        IngestCallback mockIngestCallback = mock(IngestCallback.class);
+        assertThrows(
+                IngestRejectException.class,
+                () ->
+                        ingestProcessor.ingestBatch(
+                                "data", OperationBatch.newBuilder().build(), mockIngestCallback));
+
+        // Markers still go through to keep the snapshot advancing
+        ingestProcessor.ingestBatch("marker", IngestService.MARKER_BATCH, mockIngestCallback);
+        verify(mockBatchSender, timeout(5000L))
+                .asyncSendWithRetry(
+                        "marker", queueId, ingestSnapshotId.get(), 1L, IngestService.MARKER_BATCH);
+        verify(mockIngestCallback, timeout(5000L)).onSuccess(ingestSnapshotId.get());
+
+        ingestProcessor.stop();
+    }
 }
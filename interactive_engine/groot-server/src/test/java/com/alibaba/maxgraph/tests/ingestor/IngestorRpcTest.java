@@ -25,6 +25,7 @@ import com.alibaba.graphscope.groot.ingestor.IngestService;
 import com.alibaba.graphscope.groot.ingestor.IngestorSnapshotService;
 import com.alibaba.graphscope.groot.ingestor.IngestorWriteService;
 import com.alibaba.graphscope.groot.ingestor.StoreWriteClient;
+import com.alibaba.graphscope.groot.ingestor.WriteStoreResult;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
 import com.alibaba.graphscope.groot.operation.StoreDataBatch;
 import com.alibaba.maxgraph.proto.groot.AdvanceIngestSnapshotIdRequest;
@@ -39,6 +40,7 @@ import com.alibaba.maxgraph.proto.groot.WriteStoreResponse;
 import io.grpc.stub.StreamObserver;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Arrays;
 import java.util.List;
@@ -117,13 +119,18 @@ public class IngestorRpcTest {
                         invocation -> {
                             StreamObserver<WriteStoreResponse> observer = invocation.getArgument(1);
                             observer.onNext(
-                                    WriteStoreResponse.newBuilder().setSuccess(true).build());
+                                    WriteStoreResponse.newBuilder()
+                                            .setSuccess(true)
+                                            .setQueueDepth(3)
+                                            .build());
                             return null;
                         })
                 .when(stub)
                 .writeStore(any(), any());
         client.writeStore(
                 Arrays.asList(StoreDataBatch.newBuilder().requestId("test_req").build()), callback);
-        verify(callback).onCompleted(10);
+        ArgumentCaptor<WriteStoreResult> captor = ArgumentCaptor.forClass(WriteStoreResult.class);
+        verify(callback).onCompleted(captor.capture());
+        assertEquals(3, captor.getValue().getQueueDepth());
     }
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.maxgraph.tests.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.alibaba.graphscope.groot.operation.OperationBatch;
+import com.alibaba.graphscope.groot.operation.OperationBlob;
+import com.alibaba.graphscope.groot.operation.OperationType;
+import com.alibaba.graphscope.groot.store.jna.JnaGraphStore;
+import com.alibaba.maxgraph.proto.groot.OperationBatchPb;
+import com.google.protobuf.ByteString;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class JnaGraphStoreTest {
+
+    private static OperationBatchPb makeBatch(int dataBytes) {
+        return OperationBatch.newBuilder()
+                .addOperationBlob(OperationBlob.MARKER_OPERATION_BLOB)
+                .addOperationBlob(
+                        new OperationBlob(
+                                1L,
+                                OperationType.OVERWRITE_VERTEX,
+                                ByteString.copyFrom(new byte[dataBytes])))
+                .build()
+                .toProto();
+    }
+
+    @Test
+    void testEncodeRoundTrip() throws IOException {
+        OperationBatchPb small = makeBatch(16);
+        ByteBuffer buffer = JnaGraphStore.encodeToWriteBuffer(small);
+        assertTrue(buffer.isDirect());
+        assertEquals(small.getSerializedSize(), buffer.remaining());
+        assertEquals(small, OperationBatchPb.parseFrom(ByteString.copyFrom(buffer.duplicate())));
+
+        // grows past the initial capacity
+        OperationBatchPb large = makeBatch(3 * 1024 * 1024);
+        ByteBuffer largeBuffer = JnaGraphStore.encodeToWriteBuffer(large);
+        assertTrue(largeBuffer.isDirect());
+        assertEquals(large.getSerializedSize(), largeBuffer.remaining());
+        assertEquals(
+                large, OperationBatchPb.parseFrom(ByteString.copyFrom(largeBuffer.duplicate())));
+
+        // the grown buffer is reused by the thread
+        ByteBuffer reused = JnaGraphStore.encodeToWriteBuffer(small);
+        assertSame(largeBuffer, reused);
+        assertEquals(small, OperationBatchPb.parseFrom(ByteString.copyFrom(reused.duplicate())));
+    }
+
+    @Test
+    void testEncodeOversizedBatch() throws IOException {
+        OperationBatchPb oversized = makeBatch(JnaGraphStore.MAX_WRITE_BUFFER_BYTES);
+        assertNull(JnaGraphStore.encodeToWriteBuffer(oversized));
+    }
+}
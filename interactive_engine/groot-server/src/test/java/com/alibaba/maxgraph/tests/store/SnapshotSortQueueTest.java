@@ -14,6 +14,8 @@
 package com.alibaba.maxgraph.tests.store;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +26,10 @@ import com.alibaba.maxgraph.common.config.Configs;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 public class SnapshotSortQueueTest {
 
     @Test
@@ -90,4 +96,40 @@ public class SnapshotSortQueueTest {
         assertEquals(entry.getQueueId(), 0);
         assertEquals(entry.getSnapshotId(), 7L);
     }
+
+    @Test
+    void testWakeupOnWatermark() throws Exception {
+        Configs configs = Configs.newBuilder().put("store.queue.wait.ms", "10000").build();
+        MetaService mockMetaService = mock(MetaService.class);
+        when(mockMetaService.getQueueCount()).thenReturn(2);
+        SnapshotSortQueue snapshotSortQueue = new SnapshotSortQueue(configs, mockMetaService);
+
+        snapshotSortQueue.offerQueue(
+                0, StoreDataBatch.newBuilder().snapshotId(3L).queueId(0).build());
+        // Queue 1 has not received anything, so it may still receive snapshot 3
+        assertEquals(Arrays.asList(0L, -1L), snapshotSortQueue.queueSnapshotLags());
+
+        CompletableFuture<StoreDataBatch> future =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return snapshotSortQueue.poll();
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Thread.sleep(100L);
+        assertFalse(future.isDone());
+
+        // A marker of a later snapshot on queue 1 tells snapshot 3 of queue 0 is complete
+        long offerTime = System.nanoTime();
+        snapshotSortQueue.offerQueue(
+                1, StoreDataBatch.newBuilder().snapshotId(4L).queueId(1).build());
+        StoreDataBatch entry = future.get(5, TimeUnit.SECONDS);
+        assertTrue(System.nanoTime() - offerTime < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(0, entry.getQueueId());
+        assertEquals(3L, entry.getSnapshotId());
+        assertEquals(Arrays.asList(1L, 0L), snapshotSortQueue.queueSnapshotLags());
+        assertEquals(1, snapshotSortQueue.size());
+    }
 }
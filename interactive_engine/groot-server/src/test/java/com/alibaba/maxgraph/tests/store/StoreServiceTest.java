@@ -14,8 +14,11 @@
 package com.alibaba.maxgraph.tests.store;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
@@ -25,12 +28,17 @@ import com.alibaba.graphscope.groot.store.GraphPartition;
 import com.alibaba.graphscope.groot.store.StoreService;
 import com.alibaba.maxgraph.common.config.CommonConfig;
 import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.common.config.StoreConfig;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public class StoreServiceTest {
 
@@ -66,4 +74,124 @@ public class StoreServiceTest {
         spyStoreService.stop();
         verify(mockGraphPartition).close();
     }
+
+    @Test
+    void testSlowPartitionNotBlockOthers() throws Exception {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.NODE_IDX.getKey(), "0")
+                        .put(StoreConfig.STORE_WRITE_THREAD_COUNT.getKey(), "2")
+                        .build();
+
+        MetaService mockMetaService = mock(MetaService.class);
+        when(mockMetaService.getPartitionsByStoreId(0)).thenReturn(Arrays.asList(0, 1));
+
+        StoreService spyStoreService =
+                spy(new StoreService(configs, mockMetaService, new MetricsCollector(configs)));
+
+        CountDownLatch slowLatch = new CountDownLatch(1);
+        GraphPartition slowPartition = mock(GraphPartition.class);
+        when(slowPartition.writeBatch(anyLong(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            slowLatch.await();
+                            return false;
+                        });
+        GraphPartition fastPartition = mock(GraphPartition.class);
+        doReturn(slowPartition).when(spyStoreService).makeGraphPartition(any(), eq(0));
+        doReturn(fastPartition).when(spyStoreService).makeGraphPartition(any(), eq(1));
+        spyStoreService.start();
+
+        CompletableFuture<Boolean> first = new CompletableFuture<>();
+        spyStoreService.asyncBatchWrite(
+                StoreDataBatch.newBuilder()
+                        .snapshotId(1L)
+                        .addOperation(0, OperationBlob.MARKER_OPERATION_BLOB)
+                        .addOperation(1, OperationBlob.MARKER_OPERATION_BLOB)
+                        .build(),
+                new FutureCallback(first));
+        CompletableFuture<Boolean> second = new CompletableFuture<>();
+        spyStoreService.asyncBatchWrite(
+                StoreDataBatch.newBuilder()
+                        .snapshotId(2L)
+                        .addOperation(1, OperationBlob.MARKER_OPERATION_BLOB)
+                        .build(),
+                new FutureCallback(second));
+
+        // Later snapshot on partition 1 is applied while partition 0 is still busy
+        assertFalse(second.get(5L, TimeUnit.SECONDS));
+        verify(fastPartition, timeout(5000L)).writeBatch(eq(2L), any());
+        assertFalse(first.isDone());
+
+        slowLatch.countDown();
+        assertFalse(first.get(5L, TimeUnit.SECONDS));
+        InOrder inOrder = inOrder(fastPartition);
+        inOrder.verify(fastPartition).writeBatch(eq(1L), any());
+        inOrder.verify(fastPartition).writeBatch(eq(2L), any());
+        spyStoreService.stop();
+    }
+
+    @Test
+    void testRetryNotHoldWriteThread() throws Exception {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.NODE_IDX.getKey(), "0")
+                        .put(StoreConfig.STORE_WRITE_THREAD_COUNT.getKey(), "1")
+                        .build();
+
+        MetaService mockMetaService = mock(MetaService.class);
+        when(mockMetaService.getPartitionsByStoreId(0)).thenReturn(Arrays.asList(0, 1));
+
+        StoreService spyStoreService =
+                spy(new StoreService(configs, mockMetaService, new MetricsCollector(configs)));
+
+        GraphPartition failedPartition = mock(GraphPartition.class);
+        when(failedPartition.writeBatch(anyLong(), any()))
+                .thenThrow(new IOException("write failed"))
+                .thenReturn(true);
+        GraphPartition otherPartition = mock(GraphPartition.class);
+        doReturn(failedPartition).when(spyStoreService).makeGraphPartition(any(), eq(0));
+        doReturn(otherPartition).when(spyStoreService).makeGraphPartition(any(), eq(1));
+        spyStoreService.start();
+
+        CompletableFuture<Boolean> first = new CompletableFuture<>();
+        spyStoreService.asyncBatchWrite(
+                StoreDataBatch.newBuilder()
+                        .snapshotId(1L)
+                        .addOperation(0, OperationBlob.MARKER_OPERATION_BLOB)
+                        .build(),
+                new FutureCallback(first));
+        CompletableFuture<Boolean> second = new CompletableFuture<>();
+        spyStoreService.asyncBatchWrite(
+                StoreDataBatch.newBuilder()
+                        .snapshotId(2L)
+                        .addOperation(1, OperationBlob.MARKER_OPERATION_BLOB)
+                        .build(),
+                new FutureCallback(second));
+
+        // The only write thread is not held by the partition waiting for retry
+        assertFalse(second.get(500L, TimeUnit.MILLISECONDS));
+        assertFalse(first.isDone());
+        assertTrue(first.get(5L, TimeUnit.SECONDS));
+        verify(failedPartition, times(2)).writeBatch(eq(1L), any());
+        spyStoreService.stop();
+    }
+
+    private static class FutureCallback implements CompletionCallback<Boolean> {
+        private CompletableFuture<Boolean> future;
+
+        FutureCallback(CompletableFuture<Boolean> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void onCompleted(Boolean res) {
+            future.complete(res);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
 }
@@ -15,6 +15,7 @@ package com.alibaba.maxgraph.tests.store;
 
 import static org.mockito.Mockito.*;
 
+import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.StoreDataBatch;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class WriterAgentTest {
 
@@ -40,6 +42,14 @@ public class WriterAgentTest {
                         .put(StoreConfig.STORE_COMMIT_INTERVAL_MS.getKey(), "10")
                         .build();
         StoreService mockStoreService = mock(StoreService.class);
+        doAnswer(
+                        invocation -> {
+                            CompletionCallback<Boolean> callback = invocation.getArgument(1);
+                            callback.onCompleted(false);
+                            return null;
+                        })
+                .when(mockStoreService)
+                .asyncBatchWrite(any(), any());
 
         MetaService mockMetaService = mock(MetaService.class);
         when(mockMetaService.getQueueCount()).thenReturn(1);
@@ -61,10 +71,111 @@ public class WriterAgentTest {
                 StoreDataBatch.newBuilder().snapshotId(2L).queueId(0).offset(10L).build();
         writerAgent.writeStore(storeDataBatch);
 
-        verify(mockStoreService, timeout(5000L).times(1)).batchWrite(storeDataBatch);
+        verify(mockStoreService, timeout(5000L).times(1))
+                .asyncBatchWrite(eq(storeDataBatch), any());
         verify(mockSnapshotCommitter, timeout(5000L).times(1))
                 .commitSnapshotId(0, 1L, 0L, Collections.singletonList(10L));
 
         writerAgent.stop();
     }
+
+    @Test
+    void testFailedBatchReleased() throws InterruptedException {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.NODE_IDX.getKey(), "0")
+                        .put(StoreConfig.STORE_COMMIT_INTERVAL_MS.getKey(), "10")
+                        .put(StoreConfig.STORE_WRITE_INFLIGHT_BATCH_COUNT.getKey(), "1")
+                        .build();
+        StoreService mockStoreService = mock(StoreService.class);
+        doAnswer(
+                        invocation -> {
+                            StoreDataBatch batch = invocation.getArgument(0);
+                            CompletionCallback<Boolean> callback = invocation.getArgument(1);
+                            if (batch.getSnapshotId() == 2L) {
+                                callback.onError(new IllegalStateException("write failed"));
+                            } else {
+                                callback.onCompleted(false);
+                            }
+                            return null;
+                        })
+                .when(mockStoreService)
+                .asyncBatchWrite(any(), any());
+
+        MetaService mockMetaService = mock(MetaService.class);
+        when(mockMetaService.getQueueCount()).thenReturn(1);
+
+        SnapshotCommitter mockSnapshotCommitter = mock(SnapshotCommitter.class);
+
+        WriterAgent writerAgent =
+                new WriterAgent(
+                        configs,
+                        mockStoreService,
+                        mockMetaService,
+                        mockSnapshotCommitter,
+                        new MetricsCollector(configs));
+        writerAgent.init(0L);
+
+        writerAgent.start();
+
+        StoreDataBatch failedBatch =
+                StoreDataBatch.newBuilder().snapshotId(2L).queueId(0).offset(10L).build();
+        StoreDataBatch nextBatch =
+                StoreDataBatch.newBuilder().snapshotId(3L).queueId(0).offset(11L).build();
+        writerAgent.writeStore(failedBatch);
+        writerAgent.writeStore(nextBatch);
+
+        // The permit of the failed batch is given back, but no snapshot passes it
+        verify(mockStoreService, timeout(5000L).times(1)).asyncBatchWrite(eq(nextBatch), any());
+        verify(mockSnapshotCommitter, after(200L).never())
+                .commitSnapshotId(anyInt(), anyLong(), anyLong(), any());
+
+        writerAgent.stop();
+    }
+
+    @Test
+    void testBatchCompletedAfterStop() throws InterruptedException {
+        Configs configs =
+                Configs.newBuilder()
+                        .put(CommonConfig.NODE_IDX.getKey(), "0")
+                        .put(StoreConfig.STORE_COMMIT_INTERVAL_MS.getKey(), "10")
+                        .build();
+        AtomicReference<CompletionCallback<Boolean>> callbackRef = new AtomicReference<>();
+        StoreService mockStoreService = mock(StoreService.class);
+        doAnswer(
+                        invocation -> {
+                            callbackRef.set(invocation.getArgument(1));
+                            return null;
+                        })
+                .when(mockStoreService)
+                .asyncBatchWrite(any(), any());
+
+        MetaService mockMetaService = mock(MetaService.class);
+        when(mockMetaService.getQueueCount()).thenReturn(1);
+
+        SnapshotCommitter mockSnapshotCommitter = mock(SnapshotCommitter.class);
+
+        WriterAgent writerAgent =
+                new WriterAgent(
+                        configs,
+                        mockStoreService,
+                        mockMetaService,
+                        mockSnapshotCommitter,
+                        new MetricsCollector(configs));
+        writerAgent.init(0L);
+
+        writerAgent.start();
+
+        StoreDataBatch storeDataBatch =
+                StoreDataBatch.newBuilder().snapshotId(2L).queueId(0).offset(10L).build();
+        writerAgent.writeStore(storeDataBatch);
+        verify(mockStoreService, timeout(5000L).times(1))
+                .asyncBatchWrite(eq(storeDataBatch), any());
+
+        writerAgent.stop();
+        // The batch still in flight completes after the commit executor is shut down
+        callbackRef.get().onCompleted(false);
+        verify(mockSnapshotCommitter, after(200L).never())
+                .commitSnapshotId(anyInt(), anyLong(), anyLong(), any());
+    }
 }
@@ -105,7 +105,7 @@ public class SnapshotCache {
                 for (SnapshotListener listener : listeners) {
                     try {
                         listener.onSnapshotAvailable();
-                        logger.info("notify listener for snapshot id [" + listenSnapshotId + "]");
+                        logger.debug("notify listener for snapshot id [" + listenSnapshotId + "]");
                     } catch (Exception e) {
                         logger.warn(
                                 "trigger snapshotListener failed. snapshotId [" + snapshotId + "]");
@@ -1,23 +1,35 @@
 package com.alibaba.graphscope.groot.coordinator;
 
 import com.alibaba.graphscope.groot.meta.MetaStore;
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
 import com.alibaba.maxgraph.compiler.api.exception.MaxGraphException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 
+/**
+ * Allocates ranges of ids and persists the tail id to {@link MetaStore}. An allocated range is
+ * [startId, startId + allocateSize). Concurrent allocations are persisted by a single write to the
+ * meta store.
+ */
 public class IdAllocator {
 
     public static final String ID_ALLOCATE_INFO_PATH = "id_allocate_info";
 
     private MetaStore metaStore;
     private ObjectMapper objectMapper;
-    private volatile long tailId;
+    private int legacyAllocateSize;
+    private long tailId;
 
-    public IdAllocator(MetaStore metaStore) {
+    private Object persistLock = new Object();
+    private volatile long persistedTailId;
+
+    public IdAllocator(Configs configs, MetaStore metaStore) {
         this.metaStore = metaStore;
         this.objectMapper = new ObjectMapper();
+        this.legacyAllocateSize = CommonConfig.ID_ALLOCATE_SIZE.get(configs);
     }
 
     public void start() {
@@ -38,14 +50,48 @@ public class IdAllocator {
         }
         byte[] b = this.metaStore.read(ID_ALLOCATE_INFO_PATH);
         long tailId = this.objectMapper.readValue(b, Long.class);
-        this.tailId = tailId;
+        // Older versions handed out [tailId, tailId + allocateSize) beyond the persisted tailId
+        synchronized (this) {
+            this.tailId = tailId + this.legacyAllocateSize;
+        }
+        this.persistedTailId = tailId;
+    }
+
+    /**
+     * @return start id of the allocated range
+     */
+    public long allocate(int allocateSize) throws IOException {
+        if (allocateSize <= 0) {
+            throw new IllegalArgumentException("invalid allocateSize [" + allocateSize + "]");
+        }
+        long startId;
+        synchronized (this) {
+            startId = this.tailId;
+            this.tailId = startId + allocateSize;
+        }
+        waitPersisted(startId + allocateSize);
+        return startId;
     }
 
-    public synchronized long allocate(int allocateSize) throws IOException {
-        long newTailId = this.tailId + allocateSize;
-        persistTailId(newTailId);
-        this.tailId = newTailId;
-        return newTailId;
+    /**
+     * Make sure the tail id is persisted up to the given id. The first caller persists the tail id
+     * of all ranges allocated so far, so the callers waiting behind it return without writing.
+     */
+    private void waitPersisted(long tailId) throws IOException {
+        if (this.persistedTailId >= tailId) {
+            return;
+        }
+        synchronized (this.persistLock) {
+            if (this.persistedTailId >= tailId) {
+                return;
+            }
+            long newTailId;
+            synchronized (this) {
+                newTailId = this.tailId;
+            }
+            persistTailId(newTailId);
+            this.persistedTailId = newTailId;
+        }
     }
 
     private void persistTailId(long tailId) throws IOException {
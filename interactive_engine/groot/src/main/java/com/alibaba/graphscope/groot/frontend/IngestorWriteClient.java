@@ -16,6 +16,7 @@ package com.alibaba.graphscope.groot.frontend;
 import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.operation.BatchId;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
+import com.alibaba.graphscope.groot.operation.WriteTrace;
 import com.alibaba.graphscope.groot.rpc.RpcClient;
 import com.alibaba.maxgraph.proto.groot.IngestorWriteGrpc;
 import com.alibaba.maxgraph.proto.groot.WriteIngestorRequest;
@@ -41,14 +42,23 @@ public class IngestorWriteClient extends RpcClient {
     }
 
     public BatchId writeIngestor(String requestId, int queueId, OperationBatch operationBatch) {
-        WriteIngestorRequest request =
+        WriteIngestorRequest request = makeRequest(requestId, queueId, operationBatch);
+        WriteIngestorResponse response = this.stub.writeIngestor(request);
+        return new BatchId(response.getSnapshotId());
+    }
+
+    private WriteIngestorRequest makeRequest(
+            String requestId, int queueId, OperationBatch operationBatch) {
+        WriteIngestorRequest.Builder builder =
                 WriteIngestorRequest.newBuilder()
                         .setRequestId(requestId)
                         .setQueueId(queueId)
-                        .setOperationBatch(operationBatch.toProto())
-                        .build();
-        WriteIngestorResponse response = this.stub.writeIngestor(request);
-        return new BatchId(response.getSnapshotId());
+                        .setOperationBatch(operationBatch.toProto());
+        WriteTrace trace = operationBatch.getTrace();
+        if (trace != null) {
+            builder.setTrace(trace.toProto());
+        }
+        return builder.build();
     }
 
     public void writeIngestorAsync(
@@ -56,12 +66,7 @@ public class IngestorWriteClient extends RpcClient {
             int queueId,
             OperationBatch operationBatch,
             CompletionCallback<Long> callback) {
-        WriteIngestorRequest request =
-                WriteIngestorRequest.newBuilder()
-                        .setRequestId(requestId)
-                        .setQueueId(queueId)
-                        .setOperationBatch(operationBatch.toProto())
-                        .build();
+        WriteIngestorRequest request = makeRequest(requestId, queueId, operationBatch);
         this.asyncStub.writeIngestor(
                 request,
                 new StreamObserver<WriteIngestorResponse>() {
@@ -0,0 +1,140 @@
+package com.alibaba.graphscope.groot.frontend.write;
+
+import com.alibaba.graphscope.groot.operation.OperationType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Many records of one label in a columnar layout. Property names are given once as columns and each
+ * row holds the values in the same order, so that the schema is resolved once for all the rows.
+ *
+ * <p>An edge row starts with the primary key values of the source vertex, then the primary key
+ * values of the destination vertex, followed by the edge properties. A null value means the
+ * property is absent in that row.
+ */
+public class BulkWriteRequest {
+
+    private OperationType operationType;
+    private String label;
+    private String srcLabel;
+    private List<String> srcPkColumns;
+    private String dstLabel;
+    private List<String> dstPkColumns;
+    private List<String> columns;
+    private int rowLength;
+    private List<Object[]> rows;
+
+    private BulkWriteRequest(
+            OperationType operationType,
+            String label,
+            String srcLabel,
+            List<String> srcPkColumns,
+            String dstLabel,
+            List<String> dstPkColumns,
+            List<String> columns) {
+        this.operationType = operationType;
+        this.label = label;
+        this.srcLabel = srcLabel;
+        this.srcPkColumns = srcPkColumns;
+        this.dstLabel = dstLabel;
+        this.dstPkColumns = dstPkColumns;
+        this.columns = columns;
+        this.rowLength = srcPkColumns.size() + dstPkColumns.size() + columns.size();
+        this.rows = new ArrayList<>();
+    }
+
+    /**
+     * @param operationType one of OVERWRITE_VERTEX, UPDATE_VERTEX and DELETE_VERTEX
+     * @param columns property names, must contain all primary keys of the label
+     */
+    public static BulkWriteRequest forVertices(
+            OperationType operationType, String label, List<String> columns) {
+        switch (operationType) {
+            case OVERWRITE_VERTEX:
+            case UPDATE_VERTEX:
+            case DELETE_VERTEX:
+                return new BulkWriteRequest(
+                        operationType,
+                        label,
+                        null,
+                        Collections.emptyList(),
+                        null,
+                        Collections.emptyList(),
+                        columns);
+            default:
+                throw new IllegalArgumentException(
+                        "Invalid bulk vertex operationType [" + operationType + "]");
+        }
+    }
+
+    /** Insert edges of the given kind, the edge ids are allocated by frontend. */
+    public static BulkWriteRequest forEdges(
+            String label,
+            String srcLabel,
+            List<String> srcPkColumns,
+            String dstLabel,
+            List<String> dstPkColumns,
+            List<String> columns) {
+        return new BulkWriteRequest(
+                OperationType.OVERWRITE_EDGE,
+                label,
+                srcLabel,
+                srcPkColumns,
+                dstLabel,
+                dstPkColumns,
+                columns);
+    }
+
+    public BulkWriteRequest addRow(Object... values) {
+        if (values.length != this.rowLength) {
+            throw new IllegalArgumentException(
+                    "expect ["
+                            + this.rowLength
+                            + "] values in a row of ["
+                            + this.label
+                            + "], but was ["
+                            + values.length
+                            + "]");
+        }
+        this.rows.add(values);
+        return this;
+    }
+
+    public boolean isEdge() {
+        return this.operationType == OperationType.OVERWRITE_EDGE;
+    }
+
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getSrcLabel() {
+        return srcLabel;
+    }
+
+    public List<String> getSrcPkColumns() {
+        return srcPkColumns;
+    }
+
+    public String getDstLabel() {
+        return dstLabel;
+    }
+
+    public List<String> getDstPkColumns() {
+        return dstPkColumns;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public List<Object[]> getRows() {
+        return rows;
+    }
+}
@@ -1,23 +1,54 @@
 package com.alibaba.graphscope.groot.frontend.write;
 
+import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.rpc.ChannelManager;
 import com.alibaba.graphscope.groot.rpc.RoleClients;
 import com.alibaba.maxgraph.common.RoleType;
 import com.alibaba.maxgraph.common.config.CommonConfig;
 import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.compiler.api.exception.MaxGraphException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Generates edge ids from id ranges allocated by coordinator. The next range is fetched
+ * asynchronously once half of the current range is used, so writers rarely wait for the
+ * coordinator. The range size follows the allocation rate, aiming at one allocation per {@link
+ * CommonConfig#ID_ALLOCATE_TARGET_INTERVAL_MS}.
+ */
 public class DefaultEdgeIdGenerator extends RoleClients<IdAllocateClient>
         implements EdgeIdGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(DefaultEdgeIdGenerator.class);
+
+    private int minAllocateSize;
+    private int maxAllocateSize;
+    private long targetIntervalNano;
 
-    private int idAllocateSize;
     private AtomicLong currentId = new AtomicLong(0);
     private volatile long upper = 0L;
+    private volatile long prefetchId = -1L;
+
+    // Guarded by this
+    private int allocateSize;
+    private int currentRangeSize;
+    private long currentRangeStartNano;
+    private CompletableFuture<Long> nextRange;
+    private int nextRangeSize;
 
     public DefaultEdgeIdGenerator(Configs configs, ChannelManager channelManager) {
         super(channelManager, RoleType.COORDINATOR, IdAllocateClient::new);
-        this.idAllocateSize = CommonConfig.ID_ALLOCATE_SIZE.get(configs);
+        this.minAllocateSize = CommonConfig.ID_ALLOCATE_SIZE_MIN.get(configs);
+        this.maxAllocateSize = CommonConfig.ID_ALLOCATE_SIZE_MAX.get(configs);
+        this.targetIntervalNano =
+                TimeUnit.MILLISECONDS.toNanos(
+                        CommonConfig.ID_ALLOCATE_TARGET_INTERVAL_MS.get(configs));
+        this.allocateSize = clampAllocateSize(CommonConfig.ID_ALLOCATE_SIZE.get(configs));
     }
 
     @Override
@@ -25,19 +56,80 @@ public class DefaultEdgeIdGenerator extends RoleClients<IdAllocateClient>
         long newId = currentId.getAndIncrement();
         long currentUpper = this.upper;
         if (newId < currentUpper) {
+            if (newId == this.prefetchId) {
+                prefetchNextRange();
+            }
             return newId;
         }
         synchronized (this) {
             if (currentUpper == this.upper) {
-                allocateNewIds();
+                switchToNextRange();
             }
         }
         return getNextId();
     }
 
-    private void allocateNewIds() {
-        long startId = getClient(0).allocateId(this.idAllocateSize);
+    private synchronized void prefetchNextRange() {
+        if (this.nextRange != null) {
+            return;
+        }
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        this.nextRange = future;
+        this.nextRangeSize = this.allocateSize;
+        getClient(0)
+                .allocateIdAsync(
+                        this.nextRangeSize,
+                        new CompletionCallback<Long>() {
+                            @Override
+                            public void onCompleted(Long res) {
+                                future.complete(res);
+                            }
+
+                            @Override
+                            public void onError(Throwable t) {
+                                future.completeExceptionally(t);
+                            }
+                        });
+    }
+
+    /** Must be called with the monitor held. */
+    private void switchToNextRange() {
+        long now = System.nanoTime();
+        if (this.currentRangeStartNano > 0L) {
+            adaptAllocateSize(now - this.currentRangeStartNano);
+        }
+        long startId = -1L;
+        int rangeSize = this.allocateSize;
+        CompletableFuture<Long> next = this.nextRange;
+        this.nextRange = null;
+        if (next != null) {
+            rangeSize = this.nextRangeSize;
+            try {
+                startId = next.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MaxGraphException(e);
+            } catch (ExecutionException e) {
+                logger.warn("prefetch id range failed, will allocate again", e);
+                rangeSize = this.allocateSize;
+            }
+        }
+        if (startId < 0L) {
+            startId = getClient(0).allocateId(rangeSize);
+        }
+        this.currentRangeSize = rangeSize;
+        this.currentRangeStartNano = now;
         this.currentId.set(startId);
-        this.upper = startId + this.idAllocateSize;
+        this.prefetchId = startId + rangeSize / 2;
+        this.upper = startId + rangeSize;
+    }
+
+    private void adaptAllocateSize(long elapsedNano) {
+        double idsPerNano = (double) this.currentRangeSize / Math.max(elapsedNano, 1L);
+        this.allocateSize = clampAllocateSize((long) (idsPerNano * this.targetIntervalNano));
+    }
+
+    private int clampAllocateSize(long size) {
+        return (int) Math.max(this.minAllocateSize, Math.min(this.maxAllocateSize, size));
     }
 }
@@ -4,14 +4,18 @@ import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.SnapshotCache;
 import com.alibaba.graphscope.groot.frontend.IngestorWriteClient;
 import com.alibaba.graphscope.groot.meta.MetaService;
+import com.alibaba.graphscope.groot.metrics.HistogramMetric;
 import com.alibaba.graphscope.groot.metrics.MetricsAgent;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.EdgeId;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
 import com.alibaba.graphscope.groot.operation.OperationType;
 import com.alibaba.graphscope.groot.operation.VertexId;
+import com.alibaba.graphscope.groot.operation.WriteTrace;
 import com.alibaba.graphscope.groot.operation.dml.*;
 import com.alibaba.graphscope.groot.rpc.RoleClients;
+import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.common.config.FrontendConfig;
 import com.alibaba.maxgraph.common.util.WriteSessionUtil;
 import com.alibaba.maxgraph.compiler.api.exception.MaxGraphException;
 import com.alibaba.maxgraph.compiler.api.exception.PropertyDefNotFoundException;
@@ -21,16 +25,23 @@ import com.alibaba.maxgraph.compiler.api.schema.GraphProperty;
 import com.alibaba.maxgraph.compiler.api.schema.GraphSchema;
 import com.alibaba.maxgraph.sdkcommon.common.EdgeRecordKey;
 import com.alibaba.maxgraph.sdkcommon.common.VertexRecordKey;
+import com.alibaba.maxgraph.sdkcommon.graph.CompositeId;
+import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
 import com.alibaba.maxgraph.sdkcommon.schema.EdgeKind;
 import com.alibaba.maxgraph.sdkcommon.schema.LabelId;
 import com.alibaba.maxgraph.sdkcommon.schema.PropertyValue;
 import com.alibaba.maxgraph.sdkcommon.util.PkHashUtils;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -38,12 +49,15 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class GraphWriter implements MetricsAgent {
+    private static final Logger logger = LoggerFactory.getLogger(GraphWriter.class);
 
     public static final String WRITE_REQUESTS_TOTAL = "write.requests.total";
     public static final String WRITE_REQUESTS_PER_SECOND = "write.requests.per.second";
     public static final String INGESTOR_BLOCK_TIME_MS = "ingestor.block.time.ms";
     public static final String INGESTOR_BLOCK_TIME_AVG_MS = "ingestor.block.time.avg.ms";
     public static final String PENDING_WRITE_COUNT = "pending.write.count";
+    public static final String INGESTOR_WRITE_LATENCY = "frontend.ingestor.write.latency";
+    public static final String WRITE_VISIBLE_LATENCY = "frontend.write.visible.latency";
 
     private AtomicLong writeRequestsTotal;
     private volatile long lastUpdateWriteRequestsTotal;
@@ -53,14 +67,23 @@ public class GraphWriter implements MetricsAgent {
     private volatile long ingestorBlockTimeAvgMs;
     private volatile long lastUpdateIngestorBlockTimeNano;
     private AtomicInteger pendingWriteCount;
+    private HistogramMetric ingestorWriteLatency;
+    private HistogramMetric writeVisibleLatency;
+
+    private int traceSampleInterval;
+    private long slowWriteThresholdNano;
+    private AtomicLong writeCounter = new AtomicLong(0L);
 
     private SnapshotCache snapshotCache;
     private EdgeIdGenerator edgeIdGenerator;
     private MetaService metaService;
     private RoleClients<IngestorWriteClient> ingestWriteClients;
     private AtomicLong lastWrittenSnapshotId = new AtomicLong(0L);
+    private Map<List<Integer>, EdgeKind> edgeKindCache = new ConcurrentHashMap<>();
+    private volatile VertexWriteListener vertexWriteListener;
 
     public GraphWriter(
+            Configs configs,
             SnapshotCache snapshotCache,
             EdgeIdGenerator edgeIdGenerator,
             MetaService metaService,
@@ -70,8 +93,18 @@ public class GraphWriter implements MetricsAgent {
         this.edgeIdGenerator = edgeIdGenerator;
         this.metaService = metaService;
         this.ingestWriteClients = ingestWriteClients;
+        this.traceSampleInterval = FrontendConfig.WRITE_TRACE_SAMPLE_INTERVAL.get(configs);
+        this.slowWriteThresholdNano =
+                TimeUnit.MILLISECONDS.toNanos(
+                        FrontendConfig.WRITE_TRACE_SLOW_THRESHOLD_MS.get(configs));
         initMetrics();
         metricsCollector.register(this, () -> updateMetrics());
+        this.ingestorWriteLatency = metricsCollector.histogram(INGESTOR_WRITE_LATENCY);
+        this.writeVisibleLatency = metricsCollector.histogram(WRITE_VISIBLE_LATENCY);
+    }
+
+    public void setVertexWriteListener(VertexWriteListener vertexWriteListener) {
+        this.vertexWriteListener = vertexWriteListener;
     }
 
     public long writeBatch(
@@ -104,21 +137,23 @@ public class GraphWriter implements MetricsAgent {
             String writeSession,
             List<WriteRequest> writeRequests,
             CompletionCallback<Long> callback) {
+        long startTimeNano = System.nanoTime();
         this.pendingWriteCount.incrementAndGet();
         GraphSchema schema = snapshotCache.getSnapshotWithSchema().getGraphDef();
         OperationBatch.Builder batchBuilder = OperationBatch.newBuilder();
+        List<ElementId> vertexIds = (this.vertexWriteListener == null) ? null : new ArrayList<>();
         for (WriteRequest writeRequest : writeRequests) {
             OperationType operationType = writeRequest.getOperationType();
             DataRecord dataRecord = writeRequest.getDataRecord();
             switch (operationType) {
                 case OVERWRITE_VERTEX:
-                    addOverwriteVertexOperation(batchBuilder, schema, dataRecord);
+                    addOverwriteVertexOperation(batchBuilder, schema, dataRecord, vertexIds);
                     break;
                 case UPDATE_VERTEX:
-                    addUpdateVertexOperation(batchBuilder, schema, dataRecord);
+                    addUpdateVertexOperation(batchBuilder, schema, dataRecord, vertexIds);
                     break;
                 case DELETE_VERTEX:
-                    addDeleteVertexOperation(batchBuilder, schema, dataRecord);
+                    addDeleteVertexOperation(batchBuilder, schema, dataRecord, vertexIds);
                     break;
                 case OVERWRITE_EDGE:
                     addOverwriteEdgeOperation(batchBuilder, schema, dataRecord);
@@ -134,10 +169,102 @@ public class GraphWriter implements MetricsAgent {
                             "Invalid operationType [" + operationType + "]");
             }
         }
-        OperationBatch operationBatch = batchBuilder.build();
+        writeOperationBatch(
+                requestId,
+                writeSession,
+                batchBuilder.build(),
+                writeRequests.size(),
+                vertexIds,
+                startTimeNano,
+                callback);
+    }
+
+    public long writeBulk(
+            String requestId, String writeSession, List<BulkWriteRequest> bulkRequests) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        writeBulk(
+                requestId,
+                writeSession,
+                bulkRequests,
+                new CompletionCallback<Long>() {
+                    @Override
+                    public void onCompleted(Long res) {
+                        future.complete(res);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new MaxGraphException(e);
+        }
+    }
+
+    /**
+     * Write records in columnar layout. Label and property definitions are resolved once per {@link
+     * BulkWriteRequest} instead of once per record.
+     */
+    public void writeBulk(
+            String requestId,
+            String writeSession,
+            List<BulkWriteRequest> bulkRequests,
+            CompletionCallback<Long> callback) {
+        long startTimeNano = System.nanoTime();
+        this.pendingWriteCount.incrementAndGet();
+        GraphSchema schema = snapshotCache.getSnapshotWithSchema().getGraphDef();
+        OperationBatch.Builder batchBuilder = OperationBatch.newBuilder();
+        List<ElementId> vertexIds = (this.vertexWriteListener == null) ? null : new ArrayList<>();
+        int recordCount = 0;
+        for (BulkWriteRequest bulkRequest : bulkRequests) {
+            if (bulkRequest.isEdge()) {
+                addBulkEdgeOperations(batchBuilder, schema, bulkRequest);
+            } else {
+                addBulkVertexOperations(batchBuilder, schema, bulkRequest, vertexIds);
+            }
+            recordCount += bulkRequest.getRows().size();
+        }
+        writeOperationBatch(
+                requestId,
+                writeSession,
+                batchBuilder.build(),
+                recordCount,
+                vertexIds,
+                startTimeNano,
+                callback);
+    }
+
+    private void writeOperationBatch(
+            String requestId,
+            String writeSession,
+            OperationBatch operationBatch,
+            int recordCount,
+            List<ElementId> vertexIds,
+            long startTimeNano,
+            CompletionCallback<Long> callback) {
+        VertexWriteListener listener = this.vertexWriteListener;
+        if (listener != null && vertexIds != null && !vertexIds.isEmpty()) {
+            listener.onWriteBegin(vertexIds);
+        } else {
+            listener = null;
+        }
+        VertexWriteListener finalListener = listener;
         int writeQueueId = getWriteQueueId(writeSession);
         int ingestorId = this.metaService.getIngestorIdForQueue(writeQueueId);
-        long startTimeNano = System.nanoTime();
+        long sendTimeNano = System.nanoTime();
+        WriteTrace trace = null;
+        if (this.traceSampleInterval > 0
+                && this.writeCounter.getAndIncrement() % this.traceSampleInterval == 0) {
+            long startTimeMs =
+                    System.currentTimeMillis()
+                            - TimeUnit.NANOSECONDS.toMillis(sendTimeNano - startTimeNano);
+            trace = new WriteTrace(requestId, startTimeMs);
+            operationBatch = operationBatch.withTrace(trace);
+        }
+        WriteTrace finalTrace = trace;
         this.ingestWriteClients
                 .getClient(ingestorId)
                 .writeIngestorAsync(
@@ -150,26 +277,71 @@ public class GraphWriter implements MetricsAgent {
                                 long writeSnapshotId = res;
                                 lastWrittenSnapshotId.updateAndGet(
                                         x -> x < writeSnapshotId ? writeSnapshotId : x);
-                                writeRequestsTotal.addAndGet(writeRequests.size());
-                                finish();
+                                writeRequestsTotal.addAndGet(recordCount);
+                                long ackTimeNano = finish();
+                                if (finalListener != null) {
+                                    finalListener.onWriteEnd(vertexIds, writeSnapshotId);
+                                    snapshotCache.addListener(
+                                            writeSnapshotId,
+                                            () -> finalListener.onWriteVisible(writeSnapshotId));
+                                }
+                                if (finalTrace != null) {
+                                    snapshotCache.addListener(
+                                            writeSnapshotId,
+                                            () ->
+                                                    onTracedWriteVisible(
+                                                            finalTrace,
+                                                            writeSnapshotId,
+                                                            startTimeNano,
+                                                            ackTimeNano));
+                                }
                                 callback.onCompleted(res);
                             }
 
                             @Override
                             public void onError(Throwable t) {
                                 finish();
+                                if (finalListener != null) {
+                                    finalListener.onWriteEnd(vertexIds, -1L);
+                                }
                                 callback.onError(t);
                             }
 
-                            void finish() {
+                            long finish() {
                                 long ingestorCompleteTimeNano = System.nanoTime();
                                 ingestorBlockTimeNano.addAndGet(
-                                        ingestorCompleteTimeNano - startTimeNano);
+                                        ingestorCompleteTimeNano - sendTimeNano);
+                                ingestorWriteLatency.record(
+                                        ingestorCompleteTimeNano - sendTimeNano);
                                 pendingWriteCount.decrementAndGet();
+                                return ingestorCompleteTimeNano;
                             }
                         });
     }
 
+    /**
+     * Called when the snapshot of a sampled write becomes visible to queries on this frontend. The
+     * hops in between are recorded by the store that applies the write, under the same requestId.
+     */
+    private void onTracedWriteVisible(
+            WriteTrace trace, long snapshotId, long startTimeNano, long ackTimeNano) {
+        long visibleTimeNano = System.nanoTime();
+        long latencyNano = visibleTimeNano - startTimeNano;
+        this.writeVisibleLatency.record(latencyNano);
+        if (latencyNano >= this.slowWriteThresholdNano) {
+            logger.warn(
+                    "slow write. requestId ["
+                            + trace.getRequestId()
+                            + "], snapshotId ["
+                            + snapshotId
+                            + "], ingestor ack ["
+                            + TimeUnit.NANOSECONDS.toMillis(ackTimeNano - startTimeNano)
+                            + "]ms, visible ["
+                            + TimeUnit.NANOSECONDS.toMillis(latencyNano)
+                            + "]ms");
+        }
+    }
+
     public boolean flushSnapshot(long snapshotId, long waitTimeMs) throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
         this.snapshotCache.addListener(snapshotId, () -> latch.countDown());
@@ -221,12 +393,7 @@ public class GraphWriter implements MetricsAgent {
                             new VertexId(srcVertexHashId),
                             new VertexId(dstVertexHashId),
                             edgeInnerId);
-            edgeKind =
-                    EdgeKind.newBuilder()
-                            .setEdgeLabelId(new LabelId(labelId))
-                            .setSrcVertexLabelId(new LabelId(srcVertexDef.getLabelId()))
-                            .setDstVertexLabelId(new LabelId(dstVertexDef.getLabelId()))
-                            .build();
+            edgeKind = getEdgeKind(labelId, srcVertexDef.getLabelId(), dstVertexDef.getLabelId());
         }
         batchBuilder.addOperation(new DeleteEdgeOperation(edgeId, edgeKind, true));
         batchBuilder.addOperation(new DeleteEdgeOperation(edgeId, edgeKind, false));
@@ -266,12 +433,7 @@ public class GraphWriter implements MetricsAgent {
                             new VertexId(srcVertexHashId),
                             new VertexId(dstVertexHashId),
                             edgeInnerId);
-            edgeKind =
-                    EdgeKind.newBuilder()
-                            .setEdgeLabelId(new LabelId(labelId))
-                            .setSrcVertexLabelId(new LabelId(srcVertexDef.getLabelId()))
-                            .setDstVertexLabelId(new LabelId(dstVertexDef.getLabelId()))
-                            .build();
+            edgeKind = getEdgeKind(labelId, srcVertexDef.getLabelId(), dstVertexDef.getLabelId());
         }
         Map<Integer, PropertyValue> propertyVals = parseRawProperties(edgeDef, properties);
         batchBuilder.addOperation(new UpdateEdgeOperation(edgeId, edgeKind, propertyVals, true));
@@ -312,12 +474,7 @@ public class GraphWriter implements MetricsAgent {
                             new VertexId(srcVertexHashId),
                             new VertexId(dstVertexHashId),
                             edgeInnerId);
-            edgeKind =
-                    EdgeKind.newBuilder()
-                            .setEdgeLabelId(new LabelId(labelId))
-                            .setSrcVertexLabelId(new LabelId(srcVertexDef.getLabelId()))
-                            .setDstVertexLabelId(new LabelId(dstVertexDef.getLabelId()))
-                            .build();
+            edgeKind = getEdgeKind(labelId, srcVertexDef.getLabelId(), dstVertexDef.getLabelId());
         }
         Map<Integer, PropertyValue> propertyVals = parseRawProperties(edgeDef, properties);
         batchBuilder.addOperation(new OverwriteEdgeOperation(edgeId, edgeKind, propertyVals, true));
@@ -326,7 +483,10 @@ public class GraphWriter implements MetricsAgent {
     }
 
     private void addDeleteVertexOperation(
-            OperationBatch.Builder batchBuilder, GraphSchema schema, DataRecord dataRecord) {
+            OperationBatch.Builder batchBuilder,
+            GraphSchema schema,
+            DataRecord dataRecord,
+            List<ElementId> vertexIds) {
         VertexRecordKey vertexRecordKey = dataRecord.getVertexRecordKey();
         String label = vertexRecordKey.getLabel();
         GraphElement vertexDef = schema.getElement(label);
@@ -334,12 +494,16 @@ public class GraphWriter implements MetricsAgent {
         Map<Integer, PropertyValue> pkVals =
                 parseRawProperties(vertexDef, vertexRecordKey.getProperties());
         long hashId = getHashId(labelId, pkVals, vertexDef);
+        addVertexId(vertexIds, hashId, labelId);
         batchBuilder.addOperation(
                 new DeleteVertexOperation(new VertexId(hashId), new LabelId(labelId)));
     }
 
     private void addUpdateVertexOperation(
-            OperationBatch.Builder batchBuilder, GraphSchema schema, DataRecord dataRecord) {
+            OperationBatch.Builder batchBuilder,
+            GraphSchema schema,
+            DataRecord dataRecord,
+            List<ElementId> vertexIds) {
         VertexRecordKey vertexRecordKey = dataRecord.getVertexRecordKey();
         Map<String, Object> properties = dataRecord.getProperties();
         String label = vertexRecordKey.getLabel();
@@ -348,6 +512,7 @@ public class GraphWriter implements MetricsAgent {
         Map<Integer, PropertyValue> pkVals =
                 parseRawProperties(vertexDef, vertexRecordKey.getProperties());
         long hashId = getHashId(labelId, pkVals, vertexDef);
+        addVertexId(vertexIds, hashId, labelId);
         Map<Integer, PropertyValue> propertyVals = parseRawProperties(vertexDef, properties);
         propertyVals.putAll(pkVals);
         batchBuilder.addOperation(
@@ -356,7 +521,10 @@ public class GraphWriter implements MetricsAgent {
     }
 
     private void addOverwriteVertexOperation(
-            OperationBatch.Builder batchBuilder, GraphSchema schema, DataRecord dataRecord) {
+            OperationBatch.Builder batchBuilder,
+            GraphSchema schema,
+            DataRecord dataRecord,
+            List<ElementId> vertexIds) {
         VertexRecordKey vertexRecordKey = dataRecord.getVertexRecordKey();
         Map<String, Object> properties = dataRecord.getProperties();
         String label = vertexRecordKey.getLabel();
@@ -367,26 +535,178 @@ public class GraphWriter implements MetricsAgent {
         Map<Integer, PropertyValue> propertyVals = parseRawProperties(vertexDef, properties);
         propertyVals.putAll(pkVals);
         long hashId = getHashId(labelId, propertyVals, vertexDef);
+        addVertexId(vertexIds, hashId, labelId);
         batchBuilder.addOperation(
                 new OverwriteVertexOperation(
                         new VertexId(hashId), new LabelId(labelId), propertyVals));
     }
 
+    private void addBulkVertexOperations(
+            OperationBatch.Builder batchBuilder,
+            GraphSchema schema,
+            BulkWriteRequest request,
+            List<ElementId> vertexIds) {
+        OperationType operationType = request.getOperationType();
+        GraphElement vertexDef = schema.getElement(request.getLabel());
+        LabelId labelId = new LabelId(vertexDef.getLabelId());
+        List<String> columns = request.getColumns();
+        GraphProperty[] propertyDefs = resolveColumns(vertexDef, columns);
+        PkColumns pkColumns = new PkColumns(vertexDef, columns, 0);
+        for (Object[] row : request.getRows()) {
+            long hashId = pkColumns.hash(row);
+            addVertexId(vertexIds, hashId, labelId.getId());
+            if (operationType == OperationType.DELETE_VERTEX) {
+                batchBuilder.addOperation(new DeleteVertexOperation(new VertexId(hashId), labelId));
+                continue;
+            }
+            Map<Integer, PropertyValue> propertyVals = parseRow(propertyDefs, row, 0);
+            if (operationType == OperationType.OVERWRITE_VERTEX) {
+                batchBuilder.addOperation(
+                        new OverwriteVertexOperation(new VertexId(hashId), labelId, propertyVals));
+            } else {
+                batchBuilder.addOperation(
+                        new UpdateVertexOperation(new VertexId(hashId), labelId, propertyVals));
+            }
+        }
+    }
+
+    private void addBulkEdgeOperations(
+            OperationBatch.Builder batchBuilder, GraphSchema schema, BulkWriteRequest request) {
+        GraphElement edgeDef = schema.getElement(request.getLabel());
+        GraphElement srcVertexDef = schema.getElement(request.getSrcLabel());
+        GraphElement dstVertexDef = schema.getElement(request.getDstLabel());
+        EdgeKind edgeKind =
+                getEdgeKind(
+                        edgeDef.getLabelId(), srcVertexDef.getLabelId(), dstVertexDef.getLabelId());
+        List<String> srcPkNames = request.getSrcPkColumns();
+        List<String> dstPkNames = request.getDstPkColumns();
+        PkColumns srcPkColumns = new PkColumns(srcVertexDef, srcPkNames, 0);
+        PkColumns dstPkColumns = new PkColumns(dstVertexDef, dstPkNames, srcPkNames.size());
+        GraphProperty[] propertyDefs = resolveColumns(edgeDef, request.getColumns());
+        int propertyOffset = srcPkNames.size() + dstPkNames.size();
+        for (Object[] row : request.getRows()) {
+            EdgeId edgeId =
+                    new EdgeId(
+                            new VertexId(srcPkColumns.hash(row)),
+                            new VertexId(dstPkColumns.hash(row)),
+                            this.edgeIdGenerator.getNextId());
+            Map<Integer, PropertyValue> propertyVals = parseRow(propertyDefs, row, propertyOffset);
+            batchBuilder.addOperation(
+                    new OverwriteEdgeOperation(edgeId, edgeKind, propertyVals, true));
+            batchBuilder.addOperation(
+                    new OverwriteEdgeOperation(edgeId, edgeKind, propertyVals, false));
+        }
+    }
+
+    private static void addVertexId(List<ElementId> vertexIds, long hashId, int labelId) {
+        if (vertexIds != null) {
+            vertexIds.add(new CompositeId(hashId, labelId));
+        }
+    }
+
+    private EdgeKind getEdgeKind(int edgeLabelId, int srcVertexLabelId, int dstVertexLabelId) {
+        return this.edgeKindCache.computeIfAbsent(
+                Arrays.asList(edgeLabelId, srcVertexLabelId, dstVertexLabelId),
+                k ->
+                        EdgeKind.newBuilder()
+                                .setEdgeLabelId(new LabelId(edgeLabelId))
+                                .setSrcVertexLabelId(new LabelId(srcVertexLabelId))
+                                .setDstVertexLabelId(new LabelId(dstVertexLabelId))
+                                .build());
+    }
+
+    private static GraphProperty[] resolveColumns(GraphElement graphElement, List<String> columns) {
+        GraphProperty[] propertyDefs = new GraphProperty[columns.size()];
+        for (int i = 0; i < propertyDefs.length; i++) {
+            propertyDefs[i] = getPropertyDef(graphElement, columns.get(i));
+        }
+        return propertyDefs;
+    }
+
+    private static Map<Integer, PropertyValue> parseRow(
+            GraphProperty[] propertyDefs, Object[] row, int offset) {
+        Map<Integer, PropertyValue> res = new HashMap<>(propertyDefs.length * 4 / 3 + 1);
+        for (int i = 0; i < propertyDefs.length; i++) {
+            Object val = row[offset + i];
+            if (val != null) {
+                GraphProperty propertyDef = propertyDefs[i];
+                res.put(propertyDef.getId(), new PropertyValue(propertyDef.getDataType(), val));
+            }
+        }
+        return res;
+    }
+
+    private static GraphProperty getPropertyDef(GraphElement graphElement, String propertyName) {
+        GraphProperty propertyDef = graphElement.getProperty(propertyName);
+        if (propertyDef == null) {
+            throw new PropertyDefNotFoundException(
+                    "property ["
+                            + propertyName
+                            + "] not found in ["
+                            + graphElement.getLabel()
+                            + "]");
+        }
+        return propertyDef;
+    }
+
+    /**
+     * Positions of the primary keys of a vertex label in the rows of a bulk request, in the order
+     * that {@link #getHashId(int, Map, GraphElement)} hashes them. The byte list is reused across
+     * rows.
+     */
+    private static class PkColumns {
+        private int labelId;
+        private String label;
+        private DataType[] dataTypes;
+        private int[] positions;
+        private List<byte[]> pkBytes;
+
+        PkColumns(GraphElement vertexDef, List<String> columns, int offset) {
+            this.labelId = vertexDef.getLabelId();
+            this.label = vertexDef.getLabel();
+            List<Integer> pkIdxs = vertexDef.getPkPropertyIndices();
+            List<GraphProperty> propertyDefs = vertexDef.getPropertyList();
+            this.dataTypes = new DataType[pkIdxs.size()];
+            this.positions = new int[pkIdxs.size()];
+            for (int i = 0; i < pkIdxs.size(); i++) {
+                GraphProperty pkDef = propertyDefs.get(pkIdxs.get(i));
+                int column = columns.indexOf(pkDef.getName());
+                if (column < 0) {
+                    throw new IllegalArgumentException(
+                            "primary key ["
+                                    + pkDef.getName()
+                                    + "] of ["
+                                    + this.label
+                                    + "] not found in columns "
+                                    + columns);
+                }
+                this.dataTypes[i] = pkDef.getDataType();
+                this.positions[i] = offset + column;
+            }
+            this.pkBytes = new ArrayList<>(pkIdxs.size());
+        }
+
+        long hash(Object[] row) {
+            this.pkBytes.clear();
+            for (int i = 0; i < this.positions.length; i++) {
+                Object val = row[this.positions[i]];
+                if (val == null) {
+                    throw new IllegalArgumentException(
+                            "primary key value of [" + this.label + "] is null");
+                }
+                this.pkBytes.add(new PropertyValue(this.dataTypes[i], val).getValBytes());
+            }
+            return PkHashUtils.hash(this.labelId, this.pkBytes);
+        }
+    }
+
     public static Map<Integer, PropertyValue> parseRawProperties(
             GraphElement graphElement, Map<String, Object> properties) {
         Map<Integer, PropertyValue> res = new HashMap<>();
         if (properties != null) {
             properties.forEach(
                     (propertyName, valString) -> {
-                        GraphProperty propertyDef = graphElement.getProperty(propertyName);
-                        if (propertyDef == null) {
-                            throw new PropertyDefNotFoundException(
-                                    "property ["
-                                            + propertyName
-                                            + "] not found in ["
-                                            + graphElement.getLabel()
-                                            + "]");
-                        }
+                        GraphProperty propertyDef = getPropertyDef(graphElement, propertyName);
                         int id = propertyDef.getId();
                         DataType dataType = propertyDef.getDataType();
                         PropertyValue propertyValue = new PropertyValue(dataType, valString);
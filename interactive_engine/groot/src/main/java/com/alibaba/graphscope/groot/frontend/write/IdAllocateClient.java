@@ -1,19 +1,23 @@
 package com.alibaba.graphscope.groot.frontend.write;
 
+import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.rpc.RpcClient;
 import com.alibaba.maxgraph.proto.groot.AllocateIdRequest;
 import com.alibaba.maxgraph.proto.groot.AllocateIdResponse;
 import com.alibaba.maxgraph.proto.groot.IdAllocateGrpc;
 
 import io.grpc.ManagedChannel;
+import io.grpc.stub.StreamObserver;
 
 public class IdAllocateClient extends RpcClient {
 
     private IdAllocateGrpc.IdAllocateBlockingStub stub;
+    private IdAllocateGrpc.IdAllocateStub asyncStub;
 
     public IdAllocateClient(ManagedChannel channel) {
         super(channel);
         this.stub = IdAllocateGrpc.newBlockingStub(channel);
+        this.asyncStub = IdAllocateGrpc.newStub(channel);
     }
 
     public long allocateId(int allocateSize) {
@@ -22,4 +26,25 @@ public class IdAllocateClient extends RpcClient {
         AllocateIdResponse response = stub.allocateId(req);
         return response.getStartId();
     }
+
+    public void allocateIdAsync(int allocateSize, CompletionCallback<Long> callback) {
+        AllocateIdRequest req =
+                AllocateIdRequest.newBuilder().setAllocateSize(allocateSize).build();
+        this.asyncStub.allocateId(
+                req,
+                new StreamObserver<AllocateIdResponse>() {
+                    @Override
+                    public void onNext(AllocateIdResponse response) {
+                        callback.onCompleted(response.getStartId());
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        callback.onError(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {}
+                });
+    }
 }
@@ -0,0 +1,22 @@
+package com.alibaba.graphscope.groot.frontend.write;
+
+import com.alibaba.maxgraph.sdkcommon.graph.ElementId;
+
+import java.util.List;
+
+/** Notified of the vertices written through the {@link GraphWriter}, e.g. to invalidate caches. */
+public interface VertexWriteListener {
+
+    /** Called before the write is sent to the ingestor */
+    void onWriteBegin(List<ElementId> vertexIds);
+
+    /**
+     * Called when the ingestor acknowledges the write
+     *
+     * @param snapshotId the snapshot id of the write, or -1 if the write fails
+     */
+    void onWriteEnd(List<ElementId> vertexIds, long snapshotId);
+
+    /** Called when the snapshot of a write becomes available to the queries on this frontend */
+    void onWriteVisible(long snapshotId);
+}
@@ -3,6 +3,7 @@ package com.alibaba.graphscope.groot.ingestor;
 import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.AvgMetric;
+import com.alibaba.graphscope.groot.metrics.HistogramMetric;
 import com.alibaba.graphscope.groot.metrics.MetricsAgent;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
@@ -18,16 +19,28 @@ import com.alibaba.maxgraph.sdkcommon.util.PartitionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Sends the operations of an ingest queue to store nodes. Operations are buffered per store, and
+ * sent when the buffer reaches {@link IngestorConfig#INGESTOR_SENDER_OPERATION_MAX_COUNT} or the
+ * oldest buffered batch has waited for {@link IngestorConfig#INGESTOR_SENDER_LINGER_MS}. Adjacent
+ * batches of the same snapshot are merged into one. The number of batches in one request is limited
+ * by the free slots of the store queue, as reported in the previous response.
+ *
+ * <p>Handing batches over never blocks, so a slow store doesn't hold back the others. Instead the
+ * owner of the queue checks {@link #isFull()} and stops accepting new batches while the buffer of
+ * any store is full.
+ */
 public class BatchSender implements MetricsAgent {
     private static final Logger logger = LoggerFactory.getLogger(BatchSender.class);
 
@@ -38,6 +51,8 @@ public class BatchSender implements MetricsAgent {
     public static final String SEND_BUFFER_BATCH_COUNT = "send.buffer.batch.count";
     public static final String SEND_CALLBACK_LATENCY_PER_SECOND_MS =
             "send.callback.latency.per.second.ms";
+    public static final String SEND_STORE_QUEUE_DEPTH = "send.store.queue.depth";
+    public static final String STORE_WRITE_LATENCY = "ingestor.store.write.latency";
 
     private MetaService metaService;
     private StoreWriter storeWriter;
@@ -45,9 +60,11 @@ public class BatchSender implements MetricsAgent {
     private int bufferSize;
     private int storeCount;
     private int sendOperationLimit;
+    private long lingerNano;
+    private long backoffNano;
 
-    private List<BlockingQueue<StoreDataBatch>> storeSendBuffer;
-    private BlockingQueue<SendTask> sendTasks;
+    private List<StoreSendBuffer> storeSendBuffers;
+    private DelayQueue<SendTask> sendTasks;
 
     private Thread sendThread;
     private volatile boolean shouldStop = true;
@@ -57,6 +74,7 @@ public class BatchSender implements MetricsAgent {
     private AvgMetric sendRecordsMetric;
     private List<AvgMetric> bufferBatchCountMetrics;
     private List<AvgMetric> callbackLatencyMetrics;
+    private List<HistogramMetric> storeWriteLatencies;
     private int receiverQueueSize;
 
     public BatchSender(
@@ -70,17 +88,27 @@ public class BatchSender implements MetricsAgent {
         this.storeCount = CommonConfig.STORE_NODE_COUNT.get(configs);
         this.bufferSize = IngestorConfig.INGESTOR_SENDER_BUFFER_MAX_COUNT.get(configs);
         this.sendOperationLimit = IngestorConfig.INGESTOR_SENDER_OPERATION_MAX_COUNT.get(configs);
+        this.lingerNano =
+                TimeUnit.MILLISECONDS.toNanos(
+                        IngestorConfig.INGESTOR_SENDER_LINGER_MS.get(configs));
+        this.backoffNano =
+                TimeUnit.MILLISECONDS.toNanos(
+                        IngestorConfig.INGESTOR_SENDER_BACKOFF_MS.get(configs));
         this.receiverQueueSize = StoreConfig.STORE_QUEUE_BUFFER_SIZE.get(configs);
         initMetrics();
         metricsCollector.register(this, () -> updateMetrics());
+        this.storeWriteLatencies = new ArrayList<>(this.storeCount);
+        for (int i = 0; i < this.storeCount; i++) {
+            this.storeWriteLatencies.add(
+                    metricsCollector.histogram(STORE_WRITE_LATENCY, "store", String.valueOf(i)));
+        }
     }
 
     public void start() {
-        this.storeSendBuffer = new ArrayList<>(this.storeCount);
-        this.sendTasks = new ArrayBlockingQueue<>(this.storeCount);
+        this.storeSendBuffers = new ArrayList<>(this.storeCount);
+        this.sendTasks = new DelayQueue<>();
         for (int i = 0; i < this.storeCount; i++) {
-            this.storeSendBuffer.add(new ArrayBlockingQueue<>(this.bufferSize));
-            this.sendTasks.add(new SendTask(i, null));
+            this.storeSendBuffers.add(new StoreSendBuffer(i));
         }
 
         this.shouldStop = false;
@@ -101,6 +129,9 @@ public class BatchSender implements MetricsAgent {
 
     public void stop() {
         this.shouldStop = true;
+        if (this.storeSendBuffers != null) {
+            this.storeSendBuffers.forEach(StoreSendBuffer::wakeup);
+        }
         if (this.sendThread != null && this.sendThread.isAlive()) {
             try {
                 this.sendThread.interrupt();
@@ -112,6 +143,10 @@ public class BatchSender implements MetricsAgent {
         }
     }
 
+    /**
+     * Split the operations by store and put them into the send buffers. This never blocks, even if
+     * the buffer of a target store is full, see {@link #isFull()}.
+     */
     public void asyncSendWithRetry(
             String requestId,
             int queueId,
@@ -126,7 +161,8 @@ public class BatchSender implements MetricsAgent {
                                 .requestId(requestId)
                                 .queueId(queueId)
                                 .snapshotId(snapshotId)
-                                .offset(offset);
+                                .offset(offset)
+                                .trace(operationBatch.getTrace());
         for (OperationBlob operationBlob : operationBatch) {
             long partitionKey = operationBlob.getPartitionKey();
             if (partitionKey == -1L) {
@@ -146,25 +182,167 @@ public class BatchSender implements MetricsAgent {
             }
         }
         storeToBatchBuilder.forEach(
-                (storeId, batchBuilder) -> {
-                    while (!shouldStop) {
-                        try {
-                            storeSendBuffer.get(storeId).put(batchBuilder.build());
-                            break;
-                        } catch (InterruptedException e) {
-                            logger.warn("send buffer interrupted", e);
-                        }
-                    }
-                });
+                (storeId, batchBuilder) -> storeSendBuffers.get(storeId).add(batchBuilder.build()));
     }
 
-    class SendTask {
+    /**
+     * @return true if the buffer of any store holds {@link
+     *     IngestorConfig#INGESTOR_SENDER_BUFFER_MAX_COUNT} batches or more
+     */
+    public boolean isFull() {
+        for (StoreSendBuffer buffer : this.storeSendBuffers) {
+            if (buffer.size() >= bufferSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Wait until the buffers of all the stores have free space, or the sender is stopped */
+    public void awaitCapacity() {
+        for (StoreSendBuffer buffer : this.storeSendBuffers) {
+            buffer.awaitCapacity();
+        }
+    }
+
+    class SendTask implements Delayed {
         int storeId;
         List<StoreDataBatch> dataToRetry;
+        long readyNano;
 
-        public SendTask(int storeId, List<StoreDataBatch> dataToRetry) {
+        public SendTask(int storeId, List<StoreDataBatch> dataToRetry, long readyNano) {
             this.storeId = storeId;
             this.dataToRetry = dataToRetry;
+            this.readyNano = readyNano;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(this.readyNano - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(this.readyNano, ((SendTask) o).readyNano);
+        }
+    }
+
+    static class BufferedBatch {
+        StoreDataBatch batch;
+        long enqueueNano;
+
+        BufferedBatch(StoreDataBatch batch, long enqueueNano) {
+            this.batch = batch;
+            this.enqueueNano = enqueueNano;
+        }
+    }
+
+    /**
+     * Buffered batches of one store. There is at most one send task of a store in {@link
+     * #sendTasks} or in flight at any time. When the buffer is drained the task is parked, and a
+     * new one is scheduled by the next {@link #add(StoreDataBatch)}.
+     */
+    class StoreSendBuffer {
+        private int storeId;
+        private ArrayDeque<BufferedBatch> batches;
+        private int operationCount;
+        private boolean parked;
+        private SendTask lingerTask;
+        private volatile int storeQueueDepth;
+
+        StoreSendBuffer(int storeId) {
+            this.storeId = storeId;
+            this.batches = new ArrayDeque<>();
+            this.operationCount = 0;
+            this.parked = true;
+            this.lingerTask = null;
+            this.storeQueueDepth = 0;
+        }
+
+        synchronized void add(StoreDataBatch batch) {
+            long now = System.nanoTime();
+            this.batches.add(new BufferedBatch(batch, now));
+            this.operationCount += batch.getSize();
+            boolean full = this.operationCount >= sendOperationLimit;
+            if (this.parked) {
+                this.parked = false;
+                SendTask task = new SendTask(this.storeId, null, full ? now : now + lingerNano);
+                this.lingerTask = full ? null : task;
+                sendTasks.add(task);
+            } else if (full && this.lingerTask != null && sendTasks.remove(this.lingerTask)) {
+                // Enough operations, no need to wait for the rest of linger time
+                this.lingerTask = null;
+                sendTasks.add(new SendTask(this.storeId, null, now));
+            }
+        }
+
+        /**
+         * @return batches to send, or null if the buffer is empty or still lingering
+         */
+        synchronized List<StoreDataBatch> drain() {
+            this.lingerTask = null;
+            if (this.batches.isEmpty()) {
+                this.parked = true;
+                return null;
+            }
+            long lingerDeadline = this.batches.peek().enqueueNano + lingerNano;
+            if (this.operationCount < sendOperationLimit && System.nanoTime() < lingerDeadline) {
+                this.lingerTask = new SendTask(this.storeId, null, lingerDeadline);
+                sendTasks.add(this.lingerTask);
+                return null;
+            }
+            // Always allow one batch to probe the store when it is full
+            int credits = Math.max(1, receiverQueueSize - this.storeQueueDepth);
+            List<StoreDataBatch> dataToSend = new ArrayList<>();
+            StoreDataBatch last = null;
+            int count = 0;
+            while (count < sendOperationLimit && !this.batches.isEmpty()) {
+                StoreDataBatch batch = this.batches.peek().batch;
+                if (last != null
+                        && last.getQueueId() == batch.getQueueId()
+                        && last.getSnapshotId() == batch.getSnapshotId()) {
+                    last = last.merge(batch);
+                    dataToSend.set(dataToSend.size() - 1, last);
+                } else if (dataToSend.size() < credits) {
+                    last = batch;
+                    dataToSend.add(batch);
+                } else {
+                    break;
+                }
+                this.batches.poll();
+                count += batch.getSize();
+                this.operationCount -= batch.getSize();
+            }
+            notifyAll();
+            return dataToSend;
+        }
+
+        synchronized void awaitCapacity() {
+            while (!shouldStop && this.batches.size() >= bufferSize) {
+                try {
+                    wait(1000L);
+                } catch (InterruptedException e) {
+                    logger.warn("waiting send buffer of store [" + storeId + "] interrupted", e);
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        synchronized void wakeup() {
+            notifyAll();
+        }
+
+        synchronized int size() {
+            return this.batches.size();
+        }
+
+        void setStoreQueueDepth(int storeQueueDepth) {
+            this.storeQueueDepth = storeQueueDepth;
+        }
+
+        int getStoreQueueDepth() {
+            return this.storeQueueDepth;
         }
     }
 
@@ -181,69 +359,48 @@ public class BatchSender implements MetricsAgent {
         }
 
         int storeId = sendTask.storeId;
+        StoreSendBuffer buffer = this.storeSendBuffers.get(storeId);
         List<StoreDataBatch> dataToSend = sendTask.dataToRetry;
         if (dataToSend == null) {
-            dataToSend = new ArrayList<>();
-            BlockingQueue<StoreDataBatch> buffer = this.storeSendBuffer.get(storeId);
-            StoreDataBatch dataBatch;
-            int operationCount = 0;
-            int batchCount = 0;
-            while (operationCount < this.sendOperationLimit
-                    && batchCount < this.receiverQueueSize
-                    && (dataBatch = buffer.poll()) != null) {
-                dataToSend.add(dataBatch);
-                operationCount += dataBatch.getSize();
-                batchCount++;
+            dataToSend = buffer.drain();
+            if (dataToSend == null) {
+                return;
             }
         }
 
-        if (dataToSend.size() > 0) {
-            List<StoreDataBatch> finalDataToSend = dataToSend;
-            long beforeWriteTime = System.nanoTime();
-            this.storeWriter.write(
-                    storeId,
-                    dataToSend,
-                    new CompletionCallback<Integer>() {
-                        @Override
-                        public void onCompleted(Integer res) {
-                            sendBytesMetric.add(res);
-                            sendRecordsMetric.add(
-                                    finalDataToSend.stream()
-                                            .collect(
-                                                    Collectors.summingInt(
-                                                            batch -> batch.getSize())));
-                            finish(true);
-                        }
-
-                        @Override
-                        public void onError(Throwable t) {
-                            logger.warn(
-                                    "send to store [" + storeId + "] failed. will retry later", t);
-                            finish(false);
-                        }
-
-                        private void finish(boolean suc) {
-                            long finishTime = System.nanoTime();
-                            callbackLatencyMetrics.get(storeId).add(finishTime - beforeWriteTime);
-                            if (suc) {
-                                addTask(storeId, null);
-                            } else {
-                                addTask(storeId, finalDataToSend);
-                            }
-                        }
-                    });
-        } else {
-            addTask(storeId, null);
-        }
+        List<StoreDataBatch> finalDataToSend = dataToSend;
+        long beforeWriteTime = System.nanoTime();
+        this.storeWriter.write(
+                storeId,
+                dataToSend,
+                new CompletionCallback<WriteStoreResult>() {
+                    @Override
+                    public void onCompleted(WriteStoreResult res) {
+                        buffer.setStoreQueueDepth(res.getQueueDepth());
+                        storeWriteLatencies.get(storeId).recordSince(beforeWriteTime);
+                        sendBytesMetric.add(res.getSentBytes());
+                        sendRecordsMetric.add(
+                                finalDataToSend.stream()
+                                        .collect(Collectors.summingInt(batch -> batch.getSize())));
+                        finish(null, res.getQueueDepth() >= receiverQueueSize ? backoffNano : 0L);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        logger.warn("send to store [" + storeId + "] failed. will retry later", t);
+                        finish(finalDataToSend, backoffNano);
+                    }
+
+                    private void finish(List<StoreDataBatch> dataToRetry, long delayNano) {
+                        long finishTime = System.nanoTime();
+                        callbackLatencyMetrics.get(storeId).add(finishTime - beforeWriteTime);
+                        addTask(storeId, dataToRetry, delayNano);
+                    }
+                });
     }
 
-    private void addTask(int storeId, List<StoreDataBatch> dataToRetry) {
-        if (!sendTasks.offer(new SendTask(storeId, dataToRetry))) {
-            logger.error(
-                    "Unexpected error, failed to add send task to queue. storeId ["
-                            + storeId
-                            + "]");
-        }
+    private void addTask(int storeId, List<StoreDataBatch> dataToRetry, long delayNano) {
+        sendTasks.add(new SendTask(storeId, dataToRetry, System.nanoTime() + delayNano));
     }
 
     @Override
@@ -283,8 +440,14 @@ public class BatchSender implements MetricsAgent {
                 put(
                         SEND_BUFFER_BATCH_COUNT,
                         String.valueOf(
-                                storeSendBuffer.stream()
-                                        .map(q -> q.size())
+                                storeSendBuffers.stream()
+                                        .map(b -> b.size())
+                                        .collect(Collectors.toList())));
+                put(
+                        SEND_STORE_QUEUE_DEPTH,
+                        String.valueOf(
+                                storeSendBuffers.stream()
+                                        .map(b -> b.getStoreQueueDepth())
                                         .collect(Collectors.toList())));
                 put(
                         SEND_CALLBACK_LATENCY_PER_SECOND_MS,
@@ -304,7 +467,8 @@ public class BatchSender implements MetricsAgent {
             SEND_RECORDS_PER_SECOND,
             SEND_RECORDS_TOTAL,
             SEND_BUFFER_BATCH_COUNT,
-            SEND_CALLBACK_LATENCY_PER_SECOND_MS
+            SEND_CALLBACK_LATENCY_PER_SECOND_MS,
+            SEND_STORE_QUEUE_DEPTH
         };
     }
 }
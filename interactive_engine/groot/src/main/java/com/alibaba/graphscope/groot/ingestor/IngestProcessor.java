@@ -13,9 +13,11 @@
  */
 package com.alibaba.graphscope.groot.ingestor;
 
+import com.alibaba.graphscope.groot.metrics.HistogramMetric;
 import com.alibaba.graphscope.groot.metrics.MetricsAgent;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
+import com.alibaba.graphscope.groot.operation.WriteTrace;
 import com.alibaba.graphscope.groot.wal.LogEntry;
 import com.alibaba.graphscope.groot.wal.LogReader;
 import com.alibaba.graphscope.groot.wal.LogService;
@@ -29,10 +31,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -46,12 +51,15 @@ public class IngestProcessor implements MetricsAgent {
     public static final String STORE_BLOCK_PER_SECOND_MS = "store.block.per.second.ms";
     public static final String INGESTOR_REJECT_COUNT = "ingestor.reject.count";
     public static final String INGEST_BUFFER_TASKS_COUNT = "ingest.buffer.tasks.count";
+    public static final String WAL_WRITE_LATENCY = "ingestor.wal.write.latency";
+    public static final String STORE_ENQUEUE_LATENCY = "ingestor.store.enqueue.latency";
 
     private volatile boolean shouldStop = true;
     private volatile long tailOffset;
 
     private int queueId;
     private int bufferSize;
+    private int walPipelineMaxCount;
     private BlockingQueue<IngestTask> ingestBuffer;
     private Thread ingestThread;
     private AtomicLong ingestSnapshotId;
@@ -72,6 +80,8 @@ public class IngestProcessor implements MetricsAgent {
     private volatile long walBlockPerSecondMs;
     private volatile long lastUpdateStoreBlockTimeNano;
     private volatile long storeBlockPerSecondMs;
+    private HistogramMetric walWriteLatency;
+    private HistogramMetric storeEnqueueLatency;
 
     public IngestProcessor(
             Configs configs,
@@ -86,8 +96,13 @@ public class IngestProcessor implements MetricsAgent {
         this.ingestSnapshotId = ingestSnapshotId;
 
         this.bufferSize = IngestorConfig.INGESTOR_QUEUE_BUFFER_MAX_COUNT.get(configs);
+        this.walPipelineMaxCount = IngestorConfig.INGESTOR_WAL_PIPELINE_MAX_COUNT.get(configs);
         initMetrics();
         metricsCollector.register(this, () -> updateMetrics());
+        String queue = String.valueOf(queueId);
+        this.walWriteLatency = metricsCollector.histogram(WAL_WRITE_LATENCY, "queue", queue);
+        this.storeEnqueueLatency =
+                metricsCollector.histogram(STORE_ENQUEUE_LATENCY, "queue", queue);
     }
 
     public void start() {
@@ -167,6 +182,13 @@ public class IngestProcessor implements MetricsAgent {
         if (this.ingestSnapshotId.get() == -1L) {
             throw new IllegalStateException("ingestor has no valid ingestSnapshotId");
         }
+        // A slow store only holds back new batches of this queue, what is accepted is still sent
+        // to the other stores. Markers are always accepted to keep the snapshot advancing.
+        if (!operationBatch.equals(IngestService.MARKER_BATCH) && this.batchSender.isFull()) {
+            logger.warn("send buffer of queue#[" + queueId + "] is full");
+            this.ingestorRejectCount.incrementAndGet();
+            throw new IngestRejectException("send buffer of a store is full");
+        }
 
         boolean suc = this.ingestBuffer.offer(new IngestTask(requestId, operationBatch, callback));
         if (!suc) {
@@ -176,6 +198,11 @@ public class IngestProcessor implements MetricsAgent {
         }
     }
 
+    /**
+     * Drain up to walPipelineMaxCount pending tasks and append them to WAL as one pipelined group.
+     * Each task is sent to stores and called back with its own snapshotId, in WAL order, once its
+     * offset is durable.
+     */
     private void process(LogWriter logWriter) {
         IngestTask task;
         try {
@@ -187,16 +214,65 @@ public class IngestProcessor implements MetricsAgent {
         if (task == null) {
             return;
         }
-        try {
-            long batchSnapshotId = processTask(logWriter, task);
-            task.callback.onSuccess(batchSnapshotId);
-        } catch (Exception e) {
-            task.callback.onFailure(e);
+        List<IngestTask> tasks = new ArrayList<>();
+        tasks.add(task);
+        this.ingestBuffer.drainTo(tasks, this.walPipelineMaxCount - 1);
+
+        long startTimeNano = System.nanoTime();
+        for (IngestTask t : tasks) {
+            try {
+                appendTask(logWriter, t);
+            } catch (Exception e) {
+                t.error = e;
+            }
+        }
+        boolean hasData = false;
+        for (IngestTask t : tasks) {
+            if (t.error == null) {
+                try {
+                    t.walOffset = t.walFuture.get();
+                } catch (Exception e) {
+                    logger.error("write WAL failed. requestId [" + t.requestId + "]", e);
+                    t.error = e;
+                }
+            }
+            if (!t.operationBatch.equals(IngestService.MARKER_BATCH)) {
+                hasData = true;
+            }
+        }
+        long walCompleteTimeNano = System.nanoTime();
+        for (IngestTask t : tasks) {
+            if (t.error == null && shouldStop) {
+                t.error =
+                        new IllegalStateException(
+                                "ingestProcessor queue#[" + this.queueId + "] stopped");
+            }
+            if (t.error != null) {
+                t.callback.onFailure(t.error);
+                continue;
+            }
+            WriteTrace trace = t.operationBatch.getTrace();
+            if (trace != null) {
+                trace.setWalAppendMs(System.currentTimeMillis());
+            }
+            this.batchSender.asyncSendWithRetry(
+                    t.requestId, this.queueId, t.snapshotId, t.walOffset, t.operationBatch);
+            if (!t.operationBatch.equals(IngestService.MARKER_BATCH)) {
+                this.totalProcessed += t.operationBatch.getOperationCount();
+            }
+            t.callback.onSuccess(t.snapshotId);
+            logger.debug("batch ingested. requestId [" + t.requestId + "]");
+        }
+        long storeCompleteTimeNano = System.nanoTime();
+        if (hasData) {
+            this.walBlockTimeNano += (walCompleteTimeNano - startTimeNano);
+            this.storeBlockTimeNano += (storeCompleteTimeNano - walCompleteTimeNano);
+            this.walWriteLatency.record(walCompleteTimeNano - startTimeNano);
+            this.storeEnqueueLatency.record(storeCompleteTimeNano - walCompleteTimeNano);
         }
-        logger.debug("batch ingested. requestId [" + task.requestId + "]");
     }
 
-    private long processTask(LogWriter logWriter, IngestTask task) throws IOException {
+    private void appendTask(LogWriter logWriter, IngestTask task) throws IOException {
         long batchSnapshotId = this.ingestSnapshotId.get();
         if (batchSnapshotId == -1L) {
             throw new IllegalStateException("invalid ingestSnapshotId [" + batchSnapshotId + "]");
@@ -216,31 +292,18 @@ public class IngestProcessor implements MetricsAgent {
                             + batchSnapshotId
                             + "]");
         }
-        long startTimeNano = System.nanoTime();
-        long walOffset = -1L;
-        while (!shouldStop) {
-            try {
-                walOffset = logWriter.append(new LogEntry(batchSnapshotId, task.operationBatch));
-                break;
-            } catch (Exception e) {
-                // write failed, just throw out to fail this task
-                logger.error("write WAL failed. requestId [" + task.requestId + "]", e);
-                throw e;
-            }
-        }
-        long walCompleteTimeNano = System.nanoTime();
         if (shouldStop) {
             throw new IllegalStateException("ingestProcessor queue#[" + this.queueId + "] stopped");
         }
-        this.batchSender.asyncSendWithRetry(
-                task.requestId, this.queueId, batchSnapshotId, walOffset, task.operationBatch);
-        long storeCompleteTimeNano = System.nanoTime();
-        if (!task.operationBatch.equals(IngestService.MARKER_BATCH)) {
-            this.walBlockTimeNano += (walCompleteTimeNano - startTimeNano);
-            this.storeBlockTimeNano += (storeCompleteTimeNano - walCompleteTimeNano);
-            this.totalProcessed += task.operationBatch.getOperationCount();
+        task.snapshotId = batchSnapshotId;
+        try {
+            task.walFuture =
+                    logWriter.appendAsync(new LogEntry(batchSnapshotId, task.operationBatch));
+        } catch (Exception e) {
+            // write failed, just throw out to fail this task
+            logger.error("write WAL failed. requestId [" + task.requestId + "]", e);
+            throw e;
         }
-        return batchSnapshotId;
     }
 
     @Override
@@ -307,6 +370,11 @@ public class IngestProcessor implements MetricsAgent {
         OperationBatch operationBatch;
         IngestCallback callback;
 
+        long snapshotId;
+        Future<Long> walFuture;
+        long walOffset;
+        Exception error;
+
         public IngestTask(
                 String requestId, OperationBatch operationBatch, IngestCallback callback) {
             this.requestId = requestId;
@@ -338,6 +406,8 @@ public class IngestProcessor implements MetricsAgent {
             OperationBatch operationBatch = logEntry.getOperationBatch();
             this.batchSender.asyncSendWithRetry(
                     "", this.queueId, snapshotId, offset, operationBatch);
+            // Nothing else of the queue goes on before the replay is done, so just wait
+            this.batchSender.awaitCapacity();
             replayCount++;
         }
         try {
@@ -14,6 +14,7 @@
 package com.alibaba.graphscope.groot.ingestor;
 
 import com.alibaba.graphscope.groot.operation.OperationBatch;
+import com.alibaba.graphscope.groot.operation.WriteTrace;
 import com.alibaba.maxgraph.proto.groot.IngestorWriteGrpc;
 import com.alibaba.maxgraph.proto.groot.WriteIngestorRequest;
 import com.alibaba.maxgraph.proto.groot.WriteIngestorResponse;
@@ -35,6 +36,10 @@ public class IngestorWriteService extends IngestorWriteGrpc.IngestorWriteImplBas
             int queueId = request.getQueueId();
             String requestId = request.getRequestId();
             OperationBatch operationBatch = OperationBatch.parseProto(request.getOperationBatch());
+            if (request.hasTrace()) {
+                operationBatch =
+                        operationBatch.withTrace(WriteTrace.parseProto(request.getTrace()));
+            }
             this.ingestService.ingestBatch(
                     requestId,
                     queueId,
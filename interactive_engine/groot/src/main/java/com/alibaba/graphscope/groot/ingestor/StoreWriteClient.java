@@ -46,7 +46,7 @@ public class StoreWriteClient extends RpcClient {
     }
 
     public void writeStore(
-            List<StoreDataBatch> storeDataBatches, CompletionCallback<Integer> callback) {
+            List<StoreDataBatch> storeDataBatches, CompletionCallback<WriteStoreResult> callback) {
         Builder builder = WriteStoreRequest.newBuilder();
         for (StoreDataBatch storeDataBatch : storeDataBatches) {
             builder.addDataBatches(storeDataBatch.toProto());
@@ -59,7 +59,10 @@ public class StoreWriteClient extends RpcClient {
                     public void onNext(WriteStoreResponse writeStoreResponse) {
                         boolean success = writeStoreResponse.getSuccess();
                         if (success) {
-                            callback.onCompleted(req.getSerializedSize());
+                            callback.onCompleted(
+                                    new WriteStoreResult(
+                                            req.getSerializedSize(),
+                                            writeStoreResponse.getQueueDepth()));
                         } else {
                             onError(new RuntimeException("store buffer is full"));
                         }
@@ -37,7 +37,7 @@ public class StoreWriteClients extends RoleClients<StoreWriteClient> implements
     public void write(
             int storeId,
             List<StoreDataBatch> storeDataBatches,
-            CompletionCallback<Integer> callback) {
+            CompletionCallback<WriteStoreResult> callback) {
         this.getClient(storeId).writeStore(storeDataBatches, callback);
     }
 }
@@ -20,5 +20,7 @@ import java.util.List;
 
 public interface StoreWriter {
     void write(
-            int storeId, List<StoreDataBatch> storeDataBatch, CompletionCallback<Integer> callback);
+            int storeId,
+            List<StoreDataBatch> storeDataBatch,
+            CompletionCallback<WriteStoreResult> callback);
 }
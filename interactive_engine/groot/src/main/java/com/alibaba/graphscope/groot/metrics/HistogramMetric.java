@@ -0,0 +1,189 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, in the manner of HdrHistogram. Values
+ * below 64 have a bucket each, larger values are split into 32 buckets per power of two, so the
+ * relative error of a reported percentile is within 1/32.
+ *
+ * <p>{@link #record(long)} can be called from any thread. {@link #update()} is called periodically
+ * by a single thread to compute the percentiles of the values recorded since the last update.
+ */
+public class HistogramMetric {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+    private String name;
+    private String labelKey;
+    private String labelValue;
+
+    private AtomicLongArray counts;
+    private AtomicLong totalCount;
+    private AtomicLong totalSum;
+    private AtomicLong intervalMax;
+
+    // Only accessed by the update thread
+    private long[] lastCounts;
+
+    private volatile long p50;
+    private volatile long p99;
+    private volatile long p999;
+    private volatile long max;
+    private volatile long lastUpdateCount;
+    private volatile long lastUpdateSum;
+
+    public HistogramMetric(String name) {
+        this(name, null, null);
+    }
+
+    public HistogramMetric(String name, String labelKey, String labelValue) {
+        this.name = name;
+        this.labelKey = labelKey;
+        this.labelValue = labelValue;
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalCount = new AtomicLong(0L);
+        this.totalSum = new AtomicLong(0L);
+        this.intervalMax = new AtomicLong(0L);
+        this.lastCounts = new long[BUCKET_COUNT];
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exp - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /** The largest value that falls into the bucket */
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long mantissa = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * @param value latency in nanoseconds, negative values are recorded as 0
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        this.counts.incrementAndGet(bucketIndex(value));
+        this.totalCount.incrementAndGet();
+        this.totalSum.addAndGet(value);
+        long curMax = this.intervalMax.get();
+        while (value > curMax && !this.intervalMax.compareAndSet(curMax, value)) {
+            curMax = this.intervalMax.get();
+        }
+    }
+
+    public void recordSince(long startNano) {
+        record(System.nanoTime() - startNano);
+    }
+
+    public synchronized void update() {
+        long[] delta = new long[BUCKET_COUNT];
+        long intervalCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = this.counts.get(i);
+            delta[i] = count - this.lastCounts[i];
+            this.lastCounts[i] = count;
+            intervalCount += delta[i];
+        }
+        long maxVal = this.intervalMax.getAndSet(0L);
+        if (intervalCount == 0L) {
+            this.p50 = 0L;
+            this.p99 = 0L;
+            this.p999 = 0L;
+        } else {
+            this.p50 = Math.min(valueAt(delta, intervalCount, 0.5), maxVal);
+            this.p99 = Math.min(valueAt(delta, intervalCount, 0.99), maxVal);
+            this.p999 = Math.min(valueAt(delta, intervalCount, 0.999), maxVal);
+        }
+        this.max = maxVal;
+        this.lastUpdateSum = this.totalSum.get();
+        this.lastUpdateCount = this.totalCount.get();
+    }
+
+    private static long valueAt(long[] delta, long total, double quantile) {
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int i = 0; i < delta.length; i++) {
+            seen += delta[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(delta.length - 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLabelKey() {
+        return labelKey;
+    }
+
+    public String getLabelValue() {
+        return labelValue;
+    }
+
+    /** Name with the label, used as the key prefix in the collected metrics */
+    public String getFullName() {
+        return this.labelKey == null
+                ? this.name
+                : this.name + "." + this.labelKey + "." + this.labelValue;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getP999() {
+        return p999;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /** Total count of recorded values as of the last update */
+    public long getLastUpdateCount() {
+        return lastUpdateCount;
+    }
+
+    /** Total sum of recorded values as of the last update */
+    public long getLastUpdateSum() {
+        return lastUpdateSum;
+    }
+}
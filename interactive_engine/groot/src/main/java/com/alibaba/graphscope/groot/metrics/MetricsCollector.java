@@ -17,23 +17,38 @@ package com.alibaba.graphscope.groot.metrics;
 
 import com.alibaba.maxgraph.common.config.CommonConfig;
 import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.common.util.ThreadFactoryUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 public class MetricsCollector {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsCollector.class);
 
     private Set<String> registeredMetricKeys = new HashSet<>();
     private List<MetricsAgent> metricsAgents = new CopyOnWriteArrayList<>();
-    private ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private Map<String, HistogramMetric> histograms = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(
+                    ThreadFactoryUtils.daemonThreadFactoryWithLogExceptionHandler(
+                            "metrics-update", logger));
 
     private long updateIntervalMs;
 
     public MetricsCollector(Configs configs) {
         this.updateIntervalMs = CommonConfig.METRIC_UPDATE_INTERVAL_MS.get(configs);
+        scheduler.scheduleWithFixedDelay(
+                () -> this.histograms.values().forEach(HistogramMetric::update),
+                updateIntervalMs,
+                updateIntervalMs,
+                TimeUnit.MILLISECONDS);
     }
 
     public void register(MetricsAgent metricsAgent, Runnable... updateRunnable) {
@@ -50,11 +65,42 @@ public class MetricsCollector {
         }
     }
 
+    /**
+     * Get the latency histogram of the given name, it is created on first use. Latencies are
+     * recorded in nanoseconds and collected as microseconds with keys like "name.p99.us".
+     */
+    public HistogramMetric histogram(String name) {
+        return this.histograms.computeIfAbsent(name, k -> new HistogramMetric(name));
+    }
+
+    /** Get the latency histogram of the given name and label, e.g. one per partition. */
+    public HistogramMetric histogram(String name, String labelKey, String labelValue) {
+        HistogramMetric histogram = new HistogramMetric(name, labelKey, labelValue);
+        HistogramMetric prev = this.histograms.putIfAbsent(histogram.getFullName(), histogram);
+        return prev == null ? histogram : prev;
+    }
+
+    public Collection<HistogramMetric> getHistograms() {
+        return this.histograms.values();
+    }
+
     public Map<String, String> collectMetrics() {
         Map<String, String> metrics = new HashMap<>();
+        collectAgentMetrics(metrics);
+        for (HistogramMetric histogram : this.histograms.values()) {
+            String prefix = histogram.getFullName();
+            metrics.put(prefix + ".p50.us", String.valueOf(histogram.getP50() / 1000));
+            metrics.put(prefix + ".p99.us", String.valueOf(histogram.getP99() / 1000));
+            metrics.put(prefix + ".p999.us", String.valueOf(histogram.getP999() / 1000));
+            metrics.put(prefix + ".max.us", String.valueOf(histogram.getMax() / 1000));
+            metrics.put(prefix + ".count", String.valueOf(histogram.getLastUpdateCount()));
+        }
+        return metrics;
+    }
+
+    public void collectAgentMetrics(Map<String, String> metrics) {
         for (MetricsAgent metricsAgent : this.metricsAgents) {
             metrics.putAll(metricsAgent.getMetrics());
         }
-        return metrics;
     }
 }
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.metrics;
+
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.compiler.api.exception.MaxGraphException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the metrics of a node in Prometheus text format on "/metrics". Latency histograms are
+ * exported as summaries in seconds, and numeric metrics of the agents are exported as gauges.
+ */
+public class MetricsExporter {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsExporter.class);
+
+    public static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String PREFIX = "groot_";
+
+    private MetricsCollector metricsCollector;
+    private int port;
+    private String nodeLabels;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public MetricsExporter(Configs configs, MetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector;
+        this.port = CommonConfig.METRICS_HTTP_PORT.get(configs);
+        this.nodeLabels =
+                "role=\""
+                        + CommonConfig.ROLE_NAME.get(configs)
+                        + "\",node=\""
+                        + CommonConfig.NODE_IDX.get(configs)
+                        + "\"";
+    }
+
+    public void start() {
+        if (this.port < 0) {
+            logger.info("metrics exporter is disabled");
+            return;
+        }
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(this.port), 0);
+        } catch (IOException e) {
+            throw new MaxGraphException(e);
+        }
+        this.executor = Executors.newSingleThreadExecutor();
+        this.server.setExecutor(this.executor);
+        this.server.createContext(PATH, this::handle);
+        this.server.start();
+        logger.info("metrics exporter started on port [" + getPort() + "]");
+    }
+
+    public void stop() {
+        if (this.server != null) {
+            this.server.stop(0);
+            this.server = null;
+        }
+        if (this.executor != null) {
+            this.executor.shutdown();
+            try {
+                this.executor.awaitTermination(3000L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Ignore
+            }
+            this.executor = null;
+        }
+    }
+
+    /** The bound port, useful when configured with port 0 */
+    public int getPort() {
+        return this.server == null ? this.port : this.server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = format().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        Map<String, List<HistogramMetric>> nameToHistograms = new TreeMap<>();
+        for (HistogramMetric histogram : this.metricsCollector.getHistograms()) {
+            nameToHistograms
+                    .computeIfAbsent(histogram.getName(), k -> new ArrayList<>())
+                    .add(histogram);
+        }
+        for (Map.Entry<String, List<HistogramMetric>> entry : nameToHistograms.entrySet()) {
+            String metricName = PREFIX + sanitize(entry.getKey()) + "_seconds";
+            sb.append("# TYPE ").append(metricName).append(" summary\n");
+            for (HistogramMetric histogram : entry.getValue()) {
+                String labels = this.nodeLabels;
+                if (histogram.getLabelKey() != null) {
+                    labels +=
+                            ","
+                                    + sanitize(histogram.getLabelKey())
+                                    + "=\""
+                                    + histogram.getLabelValue()
+                                    + "\"";
+                }
+                appendQuantile(sb, metricName, labels, "0.5", histogram.getP50());
+                appendQuantile(sb, metricName, labels, "0.99", histogram.getP99());
+                appendQuantile(sb, metricName, labels, "0.999", histogram.getP999());
+                sb.append(metricName).append("_sum{").append(labels).append("} ");
+                sb.append(nanoToSeconds(histogram.getLastUpdateSum())).append('\n');
+                sb.append(metricName).append("_count{").append(labels).append("} ");
+                sb.append(histogram.getLastUpdateCount()).append('\n');
+            }
+        }
+        Map<String, String> metrics = new TreeMap<>();
+        this.metricsCollector.collectAgentMetrics(metrics);
+        for (Map.Entry<String, String> entry : metrics.entrySet()) {
+            double value;
+            try {
+                value = Double.parseDouble(entry.getValue());
+            } catch (NumberFormatException | NullPointerException e) {
+                // Not a scalar, e.g. per partition lists
+                continue;
+            }
+            String metricName = PREFIX + sanitize(entry.getKey());
+            sb.append("# TYPE ").append(metricName).append(" gauge\n");
+            sb.append(metricName).append('{').append(this.nodeLabels).append("} ");
+            sb.append(value).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void appendQuantile(
+            StringBuilder sb, String metricName, String labels, String quantile, long nano) {
+        sb.append(metricName).append('{').append(labels);
+        sb.append(",quantile=\"").append(quantile).append("\"} ");
+        sb.append(nanoToSeconds(nano)).append('\n');
+    }
+
+    private static double nanoToSeconds(long nano) {
+        return nano / 1e9;
+    }
+
+    static String sanitize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid =
+                    (c >= 'a' && c <= 'z')
+                            || (c >= 'A' && c <= 'Z')
+                            || (c >= '0' && c <= '9' && i > 0)
+                            || c == '_';
+            sb.append(valid ? c : '_');
+        }
+        return sb.toString();
+    }
+}
@@ -24,10 +24,20 @@ public class OperationBatch implements Iterable<OperationBlob> {
 
     private long latestSnapshotId;
     private List<OperationBlob> operationBlobs;
+    // Built at most once, so that WAL, RPC and store encode a batch without rebuilding it
+    private OperationBatchPb proto;
+    // Not part of the proto, it is sent in the request metadata of sampled writes
+    private WriteTrace trace;
 
     private OperationBatch(long latestSnapshotId, List<OperationBlob> operationBlobs) {
+        this(latestSnapshotId, operationBlobs, null);
+    }
+
+    private OperationBatch(
+            long latestSnapshotId, List<OperationBlob> operationBlobs, OperationBatchPb proto) {
         this.latestSnapshotId = latestSnapshotId;
         this.operationBlobs = operationBlobs;
+        this.proto = proto;
     }
 
     public static OperationBatch parseProto(OperationBatchPb proto) {
@@ -37,7 +47,7 @@ public class OperationBatch implements Iterable<OperationBlob> {
         for (OperationPb operationPb : operationPbs) {
             operationBlobs.add(OperationBlob.parseProto(operationPb));
         }
-        return new OperationBatch(latestSnapshotId, operationBlobs);
+        return new OperationBatch(latestSnapshotId, operationBlobs, proto);
     }
 
     public int getOperationCount() {
@@ -57,13 +67,30 @@ public class OperationBatch implements Iterable<OperationBlob> {
         return operationBlobs.get(i);
     }
 
+    public WriteTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * @return a batch sharing the operations of this batch, with the given trace attached
+     */
+    public OperationBatch withTrace(WriteTrace trace) {
+        OperationBatch traced =
+                new OperationBatch(this.latestSnapshotId, this.operationBlobs, this.proto);
+        traced.trace = trace;
+        return traced;
+    }
+
     public OperationBatchPb toProto() {
-        OperationBatchPb.Builder builder = OperationBatchPb.newBuilder();
-        builder.setLatestSnapshotId(latestSnapshotId);
-        for (OperationBlob operationBlob : operationBlobs) {
-            builder.addOperations(operationBlob.toProto());
+        if (this.proto == null) {
+            OperationBatchPb.Builder builder = OperationBatchPb.newBuilder();
+            builder.setLatestSnapshotId(latestSnapshotId);
+            for (OperationBlob operationBlob : operationBlobs) {
+                builder.addOperations(operationBlob.toProto());
+            }
+            this.proto = builder.build();
         }
-        return builder.build();
+        return this.proto;
     }
 
     public static Builder newBuilder() {
@@ -22,18 +22,29 @@ public class OperationBlob {
     private long partitionKey;
     private OperationType operationType;
     private ByteString dataBytes;
+    // Built at most once, a blob is shared by the WAL entry and every per-store batch
+    private OperationPb proto;
 
     public OperationBlob(long partitionKey, OperationType operationType, ByteString dataBytes) {
+        this(partitionKey, operationType, dataBytes, null);
+    }
+
+    private OperationBlob(
+            long partitionKey,
+            OperationType operationType,
+            ByteString dataBytes,
+            OperationPb proto) {
         this.partitionKey = partitionKey;
         this.operationType = operationType;
         this.dataBytes = dataBytes;
+        this.proto = proto;
     }
 
     public static OperationBlob parseProto(OperationPb proto) {
         long partitionKey = proto.getPartitionKey();
         OperationType operationType = OperationType.parseProto(proto.getOpType());
         ByteString bytes = proto.getDataBytes();
-        return new OperationBlob(partitionKey, operationType, bytes);
+        return new OperationBlob(partitionKey, operationType, bytes, proto);
     }
 
     public long getPartitionKey() {
@@ -45,11 +56,15 @@ public class OperationBlob {
     }
 
     public OperationPb toProto() {
-        return OperationPb.newBuilder()
-                .setPartitionKey(partitionKey)
-                .setOpType(operationType.toProto())
-                .setDataBytes(dataBytes)
-                .build();
+        if (this.proto == null) {
+            this.proto =
+                    OperationPb.newBuilder()
+                            .setPartitionKey(partitionKey)
+                            .setOpType(operationType.toProto())
+                            .setDataBytes(dataBytes)
+                            .build();
+        }
+        return this.proto;
     }
 
     @Override
@@ -31,6 +31,7 @@ public class StoreDataBatch {
     // List [ partition -> OperationBatch ]
     private List<Map<Integer, OperationBatch>> dataBatch;
     private int size;
+    private WriteTrace trace;
 
     private StoreDataBatch(
             String requestId,
@@ -38,7 +39,7 @@ public class StoreDataBatch {
             long snapshotId,
             long offset,
             List<Map<Integer, OperationBatch>> dataBatch) {
-        this(requestId, queueId, snapshotId, offset, dataBatch, -1);
+        this(requestId, queueId, snapshotId, offset, dataBatch, -1, null);
     }
 
     private StoreDataBatch(
@@ -47,13 +48,15 @@ public class StoreDataBatch {
             long snapshotId,
             long offset,
             List<Map<Integer, OperationBatch>> dataBatch,
-            int size) {
+            int size,
+            WriteTrace trace) {
         this.requestId = requestId;
         this.queueId = queueId;
         this.snapshotId = snapshotId;
         this.offset = offset;
         this.dataBatch = Collections.unmodifiableList(new ArrayList<>(dataBatch));
         this.size = size;
+        this.trace = trace;
     }
 
     public static StoreDataBatch parseProto(StoreDataBatchPb proto) {
@@ -69,7 +72,8 @@ public class StoreDataBatch {
                     .forEach((pid, pb) -> batch.put(pid, OperationBatch.parseProto(pb)));
             dataBatch.add(batch);
         }
-        return new StoreDataBatch(requestId, queueId, snapshotId, offset, dataBatch);
+        WriteTrace trace = proto.hasTrace() ? WriteTrace.parseProto(proto.getTrace()) : null;
+        return new StoreDataBatch(requestId, queueId, snapshotId, offset, dataBatch, -1, trace);
     }
 
     public String getRequestId() {
@@ -92,6 +96,13 @@ public class StoreDataBatch {
         return dataBatch;
     }
 
+    /**
+     * @return trace of a sampled write, or null
+     */
+    public WriteTrace getTrace() {
+        return trace;
+    }
+
     public int getSize() {
         if (this.size == -1) {
             this.size =
@@ -109,12 +120,47 @@ public class StoreDataBatch {
         return this.size;
     }
 
+    /**
+     * Merge a following batch of the same queue and snapshot into one batch. The merged batch takes
+     * the offset of the following batch, so that the store consumes both of them at once. Only one
+     * trace is kept if both of them are sampled.
+     */
+    public StoreDataBatch merge(StoreDataBatch next) {
+        if (this.queueId != next.queueId || this.snapshotId != next.snapshotId) {
+            throw new IllegalArgumentException(
+                    "cannot merge batch of queue ["
+                            + next.queueId
+                            + "] snapshot ["
+                            + next.snapshotId
+                            + "] into batch of queue ["
+                            + this.queueId
+                            + "] snapshot ["
+                            + this.snapshotId
+                            + "]");
+        }
+        List<Map<Integer, OperationBatch>> mergedBatch =
+                new ArrayList<>(this.dataBatch.size() + next.dataBatch.size());
+        mergedBatch.addAll(this.dataBatch);
+        mergedBatch.addAll(next.dataBatch);
+        return new StoreDataBatch(
+                this.requestId,
+                this.queueId,
+                this.snapshotId,
+                next.offset,
+                mergedBatch,
+                this.getSize() + next.getSize(),
+                this.trace != null ? this.trace : next.trace);
+    }
+
     public StoreDataBatchPb toProto() {
         StoreDataBatchPb.Builder builder = StoreDataBatchPb.newBuilder();
         builder.setRequestId(requestId)
                 .setQueueId(queueId)
                 .setSnapshotId(snapshotId)
                 .setOffset(offset);
+        if (trace != null) {
+            builder.setTrace(trace.toProto());
+        }
         for (Map<Integer, OperationBatch> batch : dataBatch) {
             PartitionToBatchPb.Builder batchBuilder = PartitionToBatchPb.newBuilder();
             batch.forEach((pid, ops) -> batchBuilder.putPartitionToBatch(pid, ops.toProto()));
@@ -135,6 +181,7 @@ public class StoreDataBatch {
         private List<Map<Integer, OperationBatch>> dataBatch;
         private Map<Integer, OperationBatch.Builder> partitionBatchBuilder;
         private int size;
+        private WriteTrace trace;
 
         public Builder() {
             this.dataBatch = new ArrayList<>();
@@ -162,6 +209,11 @@ public class StoreDataBatch {
             return this;
         }
 
+        public Builder trace(WriteTrace trace) {
+            this.trace = trace;
+            return this;
+        }
+
         private Builder addBatch(Map<Integer, OperationBatch> batch) {
             this.dataBatch.add(batch);
             return this;
@@ -193,7 +245,8 @@ public class StoreDataBatch {
                 partitionBatchBuilder.forEach((pid, builder) -> batch.put(pid, builder.build()));
                 addBatch(batch);
             }
-            return new StoreDataBatch(requestId, queueId, snapshotId, offset, dataBatch, size);
+            return new StoreDataBatch(
+                    requestId, queueId, snapshotId, offset, dataBatch, size, trace);
         }
     }
 }
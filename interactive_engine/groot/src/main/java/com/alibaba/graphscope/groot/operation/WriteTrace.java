@@ -0,0 +1,90 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.operation;
+
+import com.alibaba.maxgraph.proto.groot.WriteTracePb;
+
+/**
+ * Timestamps of a sampled write request at each hop, carried along with the batch from frontend to
+ * store. Timestamps are wall clock milliseconds of the node that records them, 0 means the hop is
+ * not reached yet.
+ */
+public class WriteTrace {
+
+    private String requestId;
+    private long frontendStartMs;
+    private volatile long walAppendMs;
+    // Local to the store, not sent over the wire
+    private volatile long storeReceiveMs;
+
+    public WriteTrace(String requestId, long frontendStartMs) {
+        this(requestId, frontendStartMs, 0L);
+    }
+
+    private WriteTrace(String requestId, long frontendStartMs, long walAppendMs) {
+        this.requestId = requestId;
+        this.frontendStartMs = frontendStartMs;
+        this.walAppendMs = walAppendMs;
+    }
+
+    public static WriteTrace parseProto(WriteTracePb proto) {
+        return new WriteTrace(
+                proto.getRequestId(), proto.getFrontendStartMs(), proto.getWalAppendMs());
+    }
+
+    public WriteTracePb toProto() {
+        return WriteTracePb.newBuilder()
+                .setRequestId(requestId)
+                .setFrontendStartMs(frontendStartMs)
+                .setWalAppendMs(walAppendMs)
+                .build();
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public long getFrontendStartMs() {
+        return frontendStartMs;
+    }
+
+    public long getWalAppendMs() {
+        return walAppendMs;
+    }
+
+    public void setWalAppendMs(long walAppendMs) {
+        this.walAppendMs = walAppendMs;
+    }
+
+    public long getStoreReceiveMs() {
+        return storeReceiveMs;
+    }
+
+    public void setStoreReceiveMs(long storeReceiveMs) {
+        this.storeReceiveMs = storeReceiveMs;
+    }
+
+    @Override
+    public String toString() {
+        return "requestId ["
+                + requestId
+                + "], frontendStartMs ["
+                + frontendStartMs
+                + "], walAppendMs ["
+                + walAppendMs
+                + "], storeReceiveMs ["
+                + storeReceiveMs
+                + "]";
+    }
+}
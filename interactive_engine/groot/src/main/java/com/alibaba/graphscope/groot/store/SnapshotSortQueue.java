@@ -21,124 +21,216 @@ import com.alibaba.maxgraph.common.config.StoreConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
-/** sort by (snapshotId, queueId) */
+/**
+ * sort by (snapshotId, queueId)
+ *
+ * <p>Batches of one snapshot are polled from the highest queueId to the lowest. Batches of a queue
+ * arrive in non-decreasing snapshotId order, so the snapshotId of the last batch offered to a queue
+ * is a watermark: the queue will not receive batches of smaller snapshots. Marker batches keep the
+ * watermarks of idle queues moving. The head of the queues is polled as soon as no queue can
+ * receive a batch that sorts before it, and the consumer is only woken up when an offer may change
+ * that.
+ */
 public class SnapshotSortQueue {
 
     private static final Logger logger = LoggerFactory.getLogger(SnapshotSortQueue.class);
 
     private long queueWaitMs;
     private int queueCount;
+    private int queueSize;
 
-    private List<BlockingQueue<StoreDataBatch>> innerQueues;
-    private List<StoreDataBatch> queueHeads;
+    private ReentrantLock lock;
+    private Condition readyCondition;
+    private List<Condition> notFullConditions;
+    private List<ArrayDeque<StoreDataBatch>> innerQueues;
+    // snapshotId of the last batch offered to each queue, -1 if none yet
+    private long[] watermarks;
 
-    private int currentPollQueueIdx;
-    private long currentPollSnapshotId;
+    private long lastPollSnapshotId;
     private AtomicInteger size;
 
     public SnapshotSortQueue(Configs configs, MetaService metaService) {
-        this.currentPollSnapshotId = -1L;
-
         this.queueCount = metaService.getQueueCount();
-        int queueSize = StoreConfig.STORE_QUEUE_BUFFER_SIZE.get(configs);
+        this.queueSize = StoreConfig.STORE_QUEUE_BUFFER_SIZE.get(configs);
+        this.queueWaitMs = StoreConfig.STORE_QUEUE_WAIT_MS.get(configs);
 
+        this.lock = new ReentrantLock();
+        this.readyCondition = this.lock.newCondition();
+        this.notFullConditions = new ArrayList<>(this.queueCount);
         this.innerQueues = new ArrayList<>(this.queueCount);
-        this.queueHeads = new ArrayList<>(this.queueCount);
+        this.watermarks = new long[this.queueCount];
         for (int i = 0; i < this.queueCount; i++) {
-            this.innerQueues.add(new ArrayBlockingQueue<>(queueSize));
-            this.queueHeads.add(null);
+            this.notFullConditions.add(this.lock.newCondition());
+            this.innerQueues.add(new ArrayDeque<>());
+            this.watermarks[i] = -1L;
         }
-        this.currentPollQueueIdx = this.queueCount - 1;
-
-        this.queueWaitMs = StoreConfig.STORE_QUEUE_WAIT_MS.get(configs);
+        this.lastPollSnapshotId = -1L;
         this.size = new AtomicInteger(0);
     }
 
     public boolean offerQueue(int queueId, StoreDataBatch entry) throws InterruptedException {
-        BlockingQueue<StoreDataBatch> innerQueue = this.innerQueues.get(queueId);
-        if (innerQueue == null) {
+        if (queueId < 0 || queueId >= this.queueCount) {
             throw new IllegalArgumentException("invalid queueId [" + queueId + "]");
         }
-        boolean res = innerQueue.offer(entry, this.queueWaitMs, TimeUnit.MILLISECONDS);
-        if (res) {
+        ArrayDeque<StoreDataBatch> innerQueue = this.innerQueues.get(queueId);
+        long waitNano = TimeUnit.MILLISECONDS.toNanos(this.queueWaitMs);
+        this.lock.lockInterruptibly();
+        try {
+            while (innerQueue.size() >= this.queueSize) {
+                if (waitNano <= 0L) {
+                    return false;
+                }
+                waitNano = this.notFullConditions.get(queueId).awaitNanos(waitNano);
+            }
+            boolean wasEmpty = innerQueue.isEmpty();
+            innerQueue.addLast(entry);
             this.size.incrementAndGet();
+            long snapshotId = entry.getSnapshotId();
+            if (snapshotId > this.watermarks[queueId]) {
+                this.watermarks[queueId] = snapshotId;
+            }
+            // Appending to a non-empty queue changes neither its head nor what the consumer waits
+            // for
+            if (wasEmpty) {
+                this.readyCondition.signal();
+            }
+            return true;
+        } finally {
+            this.lock.unlock();
         }
-        return res;
     }
 
+    /**
+     * Poll the next batch in (snapshotId, queueId) order, wait up to queueWaitMs for it to be
+     * ready.
+     *
+     * @return the next batch, or null if not ready in time
+     */
     public StoreDataBatch poll() throws InterruptedException {
-        if (this.currentPollSnapshotId == -1L) {
-            // We need to wait for all queues each has at least 1 entry to decide initial
-            // pollSnapshotId
-            long minSnapshotId = Long.MAX_VALUE;
-            for (int i = 0; i < this.innerQueues.size(); i++) {
-                StoreDataBatch entry = this.queueHeads.get(i);
-                if (entry == null) {
-                    entry = this.innerQueues.get(i).poll(this.queueWaitMs, TimeUnit.MILLISECONDS);
-                    if (entry == null) {
-                        return null;
-                    }
-                    this.queueHeads.set(i, entry);
+        long waitNano = TimeUnit.MILLISECONDS.toNanos(this.queueWaitMs);
+        this.lock.lockInterruptibly();
+        try {
+            while (true) {
+                StoreDataBatch entry = pollReady();
+                if (entry != null) {
+                    return entry;
                 }
-                long entrySnapshotId = entry.getSnapshotId();
-                if (entrySnapshotId < minSnapshotId) {
-                    minSnapshotId = entrySnapshotId;
+                if (waitNano <= 0L) {
+                    return null;
                 }
+                waitNano = this.readyCondition.awaitNanos(waitNano);
             }
-            this.currentPollSnapshotId = minSnapshotId;
-            logger.info("currentPollSnapshotId initialize to [" + this.currentPollSnapshotId + "]");
+        } finally {
+            this.lock.unlock();
         }
+    }
+
+    /** Must be called with lock held */
+    private StoreDataBatch pollReady() {
         while (true) {
-            StoreDataBatch entry = this.queueHeads.get(this.currentPollQueueIdx);
-            this.queueHeads.set(this.currentPollQueueIdx, null);
-            if (entry == null) {
-                entry =
-                        this.innerQueues
-                                .get(this.currentPollQueueIdx)
-                                .poll(this.queueWaitMs, TimeUnit.MILLISECONDS);
-                if (entry == null) {
-                    return null;
+            int headQueueId = -1;
+            long headSnapshotId = Long.MAX_VALUE;
+            for (int i = this.queueCount - 1; i >= 0; i--) {
+                StoreDataBatch head = this.innerQueues.get(i).peekFirst();
+                if (head != null && head.getSnapshotId() < headSnapshotId) {
+                    headQueueId = i;
+                    headSnapshotId = head.getSnapshotId();
                 }
             }
-
-            long snapshotId = entry.getSnapshotId();
-            if (snapshotId == this.currentPollSnapshotId) {
-                this.size.decrementAndGet();
-                return entry;
+            if (headQueueId == -1) {
+                return null;
             }
-            if (snapshotId > this.currentPollSnapshotId) {
-                this.queueHeads.set(this.currentPollQueueIdx, entry);
-                this.currentPollQueueIdx--;
-                if (this.currentPollQueueIdx == -1) {
-                    this.currentPollQueueIdx = this.queueCount - 1;
-                    this.currentPollSnapshotId++;
-                }
-            } else {
+            if (headSnapshotId < this.lastPollSnapshotId) {
+                StoreDataBatch illegal = removeHead(headQueueId);
                 logger.warn(
                         "Illegal entry polled from queue ["
-                                + this.currentPollQueueIdx
+                                + headQueueId
                                 + "]. entrySnapshotId ["
-                                + snapshotId
+                                + illegal.getSnapshotId()
                                 + "] < currentSnapshotId ["
-                                + this.currentPollSnapshotId
+                                + this.lastPollSnapshotId
                                 + "]. Ignored entry.");
+                continue;
+            }
+            for (int i = 0; i < this.queueCount; i++) {
+                if (i == headQueueId || !this.innerQueues.get(i).isEmpty()) {
+                    continue;
+                }
+                // An empty queue may still receive batches of its watermark snapshot, which sort
+                // before the head if the queue polls first for that snapshot
+                long watermark = this.watermarks[i];
+                if (watermark < headSnapshotId
+                        || (watermark == headSnapshotId && i > headQueueId)) {
+                    return null;
+                }
             }
+            if (this.lastPollSnapshotId == -1L) {
+                logger.info("currentPollSnapshotId initialize to [" + headSnapshotId + "]");
+            }
+            this.lastPollSnapshotId = headSnapshotId;
+            return removeHead(headQueueId);
         }
     }
 
+    private StoreDataBatch removeHead(int queueId) {
+        StoreDataBatch entry = this.innerQueues.get(queueId).pollFirst();
+        this.size.decrementAndGet();
+        this.notFullConditions.get(queueId).signal();
+        return entry;
+    }
+
     public int size() {
         return this.size.get();
     }
 
+    public int innerQueueSize(int queueId) {
+        this.lock.lock();
+        try {
+            return this.innerQueues.get(queueId).size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
     public List<Integer> innerQueueSizes() {
-        return this.innerQueues.stream().map(q -> q.size()).collect(Collectors.toList());
+        this.lock.lock();
+        try {
+            List<Integer> sizes = new ArrayList<>(this.queueCount);
+            for (ArrayDeque<StoreDataBatch> innerQueue : this.innerQueues) {
+                sizes.add(innerQueue.size());
+            }
+            return sizes;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Lag of each queue in snapshots, behind the queue that has received the largest snapshot. The
+     * queue with the largest lag is the one holding back the polling.
+     */
+    public List<Long> queueSnapshotLags() {
+        this.lock.lock();
+        try {
+            long maxWatermark = -1L;
+            for (long watermark : this.watermarks) {
+                maxWatermark = Math.max(maxWatermark, watermark);
+            }
+            List<Long> lags = new ArrayList<>(this.queueCount);
+            for (long watermark : this.watermarks) {
+                lags.add(watermark == -1L ? -1L : maxWatermark - watermark);
+            }
+            return lags;
+        } finally {
+            this.lock.unlock();
+        }
     }
 }
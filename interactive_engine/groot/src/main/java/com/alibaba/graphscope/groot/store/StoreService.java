@@ -16,6 +16,7 @@ package com.alibaba.graphscope.groot.store;
 import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.AvgMetric;
+import com.alibaba.graphscope.groot.metrics.HistogramMetric;
 import com.alibaba.graphscope.groot.metrics.MetricsAgent;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.OperationBatch;
@@ -33,27 +34,35 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 public class StoreService implements MetricsAgent {
     private static final Logger logger = LoggerFactory.getLogger(StoreService.class);
 
     private static final String PARTITION_WRITE_PER_SECOND_MS = "partition.write.per.second.ms";
+    public static final String PARTITION_WRITE_LATENCY = "store.partition.write.latency";
+    private static final long WRITE_RETRY_INTERVAL_MS = 1000L;
 
     private Configs configs;
     private int storeId;
@@ -62,6 +71,8 @@ public class StoreService implements MetricsAgent {
     private MetaService metaService;
     private Map<Integer, GraphPartition> idToPartition;
     private ExecutorService writeExecutor;
+    private Map<Integer, PartitionWriteLane> partitionWriteLanes;
+    private ScheduledExecutorService writeRetryScheduler;
     private ExecutorService ingestExecutor;
     private ExecutorService garbageCollectExecutor;
     private ExecutorService downloadExecutor;
@@ -70,6 +81,8 @@ public class StoreService implements MetricsAgent {
 
     private volatile long lastUpdateTime;
     private Map<Integer, AvgMetric> partitionToMetric;
+    private Map<Integer, HistogramMetric> partitionToLatency;
+    private MetricsCollector metricsCollector;
 
     public StoreService(
             Configs configs, MetaService metaService, MetricsCollector metricsCollector) {
@@ -78,6 +91,7 @@ public class StoreService implements MetricsAgent {
         this.enableGc = StoreConfig.STORE_GC_ENABLE.get(configs);
         this.writeThreadCount = StoreConfig.STORE_WRITE_THREAD_COUNT.get(configs);
         this.metaService = metaService;
+        this.metricsCollector = metricsCollector;
         metricsCollector.register(this, () -> updateMetrics());
     }
 
@@ -94,16 +108,23 @@ public class StoreService implements MetricsAgent {
             }
         }
         initMetrics();
+        this.partitionWriteLanes = new ConcurrentHashMap<>();
         this.shouldStop = false;
+        // partitions are written one task at a time, more threads than partitions are never used
+        int threadCount = Math.max(Math.min(this.writeThreadCount, partitionIds.size()), 1);
         this.writeExecutor =
                 new ThreadPoolExecutor(
-                        writeThreadCount,
-                        writeThreadCount,
+                        threadCount,
+                        threadCount,
                         0L,
                         TimeUnit.MILLISECONDS,
                         new LinkedBlockingQueue<>(),
                         ThreadFactoryUtils.daemonThreadFactoryWithLogExceptionHandler(
                                 "store-write", logger));
+        this.writeRetryScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        ThreadFactoryUtils.daemonThreadFactoryWithLogExceptionHandler(
+                                "store-write-retry", logger));
         this.ingestExecutor =
                 new ThreadPoolExecutor(
                         1,
@@ -181,6 +202,16 @@ public class StoreService implements MetricsAgent {
             }
             this.writeExecutor = null;
         }
+        if (this.writeRetryScheduler != null) {
+            // pending retries still run after shutdown, and fail their writes since stopped
+            this.writeRetryScheduler.shutdown();
+            try {
+                this.writeRetryScheduler.awaitTermination(3000L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Ignore
+            }
+            this.writeRetryScheduler = null;
+        }
     }
 
     /**
@@ -217,73 +248,156 @@ public class StoreService implements MetricsAgent {
 
     public boolean batchWrite(StoreDataBatch storeDataBatch)
             throws ExecutionException, InterruptedException {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        asyncBatchWrite(
+                storeDataBatch,
+                new CompletionCallback<Boolean>() {
+                    @Override
+                    public void onCompleted(Boolean hasDdl) {
+                        future.complete(hasDdl);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+        return future.get();
+    }
+
+    /**
+     * Write the batch to partitions without blocking. Operations of the same partition are applied
+     * in the order that batches are submitted, while different partitions are written concurrently,
+     * so a slow partition only delays the batches that touch it. A failed partition write is
+     * retried later without occupying a write thread, until the service stops.
+     *
+     * @param storeDataBatch
+     * @param callback completed with whether the batch contains DDL, after all partitions written
+     */
+    public void asyncBatchWrite(
+            StoreDataBatch storeDataBatch, CompletionCallback<Boolean> callback) {
         long snapshotId = storeDataBatch.getSnapshotId();
-        List<Map<Integer, OperationBatch>> dataBatch = storeDataBatch.getDataBatch();
-        AtomicBoolean hasDdl = new AtomicBoolean(false);
-        for (Map<Integer, OperationBatch> partitionToBatch : dataBatch) {
-            while (!shouldStop && partitionToBatch.size() != 0) {
-                partitionToBatch = writeStore(snapshotId, partitionToBatch, hasDdl);
+        List<Map.Entry<Integer, OperationBatch>> partitionBatches = new ArrayList<>();
+        for (Map<Integer, OperationBatch> partitionToBatch : storeDataBatch.getDataBatch()) {
+            for (Map.Entry<Integer, OperationBatch> e : partitionToBatch.entrySet()) {
+                // Ignore Marker
+                // Only support partition operation for now
+                if (e.getKey() != -1) {
+                    partitionBatches.add(e);
+                }
             }
         }
-        return hasDdl.get();
-    }
-
-    private Map<Integer, OperationBatch> writeStore(
-            long snapshotId, Map<Integer, OperationBatch> partitionToBatch, AtomicBoolean hasDdl)
-            throws ExecutionException, InterruptedException {
-        Map<Integer, OperationBatch> batchNeedRetry = new ConcurrentHashMap<>();
-        AtomicInteger counter = new AtomicInteger(partitionToBatch.size());
-        CompletableFuture<Object> future = new CompletableFuture<>();
-        for (Map.Entry<Integer, OperationBatch> e : partitionToBatch.entrySet()) {
+        if (partitionBatches.isEmpty()) {
+            callback.onCompleted(false);
+            return;
+        }
+        AtomicBoolean hasDdl = new AtomicBoolean(false);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicInteger counter = new AtomicInteger(partitionBatches.size());
+        for (Map.Entry<Integer, OperationBatch> e : partitionBatches) {
             int partitionId = e.getKey();
             OperationBatch batch = e.getValue();
             logger.debug("writeStore partition [" + partitionId + "]");
-            this.writeExecutor.execute(
-                    () -> {
-                        try {
-                            if (partitionId != -1) {
-                                // Ignore Marker
-                                // Only support partition operation for now
-                                long beforeWriteTime = System.nanoTime();
-                                GraphPartition partition = this.idToPartition.get(partitionId);
-                                if (partition == null) {
-                                    throw new IllegalStateException(
-                                            "partition ["
-                                                    + partitionId
-                                                    + "] is not initialized / exists");
+            this.partitionWriteLanes
+                    .computeIfAbsent(partitionId, k -> new PartitionWriteLane())
+                    .submit(
+                            () -> {
+                                if (shouldStop) {
+                                    if (!failed.getAndSet(true)) {
+                                        callback.onError(
+                                                new IllegalStateException(
+                                                        "StoreService stopped, snapshotId ["
+                                                                + snapshotId
+                                                                + "] not written"));
+                                    }
+                                    return true;
                                 }
-                                if (partition.writeBatch(snapshotId, batch)) {
-                                    hasDdl.set(true);
+                                if (!writePartition(partitionId, snapshotId, batch, hasDdl)) {
+                                    return false;
                                 }
-                                long afterWriteTime = System.nanoTime();
-                                this.partitionToMetric
-                                        .get(partitionId)
-                                        .add(afterWriteTime - beforeWriteTime);
-                            }
-                        } catch (Exception ex) {
-                            logger.error(
-                                    "write to partition ["
-                                            + partitionId
-                                            + "] failed, snapshotId ["
-                                            + snapshotId
-                                            + "]. will retry",
-                                    ex);
-                            batchNeedRetry.put(partitionId, batch);
-                        }
-                        if (counter.decrementAndGet() == 0) {
-                            future.complete(null);
-                        }
-                    });
+                                if (counter.decrementAndGet() == 0) {
+                                    callback.onCompleted(hasDdl.get());
+                                }
+                                return true;
+                            });
+        }
+    }
+
+    private boolean writePartition(
+            int partitionId, long snapshotId, OperationBatch batch, AtomicBoolean hasDdl) {
+        try {
+            long beforeWriteTime = System.nanoTime();
+            GraphPartition partition = this.idToPartition.get(partitionId);
+            if (partition == null) {
+                throw new IllegalStateException(
+                        "partition [" + partitionId + "] is not initialized / exists");
+            }
+            if (partition.writeBatch(snapshotId, batch)) {
+                hasDdl.set(true);
+            }
+            long afterWriteTime = System.nanoTime();
+            this.partitionToMetric.get(partitionId).add(afterWriteTime - beforeWriteTime);
+            this.partitionToLatency.get(partitionId).record(afterWriteTime - beforeWriteTime);
+            return true;
+        } catch (Exception ex) {
+            logger.error(
+                    "write to partition ["
+                            + partitionId
+                            + "] failed, snapshotId ["
+                            + snapshotId
+                            + "]. will retry",
+                    ex);
+            return false;
+        }
+    }
+
+    /**
+     * Runs write tasks of one partition on the writeExecutor one at a time, in submission order. A
+     * lane gives its thread back after each task, so lanes share writeExecutor fairly. A task
+     * returns false to be retried later, the lane stays scheduled meanwhile so that the following
+     * tasks of the partition wait for it without holding a thread.
+     */
+    private class PartitionWriteLane implements Runnable {
+        private Queue<BooleanSupplier> tasks = new ConcurrentLinkedQueue<>();
+        private AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        void submit(BooleanSupplier task) {
+            this.tasks.add(task);
+            trySchedule();
         }
-        future.get();
-        if (batchNeedRetry.size() > 0) {
+
+        private void trySchedule() {
+            if (!this.tasks.isEmpty() && this.scheduled.compareAndSet(false, true)) {
+                execute();
+            }
+        }
+
+        private void execute() {
+            if (shouldStop) {
+                // fail the remaining tasks in place, the executors may be shut down already
+                run();
+            } else {
+                writeExecutor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            boolean done = true;
             try {
-                Thread.sleep(1000L);
-            } catch (InterruptedException e) {
-                // Ignore
+                BooleanSupplier task = this.tasks.peek();
+                done = task == null || task.getAsBoolean();
+            } finally {
+                if (done) {
+                    this.tasks.poll();
+                    this.scheduled.set(false);
+                    trySchedule();
+                } else {
+                    writeRetryScheduler.schedule(
+                            this::execute, WRITE_RETRY_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                }
             }
         }
-        return batchNeedRetry;
     }
 
     public GraphDefPb getGraphDefBlob() throws IOException {
@@ -373,8 +487,13 @@ public class StoreService implements MetricsAgent {
     public void initMetrics() {
         this.lastUpdateTime = System.nanoTime();
         this.partitionToMetric = new HashMap<>();
+        this.partitionToLatency = new HashMap<>();
         for (Integer id : this.idToPartition.keySet()) {
             this.partitionToMetric.put(id, new AvgMetric());
+            this.partitionToLatency.put(
+                    id,
+                    this.metricsCollector.histogram(
+                            PARTITION_WRITE_LATENCY, "partition", String.valueOf(id)));
         }
     }
 
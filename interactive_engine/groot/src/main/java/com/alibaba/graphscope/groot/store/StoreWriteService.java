@@ -42,8 +42,15 @@ public class StoreWriteService extends StoreWriteGrpc.StoreWriteImplBase {
                 batches.add(StoreDataBatch.parseProto(pb));
             }
             boolean success = writerAgent.writeStore2(batches);
+            int queueDepth =
+                    batches.isEmpty()
+                            ? 0
+                            : writerAgent.getBufferQueueDepth(batches.get(0).getQueueId());
             WriteStoreResponse response =
-                    WriteStoreResponse.newBuilder().setSuccess(success).build();
+                    WriteStoreResponse.newBuilder()
+                            .setSuccess(success)
+                            .setQueueDepth(queueDepth)
+                            .build();
             responseObserver.onNext(response);
             responseObserver.onCompleted();
         } catch (Exception e) {
@@ -13,25 +13,32 @@
  */
 package com.alibaba.graphscope.groot.store;
 
+import com.alibaba.graphscope.groot.CompletionCallback;
 import com.alibaba.graphscope.groot.coordinator.SnapshotInfo;
 import com.alibaba.graphscope.groot.meta.MetaService;
 import com.alibaba.graphscope.groot.metrics.AvgMetric;
+import com.alibaba.graphscope.groot.metrics.HistogramMetric;
 import com.alibaba.graphscope.groot.metrics.MetricsAgent;
 import com.alibaba.graphscope.groot.metrics.MetricsCollector;
 import com.alibaba.graphscope.groot.operation.StoreDataBatch;
+import com.alibaba.graphscope.groot.operation.WriteTrace;
 import com.alibaba.maxgraph.common.config.CommonConfig;
 import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.common.config.StoreConfig;
 import com.alibaba.maxgraph.common.util.ThreadFactoryUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -49,9 +56,14 @@ public class WriterAgent implements MetricsAgent {
     public static final String POLL_LATENCY_PER_SECOND_MS = "poll.latency.per.second.ms";
     public static final String STORE_BUFFER_BATCH_COUNT = "store.buffer.batch.count";
     public static final String STORE_QUEUE_BATCH_COUNT = "store.queue.batch.count";
+    public static final String STORE_QUEUE_SNAPSHOT_LAG = "store.queue.snapshot.lag";
     public static final String STORE_WRITE_PER_SECOND = "store.write.per.second";
     public static final String STORE_WRITE_TOTAL = "store.write.total";
     public static final String BUFFER_WRITE_PER_SECOND_MS = "buffer.write.per.second.ms";
+    public static final String BATCH_WRITE_LATENCY = "store.batch.write.latency";
+    public static final String TRACE_WAL_LATENCY = "write.trace.wal.latency";
+    public static final String TRACE_TRANSFER_LATENCY = "write.trace.transfer.latency";
+    public static final String TRACE_APPLY_LATENCY = "write.trace.apply.latency";
 
     private Configs configs;
     private int storeId;
@@ -69,6 +81,9 @@ public class WriterAgent implements MetricsAgent {
     private ExecutorService commitExecutor;
     private List<Long> consumedQueueOffsets;
     private Thread consumeThread;
+    private int writeInflightBatchCount;
+    private Semaphore inflightPermits;
+    private Queue<InflightBatch> inflightBatches;
 
     private volatile long lastUpdateTime;
     private volatile long totalWrite;
@@ -80,6 +95,11 @@ public class WriterAgent implements MetricsAgent {
     private volatile long totalPollLatencyNano;
     private volatile long pollLatencyPerSecondMs;
     private AvgMetric bufferWritePerSecondMetric;
+    private HistogramMetric batchWriteLatency;
+    // Hops of sampled writes, measured with wall clock of the frontend, ingestor and store
+    private HistogramMetric traceWalLatency;
+    private HistogramMetric traceTransferLatency;
+    private HistogramMetric traceApplyLatency;
 
     public WriterAgent(
             Configs configs,
@@ -94,8 +114,13 @@ public class WriterAgent implements MetricsAgent {
         this.metaService = metaService;
         this.snapshotCommitter = snapshotCommitter;
         this.availSnapshotInfoRef = new AtomicReference<>();
+        this.writeInflightBatchCount = StoreConfig.STORE_WRITE_INFLIGHT_BATCH_COUNT.get(configs);
         initMetrics();
         metricsCollector.register(this, () -> updateMetrics());
+        this.batchWriteLatency = metricsCollector.histogram(BATCH_WRITE_LATENCY);
+        this.traceWalLatency = metricsCollector.histogram(TRACE_WAL_LATENCY);
+        this.traceTransferLatency = metricsCollector.histogram(TRACE_TRANSFER_LATENCY);
+        this.traceApplyLatency = metricsCollector.histogram(TRACE_APPLY_LATENCY);
     }
 
     /** should be called once, before start */
@@ -114,11 +139,8 @@ public class WriterAgent implements MetricsAgent {
         for (int i = 0; i < this.queueCount; i++) {
             this.consumedQueueOffsets.add(-1L);
         }
-
-        this.consumeThread = new Thread(() -> processBatches());
-        this.consumeThread.setName("store-consume");
-        this.consumeThread.setDaemon(true);
-        this.consumeThread.start();
+        this.inflightPermits = new Semaphore(this.writeInflightBatchCount);
+        this.inflightBatches = new ArrayDeque<>();
 
         this.commitExecutor =
                 new ThreadPoolExecutor(
@@ -129,6 +151,11 @@ public class WriterAgent implements MetricsAgent {
                         new LinkedBlockingQueue<>(),
                         ThreadFactoryUtils.daemonThreadFactoryWithLogExceptionHandler(
                                 "writer-agent-commit", logger));
+
+        this.consumeThread = new Thread(() -> processBatches());
+        this.consumeThread.setName("store-consume");
+        this.consumeThread.setDaemon(true);
+        this.consumeThread.start();
         logger.info("WriterAgent started");
     }
 
@@ -144,13 +171,18 @@ public class WriterAgent implements MetricsAgent {
             this.consumeThread = null;
         }
         if (this.commitExecutor != null) {
-            this.commitExecutor.shutdown();
+            // batches still in flight may complete after stop, they see no executor to commit to
+            ExecutorService executor;
+            synchronized (this.inflightBatches) {
+                executor = this.commitExecutor;
+                this.commitExecutor = null;
+            }
+            executor.shutdown();
             try {
-                this.commitExecutor.awaitTermination(3000, TimeUnit.MILLISECONDS);
+                executor.awaitTermination(3000, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 // Do nothing
             }
-            this.commitExecutor = null;
         }
         logger.info("WriterAgent stopped");
     }
@@ -164,6 +196,7 @@ public class WriterAgent implements MetricsAgent {
      */
     public boolean writeStore(StoreDataBatch storeDataBatch) throws InterruptedException {
         int queueId = storeDataBatch.getQueueId();
+        markReceived(storeDataBatch);
         long beforeOfferTime = System.nanoTime();
         boolean suc = this.bufferQueue.offerQueue(queueId, storeDataBatch);
         long afterOfferTime = System.nanoTime();
@@ -175,6 +208,7 @@ public class WriterAgent implements MetricsAgent {
         long beforeOfferTime = System.nanoTime();
         for (StoreDataBatch storeDataBatch : storeDataBatches) {
             int queueId = storeDataBatch.getQueueId();
+            markReceived(storeDataBatch);
             if (!this.bufferQueue.offerQueue(queueId, storeDataBatch)) {
                 return false;
             }
@@ -184,6 +218,45 @@ public class WriterAgent implements MetricsAgent {
         return true;
     }
 
+    private void markReceived(StoreDataBatch storeDataBatch) {
+        WriteTrace trace = storeDataBatch.getTrace();
+        if (trace != null) {
+            trace.setStoreReceiveMs(System.currentTimeMillis());
+        }
+    }
+
+    private void onTracedBatchApplied(StoreDataBatch storeDataBatch) {
+        WriteTrace trace = storeDataBatch.getTrace();
+        long appliedMs = System.currentTimeMillis();
+        this.traceWalLatency.record(
+                TimeUnit.MILLISECONDS.toNanos(trace.getWalAppendMs() - trace.getFrontendStartMs()));
+        this.traceTransferLatency.record(
+                TimeUnit.MILLISECONDS.toNanos(trace.getStoreReceiveMs() - trace.getWalAppendMs()));
+        this.traceApplyLatency.record(
+                TimeUnit.MILLISECONDS.toNanos(appliedMs - trace.getStoreReceiveMs()));
+        logger.debug(
+                "traced write applied. "
+                        + trace
+                        + ", appliedMs ["
+                        + appliedMs
+                        + "], snapshotId ["
+                        + storeDataBatch.getSnapshotId()
+                        + "]");
+    }
+
+    /**
+     * @return number of batches of the queue that are buffered and not yet polled for writing
+     */
+    public int getBufferQueueDepth(int queueId) {
+        return this.bufferQueue.innerQueueSize(queueId);
+    }
+
+    /**
+     * Polls batches in (snapshotId, queueId) order and submits them to StoreService without waiting
+     * for the previous ones, up to writeInflightBatchCount batches. Batches are applied
+     * concurrently with per-partition order preserved by StoreService, and are retired in poll
+     * order by {@link #retireCompletedBatches()}.
+     */
     private void processBatches() {
         while (!shouldStop) {
             try {
@@ -197,11 +270,59 @@ public class WriterAgent implements MetricsAgent {
                 if (storeDataBatch == null) {
                     continue;
                 }
+                logger.debug("polled one batch [" + storeDataBatch.getSnapshotId() + "]");
+                this.inflightPermits.acquire();
+                InflightBatch inflightBatch = new InflightBatch(storeDataBatch);
+                synchronized (this.inflightBatches) {
+                    this.inflightBatches.add(inflightBatch);
+                }
+                this.storeService.asyncBatchWrite(
+                        storeDataBatch,
+                        new CompletionCallback<Boolean>() {
+                            @Override
+                            public void onCompleted(Boolean hasDdl) {
+                                batchWriteLatency.recordSince(afterPollNano);
+                                if (storeDataBatch.getTrace() != null) {
+                                    onTracedBatchApplied(storeDataBatch);
+                                }
+                                inflightBatch.hasDdl = hasDdl;
+                                inflightBatch.completed = true;
+                                retireCompletedBatches();
+                            }
+
+                            @Override
+                            public void onError(Throwable t) {
+                                logger.error(
+                                        "writeEngine failed. queueId ["
+                                                + storeDataBatch.getQueueId()
+                                                + "], snapshotId ["
+                                                + storeDataBatch.getSnapshotId()
+                                                + "], offset ["
+                                                + storeDataBatch.getOffset()
+                                                + "]",
+                                        t);
+                                releaseFailedBatch(inflightBatch);
+                            }
+                        });
+            } catch (Exception e) {
+                logger.error("error in processBatches, ignore", e);
+            }
+        }
+    }
+
+    /**
+     * Retire the completed prefix of in-flight batches in poll order. A snapshot only becomes
+     * available after every batch polled before it has been written to all partitions.
+     */
+    private void retireCompletedBatches() {
+        synchronized (this.inflightBatches) {
+            InflightBatch head;
+            while ((head = this.inflightBatches.peek()) != null && head.completed) {
+                this.inflightBatches.poll();
+                this.inflightPermits.release();
+                StoreDataBatch storeDataBatch = head.storeDataBatch;
                 long batchSnapshotId = storeDataBatch.getSnapshotId();
-                logger.debug("polled one batch [" + batchSnapshotId + "]");
-                boolean hasDdl = writeEngineWithRetry(storeDataBatch);
-                int writeCount = storeDataBatch.getSize();
-                this.totalWrite += writeCount;
+                this.totalWrite += storeDataBatch.getSize();
                 if (this.consumeSnapshotId < batchSnapshotId) {
                     SnapshotInfo availSnapshotInfo = this.availSnapshotInfoRef.get();
                     long availDdlSnapshotId = availSnapshotInfo.getDdlSnapshotId();
@@ -216,18 +337,31 @@ public class WriterAgent implements MetricsAgent {
                     this.consumeSnapshotId = batchSnapshotId;
                     this.availSnapshotInfoRef.set(
                             new SnapshotInfo(availSnapshotId, availDdlSnapshotId));
-                    this.commitExecutor.execute(() -> asyncCommit());
+                    if (!this.shouldStop && this.commitExecutor != null) {
+                        this.commitExecutor.execute(() -> asyncCommit());
+                    }
                 }
 
-                if (hasDdl) {
+                if (head.hasDdl) {
                     this.consumeDdlSnapshotId = batchSnapshotId;
                 }
 
                 int queueId = storeDataBatch.getQueueId();
                 long offset = storeDataBatch.getOffset();
                 this.consumedQueueOffsets.set(queueId, offset);
-            } catch (Exception e) {
-                logger.error("error in processBatches, ignore", e);
+            }
+        }
+    }
+
+    /**
+     * Give back the permit of a batch that is not written. The batch is never retired, so neither
+     * the snapshot nor the queue offsets pass it, but it no longer blocks polling.
+     */
+    private void releaseFailedBatch(InflightBatch inflightBatch) {
+        synchronized (this.inflightBatches) {
+            if (!inflightBatch.failed) {
+                inflightBatch.failed = true;
+                this.inflightPermits.release();
             }
         }
     }
@@ -237,7 +371,10 @@ public class WriterAgent implements MetricsAgent {
         long availSnapshotId = snapshotInfo.getSnapshotId();
         if (availSnapshotId > this.lastCommitSnapshotId) {
             long ddlSnapshotId = snapshotInfo.getDdlSnapshotId();
-            List<Long> queueOffsets = new ArrayList<>(this.consumedQueueOffsets);
+            List<Long> queueOffsets;
+            synchronized (this.inflightBatches) {
+                queueOffsets = new ArrayList<>(this.consumedQueueOffsets);
+            }
             try {
                 logger.debug(
                         "commit snapshotId ["
@@ -260,25 +397,15 @@ public class WriterAgent implements MetricsAgent {
         }
     }
 
-    private boolean writeEngineWithRetry(StoreDataBatch storeDataBatch) {
-        while (!shouldStop) {
-            try {
-                return this.storeService.batchWrite(storeDataBatch);
-            } catch (Exception e) {
-                logger.error(
-                        "writeEngine failed. queueId ["
-                                + storeDataBatch.getQueueId()
-                                + "], "
-                                + "snapshotId ["
-                                + storeDataBatch.getSnapshotId()
-                                + "], "
-                                + "offset ["
-                                + storeDataBatch.getOffset()
-                                + "]. will retry",
-                        e);
-            }
+    private static class InflightBatch {
+        StoreDataBatch storeDataBatch;
+        volatile boolean completed;
+        volatile boolean failed;
+        volatile boolean hasDdl;
+
+        InflightBatch(StoreDataBatch storeDataBatch) {
+            this.storeDataBatch = storeDataBatch;
         }
-        return false;
     }
 
     @Override
@@ -316,6 +443,7 @@ public class WriterAgent implements MetricsAgent {
             {
                 put(STORE_BUFFER_BATCH_COUNT, String.valueOf(bufferQueue.size()));
                 put(STORE_QUEUE_BATCH_COUNT, String.valueOf(bufferQueue.innerQueueSizes()));
+                put(STORE_QUEUE_SNAPSHOT_LAG, String.valueOf(bufferQueue.queueSnapshotLags()));
                 put(POLL_LATENCY_PER_SECOND_MS, String.valueOf(pollLatencyPerSecondMs));
                 put(POLL_LATENCY_MAX_MS, String.valueOf(maxPollLatencyMs));
                 put(STORE_WRITE_PER_SECOND, String.valueOf(writePerSecond));
@@ -332,6 +460,7 @@ public class WriterAgent implements MetricsAgent {
         return new String[] {
             STORE_BUFFER_BATCH_COUNT,
             STORE_QUEUE_BATCH_COUNT,
+            STORE_QUEUE_SNAPSHOT_LAG,
             POLL_LATENCY_MAX_MS,
             POLL_LATENCY_PER_SECOND_MS,
             STORE_WRITE_PER_SECOND,
@@ -24,6 +24,8 @@ public interface GraphLibrary extends Library {
 
     boolean closeGraphStore(Pointer storePointer);
 
+    JnaResponse writeBatch(Pointer storePointer, long snapshotId, Pointer data, int len);
+
     JnaResponse writeBatch(Pointer storePointer, long snapshotId, byte[] data, int len);
 
     JnaResponse getGraphDefBlob(Pointer storePointer);
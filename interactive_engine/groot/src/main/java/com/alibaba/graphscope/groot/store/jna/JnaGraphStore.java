@@ -20,6 +20,9 @@ import com.alibaba.graphscope.groot.store.external.ExternalStorage;
 import com.alibaba.maxgraph.common.config.Configs;
 import com.alibaba.maxgraph.common.config.StoreConfig;
 import com.alibaba.maxgraph.proto.groot.GraphDefPb;
+import com.alibaba.maxgraph.proto.groot.OperationBatchPb;
+import com.google.protobuf.CodedOutputStream;
+import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 
 import org.apache.commons.codec.binary.Hex;
@@ -31,6 +34,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -40,6 +44,12 @@ import java.security.NoSuchAlgorithmException;
 public class JnaGraphStore implements GraphPartition {
     private static final Logger logger = LoggerFactory.getLogger(JnaGraphStore.class);
 
+    private static final int INITIAL_WRITE_BUFFER_BYTES = 1024 * 1024;
+    // a write thread keeps at most this much direct memory, larger batches are encoded on heap
+    public static final int MAX_WRITE_BUFFER_BYTES = 16 * 1024 * 1024;
+    private static final ThreadLocal<ByteBuffer> WRITE_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(INITIAL_WRITE_BUFFER_BYTES));
+
     private Pointer pointer;
     private int partitionId;
     private Path downloadPath;
@@ -78,18 +88,65 @@ public class JnaGraphStore implements GraphPartition {
         GraphLibrary.INSTANCE.closeGraphStore(this.pointer);
     }
 
+    /**
+     * The batch is encoded straight into a per-thread direct buffer that is handed to the native
+     * store by address, so no byte[] is allocated or copied on the way. Batches larger than
+     * MAX_WRITE_BUFFER_BYTES are passed as a byte[] instead.
+     */
     @Override
     public boolean writeBatch(long snapshotId, OperationBatch operationBatch) throws IOException {
-        byte[] dataBytes = operationBatch.toProto().toByteArray();
-        try (JnaResponse response =
-                GraphLibrary.INSTANCE.writeBatch(
-                        this.pointer, snapshotId, dataBytes, dataBytes.length)) {
+        OperationBatchPb proto = operationBatch.toProto();
+        ByteBuffer buffer = encodeToWriteBuffer(proto);
+        JnaResponse response;
+        if (buffer != null) {
+            response =
+                    GraphLibrary.INSTANCE.writeBatch(
+                            this.pointer,
+                            snapshotId,
+                            Native.getDirectBufferPointer(buffer),
+                            buffer.remaining());
+        } else {
+            byte[] bytes = proto.toByteArray();
+            response =
+                    GraphLibrary.INSTANCE.writeBatch(this.pointer, snapshotId, bytes, bytes.length);
+        }
+        try {
             if (!response.success()) {
                 String errMsg = response.getErrMsg();
                 throw new IOException(errMsg);
             }
             return response.hasDdl();
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Encode the batch into the direct buffer of the current thread, the buffer grows on demand up
+     * to MAX_WRITE_BUFFER_BYTES.
+     *
+     * @return the buffer holding the encoded batch between its position and limit, or null if the
+     *     batch is larger than MAX_WRITE_BUFFER_BYTES
+     */
+    public static ByteBuffer encodeToWriteBuffer(OperationBatchPb proto) throws IOException {
+        int size = proto.getSerializedSize();
+        if (size > MAX_WRITE_BUFFER_BYTES) {
+            return null;
+        }
+        ByteBuffer buffer = WRITE_BUFFER.get();
+        if (buffer.capacity() < size) {
+            int capacity =
+                    (int) Math.min(Math.max(size, buffer.capacity() * 2L), MAX_WRITE_BUFFER_BYTES);
+            buffer = ByteBuffer.allocateDirect(capacity);
+            WRITE_BUFFER.set(buffer);
         }
+        buffer.clear();
+        CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        proto.writeTo(output);
+        output.flush();
+        buffer.position(0);
+        buffer.limit(size);
+        return buffer;
     }
 
     @Override
@@ -0,0 +1,33 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.wal;
+
+import com.alibaba.graphscope.groot.wal.file.FileLogService;
+import com.alibaba.graphscope.groot.wal.kafka.KafkaLogService;
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
+
+public class LogServiceFactory {
+
+    public static LogService makeLogService(Configs configs) {
+        String mode = CommonConfig.LOG_SERVICE_MODE.get(configs);
+        if (mode.equalsIgnoreCase("file")) {
+            return new FileLogService(configs);
+        } else if (mode.equalsIgnoreCase("kafka")) {
+            return new KafkaLogService(configs);
+        } else {
+            throw new IllegalArgumentException("invalid log service mode [" + mode + "]");
+        }
+    }
+}
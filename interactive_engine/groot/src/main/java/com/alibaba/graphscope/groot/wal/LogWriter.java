@@ -16,6 +16,8 @@
 package com.alibaba.graphscope.groot.wal;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 /**
  * A LogWriter can append data to a queue in the LogService.
@@ -29,5 +31,16 @@ public interface LogWriter extends AutoCloseable {
      */
     long append(LogEntry logEntry) throws IOException;
 
+    /**
+     * Append {@link LogEntry} to the queue without waiting for it to be durable, so that several
+     * entries can be in flight at the same time. Entries are stored in the order they are
+     * submitted.
+     * @param logEntry
+     * @return future of the offset, completes once the entry is durable
+     */
+    default Future<Long> appendAsync(LogEntry logEntry) throws IOException {
+        return CompletableFuture.completedFuture(append(logEntry));
+    }
+
     void close() throws IOException;
 }
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.wal.file;
+
+import com.alibaba.graphscope.groot.wal.LogEntry;
+import com.alibaba.graphscope.groot.wal.LogReader;
+import com.alibaba.graphscope.groot.wal.ReadLogEntry;
+import com.alibaba.maxgraph.compiler.api.exception.MaxGraphException;
+import com.alibaba.maxgraph.proto.groot.LogEntryPb;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/** Sequentially scans the mapped segments of one queue from certain offset. */
+public class FileLogReader implements LogReader {
+    private static final Logger logger = LoggerFactory.getLogger(FileLogReader.class);
+
+    private Path queueDir;
+    private LogSegment segment;
+    private int position;
+    private long nextReadOffset;
+
+    public FileLogReader(Path queueDir, long offset) throws IOException {
+        this.queueDir = queueDir;
+        List<Long> baseOffsets = LogSegment.listBaseOffsets(queueDir);
+        long earliestOffset = baseOffsets.isEmpty() ? 0L : baseOffsets.get(0);
+        long baseOffset = earliestOffset;
+        for (long b : baseOffsets) {
+            if (b <= offset) {
+                baseOffset = b;
+            }
+        }
+        int position = -1;
+        if (!baseOffsets.isEmpty() && offset >= earliestOffset) {
+            this.segment = LogSegment.openForRead(queueDir, baseOffset);
+            position = this.segment.positionOf(offset);
+        } else if (baseOffsets.isEmpty() && offset == 0L) {
+            position = 0;
+        }
+        if (position < 0) {
+            if (this.segment != null) {
+                this.segment.close();
+            }
+            long latestOffset = baseOffsets.isEmpty() ? 0L : latestOffset(queueDir, baseOffsets);
+            throw new IllegalArgumentException(
+                    "cannot read from ["
+                            + offset
+                            + "], earliest offset is ["
+                            + earliestOffset
+                            + "], latest offset is ["
+                            + latestOffset
+                            + "]");
+        }
+        this.position = position;
+        this.nextReadOffset = offset;
+        logger.info("reader created. dir [" + queueDir + "], offset [" + offset + "]");
+    }
+
+    private static long latestOffset(Path queueDir, List<Long> baseOffsets) throws IOException {
+        try (LogSegment last =
+                LogSegment.openForRead(queueDir, baseOffsets.get(baseOffsets.size() - 1))) {
+            return last.getNextOffset();
+        }
+    }
+
+    @Override
+    public ReadLogEntry readNext() {
+        byte[] payload = this.segment == null ? null : this.segment.read(this.position);
+        if (payload == null) {
+            if (!nextSegment()) {
+                return null;
+            }
+            payload = this.segment.read(this.position);
+            if (payload == null) {
+                return null;
+            }
+        }
+        this.position += LogSegment.RECORD_HEADER_BYTES + payload.length;
+        LogEntry logEntry;
+        try {
+            logEntry = LogEntry.parseProto(LogEntryPb.parseFrom(payload));
+        } catch (InvalidProtocolBufferException e) {
+            throw new MaxGraphException(e);
+        }
+        return new ReadLogEntry(this.nextReadOffset++, logEntry);
+    }
+
+    /** Move to the segment that starts at nextReadOffset, if there is one. */
+    private boolean nextSegment() {
+        if (!LogSegment.segmentPath(this.queueDir, this.nextReadOffset).toFile().exists()) {
+            return false;
+        }
+        try {
+            LogSegment next = LogSegment.openForRead(this.queueDir, this.nextReadOffset);
+            if (this.segment != null) {
+                this.segment.close();
+            }
+            this.segment = next;
+            this.position = 0;
+            return true;
+        } catch (IOException e) {
+            throw new MaxGraphException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.segment != null) {
+            this.segment.close();
+        }
+    }
+}
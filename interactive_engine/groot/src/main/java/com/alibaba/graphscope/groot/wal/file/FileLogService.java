@@ -0,0 +1,140 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.wal.file;
+
+import com.alibaba.graphscope.groot.wal.LogReader;
+import com.alibaba.graphscope.groot.wal.LogService;
+import com.alibaba.graphscope.groot.wal.LogWriter;
+import com.alibaba.maxgraph.common.config.CommonConfig;
+import com.alibaba.maxgraph.common.config.Configs;
+import com.alibaba.maxgraph.common.config.FileLogConfig;
+import com.alibaba.maxgraph.compiler.api.exception.MaxGraphException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A LogService that keeps each queue as a directory of append-only, memory-mapped segment files on
+ * local disk. It needs no external broker, so it fits single node and test deployments where all
+ * roles share one filesystem.
+ */
+public class FileLogService implements LogService {
+    private static final Logger logger = LoggerFactory.getLogger(FileLogService.class);
+
+    private Path logPath;
+    private int queueCount;
+    private int segmentBytes;
+    private boolean syncEnable;
+
+    public FileLogService(Configs configs) {
+        this.logPath = Paths.get(FileLogConfig.FILE_LOG_PATH.get(configs));
+        this.queueCount = CommonConfig.INGESTOR_QUEUE_COUNT.get(configs);
+        long segmentBytes = FileLogConfig.FILE_LOG_SEGMENT_SIZE_MB.get(configs) * 1024L * 1024L;
+        // a segment is mapped as a whole, and a mapped buffer is limited to 2GB
+        if (segmentBytes <= 0 || segmentBytes >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "invalid ["
+                            + FileLogConfig.FILE_LOG_SEGMENT_SIZE_MB.getKey()
+                            + "], should be in (0, 2048) MB");
+        }
+        this.segmentBytes = (int) segmentBytes;
+        this.syncEnable = FileLogConfig.FILE_LOG_SYNC_ENABLE.get(configs);
+    }
+
+    @Override
+    public void init() {
+        if (initialized()) {
+            throw new MaxGraphException("log path [" + this.logPath + "] already exists");
+        }
+        try {
+            for (int i = 0; i < this.queueCount; i++) {
+                Files.createDirectories(getQueueDir(i));
+            }
+        } catch (IOException e) {
+            throw new MaxGraphException("create log path [" + this.logPath + "] failed", e);
+        }
+        logger.info("file log initialized at [" + this.logPath + "]");
+    }
+
+    @Override
+    public void destroy() {
+        if (!initialized()) {
+            throw new MaxGraphException("log path [" + this.logPath + "] not exists");
+        }
+        try (Stream<Path> paths = Files.walk(this.logPath)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            throw new MaxGraphException("delete log path [" + this.logPath + "] failed", e);
+        }
+    }
+
+    @Override
+    public boolean initialized() {
+        return Files.isDirectory(this.logPath);
+    }
+
+    @Override
+    public LogWriter createWriter(int queueId) {
+        try {
+            return new FileLogWriter(getQueueDir(queueId), this.segmentBytes, this.syncEnable);
+        } catch (IOException e) {
+            throw new MaxGraphException("create writer of queue [" + queueId + "] failed", e);
+        }
+    }
+
+    @Override
+    public LogReader createReader(int queueId, long offset) throws IOException {
+        return new FileLogReader(getQueueDir(queueId), offset);
+    }
+
+    /**
+     * Data is deleted in whole segments, so records in the segment that contains the offset are
+     * kept until a later segment is entirely before the offset. The active segment is never
+     * deleted.
+     */
+    @Override
+    public void deleteBeforeOffset(int queueId, long offset) throws IOException {
+        Path queueDir = getQueueDir(queueId);
+        List<Long> baseOffsets = LogSegment.listBaseOffsets(queueDir);
+        for (int i = 0; i < baseOffsets.size() - 1; i++) {
+            if (baseOffsets.get(i + 1) > offset) {
+                break;
+            }
+            Files.deleteIfExists(LogSegment.segmentPath(queueDir, baseOffsets.get(i)));
+            logger.info(
+                    "deleted segment ["
+                            + baseOffsets.get(i)
+                            + "] of queue ["
+                            + queueId
+                            + "] before offset ["
+                            + offset
+                            + "]");
+        }
+    }
+
+    private Path getQueueDir(int queueId) {
+        return this.logPath.resolve("queue_" + queueId);
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.wal.file;
+
+import com.alibaba.graphscope.groot.wal.LogEntry;
+import com.alibaba.graphscope.groot.wal.LogWriter;
+import com.alibaba.maxgraph.proto.groot.LogEntryPb;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends {@link LogEntry} to the segments of one queue. When sync is enabled, fsync is group
+ * committed: a writer that finds its record already covered by a concurrent flush returns without
+ * calling force again.
+ */
+public class FileLogWriter implements LogWriter {
+    private static final Logger logger = LoggerFactory.getLogger(FileLogWriter.class);
+
+    private Path queueDir;
+    private int segmentBytes;
+    private boolean syncEnable;
+
+    private LogSegment activeSegment;
+    // held by the thread forcing the segment, the others wait for it with a deadline
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile long durableOffset;
+
+    public FileLogWriter(Path queueDir, int segmentBytes, boolean syncEnable) throws IOException {
+        this.queueDir = queueDir;
+        this.segmentBytes = segmentBytes;
+        this.syncEnable = syncEnable;
+
+        List<Long> baseOffsets = LogSegment.listBaseOffsets(queueDir);
+        long baseOffset = baseOffsets.isEmpty() ? 0L : baseOffsets.get(baseOffsets.size() - 1);
+        this.activeSegment = LogSegment.openForWrite(queueDir, baseOffset, segmentBytes);
+        this.durableOffset = this.activeSegment.getNextOffset() - 1;
+        logger.info(
+                "file log writer created. dir ["
+                        + queueDir
+                        + "], next offset ["
+                        + this.activeSegment.getNextOffset()
+                        + "]");
+    }
+
+    @Override
+    public long append(LogEntry logEntry) throws IOException {
+        long offset = write(logEntry);
+        if (this.syncEnable) {
+            sync(offset);
+        }
+        return offset;
+    }
+
+    /** The entry is written at once, fsync is deferred until the returned future is waited on. */
+    @Override
+    public Future<Long> appendAsync(LogEntry logEntry) throws IOException {
+        return new DurableOffsetFuture(write(logEntry));
+    }
+
+    private synchronized long write(LogEntry logEntry) throws IOException {
+        LogEntryPb record = logEntry.toProto();
+        int length = record.getSerializedSize();
+        if (!this.activeSegment.hasRoom(length)) {
+            rollSegment(length);
+        }
+        return this.activeSegment.append(record);
+    }
+
+    private void rollSegment(int payloadLength) throws IOException {
+        LogSegment oldSegment = this.activeSegment;
+        if (this.syncEnable) {
+            // Records of old segment must be durable before any record of the new one
+            oldSegment.force();
+        }
+        int capacity =
+                Math.max(this.segmentBytes, payloadLength + LogSegment.RECORD_HEADER_BYTES + 4);
+        this.activeSegment =
+                LogSegment.openForWrite(this.queueDir, oldSegment.getNextOffset(), capacity);
+        oldSegment.close();
+        logger.info("rolled to new segment [" + this.activeSegment.getPath() + "]");
+    }
+
+    private void sync(long offset) {
+        if (this.durableOffset >= offset) {
+            return;
+        }
+        this.syncLock.lock();
+        try {
+            forceTo(offset);
+        } finally {
+            this.syncLock.unlock();
+        }
+    }
+
+    /**
+     * @return false if the offset is not durable before the timeout
+     */
+    private boolean sync(long offset, long timeoutNanos) throws InterruptedException {
+        if (this.durableOffset >= offset) {
+            return true;
+        }
+        // a sync in progress may make the offset durable, or the lock is taken to sync by itself
+        if (!this.syncLock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            return this.durableOffset >= offset;
+        }
+        try {
+            forceTo(offset);
+        } finally {
+            this.syncLock.unlock();
+        }
+        return true;
+    }
+
+    // must be called with syncLock held
+    private void forceTo(long offset) {
+        if (this.durableOffset >= offset) {
+            return;
+        }
+        LogSegment segment;
+        long flushTo;
+        synchronized (this) {
+            segment = this.activeSegment;
+            flushTo = segment.getNextOffset() - 1;
+        }
+        segment.force();
+        this.durableOffset = flushTo;
+    }
+
+    private class DurableOffsetFuture implements Future<Long> {
+        private long offset;
+
+        DurableOffsetFuture(long offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDone() {
+            return !syncEnable || durableOffset >= this.offset;
+        }
+
+        @Override
+        public Long get() {
+            if (syncEnable) {
+                sync(this.offset);
+            }
+            return this.offset;
+        }
+
+        @Override
+        public Long get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+            if (syncEnable && !sync(this.offset, unit.toNanos(timeout))) {
+                throw new TimeoutException(
+                        "offset [" + this.offset + "] is not durable in " + timeout + " " + unit);
+            }
+            return this.offset;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (this.syncEnable) {
+                this.activeSegment.force();
+            }
+            this.activeSegment.close();
+        }
+    }
+}
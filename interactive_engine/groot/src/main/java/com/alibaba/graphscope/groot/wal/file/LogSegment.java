@@ -0,0 +1,270 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.groot.wal.file;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only, memory-mapped segment file of a queue. The file name is the offset of the first
+ * record in the segment. Each record is laid out as [length: int][crc32: int][payload], and a zero
+ * length marks the end of the written data.
+ */
+public class LogSegment implements AutoCloseable {
+
+    public static final String SEGMENT_SUFFIX = ".log";
+    public static final int RECORD_HEADER_BYTES = 8;
+    // a sparse index entry is added every INDEX_INTERVAL_BYTES of the records
+    public static final int INDEX_INTERVAL_BYTES = 4096;
+
+    private Path path;
+    private long baseOffset;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int recordCount;
+    private int writePosition;
+    // the offsets relative to baseOffset and the positions of the indexed records, ascending
+    private int[] indexOffsets = new int[16];
+    private int[] indexPositions = new int[16];
+    private int indexSize = 0;
+
+    private LogSegment(Path path, long baseOffset, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.baseOffset = baseOffset;
+        this.channel = channel;
+        this.buffer = buffer;
+        recover();
+    }
+
+    /**
+     * Open a segment for appending, the file will be created and pre-allocated to capacity if it
+     * does not exist.
+     */
+    public static LogSegment openForWrite(Path queueDir, long baseOffset, int capacity)
+            throws IOException {
+        Path path = segmentPath(queueDir, baseOffset);
+        FileChannel channel =
+                FileChannel.open(
+                        path,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        int size = (int) Math.max(channel.size(), capacity);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new LogSegment(path, baseOffset, channel, buffer);
+    }
+
+    public static LogSegment openForRead(Path queueDir, long baseOffset) throws IOException {
+        Path path = segmentPath(queueDir, baseOffset);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        return new LogSegment(path, baseOffset, channel, buffer);
+    }
+
+    public static Path segmentPath(Path queueDir, long baseOffset) {
+        return queueDir.resolve(String.format("%020d", baseOffset) + SEGMENT_SUFFIX);
+    }
+
+    /** List base offsets of all segments in the queue dir, in ascending order. */
+    public static List<Long> listBaseOffsets(Path queueDir) throws IOException {
+        List<Long> baseOffsets = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(queueDir)) {
+            paths.forEach(
+                    p -> {
+                        String name = p.getFileName().toString();
+                        if (name.endsWith(SEGMENT_SUFFIX)) {
+                            baseOffsets.add(
+                                    Long.parseLong(
+                                            name.substring(
+                                                    0, name.length() - SEGMENT_SUFFIX.length())));
+                        }
+                    });
+        }
+        Collections.sort(baseOffsets);
+        return baseOffsets;
+    }
+
+    /** Scan the mapped file to find the valid records, a torn tail is ignored. */
+    private void recover() {
+        int position = 0;
+        int count = 0;
+        int payloadLength;
+        while ((payloadLength = validRecordLength(position)) > 0) {
+            maybeIndex(count, position);
+            position += RECORD_HEADER_BYTES + payloadLength;
+            count++;
+        }
+        this.writePosition = position;
+        this.recordCount = count;
+    }
+
+    /**
+     * @return payload length of a valid record starting at position, or -1
+     */
+    private int validRecordLength(int position) {
+        if (position + RECORD_HEADER_BYTES > this.buffer.capacity()) {
+            return -1;
+        }
+        int length = this.buffer.getInt(position);
+        if (length <= 0 || position + RECORD_HEADER_BYTES + length > this.buffer.capacity()) {
+            return -1;
+        }
+        int crc = this.buffer.getInt(position + 4);
+        if (crc != crc32(position + RECORD_HEADER_BYTES, length)) {
+            return -1;
+        }
+        return length;
+    }
+
+    private int crc32(int position, int length) {
+        CRC32 crc32 = new CRC32();
+        ByteBuffer dup = this.buffer.duplicate();
+        dup.position(position);
+        dup.limit(position + length);
+        crc32.update(dup);
+        return (int) crc32.getValue();
+    }
+
+    public boolean hasRoom(int payloadLength) {
+        return this.writePosition + RECORD_HEADER_BYTES + payloadLength <= this.buffer.capacity();
+    }
+
+    /**
+     * Append a record to the segment, caller must check {@link #hasRoom(int)} with the serialized
+     * size first. The record is encoded straight into the mapped file.
+     *
+     * @return the offset of the appended record
+     */
+    public long append(MessageLite record) throws IOException {
+        int position = this.writePosition;
+        int length = record.getSerializedSize();
+        ByteBuffer dup = this.buffer.duplicate();
+        dup.position(position + RECORD_HEADER_BYTES);
+        dup.limit(position + RECORD_HEADER_BYTES + length);
+        CodedOutputStream output = CodedOutputStream.newInstance(dup);
+        record.writeTo(output);
+        output.flush();
+        this.buffer.putInt(position + 4, crc32(position + RECORD_HEADER_BYTES, length));
+        int next = position + RECORD_HEADER_BYTES + length;
+        if (next + 4 <= this.buffer.capacity()) {
+            this.buffer.putInt(next, 0);
+        }
+        // Publish length last, so that a torn record never looks valid
+        this.buffer.putInt(position, length);
+        maybeIndex(this.recordCount, position);
+        this.writePosition = next;
+        return this.baseOffset + this.recordCount++;
+    }
+
+    /**
+     * Read the payload of the record at the given position.
+     *
+     * @return payload, or null if there is no valid record at the position
+     */
+    public byte[] read(int position) {
+        int length = validRecordLength(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        ByteBuffer dup = this.buffer.duplicate();
+        dup.position(position + RECORD_HEADER_BYTES);
+        dup.get(payload);
+        return payload;
+    }
+
+    private void maybeIndex(int relativeOffset, int position) {
+        if (this.indexSize > 0
+                && position - this.indexPositions[this.indexSize - 1] < INDEX_INTERVAL_BYTES) {
+            return;
+        }
+        if (this.indexSize == this.indexOffsets.length) {
+            this.indexOffsets = Arrays.copyOf(this.indexOffsets, this.indexSize * 2);
+            this.indexPositions = Arrays.copyOf(this.indexPositions, this.indexSize * 2);
+        }
+        this.indexOffsets[this.indexSize] = relativeOffset;
+        this.indexPositions[this.indexSize] = position;
+        this.indexSize++;
+    }
+
+    /**
+     * Locate the record by a binary search of the sparse index, then walk the records after the
+     * index entry, which are at most INDEX_INTERVAL_BYTES apart.
+     *
+     * @return position of the record at the given offset, or -1 if it is beyond the segment
+     */
+    public int positionOf(long offset) {
+        if (offset < this.baseOffset || offset > getNextOffset()) {
+            return -1;
+        }
+        int relativeOffset = (int) (offset - this.baseOffset);
+        if (relativeOffset == this.recordCount) {
+            return this.writePosition;
+        }
+        int low = 0;
+        int high = this.indexSize - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (this.indexOffsets[mid] <= relativeOffset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // the records before writePosition are verified already
+        int position = this.indexPositions[low];
+        for (int i = this.indexOffsets[low]; i < relativeOffset; i++) {
+            position += RECORD_HEADER_BYTES + this.buffer.getInt(position);
+        }
+        return position;
+    }
+
+    public void force() {
+        this.buffer.force();
+    }
+
+    public long getBaseOffset() {
+        return baseOffset;
+    }
+
+    /**
+     * @return the offset that the next appended record will get
+     */
+    public long getNextOffset() {
+        return this.baseOffset + this.recordCount;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -71,6 +72,22 @@ public class KafkaLogWriter implements LogWriter {
         return recordMetadata.offset();
     }
 
+    @Override
+    public Future<Long> appendAsync(LogEntry logEntry) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        producer.send(
+                new ProducerRecord<>(this.topicName, this.partitionId, null, logEntry),
+                (recordMetadata, e) -> {
+                    if (e != null) {
+                        logger.error("append kafka failed", e);
+                        future.completeExceptionally(e);
+                    } else {
+                        future.complete(recordMetadata.offset());
+                    }
+                });
+        return future;
+    }
+
     @Override
     public void close() throws IOException {
         this.producer.close();
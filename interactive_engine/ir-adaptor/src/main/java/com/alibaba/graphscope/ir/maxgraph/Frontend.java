@@ -50,7 +50,7 @@ public class Frontend extends com.alibaba.maxgraph.frontendservice.Frontend {
         IrMetaFetcher irMetaFetcher = getStoreConfigs(this.instanceConfig);
 
         RpcAddressFetcher addressFetcher = new ExecutorAddressFetcher(this.clientManager);
-        RpcChannelFetcher channelFetcher = new RpcAddressChannelFetcher(addressFetcher);
+        RpcChannelFetcher channelFetcher = new RpcAddressChannelFetcher(addressFetcher, configs);
 
         this.gremlinServer = new IrGremlinServer(this.instanceConfig.getGremlinServerPort());
         this.gremlinServer.start(
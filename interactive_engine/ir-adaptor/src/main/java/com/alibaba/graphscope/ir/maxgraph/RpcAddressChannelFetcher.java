@@ -17,6 +17,9 @@
 package com.alibaba.graphscope.ir.maxgraph;
 
 import com.alibaba.graphscope.common.client.RpcChannelFetcher;
+import com.alibaba.graphscope.common.client.RpcChannelPool;
+import com.alibaba.graphscope.common.config.Configs;
+import com.alibaba.graphscope.common.config.PegasusConfig;
 import com.alibaba.maxgraph.common.rpc.RpcAddressFetcher;
 import com.alibaba.maxgraph.sdkcommon.client.Endpoint;
 import com.alibaba.pegasus.RpcChannel;
@@ -24,23 +27,32 @@ import com.alibaba.pegasus.RpcChannel;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class RpcAddressChannelFetcher implements RpcChannelFetcher {
+public class RpcAddressChannelFetcher implements RpcChannelFetcher, AutoCloseable {
     private RpcAddressFetcher addressFetcher;
+    private RpcChannelPool channelPool;
 
-    public RpcAddressChannelFetcher(RpcAddressFetcher addressFetcher) {
+    public RpcAddressChannelFetcher(RpcAddressFetcher addressFetcher, Configs configs) {
         this.addressFetcher = addressFetcher;
+        // the removed channels are drained until the running jobs time out
+        this.channelPool = new RpcChannelPool(PegasusConfig.PEGASUS_TIMEOUT.get(configs));
     }
 
     @Override
     public List<RpcChannel> fetch() {
         List<Endpoint> endpoints = addressFetcher.getServiceAddress();
-        return endpoints.stream()
-                .map(k -> new RpcChannel(k.getIp(), k.getRuntimeCtrlAndAsyncPort()))
-                .collect(Collectors.toList());
+        return channelPool.update(
+                endpoints.stream()
+                        .map(k -> k.getIp() + ":" + k.getRuntimeCtrlAndAsyncPort())
+                        .collect(Collectors.toList()));
     }
 
     @Override
     public boolean isDynamic() {
         return true;
     }
+
+    @Override
+    public void close() throws Exception {
+        channelPool.close();
+    }
 }
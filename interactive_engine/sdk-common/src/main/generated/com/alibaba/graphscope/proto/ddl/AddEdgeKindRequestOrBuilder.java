@@ -0,0 +1,39 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface AddEdgeKindRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.ddl_service.v1.AddEdgeKindRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string edge_label = 1;</code>
+   */
+  java.lang.String getEdgeLabel();
+  /**
+   * <code>optional string edge_label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getEdgeLabelBytes();
+
+  /**
+   * <code>optional string src_vertex_label = 2;</code>
+   */
+  java.lang.String getSrcVertexLabel();
+  /**
+   * <code>optional string src_vertex_label = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getSrcVertexLabelBytes();
+
+  /**
+   * <code>optional string dst_vertex_label = 3;</code>
+   */
+  java.lang.String getDstVertexLabel();
+  /**
+   * <code>optional string dst_vertex_label = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getDstVertexLabelBytes();
+}
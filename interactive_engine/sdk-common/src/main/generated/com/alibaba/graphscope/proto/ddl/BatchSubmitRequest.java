@@ -0,0 +1,2474 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.ddl_service.v1.BatchSubmitRequest}
+ */
+public  final class BatchSubmitRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.ddl_service.v1.BatchSubmitRequest)
+    BatchSubmitRequestOrBuilder {
+  // Use BatchSubmitRequest.newBuilder() to construct.
+  private BatchSubmitRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private BatchSubmitRequest() {
+    formatVersion_ = 0;
+    simpleResponse_ = false;
+    value_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private BatchSubmitRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            formatVersion_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            simpleResponse_ = input.readBool();
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+              value_ = new java.util.ArrayList<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest>();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            value_.add(
+                input.readMessage(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+        value_ = java.util.Collections.unmodifiableList(value_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.class, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.Builder.class);
+  }
+
+  public interface DDLRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest getCreateVertexTypeRequest();
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequestOrBuilder getCreateVertexTypeRequestOrBuilder();
+
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest getCreateEdgeTypeRequest();
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequestOrBuilder getCreateEdgeTypeRequestOrBuilder();
+
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest getAddEdgeKindRequest();
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.AddEdgeKindRequestOrBuilder getAddEdgeKindRequestOrBuilder();
+
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest getRemoveEdgeKindRequest();
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequestOrBuilder getRemoveEdgeKindRequestOrBuilder();
+
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest getDropVertexTypeRequest();
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.DropVertexTypeRequestOrBuilder getDropVertexTypeRequestOrBuilder();
+
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest getDropEdgeTypeRequest();
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+     */
+    com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequestOrBuilder getDropEdgeTypeRequestOrBuilder();
+
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.ValueCase getValueCase();
+  }
+  /**
+   * Protobuf type {@code gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest}
+   */
+  public  static final class DDLRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest)
+      DDLRequestOrBuilder {
+    // Use DDLRequest.newBuilder() to construct.
+    private DDLRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DDLRequest() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private DDLRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.Builder subBuilder = null;
+              if (valueCase_ == 1) {
+                subBuilder = ((com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_).toBuilder();
+              }
+              value_ =
+                  input.readMessage(com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_);
+                value_ = subBuilder.buildPartial();
+              }
+              valueCase_ = 1;
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.Builder subBuilder = null;
+              if (valueCase_ == 2) {
+                subBuilder = ((com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_).toBuilder();
+              }
+              value_ =
+                  input.readMessage(com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_);
+                value_ = subBuilder.buildPartial();
+              }
+              valueCase_ = 2;
+              break;
+            }
+            case 26: {
+              com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.Builder subBuilder = null;
+              if (valueCase_ == 3) {
+                subBuilder = ((com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_).toBuilder();
+              }
+              value_ =
+                  input.readMessage(com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_);
+                value_ = subBuilder.buildPartial();
+              }
+              valueCase_ = 3;
+              break;
+            }
+            case 34: {
+              com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.Builder subBuilder = null;
+              if (valueCase_ == 4) {
+                subBuilder = ((com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_).toBuilder();
+              }
+              value_ =
+                  input.readMessage(com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_);
+                value_ = subBuilder.buildPartial();
+              }
+              valueCase_ = 4;
+              break;
+            }
+            case 42: {
+              com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.Builder subBuilder = null;
+              if (valueCase_ == 5) {
+                subBuilder = ((com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_).toBuilder();
+              }
+              value_ =
+                  input.readMessage(com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_);
+                value_ = subBuilder.buildPartial();
+              }
+              valueCase_ = 5;
+              break;
+            }
+            case 50: {
+              com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.Builder subBuilder = null;
+              if (valueCase_ == 6) {
+                subBuilder = ((com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_).toBuilder();
+              }
+              value_ =
+                  input.readMessage(com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_);
+                value_ = subBuilder.buildPartial();
+              }
+              valueCase_ = 6;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.class, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder.class);
+    }
+
+    private int valueCase_ = 0;
+    private java.lang.Object value_;
+    public enum ValueCase
+        implements com.google.protobuf.Internal.EnumLite {
+      CREATE_VERTEX_TYPE_REQUEST(1),
+      CREATE_EDGE_TYPE_REQUEST(2),
+      ADD_EDGE_KIND_REQUEST(3),
+      REMOVE_EDGE_KIND_REQUEST(4),
+      DROP_VERTEX_TYPE_REQUEST(5),
+      DROP_EDGE_TYPE_REQUEST(6),
+      VALUE_NOT_SET(0);
+      private final int value;
+      private ValueCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ValueCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ValueCase forNumber(int value) {
+        switch (value) {
+          case 1: return CREATE_VERTEX_TYPE_REQUEST;
+          case 2: return CREATE_EDGE_TYPE_REQUEST;
+          case 3: return ADD_EDGE_KIND_REQUEST;
+          case 4: return REMOVE_EDGE_KIND_REQUEST;
+          case 5: return DROP_VERTEX_TYPE_REQUEST;
+          case 6: return DROP_EDGE_TYPE_REQUEST;
+          case 0: return VALUE_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ValueCase
+    getValueCase() {
+      return ValueCase.forNumber(
+          valueCase_);
+    }
+
+    public static final int CREATE_VERTEX_TYPE_REQUEST_FIELD_NUMBER = 1;
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest getCreateVertexTypeRequest() {
+      if (valueCase_ == 1) {
+         return (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance();
+    }
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequestOrBuilder getCreateVertexTypeRequestOrBuilder() {
+      if (valueCase_ == 1) {
+         return (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance();
+    }
+
+    public static final int CREATE_EDGE_TYPE_REQUEST_FIELD_NUMBER = 2;
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest getCreateEdgeTypeRequest() {
+      if (valueCase_ == 2) {
+         return (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance();
+    }
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequestOrBuilder getCreateEdgeTypeRequestOrBuilder() {
+      if (valueCase_ == 2) {
+         return (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance();
+    }
+
+    public static final int ADD_EDGE_KIND_REQUEST_FIELD_NUMBER = 3;
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest getAddEdgeKindRequest() {
+      if (valueCase_ == 3) {
+         return (com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.getDefaultInstance();
+    }
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.AddEdgeKindRequestOrBuilder getAddEdgeKindRequestOrBuilder() {
+      if (valueCase_ == 3) {
+         return (com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.getDefaultInstance();
+    }
+
+    public static final int REMOVE_EDGE_KIND_REQUEST_FIELD_NUMBER = 4;
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest getRemoveEdgeKindRequest() {
+      if (valueCase_ == 4) {
+         return (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance();
+    }
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequestOrBuilder getRemoveEdgeKindRequestOrBuilder() {
+      if (valueCase_ == 4) {
+         return (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance();
+    }
+
+    public static final int DROP_VERTEX_TYPE_REQUEST_FIELD_NUMBER = 5;
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest getDropVertexTypeRequest() {
+      if (valueCase_ == 5) {
+         return (com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.getDefaultInstance();
+    }
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DropVertexTypeRequestOrBuilder getDropVertexTypeRequestOrBuilder() {
+      if (valueCase_ == 5) {
+         return (com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.getDefaultInstance();
+    }
+
+    public static final int DROP_EDGE_TYPE_REQUEST_FIELD_NUMBER = 6;
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest getDropEdgeTypeRequest() {
+      if (valueCase_ == 6) {
+         return (com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.getDefaultInstance();
+    }
+    /**
+     * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequestOrBuilder getDropEdgeTypeRequestOrBuilder() {
+      if (valueCase_ == 6) {
+         return (com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_;
+      }
+      return com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (valueCase_ == 1) {
+        output.writeMessage(1, (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_);
+      }
+      if (valueCase_ == 2) {
+        output.writeMessage(2, (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_);
+      }
+      if (valueCase_ == 3) {
+        output.writeMessage(3, (com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_);
+      }
+      if (valueCase_ == 4) {
+        output.writeMessage(4, (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_);
+      }
+      if (valueCase_ == 5) {
+        output.writeMessage(5, (com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_);
+      }
+      if (valueCase_ == 6) {
+        output.writeMessage(6, (com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (valueCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_);
+      }
+      if (valueCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_);
+      }
+      if (valueCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_);
+      }
+      if (valueCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_);
+      }
+      if (valueCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_);
+      }
+      if (valueCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, (com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest other = (com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest) obj;
+
+      boolean result = true;
+      result = result && getValueCase().equals(
+          other.getValueCase());
+      if (!result) return false;
+      switch (valueCase_) {
+        case 1:
+          result = result && getCreateVertexTypeRequest()
+              .equals(other.getCreateVertexTypeRequest());
+          break;
+        case 2:
+          result = result && getCreateEdgeTypeRequest()
+              .equals(other.getCreateEdgeTypeRequest());
+          break;
+        case 3:
+          result = result && getAddEdgeKindRequest()
+              .equals(other.getAddEdgeKindRequest());
+          break;
+        case 4:
+          result = result && getRemoveEdgeKindRequest()
+              .equals(other.getRemoveEdgeKindRequest());
+          break;
+        case 5:
+          result = result && getDropVertexTypeRequest()
+              .equals(other.getDropVertexTypeRequest());
+          break;
+        case 6:
+          result = result && getDropEdgeTypeRequest()
+              .equals(other.getDropEdgeTypeRequest());
+          break;
+        case 0:
+        default:
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      switch (valueCase_) {
+        case 1:
+          hash = (37 * hash) + CREATE_VERTEX_TYPE_REQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getCreateVertexTypeRequest().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + CREATE_EDGE_TYPE_REQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getCreateEdgeTypeRequest().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + ADD_EDGE_KIND_REQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getAddEdgeKindRequest().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + REMOVE_EDGE_KIND_REQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getRemoveEdgeKindRequest().hashCode();
+          break;
+        case 5:
+          hash = (37 * hash) + DROP_VERTEX_TYPE_REQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getDropVertexTypeRequest().hashCode();
+          break;
+        case 6:
+          hash = (37 * hash) + DROP_EDGE_TYPE_REQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getDropEdgeTypeRequest().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest)
+        com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.class, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        valueCase_ = 0;
+        value_ = null;
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_descriptor;
+      }
+
+      public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest getDefaultInstanceForType() {
+        return com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.getDefaultInstance();
+      }
+
+      public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest build() {
+        com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest buildPartial() {
+        com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest result = new com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest(this);
+        if (valueCase_ == 1) {
+          if (createVertexTypeRequestBuilder_ == null) {
+            result.value_ = value_;
+          } else {
+            result.value_ = createVertexTypeRequestBuilder_.build();
+          }
+        }
+        if (valueCase_ == 2) {
+          if (createEdgeTypeRequestBuilder_ == null) {
+            result.value_ = value_;
+          } else {
+            result.value_ = createEdgeTypeRequestBuilder_.build();
+          }
+        }
+        if (valueCase_ == 3) {
+          if (addEdgeKindRequestBuilder_ == null) {
+            result.value_ = value_;
+          } else {
+            result.value_ = addEdgeKindRequestBuilder_.build();
+          }
+        }
+        if (valueCase_ == 4) {
+          if (removeEdgeKindRequestBuilder_ == null) {
+            result.value_ = value_;
+          } else {
+            result.value_ = removeEdgeKindRequestBuilder_.build();
+          }
+        }
+        if (valueCase_ == 5) {
+          if (dropVertexTypeRequestBuilder_ == null) {
+            result.value_ = value_;
+          } else {
+            result.value_ = dropVertexTypeRequestBuilder_.build();
+          }
+        }
+        if (valueCase_ == 6) {
+          if (dropEdgeTypeRequestBuilder_ == null) {
+            result.value_ = value_;
+          } else {
+            result.value_ = dropEdgeTypeRequestBuilder_.build();
+          }
+        }
+        result.valueCase_ = valueCase_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest) {
+          return mergeFrom((com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest other) {
+        if (other == com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.getDefaultInstance()) return this;
+        switch (other.getValueCase()) {
+          case CREATE_VERTEX_TYPE_REQUEST: {
+            mergeCreateVertexTypeRequest(other.getCreateVertexTypeRequest());
+            break;
+          }
+          case CREATE_EDGE_TYPE_REQUEST: {
+            mergeCreateEdgeTypeRequest(other.getCreateEdgeTypeRequest());
+            break;
+          }
+          case ADD_EDGE_KIND_REQUEST: {
+            mergeAddEdgeKindRequest(other.getAddEdgeKindRequest());
+            break;
+          }
+          case REMOVE_EDGE_KIND_REQUEST: {
+            mergeRemoveEdgeKindRequest(other.getRemoveEdgeKindRequest());
+            break;
+          }
+          case DROP_VERTEX_TYPE_REQUEST: {
+            mergeDropVertexTypeRequest(other.getDropVertexTypeRequest());
+            break;
+          }
+          case DROP_EDGE_TYPE_REQUEST: {
+            mergeDropEdgeTypeRequest(other.getDropEdgeTypeRequest());
+            break;
+          }
+          case VALUE_NOT_SET: {
+            break;
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int valueCase_ = 0;
+      private java.lang.Object value_;
+      public ValueCase
+          getValueCase() {
+        return ValueCase.forNumber(
+            valueCase_);
+      }
+
+      public Builder clearValue() {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest, com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequestOrBuilder> createVertexTypeRequestBuilder_;
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest getCreateVertexTypeRequest() {
+        if (createVertexTypeRequestBuilder_ == null) {
+          if (valueCase_ == 1) {
+            return (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance();
+        } else {
+          if (valueCase_ == 1) {
+            return createVertexTypeRequestBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+       */
+      public Builder setCreateVertexTypeRequest(com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest value) {
+        if (createVertexTypeRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          createVertexTypeRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+       */
+      public Builder setCreateVertexTypeRequest(
+          com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.Builder builderForValue) {
+        if (createVertexTypeRequestBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          createVertexTypeRequestBuilder_.setMessage(builderForValue.build());
+        }
+        valueCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+       */
+      public Builder mergeCreateVertexTypeRequest(com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest value) {
+        if (createVertexTypeRequestBuilder_ == null) {
+          if (valueCase_ == 1 &&
+              value_ != com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance()) {
+            value_ = com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.newBuilder((com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          if (valueCase_ == 1) {
+            createVertexTypeRequestBuilder_.mergeFrom(value);
+          }
+          createVertexTypeRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+       */
+      public Builder clearCreateVertexTypeRequest() {
+        if (createVertexTypeRequestBuilder_ == null) {
+          if (valueCase_ == 1) {
+            valueCase_ = 0;
+            value_ = null;
+            onChanged();
+          }
+        } else {
+          if (valueCase_ == 1) {
+            valueCase_ = 0;
+            value_ = null;
+          }
+          createVertexTypeRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.Builder getCreateVertexTypeRequestBuilder() {
+        return getCreateVertexTypeRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequestOrBuilder getCreateVertexTypeRequestOrBuilder() {
+        if ((valueCase_ == 1) && (createVertexTypeRequestBuilder_ != null)) {
+          return createVertexTypeRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (valueCase_ == 1) {
+            return (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateVertexTypeRequest create_vertex_type_request = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest, com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequestOrBuilder> 
+          getCreateVertexTypeRequestFieldBuilder() {
+        if (createVertexTypeRequestBuilder_ == null) {
+          if (!(valueCase_ == 1)) {
+            value_ = com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance();
+          }
+          createVertexTypeRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest, com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequestOrBuilder>(
+                  (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) value_,
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        valueCase_ = 1;
+        onChanged();;
+        return createVertexTypeRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest, com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequestOrBuilder> createEdgeTypeRequestBuilder_;
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest getCreateEdgeTypeRequest() {
+        if (createEdgeTypeRequestBuilder_ == null) {
+          if (valueCase_ == 2) {
+            return (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance();
+        } else {
+          if (valueCase_ == 2) {
+            return createEdgeTypeRequestBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+       */
+      public Builder setCreateEdgeTypeRequest(com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest value) {
+        if (createEdgeTypeRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          createEdgeTypeRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+       */
+      public Builder setCreateEdgeTypeRequest(
+          com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.Builder builderForValue) {
+        if (createEdgeTypeRequestBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          createEdgeTypeRequestBuilder_.setMessage(builderForValue.build());
+        }
+        valueCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+       */
+      public Builder mergeCreateEdgeTypeRequest(com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest value) {
+        if (createEdgeTypeRequestBuilder_ == null) {
+          if (valueCase_ == 2 &&
+              value_ != com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance()) {
+            value_ = com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.newBuilder((com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          if (valueCase_ == 2) {
+            createEdgeTypeRequestBuilder_.mergeFrom(value);
+          }
+          createEdgeTypeRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+       */
+      public Builder clearCreateEdgeTypeRequest() {
+        if (createEdgeTypeRequestBuilder_ == null) {
+          if (valueCase_ == 2) {
+            valueCase_ = 0;
+            value_ = null;
+            onChanged();
+          }
+        } else {
+          if (valueCase_ == 2) {
+            valueCase_ = 0;
+            value_ = null;
+          }
+          createEdgeTypeRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.Builder getCreateEdgeTypeRequestBuilder() {
+        return getCreateEdgeTypeRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequestOrBuilder getCreateEdgeTypeRequestOrBuilder() {
+        if ((valueCase_ == 2) && (createEdgeTypeRequestBuilder_ != null)) {
+          return createEdgeTypeRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (valueCase_ == 2) {
+            return (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.CreateEdgeTypeRequest create_edge_type_request = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest, com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequestOrBuilder> 
+          getCreateEdgeTypeRequestFieldBuilder() {
+        if (createEdgeTypeRequestBuilder_ == null) {
+          if (!(valueCase_ == 2)) {
+            value_ = com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance();
+          }
+          createEdgeTypeRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest, com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequestOrBuilder>(
+                  (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) value_,
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        valueCase_ = 2;
+        onChanged();;
+        return createEdgeTypeRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest, com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.Builder, com.alibaba.graphscope.proto.ddl.AddEdgeKindRequestOrBuilder> addEdgeKindRequestBuilder_;
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest getAddEdgeKindRequest() {
+        if (addEdgeKindRequestBuilder_ == null) {
+          if (valueCase_ == 3) {
+            return (com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.getDefaultInstance();
+        } else {
+          if (valueCase_ == 3) {
+            return addEdgeKindRequestBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+       */
+      public Builder setAddEdgeKindRequest(com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest value) {
+        if (addEdgeKindRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          addEdgeKindRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+       */
+      public Builder setAddEdgeKindRequest(
+          com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.Builder builderForValue) {
+        if (addEdgeKindRequestBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          addEdgeKindRequestBuilder_.setMessage(builderForValue.build());
+        }
+        valueCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+       */
+      public Builder mergeAddEdgeKindRequest(com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest value) {
+        if (addEdgeKindRequestBuilder_ == null) {
+          if (valueCase_ == 3 &&
+              value_ != com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.getDefaultInstance()) {
+            value_ = com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.newBuilder((com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          if (valueCase_ == 3) {
+            addEdgeKindRequestBuilder_.mergeFrom(value);
+          }
+          addEdgeKindRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+       */
+      public Builder clearAddEdgeKindRequest() {
+        if (addEdgeKindRequestBuilder_ == null) {
+          if (valueCase_ == 3) {
+            valueCase_ = 0;
+            value_ = null;
+            onChanged();
+          }
+        } else {
+          if (valueCase_ == 3) {
+            valueCase_ = 0;
+            value_ = null;
+          }
+          addEdgeKindRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.Builder getAddEdgeKindRequestBuilder() {
+        return getAddEdgeKindRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.AddEdgeKindRequestOrBuilder getAddEdgeKindRequestOrBuilder() {
+        if ((valueCase_ == 3) && (addEdgeKindRequestBuilder_ != null)) {
+          return addEdgeKindRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (valueCase_ == 3) {
+            return (com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.AddEdgeKindRequest add_edge_kind_request = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest, com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.Builder, com.alibaba.graphscope.proto.ddl.AddEdgeKindRequestOrBuilder> 
+          getAddEdgeKindRequestFieldBuilder() {
+        if (addEdgeKindRequestBuilder_ == null) {
+          if (!(valueCase_ == 3)) {
+            value_ = com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.getDefaultInstance();
+          }
+          addEdgeKindRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest, com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest.Builder, com.alibaba.graphscope.proto.ddl.AddEdgeKindRequestOrBuilder>(
+                  (com.alibaba.graphscope.proto.ddl.AddEdgeKindRequest) value_,
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        valueCase_ = 3;
+        onChanged();;
+        return addEdgeKindRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest, com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.Builder, com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequestOrBuilder> removeEdgeKindRequestBuilder_;
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest getRemoveEdgeKindRequest() {
+        if (removeEdgeKindRequestBuilder_ == null) {
+          if (valueCase_ == 4) {
+            return (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance();
+        } else {
+          if (valueCase_ == 4) {
+            return removeEdgeKindRequestBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+       */
+      public Builder setRemoveEdgeKindRequest(com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest value) {
+        if (removeEdgeKindRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          removeEdgeKindRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+       */
+      public Builder setRemoveEdgeKindRequest(
+          com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.Builder builderForValue) {
+        if (removeEdgeKindRequestBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          removeEdgeKindRequestBuilder_.setMessage(builderForValue.build());
+        }
+        valueCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+       */
+      public Builder mergeRemoveEdgeKindRequest(com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest value) {
+        if (removeEdgeKindRequestBuilder_ == null) {
+          if (valueCase_ == 4 &&
+              value_ != com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance()) {
+            value_ = com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.newBuilder((com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          if (valueCase_ == 4) {
+            removeEdgeKindRequestBuilder_.mergeFrom(value);
+          }
+          removeEdgeKindRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+       */
+      public Builder clearRemoveEdgeKindRequest() {
+        if (removeEdgeKindRequestBuilder_ == null) {
+          if (valueCase_ == 4) {
+            valueCase_ = 0;
+            value_ = null;
+            onChanged();
+          }
+        } else {
+          if (valueCase_ == 4) {
+            valueCase_ = 0;
+            value_ = null;
+          }
+          removeEdgeKindRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.Builder getRemoveEdgeKindRequestBuilder() {
+        return getRemoveEdgeKindRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequestOrBuilder getRemoveEdgeKindRequestOrBuilder() {
+        if ((valueCase_ == 4) && (removeEdgeKindRequestBuilder_ != null)) {
+          return removeEdgeKindRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (valueCase_ == 4) {
+            return (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.RemoveEdgeKindRequest remove_edge_kind_request = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest, com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.Builder, com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequestOrBuilder> 
+          getRemoveEdgeKindRequestFieldBuilder() {
+        if (removeEdgeKindRequestBuilder_ == null) {
+          if (!(valueCase_ == 4)) {
+            value_ = com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance();
+          }
+          removeEdgeKindRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest, com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.Builder, com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequestOrBuilder>(
+                  (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) value_,
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        valueCase_ = 4;
+        onChanged();;
+        return removeEdgeKindRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest, com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.DropVertexTypeRequestOrBuilder> dropVertexTypeRequestBuilder_;
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest getDropVertexTypeRequest() {
+        if (dropVertexTypeRequestBuilder_ == null) {
+          if (valueCase_ == 5) {
+            return (com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.getDefaultInstance();
+        } else {
+          if (valueCase_ == 5) {
+            return dropVertexTypeRequestBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+       */
+      public Builder setDropVertexTypeRequest(com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest value) {
+        if (dropVertexTypeRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          dropVertexTypeRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+       */
+      public Builder setDropVertexTypeRequest(
+          com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.Builder builderForValue) {
+        if (dropVertexTypeRequestBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          dropVertexTypeRequestBuilder_.setMessage(builderForValue.build());
+        }
+        valueCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+       */
+      public Builder mergeDropVertexTypeRequest(com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest value) {
+        if (dropVertexTypeRequestBuilder_ == null) {
+          if (valueCase_ == 5 &&
+              value_ != com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.getDefaultInstance()) {
+            value_ = com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.newBuilder((com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          if (valueCase_ == 5) {
+            dropVertexTypeRequestBuilder_.mergeFrom(value);
+          }
+          dropVertexTypeRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+       */
+      public Builder clearDropVertexTypeRequest() {
+        if (dropVertexTypeRequestBuilder_ == null) {
+          if (valueCase_ == 5) {
+            valueCase_ = 0;
+            value_ = null;
+            onChanged();
+          }
+        } else {
+          if (valueCase_ == 5) {
+            valueCase_ = 0;
+            value_ = null;
+          }
+          dropVertexTypeRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.Builder getDropVertexTypeRequestBuilder() {
+        return getDropVertexTypeRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.DropVertexTypeRequestOrBuilder getDropVertexTypeRequestOrBuilder() {
+        if ((valueCase_ == 5) && (dropVertexTypeRequestBuilder_ != null)) {
+          return dropVertexTypeRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (valueCase_ == 5) {
+            return (com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropVertexTypeRequest drop_vertex_type_request = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest, com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.DropVertexTypeRequestOrBuilder> 
+          getDropVertexTypeRequestFieldBuilder() {
+        if (dropVertexTypeRequestBuilder_ == null) {
+          if (!(valueCase_ == 5)) {
+            value_ = com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.getDefaultInstance();
+          }
+          dropVertexTypeRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest, com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.DropVertexTypeRequestOrBuilder>(
+                  (com.alibaba.graphscope.proto.ddl.DropVertexTypeRequest) value_,
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        valueCase_ = 5;
+        onChanged();;
+        return dropVertexTypeRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest, com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequestOrBuilder> dropEdgeTypeRequestBuilder_;
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest getDropEdgeTypeRequest() {
+        if (dropEdgeTypeRequestBuilder_ == null) {
+          if (valueCase_ == 6) {
+            return (com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.getDefaultInstance();
+        } else {
+          if (valueCase_ == 6) {
+            return dropEdgeTypeRequestBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+       */
+      public Builder setDropEdgeTypeRequest(com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest value) {
+        if (dropEdgeTypeRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          dropEdgeTypeRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+       */
+      public Builder setDropEdgeTypeRequest(
+          com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.Builder builderForValue) {
+        if (dropEdgeTypeRequestBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          dropEdgeTypeRequestBuilder_.setMessage(builderForValue.build());
+        }
+        valueCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+       */
+      public Builder mergeDropEdgeTypeRequest(com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest value) {
+        if (dropEdgeTypeRequestBuilder_ == null) {
+          if (valueCase_ == 6 &&
+              value_ != com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.getDefaultInstance()) {
+            value_ = com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.newBuilder((com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          if (valueCase_ == 6) {
+            dropEdgeTypeRequestBuilder_.mergeFrom(value);
+          }
+          dropEdgeTypeRequestBuilder_.setMessage(value);
+        }
+        valueCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+       */
+      public Builder clearDropEdgeTypeRequest() {
+        if (dropEdgeTypeRequestBuilder_ == null) {
+          if (valueCase_ == 6) {
+            valueCase_ = 0;
+            value_ = null;
+            onChanged();
+          }
+        } else {
+          if (valueCase_ == 6) {
+            valueCase_ = 0;
+            value_ = null;
+          }
+          dropEdgeTypeRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.Builder getDropEdgeTypeRequestBuilder() {
+        return getDropEdgeTypeRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+       */
+      public com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequestOrBuilder getDropEdgeTypeRequestOrBuilder() {
+        if ((valueCase_ == 6) && (dropEdgeTypeRequestBuilder_ != null)) {
+          return dropEdgeTypeRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (valueCase_ == 6) {
+            return (com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_;
+          }
+          return com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .gs.rpc.ddl_service.v1.DropEdgeTypeRequest drop_edge_type_request = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest, com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequestOrBuilder> 
+          getDropEdgeTypeRequestFieldBuilder() {
+        if (dropEdgeTypeRequestBuilder_ == null) {
+          if (!(valueCase_ == 6)) {
+            value_ = com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.getDefaultInstance();
+          }
+          dropEdgeTypeRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest, com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest.Builder, com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequestOrBuilder>(
+                  (com.alibaba.graphscope.proto.ddl.DropEdgeTypeRequest) value_,
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        valueCase_ = 6;
+        onChanged();;
+        return dropEdgeTypeRequestBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest)
+    private static final com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest();
+    }
+
+    public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DDLRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DDLRequest>() {
+      public DDLRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new DDLRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DDLRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DDLRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private int bitField0_;
+  public static final int FORMAT_VERSION_FIELD_NUMBER = 1;
+  private int formatVersion_;
+  /**
+   * <code>optional int32 format_version = 1;</code>
+   */
+  public int getFormatVersion() {
+    return formatVersion_;
+  }
+
+  public static final int SIMPLE_RESPONSE_FIELD_NUMBER = 2;
+  private boolean simpleResponse_;
+  /**
+   * <code>optional bool simple_response = 2;</code>
+   */
+  public boolean getSimpleResponse() {
+    return simpleResponse_;
+  }
+
+  public static final int VALUE_FIELD_NUMBER = 3;
+  private java.util.List<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest> value_;
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  public java.util.List<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest> getValueList() {
+    return value_;
+  }
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  public java.util.List<? extends com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder> 
+      getValueOrBuilderList() {
+    return value_;
+  }
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  public int getValueCount() {
+    return value_.size();
+  }
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest getValue(int index) {
+    return value_.get(index);
+  }
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder getValueOrBuilder(
+      int index) {
+    return value_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (formatVersion_ != 0) {
+      output.writeInt32(1, formatVersion_);
+    }
+    if (simpleResponse_ != false) {
+      output.writeBool(2, simpleResponse_);
+    }
+    for (int i = 0; i < value_.size(); i++) {
+      output.writeMessage(3, value_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (formatVersion_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, formatVersion_);
+    }
+    if (simpleResponse_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(2, simpleResponse_);
+    }
+    for (int i = 0; i < value_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, value_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.BatchSubmitRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.BatchSubmitRequest other = (com.alibaba.graphscope.proto.ddl.BatchSubmitRequest) obj;
+
+    boolean result = true;
+    result = result && (getFormatVersion()
+        == other.getFormatVersion());
+    result = result && (getSimpleResponse()
+        == other.getSimpleResponse());
+    result = result && getValueList()
+        .equals(other.getValueList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + FORMAT_VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getFormatVersion();
+    hash = (37 * hash) + SIMPLE_RESPONSE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getSimpleResponse());
+    if (getValueCount() > 0) {
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValueList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.ddl_service.v1.BatchSubmitRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.ddl_service.v1.BatchSubmitRequest)
+      com.alibaba.graphscope.proto.ddl.BatchSubmitRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.class, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getValueFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      formatVersion_ = 0;
+
+      simpleResponse_ = false;
+
+      if (valueBuilder_ == null) {
+        value_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+      } else {
+        valueBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest build() {
+      com.alibaba.graphscope.proto.ddl.BatchSubmitRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest buildPartial() {
+      com.alibaba.graphscope.proto.ddl.BatchSubmitRequest result = new com.alibaba.graphscope.proto.ddl.BatchSubmitRequest(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.formatVersion_ = formatVersion_;
+      result.simpleResponse_ = simpleResponse_;
+      if (valueBuilder_ == null) {
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          value_ = java.util.Collections.unmodifiableList(value_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.value_ = value_;
+      } else {
+        result.value_ = valueBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.BatchSubmitRequest) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.BatchSubmitRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest other) {
+      if (other == com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.getDefaultInstance()) return this;
+      if (other.getFormatVersion() != 0) {
+        setFormatVersion(other.getFormatVersion());
+      }
+      if (other.getSimpleResponse() != false) {
+        setSimpleResponse(other.getSimpleResponse());
+      }
+      if (valueBuilder_ == null) {
+        if (!other.value_.isEmpty()) {
+          if (value_.isEmpty()) {
+            value_ = other.value_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureValueIsMutable();
+            value_.addAll(other.value_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.value_.isEmpty()) {
+          if (valueBuilder_.isEmpty()) {
+            valueBuilder_.dispose();
+            valueBuilder_ = null;
+            value_ = other.value_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+            valueBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getValueFieldBuilder() : null;
+          } else {
+            valueBuilder_.addAllMessages(other.value_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.BatchSubmitRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.BatchSubmitRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int formatVersion_ ;
+    /**
+     * <code>optional int32 format_version = 1;</code>
+     */
+    public int getFormatVersion() {
+      return formatVersion_;
+    }
+    /**
+     * <code>optional int32 format_version = 1;</code>
+     */
+    public Builder setFormatVersion(int value) {
+      
+      formatVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 format_version = 1;</code>
+     */
+    public Builder clearFormatVersion() {
+      
+      formatVersion_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private boolean simpleResponse_ ;
+    /**
+     * <code>optional bool simple_response = 2;</code>
+     */
+    public boolean getSimpleResponse() {
+      return simpleResponse_;
+    }
+    /**
+     * <code>optional bool simple_response = 2;</code>
+     */
+    public Builder setSimpleResponse(boolean value) {
+      
+      simpleResponse_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool simple_response = 2;</code>
+     */
+    public Builder clearSimpleResponse() {
+      
+      simpleResponse_ = false;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest> value_ =
+      java.util.Collections.emptyList();
+    private void ensureValueIsMutable() {
+      if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+        value_ = new java.util.ArrayList<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest>(value_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder> valueBuilder_;
+
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest> getValueList() {
+      if (valueBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(value_);
+      } else {
+        return valueBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public int getValueCount() {
+      if (valueBuilder_ == null) {
+        return value_.size();
+      } else {
+        return valueBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest getValue(int index) {
+      if (valueBuilder_ == null) {
+        return value_.get(index);
+      } else {
+        return valueBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder setValue(
+        int index, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest value) {
+      if (valueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureValueIsMutable();
+        value_.set(index, value);
+        onChanged();
+      } else {
+        valueBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder setValue(
+        int index, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder builderForValue) {
+      if (valueBuilder_ == null) {
+        ensureValueIsMutable();
+        value_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        valueBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder addValue(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest value) {
+      if (valueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureValueIsMutable();
+        value_.add(value);
+        onChanged();
+      } else {
+        valueBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder addValue(
+        int index, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest value) {
+      if (valueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureValueIsMutable();
+        value_.add(index, value);
+        onChanged();
+      } else {
+        valueBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder addValue(
+        com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder builderForValue) {
+      if (valueBuilder_ == null) {
+        ensureValueIsMutable();
+        value_.add(builderForValue.build());
+        onChanged();
+      } else {
+        valueBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder addValue(
+        int index, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder builderForValue) {
+      if (valueBuilder_ == null) {
+        ensureValueIsMutable();
+        value_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        valueBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder addAllValue(
+        java.lang.Iterable<? extends com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest> values) {
+      if (valueBuilder_ == null) {
+        ensureValueIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, value_);
+        onChanged();
+      } else {
+        valueBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder clearValue() {
+      if (valueBuilder_ == null) {
+        value_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+      } else {
+        valueBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public Builder removeValue(int index) {
+      if (valueBuilder_ == null) {
+        ensureValueIsMutable();
+        value_.remove(index);
+        onChanged();
+      } else {
+        valueBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder getValueBuilder(
+        int index) {
+      return getValueFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder getValueOrBuilder(
+        int index) {
+      if (valueBuilder_ == null) {
+        return value_.get(index);  } else {
+        return valueBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public java.util.List<? extends com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder> 
+         getValueOrBuilderList() {
+      if (valueBuilder_ != null) {
+        return valueBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(value_);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder addValueBuilder() {
+      return getValueFieldBuilder().addBuilder(
+          com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder addValueBuilder(
+        int index) {
+      return getValueFieldBuilder().addBuilder(
+          index, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder> 
+         getValueBuilderList() {
+      return getValueFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder> 
+        getValueFieldBuilder() {
+      if (valueBuilder_ == null) {
+        valueBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest.Builder, com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder>(
+                value_,
+                ((bitField0_ & 0x00000004) == 0x00000004),
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      return valueBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.ddl_service.v1.BatchSubmitRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.ddl_service.v1.BatchSubmitRequest)
+  private static final com.alibaba.graphscope.proto.ddl.BatchSubmitRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.BatchSubmitRequest();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BatchSubmitRequest>
+      PARSER = new com.google.protobuf.AbstractParser<BatchSubmitRequest>() {
+    public BatchSubmitRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchSubmitRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<BatchSubmitRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BatchSubmitRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.BatchSubmitRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
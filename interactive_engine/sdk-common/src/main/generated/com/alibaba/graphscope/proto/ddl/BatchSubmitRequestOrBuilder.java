@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface BatchSubmitRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.ddl_service.v1.BatchSubmitRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 format_version = 1;</code>
+   */
+  int getFormatVersion();
+
+  /**
+   * <code>optional bool simple_response = 2;</code>
+   */
+  boolean getSimpleResponse();
+
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  java.util.List<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest> 
+      getValueList();
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequest getValue(int index);
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  int getValueCount();
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder> 
+      getValueOrBuilderList();
+  /**
+   * <code>repeated .gs.rpc.ddl_service.v1.BatchSubmitRequest.DDLRequest value = 3;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.DDLRequestOrBuilder getValueOrBuilder(
+      int index);
+}
@@ -0,0 +1,666 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.ddl_service.v1.BatchSubmitResponse}
+ */
+public  final class BatchSubmitResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.ddl_service.v1.BatchSubmitResponse)
+    BatchSubmitResponseOrBuilder {
+  // Use BatchSubmitResponse.newBuilder() to construct.
+  private BatchSubmitResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private BatchSubmitResponse() {
+    formatVersion_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private BatchSubmitResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            formatVersion_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder subBuilder = null;
+            if (graphDef_ != null) {
+              subBuilder = graphDef_.toBuilder();
+            }
+            graphDef_ = input.readMessage(com.alibaba.graphscope.proto.ddl.GraphDefPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(graphDef_);
+              graphDef_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.BatchSubmitResponse.class, com.alibaba.graphscope.proto.ddl.BatchSubmitResponse.Builder.class);
+  }
+
+  public static final int FORMAT_VERSION_FIELD_NUMBER = 1;
+  private int formatVersion_;
+  /**
+   * <code>optional int32 format_version = 1;</code>
+   */
+  public int getFormatVersion() {
+    return formatVersion_;
+  }
+
+  public static final int GRAPH_DEF_FIELD_NUMBER = 2;
+  private com.alibaba.graphscope.proto.ddl.GraphDefPb graphDef_;
+  /**
+   * <pre>
+   * If `simple_response` of BatchSubmitRequest is set to True, 
+   * only `version` and `key` fields will be filled
+   * </pre>
+   *
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+   */
+  public boolean hasGraphDef() {
+    return graphDef_ != null;
+  }
+  /**
+   * <pre>
+   * If `simple_response` of BatchSubmitRequest is set to True, 
+   * only `version` and `key` fields will be filled
+   * </pre>
+   *
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.GraphDefPb getGraphDef() {
+    return graphDef_ == null ? com.alibaba.graphscope.proto.ddl.GraphDefPb.getDefaultInstance() : graphDef_;
+  }
+  /**
+   * <pre>
+   * If `simple_response` of BatchSubmitRequest is set to True, 
+   * only `version` and `key` fields will be filled
+   * </pre>
+   *
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder getGraphDefOrBuilder() {
+    return getGraphDef();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (formatVersion_ != 0) {
+      output.writeInt32(1, formatVersion_);
+    }
+    if (graphDef_ != null) {
+      output.writeMessage(2, getGraphDef());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (formatVersion_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, formatVersion_);
+    }
+    if (graphDef_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getGraphDef());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.BatchSubmitResponse)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.BatchSubmitResponse other = (com.alibaba.graphscope.proto.ddl.BatchSubmitResponse) obj;
+
+    boolean result = true;
+    result = result && (getFormatVersion()
+        == other.getFormatVersion());
+    result = result && (hasGraphDef() == other.hasGraphDef());
+    if (hasGraphDef()) {
+      result = result && getGraphDef()
+          .equals(other.getGraphDef());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + FORMAT_VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getFormatVersion();
+    if (hasGraphDef()) {
+      hash = (37 * hash) + GRAPH_DEF_FIELD_NUMBER;
+      hash = (53 * hash) + getGraphDef().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.BatchSubmitResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.ddl_service.v1.BatchSubmitResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.ddl_service.v1.BatchSubmitResponse)
+      com.alibaba.graphscope.proto.ddl.BatchSubmitResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.BatchSubmitResponse.class, com.alibaba.graphscope.proto.ddl.BatchSubmitResponse.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.BatchSubmitResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      formatVersion_ = 0;
+
+      if (graphDefBuilder_ == null) {
+        graphDef_ = null;
+      } else {
+        graphDef_ = null;
+        graphDefBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitResponse getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.BatchSubmitResponse.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitResponse build() {
+      com.alibaba.graphscope.proto.ddl.BatchSubmitResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitResponse buildPartial() {
+      com.alibaba.graphscope.proto.ddl.BatchSubmitResponse result = new com.alibaba.graphscope.proto.ddl.BatchSubmitResponse(this);
+      result.formatVersion_ = formatVersion_;
+      if (graphDefBuilder_ == null) {
+        result.graphDef_ = graphDef_;
+      } else {
+        result.graphDef_ = graphDefBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.BatchSubmitResponse) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.BatchSubmitResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.BatchSubmitResponse other) {
+      if (other == com.alibaba.graphscope.proto.ddl.BatchSubmitResponse.getDefaultInstance()) return this;
+      if (other.getFormatVersion() != 0) {
+        setFormatVersion(other.getFormatVersion());
+      }
+      if (other.hasGraphDef()) {
+        mergeGraphDef(other.getGraphDef());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.BatchSubmitResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.BatchSubmitResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int formatVersion_ ;
+    /**
+     * <code>optional int32 format_version = 1;</code>
+     */
+    public int getFormatVersion() {
+      return formatVersion_;
+    }
+    /**
+     * <code>optional int32 format_version = 1;</code>
+     */
+    public Builder setFormatVersion(int value) {
+      
+      formatVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 format_version = 1;</code>
+     */
+    public Builder clearFormatVersion() {
+      
+      formatVersion_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.graphscope.proto.ddl.GraphDefPb graphDef_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.GraphDefPb, com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder, com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder> graphDefBuilder_;
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    public boolean hasGraphDef() {
+      return graphDefBuilder_ != null || graphDef_ != null;
+    }
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.GraphDefPb getGraphDef() {
+      if (graphDefBuilder_ == null) {
+        return graphDef_ == null ? com.alibaba.graphscope.proto.ddl.GraphDefPb.getDefaultInstance() : graphDef_;
+      } else {
+        return graphDefBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    public Builder setGraphDef(com.alibaba.graphscope.proto.ddl.GraphDefPb value) {
+      if (graphDefBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        graphDef_ = value;
+        onChanged();
+      } else {
+        graphDefBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    public Builder setGraphDef(
+        com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder builderForValue) {
+      if (graphDefBuilder_ == null) {
+        graphDef_ = builderForValue.build();
+        onChanged();
+      } else {
+        graphDefBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    public Builder mergeGraphDef(com.alibaba.graphscope.proto.ddl.GraphDefPb value) {
+      if (graphDefBuilder_ == null) {
+        if (graphDef_ != null) {
+          graphDef_ =
+            com.alibaba.graphscope.proto.ddl.GraphDefPb.newBuilder(graphDef_).mergeFrom(value).buildPartial();
+        } else {
+          graphDef_ = value;
+        }
+        onChanged();
+      } else {
+        graphDefBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    public Builder clearGraphDef() {
+      if (graphDefBuilder_ == null) {
+        graphDef_ = null;
+        onChanged();
+      } else {
+        graphDef_ = null;
+        graphDefBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder getGraphDefBuilder() {
+      
+      onChanged();
+      return getGraphDefFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder getGraphDefOrBuilder() {
+      if (graphDefBuilder_ != null) {
+        return graphDefBuilder_.getMessageOrBuilder();
+      } else {
+        return graphDef_ == null ?
+            com.alibaba.graphscope.proto.ddl.GraphDefPb.getDefaultInstance() : graphDef_;
+      }
+    }
+    /**
+     * <pre>
+     * If `simple_response` of BatchSubmitRequest is set to True, 
+     * only `version` and `key` fields will be filled
+     * </pre>
+     *
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.GraphDefPb, com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder, com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder> 
+        getGraphDefFieldBuilder() {
+      if (graphDefBuilder_ == null) {
+        graphDefBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.GraphDefPb, com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder, com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder>(
+                getGraphDef(),
+                getParentForChildren(),
+                isClean());
+        graphDef_ = null;
+      }
+      return graphDefBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.ddl_service.v1.BatchSubmitResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.ddl_service.v1.BatchSubmitResponse)
+  private static final com.alibaba.graphscope.proto.ddl.BatchSubmitResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.BatchSubmitResponse();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.BatchSubmitResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BatchSubmitResponse>
+      PARSER = new com.google.protobuf.AbstractParser<BatchSubmitResponse>() {
+    public BatchSubmitResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchSubmitResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<BatchSubmitResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BatchSubmitResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.BatchSubmitResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,42 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface BatchSubmitResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.ddl_service.v1.BatchSubmitResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 format_version = 1;</code>
+   */
+  int getFormatVersion();
+
+  /**
+   * <pre>
+   * If `simple_response` of BatchSubmitRequest is set to True, 
+   * only `version` and `key` fields will be filled
+   * </pre>
+   *
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+   */
+  boolean hasGraphDef();
+  /**
+   * <pre>
+   * If `simple_response` of BatchSubmitRequest is set to True, 
+   * only `version` and `key` fields will be filled
+   * </pre>
+   *
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.GraphDefPb getGraphDef();
+  /**
+   * <pre>
+   * If `simple_response` of BatchSubmitRequest is set to True, 
+   * only `version` and `key` fields will be filled
+   * </pre>
+   *
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 2;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder getGraphDefOrBuilder();
+}
@@ -0,0 +1,263 @@
+package com.alibaba.graphscope.proto.ddl;
+
+import static io.grpc.stub.ClientCalls.asyncUnaryCall;
+import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.blockingServerStreamingCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.0.0)",
+    comments = "Source: graphscope/proto/ddl_service.proto")
+public class ClientDdlGrpc {
+
+  private ClientDdlGrpc() {}
+
+  public static final String SERVICE_NAME = "gs.rpc.ddl_service.v1.ClientDdl";
+
+  // Static method descriptors that strictly reflect the proto.
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.graphscope.proto.ddl.BatchSubmitRequest,
+      com.alibaba.graphscope.proto.ddl.BatchSubmitResponse> METHOD_BATCH_SUBMIT =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "gs.rpc.ddl_service.v1.ClientDdl", "batchSubmit"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.ddl.BatchSubmitResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.graphscope.proto.ddl.GetGraphDefRequest,
+      com.alibaba.graphscope.proto.ddl.GetGraphDefResponse> METHOD_GET_GRAPH_DEF =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "gs.rpc.ddl_service.v1.ClientDdl", "getGraphDef"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.ddl.GetGraphDefRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.ddl.GetGraphDefResponse.getDefaultInstance()));
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static ClientDdlStub newStub(io.grpc.Channel channel) {
+    return new ClientDdlStub(channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientDdlBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    return new ClientDdlBlockingStub(channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientDdlFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    return new ClientDdlFutureStub(channel);
+  }
+
+  /**
+   */
+  public static abstract class ClientDdlImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void batchSubmit(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.ddl.BatchSubmitResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_BATCH_SUBMIT, responseObserver);
+    }
+
+    /**
+     */
+    public void getGraphDef(com.alibaba.graphscope.proto.ddl.GetGraphDefRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.ddl.GetGraphDefResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_GET_GRAPH_DEF, responseObserver);
+    }
+
+    @java.lang.Override public io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            METHOD_BATCH_SUBMIT,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.graphscope.proto.ddl.BatchSubmitRequest,
+                com.alibaba.graphscope.proto.ddl.BatchSubmitResponse>(
+                  this, METHODID_BATCH_SUBMIT)))
+          .addMethod(
+            METHOD_GET_GRAPH_DEF,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.graphscope.proto.ddl.GetGraphDefRequest,
+                com.alibaba.graphscope.proto.ddl.GetGraphDefResponse>(
+                  this, METHODID_GET_GRAPH_DEF)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class ClientDdlStub extends io.grpc.stub.AbstractStub<ClientDdlStub> {
+    private ClientDdlStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientDdlStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientDdlStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientDdlStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void batchSubmit(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.ddl.BatchSubmitResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_BATCH_SUBMIT, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getGraphDef(com.alibaba.graphscope.proto.ddl.GetGraphDefRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.ddl.GetGraphDefResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_GET_GRAPH_DEF, getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientDdlBlockingStub extends io.grpc.stub.AbstractStub<ClientDdlBlockingStub> {
+    private ClientDdlBlockingStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientDdlBlockingStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientDdlBlockingStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientDdlBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.graphscope.proto.ddl.BatchSubmitResponse batchSubmit(com.alibaba.graphscope.proto.ddl.BatchSubmitRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_BATCH_SUBMIT, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.graphscope.proto.ddl.GetGraphDefResponse getGraphDef(com.alibaba.graphscope.proto.ddl.GetGraphDefRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_GET_GRAPH_DEF, getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientDdlFutureStub extends io.grpc.stub.AbstractStub<ClientDdlFutureStub> {
+    private ClientDdlFutureStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientDdlFutureStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientDdlFutureStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientDdlFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.graphscope.proto.ddl.BatchSubmitResponse> batchSubmit(
+        com.alibaba.graphscope.proto.ddl.BatchSubmitRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_BATCH_SUBMIT, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.graphscope.proto.ddl.GetGraphDefResponse> getGraphDef(
+        com.alibaba.graphscope.proto.ddl.GetGraphDefRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_GET_GRAPH_DEF, getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_BATCH_SUBMIT = 0;
+  private static final int METHODID_GET_GRAPH_DEF = 1;
+
+  private static class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final ClientDdlImplBase serviceImpl;
+    private final int methodId;
+
+    public MethodHandlers(ClientDdlImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_BATCH_SUBMIT:
+          serviceImpl.batchSubmit((com.alibaba.graphscope.proto.ddl.BatchSubmitRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.ddl.BatchSubmitResponse>) responseObserver);
+          break;
+        case METHODID_GET_GRAPH_DEF:
+          serviceImpl.getGraphDef((com.alibaba.graphscope.proto.ddl.GetGraphDefRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.ddl.GetGraphDefResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    return new io.grpc.ServiceDescriptor(SERVICE_NAME,
+        METHOD_BATCH_SUBMIT,
+        METHOD_GET_GRAPH_DEF);
+  }
+
+}
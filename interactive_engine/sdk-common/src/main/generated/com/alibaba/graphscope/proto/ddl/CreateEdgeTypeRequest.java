@@ -0,0 +1,548 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.ddl_service.v1.CreateEdgeTypeRequest}
+ */
+public  final class CreateEdgeTypeRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.ddl_service.v1.CreateEdgeTypeRequest)
+    CreateEdgeTypeRequestOrBuilder {
+  // Use CreateEdgeTypeRequest.newBuilder() to construct.
+  private CreateEdgeTypeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CreateEdgeTypeRequest() {
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private CreateEdgeTypeRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder subBuilder = null;
+            if (typeDef_ != null) {
+              subBuilder = typeDef_.toBuilder();
+            }
+            typeDef_ = input.readMessage(com.alibaba.graphscope.proto.ddl.TypeDefPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(typeDef_);
+              typeDef_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.class, com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.Builder.class);
+  }
+
+  public static final int TYPE_DEF_FIELD_NUMBER = 1;
+  private com.alibaba.graphscope.proto.ddl.TypeDefPb typeDef_;
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  public boolean hasTypeDef() {
+    return typeDef_ != null;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.TypeDefPb getTypeDef() {
+    return typeDef_ == null ? com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance() : typeDef_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder getTypeDefOrBuilder() {
+    return getTypeDef();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (typeDef_ != null) {
+      output.writeMessage(1, getTypeDef());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (typeDef_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getTypeDef());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest other = (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) obj;
+
+    boolean result = true;
+    result = result && (hasTypeDef() == other.hasTypeDef());
+    if (hasTypeDef()) {
+      result = result && getTypeDef()
+          .equals(other.getTypeDef());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasTypeDef()) {
+      hash = (37 * hash) + TYPE_DEF_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeDef().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.ddl_service.v1.CreateEdgeTypeRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.ddl_service.v1.CreateEdgeTypeRequest)
+      com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.class, com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (typeDefBuilder_ == null) {
+        typeDef_ = null;
+      } else {
+        typeDef_ = null;
+        typeDefBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest build() {
+      com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest buildPartial() {
+      com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest result = new com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest(this);
+      if (typeDefBuilder_ == null) {
+        result.typeDef_ = typeDef_;
+      } else {
+        result.typeDef_ = typeDefBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest other) {
+      if (other == com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest.getDefaultInstance()) return this;
+      if (other.hasTypeDef()) {
+        mergeTypeDef(other.getTypeDef());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.graphscope.proto.ddl.TypeDefPb typeDef_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> typeDefBuilder_;
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public boolean hasTypeDef() {
+      return typeDefBuilder_ != null || typeDef_ != null;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb getTypeDef() {
+      if (typeDefBuilder_ == null) {
+        return typeDef_ == null ? com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance() : typeDef_;
+      } else {
+        return typeDefBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public Builder setTypeDef(com.alibaba.graphscope.proto.ddl.TypeDefPb value) {
+      if (typeDefBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        typeDef_ = value;
+        onChanged();
+      } else {
+        typeDefBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public Builder setTypeDef(
+        com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder builderForValue) {
+      if (typeDefBuilder_ == null) {
+        typeDef_ = builderForValue.build();
+        onChanged();
+      } else {
+        typeDefBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public Builder mergeTypeDef(com.alibaba.graphscope.proto.ddl.TypeDefPb value) {
+      if (typeDefBuilder_ == null) {
+        if (typeDef_ != null) {
+          typeDef_ =
+            com.alibaba.graphscope.proto.ddl.TypeDefPb.newBuilder(typeDef_).mergeFrom(value).buildPartial();
+        } else {
+          typeDef_ = value;
+        }
+        onChanged();
+      } else {
+        typeDefBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public Builder clearTypeDef() {
+      if (typeDefBuilder_ == null) {
+        typeDef_ = null;
+        onChanged();
+      } else {
+        typeDef_ = null;
+        typeDefBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder getTypeDefBuilder() {
+      
+      onChanged();
+      return getTypeDefFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder getTypeDefOrBuilder() {
+      if (typeDefBuilder_ != null) {
+        return typeDefBuilder_.getMessageOrBuilder();
+      } else {
+        return typeDef_ == null ?
+            com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance() : typeDef_;
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> 
+        getTypeDefFieldBuilder() {
+      if (typeDefBuilder_ == null) {
+        typeDefBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder>(
+                getTypeDef(),
+                getParentForChildren(),
+                isClean());
+        typeDef_ = null;
+      }
+      return typeDefBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.ddl_service.v1.CreateEdgeTypeRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.ddl_service.v1.CreateEdgeTypeRequest)
+  private static final com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CreateEdgeTypeRequest>
+      PARSER = new com.google.protobuf.AbstractParser<CreateEdgeTypeRequest>() {
+    public CreateEdgeTypeRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CreateEdgeTypeRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CreateEdgeTypeRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CreateEdgeTypeRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.CreateEdgeTypeRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
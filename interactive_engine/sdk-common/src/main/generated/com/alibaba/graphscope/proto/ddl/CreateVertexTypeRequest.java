@@ -0,0 +1,548 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.ddl_service.v1.CreateVertexTypeRequest}
+ */
+public  final class CreateVertexTypeRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.ddl_service.v1.CreateVertexTypeRequest)
+    CreateVertexTypeRequestOrBuilder {
+  // Use CreateVertexTypeRequest.newBuilder() to construct.
+  private CreateVertexTypeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CreateVertexTypeRequest() {
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private CreateVertexTypeRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder subBuilder = null;
+            if (typeDef_ != null) {
+              subBuilder = typeDef_.toBuilder();
+            }
+            typeDef_ = input.readMessage(com.alibaba.graphscope.proto.ddl.TypeDefPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(typeDef_);
+              typeDef_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.class, com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.Builder.class);
+  }
+
+  public static final int TYPE_DEF_FIELD_NUMBER = 1;
+  private com.alibaba.graphscope.proto.ddl.TypeDefPb typeDef_;
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  public boolean hasTypeDef() {
+    return typeDef_ != null;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.TypeDefPb getTypeDef() {
+    return typeDef_ == null ? com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance() : typeDef_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder getTypeDefOrBuilder() {
+    return getTypeDef();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (typeDef_ != null) {
+      output.writeMessage(1, getTypeDef());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (typeDef_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getTypeDef());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest other = (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) obj;
+
+    boolean result = true;
+    result = result && (hasTypeDef() == other.hasTypeDef());
+    if (hasTypeDef()) {
+      result = result && getTypeDef()
+          .equals(other.getTypeDef());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasTypeDef()) {
+      hash = (37 * hash) + TYPE_DEF_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeDef().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.ddl_service.v1.CreateVertexTypeRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.ddl_service.v1.CreateVertexTypeRequest)
+      com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.class, com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (typeDefBuilder_ == null) {
+        typeDef_ = null;
+      } else {
+        typeDef_ = null;
+        typeDefBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest build() {
+      com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest buildPartial() {
+      com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest result = new com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest(this);
+      if (typeDefBuilder_ == null) {
+        result.typeDef_ = typeDef_;
+      } else {
+        result.typeDef_ = typeDefBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest other) {
+      if (other == com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest.getDefaultInstance()) return this;
+      if (other.hasTypeDef()) {
+        mergeTypeDef(other.getTypeDef());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.graphscope.proto.ddl.TypeDefPb typeDef_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> typeDefBuilder_;
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public boolean hasTypeDef() {
+      return typeDefBuilder_ != null || typeDef_ != null;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb getTypeDef() {
+      if (typeDefBuilder_ == null) {
+        return typeDef_ == null ? com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance() : typeDef_;
+      } else {
+        return typeDefBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public Builder setTypeDef(com.alibaba.graphscope.proto.ddl.TypeDefPb value) {
+      if (typeDefBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        typeDef_ = value;
+        onChanged();
+      } else {
+        typeDefBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public Builder setTypeDef(
+        com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder builderForValue) {
+      if (typeDefBuilder_ == null) {
+        typeDef_ = builderForValue.build();
+        onChanged();
+      } else {
+        typeDefBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public Builder mergeTypeDef(com.alibaba.graphscope.proto.ddl.TypeDefPb value) {
+      if (typeDefBuilder_ == null) {
+        if (typeDef_ != null) {
+          typeDef_ =
+            com.alibaba.graphscope.proto.ddl.TypeDefPb.newBuilder(typeDef_).mergeFrom(value).buildPartial();
+        } else {
+          typeDef_ = value;
+        }
+        onChanged();
+      } else {
+        typeDefBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public Builder clearTypeDef() {
+      if (typeDefBuilder_ == null) {
+        typeDef_ = null;
+        onChanged();
+      } else {
+        typeDef_ = null;
+        typeDefBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder getTypeDefBuilder() {
+      
+      onChanged();
+      return getTypeDefFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder getTypeDefOrBuilder() {
+      if (typeDefBuilder_ != null) {
+        return typeDefBuilder_.getMessageOrBuilder();
+      } else {
+        return typeDef_ == null ?
+            com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance() : typeDef_;
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> 
+        getTypeDefFieldBuilder() {
+      if (typeDefBuilder_ == null) {
+        typeDefBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder>(
+                getTypeDef(),
+                getParentForChildren(),
+                isClean());
+        typeDef_ = null;
+      }
+      return typeDefBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.ddl_service.v1.CreateVertexTypeRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.ddl_service.v1.CreateVertexTypeRequest)
+  private static final com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CreateVertexTypeRequest>
+      PARSER = new com.google.protobuf.AbstractParser<CreateVertexTypeRequest>() {
+    public CreateVertexTypeRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CreateVertexTypeRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CreateVertexTypeRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CreateVertexTypeRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.CreateVertexTypeRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,22 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface CreateVertexTypeRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.ddl_service.v1.CreateVertexTypeRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  boolean hasTypeDef();
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.TypeDefPb getTypeDef();
+  /**
+   * <code>optional .gs.rpc.graph.TypeDefPb type_def = 1;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder getTypeDefOrBuilder();
+}
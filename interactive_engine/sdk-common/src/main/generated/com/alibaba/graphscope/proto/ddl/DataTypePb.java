@@ -0,0 +1,257 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf enum {@code gs.rpc.graph.DataTypePb}
+ */
+public enum DataTypePb
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>UNKNOWN = 0;</code>
+   */
+  UNKNOWN(0),
+  /**
+   * <code>BOOL = 1;</code>
+   */
+  BOOL(1),
+  /**
+   * <code>CHAR = 2;</code>
+   */
+  CHAR(2),
+  /**
+   * <code>SHORT = 3;</code>
+   */
+  SHORT(3),
+  /**
+   * <code>INT = 4;</code>
+   */
+  INT(4),
+  /**
+   * <code>LONG = 5;</code>
+   */
+  LONG(5),
+  /**
+   * <code>FLOAT = 6;</code>
+   */
+  FLOAT(6),
+  /**
+   * <code>DOUBLE = 7;</code>
+   */
+  DOUBLE(7),
+  /**
+   * <code>STRING = 8;</code>
+   */
+  STRING(8),
+  /**
+   * <code>BYTES = 9;</code>
+   */
+  BYTES(9),
+  /**
+   * <code>INT_LIST = 10;</code>
+   */
+  INT_LIST(10),
+  /**
+   * <code>LONG_LIST = 11;</code>
+   */
+  LONG_LIST(11),
+  /**
+   * <code>FLOAT_LIST = 12;</code>
+   */
+  FLOAT_LIST(12),
+  /**
+   * <code>DOUBLE_LIST = 13;</code>
+   */
+  DOUBLE_LIST(13),
+  /**
+   * <code>STRING_LIST = 14;</code>
+   */
+  STRING_LIST(14),
+  /**
+   * <code>NULLVALUE = 15;</code>
+   */
+  NULLVALUE(15),
+  /**
+   * <code>UINT = 16;</code>
+   */
+  UINT(16),
+  /**
+   * <code>ULONG = 17;</code>
+   */
+  ULONG(17),
+  /**
+   * <code>DYNAMIC = 18;</code>
+   */
+  DYNAMIC(18),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>UNKNOWN = 0;</code>
+   */
+  public static final int UNKNOWN_VALUE = 0;
+  /**
+   * <code>BOOL = 1;</code>
+   */
+  public static final int BOOL_VALUE = 1;
+  /**
+   * <code>CHAR = 2;</code>
+   */
+  public static final int CHAR_VALUE = 2;
+  /**
+   * <code>SHORT = 3;</code>
+   */
+  public static final int SHORT_VALUE = 3;
+  /**
+   * <code>INT = 4;</code>
+   */
+  public static final int INT_VALUE = 4;
+  /**
+   * <code>LONG = 5;</code>
+   */
+  public static final int LONG_VALUE = 5;
+  /**
+   * <code>FLOAT = 6;</code>
+   */
+  public static final int FLOAT_VALUE = 6;
+  /**
+   * <code>DOUBLE = 7;</code>
+   */
+  public static final int DOUBLE_VALUE = 7;
+  /**
+   * <code>STRING = 8;</code>
+   */
+  public static final int STRING_VALUE = 8;
+  /**
+   * <code>BYTES = 9;</code>
+   */
+  public static final int BYTES_VALUE = 9;
+  /**
+   * <code>INT_LIST = 10;</code>
+   */
+  public static final int INT_LIST_VALUE = 10;
+  /**
+   * <code>LONG_LIST = 11;</code>
+   */
+  public static final int LONG_LIST_VALUE = 11;
+  /**
+   * <code>FLOAT_LIST = 12;</code>
+   */
+  public static final int FLOAT_LIST_VALUE = 12;
+  /**
+   * <code>DOUBLE_LIST = 13;</code>
+   */
+  public static final int DOUBLE_LIST_VALUE = 13;
+  /**
+   * <code>STRING_LIST = 14;</code>
+   */
+  public static final int STRING_LIST_VALUE = 14;
+  /**
+   * <code>NULLVALUE = 15;</code>
+   */
+  public static final int NULLVALUE_VALUE = 15;
+  /**
+   * <code>UINT = 16;</code>
+   */
+  public static final int UINT_VALUE = 16;
+  /**
+   * <code>ULONG = 17;</code>
+   */
+  public static final int ULONG_VALUE = 17;
+  /**
+   * <code>DYNAMIC = 18;</code>
+   */
+  public static final int DYNAMIC_VALUE = 18;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static DataTypePb valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static DataTypePb forNumber(int value) {
+    switch (value) {
+      case 0: return UNKNOWN;
+      case 1: return BOOL;
+      case 2: return CHAR;
+      case 3: return SHORT;
+      case 4: return INT;
+      case 5: return LONG;
+      case 6: return FLOAT;
+      case 7: return DOUBLE;
+      case 8: return STRING;
+      case 9: return BYTES;
+      case 10: return INT_LIST;
+      case 11: return LONG_LIST;
+      case 12: return FLOAT_LIST;
+      case 13: return DOUBLE_LIST;
+      case 14: return STRING_LIST;
+      case 15: return NULLVALUE;
+      case 16: return UINT;
+      case 17: return ULONG;
+      case 18: return DYNAMIC;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<DataTypePb>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      DataTypePb> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<DataTypePb>() {
+          public DataTypePb findValueByNumber(int number) {
+            return DataTypePb.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.getDescriptor()
+        .getEnumTypes().get(2);
+  }
+
+  private static final DataTypePb[] VALUES = values();
+
+  public static DataTypePb valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private DataTypePb(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:gs.rpc.graph.DataTypePb)
+}
+
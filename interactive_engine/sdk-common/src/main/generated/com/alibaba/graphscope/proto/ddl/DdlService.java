@@ -0,0 +1,206 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public final class DdlService {
+  private DdlService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_AddEdgeKindRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_AddEdgeKindRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_DropVertexTypeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_DropVertexTypeRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_DropEdgeTypeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_DropEdgeTypeRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_GetGraphDefRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_GetGraphDefRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\"graphscope/proto/ddl_service.proto\022\025gs" +
+      ".rpc.ddl_service.v1\032 graphscope/proto/gr" +
+      "aph_def.proto\"\210\005\n\022BatchSubmitRequest\022\026\n\016" +
+      "format_version\030\001 \001(\005\022\027\n\017simple_response\030" +
+      "\002 \001(\010\022C\n\005value\030\003 \003(\01324.gs.rpc.ddl_servic" +
+      "e.v1.BatchSubmitRequest.DDLRequest\032\373\003\n\nD" +
+      "DLRequest\022T\n\032create_vertex_type_request\030" +
+      "\001 \001(\0132..gs.rpc.ddl_service.v1.CreateVert" +
+      "exTypeRequestH\000\022P\n\030create_edge_type_requ" +
+      "est\030\002 \001(\0132,.gs.rpc.ddl_service.v1.Create",
+      "EdgeTypeRequestH\000\022J\n\025add_edge_kind_reque" +
+      "st\030\003 \001(\0132).gs.rpc.ddl_service.v1.AddEdge" +
+      "KindRequestH\000\022P\n\030remove_edge_kind_reques" +
+      "t\030\004 \001(\0132,.gs.rpc.ddl_service.v1.RemoveEd" +
+      "geKindRequestH\000\022P\n\030drop_vertex_type_requ" +
+      "est\030\005 \001(\0132,.gs.rpc.ddl_service.v1.DropVe" +
+      "rtexTypeRequestH\000\022L\n\026drop_edge_type_requ" +
+      "est\030\006 \001(\0132*.gs.rpc.ddl_service.v1.DropEd" +
+      "geTypeRequestH\000B\007\n\005value\"Z\n\023BatchSubmitR" +
+      "esponse\022\026\n\016format_version\030\001 \001(\005\022+\n\tgraph",
+      "_def\030\002 \001(\0132\030.gs.rpc.graph.GraphDefPb\"D\n\027" +
+      "CreateVertexTypeRequest\022)\n\010type_def\030\001 \001(" +
+      "\0132\027.gs.rpc.graph.TypeDefPb\"B\n\025CreateEdge" +
+      "TypeRequest\022)\n\010type_def\030\001 \001(\0132\027.gs.rpc.g" +
+      "raph.TypeDefPb\"\\\n\022AddEdgeKindRequest\022\022\n\n" +
+      "edge_label\030\001 \001(\t\022\030\n\020src_vertex_label\030\002 \001" +
+      "(\t\022\030\n\020dst_vertex_label\030\003 \001(\t\"_\n\025RemoveEd" +
+      "geKindRequest\022\022\n\nedge_label\030\001 \001(\t\022\030\n\020src" +
+      "_vertex_label\030\002 \001(\t\022\030\n\020dst_vertex_label\030" +
+      "\003 \001(\t\"&\n\025DropVertexTypeRequest\022\r\n\005label\030",
+      "\001 \001(\t\"$\n\023DropEdgeTypeRequest\022\r\n\005label\030\001 " +
+      "\001(\t\"!\n\022GetGraphDefRequest\022\013\n\003key\030\001 \001(\t\"B" +
+      "\n\023GetGraphDefResponse\022+\n\tgraph_def\030\001 \001(\013" +
+      "2\030.gs.rpc.graph.GraphDefPb2\327\001\n\tClientDdl" +
+      "\022d\n\013batchSubmit\022).gs.rpc.ddl_service.v1." +
+      "BatchSubmitRequest\032*.gs.rpc.ddl_service." +
+      "v1.BatchSubmitResponse\022d\n\013getGraphDef\022)." +
+      "gs.rpc.ddl_service.v1.GetGraphDefRequest" +
+      "\032*.gs.rpc.ddl_service.v1.GetGraphDefResp" +
+      "onseB$\n com.alibaba.graphscope.proto.ddl",
+      "P\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.graphscope.proto.ddl.GraphDef.getDescriptor(),
+        }, assigner);
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_descriptor,
+        new java.lang.String[] { "FormatVersion", "SimpleResponse", "Value", });
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_descriptor =
+      internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_descriptor.getNestedTypes().get(0);
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_BatchSubmitRequest_DDLRequest_descriptor,
+        new java.lang.String[] { "CreateVertexTypeRequest", "CreateEdgeTypeRequest", "AddEdgeKindRequest", "RemoveEdgeKindRequest", "DropVertexTypeRequest", "DropEdgeTypeRequest", "Value", });
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_BatchSubmitResponse_descriptor,
+        new java.lang.String[] { "FormatVersion", "GraphDef", });
+    internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_CreateVertexTypeRequest_descriptor,
+        new java.lang.String[] { "TypeDef", });
+    internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_CreateEdgeTypeRequest_descriptor,
+        new java.lang.String[] { "TypeDef", });
+    internal_static_gs_rpc_ddl_service_v1_AddEdgeKindRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_gs_rpc_ddl_service_v1_AddEdgeKindRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_AddEdgeKindRequest_descriptor,
+        new java.lang.String[] { "EdgeLabel", "SrcVertexLabel", "DstVertexLabel", });
+    internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_descriptor,
+        new java.lang.String[] { "EdgeLabel", "SrcVertexLabel", "DstVertexLabel", });
+    internal_static_gs_rpc_ddl_service_v1_DropVertexTypeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_gs_rpc_ddl_service_v1_DropVertexTypeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_DropVertexTypeRequest_descriptor,
+        new java.lang.String[] { "Label", });
+    internal_static_gs_rpc_ddl_service_v1_DropEdgeTypeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_gs_rpc_ddl_service_v1_DropEdgeTypeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_DropEdgeTypeRequest_descriptor,
+        new java.lang.String[] { "Label", });
+    internal_static_gs_rpc_ddl_service_v1_GetGraphDefRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_gs_rpc_ddl_service_v1_GetGraphDefRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_GetGraphDefRequest_descriptor,
+        new java.lang.String[] { "Key", });
+    internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_descriptor,
+        new java.lang.String[] { "GraphDef", });
+    com.alibaba.graphscope.proto.ddl.GraphDef.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface DropEdgeTypeRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.ddl_service.v1.DropEdgeTypeRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+}
@@ -0,0 +1,78 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface EdgeKindPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.EdgeKindPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string edge_label = 1;</code>
+   */
+  java.lang.String getEdgeLabel();
+  /**
+   * <code>optional string edge_label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getEdgeLabelBytes();
+
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb edge_label_id = 2;</code>
+   */
+  boolean hasEdgeLabelId();
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb edge_label_id = 2;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.LabelIdPb getEdgeLabelId();
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb edge_label_id = 2;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder getEdgeLabelIdOrBuilder();
+
+  /**
+   * <code>optional string src_vertex_label = 3;</code>
+   */
+  java.lang.String getSrcVertexLabel();
+  /**
+   * <code>optional string src_vertex_label = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getSrcVertexLabelBytes();
+
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb src_vertex_label_id = 4;</code>
+   */
+  boolean hasSrcVertexLabelId();
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb src_vertex_label_id = 4;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.LabelIdPb getSrcVertexLabelId();
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb src_vertex_label_id = 4;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder getSrcVertexLabelIdOrBuilder();
+
+  /**
+   * <code>optional string dst_vertex_label = 5;</code>
+   */
+  java.lang.String getDstVertexLabel();
+  /**
+   * <code>optional string dst_vertex_label = 5;</code>
+   */
+  com.google.protobuf.ByteString
+      getDstVertexLabelBytes();
+
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb dst_vertex_label_id = 6;</code>
+   */
+  boolean hasDstVertexLabelId();
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb dst_vertex_label_id = 6;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.LabelIdPb getDstVertexLabelId();
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb dst_vertex_label_id = 6;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder getDstVertexLabelIdOrBuilder();
+}
@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface GetGraphDefRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.ddl_service.v1.GetGraphDefRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string key = 1;</code>
+   */
+  java.lang.String getKey();
+  /**
+   * <code>optional string key = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getKeyBytes();
+}
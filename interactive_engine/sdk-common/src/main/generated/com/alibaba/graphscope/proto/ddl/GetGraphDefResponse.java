@@ -0,0 +1,548 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.ddl_service.v1.GetGraphDefResponse}
+ */
+public  final class GetGraphDefResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.ddl_service.v1.GetGraphDefResponse)
+    GetGraphDefResponseOrBuilder {
+  // Use GetGraphDefResponse.newBuilder() to construct.
+  private GetGraphDefResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GetGraphDefResponse() {
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private GetGraphDefResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder subBuilder = null;
+            if (graphDef_ != null) {
+              subBuilder = graphDef_.toBuilder();
+            }
+            graphDef_ = input.readMessage(com.alibaba.graphscope.proto.ddl.GraphDefPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(graphDef_);
+              graphDef_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.GetGraphDefResponse.class, com.alibaba.graphscope.proto.ddl.GetGraphDefResponse.Builder.class);
+  }
+
+  public static final int GRAPH_DEF_FIELD_NUMBER = 1;
+  private com.alibaba.graphscope.proto.ddl.GraphDefPb graphDef_;
+  /**
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+   */
+  public boolean hasGraphDef() {
+    return graphDef_ != null;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.GraphDefPb getGraphDef() {
+    return graphDef_ == null ? com.alibaba.graphscope.proto.ddl.GraphDefPb.getDefaultInstance() : graphDef_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder getGraphDefOrBuilder() {
+    return getGraphDef();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (graphDef_ != null) {
+      output.writeMessage(1, getGraphDef());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (graphDef_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getGraphDef());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.GetGraphDefResponse)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.GetGraphDefResponse other = (com.alibaba.graphscope.proto.ddl.GetGraphDefResponse) obj;
+
+    boolean result = true;
+    result = result && (hasGraphDef() == other.hasGraphDef());
+    if (hasGraphDef()) {
+      result = result && getGraphDef()
+          .equals(other.getGraphDef());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasGraphDef()) {
+      hash = (37 * hash) + GRAPH_DEF_FIELD_NUMBER;
+      hash = (53 * hash) + getGraphDef().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.GetGraphDefResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.ddl_service.v1.GetGraphDefResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.ddl_service.v1.GetGraphDefResponse)
+      com.alibaba.graphscope.proto.ddl.GetGraphDefResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.GetGraphDefResponse.class, com.alibaba.graphscope.proto.ddl.GetGraphDefResponse.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.GetGraphDefResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (graphDefBuilder_ == null) {
+        graphDef_ = null;
+      } else {
+        graphDef_ = null;
+        graphDefBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_GetGraphDefResponse_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.GetGraphDefResponse getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.GetGraphDefResponse.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.GetGraphDefResponse build() {
+      com.alibaba.graphscope.proto.ddl.GetGraphDefResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.GetGraphDefResponse buildPartial() {
+      com.alibaba.graphscope.proto.ddl.GetGraphDefResponse result = new com.alibaba.graphscope.proto.ddl.GetGraphDefResponse(this);
+      if (graphDefBuilder_ == null) {
+        result.graphDef_ = graphDef_;
+      } else {
+        result.graphDef_ = graphDefBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.GetGraphDefResponse) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.GetGraphDefResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.GetGraphDefResponse other) {
+      if (other == com.alibaba.graphscope.proto.ddl.GetGraphDefResponse.getDefaultInstance()) return this;
+      if (other.hasGraphDef()) {
+        mergeGraphDef(other.getGraphDef());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.GetGraphDefResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.GetGraphDefResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.graphscope.proto.ddl.GraphDefPb graphDef_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.GraphDefPb, com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder, com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder> graphDefBuilder_;
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    public boolean hasGraphDef() {
+      return graphDefBuilder_ != null || graphDef_ != null;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.GraphDefPb getGraphDef() {
+      if (graphDefBuilder_ == null) {
+        return graphDef_ == null ? com.alibaba.graphscope.proto.ddl.GraphDefPb.getDefaultInstance() : graphDef_;
+      } else {
+        return graphDefBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    public Builder setGraphDef(com.alibaba.graphscope.proto.ddl.GraphDefPb value) {
+      if (graphDefBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        graphDef_ = value;
+        onChanged();
+      } else {
+        graphDefBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    public Builder setGraphDef(
+        com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder builderForValue) {
+      if (graphDefBuilder_ == null) {
+        graphDef_ = builderForValue.build();
+        onChanged();
+      } else {
+        graphDefBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    public Builder mergeGraphDef(com.alibaba.graphscope.proto.ddl.GraphDefPb value) {
+      if (graphDefBuilder_ == null) {
+        if (graphDef_ != null) {
+          graphDef_ =
+            com.alibaba.graphscope.proto.ddl.GraphDefPb.newBuilder(graphDef_).mergeFrom(value).buildPartial();
+        } else {
+          graphDef_ = value;
+        }
+        onChanged();
+      } else {
+        graphDefBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    public Builder clearGraphDef() {
+      if (graphDefBuilder_ == null) {
+        graphDef_ = null;
+        onChanged();
+      } else {
+        graphDef_ = null;
+        graphDefBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder getGraphDefBuilder() {
+      
+      onChanged();
+      return getGraphDefFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder getGraphDefOrBuilder() {
+      if (graphDefBuilder_ != null) {
+        return graphDefBuilder_.getMessageOrBuilder();
+      } else {
+        return graphDef_ == null ?
+            com.alibaba.graphscope.proto.ddl.GraphDefPb.getDefaultInstance() : graphDef_;
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.GraphDefPb, com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder, com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder> 
+        getGraphDefFieldBuilder() {
+      if (graphDefBuilder_ == null) {
+        graphDefBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.GraphDefPb, com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder, com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder>(
+                getGraphDef(),
+                getParentForChildren(),
+                isClean());
+        graphDef_ = null;
+      }
+      return graphDefBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.ddl_service.v1.GetGraphDefResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.ddl_service.v1.GetGraphDefResponse)
+  private static final com.alibaba.graphscope.proto.ddl.GetGraphDefResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.GetGraphDefResponse();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.GetGraphDefResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GetGraphDefResponse>
+      PARSER = new com.google.protobuf.AbstractParser<GetGraphDefResponse>() {
+    public GetGraphDefResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetGraphDefResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GetGraphDefResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GetGraphDefResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.GetGraphDefResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
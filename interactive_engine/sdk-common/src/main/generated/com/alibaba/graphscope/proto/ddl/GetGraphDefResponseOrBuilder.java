@@ -0,0 +1,22 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface GetGraphDefResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.ddl_service.v1.GetGraphDefResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+   */
+  boolean hasGraphDef();
+  /**
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.GraphDefPb getGraphDef();
+  /**
+   * <code>optional .gs.rpc.graph.GraphDefPb graph_def = 1;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder getGraphDefOrBuilder();
+}
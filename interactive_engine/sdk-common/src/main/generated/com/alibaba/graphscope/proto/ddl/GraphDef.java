@@ -0,0 +1,211 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public final class GraphDef {
+  private GraphDef() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_MaxGraphInfoPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_MaxGraphInfoPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_VineyardInfoPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_VineyardInfoPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_MutableGraphInfoPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_MutableGraphInfoPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_GraphDefPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_GraphDefPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_GraphDefPb_PropertyNameToIdEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_GraphDefPb_PropertyNameToIdEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_TypeDefPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_TypeDefPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_LabelIdPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_LabelIdPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_PropertyDefPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_PropertyDefPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_PropertyValuePb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_PropertyValuePb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_graph_EdgeKindPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_graph_EdgeKindPb_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n graphscope/proto/graph_def.proto\022\014gs.r" +
+      "pc.graph\032\031google/protobuf/any.proto\"X\n\016M" +
+      "axGraphInfoPb\022\025\n\rlast_label_id\030\001 \001(\005\022\030\n\020" +
+      "last_property_id\030\002 \001(\005\022\025\n\rlast_table_id\030" +
+      "\003 \001(\003\"\242\002\n\016VineyardInfoPb\022*\n\010oid_type\030\001 \001" +
+      "(\0162\030.gs.rpc.graph.DataTypePb\022*\n\010vid_type" +
+      "\030\002 \001(\0162\030.gs.rpc.graph.DataTypePb\022,\n\nvdat" +
+      "a_type\030\003 \001(\0162\030.gs.rpc.graph.DataTypePb\022," +
+      "\n\nedata_type\030\004 \001(\0162\030.gs.rpc.graph.DataTy" +
+      "pePb\022\023\n\013schema_path\030\005 \001(\t\022\024\n\014generate_ei",
+      "d\030\006 \001(\010\022\023\n\013vineyard_id\030\007 \001(\003\022\034\n\024property" +
+      "_schema_json\030\010 \001(\t\"\216\001\n\022MutableGraphInfoP" +
+      "b\022,\n\nvdata_type\030\001 \001(\0162\030.gs.rpc.graph.Dat" +
+      "aTypePb\022,\n\nedata_type\030\002 \001(\0162\030.gs.rpc.gra" +
+      "ph.DataTypePb\022\034\n\024property_schema_json\030\003 " +
+      "\001(\t\"\213\003\n\nGraphDefPb\022\017\n\007version\030\001 \001(\003\022\013\n\003k" +
+      "ey\030\002 \001(\t\022-\n\ngraph_type\030\003 \001(\0162\031.gs.rpc.gr" +
+      "aph.GraphTypePb\022\020\n\010directed\030\004 \001(\010\022*\n\ttyp" +
+      "e_defs\030\005 \003(\0132\027.gs.rpc.graph.TypeDefPb\022,\n" +
+      "\nedge_kinds\030\006 \003(\0132\030.gs.rpc.graph.EdgeKin",
+      "dPb\022K\n\023property_name_to_id\030\007 \003(\0132..gs.rp" +
+      "c.graph.GraphDefPb.PropertyNameToIdEntry" +
+      "\022\'\n\textension\030\010 \001(\0132\024.google.protobuf.An" +
+      "y\022\025\n\ris_multigraph\030\t \001(\010\0327\n\025PropertyName" +
+      "ToIdEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\005:\0028" +
+      "\001\"\262\001\n\tTypeDefPb\022\022\n\nversion_id\030\001 \001(\005\022\r\n\005l" +
+      "abel\030\002 \001(\t\022)\n\010label_id\030\003 \001(\0132\027.gs.rpc.gr" +
+      "aph.LabelIdPb\022+\n\ttype_enum\030\004 \001(\0162\030.gs.rp" +
+      "c.graph.TypeEnumPb\022*\n\005props\030\005 \003(\0132\033.gs.r" +
+      "pc.graph.PropertyDefPb\"\027\n\tLabelIdPb\022\n\n\002i",
+      "d\030\001 \001(\005\"\273\001\n\rPropertyDefPb\022\n\n\002id\030\001 \001(\005\022\020\n" +
+      "\010inner_id\030\002 \001(\005\022\014\n\004name\030\003 \001(\t\022+\n\tdata_ty" +
+      "pe\030\004 \001(\0162\030.gs.rpc.graph.DataTypePb\0224\n\rde" +
+      "fault_value\030\005 \001(\0132\035.gs.rpc.graph.Propert" +
+      "yValuePb\022\n\n\002pk\030\006 \001(\010\022\017\n\007comment\030\007 \001(\t\"K\n" +
+      "\017PropertyValuePb\022+\n\tdata_type\030\001 \001(\0162\030.gs" +
+      ".rpc.graph.DataTypePb\022\013\n\003val\030\002 \001(\014\"\360\001\n\nE" +
+      "dgeKindPb\022\022\n\nedge_label\030\001 \001(\t\022.\n\redge_la" +
+      "bel_id\030\002 \001(\0132\027.gs.rpc.graph.LabelIdPb\022\030\n" +
+      "\020src_vertex_label\030\003 \001(\t\0224\n\023src_vertex_la",
+      "bel_id\030\004 \001(\0132\027.gs.rpc.graph.LabelIdPb\022\030\n" +
+      "\020dst_vertex_label\030\005 \001(\t\0224\n\023dst_vertex_la" +
+      "bel_id\030\006 \001(\0132\027.gs.rpc.graph.LabelIdPb*\267\001" +
+      "\n\013GraphTypePb\022\020\n\014UNKNOWN_TYPE\020\000\022\025\n\021IMMUT" +
+      "ABLE_EDGECUT\020\001\022\024\n\020DYNAMIC_PROPERTY\020\002\022\025\n\021" +
+      "DYNAMIC_PROJECTED\020\003\022\022\n\016ARROW_PROPERTY\020\004\022" +
+      "\023\n\017ARROW_PROJECTED\020\005\022\024\n\020PERSISTENT_STORE" +
+      "\020\006\022\023\n\017ARROW_FLATTENED\020\007*3\n\nTypeEnumPb\022\017\n" +
+      "\013UNSPECIFIED\020\000\022\n\n\006VERTEX\020\001\022\010\n\004EDGE\020\002*\371\001\n" +
+      "\nDataTypePb\022\013\n\007UNKNOWN\020\000\022\010\n\004BOOL\020\001\022\010\n\004CH",
+      "AR\020\002\022\t\n\005SHORT\020\003\022\007\n\003INT\020\004\022\010\n\004LONG\020\005\022\t\n\005FL" +
+      "OAT\020\006\022\n\n\006DOUBLE\020\007\022\n\n\006STRING\020\010\022\t\n\005BYTES\020\t" +
+      "\022\014\n\010INT_LIST\020\n\022\r\n\tLONG_LIST\020\013\022\016\n\nFLOAT_L" +
+      "IST\020\014\022\017\n\013DOUBLE_LIST\020\r\022\017\n\013STRING_LIST\020\016\022" +
+      "\r\n\tNULLVALUE\020\017\022\010\n\004UINT\020\020\022\t\n\005ULONG\020\021\022\013\n\007D" +
+      "YNAMIC\020\022B$\n com.alibaba.graphscope.proto" +
+      ".ddlP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.google.protobuf.AnyProto.getDescriptor(),
+        }, assigner);
+    internal_static_gs_rpc_graph_MaxGraphInfoPb_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_gs_rpc_graph_MaxGraphInfoPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_MaxGraphInfoPb_descriptor,
+        new java.lang.String[] { "LastLabelId", "LastPropertyId", "LastTableId", });
+    internal_static_gs_rpc_graph_VineyardInfoPb_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_gs_rpc_graph_VineyardInfoPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_VineyardInfoPb_descriptor,
+        new java.lang.String[] { "OidType", "VidType", "VdataType", "EdataType", "SchemaPath", "GenerateEid", "VineyardId", "PropertySchemaJson", });
+    internal_static_gs_rpc_graph_MutableGraphInfoPb_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_gs_rpc_graph_MutableGraphInfoPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_MutableGraphInfoPb_descriptor,
+        new java.lang.String[] { "VdataType", "EdataType", "PropertySchemaJson", });
+    internal_static_gs_rpc_graph_GraphDefPb_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_gs_rpc_graph_GraphDefPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_GraphDefPb_descriptor,
+        new java.lang.String[] { "Version", "Key", "GraphType", "Directed", "TypeDefs", "EdgeKinds", "PropertyNameToId", "Extension", "IsMultigraph", });
+    internal_static_gs_rpc_graph_GraphDefPb_PropertyNameToIdEntry_descriptor =
+      internal_static_gs_rpc_graph_GraphDefPb_descriptor.getNestedTypes().get(0);
+    internal_static_gs_rpc_graph_GraphDefPb_PropertyNameToIdEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_GraphDefPb_PropertyNameToIdEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_gs_rpc_graph_TypeDefPb_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_gs_rpc_graph_TypeDefPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_TypeDefPb_descriptor,
+        new java.lang.String[] { "VersionId", "Label", "LabelId", "TypeEnum", "Props", });
+    internal_static_gs_rpc_graph_LabelIdPb_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_gs_rpc_graph_LabelIdPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_LabelIdPb_descriptor,
+        new java.lang.String[] { "Id", });
+    internal_static_gs_rpc_graph_PropertyDefPb_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_gs_rpc_graph_PropertyDefPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_PropertyDefPb_descriptor,
+        new java.lang.String[] { "Id", "InnerId", "Name", "DataType", "DefaultValue", "Pk", "Comment", });
+    internal_static_gs_rpc_graph_PropertyValuePb_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_gs_rpc_graph_PropertyValuePb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_PropertyValuePb_descriptor,
+        new java.lang.String[] { "DataType", "Val", });
+    internal_static_gs_rpc_graph_EdgeKindPb_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_gs_rpc_graph_EdgeKindPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_graph_EdgeKindPb_descriptor,
+        new java.lang.String[] { "EdgeLabel", "EdgeLabelId", "SrcVertexLabel", "SrcVertexLabelId", "DstVertexLabel", "DstVertexLabelId", });
+    com.google.protobuf.AnyProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,1988 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * <pre>
+ * Stores all meta of a graph
+ * </pre>
+ *
+ * Protobuf type {@code gs.rpc.graph.GraphDefPb}
+ */
+public  final class GraphDefPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.graph.GraphDefPb)
+    GraphDefPbOrBuilder {
+  // Use GraphDefPb.newBuilder() to construct.
+  private GraphDefPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GraphDefPb() {
+    version_ = 0L;
+    key_ = "";
+    graphType_ = 0;
+    directed_ = false;
+    typeDefs_ = java.util.Collections.emptyList();
+    edgeKinds_ = java.util.Collections.emptyList();
+    isMultigraph_ = false;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private GraphDefPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            version_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            key_ = s;
+            break;
+          }
+          case 24: {
+            int rawValue = input.readEnum();
+
+            graphType_ = rawValue;
+            break;
+          }
+          case 32: {
+
+            directed_ = input.readBool();
+            break;
+          }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+              typeDefs_ = new java.util.ArrayList<com.alibaba.graphscope.proto.ddl.TypeDefPb>();
+              mutable_bitField0_ |= 0x00000010;
+            }
+            typeDefs_.add(
+                input.readMessage(com.alibaba.graphscope.proto.ddl.TypeDefPb.parser(), extensionRegistry));
+            break;
+          }
+          case 50: {
+            if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+              edgeKinds_ = new java.util.ArrayList<com.alibaba.graphscope.proto.ddl.EdgeKindPb>();
+              mutable_bitField0_ |= 0x00000020;
+            }
+            edgeKinds_.add(
+                input.readMessage(com.alibaba.graphscope.proto.ddl.EdgeKindPb.parser(), extensionRegistry));
+            break;
+          }
+          case 58: {
+            if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+              propertyNameToId_ = com.google.protobuf.MapField.newMapField(
+                  PropertyNameToIdDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000040;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.Integer>
+            propertyNameToId = input.readMessage(
+                PropertyNameToIdDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            propertyNameToId_.getMutableMap().put(propertyNameToId.getKey(), propertyNameToId.getValue());
+            break;
+          }
+          case 66: {
+            com.google.protobuf.Any.Builder subBuilder = null;
+            if (extension_ != null) {
+              subBuilder = extension_.toBuilder();
+            }
+            extension_ = input.readMessage(com.google.protobuf.Any.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(extension_);
+              extension_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 72: {
+
+            isMultigraph_ = input.readBool();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+        typeDefs_ = java.util.Collections.unmodifiableList(typeDefs_);
+      }
+      if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+        edgeKinds_ = java.util.Collections.unmodifiableList(edgeKinds_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_GraphDefPb_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 7:
+        return internalGetPropertyNameToId();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_GraphDefPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.GraphDefPb.class, com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int VERSION_FIELD_NUMBER = 1;
+  private long version_;
+  /**
+   * <code>optional int64 version = 1;</code>
+   */
+  public long getVersion() {
+    return version_;
+  }
+
+  public static final int KEY_FIELD_NUMBER = 2;
+  private volatile java.lang.Object key_;
+  /**
+   * <code>optional string key = 2;</code>
+   */
+  public java.lang.String getKey() {
+    java.lang.Object ref = key_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      key_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string key = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getKeyBytes() {
+    java.lang.Object ref = key_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      key_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int GRAPH_TYPE_FIELD_NUMBER = 3;
+  private int graphType_;
+  /**
+   * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+   */
+  public int getGraphTypeValue() {
+    return graphType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.GraphTypePb getGraphType() {
+    com.alibaba.graphscope.proto.ddl.GraphTypePb result = com.alibaba.graphscope.proto.ddl.GraphTypePb.valueOf(graphType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.GraphTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int DIRECTED_FIELD_NUMBER = 4;
+  private boolean directed_;
+  /**
+   * <code>optional bool directed = 4;</code>
+   */
+  public boolean getDirected() {
+    return directed_;
+  }
+
+  public static final int TYPE_DEFS_FIELD_NUMBER = 5;
+  private java.util.List<com.alibaba.graphscope.proto.ddl.TypeDefPb> typeDefs_;
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  public java.util.List<com.alibaba.graphscope.proto.ddl.TypeDefPb> getTypeDefsList() {
+    return typeDefs_;
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  public java.util.List<? extends com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> 
+      getTypeDefsOrBuilderList() {
+    return typeDefs_;
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  public int getTypeDefsCount() {
+    return typeDefs_.size();
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.TypeDefPb getTypeDefs(int index) {
+    return typeDefs_.get(index);
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder getTypeDefsOrBuilder(
+      int index) {
+    return typeDefs_.get(index);
+  }
+
+  public static final int EDGE_KINDS_FIELD_NUMBER = 6;
+  private java.util.List<com.alibaba.graphscope.proto.ddl.EdgeKindPb> edgeKinds_;
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  public java.util.List<com.alibaba.graphscope.proto.ddl.EdgeKindPb> getEdgeKindsList() {
+    return edgeKinds_;
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  public java.util.List<? extends com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder> 
+      getEdgeKindsOrBuilderList() {
+    return edgeKinds_;
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  public int getEdgeKindsCount() {
+    return edgeKinds_.size();
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.EdgeKindPb getEdgeKinds(int index) {
+    return edgeKinds_.get(index);
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder getEdgeKindsOrBuilder(
+      int index) {
+    return edgeKinds_.get(index);
+  }
+
+  public static final int PROPERTY_NAME_TO_ID_FIELD_NUMBER = 7;
+  private static final class PropertyNameToIdDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.Integer> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.Integer>newDefaultInstance(
+                com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_GraphDefPb_PropertyNameToIdEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0);
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.Integer> propertyNameToId_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.Integer>
+  internalGetPropertyNameToId() {
+    if (propertyNameToId_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PropertyNameToIdDefaultEntryHolder.defaultEntry);
+    }
+    return propertyNameToId_;
+  }
+
+  public int getPropertyNameToIdCount() {
+    return internalGetPropertyNameToId().getMap().size();
+  }
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+
+  public boolean containsPropertyNameToId(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetPropertyNameToId().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPropertyNameToIdMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.Integer> getPropertyNameToId() {
+    return getPropertyNameToIdMap();
+  }
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.Integer> getPropertyNameToIdMap() {
+    return internalGetPropertyNameToId().getMap();
+  }
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+
+  public int getPropertyNameToIdOrDefault(
+      java.lang.String key,
+      int defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.Integer> map =
+        internalGetPropertyNameToId().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+
+  public int getPropertyNameToIdOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.Integer> map =
+        internalGetPropertyNameToId().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int EXTENSION_FIELD_NUMBER = 8;
+  private com.google.protobuf.Any extension_;
+  /**
+   * <pre>
+   * current extension supported:
+   *   - MaxGraphInfoPb
+   *   - VineyardInfoPb
+   *   - MutableGraphInfoPb
+   * </pre>
+   *
+   * <code>optional .google.protobuf.Any extension = 8;</code>
+   */
+  public boolean hasExtension() {
+    return extension_ != null;
+  }
+  /**
+   * <pre>
+   * current extension supported:
+   *   - MaxGraphInfoPb
+   *   - VineyardInfoPb
+   *   - MutableGraphInfoPb
+   * </pre>
+   *
+   * <code>optional .google.protobuf.Any extension = 8;</code>
+   */
+  public com.google.protobuf.Any getExtension() {
+    return extension_ == null ? com.google.protobuf.Any.getDefaultInstance() : extension_;
+  }
+  /**
+   * <pre>
+   * current extension supported:
+   *   - MaxGraphInfoPb
+   *   - VineyardInfoPb
+   *   - MutableGraphInfoPb
+   * </pre>
+   *
+   * <code>optional .google.protobuf.Any extension = 8;</code>
+   */
+  public com.google.protobuf.AnyOrBuilder getExtensionOrBuilder() {
+    return getExtension();
+  }
+
+  public static final int IS_MULTIGRAPH_FIELD_NUMBER = 9;
+  private boolean isMultigraph_;
+  /**
+   * <code>optional bool is_multigraph = 9;</code>
+   */
+  public boolean getIsMultigraph() {
+    return isMultigraph_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (version_ != 0L) {
+      output.writeInt64(1, version_);
+    }
+    if (!getKeyBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, key_);
+    }
+    if (graphType_ != com.alibaba.graphscope.proto.ddl.GraphTypePb.UNKNOWN_TYPE.getNumber()) {
+      output.writeEnum(3, graphType_);
+    }
+    if (directed_ != false) {
+      output.writeBool(4, directed_);
+    }
+    for (int i = 0; i < typeDefs_.size(); i++) {
+      output.writeMessage(5, typeDefs_.get(i));
+    }
+    for (int i = 0; i < edgeKinds_.size(); i++) {
+      output.writeMessage(6, edgeKinds_.get(i));
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.Integer> entry
+         : internalGetPropertyNameToId().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.Integer>
+      propertyNameToId = PropertyNameToIdDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(7, propertyNameToId);
+    }
+    if (extension_ != null) {
+      output.writeMessage(8, getExtension());
+    }
+    if (isMultigraph_ != false) {
+      output.writeBool(9, isMultigraph_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (version_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, version_);
+    }
+    if (!getKeyBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, key_);
+    }
+    if (graphType_ != com.alibaba.graphscope.proto.ddl.GraphTypePb.UNKNOWN_TYPE.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, graphType_);
+    }
+    if (directed_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(4, directed_);
+    }
+    for (int i = 0; i < typeDefs_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, typeDefs_.get(i));
+    }
+    for (int i = 0; i < edgeKinds_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, edgeKinds_.get(i));
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.Integer> entry
+         : internalGetPropertyNameToId().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.Integer>
+      propertyNameToId = PropertyNameToIdDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, propertyNameToId);
+    }
+    if (extension_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(8, getExtension());
+    }
+    if (isMultigraph_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(9, isMultigraph_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.GraphDefPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.GraphDefPb other = (com.alibaba.graphscope.proto.ddl.GraphDefPb) obj;
+
+    boolean result = true;
+    result = result && (getVersion()
+        == other.getVersion());
+    result = result && getKey()
+        .equals(other.getKey());
+    result = result && graphType_ == other.graphType_;
+    result = result && (getDirected()
+        == other.getDirected());
+    result = result && getTypeDefsList()
+        .equals(other.getTypeDefsList());
+    result = result && getEdgeKindsList()
+        .equals(other.getEdgeKindsList());
+    result = result && internalGetPropertyNameToId().equals(
+        other.internalGetPropertyNameToId());
+    result = result && (hasExtension() == other.hasExtension());
+    if (hasExtension()) {
+      result = result && getExtension()
+          .equals(other.getExtension());
+    }
+    result = result && (getIsMultigraph()
+        == other.getIsMultigraph());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getVersion());
+    hash = (37 * hash) + KEY_FIELD_NUMBER;
+    hash = (53 * hash) + getKey().hashCode();
+    hash = (37 * hash) + GRAPH_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + graphType_;
+    hash = (37 * hash) + DIRECTED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getDirected());
+    if (getTypeDefsCount() > 0) {
+      hash = (37 * hash) + TYPE_DEFS_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeDefsList().hashCode();
+    }
+    if (getEdgeKindsCount() > 0) {
+      hash = (37 * hash) + EDGE_KINDS_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeKindsList().hashCode();
+    }
+    if (!internalGetPropertyNameToId().getMap().isEmpty()) {
+      hash = (37 * hash) + PROPERTY_NAME_TO_ID_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetPropertyNameToId().hashCode();
+    }
+    if (hasExtension()) {
+      hash = (37 * hash) + EXTENSION_FIELD_NUMBER;
+      hash = (53 * hash) + getExtension().hashCode();
+    }
+    hash = (37 * hash) + IS_MULTIGRAPH_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getIsMultigraph());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.GraphDefPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Stores all meta of a graph
+   * </pre>
+   *
+   * Protobuf type {@code gs.rpc.graph.GraphDefPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.graph.GraphDefPb)
+      com.alibaba.graphscope.proto.ddl.GraphDefPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_GraphDefPb_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 7:
+          return internalGetPropertyNameToId();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 7:
+          return internalGetMutablePropertyNameToId();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_GraphDefPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.GraphDefPb.class, com.alibaba.graphscope.proto.ddl.GraphDefPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.GraphDefPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getTypeDefsFieldBuilder();
+        getEdgeKindsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      version_ = 0L;
+
+      key_ = "";
+
+      graphType_ = 0;
+
+      directed_ = false;
+
+      if (typeDefsBuilder_ == null) {
+        typeDefs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+      } else {
+        typeDefsBuilder_.clear();
+      }
+      if (edgeKindsBuilder_ == null) {
+        edgeKinds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+      } else {
+        edgeKindsBuilder_.clear();
+      }
+      internalGetMutablePropertyNameToId().clear();
+      if (extensionBuilder_ == null) {
+        extension_ = null;
+      } else {
+        extension_ = null;
+        extensionBuilder_ = null;
+      }
+      isMultigraph_ = false;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_GraphDefPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.GraphDefPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.GraphDefPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.GraphDefPb build() {
+      com.alibaba.graphscope.proto.ddl.GraphDefPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.GraphDefPb buildPartial() {
+      com.alibaba.graphscope.proto.ddl.GraphDefPb result = new com.alibaba.graphscope.proto.ddl.GraphDefPb(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.version_ = version_;
+      result.key_ = key_;
+      result.graphType_ = graphType_;
+      result.directed_ = directed_;
+      if (typeDefsBuilder_ == null) {
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          typeDefs_ = java.util.Collections.unmodifiableList(typeDefs_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.typeDefs_ = typeDefs_;
+      } else {
+        result.typeDefs_ = typeDefsBuilder_.build();
+      }
+      if (edgeKindsBuilder_ == null) {
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          edgeKinds_ = java.util.Collections.unmodifiableList(edgeKinds_);
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.edgeKinds_ = edgeKinds_;
+      } else {
+        result.edgeKinds_ = edgeKindsBuilder_.build();
+      }
+      result.propertyNameToId_ = internalGetPropertyNameToId();
+      result.propertyNameToId_.makeImmutable();
+      if (extensionBuilder_ == null) {
+        result.extension_ = extension_;
+      } else {
+        result.extension_ = extensionBuilder_.build();
+      }
+      result.isMultigraph_ = isMultigraph_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.GraphDefPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.GraphDefPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.GraphDefPb other) {
+      if (other == com.alibaba.graphscope.proto.ddl.GraphDefPb.getDefaultInstance()) return this;
+      if (other.getVersion() != 0L) {
+        setVersion(other.getVersion());
+      }
+      if (!other.getKey().isEmpty()) {
+        key_ = other.key_;
+        onChanged();
+      }
+      if (other.graphType_ != 0) {
+        setGraphTypeValue(other.getGraphTypeValue());
+      }
+      if (other.getDirected() != false) {
+        setDirected(other.getDirected());
+      }
+      if (typeDefsBuilder_ == null) {
+        if (!other.typeDefs_.isEmpty()) {
+          if (typeDefs_.isEmpty()) {
+            typeDefs_ = other.typeDefs_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureTypeDefsIsMutable();
+            typeDefs_.addAll(other.typeDefs_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.typeDefs_.isEmpty()) {
+          if (typeDefsBuilder_.isEmpty()) {
+            typeDefsBuilder_.dispose();
+            typeDefsBuilder_ = null;
+            typeDefs_ = other.typeDefs_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+            typeDefsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getTypeDefsFieldBuilder() : null;
+          } else {
+            typeDefsBuilder_.addAllMessages(other.typeDefs_);
+          }
+        }
+      }
+      if (edgeKindsBuilder_ == null) {
+        if (!other.edgeKinds_.isEmpty()) {
+          if (edgeKinds_.isEmpty()) {
+            edgeKinds_ = other.edgeKinds_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureEdgeKindsIsMutable();
+            edgeKinds_.addAll(other.edgeKinds_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.edgeKinds_.isEmpty()) {
+          if (edgeKindsBuilder_.isEmpty()) {
+            edgeKindsBuilder_.dispose();
+            edgeKindsBuilder_ = null;
+            edgeKinds_ = other.edgeKinds_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+            edgeKindsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getEdgeKindsFieldBuilder() : null;
+          } else {
+            edgeKindsBuilder_.addAllMessages(other.edgeKinds_);
+          }
+        }
+      }
+      internalGetMutablePropertyNameToId().mergeFrom(
+          other.internalGetPropertyNameToId());
+      if (other.hasExtension()) {
+        mergeExtension(other.getExtension());
+      }
+      if (other.getIsMultigraph() != false) {
+        setIsMultigraph(other.getIsMultigraph());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.GraphDefPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.GraphDefPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private long version_ ;
+    /**
+     * <code>optional int64 version = 1;</code>
+     */
+    public long getVersion() {
+      return version_;
+    }
+    /**
+     * <code>optional int64 version = 1;</code>
+     */
+    public Builder setVersion(long value) {
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 version = 1;</code>
+     */
+    public Builder clearVersion() {
+      
+      version_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object key_ = "";
+    /**
+     * <code>optional string key = 2;</code>
+     */
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string key = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string key = 2;</code>
+     */
+    public Builder setKey(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      key_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string key = 2;</code>
+     */
+    public Builder clearKey() {
+      
+      key_ = getDefaultInstance().getKey();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string key = 2;</code>
+     */
+    public Builder setKeyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      key_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int graphType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+     */
+    public int getGraphTypeValue() {
+      return graphType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+     */
+    public Builder setGraphTypeValue(int value) {
+      graphType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.GraphTypePb getGraphType() {
+      com.alibaba.graphscope.proto.ddl.GraphTypePb result = com.alibaba.graphscope.proto.ddl.GraphTypePb.valueOf(graphType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.GraphTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+     */
+    public Builder setGraphType(com.alibaba.graphscope.proto.ddl.GraphTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      graphType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+     */
+    public Builder clearGraphType() {
+      
+      graphType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private boolean directed_ ;
+    /**
+     * <code>optional bool directed = 4;</code>
+     */
+    public boolean getDirected() {
+      return directed_;
+    }
+    /**
+     * <code>optional bool directed = 4;</code>
+     */
+    public Builder setDirected(boolean value) {
+      
+      directed_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool directed = 4;</code>
+     */
+    public Builder clearDirected() {
+      
+      directed_ = false;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.graphscope.proto.ddl.TypeDefPb> typeDefs_ =
+      java.util.Collections.emptyList();
+    private void ensureTypeDefsIsMutable() {
+      if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+        typeDefs_ = new java.util.ArrayList<com.alibaba.graphscope.proto.ddl.TypeDefPb>(typeDefs_);
+        bitField0_ |= 0x00000010;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> typeDefsBuilder_;
+
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.ddl.TypeDefPb> getTypeDefsList() {
+      if (typeDefsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(typeDefs_);
+      } else {
+        return typeDefsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public int getTypeDefsCount() {
+      if (typeDefsBuilder_ == null) {
+        return typeDefs_.size();
+      } else {
+        return typeDefsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb getTypeDefs(int index) {
+      if (typeDefsBuilder_ == null) {
+        return typeDefs_.get(index);
+      } else {
+        return typeDefsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder setTypeDefs(
+        int index, com.alibaba.graphscope.proto.ddl.TypeDefPb value) {
+      if (typeDefsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeDefsIsMutable();
+        typeDefs_.set(index, value);
+        onChanged();
+      } else {
+        typeDefsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder setTypeDefs(
+        int index, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder builderForValue) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        typeDefs_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        typeDefsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder addTypeDefs(com.alibaba.graphscope.proto.ddl.TypeDefPb value) {
+      if (typeDefsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeDefsIsMutable();
+        typeDefs_.add(value);
+        onChanged();
+      } else {
+        typeDefsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder addTypeDefs(
+        int index, com.alibaba.graphscope.proto.ddl.TypeDefPb value) {
+      if (typeDefsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeDefsIsMutable();
+        typeDefs_.add(index, value);
+        onChanged();
+      } else {
+        typeDefsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder addTypeDefs(
+        com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder builderForValue) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        typeDefs_.add(builderForValue.build());
+        onChanged();
+      } else {
+        typeDefsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder addTypeDefs(
+        int index, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder builderForValue) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        typeDefs_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        typeDefsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder addAllTypeDefs(
+        java.lang.Iterable<? extends com.alibaba.graphscope.proto.ddl.TypeDefPb> values) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, typeDefs_);
+        onChanged();
+      } else {
+        typeDefsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder clearTypeDefs() {
+      if (typeDefsBuilder_ == null) {
+        typeDefs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+      } else {
+        typeDefsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public Builder removeTypeDefs(int index) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        typeDefs_.remove(index);
+        onChanged();
+      } else {
+        typeDefsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder getTypeDefsBuilder(
+        int index) {
+      return getTypeDefsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder getTypeDefsOrBuilder(
+        int index) {
+      if (typeDefsBuilder_ == null) {
+        return typeDefs_.get(index);  } else {
+        return typeDefsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public java.util.List<? extends com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> 
+         getTypeDefsOrBuilderList() {
+      if (typeDefsBuilder_ != null) {
+        return typeDefsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(typeDefs_);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder addTypeDefsBuilder() {
+      return getTypeDefsFieldBuilder().addBuilder(
+          com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder addTypeDefsBuilder(
+        int index) {
+      return getTypeDefsFieldBuilder().addBuilder(
+          index, com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder> 
+         getTypeDefsBuilderList() {
+      return getTypeDefsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> 
+        getTypeDefsFieldBuilder() {
+      if (typeDefsBuilder_ == null) {
+        typeDefsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.TypeDefPb, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder, com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder>(
+                typeDefs_,
+                ((bitField0_ & 0x00000010) == 0x00000010),
+                getParentForChildren(),
+                isClean());
+        typeDefs_ = null;
+      }
+      return typeDefsBuilder_;
+    }
+
+    private java.util.List<com.alibaba.graphscope.proto.ddl.EdgeKindPb> edgeKinds_ =
+      java.util.Collections.emptyList();
+    private void ensureEdgeKindsIsMutable() {
+      if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+        edgeKinds_ = new java.util.ArrayList<com.alibaba.graphscope.proto.ddl.EdgeKindPb>(edgeKinds_);
+        bitField0_ |= 0x00000020;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.EdgeKindPb, com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder, com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder> edgeKindsBuilder_;
+
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.ddl.EdgeKindPb> getEdgeKindsList() {
+      if (edgeKindsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(edgeKinds_);
+      } else {
+        return edgeKindsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public int getEdgeKindsCount() {
+      if (edgeKindsBuilder_ == null) {
+        return edgeKinds_.size();
+      } else {
+        return edgeKindsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.EdgeKindPb getEdgeKinds(int index) {
+      if (edgeKindsBuilder_ == null) {
+        return edgeKinds_.get(index);
+      } else {
+        return edgeKindsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder setEdgeKinds(
+        int index, com.alibaba.graphscope.proto.ddl.EdgeKindPb value) {
+      if (edgeKindsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.set(index, value);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder setEdgeKinds(
+        int index, com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder builderForValue) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        edgeKindsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder addEdgeKinds(com.alibaba.graphscope.proto.ddl.EdgeKindPb value) {
+      if (edgeKindsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.add(value);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder addEdgeKinds(
+        int index, com.alibaba.graphscope.proto.ddl.EdgeKindPb value) {
+      if (edgeKindsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.add(index, value);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder addEdgeKinds(
+        com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder builderForValue) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.add(builderForValue.build());
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder addEdgeKinds(
+        int index, com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder builderForValue) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder addAllEdgeKinds(
+        java.lang.Iterable<? extends com.alibaba.graphscope.proto.ddl.EdgeKindPb> values) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, edgeKinds_);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder clearEdgeKinds() {
+      if (edgeKindsBuilder_ == null) {
+        edgeKinds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public Builder removeEdgeKinds(int index) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.remove(index);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder getEdgeKindsBuilder(
+        int index) {
+      return getEdgeKindsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder getEdgeKindsOrBuilder(
+        int index) {
+      if (edgeKindsBuilder_ == null) {
+        return edgeKinds_.get(index);  } else {
+        return edgeKindsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public java.util.List<? extends com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder> 
+         getEdgeKindsOrBuilderList() {
+      if (edgeKindsBuilder_ != null) {
+        return edgeKindsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(edgeKinds_);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder addEdgeKindsBuilder() {
+      return getEdgeKindsFieldBuilder().addBuilder(
+          com.alibaba.graphscope.proto.ddl.EdgeKindPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder addEdgeKindsBuilder(
+        int index) {
+      return getEdgeKindsFieldBuilder().addBuilder(
+          index, com.alibaba.graphscope.proto.ddl.EdgeKindPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder> 
+         getEdgeKindsBuilderList() {
+      return getEdgeKindsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.EdgeKindPb, com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder, com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder> 
+        getEdgeKindsFieldBuilder() {
+      if (edgeKindsBuilder_ == null) {
+        edgeKindsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.EdgeKindPb, com.alibaba.graphscope.proto.ddl.EdgeKindPb.Builder, com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder>(
+                edgeKinds_,
+                ((bitField0_ & 0x00000020) == 0x00000020),
+                getParentForChildren(),
+                isClean());
+        edgeKinds_ = null;
+      }
+      return edgeKindsBuilder_;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.Integer> propertyNameToId_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.Integer>
+    internalGetPropertyNameToId() {
+      if (propertyNameToId_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PropertyNameToIdDefaultEntryHolder.defaultEntry);
+      }
+      return propertyNameToId_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.Integer>
+    internalGetMutablePropertyNameToId() {
+      onChanged();;
+      if (propertyNameToId_ == null) {
+        propertyNameToId_ = com.google.protobuf.MapField.newMapField(
+            PropertyNameToIdDefaultEntryHolder.defaultEntry);
+      }
+      if (!propertyNameToId_.isMutable()) {
+        propertyNameToId_ = propertyNameToId_.copy();
+      }
+      return propertyNameToId_;
+    }
+
+    public int getPropertyNameToIdCount() {
+      return internalGetPropertyNameToId().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+     */
+
+    public boolean containsPropertyNameToId(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetPropertyNameToId().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPropertyNameToIdMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.Integer> getPropertyNameToId() {
+      return getPropertyNameToIdMap();
+    }
+    /**
+     * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.Integer> getPropertyNameToIdMap() {
+      return internalGetPropertyNameToId().getMap();
+    }
+    /**
+     * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+     */
+
+    public int getPropertyNameToIdOrDefault(
+        java.lang.String key,
+        int defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.Integer> map =
+          internalGetPropertyNameToId().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+     */
+
+    public int getPropertyNameToIdOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.Integer> map =
+          internalGetPropertyNameToId().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearPropertyNameToId() {
+      getMutablePropertyNameToId().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+     */
+
+    public Builder removePropertyNameToId(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      getMutablePropertyNameToId().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.Integer>
+    getMutablePropertyNameToId() {
+      return internalGetMutablePropertyNameToId().getMutableMap();
+    }
+    /**
+     * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+     */
+    public Builder putPropertyNameToId(
+        java.lang.String key,
+        int value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      
+      getMutablePropertyNameToId().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+     */
+
+    public Builder putAllPropertyNameToId(
+        java.util.Map<java.lang.String, java.lang.Integer> values) {
+      getMutablePropertyNameToId().putAll(values);
+      return this;
+    }
+
+    private com.google.protobuf.Any extension_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> extensionBuilder_;
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    public boolean hasExtension() {
+      return extensionBuilder_ != null || extension_ != null;
+    }
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    public com.google.protobuf.Any getExtension() {
+      if (extensionBuilder_ == null) {
+        return extension_ == null ? com.google.protobuf.Any.getDefaultInstance() : extension_;
+      } else {
+        return extensionBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    public Builder setExtension(com.google.protobuf.Any value) {
+      if (extensionBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        extension_ = value;
+        onChanged();
+      } else {
+        extensionBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    public Builder setExtension(
+        com.google.protobuf.Any.Builder builderForValue) {
+      if (extensionBuilder_ == null) {
+        extension_ = builderForValue.build();
+        onChanged();
+      } else {
+        extensionBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    public Builder mergeExtension(com.google.protobuf.Any value) {
+      if (extensionBuilder_ == null) {
+        if (extension_ != null) {
+          extension_ =
+            com.google.protobuf.Any.newBuilder(extension_).mergeFrom(value).buildPartial();
+        } else {
+          extension_ = value;
+        }
+        onChanged();
+      } else {
+        extensionBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    public Builder clearExtension() {
+      if (extensionBuilder_ == null) {
+        extension_ = null;
+        onChanged();
+      } else {
+        extension_ = null;
+        extensionBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    public com.google.protobuf.Any.Builder getExtensionBuilder() {
+      
+      onChanged();
+      return getExtensionFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    public com.google.protobuf.AnyOrBuilder getExtensionOrBuilder() {
+      if (extensionBuilder_ != null) {
+        return extensionBuilder_.getMessageOrBuilder();
+      } else {
+        return extension_ == null ?
+            com.google.protobuf.Any.getDefaultInstance() : extension_;
+      }
+    }
+    /**
+     * <pre>
+     * current extension supported:
+     *   - MaxGraphInfoPb
+     *   - VineyardInfoPb
+     *   - MutableGraphInfoPb
+     * </pre>
+     *
+     * <code>optional .google.protobuf.Any extension = 8;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> 
+        getExtensionFieldBuilder() {
+      if (extensionBuilder_ == null) {
+        extensionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>(
+                getExtension(),
+                getParentForChildren(),
+                isClean());
+        extension_ = null;
+      }
+      return extensionBuilder_;
+    }
+
+    private boolean isMultigraph_ ;
+    /**
+     * <code>optional bool is_multigraph = 9;</code>
+     */
+    public boolean getIsMultigraph() {
+      return isMultigraph_;
+    }
+    /**
+     * <code>optional bool is_multigraph = 9;</code>
+     */
+    public Builder setIsMultigraph(boolean value) {
+      
+      isMultigraph_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool is_multigraph = 9;</code>
+     */
+    public Builder clearIsMultigraph() {
+      
+      isMultigraph_ = false;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.graph.GraphDefPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.graph.GraphDefPb)
+  private static final com.alibaba.graphscope.proto.ddl.GraphDefPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.GraphDefPb();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.GraphDefPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GraphDefPb>
+      PARSER = new com.google.protobuf.AbstractParser<GraphDefPb>() {
+    public GraphDefPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GraphDefPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GraphDefPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GraphDefPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.GraphDefPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
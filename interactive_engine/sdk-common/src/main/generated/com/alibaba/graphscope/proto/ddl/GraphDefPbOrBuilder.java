@@ -0,0 +1,159 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface GraphDefPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.GraphDefPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 version = 1;</code>
+   */
+  long getVersion();
+
+  /**
+   * <code>optional string key = 2;</code>
+   */
+  java.lang.String getKey();
+  /**
+   * <code>optional string key = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getKeyBytes();
+
+  /**
+   * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+   */
+  int getGraphTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.GraphTypePb graph_type = 3;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.GraphTypePb getGraphType();
+
+  /**
+   * <code>optional bool directed = 4;</code>
+   */
+  boolean getDirected();
+
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  java.util.List<com.alibaba.graphscope.proto.ddl.TypeDefPb> 
+      getTypeDefsList();
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.TypeDefPb getTypeDefs(int index);
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  int getTypeDefsCount();
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  java.util.List<? extends com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder> 
+      getTypeDefsOrBuilderList();
+  /**
+   * <code>repeated .gs.rpc.graph.TypeDefPb type_defs = 5;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder getTypeDefsOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  java.util.List<com.alibaba.graphscope.proto.ddl.EdgeKindPb> 
+      getEdgeKindsList();
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.EdgeKindPb getEdgeKinds(int index);
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  int getEdgeKindsCount();
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  java.util.List<? extends com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder> 
+      getEdgeKindsOrBuilderList();
+  /**
+   * <code>repeated .gs.rpc.graph.EdgeKindPb edge_kinds = 6;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.EdgeKindPbOrBuilder getEdgeKindsOrBuilder(
+      int index);
+
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+  int getPropertyNameToIdCount();
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+  boolean containsPropertyNameToId(
+      java.lang.String key);
+  /**
+   * Use {@link #getPropertyNameToIdMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.Integer>
+  getPropertyNameToId();
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.Integer>
+  getPropertyNameToIdMap();
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+
+  int getPropertyNameToIdOrDefault(
+      java.lang.String key,
+      int defaultValue);
+  /**
+   * <code>map&lt;string, int32&gt; property_name_to_id = 7;</code>
+   */
+
+  int getPropertyNameToIdOrThrow(
+      java.lang.String key);
+
+  /**
+   * <pre>
+   * current extension supported:
+   *   - MaxGraphInfoPb
+   *   - VineyardInfoPb
+   *   - MutableGraphInfoPb
+   * </pre>
+   *
+   * <code>optional .google.protobuf.Any extension = 8;</code>
+   */
+  boolean hasExtension();
+  /**
+   * <pre>
+   * current extension supported:
+   *   - MaxGraphInfoPb
+   *   - VineyardInfoPb
+   *   - MutableGraphInfoPb
+   * </pre>
+   *
+   * <code>optional .google.protobuf.Any extension = 8;</code>
+   */
+  com.google.protobuf.Any getExtension();
+  /**
+   * <pre>
+   * current extension supported:
+   *   - MaxGraphInfoPb
+   *   - VineyardInfoPb
+   *   - MutableGraphInfoPb
+   * </pre>
+   *
+   * <code>optional .google.protobuf.Any extension = 8;</code>
+   */
+  com.google.protobuf.AnyOrBuilder getExtensionOrBuilder();
+
+  /**
+   * <code>optional bool is_multigraph = 9;</code>
+   */
+  boolean getIsMultigraph();
+}
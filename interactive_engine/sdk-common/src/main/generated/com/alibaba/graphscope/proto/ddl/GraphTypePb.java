@@ -0,0 +1,162 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * <pre>
+ * Various graph type
+ * </pre>
+ *
+ * Protobuf enum {@code gs.rpc.graph.GraphTypePb}
+ */
+public enum GraphTypePb
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>UNKNOWN_TYPE = 0;</code>
+   */
+  UNKNOWN_TYPE(0),
+  /**
+   * <code>IMMUTABLE_EDGECUT = 1;</code>
+   */
+  IMMUTABLE_EDGECUT(1),
+  /**
+   * <code>DYNAMIC_PROPERTY = 2;</code>
+   */
+  DYNAMIC_PROPERTY(2),
+  /**
+   * <code>DYNAMIC_PROJECTED = 3;</code>
+   */
+  DYNAMIC_PROJECTED(3),
+  /**
+   * <code>ARROW_PROPERTY = 4;</code>
+   */
+  ARROW_PROPERTY(4),
+  /**
+   * <code>ARROW_PROJECTED = 5;</code>
+   */
+  ARROW_PROJECTED(5),
+  /**
+   * <code>PERSISTENT_STORE = 6;</code>
+   */
+  PERSISTENT_STORE(6),
+  /**
+   * <code>ARROW_FLATTENED = 7;</code>
+   */
+  ARROW_FLATTENED(7),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>UNKNOWN_TYPE = 0;</code>
+   */
+  public static final int UNKNOWN_TYPE_VALUE = 0;
+  /**
+   * <code>IMMUTABLE_EDGECUT = 1;</code>
+   */
+  public static final int IMMUTABLE_EDGECUT_VALUE = 1;
+  /**
+   * <code>DYNAMIC_PROPERTY = 2;</code>
+   */
+  public static final int DYNAMIC_PROPERTY_VALUE = 2;
+  /**
+   * <code>DYNAMIC_PROJECTED = 3;</code>
+   */
+  public static final int DYNAMIC_PROJECTED_VALUE = 3;
+  /**
+   * <code>ARROW_PROPERTY = 4;</code>
+   */
+  public static final int ARROW_PROPERTY_VALUE = 4;
+  /**
+   * <code>ARROW_PROJECTED = 5;</code>
+   */
+  public static final int ARROW_PROJECTED_VALUE = 5;
+  /**
+   * <code>PERSISTENT_STORE = 6;</code>
+   */
+  public static final int PERSISTENT_STORE_VALUE = 6;
+  /**
+   * <code>ARROW_FLATTENED = 7;</code>
+   */
+  public static final int ARROW_FLATTENED_VALUE = 7;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static GraphTypePb valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static GraphTypePb forNumber(int value) {
+    switch (value) {
+      case 0: return UNKNOWN_TYPE;
+      case 1: return IMMUTABLE_EDGECUT;
+      case 2: return DYNAMIC_PROPERTY;
+      case 3: return DYNAMIC_PROJECTED;
+      case 4: return ARROW_PROPERTY;
+      case 5: return ARROW_PROJECTED;
+      case 6: return PERSISTENT_STORE;
+      case 7: return ARROW_FLATTENED;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<GraphTypePb>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      GraphTypePb> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<GraphTypePb>() {
+          public GraphTypePb findValueByNumber(int number) {
+            return GraphTypePb.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.getDescriptor()
+        .getEnumTypes().get(0);
+  }
+
+  private static final GraphTypePb[] VALUES = values();
+
+  public static GraphTypePb valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private GraphTypePb(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:gs.rpc.graph.GraphTypePb)
+}
+
@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface LabelIdPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.LabelIdPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 id = 1;</code>
+   */
+  int getId();
+}
@@ -0,0 +1,550 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * <pre>
+ * Attributes that only meaningful to and will be set by maxgraph storage
+ * </pre>
+ *
+ * Protobuf type {@code gs.rpc.graph.MaxGraphInfoPb}
+ */
+public  final class MaxGraphInfoPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.graph.MaxGraphInfoPb)
+    MaxGraphInfoPbOrBuilder {
+  // Use MaxGraphInfoPb.newBuilder() to construct.
+  private MaxGraphInfoPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private MaxGraphInfoPb() {
+    lastLabelId_ = 0;
+    lastPropertyId_ = 0;
+    lastTableId_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private MaxGraphInfoPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            lastLabelId_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            lastPropertyId_ = input.readInt32();
+            break;
+          }
+          case 24: {
+
+            lastTableId_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MaxGraphInfoPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MaxGraphInfoPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb.class, com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb.Builder.class);
+  }
+
+  public static final int LAST_LABEL_ID_FIELD_NUMBER = 1;
+  private int lastLabelId_;
+  /**
+   * <code>optional int32 last_label_id = 1;</code>
+   */
+  public int getLastLabelId() {
+    return lastLabelId_;
+  }
+
+  public static final int LAST_PROPERTY_ID_FIELD_NUMBER = 2;
+  private int lastPropertyId_;
+  /**
+   * <code>optional int32 last_property_id = 2;</code>
+   */
+  public int getLastPropertyId() {
+    return lastPropertyId_;
+  }
+
+  public static final int LAST_TABLE_ID_FIELD_NUMBER = 3;
+  private long lastTableId_;
+  /**
+   * <code>optional int64 last_table_id = 3;</code>
+   */
+  public long getLastTableId() {
+    return lastTableId_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (lastLabelId_ != 0) {
+      output.writeInt32(1, lastLabelId_);
+    }
+    if (lastPropertyId_ != 0) {
+      output.writeInt32(2, lastPropertyId_);
+    }
+    if (lastTableId_ != 0L) {
+      output.writeInt64(3, lastTableId_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (lastLabelId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, lastLabelId_);
+    }
+    if (lastPropertyId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, lastPropertyId_);
+    }
+    if (lastTableId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, lastTableId_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb other = (com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb) obj;
+
+    boolean result = true;
+    result = result && (getLastLabelId()
+        == other.getLastLabelId());
+    result = result && (getLastPropertyId()
+        == other.getLastPropertyId());
+    result = result && (getLastTableId()
+        == other.getLastTableId());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LAST_LABEL_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getLastLabelId();
+    hash = (37 * hash) + LAST_PROPERTY_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getLastPropertyId();
+    hash = (37 * hash) + LAST_TABLE_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getLastTableId());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Attributes that only meaningful to and will be set by maxgraph storage
+   * </pre>
+   *
+   * Protobuf type {@code gs.rpc.graph.MaxGraphInfoPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.graph.MaxGraphInfoPb)
+      com.alibaba.graphscope.proto.ddl.MaxGraphInfoPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MaxGraphInfoPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MaxGraphInfoPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb.class, com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      lastLabelId_ = 0;
+
+      lastPropertyId_ = 0;
+
+      lastTableId_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MaxGraphInfoPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb build() {
+      com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb buildPartial() {
+      com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb result = new com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb(this);
+      result.lastLabelId_ = lastLabelId_;
+      result.lastPropertyId_ = lastPropertyId_;
+      result.lastTableId_ = lastTableId_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb other) {
+      if (other == com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb.getDefaultInstance()) return this;
+      if (other.getLastLabelId() != 0) {
+        setLastLabelId(other.getLastLabelId());
+      }
+      if (other.getLastPropertyId() != 0) {
+        setLastPropertyId(other.getLastPropertyId());
+      }
+      if (other.getLastTableId() != 0L) {
+        setLastTableId(other.getLastTableId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int lastLabelId_ ;
+    /**
+     * <code>optional int32 last_label_id = 1;</code>
+     */
+    public int getLastLabelId() {
+      return lastLabelId_;
+    }
+    /**
+     * <code>optional int32 last_label_id = 1;</code>
+     */
+    public Builder setLastLabelId(int value) {
+      
+      lastLabelId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 last_label_id = 1;</code>
+     */
+    public Builder clearLastLabelId() {
+      
+      lastLabelId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int lastPropertyId_ ;
+    /**
+     * <code>optional int32 last_property_id = 2;</code>
+     */
+    public int getLastPropertyId() {
+      return lastPropertyId_;
+    }
+    /**
+     * <code>optional int32 last_property_id = 2;</code>
+     */
+    public Builder setLastPropertyId(int value) {
+      
+      lastPropertyId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 last_property_id = 2;</code>
+     */
+    public Builder clearLastPropertyId() {
+      
+      lastPropertyId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long lastTableId_ ;
+    /**
+     * <code>optional int64 last_table_id = 3;</code>
+     */
+    public long getLastTableId() {
+      return lastTableId_;
+    }
+    /**
+     * <code>optional int64 last_table_id = 3;</code>
+     */
+    public Builder setLastTableId(long value) {
+      
+      lastTableId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 last_table_id = 3;</code>
+     */
+    public Builder clearLastTableId() {
+      
+      lastTableId_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.graph.MaxGraphInfoPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.graph.MaxGraphInfoPb)
+  private static final com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<MaxGraphInfoPb>
+      PARSER = new com.google.protobuf.AbstractParser<MaxGraphInfoPb>() {
+    public MaxGraphInfoPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MaxGraphInfoPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<MaxGraphInfoPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<MaxGraphInfoPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.MaxGraphInfoPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,24 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface MaxGraphInfoPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.MaxGraphInfoPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 last_label_id = 1;</code>
+   */
+  int getLastLabelId();
+
+  /**
+   * <code>optional int32 last_property_id = 2;</code>
+   */
+  int getLastPropertyId();
+
+  /**
+   * <code>optional int64 last_table_id = 3;</code>
+   */
+  long getLastTableId();
+}
@@ -0,0 +1,668 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * <pre>
+ * Attributes that only meaningful to and will be set by dynamic storage
+ * </pre>
+ *
+ * Protobuf type {@code gs.rpc.graph.MutableGraphInfoPb}
+ */
+public  final class MutableGraphInfoPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.graph.MutableGraphInfoPb)
+    MutableGraphInfoPbOrBuilder {
+  // Use MutableGraphInfoPb.newBuilder() to construct.
+  private MutableGraphInfoPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private MutableGraphInfoPb() {
+    vdataType_ = 0;
+    edataType_ = 0;
+    propertySchemaJson_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private MutableGraphInfoPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            int rawValue = input.readEnum();
+
+            vdataType_ = rawValue;
+            break;
+          }
+          case 16: {
+            int rawValue = input.readEnum();
+
+            edataType_ = rawValue;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            propertySchemaJson_ = s;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MutableGraphInfoPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MutableGraphInfoPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb.class, com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb.Builder.class);
+  }
+
+  public static final int VDATA_TYPE_FIELD_NUMBER = 1;
+  private int vdataType_;
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+   */
+  public int getVdataTypeValue() {
+    return vdataType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.DataTypePb getVdataType() {
+    com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(vdataType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int EDATA_TYPE_FIELD_NUMBER = 2;
+  private int edataType_;
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+   */
+  public int getEdataTypeValue() {
+    return edataType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.DataTypePb getEdataType() {
+    com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(edataType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int PROPERTY_SCHEMA_JSON_FIELD_NUMBER = 3;
+  private volatile java.lang.Object propertySchemaJson_;
+  /**
+   * <code>optional string property_schema_json = 3;</code>
+   */
+  public java.lang.String getPropertySchemaJson() {
+    java.lang.Object ref = propertySchemaJson_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      propertySchemaJson_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string property_schema_json = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getPropertySchemaJsonBytes() {
+    java.lang.Object ref = propertySchemaJson_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      propertySchemaJson_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (vdataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(1, vdataType_);
+    }
+    if (edataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(2, edataType_);
+    }
+    if (!getPropertySchemaJsonBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, propertySchemaJson_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (vdataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, vdataType_);
+    }
+    if (edataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(2, edataType_);
+    }
+    if (!getPropertySchemaJsonBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, propertySchemaJson_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb other = (com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb) obj;
+
+    boolean result = true;
+    result = result && vdataType_ == other.vdataType_;
+    result = result && edataType_ == other.edataType_;
+    result = result && getPropertySchemaJson()
+        .equals(other.getPropertySchemaJson());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + VDATA_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + vdataType_;
+    hash = (37 * hash) + EDATA_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + edataType_;
+    hash = (37 * hash) + PROPERTY_SCHEMA_JSON_FIELD_NUMBER;
+    hash = (53 * hash) + getPropertySchemaJson().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Attributes that only meaningful to and will be set by dynamic storage
+   * </pre>
+   *
+   * Protobuf type {@code gs.rpc.graph.MutableGraphInfoPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.graph.MutableGraphInfoPb)
+      com.alibaba.graphscope.proto.ddl.MutableGraphInfoPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MutableGraphInfoPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MutableGraphInfoPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb.class, com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      vdataType_ = 0;
+
+      edataType_ = 0;
+
+      propertySchemaJson_ = "";
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_MutableGraphInfoPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb build() {
+      com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb buildPartial() {
+      com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb result = new com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb(this);
+      result.vdataType_ = vdataType_;
+      result.edataType_ = edataType_;
+      result.propertySchemaJson_ = propertySchemaJson_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb other) {
+      if (other == com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb.getDefaultInstance()) return this;
+      if (other.vdataType_ != 0) {
+        setVdataTypeValue(other.getVdataTypeValue());
+      }
+      if (other.edataType_ != 0) {
+        setEdataTypeValue(other.getEdataTypeValue());
+      }
+      if (!other.getPropertySchemaJson().isEmpty()) {
+        propertySchemaJson_ = other.propertySchemaJson_;
+        onChanged();
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int vdataType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+     */
+    public int getVdataTypeValue() {
+      return vdataType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+     */
+    public Builder setVdataTypeValue(int value) {
+      vdataType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DataTypePb getVdataType() {
+      com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(vdataType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+     */
+    public Builder setVdataType(com.alibaba.graphscope.proto.ddl.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      vdataType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+     */
+    public Builder clearVdataType() {
+      
+      vdataType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int edataType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+     */
+    public int getEdataTypeValue() {
+      return edataType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+     */
+    public Builder setEdataTypeValue(int value) {
+      edataType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DataTypePb getEdataType() {
+      com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(edataType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+     */
+    public Builder setEdataType(com.alibaba.graphscope.proto.ddl.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      edataType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+     */
+    public Builder clearEdataType() {
+      
+      edataType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object propertySchemaJson_ = "";
+    /**
+     * <code>optional string property_schema_json = 3;</code>
+     */
+    public java.lang.String getPropertySchemaJson() {
+      java.lang.Object ref = propertySchemaJson_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        propertySchemaJson_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string property_schema_json = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPropertySchemaJsonBytes() {
+      java.lang.Object ref = propertySchemaJson_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        propertySchemaJson_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string property_schema_json = 3;</code>
+     */
+    public Builder setPropertySchemaJson(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      propertySchemaJson_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string property_schema_json = 3;</code>
+     */
+    public Builder clearPropertySchemaJson() {
+      
+      propertySchemaJson_ = getDefaultInstance().getPropertySchemaJson();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string property_schema_json = 3;</code>
+     */
+    public Builder setPropertySchemaJsonBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      propertySchemaJson_ = value;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.graph.MutableGraphInfoPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.graph.MutableGraphInfoPb)
+  private static final com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<MutableGraphInfoPb>
+      PARSER = new com.google.protobuf.AbstractParser<MutableGraphInfoPb>() {
+    public MutableGraphInfoPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MutableGraphInfoPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<MutableGraphInfoPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<MutableGraphInfoPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.MutableGraphInfoPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,37 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface MutableGraphInfoPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.MutableGraphInfoPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+   */
+  int getVdataTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 1;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.DataTypePb getVdataType();
+
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+   */
+  int getEdataTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb edata_type = 2;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.DataTypePb getEdataType();
+
+  /**
+   * <code>optional string property_schema_json = 3;</code>
+   */
+  java.lang.String getPropertySchemaJson();
+  /**
+   * <code>optional string property_schema_json = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getPropertySchemaJsonBytes();
+}
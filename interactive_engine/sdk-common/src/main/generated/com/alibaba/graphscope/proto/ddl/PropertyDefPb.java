@@ -0,0 +1,1060 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.graph.PropertyDefPb}
+ */
+public  final class PropertyDefPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.graph.PropertyDefPb)
+    PropertyDefPbOrBuilder {
+  // Use PropertyDefPb.newBuilder() to construct.
+  private PropertyDefPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PropertyDefPb() {
+    id_ = 0;
+    innerId_ = 0;
+    name_ = "";
+    dataType_ = 0;
+    pk_ = false;
+    comment_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private PropertyDefPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            id_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            innerId_ = input.readInt32();
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            name_ = s;
+            break;
+          }
+          case 32: {
+            int rawValue = input.readEnum();
+
+            dataType_ = rawValue;
+            break;
+          }
+          case 42: {
+            com.alibaba.graphscope.proto.ddl.PropertyValuePb.Builder subBuilder = null;
+            if (defaultValue_ != null) {
+              subBuilder = defaultValue_.toBuilder();
+            }
+            defaultValue_ = input.readMessage(com.alibaba.graphscope.proto.ddl.PropertyValuePb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(defaultValue_);
+              defaultValue_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 48: {
+
+            pk_ = input.readBool();
+            break;
+          }
+          case 58: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            comment_ = s;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyDefPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyDefPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.PropertyDefPb.class, com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder.class);
+  }
+
+  public static final int ID_FIELD_NUMBER = 1;
+  private int id_;
+  /**
+   * <code>optional int32 id = 1;</code>
+   */
+  public int getId() {
+    return id_;
+  }
+
+  public static final int INNER_ID_FIELD_NUMBER = 2;
+  private int innerId_;
+  /**
+   * <code>optional int32 inner_id = 2;</code>
+   */
+  public int getInnerId() {
+    return innerId_;
+  }
+
+  public static final int NAME_FIELD_NUMBER = 3;
+  private volatile java.lang.Object name_;
+  /**
+   * <code>optional string name = 3;</code>
+   */
+  public java.lang.String getName() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      name_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string name = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getNameBytes() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      name_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DATA_TYPE_FIELD_NUMBER = 4;
+  private int dataType_;
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+   */
+  public int getDataTypeValue() {
+    return dataType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.DataTypePb getDataType() {
+    com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(dataType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int DEFAULT_VALUE_FIELD_NUMBER = 5;
+  private com.alibaba.graphscope.proto.ddl.PropertyValuePb defaultValue_;
+  /**
+   * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+   */
+  public boolean hasDefaultValue() {
+    return defaultValue_ != null;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.PropertyValuePb getDefaultValue() {
+    return defaultValue_ == null ? com.alibaba.graphscope.proto.ddl.PropertyValuePb.getDefaultInstance() : defaultValue_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.PropertyValuePbOrBuilder getDefaultValueOrBuilder() {
+    return getDefaultValue();
+  }
+
+  public static final int PK_FIELD_NUMBER = 6;
+  private boolean pk_;
+  /**
+   * <code>optional bool pk = 6;</code>
+   */
+  public boolean getPk() {
+    return pk_;
+  }
+
+  public static final int COMMENT_FIELD_NUMBER = 7;
+  private volatile java.lang.Object comment_;
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  public java.lang.String getComment() {
+    java.lang.Object ref = comment_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      comment_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  public com.google.protobuf.ByteString
+      getCommentBytes() {
+    java.lang.Object ref = comment_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      comment_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (id_ != 0) {
+      output.writeInt32(1, id_);
+    }
+    if (innerId_ != 0) {
+      output.writeInt32(2, innerId_);
+    }
+    if (!getNameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, name_);
+    }
+    if (dataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(4, dataType_);
+    }
+    if (defaultValue_ != null) {
+      output.writeMessage(5, getDefaultValue());
+    }
+    if (pk_ != false) {
+      output.writeBool(6, pk_);
+    }
+    if (!getCommentBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 7, comment_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (id_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, id_);
+    }
+    if (innerId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, innerId_);
+    }
+    if (!getNameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, name_);
+    }
+    if (dataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(4, dataType_);
+    }
+    if (defaultValue_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, getDefaultValue());
+    }
+    if (pk_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(6, pk_);
+    }
+    if (!getCommentBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, comment_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.PropertyDefPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.PropertyDefPb other = (com.alibaba.graphscope.proto.ddl.PropertyDefPb) obj;
+
+    boolean result = true;
+    result = result && (getId()
+        == other.getId());
+    result = result && (getInnerId()
+        == other.getInnerId());
+    result = result && getName()
+        .equals(other.getName());
+    result = result && dataType_ == other.dataType_;
+    result = result && (hasDefaultValue() == other.hasDefaultValue());
+    if (hasDefaultValue()) {
+      result = result && getDefaultValue()
+          .equals(other.getDefaultValue());
+    }
+    result = result && (getPk()
+        == other.getPk());
+    result = result && getComment()
+        .equals(other.getComment());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + ID_FIELD_NUMBER;
+    hash = (53 * hash) + getId();
+    hash = (37 * hash) + INNER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getInnerId();
+    hash = (37 * hash) + NAME_FIELD_NUMBER;
+    hash = (53 * hash) + getName().hashCode();
+    hash = (37 * hash) + DATA_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + dataType_;
+    if (hasDefaultValue()) {
+      hash = (37 * hash) + DEFAULT_VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getDefaultValue().hashCode();
+    }
+    hash = (37 * hash) + PK_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getPk());
+    hash = (37 * hash) + COMMENT_FIELD_NUMBER;
+    hash = (53 * hash) + getComment().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.PropertyDefPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.graph.PropertyDefPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.graph.PropertyDefPb)
+      com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyDefPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyDefPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.PropertyDefPb.class, com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.PropertyDefPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      id_ = 0;
+
+      innerId_ = 0;
+
+      name_ = "";
+
+      dataType_ = 0;
+
+      if (defaultValueBuilder_ == null) {
+        defaultValue_ = null;
+      } else {
+        defaultValue_ = null;
+        defaultValueBuilder_ = null;
+      }
+      pk_ = false;
+
+      comment_ = "";
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyDefPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.PropertyDefPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.PropertyDefPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.PropertyDefPb build() {
+      com.alibaba.graphscope.proto.ddl.PropertyDefPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.PropertyDefPb buildPartial() {
+      com.alibaba.graphscope.proto.ddl.PropertyDefPb result = new com.alibaba.graphscope.proto.ddl.PropertyDefPb(this);
+      result.id_ = id_;
+      result.innerId_ = innerId_;
+      result.name_ = name_;
+      result.dataType_ = dataType_;
+      if (defaultValueBuilder_ == null) {
+        result.defaultValue_ = defaultValue_;
+      } else {
+        result.defaultValue_ = defaultValueBuilder_.build();
+      }
+      result.pk_ = pk_;
+      result.comment_ = comment_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.PropertyDefPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.PropertyDefPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.PropertyDefPb other) {
+      if (other == com.alibaba.graphscope.proto.ddl.PropertyDefPb.getDefaultInstance()) return this;
+      if (other.getId() != 0) {
+        setId(other.getId());
+      }
+      if (other.getInnerId() != 0) {
+        setInnerId(other.getInnerId());
+      }
+      if (!other.getName().isEmpty()) {
+        name_ = other.name_;
+        onChanged();
+      }
+      if (other.dataType_ != 0) {
+        setDataTypeValue(other.getDataTypeValue());
+      }
+      if (other.hasDefaultValue()) {
+        mergeDefaultValue(other.getDefaultValue());
+      }
+      if (other.getPk() != false) {
+        setPk(other.getPk());
+      }
+      if (!other.getComment().isEmpty()) {
+        comment_ = other.comment_;
+        onChanged();
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.PropertyDefPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.PropertyDefPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int id_ ;
+    /**
+     * <code>optional int32 id = 1;</code>
+     */
+    public int getId() {
+      return id_;
+    }
+    /**
+     * <code>optional int32 id = 1;</code>
+     */
+    public Builder setId(int value) {
+      
+      id_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 id = 1;</code>
+     */
+    public Builder clearId() {
+      
+      id_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int innerId_ ;
+    /**
+     * <code>optional int32 inner_id = 2;</code>
+     */
+    public int getInnerId() {
+      return innerId_;
+    }
+    /**
+     * <code>optional int32 inner_id = 2;</code>
+     */
+    public Builder setInnerId(int value) {
+      
+      innerId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 inner_id = 2;</code>
+     */
+    public Builder clearInnerId() {
+      
+      innerId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object name_ = "";
+    /**
+     * <code>optional string name = 3;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string name = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string name = 3;</code>
+     */
+    public Builder setName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      name_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string name = 3;</code>
+     */
+    public Builder clearName() {
+      
+      name_ = getDefaultInstance().getName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string name = 3;</code>
+     */
+    public Builder setNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      name_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int dataType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+     */
+    public int getDataTypeValue() {
+      return dataType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+     */
+    public Builder setDataTypeValue(int value) {
+      dataType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DataTypePb getDataType() {
+      com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(dataType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+     */
+    public Builder setDataType(com.alibaba.graphscope.proto.ddl.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      dataType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+     */
+    public Builder clearDataType() {
+      
+      dataType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.graphscope.proto.ddl.PropertyValuePb defaultValue_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.PropertyValuePb, com.alibaba.graphscope.proto.ddl.PropertyValuePb.Builder, com.alibaba.graphscope.proto.ddl.PropertyValuePbOrBuilder> defaultValueBuilder_;
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    public boolean hasDefaultValue() {
+      return defaultValueBuilder_ != null || defaultValue_ != null;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.PropertyValuePb getDefaultValue() {
+      if (defaultValueBuilder_ == null) {
+        return defaultValue_ == null ? com.alibaba.graphscope.proto.ddl.PropertyValuePb.getDefaultInstance() : defaultValue_;
+      } else {
+        return defaultValueBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    public Builder setDefaultValue(com.alibaba.graphscope.proto.ddl.PropertyValuePb value) {
+      if (defaultValueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        defaultValue_ = value;
+        onChanged();
+      } else {
+        defaultValueBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    public Builder setDefaultValue(
+        com.alibaba.graphscope.proto.ddl.PropertyValuePb.Builder builderForValue) {
+      if (defaultValueBuilder_ == null) {
+        defaultValue_ = builderForValue.build();
+        onChanged();
+      } else {
+        defaultValueBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    public Builder mergeDefaultValue(com.alibaba.graphscope.proto.ddl.PropertyValuePb value) {
+      if (defaultValueBuilder_ == null) {
+        if (defaultValue_ != null) {
+          defaultValue_ =
+            com.alibaba.graphscope.proto.ddl.PropertyValuePb.newBuilder(defaultValue_).mergeFrom(value).buildPartial();
+        } else {
+          defaultValue_ = value;
+        }
+        onChanged();
+      } else {
+        defaultValueBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    public Builder clearDefaultValue() {
+      if (defaultValueBuilder_ == null) {
+        defaultValue_ = null;
+        onChanged();
+      } else {
+        defaultValue_ = null;
+        defaultValueBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.PropertyValuePb.Builder getDefaultValueBuilder() {
+      
+      onChanged();
+      return getDefaultValueFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.PropertyValuePbOrBuilder getDefaultValueOrBuilder() {
+      if (defaultValueBuilder_ != null) {
+        return defaultValueBuilder_.getMessageOrBuilder();
+      } else {
+        return defaultValue_ == null ?
+            com.alibaba.graphscope.proto.ddl.PropertyValuePb.getDefaultInstance() : defaultValue_;
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.PropertyValuePb, com.alibaba.graphscope.proto.ddl.PropertyValuePb.Builder, com.alibaba.graphscope.proto.ddl.PropertyValuePbOrBuilder> 
+        getDefaultValueFieldBuilder() {
+      if (defaultValueBuilder_ == null) {
+        defaultValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.PropertyValuePb, com.alibaba.graphscope.proto.ddl.PropertyValuePb.Builder, com.alibaba.graphscope.proto.ddl.PropertyValuePbOrBuilder>(
+                getDefaultValue(),
+                getParentForChildren(),
+                isClean());
+        defaultValue_ = null;
+      }
+      return defaultValueBuilder_;
+    }
+
+    private boolean pk_ ;
+    /**
+     * <code>optional bool pk = 6;</code>
+     */
+    public boolean getPk() {
+      return pk_;
+    }
+    /**
+     * <code>optional bool pk = 6;</code>
+     */
+    public Builder setPk(boolean value) {
+      
+      pk_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool pk = 6;</code>
+     */
+    public Builder clearPk() {
+      
+      pk_ = false;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object comment_ = "";
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public java.lang.String getComment() {
+      java.lang.Object ref = comment_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        comment_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCommentBytes() {
+      java.lang.Object ref = comment_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        comment_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public Builder setComment(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      comment_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public Builder clearComment() {
+      
+      comment_ = getDefaultInstance().getComment();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public Builder setCommentBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      comment_ = value;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.graph.PropertyDefPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.graph.PropertyDefPb)
+  private static final com.alibaba.graphscope.proto.ddl.PropertyDefPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.PropertyDefPb();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.PropertyDefPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PropertyDefPb>
+      PARSER = new com.google.protobuf.AbstractParser<PropertyDefPb>() {
+    public PropertyDefPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PropertyDefPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<PropertyDefPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<PropertyDefPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.PropertyDefPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,66 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface PropertyDefPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.PropertyDefPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 id = 1;</code>
+   */
+  int getId();
+
+  /**
+   * <code>optional int32 inner_id = 2;</code>
+   */
+  int getInnerId();
+
+  /**
+   * <code>optional string name = 3;</code>
+   */
+  java.lang.String getName();
+  /**
+   * <code>optional string name = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+   */
+  int getDataTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb data_type = 4;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.DataTypePb getDataType();
+
+  /**
+   * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+   */
+  boolean hasDefaultValue();
+  /**
+   * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.PropertyValuePb getDefaultValue();
+  /**
+   * <code>optional .gs.rpc.graph.PropertyValuePb default_value = 5;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.PropertyValuePbOrBuilder getDefaultValueOrBuilder();
+
+  /**
+   * <code>optional bool pk = 6;</code>
+   */
+  boolean getPk();
+
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  java.lang.String getComment();
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  com.google.protobuf.ByteString
+      getCommentBytes();
+}
@@ -0,0 +1,511 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.graph.PropertyValuePb}
+ */
+public  final class PropertyValuePb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.graph.PropertyValuePb)
+    PropertyValuePbOrBuilder {
+  // Use PropertyValuePb.newBuilder() to construct.
+  private PropertyValuePb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PropertyValuePb() {
+    dataType_ = 0;
+    val_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private PropertyValuePb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            int rawValue = input.readEnum();
+
+            dataType_ = rawValue;
+            break;
+          }
+          case 18: {
+
+            val_ = input.readBytes();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyValuePb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyValuePb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.PropertyValuePb.class, com.alibaba.graphscope.proto.ddl.PropertyValuePb.Builder.class);
+  }
+
+  public static final int DATA_TYPE_FIELD_NUMBER = 1;
+  private int dataType_;
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+   */
+  public int getDataTypeValue() {
+    return dataType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.DataTypePb getDataType() {
+    com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(dataType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int VAL_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString val_;
+  /**
+   * <code>optional bytes val = 2;</code>
+   */
+  public com.google.protobuf.ByteString getVal() {
+    return val_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (dataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(1, dataType_);
+    }
+    if (!val_.isEmpty()) {
+      output.writeBytes(2, val_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (dataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, dataType_);
+    }
+    if (!val_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, val_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.PropertyValuePb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.PropertyValuePb other = (com.alibaba.graphscope.proto.ddl.PropertyValuePb) obj;
+
+    boolean result = true;
+    result = result && dataType_ == other.dataType_;
+    result = result && getVal()
+        .equals(other.getVal());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + DATA_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + dataType_;
+    hash = (37 * hash) + VAL_FIELD_NUMBER;
+    hash = (53 * hash) + getVal().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.PropertyValuePb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.graph.PropertyValuePb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.graph.PropertyValuePb)
+      com.alibaba.graphscope.proto.ddl.PropertyValuePbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyValuePb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyValuePb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.PropertyValuePb.class, com.alibaba.graphscope.proto.ddl.PropertyValuePb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.PropertyValuePb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      dataType_ = 0;
+
+      val_ = com.google.protobuf.ByteString.EMPTY;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_PropertyValuePb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.PropertyValuePb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.PropertyValuePb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.PropertyValuePb build() {
+      com.alibaba.graphscope.proto.ddl.PropertyValuePb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.PropertyValuePb buildPartial() {
+      com.alibaba.graphscope.proto.ddl.PropertyValuePb result = new com.alibaba.graphscope.proto.ddl.PropertyValuePb(this);
+      result.dataType_ = dataType_;
+      result.val_ = val_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.PropertyValuePb) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.PropertyValuePb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.PropertyValuePb other) {
+      if (other == com.alibaba.graphscope.proto.ddl.PropertyValuePb.getDefaultInstance()) return this;
+      if (other.dataType_ != 0) {
+        setDataTypeValue(other.getDataTypeValue());
+      }
+      if (other.getVal() != com.google.protobuf.ByteString.EMPTY) {
+        setVal(other.getVal());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.PropertyValuePb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.PropertyValuePb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int dataType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+     */
+    public int getDataTypeValue() {
+      return dataType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+     */
+    public Builder setDataTypeValue(int value) {
+      dataType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DataTypePb getDataType() {
+      com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(dataType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+     */
+    public Builder setDataType(com.alibaba.graphscope.proto.ddl.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      dataType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+     */
+    public Builder clearDataType() {
+      
+      dataType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString val_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes val = 2;</code>
+     */
+    public com.google.protobuf.ByteString getVal() {
+      return val_;
+    }
+    /**
+     * <code>optional bytes val = 2;</code>
+     */
+    public Builder setVal(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      val_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bytes val = 2;</code>
+     */
+    public Builder clearVal() {
+      
+      val_ = getDefaultInstance().getVal();
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.graph.PropertyValuePb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.graph.PropertyValuePb)
+  private static final com.alibaba.graphscope.proto.ddl.PropertyValuePb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.PropertyValuePb();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.PropertyValuePb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PropertyValuePb>
+      PARSER = new com.google.protobuf.AbstractParser<PropertyValuePb>() {
+    public PropertyValuePb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PropertyValuePb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<PropertyValuePb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<PropertyValuePb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.PropertyValuePb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
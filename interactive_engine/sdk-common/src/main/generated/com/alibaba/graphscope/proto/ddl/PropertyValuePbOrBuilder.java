@@ -0,0 +1,23 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface PropertyValuePbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.PropertyValuePb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+   */
+  int getDataTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb data_type = 1;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.DataTypePb getDataType();
+
+  /**
+   * <code>optional bytes val = 2;</code>
+   */
+  com.google.protobuf.ByteString getVal();
+}
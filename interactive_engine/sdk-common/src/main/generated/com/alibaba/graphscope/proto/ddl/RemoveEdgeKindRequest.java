@@ -0,0 +1,748 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/ddl_service.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.ddl_service.v1.RemoveEdgeKindRequest}
+ */
+public  final class RemoveEdgeKindRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.ddl_service.v1.RemoveEdgeKindRequest)
+    RemoveEdgeKindRequestOrBuilder {
+  // Use RemoveEdgeKindRequest.newBuilder() to construct.
+  private RemoveEdgeKindRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RemoveEdgeKindRequest() {
+    edgeLabel_ = "";
+    srcVertexLabel_ = "";
+    dstVertexLabel_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private RemoveEdgeKindRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            edgeLabel_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            srcVertexLabel_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            dstVertexLabel_ = s;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.class, com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.Builder.class);
+  }
+
+  public static final int EDGE_LABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object edgeLabel_;
+  /**
+   * <code>optional string edge_label = 1;</code>
+   */
+  public java.lang.String getEdgeLabel() {
+    java.lang.Object ref = edgeLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      edgeLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string edge_label = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getEdgeLabelBytes() {
+    java.lang.Object ref = edgeLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      edgeLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SRC_VERTEX_LABEL_FIELD_NUMBER = 2;
+  private volatile java.lang.Object srcVertexLabel_;
+  /**
+   * <code>optional string src_vertex_label = 2;</code>
+   */
+  public java.lang.String getSrcVertexLabel() {
+    java.lang.Object ref = srcVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      srcVertexLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string src_vertex_label = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getSrcVertexLabelBytes() {
+    java.lang.Object ref = srcVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      srcVertexLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DST_VERTEX_LABEL_FIELD_NUMBER = 3;
+  private volatile java.lang.Object dstVertexLabel_;
+  /**
+   * <code>optional string dst_vertex_label = 3;</code>
+   */
+  public java.lang.String getDstVertexLabel() {
+    java.lang.Object ref = dstVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      dstVertexLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string dst_vertex_label = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getDstVertexLabelBytes() {
+    java.lang.Object ref = dstVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      dstVertexLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getEdgeLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, edgeLabel_);
+    }
+    if (!getSrcVertexLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, srcVertexLabel_);
+    }
+    if (!getDstVertexLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dstVertexLabel_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getEdgeLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, edgeLabel_);
+    }
+    if (!getSrcVertexLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, srcVertexLabel_);
+    }
+    if (!getDstVertexLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dstVertexLabel_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest other = (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) obj;
+
+    boolean result = true;
+    result = result && getEdgeLabel()
+        .equals(other.getEdgeLabel());
+    result = result && getSrcVertexLabel()
+        .equals(other.getSrcVertexLabel());
+    result = result && getDstVertexLabel()
+        .equals(other.getDstVertexLabel());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + EDGE_LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getEdgeLabel().hashCode();
+    hash = (37 * hash) + SRC_VERTEX_LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getSrcVertexLabel().hashCode();
+    hash = (37 * hash) + DST_VERTEX_LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getDstVertexLabel().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.ddl_service.v1.RemoveEdgeKindRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.ddl_service.v1.RemoveEdgeKindRequest)
+      com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.class, com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      edgeLabel_ = "";
+
+      srcVertexLabel_ = "";
+
+      dstVertexLabel_ = "";
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.DdlService.internal_static_gs_rpc_ddl_service_v1_RemoveEdgeKindRequest_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest build() {
+      com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest buildPartial() {
+      com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest result = new com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest(this);
+      result.edgeLabel_ = edgeLabel_;
+      result.srcVertexLabel_ = srcVertexLabel_;
+      result.dstVertexLabel_ = dstVertexLabel_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest other) {
+      if (other == com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest.getDefaultInstance()) return this;
+      if (!other.getEdgeLabel().isEmpty()) {
+        edgeLabel_ = other.edgeLabel_;
+        onChanged();
+      }
+      if (!other.getSrcVertexLabel().isEmpty()) {
+        srcVertexLabel_ = other.srcVertexLabel_;
+        onChanged();
+      }
+      if (!other.getDstVertexLabel().isEmpty()) {
+        dstVertexLabel_ = other.dstVertexLabel_;
+        onChanged();
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object edgeLabel_ = "";
+    /**
+     * <code>optional string edge_label = 1;</code>
+     */
+    public java.lang.String getEdgeLabel() {
+      java.lang.Object ref = edgeLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        edgeLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string edge_label = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getEdgeLabelBytes() {
+      java.lang.Object ref = edgeLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        edgeLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string edge_label = 1;</code>
+     */
+    public Builder setEdgeLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      edgeLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string edge_label = 1;</code>
+     */
+    public Builder clearEdgeLabel() {
+      
+      edgeLabel_ = getDefaultInstance().getEdgeLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string edge_label = 1;</code>
+     */
+    public Builder setEdgeLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      edgeLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object srcVertexLabel_ = "";
+    /**
+     * <code>optional string src_vertex_label = 2;</code>
+     */
+    public java.lang.String getSrcVertexLabel() {
+      java.lang.Object ref = srcVertexLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        srcVertexLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string src_vertex_label = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSrcVertexLabelBytes() {
+      java.lang.Object ref = srcVertexLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        srcVertexLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string src_vertex_label = 2;</code>
+     */
+    public Builder setSrcVertexLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      srcVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string src_vertex_label = 2;</code>
+     */
+    public Builder clearSrcVertexLabel() {
+      
+      srcVertexLabel_ = getDefaultInstance().getSrcVertexLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string src_vertex_label = 2;</code>
+     */
+    public Builder setSrcVertexLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      srcVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object dstVertexLabel_ = "";
+    /**
+     * <code>optional string dst_vertex_label = 3;</code>
+     */
+    public java.lang.String getDstVertexLabel() {
+      java.lang.Object ref = dstVertexLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dstVertexLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string dst_vertex_label = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDstVertexLabelBytes() {
+      java.lang.Object ref = dstVertexLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dstVertexLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string dst_vertex_label = 3;</code>
+     */
+    public Builder setDstVertexLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      dstVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dst_vertex_label = 3;</code>
+     */
+    public Builder clearDstVertexLabel() {
+      
+      dstVertexLabel_ = getDefaultInstance().getDstVertexLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dst_vertex_label = 3;</code>
+     */
+    public Builder setDstVertexLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      dstVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.ddl_service.v1.RemoveEdgeKindRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.ddl_service.v1.RemoveEdgeKindRequest)
+  private static final com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RemoveEdgeKindRequest>
+      PARSER = new com.google.protobuf.AbstractParser<RemoveEdgeKindRequest>() {
+    public RemoveEdgeKindRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RemoveEdgeKindRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RemoveEdgeKindRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RemoveEdgeKindRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.RemoveEdgeKindRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
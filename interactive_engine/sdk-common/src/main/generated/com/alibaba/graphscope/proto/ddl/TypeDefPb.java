@@ -0,0 +1,1164 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf type {@code gs.rpc.graph.TypeDefPb}
+ */
+public  final class TypeDefPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.graph.TypeDefPb)
+    TypeDefPbOrBuilder {
+  // Use TypeDefPb.newBuilder() to construct.
+  private TypeDefPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private TypeDefPb() {
+    versionId_ = 0;
+    label_ = "";
+    typeEnum_ = 0;
+    props_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private TypeDefPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            versionId_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 26: {
+            com.alibaba.graphscope.proto.ddl.LabelIdPb.Builder subBuilder = null;
+            if (labelId_ != null) {
+              subBuilder = labelId_.toBuilder();
+            }
+            labelId_ = input.readMessage(com.alibaba.graphscope.proto.ddl.LabelIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(labelId_);
+              labelId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 32: {
+            int rawValue = input.readEnum();
+
+            typeEnum_ = rawValue;
+            break;
+          }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+              props_ = new java.util.ArrayList<com.alibaba.graphscope.proto.ddl.PropertyDefPb>();
+              mutable_bitField0_ |= 0x00000010;
+            }
+            props_.add(
+                input.readMessage(com.alibaba.graphscope.proto.ddl.PropertyDefPb.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+        props_ = java.util.Collections.unmodifiableList(props_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_TypeDefPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_TypeDefPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.TypeDefPb.class, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int VERSION_ID_FIELD_NUMBER = 1;
+  private int versionId_;
+  /**
+   * <code>optional int32 version_id = 1;</code>
+   */
+  public int getVersionId() {
+    return versionId_;
+  }
+
+  public static final int LABEL_FIELD_NUMBER = 2;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int LABEL_ID_FIELD_NUMBER = 3;
+  private com.alibaba.graphscope.proto.ddl.LabelIdPb labelId_;
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+   */
+  public boolean hasLabelId() {
+    return labelId_ != null;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.LabelIdPb getLabelId() {
+    return labelId_ == null ? com.alibaba.graphscope.proto.ddl.LabelIdPb.getDefaultInstance() : labelId_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder getLabelIdOrBuilder() {
+    return getLabelId();
+  }
+
+  public static final int TYPE_ENUM_FIELD_NUMBER = 4;
+  private int typeEnum_;
+  /**
+   * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+   */
+  public int getTypeEnumValue() {
+    return typeEnum_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.TypeEnumPb getTypeEnum() {
+    com.alibaba.graphscope.proto.ddl.TypeEnumPb result = com.alibaba.graphscope.proto.ddl.TypeEnumPb.valueOf(typeEnum_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.TypeEnumPb.UNRECOGNIZED : result;
+  }
+
+  public static final int PROPS_FIELD_NUMBER = 5;
+  private java.util.List<com.alibaba.graphscope.proto.ddl.PropertyDefPb> props_;
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  public java.util.List<com.alibaba.graphscope.proto.ddl.PropertyDefPb> getPropsList() {
+    return props_;
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  public java.util.List<? extends com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder> 
+      getPropsOrBuilderList() {
+    return props_;
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  public int getPropsCount() {
+    return props_.size();
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.PropertyDefPb getProps(int index) {
+    return props_.get(index);
+  }
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder getPropsOrBuilder(
+      int index) {
+    return props_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (versionId_ != 0) {
+      output.writeInt32(1, versionId_);
+    }
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, label_);
+    }
+    if (labelId_ != null) {
+      output.writeMessage(3, getLabelId());
+    }
+    if (typeEnum_ != com.alibaba.graphscope.proto.ddl.TypeEnumPb.UNSPECIFIED.getNumber()) {
+      output.writeEnum(4, typeEnum_);
+    }
+    for (int i = 0; i < props_.size(); i++) {
+      output.writeMessage(5, props_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (versionId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, versionId_);
+    }
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, label_);
+    }
+    if (labelId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getLabelId());
+    }
+    if (typeEnum_ != com.alibaba.graphscope.proto.ddl.TypeEnumPb.UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(4, typeEnum_);
+    }
+    for (int i = 0; i < props_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, props_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.TypeDefPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.TypeDefPb other = (com.alibaba.graphscope.proto.ddl.TypeDefPb) obj;
+
+    boolean result = true;
+    result = result && (getVersionId()
+        == other.getVersionId());
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && (hasLabelId() == other.hasLabelId());
+    if (hasLabelId()) {
+      result = result && getLabelId()
+          .equals(other.getLabelId());
+    }
+    result = result && typeEnum_ == other.typeEnum_;
+    result = result && getPropsList()
+        .equals(other.getPropsList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + VERSION_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getVersionId();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    if (hasLabelId()) {
+      hash = (37 * hash) + LABEL_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getLabelId().hashCode();
+    }
+    hash = (37 * hash) + TYPE_ENUM_FIELD_NUMBER;
+    hash = (53 * hash) + typeEnum_;
+    if (getPropsCount() > 0) {
+      hash = (37 * hash) + PROPS_FIELD_NUMBER;
+      hash = (53 * hash) + getPropsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.TypeDefPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.graph.TypeDefPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.graph.TypeDefPb)
+      com.alibaba.graphscope.proto.ddl.TypeDefPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_TypeDefPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_TypeDefPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.TypeDefPb.class, com.alibaba.graphscope.proto.ddl.TypeDefPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.TypeDefPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getPropsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      versionId_ = 0;
+
+      label_ = "";
+
+      if (labelIdBuilder_ == null) {
+        labelId_ = null;
+      } else {
+        labelId_ = null;
+        labelIdBuilder_ = null;
+      }
+      typeEnum_ = 0;
+
+      if (propsBuilder_ == null) {
+        props_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+      } else {
+        propsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_TypeDefPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb build() {
+      com.alibaba.graphscope.proto.ddl.TypeDefPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.TypeDefPb buildPartial() {
+      com.alibaba.graphscope.proto.ddl.TypeDefPb result = new com.alibaba.graphscope.proto.ddl.TypeDefPb(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.versionId_ = versionId_;
+      result.label_ = label_;
+      if (labelIdBuilder_ == null) {
+        result.labelId_ = labelId_;
+      } else {
+        result.labelId_ = labelIdBuilder_.build();
+      }
+      result.typeEnum_ = typeEnum_;
+      if (propsBuilder_ == null) {
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          props_ = java.util.Collections.unmodifiableList(props_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.props_ = props_;
+      } else {
+        result.props_ = propsBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.TypeDefPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.TypeDefPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.TypeDefPb other) {
+      if (other == com.alibaba.graphscope.proto.ddl.TypeDefPb.getDefaultInstance()) return this;
+      if (other.getVersionId() != 0) {
+        setVersionId(other.getVersionId());
+      }
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (other.hasLabelId()) {
+        mergeLabelId(other.getLabelId());
+      }
+      if (other.typeEnum_ != 0) {
+        setTypeEnumValue(other.getTypeEnumValue());
+      }
+      if (propsBuilder_ == null) {
+        if (!other.props_.isEmpty()) {
+          if (props_.isEmpty()) {
+            props_ = other.props_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensurePropsIsMutable();
+            props_.addAll(other.props_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.props_.isEmpty()) {
+          if (propsBuilder_.isEmpty()) {
+            propsBuilder_.dispose();
+            propsBuilder_ = null;
+            props_ = other.props_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+            propsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getPropsFieldBuilder() : null;
+          } else {
+            propsBuilder_.addAllMessages(other.props_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.TypeDefPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.TypeDefPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int versionId_ ;
+    /**
+     * <code>optional int32 version_id = 1;</code>
+     */
+    public int getVersionId() {
+      return versionId_;
+    }
+    /**
+     * <code>optional int32 version_id = 1;</code>
+     */
+    public Builder setVersionId(int value) {
+      
+      versionId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 version_id = 1;</code>
+     */
+    public Builder clearVersionId() {
+      
+      versionId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.graphscope.proto.ddl.LabelIdPb labelId_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.LabelIdPb, com.alibaba.graphscope.proto.ddl.LabelIdPb.Builder, com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder> labelIdBuilder_;
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    public boolean hasLabelId() {
+      return labelIdBuilder_ != null || labelId_ != null;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.LabelIdPb getLabelId() {
+      if (labelIdBuilder_ == null) {
+        return labelId_ == null ? com.alibaba.graphscope.proto.ddl.LabelIdPb.getDefaultInstance() : labelId_;
+      } else {
+        return labelIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    public Builder setLabelId(com.alibaba.graphscope.proto.ddl.LabelIdPb value) {
+      if (labelIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        labelId_ = value;
+        onChanged();
+      } else {
+        labelIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    public Builder setLabelId(
+        com.alibaba.graphscope.proto.ddl.LabelIdPb.Builder builderForValue) {
+      if (labelIdBuilder_ == null) {
+        labelId_ = builderForValue.build();
+        onChanged();
+      } else {
+        labelIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    public Builder mergeLabelId(com.alibaba.graphscope.proto.ddl.LabelIdPb value) {
+      if (labelIdBuilder_ == null) {
+        if (labelId_ != null) {
+          labelId_ =
+            com.alibaba.graphscope.proto.ddl.LabelIdPb.newBuilder(labelId_).mergeFrom(value).buildPartial();
+        } else {
+          labelId_ = value;
+        }
+        onChanged();
+      } else {
+        labelIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    public Builder clearLabelId() {
+      if (labelIdBuilder_ == null) {
+        labelId_ = null;
+        onChanged();
+      } else {
+        labelId_ = null;
+        labelIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.LabelIdPb.Builder getLabelIdBuilder() {
+      
+      onChanged();
+      return getLabelIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder getLabelIdOrBuilder() {
+      if (labelIdBuilder_ != null) {
+        return labelIdBuilder_.getMessageOrBuilder();
+      } else {
+        return labelId_ == null ?
+            com.alibaba.graphscope.proto.ddl.LabelIdPb.getDefaultInstance() : labelId_;
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.LabelIdPb, com.alibaba.graphscope.proto.ddl.LabelIdPb.Builder, com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder> 
+        getLabelIdFieldBuilder() {
+      if (labelIdBuilder_ == null) {
+        labelIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.LabelIdPb, com.alibaba.graphscope.proto.ddl.LabelIdPb.Builder, com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder>(
+                getLabelId(),
+                getParentForChildren(),
+                isClean());
+        labelId_ = null;
+      }
+      return labelIdBuilder_;
+    }
+
+    private int typeEnum_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+     */
+    public int getTypeEnumValue() {
+      return typeEnum_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+     */
+    public Builder setTypeEnumValue(int value) {
+      typeEnum_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.TypeEnumPb getTypeEnum() {
+      com.alibaba.graphscope.proto.ddl.TypeEnumPb result = com.alibaba.graphscope.proto.ddl.TypeEnumPb.valueOf(typeEnum_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.TypeEnumPb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+     */
+    public Builder setTypeEnum(com.alibaba.graphscope.proto.ddl.TypeEnumPb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      typeEnum_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+     */
+    public Builder clearTypeEnum() {
+      
+      typeEnum_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.graphscope.proto.ddl.PropertyDefPb> props_ =
+      java.util.Collections.emptyList();
+    private void ensurePropsIsMutable() {
+      if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+        props_ = new java.util.ArrayList<com.alibaba.graphscope.proto.ddl.PropertyDefPb>(props_);
+        bitField0_ |= 0x00000010;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.PropertyDefPb, com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder, com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder> propsBuilder_;
+
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.ddl.PropertyDefPb> getPropsList() {
+      if (propsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(props_);
+      } else {
+        return propsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public int getPropsCount() {
+      if (propsBuilder_ == null) {
+        return props_.size();
+      } else {
+        return propsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.PropertyDefPb getProps(int index) {
+      if (propsBuilder_ == null) {
+        return props_.get(index);
+      } else {
+        return propsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder setProps(
+        int index, com.alibaba.graphscope.proto.ddl.PropertyDefPb value) {
+      if (propsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropsIsMutable();
+        props_.set(index, value);
+        onChanged();
+      } else {
+        propsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder setProps(
+        int index, com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder builderForValue) {
+      if (propsBuilder_ == null) {
+        ensurePropsIsMutable();
+        props_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        propsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder addProps(com.alibaba.graphscope.proto.ddl.PropertyDefPb value) {
+      if (propsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropsIsMutable();
+        props_.add(value);
+        onChanged();
+      } else {
+        propsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder addProps(
+        int index, com.alibaba.graphscope.proto.ddl.PropertyDefPb value) {
+      if (propsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropsIsMutable();
+        props_.add(index, value);
+        onChanged();
+      } else {
+        propsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder addProps(
+        com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder builderForValue) {
+      if (propsBuilder_ == null) {
+        ensurePropsIsMutable();
+        props_.add(builderForValue.build());
+        onChanged();
+      } else {
+        propsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder addProps(
+        int index, com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder builderForValue) {
+      if (propsBuilder_ == null) {
+        ensurePropsIsMutable();
+        props_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        propsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder addAllProps(
+        java.lang.Iterable<? extends com.alibaba.graphscope.proto.ddl.PropertyDefPb> values) {
+      if (propsBuilder_ == null) {
+        ensurePropsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, props_);
+        onChanged();
+      } else {
+        propsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder clearProps() {
+      if (propsBuilder_ == null) {
+        props_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+      } else {
+        propsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public Builder removeProps(int index) {
+      if (propsBuilder_ == null) {
+        ensurePropsIsMutable();
+        props_.remove(index);
+        onChanged();
+      } else {
+        propsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder getPropsBuilder(
+        int index) {
+      return getPropsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder getPropsOrBuilder(
+        int index) {
+      if (propsBuilder_ == null) {
+        return props_.get(index);  } else {
+        return propsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public java.util.List<? extends com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder> 
+         getPropsOrBuilderList() {
+      if (propsBuilder_ != null) {
+        return propsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(props_);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder addPropsBuilder() {
+      return getPropsFieldBuilder().addBuilder(
+          com.alibaba.graphscope.proto.ddl.PropertyDefPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder addPropsBuilder(
+        int index) {
+      return getPropsFieldBuilder().addBuilder(
+          index, com.alibaba.graphscope.proto.ddl.PropertyDefPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder> 
+         getPropsBuilderList() {
+      return getPropsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.ddl.PropertyDefPb, com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder, com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder> 
+        getPropsFieldBuilder() {
+      if (propsBuilder_ == null) {
+        propsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.graphscope.proto.ddl.PropertyDefPb, com.alibaba.graphscope.proto.ddl.PropertyDefPb.Builder, com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder>(
+                props_,
+                ((bitField0_ & 0x00000010) == 0x00000010),
+                getParentForChildren(),
+                isClean());
+        props_ = null;
+      }
+      return propsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.graph.TypeDefPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.graph.TypeDefPb)
+  private static final com.alibaba.graphscope.proto.ddl.TypeDefPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.TypeDefPb();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.TypeDefPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<TypeDefPb>
+      PARSER = new com.google.protobuf.AbstractParser<TypeDefPb>() {
+    public TypeDefPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TypeDefPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<TypeDefPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<TypeDefPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.TypeDefPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
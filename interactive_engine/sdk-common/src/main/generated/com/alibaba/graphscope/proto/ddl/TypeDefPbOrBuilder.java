@@ -0,0 +1,70 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface TypeDefPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.TypeDefPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 version_id = 1;</code>
+   */
+  int getVersionId();
+
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+   */
+  boolean hasLabelId();
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.LabelIdPb getLabelId();
+  /**
+   * <code>optional .gs.rpc.graph.LabelIdPb label_id = 3;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.LabelIdPbOrBuilder getLabelIdOrBuilder();
+
+  /**
+   * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+   */
+  int getTypeEnumValue();
+  /**
+   * <code>optional .gs.rpc.graph.TypeEnumPb type_enum = 4;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.TypeEnumPb getTypeEnum();
+
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  java.util.List<com.alibaba.graphscope.proto.ddl.PropertyDefPb> 
+      getPropsList();
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.PropertyDefPb getProps(int index);
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  int getPropsCount();
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  java.util.List<? extends com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder> 
+      getPropsOrBuilderList();
+  /**
+   * <code>repeated .gs.rpc.graph.PropertyDefPb props = 5;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.PropertyDefPbOrBuilder getPropsOrBuilder(
+      int index);
+}
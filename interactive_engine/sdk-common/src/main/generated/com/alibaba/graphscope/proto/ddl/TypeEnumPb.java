@@ -0,0 +1,113 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * Protobuf enum {@code gs.rpc.graph.TypeEnumPb}
+ */
+public enum TypeEnumPb
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>UNSPECIFIED = 0;</code>
+   */
+  UNSPECIFIED(0),
+  /**
+   * <code>VERTEX = 1;</code>
+   */
+  VERTEX(1),
+  /**
+   * <code>EDGE = 2;</code>
+   */
+  EDGE(2),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>UNSPECIFIED = 0;</code>
+   */
+  public static final int UNSPECIFIED_VALUE = 0;
+  /**
+   * <code>VERTEX = 1;</code>
+   */
+  public static final int VERTEX_VALUE = 1;
+  /**
+   * <code>EDGE = 2;</code>
+   */
+  public static final int EDGE_VALUE = 2;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static TypeEnumPb valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static TypeEnumPb forNumber(int value) {
+    switch (value) {
+      case 0: return UNSPECIFIED;
+      case 1: return VERTEX;
+      case 2: return EDGE;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<TypeEnumPb>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      TypeEnumPb> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<TypeEnumPb>() {
+          public TypeEnumPb findValueByNumber(int number) {
+            return TypeEnumPb.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.getDescriptor()
+        .getEnumTypes().get(1);
+  }
+
+  private static final TypeEnumPb[] VALUES = values();
+
+  public static TypeEnumPb valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private TypeEnumPb(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:gs.rpc.graph.TypeEnumPb)
+}
+
@@ -0,0 +1,1167 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+/**
+ * <pre>
+ * Attributes that only meaningful to and will be set by vineyard storage
+ * </pre>
+ *
+ * Protobuf type {@code gs.rpc.graph.VineyardInfoPb}
+ */
+public  final class VineyardInfoPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.graph.VineyardInfoPb)
+    VineyardInfoPbOrBuilder {
+  // Use VineyardInfoPb.newBuilder() to construct.
+  private VineyardInfoPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private VineyardInfoPb() {
+    oidType_ = 0;
+    vidType_ = 0;
+    vdataType_ = 0;
+    edataType_ = 0;
+    schemaPath_ = "";
+    generateEid_ = false;
+    vineyardId_ = 0L;
+    propertySchemaJson_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private VineyardInfoPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            int rawValue = input.readEnum();
+
+            oidType_ = rawValue;
+            break;
+          }
+          case 16: {
+            int rawValue = input.readEnum();
+
+            vidType_ = rawValue;
+            break;
+          }
+          case 24: {
+            int rawValue = input.readEnum();
+
+            vdataType_ = rawValue;
+            break;
+          }
+          case 32: {
+            int rawValue = input.readEnum();
+
+            edataType_ = rawValue;
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            schemaPath_ = s;
+            break;
+          }
+          case 48: {
+
+            generateEid_ = input.readBool();
+            break;
+          }
+          case 56: {
+
+            vineyardId_ = input.readInt64();
+            break;
+          }
+          case 66: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            propertySchemaJson_ = s;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_VineyardInfoPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_VineyardInfoPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.ddl.VineyardInfoPb.class, com.alibaba.graphscope.proto.ddl.VineyardInfoPb.Builder.class);
+  }
+
+  public static final int OID_TYPE_FIELD_NUMBER = 1;
+  private int oidType_;
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+   */
+  public int getOidTypeValue() {
+    return oidType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.DataTypePb getOidType() {
+    com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(oidType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int VID_TYPE_FIELD_NUMBER = 2;
+  private int vidType_;
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+   */
+  public int getVidTypeValue() {
+    return vidType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.DataTypePb getVidType() {
+    com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(vidType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int VDATA_TYPE_FIELD_NUMBER = 3;
+  private int vdataType_;
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+   */
+  public int getVdataTypeValue() {
+    return vdataType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.DataTypePb getVdataType() {
+    com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(vdataType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int EDATA_TYPE_FIELD_NUMBER = 4;
+  private int edataType_;
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+   */
+  public int getEdataTypeValue() {
+    return edataType_;
+  }
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+   */
+  public com.alibaba.graphscope.proto.ddl.DataTypePb getEdataType() {
+    com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(edataType_);
+    return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int SCHEMA_PATH_FIELD_NUMBER = 5;
+  private volatile java.lang.Object schemaPath_;
+  /**
+   * <pre>
+   * This is for sharing graph between vineyard storage and maxgraph storage
+   * </pre>
+   *
+   * <code>optional string schema_path = 5;</code>
+   */
+  public java.lang.String getSchemaPath() {
+    java.lang.Object ref = schemaPath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      schemaPath_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * This is for sharing graph between vineyard storage and maxgraph storage
+   * </pre>
+   *
+   * <code>optional string schema_path = 5;</code>
+   */
+  public com.google.protobuf.ByteString
+      getSchemaPathBytes() {
+    java.lang.Object ref = schemaPath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      schemaPath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int GENERATE_EID_FIELD_NUMBER = 6;
+  private boolean generateEid_;
+  /**
+   * <pre>
+   * Whether to automatically generate unique edge id for all edges.
+   * </pre>
+   *
+   * <code>optional bool generate_eid = 6;</code>
+   */
+  public boolean getGenerateEid() {
+    return generateEid_;
+  }
+
+  public static final int VINEYARD_ID_FIELD_NUMBER = 7;
+  private long vineyardId_;
+  /**
+   * <pre>
+   * object id of the graph in vineyard
+   * </pre>
+   *
+   * <code>optional int64 vineyard_id = 7;</code>
+   */
+  public long getVineyardId() {
+    return vineyardId_;
+  }
+
+  public static final int PROPERTY_SCHEMA_JSON_FIELD_NUMBER = 8;
+  private volatile java.lang.Object propertySchemaJson_;
+  /**
+   * <pre>
+   * For client to reconstrut graph schema
+   * </pre>
+   *
+   * <code>optional string property_schema_json = 8;</code>
+   */
+  public java.lang.String getPropertySchemaJson() {
+    java.lang.Object ref = propertySchemaJson_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      propertySchemaJson_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * For client to reconstrut graph schema
+   * </pre>
+   *
+   * <code>optional string property_schema_json = 8;</code>
+   */
+  public com.google.protobuf.ByteString
+      getPropertySchemaJsonBytes() {
+    java.lang.Object ref = propertySchemaJson_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      propertySchemaJson_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (oidType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(1, oidType_);
+    }
+    if (vidType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(2, vidType_);
+    }
+    if (vdataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(3, vdataType_);
+    }
+    if (edataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(4, edataType_);
+    }
+    if (!getSchemaPathBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, schemaPath_);
+    }
+    if (generateEid_ != false) {
+      output.writeBool(6, generateEid_);
+    }
+    if (vineyardId_ != 0L) {
+      output.writeInt64(7, vineyardId_);
+    }
+    if (!getPropertySchemaJsonBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 8, propertySchemaJson_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (oidType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, oidType_);
+    }
+    if (vidType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(2, vidType_);
+    }
+    if (vdataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, vdataType_);
+    }
+    if (edataType_ != com.alibaba.graphscope.proto.ddl.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(4, edataType_);
+    }
+    if (!getSchemaPathBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, schemaPath_);
+    }
+    if (generateEid_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(6, generateEid_);
+    }
+    if (vineyardId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, vineyardId_);
+    }
+    if (!getPropertySchemaJsonBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, propertySchemaJson_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.ddl.VineyardInfoPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.ddl.VineyardInfoPb other = (com.alibaba.graphscope.proto.ddl.VineyardInfoPb) obj;
+
+    boolean result = true;
+    result = result && oidType_ == other.oidType_;
+    result = result && vidType_ == other.vidType_;
+    result = result && vdataType_ == other.vdataType_;
+    result = result && edataType_ == other.edataType_;
+    result = result && getSchemaPath()
+        .equals(other.getSchemaPath());
+    result = result && (getGenerateEid()
+        == other.getGenerateEid());
+    result = result && (getVineyardId()
+        == other.getVineyardId());
+    result = result && getPropertySchemaJson()
+        .equals(other.getPropertySchemaJson());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + OID_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + oidType_;
+    hash = (37 * hash) + VID_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + vidType_;
+    hash = (37 * hash) + VDATA_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + vdataType_;
+    hash = (37 * hash) + EDATA_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + edataType_;
+    hash = (37 * hash) + SCHEMA_PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getSchemaPath().hashCode();
+    hash = (37 * hash) + GENERATE_EID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getGenerateEid());
+    hash = (37 * hash) + VINEYARD_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getVineyardId());
+    hash = (37 * hash) + PROPERTY_SCHEMA_JSON_FIELD_NUMBER;
+    hash = (53 * hash) + getPropertySchemaJson().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.ddl.VineyardInfoPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Attributes that only meaningful to and will be set by vineyard storage
+   * </pre>
+   *
+   * Protobuf type {@code gs.rpc.graph.VineyardInfoPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.graph.VineyardInfoPb)
+      com.alibaba.graphscope.proto.ddl.VineyardInfoPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_VineyardInfoPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_VineyardInfoPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.ddl.VineyardInfoPb.class, com.alibaba.graphscope.proto.ddl.VineyardInfoPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.ddl.VineyardInfoPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      oidType_ = 0;
+
+      vidType_ = 0;
+
+      vdataType_ = 0;
+
+      edataType_ = 0;
+
+      schemaPath_ = "";
+
+      generateEid_ = false;
+
+      vineyardId_ = 0L;
+
+      propertySchemaJson_ = "";
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.ddl.GraphDef.internal_static_gs_rpc_graph_VineyardInfoPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.VineyardInfoPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.ddl.VineyardInfoPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.ddl.VineyardInfoPb build() {
+      com.alibaba.graphscope.proto.ddl.VineyardInfoPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.ddl.VineyardInfoPb buildPartial() {
+      com.alibaba.graphscope.proto.ddl.VineyardInfoPb result = new com.alibaba.graphscope.proto.ddl.VineyardInfoPb(this);
+      result.oidType_ = oidType_;
+      result.vidType_ = vidType_;
+      result.vdataType_ = vdataType_;
+      result.edataType_ = edataType_;
+      result.schemaPath_ = schemaPath_;
+      result.generateEid_ = generateEid_;
+      result.vineyardId_ = vineyardId_;
+      result.propertySchemaJson_ = propertySchemaJson_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.ddl.VineyardInfoPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.ddl.VineyardInfoPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.ddl.VineyardInfoPb other) {
+      if (other == com.alibaba.graphscope.proto.ddl.VineyardInfoPb.getDefaultInstance()) return this;
+      if (other.oidType_ != 0) {
+        setOidTypeValue(other.getOidTypeValue());
+      }
+      if (other.vidType_ != 0) {
+        setVidTypeValue(other.getVidTypeValue());
+      }
+      if (other.vdataType_ != 0) {
+        setVdataTypeValue(other.getVdataTypeValue());
+      }
+      if (other.edataType_ != 0) {
+        setEdataTypeValue(other.getEdataTypeValue());
+      }
+      if (!other.getSchemaPath().isEmpty()) {
+        schemaPath_ = other.schemaPath_;
+        onChanged();
+      }
+      if (other.getGenerateEid() != false) {
+        setGenerateEid(other.getGenerateEid());
+      }
+      if (other.getVineyardId() != 0L) {
+        setVineyardId(other.getVineyardId());
+      }
+      if (!other.getPropertySchemaJson().isEmpty()) {
+        propertySchemaJson_ = other.propertySchemaJson_;
+        onChanged();
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.ddl.VineyardInfoPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.ddl.VineyardInfoPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int oidType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+     */
+    public int getOidTypeValue() {
+      return oidType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+     */
+    public Builder setOidTypeValue(int value) {
+      oidType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DataTypePb getOidType() {
+      com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(oidType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+     */
+    public Builder setOidType(com.alibaba.graphscope.proto.ddl.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      oidType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+     */
+    public Builder clearOidType() {
+      
+      oidType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int vidType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+     */
+    public int getVidTypeValue() {
+      return vidType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+     */
+    public Builder setVidTypeValue(int value) {
+      vidType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DataTypePb getVidType() {
+      com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(vidType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+     */
+    public Builder setVidType(com.alibaba.graphscope.proto.ddl.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      vidType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+     */
+    public Builder clearVidType() {
+      
+      vidType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int vdataType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+     */
+    public int getVdataTypeValue() {
+      return vdataType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+     */
+    public Builder setVdataTypeValue(int value) {
+      vdataType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DataTypePb getVdataType() {
+      com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(vdataType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+     */
+    public Builder setVdataType(com.alibaba.graphscope.proto.ddl.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      vdataType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+     */
+    public Builder clearVdataType() {
+      
+      vdataType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int edataType_ = 0;
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+     */
+    public int getEdataTypeValue() {
+      return edataType_;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+     */
+    public Builder setEdataTypeValue(int value) {
+      edataType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+     */
+    public com.alibaba.graphscope.proto.ddl.DataTypePb getEdataType() {
+      com.alibaba.graphscope.proto.ddl.DataTypePb result = com.alibaba.graphscope.proto.ddl.DataTypePb.valueOf(edataType_);
+      return result == null ? com.alibaba.graphscope.proto.ddl.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+     */
+    public Builder setEdataType(com.alibaba.graphscope.proto.ddl.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      edataType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+     */
+    public Builder clearEdataType() {
+      
+      edataType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object schemaPath_ = "";
+    /**
+     * <pre>
+     * This is for sharing graph between vineyard storage and maxgraph storage
+     * </pre>
+     *
+     * <code>optional string schema_path = 5;</code>
+     */
+    public java.lang.String getSchemaPath() {
+      java.lang.Object ref = schemaPath_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        schemaPath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * This is for sharing graph between vineyard storage and maxgraph storage
+     * </pre>
+     *
+     * <code>optional string schema_path = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSchemaPathBytes() {
+      java.lang.Object ref = schemaPath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        schemaPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * This is for sharing graph between vineyard storage and maxgraph storage
+     * </pre>
+     *
+     * <code>optional string schema_path = 5;</code>
+     */
+    public Builder setSchemaPath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      schemaPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * This is for sharing graph between vineyard storage and maxgraph storage
+     * </pre>
+     *
+     * <code>optional string schema_path = 5;</code>
+     */
+    public Builder clearSchemaPath() {
+      
+      schemaPath_ = getDefaultInstance().getSchemaPath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * This is for sharing graph between vineyard storage and maxgraph storage
+     * </pre>
+     *
+     * <code>optional string schema_path = 5;</code>
+     */
+    public Builder setSchemaPathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      schemaPath_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean generateEid_ ;
+    /**
+     * <pre>
+     * Whether to automatically generate unique edge id for all edges.
+     * </pre>
+     *
+     * <code>optional bool generate_eid = 6;</code>
+     */
+    public boolean getGenerateEid() {
+      return generateEid_;
+    }
+    /**
+     * <pre>
+     * Whether to automatically generate unique edge id for all edges.
+     * </pre>
+     *
+     * <code>optional bool generate_eid = 6;</code>
+     */
+    public Builder setGenerateEid(boolean value) {
+      
+      generateEid_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Whether to automatically generate unique edge id for all edges.
+     * </pre>
+     *
+     * <code>optional bool generate_eid = 6;</code>
+     */
+    public Builder clearGenerateEid() {
+      
+      generateEid_ = false;
+      onChanged();
+      return this;
+    }
+
+    private long vineyardId_ ;
+    /**
+     * <pre>
+     * object id of the graph in vineyard
+     * </pre>
+     *
+     * <code>optional int64 vineyard_id = 7;</code>
+     */
+    public long getVineyardId() {
+      return vineyardId_;
+    }
+    /**
+     * <pre>
+     * object id of the graph in vineyard
+     * </pre>
+     *
+     * <code>optional int64 vineyard_id = 7;</code>
+     */
+    public Builder setVineyardId(long value) {
+      
+      vineyardId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * object id of the graph in vineyard
+     * </pre>
+     *
+     * <code>optional int64 vineyard_id = 7;</code>
+     */
+    public Builder clearVineyardId() {
+      
+      vineyardId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object propertySchemaJson_ = "";
+    /**
+     * <pre>
+     * For client to reconstrut graph schema
+     * </pre>
+     *
+     * <code>optional string property_schema_json = 8;</code>
+     */
+    public java.lang.String getPropertySchemaJson() {
+      java.lang.Object ref = propertySchemaJson_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        propertySchemaJson_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * For client to reconstrut graph schema
+     * </pre>
+     *
+     * <code>optional string property_schema_json = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPropertySchemaJsonBytes() {
+      java.lang.Object ref = propertySchemaJson_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        propertySchemaJson_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * For client to reconstrut graph schema
+     * </pre>
+     *
+     * <code>optional string property_schema_json = 8;</code>
+     */
+    public Builder setPropertySchemaJson(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      propertySchemaJson_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * For client to reconstrut graph schema
+     * </pre>
+     *
+     * <code>optional string property_schema_json = 8;</code>
+     */
+    public Builder clearPropertySchemaJson() {
+      
+      propertySchemaJson_ = getDefaultInstance().getPropertySchemaJson();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * For client to reconstrut graph schema
+     * </pre>
+     *
+     * <code>optional string property_schema_json = 8;</code>
+     */
+    public Builder setPropertySchemaJsonBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      propertySchemaJson_ = value;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.graph.VineyardInfoPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.graph.VineyardInfoPb)
+  private static final com.alibaba.graphscope.proto.ddl.VineyardInfoPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.ddl.VineyardInfoPb();
+  }
+
+  public static com.alibaba.graphscope.proto.ddl.VineyardInfoPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<VineyardInfoPb>
+      PARSER = new com.google.protobuf.AbstractParser<VineyardInfoPb>() {
+    public VineyardInfoPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VineyardInfoPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<VineyardInfoPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<VineyardInfoPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.ddl.VineyardInfoPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
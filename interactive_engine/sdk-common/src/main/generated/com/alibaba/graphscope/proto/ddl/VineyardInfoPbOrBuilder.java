@@ -0,0 +1,99 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/graph_def.proto
+
+package com.alibaba.graphscope.proto.ddl;
+
+public interface VineyardInfoPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.graph.VineyardInfoPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+   */
+  int getOidTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb oid_type = 1;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.DataTypePb getOidType();
+
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+   */
+  int getVidTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vid_type = 2;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.DataTypePb getVidType();
+
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+   */
+  int getVdataTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb vdata_type = 3;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.DataTypePb getVdataType();
+
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+   */
+  int getEdataTypeValue();
+  /**
+   * <code>optional .gs.rpc.graph.DataTypePb edata_type = 4;</code>
+   */
+  com.alibaba.graphscope.proto.ddl.DataTypePb getEdataType();
+
+  /**
+   * <pre>
+   * This is for sharing graph between vineyard storage and maxgraph storage
+   * </pre>
+   *
+   * <code>optional string schema_path = 5;</code>
+   */
+  java.lang.String getSchemaPath();
+  /**
+   * <pre>
+   * This is for sharing graph between vineyard storage and maxgraph storage
+   * </pre>
+   *
+   * <code>optional string schema_path = 5;</code>
+   */
+  com.google.protobuf.ByteString
+      getSchemaPathBytes();
+
+  /**
+   * <pre>
+   * Whether to automatically generate unique edge id for all edges.
+   * </pre>
+   *
+   * <code>optional bool generate_eid = 6;</code>
+   */
+  boolean getGenerateEid();
+
+  /**
+   * <pre>
+   * object id of the graph in vineyard
+   * </pre>
+   *
+   * <code>optional int64 vineyard_id = 7;</code>
+   */
+  long getVineyardId();
+
+  /**
+   * <pre>
+   * For client to reconstrut graph schema
+   * </pre>
+   *
+   * <code>optional string property_schema_json = 8;</code>
+   */
+  java.lang.String getPropertySchemaJson();
+  /**
+   * <pre>
+   * For client to reconstrut graph schema
+   * </pre>
+   *
+   * <code>optional string property_schema_json = 8;</code>
+   */
+  com.google.protobuf.ByteString
+      getPropertySchemaJsonBytes();
+}
@@ -0,0 +1,842 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+/**
+ * Protobuf type {@code gs.rpc.write_service.v1.BatchWriteRequest}
+ */
+public  final class BatchWriteRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.write_service.v1.BatchWriteRequest)
+    BatchWriteRequestOrBuilder {
+  // Use BatchWriteRequest.newBuilder() to construct.
+  private BatchWriteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private BatchWriteRequest() {
+    clientId_ = "";
+    writeRequests_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private BatchWriteRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            clientId_ = s;
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              writeRequests_ = new java.util.ArrayList<com.alibaba.graphscope.proto.write.WriteRequestPb>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            writeRequests_.add(
+                input.readMessage(com.alibaba.graphscope.proto.write.WriteRequestPb.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        writeRequests_ = java.util.Collections.unmodifiableList(writeRequests_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_BatchWriteRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_BatchWriteRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.write.BatchWriteRequest.class, com.alibaba.graphscope.proto.write.BatchWriteRequest.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int CLIENT_ID_FIELD_NUMBER = 1;
+  private volatile java.lang.Object clientId_;
+  /**
+   * <code>optional string client_id = 1;</code>
+   */
+  public java.lang.String getClientId() {
+    java.lang.Object ref = clientId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      clientId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string client_id = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getClientIdBytes() {
+    java.lang.Object ref = clientId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      clientId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int WRITE_REQUESTS_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.graphscope.proto.write.WriteRequestPb> writeRequests_;
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  public java.util.List<com.alibaba.graphscope.proto.write.WriteRequestPb> getWriteRequestsList() {
+    return writeRequests_;
+  }
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  public java.util.List<? extends com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder> 
+      getWriteRequestsOrBuilderList() {
+    return writeRequests_;
+  }
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  public int getWriteRequestsCount() {
+    return writeRequests_.size();
+  }
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.write.WriteRequestPb getWriteRequests(int index) {
+    return writeRequests_.get(index);
+  }
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder getWriteRequestsOrBuilder(
+      int index) {
+    return writeRequests_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getClientIdBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, clientId_);
+    }
+    for (int i = 0; i < writeRequests_.size(); i++) {
+      output.writeMessage(2, writeRequests_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getClientIdBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, clientId_);
+    }
+    for (int i = 0; i < writeRequests_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, writeRequests_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.write.BatchWriteRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.write.BatchWriteRequest other = (com.alibaba.graphscope.proto.write.BatchWriteRequest) obj;
+
+    boolean result = true;
+    result = result && getClientId()
+        .equals(other.getClientId());
+    result = result && getWriteRequestsList()
+        .equals(other.getWriteRequestsList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + CLIENT_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getClientId().hashCode();
+    if (getWriteRequestsCount() > 0) {
+      hash = (37 * hash) + WRITE_REQUESTS_FIELD_NUMBER;
+      hash = (53 * hash) + getWriteRequestsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.write.BatchWriteRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.write_service.v1.BatchWriteRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.write_service.v1.BatchWriteRequest)
+      com.alibaba.graphscope.proto.write.BatchWriteRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_BatchWriteRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_BatchWriteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.write.BatchWriteRequest.class, com.alibaba.graphscope.proto.write.BatchWriteRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.write.BatchWriteRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getWriteRequestsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      clientId_ = "";
+
+      if (writeRequestsBuilder_ == null) {
+        writeRequests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        writeRequestsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_BatchWriteRequest_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.write.BatchWriteRequest getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.write.BatchWriteRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.write.BatchWriteRequest build() {
+      com.alibaba.graphscope.proto.write.BatchWriteRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.write.BatchWriteRequest buildPartial() {
+      com.alibaba.graphscope.proto.write.BatchWriteRequest result = new com.alibaba.graphscope.proto.write.BatchWriteRequest(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.clientId_ = clientId_;
+      if (writeRequestsBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          writeRequests_ = java.util.Collections.unmodifiableList(writeRequests_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.writeRequests_ = writeRequests_;
+      } else {
+        result.writeRequests_ = writeRequestsBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.write.BatchWriteRequest) {
+        return mergeFrom((com.alibaba.graphscope.proto.write.BatchWriteRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.write.BatchWriteRequest other) {
+      if (other == com.alibaba.graphscope.proto.write.BatchWriteRequest.getDefaultInstance()) return this;
+      if (!other.getClientId().isEmpty()) {
+        clientId_ = other.clientId_;
+        onChanged();
+      }
+      if (writeRequestsBuilder_ == null) {
+        if (!other.writeRequests_.isEmpty()) {
+          if (writeRequests_.isEmpty()) {
+            writeRequests_ = other.writeRequests_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureWriteRequestsIsMutable();
+            writeRequests_.addAll(other.writeRequests_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.writeRequests_.isEmpty()) {
+          if (writeRequestsBuilder_.isEmpty()) {
+            writeRequestsBuilder_.dispose();
+            writeRequestsBuilder_ = null;
+            writeRequests_ = other.writeRequests_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            writeRequestsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getWriteRequestsFieldBuilder() : null;
+          } else {
+            writeRequestsBuilder_.addAllMessages(other.writeRequests_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.write.BatchWriteRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.write.BatchWriteRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object clientId_ = "";
+    /**
+     * <code>optional string client_id = 1;</code>
+     */
+    public java.lang.String getClientId() {
+      java.lang.Object ref = clientId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        clientId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string client_id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getClientIdBytes() {
+      java.lang.Object ref = clientId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clientId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string client_id = 1;</code>
+     */
+    public Builder setClientId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      clientId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string client_id = 1;</code>
+     */
+    public Builder clearClientId() {
+      
+      clientId_ = getDefaultInstance().getClientId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string client_id = 1;</code>
+     */
+    public Builder setClientIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      clientId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.graphscope.proto.write.WriteRequestPb> writeRequests_ =
+      java.util.Collections.emptyList();
+    private void ensureWriteRequestsIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        writeRequests_ = new java.util.ArrayList<com.alibaba.graphscope.proto.write.WriteRequestPb>(writeRequests_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.WriteRequestPb, com.alibaba.graphscope.proto.write.WriteRequestPb.Builder, com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder> writeRequestsBuilder_;
+
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.write.WriteRequestPb> getWriteRequestsList() {
+      if (writeRequestsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(writeRequests_);
+      } else {
+        return writeRequestsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public int getWriteRequestsCount() {
+      if (writeRequestsBuilder_ == null) {
+        return writeRequests_.size();
+      } else {
+        return writeRequestsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.WriteRequestPb getWriteRequests(int index) {
+      if (writeRequestsBuilder_ == null) {
+        return writeRequests_.get(index);
+      } else {
+        return writeRequestsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder setWriteRequests(
+        int index, com.alibaba.graphscope.proto.write.WriteRequestPb value) {
+      if (writeRequestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureWriteRequestsIsMutable();
+        writeRequests_.set(index, value);
+        onChanged();
+      } else {
+        writeRequestsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder setWriteRequests(
+        int index, com.alibaba.graphscope.proto.write.WriteRequestPb.Builder builderForValue) {
+      if (writeRequestsBuilder_ == null) {
+        ensureWriteRequestsIsMutable();
+        writeRequests_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        writeRequestsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder addWriteRequests(com.alibaba.graphscope.proto.write.WriteRequestPb value) {
+      if (writeRequestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureWriteRequestsIsMutable();
+        writeRequests_.add(value);
+        onChanged();
+      } else {
+        writeRequestsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder addWriteRequests(
+        int index, com.alibaba.graphscope.proto.write.WriteRequestPb value) {
+      if (writeRequestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureWriteRequestsIsMutable();
+        writeRequests_.add(index, value);
+        onChanged();
+      } else {
+        writeRequestsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder addWriteRequests(
+        com.alibaba.graphscope.proto.write.WriteRequestPb.Builder builderForValue) {
+      if (writeRequestsBuilder_ == null) {
+        ensureWriteRequestsIsMutable();
+        writeRequests_.add(builderForValue.build());
+        onChanged();
+      } else {
+        writeRequestsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder addWriteRequests(
+        int index, com.alibaba.graphscope.proto.write.WriteRequestPb.Builder builderForValue) {
+      if (writeRequestsBuilder_ == null) {
+        ensureWriteRequestsIsMutable();
+        writeRequests_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        writeRequestsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder addAllWriteRequests(
+        java.lang.Iterable<? extends com.alibaba.graphscope.proto.write.WriteRequestPb> values) {
+      if (writeRequestsBuilder_ == null) {
+        ensureWriteRequestsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, writeRequests_);
+        onChanged();
+      } else {
+        writeRequestsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder clearWriteRequests() {
+      if (writeRequestsBuilder_ == null) {
+        writeRequests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        writeRequestsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public Builder removeWriteRequests(int index) {
+      if (writeRequestsBuilder_ == null) {
+        ensureWriteRequestsIsMutable();
+        writeRequests_.remove(index);
+        onChanged();
+      } else {
+        writeRequestsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.WriteRequestPb.Builder getWriteRequestsBuilder(
+        int index) {
+      return getWriteRequestsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder getWriteRequestsOrBuilder(
+        int index) {
+      if (writeRequestsBuilder_ == null) {
+        return writeRequests_.get(index);  } else {
+        return writeRequestsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder> 
+         getWriteRequestsOrBuilderList() {
+      if (writeRequestsBuilder_ != null) {
+        return writeRequestsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(writeRequests_);
+      }
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.WriteRequestPb.Builder addWriteRequestsBuilder() {
+      return getWriteRequestsFieldBuilder().addBuilder(
+          com.alibaba.graphscope.proto.write.WriteRequestPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.WriteRequestPb.Builder addWriteRequestsBuilder(
+        int index) {
+      return getWriteRequestsFieldBuilder().addBuilder(
+          index, com.alibaba.graphscope.proto.write.WriteRequestPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+     */
+    public java.util.List<com.alibaba.graphscope.proto.write.WriteRequestPb.Builder> 
+         getWriteRequestsBuilderList() {
+      return getWriteRequestsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.WriteRequestPb, com.alibaba.graphscope.proto.write.WriteRequestPb.Builder, com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder> 
+        getWriteRequestsFieldBuilder() {
+      if (writeRequestsBuilder_ == null) {
+        writeRequestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.graphscope.proto.write.WriteRequestPb, com.alibaba.graphscope.proto.write.WriteRequestPb.Builder, com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder>(
+                writeRequests_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        writeRequests_ = null;
+      }
+      return writeRequestsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.write_service.v1.BatchWriteRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.write_service.v1.BatchWriteRequest)
+  private static final com.alibaba.graphscope.proto.write.BatchWriteRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.write.BatchWriteRequest();
+  }
+
+  public static com.alibaba.graphscope.proto.write.BatchWriteRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BatchWriteRequest>
+      PARSER = new com.google.protobuf.AbstractParser<BatchWriteRequest>() {
+    public BatchWriteRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchWriteRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<BatchWriteRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BatchWriteRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.write.BatchWriteRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
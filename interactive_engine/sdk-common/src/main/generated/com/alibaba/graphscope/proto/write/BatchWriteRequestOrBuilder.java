@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public interface BatchWriteRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.write_service.v1.BatchWriteRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string client_id = 1;</code>
+   */
+  java.lang.String getClientId();
+  /**
+   * <code>optional string client_id = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getClientIdBytes();
+
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  java.util.List<com.alibaba.graphscope.proto.write.WriteRequestPb> 
+      getWriteRequestsList();
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  com.alibaba.graphscope.proto.write.WriteRequestPb getWriteRequests(int index);
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  int getWriteRequestsCount();
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder> 
+      getWriteRequestsOrBuilderList();
+  /**
+   * <code>repeated .gs.rpc.write_service.v1.WriteRequestPb write_requests = 2;</code>
+   */
+  com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder getWriteRequestsOrBuilder(
+      int index);
+}
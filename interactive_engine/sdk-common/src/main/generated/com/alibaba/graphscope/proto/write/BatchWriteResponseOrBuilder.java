@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public interface BatchWriteResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.write_service.v1.BatchWriteResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 snapshot_id = 1;</code>
+   */
+  long getSnapshotId();
+}
@@ -0,0 +1,315 @@
+package com.alibaba.graphscope.proto.write;
+
+import static io.grpc.stub.ClientCalls.asyncUnaryCall;
+import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.blockingServerStreamingCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.0.0)",
+    comments = "Source: graphscope/proto/write_service.proto")
+public class ClientWriteGrpc {
+
+  private ClientWriteGrpc() {}
+
+  public static final String SERVICE_NAME = "gs.rpc.write_service.v1.ClientWrite";
+
+  // Static method descriptors that strictly reflect the proto.
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.graphscope.proto.write.GetClientIdRequest,
+      com.alibaba.graphscope.proto.write.GetClientIdResponse> METHOD_GET_CLIENT_ID =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "gs.rpc.write_service.v1.ClientWrite", "getClientId"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.write.GetClientIdRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.write.GetClientIdResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.graphscope.proto.write.BatchWriteRequest,
+      com.alibaba.graphscope.proto.write.BatchWriteResponse> METHOD_BATCH_WRITE =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "gs.rpc.write_service.v1.ClientWrite", "batchWrite"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.write.BatchWriteRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.write.BatchWriteResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.graphscope.proto.write.RemoteFlushRequest,
+      com.alibaba.graphscope.proto.write.RemoteFlushResponse> METHOD_REMOTE_FLUSH =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "gs.rpc.write_service.v1.ClientWrite", "remoteFlush"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.write.RemoteFlushRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.graphscope.proto.write.RemoteFlushResponse.getDefaultInstance()));
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static ClientWriteStub newStub(io.grpc.Channel channel) {
+    return new ClientWriteStub(channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientWriteBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    return new ClientWriteBlockingStub(channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientWriteFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    return new ClientWriteFutureStub(channel);
+  }
+
+  /**
+   */
+  public static abstract class ClientWriteImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void getClientId(com.alibaba.graphscope.proto.write.GetClientIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.GetClientIdResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_GET_CLIENT_ID, responseObserver);
+    }
+
+    /**
+     */
+    public void batchWrite(com.alibaba.graphscope.proto.write.BatchWriteRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.BatchWriteResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_BATCH_WRITE, responseObserver);
+    }
+
+    /**
+     */
+    public void remoteFlush(com.alibaba.graphscope.proto.write.RemoteFlushRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.RemoteFlushResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_REMOTE_FLUSH, responseObserver);
+    }
+
+    @java.lang.Override public io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            METHOD_GET_CLIENT_ID,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.graphscope.proto.write.GetClientIdRequest,
+                com.alibaba.graphscope.proto.write.GetClientIdResponse>(
+                  this, METHODID_GET_CLIENT_ID)))
+          .addMethod(
+            METHOD_BATCH_WRITE,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.graphscope.proto.write.BatchWriteRequest,
+                com.alibaba.graphscope.proto.write.BatchWriteResponse>(
+                  this, METHODID_BATCH_WRITE)))
+          .addMethod(
+            METHOD_REMOTE_FLUSH,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.graphscope.proto.write.RemoteFlushRequest,
+                com.alibaba.graphscope.proto.write.RemoteFlushResponse>(
+                  this, METHODID_REMOTE_FLUSH)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class ClientWriteStub extends io.grpc.stub.AbstractStub<ClientWriteStub> {
+    private ClientWriteStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientWriteStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientWriteStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientWriteStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getClientId(com.alibaba.graphscope.proto.write.GetClientIdRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.GetClientIdResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_GET_CLIENT_ID, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void batchWrite(com.alibaba.graphscope.proto.write.BatchWriteRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.BatchWriteResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_BATCH_WRITE, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void remoteFlush(com.alibaba.graphscope.proto.write.RemoteFlushRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.RemoteFlushResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_REMOTE_FLUSH, getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientWriteBlockingStub extends io.grpc.stub.AbstractStub<ClientWriteBlockingStub> {
+    private ClientWriteBlockingStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientWriteBlockingStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientWriteBlockingStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientWriteBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.graphscope.proto.write.GetClientIdResponse getClientId(com.alibaba.graphscope.proto.write.GetClientIdRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_GET_CLIENT_ID, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.graphscope.proto.write.BatchWriteResponse batchWrite(com.alibaba.graphscope.proto.write.BatchWriteRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_BATCH_WRITE, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.graphscope.proto.write.RemoteFlushResponse remoteFlush(com.alibaba.graphscope.proto.write.RemoteFlushRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_REMOTE_FLUSH, getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientWriteFutureStub extends io.grpc.stub.AbstractStub<ClientWriteFutureStub> {
+    private ClientWriteFutureStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientWriteFutureStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientWriteFutureStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientWriteFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.graphscope.proto.write.GetClientIdResponse> getClientId(
+        com.alibaba.graphscope.proto.write.GetClientIdRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_GET_CLIENT_ID, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.graphscope.proto.write.BatchWriteResponse> batchWrite(
+        com.alibaba.graphscope.proto.write.BatchWriteRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_BATCH_WRITE, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.graphscope.proto.write.RemoteFlushResponse> remoteFlush(
+        com.alibaba.graphscope.proto.write.RemoteFlushRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_REMOTE_FLUSH, getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_CLIENT_ID = 0;
+  private static final int METHODID_BATCH_WRITE = 1;
+  private static final int METHODID_REMOTE_FLUSH = 2;
+
+  private static class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final ClientWriteImplBase serviceImpl;
+    private final int methodId;
+
+    public MethodHandlers(ClientWriteImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_CLIENT_ID:
+          serviceImpl.getClientId((com.alibaba.graphscope.proto.write.GetClientIdRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.GetClientIdResponse>) responseObserver);
+          break;
+        case METHODID_BATCH_WRITE:
+          serviceImpl.batchWrite((com.alibaba.graphscope.proto.write.BatchWriteRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.BatchWriteResponse>) responseObserver);
+          break;
+        case METHODID_REMOTE_FLUSH:
+          serviceImpl.remoteFlush((com.alibaba.graphscope.proto.write.RemoteFlushRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.graphscope.proto.write.RemoteFlushResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    return new io.grpc.ServiceDescriptor(SERVICE_NAME,
+        METHOD_GET_CLIENT_ID,
+        METHOD_BATCH_WRITE,
+        METHOD_REMOTE_FLUSH);
+  }
+
+}
@@ -0,0 +1,1094 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+/**
+ * Protobuf type {@code gs.rpc.write_service.v1.DataRecordPb}
+ */
+public  final class DataRecordPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.write_service.v1.DataRecordPb)
+    DataRecordPbOrBuilder {
+  // Use DataRecordPb.newBuilder() to construct.
+  private DataRecordPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DataRecordPb() {
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private DataRecordPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder subBuilder = null;
+            if (recordKeyCase_ == 1) {
+              subBuilder = ((com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_).toBuilder();
+            }
+            recordKey_ =
+                input.readMessage(com.alibaba.graphscope.proto.write.VertexRecordKeyPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_);
+              recordKey_ = subBuilder.buildPartial();
+            }
+            recordKeyCase_ = 1;
+            break;
+          }
+          case 18: {
+            com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.Builder subBuilder = null;
+            if (recordKeyCase_ == 2) {
+              subBuilder = ((com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_).toBuilder();
+            }
+            recordKey_ =
+                input.readMessage(com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_);
+              recordKey_ = subBuilder.buildPartial();
+            }
+            recordKeyCase_ = 2;
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+              properties_ = com.google.protobuf.MapField.newMapField(
+                  PropertiesDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000004;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+            properties = input.readMessage(
+                PropertiesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            properties_.getMutableMap().put(properties.getKey(), properties.getValue());
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_DataRecordPb_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 3:
+        return internalGetProperties();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_DataRecordPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.write.DataRecordPb.class, com.alibaba.graphscope.proto.write.DataRecordPb.Builder.class);
+  }
+
+  private int bitField0_;
+  private int recordKeyCase_ = 0;
+  private java.lang.Object recordKey_;
+  public enum RecordKeyCase
+      implements com.google.protobuf.Internal.EnumLite {
+    VERTEX_RECORD_KEY(1),
+    EDGE_RECORD_KEY(2),
+    RECORDKEY_NOT_SET(0);
+    private final int value;
+    private RecordKeyCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static RecordKeyCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static RecordKeyCase forNumber(int value) {
+      switch (value) {
+        case 1: return VERTEX_RECORD_KEY;
+        case 2: return EDGE_RECORD_KEY;
+        case 0: return RECORDKEY_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public RecordKeyCase
+  getRecordKeyCase() {
+    return RecordKeyCase.forNumber(
+        recordKeyCase_);
+  }
+
+  public static final int VERTEX_RECORD_KEY_FIELD_NUMBER = 1;
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.write.VertexRecordKeyPb getVertexRecordKey() {
+    if (recordKeyCase_ == 1) {
+       return (com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_;
+    }
+    return com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance();
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getVertexRecordKeyOrBuilder() {
+    if (recordKeyCase_ == 1) {
+       return (com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_;
+    }
+    return com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance();
+  }
+
+  public static final int EDGE_RECORD_KEY_FIELD_NUMBER = 2;
+  /**
+   * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.write.EdgeRecordKeyPb getEdgeRecordKey() {
+    if (recordKeyCase_ == 2) {
+       return (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_;
+    }
+    return com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance();
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.write.EdgeRecordKeyPbOrBuilder getEdgeRecordKeyOrBuilder() {
+    if (recordKeyCase_ == 2) {
+       return (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_;
+    }
+    return com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance();
+  }
+
+  public static final int PROPERTIES_FIELD_NUMBER = 3;
+  private static final class PropertiesDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.String>newDefaultInstance(
+                com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_DataRecordPb_PropertiesEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.String> properties_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+  internalGetProperties() {
+    if (properties_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PropertiesDefaultEntryHolder.defaultEntry);
+    }
+    return properties_;
+  }
+
+  public int getPropertiesCount() {
+    return internalGetProperties().getMap().size();
+  }
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+
+  public boolean containsProperties(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetProperties().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPropertiesMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.String> getProperties() {
+    return getPropertiesMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.String> getPropertiesMap() {
+    return internalGetProperties().getMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+
+  public java.lang.String getPropertiesOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetProperties().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+
+  public java.lang.String getPropertiesOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetProperties().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (recordKeyCase_ == 1) {
+      output.writeMessage(1, (com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_);
+    }
+    if (recordKeyCase_ == 2) {
+      output.writeMessage(2, (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetProperties().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      properties = PropertiesDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(3, properties);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (recordKeyCase_ == 1) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, (com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_);
+    }
+    if (recordKeyCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetProperties().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      properties = PropertiesDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, properties);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.write.DataRecordPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.write.DataRecordPb other = (com.alibaba.graphscope.proto.write.DataRecordPb) obj;
+
+    boolean result = true;
+    result = result && internalGetProperties().equals(
+        other.internalGetProperties());
+    result = result && getRecordKeyCase().equals(
+        other.getRecordKeyCase());
+    if (!result) return false;
+    switch (recordKeyCase_) {
+      case 1:
+        result = result && getVertexRecordKey()
+            .equals(other.getVertexRecordKey());
+        break;
+      case 2:
+        result = result && getEdgeRecordKey()
+            .equals(other.getEdgeRecordKey());
+        break;
+      case 0:
+      default:
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (!internalGetProperties().getMap().isEmpty()) {
+      hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetProperties().hashCode();
+    }
+    switch (recordKeyCase_) {
+      case 1:
+        hash = (37 * hash) + VERTEX_RECORD_KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getVertexRecordKey().hashCode();
+        break;
+      case 2:
+        hash = (37 * hash) + EDGE_RECORD_KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getEdgeRecordKey().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.DataRecordPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.write.DataRecordPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.write_service.v1.DataRecordPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.write_service.v1.DataRecordPb)
+      com.alibaba.graphscope.proto.write.DataRecordPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_DataRecordPb_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 3:
+          return internalGetProperties();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 3:
+          return internalGetMutableProperties();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_DataRecordPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.write.DataRecordPb.class, com.alibaba.graphscope.proto.write.DataRecordPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.write.DataRecordPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      internalGetMutableProperties().clear();
+      recordKeyCase_ = 0;
+      recordKey_ = null;
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_DataRecordPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.write.DataRecordPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.write.DataRecordPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.write.DataRecordPb build() {
+      com.alibaba.graphscope.proto.write.DataRecordPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.write.DataRecordPb buildPartial() {
+      com.alibaba.graphscope.proto.write.DataRecordPb result = new com.alibaba.graphscope.proto.write.DataRecordPb(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (recordKeyCase_ == 1) {
+        if (vertexRecordKeyBuilder_ == null) {
+          result.recordKey_ = recordKey_;
+        } else {
+          result.recordKey_ = vertexRecordKeyBuilder_.build();
+        }
+      }
+      if (recordKeyCase_ == 2) {
+        if (edgeRecordKeyBuilder_ == null) {
+          result.recordKey_ = recordKey_;
+        } else {
+          result.recordKey_ = edgeRecordKeyBuilder_.build();
+        }
+      }
+      result.properties_ = internalGetProperties();
+      result.properties_.makeImmutable();
+      result.bitField0_ = to_bitField0_;
+      result.recordKeyCase_ = recordKeyCase_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.write.DataRecordPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.write.DataRecordPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.write.DataRecordPb other) {
+      if (other == com.alibaba.graphscope.proto.write.DataRecordPb.getDefaultInstance()) return this;
+      internalGetMutableProperties().mergeFrom(
+          other.internalGetProperties());
+      switch (other.getRecordKeyCase()) {
+        case VERTEX_RECORD_KEY: {
+          mergeVertexRecordKey(other.getVertexRecordKey());
+          break;
+        }
+        case EDGE_RECORD_KEY: {
+          mergeEdgeRecordKey(other.getEdgeRecordKey());
+          break;
+        }
+        case RECORDKEY_NOT_SET: {
+          break;
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.write.DataRecordPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.write.DataRecordPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int recordKeyCase_ = 0;
+    private java.lang.Object recordKey_;
+    public RecordKeyCase
+        getRecordKeyCase() {
+      return RecordKeyCase.forNumber(
+          recordKeyCase_);
+    }
+
+    public Builder clearRecordKey() {
+      recordKeyCase_ = 0;
+      recordKey_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder> vertexRecordKeyBuilder_;
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPb getVertexRecordKey() {
+      if (vertexRecordKeyBuilder_ == null) {
+        if (recordKeyCase_ == 1) {
+          return (com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_;
+        }
+        return com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance();
+      } else {
+        if (recordKeyCase_ == 1) {
+          return vertexRecordKeyBuilder_.getMessage();
+        }
+        return com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+     */
+    public Builder setVertexRecordKey(com.alibaba.graphscope.proto.write.VertexRecordKeyPb value) {
+      if (vertexRecordKeyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        recordKey_ = value;
+        onChanged();
+      } else {
+        vertexRecordKeyBuilder_.setMessage(value);
+      }
+      recordKeyCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+     */
+    public Builder setVertexRecordKey(
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder builderForValue) {
+      if (vertexRecordKeyBuilder_ == null) {
+        recordKey_ = builderForValue.build();
+        onChanged();
+      } else {
+        vertexRecordKeyBuilder_.setMessage(builderForValue.build());
+      }
+      recordKeyCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+     */
+    public Builder mergeVertexRecordKey(com.alibaba.graphscope.proto.write.VertexRecordKeyPb value) {
+      if (vertexRecordKeyBuilder_ == null) {
+        if (recordKeyCase_ == 1 &&
+            recordKey_ != com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance()) {
+          recordKey_ = com.alibaba.graphscope.proto.write.VertexRecordKeyPb.newBuilder((com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          recordKey_ = value;
+        }
+        onChanged();
+      } else {
+        if (recordKeyCase_ == 1) {
+          vertexRecordKeyBuilder_.mergeFrom(value);
+        }
+        vertexRecordKeyBuilder_.setMessage(value);
+      }
+      recordKeyCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+     */
+    public Builder clearVertexRecordKey() {
+      if (vertexRecordKeyBuilder_ == null) {
+        if (recordKeyCase_ == 1) {
+          recordKeyCase_ = 0;
+          recordKey_ = null;
+          onChanged();
+        }
+      } else {
+        if (recordKeyCase_ == 1) {
+          recordKeyCase_ = 0;
+          recordKey_ = null;
+        }
+        vertexRecordKeyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder getVertexRecordKeyBuilder() {
+      return getVertexRecordKeyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getVertexRecordKeyOrBuilder() {
+      if ((recordKeyCase_ == 1) && (vertexRecordKeyBuilder_ != null)) {
+        return vertexRecordKeyBuilder_.getMessageOrBuilder();
+      } else {
+        if (recordKeyCase_ == 1) {
+          return (com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_;
+        }
+        return com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder> 
+        getVertexRecordKeyFieldBuilder() {
+      if (vertexRecordKeyBuilder_ == null) {
+        if (!(recordKeyCase_ == 1)) {
+          recordKey_ = com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance();
+        }
+        vertexRecordKeyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder>(
+                (com.alibaba.graphscope.proto.write.VertexRecordKeyPb) recordKey_,
+                getParentForChildren(),
+                isClean());
+        recordKey_ = null;
+      }
+      recordKeyCase_ = 1;
+      onChanged();;
+      return vertexRecordKeyBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.EdgeRecordKeyPb, com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.EdgeRecordKeyPbOrBuilder> edgeRecordKeyBuilder_;
+    /**
+     * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.EdgeRecordKeyPb getEdgeRecordKey() {
+      if (edgeRecordKeyBuilder_ == null) {
+        if (recordKeyCase_ == 2) {
+          return (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_;
+        }
+        return com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance();
+      } else {
+        if (recordKeyCase_ == 2) {
+          return edgeRecordKeyBuilder_.getMessage();
+        }
+        return com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+     */
+    public Builder setEdgeRecordKey(com.alibaba.graphscope.proto.write.EdgeRecordKeyPb value) {
+      if (edgeRecordKeyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        recordKey_ = value;
+        onChanged();
+      } else {
+        edgeRecordKeyBuilder_.setMessage(value);
+      }
+      recordKeyCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+     */
+    public Builder setEdgeRecordKey(
+        com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.Builder builderForValue) {
+      if (edgeRecordKeyBuilder_ == null) {
+        recordKey_ = builderForValue.build();
+        onChanged();
+      } else {
+        edgeRecordKeyBuilder_.setMessage(builderForValue.build());
+      }
+      recordKeyCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+     */
+    public Builder mergeEdgeRecordKey(com.alibaba.graphscope.proto.write.EdgeRecordKeyPb value) {
+      if (edgeRecordKeyBuilder_ == null) {
+        if (recordKeyCase_ == 2 &&
+            recordKey_ != com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance()) {
+          recordKey_ = com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.newBuilder((com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          recordKey_ = value;
+        }
+        onChanged();
+      } else {
+        if (recordKeyCase_ == 2) {
+          edgeRecordKeyBuilder_.mergeFrom(value);
+        }
+        edgeRecordKeyBuilder_.setMessage(value);
+      }
+      recordKeyCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+     */
+    public Builder clearEdgeRecordKey() {
+      if (edgeRecordKeyBuilder_ == null) {
+        if (recordKeyCase_ == 2) {
+          recordKeyCase_ = 0;
+          recordKey_ = null;
+          onChanged();
+        }
+      } else {
+        if (recordKeyCase_ == 2) {
+          recordKeyCase_ = 0;
+          recordKey_ = null;
+        }
+        edgeRecordKeyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.Builder getEdgeRecordKeyBuilder() {
+      return getEdgeRecordKeyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.EdgeRecordKeyPbOrBuilder getEdgeRecordKeyOrBuilder() {
+      if ((recordKeyCase_ == 2) && (edgeRecordKeyBuilder_ != null)) {
+        return edgeRecordKeyBuilder_.getMessageOrBuilder();
+      } else {
+        if (recordKeyCase_ == 2) {
+          return (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_;
+        }
+        return com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.EdgeRecordKeyPb, com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.EdgeRecordKeyPbOrBuilder> 
+        getEdgeRecordKeyFieldBuilder() {
+      if (edgeRecordKeyBuilder_ == null) {
+        if (!(recordKeyCase_ == 2)) {
+          recordKey_ = com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance();
+        }
+        edgeRecordKeyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.write.EdgeRecordKeyPb, com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.EdgeRecordKeyPbOrBuilder>(
+                (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) recordKey_,
+                getParentForChildren(),
+                isClean());
+        recordKey_ = null;
+      }
+      recordKeyCase_ = 2;
+      onChanged();;
+      return edgeRecordKeyBuilder_;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> properties_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetProperties() {
+      if (properties_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PropertiesDefaultEntryHolder.defaultEntry);
+      }
+      return properties_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMutableProperties() {
+      onChanged();;
+      if (properties_ == null) {
+        properties_ = com.google.protobuf.MapField.newMapField(
+            PropertiesDefaultEntryHolder.defaultEntry);
+      }
+      if (!properties_.isMutable()) {
+        properties_ = properties_.copy();
+      }
+      return properties_;
+    }
+
+    public int getPropertiesCount() {
+      return internalGetProperties().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 3;</code>
+     */
+
+    public boolean containsProperties(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetProperties().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPropertiesMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getProperties() {
+      return getPropertiesMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 3;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getPropertiesMap() {
+      return internalGetProperties().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 3;</code>
+     */
+
+    public java.lang.String getPropertiesOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetProperties().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 3;</code>
+     */
+
+    public java.lang.String getPropertiesOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetProperties().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearProperties() {
+      getMutableProperties().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 3;</code>
+     */
+
+    public Builder removeProperties(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      getMutableProperties().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String>
+    getMutableProperties() {
+      return internalGetMutableProperties().getMutableMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 3;</code>
+     */
+    public Builder putProperties(
+        java.lang.String key,
+        java.lang.String value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      getMutableProperties().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 3;</code>
+     */
+
+    public Builder putAllProperties(
+        java.util.Map<java.lang.String, java.lang.String> values) {
+      getMutableProperties().putAll(values);
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.write_service.v1.DataRecordPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.write_service.v1.DataRecordPb)
+  private static final com.alibaba.graphscope.proto.write.DataRecordPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.write.DataRecordPb();
+  }
+
+  public static com.alibaba.graphscope.proto.write.DataRecordPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DataRecordPb>
+      PARSER = new com.google.protobuf.AbstractParser<DataRecordPb>() {
+    public DataRecordPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DataRecordPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DataRecordPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DataRecordPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.write.DataRecordPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,63 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public interface DataRecordPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.write_service.v1.DataRecordPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+   */
+  com.alibaba.graphscope.proto.write.VertexRecordKeyPb getVertexRecordKey();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb vertex_record_key = 1;</code>
+   */
+  com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getVertexRecordKeyOrBuilder();
+
+  /**
+   * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+   */
+  com.alibaba.graphscope.proto.write.EdgeRecordKeyPb getEdgeRecordKey();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.EdgeRecordKeyPb edge_record_key = 2;</code>
+   */
+  com.alibaba.graphscope.proto.write.EdgeRecordKeyPbOrBuilder getEdgeRecordKeyOrBuilder();
+
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+  int getPropertiesCount();
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+  boolean containsProperties(
+      java.lang.String key);
+  /**
+   * Use {@link #getPropertiesMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getProperties();
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getPropertiesMap();
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+
+  java.lang.String getPropertiesOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; properties = 3;</code>
+   */
+
+  java.lang.String getPropertiesOrThrow(
+      java.lang.String key);
+
+  public com.alibaba.graphscope.proto.write.DataRecordPb.RecordKeyCase getRecordKeyCase();
+}
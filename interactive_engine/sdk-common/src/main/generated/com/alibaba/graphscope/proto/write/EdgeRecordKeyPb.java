@@ -0,0 +1,915 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+/**
+ * Protobuf type {@code gs.rpc.write_service.v1.EdgeRecordKeyPb}
+ */
+public  final class EdgeRecordKeyPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.write_service.v1.EdgeRecordKeyPb)
+    EdgeRecordKeyPbOrBuilder {
+  // Use EdgeRecordKeyPb.newBuilder() to construct.
+  private EdgeRecordKeyPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private EdgeRecordKeyPb() {
+    label_ = "";
+    innerId_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private EdgeRecordKeyPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 18: {
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder subBuilder = null;
+            if (srcVertexKey_ != null) {
+              subBuilder = srcVertexKey_.toBuilder();
+            }
+            srcVertexKey_ = input.readMessage(com.alibaba.graphscope.proto.write.VertexRecordKeyPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(srcVertexKey_);
+              srcVertexKey_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 26: {
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder subBuilder = null;
+            if (dstVertexKey_ != null) {
+              subBuilder = dstVertexKey_.toBuilder();
+            }
+            dstVertexKey_ = input.readMessage(com.alibaba.graphscope.proto.write.VertexRecordKeyPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(dstVertexKey_);
+              dstVertexKey_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 32: {
+
+            innerId_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.class, com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.Builder.class);
+  }
+
+  public static final int LABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SRC_VERTEX_KEY_FIELD_NUMBER = 2;
+  private com.alibaba.graphscope.proto.write.VertexRecordKeyPb srcVertexKey_;
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+   */
+  public boolean hasSrcVertexKey() {
+    return srcVertexKey_ != null;
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.write.VertexRecordKeyPb getSrcVertexKey() {
+    return srcVertexKey_ == null ? com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance() : srcVertexKey_;
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getSrcVertexKeyOrBuilder() {
+    return getSrcVertexKey();
+  }
+
+  public static final int DST_VERTEX_KEY_FIELD_NUMBER = 3;
+  private com.alibaba.graphscope.proto.write.VertexRecordKeyPb dstVertexKey_;
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+   */
+  public boolean hasDstVertexKey() {
+    return dstVertexKey_ != null;
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+   */
+  public com.alibaba.graphscope.proto.write.VertexRecordKeyPb getDstVertexKey() {
+    return dstVertexKey_ == null ? com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance() : dstVertexKey_;
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+   */
+  public com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getDstVertexKeyOrBuilder() {
+    return getDstVertexKey();
+  }
+
+  public static final int INNER_ID_FIELD_NUMBER = 4;
+  private long innerId_;
+  /**
+   * <code>optional int64 inner_id = 4;</code>
+   */
+  public long getInnerId() {
+    return innerId_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, label_);
+    }
+    if (srcVertexKey_ != null) {
+      output.writeMessage(2, getSrcVertexKey());
+    }
+    if (dstVertexKey_ != null) {
+      output.writeMessage(3, getDstVertexKey());
+    }
+    if (innerId_ != 0L) {
+      output.writeInt64(4, innerId_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, label_);
+    }
+    if (srcVertexKey_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getSrcVertexKey());
+    }
+    if (dstVertexKey_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getDstVertexKey());
+    }
+    if (innerId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, innerId_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.write.EdgeRecordKeyPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.write.EdgeRecordKeyPb other = (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) obj;
+
+    boolean result = true;
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && (hasSrcVertexKey() == other.hasSrcVertexKey());
+    if (hasSrcVertexKey()) {
+      result = result && getSrcVertexKey()
+          .equals(other.getSrcVertexKey());
+    }
+    result = result && (hasDstVertexKey() == other.hasDstVertexKey());
+    if (hasDstVertexKey()) {
+      result = result && getDstVertexKey()
+          .equals(other.getDstVertexKey());
+    }
+    result = result && (getInnerId()
+        == other.getInnerId());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    if (hasSrcVertexKey()) {
+      hash = (37 * hash) + SRC_VERTEX_KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getSrcVertexKey().hashCode();
+    }
+    if (hasDstVertexKey()) {
+      hash = (37 * hash) + DST_VERTEX_KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getDstVertexKey().hashCode();
+    }
+    hash = (37 * hash) + INNER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getInnerId());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.write.EdgeRecordKeyPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.write_service.v1.EdgeRecordKeyPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.write_service.v1.EdgeRecordKeyPb)
+      com.alibaba.graphscope.proto.write.EdgeRecordKeyPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.class, com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      label_ = "";
+
+      if (srcVertexKeyBuilder_ == null) {
+        srcVertexKey_ = null;
+      } else {
+        srcVertexKey_ = null;
+        srcVertexKeyBuilder_ = null;
+      }
+      if (dstVertexKeyBuilder_ == null) {
+        dstVertexKey_ = null;
+      } else {
+        dstVertexKey_ = null;
+        dstVertexKeyBuilder_ = null;
+      }
+      innerId_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.write.EdgeRecordKeyPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.write.EdgeRecordKeyPb build() {
+      com.alibaba.graphscope.proto.write.EdgeRecordKeyPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.write.EdgeRecordKeyPb buildPartial() {
+      com.alibaba.graphscope.proto.write.EdgeRecordKeyPb result = new com.alibaba.graphscope.proto.write.EdgeRecordKeyPb(this);
+      result.label_ = label_;
+      if (srcVertexKeyBuilder_ == null) {
+        result.srcVertexKey_ = srcVertexKey_;
+      } else {
+        result.srcVertexKey_ = srcVertexKeyBuilder_.build();
+      }
+      if (dstVertexKeyBuilder_ == null) {
+        result.dstVertexKey_ = dstVertexKey_;
+      } else {
+        result.dstVertexKey_ = dstVertexKeyBuilder_.build();
+      }
+      result.innerId_ = innerId_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.write.EdgeRecordKeyPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.write.EdgeRecordKeyPb other) {
+      if (other == com.alibaba.graphscope.proto.write.EdgeRecordKeyPb.getDefaultInstance()) return this;
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (other.hasSrcVertexKey()) {
+        mergeSrcVertexKey(other.getSrcVertexKey());
+      }
+      if (other.hasDstVertexKey()) {
+        mergeDstVertexKey(other.getDstVertexKey());
+      }
+      if (other.getInnerId() != 0L) {
+        setInnerId(other.getInnerId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.write.EdgeRecordKeyPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.write.EdgeRecordKeyPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.graphscope.proto.write.VertexRecordKeyPb srcVertexKey_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder> srcVertexKeyBuilder_;
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    public boolean hasSrcVertexKey() {
+      return srcVertexKeyBuilder_ != null || srcVertexKey_ != null;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPb getSrcVertexKey() {
+      if (srcVertexKeyBuilder_ == null) {
+        return srcVertexKey_ == null ? com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance() : srcVertexKey_;
+      } else {
+        return srcVertexKeyBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    public Builder setSrcVertexKey(com.alibaba.graphscope.proto.write.VertexRecordKeyPb value) {
+      if (srcVertexKeyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        srcVertexKey_ = value;
+        onChanged();
+      } else {
+        srcVertexKeyBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    public Builder setSrcVertexKey(
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder builderForValue) {
+      if (srcVertexKeyBuilder_ == null) {
+        srcVertexKey_ = builderForValue.build();
+        onChanged();
+      } else {
+        srcVertexKeyBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    public Builder mergeSrcVertexKey(com.alibaba.graphscope.proto.write.VertexRecordKeyPb value) {
+      if (srcVertexKeyBuilder_ == null) {
+        if (srcVertexKey_ != null) {
+          srcVertexKey_ =
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb.newBuilder(srcVertexKey_).mergeFrom(value).buildPartial();
+        } else {
+          srcVertexKey_ = value;
+        }
+        onChanged();
+      } else {
+        srcVertexKeyBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    public Builder clearSrcVertexKey() {
+      if (srcVertexKeyBuilder_ == null) {
+        srcVertexKey_ = null;
+        onChanged();
+      } else {
+        srcVertexKey_ = null;
+        srcVertexKeyBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder getSrcVertexKeyBuilder() {
+      
+      onChanged();
+      return getSrcVertexKeyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getSrcVertexKeyOrBuilder() {
+      if (srcVertexKeyBuilder_ != null) {
+        return srcVertexKeyBuilder_.getMessageOrBuilder();
+      } else {
+        return srcVertexKey_ == null ?
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance() : srcVertexKey_;
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder> 
+        getSrcVertexKeyFieldBuilder() {
+      if (srcVertexKeyBuilder_ == null) {
+        srcVertexKeyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder>(
+                getSrcVertexKey(),
+                getParentForChildren(),
+                isClean());
+        srcVertexKey_ = null;
+      }
+      return srcVertexKeyBuilder_;
+    }
+
+    private com.alibaba.graphscope.proto.write.VertexRecordKeyPb dstVertexKey_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder> dstVertexKeyBuilder_;
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    public boolean hasDstVertexKey() {
+      return dstVertexKeyBuilder_ != null || dstVertexKey_ != null;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPb getDstVertexKey() {
+      if (dstVertexKeyBuilder_ == null) {
+        return dstVertexKey_ == null ? com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance() : dstVertexKey_;
+      } else {
+        return dstVertexKeyBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    public Builder setDstVertexKey(com.alibaba.graphscope.proto.write.VertexRecordKeyPb value) {
+      if (dstVertexKeyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        dstVertexKey_ = value;
+        onChanged();
+      } else {
+        dstVertexKeyBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    public Builder setDstVertexKey(
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder builderForValue) {
+      if (dstVertexKeyBuilder_ == null) {
+        dstVertexKey_ = builderForValue.build();
+        onChanged();
+      } else {
+        dstVertexKeyBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    public Builder mergeDstVertexKey(com.alibaba.graphscope.proto.write.VertexRecordKeyPb value) {
+      if (dstVertexKeyBuilder_ == null) {
+        if (dstVertexKey_ != null) {
+          dstVertexKey_ =
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb.newBuilder(dstVertexKey_).mergeFrom(value).buildPartial();
+        } else {
+          dstVertexKey_ = value;
+        }
+        onChanged();
+      } else {
+        dstVertexKeyBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    public Builder clearDstVertexKey() {
+      if (dstVertexKeyBuilder_ == null) {
+        dstVertexKey_ = null;
+        onChanged();
+      } else {
+        dstVertexKey_ = null;
+        dstVertexKeyBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder getDstVertexKeyBuilder() {
+      
+      onChanged();
+      return getDstVertexKeyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    public com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getDstVertexKeyOrBuilder() {
+      if (dstVertexKeyBuilder_ != null) {
+        return dstVertexKeyBuilder_.getMessageOrBuilder();
+      } else {
+        return dstVertexKey_ == null ?
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb.getDefaultInstance() : dstVertexKey_;
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder> 
+        getDstVertexKeyFieldBuilder() {
+      if (dstVertexKeyBuilder_ == null) {
+        dstVertexKeyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.write.VertexRecordKeyPb, com.alibaba.graphscope.proto.write.VertexRecordKeyPb.Builder, com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder>(
+                getDstVertexKey(),
+                getParentForChildren(),
+                isClean());
+        dstVertexKey_ = null;
+      }
+      return dstVertexKeyBuilder_;
+    }
+
+    private long innerId_ ;
+    /**
+     * <code>optional int64 inner_id = 4;</code>
+     */
+    public long getInnerId() {
+      return innerId_;
+    }
+    /**
+     * <code>optional int64 inner_id = 4;</code>
+     */
+    public Builder setInnerId(long value) {
+      
+      innerId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 inner_id = 4;</code>
+     */
+    public Builder clearInnerId() {
+      
+      innerId_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.write_service.v1.EdgeRecordKeyPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.write_service.v1.EdgeRecordKeyPb)
+  private static final com.alibaba.graphscope.proto.write.EdgeRecordKeyPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.write.EdgeRecordKeyPb();
+  }
+
+  public static com.alibaba.graphscope.proto.write.EdgeRecordKeyPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EdgeRecordKeyPb>
+      PARSER = new com.google.protobuf.AbstractParser<EdgeRecordKeyPb>() {
+    public EdgeRecordKeyPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeRecordKeyPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<EdgeRecordKeyPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EdgeRecordKeyPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.write.EdgeRecordKeyPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,50 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public interface EdgeRecordKeyPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.write_service.v1.EdgeRecordKeyPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+   */
+  boolean hasSrcVertexKey();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+   */
+  com.alibaba.graphscope.proto.write.VertexRecordKeyPb getSrcVertexKey();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb src_vertex_key = 2;</code>
+   */
+  com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getSrcVertexKeyOrBuilder();
+
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+   */
+  boolean hasDstVertexKey();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+   */
+  com.alibaba.graphscope.proto.write.VertexRecordKeyPb getDstVertexKey();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.VertexRecordKeyPb dst_vertex_key = 3;</code>
+   */
+  com.alibaba.graphscope.proto.write.VertexRecordKeyPbOrBuilder getDstVertexKeyOrBuilder();
+
+  /**
+   * <code>optional int64 inner_id = 4;</code>
+   */
+  long getInnerId();
+}
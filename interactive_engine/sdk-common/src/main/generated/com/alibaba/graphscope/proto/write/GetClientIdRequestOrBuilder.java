@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public interface GetClientIdRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.write_service.v1.GetClientIdRequest)
+    com.google.protobuf.MessageOrBuilder {
+}
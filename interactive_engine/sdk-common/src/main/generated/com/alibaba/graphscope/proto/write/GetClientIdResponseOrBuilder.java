@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public interface GetClientIdResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.write_service.v1.GetClientIdResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string client_id = 1;</code>
+   */
+  java.lang.String getClientId();
+  /**
+   * <code>optional string client_id = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getClientIdBytes();
+}
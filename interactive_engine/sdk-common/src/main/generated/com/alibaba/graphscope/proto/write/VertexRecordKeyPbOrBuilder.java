@@ -0,0 +1,53 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public interface VertexRecordKeyPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.write_service.v1.VertexRecordKeyPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>map&lt;string, string&gt; pk_properties = 2;</code>
+   */
+  int getPkPropertiesCount();
+  /**
+   * <code>map&lt;string, string&gt; pk_properties = 2;</code>
+   */
+  boolean containsPkProperties(
+      java.lang.String key);
+  /**
+   * Use {@link #getPkPropertiesMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getPkProperties();
+  /**
+   * <code>map&lt;string, string&gt; pk_properties = 2;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getPkPropertiesMap();
+  /**
+   * <code>map&lt;string, string&gt; pk_properties = 2;</code>
+   */
+
+  java.lang.String getPkPropertiesOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; pk_properties = 2;</code>
+   */
+
+  java.lang.String getPkPropertiesOrThrow(
+      java.lang.String key);
+}
@@ -0,0 +1,631 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+/**
+ * Protobuf type {@code gs.rpc.write_service.v1.WriteRequestPb}
+ */
+public  final class WriteRequestPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:gs.rpc.write_service.v1.WriteRequestPb)
+    WriteRequestPbOrBuilder {
+  // Use WriteRequestPb.newBuilder() to construct.
+  private WriteRequestPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private WriteRequestPb() {
+    writeType_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private WriteRequestPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            int rawValue = input.readEnum();
+
+            writeType_ = rawValue;
+            break;
+          }
+          case 18: {
+            com.alibaba.graphscope.proto.write.DataRecordPb.Builder subBuilder = null;
+            if (dataRecord_ != null) {
+              subBuilder = dataRecord_.toBuilder();
+            }
+            dataRecord_ = input.readMessage(com.alibaba.graphscope.proto.write.DataRecordPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(dataRecord_);
+              dataRecord_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_WriteRequestPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_WriteRequestPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.graphscope.proto.write.WriteRequestPb.class, com.alibaba.graphscope.proto.write.WriteRequestPb.Builder.class);
+  }
+
+  public static final int WRITE_TYPE_FIELD_NUMBER = 1;
+  private int writeType_;
+  /**
+   * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+   */
+  public int getWriteTypeValue() {
+    return writeType_;
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+   */
+  public com.alibaba.graphscope.proto.write.WriteTypePb getWriteType() {
+    com.alibaba.graphscope.proto.write.WriteTypePb result = com.alibaba.graphscope.proto.write.WriteTypePb.valueOf(writeType_);
+    return result == null ? com.alibaba.graphscope.proto.write.WriteTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int DATA_RECORD_FIELD_NUMBER = 2;
+  private com.alibaba.graphscope.proto.write.DataRecordPb dataRecord_;
+  /**
+   * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+   */
+  public boolean hasDataRecord() {
+    return dataRecord_ != null;
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.write.DataRecordPb getDataRecord() {
+    return dataRecord_ == null ? com.alibaba.graphscope.proto.write.DataRecordPb.getDefaultInstance() : dataRecord_;
+  }
+  /**
+   * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+   */
+  public com.alibaba.graphscope.proto.write.DataRecordPbOrBuilder getDataRecordOrBuilder() {
+    return getDataRecord();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (writeType_ != com.alibaba.graphscope.proto.write.WriteTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(1, writeType_);
+    }
+    if (dataRecord_ != null) {
+      output.writeMessage(2, getDataRecord());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (writeType_ != com.alibaba.graphscope.proto.write.WriteTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, writeType_);
+    }
+    if (dataRecord_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getDataRecord());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.graphscope.proto.write.WriteRequestPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.graphscope.proto.write.WriteRequestPb other = (com.alibaba.graphscope.proto.write.WriteRequestPb) obj;
+
+    boolean result = true;
+    result = result && writeType_ == other.writeType_;
+    result = result && (hasDataRecord() == other.hasDataRecord());
+    if (hasDataRecord()) {
+      result = result && getDataRecord()
+          .equals(other.getDataRecord());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + WRITE_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + writeType_;
+    if (hasDataRecord()) {
+      hash = (37 * hash) + DATA_RECORD_FIELD_NUMBER;
+      hash = (53 * hash) + getDataRecord().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.graphscope.proto.write.WriteRequestPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code gs.rpc.write_service.v1.WriteRequestPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:gs.rpc.write_service.v1.WriteRequestPb)
+      com.alibaba.graphscope.proto.write.WriteRequestPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_WriteRequestPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_WriteRequestPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.proto.write.WriteRequestPb.class, com.alibaba.graphscope.proto.write.WriteRequestPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.graphscope.proto.write.WriteRequestPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      writeType_ = 0;
+
+      if (dataRecordBuilder_ == null) {
+        dataRecord_ = null;
+      } else {
+        dataRecord_ = null;
+        dataRecordBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.graphscope.proto.write.WriteService.internal_static_gs_rpc_write_service_v1_WriteRequestPb_descriptor;
+    }
+
+    public com.alibaba.graphscope.proto.write.WriteRequestPb getDefaultInstanceForType() {
+      return com.alibaba.graphscope.proto.write.WriteRequestPb.getDefaultInstance();
+    }
+
+    public com.alibaba.graphscope.proto.write.WriteRequestPb build() {
+      com.alibaba.graphscope.proto.write.WriteRequestPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.graphscope.proto.write.WriteRequestPb buildPartial() {
+      com.alibaba.graphscope.proto.write.WriteRequestPb result = new com.alibaba.graphscope.proto.write.WriteRequestPb(this);
+      result.writeType_ = writeType_;
+      if (dataRecordBuilder_ == null) {
+        result.dataRecord_ = dataRecord_;
+      } else {
+        result.dataRecord_ = dataRecordBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.graphscope.proto.write.WriteRequestPb) {
+        return mergeFrom((com.alibaba.graphscope.proto.write.WriteRequestPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.graphscope.proto.write.WriteRequestPb other) {
+      if (other == com.alibaba.graphscope.proto.write.WriteRequestPb.getDefaultInstance()) return this;
+      if (other.writeType_ != 0) {
+        setWriteTypeValue(other.getWriteTypeValue());
+      }
+      if (other.hasDataRecord()) {
+        mergeDataRecord(other.getDataRecord());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.graphscope.proto.write.WriteRequestPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.graphscope.proto.write.WriteRequestPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int writeType_ = 0;
+    /**
+     * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+     */
+    public int getWriteTypeValue() {
+      return writeType_;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+     */
+    public Builder setWriteTypeValue(int value) {
+      writeType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+     */
+    public com.alibaba.graphscope.proto.write.WriteTypePb getWriteType() {
+      com.alibaba.graphscope.proto.write.WriteTypePb result = com.alibaba.graphscope.proto.write.WriteTypePb.valueOf(writeType_);
+      return result == null ? com.alibaba.graphscope.proto.write.WriteTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+     */
+    public Builder setWriteType(com.alibaba.graphscope.proto.write.WriteTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      writeType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+     */
+    public Builder clearWriteType() {
+      
+      writeType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.graphscope.proto.write.DataRecordPb dataRecord_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.DataRecordPb, com.alibaba.graphscope.proto.write.DataRecordPb.Builder, com.alibaba.graphscope.proto.write.DataRecordPbOrBuilder> dataRecordBuilder_;
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    public boolean hasDataRecord() {
+      return dataRecordBuilder_ != null || dataRecord_ != null;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.DataRecordPb getDataRecord() {
+      if (dataRecordBuilder_ == null) {
+        return dataRecord_ == null ? com.alibaba.graphscope.proto.write.DataRecordPb.getDefaultInstance() : dataRecord_;
+      } else {
+        return dataRecordBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    public Builder setDataRecord(com.alibaba.graphscope.proto.write.DataRecordPb value) {
+      if (dataRecordBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        dataRecord_ = value;
+        onChanged();
+      } else {
+        dataRecordBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    public Builder setDataRecord(
+        com.alibaba.graphscope.proto.write.DataRecordPb.Builder builderForValue) {
+      if (dataRecordBuilder_ == null) {
+        dataRecord_ = builderForValue.build();
+        onChanged();
+      } else {
+        dataRecordBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    public Builder mergeDataRecord(com.alibaba.graphscope.proto.write.DataRecordPb value) {
+      if (dataRecordBuilder_ == null) {
+        if (dataRecord_ != null) {
+          dataRecord_ =
+            com.alibaba.graphscope.proto.write.DataRecordPb.newBuilder(dataRecord_).mergeFrom(value).buildPartial();
+        } else {
+          dataRecord_ = value;
+        }
+        onChanged();
+      } else {
+        dataRecordBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    public Builder clearDataRecord() {
+      if (dataRecordBuilder_ == null) {
+        dataRecord_ = null;
+        onChanged();
+      } else {
+        dataRecord_ = null;
+        dataRecordBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.DataRecordPb.Builder getDataRecordBuilder() {
+      
+      onChanged();
+      return getDataRecordFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    public com.alibaba.graphscope.proto.write.DataRecordPbOrBuilder getDataRecordOrBuilder() {
+      if (dataRecordBuilder_ != null) {
+        return dataRecordBuilder_.getMessageOrBuilder();
+      } else {
+        return dataRecord_ == null ?
+            com.alibaba.graphscope.proto.write.DataRecordPb.getDefaultInstance() : dataRecord_;
+      }
+    }
+    /**
+     * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.graphscope.proto.write.DataRecordPb, com.alibaba.graphscope.proto.write.DataRecordPb.Builder, com.alibaba.graphscope.proto.write.DataRecordPbOrBuilder> 
+        getDataRecordFieldBuilder() {
+      if (dataRecordBuilder_ == null) {
+        dataRecordBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.proto.write.DataRecordPb, com.alibaba.graphscope.proto.write.DataRecordPb.Builder, com.alibaba.graphscope.proto.write.DataRecordPbOrBuilder>(
+                getDataRecord(),
+                getParentForChildren(),
+                isClean());
+        dataRecord_ = null;
+      }
+      return dataRecordBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:gs.rpc.write_service.v1.WriteRequestPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:gs.rpc.write_service.v1.WriteRequestPb)
+  private static final com.alibaba.graphscope.proto.write.WriteRequestPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.graphscope.proto.write.WriteRequestPb();
+  }
+
+  public static com.alibaba.graphscope.proto.write.WriteRequestPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<WriteRequestPb>
+      PARSER = new com.google.protobuf.AbstractParser<WriteRequestPb>() {
+    public WriteRequestPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WriteRequestPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<WriteRequestPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<WriteRequestPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.graphscope.proto.write.WriteRequestPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,31 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public interface WriteRequestPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:gs.rpc.write_service.v1.WriteRequestPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+   */
+  int getWriteTypeValue();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.WriteTypePb write_type = 1;</code>
+   */
+  com.alibaba.graphscope.proto.write.WriteTypePb getWriteType();
+
+  /**
+   * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+   */
+  boolean hasDataRecord();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+   */
+  com.alibaba.graphscope.proto.write.DataRecordPb getDataRecord();
+  /**
+   * <code>optional .gs.rpc.write_service.v1.DataRecordPb data_record = 2;</code>
+   */
+  com.alibaba.graphscope.proto.write.DataRecordPbOrBuilder getDataRecordOrBuilder();
+}
@@ -0,0 +1,215 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+public final class WriteService {
+  private WriteService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_GetClientIdRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_GetClientIdRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_GetClientIdResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_GetClientIdResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_BatchWriteRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_BatchWriteRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_BatchWriteResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_BatchWriteResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_RemoteFlushRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_RemoteFlushRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_RemoteFlushResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_RemoteFlushResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_WriteRequestPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_WriteRequestPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_DataRecordPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_DataRecordPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_DataRecordPb_PropertiesEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_DataRecordPb_PropertiesEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_PkPropertiesEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_PkPropertiesEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n$graphscope/proto/write_service.proto\022\027" +
+      "gs.rpc.write_service.v1\"\024\n\022GetClientIdRe" +
+      "quest\"(\n\023GetClientIdResponse\022\021\n\tclient_i" +
+      "d\030\001 \001(\t\"g\n\021BatchWriteRequest\022\021\n\tclient_i" +
+      "d\030\001 \001(\t\022?\n\016write_requests\030\002 \003(\0132\'.gs.rpc" +
+      ".write_service.v1.WriteRequestPb\")\n\022Batc" +
+      "hWriteResponse\022\023\n\013snapshot_id\030\001 \001(\003\"?\n\022R" +
+      "emoteFlushRequest\022\023\n\013snapshot_id\030\001 \001(\003\022\024" +
+      "\n\014wait_time_ms\030\002 \001(\003\"&\n\023RemoteFlushRespo" +
+      "nse\022\017\n\007success\030\001 \001(\010\"\206\001\n\016WriteRequestPb\022",
+      "8\n\nwrite_type\030\001 \001(\0162$.gs.rpc.write_servi" +
+      "ce.v1.WriteTypePb\022:\n\013data_record\030\002 \001(\0132%" +
+      ".gs.rpc.write_service.v1.DataRecordPb\"\250\002" +
+      "\n\014DataRecordPb\022G\n\021vertex_record_key\030\001 \001(" +
+      "\0132*.gs.rpc.write_service.v1.VertexRecord" +
+      "KeyPbH\000\022C\n\017edge_record_key\030\002 \001(\0132(.gs.rp" +
+      "c.write_service.v1.EdgeRecordKeyPbH\000\022I\n\n" +
+      "properties\030\003 \003(\01325.gs.rpc.write_service." +
+      "v1.DataRecordPb.PropertiesEntry\0321\n\017Prope" +
+      "rtiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\002",
+      "8\001B\014\n\nrecord_key\"\254\001\n\021VertexRecordKeyPb\022\r" +
+      "\n\005label\030\001 \001(\t\022S\n\rpk_properties\030\002 \003(\0132<.g" +
+      "s.rpc.write_service.v1.VertexRecordKeyPb" +
+      ".PkPropertiesEntry\0323\n\021PkPropertiesEntry\022" +
+      "\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\272\001\n\017Edge" +
+      "RecordKeyPb\022\r\n\005label\030\001 \001(\t\022B\n\016src_vertex" +
+      "_key\030\002 \001(\0132*.gs.rpc.write_service.v1.Ver" +
+      "texRecordKeyPb\022B\n\016dst_vertex_key\030\003 \001(\0132*" +
+      ".gs.rpc.write_service.v1.VertexRecordKey" +
+      "Pb\022\020\n\010inner_id\030\004 \001(\003*>\n\013WriteTypePb\022\013\n\007U",
+      "NKNOWN\020\000\022\n\n\006INSERT\020\001\022\n\n\006UPDATE\020\002\022\n\n\006DELE" +
+      "TE\020\0032\310\002\n\013ClientWrite\022h\n\013getClientId\022+.gs" +
+      ".rpc.write_service.v1.GetClientIdRequest" +
+      "\032,.gs.rpc.write_service.v1.GetClientIdRe" +
+      "sponse\022e\n\nbatchWrite\022*.gs.rpc.write_serv" +
+      "ice.v1.BatchWriteRequest\032+.gs.rpc.write_" +
+      "service.v1.BatchWriteResponse\022h\n\013remoteF" +
+      "lush\022+.gs.rpc.write_service.v1.RemoteFlu" +
+      "shRequest\032,.gs.rpc.write_service.v1.Remo" +
+      "teFlushResponseB&\n\"com.alibaba.graphscop",
+      "e.proto.writeP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_gs_rpc_write_service_v1_GetClientIdRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_gs_rpc_write_service_v1_GetClientIdRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_GetClientIdRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_gs_rpc_write_service_v1_GetClientIdResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_gs_rpc_write_service_v1_GetClientIdResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_GetClientIdResponse_descriptor,
+        new java.lang.String[] { "ClientId", });
+    internal_static_gs_rpc_write_service_v1_BatchWriteRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_gs_rpc_write_service_v1_BatchWriteRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_BatchWriteRequest_descriptor,
+        new java.lang.String[] { "ClientId", "WriteRequests", });
+    internal_static_gs_rpc_write_service_v1_BatchWriteResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_gs_rpc_write_service_v1_BatchWriteResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_BatchWriteResponse_descriptor,
+        new java.lang.String[] { "SnapshotId", });
+    internal_static_gs_rpc_write_service_v1_RemoteFlushRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_gs_rpc_write_service_v1_RemoteFlushRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_RemoteFlushRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", "WaitTimeMs", });
+    internal_static_gs_rpc_write_service_v1_RemoteFlushResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_gs_rpc_write_service_v1_RemoteFlushResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_RemoteFlushResponse_descriptor,
+        new java.lang.String[] { "Success", });
+    internal_static_gs_rpc_write_service_v1_WriteRequestPb_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_gs_rpc_write_service_v1_WriteRequestPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_WriteRequestPb_descriptor,
+        new java.lang.String[] { "WriteType", "DataRecord", });
+    internal_static_gs_rpc_write_service_v1_DataRecordPb_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_gs_rpc_write_service_v1_DataRecordPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_DataRecordPb_descriptor,
+        new java.lang.String[] { "VertexRecordKey", "EdgeRecordKey", "Properties", "RecordKey", });
+    internal_static_gs_rpc_write_service_v1_DataRecordPb_PropertiesEntry_descriptor =
+      internal_static_gs_rpc_write_service_v1_DataRecordPb_descriptor.getNestedTypes().get(0);
+    internal_static_gs_rpc_write_service_v1_DataRecordPb_PropertiesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_DataRecordPb_PropertiesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_descriptor,
+        new java.lang.String[] { "Label", "PkProperties", });
+    internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_PkPropertiesEntry_descriptor =
+      internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_descriptor.getNestedTypes().get(0);
+    internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_PkPropertiesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_VertexRecordKeyPb_PkPropertiesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_gs_rpc_write_service_v1_EdgeRecordKeyPb_descriptor,
+        new java.lang.String[] { "Label", "SrcVertexKey", "DstVertexKey", "InnerId", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
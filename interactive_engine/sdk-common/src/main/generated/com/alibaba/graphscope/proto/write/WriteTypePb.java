@@ -0,0 +1,122 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graphscope/proto/write_service.proto
+
+package com.alibaba.graphscope.proto.write;
+
+/**
+ * Protobuf enum {@code gs.rpc.write_service.v1.WriteTypePb}
+ */
+public enum WriteTypePb
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>UNKNOWN = 0;</code>
+   */
+  UNKNOWN(0),
+  /**
+   * <code>INSERT = 1;</code>
+   */
+  INSERT(1),
+  /**
+   * <code>UPDATE = 2;</code>
+   */
+  UPDATE(2),
+  /**
+   * <code>DELETE = 3;</code>
+   */
+  DELETE(3),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>UNKNOWN = 0;</code>
+   */
+  public static final int UNKNOWN_VALUE = 0;
+  /**
+   * <code>INSERT = 1;</code>
+   */
+  public static final int INSERT_VALUE = 1;
+  /**
+   * <code>UPDATE = 2;</code>
+   */
+  public static final int UPDATE_VALUE = 2;
+  /**
+   * <code>DELETE = 3;</code>
+   */
+  public static final int DELETE_VALUE = 3;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static WriteTypePb valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static WriteTypePb forNumber(int value) {
+    switch (value) {
+      case 0: return UNKNOWN;
+      case 1: return INSERT;
+      case 2: return UPDATE;
+      case 3: return DELETE;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<WriteTypePb>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      WriteTypePb> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<WriteTypePb>() {
+          public WriteTypePb findValueByNumber(int number) {
+            return WriteTypePb.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.graphscope.proto.write.WriteService.getDescriptor()
+        .getEnumTypes().get(0);
+  }
+
+  private static final WriteTypePb[] VALUES = values();
+
+  public static WriteTypePb valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private WriteTypePb(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:gs.rpc.write_service.v1.WriteTypePb)
+}
+
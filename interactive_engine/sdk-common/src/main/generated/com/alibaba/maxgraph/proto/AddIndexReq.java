@@ -0,0 +1,879 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code AddIndexReq}
+ */
+public  final class AddIndexReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:AddIndexReq)
+    AddIndexReqOrBuilder {
+  // Use AddIndexReq.newBuilder() to construct.
+  private AddIndexReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private AddIndexReq() {
+    label_ = "";
+    name_ = "";
+    indexType_ = 0;
+    property_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private AddIndexReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            name_ = s;
+            break;
+          }
+          case 24: {
+            int rawValue = input.readEnum();
+
+            indexType_ = rawValue;
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+              property_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000008;
+            }
+            property_.add(s);
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+        property_ = property_.getUnmodifiableView();
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_AddIndexReq_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_AddIndexReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.AddIndexReq.class, com.alibaba.maxgraph.proto.AddIndexReq.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int LABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int NAME_FIELD_NUMBER = 2;
+  private volatile java.lang.Object name_;
+  /**
+   * <code>optional string name = 2;</code>
+   */
+  public java.lang.String getName() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      name_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string name = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getNameBytes() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      name_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int INDEXTYPE_FIELD_NUMBER = 3;
+  private int indexType_;
+  /**
+   * <code>optional .IndexDefProto.Type indexType = 3;</code>
+   */
+  public int getIndexTypeValue() {
+    return indexType_;
+  }
+  /**
+   * <code>optional .IndexDefProto.Type indexType = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.IndexDefProto.Type getIndexType() {
+    com.alibaba.maxgraph.proto.IndexDefProto.Type result = com.alibaba.maxgraph.proto.IndexDefProto.Type.valueOf(indexType_);
+    return result == null ? com.alibaba.maxgraph.proto.IndexDefProto.Type.UNRECOGNIZED : result;
+  }
+
+  public static final int PROPERTY_FIELD_NUMBER = 4;
+  private com.google.protobuf.LazyStringList property_;
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  public com.google.protobuf.ProtocolStringList
+      getPropertyList() {
+    return property_;
+  }
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  public int getPropertyCount() {
+    return property_.size();
+  }
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  public java.lang.String getProperty(int index) {
+    return property_.get(index);
+  }
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  public com.google.protobuf.ByteString
+      getPropertyBytes(int index) {
+    return property_.getByteString(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, label_);
+    }
+    if (!getNameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+    }
+    if (indexType_ != com.alibaba.maxgraph.proto.IndexDefProto.Type.PRIMARY_KEY.getNumber()) {
+      output.writeEnum(3, indexType_);
+    }
+    for (int i = 0; i < property_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, property_.getRaw(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, label_);
+    }
+    if (!getNameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+    }
+    if (indexType_ != com.alibaba.maxgraph.proto.IndexDefProto.Type.PRIMARY_KEY.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, indexType_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < property_.size(); i++) {
+        dataSize += computeStringSizeNoTag(property_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getPropertyList().size();
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.AddIndexReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.AddIndexReq other = (com.alibaba.maxgraph.proto.AddIndexReq) obj;
+
+    boolean result = true;
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && getName()
+        .equals(other.getName());
+    result = result && indexType_ == other.indexType_;
+    result = result && getPropertyList()
+        .equals(other.getPropertyList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    hash = (37 * hash) + NAME_FIELD_NUMBER;
+    hash = (53 * hash) + getName().hashCode();
+    hash = (37 * hash) + INDEXTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + indexType_;
+    if (getPropertyCount() > 0) {
+      hash = (37 * hash) + PROPERTY_FIELD_NUMBER;
+      hash = (53 * hash) + getPropertyList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.AddIndexReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.AddIndexReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code AddIndexReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:AddIndexReq)
+      com.alibaba.maxgraph.proto.AddIndexReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_AddIndexReq_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_AddIndexReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.AddIndexReq.class, com.alibaba.maxgraph.proto.AddIndexReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.AddIndexReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      label_ = "";
+
+      name_ = "";
+
+      indexType_ = 0;
+
+      property_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_AddIndexReq_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.AddIndexReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.AddIndexReq.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.AddIndexReq build() {
+      com.alibaba.maxgraph.proto.AddIndexReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.AddIndexReq buildPartial() {
+      com.alibaba.maxgraph.proto.AddIndexReq result = new com.alibaba.maxgraph.proto.AddIndexReq(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.label_ = label_;
+      result.name_ = name_;
+      result.indexType_ = indexType_;
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        property_ = property_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000008);
+      }
+      result.property_ = property_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.AddIndexReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.AddIndexReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.AddIndexReq other) {
+      if (other == com.alibaba.maxgraph.proto.AddIndexReq.getDefaultInstance()) return this;
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (!other.getName().isEmpty()) {
+        name_ = other.name_;
+        onChanged();
+      }
+      if (other.indexType_ != 0) {
+        setIndexTypeValue(other.getIndexTypeValue());
+      }
+      if (!other.property_.isEmpty()) {
+        if (property_.isEmpty()) {
+          property_ = other.property_;
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          ensurePropertyIsMutable();
+          property_.addAll(other.property_);
+        }
+        onChanged();
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.AddIndexReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.AddIndexReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object name_ = "";
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    public Builder setName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      name_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    public Builder clearName() {
+      
+      name_ = getDefaultInstance().getName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string name = 2;</code>
+     */
+    public Builder setNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      name_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int indexType_ = 0;
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public int getIndexTypeValue() {
+      return indexType_;
+    }
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public Builder setIndexTypeValue(int value) {
+      indexType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto.Type getIndexType() {
+      com.alibaba.maxgraph.proto.IndexDefProto.Type result = com.alibaba.maxgraph.proto.IndexDefProto.Type.valueOf(indexType_);
+      return result == null ? com.alibaba.maxgraph.proto.IndexDefProto.Type.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public Builder setIndexType(com.alibaba.maxgraph.proto.IndexDefProto.Type value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      indexType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public Builder clearIndexType() {
+      
+      indexType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList property_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensurePropertyIsMutable() {
+      if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+        property_ = new com.google.protobuf.LazyStringArrayList(property_);
+        bitField0_ |= 0x00000008;
+       }
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPropertyList() {
+      return property_.getUnmodifiableView();
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public int getPropertyCount() {
+      return property_.size();
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public java.lang.String getProperty(int index) {
+      return property_.get(index);
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPropertyBytes(int index) {
+      return property_.getByteString(index);
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder setProperty(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertyIsMutable();
+      property_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder addProperty(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertyIsMutable();
+      property_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder addAllProperty(
+        java.lang.Iterable<java.lang.String> values) {
+      ensurePropertyIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, property_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder clearProperty() {
+      property_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder addPropertyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensurePropertyIsMutable();
+      property_.add(value);
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:AddIndexReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:AddIndexReq)
+  private static final com.alibaba.maxgraph.proto.AddIndexReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.AddIndexReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.AddIndexReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<AddIndexReq>
+      PARSER = new com.google.protobuf.AbstractParser<AddIndexReq>() {
+    public AddIndexReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AddIndexReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<AddIndexReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<AddIndexReq> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.AddIndexReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,57 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface AddIndexReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AddIndexReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional string name = 2;</code>
+   */
+  java.lang.String getName();
+  /**
+   * <code>optional string name = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <code>optional .IndexDefProto.Type indexType = 3;</code>
+   */
+  int getIndexTypeValue();
+  /**
+   * <code>optional .IndexDefProto.Type indexType = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.IndexDefProto.Type getIndexType();
+
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  java.util.List<java.lang.String>
+      getPropertyList();
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  int getPropertyCount();
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  java.lang.String getProperty(int index);
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  com.google.protobuf.ByteString
+      getPropertyBytes(int index);
+}
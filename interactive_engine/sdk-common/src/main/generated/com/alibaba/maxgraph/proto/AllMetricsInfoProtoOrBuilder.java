@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface AllMetricsInfoProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AllMetricsInfoProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string metricName = 1;</code>
+   */
+  java.lang.String getMetricName();
+  /**
+   * <code>optional string metricName = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getMetricNameBytes();
+
+  /**
+   * <code>repeated .ServerMetricValue values = 2;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.ServerMetricValue> 
+      getValuesList();
+  /**
+   * <code>repeated .ServerMetricValue values = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.ServerMetricValue getValues(int index);
+  /**
+   * <code>repeated .ServerMetricValue values = 2;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated .ServerMetricValue values = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.ServerMetricValueOrBuilder> 
+      getValuesOrBuilderList();
+  /**
+   * <code>repeated .ServerMetricValue values = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.ServerMetricValueOrBuilder getValuesOrBuilder(
+      int index);
+}
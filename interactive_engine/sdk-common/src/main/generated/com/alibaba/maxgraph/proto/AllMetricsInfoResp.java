@@ -0,0 +1,896 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code AllMetricsInfoResp}
+ */
+public  final class AllMetricsInfoResp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:AllMetricsInfoResp)
+    AllMetricsInfoRespOrBuilder {
+  // Use AllMetricsInfoResp.newBuilder() to construct.
+  private AllMetricsInfoResp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private AllMetricsInfoResp() {
+    info_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private AllMetricsInfoResp(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              info_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.AllMetricsInfoProto>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            info_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.AllMetricsInfoProto.parser(), extensionRegistry));
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.Response.Builder subBuilder = null;
+            if (resp_ != null) {
+              subBuilder = resp_.toBuilder();
+            }
+            resp_ = input.readMessage(com.alibaba.maxgraph.proto.Response.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(resp_);
+              resp_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        info_ = java.util.Collections.unmodifiableList(info_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_AllMetricsInfoResp_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_AllMetricsInfoResp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.AllMetricsInfoResp.class, com.alibaba.maxgraph.proto.AllMetricsInfoResp.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int INFO_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.AllMetricsInfoProto> info_;
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.AllMetricsInfoProto> getInfoList() {
+    return info_;
+  }
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder> 
+      getInfoOrBuilderList() {
+    return info_;
+  }
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  public int getInfoCount() {
+    return info_.size();
+  }
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.AllMetricsInfoProto getInfo(int index) {
+    return info_.get(index);
+  }
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder getInfoOrBuilder(
+      int index) {
+    return info_.get(index);
+  }
+
+  public static final int RESP_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.Response resp_;
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  public boolean hasResp() {
+    return resp_ != null;
+  }
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.Response getResp() {
+    return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+  }
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+    return getResp();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < info_.size(); i++) {
+      output.writeMessage(1, info_.get(i));
+    }
+    if (resp_ != null) {
+      output.writeMessage(2, getResp());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < info_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, info_.get(i));
+    }
+    if (resp_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getResp());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.AllMetricsInfoResp)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.AllMetricsInfoResp other = (com.alibaba.maxgraph.proto.AllMetricsInfoResp) obj;
+
+    boolean result = true;
+    result = result && getInfoList()
+        .equals(other.getInfoList());
+    result = result && (hasResp() == other.hasResp());
+    if (hasResp()) {
+      result = result && getResp()
+          .equals(other.getResp());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (getInfoCount() > 0) {
+      hash = (37 * hash) + INFO_FIELD_NUMBER;
+      hash = (53 * hash) + getInfoList().hashCode();
+    }
+    if (hasResp()) {
+      hash = (37 * hash) + RESP_FIELD_NUMBER;
+      hash = (53 * hash) + getResp().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.AllMetricsInfoResp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code AllMetricsInfoResp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:AllMetricsInfoResp)
+      com.alibaba.maxgraph.proto.AllMetricsInfoRespOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_AllMetricsInfoResp_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_AllMetricsInfoResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.AllMetricsInfoResp.class, com.alibaba.maxgraph.proto.AllMetricsInfoResp.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.AllMetricsInfoResp.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getInfoFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (infoBuilder_ == null) {
+        info_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        infoBuilder_.clear();
+      }
+      if (respBuilder_ == null) {
+        resp_ = null;
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_AllMetricsInfoResp_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.AllMetricsInfoResp getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.AllMetricsInfoResp.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.AllMetricsInfoResp build() {
+      com.alibaba.maxgraph.proto.AllMetricsInfoResp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.AllMetricsInfoResp buildPartial() {
+      com.alibaba.maxgraph.proto.AllMetricsInfoResp result = new com.alibaba.maxgraph.proto.AllMetricsInfoResp(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (infoBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          info_ = java.util.Collections.unmodifiableList(info_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.info_ = info_;
+      } else {
+        result.info_ = infoBuilder_.build();
+      }
+      if (respBuilder_ == null) {
+        result.resp_ = resp_;
+      } else {
+        result.resp_ = respBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.AllMetricsInfoResp) {
+        return mergeFrom((com.alibaba.maxgraph.proto.AllMetricsInfoResp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.AllMetricsInfoResp other) {
+      if (other == com.alibaba.maxgraph.proto.AllMetricsInfoResp.getDefaultInstance()) return this;
+      if (infoBuilder_ == null) {
+        if (!other.info_.isEmpty()) {
+          if (info_.isEmpty()) {
+            info_ = other.info_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureInfoIsMutable();
+            info_.addAll(other.info_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.info_.isEmpty()) {
+          if (infoBuilder_.isEmpty()) {
+            infoBuilder_.dispose();
+            infoBuilder_ = null;
+            info_ = other.info_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            infoBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getInfoFieldBuilder() : null;
+          } else {
+            infoBuilder_.addAllMessages(other.info_);
+          }
+        }
+      }
+      if (other.hasResp()) {
+        mergeResp(other.getResp());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.AllMetricsInfoResp parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.AllMetricsInfoResp) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.AllMetricsInfoProto> info_ =
+      java.util.Collections.emptyList();
+    private void ensureInfoIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        info_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.AllMetricsInfoProto>(info_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.AllMetricsInfoProto, com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder, com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder> infoBuilder_;
+
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.AllMetricsInfoProto> getInfoList() {
+      if (infoBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(info_);
+      } else {
+        return infoBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public int getInfoCount() {
+      if (infoBuilder_ == null) {
+        return info_.size();
+      } else {
+        return infoBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.AllMetricsInfoProto getInfo(int index) {
+      if (infoBuilder_ == null) {
+        return info_.get(index);
+      } else {
+        return infoBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder setInfo(
+        int index, com.alibaba.maxgraph.proto.AllMetricsInfoProto value) {
+      if (infoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureInfoIsMutable();
+        info_.set(index, value);
+        onChanged();
+      } else {
+        infoBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder setInfo(
+        int index, com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder builderForValue) {
+      if (infoBuilder_ == null) {
+        ensureInfoIsMutable();
+        info_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        infoBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder addInfo(com.alibaba.maxgraph.proto.AllMetricsInfoProto value) {
+      if (infoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureInfoIsMutable();
+        info_.add(value);
+        onChanged();
+      } else {
+        infoBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder addInfo(
+        int index, com.alibaba.maxgraph.proto.AllMetricsInfoProto value) {
+      if (infoBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureInfoIsMutable();
+        info_.add(index, value);
+        onChanged();
+      } else {
+        infoBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder addInfo(
+        com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder builderForValue) {
+      if (infoBuilder_ == null) {
+        ensureInfoIsMutable();
+        info_.add(builderForValue.build());
+        onChanged();
+      } else {
+        infoBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder addInfo(
+        int index, com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder builderForValue) {
+      if (infoBuilder_ == null) {
+        ensureInfoIsMutable();
+        info_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        infoBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder addAllInfo(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.AllMetricsInfoProto> values) {
+      if (infoBuilder_ == null) {
+        ensureInfoIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, info_);
+        onChanged();
+      } else {
+        infoBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder clearInfo() {
+      if (infoBuilder_ == null) {
+        info_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        infoBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public Builder removeInfo(int index) {
+      if (infoBuilder_ == null) {
+        ensureInfoIsMutable();
+        info_.remove(index);
+        onChanged();
+      } else {
+        infoBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder getInfoBuilder(
+        int index) {
+      return getInfoFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder getInfoOrBuilder(
+        int index) {
+      if (infoBuilder_ == null) {
+        return info_.get(index);  } else {
+        return infoBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder> 
+         getInfoOrBuilderList() {
+      if (infoBuilder_ != null) {
+        return infoBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(info_);
+      }
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder addInfoBuilder() {
+      return getInfoFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.AllMetricsInfoProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder addInfoBuilder(
+        int index) {
+      return getInfoFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.AllMetricsInfoProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .AllMetricsInfoProto info = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder> 
+         getInfoBuilderList() {
+      return getInfoFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.AllMetricsInfoProto, com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder, com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder> 
+        getInfoFieldBuilder() {
+      if (infoBuilder_ == null) {
+        infoBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.AllMetricsInfoProto, com.alibaba.maxgraph.proto.AllMetricsInfoProto.Builder, com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder>(
+                info_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        info_ = null;
+      }
+      return infoBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.Response resp_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> respBuilder_;
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    public boolean hasResp() {
+      return respBuilder_ != null || resp_ != null;
+    }
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response getResp() {
+      if (respBuilder_ == null) {
+        return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      } else {
+        return respBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    public Builder setResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        resp_ = value;
+        onChanged();
+      } else {
+        respBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    public Builder setResp(
+        com.alibaba.maxgraph.proto.Response.Builder builderForValue) {
+      if (respBuilder_ == null) {
+        resp_ = builderForValue.build();
+        onChanged();
+      } else {
+        respBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    public Builder mergeResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (resp_ != null) {
+          resp_ =
+            com.alibaba.maxgraph.proto.Response.newBuilder(resp_).mergeFrom(value).buildPartial();
+        } else {
+          resp_ = value;
+        }
+        onChanged();
+      } else {
+        respBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    public Builder clearResp() {
+      if (respBuilder_ == null) {
+        resp_ = null;
+        onChanged();
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response.Builder getRespBuilder() {
+      
+      onChanged();
+      return getRespFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+      if (respBuilder_ != null) {
+        return respBuilder_.getMessageOrBuilder();
+      } else {
+        return resp_ == null ?
+            com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      }
+    }
+    /**
+     * <code>optional .Response resp = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> 
+        getRespFieldBuilder() {
+      if (respBuilder_ == null) {
+        respBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder>(
+                getResp(),
+                getParentForChildren(),
+                isClean());
+        resp_ = null;
+      }
+      return respBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:AllMetricsInfoResp)
+  }
+
+  // @@protoc_insertion_point(class_scope:AllMetricsInfoResp)
+  private static final com.alibaba.maxgraph.proto.AllMetricsInfoResp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.AllMetricsInfoResp();
+  }
+
+  public static com.alibaba.maxgraph.proto.AllMetricsInfoResp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<AllMetricsInfoResp>
+      PARSER = new com.google.protobuf.AbstractParser<AllMetricsInfoResp>() {
+    public AllMetricsInfoResp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AllMetricsInfoResp(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<AllMetricsInfoResp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<AllMetricsInfoResp> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.AllMetricsInfoResp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
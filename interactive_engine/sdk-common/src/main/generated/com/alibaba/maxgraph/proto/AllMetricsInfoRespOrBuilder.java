@@ -0,0 +1,46 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface AllMetricsInfoRespOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AllMetricsInfoResp)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.AllMetricsInfoProto> 
+      getInfoList();
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.AllMetricsInfoProto getInfo(int index);
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  int getInfoCount();
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder> 
+      getInfoOrBuilderList();
+  /**
+   * <code>repeated .AllMetricsInfoProto info = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.AllMetricsInfoProtoOrBuilder getInfoOrBuilder(
+      int index);
+
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  boolean hasResp();
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.Response getResp();
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder();
+}
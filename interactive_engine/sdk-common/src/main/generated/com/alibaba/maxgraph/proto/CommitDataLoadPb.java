@@ -0,0 +1,607 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code CommitDataLoadPb}
+ */
+public  final class CommitDataLoadPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CommitDataLoadPb)
+    CommitDataLoadPbOrBuilder {
+  // Use CommitDataLoadPb.newBuilder() to construct.
+  private CommitDataLoadPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CommitDataLoadPb() {
+    tableIdx_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private CommitDataLoadPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder subBuilder = null;
+            if (target_ != null) {
+              subBuilder = target_.toBuilder();
+            }
+            target_ = input.readMessage(com.alibaba.maxgraph.proto.DataLoadTargetPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(target_);
+              target_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            tableIdx_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_CommitDataLoadPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_CommitDataLoadPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.CommitDataLoadPb.class, com.alibaba.maxgraph.proto.CommitDataLoadPb.Builder.class);
+  }
+
+  public static final int TARGET_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.DataLoadTargetPb target_;
+  /**
+   * <code>optional .DataLoadTargetPb target = 1;</code>
+   */
+  public boolean hasTarget() {
+    return target_ != null;
+  }
+  /**
+   * <code>optional .DataLoadTargetPb target = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.DataLoadTargetPb getTarget() {
+    return target_ == null ? com.alibaba.maxgraph.proto.DataLoadTargetPb.getDefaultInstance() : target_;
+  }
+  /**
+   * <code>optional .DataLoadTargetPb target = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder getTargetOrBuilder() {
+    return getTarget();
+  }
+
+  public static final int TABLEIDX_FIELD_NUMBER = 2;
+  private long tableIdx_;
+  /**
+   * <code>optional int64 tableIdx = 2;</code>
+   */
+  public long getTableIdx() {
+    return tableIdx_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (target_ != null) {
+      output.writeMessage(1, getTarget());
+    }
+    if (tableIdx_ != 0L) {
+      output.writeInt64(2, tableIdx_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (target_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getTarget());
+    }
+    if (tableIdx_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, tableIdx_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.CommitDataLoadPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.CommitDataLoadPb other = (com.alibaba.maxgraph.proto.CommitDataLoadPb) obj;
+
+    boolean result = true;
+    result = result && (hasTarget() == other.hasTarget());
+    if (hasTarget()) {
+      result = result && getTarget()
+          .equals(other.getTarget());
+    }
+    result = result && (getTableIdx()
+        == other.getTableIdx());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasTarget()) {
+      hash = (37 * hash) + TARGET_FIELD_NUMBER;
+      hash = (53 * hash) + getTarget().hashCode();
+    }
+    hash = (37 * hash) + TABLEIDX_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTableIdx());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.CommitDataLoadPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CommitDataLoadPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CommitDataLoadPb)
+      com.alibaba.maxgraph.proto.CommitDataLoadPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_CommitDataLoadPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_CommitDataLoadPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.CommitDataLoadPb.class, com.alibaba.maxgraph.proto.CommitDataLoadPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.CommitDataLoadPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (targetBuilder_ == null) {
+        target_ = null;
+      } else {
+        target_ = null;
+        targetBuilder_ = null;
+      }
+      tableIdx_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_CommitDataLoadPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.CommitDataLoadPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.CommitDataLoadPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.CommitDataLoadPb build() {
+      com.alibaba.maxgraph.proto.CommitDataLoadPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.CommitDataLoadPb buildPartial() {
+      com.alibaba.maxgraph.proto.CommitDataLoadPb result = new com.alibaba.maxgraph.proto.CommitDataLoadPb(this);
+      if (targetBuilder_ == null) {
+        result.target_ = target_;
+      } else {
+        result.target_ = targetBuilder_.build();
+      }
+      result.tableIdx_ = tableIdx_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.CommitDataLoadPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.CommitDataLoadPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.CommitDataLoadPb other) {
+      if (other == com.alibaba.maxgraph.proto.CommitDataLoadPb.getDefaultInstance()) return this;
+      if (other.hasTarget()) {
+        mergeTarget(other.getTarget());
+      }
+      if (other.getTableIdx() != 0L) {
+        setTableIdx(other.getTableIdx());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.CommitDataLoadPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.CommitDataLoadPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.DataLoadTargetPb target_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.DataLoadTargetPb, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder, com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder> targetBuilder_;
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    public boolean hasTarget() {
+      return targetBuilder_ != null || target_ != null;
+    }
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb getTarget() {
+      if (targetBuilder_ == null) {
+        return target_ == null ? com.alibaba.maxgraph.proto.DataLoadTargetPb.getDefaultInstance() : target_;
+      } else {
+        return targetBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    public Builder setTarget(com.alibaba.maxgraph.proto.DataLoadTargetPb value) {
+      if (targetBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        target_ = value;
+        onChanged();
+      } else {
+        targetBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    public Builder setTarget(
+        com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder builderForValue) {
+      if (targetBuilder_ == null) {
+        target_ = builderForValue.build();
+        onChanged();
+      } else {
+        targetBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    public Builder mergeTarget(com.alibaba.maxgraph.proto.DataLoadTargetPb value) {
+      if (targetBuilder_ == null) {
+        if (target_ != null) {
+          target_ =
+            com.alibaba.maxgraph.proto.DataLoadTargetPb.newBuilder(target_).mergeFrom(value).buildPartial();
+        } else {
+          target_ = value;
+        }
+        onChanged();
+      } else {
+        targetBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    public Builder clearTarget() {
+      if (targetBuilder_ == null) {
+        target_ = null;
+        onChanged();
+      } else {
+        target_ = null;
+        targetBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder getTargetBuilder() {
+      
+      onChanged();
+      return getTargetFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder getTargetOrBuilder() {
+      if (targetBuilder_ != null) {
+        return targetBuilder_.getMessageOrBuilder();
+      } else {
+        return target_ == null ?
+            com.alibaba.maxgraph.proto.DataLoadTargetPb.getDefaultInstance() : target_;
+      }
+    }
+    /**
+     * <code>optional .DataLoadTargetPb target = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.DataLoadTargetPb, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder, com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder> 
+        getTargetFieldBuilder() {
+      if (targetBuilder_ == null) {
+        targetBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.DataLoadTargetPb, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder, com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder>(
+                getTarget(),
+                getParentForChildren(),
+                isClean());
+        target_ = null;
+      }
+      return targetBuilder_;
+    }
+
+    private long tableIdx_ ;
+    /**
+     * <code>optional int64 tableIdx = 2;</code>
+     */
+    public long getTableIdx() {
+      return tableIdx_;
+    }
+    /**
+     * <code>optional int64 tableIdx = 2;</code>
+     */
+    public Builder setTableIdx(long value) {
+      
+      tableIdx_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 tableIdx = 2;</code>
+     */
+    public Builder clearTableIdx() {
+      
+      tableIdx_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CommitDataLoadPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:CommitDataLoadPb)
+  private static final com.alibaba.maxgraph.proto.CommitDataLoadPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.CommitDataLoadPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.CommitDataLoadPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CommitDataLoadPb>
+      PARSER = new com.google.protobuf.AbstractParser<CommitDataLoadPb>() {
+    public CommitDataLoadPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CommitDataLoadPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CommitDataLoadPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CommitDataLoadPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.CommitDataLoadPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
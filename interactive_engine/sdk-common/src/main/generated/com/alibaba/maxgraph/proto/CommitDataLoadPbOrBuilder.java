@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface CommitDataLoadPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CommitDataLoadPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .DataLoadTargetPb target = 1;</code>
+   */
+  boolean hasTarget();
+  /**
+   * <code>optional .DataLoadTargetPb target = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.DataLoadTargetPb getTarget();
+  /**
+   * <code>optional .DataLoadTargetPb target = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder getTargetOrBuilder();
+
+  /**
+   * <code>optional int64 tableIdx = 2;</code>
+   */
+  long getTableIdx();
+}
@@ -0,0 +1,119 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface CreateEdgeTypeReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CreateEdgeTypeReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> 
+      getPropertyList();
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.PropertyDefProto getProperty(int index);
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  int getPropertyCount();
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+      getPropertyOrBuilderList();
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder getPropertyOrBuilder(
+      int index);
+
+  /**
+   * <code>optional string comment = 3;</code>
+   */
+  java.lang.String getComment();
+  /**
+   * <code>optional string comment = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getCommentBytes();
+
+  /**
+   * <code>repeated .RelationShipReq relationShip = 4;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.RelationShipReq> 
+      getRelationShipList();
+  /**
+   * <code>repeated .RelationShipReq relationShip = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.RelationShipReq getRelationShip(int index);
+  /**
+   * <code>repeated .RelationShipReq relationShip = 4;</code>
+   */
+  int getRelationShipCount();
+  /**
+   * <code>repeated .RelationShipReq relationShip = 4;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipReqOrBuilder> 
+      getRelationShipOrBuilderList();
+  /**
+   * <code>repeated .RelationShipReq relationShip = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.RelationShipReqOrBuilder getRelationShipOrBuilder(
+      int index);
+
+  /**
+   * <code>optional bool isDimensionType = 5;</code>
+   */
+  boolean getIsDimensionType();
+
+  /**
+   * <code>optional .TypeOptionProto option = 6;</code>
+   */
+  boolean hasOption();
+  /**
+   * <code>optional .TypeOptionProto option = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeOptionProto getOption();
+  /**
+   * <code>optional .TypeOptionProto option = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder getOptionOrBuilder();
+
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> 
+      getIndexList();
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  com.alibaba.maxgraph.proto.IndexDefProto getIndex(int index);
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  int getIndexCount();
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> 
+      getIndexOrBuilderList();
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder getIndexOrBuilder(
+      int index);
+}
@@ -0,0 +1,1782 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * <pre>
+ * schema opertion proto
+ * </pre>
+ *
+ * Protobuf type {@code CreateVertexTypeReq}
+ */
+public  final class CreateVertexTypeReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CreateVertexTypeReq)
+    CreateVertexTypeReqOrBuilder {
+  // Use CreateVertexTypeReq.newBuilder() to construct.
+  private CreateVertexTypeReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CreateVertexTypeReq() {
+    label_ = "";
+    property_ = java.util.Collections.emptyList();
+    pks_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    comment_ = "";
+    isDimensionType_ = false;
+    index_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private CreateVertexTypeReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              property_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.PropertyDefProto>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            property_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.PropertyDefProto.parser(), extensionRegistry));
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+              pks_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            pks_.add(s);
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            comment_ = s;
+            break;
+          }
+          case 40: {
+
+            isDimensionType_ = input.readBool();
+            break;
+          }
+          case 50: {
+            com.alibaba.maxgraph.proto.TypeOptionProto.Builder subBuilder = null;
+            if (option_ != null) {
+              subBuilder = option_.toBuilder();
+            }
+            option_ = input.readMessage(com.alibaba.maxgraph.proto.TypeOptionProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(option_);
+              option_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 58: {
+            if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+              index_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.IndexDefProto>();
+              mutable_bitField0_ |= 0x00000040;
+            }
+            index_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.IndexDefProto.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        property_ = java.util.Collections.unmodifiableList(property_);
+      }
+      if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+        pks_ = pks_.getUnmodifiableView();
+      }
+      if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+        index_ = java.util.Collections.unmodifiableList(index_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_CreateVertexTypeReq_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_CreateVertexTypeReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.CreateVertexTypeReq.class, com.alibaba.maxgraph.proto.CreateVertexTypeReq.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int LABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int PROPERTY_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> property_;
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> getPropertyList() {
+    return property_;
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+      getPropertyOrBuilderList() {
+    return property_;
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public int getPropertyCount() {
+    return property_.size();
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.PropertyDefProto getProperty(int index) {
+    return property_.get(index);
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder getPropertyOrBuilder(
+      int index) {
+    return property_.get(index);
+  }
+
+  public static final int PKS_FIELD_NUMBER = 3;
+  private com.google.protobuf.LazyStringList pks_;
+  /**
+   * <pre>
+   * deprecated
+   * </pre>
+   *
+   * <code>repeated string pks = 3;</code>
+   */
+  public com.google.protobuf.ProtocolStringList
+      getPksList() {
+    return pks_;
+  }
+  /**
+   * <pre>
+   * deprecated
+   * </pre>
+   *
+   * <code>repeated string pks = 3;</code>
+   */
+  public int getPksCount() {
+    return pks_.size();
+  }
+  /**
+   * <pre>
+   * deprecated
+   * </pre>
+   *
+   * <code>repeated string pks = 3;</code>
+   */
+  public java.lang.String getPks(int index) {
+    return pks_.get(index);
+  }
+  /**
+   * <pre>
+   * deprecated
+   * </pre>
+   *
+   * <code>repeated string pks = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getPksBytes(int index) {
+    return pks_.getByteString(index);
+  }
+
+  public static final int COMMENT_FIELD_NUMBER = 4;
+  private volatile java.lang.Object comment_;
+  /**
+   * <code>optional string comment = 4;</code>
+   */
+  public java.lang.String getComment() {
+    java.lang.Object ref = comment_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      comment_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string comment = 4;</code>
+   */
+  public com.google.protobuf.ByteString
+      getCommentBytes() {
+    java.lang.Object ref = comment_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      comment_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ISDIMENSIONTYPE_FIELD_NUMBER = 5;
+  private boolean isDimensionType_;
+  /**
+   * <code>optional bool isDimensionType = 5;</code>
+   */
+  public boolean getIsDimensionType() {
+    return isDimensionType_;
+  }
+
+  public static final int OPTION_FIELD_NUMBER = 6;
+  private com.alibaba.maxgraph.proto.TypeOptionProto option_;
+  /**
+   * <code>optional .TypeOptionProto option = 6;</code>
+   */
+  public boolean hasOption() {
+    return option_ != null;
+  }
+  /**
+   * <code>optional .TypeOptionProto option = 6;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeOptionProto getOption() {
+    return option_ == null ? com.alibaba.maxgraph.proto.TypeOptionProto.getDefaultInstance() : option_;
+  }
+  /**
+   * <code>optional .TypeOptionProto option = 6;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder getOptionOrBuilder() {
+    return getOption();
+  }
+
+  public static final int INDEX_FIELD_NUMBER = 7;
+  private java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> index_;
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> getIndexList() {
+    return index_;
+  }
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> 
+      getIndexOrBuilderList() {
+    return index_;
+  }
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  public int getIndexCount() {
+    return index_.size();
+  }
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  public com.alibaba.maxgraph.proto.IndexDefProto getIndex(int index) {
+    return index_.get(index);
+  }
+  /**
+   * <code>repeated .IndexDefProto index = 7;</code>
+   */
+  public com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder getIndexOrBuilder(
+      int index) {
+    return index_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, label_);
+    }
+    for (int i = 0; i < property_.size(); i++) {
+      output.writeMessage(2, property_.get(i));
+    }
+    for (int i = 0; i < pks_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, pks_.getRaw(i));
+    }
+    if (!getCommentBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, comment_);
+    }
+    if (isDimensionType_ != false) {
+      output.writeBool(5, isDimensionType_);
+    }
+    if (option_ != null) {
+      output.writeMessage(6, getOption());
+    }
+    for (int i = 0; i < index_.size(); i++) {
+      output.writeMessage(7, index_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, label_);
+    }
+    for (int i = 0; i < property_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, property_.get(i));
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < pks_.size(); i++) {
+        dataSize += computeStringSizeNoTag(pks_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getPksList().size();
+    }
+    if (!getCommentBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, comment_);
+    }
+    if (isDimensionType_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(5, isDimensionType_);
+    }
+    if (option_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, getOption());
+    }
+    for (int i = 0; i < index_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(7, index_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.CreateVertexTypeReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.CreateVertexTypeReq other = (com.alibaba.maxgraph.proto.CreateVertexTypeReq) obj;
+
+    boolean result = true;
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && getPropertyList()
+        .equals(other.getPropertyList());
+    result = result && getPksList()
+        .equals(other.getPksList());
+    result = result && getComment()
+        .equals(other.getComment());
+    result = result && (getIsDimensionType()
+        == other.getIsDimensionType());
+    result = result && (hasOption() == other.hasOption());
+    if (hasOption()) {
+      result = result && getOption()
+          .equals(other.getOption());
+    }
+    result = result && getIndexList()
+        .equals(other.getIndexList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    if (getPropertyCount() > 0) {
+      hash = (37 * hash) + PROPERTY_FIELD_NUMBER;
+      hash = (53 * hash) + getPropertyList().hashCode();
+    }
+    if (getPksCount() > 0) {
+      hash = (37 * hash) + PKS_FIELD_NUMBER;
+      hash = (53 * hash) + getPksList().hashCode();
+    }
+    hash = (37 * hash) + COMMENT_FIELD_NUMBER;
+    hash = (53 * hash) + getComment().hashCode();
+    hash = (37 * hash) + ISDIMENSIONTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getIsDimensionType());
+    if (hasOption()) {
+      hash = (37 * hash) + OPTION_FIELD_NUMBER;
+      hash = (53 * hash) + getOption().hashCode();
+    }
+    if (getIndexCount() > 0) {
+      hash = (37 * hash) + INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getIndexList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.CreateVertexTypeReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * schema opertion proto
+   * </pre>
+   *
+   * Protobuf type {@code CreateVertexTypeReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CreateVertexTypeReq)
+      com.alibaba.maxgraph.proto.CreateVertexTypeReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_CreateVertexTypeReq_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_CreateVertexTypeReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.CreateVertexTypeReq.class, com.alibaba.maxgraph.proto.CreateVertexTypeReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.CreateVertexTypeReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getPropertyFieldBuilder();
+        getIndexFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      label_ = "";
+
+      if (propertyBuilder_ == null) {
+        property_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        propertyBuilder_.clear();
+      }
+      pks_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      comment_ = "";
+
+      isDimensionType_ = false;
+
+      if (optionBuilder_ == null) {
+        option_ = null;
+      } else {
+        option_ = null;
+        optionBuilder_ = null;
+      }
+      if (indexBuilder_ == null) {
+        index_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+      } else {
+        indexBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_CreateVertexTypeReq_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.CreateVertexTypeReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.CreateVertexTypeReq.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.CreateVertexTypeReq build() {
+      com.alibaba.maxgraph.proto.CreateVertexTypeReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.CreateVertexTypeReq buildPartial() {
+      com.alibaba.maxgraph.proto.CreateVertexTypeReq result = new com.alibaba.maxgraph.proto.CreateVertexTypeReq(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.label_ = label_;
+      if (propertyBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          property_ = java.util.Collections.unmodifiableList(property_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.property_ = property_;
+      } else {
+        result.property_ = propertyBuilder_.build();
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        pks_ = pks_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000004);
+      }
+      result.pks_ = pks_;
+      result.comment_ = comment_;
+      result.isDimensionType_ = isDimensionType_;
+      if (optionBuilder_ == null) {
+        result.option_ = option_;
+      } else {
+        result.option_ = optionBuilder_.build();
+      }
+      if (indexBuilder_ == null) {
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          index_ = java.util.Collections.unmodifiableList(index_);
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.index_ = index_;
+      } else {
+        result.index_ = indexBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.CreateVertexTypeReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.CreateVertexTypeReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.CreateVertexTypeReq other) {
+      if (other == com.alibaba.maxgraph.proto.CreateVertexTypeReq.getDefaultInstance()) return this;
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (propertyBuilder_ == null) {
+        if (!other.property_.isEmpty()) {
+          if (property_.isEmpty()) {
+            property_ = other.property_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePropertyIsMutable();
+            property_.addAll(other.property_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.property_.isEmpty()) {
+          if (propertyBuilder_.isEmpty()) {
+            propertyBuilder_.dispose();
+            propertyBuilder_ = null;
+            property_ = other.property_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            propertyBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getPropertyFieldBuilder() : null;
+          } else {
+            propertyBuilder_.addAllMessages(other.property_);
+          }
+        }
+      }
+      if (!other.pks_.isEmpty()) {
+        if (pks_.isEmpty()) {
+          pks_ = other.pks_;
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          ensurePksIsMutable();
+          pks_.addAll(other.pks_);
+        }
+        onChanged();
+      }
+      if (!other.getComment().isEmpty()) {
+        comment_ = other.comment_;
+        onChanged();
+      }
+      if (other.getIsDimensionType() != false) {
+        setIsDimensionType(other.getIsDimensionType());
+      }
+      if (other.hasOption()) {
+        mergeOption(other.getOption());
+      }
+      if (indexBuilder_ == null) {
+        if (!other.index_.isEmpty()) {
+          if (index_.isEmpty()) {
+            index_ = other.index_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureIndexIsMutable();
+            index_.addAll(other.index_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.index_.isEmpty()) {
+          if (indexBuilder_.isEmpty()) {
+            indexBuilder_.dispose();
+            indexBuilder_ = null;
+            index_ = other.index_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+            indexBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getIndexFieldBuilder() : null;
+          } else {
+            indexBuilder_.addAllMessages(other.index_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.CreateVertexTypeReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.CreateVertexTypeReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> property_ =
+      java.util.Collections.emptyList();
+    private void ensurePropertyIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        property_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.PropertyDefProto>(property_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> propertyBuilder_;
+
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> getPropertyList() {
+      if (propertyBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(property_);
+      } else {
+        return propertyBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public int getPropertyCount() {
+      if (propertyBuilder_ == null) {
+        return property_.size();
+      } else {
+        return propertyBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto getProperty(int index) {
+      if (propertyBuilder_ == null) {
+        return property_.get(index);
+      } else {
+        return propertyBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder setProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.set(index, value);
+        onChanged();
+      } else {
+        propertyBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder setProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addProperty(com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.add(value);
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.add(index, value);
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addProperty(
+        com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.add(builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addAllProperty(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.PropertyDefProto> values) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, property_);
+        onChanged();
+      } else {
+        propertyBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder clearProperty() {
+      if (propertyBuilder_ == null) {
+        property_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        propertyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder removeProperty(int index) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.remove(index);
+        onChanged();
+      } else {
+        propertyBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder getPropertyBuilder(
+        int index) {
+      return getPropertyFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder getPropertyOrBuilder(
+        int index) {
+      if (propertyBuilder_ == null) {
+        return property_.get(index);  } else {
+        return propertyBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+         getPropertyOrBuilderList() {
+      if (propertyBuilder_ != null) {
+        return propertyBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(property_);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder addPropertyBuilder() {
+      return getPropertyFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.PropertyDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder addPropertyBuilder(
+        int index) {
+      return getPropertyFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.PropertyDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto.Builder> 
+         getPropertyBuilderList() {
+      return getPropertyFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+        getPropertyFieldBuilder() {
+      if (propertyBuilder_ == null) {
+        propertyBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder>(
+                property_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        property_ = null;
+      }
+      return propertyBuilder_;
+    }
+
+    private com.google.protobuf.LazyStringList pks_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensurePksIsMutable() {
+      if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+        pks_ = new com.google.protobuf.LazyStringArrayList(pks_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPksList() {
+      return pks_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public int getPksCount() {
+      return pks_.size();
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public java.lang.String getPks(int index) {
+      return pks_.get(index);
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPksBytes(int index) {
+      return pks_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public Builder setPks(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePksIsMutable();
+      pks_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public Builder addPks(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePksIsMutable();
+      pks_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public Builder addAllPks(
+        java.lang.Iterable<java.lang.String> values) {
+      ensurePksIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, pks_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public Builder clearPks() {
+      pks_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * deprecated
+     * </pre>
+     *
+     * <code>repeated string pks = 3;</code>
+     */
+    public Builder addPksBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensurePksIsMutable();
+      pks_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object comment_ = "";
+    /**
+     * <code>optional string comment = 4;</code>
+     */
+    public java.lang.String getComment() {
+      java.lang.Object ref = comment_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        comment_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string comment = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCommentBytes() {
+      java.lang.Object ref = comment_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        comment_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string comment = 4;</code>
+     */
+    public Builder setComment(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      comment_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string comment = 4;</code>
+     */
+    public Builder clearComment() {
+      
+      comment_ = getDefaultInstance().getComment();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string comment = 4;</code>
+     */
+    public Builder setCommentBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      comment_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean isDimensionType_ ;
+    /**
+     * <code>optional bool isDimensionType = 5;</code>
+     */
+    public boolean getIsDimensionType() {
+      return isDimensionType_;
+    }
+    /**
+     * <code>optional bool isDimensionType = 5;</code>
+     */
+    public Builder setIsDimensionType(boolean value) {
+      
+      isDimensionType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool isDimensionType = 5;</code>
+     */
+    public Builder clearIsDimensionType() {
+      
+      isDimensionType_ = false;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.TypeOptionProto option_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeOptionProto, com.alibaba.maxgraph.proto.TypeOptionProto.Builder, com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder> optionBuilder_;
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    public boolean hasOption() {
+      return optionBuilder_ != null || option_ != null;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeOptionProto getOption() {
+      if (optionBuilder_ == null) {
+        return option_ == null ? com.alibaba.maxgraph.proto.TypeOptionProto.getDefaultInstance() : option_;
+      } else {
+        return optionBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    public Builder setOption(com.alibaba.maxgraph.proto.TypeOptionProto value) {
+      if (optionBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        option_ = value;
+        onChanged();
+      } else {
+        optionBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    public Builder setOption(
+        com.alibaba.maxgraph.proto.TypeOptionProto.Builder builderForValue) {
+      if (optionBuilder_ == null) {
+        option_ = builderForValue.build();
+        onChanged();
+      } else {
+        optionBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    public Builder mergeOption(com.alibaba.maxgraph.proto.TypeOptionProto value) {
+      if (optionBuilder_ == null) {
+        if (option_ != null) {
+          option_ =
+            com.alibaba.maxgraph.proto.TypeOptionProto.newBuilder(option_).mergeFrom(value).buildPartial();
+        } else {
+          option_ = value;
+        }
+        onChanged();
+      } else {
+        optionBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    public Builder clearOption() {
+      if (optionBuilder_ == null) {
+        option_ = null;
+        onChanged();
+      } else {
+        option_ = null;
+        optionBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeOptionProto.Builder getOptionBuilder() {
+      
+      onChanged();
+      return getOptionFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder getOptionOrBuilder() {
+      if (optionBuilder_ != null) {
+        return optionBuilder_.getMessageOrBuilder();
+      } else {
+        return option_ == null ?
+            com.alibaba.maxgraph.proto.TypeOptionProto.getDefaultInstance() : option_;
+      }
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 6;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeOptionProto, com.alibaba.maxgraph.proto.TypeOptionProto.Builder, com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder> 
+        getOptionFieldBuilder() {
+      if (optionBuilder_ == null) {
+        optionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.TypeOptionProto, com.alibaba.maxgraph.proto.TypeOptionProto.Builder, com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder>(
+                getOption(),
+                getParentForChildren(),
+                isClean());
+        option_ = null;
+      }
+      return optionBuilder_;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> index_ =
+      java.util.Collections.emptyList();
+    private void ensureIndexIsMutable() {
+      if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+        index_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.IndexDefProto>(index_);
+        bitField0_ |= 0x00000040;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.IndexDefProto, com.alibaba.maxgraph.proto.IndexDefProto.Builder, com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> indexBuilder_;
+
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> getIndexList() {
+      if (indexBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(index_);
+      } else {
+        return indexBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public int getIndexCount() {
+      if (indexBuilder_ == null) {
+        return index_.size();
+      } else {
+        return indexBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto getIndex(int index) {
+      if (indexBuilder_ == null) {
+        return index_.get(index);
+      } else {
+        return indexBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder setIndex(
+        int index, com.alibaba.maxgraph.proto.IndexDefProto value) {
+      if (indexBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureIndexIsMutable();
+        index_.set(index, value);
+        onChanged();
+      } else {
+        indexBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder setIndex(
+        int index, com.alibaba.maxgraph.proto.IndexDefProto.Builder builderForValue) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        index_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        indexBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder addIndex(com.alibaba.maxgraph.proto.IndexDefProto value) {
+      if (indexBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureIndexIsMutable();
+        index_.add(value);
+        onChanged();
+      } else {
+        indexBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder addIndex(
+        int index, com.alibaba.maxgraph.proto.IndexDefProto value) {
+      if (indexBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureIndexIsMutable();
+        index_.add(index, value);
+        onChanged();
+      } else {
+        indexBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder addIndex(
+        com.alibaba.maxgraph.proto.IndexDefProto.Builder builderForValue) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        index_.add(builderForValue.build());
+        onChanged();
+      } else {
+        indexBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder addIndex(
+        int index, com.alibaba.maxgraph.proto.IndexDefProto.Builder builderForValue) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        index_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        indexBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder addAllIndex(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.IndexDefProto> values) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, index_);
+        onChanged();
+      } else {
+        indexBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder clearIndex() {
+      if (indexBuilder_ == null) {
+        index_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+      } else {
+        indexBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public Builder removeIndex(int index) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        index_.remove(index);
+        onChanged();
+      } else {
+        indexBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto.Builder getIndexBuilder(
+        int index) {
+      return getIndexFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder getIndexOrBuilder(
+        int index) {
+      if (indexBuilder_ == null) {
+        return index_.get(index);  } else {
+        return indexBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> 
+         getIndexOrBuilderList() {
+      if (indexBuilder_ != null) {
+        return indexBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(index_);
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto.Builder addIndexBuilder() {
+      return getIndexFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.IndexDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto.Builder addIndexBuilder(
+        int index) {
+      return getIndexFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.IndexDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 7;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.IndexDefProto.Builder> 
+         getIndexBuilderList() {
+      return getIndexFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.IndexDefProto, com.alibaba.maxgraph.proto.IndexDefProto.Builder, com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> 
+        getIndexFieldBuilder() {
+      if (indexBuilder_ == null) {
+        indexBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.IndexDefProto, com.alibaba.maxgraph.proto.IndexDefProto.Builder, com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder>(
+                index_,
+                ((bitField0_ & 0x00000040) == 0x00000040),
+                getParentForChildren(),
+                isClean());
+        index_ = null;
+      }
+      return indexBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CreateVertexTypeReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:CreateVertexTypeReq)
+  private static final com.alibaba.maxgraph.proto.CreateVertexTypeReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.CreateVertexTypeReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.CreateVertexTypeReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CreateVertexTypeReq>
+      PARSER = new com.google.protobuf.AbstractParser<CreateVertexTypeReq>() {
+    public CreateVertexTypeReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CreateVertexTypeReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CreateVertexTypeReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CreateVertexTypeReq> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.CreateVertexTypeReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,922 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code DataLoadTargetPb}
+ */
+public  final class DataLoadTargetPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:DataLoadTargetPb)
+    DataLoadTargetPbOrBuilder {
+  // Use DataLoadTargetPb.newBuilder() to construct.
+  private DataLoadTargetPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DataLoadTargetPb() {
+    label_ = "";
+    srcLabel_ = "";
+    dstLabel_ = "";
+    labelId_ = 0;
+    srcLabelId_ = 0;
+    dstLabelId_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private DataLoadTargetPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            srcLabel_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            dstLabel_ = s;
+            break;
+          }
+          case 32: {
+
+            labelId_ = input.readInt32();
+            break;
+          }
+          case 40: {
+
+            srcLabelId_ = input.readInt32();
+            break;
+          }
+          case 48: {
+
+            dstLabelId_ = input.readInt32();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_DataLoadTargetPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_DataLoadTargetPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.DataLoadTargetPb.class, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder.class);
+  }
+
+  public static final int LABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SRCLABEL_FIELD_NUMBER = 2;
+  private volatile java.lang.Object srcLabel_;
+  /**
+   * <code>optional string srcLabel = 2;</code>
+   */
+  public java.lang.String getSrcLabel() {
+    java.lang.Object ref = srcLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      srcLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string srcLabel = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getSrcLabelBytes() {
+    java.lang.Object ref = srcLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      srcLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DSTLABEL_FIELD_NUMBER = 3;
+  private volatile java.lang.Object dstLabel_;
+  /**
+   * <code>optional string dstLabel = 3;</code>
+   */
+  public java.lang.String getDstLabel() {
+    java.lang.Object ref = dstLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      dstLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string dstLabel = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getDstLabelBytes() {
+    java.lang.Object ref = dstLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      dstLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int LABELID_FIELD_NUMBER = 4;
+  private int labelId_;
+  /**
+   * <code>optional int32 labelId = 4;</code>
+   */
+  public int getLabelId() {
+    return labelId_;
+  }
+
+  public static final int SRCLABELID_FIELD_NUMBER = 5;
+  private int srcLabelId_;
+  /**
+   * <code>optional int32 srcLabelId = 5;</code>
+   */
+  public int getSrcLabelId() {
+    return srcLabelId_;
+  }
+
+  public static final int DSTLABELID_FIELD_NUMBER = 6;
+  private int dstLabelId_;
+  /**
+   * <code>optional int32 dstLabelId = 6;</code>
+   */
+  public int getDstLabelId() {
+    return dstLabelId_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, label_);
+    }
+    if (!getSrcLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, srcLabel_);
+    }
+    if (!getDstLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dstLabel_);
+    }
+    if (labelId_ != 0) {
+      output.writeInt32(4, labelId_);
+    }
+    if (srcLabelId_ != 0) {
+      output.writeInt32(5, srcLabelId_);
+    }
+    if (dstLabelId_ != 0) {
+      output.writeInt32(6, dstLabelId_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, label_);
+    }
+    if (!getSrcLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, srcLabel_);
+    }
+    if (!getDstLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dstLabel_);
+    }
+    if (labelId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, labelId_);
+    }
+    if (srcLabelId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(5, srcLabelId_);
+    }
+    if (dstLabelId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(6, dstLabelId_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.DataLoadTargetPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.DataLoadTargetPb other = (com.alibaba.maxgraph.proto.DataLoadTargetPb) obj;
+
+    boolean result = true;
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && getSrcLabel()
+        .equals(other.getSrcLabel());
+    result = result && getDstLabel()
+        .equals(other.getDstLabel());
+    result = result && (getLabelId()
+        == other.getLabelId());
+    result = result && (getSrcLabelId()
+        == other.getSrcLabelId());
+    result = result && (getDstLabelId()
+        == other.getDstLabelId());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    hash = (37 * hash) + SRCLABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getSrcLabel().hashCode();
+    hash = (37 * hash) + DSTLABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getDstLabel().hashCode();
+    hash = (37 * hash) + LABELID_FIELD_NUMBER;
+    hash = (53 * hash) + getLabelId();
+    hash = (37 * hash) + SRCLABELID_FIELD_NUMBER;
+    hash = (53 * hash) + getSrcLabelId();
+    hash = (37 * hash) + DSTLABELID_FIELD_NUMBER;
+    hash = (53 * hash) + getDstLabelId();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.DataLoadTargetPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code DataLoadTargetPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:DataLoadTargetPb)
+      com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_DataLoadTargetPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_DataLoadTargetPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.DataLoadTargetPb.class, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.DataLoadTargetPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      label_ = "";
+
+      srcLabel_ = "";
+
+      dstLabel_ = "";
+
+      labelId_ = 0;
+
+      srcLabelId_ = 0;
+
+      dstLabelId_ = 0;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_DataLoadTargetPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.DataLoadTargetPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb build() {
+      com.alibaba.maxgraph.proto.DataLoadTargetPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb buildPartial() {
+      com.alibaba.maxgraph.proto.DataLoadTargetPb result = new com.alibaba.maxgraph.proto.DataLoadTargetPb(this);
+      result.label_ = label_;
+      result.srcLabel_ = srcLabel_;
+      result.dstLabel_ = dstLabel_;
+      result.labelId_ = labelId_;
+      result.srcLabelId_ = srcLabelId_;
+      result.dstLabelId_ = dstLabelId_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.DataLoadTargetPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.DataLoadTargetPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.DataLoadTargetPb other) {
+      if (other == com.alibaba.maxgraph.proto.DataLoadTargetPb.getDefaultInstance()) return this;
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (!other.getSrcLabel().isEmpty()) {
+        srcLabel_ = other.srcLabel_;
+        onChanged();
+      }
+      if (!other.getDstLabel().isEmpty()) {
+        dstLabel_ = other.dstLabel_;
+        onChanged();
+      }
+      if (other.getLabelId() != 0) {
+        setLabelId(other.getLabelId());
+      }
+      if (other.getSrcLabelId() != 0) {
+        setSrcLabelId(other.getSrcLabelId());
+      }
+      if (other.getDstLabelId() != 0) {
+        setDstLabelId(other.getDstLabelId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.DataLoadTargetPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.DataLoadTargetPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object srcLabel_ = "";
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public java.lang.String getSrcLabel() {
+      java.lang.Object ref = srcLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        srcLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSrcLabelBytes() {
+      java.lang.Object ref = srcLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        srcLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public Builder setSrcLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      srcLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public Builder clearSrcLabel() {
+      
+      srcLabel_ = getDefaultInstance().getSrcLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public Builder setSrcLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      srcLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object dstLabel_ = "";
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public java.lang.String getDstLabel() {
+      java.lang.Object ref = dstLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dstLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDstLabelBytes() {
+      java.lang.Object ref = dstLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dstLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public Builder setDstLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      dstLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public Builder clearDstLabel() {
+      
+      dstLabel_ = getDefaultInstance().getDstLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public Builder setDstLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      dstLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int labelId_ ;
+    /**
+     * <code>optional int32 labelId = 4;</code>
+     */
+    public int getLabelId() {
+      return labelId_;
+    }
+    /**
+     * <code>optional int32 labelId = 4;</code>
+     */
+    public Builder setLabelId(int value) {
+      
+      labelId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 labelId = 4;</code>
+     */
+    public Builder clearLabelId() {
+      
+      labelId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int srcLabelId_ ;
+    /**
+     * <code>optional int32 srcLabelId = 5;</code>
+     */
+    public int getSrcLabelId() {
+      return srcLabelId_;
+    }
+    /**
+     * <code>optional int32 srcLabelId = 5;</code>
+     */
+    public Builder setSrcLabelId(int value) {
+      
+      srcLabelId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 srcLabelId = 5;</code>
+     */
+    public Builder clearSrcLabelId() {
+      
+      srcLabelId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int dstLabelId_ ;
+    /**
+     * <code>optional int32 dstLabelId = 6;</code>
+     */
+    public int getDstLabelId() {
+      return dstLabelId_;
+    }
+    /**
+     * <code>optional int32 dstLabelId = 6;</code>
+     */
+    public Builder setDstLabelId(int value) {
+      
+      dstLabelId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 dstLabelId = 6;</code>
+     */
+    public Builder clearDstLabelId() {
+      
+      dstLabelId_ = 0;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:DataLoadTargetPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:DataLoadTargetPb)
+  private static final com.alibaba.maxgraph.proto.DataLoadTargetPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.DataLoadTargetPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.DataLoadTargetPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DataLoadTargetPb>
+      PARSER = new com.google.protobuf.AbstractParser<DataLoadTargetPb>() {
+    public DataLoadTargetPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DataLoadTargetPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DataLoadTargetPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DataLoadTargetPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.DataLoadTargetPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,54 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface DataLoadTargetPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DataLoadTargetPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional string srcLabel = 2;</code>
+   */
+  java.lang.String getSrcLabel();
+  /**
+   * <code>optional string srcLabel = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getSrcLabelBytes();
+
+  /**
+   * <code>optional string dstLabel = 3;</code>
+   */
+  java.lang.String getDstLabel();
+  /**
+   * <code>optional string dstLabel = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getDstLabelBytes();
+
+  /**
+   * <code>optional int32 labelId = 4;</code>
+   */
+  int getLabelId();
+
+  /**
+   * <code>optional int32 srcLabelId = 5;</code>
+   */
+  int getSrcLabelId();
+
+  /**
+   * <code>optional int32 dstLabelId = 6;</code>
+   */
+  int getDstLabelId();
+}
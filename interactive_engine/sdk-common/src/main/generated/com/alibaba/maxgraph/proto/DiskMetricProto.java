@@ -0,0 +1,671 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code DiskMetricProto}
+ */
+public  final class DiskMetricProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:DiskMetricProto)
+    DiskMetricProtoOrBuilder {
+  // Use DiskMetricProto.newBuilder() to construct.
+  private DiskMetricProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DiskMetricProto() {
+    path_ = "";
+    usage_ = 0L;
+    available_ = 0L;
+    total_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private DiskMetricProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            path_ = s;
+            break;
+          }
+          case 16: {
+
+            usage_ = input.readInt64();
+            break;
+          }
+          case 24: {
+
+            available_ = input.readInt64();
+            break;
+          }
+          case 32: {
+
+            total_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_DiskMetricProto_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_DiskMetricProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.DiskMetricProto.class, com.alibaba.maxgraph.proto.DiskMetricProto.Builder.class);
+  }
+
+  public static final int PATH_FIELD_NUMBER = 1;
+  private volatile java.lang.Object path_;
+  /**
+   * <code>optional string path = 1;</code>
+   */
+  public java.lang.String getPath() {
+    java.lang.Object ref = path_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      path_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string path = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getPathBytes() {
+    java.lang.Object ref = path_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      path_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int USAGE_FIELD_NUMBER = 2;
+  private long usage_;
+  /**
+   * <code>optional int64 usage = 2;</code>
+   */
+  public long getUsage() {
+    return usage_;
+  }
+
+  public static final int AVAILABLE_FIELD_NUMBER = 3;
+  private long available_;
+  /**
+   * <code>optional int64 available = 3;</code>
+   */
+  public long getAvailable() {
+    return available_;
+  }
+
+  public static final int TOTAL_FIELD_NUMBER = 4;
+  private long total_;
+  /**
+   * <code>optional int64 total = 4;</code>
+   */
+  public long getTotal() {
+    return total_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getPathBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
+    }
+    if (usage_ != 0L) {
+      output.writeInt64(2, usage_);
+    }
+    if (available_ != 0L) {
+      output.writeInt64(3, available_);
+    }
+    if (total_ != 0L) {
+      output.writeInt64(4, total_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getPathBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
+    }
+    if (usage_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, usage_);
+    }
+    if (available_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, available_);
+    }
+    if (total_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, total_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.DiskMetricProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.DiskMetricProto other = (com.alibaba.maxgraph.proto.DiskMetricProto) obj;
+
+    boolean result = true;
+    result = result && getPath()
+        .equals(other.getPath());
+    result = result && (getUsage()
+        == other.getUsage());
+    result = result && (getAvailable()
+        == other.getAvailable());
+    result = result && (getTotal()
+        == other.getTotal());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getPath().hashCode();
+    hash = (37 * hash) + USAGE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getUsage());
+    hash = (37 * hash) + AVAILABLE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAvailable());
+    hash = (37 * hash) + TOTAL_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTotal());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.DiskMetricProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.DiskMetricProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code DiskMetricProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:DiskMetricProto)
+      com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_DiskMetricProto_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_DiskMetricProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.DiskMetricProto.class, com.alibaba.maxgraph.proto.DiskMetricProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.DiskMetricProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      path_ = "";
+
+      usage_ = 0L;
+
+      available_ = 0L;
+
+      total_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_DiskMetricProto_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.DiskMetricProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.DiskMetricProto.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.DiskMetricProto build() {
+      com.alibaba.maxgraph.proto.DiskMetricProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.DiskMetricProto buildPartial() {
+      com.alibaba.maxgraph.proto.DiskMetricProto result = new com.alibaba.maxgraph.proto.DiskMetricProto(this);
+      result.path_ = path_;
+      result.usage_ = usage_;
+      result.available_ = available_;
+      result.total_ = total_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.DiskMetricProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.DiskMetricProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.DiskMetricProto other) {
+      if (other == com.alibaba.maxgraph.proto.DiskMetricProto.getDefaultInstance()) return this;
+      if (!other.getPath().isEmpty()) {
+        path_ = other.path_;
+        onChanged();
+      }
+      if (other.getUsage() != 0L) {
+        setUsage(other.getUsage());
+      }
+      if (other.getAvailable() != 0L) {
+        setAvailable(other.getAvailable());
+      }
+      if (other.getTotal() != 0L) {
+        setTotal(other.getTotal());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.DiskMetricProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.DiskMetricProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object path_ = "";
+    /**
+     * <code>optional string path = 1;</code>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        path_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string path = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string path = 1;</code>
+     */
+    public Builder setPath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      path_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string path = 1;</code>
+     */
+    public Builder clearPath() {
+      
+      path_ = getDefaultInstance().getPath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string path = 1;</code>
+     */
+    public Builder setPathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      path_ = value;
+      onChanged();
+      return this;
+    }
+
+    private long usage_ ;
+    /**
+     * <code>optional int64 usage = 2;</code>
+     */
+    public long getUsage() {
+      return usage_;
+    }
+    /**
+     * <code>optional int64 usage = 2;</code>
+     */
+    public Builder setUsage(long value) {
+      
+      usage_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 usage = 2;</code>
+     */
+    public Builder clearUsage() {
+      
+      usage_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long available_ ;
+    /**
+     * <code>optional int64 available = 3;</code>
+     */
+    public long getAvailable() {
+      return available_;
+    }
+    /**
+     * <code>optional int64 available = 3;</code>
+     */
+    public Builder setAvailable(long value) {
+      
+      available_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 available = 3;</code>
+     */
+    public Builder clearAvailable() {
+      
+      available_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long total_ ;
+    /**
+     * <code>optional int64 total = 4;</code>
+     */
+    public long getTotal() {
+      return total_;
+    }
+    /**
+     * <code>optional int64 total = 4;</code>
+     */
+    public Builder setTotal(long value) {
+      
+      total_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 total = 4;</code>
+     */
+    public Builder clearTotal() {
+      
+      total_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:DiskMetricProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:DiskMetricProto)
+  private static final com.alibaba.maxgraph.proto.DiskMetricProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.DiskMetricProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.DiskMetricProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DiskMetricProto>
+      PARSER = new com.google.protobuf.AbstractParser<DiskMetricProto>() {
+    public DiskMetricProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DiskMetricProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DiskMetricProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DiskMetricProto> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.DiskMetricProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
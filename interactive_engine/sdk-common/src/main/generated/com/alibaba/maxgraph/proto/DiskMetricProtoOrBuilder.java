@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface DiskMetricProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DiskMetricProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string path = 1;</code>
+   */
+  java.lang.String getPath();
+  /**
+   * <code>optional string path = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getPathBytes();
+
+  /**
+   * <code>optional int64 usage = 2;</code>
+   */
+  long getUsage();
+
+  /**
+   * <code>optional int64 available = 3;</code>
+   */
+  long getAvailable();
+
+  /**
+   * <code>optional int64 total = 4;</code>
+   */
+  long getTotal();
+}
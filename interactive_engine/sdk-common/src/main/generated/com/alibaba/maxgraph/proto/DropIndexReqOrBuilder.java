@@ -0,0 +1,29 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface DropIndexReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DropIndexReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional string name = 2;</code>
+   */
+  java.lang.String getName();
+  /**
+   * <code>optional string name = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+}
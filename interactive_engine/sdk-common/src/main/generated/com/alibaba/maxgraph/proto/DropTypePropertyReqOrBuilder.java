@@ -0,0 +1,38 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface DropTypePropertyReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DropTypePropertyReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>repeated string propertyName = 2;</code>
+   */
+  java.util.List<java.lang.String>
+      getPropertyNameList();
+  /**
+   * <code>repeated string propertyName = 2;</code>
+   */
+  int getPropertyNameCount();
+  /**
+   * <code>repeated string propertyName = 2;</code>
+   */
+  java.lang.String getPropertyName(int index);
+  /**
+   * <code>repeated string propertyName = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getPropertyNameBytes(int index);
+}
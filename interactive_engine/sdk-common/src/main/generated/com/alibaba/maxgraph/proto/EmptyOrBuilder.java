@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface EmptyOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:Empty)
+    com.google.protobuf.MessageOrBuilder {
+}
@@ -0,0 +1,55 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface EndpointProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:EndpointProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string host = 1;</code>
+   */
+  java.lang.String getHost();
+  /**
+   * <code>optional string host = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getHostBytes();
+
+  /**
+   * <pre>
+   * default rpc port
+   * </pre>
+   *
+   * <code>optional int32 port = 2;</code>
+   */
+  int getPort();
+
+  /**
+   * <pre>
+   * gremlin server port, frontend only
+   * </pre>
+   *
+   * <code>optional int32 gremlinServerPort = 3;</code>
+   */
+  int getGremlinServerPort();
+
+  /**
+   * <pre>
+   * timely's port, executor only
+   * </pre>
+   *
+   * <code>optional int32 runtimePort = 4;</code>
+   */
+  int getRuntimePort();
+
+  /**
+   * <pre>
+   * runtime control port to query or cancel running job, and async timely's port, executor only.
+   * </pre>
+   *
+   * <code>optional int32 runtimCtrlAndAsyncPort = 5;</code>
+   */
+  int getRuntimCtrlAndAsyncPort();
+}
@@ -0,0 +1,1018 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code IndexDefProto}
+ */
+public  final class IndexDefProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:IndexDefProto)
+    IndexDefProtoOrBuilder {
+  // Use IndexDefProto.newBuilder() to construct.
+  private IndexDefProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private IndexDefProto() {
+    name_ = "";
+    propertyId_ = java.util.Collections.emptyList();
+    indexType_ = 0;
+    property_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private IndexDefProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            name_ = s;
+            break;
+          }
+          case 16: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              propertyId_ = new java.util.ArrayList<java.lang.Integer>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            propertyId_.add(input.readInt32());
+            break;
+          }
+          case 18: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+              propertyId_ = new java.util.ArrayList<java.lang.Integer>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              propertyId_.add(input.readInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 24: {
+            int rawValue = input.readEnum();
+
+            indexType_ = rawValue;
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+              property_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000008;
+            }
+            property_.add(s);
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        propertyId_ = java.util.Collections.unmodifiableList(propertyId_);
+      }
+      if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+        property_ = property_.getUnmodifiableView();
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_IndexDefProto_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_IndexDefProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.IndexDefProto.class, com.alibaba.maxgraph.proto.IndexDefProto.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code IndexDefProto.Type}
+   */
+  public enum Type
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>PRIMARY_KEY = 0;</code>
+     */
+    PRIMARY_KEY(0),
+    /**
+     * <code>UNIQUE = 1;</code>
+     */
+    UNIQUE(1),
+    /**
+     * <code>UNIQUE_WITH_EDGE = 2;</code>
+     */
+    UNIQUE_WITH_EDGE(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>PRIMARY_KEY = 0;</code>
+     */
+    public static final int PRIMARY_KEY_VALUE = 0;
+    /**
+     * <code>UNIQUE = 1;</code>
+     */
+    public static final int UNIQUE_VALUE = 1;
+    /**
+     * <code>UNIQUE_WITH_EDGE = 2;</code>
+     */
+    public static final int UNIQUE_WITH_EDGE_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Type valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static Type forNumber(int value) {
+      switch (value) {
+        case 0: return PRIMARY_KEY;
+        case 1: return UNIQUE;
+        case 2: return UNIQUE_WITH_EDGE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Type>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Type> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Type>() {
+            public Type findValueByNumber(int number) {
+              return Type.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.IndexDefProto.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Type[] VALUES = values();
+
+    public static Type valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Type(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:IndexDefProto.Type)
+  }
+
+  private int bitField0_;
+  public static final int NAME_FIELD_NUMBER = 1;
+  private volatile java.lang.Object name_;
+  /**
+   * <code>optional string name = 1;</code>
+   */
+  public java.lang.String getName() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      name_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string name = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getNameBytes() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      name_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int PROPERTYID_FIELD_NUMBER = 2;
+  private java.util.List<java.lang.Integer> propertyId_;
+  /**
+   * <code>repeated int32 propertyId = 2;</code>
+   */
+  public java.util.List<java.lang.Integer>
+      getPropertyIdList() {
+    return propertyId_;
+  }
+  /**
+   * <code>repeated int32 propertyId = 2;</code>
+   */
+  public int getPropertyIdCount() {
+    return propertyId_.size();
+  }
+  /**
+   * <code>repeated int32 propertyId = 2;</code>
+   */
+  public int getPropertyId(int index) {
+    return propertyId_.get(index);
+  }
+  private int propertyIdMemoizedSerializedSize = -1;
+
+  public static final int INDEXTYPE_FIELD_NUMBER = 3;
+  private int indexType_;
+  /**
+   * <code>optional .IndexDefProto.Type indexType = 3;</code>
+   */
+  public int getIndexTypeValue() {
+    return indexType_;
+  }
+  /**
+   * <code>optional .IndexDefProto.Type indexType = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.IndexDefProto.Type getIndexType() {
+    com.alibaba.maxgraph.proto.IndexDefProto.Type result = com.alibaba.maxgraph.proto.IndexDefProto.Type.valueOf(indexType_);
+    return result == null ? com.alibaba.maxgraph.proto.IndexDefProto.Type.UNRECOGNIZED : result;
+  }
+
+  public static final int PROPERTY_FIELD_NUMBER = 4;
+  private com.google.protobuf.LazyStringList property_;
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  public com.google.protobuf.ProtocolStringList
+      getPropertyList() {
+    return property_;
+  }
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  public int getPropertyCount() {
+    return property_.size();
+  }
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  public java.lang.String getProperty(int index) {
+    return property_.get(index);
+  }
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  public com.google.protobuf.ByteString
+      getPropertyBytes(int index) {
+    return property_.getByteString(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (!getNameBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+    }
+    if (getPropertyIdList().size() > 0) {
+      output.writeUInt32NoTag(18);
+      output.writeUInt32NoTag(propertyIdMemoizedSerializedSize);
+    }
+    for (int i = 0; i < propertyId_.size(); i++) {
+      output.writeInt32NoTag(propertyId_.get(i));
+    }
+    if (indexType_ != com.alibaba.maxgraph.proto.IndexDefProto.Type.PRIMARY_KEY.getNumber()) {
+      output.writeEnum(3, indexType_);
+    }
+    for (int i = 0; i < property_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, property_.getRaw(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getNameBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < propertyId_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(propertyId_.get(i));
+      }
+      size += dataSize;
+      if (!getPropertyIdList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      propertyIdMemoizedSerializedSize = dataSize;
+    }
+    if (indexType_ != com.alibaba.maxgraph.proto.IndexDefProto.Type.PRIMARY_KEY.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, indexType_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < property_.size(); i++) {
+        dataSize += computeStringSizeNoTag(property_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getPropertyList().size();
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.IndexDefProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.IndexDefProto other = (com.alibaba.maxgraph.proto.IndexDefProto) obj;
+
+    boolean result = true;
+    result = result && getName()
+        .equals(other.getName());
+    result = result && getPropertyIdList()
+        .equals(other.getPropertyIdList());
+    result = result && indexType_ == other.indexType_;
+    result = result && getPropertyList()
+        .equals(other.getPropertyList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + NAME_FIELD_NUMBER;
+    hash = (53 * hash) + getName().hashCode();
+    if (getPropertyIdCount() > 0) {
+      hash = (37 * hash) + PROPERTYID_FIELD_NUMBER;
+      hash = (53 * hash) + getPropertyIdList().hashCode();
+    }
+    hash = (37 * hash) + INDEXTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + indexType_;
+    if (getPropertyCount() > 0) {
+      hash = (37 * hash) + PROPERTY_FIELD_NUMBER;
+      hash = (53 * hash) + getPropertyList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.IndexDefProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.IndexDefProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code IndexDefProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:IndexDefProto)
+      com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_IndexDefProto_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_IndexDefProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.IndexDefProto.class, com.alibaba.maxgraph.proto.IndexDefProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.IndexDefProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      name_ = "";
+
+      propertyId_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      indexType_ = 0;
+
+      property_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_IndexDefProto_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.IndexDefProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.IndexDefProto.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.IndexDefProto build() {
+      com.alibaba.maxgraph.proto.IndexDefProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.IndexDefProto buildPartial() {
+      com.alibaba.maxgraph.proto.IndexDefProto result = new com.alibaba.maxgraph.proto.IndexDefProto(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.name_ = name_;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        propertyId_ = java.util.Collections.unmodifiableList(propertyId_);
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.propertyId_ = propertyId_;
+      result.indexType_ = indexType_;
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        property_ = property_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000008);
+      }
+      result.property_ = property_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.IndexDefProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.IndexDefProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.IndexDefProto other) {
+      if (other == com.alibaba.maxgraph.proto.IndexDefProto.getDefaultInstance()) return this;
+      if (!other.getName().isEmpty()) {
+        name_ = other.name_;
+        onChanged();
+      }
+      if (!other.propertyId_.isEmpty()) {
+        if (propertyId_.isEmpty()) {
+          propertyId_ = other.propertyId_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensurePropertyIdIsMutable();
+          propertyId_.addAll(other.propertyId_);
+        }
+        onChanged();
+      }
+      if (other.indexType_ != 0) {
+        setIndexTypeValue(other.getIndexTypeValue());
+      }
+      if (!other.property_.isEmpty()) {
+        if (property_.isEmpty()) {
+          property_ = other.property_;
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          ensurePropertyIsMutable();
+          property_.addAll(other.property_);
+        }
+        onChanged();
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.IndexDefProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.IndexDefProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object name_ = "";
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public Builder setName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      name_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public Builder clearName() {
+      
+      name_ = getDefaultInstance().getName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public Builder setNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      name_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<java.lang.Integer> propertyId_ = java.util.Collections.emptyList();
+    private void ensurePropertyIdIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        propertyId_ = new java.util.ArrayList<java.lang.Integer>(propertyId_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <code>repeated int32 propertyId = 2;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getPropertyIdList() {
+      return java.util.Collections.unmodifiableList(propertyId_);
+    }
+    /**
+     * <code>repeated int32 propertyId = 2;</code>
+     */
+    public int getPropertyIdCount() {
+      return propertyId_.size();
+    }
+    /**
+     * <code>repeated int32 propertyId = 2;</code>
+     */
+    public int getPropertyId(int index) {
+      return propertyId_.get(index);
+    }
+    /**
+     * <code>repeated int32 propertyId = 2;</code>
+     */
+    public Builder setPropertyId(
+        int index, int value) {
+      ensurePropertyIdIsMutable();
+      propertyId_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 propertyId = 2;</code>
+     */
+    public Builder addPropertyId(int value) {
+      ensurePropertyIdIsMutable();
+      propertyId_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 propertyId = 2;</code>
+     */
+    public Builder addAllPropertyId(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensurePropertyIdIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, propertyId_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 propertyId = 2;</code>
+     */
+    public Builder clearPropertyId() {
+      propertyId_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+
+    private int indexType_ = 0;
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public int getIndexTypeValue() {
+      return indexType_;
+    }
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public Builder setIndexTypeValue(int value) {
+      indexType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto.Type getIndexType() {
+      com.alibaba.maxgraph.proto.IndexDefProto.Type result = com.alibaba.maxgraph.proto.IndexDefProto.Type.valueOf(indexType_);
+      return result == null ? com.alibaba.maxgraph.proto.IndexDefProto.Type.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public Builder setIndexType(com.alibaba.maxgraph.proto.IndexDefProto.Type value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      indexType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .IndexDefProto.Type indexType = 3;</code>
+     */
+    public Builder clearIndexType() {
+      
+      indexType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList property_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensurePropertyIsMutable() {
+      if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+        property_ = new com.google.protobuf.LazyStringArrayList(property_);
+        bitField0_ |= 0x00000008;
+       }
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPropertyList() {
+      return property_.getUnmodifiableView();
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public int getPropertyCount() {
+      return property_.size();
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public java.lang.String getProperty(int index) {
+      return property_.get(index);
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPropertyBytes(int index) {
+      return property_.getByteString(index);
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder setProperty(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertyIsMutable();
+      property_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder addProperty(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertyIsMutable();
+      property_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder addAllProperty(
+        java.lang.Iterable<java.lang.String> values) {
+      ensurePropertyIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, property_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder clearProperty() {
+      property_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string property = 4;</code>
+     */
+    public Builder addPropertyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensurePropertyIsMutable();
+      property_.add(value);
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:IndexDefProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:IndexDefProto)
+  private static final com.alibaba.maxgraph.proto.IndexDefProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.IndexDefProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.IndexDefProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<IndexDefProto>
+      PARSER = new com.google.protobuf.AbstractParser<IndexDefProto>() {
+    public IndexDefProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new IndexDefProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<IndexDefProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<IndexDefProto> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.IndexDefProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
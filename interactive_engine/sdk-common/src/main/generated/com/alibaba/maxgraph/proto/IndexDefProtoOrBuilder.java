@@ -0,0 +1,60 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface IndexDefProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:IndexDefProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string name = 1;</code>
+   */
+  java.lang.String getName();
+  /**
+   * <code>optional string name = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <code>repeated int32 propertyId = 2;</code>
+   */
+  java.util.List<java.lang.Integer> getPropertyIdList();
+  /**
+   * <code>repeated int32 propertyId = 2;</code>
+   */
+  int getPropertyIdCount();
+  /**
+   * <code>repeated int32 propertyId = 2;</code>
+   */
+  int getPropertyId(int index);
+
+  /**
+   * <code>optional .IndexDefProto.Type indexType = 3;</code>
+   */
+  int getIndexTypeValue();
+  /**
+   * <code>optional .IndexDefProto.Type indexType = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.IndexDefProto.Type getIndexType();
+
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  java.util.List<java.lang.String>
+      getPropertyList();
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  int getPropertyCount();
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  java.lang.String getProperty(int index);
+  /**
+   * <code>repeated string property = 4;</code>
+   */
+  com.google.protobuf.ByteString
+      getPropertyBytes(int index);
+}
@@ -0,0 +1,982 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code MetricInfoProto}
+ */
+public  final class MetricInfoProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:MetricInfoProto)
+    MetricInfoProtoOrBuilder {
+  // Use MetricInfoProto.newBuilder() to construct.
+  private MetricInfoProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private MetricInfoProto() {
+    diskMetrics_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private MetricInfoProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              metricInfo_ = com.google.protobuf.MapField.newMapField(
+                  MetricInfoDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+            metricInfo = input.readMessage(
+                MetricInfoDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            metricInfo_.getMutableMap().put(metricInfo.getKey(), metricInfo.getValue());
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              diskMetrics_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.DiskMetricProto>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            diskMetrics_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.DiskMetricProto.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        diskMetrics_ = java.util.Collections.unmodifiableList(diskMetrics_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_MetricInfoProto_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 1:
+        return internalGetMetricInfo();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_MetricInfoProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.MetricInfoProto.class, com.alibaba.maxgraph.proto.MetricInfoProto.Builder.class);
+  }
+
+  public static final int METRICINFO_FIELD_NUMBER = 1;
+  private static final class MetricInfoDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.String>newDefaultInstance(
+                com.alibaba.maxgraph.proto.CommonProto.internal_static_MetricInfoProto_MetricInfoEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.String> metricInfo_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+  internalGetMetricInfo() {
+    if (metricInfo_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          MetricInfoDefaultEntryHolder.defaultEntry);
+    }
+    return metricInfo_;
+  }
+
+  public int getMetricInfoCount() {
+    return internalGetMetricInfo().getMap().size();
+  }
+  /**
+   * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+   */
+
+  public boolean containsMetricInfo(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetMetricInfo().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getMetricInfoMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.String> getMetricInfo() {
+    return getMetricInfoMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.String> getMetricInfoMap() {
+    return internalGetMetricInfo().getMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+   */
+
+  public java.lang.String getMetricInfoOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetMetricInfo().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+   */
+
+  public java.lang.String getMetricInfoOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetMetricInfo().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int DISKMETRICS_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> diskMetrics_;
+  /**
+   * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> getDiskMetricsList() {
+    return diskMetrics_;
+  }
+  /**
+   * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> 
+      getDiskMetricsOrBuilderList() {
+    return diskMetrics_;
+  }
+  /**
+   * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+   */
+  public int getDiskMetricsCount() {
+    return diskMetrics_.size();
+  }
+  /**
+   * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.DiskMetricProto getDiskMetrics(int index) {
+    return diskMetrics_.get(index);
+  }
+  /**
+   * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder getDiskMetricsOrBuilder(
+      int index) {
+    return diskMetrics_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetMetricInfo().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      metricInfo = MetricInfoDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(1, metricInfo);
+    }
+    for (int i = 0; i < diskMetrics_.size(); i++) {
+      output.writeMessage(2, diskMetrics_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetMetricInfo().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      metricInfo = MetricInfoDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, metricInfo);
+    }
+    for (int i = 0; i < diskMetrics_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, diskMetrics_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.MetricInfoProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.MetricInfoProto other = (com.alibaba.maxgraph.proto.MetricInfoProto) obj;
+
+    boolean result = true;
+    result = result && internalGetMetricInfo().equals(
+        other.internalGetMetricInfo());
+    result = result && getDiskMetricsList()
+        .equals(other.getDiskMetricsList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (!internalGetMetricInfo().getMap().isEmpty()) {
+      hash = (37 * hash) + METRICINFO_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetMetricInfo().hashCode();
+    }
+    if (getDiskMetricsCount() > 0) {
+      hash = (37 * hash) + DISKMETRICS_FIELD_NUMBER;
+      hash = (53 * hash) + getDiskMetricsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.MetricInfoProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.MetricInfoProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code MetricInfoProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:MetricInfoProto)
+      com.alibaba.maxgraph.proto.MetricInfoProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_MetricInfoProto_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMetricInfo();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMutableMetricInfo();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_MetricInfoProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.MetricInfoProto.class, com.alibaba.maxgraph.proto.MetricInfoProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.MetricInfoProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getDiskMetricsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      internalGetMutableMetricInfo().clear();
+      if (diskMetricsBuilder_ == null) {
+        diskMetrics_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        diskMetricsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_MetricInfoProto_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.MetricInfoProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.MetricInfoProto build() {
+      com.alibaba.maxgraph.proto.MetricInfoProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.MetricInfoProto buildPartial() {
+      com.alibaba.maxgraph.proto.MetricInfoProto result = new com.alibaba.maxgraph.proto.MetricInfoProto(this);
+      int from_bitField0_ = bitField0_;
+      result.metricInfo_ = internalGetMetricInfo();
+      result.metricInfo_.makeImmutable();
+      if (diskMetricsBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          diskMetrics_ = java.util.Collections.unmodifiableList(diskMetrics_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.diskMetrics_ = diskMetrics_;
+      } else {
+        result.diskMetrics_ = diskMetricsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.MetricInfoProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.MetricInfoProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.MetricInfoProto other) {
+      if (other == com.alibaba.maxgraph.proto.MetricInfoProto.getDefaultInstance()) return this;
+      internalGetMutableMetricInfo().mergeFrom(
+          other.internalGetMetricInfo());
+      if (diskMetricsBuilder_ == null) {
+        if (!other.diskMetrics_.isEmpty()) {
+          if (diskMetrics_.isEmpty()) {
+            diskMetrics_ = other.diskMetrics_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureDiskMetricsIsMutable();
+            diskMetrics_.addAll(other.diskMetrics_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.diskMetrics_.isEmpty()) {
+          if (diskMetricsBuilder_.isEmpty()) {
+            diskMetricsBuilder_.dispose();
+            diskMetricsBuilder_ = null;
+            diskMetrics_ = other.diskMetrics_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            diskMetricsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getDiskMetricsFieldBuilder() : null;
+          } else {
+            diskMetricsBuilder_.addAllMessages(other.diskMetrics_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.MetricInfoProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.MetricInfoProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> metricInfo_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMetricInfo() {
+      if (metricInfo_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MetricInfoDefaultEntryHolder.defaultEntry);
+      }
+      return metricInfo_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMutableMetricInfo() {
+      onChanged();;
+      if (metricInfo_ == null) {
+        metricInfo_ = com.google.protobuf.MapField.newMapField(
+            MetricInfoDefaultEntryHolder.defaultEntry);
+      }
+      if (!metricInfo_.isMutable()) {
+        metricInfo_ = metricInfo_.copy();
+      }
+      return metricInfo_;
+    }
+
+    public int getMetricInfoCount() {
+      return internalGetMetricInfo().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+     */
+
+    public boolean containsMetricInfo(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetMetricInfo().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMetricInfoMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getMetricInfo() {
+      return getMetricInfoMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getMetricInfoMap() {
+      return internalGetMetricInfo().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+     */
+
+    public java.lang.String getMetricInfoOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMetricInfo().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+     */
+
+    public java.lang.String getMetricInfoOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMetricInfo().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearMetricInfo() {
+      getMutableMetricInfo().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+     */
+
+    public Builder removeMetricInfo(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      getMutableMetricInfo().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String>
+    getMutableMetricInfo() {
+      return internalGetMutableMetricInfo().getMutableMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+     */
+    public Builder putMetricInfo(
+        java.lang.String key,
+        java.lang.String value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      getMutableMetricInfo().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; metricInfo = 1;</code>
+     */
+
+    public Builder putAllMetricInfo(
+        java.util.Map<java.lang.String, java.lang.String> values) {
+      getMutableMetricInfo().putAll(values);
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> diskMetrics_ =
+      java.util.Collections.emptyList();
+    private void ensureDiskMetricsIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        diskMetrics_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.DiskMetricProto>(diskMetrics_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.DiskMetricProto, com.alibaba.maxgraph.proto.DiskMetricProto.Builder, com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> diskMetricsBuilder_;
+
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> getDiskMetricsList() {
+      if (diskMetricsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(diskMetrics_);
+      } else {
+        return diskMetricsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public int getDiskMetricsCount() {
+      if (diskMetricsBuilder_ == null) {
+        return diskMetrics_.size();
+      } else {
+        return diskMetricsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProto getDiskMetrics(int index) {
+      if (diskMetricsBuilder_ == null) {
+        return diskMetrics_.get(index);
+      } else {
+        return diskMetricsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder setDiskMetrics(
+        int index, com.alibaba.maxgraph.proto.DiskMetricProto value) {
+      if (diskMetricsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDiskMetricsIsMutable();
+        diskMetrics_.set(index, value);
+        onChanged();
+      } else {
+        diskMetricsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder setDiskMetrics(
+        int index, com.alibaba.maxgraph.proto.DiskMetricProto.Builder builderForValue) {
+      if (diskMetricsBuilder_ == null) {
+        ensureDiskMetricsIsMutable();
+        diskMetrics_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        diskMetricsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder addDiskMetrics(com.alibaba.maxgraph.proto.DiskMetricProto value) {
+      if (diskMetricsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDiskMetricsIsMutable();
+        diskMetrics_.add(value);
+        onChanged();
+      } else {
+        diskMetricsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder addDiskMetrics(
+        int index, com.alibaba.maxgraph.proto.DiskMetricProto value) {
+      if (diskMetricsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDiskMetricsIsMutable();
+        diskMetrics_.add(index, value);
+        onChanged();
+      } else {
+        diskMetricsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder addDiskMetrics(
+        com.alibaba.maxgraph.proto.DiskMetricProto.Builder builderForValue) {
+      if (diskMetricsBuilder_ == null) {
+        ensureDiskMetricsIsMutable();
+        diskMetrics_.add(builderForValue.build());
+        onChanged();
+      } else {
+        diskMetricsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder addDiskMetrics(
+        int index, com.alibaba.maxgraph.proto.DiskMetricProto.Builder builderForValue) {
+      if (diskMetricsBuilder_ == null) {
+        ensureDiskMetricsIsMutable();
+        diskMetrics_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        diskMetricsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder addAllDiskMetrics(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.DiskMetricProto> values) {
+      if (diskMetricsBuilder_ == null) {
+        ensureDiskMetricsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, diskMetrics_);
+        onChanged();
+      } else {
+        diskMetricsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder clearDiskMetrics() {
+      if (diskMetricsBuilder_ == null) {
+        diskMetrics_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        diskMetricsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public Builder removeDiskMetrics(int index) {
+      if (diskMetricsBuilder_ == null) {
+        ensureDiskMetricsIsMutable();
+        diskMetrics_.remove(index);
+        onChanged();
+      } else {
+        diskMetricsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProto.Builder getDiskMetricsBuilder(
+        int index) {
+      return getDiskMetricsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder getDiskMetricsOrBuilder(
+        int index) {
+      if (diskMetricsBuilder_ == null) {
+        return diskMetrics_.get(index);  } else {
+        return diskMetricsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> 
+         getDiskMetricsOrBuilderList() {
+      if (diskMetricsBuilder_ != null) {
+        return diskMetricsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(diskMetrics_);
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProto.Builder addDiskMetricsBuilder() {
+      return getDiskMetricsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.DiskMetricProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProto.Builder addDiskMetricsBuilder(
+        int index) {
+      return getDiskMetricsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.DiskMetricProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskMetrics = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto.Builder> 
+         getDiskMetricsBuilderList() {
+      return getDiskMetricsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.DiskMetricProto, com.alibaba.maxgraph.proto.DiskMetricProto.Builder, com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> 
+        getDiskMetricsFieldBuilder() {
+      if (diskMetricsBuilder_ == null) {
+        diskMetricsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.DiskMetricProto, com.alibaba.maxgraph.proto.DiskMetricProto.Builder, com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder>(
+                diskMetrics_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        diskMetrics_ = null;
+      }
+      return diskMetricsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:MetricInfoProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:MetricInfoProto)
+  private static final com.alibaba.maxgraph.proto.MetricInfoProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.MetricInfoProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.MetricInfoProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<MetricInfoProto>
+      PARSER = new com.google.protobuf.AbstractParser<MetricInfoProto>() {
+    public MetricInfoProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MetricInfoProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<MetricInfoProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<MetricInfoProto> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.MetricInfoProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
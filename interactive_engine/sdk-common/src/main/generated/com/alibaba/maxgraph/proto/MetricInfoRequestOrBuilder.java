@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface MetricInfoRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:MetricInfoRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string metricName = 1;</code>
+   */
+  java.lang.String getMetricName();
+  /**
+   * <code>optional string metricName = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getMetricNameBytes();
+}
@@ -0,0 +1,46 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface MetricInfoRespOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:MetricInfoResp)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .ServerMetricValue values = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.ServerMetricValue> 
+      getValuesList();
+  /**
+   * <code>repeated .ServerMetricValue values = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ServerMetricValue getValues(int index);
+  /**
+   * <code>repeated .ServerMetricValue values = 1;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated .ServerMetricValue values = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.ServerMetricValueOrBuilder> 
+      getValuesOrBuilderList();
+  /**
+   * <code>repeated .ServerMetricValue values = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ServerMetricValueOrBuilder getValuesOrBuilder(
+      int index);
+
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  boolean hasResp();
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.Response getResp();
+  /**
+   * <code>optional .Response resp = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder();
+}
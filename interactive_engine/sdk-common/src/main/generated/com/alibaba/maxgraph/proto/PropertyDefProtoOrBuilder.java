@@ -0,0 +1,59 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface PropertyDefProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:PropertyDefProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 id = 1;</code>
+   */
+  int getId();
+
+  /**
+   * <code>optional string name = 2;</code>
+   */
+  java.lang.String getName();
+  /**
+   * <code>optional string name = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <code>optional int32 dataType = 3;</code>
+   */
+  int getDataType();
+
+  /**
+   * <code>optional string typeExpression = 4;</code>
+   */
+  java.lang.String getTypeExpression();
+  /**
+   * <code>optional string typeExpression = 4;</code>
+   */
+  com.google.protobuf.ByteString
+      getTypeExpressionBytes();
+
+  /**
+   * <code>optional string comment = 5;</code>
+   */
+  java.lang.String getComment();
+  /**
+   * <code>optional string comment = 5;</code>
+   */
+  com.google.protobuf.ByteString
+      getCommentBytes();
+
+  /**
+   * <code>optional bool hasDefaultValue = 6;</code>
+   */
+  boolean getHasDefaultValue();
+
+  /**
+   * <code>optional bytes defaultValue = 7;</code>
+   */
+  com.google.protobuf.ByteString getDefaultValue();
+}
@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RelationShipProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RelationShipProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .TypeIdProto srcId = 1;</code>
+   */
+  boolean hasSrcId();
+  /**
+   * <code>optional .TypeIdProto srcId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProto getSrcId();
+  /**
+   * <code>optional .TypeIdProto srcId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder getSrcIdOrBuilder();
+
+  /**
+   * <code>optional .TypeIdProto dstId = 2;</code>
+   */
+  boolean hasDstId();
+  /**
+   * <code>optional .TypeIdProto dstId = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProto getDstId();
+  /**
+   * <code>optional .TypeIdProto dstId = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder getDstIdOrBuilder();
+
+  /**
+   * <code>optional .TypeIdProto edgeId = 3;</code>
+   */
+  boolean hasEdgeId();
+  /**
+   * <code>optional .TypeIdProto edgeId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProto getEdgeId();
+  /**
+   * <code>optional .TypeIdProto edgeId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder getEdgeIdOrBuilder();
+}
@@ -0,0 +1,748 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RelationShipReq}
+ */
+public  final class RelationShipReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RelationShipReq)
+    RelationShipReqOrBuilder {
+  // Use RelationShipReq.newBuilder() to construct.
+  private RelationShipReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RelationShipReq() {
+    edgeLabel_ = "";
+    srcVertexLabel_ = "";
+    dstVertexLabel_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private RelationShipReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            edgeLabel_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            srcVertexLabel_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            dstVertexLabel_ = s;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipReq_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RelationShipReq.class, com.alibaba.maxgraph.proto.RelationShipReq.Builder.class);
+  }
+
+  public static final int EDGELABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object edgeLabel_;
+  /**
+   * <code>optional string edgeLabel = 1;</code>
+   */
+  public java.lang.String getEdgeLabel() {
+    java.lang.Object ref = edgeLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      edgeLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string edgeLabel = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getEdgeLabelBytes() {
+    java.lang.Object ref = edgeLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      edgeLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SRCVERTEXLABEL_FIELD_NUMBER = 2;
+  private volatile java.lang.Object srcVertexLabel_;
+  /**
+   * <code>optional string srcVertexLabel = 2;</code>
+   */
+  public java.lang.String getSrcVertexLabel() {
+    java.lang.Object ref = srcVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      srcVertexLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string srcVertexLabel = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getSrcVertexLabelBytes() {
+    java.lang.Object ref = srcVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      srcVertexLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DSTVERTEXLABEL_FIELD_NUMBER = 3;
+  private volatile java.lang.Object dstVertexLabel_;
+  /**
+   * <code>optional string dstVertexLabel = 3;</code>
+   */
+  public java.lang.String getDstVertexLabel() {
+    java.lang.Object ref = dstVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      dstVertexLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string dstVertexLabel = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getDstVertexLabelBytes() {
+    java.lang.Object ref = dstVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      dstVertexLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getEdgeLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, edgeLabel_);
+    }
+    if (!getSrcVertexLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, srcVertexLabel_);
+    }
+    if (!getDstVertexLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dstVertexLabel_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getEdgeLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, edgeLabel_);
+    }
+    if (!getSrcVertexLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, srcVertexLabel_);
+    }
+    if (!getDstVertexLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dstVertexLabel_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RelationShipReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RelationShipReq other = (com.alibaba.maxgraph.proto.RelationShipReq) obj;
+
+    boolean result = true;
+    result = result && getEdgeLabel()
+        .equals(other.getEdgeLabel());
+    result = result && getSrcVertexLabel()
+        .equals(other.getSrcVertexLabel());
+    result = result && getDstVertexLabel()
+        .equals(other.getDstVertexLabel());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + EDGELABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getEdgeLabel().hashCode();
+    hash = (37 * hash) + SRCVERTEXLABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getSrcVertexLabel().hashCode();
+    hash = (37 * hash) + DSTVERTEXLABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getDstVertexLabel().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RelationShipReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RelationShipReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RelationShipReq)
+      com.alibaba.maxgraph.proto.RelationShipReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipReq_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RelationShipReq.class, com.alibaba.maxgraph.proto.RelationShipReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RelationShipReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      edgeLabel_ = "";
+
+      srcVertexLabel_ = "";
+
+      dstVertexLabel_ = "";
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipReq_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RelationShipReq.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipReq build() {
+      com.alibaba.maxgraph.proto.RelationShipReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipReq buildPartial() {
+      com.alibaba.maxgraph.proto.RelationShipReq result = new com.alibaba.maxgraph.proto.RelationShipReq(this);
+      result.edgeLabel_ = edgeLabel_;
+      result.srcVertexLabel_ = srcVertexLabel_;
+      result.dstVertexLabel_ = dstVertexLabel_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RelationShipReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RelationShipReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RelationShipReq other) {
+      if (other == com.alibaba.maxgraph.proto.RelationShipReq.getDefaultInstance()) return this;
+      if (!other.getEdgeLabel().isEmpty()) {
+        edgeLabel_ = other.edgeLabel_;
+        onChanged();
+      }
+      if (!other.getSrcVertexLabel().isEmpty()) {
+        srcVertexLabel_ = other.srcVertexLabel_;
+        onChanged();
+      }
+      if (!other.getDstVertexLabel().isEmpty()) {
+        dstVertexLabel_ = other.dstVertexLabel_;
+        onChanged();
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RelationShipReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RelationShipReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object edgeLabel_ = "";
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public java.lang.String getEdgeLabel() {
+      java.lang.Object ref = edgeLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        edgeLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getEdgeLabelBytes() {
+      java.lang.Object ref = edgeLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        edgeLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public Builder setEdgeLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      edgeLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public Builder clearEdgeLabel() {
+      
+      edgeLabel_ = getDefaultInstance().getEdgeLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public Builder setEdgeLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      edgeLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object srcVertexLabel_ = "";
+    /**
+     * <code>optional string srcVertexLabel = 2;</code>
+     */
+    public java.lang.String getSrcVertexLabel() {
+      java.lang.Object ref = srcVertexLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        srcVertexLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string srcVertexLabel = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSrcVertexLabelBytes() {
+      java.lang.Object ref = srcVertexLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        srcVertexLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string srcVertexLabel = 2;</code>
+     */
+    public Builder setSrcVertexLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      srcVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string srcVertexLabel = 2;</code>
+     */
+    public Builder clearSrcVertexLabel() {
+      
+      srcVertexLabel_ = getDefaultInstance().getSrcVertexLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string srcVertexLabel = 2;</code>
+     */
+    public Builder setSrcVertexLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      srcVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object dstVertexLabel_ = "";
+    /**
+     * <code>optional string dstVertexLabel = 3;</code>
+     */
+    public java.lang.String getDstVertexLabel() {
+      java.lang.Object ref = dstVertexLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dstVertexLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string dstVertexLabel = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDstVertexLabelBytes() {
+      java.lang.Object ref = dstVertexLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dstVertexLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string dstVertexLabel = 3;</code>
+     */
+    public Builder setDstVertexLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      dstVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dstVertexLabel = 3;</code>
+     */
+    public Builder clearDstVertexLabel() {
+      
+      dstVertexLabel_ = getDefaultInstance().getDstVertexLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dstVertexLabel = 3;</code>
+     */
+    public Builder setDstVertexLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      dstVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RelationShipReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:RelationShipReq)
+  private static final com.alibaba.maxgraph.proto.RelationShipReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RelationShipReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.RelationShipReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RelationShipReq>
+      PARSER = new com.google.protobuf.AbstractParser<RelationShipReq>() {
+    public RelationShipReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RelationShipReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RelationShipReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RelationShipReq> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.RelationShipReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
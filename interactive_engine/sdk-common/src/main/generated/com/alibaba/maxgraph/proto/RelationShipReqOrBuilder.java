@@ -0,0 +1,39 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RelationShipReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RelationShipReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string edgeLabel = 1;</code>
+   */
+  java.lang.String getEdgeLabel();
+  /**
+   * <code>optional string edgeLabel = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getEdgeLabelBytes();
+
+  /**
+   * <code>optional string srcVertexLabel = 2;</code>
+   */
+  java.lang.String getSrcVertexLabel();
+  /**
+   * <code>optional string srcVertexLabel = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getSrcVertexLabelBytes();
+
+  /**
+   * <code>optional string dstVertexLabel = 3;</code>
+   */
+  java.lang.String getDstVertexLabel();
+  /**
+   * <code>optional string dstVertexLabel = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getDstVertexLabelBytes();
+}
@@ -0,0 +1,896 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RelationShipResp}
+ */
+public  final class RelationShipResp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RelationShipResp)
+    RelationShipRespOrBuilder {
+  // Use RelationShipResp.newBuilder() to construct.
+  private RelationShipResp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RelationShipResp() {
+    relationShips_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private RelationShipResp(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.maxgraph.proto.Response.Builder subBuilder = null;
+            if (resp_ != null) {
+              subBuilder = resp_.toBuilder();
+            }
+            resp_ = input.readMessage(com.alibaba.maxgraph.proto.Response.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(resp_);
+              resp_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              relationShips_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RelationShipProto>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            relationShips_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.RelationShipProto.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        relationShips_ = java.util.Collections.unmodifiableList(relationShips_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipResp_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipResp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RelationShipResp.class, com.alibaba.maxgraph.proto.RelationShipResp.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int RESP_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.Response resp_;
+  /**
+   * <code>optional .Response resp = 1;</code>
+   */
+  public boolean hasResp() {
+    return resp_ != null;
+  }
+  /**
+   * <code>optional .Response resp = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.Response getResp() {
+    return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+  }
+  /**
+   * <code>optional .Response resp = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+    return getResp();
+  }
+
+  public static final int RELATIONSHIPS_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> relationShips_;
+  /**
+   * <code>repeated .RelationShipProto relationShips = 2;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> getRelationShipsList() {
+    return relationShips_;
+  }
+  /**
+   * <code>repeated .RelationShipProto relationShips = 2;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> 
+      getRelationShipsOrBuilderList() {
+    return relationShips_;
+  }
+  /**
+   * <code>repeated .RelationShipProto relationShips = 2;</code>
+   */
+  public int getRelationShipsCount() {
+    return relationShips_.size();
+  }
+  /**
+   * <code>repeated .RelationShipProto relationShips = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.RelationShipProto getRelationShips(int index) {
+    return relationShips_.get(index);
+  }
+  /**
+   * <code>repeated .RelationShipProto relationShips = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder getRelationShipsOrBuilder(
+      int index) {
+    return relationShips_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (resp_ != null) {
+      output.writeMessage(1, getResp());
+    }
+    for (int i = 0; i < relationShips_.size(); i++) {
+      output.writeMessage(2, relationShips_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (resp_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getResp());
+    }
+    for (int i = 0; i < relationShips_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, relationShips_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RelationShipResp)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RelationShipResp other = (com.alibaba.maxgraph.proto.RelationShipResp) obj;
+
+    boolean result = true;
+    result = result && (hasResp() == other.hasResp());
+    if (hasResp()) {
+      result = result && getResp()
+          .equals(other.getResp());
+    }
+    result = result && getRelationShipsList()
+        .equals(other.getRelationShipsList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasResp()) {
+      hash = (37 * hash) + RESP_FIELD_NUMBER;
+      hash = (53 * hash) + getResp().hashCode();
+    }
+    if (getRelationShipsCount() > 0) {
+      hash = (37 * hash) + RELATIONSHIPS_FIELD_NUMBER;
+      hash = (53 * hash) + getRelationShipsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipResp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RelationShipResp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RelationShipResp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RelationShipResp)
+      com.alibaba.maxgraph.proto.RelationShipRespOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipResp_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RelationShipResp.class, com.alibaba.maxgraph.proto.RelationShipResp.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RelationShipResp.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getRelationShipsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (respBuilder_ == null) {
+        resp_ = null;
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+      if (relationShipsBuilder_ == null) {
+        relationShips_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        relationShipsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipResp_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipResp getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RelationShipResp.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipResp build() {
+      com.alibaba.maxgraph.proto.RelationShipResp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipResp buildPartial() {
+      com.alibaba.maxgraph.proto.RelationShipResp result = new com.alibaba.maxgraph.proto.RelationShipResp(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (respBuilder_ == null) {
+        result.resp_ = resp_;
+      } else {
+        result.resp_ = respBuilder_.build();
+      }
+      if (relationShipsBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          relationShips_ = java.util.Collections.unmodifiableList(relationShips_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.relationShips_ = relationShips_;
+      } else {
+        result.relationShips_ = relationShipsBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RelationShipResp) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RelationShipResp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RelationShipResp other) {
+      if (other == com.alibaba.maxgraph.proto.RelationShipResp.getDefaultInstance()) return this;
+      if (other.hasResp()) {
+        mergeResp(other.getResp());
+      }
+      if (relationShipsBuilder_ == null) {
+        if (!other.relationShips_.isEmpty()) {
+          if (relationShips_.isEmpty()) {
+            relationShips_ = other.relationShips_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRelationShipsIsMutable();
+            relationShips_.addAll(other.relationShips_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.relationShips_.isEmpty()) {
+          if (relationShipsBuilder_.isEmpty()) {
+            relationShipsBuilder_.dispose();
+            relationShipsBuilder_ = null;
+            relationShips_ = other.relationShips_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            relationShipsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getRelationShipsFieldBuilder() : null;
+          } else {
+            relationShipsBuilder_.addAllMessages(other.relationShips_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RelationShipResp parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RelationShipResp) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.alibaba.maxgraph.proto.Response resp_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> respBuilder_;
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    public boolean hasResp() {
+      return respBuilder_ != null || resp_ != null;
+    }
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response getResp() {
+      if (respBuilder_ == null) {
+        return resp_ == null ? com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      } else {
+        return respBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    public Builder setResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        resp_ = value;
+        onChanged();
+      } else {
+        respBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    public Builder setResp(
+        com.alibaba.maxgraph.proto.Response.Builder builderForValue) {
+      if (respBuilder_ == null) {
+        resp_ = builderForValue.build();
+        onChanged();
+      } else {
+        respBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    public Builder mergeResp(com.alibaba.maxgraph.proto.Response value) {
+      if (respBuilder_ == null) {
+        if (resp_ != null) {
+          resp_ =
+            com.alibaba.maxgraph.proto.Response.newBuilder(resp_).mergeFrom(value).buildPartial();
+        } else {
+          resp_ = value;
+        }
+        onChanged();
+      } else {
+        respBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    public Builder clearResp() {
+      if (respBuilder_ == null) {
+        resp_ = null;
+        onChanged();
+      } else {
+        resp_ = null;
+        respBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.Response.Builder getRespBuilder() {
+      
+      onChanged();
+      return getRespFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder() {
+      if (respBuilder_ != null) {
+        return respBuilder_.getMessageOrBuilder();
+      } else {
+        return resp_ == null ?
+            com.alibaba.maxgraph.proto.Response.getDefaultInstance() : resp_;
+      }
+    }
+    /**
+     * <code>optional .Response resp = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder> 
+        getRespFieldBuilder() {
+      if (respBuilder_ == null) {
+        respBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.Response, com.alibaba.maxgraph.proto.Response.Builder, com.alibaba.maxgraph.proto.ResponseOrBuilder>(
+                getResp(),
+                getParentForChildren(),
+                isClean());
+        resp_ = null;
+      }
+      return respBuilder_;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> relationShips_ =
+      java.util.Collections.emptyList();
+    private void ensureRelationShipsIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        relationShips_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RelationShipProto>(relationShips_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RelationShipProto, com.alibaba.maxgraph.proto.RelationShipProto.Builder, com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> relationShipsBuilder_;
+
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> getRelationShipsList() {
+      if (relationShipsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(relationShips_);
+      } else {
+        return relationShipsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public int getRelationShipsCount() {
+      if (relationShipsBuilder_ == null) {
+        return relationShips_.size();
+      } else {
+        return relationShipsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProto getRelationShips(int index) {
+      if (relationShipsBuilder_ == null) {
+        return relationShips_.get(index);
+      } else {
+        return relationShipsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder setRelationShips(
+        int index, com.alibaba.maxgraph.proto.RelationShipProto value) {
+      if (relationShipsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRelationShipsIsMutable();
+        relationShips_.set(index, value);
+        onChanged();
+      } else {
+        relationShipsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder setRelationShips(
+        int index, com.alibaba.maxgraph.proto.RelationShipProto.Builder builderForValue) {
+      if (relationShipsBuilder_ == null) {
+        ensureRelationShipsIsMutable();
+        relationShips_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        relationShipsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder addRelationShips(com.alibaba.maxgraph.proto.RelationShipProto value) {
+      if (relationShipsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRelationShipsIsMutable();
+        relationShips_.add(value);
+        onChanged();
+      } else {
+        relationShipsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder addRelationShips(
+        int index, com.alibaba.maxgraph.proto.RelationShipProto value) {
+      if (relationShipsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRelationShipsIsMutable();
+        relationShips_.add(index, value);
+        onChanged();
+      } else {
+        relationShipsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder addRelationShips(
+        com.alibaba.maxgraph.proto.RelationShipProto.Builder builderForValue) {
+      if (relationShipsBuilder_ == null) {
+        ensureRelationShipsIsMutable();
+        relationShips_.add(builderForValue.build());
+        onChanged();
+      } else {
+        relationShipsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder addRelationShips(
+        int index, com.alibaba.maxgraph.proto.RelationShipProto.Builder builderForValue) {
+      if (relationShipsBuilder_ == null) {
+        ensureRelationShipsIsMutable();
+        relationShips_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        relationShipsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder addAllRelationShips(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.RelationShipProto> values) {
+      if (relationShipsBuilder_ == null) {
+        ensureRelationShipsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, relationShips_);
+        onChanged();
+      } else {
+        relationShipsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder clearRelationShips() {
+      if (relationShipsBuilder_ == null) {
+        relationShips_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        relationShipsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public Builder removeRelationShips(int index) {
+      if (relationShipsBuilder_ == null) {
+        ensureRelationShipsIsMutable();
+        relationShips_.remove(index);
+        onChanged();
+      } else {
+        relationShipsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProto.Builder getRelationShipsBuilder(
+        int index) {
+      return getRelationShipsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder getRelationShipsOrBuilder(
+        int index) {
+      if (relationShipsBuilder_ == null) {
+        return relationShips_.get(index);  } else {
+        return relationShipsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> 
+         getRelationShipsOrBuilderList() {
+      if (relationShipsBuilder_ != null) {
+        return relationShipsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(relationShips_);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProto.Builder addRelationShipsBuilder() {
+      return getRelationShipsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.RelationShipProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProto.Builder addRelationShipsBuilder(
+        int index) {
+      return getRelationShipsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.RelationShipProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShips = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RelationShipProto.Builder> 
+         getRelationShipsBuilderList() {
+      return getRelationShipsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RelationShipProto, com.alibaba.maxgraph.proto.RelationShipProto.Builder, com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> 
+        getRelationShipsFieldBuilder() {
+      if (relationShipsBuilder_ == null) {
+        relationShipsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.RelationShipProto, com.alibaba.maxgraph.proto.RelationShipProto.Builder, com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder>(
+                relationShips_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        relationShips_ = null;
+      }
+      return relationShipsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RelationShipResp)
+  }
+
+  // @@protoc_insertion_point(class_scope:RelationShipResp)
+  private static final com.alibaba.maxgraph.proto.RelationShipResp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RelationShipResp();
+  }
+
+  public static com.alibaba.maxgraph.proto.RelationShipResp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RelationShipResp>
+      PARSER = new com.google.protobuf.AbstractParser<RelationShipResp>() {
+    public RelationShipResp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RelationShipResp(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RelationShipResp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RelationShipResp> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.RelationShipResp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
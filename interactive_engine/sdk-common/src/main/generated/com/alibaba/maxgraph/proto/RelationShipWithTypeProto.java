@@ -0,0 +1,910 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code RelationShipWithTypeProto}
+ */
+public  final class RelationShipWithTypeProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RelationShipWithTypeProto)
+    RelationShipWithTypeProtoOrBuilder {
+  // Use RelationShipWithTypeProto.newBuilder() to construct.
+  private RelationShipWithTypeProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RelationShipWithTypeProto() {
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private RelationShipWithTypeProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.maxgraph.proto.TypeDefProto.Builder subBuilder = null;
+            if (srcVertex_ != null) {
+              subBuilder = srcVertex_.toBuilder();
+            }
+            srcVertex_ = input.readMessage(com.alibaba.maxgraph.proto.TypeDefProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(srcVertex_);
+              srcVertex_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.TypeDefProto.Builder subBuilder = null;
+            if (edgeType_ != null) {
+              subBuilder = edgeType_.toBuilder();
+            }
+            edgeType_ = input.readMessage(com.alibaba.maxgraph.proto.TypeDefProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(edgeType_);
+              edgeType_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 26: {
+            com.alibaba.maxgraph.proto.TypeDefProto.Builder subBuilder = null;
+            if (dstVertex_ != null) {
+              subBuilder = dstVertex_.toBuilder();
+            }
+            dstVertex_ = input.readMessage(com.alibaba.maxgraph.proto.TypeDefProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(dstVertex_);
+              dstVertex_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipWithTypeProto_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipWithTypeProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.RelationShipWithTypeProto.class, com.alibaba.maxgraph.proto.RelationShipWithTypeProto.Builder.class);
+  }
+
+  public static final int SRCVERTEX_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.TypeDefProto srcVertex_;
+  /**
+   * <code>optional .TypeDefProto srcVertex = 1;</code>
+   */
+  public boolean hasSrcVertex() {
+    return srcVertex_ != null;
+  }
+  /**
+   * <code>optional .TypeDefProto srcVertex = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeDefProto getSrcVertex() {
+    return srcVertex_ == null ? com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : srcVertex_;
+  }
+  /**
+   * <code>optional .TypeDefProto srcVertex = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getSrcVertexOrBuilder() {
+    return getSrcVertex();
+  }
+
+  public static final int EDGETYPE_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.TypeDefProto edgeType_;
+  /**
+   * <code>optional .TypeDefProto edgeType = 2;</code>
+   */
+  public boolean hasEdgeType() {
+    return edgeType_ != null;
+  }
+  /**
+   * <code>optional .TypeDefProto edgeType = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeDefProto getEdgeType() {
+    return edgeType_ == null ? com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : edgeType_;
+  }
+  /**
+   * <code>optional .TypeDefProto edgeType = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getEdgeTypeOrBuilder() {
+    return getEdgeType();
+  }
+
+  public static final int DSTVERTEX_FIELD_NUMBER = 3;
+  private com.alibaba.maxgraph.proto.TypeDefProto dstVertex_;
+  /**
+   * <code>optional .TypeDefProto dstVertex = 3;</code>
+   */
+  public boolean hasDstVertex() {
+    return dstVertex_ != null;
+  }
+  /**
+   * <code>optional .TypeDefProto dstVertex = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeDefProto getDstVertex() {
+    return dstVertex_ == null ? com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : dstVertex_;
+  }
+  /**
+   * <code>optional .TypeDefProto dstVertex = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getDstVertexOrBuilder() {
+    return getDstVertex();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (srcVertex_ != null) {
+      output.writeMessage(1, getSrcVertex());
+    }
+    if (edgeType_ != null) {
+      output.writeMessage(2, getEdgeType());
+    }
+    if (dstVertex_ != null) {
+      output.writeMessage(3, getDstVertex());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (srcVertex_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getSrcVertex());
+    }
+    if (edgeType_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getEdgeType());
+    }
+    if (dstVertex_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getDstVertex());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.RelationShipWithTypeProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.RelationShipWithTypeProto other = (com.alibaba.maxgraph.proto.RelationShipWithTypeProto) obj;
+
+    boolean result = true;
+    result = result && (hasSrcVertex() == other.hasSrcVertex());
+    if (hasSrcVertex()) {
+      result = result && getSrcVertex()
+          .equals(other.getSrcVertex());
+    }
+    result = result && (hasEdgeType() == other.hasEdgeType());
+    if (hasEdgeType()) {
+      result = result && getEdgeType()
+          .equals(other.getEdgeType());
+    }
+    result = result && (hasDstVertex() == other.hasDstVertex());
+    if (hasDstVertex()) {
+      result = result && getDstVertex()
+          .equals(other.getDstVertex());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasSrcVertex()) {
+      hash = (37 * hash) + SRCVERTEX_FIELD_NUMBER;
+      hash = (53 * hash) + getSrcVertex().hashCode();
+    }
+    if (hasEdgeType()) {
+      hash = (37 * hash) + EDGETYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeType().hashCode();
+    }
+    if (hasDstVertex()) {
+      hash = (37 * hash) + DSTVERTEX_FIELD_NUMBER;
+      hash = (53 * hash) + getDstVertex().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.RelationShipWithTypeProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RelationShipWithTypeProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RelationShipWithTypeProto)
+      com.alibaba.maxgraph.proto.RelationShipWithTypeProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipWithTypeProto_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipWithTypeProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.RelationShipWithTypeProto.class, com.alibaba.maxgraph.proto.RelationShipWithTypeProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.RelationShipWithTypeProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (srcVertexBuilder_ == null) {
+        srcVertex_ = null;
+      } else {
+        srcVertex_ = null;
+        srcVertexBuilder_ = null;
+      }
+      if (edgeTypeBuilder_ == null) {
+        edgeType_ = null;
+      } else {
+        edgeType_ = null;
+        edgeTypeBuilder_ = null;
+      }
+      if (dstVertexBuilder_ == null) {
+        dstVertex_ = null;
+      } else {
+        dstVertex_ = null;
+        dstVertexBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_RelationShipWithTypeProto_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipWithTypeProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.RelationShipWithTypeProto.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipWithTypeProto build() {
+      com.alibaba.maxgraph.proto.RelationShipWithTypeProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.RelationShipWithTypeProto buildPartial() {
+      com.alibaba.maxgraph.proto.RelationShipWithTypeProto result = new com.alibaba.maxgraph.proto.RelationShipWithTypeProto(this);
+      if (srcVertexBuilder_ == null) {
+        result.srcVertex_ = srcVertex_;
+      } else {
+        result.srcVertex_ = srcVertexBuilder_.build();
+      }
+      if (edgeTypeBuilder_ == null) {
+        result.edgeType_ = edgeType_;
+      } else {
+        result.edgeType_ = edgeTypeBuilder_.build();
+      }
+      if (dstVertexBuilder_ == null) {
+        result.dstVertex_ = dstVertex_;
+      } else {
+        result.dstVertex_ = dstVertexBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.RelationShipWithTypeProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.RelationShipWithTypeProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.RelationShipWithTypeProto other) {
+      if (other == com.alibaba.maxgraph.proto.RelationShipWithTypeProto.getDefaultInstance()) return this;
+      if (other.hasSrcVertex()) {
+        mergeSrcVertex(other.getSrcVertex());
+      }
+      if (other.hasEdgeType()) {
+        mergeEdgeType(other.getEdgeType());
+      }
+      if (other.hasDstVertex()) {
+        mergeDstVertex(other.getDstVertex());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.RelationShipWithTypeProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.RelationShipWithTypeProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.TypeDefProto srcVertex_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> srcVertexBuilder_;
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    public boolean hasSrcVertex() {
+      return srcVertexBuilder_ != null || srcVertex_ != null;
+    }
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto getSrcVertex() {
+      if (srcVertexBuilder_ == null) {
+        return srcVertex_ == null ? com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : srcVertex_;
+      } else {
+        return srcVertexBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    public Builder setSrcVertex(com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (srcVertexBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        srcVertex_ = value;
+        onChanged();
+      } else {
+        srcVertexBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    public Builder setSrcVertex(
+        com.alibaba.maxgraph.proto.TypeDefProto.Builder builderForValue) {
+      if (srcVertexBuilder_ == null) {
+        srcVertex_ = builderForValue.build();
+        onChanged();
+      } else {
+        srcVertexBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    public Builder mergeSrcVertex(com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (srcVertexBuilder_ == null) {
+        if (srcVertex_ != null) {
+          srcVertex_ =
+            com.alibaba.maxgraph.proto.TypeDefProto.newBuilder(srcVertex_).mergeFrom(value).buildPartial();
+        } else {
+          srcVertex_ = value;
+        }
+        onChanged();
+      } else {
+        srcVertexBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    public Builder clearSrcVertex() {
+      if (srcVertexBuilder_ == null) {
+        srcVertex_ = null;
+        onChanged();
+      } else {
+        srcVertex_ = null;
+        srcVertexBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto.Builder getSrcVertexBuilder() {
+      
+      onChanged();
+      return getSrcVertexFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getSrcVertexOrBuilder() {
+      if (srcVertexBuilder_ != null) {
+        return srcVertexBuilder_.getMessageOrBuilder();
+      } else {
+        return srcVertex_ == null ?
+            com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : srcVertex_;
+      }
+    }
+    /**
+     * <code>optional .TypeDefProto srcVertex = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> 
+        getSrcVertexFieldBuilder() {
+      if (srcVertexBuilder_ == null) {
+        srcVertexBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder>(
+                getSrcVertex(),
+                getParentForChildren(),
+                isClean());
+        srcVertex_ = null;
+      }
+      return srcVertexBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.TypeDefProto edgeType_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> edgeTypeBuilder_;
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    public boolean hasEdgeType() {
+      return edgeTypeBuilder_ != null || edgeType_ != null;
+    }
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto getEdgeType() {
+      if (edgeTypeBuilder_ == null) {
+        return edgeType_ == null ? com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : edgeType_;
+      } else {
+        return edgeTypeBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    public Builder setEdgeType(com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (edgeTypeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        edgeType_ = value;
+        onChanged();
+      } else {
+        edgeTypeBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    public Builder setEdgeType(
+        com.alibaba.maxgraph.proto.TypeDefProto.Builder builderForValue) {
+      if (edgeTypeBuilder_ == null) {
+        edgeType_ = builderForValue.build();
+        onChanged();
+      } else {
+        edgeTypeBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    public Builder mergeEdgeType(com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (edgeTypeBuilder_ == null) {
+        if (edgeType_ != null) {
+          edgeType_ =
+            com.alibaba.maxgraph.proto.TypeDefProto.newBuilder(edgeType_).mergeFrom(value).buildPartial();
+        } else {
+          edgeType_ = value;
+        }
+        onChanged();
+      } else {
+        edgeTypeBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    public Builder clearEdgeType() {
+      if (edgeTypeBuilder_ == null) {
+        edgeType_ = null;
+        onChanged();
+      } else {
+        edgeType_ = null;
+        edgeTypeBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto.Builder getEdgeTypeBuilder() {
+      
+      onChanged();
+      return getEdgeTypeFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getEdgeTypeOrBuilder() {
+      if (edgeTypeBuilder_ != null) {
+        return edgeTypeBuilder_.getMessageOrBuilder();
+      } else {
+        return edgeType_ == null ?
+            com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : edgeType_;
+      }
+    }
+    /**
+     * <code>optional .TypeDefProto edgeType = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> 
+        getEdgeTypeFieldBuilder() {
+      if (edgeTypeBuilder_ == null) {
+        edgeTypeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder>(
+                getEdgeType(),
+                getParentForChildren(),
+                isClean());
+        edgeType_ = null;
+      }
+      return edgeTypeBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.TypeDefProto dstVertex_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> dstVertexBuilder_;
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    public boolean hasDstVertex() {
+      return dstVertexBuilder_ != null || dstVertex_ != null;
+    }
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto getDstVertex() {
+      if (dstVertexBuilder_ == null) {
+        return dstVertex_ == null ? com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : dstVertex_;
+      } else {
+        return dstVertexBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    public Builder setDstVertex(com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (dstVertexBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        dstVertex_ = value;
+        onChanged();
+      } else {
+        dstVertexBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    public Builder setDstVertex(
+        com.alibaba.maxgraph.proto.TypeDefProto.Builder builderForValue) {
+      if (dstVertexBuilder_ == null) {
+        dstVertex_ = builderForValue.build();
+        onChanged();
+      } else {
+        dstVertexBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    public Builder mergeDstVertex(com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (dstVertexBuilder_ == null) {
+        if (dstVertex_ != null) {
+          dstVertex_ =
+            com.alibaba.maxgraph.proto.TypeDefProto.newBuilder(dstVertex_).mergeFrom(value).buildPartial();
+        } else {
+          dstVertex_ = value;
+        }
+        onChanged();
+      } else {
+        dstVertexBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    public Builder clearDstVertex() {
+      if (dstVertexBuilder_ == null) {
+        dstVertex_ = null;
+        onChanged();
+      } else {
+        dstVertex_ = null;
+        dstVertexBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto.Builder getDstVertexBuilder() {
+      
+      onChanged();
+      return getDstVertexFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getDstVertexOrBuilder() {
+      if (dstVertexBuilder_ != null) {
+        return dstVertexBuilder_.getMessageOrBuilder();
+      } else {
+        return dstVertex_ == null ?
+            com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance() : dstVertex_;
+      }
+    }
+    /**
+     * <code>optional .TypeDefProto dstVertex = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> 
+        getDstVertexFieldBuilder() {
+      if (dstVertexBuilder_ == null) {
+        dstVertexBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder>(
+                getDstVertex(),
+                getParentForChildren(),
+                isClean());
+        dstVertex_ = null;
+      }
+      return dstVertexBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RelationShipWithTypeProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:RelationShipWithTypeProto)
+  private static final com.alibaba.maxgraph.proto.RelationShipWithTypeProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.RelationShipWithTypeProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.RelationShipWithTypeProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RelationShipWithTypeProto>
+      PARSER = new com.google.protobuf.AbstractParser<RelationShipWithTypeProto>() {
+    public RelationShipWithTypeProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RelationShipWithTypeProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RelationShipWithTypeProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RelationShipWithTypeProto> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.RelationShipWithTypeProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RelationShipWithTypeProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RelationShipWithTypeProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .TypeDefProto srcVertex = 1;</code>
+   */
+  boolean hasSrcVertex();
+  /**
+   * <code>optional .TypeDefProto srcVertex = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeDefProto getSrcVertex();
+  /**
+   * <code>optional .TypeDefProto srcVertex = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getSrcVertexOrBuilder();
+
+  /**
+   * <code>optional .TypeDefProto edgeType = 2;</code>
+   */
+  boolean hasEdgeType();
+  /**
+   * <code>optional .TypeDefProto edgeType = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeDefProto getEdgeType();
+  /**
+   * <code>optional .TypeDefProto edgeType = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getEdgeTypeOrBuilder();
+
+  /**
+   * <code>optional .TypeDefProto dstVertex = 3;</code>
+   */
+  boolean hasDstVertex();
+  /**
+   * <code>optional .TypeDefProto dstVertex = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeDefProto getDstVertex();
+  /**
+   * <code>optional .TypeDefProto dstVertex = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getDstVertexOrBuilder();
+}
@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface RequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:Request)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string traceId = 1;</code>
+   */
+  java.lang.String getTraceId();
+  /**
+   * <code>optional string traceId = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getTraceIdBytes();
+}
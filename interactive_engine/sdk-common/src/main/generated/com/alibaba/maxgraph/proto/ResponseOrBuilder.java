@@ -0,0 +1,24 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface ResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:Response)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 errCode = 1;</code>
+   */
+  int getErrCode();
+
+  /**
+   * <code>optional string errMsg = 2;</code>
+   */
+  java.lang.String getErrMsg();
+  /**
+   * <code>optional string errMsg = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getErrMsgBytes();
+}
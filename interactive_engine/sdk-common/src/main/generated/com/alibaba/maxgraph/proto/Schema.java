@@ -0,0 +1,338 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public final class Schema {
+  private Schema() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TypeIdProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TypeIdProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PropertyDefProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PropertyDefProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TypeDefProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TypeDefProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TypeDefProto_GidToPidEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TypeDefProto_GidToPidEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TypeOptionProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TypeOptionProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RelationShipProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RelationShipProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RelationShipWithTypeProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RelationShipWithTypeProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_IndexDefProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_IndexDefProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SchemaProto_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SchemaProto_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateVertexTypeReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateVertexTypeReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateEdgeTypeReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateEdgeTypeReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TypeReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TypeReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddTypePropertyReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddTypePropertyReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_UpdateTypePropertyReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_UpdateTypePropertyReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DropTypePropertyReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DropTypePropertyReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RelationShipReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RelationShipReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RelationShipResp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RelationShipResp_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddIndexReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddIndexReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DropIndexReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DropIndexReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SchemaReq_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SchemaReq_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VersionedSchemaResp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VersionedSchemaResp_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020sdk/schema.proto\032\020sdk/common.proto\"X\n\013" +
+      "TypeIdProto\022\n\n\002id\030\001 \001(\r\022\037\n\004type\030\002 \001(\0162\021." +
+      "TypeIdProto.Type\"\034\n\004Type\022\n\n\006VERTEX\020\000\022\010\n\004" +
+      "EDGE\020\001\"\226\001\n\020PropertyDefProto\022\n\n\002id\030\001 \001(\005\022" +
+      "\014\n\004name\030\002 \001(\t\022\020\n\010dataType\030\003 \001(\005\022\026\n\016typeE" +
+      "xpression\030\004 \001(\t\022\017\n\007comment\030\005 \001(\t\022\027\n\017hasD" +
+      "efaultValue\030\006 \001(\010\022\024\n\014defaultValue\030\007 \001(\014\"" +
+      "\240\003\n\014TypeDefProto\022\n\n\002id\030\001 \001(\005\022\r\n\005label\030\002 " +
+      "\001(\t\022\037\n\004type\030\003 \001(\0162\021.TypeIdProto.Type\022\027\n\017" +
+      "isDimensionType\030\004 \001(\010\022#\n\010property\030\005 \003(\0132",
+      "\021.PropertyDefProto\022\035\n\005index\030\006 \003(\0132\016.Inde" +
+      "xDefProto\022\017\n\007comment\030\007 \001(\t\022\017\n\007version\030\010 " +
+      "\001(\005\022)\n\017rawRelationShip\030\t \003(\0132\020.RelationS" +
+      "hipReq\022(\n\014relationShip\030\n \003(\0132\022.RelationS" +
+      "hipProto\022 \n\006option\030\013 \001(\0132\020.TypeOptionPro" +
+      "to\022-\n\010gidToPid\030\014 \003(\0132\033.TypeDefProto.GidT" +
+      "oPidEntry\032/\n\rGidToPidEntry\022\013\n\003key\030\001 \001(\005\022" +
+      "\r\n\005value\030\002 \001(\005:\0028\001\"8\n\017TypeOptionProto\022%\n" +
+      "\rstorageEngine\030\001 \001(\0162\016.StorageEngine\"k\n\021" +
+      "RelationShipProto\022\033\n\005srcId\030\001 \001(\0132\014.TypeI",
+      "dProto\022\033\n\005dstId\030\002 \001(\0132\014.TypeIdProto\022\034\n\006e" +
+      "dgeId\030\003 \001(\0132\014.TypeIdProto\"\200\001\n\031RelationSh" +
+      "ipWithTypeProto\022 \n\tsrcVertex\030\001 \001(\0132\r.Typ" +
+      "eDefProto\022\037\n\010edgeType\030\002 \001(\0132\r.TypeDefPro" +
+      "to\022 \n\tdstVertex\030\003 \001(\0132\r.TypeDefProto\"\246\001\n" +
+      "\rIndexDefProto\022\014\n\004name\030\001 \001(\t\022\022\n\nproperty" +
+      "Id\030\002 \003(\005\022&\n\tindexType\030\003 \001(\0162\023.IndexDefPr" +
+      "oto.Type\022\020\n\010property\030\004 \003(\t\"9\n\004Type\022\017\n\013PR" +
+      "IMARY_KEY\020\000\022\n\n\006UNIQUE\020\001\022\024\n\020UNIQUE_WITH_E" +
+      "DGE\020\002\"Q\n\013SchemaProto\022\033\n\004type\030\001 \003(\0132\r.Typ",
+      "eDefProto\022\024\n\014partitionNum\030\002 \001(\005\022\017\n\007versi" +
+      "on\030\003 \001(\005\"\301\001\n\023CreateVertexTypeReq\022\r\n\005labe" +
+      "l\030\001 \001(\t\022#\n\010property\030\002 \003(\0132\021.PropertyDefP" +
+      "roto\022\013\n\003pks\030\003 \003(\t\022\017\n\007comment\030\004 \001(\t\022\027\n\017is" +
+      "DimensionType\030\005 \001(\010\022 \n\006option\030\006 \001(\0132\020.Ty" +
+      "peOptionProto\022\035\n\005index\030\007 \003(\0132\016.IndexDefP" +
+      "roto\"\332\001\n\021CreateEdgeTypeReq\022\r\n\005label\030\001 \001(" +
+      "\t\022#\n\010property\030\002 \003(\0132\021.PropertyDefProto\022\017" +
+      "\n\007comment\030\003 \001(\t\022&\n\014relationShip\030\004 \003(\0132\020." +
+      "RelationShipReq\022\027\n\017isDimensionType\030\005 \001(\010",
+      "\022 \n\006option\030\006 \001(\0132\020.TypeOptionProto\022\035\n\005in" +
+      "dex\030\007 \003(\0132\016.IndexDefProto\"b\n\007TypeReq\022\025\n\r" +
+      "schemaVersion\030\001 \001(\005\022\023\n\013typeVersion\030\002 \001(\005" +
+      "\022\r\n\005label\030\003 \001(\t\022\034\n\006typeId\030\004 \001(\0132\014.TypeId" +
+      "Proto\"H\n\022AddTypePropertyReq\022\r\n\005label\030\001 \001" +
+      "(\t\022#\n\010property\030\002 \003(\0132\021.PropertyDefProto\"" +
+      "K\n\025UpdateTypePropertyReq\022\r\n\005label\030\001 \001(\t\022" +
+      "#\n\010property\030\002 \003(\0132\021.PropertyDefProto\":\n\023" +
+      "DropTypePropertyReq\022\r\n\005label\030\001 \001(\t\022\024\n\014pr" +
+      "opertyName\030\002 \003(\t\"T\n\017RelationShipReq\022\021\n\te",
+      "dgeLabel\030\001 \001(\t\022\026\n\016srcVertexLabel\030\002 \001(\t\022\026" +
+      "\n\016dstVertexLabel\030\003 \001(\t\"V\n\020RelationShipRe" +
+      "sp\022\027\n\004resp\030\001 \001(\0132\t.Response\022)\n\rrelationS" +
+      "hips\030\002 \003(\0132\022.RelationShipProto\"d\n\013AddInd" +
+      "exReq\022\r\n\005label\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022&\n\tin" +
+      "dexType\030\003 \001(\0162\023.IndexDefProto.Type\022\020\n\010pr" +
+      "operty\030\004 \003(\t\"+\n\014DropIndexReq\022\r\n\005label\030\001 " +
+      "\001(\t\022\014\n\004name\030\002 \001(\t\"\"\n\tSchemaReq\022\025\n\rschema" +
+      "Version\030\001 \001(\005\"L\n\023VersionedSchemaResp\022\027\n\004" +
+      "resp\030\001 \001(\0132\t.Response\022\034\n\006schema\030\002 \001(\0132\014.",
+      "SchemaProto*6\n\rStorageEngine\022\n\n\006MEMORY\020\000" +
+      "\022\013\n\007ROCKSDB\020\001\022\014\n\010ALIBTREE\020\002B\036\n\032com.aliba" +
+      "ba.maxgraph.protoP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+        }, assigner);
+    internal_static_TypeIdProto_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_TypeIdProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TypeIdProto_descriptor,
+        new java.lang.String[] { "Id", "Type", });
+    internal_static_PropertyDefProto_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_PropertyDefProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PropertyDefProto_descriptor,
+        new java.lang.String[] { "Id", "Name", "DataType", "TypeExpression", "Comment", "HasDefaultValue", "DefaultValue", });
+    internal_static_TypeDefProto_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_TypeDefProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TypeDefProto_descriptor,
+        new java.lang.String[] { "Id", "Label", "Type", "IsDimensionType", "Property", "Index", "Comment", "Version", "RawRelationShip", "RelationShip", "Option", "GidToPid", });
+    internal_static_TypeDefProto_GidToPidEntry_descriptor =
+      internal_static_TypeDefProto_descriptor.getNestedTypes().get(0);
+    internal_static_TypeDefProto_GidToPidEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TypeDefProto_GidToPidEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_TypeOptionProto_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_TypeOptionProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TypeOptionProto_descriptor,
+        new java.lang.String[] { "StorageEngine", });
+    internal_static_RelationShipProto_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_RelationShipProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RelationShipProto_descriptor,
+        new java.lang.String[] { "SrcId", "DstId", "EdgeId", });
+    internal_static_RelationShipWithTypeProto_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_RelationShipWithTypeProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RelationShipWithTypeProto_descriptor,
+        new java.lang.String[] { "SrcVertex", "EdgeType", "DstVertex", });
+    internal_static_IndexDefProto_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_IndexDefProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_IndexDefProto_descriptor,
+        new java.lang.String[] { "Name", "PropertyId", "IndexType", "Property", });
+    internal_static_SchemaProto_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_SchemaProto_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SchemaProto_descriptor,
+        new java.lang.String[] { "Type", "PartitionNum", "Version", });
+    internal_static_CreateVertexTypeReq_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_CreateVertexTypeReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateVertexTypeReq_descriptor,
+        new java.lang.String[] { "Label", "Property", "Pks", "Comment", "IsDimensionType", "Option", "Index", });
+    internal_static_CreateEdgeTypeReq_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_CreateEdgeTypeReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateEdgeTypeReq_descriptor,
+        new java.lang.String[] { "Label", "Property", "Comment", "RelationShip", "IsDimensionType", "Option", "Index", });
+    internal_static_TypeReq_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_TypeReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TypeReq_descriptor,
+        new java.lang.String[] { "SchemaVersion", "TypeVersion", "Label", "TypeId", });
+    internal_static_AddTypePropertyReq_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_AddTypePropertyReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddTypePropertyReq_descriptor,
+        new java.lang.String[] { "Label", "Property", });
+    internal_static_UpdateTypePropertyReq_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_UpdateTypePropertyReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_UpdateTypePropertyReq_descriptor,
+        new java.lang.String[] { "Label", "Property", });
+    internal_static_DropTypePropertyReq_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_DropTypePropertyReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DropTypePropertyReq_descriptor,
+        new java.lang.String[] { "Label", "PropertyName", });
+    internal_static_RelationShipReq_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_RelationShipReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RelationShipReq_descriptor,
+        new java.lang.String[] { "EdgeLabel", "SrcVertexLabel", "DstVertexLabel", });
+    internal_static_RelationShipResp_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_RelationShipResp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RelationShipResp_descriptor,
+        new java.lang.String[] { "Resp", "RelationShips", });
+    internal_static_AddIndexReq_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_AddIndexReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddIndexReq_descriptor,
+        new java.lang.String[] { "Label", "Name", "IndexType", "Property", });
+    internal_static_DropIndexReq_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_DropIndexReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DropIndexReq_descriptor,
+        new java.lang.String[] { "Label", "Name", });
+    internal_static_SchemaReq_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_SchemaReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SchemaReq_descriptor,
+        new java.lang.String[] { "SchemaVersion", });
+    internal_static_VersionedSchemaResp_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_VersionedSchemaResp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VersionedSchemaResp_descriptor,
+        new java.lang.String[] { "Resp", "Schema", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
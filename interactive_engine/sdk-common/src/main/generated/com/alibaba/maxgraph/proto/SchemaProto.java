@@ -0,0 +1,831 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code SchemaProto}
+ */
+public  final class SchemaProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:SchemaProto)
+    SchemaProtoOrBuilder {
+  // Use SchemaProto.newBuilder() to construct.
+  private SchemaProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SchemaProto() {
+    type_ = java.util.Collections.emptyList();
+    partitionNum_ = 0;
+    version_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private SchemaProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              type_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.TypeDefProto>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            type_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.TypeDefProto.parser(), extensionRegistry));
+            break;
+          }
+          case 16: {
+
+            partitionNum_ = input.readInt32();
+            break;
+          }
+          case 24: {
+
+            version_ = input.readInt32();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        type_ = java.util.Collections.unmodifiableList(type_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_SchemaProto_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_SchemaProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.SchemaProto.class, com.alibaba.maxgraph.proto.SchemaProto.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int TYPE_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.TypeDefProto> type_;
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.TypeDefProto> getTypeList() {
+    return type_;
+  }
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> 
+      getTypeOrBuilderList() {
+    return type_;
+  }
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  public int getTypeCount() {
+    return type_.size();
+  }
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeDefProto getType(int index) {
+    return type_.get(index);
+  }
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getTypeOrBuilder(
+      int index) {
+    return type_.get(index);
+  }
+
+  public static final int PARTITIONNUM_FIELD_NUMBER = 2;
+  private int partitionNum_;
+  /**
+   * <code>optional int32 partitionNum = 2;</code>
+   */
+  public int getPartitionNum() {
+    return partitionNum_;
+  }
+
+  public static final int VERSION_FIELD_NUMBER = 3;
+  private int version_;
+  /**
+   * <code>optional int32 version = 3;</code>
+   */
+  public int getVersion() {
+    return version_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < type_.size(); i++) {
+      output.writeMessage(1, type_.get(i));
+    }
+    if (partitionNum_ != 0) {
+      output.writeInt32(2, partitionNum_);
+    }
+    if (version_ != 0) {
+      output.writeInt32(3, version_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < type_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, type_.get(i));
+    }
+    if (partitionNum_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, partitionNum_);
+    }
+    if (version_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, version_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.SchemaProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.SchemaProto other = (com.alibaba.maxgraph.proto.SchemaProto) obj;
+
+    boolean result = true;
+    result = result && getTypeList()
+        .equals(other.getTypeList());
+    result = result && (getPartitionNum()
+        == other.getPartitionNum());
+    result = result && (getVersion()
+        == other.getVersion());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (getTypeCount() > 0) {
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeList().hashCode();
+    }
+    hash = (37 * hash) + PARTITIONNUM_FIELD_NUMBER;
+    hash = (53 * hash) + getPartitionNum();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getVersion();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.SchemaProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.SchemaProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.SchemaProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code SchemaProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:SchemaProto)
+      com.alibaba.maxgraph.proto.SchemaProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_SchemaProto_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_SchemaProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.SchemaProto.class, com.alibaba.maxgraph.proto.SchemaProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.SchemaProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getTypeFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (typeBuilder_ == null) {
+        type_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        typeBuilder_.clear();
+      }
+      partitionNum_ = 0;
+
+      version_ = 0;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_SchemaProto_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.SchemaProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.SchemaProto.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.SchemaProto build() {
+      com.alibaba.maxgraph.proto.SchemaProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.SchemaProto buildPartial() {
+      com.alibaba.maxgraph.proto.SchemaProto result = new com.alibaba.maxgraph.proto.SchemaProto(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (typeBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          type_ = java.util.Collections.unmodifiableList(type_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.type_ = type_;
+      } else {
+        result.type_ = typeBuilder_.build();
+      }
+      result.partitionNum_ = partitionNum_;
+      result.version_ = version_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.SchemaProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.SchemaProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.SchemaProto other) {
+      if (other == com.alibaba.maxgraph.proto.SchemaProto.getDefaultInstance()) return this;
+      if (typeBuilder_ == null) {
+        if (!other.type_.isEmpty()) {
+          if (type_.isEmpty()) {
+            type_ = other.type_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureTypeIsMutable();
+            type_.addAll(other.type_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.type_.isEmpty()) {
+          if (typeBuilder_.isEmpty()) {
+            typeBuilder_.dispose();
+            typeBuilder_ = null;
+            type_ = other.type_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            typeBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getTypeFieldBuilder() : null;
+          } else {
+            typeBuilder_.addAllMessages(other.type_);
+          }
+        }
+      }
+      if (other.getPartitionNum() != 0) {
+        setPartitionNum(other.getPartitionNum());
+      }
+      if (other.getVersion() != 0) {
+        setVersion(other.getVersion());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.SchemaProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.SchemaProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.TypeDefProto> type_ =
+      java.util.Collections.emptyList();
+    private void ensureTypeIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        type_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.TypeDefProto>(type_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> typeBuilder_;
+
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.TypeDefProto> getTypeList() {
+      if (typeBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(type_);
+      } else {
+        return typeBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public int getTypeCount() {
+      if (typeBuilder_ == null) {
+        return type_.size();
+      } else {
+        return typeBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto getType(int index) {
+      if (typeBuilder_ == null) {
+        return type_.get(index);
+      } else {
+        return typeBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder setType(
+        int index, com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (typeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeIsMutable();
+        type_.set(index, value);
+        onChanged();
+      } else {
+        typeBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder setType(
+        int index, com.alibaba.maxgraph.proto.TypeDefProto.Builder builderForValue) {
+      if (typeBuilder_ == null) {
+        ensureTypeIsMutable();
+        type_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        typeBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder addType(com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (typeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeIsMutable();
+        type_.add(value);
+        onChanged();
+      } else {
+        typeBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder addType(
+        int index, com.alibaba.maxgraph.proto.TypeDefProto value) {
+      if (typeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeIsMutable();
+        type_.add(index, value);
+        onChanged();
+      } else {
+        typeBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder addType(
+        com.alibaba.maxgraph.proto.TypeDefProto.Builder builderForValue) {
+      if (typeBuilder_ == null) {
+        ensureTypeIsMutable();
+        type_.add(builderForValue.build());
+        onChanged();
+      } else {
+        typeBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder addType(
+        int index, com.alibaba.maxgraph.proto.TypeDefProto.Builder builderForValue) {
+      if (typeBuilder_ == null) {
+        ensureTypeIsMutable();
+        type_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        typeBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder addAllType(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.TypeDefProto> values) {
+      if (typeBuilder_ == null) {
+        ensureTypeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, type_);
+        onChanged();
+      } else {
+        typeBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder clearType() {
+      if (typeBuilder_ == null) {
+        type_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        typeBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public Builder removeType(int index) {
+      if (typeBuilder_ == null) {
+        ensureTypeIsMutable();
+        type_.remove(index);
+        onChanged();
+      } else {
+        typeBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto.Builder getTypeBuilder(
+        int index) {
+      return getTypeFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getTypeOrBuilder(
+        int index) {
+      if (typeBuilder_ == null) {
+        return type_.get(index);  } else {
+        return typeBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> 
+         getTypeOrBuilderList() {
+      if (typeBuilder_ != null) {
+        return typeBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(type_);
+      }
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto.Builder addTypeBuilder() {
+      return getTypeFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeDefProto.Builder addTypeBuilder(
+        int index) {
+      return getTypeFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .TypeDefProto type = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.TypeDefProto.Builder> 
+         getTypeBuilderList() {
+      return getTypeFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> 
+        getTypeFieldBuilder() {
+      if (typeBuilder_ == null) {
+        typeBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.TypeDefProto, com.alibaba.maxgraph.proto.TypeDefProto.Builder, com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder>(
+                type_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        type_ = null;
+      }
+      return typeBuilder_;
+    }
+
+    private int partitionNum_ ;
+    /**
+     * <code>optional int32 partitionNum = 2;</code>
+     */
+    public int getPartitionNum() {
+      return partitionNum_;
+    }
+    /**
+     * <code>optional int32 partitionNum = 2;</code>
+     */
+    public Builder setPartitionNum(int value) {
+      
+      partitionNum_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 partitionNum = 2;</code>
+     */
+    public Builder clearPartitionNum() {
+      
+      partitionNum_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int version_ ;
+    /**
+     * <code>optional int32 version = 3;</code>
+     */
+    public int getVersion() {
+      return version_;
+    }
+    /**
+     * <code>optional int32 version = 3;</code>
+     */
+    public Builder setVersion(int value) {
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 version = 3;</code>
+     */
+    public Builder clearVersion() {
+      
+      version_ = 0;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:SchemaProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:SchemaProto)
+  private static final com.alibaba.maxgraph.proto.SchemaProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.SchemaProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.SchemaProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SchemaProto>
+      PARSER = new com.google.protobuf.AbstractParser<SchemaProto>() {
+    public SchemaProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SchemaProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SchemaProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SchemaProto> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.SchemaProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface SchemaProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SchemaProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.TypeDefProto> 
+      getTypeList();
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeDefProto getType(int index);
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  int getTypeCount();
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder> 
+      getTypeOrBuilderList();
+  /**
+   * <code>repeated .TypeDefProto type = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder getTypeOrBuilder(
+      int index);
+
+  /**
+   * <code>optional int32 partitionNum = 2;</code>
+   */
+  int getPartitionNum();
+
+  /**
+   * <code>optional int32 version = 3;</code>
+   */
+  int getVersion();
+}
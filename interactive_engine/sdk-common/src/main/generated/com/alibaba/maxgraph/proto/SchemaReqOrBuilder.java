@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface SchemaReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SchemaReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 schemaVersion = 1;</code>
+   */
+  int getSchemaVersion();
+}
@@ -0,0 +1,1017 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code ServerMetricValue}
+ */
+public  final class ServerMetricValue extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:ServerMetricValue)
+    ServerMetricValueOrBuilder {
+  // Use ServerMetricValue.newBuilder() to construct.
+  private ServerMetricValue(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ServerMetricValue() {
+    serverId_ = 0;
+    timestamp_ = 0L;
+    value_ = "";
+    diskValue_ = java.util.Collections.emptyList();
+    nodeId_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private ServerMetricValue(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            serverId_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            timestamp_ = input.readInt64();
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            value_ = s;
+            break;
+          }
+          case 34: {
+            if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+              diskValue_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.DiskMetricProto>();
+              mutable_bitField0_ |= 0x00000008;
+            }
+            diskValue_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.DiskMetricProto.parser(), extensionRegistry));
+            break;
+          }
+          case 40: {
+
+            nodeId_ = input.readInt32();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+        diskValue_ = java.util.Collections.unmodifiableList(diskValue_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_ServerMetricValue_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.CommonProto.internal_static_ServerMetricValue_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.ServerMetricValue.class, com.alibaba.maxgraph.proto.ServerMetricValue.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int SERVERID_FIELD_NUMBER = 1;
+  private int serverId_;
+  /**
+   * <code>optional int32 serverId = 1;</code>
+   */
+  public int getServerId() {
+    return serverId_;
+  }
+
+  public static final int TIMESTAMP_FIELD_NUMBER = 2;
+  private long timestamp_;
+  /**
+   * <code>optional int64 timestamp = 2;</code>
+   */
+  public long getTimestamp() {
+    return timestamp_;
+  }
+
+  public static final int VALUE_FIELD_NUMBER = 3;
+  private volatile java.lang.Object value_;
+  /**
+   * <code>optional string value = 3;</code>
+   */
+  public java.lang.String getValue() {
+    java.lang.Object ref = value_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      value_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string value = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getValueBytes() {
+    java.lang.Object ref = value_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      value_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DISKVALUE_FIELD_NUMBER = 4;
+  private java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> diskValue_;
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> getDiskValueList() {
+    return diskValue_;
+  }
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> 
+      getDiskValueOrBuilderList() {
+    return diskValue_;
+  }
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  public int getDiskValueCount() {
+    return diskValue_.size();
+  }
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  public com.alibaba.maxgraph.proto.DiskMetricProto getDiskValue(int index) {
+    return diskValue_.get(index);
+  }
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  public com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder getDiskValueOrBuilder(
+      int index) {
+    return diskValue_.get(index);
+  }
+
+  public static final int NODEID_FIELD_NUMBER = 5;
+  private int nodeId_;
+  /**
+   * <code>optional int32 nodeId = 5;</code>
+   */
+  public int getNodeId() {
+    return nodeId_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (serverId_ != 0) {
+      output.writeInt32(1, serverId_);
+    }
+    if (timestamp_ != 0L) {
+      output.writeInt64(2, timestamp_);
+    }
+    if (!getValueBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, value_);
+    }
+    for (int i = 0; i < diskValue_.size(); i++) {
+      output.writeMessage(4, diskValue_.get(i));
+    }
+    if (nodeId_ != 0) {
+      output.writeInt32(5, nodeId_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (serverId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, serverId_);
+    }
+    if (timestamp_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, timestamp_);
+    }
+    if (!getValueBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, value_);
+    }
+    for (int i = 0; i < diskValue_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, diskValue_.get(i));
+    }
+    if (nodeId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(5, nodeId_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.ServerMetricValue)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.ServerMetricValue other = (com.alibaba.maxgraph.proto.ServerMetricValue) obj;
+
+    boolean result = true;
+    result = result && (getServerId()
+        == other.getServerId());
+    result = result && (getTimestamp()
+        == other.getTimestamp());
+    result = result && getValue()
+        .equals(other.getValue());
+    result = result && getDiskValueList()
+        .equals(other.getDiskValueList());
+    result = result && (getNodeId()
+        == other.getNodeId());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + SERVERID_FIELD_NUMBER;
+    hash = (53 * hash) + getServerId();
+    hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTimestamp());
+    hash = (37 * hash) + VALUE_FIELD_NUMBER;
+    hash = (53 * hash) + getValue().hashCode();
+    if (getDiskValueCount() > 0) {
+      hash = (37 * hash) + DISKVALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getDiskValueList().hashCode();
+    }
+    hash = (37 * hash) + NODEID_FIELD_NUMBER;
+    hash = (53 * hash) + getNodeId();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.ServerMetricValue parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.ServerMetricValue prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ServerMetricValue}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:ServerMetricValue)
+      com.alibaba.maxgraph.proto.ServerMetricValueOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_ServerMetricValue_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_ServerMetricValue_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.ServerMetricValue.class, com.alibaba.maxgraph.proto.ServerMetricValue.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.ServerMetricValue.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getDiskValueFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      serverId_ = 0;
+
+      timestamp_ = 0L;
+
+      value_ = "";
+
+      if (diskValueBuilder_ == null) {
+        diskValue_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+      } else {
+        diskValueBuilder_.clear();
+      }
+      nodeId_ = 0;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.CommonProto.internal_static_ServerMetricValue_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.ServerMetricValue getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.ServerMetricValue.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.ServerMetricValue build() {
+      com.alibaba.maxgraph.proto.ServerMetricValue result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.ServerMetricValue buildPartial() {
+      com.alibaba.maxgraph.proto.ServerMetricValue result = new com.alibaba.maxgraph.proto.ServerMetricValue(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.serverId_ = serverId_;
+      result.timestamp_ = timestamp_;
+      result.value_ = value_;
+      if (diskValueBuilder_ == null) {
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          diskValue_ = java.util.Collections.unmodifiableList(diskValue_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.diskValue_ = diskValue_;
+      } else {
+        result.diskValue_ = diskValueBuilder_.build();
+      }
+      result.nodeId_ = nodeId_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.ServerMetricValue) {
+        return mergeFrom((com.alibaba.maxgraph.proto.ServerMetricValue)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.ServerMetricValue other) {
+      if (other == com.alibaba.maxgraph.proto.ServerMetricValue.getDefaultInstance()) return this;
+      if (other.getServerId() != 0) {
+        setServerId(other.getServerId());
+      }
+      if (other.getTimestamp() != 0L) {
+        setTimestamp(other.getTimestamp());
+      }
+      if (!other.getValue().isEmpty()) {
+        value_ = other.value_;
+        onChanged();
+      }
+      if (diskValueBuilder_ == null) {
+        if (!other.diskValue_.isEmpty()) {
+          if (diskValue_.isEmpty()) {
+            diskValue_ = other.diskValue_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureDiskValueIsMutable();
+            diskValue_.addAll(other.diskValue_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.diskValue_.isEmpty()) {
+          if (diskValueBuilder_.isEmpty()) {
+            diskValueBuilder_.dispose();
+            diskValueBuilder_ = null;
+            diskValue_ = other.diskValue_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+            diskValueBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getDiskValueFieldBuilder() : null;
+          } else {
+            diskValueBuilder_.addAllMessages(other.diskValue_);
+          }
+        }
+      }
+      if (other.getNodeId() != 0) {
+        setNodeId(other.getNodeId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.ServerMetricValue parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.ServerMetricValue) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int serverId_ ;
+    /**
+     * <code>optional int32 serverId = 1;</code>
+     */
+    public int getServerId() {
+      return serverId_;
+    }
+    /**
+     * <code>optional int32 serverId = 1;</code>
+     */
+    public Builder setServerId(int value) {
+      
+      serverId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 serverId = 1;</code>
+     */
+    public Builder clearServerId() {
+      
+      serverId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long timestamp_ ;
+    /**
+     * <code>optional int64 timestamp = 2;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+    /**
+     * <code>optional int64 timestamp = 2;</code>
+     */
+    public Builder setTimestamp(long value) {
+      
+      timestamp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 timestamp = 2;</code>
+     */
+    public Builder clearTimestamp() {
+      
+      timestamp_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object value_ = "";
+    /**
+     * <code>optional string value = 3;</code>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        value_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string value = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string value = 3;</code>
+     */
+    public Builder setValue(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string value = 3;</code>
+     */
+    public Builder clearValue() {
+      
+      value_ = getDefaultInstance().getValue();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string value = 3;</code>
+     */
+    public Builder setValueBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      value_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> diskValue_ =
+      java.util.Collections.emptyList();
+    private void ensureDiskValueIsMutable() {
+      if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+        diskValue_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.DiskMetricProto>(diskValue_);
+        bitField0_ |= 0x00000008;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.DiskMetricProto, com.alibaba.maxgraph.proto.DiskMetricProto.Builder, com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> diskValueBuilder_;
+
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> getDiskValueList() {
+      if (diskValueBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(diskValue_);
+      } else {
+        return diskValueBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public int getDiskValueCount() {
+      if (diskValueBuilder_ == null) {
+        return diskValue_.size();
+      } else {
+        return diskValueBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProto getDiskValue(int index) {
+      if (diskValueBuilder_ == null) {
+        return diskValue_.get(index);
+      } else {
+        return diskValueBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder setDiskValue(
+        int index, com.alibaba.maxgraph.proto.DiskMetricProto value) {
+      if (diskValueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDiskValueIsMutable();
+        diskValue_.set(index, value);
+        onChanged();
+      } else {
+        diskValueBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder setDiskValue(
+        int index, com.alibaba.maxgraph.proto.DiskMetricProto.Builder builderForValue) {
+      if (diskValueBuilder_ == null) {
+        ensureDiskValueIsMutable();
+        diskValue_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        diskValueBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder addDiskValue(com.alibaba.maxgraph.proto.DiskMetricProto value) {
+      if (diskValueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDiskValueIsMutable();
+        diskValue_.add(value);
+        onChanged();
+      } else {
+        diskValueBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder addDiskValue(
+        int index, com.alibaba.maxgraph.proto.DiskMetricProto value) {
+      if (diskValueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDiskValueIsMutable();
+        diskValue_.add(index, value);
+        onChanged();
+      } else {
+        diskValueBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder addDiskValue(
+        com.alibaba.maxgraph.proto.DiskMetricProto.Builder builderForValue) {
+      if (diskValueBuilder_ == null) {
+        ensureDiskValueIsMutable();
+        diskValue_.add(builderForValue.build());
+        onChanged();
+      } else {
+        diskValueBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder addDiskValue(
+        int index, com.alibaba.maxgraph.proto.DiskMetricProto.Builder builderForValue) {
+      if (diskValueBuilder_ == null) {
+        ensureDiskValueIsMutable();
+        diskValue_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        diskValueBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder addAllDiskValue(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.DiskMetricProto> values) {
+      if (diskValueBuilder_ == null) {
+        ensureDiskValueIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, diskValue_);
+        onChanged();
+      } else {
+        diskValueBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder clearDiskValue() {
+      if (diskValueBuilder_ == null) {
+        diskValue_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+      } else {
+        diskValueBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public Builder removeDiskValue(int index) {
+      if (diskValueBuilder_ == null) {
+        ensureDiskValueIsMutable();
+        diskValue_.remove(index);
+        onChanged();
+      } else {
+        diskValueBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProto.Builder getDiskValueBuilder(
+        int index) {
+      return getDiskValueFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder getDiskValueOrBuilder(
+        int index) {
+      if (diskValueBuilder_ == null) {
+        return diskValue_.get(index);  } else {
+        return diskValueBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> 
+         getDiskValueOrBuilderList() {
+      if (diskValueBuilder_ != null) {
+        return diskValueBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(diskValue_);
+      }
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProto.Builder addDiskValueBuilder() {
+      return getDiskValueFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.DiskMetricProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.DiskMetricProto.Builder addDiskValueBuilder(
+        int index) {
+      return getDiskValueFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.DiskMetricProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .DiskMetricProto diskValue = 4;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto.Builder> 
+         getDiskValueBuilderList() {
+      return getDiskValueFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.DiskMetricProto, com.alibaba.maxgraph.proto.DiskMetricProto.Builder, com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> 
+        getDiskValueFieldBuilder() {
+      if (diskValueBuilder_ == null) {
+        diskValueBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.DiskMetricProto, com.alibaba.maxgraph.proto.DiskMetricProto.Builder, com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder>(
+                diskValue_,
+                ((bitField0_ & 0x00000008) == 0x00000008),
+                getParentForChildren(),
+                isClean());
+        diskValue_ = null;
+      }
+      return diskValueBuilder_;
+    }
+
+    private int nodeId_ ;
+    /**
+     * <code>optional int32 nodeId = 5;</code>
+     */
+    public int getNodeId() {
+      return nodeId_;
+    }
+    /**
+     * <code>optional int32 nodeId = 5;</code>
+     */
+    public Builder setNodeId(int value) {
+      
+      nodeId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 nodeId = 5;</code>
+     */
+    public Builder clearNodeId() {
+      
+      nodeId_ = 0;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:ServerMetricValue)
+  }
+
+  // @@protoc_insertion_point(class_scope:ServerMetricValue)
+  private static final com.alibaba.maxgraph.proto.ServerMetricValue DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.ServerMetricValue();
+  }
+
+  public static com.alibaba.maxgraph.proto.ServerMetricValue getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ServerMetricValue>
+      PARSER = new com.google.protobuf.AbstractParser<ServerMetricValue>() {
+    public ServerMetricValue parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ServerMetricValue(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ServerMetricValue> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ServerMetricValue> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.ServerMetricValue getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,58 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/common.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface ServerMetricValueOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ServerMetricValue)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 serverId = 1;</code>
+   */
+  int getServerId();
+
+  /**
+   * <code>optional int64 timestamp = 2;</code>
+   */
+  long getTimestamp();
+
+  /**
+   * <code>optional string value = 3;</code>
+   */
+  java.lang.String getValue();
+  /**
+   * <code>optional string value = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getValueBytes();
+
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.DiskMetricProto> 
+      getDiskValueList();
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.DiskMetricProto getDiskValue(int index);
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  int getDiskValueCount();
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder> 
+      getDiskValueOrBuilderList();
+  /**
+   * <code>repeated .DiskMetricProto diskValue = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.DiskMetricProtoOrBuilder getDiskValueOrBuilder(
+      int index);
+
+  /**
+   * <code>optional int32 nodeId = 5;</code>
+   */
+  int getNodeId();
+}
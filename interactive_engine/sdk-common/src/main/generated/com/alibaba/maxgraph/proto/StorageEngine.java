@@ -0,0 +1,113 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf enum {@code StorageEngine}
+ */
+public enum StorageEngine
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>MEMORY = 0;</code>
+   */
+  MEMORY(0),
+  /**
+   * <code>ROCKSDB = 1;</code>
+   */
+  ROCKSDB(1),
+  /**
+   * <code>ALIBTREE = 2;</code>
+   */
+  ALIBTREE(2),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>MEMORY = 0;</code>
+   */
+  public static final int MEMORY_VALUE = 0;
+  /**
+   * <code>ROCKSDB = 1;</code>
+   */
+  public static final int ROCKSDB_VALUE = 1;
+  /**
+   * <code>ALIBTREE = 2;</code>
+   */
+  public static final int ALIBTREE_VALUE = 2;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static StorageEngine valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static StorageEngine forNumber(int value) {
+    switch (value) {
+      case 0: return MEMORY;
+      case 1: return ROCKSDB;
+      case 2: return ALIBTREE;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<StorageEngine>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      StorageEngine> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<StorageEngine>() {
+          public StorageEngine findValueByNumber(int number) {
+            return StorageEngine.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.getDescriptor()
+        .getEnumTypes().get(0);
+  }
+
+  private static final StorageEngine[] VALUES = values();
+
+  public static StorageEngine valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private StorageEngine(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:StorageEngine)
+}
+
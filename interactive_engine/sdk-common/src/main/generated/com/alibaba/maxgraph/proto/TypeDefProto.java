@@ -0,0 +1,2707 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code TypeDefProto}
+ */
+public  final class TypeDefProto extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:TypeDefProto)
+    TypeDefProtoOrBuilder {
+  // Use TypeDefProto.newBuilder() to construct.
+  private TypeDefProto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private TypeDefProto() {
+    id_ = 0;
+    label_ = "";
+    type_ = 0;
+    isDimensionType_ = false;
+    property_ = java.util.Collections.emptyList();
+    index_ = java.util.Collections.emptyList();
+    comment_ = "";
+    version_ = 0;
+    rawRelationShip_ = java.util.Collections.emptyList();
+    relationShip_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private TypeDefProto(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            id_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 24: {
+            int rawValue = input.readEnum();
+
+            type_ = rawValue;
+            break;
+          }
+          case 32: {
+
+            isDimensionType_ = input.readBool();
+            break;
+          }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+              property_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.PropertyDefProto>();
+              mutable_bitField0_ |= 0x00000010;
+            }
+            property_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.PropertyDefProto.parser(), extensionRegistry));
+            break;
+          }
+          case 50: {
+            if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+              index_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.IndexDefProto>();
+              mutable_bitField0_ |= 0x00000020;
+            }
+            index_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.IndexDefProto.parser(), extensionRegistry));
+            break;
+          }
+          case 58: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            comment_ = s;
+            break;
+          }
+          case 64: {
+
+            version_ = input.readInt32();
+            break;
+          }
+          case 74: {
+            if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+              rawRelationShip_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RelationShipReq>();
+              mutable_bitField0_ |= 0x00000100;
+            }
+            rawRelationShip_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.RelationShipReq.parser(), extensionRegistry));
+            break;
+          }
+          case 82: {
+            if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+              relationShip_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RelationShipProto>();
+              mutable_bitField0_ |= 0x00000200;
+            }
+            relationShip_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.RelationShipProto.parser(), extensionRegistry));
+            break;
+          }
+          case 90: {
+            com.alibaba.maxgraph.proto.TypeOptionProto.Builder subBuilder = null;
+            if (option_ != null) {
+              subBuilder = option_.toBuilder();
+            }
+            option_ = input.readMessage(com.alibaba.maxgraph.proto.TypeOptionProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(option_);
+              option_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 98: {
+            if (!((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+              gidToPid_ = com.google.protobuf.MapField.newMapField(
+                  GidToPidDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000800;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+            gidToPid = input.readMessage(
+                GidToPidDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            gidToPid_.getMutableMap().put(gidToPid.getKey(), gidToPid.getValue());
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+        property_ = java.util.Collections.unmodifiableList(property_);
+      }
+      if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+        index_ = java.util.Collections.unmodifiableList(index_);
+      }
+      if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+        rawRelationShip_ = java.util.Collections.unmodifiableList(rawRelationShip_);
+      }
+      if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+        relationShip_ = java.util.Collections.unmodifiableList(relationShip_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_TypeDefProto_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 12:
+        return internalGetGidToPid();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_TypeDefProto_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.TypeDefProto.class, com.alibaba.maxgraph.proto.TypeDefProto.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int ID_FIELD_NUMBER = 1;
+  private int id_;
+  /**
+   * <code>optional int32 id = 1;</code>
+   */
+  public int getId() {
+    return id_;
+  }
+
+  public static final int LABEL_FIELD_NUMBER = 2;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int TYPE_FIELD_NUMBER = 3;
+  private int type_;
+  /**
+   * <code>optional .TypeIdProto.Type type = 3;</code>
+   */
+  public int getTypeValue() {
+    return type_;
+  }
+  /**
+   * <code>optional .TypeIdProto.Type type = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeIdProto.Type getType() {
+    com.alibaba.maxgraph.proto.TypeIdProto.Type result = com.alibaba.maxgraph.proto.TypeIdProto.Type.valueOf(type_);
+    return result == null ? com.alibaba.maxgraph.proto.TypeIdProto.Type.UNRECOGNIZED : result;
+  }
+
+  public static final int ISDIMENSIONTYPE_FIELD_NUMBER = 4;
+  private boolean isDimensionType_;
+  /**
+   * <code>optional bool isDimensionType = 4;</code>
+   */
+  public boolean getIsDimensionType() {
+    return isDimensionType_;
+  }
+
+  public static final int PROPERTY_FIELD_NUMBER = 5;
+  private java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> property_;
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> getPropertyList() {
+    return property_;
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+      getPropertyOrBuilderList() {
+    return property_;
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  public int getPropertyCount() {
+    return property_.size();
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  public com.alibaba.maxgraph.proto.PropertyDefProto getProperty(int index) {
+    return property_.get(index);
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  public com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder getPropertyOrBuilder(
+      int index) {
+    return property_.get(index);
+  }
+
+  public static final int INDEX_FIELD_NUMBER = 6;
+  private java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> index_;
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> getIndexList() {
+    return index_;
+  }
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> 
+      getIndexOrBuilderList() {
+    return index_;
+  }
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  public int getIndexCount() {
+    return index_.size();
+  }
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  public com.alibaba.maxgraph.proto.IndexDefProto getIndex(int index) {
+    return index_.get(index);
+  }
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  public com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder getIndexOrBuilder(
+      int index) {
+    return index_.get(index);
+  }
+
+  public static final int COMMENT_FIELD_NUMBER = 7;
+  private volatile java.lang.Object comment_;
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  public java.lang.String getComment() {
+    java.lang.Object ref = comment_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      comment_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  public com.google.protobuf.ByteString
+      getCommentBytes() {
+    java.lang.Object ref = comment_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      comment_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int VERSION_FIELD_NUMBER = 8;
+  private int version_;
+  /**
+   * <code>optional int32 version = 8;</code>
+   */
+  public int getVersion() {
+    return version_;
+  }
+
+  public static final int RAWRELATIONSHIP_FIELD_NUMBER = 9;
+  private java.util.List<com.alibaba.maxgraph.proto.RelationShipReq> rawRelationShip_;
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.RelationShipReq> getRawRelationShipList() {
+    return rawRelationShip_;
+  }
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipReqOrBuilder> 
+      getRawRelationShipOrBuilderList() {
+    return rawRelationShip_;
+  }
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  public int getRawRelationShipCount() {
+    return rawRelationShip_.size();
+  }
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  public com.alibaba.maxgraph.proto.RelationShipReq getRawRelationShip(int index) {
+    return rawRelationShip_.get(index);
+  }
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  public com.alibaba.maxgraph.proto.RelationShipReqOrBuilder getRawRelationShipOrBuilder(
+      int index) {
+    return rawRelationShip_.get(index);
+  }
+
+  public static final int RELATIONSHIP_FIELD_NUMBER = 10;
+  private java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> relationShip_;
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> getRelationShipList() {
+    return relationShip_;
+  }
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> 
+      getRelationShipOrBuilderList() {
+    return relationShip_;
+  }
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  public int getRelationShipCount() {
+    return relationShip_.size();
+  }
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  public com.alibaba.maxgraph.proto.RelationShipProto getRelationShip(int index) {
+    return relationShip_.get(index);
+  }
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  public com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder getRelationShipOrBuilder(
+      int index) {
+    return relationShip_.get(index);
+  }
+
+  public static final int OPTION_FIELD_NUMBER = 11;
+  private com.alibaba.maxgraph.proto.TypeOptionProto option_;
+  /**
+   * <code>optional .TypeOptionProto option = 11;</code>
+   */
+  public boolean hasOption() {
+    return option_ != null;
+  }
+  /**
+   * <code>optional .TypeOptionProto option = 11;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeOptionProto getOption() {
+    return option_ == null ? com.alibaba.maxgraph.proto.TypeOptionProto.getDefaultInstance() : option_;
+  }
+  /**
+   * <code>optional .TypeOptionProto option = 11;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder getOptionOrBuilder() {
+    return getOption();
+  }
+
+  public static final int GIDTOPID_FIELD_NUMBER = 12;
+  private static final class GidToPidDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, java.lang.Integer> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, java.lang.Integer>newDefaultInstance(
+                com.alibaba.maxgraph.proto.Schema.internal_static_TypeDefProto_GidToPidEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0);
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, java.lang.Integer> gidToPid_;
+  private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+  internalGetGidToPid() {
+    if (gidToPid_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          GidToPidDefaultEntryHolder.defaultEntry);
+    }
+    return gidToPid_;
+  }
+
+  public int getGidToPidCount() {
+    return internalGetGidToPid().getMap().size();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+
+  public boolean containsGidToPid(
+      int key) {
+    
+    return internalGetGidToPid().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getGidToPidMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, java.lang.Integer> getGidToPid() {
+    return getGidToPidMap();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+
+  public java.util.Map<java.lang.Integer, java.lang.Integer> getGidToPidMap() {
+    return internalGetGidToPid().getMap();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+
+  public int getGidToPidOrDefault(
+      int key,
+      int defaultValue) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetGidToPid().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+
+  public int getGidToPidOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetGidToPid().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (id_ != 0) {
+      output.writeInt32(1, id_);
+    }
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, label_);
+    }
+    if (type_ != com.alibaba.maxgraph.proto.TypeIdProto.Type.VERTEX.getNumber()) {
+      output.writeEnum(3, type_);
+    }
+    if (isDimensionType_ != false) {
+      output.writeBool(4, isDimensionType_);
+    }
+    for (int i = 0; i < property_.size(); i++) {
+      output.writeMessage(5, property_.get(i));
+    }
+    for (int i = 0; i < index_.size(); i++) {
+      output.writeMessage(6, index_.get(i));
+    }
+    if (!getCommentBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 7, comment_);
+    }
+    if (version_ != 0) {
+      output.writeInt32(8, version_);
+    }
+    for (int i = 0; i < rawRelationShip_.size(); i++) {
+      output.writeMessage(9, rawRelationShip_.get(i));
+    }
+    for (int i = 0; i < relationShip_.size(); i++) {
+      output.writeMessage(10, relationShip_.get(i));
+    }
+    if (option_ != null) {
+      output.writeMessage(11, getOption());
+    }
+    for (java.util.Map.Entry<java.lang.Integer, java.lang.Integer> entry
+         : internalGetGidToPid().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+      gidToPid = GidToPidDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(12, gidToPid);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (id_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, id_);
+    }
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, label_);
+    }
+    if (type_ != com.alibaba.maxgraph.proto.TypeIdProto.Type.VERTEX.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, type_);
+    }
+    if (isDimensionType_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(4, isDimensionType_);
+    }
+    for (int i = 0; i < property_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, property_.get(i));
+    }
+    for (int i = 0; i < index_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, index_.get(i));
+    }
+    if (!getCommentBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, comment_);
+    }
+    if (version_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(8, version_);
+    }
+    for (int i = 0; i < rawRelationShip_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(9, rawRelationShip_.get(i));
+    }
+    for (int i = 0; i < relationShip_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(10, relationShip_.get(i));
+    }
+    if (option_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(11, getOption());
+    }
+    for (java.util.Map.Entry<java.lang.Integer, java.lang.Integer> entry
+         : internalGetGidToPid().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+      gidToPid = GidToPidDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, gidToPid);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.TypeDefProto)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.TypeDefProto other = (com.alibaba.maxgraph.proto.TypeDefProto) obj;
+
+    boolean result = true;
+    result = result && (getId()
+        == other.getId());
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && type_ == other.type_;
+    result = result && (getIsDimensionType()
+        == other.getIsDimensionType());
+    result = result && getPropertyList()
+        .equals(other.getPropertyList());
+    result = result && getIndexList()
+        .equals(other.getIndexList());
+    result = result && getComment()
+        .equals(other.getComment());
+    result = result && (getVersion()
+        == other.getVersion());
+    result = result && getRawRelationShipList()
+        .equals(other.getRawRelationShipList());
+    result = result && getRelationShipList()
+        .equals(other.getRelationShipList());
+    result = result && (hasOption() == other.hasOption());
+    if (hasOption()) {
+      result = result && getOption()
+          .equals(other.getOption());
+    }
+    result = result && internalGetGidToPid().equals(
+        other.internalGetGidToPid());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + ID_FIELD_NUMBER;
+    hash = (53 * hash) + getId();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    hash = (37 * hash) + TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + type_;
+    hash = (37 * hash) + ISDIMENSIONTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getIsDimensionType());
+    if (getPropertyCount() > 0) {
+      hash = (37 * hash) + PROPERTY_FIELD_NUMBER;
+      hash = (53 * hash) + getPropertyList().hashCode();
+    }
+    if (getIndexCount() > 0) {
+      hash = (37 * hash) + INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getIndexList().hashCode();
+    }
+    hash = (37 * hash) + COMMENT_FIELD_NUMBER;
+    hash = (53 * hash) + getComment().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getVersion();
+    if (getRawRelationShipCount() > 0) {
+      hash = (37 * hash) + RAWRELATIONSHIP_FIELD_NUMBER;
+      hash = (53 * hash) + getRawRelationShipList().hashCode();
+    }
+    if (getRelationShipCount() > 0) {
+      hash = (37 * hash) + RELATIONSHIP_FIELD_NUMBER;
+      hash = (53 * hash) + getRelationShipList().hashCode();
+    }
+    if (hasOption()) {
+      hash = (37 * hash) + OPTION_FIELD_NUMBER;
+      hash = (53 * hash) + getOption().hashCode();
+    }
+    if (!internalGetGidToPid().getMap().isEmpty()) {
+      hash = (37 * hash) + GIDTOPID_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetGidToPid().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.TypeDefProto parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.TypeDefProto prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code TypeDefProto}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:TypeDefProto)
+      com.alibaba.maxgraph.proto.TypeDefProtoOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_TypeDefProto_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 12:
+          return internalGetGidToPid();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 12:
+          return internalGetMutableGidToPid();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_TypeDefProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.TypeDefProto.class, com.alibaba.maxgraph.proto.TypeDefProto.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.TypeDefProto.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getPropertyFieldBuilder();
+        getIndexFieldBuilder();
+        getRawRelationShipFieldBuilder();
+        getRelationShipFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      id_ = 0;
+
+      label_ = "";
+
+      type_ = 0;
+
+      isDimensionType_ = false;
+
+      if (propertyBuilder_ == null) {
+        property_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+      } else {
+        propertyBuilder_.clear();
+      }
+      if (indexBuilder_ == null) {
+        index_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+      } else {
+        indexBuilder_.clear();
+      }
+      comment_ = "";
+
+      version_ = 0;
+
+      if (rawRelationShipBuilder_ == null) {
+        rawRelationShip_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+      } else {
+        rawRelationShipBuilder_.clear();
+      }
+      if (relationShipBuilder_ == null) {
+        relationShip_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+      } else {
+        relationShipBuilder_.clear();
+      }
+      if (optionBuilder_ == null) {
+        option_ = null;
+      } else {
+        option_ = null;
+        optionBuilder_ = null;
+      }
+      internalGetMutableGidToPid().clear();
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_TypeDefProto_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.TypeDefProto getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.TypeDefProto build() {
+      com.alibaba.maxgraph.proto.TypeDefProto result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.TypeDefProto buildPartial() {
+      com.alibaba.maxgraph.proto.TypeDefProto result = new com.alibaba.maxgraph.proto.TypeDefProto(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.id_ = id_;
+      result.label_ = label_;
+      result.type_ = type_;
+      result.isDimensionType_ = isDimensionType_;
+      if (propertyBuilder_ == null) {
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          property_ = java.util.Collections.unmodifiableList(property_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.property_ = property_;
+      } else {
+        result.property_ = propertyBuilder_.build();
+      }
+      if (indexBuilder_ == null) {
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          index_ = java.util.Collections.unmodifiableList(index_);
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.index_ = index_;
+      } else {
+        result.index_ = indexBuilder_.build();
+      }
+      result.comment_ = comment_;
+      result.version_ = version_;
+      if (rawRelationShipBuilder_ == null) {
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          rawRelationShip_ = java.util.Collections.unmodifiableList(rawRelationShip_);
+          bitField0_ = (bitField0_ & ~0x00000100);
+        }
+        result.rawRelationShip_ = rawRelationShip_;
+      } else {
+        result.rawRelationShip_ = rawRelationShipBuilder_.build();
+      }
+      if (relationShipBuilder_ == null) {
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          relationShip_ = java.util.Collections.unmodifiableList(relationShip_);
+          bitField0_ = (bitField0_ & ~0x00000200);
+        }
+        result.relationShip_ = relationShip_;
+      } else {
+        result.relationShip_ = relationShipBuilder_.build();
+      }
+      if (optionBuilder_ == null) {
+        result.option_ = option_;
+      } else {
+        result.option_ = optionBuilder_.build();
+      }
+      result.gidToPid_ = internalGetGidToPid();
+      result.gidToPid_.makeImmutable();
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.TypeDefProto) {
+        return mergeFrom((com.alibaba.maxgraph.proto.TypeDefProto)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.TypeDefProto other) {
+      if (other == com.alibaba.maxgraph.proto.TypeDefProto.getDefaultInstance()) return this;
+      if (other.getId() != 0) {
+        setId(other.getId());
+      }
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (other.type_ != 0) {
+        setTypeValue(other.getTypeValue());
+      }
+      if (other.getIsDimensionType() != false) {
+        setIsDimensionType(other.getIsDimensionType());
+      }
+      if (propertyBuilder_ == null) {
+        if (!other.property_.isEmpty()) {
+          if (property_.isEmpty()) {
+            property_ = other.property_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensurePropertyIsMutable();
+            property_.addAll(other.property_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.property_.isEmpty()) {
+          if (propertyBuilder_.isEmpty()) {
+            propertyBuilder_.dispose();
+            propertyBuilder_ = null;
+            property_ = other.property_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+            propertyBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getPropertyFieldBuilder() : null;
+          } else {
+            propertyBuilder_.addAllMessages(other.property_);
+          }
+        }
+      }
+      if (indexBuilder_ == null) {
+        if (!other.index_.isEmpty()) {
+          if (index_.isEmpty()) {
+            index_ = other.index_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureIndexIsMutable();
+            index_.addAll(other.index_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.index_.isEmpty()) {
+          if (indexBuilder_.isEmpty()) {
+            indexBuilder_.dispose();
+            indexBuilder_ = null;
+            index_ = other.index_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+            indexBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getIndexFieldBuilder() : null;
+          } else {
+            indexBuilder_.addAllMessages(other.index_);
+          }
+        }
+      }
+      if (!other.getComment().isEmpty()) {
+        comment_ = other.comment_;
+        onChanged();
+      }
+      if (other.getVersion() != 0) {
+        setVersion(other.getVersion());
+      }
+      if (rawRelationShipBuilder_ == null) {
+        if (!other.rawRelationShip_.isEmpty()) {
+          if (rawRelationShip_.isEmpty()) {
+            rawRelationShip_ = other.rawRelationShip_;
+            bitField0_ = (bitField0_ & ~0x00000100);
+          } else {
+            ensureRawRelationShipIsMutable();
+            rawRelationShip_.addAll(other.rawRelationShip_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.rawRelationShip_.isEmpty()) {
+          if (rawRelationShipBuilder_.isEmpty()) {
+            rawRelationShipBuilder_.dispose();
+            rawRelationShipBuilder_ = null;
+            rawRelationShip_ = other.rawRelationShip_;
+            bitField0_ = (bitField0_ & ~0x00000100);
+            rawRelationShipBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getRawRelationShipFieldBuilder() : null;
+          } else {
+            rawRelationShipBuilder_.addAllMessages(other.rawRelationShip_);
+          }
+        }
+      }
+      if (relationShipBuilder_ == null) {
+        if (!other.relationShip_.isEmpty()) {
+          if (relationShip_.isEmpty()) {
+            relationShip_ = other.relationShip_;
+            bitField0_ = (bitField0_ & ~0x00000200);
+          } else {
+            ensureRelationShipIsMutable();
+            relationShip_.addAll(other.relationShip_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.relationShip_.isEmpty()) {
+          if (relationShipBuilder_.isEmpty()) {
+            relationShipBuilder_.dispose();
+            relationShipBuilder_ = null;
+            relationShip_ = other.relationShip_;
+            bitField0_ = (bitField0_ & ~0x00000200);
+            relationShipBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getRelationShipFieldBuilder() : null;
+          } else {
+            relationShipBuilder_.addAllMessages(other.relationShip_);
+          }
+        }
+      }
+      if (other.hasOption()) {
+        mergeOption(other.getOption());
+      }
+      internalGetMutableGidToPid().mergeFrom(
+          other.internalGetGidToPid());
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.TypeDefProto parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.TypeDefProto) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int id_ ;
+    /**
+     * <code>optional int32 id = 1;</code>
+     */
+    public int getId() {
+      return id_;
+    }
+    /**
+     * <code>optional int32 id = 1;</code>
+     */
+    public Builder setId(int value) {
+      
+      id_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 id = 1;</code>
+     */
+    public Builder clearId() {
+      
+      id_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 2;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int type_ = 0;
+    /**
+     * <code>optional .TypeIdProto.Type type = 3;</code>
+     */
+    public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>optional .TypeIdProto.Type type = 3;</code>
+     */
+    public Builder setTypeValue(int value) {
+      type_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .TypeIdProto.Type type = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeIdProto.Type getType() {
+      com.alibaba.maxgraph.proto.TypeIdProto.Type result = com.alibaba.maxgraph.proto.TypeIdProto.Type.valueOf(type_);
+      return result == null ? com.alibaba.maxgraph.proto.TypeIdProto.Type.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .TypeIdProto.Type type = 3;</code>
+     */
+    public Builder setType(com.alibaba.maxgraph.proto.TypeIdProto.Type value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      type_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .TypeIdProto.Type type = 3;</code>
+     */
+    public Builder clearType() {
+      
+      type_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private boolean isDimensionType_ ;
+    /**
+     * <code>optional bool isDimensionType = 4;</code>
+     */
+    public boolean getIsDimensionType() {
+      return isDimensionType_;
+    }
+    /**
+     * <code>optional bool isDimensionType = 4;</code>
+     */
+    public Builder setIsDimensionType(boolean value) {
+      
+      isDimensionType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool isDimensionType = 4;</code>
+     */
+    public Builder clearIsDimensionType() {
+      
+      isDimensionType_ = false;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> property_ =
+      java.util.Collections.emptyList();
+    private void ensurePropertyIsMutable() {
+      if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+        property_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.PropertyDefProto>(property_);
+        bitField0_ |= 0x00000010;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> propertyBuilder_;
+
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> getPropertyList() {
+      if (propertyBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(property_);
+      } else {
+        return propertyBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public int getPropertyCount() {
+      if (propertyBuilder_ == null) {
+        return property_.size();
+      } else {
+        return propertyBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto getProperty(int index) {
+      if (propertyBuilder_ == null) {
+        return property_.get(index);
+      } else {
+        return propertyBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder setProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.set(index, value);
+        onChanged();
+      } else {
+        propertyBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder setProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder addProperty(com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.add(value);
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder addProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.add(index, value);
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder addProperty(
+        com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.add(builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder addProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder addAllProperty(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.PropertyDefProto> values) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, property_);
+        onChanged();
+      } else {
+        propertyBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder clearProperty() {
+      if (propertyBuilder_ == null) {
+        property_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+      } else {
+        propertyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public Builder removeProperty(int index) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.remove(index);
+        onChanged();
+      } else {
+        propertyBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder getPropertyBuilder(
+        int index) {
+      return getPropertyFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder getPropertyOrBuilder(
+        int index) {
+      if (propertyBuilder_ == null) {
+        return property_.get(index);  } else {
+        return propertyBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+         getPropertyOrBuilderList() {
+      if (propertyBuilder_ != null) {
+        return propertyBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(property_);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder addPropertyBuilder() {
+      return getPropertyFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.PropertyDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder addPropertyBuilder(
+        int index) {
+      return getPropertyFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.PropertyDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 5;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto.Builder> 
+         getPropertyBuilderList() {
+      return getPropertyFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+        getPropertyFieldBuilder() {
+      if (propertyBuilder_ == null) {
+        propertyBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder>(
+                property_,
+                ((bitField0_ & 0x00000010) == 0x00000010),
+                getParentForChildren(),
+                isClean());
+        property_ = null;
+      }
+      return propertyBuilder_;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> index_ =
+      java.util.Collections.emptyList();
+    private void ensureIndexIsMutable() {
+      if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+        index_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.IndexDefProto>(index_);
+        bitField0_ |= 0x00000020;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.IndexDefProto, com.alibaba.maxgraph.proto.IndexDefProto.Builder, com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> indexBuilder_;
+
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> getIndexList() {
+      if (indexBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(index_);
+      } else {
+        return indexBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public int getIndexCount() {
+      if (indexBuilder_ == null) {
+        return index_.size();
+      } else {
+        return indexBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto getIndex(int index) {
+      if (indexBuilder_ == null) {
+        return index_.get(index);
+      } else {
+        return indexBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder setIndex(
+        int index, com.alibaba.maxgraph.proto.IndexDefProto value) {
+      if (indexBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureIndexIsMutable();
+        index_.set(index, value);
+        onChanged();
+      } else {
+        indexBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder setIndex(
+        int index, com.alibaba.maxgraph.proto.IndexDefProto.Builder builderForValue) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        index_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        indexBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder addIndex(com.alibaba.maxgraph.proto.IndexDefProto value) {
+      if (indexBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureIndexIsMutable();
+        index_.add(value);
+        onChanged();
+      } else {
+        indexBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder addIndex(
+        int index, com.alibaba.maxgraph.proto.IndexDefProto value) {
+      if (indexBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureIndexIsMutable();
+        index_.add(index, value);
+        onChanged();
+      } else {
+        indexBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder addIndex(
+        com.alibaba.maxgraph.proto.IndexDefProto.Builder builderForValue) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        index_.add(builderForValue.build());
+        onChanged();
+      } else {
+        indexBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder addIndex(
+        int index, com.alibaba.maxgraph.proto.IndexDefProto.Builder builderForValue) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        index_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        indexBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder addAllIndex(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.IndexDefProto> values) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, index_);
+        onChanged();
+      } else {
+        indexBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder clearIndex() {
+      if (indexBuilder_ == null) {
+        index_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+      } else {
+        indexBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public Builder removeIndex(int index) {
+      if (indexBuilder_ == null) {
+        ensureIndexIsMutable();
+        index_.remove(index);
+        onChanged();
+      } else {
+        indexBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto.Builder getIndexBuilder(
+        int index) {
+      return getIndexFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder getIndexOrBuilder(
+        int index) {
+      if (indexBuilder_ == null) {
+        return index_.get(index);  } else {
+        return indexBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> 
+         getIndexOrBuilderList() {
+      if (indexBuilder_ != null) {
+        return indexBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(index_);
+      }
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto.Builder addIndexBuilder() {
+      return getIndexFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.IndexDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.IndexDefProto.Builder addIndexBuilder(
+        int index) {
+      return getIndexFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.IndexDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .IndexDefProto index = 6;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.IndexDefProto.Builder> 
+         getIndexBuilderList() {
+      return getIndexFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.IndexDefProto, com.alibaba.maxgraph.proto.IndexDefProto.Builder, com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> 
+        getIndexFieldBuilder() {
+      if (indexBuilder_ == null) {
+        indexBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.IndexDefProto, com.alibaba.maxgraph.proto.IndexDefProto.Builder, com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder>(
+                index_,
+                ((bitField0_ & 0x00000020) == 0x00000020),
+                getParentForChildren(),
+                isClean());
+        index_ = null;
+      }
+      return indexBuilder_;
+    }
+
+    private java.lang.Object comment_ = "";
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public java.lang.String getComment() {
+      java.lang.Object ref = comment_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        comment_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCommentBytes() {
+      java.lang.Object ref = comment_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        comment_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public Builder setComment(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      comment_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public Builder clearComment() {
+      
+      comment_ = getDefaultInstance().getComment();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string comment = 7;</code>
+     */
+    public Builder setCommentBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      comment_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int version_ ;
+    /**
+     * <code>optional int32 version = 8;</code>
+     */
+    public int getVersion() {
+      return version_;
+    }
+    /**
+     * <code>optional int32 version = 8;</code>
+     */
+    public Builder setVersion(int value) {
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 version = 8;</code>
+     */
+    public Builder clearVersion() {
+      
+      version_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.RelationShipReq> rawRelationShip_ =
+      java.util.Collections.emptyList();
+    private void ensureRawRelationShipIsMutable() {
+      if (!((bitField0_ & 0x00000100) == 0x00000100)) {
+        rawRelationShip_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RelationShipReq>(rawRelationShip_);
+        bitField0_ |= 0x00000100;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RelationShipReq, com.alibaba.maxgraph.proto.RelationShipReq.Builder, com.alibaba.maxgraph.proto.RelationShipReqOrBuilder> rawRelationShipBuilder_;
+
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RelationShipReq> getRawRelationShipList() {
+      if (rawRelationShipBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(rawRelationShip_);
+      } else {
+        return rawRelationShipBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public int getRawRelationShipCount() {
+      if (rawRelationShipBuilder_ == null) {
+        return rawRelationShip_.size();
+      } else {
+        return rawRelationShipBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipReq getRawRelationShip(int index) {
+      if (rawRelationShipBuilder_ == null) {
+        return rawRelationShip_.get(index);
+      } else {
+        return rawRelationShipBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder setRawRelationShip(
+        int index, com.alibaba.maxgraph.proto.RelationShipReq value) {
+      if (rawRelationShipBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRawRelationShipIsMutable();
+        rawRelationShip_.set(index, value);
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder setRawRelationShip(
+        int index, com.alibaba.maxgraph.proto.RelationShipReq.Builder builderForValue) {
+      if (rawRelationShipBuilder_ == null) {
+        ensureRawRelationShipIsMutable();
+        rawRelationShip_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder addRawRelationShip(com.alibaba.maxgraph.proto.RelationShipReq value) {
+      if (rawRelationShipBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRawRelationShipIsMutable();
+        rawRelationShip_.add(value);
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder addRawRelationShip(
+        int index, com.alibaba.maxgraph.proto.RelationShipReq value) {
+      if (rawRelationShipBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRawRelationShipIsMutable();
+        rawRelationShip_.add(index, value);
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder addRawRelationShip(
+        com.alibaba.maxgraph.proto.RelationShipReq.Builder builderForValue) {
+      if (rawRelationShipBuilder_ == null) {
+        ensureRawRelationShipIsMutable();
+        rawRelationShip_.add(builderForValue.build());
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder addRawRelationShip(
+        int index, com.alibaba.maxgraph.proto.RelationShipReq.Builder builderForValue) {
+      if (rawRelationShipBuilder_ == null) {
+        ensureRawRelationShipIsMutable();
+        rawRelationShip_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder addAllRawRelationShip(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.RelationShipReq> values) {
+      if (rawRelationShipBuilder_ == null) {
+        ensureRawRelationShipIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, rawRelationShip_);
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder clearRawRelationShip() {
+      if (rawRelationShipBuilder_ == null) {
+        rawRelationShip_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public Builder removeRawRelationShip(int index) {
+      if (rawRelationShipBuilder_ == null) {
+        ensureRawRelationShipIsMutable();
+        rawRelationShip_.remove(index);
+        onChanged();
+      } else {
+        rawRelationShipBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipReq.Builder getRawRelationShipBuilder(
+        int index) {
+      return getRawRelationShipFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipReqOrBuilder getRawRelationShipOrBuilder(
+        int index) {
+      if (rawRelationShipBuilder_ == null) {
+        return rawRelationShip_.get(index);  } else {
+        return rawRelationShipBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipReqOrBuilder> 
+         getRawRelationShipOrBuilderList() {
+      if (rawRelationShipBuilder_ != null) {
+        return rawRelationShipBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(rawRelationShip_);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipReq.Builder addRawRelationShipBuilder() {
+      return getRawRelationShipFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.RelationShipReq.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipReq.Builder addRawRelationShipBuilder(
+        int index) {
+      return getRawRelationShipFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.RelationShipReq.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RelationShipReq.Builder> 
+         getRawRelationShipBuilderList() {
+      return getRawRelationShipFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RelationShipReq, com.alibaba.maxgraph.proto.RelationShipReq.Builder, com.alibaba.maxgraph.proto.RelationShipReqOrBuilder> 
+        getRawRelationShipFieldBuilder() {
+      if (rawRelationShipBuilder_ == null) {
+        rawRelationShipBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.RelationShipReq, com.alibaba.maxgraph.proto.RelationShipReq.Builder, com.alibaba.maxgraph.proto.RelationShipReqOrBuilder>(
+                rawRelationShip_,
+                ((bitField0_ & 0x00000100) == 0x00000100),
+                getParentForChildren(),
+                isClean());
+        rawRelationShip_ = null;
+      }
+      return rawRelationShipBuilder_;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> relationShip_ =
+      java.util.Collections.emptyList();
+    private void ensureRelationShipIsMutable() {
+      if (!((bitField0_ & 0x00000200) == 0x00000200)) {
+        relationShip_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.RelationShipProto>(relationShip_);
+        bitField0_ |= 0x00000200;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RelationShipProto, com.alibaba.maxgraph.proto.RelationShipProto.Builder, com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> relationShipBuilder_;
+
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> getRelationShipList() {
+      if (relationShipBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(relationShip_);
+      } else {
+        return relationShipBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public int getRelationShipCount() {
+      if (relationShipBuilder_ == null) {
+        return relationShip_.size();
+      } else {
+        return relationShipBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProto getRelationShip(int index) {
+      if (relationShipBuilder_ == null) {
+        return relationShip_.get(index);
+      } else {
+        return relationShipBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder setRelationShip(
+        int index, com.alibaba.maxgraph.proto.RelationShipProto value) {
+      if (relationShipBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRelationShipIsMutable();
+        relationShip_.set(index, value);
+        onChanged();
+      } else {
+        relationShipBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder setRelationShip(
+        int index, com.alibaba.maxgraph.proto.RelationShipProto.Builder builderForValue) {
+      if (relationShipBuilder_ == null) {
+        ensureRelationShipIsMutable();
+        relationShip_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        relationShipBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder addRelationShip(com.alibaba.maxgraph.proto.RelationShipProto value) {
+      if (relationShipBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRelationShipIsMutable();
+        relationShip_.add(value);
+        onChanged();
+      } else {
+        relationShipBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder addRelationShip(
+        int index, com.alibaba.maxgraph.proto.RelationShipProto value) {
+      if (relationShipBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRelationShipIsMutable();
+        relationShip_.add(index, value);
+        onChanged();
+      } else {
+        relationShipBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder addRelationShip(
+        com.alibaba.maxgraph.proto.RelationShipProto.Builder builderForValue) {
+      if (relationShipBuilder_ == null) {
+        ensureRelationShipIsMutable();
+        relationShip_.add(builderForValue.build());
+        onChanged();
+      } else {
+        relationShipBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder addRelationShip(
+        int index, com.alibaba.maxgraph.proto.RelationShipProto.Builder builderForValue) {
+      if (relationShipBuilder_ == null) {
+        ensureRelationShipIsMutable();
+        relationShip_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        relationShipBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder addAllRelationShip(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.RelationShipProto> values) {
+      if (relationShipBuilder_ == null) {
+        ensureRelationShipIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, relationShip_);
+        onChanged();
+      } else {
+        relationShipBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder clearRelationShip() {
+      if (relationShipBuilder_ == null) {
+        relationShip_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+      } else {
+        relationShipBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public Builder removeRelationShip(int index) {
+      if (relationShipBuilder_ == null) {
+        ensureRelationShipIsMutable();
+        relationShip_.remove(index);
+        onChanged();
+      } else {
+        relationShipBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProto.Builder getRelationShipBuilder(
+        int index) {
+      return getRelationShipFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder getRelationShipOrBuilder(
+        int index) {
+      if (relationShipBuilder_ == null) {
+        return relationShip_.get(index);  } else {
+        return relationShipBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> 
+         getRelationShipOrBuilderList() {
+      if (relationShipBuilder_ != null) {
+        return relationShipBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(relationShip_);
+      }
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProto.Builder addRelationShipBuilder() {
+      return getRelationShipFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.RelationShipProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public com.alibaba.maxgraph.proto.RelationShipProto.Builder addRelationShipBuilder(
+        int index) {
+      return getRelationShipFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.RelationShipProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .RelationShipProto relationShip = 10;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.RelationShipProto.Builder> 
+         getRelationShipBuilderList() {
+      return getRelationShipFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.RelationShipProto, com.alibaba.maxgraph.proto.RelationShipProto.Builder, com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> 
+        getRelationShipFieldBuilder() {
+      if (relationShipBuilder_ == null) {
+        relationShipBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.RelationShipProto, com.alibaba.maxgraph.proto.RelationShipProto.Builder, com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder>(
+                relationShip_,
+                ((bitField0_ & 0x00000200) == 0x00000200),
+                getParentForChildren(),
+                isClean());
+        relationShip_ = null;
+      }
+      return relationShipBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.TypeOptionProto option_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeOptionProto, com.alibaba.maxgraph.proto.TypeOptionProto.Builder, com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder> optionBuilder_;
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    public boolean hasOption() {
+      return optionBuilder_ != null || option_ != null;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeOptionProto getOption() {
+      if (optionBuilder_ == null) {
+        return option_ == null ? com.alibaba.maxgraph.proto.TypeOptionProto.getDefaultInstance() : option_;
+      } else {
+        return optionBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    public Builder setOption(com.alibaba.maxgraph.proto.TypeOptionProto value) {
+      if (optionBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        option_ = value;
+        onChanged();
+      } else {
+        optionBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    public Builder setOption(
+        com.alibaba.maxgraph.proto.TypeOptionProto.Builder builderForValue) {
+      if (optionBuilder_ == null) {
+        option_ = builderForValue.build();
+        onChanged();
+      } else {
+        optionBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    public Builder mergeOption(com.alibaba.maxgraph.proto.TypeOptionProto value) {
+      if (optionBuilder_ == null) {
+        if (option_ != null) {
+          option_ =
+            com.alibaba.maxgraph.proto.TypeOptionProto.newBuilder(option_).mergeFrom(value).buildPartial();
+        } else {
+          option_ = value;
+        }
+        onChanged();
+      } else {
+        optionBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    public Builder clearOption() {
+      if (optionBuilder_ == null) {
+        option_ = null;
+        onChanged();
+      } else {
+        option_ = null;
+        optionBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeOptionProto.Builder getOptionBuilder() {
+      
+      onChanged();
+      return getOptionFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder getOptionOrBuilder() {
+      if (optionBuilder_ != null) {
+        return optionBuilder_.getMessageOrBuilder();
+      } else {
+        return option_ == null ?
+            com.alibaba.maxgraph.proto.TypeOptionProto.getDefaultInstance() : option_;
+      }
+    }
+    /**
+     * <code>optional .TypeOptionProto option = 11;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeOptionProto, com.alibaba.maxgraph.proto.TypeOptionProto.Builder, com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder> 
+        getOptionFieldBuilder() {
+      if (optionBuilder_ == null) {
+        optionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.TypeOptionProto, com.alibaba.maxgraph.proto.TypeOptionProto.Builder, com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder>(
+                getOption(),
+                getParentForChildren(),
+                isClean());
+        option_ = null;
+      }
+      return optionBuilder_;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, java.lang.Integer> gidToPid_;
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetGidToPid() {
+      if (gidToPid_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            GidToPidDefaultEntryHolder.defaultEntry);
+      }
+      return gidToPid_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetMutableGidToPid() {
+      onChanged();;
+      if (gidToPid_ == null) {
+        gidToPid_ = com.google.protobuf.MapField.newMapField(
+            GidToPidDefaultEntryHolder.defaultEntry);
+      }
+      if (!gidToPid_.isMutable()) {
+        gidToPid_ = gidToPid_.copy();
+      }
+      return gidToPid_;
+    }
+
+    public int getGidToPidCount() {
+      return internalGetGidToPid().getMap().size();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+     */
+
+    public boolean containsGidToPid(
+        int key) {
+      
+      return internalGetGidToPid().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getGidToPidMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer> getGidToPid() {
+      return getGidToPidMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+     */
+
+    public java.util.Map<java.lang.Integer, java.lang.Integer> getGidToPidMap() {
+      return internalGetGidToPid().getMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+     */
+
+    public int getGidToPidOrDefault(
+        int key,
+        int defaultValue) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetGidToPid().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+     */
+
+    public int getGidToPidOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetGidToPid().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearGidToPid() {
+      getMutableGidToPid().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+     */
+
+    public Builder removeGidToPid(
+        int key) {
+      
+      getMutableGidToPid().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer>
+    getMutableGidToPid() {
+      return internalGetMutableGidToPid().getMutableMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+     */
+    public Builder putGidToPid(
+        int key,
+        int value) {
+      
+      
+      getMutableGidToPid().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+     */
+
+    public Builder putAllGidToPid(
+        java.util.Map<java.lang.Integer, java.lang.Integer> values) {
+      getMutableGidToPid().putAll(values);
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:TypeDefProto)
+  }
+
+  // @@protoc_insertion_point(class_scope:TypeDefProto)
+  private static final com.alibaba.maxgraph.proto.TypeDefProto DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.TypeDefProto();
+  }
+
+  public static com.alibaba.maxgraph.proto.TypeDefProto getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<TypeDefProto>
+      PARSER = new com.google.protobuf.AbstractParser<TypeDefProto>() {
+    public TypeDefProto parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TypeDefProto(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<TypeDefProto> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<TypeDefProto> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.TypeDefProto getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
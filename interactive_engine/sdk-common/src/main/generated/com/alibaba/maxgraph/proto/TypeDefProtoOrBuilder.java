@@ -0,0 +1,196 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface TypeDefProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TypeDefProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 id = 1;</code>
+   */
+  int getId();
+
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional .TypeIdProto.Type type = 3;</code>
+   */
+  int getTypeValue();
+  /**
+   * <code>optional .TypeIdProto.Type type = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProto.Type getType();
+
+  /**
+   * <code>optional bool isDimensionType = 4;</code>
+   */
+  boolean getIsDimensionType();
+
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> 
+      getPropertyList();
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.PropertyDefProto getProperty(int index);
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  int getPropertyCount();
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+      getPropertyOrBuilderList();
+  /**
+   * <code>repeated .PropertyDefProto property = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder getPropertyOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.IndexDefProto> 
+      getIndexList();
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.IndexDefProto getIndex(int index);
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  int getIndexCount();
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder> 
+      getIndexOrBuilderList();
+  /**
+   * <code>repeated .IndexDefProto index = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.IndexDefProtoOrBuilder getIndexOrBuilder(
+      int index);
+
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  java.lang.String getComment();
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  com.google.protobuf.ByteString
+      getCommentBytes();
+
+  /**
+   * <code>optional int32 version = 8;</code>
+   */
+  int getVersion();
+
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.RelationShipReq> 
+      getRawRelationShipList();
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  com.alibaba.maxgraph.proto.RelationShipReq getRawRelationShip(int index);
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  int getRawRelationShipCount();
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipReqOrBuilder> 
+      getRawRelationShipOrBuilderList();
+  /**
+   * <code>repeated .RelationShipReq rawRelationShip = 9;</code>
+   */
+  com.alibaba.maxgraph.proto.RelationShipReqOrBuilder getRawRelationShipOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.RelationShipProto> 
+      getRelationShipList();
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  com.alibaba.maxgraph.proto.RelationShipProto getRelationShip(int index);
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  int getRelationShipCount();
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder> 
+      getRelationShipOrBuilderList();
+  /**
+   * <code>repeated .RelationShipProto relationShip = 10;</code>
+   */
+  com.alibaba.maxgraph.proto.RelationShipProtoOrBuilder getRelationShipOrBuilder(
+      int index);
+
+  /**
+   * <code>optional .TypeOptionProto option = 11;</code>
+   */
+  boolean hasOption();
+  /**
+   * <code>optional .TypeOptionProto option = 11;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeOptionProto getOption();
+  /**
+   * <code>optional .TypeOptionProto option = 11;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeOptionProtoOrBuilder getOptionOrBuilder();
+
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+  int getGidToPidCount();
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+  boolean containsGidToPid(
+      int key);
+  /**
+   * Use {@link #getGidToPidMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, java.lang.Integer>
+  getGidToPid();
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+  java.util.Map<java.lang.Integer, java.lang.Integer>
+  getGidToPidMap();
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+
+  int getGidToPidOrDefault(
+      int key,
+      int defaultValue);
+  /**
+   * <code>map&lt;int32, int32&gt; gidToPid = 12;</code>
+   */
+
+  int getGidToPidOrThrow(
+      int key);
+}
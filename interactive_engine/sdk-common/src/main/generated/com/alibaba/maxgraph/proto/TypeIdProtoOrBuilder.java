@@ -0,0 +1,23 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface TypeIdProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TypeIdProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional uint32 id = 1;</code>
+   */
+  int getId();
+
+  /**
+   * <code>optional .TypeIdProto.Type type = 2;</code>
+   */
+  int getTypeValue();
+  /**
+   * <code>optional .TypeIdProto.Type type = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProto.Type getType();
+}
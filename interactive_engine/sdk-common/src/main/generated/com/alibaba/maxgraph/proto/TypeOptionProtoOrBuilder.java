@@ -0,0 +1,18 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface TypeOptionProtoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TypeOptionProto)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .StorageEngine storageEngine = 1;</code>
+   */
+  int getStorageEngineValue();
+  /**
+   * <code>optional .StorageEngine storageEngine = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.StorageEngine getStorageEngine();
+}
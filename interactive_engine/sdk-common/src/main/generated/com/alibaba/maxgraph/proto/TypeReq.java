@@ -0,0 +1,791 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code TypeReq}
+ */
+public  final class TypeReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:TypeReq)
+    TypeReqOrBuilder {
+  // Use TypeReq.newBuilder() to construct.
+  private TypeReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private TypeReq() {
+    schemaVersion_ = 0;
+    typeVersion_ = 0;
+    label_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private TypeReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            schemaVersion_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            typeVersion_ = input.readInt32();
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 34: {
+            com.alibaba.maxgraph.proto.TypeIdProto.Builder subBuilder = null;
+            if (typeId_ != null) {
+              subBuilder = typeId_.toBuilder();
+            }
+            typeId_ = input.readMessage(com.alibaba.maxgraph.proto.TypeIdProto.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(typeId_);
+              typeId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_TypeReq_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_TypeReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.TypeReq.class, com.alibaba.maxgraph.proto.TypeReq.Builder.class);
+  }
+
+  public static final int SCHEMAVERSION_FIELD_NUMBER = 1;
+  private int schemaVersion_;
+  /**
+   * <code>optional int32 schemaVersion = 1;</code>
+   */
+  public int getSchemaVersion() {
+    return schemaVersion_;
+  }
+
+  public static final int TYPEVERSION_FIELD_NUMBER = 2;
+  private int typeVersion_;
+  /**
+   * <code>optional int32 typeVersion = 2;</code>
+   */
+  public int getTypeVersion() {
+    return typeVersion_;
+  }
+
+  public static final int LABEL_FIELD_NUMBER = 3;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 3;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int TYPEID_FIELD_NUMBER = 4;
+  private com.alibaba.maxgraph.proto.TypeIdProto typeId_;
+  /**
+   * <code>optional .TypeIdProto typeId = 4;</code>
+   */
+  public boolean hasTypeId() {
+    return typeId_ != null;
+  }
+  /**
+   * <code>optional .TypeIdProto typeId = 4;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeIdProto getTypeId() {
+    return typeId_ == null ? com.alibaba.maxgraph.proto.TypeIdProto.getDefaultInstance() : typeId_;
+  }
+  /**
+   * <code>optional .TypeIdProto typeId = 4;</code>
+   */
+  public com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder getTypeIdOrBuilder() {
+    return getTypeId();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (schemaVersion_ != 0) {
+      output.writeInt32(1, schemaVersion_);
+    }
+    if (typeVersion_ != 0) {
+      output.writeInt32(2, typeVersion_);
+    }
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, label_);
+    }
+    if (typeId_ != null) {
+      output.writeMessage(4, getTypeId());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (schemaVersion_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, schemaVersion_);
+    }
+    if (typeVersion_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, typeVersion_);
+    }
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, label_);
+    }
+    if (typeId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, getTypeId());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.TypeReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.TypeReq other = (com.alibaba.maxgraph.proto.TypeReq) obj;
+
+    boolean result = true;
+    result = result && (getSchemaVersion()
+        == other.getSchemaVersion());
+    result = result && (getTypeVersion()
+        == other.getTypeVersion());
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && (hasTypeId() == other.hasTypeId());
+    if (hasTypeId()) {
+      result = result && getTypeId()
+          .equals(other.getTypeId());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + SCHEMAVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getSchemaVersion();
+    hash = (37 * hash) + TYPEVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getTypeVersion();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    if (hasTypeId()) {
+      hash = (37 * hash) + TYPEID_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeId().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.TypeReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.TypeReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.TypeReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code TypeReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:TypeReq)
+      com.alibaba.maxgraph.proto.TypeReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_TypeReq_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_TypeReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.TypeReq.class, com.alibaba.maxgraph.proto.TypeReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.TypeReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      schemaVersion_ = 0;
+
+      typeVersion_ = 0;
+
+      label_ = "";
+
+      if (typeIdBuilder_ == null) {
+        typeId_ = null;
+      } else {
+        typeId_ = null;
+        typeIdBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_TypeReq_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.TypeReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.TypeReq.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.TypeReq build() {
+      com.alibaba.maxgraph.proto.TypeReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.TypeReq buildPartial() {
+      com.alibaba.maxgraph.proto.TypeReq result = new com.alibaba.maxgraph.proto.TypeReq(this);
+      result.schemaVersion_ = schemaVersion_;
+      result.typeVersion_ = typeVersion_;
+      result.label_ = label_;
+      if (typeIdBuilder_ == null) {
+        result.typeId_ = typeId_;
+      } else {
+        result.typeId_ = typeIdBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.TypeReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.TypeReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.TypeReq other) {
+      if (other == com.alibaba.maxgraph.proto.TypeReq.getDefaultInstance()) return this;
+      if (other.getSchemaVersion() != 0) {
+        setSchemaVersion(other.getSchemaVersion());
+      }
+      if (other.getTypeVersion() != 0) {
+        setTypeVersion(other.getTypeVersion());
+      }
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (other.hasTypeId()) {
+        mergeTypeId(other.getTypeId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.TypeReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.TypeReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int schemaVersion_ ;
+    /**
+     * <code>optional int32 schemaVersion = 1;</code>
+     */
+    public int getSchemaVersion() {
+      return schemaVersion_;
+    }
+    /**
+     * <code>optional int32 schemaVersion = 1;</code>
+     */
+    public Builder setSchemaVersion(int value) {
+      
+      schemaVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 schemaVersion = 1;</code>
+     */
+    public Builder clearSchemaVersion() {
+      
+      schemaVersion_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int typeVersion_ ;
+    /**
+     * <code>optional int32 typeVersion = 2;</code>
+     */
+    public int getTypeVersion() {
+      return typeVersion_;
+    }
+    /**
+     * <code>optional int32 typeVersion = 2;</code>
+     */
+    public Builder setTypeVersion(int value) {
+      
+      typeVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 typeVersion = 2;</code>
+     */
+    public Builder clearTypeVersion() {
+      
+      typeVersion_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 3;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 3;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 3;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 3;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.TypeIdProto typeId_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeIdProto, com.alibaba.maxgraph.proto.TypeIdProto.Builder, com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder> typeIdBuilder_;
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    public boolean hasTypeId() {
+      return typeIdBuilder_ != null || typeId_ != null;
+    }
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeIdProto getTypeId() {
+      if (typeIdBuilder_ == null) {
+        return typeId_ == null ? com.alibaba.maxgraph.proto.TypeIdProto.getDefaultInstance() : typeId_;
+      } else {
+        return typeIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    public Builder setTypeId(com.alibaba.maxgraph.proto.TypeIdProto value) {
+      if (typeIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        typeId_ = value;
+        onChanged();
+      } else {
+        typeIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    public Builder setTypeId(
+        com.alibaba.maxgraph.proto.TypeIdProto.Builder builderForValue) {
+      if (typeIdBuilder_ == null) {
+        typeId_ = builderForValue.build();
+        onChanged();
+      } else {
+        typeIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    public Builder mergeTypeId(com.alibaba.maxgraph.proto.TypeIdProto value) {
+      if (typeIdBuilder_ == null) {
+        if (typeId_ != null) {
+          typeId_ =
+            com.alibaba.maxgraph.proto.TypeIdProto.newBuilder(typeId_).mergeFrom(value).buildPartial();
+        } else {
+          typeId_ = value;
+        }
+        onChanged();
+      } else {
+        typeIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    public Builder clearTypeId() {
+      if (typeIdBuilder_ == null) {
+        typeId_ = null;
+        onChanged();
+      } else {
+        typeId_ = null;
+        typeIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeIdProto.Builder getTypeIdBuilder() {
+      
+      onChanged();
+      return getTypeIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder getTypeIdOrBuilder() {
+      if (typeIdBuilder_ != null) {
+        return typeIdBuilder_.getMessageOrBuilder();
+      } else {
+        return typeId_ == null ?
+            com.alibaba.maxgraph.proto.TypeIdProto.getDefaultInstance() : typeId_;
+      }
+    }
+    /**
+     * <code>optional .TypeIdProto typeId = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.TypeIdProto, com.alibaba.maxgraph.proto.TypeIdProto.Builder, com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder> 
+        getTypeIdFieldBuilder() {
+      if (typeIdBuilder_ == null) {
+        typeIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.TypeIdProto, com.alibaba.maxgraph.proto.TypeIdProto.Builder, com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder>(
+                getTypeId(),
+                getParentForChildren(),
+                isClean());
+        typeId_ = null;
+      }
+      return typeIdBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:TypeReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:TypeReq)
+  private static final com.alibaba.maxgraph.proto.TypeReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.TypeReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.TypeReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<TypeReq>
+      PARSER = new com.google.protobuf.AbstractParser<TypeReq>() {
+    public TypeReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TypeReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<TypeReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<TypeReq> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.TypeReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
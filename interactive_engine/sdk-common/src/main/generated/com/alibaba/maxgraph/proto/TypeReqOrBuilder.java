@@ -0,0 +1,42 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface TypeReqOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TypeReq)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 schemaVersion = 1;</code>
+   */
+  int getSchemaVersion();
+
+  /**
+   * <code>optional int32 typeVersion = 2;</code>
+   */
+  int getTypeVersion();
+
+  /**
+   * <code>optional string label = 3;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional .TypeIdProto typeId = 4;</code>
+   */
+  boolean hasTypeId();
+  /**
+   * <code>optional .TypeIdProto typeId = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProto getTypeId();
+  /**
+   * <code>optional .TypeIdProto typeId = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.TypeIdProtoOrBuilder getTypeIdOrBuilder();
+}
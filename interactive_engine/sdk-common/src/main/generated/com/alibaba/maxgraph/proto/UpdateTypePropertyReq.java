@@ -0,0 +1,842 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+/**
+ * Protobuf type {@code UpdateTypePropertyReq}
+ */
+public  final class UpdateTypePropertyReq extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:UpdateTypePropertyReq)
+    UpdateTypePropertyReqOrBuilder {
+  // Use UpdateTypePropertyReq.newBuilder() to construct.
+  private UpdateTypePropertyReq(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private UpdateTypePropertyReq() {
+    label_ = "";
+    property_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private UpdateTypePropertyReq(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              property_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.PropertyDefProto>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            property_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.PropertyDefProto.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        property_ = java.util.Collections.unmodifiableList(property_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_UpdateTypePropertyReq_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.Schema.internal_static_UpdateTypePropertyReq_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.UpdateTypePropertyReq.class, com.alibaba.maxgraph.proto.UpdateTypePropertyReq.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int LABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int PROPERTY_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> property_;
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> getPropertyList() {
+    return property_;
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+      getPropertyOrBuilderList() {
+    return property_;
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public int getPropertyCount() {
+    return property_.size();
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.PropertyDefProto getProperty(int index) {
+    return property_.get(index);
+  }
+  /**
+   * <code>repeated .PropertyDefProto property = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder getPropertyOrBuilder(
+      int index) {
+    return property_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, label_);
+    }
+    for (int i = 0; i < property_.size(); i++) {
+      output.writeMessage(2, property_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, label_);
+    }
+    for (int i = 0; i < property_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, property_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.UpdateTypePropertyReq)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.UpdateTypePropertyReq other = (com.alibaba.maxgraph.proto.UpdateTypePropertyReq) obj;
+
+    boolean result = true;
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && getPropertyList()
+        .equals(other.getPropertyList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    if (getPropertyCount() > 0) {
+      hash = (37 * hash) + PROPERTY_FIELD_NUMBER;
+      hash = (53 * hash) + getPropertyList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.UpdateTypePropertyReq prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code UpdateTypePropertyReq}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:UpdateTypePropertyReq)
+      com.alibaba.maxgraph.proto.UpdateTypePropertyReqOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_UpdateTypePropertyReq_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_UpdateTypePropertyReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.UpdateTypePropertyReq.class, com.alibaba.maxgraph.proto.UpdateTypePropertyReq.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.UpdateTypePropertyReq.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getPropertyFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      label_ = "";
+
+      if (propertyBuilder_ == null) {
+        property_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        propertyBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.Schema.internal_static_UpdateTypePropertyReq_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.UpdateTypePropertyReq getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.UpdateTypePropertyReq.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.UpdateTypePropertyReq build() {
+      com.alibaba.maxgraph.proto.UpdateTypePropertyReq result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.UpdateTypePropertyReq buildPartial() {
+      com.alibaba.maxgraph.proto.UpdateTypePropertyReq result = new com.alibaba.maxgraph.proto.UpdateTypePropertyReq(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.label_ = label_;
+      if (propertyBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          property_ = java.util.Collections.unmodifiableList(property_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.property_ = property_;
+      } else {
+        result.property_ = propertyBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.UpdateTypePropertyReq) {
+        return mergeFrom((com.alibaba.maxgraph.proto.UpdateTypePropertyReq)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.UpdateTypePropertyReq other) {
+      if (other == com.alibaba.maxgraph.proto.UpdateTypePropertyReq.getDefaultInstance()) return this;
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (propertyBuilder_ == null) {
+        if (!other.property_.isEmpty()) {
+          if (property_.isEmpty()) {
+            property_ = other.property_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePropertyIsMutable();
+            property_.addAll(other.property_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.property_.isEmpty()) {
+          if (propertyBuilder_.isEmpty()) {
+            propertyBuilder_.dispose();
+            propertyBuilder_ = null;
+            property_ = other.property_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            propertyBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getPropertyFieldBuilder() : null;
+          } else {
+            propertyBuilder_.addAllMessages(other.property_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.UpdateTypePropertyReq parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.UpdateTypePropertyReq) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> property_ =
+      java.util.Collections.emptyList();
+    private void ensurePropertyIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        property_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.PropertyDefProto>(property_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> propertyBuilder_;
+
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto> getPropertyList() {
+      if (propertyBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(property_);
+      } else {
+        return propertyBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public int getPropertyCount() {
+      if (propertyBuilder_ == null) {
+        return property_.size();
+      } else {
+        return propertyBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto getProperty(int index) {
+      if (propertyBuilder_ == null) {
+        return property_.get(index);
+      } else {
+        return propertyBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder setProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.set(index, value);
+        onChanged();
+      } else {
+        propertyBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder setProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addProperty(com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.add(value);
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto value) {
+      if (propertyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertyIsMutable();
+        property_.add(index, value);
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addProperty(
+        com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.add(builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addProperty(
+        int index, com.alibaba.maxgraph.proto.PropertyDefProto.Builder builderForValue) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        propertyBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder addAllProperty(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.PropertyDefProto> values) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, property_);
+        onChanged();
+      } else {
+        propertyBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder clearProperty() {
+      if (propertyBuilder_ == null) {
+        property_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        propertyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public Builder removeProperty(int index) {
+      if (propertyBuilder_ == null) {
+        ensurePropertyIsMutable();
+        property_.remove(index);
+        onChanged();
+      } else {
+        propertyBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder getPropertyBuilder(
+        int index) {
+      return getPropertyFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder getPropertyOrBuilder(
+        int index) {
+      if (propertyBuilder_ == null) {
+        return property_.get(index);  } else {
+        return propertyBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+         getPropertyOrBuilderList() {
+      if (propertyBuilder_ != null) {
+        return propertyBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(property_);
+      }
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder addPropertyBuilder() {
+      return getPropertyFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.PropertyDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.PropertyDefProto.Builder addPropertyBuilder(
+        int index) {
+      return getPropertyFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.PropertyDefProto.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .PropertyDefProto property = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.PropertyDefProto.Builder> 
+         getPropertyBuilderList() {
+      return getPropertyFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder> 
+        getPropertyFieldBuilder() {
+      if (propertyBuilder_ == null) {
+        propertyBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.PropertyDefProto, com.alibaba.maxgraph.proto.PropertyDefProto.Builder, com.alibaba.maxgraph.proto.PropertyDefProtoOrBuilder>(
+                property_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        property_ = null;
+      }
+      return propertyBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:UpdateTypePropertyReq)
+  }
+
+  // @@protoc_insertion_point(class_scope:UpdateTypePropertyReq)
+  private static final com.alibaba.maxgraph.proto.UpdateTypePropertyReq DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.UpdateTypePropertyReq();
+  }
+
+  public static com.alibaba.maxgraph.proto.UpdateTypePropertyReq getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<UpdateTypePropertyReq>
+      PARSER = new com.google.protobuf.AbstractParser<UpdateTypePropertyReq>() {
+    public UpdateTypePropertyReq parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UpdateTypePropertyReq(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<UpdateTypePropertyReq> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<UpdateTypePropertyReq> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.UpdateTypePropertyReq getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
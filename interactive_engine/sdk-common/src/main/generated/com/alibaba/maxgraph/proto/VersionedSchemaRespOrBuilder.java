@@ -0,0 +1,35 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/schema.proto
+
+package com.alibaba.maxgraph.proto;
+
+public interface VersionedSchemaRespOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VersionedSchemaResp)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .Response resp = 1;</code>
+   */
+  boolean hasResp();
+  /**
+   * <code>optional .Response resp = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.Response getResp();
+  /**
+   * <code>optional .Response resp = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.ResponseOrBuilder getRespOrBuilder();
+
+  /**
+   * <code>optional .SchemaProto schema = 2;</code>
+   */
+  boolean hasSchema();
+  /**
+   * <code>optional .SchemaProto schema = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.SchemaProto getSchema();
+  /**
+   * <code>optional .SchemaProto schema = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.SchemaProtoOrBuilder getSchemaOrBuilder();
+}
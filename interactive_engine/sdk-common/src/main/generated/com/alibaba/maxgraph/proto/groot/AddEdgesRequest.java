@@ -0,0 +1,842 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code AddEdgesRequest}
+ */
+public  final class AddEdgesRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:AddEdgesRequest)
+    AddEdgesRequestOrBuilder {
+  // Use AddEdgesRequest.newBuilder() to construct.
+  private AddEdgesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private AddEdgesRequest() {
+    session_ = "";
+    dataList_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private AddEdgesRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            session_ = s;
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              dataList_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.EdgeDataPb>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            dataList_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.EdgeDataPb.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        dataList_ = java.util.Collections.unmodifiableList(dataList_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_AddEdgesRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_AddEdgesRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.AddEdgesRequest.class, com.alibaba.maxgraph.proto.groot.AddEdgesRequest.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int SESSION_FIELD_NUMBER = 1;
+  private volatile java.lang.Object session_;
+  /**
+   * <code>optional string session = 1;</code>
+   */
+  public java.lang.String getSession() {
+    java.lang.Object ref = session_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      session_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string session = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getSessionBytes() {
+    java.lang.Object ref = session_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      session_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DATALIST_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.EdgeDataPb> dataList_;
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeDataPb> getDataListList() {
+    return dataList_;
+  }
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder> 
+      getDataListOrBuilderList() {
+    return dataList_;
+  }
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  public int getDataListCount() {
+    return dataList_.size();
+  }
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeDataPb getDataList(int index) {
+    return dataList_.get(index);
+  }
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder getDataListOrBuilder(
+      int index) {
+    return dataList_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getSessionBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, session_);
+    }
+    for (int i = 0; i < dataList_.size(); i++) {
+      output.writeMessage(2, dataList_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getSessionBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, session_);
+    }
+    for (int i = 0; i < dataList_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, dataList_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.AddEdgesRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.AddEdgesRequest other = (com.alibaba.maxgraph.proto.groot.AddEdgesRequest) obj;
+
+    boolean result = true;
+    result = result && getSession()
+        .equals(other.getSession());
+    result = result && getDataListList()
+        .equals(other.getDataListList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + SESSION_FIELD_NUMBER;
+    hash = (53 * hash) + getSession().hashCode();
+    if (getDataListCount() > 0) {
+      hash = (37 * hash) + DATALIST_FIELD_NUMBER;
+      hash = (53 * hash) + getDataListList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.AddEdgesRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code AddEdgesRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:AddEdgesRequest)
+      com.alibaba.maxgraph.proto.groot.AddEdgesRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_AddEdgesRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_AddEdgesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.AddEdgesRequest.class, com.alibaba.maxgraph.proto.groot.AddEdgesRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.AddEdgesRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getDataListFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      session_ = "";
+
+      if (dataListBuilder_ == null) {
+        dataList_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        dataListBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_AddEdgesRequest_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.AddEdgesRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.AddEdgesRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.AddEdgesRequest build() {
+      com.alibaba.maxgraph.proto.groot.AddEdgesRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.AddEdgesRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.AddEdgesRequest result = new com.alibaba.maxgraph.proto.groot.AddEdgesRequest(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.session_ = session_;
+      if (dataListBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          dataList_ = java.util.Collections.unmodifiableList(dataList_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.dataList_ = dataList_;
+      } else {
+        result.dataList_ = dataListBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.AddEdgesRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.AddEdgesRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.AddEdgesRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.AddEdgesRequest.getDefaultInstance()) return this;
+      if (!other.getSession().isEmpty()) {
+        session_ = other.session_;
+        onChanged();
+      }
+      if (dataListBuilder_ == null) {
+        if (!other.dataList_.isEmpty()) {
+          if (dataList_.isEmpty()) {
+            dataList_ = other.dataList_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureDataListIsMutable();
+            dataList_.addAll(other.dataList_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.dataList_.isEmpty()) {
+          if (dataListBuilder_.isEmpty()) {
+            dataListBuilder_.dispose();
+            dataListBuilder_ = null;
+            dataList_ = other.dataList_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            dataListBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getDataListFieldBuilder() : null;
+          } else {
+            dataListBuilder_.addAllMessages(other.dataList_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.AddEdgesRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.AddEdgesRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object session_ = "";
+    /**
+     * <code>optional string session = 1;</code>
+     */
+    public java.lang.String getSession() {
+      java.lang.Object ref = session_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        session_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string session = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSessionBytes() {
+      java.lang.Object ref = session_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        session_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string session = 1;</code>
+     */
+    public Builder setSession(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      session_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string session = 1;</code>
+     */
+    public Builder clearSession() {
+      
+      session_ = getDefaultInstance().getSession();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string session = 1;</code>
+     */
+    public Builder setSessionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      session_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.EdgeDataPb> dataList_ =
+      java.util.Collections.emptyList();
+    private void ensureDataListIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        dataList_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.EdgeDataPb>(dataList_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeDataPb, com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder> dataListBuilder_;
+
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeDataPb> getDataListList() {
+      if (dataListBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(dataList_);
+      } else {
+        return dataListBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public int getDataListCount() {
+      if (dataListBuilder_ == null) {
+        return dataList_.size();
+      } else {
+        return dataListBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeDataPb getDataList(int index) {
+      if (dataListBuilder_ == null) {
+        return dataList_.get(index);
+      } else {
+        return dataListBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder setDataList(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeDataPb value) {
+      if (dataListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataListIsMutable();
+        dataList_.set(index, value);
+        onChanged();
+      } else {
+        dataListBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder setDataList(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder builderForValue) {
+      if (dataListBuilder_ == null) {
+        ensureDataListIsMutable();
+        dataList_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        dataListBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder addDataList(com.alibaba.maxgraph.proto.groot.EdgeDataPb value) {
+      if (dataListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataListIsMutable();
+        dataList_.add(value);
+        onChanged();
+      } else {
+        dataListBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder addDataList(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeDataPb value) {
+      if (dataListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataListIsMutable();
+        dataList_.add(index, value);
+        onChanged();
+      } else {
+        dataListBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder addDataList(
+        com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder builderForValue) {
+      if (dataListBuilder_ == null) {
+        ensureDataListIsMutable();
+        dataList_.add(builderForValue.build());
+        onChanged();
+      } else {
+        dataListBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder addDataList(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder builderForValue) {
+      if (dataListBuilder_ == null) {
+        ensureDataListIsMutable();
+        dataList_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        dataListBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder addAllDataList(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.EdgeDataPb> values) {
+      if (dataListBuilder_ == null) {
+        ensureDataListIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dataList_);
+        onChanged();
+      } else {
+        dataListBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder clearDataList() {
+      if (dataListBuilder_ == null) {
+        dataList_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        dataListBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public Builder removeDataList(int index) {
+      if (dataListBuilder_ == null) {
+        ensureDataListIsMutable();
+        dataList_.remove(index);
+        onChanged();
+      } else {
+        dataListBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder getDataListBuilder(
+        int index) {
+      return getDataListFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder getDataListOrBuilder(
+        int index) {
+      if (dataListBuilder_ == null) {
+        return dataList_.get(index);  } else {
+        return dataListBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder> 
+         getDataListOrBuilderList() {
+      if (dataListBuilder_ != null) {
+        return dataListBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(dataList_);
+      }
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder addDataListBuilder() {
+      return getDataListFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.EdgeDataPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder addDataListBuilder(
+        int index) {
+      return getDataListFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.EdgeDataPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .EdgeDataPb dataList = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder> 
+         getDataListBuilderList() {
+      return getDataListFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeDataPb, com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder> 
+        getDataListFieldBuilder() {
+      if (dataListBuilder_ == null) {
+        dataListBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.EdgeDataPb, com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder>(
+                dataList_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        dataList_ = null;
+      }
+      return dataListBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:AddEdgesRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:AddEdgesRequest)
+  private static final com.alibaba.maxgraph.proto.groot.AddEdgesRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.AddEdgesRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.AddEdgesRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<AddEdgesRequest>
+      PARSER = new com.google.protobuf.AbstractParser<AddEdgesRequest>() {
+    public AddEdgesRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AddEdgesRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<AddEdgesRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<AddEdgesRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.AddEdgesRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
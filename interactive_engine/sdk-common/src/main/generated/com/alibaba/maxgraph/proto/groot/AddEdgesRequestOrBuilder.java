@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AddEdgesRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AddEdgesRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string session = 1;</code>
+   */
+  java.lang.String getSession();
+  /**
+   * <code>optional string session = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getSessionBytes();
+
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.EdgeDataPb> 
+      getDataListList();
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeDataPb getDataList(int index);
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  int getDataListCount();
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder> 
+      getDataListOrBuilderList();
+  /**
+   * <code>repeated .EdgeDataPb dataList = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder getDataListOrBuilder(
+      int index);
+}
@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AddVerticesRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AddVerticesRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string session = 1;</code>
+   */
+  java.lang.String getSession();
+  /**
+   * <code>optional string session = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getSessionBytes();
+
+  /**
+   * <code>repeated .VertexDataPb dataList = 2;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.VertexDataPb> 
+      getDataListList();
+  /**
+   * <code>repeated .VertexDataPb dataList = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.VertexDataPb getDataList(int index);
+  /**
+   * <code>repeated .VertexDataPb dataList = 2;</code>
+   */
+  int getDataListCount();
+  /**
+   * <code>repeated .VertexDataPb dataList = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.VertexDataPbOrBuilder> 
+      getDataListOrBuilderList();
+  /**
+   * <code>repeated .VertexDataPb dataList = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.VertexDataPbOrBuilder getDataListOrBuilder(
+      int index);
+}
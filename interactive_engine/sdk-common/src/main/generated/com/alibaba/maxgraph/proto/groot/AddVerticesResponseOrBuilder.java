@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface AddVerticesResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:AddVerticesResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 snapshotId = 1;</code>
+   */
+  long getSnapshotId();
+}
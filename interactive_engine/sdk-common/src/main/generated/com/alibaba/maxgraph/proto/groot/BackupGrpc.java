@@ -0,0 +1,471 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.stub.ClientCalls.asyncUnaryCall;
+import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.blockingServerStreamingCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.0.0)",
+    comments = "Source: sdk/backup_service.proto")
+public class BackupGrpc {
+
+  private BackupGrpc() {}
+
+  public static final String SERVICE_NAME = "Backup";
+
+  // Static method descriptors that strictly reflect the proto.
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CreateNewBackupRequest,
+      com.alibaba.maxgraph.proto.groot.CreateNewBackupResponse> METHOD_CREATE_NEW_BACKUP =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Backup", "createNewBackup"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.CreateNewBackupRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.CreateNewBackupResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.DeleteBackupRequest,
+      com.alibaba.maxgraph.proto.groot.DeleteBackupResponse> METHOD_DELETE_BACKUP =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Backup", "deleteBackup"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.DeleteBackupRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.DeleteBackupResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.PurgeOldBackupsRequest,
+      com.alibaba.maxgraph.proto.groot.PurgeOldBackupsResponse> METHOD_PURGE_OLD_BACKUPS =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Backup", "purgeOldBackups"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.PurgeOldBackupsRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.PurgeOldBackupsResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.RestoreFromBackupRequest,
+      com.alibaba.maxgraph.proto.groot.RestoreFromBackupResponse> METHOD_RESTORE_FROM_BACKUP =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Backup", "restoreFromBackup"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.RestoreFromBackupRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.RestoreFromBackupResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VerifyBackupRequest,
+      com.alibaba.maxgraph.proto.groot.VerifyBackupResponse> METHOD_VERIFY_BACKUP =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Backup", "verifyBackup"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.VerifyBackupRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.VerifyBackupResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetBackupInfoRequest,
+      com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse> METHOD_GET_BACKUP_INFO =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Backup", "getBackupInfo"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetBackupInfoRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse.getDefaultInstance()));
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static BackupStub newStub(io.grpc.Channel channel) {
+    return new BackupStub(channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static BackupBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    return new BackupBlockingStub(channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary and streaming output calls on the service
+   */
+  public static BackupFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    return new BackupFutureStub(channel);
+  }
+
+  /**
+   */
+  public static abstract class BackupImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void createNewBackup(com.alibaba.maxgraph.proto.groot.CreateNewBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateNewBackupResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_CREATE_NEW_BACKUP, responseObserver);
+    }
+
+    /**
+     */
+    public void deleteBackup(com.alibaba.maxgraph.proto.groot.DeleteBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DeleteBackupResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_DELETE_BACKUP, responseObserver);
+    }
+
+    /**
+     */
+    public void purgeOldBackups(com.alibaba.maxgraph.proto.groot.PurgeOldBackupsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PurgeOldBackupsResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_PURGE_OLD_BACKUPS, responseObserver);
+    }
+
+    /**
+     */
+    public void restoreFromBackup(com.alibaba.maxgraph.proto.groot.RestoreFromBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromBackupResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_RESTORE_FROM_BACKUP, responseObserver);
+    }
+
+    /**
+     */
+    public void verifyBackup(com.alibaba.maxgraph.proto.groot.VerifyBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyBackupResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_VERIFY_BACKUP, responseObserver);
+    }
+
+    /**
+     */
+    public void getBackupInfo(com.alibaba.maxgraph.proto.groot.GetBackupInfoRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_GET_BACKUP_INFO, responseObserver);
+    }
+
+    @java.lang.Override public io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            METHOD_CREATE_NEW_BACKUP,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.CreateNewBackupRequest,
+                com.alibaba.maxgraph.proto.groot.CreateNewBackupResponse>(
+                  this, METHODID_CREATE_NEW_BACKUP)))
+          .addMethod(
+            METHOD_DELETE_BACKUP,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.DeleteBackupRequest,
+                com.alibaba.maxgraph.proto.groot.DeleteBackupResponse>(
+                  this, METHODID_DELETE_BACKUP)))
+          .addMethod(
+            METHOD_PURGE_OLD_BACKUPS,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.PurgeOldBackupsRequest,
+                com.alibaba.maxgraph.proto.groot.PurgeOldBackupsResponse>(
+                  this, METHODID_PURGE_OLD_BACKUPS)))
+          .addMethod(
+            METHOD_RESTORE_FROM_BACKUP,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.RestoreFromBackupRequest,
+                com.alibaba.maxgraph.proto.groot.RestoreFromBackupResponse>(
+                  this, METHODID_RESTORE_FROM_BACKUP)))
+          .addMethod(
+            METHOD_VERIFY_BACKUP,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.VerifyBackupRequest,
+                com.alibaba.maxgraph.proto.groot.VerifyBackupResponse>(
+                  this, METHODID_VERIFY_BACKUP)))
+          .addMethod(
+            METHOD_GET_BACKUP_INFO,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.GetBackupInfoRequest,
+                com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse>(
+                  this, METHODID_GET_BACKUP_INFO)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class BackupStub extends io.grpc.stub.AbstractStub<BackupStub> {
+    private BackupStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private BackupStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected BackupStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new BackupStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void createNewBackup(com.alibaba.maxgraph.proto.groot.CreateNewBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateNewBackupResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_CREATE_NEW_BACKUP, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void deleteBackup(com.alibaba.maxgraph.proto.groot.DeleteBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DeleteBackupResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_DELETE_BACKUP, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void purgeOldBackups(com.alibaba.maxgraph.proto.groot.PurgeOldBackupsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PurgeOldBackupsResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_PURGE_OLD_BACKUPS, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void restoreFromBackup(com.alibaba.maxgraph.proto.groot.RestoreFromBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromBackupResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_RESTORE_FROM_BACKUP, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void verifyBackup(com.alibaba.maxgraph.proto.groot.VerifyBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyBackupResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_VERIFY_BACKUP, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getBackupInfo(com.alibaba.maxgraph.proto.groot.GetBackupInfoRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_GET_BACKUP_INFO, getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class BackupBlockingStub extends io.grpc.stub.AbstractStub<BackupBlockingStub> {
+    private BackupBlockingStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private BackupBlockingStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected BackupBlockingStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new BackupBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.CreateNewBackupResponse createNewBackup(com.alibaba.maxgraph.proto.groot.CreateNewBackupRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_CREATE_NEW_BACKUP, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.DeleteBackupResponse deleteBackup(com.alibaba.maxgraph.proto.groot.DeleteBackupRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_DELETE_BACKUP, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.PurgeOldBackupsResponse purgeOldBackups(com.alibaba.maxgraph.proto.groot.PurgeOldBackupsRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_PURGE_OLD_BACKUPS, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.RestoreFromBackupResponse restoreFromBackup(com.alibaba.maxgraph.proto.groot.RestoreFromBackupRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_RESTORE_FROM_BACKUP, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.VerifyBackupResponse verifyBackup(com.alibaba.maxgraph.proto.groot.VerifyBackupRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_VERIFY_BACKUP, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse getBackupInfo(com.alibaba.maxgraph.proto.groot.GetBackupInfoRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_GET_BACKUP_INFO, getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class BackupFutureStub extends io.grpc.stub.AbstractStub<BackupFutureStub> {
+    private BackupFutureStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private BackupFutureStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected BackupFutureStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new BackupFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.CreateNewBackupResponse> createNewBackup(
+        com.alibaba.maxgraph.proto.groot.CreateNewBackupRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_CREATE_NEW_BACKUP, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.DeleteBackupResponse> deleteBackup(
+        com.alibaba.maxgraph.proto.groot.DeleteBackupRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_DELETE_BACKUP, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.PurgeOldBackupsResponse> purgeOldBackups(
+        com.alibaba.maxgraph.proto.groot.PurgeOldBackupsRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_PURGE_OLD_BACKUPS, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.RestoreFromBackupResponse> restoreFromBackup(
+        com.alibaba.maxgraph.proto.groot.RestoreFromBackupRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_RESTORE_FROM_BACKUP, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.VerifyBackupResponse> verifyBackup(
+        com.alibaba.maxgraph.proto.groot.VerifyBackupRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_VERIFY_BACKUP, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse> getBackupInfo(
+        com.alibaba.maxgraph.proto.groot.GetBackupInfoRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_GET_BACKUP_INFO, getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_CREATE_NEW_BACKUP = 0;
+  private static final int METHODID_DELETE_BACKUP = 1;
+  private static final int METHODID_PURGE_OLD_BACKUPS = 2;
+  private static final int METHODID_RESTORE_FROM_BACKUP = 3;
+  private static final int METHODID_VERIFY_BACKUP = 4;
+  private static final int METHODID_GET_BACKUP_INFO = 5;
+
+  private static class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final BackupImplBase serviceImpl;
+    private final int methodId;
+
+    public MethodHandlers(BackupImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_CREATE_NEW_BACKUP:
+          serviceImpl.createNewBackup((com.alibaba.maxgraph.proto.groot.CreateNewBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateNewBackupResponse>) responseObserver);
+          break;
+        case METHODID_DELETE_BACKUP:
+          serviceImpl.deleteBackup((com.alibaba.maxgraph.proto.groot.DeleteBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DeleteBackupResponse>) responseObserver);
+          break;
+        case METHODID_PURGE_OLD_BACKUPS:
+          serviceImpl.purgeOldBackups((com.alibaba.maxgraph.proto.groot.PurgeOldBackupsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PurgeOldBackupsResponse>) responseObserver);
+          break;
+        case METHODID_RESTORE_FROM_BACKUP:
+          serviceImpl.restoreFromBackup((com.alibaba.maxgraph.proto.groot.RestoreFromBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromBackupResponse>) responseObserver);
+          break;
+        case METHODID_VERIFY_BACKUP:
+          serviceImpl.verifyBackup((com.alibaba.maxgraph.proto.groot.VerifyBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyBackupResponse>) responseObserver);
+          break;
+        case METHODID_GET_BACKUP_INFO:
+          serviceImpl.getBackupInfo((com.alibaba.maxgraph.proto.groot.GetBackupInfoRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    return new io.grpc.ServiceDescriptor(SERVICE_NAME,
+        METHOD_CREATE_NEW_BACKUP,
+        METHOD_DELETE_BACKUP,
+        METHOD_PURGE_OLD_BACKUPS,
+        METHOD_RESTORE_FROM_BACKUP,
+        METHOD_VERIFY_BACKUP,
+        METHOD_GET_BACKUP_INFO);
+  }
+
+}
@@ -0,0 +1,1099 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code BackupInfoPb}
+ */
+public  final class BackupInfoPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:BackupInfoPb)
+    BackupInfoPbOrBuilder {
+  // Use BackupInfoPb.newBuilder() to construct.
+  private BackupInfoPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private BackupInfoPb() {
+    globalBackupId_ = 0;
+    snapshotId_ = 0L;
+    walOffsets_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private BackupInfoPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            globalBackupId_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            snapshotId_ = input.readInt64();
+            break;
+          }
+          case 26: {
+            com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder subBuilder = null;
+            if (graphDef_ != null) {
+              subBuilder = graphDef_.toBuilder();
+            }
+            graphDef_ = input.readMessage(com.alibaba.maxgraph.proto.groot.GraphDefPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(graphDef_);
+              graphDef_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 32: {
+            if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+              walOffsets_ = new java.util.ArrayList<java.lang.Long>();
+              mutable_bitField0_ |= 0x00000008;
+            }
+            walOffsets_.add(input.readInt64());
+            break;
+          }
+          case 34: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+              walOffsets_ = new java.util.ArrayList<java.lang.Long>();
+              mutable_bitField0_ |= 0x00000008;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              walOffsets_.add(input.readInt64());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+              partitionToBackupId_ = com.google.protobuf.MapField.newMapField(
+                  PartitionToBackupIdDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000010;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+            partitionToBackupId = input.readMessage(
+                PartitionToBackupIdDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            partitionToBackupId_.getMutableMap().put(partitionToBackupId.getKey(), partitionToBackupId.getValue());
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+        walOffsets_ = java.util.Collections.unmodifiableList(walOffsets_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_BackupInfoPb_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 5:
+        return internalGetPartitionToBackupId();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_BackupInfoPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.BackupInfoPb.class, com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int GLOBALBACKUPID_FIELD_NUMBER = 1;
+  private int globalBackupId_;
+  /**
+   * <code>optional int32 globalBackupId = 1;</code>
+   */
+  public int getGlobalBackupId() {
+    return globalBackupId_;
+  }
+
+  public static final int SNAPSHOTID_FIELD_NUMBER = 2;
+  private long snapshotId_;
+  /**
+   * <code>optional int64 snapshotId = 2;</code>
+   */
+  public long getSnapshotId() {
+    return snapshotId_;
+  }
+
+  public static final int GRAPHDEF_FIELD_NUMBER = 3;
+  private com.alibaba.maxgraph.proto.groot.GraphDefPb graphDef_;
+  /**
+   * <code>optional .GraphDefPb graphDef = 3;</code>
+   */
+  public boolean hasGraphDef() {
+    return graphDef_ != null;
+  }
+  /**
+   * <code>optional .GraphDefPb graphDef = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef() {
+    return graphDef_ == null ? com.alibaba.maxgraph.proto.groot.GraphDefPb.getDefaultInstance() : graphDef_;
+  }
+  /**
+   * <code>optional .GraphDefPb graphDef = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder() {
+    return getGraphDef();
+  }
+
+  public static final int WALOFFSETS_FIELD_NUMBER = 4;
+  private java.util.List<java.lang.Long> walOffsets_;
+  /**
+   * <code>repeated int64 walOffsets = 4;</code>
+   */
+  public java.util.List<java.lang.Long>
+      getWalOffsetsList() {
+    return walOffsets_;
+  }
+  /**
+   * <code>repeated int64 walOffsets = 4;</code>
+   */
+  public int getWalOffsetsCount() {
+    return walOffsets_.size();
+  }
+  /**
+   * <code>repeated int64 walOffsets = 4;</code>
+   */
+  public long getWalOffsets(int index) {
+    return walOffsets_.get(index);
+  }
+  private int walOffsetsMemoizedSerializedSize = -1;
+
+  public static final int PARTITIONTOBACKUPID_FIELD_NUMBER = 5;
+  private static final class PartitionToBackupIdDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, java.lang.Integer> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, java.lang.Integer>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.Model.internal_static_BackupInfoPb_PartitionToBackupIdEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0);
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, java.lang.Integer> partitionToBackupId_;
+  private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+  internalGetPartitionToBackupId() {
+    if (partitionToBackupId_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PartitionToBackupIdDefaultEntryHolder.defaultEntry);
+    }
+    return partitionToBackupId_;
+  }
+
+  public int getPartitionToBackupIdCount() {
+    return internalGetPartitionToBackupId().getMap().size();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+
+  public boolean containsPartitionToBackupId(
+      int key) {
+    
+    return internalGetPartitionToBackupId().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPartitionToBackupIdMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, java.lang.Integer> getPartitionToBackupId() {
+    return getPartitionToBackupIdMap();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+
+  public java.util.Map<java.lang.Integer, java.lang.Integer> getPartitionToBackupIdMap() {
+    return internalGetPartitionToBackupId().getMap();
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+
+  public int getPartitionToBackupIdOrDefault(
+      int key,
+      int defaultValue) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetPartitionToBackupId().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+
+  public int getPartitionToBackupIdOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, java.lang.Integer> map =
+        internalGetPartitionToBackupId().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (globalBackupId_ != 0) {
+      output.writeInt32(1, globalBackupId_);
+    }
+    if (snapshotId_ != 0L) {
+      output.writeInt64(2, snapshotId_);
+    }
+    if (graphDef_ != null) {
+      output.writeMessage(3, getGraphDef());
+    }
+    if (getWalOffsetsList().size() > 0) {
+      output.writeUInt32NoTag(34);
+      output.writeUInt32NoTag(walOffsetsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < walOffsets_.size(); i++) {
+      output.writeInt64NoTag(walOffsets_.get(i));
+    }
+    for (java.util.Map.Entry<java.lang.Integer, java.lang.Integer> entry
+         : internalGetPartitionToBackupId().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+      partitionToBackupId = PartitionToBackupIdDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(5, partitionToBackupId);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (globalBackupId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, globalBackupId_);
+    }
+    if (snapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, snapshotId_);
+    }
+    if (graphDef_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getGraphDef());
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < walOffsets_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt64SizeNoTag(walOffsets_.get(i));
+      }
+      size += dataSize;
+      if (!getWalOffsetsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      walOffsetsMemoizedSerializedSize = dataSize;
+    }
+    for (java.util.Map.Entry<java.lang.Integer, java.lang.Integer> entry
+         : internalGetPartitionToBackupId().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+      partitionToBackupId = PartitionToBackupIdDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, partitionToBackupId);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.BackupInfoPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.BackupInfoPb other = (com.alibaba.maxgraph.proto.groot.BackupInfoPb) obj;
+
+    boolean result = true;
+    result = result && (getGlobalBackupId()
+        == other.getGlobalBackupId());
+    result = result && (getSnapshotId()
+        == other.getSnapshotId());
+    result = result && (hasGraphDef() == other.hasGraphDef());
+    if (hasGraphDef()) {
+      result = result && getGraphDef()
+          .equals(other.getGraphDef());
+    }
+    result = result && getWalOffsetsList()
+        .equals(other.getWalOffsetsList());
+    result = result && internalGetPartitionToBackupId().equals(
+        other.internalGetPartitionToBackupId());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + GLOBALBACKUPID_FIELD_NUMBER;
+    hash = (53 * hash) + getGlobalBackupId();
+    hash = (37 * hash) + SNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSnapshotId());
+    if (hasGraphDef()) {
+      hash = (37 * hash) + GRAPHDEF_FIELD_NUMBER;
+      hash = (53 * hash) + getGraphDef().hashCode();
+    }
+    if (getWalOffsetsCount() > 0) {
+      hash = (37 * hash) + WALOFFSETS_FIELD_NUMBER;
+      hash = (53 * hash) + getWalOffsetsList().hashCode();
+    }
+    if (!internalGetPartitionToBackupId().getMap().isEmpty()) {
+      hash = (37 * hash) + PARTITIONTOBACKUPID_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetPartitionToBackupId().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.BackupInfoPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code BackupInfoPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:BackupInfoPb)
+      com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_BackupInfoPb_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 5:
+          return internalGetPartitionToBackupId();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 5:
+          return internalGetMutablePartitionToBackupId();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_BackupInfoPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.BackupInfoPb.class, com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.BackupInfoPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      globalBackupId_ = 0;
+
+      snapshotId_ = 0L;
+
+      if (graphDefBuilder_ == null) {
+        graphDef_ = null;
+      } else {
+        graphDef_ = null;
+        graphDefBuilder_ = null;
+      }
+      walOffsets_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000008);
+      internalGetMutablePartitionToBackupId().clear();
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_BackupInfoPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.BackupInfoPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.BackupInfoPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.BackupInfoPb build() {
+      com.alibaba.maxgraph.proto.groot.BackupInfoPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.BackupInfoPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.BackupInfoPb result = new com.alibaba.maxgraph.proto.groot.BackupInfoPb(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.globalBackupId_ = globalBackupId_;
+      result.snapshotId_ = snapshotId_;
+      if (graphDefBuilder_ == null) {
+        result.graphDef_ = graphDef_;
+      } else {
+        result.graphDef_ = graphDefBuilder_.build();
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        walOffsets_ = java.util.Collections.unmodifiableList(walOffsets_);
+        bitField0_ = (bitField0_ & ~0x00000008);
+      }
+      result.walOffsets_ = walOffsets_;
+      result.partitionToBackupId_ = internalGetPartitionToBackupId();
+      result.partitionToBackupId_.makeImmutable();
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.BackupInfoPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.BackupInfoPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.BackupInfoPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.BackupInfoPb.getDefaultInstance()) return this;
+      if (other.getGlobalBackupId() != 0) {
+        setGlobalBackupId(other.getGlobalBackupId());
+      }
+      if (other.getSnapshotId() != 0L) {
+        setSnapshotId(other.getSnapshotId());
+      }
+      if (other.hasGraphDef()) {
+        mergeGraphDef(other.getGraphDef());
+      }
+      if (!other.walOffsets_.isEmpty()) {
+        if (walOffsets_.isEmpty()) {
+          walOffsets_ = other.walOffsets_;
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          ensureWalOffsetsIsMutable();
+          walOffsets_.addAll(other.walOffsets_);
+        }
+        onChanged();
+      }
+      internalGetMutablePartitionToBackupId().mergeFrom(
+          other.internalGetPartitionToBackupId());
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.BackupInfoPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.BackupInfoPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int globalBackupId_ ;
+    /**
+     * <code>optional int32 globalBackupId = 1;</code>
+     */
+    public int getGlobalBackupId() {
+      return globalBackupId_;
+    }
+    /**
+     * <code>optional int32 globalBackupId = 1;</code>
+     */
+    public Builder setGlobalBackupId(int value) {
+      
+      globalBackupId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 globalBackupId = 1;</code>
+     */
+    public Builder clearGlobalBackupId() {
+      
+      globalBackupId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long snapshotId_ ;
+    /**
+     * <code>optional int64 snapshotId = 2;</code>
+     */
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+    /**
+     * <code>optional int64 snapshotId = 2;</code>
+     */
+    public Builder setSnapshotId(long value) {
+      
+      snapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 snapshotId = 2;</code>
+     */
+    public Builder clearSnapshotId() {
+      
+      snapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.GraphDefPb graphDef_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.GraphDefPb, com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder, com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder> graphDefBuilder_;
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    public boolean hasGraphDef() {
+      return graphDefBuilder_ != null || graphDef_ != null;
+    }
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef() {
+      if (graphDefBuilder_ == null) {
+        return graphDef_ == null ? com.alibaba.maxgraph.proto.groot.GraphDefPb.getDefaultInstance() : graphDef_;
+      } else {
+        return graphDefBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    public Builder setGraphDef(com.alibaba.maxgraph.proto.groot.GraphDefPb value) {
+      if (graphDefBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        graphDef_ = value;
+        onChanged();
+      } else {
+        graphDefBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    public Builder setGraphDef(
+        com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder builderForValue) {
+      if (graphDefBuilder_ == null) {
+        graphDef_ = builderForValue.build();
+        onChanged();
+      } else {
+        graphDefBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    public Builder mergeGraphDef(com.alibaba.maxgraph.proto.groot.GraphDefPb value) {
+      if (graphDefBuilder_ == null) {
+        if (graphDef_ != null) {
+          graphDef_ =
+            com.alibaba.maxgraph.proto.groot.GraphDefPb.newBuilder(graphDef_).mergeFrom(value).buildPartial();
+        } else {
+          graphDef_ = value;
+        }
+        onChanged();
+      } else {
+        graphDefBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    public Builder clearGraphDef() {
+      if (graphDefBuilder_ == null) {
+        graphDef_ = null;
+        onChanged();
+      } else {
+        graphDef_ = null;
+        graphDefBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder getGraphDefBuilder() {
+      
+      onChanged();
+      return getGraphDefFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder() {
+      if (graphDefBuilder_ != null) {
+        return graphDefBuilder_.getMessageOrBuilder();
+      } else {
+        return graphDef_ == null ?
+            com.alibaba.maxgraph.proto.groot.GraphDefPb.getDefaultInstance() : graphDef_;
+      }
+    }
+    /**
+     * <code>optional .GraphDefPb graphDef = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.GraphDefPb, com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder, com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder> 
+        getGraphDefFieldBuilder() {
+      if (graphDefBuilder_ == null) {
+        graphDefBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.GraphDefPb, com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder, com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder>(
+                getGraphDef(),
+                getParentForChildren(),
+                isClean());
+        graphDef_ = null;
+      }
+      return graphDefBuilder_;
+    }
+
+    private java.util.List<java.lang.Long> walOffsets_ = java.util.Collections.emptyList();
+    private void ensureWalOffsetsIsMutable() {
+      if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+        walOffsets_ = new java.util.ArrayList<java.lang.Long>(walOffsets_);
+        bitField0_ |= 0x00000008;
+       }
+    }
+    /**
+     * <code>repeated int64 walOffsets = 4;</code>
+     */
+    public java.util.List<java.lang.Long>
+        getWalOffsetsList() {
+      return java.util.Collections.unmodifiableList(walOffsets_);
+    }
+    /**
+     * <code>repeated int64 walOffsets = 4;</code>
+     */
+    public int getWalOffsetsCount() {
+      return walOffsets_.size();
+    }
+    /**
+     * <code>repeated int64 walOffsets = 4;</code>
+     */
+    public long getWalOffsets(int index) {
+      return walOffsets_.get(index);
+    }
+    /**
+     * <code>repeated int64 walOffsets = 4;</code>
+     */
+    public Builder setWalOffsets(
+        int index, long value) {
+      ensureWalOffsetsIsMutable();
+      walOffsets_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 walOffsets = 4;</code>
+     */
+    public Builder addWalOffsets(long value) {
+      ensureWalOffsetsIsMutable();
+      walOffsets_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 walOffsets = 4;</code>
+     */
+    public Builder addAllWalOffsets(
+        java.lang.Iterable<? extends java.lang.Long> values) {
+      ensureWalOffsetsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, walOffsets_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 walOffsets = 4;</code>
+     */
+    public Builder clearWalOffsets() {
+      walOffsets_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000008);
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, java.lang.Integer> partitionToBackupId_;
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetPartitionToBackupId() {
+      if (partitionToBackupId_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PartitionToBackupIdDefaultEntryHolder.defaultEntry);
+      }
+      return partitionToBackupId_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetMutablePartitionToBackupId() {
+      onChanged();;
+      if (partitionToBackupId_ == null) {
+        partitionToBackupId_ = com.google.protobuf.MapField.newMapField(
+            PartitionToBackupIdDefaultEntryHolder.defaultEntry);
+      }
+      if (!partitionToBackupId_.isMutable()) {
+        partitionToBackupId_ = partitionToBackupId_.copy();
+      }
+      return partitionToBackupId_;
+    }
+
+    public int getPartitionToBackupIdCount() {
+      return internalGetPartitionToBackupId().getMap().size();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+     */
+
+    public boolean containsPartitionToBackupId(
+        int key) {
+      
+      return internalGetPartitionToBackupId().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPartitionToBackupIdMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer> getPartitionToBackupId() {
+      return getPartitionToBackupIdMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+     */
+
+    public java.util.Map<java.lang.Integer, java.lang.Integer> getPartitionToBackupIdMap() {
+      return internalGetPartitionToBackupId().getMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+     */
+
+    public int getPartitionToBackupIdOrDefault(
+        int key,
+        int defaultValue) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetPartitionToBackupId().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+     */
+
+    public int getPartitionToBackupIdOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetPartitionToBackupId().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearPartitionToBackupId() {
+      getMutablePartitionToBackupId().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+     */
+
+    public Builder removePartitionToBackupId(
+        int key) {
+      
+      getMutablePartitionToBackupId().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer>
+    getMutablePartitionToBackupId() {
+      return internalGetMutablePartitionToBackupId().getMutableMap();
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+     */
+    public Builder putPartitionToBackupId(
+        int key,
+        int value) {
+      
+      
+      getMutablePartitionToBackupId().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+     */
+
+    public Builder putAllPartitionToBackupId(
+        java.util.Map<java.lang.Integer, java.lang.Integer> values) {
+      getMutablePartitionToBackupId().putAll(values);
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:BackupInfoPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:BackupInfoPb)
+  private static final com.alibaba.maxgraph.proto.groot.BackupInfoPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.BackupInfoPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.BackupInfoPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BackupInfoPb>
+      PARSER = new com.google.protobuf.AbstractParser<BackupInfoPb>() {
+    public BackupInfoPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BackupInfoPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<BackupInfoPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BackupInfoPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.BackupInfoPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
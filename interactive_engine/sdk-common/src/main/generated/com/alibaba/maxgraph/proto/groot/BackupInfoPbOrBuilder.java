@@ -0,0 +1,79 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface BackupInfoPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:BackupInfoPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 globalBackupId = 1;</code>
+   */
+  int getGlobalBackupId();
+
+  /**
+   * <code>optional int64 snapshotId = 2;</code>
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>optional .GraphDefPb graphDef = 3;</code>
+   */
+  boolean hasGraphDef();
+  /**
+   * <code>optional .GraphDefPb graphDef = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef();
+  /**
+   * <code>optional .GraphDefPb graphDef = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder();
+
+  /**
+   * <code>repeated int64 walOffsets = 4;</code>
+   */
+  java.util.List<java.lang.Long> getWalOffsetsList();
+  /**
+   * <code>repeated int64 walOffsets = 4;</code>
+   */
+  int getWalOffsetsCount();
+  /**
+   * <code>repeated int64 walOffsets = 4;</code>
+   */
+  long getWalOffsets(int index);
+
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+  int getPartitionToBackupIdCount();
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+  boolean containsPartitionToBackupId(
+      int key);
+  /**
+   * Use {@link #getPartitionToBackupIdMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, java.lang.Integer>
+  getPartitionToBackupId();
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+  java.util.Map<java.lang.Integer, java.lang.Integer>
+  getPartitionToBackupIdMap();
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+
+  int getPartitionToBackupIdOrDefault(
+      int key,
+      int defaultValue);
+  /**
+   * <code>map&lt;int32, int32&gt; partitionToBackupId = 5;</code>
+   */
+
+  int getPartitionToBackupIdOrThrow(
+      int key);
+}
@@ -0,0 +1,202 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class BackupService {
+  private BackupService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateNewBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateNewBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateNewBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateNewBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DeleteBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DeleteBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DeleteBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DeleteBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PurgeOldBackupsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PurgeOldBackupsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PurgeOldBackupsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PurgeOldBackupsResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestoreFromBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestoreFromBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestoreFromBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestoreFromBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VerifyBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VerifyBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VerifyBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VerifyBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetBackupInfoRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetBackupInfoRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetBackupInfoResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetBackupInfoResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\030sdk/backup_service.proto\032\017sdk/model.pr" +
+      "oto\"\030\n\026CreateNewBackupRequest\"1\n\027CreateN" +
+      "ewBackupResponse\022\026\n\016globalBackupId\030\001 \001(\005" +
+      "\"-\n\023DeleteBackupRequest\022\026\n\016globalBackupI" +
+      "d\030\001 \001(\005\"\026\n\024DeleteBackupResponse\"1\n\026Purge" +
+      "OldBackupsRequest\022\027\n\017keepAliveNumber\030\001 \001" +
+      "(\005\"\031\n\027PurgeOldBackupsResponse\"i\n\030Restore" +
+      "FromBackupRequest\022\026\n\016globalBackupId\030\001 \001(" +
+      "\005\022\031\n\021meta_restore_path\030\002 \001(\t\022\032\n\022store_re" +
+      "store_path\030\003 \001(\t\"\033\n\031RestoreFromBackupRes",
+      "ponse\"-\n\023VerifyBackupRequest\022\026\n\016globalBa" +
+      "ckupId\030\001 \001(\005\"\026\n\024VerifyBackupResponse\"\026\n\024" +
+      "GetBackupInfoRequest\">\n\025GetBackupInfoRes" +
+      "ponse\022%\n\016backupInfoList\030\001 \003(\0132\r.BackupIn" +
+      "foPb2\232\003\n\006Backup\022D\n\017createNewBackup\022\027.Cre" +
+      "ateNewBackupRequest\032\030.CreateNewBackupRes" +
+      "ponse\022;\n\014deleteBackup\022\024.DeleteBackupRequ" +
+      "est\032\025.DeleteBackupResponse\022D\n\017purgeOldBa" +
+      "ckups\022\027.PurgeOldBackupsRequest\032\030.PurgeOl" +
+      "dBackupsResponse\022J\n\021restoreFromBackup\022\031.",
+      "RestoreFromBackupRequest\032\032.RestoreFromBa" +
+      "ckupResponse\022;\n\014verifyBackup\022\024.VerifyBac" +
+      "kupRequest\032\025.VerifyBackupResponse\022>\n\rget" +
+      "BackupInfo\022\025.GetBackupInfoRequest\032\026.GetB" +
+      "ackupInfoResponseB$\n com.alibaba.maxgrap" +
+      "h.proto.grootP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        }, assigner);
+    internal_static_CreateNewBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_CreateNewBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateNewBackupRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_CreateNewBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CreateNewBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateNewBackupResponse_descriptor,
+        new java.lang.String[] { "GlobalBackupId", });
+    internal_static_DeleteBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_DeleteBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DeleteBackupRequest_descriptor,
+        new java.lang.String[] { "GlobalBackupId", });
+    internal_static_DeleteBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_DeleteBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DeleteBackupResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_PurgeOldBackupsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_PurgeOldBackupsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PurgeOldBackupsRequest_descriptor,
+        new java.lang.String[] { "KeepAliveNumber", });
+    internal_static_PurgeOldBackupsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_PurgeOldBackupsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PurgeOldBackupsResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_RestoreFromBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_RestoreFromBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestoreFromBackupRequest_descriptor,
+        new java.lang.String[] { "GlobalBackupId", "MetaRestorePath", "StoreRestorePath", });
+    internal_static_RestoreFromBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_RestoreFromBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestoreFromBackupResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_VerifyBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_VerifyBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VerifyBackupRequest_descriptor,
+        new java.lang.String[] { "GlobalBackupId", });
+    internal_static_VerifyBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_VerifyBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VerifyBackupResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetBackupInfoRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_GetBackupInfoRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetBackupInfoRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetBackupInfoResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_GetBackupInfoResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetBackupInfoResponse_descriptor,
+        new java.lang.String[] { "BackupInfoList", });
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,471 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.stub.ClientCalls.asyncUnaryCall;
+import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.blockingServerStreamingCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.0.0)",
+    comments = "Source: sdk/client_backup_service.proto")
+public class ClientBackupGrpc {
+
+  private ClientBackupGrpc() {}
+
+  public static final String SERVICE_NAME = "ClientBackup";
+
+  // Static method descriptors that strictly reflect the proto.
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupRequest,
+      com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupResponse> METHOD_CREATE_NEW_GRAPH_BACKUP =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "ClientBackup", "createNewGraphBackup"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.DeleteGraphBackupRequest,
+      com.alibaba.maxgraph.proto.groot.DeleteGraphBackupResponse> METHOD_DELETE_GRAPH_BACKUP =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "ClientBackup", "deleteGraphBackup"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.DeleteGraphBackupRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.DeleteGraphBackupResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsRequest,
+      com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsResponse> METHOD_PURGE_OLD_GRAPH_BACKUPS =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "ClientBackup", "purgeOldGraphBackups"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest,
+      com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupResponse> METHOD_RESTORE_FROM_GRAPH_BACKUP =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "ClientBackup", "restoreFromGraphBackup"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.VerifyGraphBackupRequest,
+      com.alibaba.maxgraph.proto.groot.VerifyGraphBackupResponse> METHOD_VERIFY_GRAPH_BACKUP =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "ClientBackup", "verifyGraphBackup"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.VerifyGraphBackupRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.VerifyGraphBackupResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoRequest,
+      com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoResponse> METHOD_GET_GRAPH_BACKUP_INFO =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "ClientBackup", "getGraphBackupInfo"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoResponse.getDefaultInstance()));
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static ClientBackupStub newStub(io.grpc.Channel channel) {
+    return new ClientBackupStub(channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientBackupBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    return new ClientBackupBlockingStub(channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientBackupFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    return new ClientBackupFutureStub(channel);
+  }
+
+  /**
+   */
+  public static abstract class ClientBackupImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void createNewGraphBackup(com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_CREATE_NEW_GRAPH_BACKUP, responseObserver);
+    }
+
+    /**
+     */
+    public void deleteGraphBackup(com.alibaba.maxgraph.proto.groot.DeleteGraphBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DeleteGraphBackupResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_DELETE_GRAPH_BACKUP, responseObserver);
+    }
+
+    /**
+     */
+    public void purgeOldGraphBackups(com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_PURGE_OLD_GRAPH_BACKUPS, responseObserver);
+    }
+
+    /**
+     */
+    public void restoreFromGraphBackup(com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_RESTORE_FROM_GRAPH_BACKUP, responseObserver);
+    }
+
+    /**
+     */
+    public void verifyGraphBackup(com.alibaba.maxgraph.proto.groot.VerifyGraphBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyGraphBackupResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_VERIFY_GRAPH_BACKUP, responseObserver);
+    }
+
+    /**
+     */
+    public void getGraphBackupInfo(com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_GET_GRAPH_BACKUP_INFO, responseObserver);
+    }
+
+    @java.lang.Override public io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            METHOD_CREATE_NEW_GRAPH_BACKUP,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupRequest,
+                com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupResponse>(
+                  this, METHODID_CREATE_NEW_GRAPH_BACKUP)))
+          .addMethod(
+            METHOD_DELETE_GRAPH_BACKUP,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.DeleteGraphBackupRequest,
+                com.alibaba.maxgraph.proto.groot.DeleteGraphBackupResponse>(
+                  this, METHODID_DELETE_GRAPH_BACKUP)))
+          .addMethod(
+            METHOD_PURGE_OLD_GRAPH_BACKUPS,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsRequest,
+                com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsResponse>(
+                  this, METHODID_PURGE_OLD_GRAPH_BACKUPS)))
+          .addMethod(
+            METHOD_RESTORE_FROM_GRAPH_BACKUP,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest,
+                com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupResponse>(
+                  this, METHODID_RESTORE_FROM_GRAPH_BACKUP)))
+          .addMethod(
+            METHOD_VERIFY_GRAPH_BACKUP,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.VerifyGraphBackupRequest,
+                com.alibaba.maxgraph.proto.groot.VerifyGraphBackupResponse>(
+                  this, METHODID_VERIFY_GRAPH_BACKUP)))
+          .addMethod(
+            METHOD_GET_GRAPH_BACKUP_INFO,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoRequest,
+                com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoResponse>(
+                  this, METHODID_GET_GRAPH_BACKUP_INFO)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class ClientBackupStub extends io.grpc.stub.AbstractStub<ClientBackupStub> {
+    private ClientBackupStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientBackupStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientBackupStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientBackupStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void createNewGraphBackup(com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_CREATE_NEW_GRAPH_BACKUP, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void deleteGraphBackup(com.alibaba.maxgraph.proto.groot.DeleteGraphBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DeleteGraphBackupResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_DELETE_GRAPH_BACKUP, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void purgeOldGraphBackups(com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_PURGE_OLD_GRAPH_BACKUPS, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void restoreFromGraphBackup(com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_RESTORE_FROM_GRAPH_BACKUP, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void verifyGraphBackup(com.alibaba.maxgraph.proto.groot.VerifyGraphBackupRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyGraphBackupResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_VERIFY_GRAPH_BACKUP, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getGraphBackupInfo(com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_GET_GRAPH_BACKUP_INFO, getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientBackupBlockingStub extends io.grpc.stub.AbstractStub<ClientBackupBlockingStub> {
+    private ClientBackupBlockingStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientBackupBlockingStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientBackupBlockingStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientBackupBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupResponse createNewGraphBackup(com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_CREATE_NEW_GRAPH_BACKUP, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.DeleteGraphBackupResponse deleteGraphBackup(com.alibaba.maxgraph.proto.groot.DeleteGraphBackupRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_DELETE_GRAPH_BACKUP, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsResponse purgeOldGraphBackups(com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_PURGE_OLD_GRAPH_BACKUPS, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupResponse restoreFromGraphBackup(com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_RESTORE_FROM_GRAPH_BACKUP, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.VerifyGraphBackupResponse verifyGraphBackup(com.alibaba.maxgraph.proto.groot.VerifyGraphBackupRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_VERIFY_GRAPH_BACKUP, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoResponse getGraphBackupInfo(com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_GET_GRAPH_BACKUP_INFO, getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientBackupFutureStub extends io.grpc.stub.AbstractStub<ClientBackupFutureStub> {
+    private ClientBackupFutureStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientBackupFutureStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientBackupFutureStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientBackupFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupResponse> createNewGraphBackup(
+        com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_CREATE_NEW_GRAPH_BACKUP, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.DeleteGraphBackupResponse> deleteGraphBackup(
+        com.alibaba.maxgraph.proto.groot.DeleteGraphBackupRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_DELETE_GRAPH_BACKUP, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsResponse> purgeOldGraphBackups(
+        com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_PURGE_OLD_GRAPH_BACKUPS, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupResponse> restoreFromGraphBackup(
+        com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_RESTORE_FROM_GRAPH_BACKUP, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.VerifyGraphBackupResponse> verifyGraphBackup(
+        com.alibaba.maxgraph.proto.groot.VerifyGraphBackupRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_VERIFY_GRAPH_BACKUP, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoResponse> getGraphBackupInfo(
+        com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_GET_GRAPH_BACKUP_INFO, getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_CREATE_NEW_GRAPH_BACKUP = 0;
+  private static final int METHODID_DELETE_GRAPH_BACKUP = 1;
+  private static final int METHODID_PURGE_OLD_GRAPH_BACKUPS = 2;
+  private static final int METHODID_RESTORE_FROM_GRAPH_BACKUP = 3;
+  private static final int METHODID_VERIFY_GRAPH_BACKUP = 4;
+  private static final int METHODID_GET_GRAPH_BACKUP_INFO = 5;
+
+  private static class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final ClientBackupImplBase serviceImpl;
+    private final int methodId;
+
+    public MethodHandlers(ClientBackupImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_CREATE_NEW_GRAPH_BACKUP:
+          serviceImpl.createNewGraphBackup((com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CreateNewGraphBackupResponse>) responseObserver);
+          break;
+        case METHODID_DELETE_GRAPH_BACKUP:
+          serviceImpl.deleteGraphBackup((com.alibaba.maxgraph.proto.groot.DeleteGraphBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DeleteGraphBackupResponse>) responseObserver);
+          break;
+        case METHODID_PURGE_OLD_GRAPH_BACKUPS:
+          serviceImpl.purgeOldGraphBackups((com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PurgeOldGraphBackupsResponse>) responseObserver);
+          break;
+        case METHODID_RESTORE_FROM_GRAPH_BACKUP:
+          serviceImpl.restoreFromGraphBackup((com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupResponse>) responseObserver);
+          break;
+        case METHODID_VERIFY_GRAPH_BACKUP:
+          serviceImpl.verifyGraphBackup((com.alibaba.maxgraph.proto.groot.VerifyGraphBackupRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.VerifyGraphBackupResponse>) responseObserver);
+          break;
+        case METHODID_GET_GRAPH_BACKUP_INFO:
+          serviceImpl.getGraphBackupInfo((com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetGraphBackupInfoResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    return new io.grpc.ServiceDescriptor(SERVICE_NAME,
+        METHOD_CREATE_NEW_GRAPH_BACKUP,
+        METHOD_DELETE_GRAPH_BACKUP,
+        METHOD_PURGE_OLD_GRAPH_BACKUPS,
+        METHOD_RESTORE_FROM_GRAPH_BACKUP,
+        METHOD_VERIFY_GRAPH_BACKUP,
+        METHOD_GET_GRAPH_BACKUP_INFO);
+  }
+
+}
@@ -0,0 +1,206 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class ClientBackupService {
+  private ClientBackupService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateNewGraphBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateNewGraphBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateNewGraphBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateNewGraphBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DeleteGraphBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DeleteGraphBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DeleteGraphBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DeleteGraphBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PurgeOldGraphBackupsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PurgeOldGraphBackupsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PurgeOldGraphBackupsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PurgeOldGraphBackupsResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestoreFromGraphBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestoreFromGraphBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RestoreFromGraphBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RestoreFromGraphBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VerifyGraphBackupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VerifyGraphBackupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VerifyGraphBackupResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VerifyGraphBackupResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetGraphBackupInfoRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetGraphBackupInfoRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetGraphBackupInfoResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetGraphBackupInfoResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\037sdk/client_backup_service.proto\032\017sdk/m" +
+      "odel.proto\"\035\n\033CreateNewGraphBackupReques" +
+      "t\"0\n\034CreateNewGraphBackupResponse\022\020\n\010bac" +
+      "kupId\030\001 \001(\005\",\n\030DeleteGraphBackupRequest\022" +
+      "\020\n\010backupId\030\001 \001(\005\"\033\n\031DeleteGraphBackupRe" +
+      "sponse\"6\n\033PurgeOldGraphBackupsRequest\022\027\n" +
+      "\017keepAliveNumber\030\001 \001(\005\"\036\n\034PurgeOldGraphB" +
+      "ackupsResponse\"h\n\035RestoreFromGraphBackup" +
+      "Request\022\020\n\010backupId\030\001 \001(\005\022\031\n\021meta_restor" +
+      "e_path\030\002 \001(\t\022\032\n\022store_restore_path\030\003 \001(\t",
+      "\" \n\036RestoreFromGraphBackupResponse\",\n\030Ve" +
+      "rifyGraphBackupRequest\022\020\n\010backupId\030\001 \001(\005" +
+      "\"9\n\031VerifyGraphBackupResponse\022\014\n\004isOk\030\001 " +
+      "\001(\010\022\016\n\006errMsg\030\002 \001(\t\"\033\n\031GetGraphBackupInf" +
+      "oRequest\"C\n\032GetGraphBackupInfoResponse\022%" +
+      "\n\016backupInfoList\030\001 \003(\0132\r.BackupInfoPb2\372\003" +
+      "\n\014ClientBackup\022S\n\024createNewGraphBackup\022\034" +
+      ".CreateNewGraphBackupRequest\032\035.CreateNew" +
+      "GraphBackupResponse\022J\n\021deleteGraphBackup" +
+      "\022\031.DeleteGraphBackupRequest\032\032.DeleteGrap",
+      "hBackupResponse\022S\n\024purgeOldGraphBackups\022" +
+      "\034.PurgeOldGraphBackupsRequest\032\035.PurgeOld" +
+      "GraphBackupsResponse\022Y\n\026restoreFromGraph" +
+      "Backup\022\036.RestoreFromGraphBackupRequest\032\037" +
+      ".RestoreFromGraphBackupResponse\022J\n\021verif" +
+      "yGraphBackup\022\031.VerifyGraphBackupRequest\032" +
+      "\032.VerifyGraphBackupResponse\022M\n\022getGraphB" +
+      "ackupInfo\022\032.GetGraphBackupInfoRequest\032\033." +
+      "GetGraphBackupInfoResponseB$\n com.alibab" +
+      "a.maxgraph.proto.grootP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        }, assigner);
+    internal_static_CreateNewGraphBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_CreateNewGraphBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateNewGraphBackupRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_CreateNewGraphBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CreateNewGraphBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateNewGraphBackupResponse_descriptor,
+        new java.lang.String[] { "BackupId", });
+    internal_static_DeleteGraphBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_DeleteGraphBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DeleteGraphBackupRequest_descriptor,
+        new java.lang.String[] { "BackupId", });
+    internal_static_DeleteGraphBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_DeleteGraphBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DeleteGraphBackupResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_PurgeOldGraphBackupsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_PurgeOldGraphBackupsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PurgeOldGraphBackupsRequest_descriptor,
+        new java.lang.String[] { "KeepAliveNumber", });
+    internal_static_PurgeOldGraphBackupsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_PurgeOldGraphBackupsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PurgeOldGraphBackupsResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_RestoreFromGraphBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_RestoreFromGraphBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestoreFromGraphBackupRequest_descriptor,
+        new java.lang.String[] { "BackupId", "MetaRestorePath", "StoreRestorePath", });
+    internal_static_RestoreFromGraphBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_RestoreFromGraphBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RestoreFromGraphBackupResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_VerifyGraphBackupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_VerifyGraphBackupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VerifyGraphBackupRequest_descriptor,
+        new java.lang.String[] { "BackupId", });
+    internal_static_VerifyGraphBackupResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_VerifyGraphBackupResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VerifyGraphBackupResponse_descriptor,
+        new java.lang.String[] { "IsOk", "ErrMsg", });
+    internal_static_GetGraphBackupInfoRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_GetGraphBackupInfoRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetGraphBackupInfoRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetGraphBackupInfoResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_GetGraphBackupInfoResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetGraphBackupInfoResponse_descriptor,
+        new java.lang.String[] { "BackupInfoList", });
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,211 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.stub.ClientCalls.asyncUnaryCall;
+import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.blockingServerStreamingCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.0.0)",
+    comments = "Source: sdk/client_ddl_service.proto")
+public class ClientDdlGrpc {
+
+  private ClientDdlGrpc() {}
+
+  public static final String SERVICE_NAME = "ClientDdl";
+
+  // Static method descriptors that strictly reflect the proto.
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.SubmitDdlRequest,
+      com.alibaba.maxgraph.proto.groot.SubmitDdlResponse> METHOD_SUBMIT_DDL =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "ClientDdl", "submitDdl"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.SubmitDdlRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.SubmitDdlResponse.getDefaultInstance()));
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static ClientDdlStub newStub(io.grpc.Channel channel) {
+    return new ClientDdlStub(channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientDdlBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    return new ClientDdlBlockingStub(channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientDdlFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    return new ClientDdlFutureStub(channel);
+  }
+
+  /**
+   */
+  public static abstract class ClientDdlImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void submitDdl(com.alibaba.maxgraph.proto.groot.SubmitDdlRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SubmitDdlResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_SUBMIT_DDL, responseObserver);
+    }
+
+    @java.lang.Override public io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            METHOD_SUBMIT_DDL,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.SubmitDdlRequest,
+                com.alibaba.maxgraph.proto.groot.SubmitDdlResponse>(
+                  this, METHODID_SUBMIT_DDL)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class ClientDdlStub extends io.grpc.stub.AbstractStub<ClientDdlStub> {
+    private ClientDdlStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientDdlStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientDdlStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientDdlStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void submitDdl(com.alibaba.maxgraph.proto.groot.SubmitDdlRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SubmitDdlResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_SUBMIT_DDL, getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientDdlBlockingStub extends io.grpc.stub.AbstractStub<ClientDdlBlockingStub> {
+    private ClientDdlBlockingStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientDdlBlockingStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientDdlBlockingStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientDdlBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.SubmitDdlResponse submitDdl(com.alibaba.maxgraph.proto.groot.SubmitDdlRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_SUBMIT_DDL, getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientDdlFutureStub extends io.grpc.stub.AbstractStub<ClientDdlFutureStub> {
+    private ClientDdlFutureStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientDdlFutureStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientDdlFutureStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientDdlFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.SubmitDdlResponse> submitDdl(
+        com.alibaba.maxgraph.proto.groot.SubmitDdlRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_SUBMIT_DDL, getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_SUBMIT_DDL = 0;
+
+  private static class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final ClientDdlImplBase serviceImpl;
+    private final int methodId;
+
+    public MethodHandlers(ClientDdlImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_SUBMIT_DDL:
+          serviceImpl.submitDdl((com.alibaba.maxgraph.proto.groot.SubmitDdlRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.SubmitDdlResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    return new io.grpc.ServiceDescriptor(SERVICE_NAME,
+        METHOD_SUBMIT_DDL);
+  }
+
+}
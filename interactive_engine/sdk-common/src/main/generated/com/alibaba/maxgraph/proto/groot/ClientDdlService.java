@@ -0,0 +1,73 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_ddl_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class ClientDdlService {
+  private ClientDdlService() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SubmitDdlRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SubmitDdlRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SubmitDdlResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SubmitDdlResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\034sdk/client_ddl_service.proto\032\017sdk/mode" +
+      "l.proto\"6\n\020SubmitDdlRequest\022\"\n\013ddlReques" +
+      "ts\030\001 \003(\0132\r.DdlRequestPb\"2\n\021SubmitDdlResp" +
+      "onse\022\035\n\010graphDef\030\001 \001(\0132\013.GraphDefPb2?\n\tC" +
+      "lientDdl\0222\n\tsubmitDdl\022\021.SubmitDdlRequest" +
+      "\032\022.SubmitDdlResponseB$\n com.alibaba.maxg" +
+      "raph.proto.grootP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        }, assigner);
+    internal_static_SubmitDdlRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_SubmitDdlRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SubmitDdlRequest_descriptor,
+        new java.lang.String[] { "DdlRequests", });
+    internal_static_SubmitDdlResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_SubmitDdlResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SubmitDdlResponse_descriptor,
+        new java.lang.String[] { "GraphDef", });
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
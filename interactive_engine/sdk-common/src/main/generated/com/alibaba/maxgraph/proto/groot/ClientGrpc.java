@@ -0,0 +1,783 @@
+package com.alibaba.maxgraph.proto.groot;
+
+import static io.grpc.stub.ClientCalls.asyncUnaryCall;
+import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.blockingServerStreamingCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncServerStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncClientStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.0.0)",
+    comments = "Source: sdk/client.proto")
+public class ClientGrpc {
+
+  private ClientGrpc() {}
+
+  public static final String SERVICE_NAME = "Client";
+
+  // Static method descriptors that strictly reflect the proto.
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AddVerticesRequest,
+      com.alibaba.maxgraph.proto.groot.AddVerticesResponse> METHOD_ADD_VERTICES =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "addVertices"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.AddVerticesRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.AddVerticesResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.AddEdgesRequest,
+      com.alibaba.maxgraph.proto.groot.AddEdgesResponse> METHOD_ADD_EDGES =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "addEdges"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.AddEdgesRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.AddEdgesResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.RemoteFlushRequest,
+      com.alibaba.maxgraph.proto.groot.RemoteFlushResponse> METHOD_REMOTE_FLUSH =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "remoteFlush"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.RemoteFlushRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.RemoteFlushResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetSchemaRequest,
+      com.alibaba.maxgraph.proto.groot.GetSchemaResponse> METHOD_GET_SCHEMA =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "getSchema"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetSchemaRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetSchemaResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.IngestDataRequest,
+      com.alibaba.maxgraph.proto.groot.IngestDataResponse> METHOD_INGEST_DATA =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "ingestData"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.IngestDataRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.IngestDataResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetMetricsRequest,
+      com.alibaba.maxgraph.proto.groot.GetMetricsResponse> METHOD_GET_METRICS =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "getMetrics"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetMetricsRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetMetricsResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.LoadJsonSchemaRequest,
+      com.alibaba.maxgraph.proto.groot.LoadJsonSchemaResponse> METHOD_LOAD_JSON_SCHEMA =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "loadJsonSchema"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.LoadJsonSchemaRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.LoadJsonSchemaResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.DropSchemaRequest,
+      com.alibaba.maxgraph.proto.groot.DropSchemaResponse> METHOD_DROP_SCHEMA =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "dropSchema"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.DropSchemaRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.DropSchemaResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest,
+      com.alibaba.maxgraph.proto.groot.PrepareDataLoadResponse> METHOD_PREPARE_DATA_LOAD =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "prepareDataLoad"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.PrepareDataLoadResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest,
+      com.alibaba.maxgraph.proto.groot.CommitDataLoadResponse> METHOD_COMMIT_DATA_LOAD =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "commitDataLoad"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.CommitDataLoadResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetPartitionNumRequest,
+      com.alibaba.maxgraph.proto.groot.GetPartitionNumResponse> METHOD_GET_PARTITION_NUM =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "getPartitionNum"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetPartitionNumRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetPartitionNumResponse.getDefaultInstance()));
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static final io.grpc.MethodDescriptor<com.alibaba.maxgraph.proto.groot.GetLoggerInfoRequest,
+      com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse> METHOD_GET_LOGGER_INFO =
+      io.grpc.MethodDescriptor.create(
+          io.grpc.MethodDescriptor.MethodType.UNARY,
+          generateFullMethodName(
+              "Client", "getLoggerInfo"),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetLoggerInfoRequest.getDefaultInstance()),
+          io.grpc.protobuf.ProtoUtils.marshaller(com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse.getDefaultInstance()));
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static ClientStub newStub(io.grpc.Channel channel) {
+    return new ClientStub(channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    return new ClientBlockingStub(channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClientFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    return new ClientFutureStub(channel);
+  }
+
+  /**
+   */
+  public static abstract class ClientImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void addVertices(com.alibaba.maxgraph.proto.groot.AddVerticesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AddVerticesResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_ADD_VERTICES, responseObserver);
+    }
+
+    /**
+     */
+    public void addEdges(com.alibaba.maxgraph.proto.groot.AddEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AddEdgesResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_ADD_EDGES, responseObserver);
+    }
+
+    /**
+     */
+    public void remoteFlush(com.alibaba.maxgraph.proto.groot.RemoteFlushRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RemoteFlushResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_REMOTE_FLUSH, responseObserver);
+    }
+
+    /**
+     */
+    public void getSchema(com.alibaba.maxgraph.proto.groot.GetSchemaRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetSchemaResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_GET_SCHEMA, responseObserver);
+    }
+
+    /**
+     */
+    public void ingestData(com.alibaba.maxgraph.proto.groot.IngestDataRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.IngestDataResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_INGEST_DATA, responseObserver);
+    }
+
+    /**
+     */
+    public void getMetrics(com.alibaba.maxgraph.proto.groot.GetMetricsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetMetricsResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_GET_METRICS, responseObserver);
+    }
+
+    /**
+     */
+    public void loadJsonSchema(com.alibaba.maxgraph.proto.groot.LoadJsonSchemaRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.LoadJsonSchemaResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_LOAD_JSON_SCHEMA, responseObserver);
+    }
+
+    /**
+     */
+    public void dropSchema(com.alibaba.maxgraph.proto.groot.DropSchemaRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DropSchemaResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_DROP_SCHEMA, responseObserver);
+    }
+
+    /**
+     */
+    public void prepareDataLoad(com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PrepareDataLoadResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_PREPARE_DATA_LOAD, responseObserver);
+    }
+
+    /**
+     */
+    public void commitDataLoad(com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CommitDataLoadResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_COMMIT_DATA_LOAD, responseObserver);
+    }
+
+    /**
+     */
+    public void getPartitionNum(com.alibaba.maxgraph.proto.groot.GetPartitionNumRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetPartitionNumResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_GET_PARTITION_NUM, responseObserver);
+    }
+
+    /**
+     */
+    public void getLoggerInfo(com.alibaba.maxgraph.proto.groot.GetLoggerInfoRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(METHOD_GET_LOGGER_INFO, responseObserver);
+    }
+
+    @java.lang.Override public io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            METHOD_ADD_VERTICES,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.AddVerticesRequest,
+                com.alibaba.maxgraph.proto.groot.AddVerticesResponse>(
+                  this, METHODID_ADD_VERTICES)))
+          .addMethod(
+            METHOD_ADD_EDGES,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.AddEdgesRequest,
+                com.alibaba.maxgraph.proto.groot.AddEdgesResponse>(
+                  this, METHODID_ADD_EDGES)))
+          .addMethod(
+            METHOD_REMOTE_FLUSH,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.RemoteFlushRequest,
+                com.alibaba.maxgraph.proto.groot.RemoteFlushResponse>(
+                  this, METHODID_REMOTE_FLUSH)))
+          .addMethod(
+            METHOD_GET_SCHEMA,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.GetSchemaRequest,
+                com.alibaba.maxgraph.proto.groot.GetSchemaResponse>(
+                  this, METHODID_GET_SCHEMA)))
+          .addMethod(
+            METHOD_INGEST_DATA,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.IngestDataRequest,
+                com.alibaba.maxgraph.proto.groot.IngestDataResponse>(
+                  this, METHODID_INGEST_DATA)))
+          .addMethod(
+            METHOD_GET_METRICS,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.GetMetricsRequest,
+                com.alibaba.maxgraph.proto.groot.GetMetricsResponse>(
+                  this, METHODID_GET_METRICS)))
+          .addMethod(
+            METHOD_LOAD_JSON_SCHEMA,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.LoadJsonSchemaRequest,
+                com.alibaba.maxgraph.proto.groot.LoadJsonSchemaResponse>(
+                  this, METHODID_LOAD_JSON_SCHEMA)))
+          .addMethod(
+            METHOD_DROP_SCHEMA,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.DropSchemaRequest,
+                com.alibaba.maxgraph.proto.groot.DropSchemaResponse>(
+                  this, METHODID_DROP_SCHEMA)))
+          .addMethod(
+            METHOD_PREPARE_DATA_LOAD,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest,
+                com.alibaba.maxgraph.proto.groot.PrepareDataLoadResponse>(
+                  this, METHODID_PREPARE_DATA_LOAD)))
+          .addMethod(
+            METHOD_COMMIT_DATA_LOAD,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest,
+                com.alibaba.maxgraph.proto.groot.CommitDataLoadResponse>(
+                  this, METHODID_COMMIT_DATA_LOAD)))
+          .addMethod(
+            METHOD_GET_PARTITION_NUM,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.GetPartitionNumRequest,
+                com.alibaba.maxgraph.proto.groot.GetPartitionNumResponse>(
+                  this, METHODID_GET_PARTITION_NUM)))
+          .addMethod(
+            METHOD_GET_LOGGER_INFO,
+            asyncUnaryCall(
+              new MethodHandlers<
+                com.alibaba.maxgraph.proto.groot.GetLoggerInfoRequest,
+                com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse>(
+                  this, METHODID_GET_LOGGER_INFO)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class ClientStub extends io.grpc.stub.AbstractStub<ClientStub> {
+    private ClientStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void addVertices(com.alibaba.maxgraph.proto.groot.AddVerticesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AddVerticesResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_ADD_VERTICES, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void addEdges(com.alibaba.maxgraph.proto.groot.AddEdgesRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AddEdgesResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_ADD_EDGES, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void remoteFlush(com.alibaba.maxgraph.proto.groot.RemoteFlushRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RemoteFlushResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_REMOTE_FLUSH, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getSchema(com.alibaba.maxgraph.proto.groot.GetSchemaRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetSchemaResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_GET_SCHEMA, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void ingestData(com.alibaba.maxgraph.proto.groot.IngestDataRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.IngestDataResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_INGEST_DATA, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getMetrics(com.alibaba.maxgraph.proto.groot.GetMetricsRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetMetricsResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_GET_METRICS, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void loadJsonSchema(com.alibaba.maxgraph.proto.groot.LoadJsonSchemaRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.LoadJsonSchemaResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_LOAD_JSON_SCHEMA, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void dropSchema(com.alibaba.maxgraph.proto.groot.DropSchemaRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DropSchemaResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_DROP_SCHEMA, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void prepareDataLoad(com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PrepareDataLoadResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_PREPARE_DATA_LOAD, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void commitDataLoad(com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CommitDataLoadResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_COMMIT_DATA_LOAD, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getPartitionNum(com.alibaba.maxgraph.proto.groot.GetPartitionNumRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetPartitionNumResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_GET_PARTITION_NUM, getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getLoggerInfo(com.alibaba.maxgraph.proto.groot.GetLoggerInfoRequest request,
+        io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(METHOD_GET_LOGGER_INFO, getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientBlockingStub extends io.grpc.stub.AbstractStub<ClientBlockingStub> {
+    private ClientBlockingStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientBlockingStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientBlockingStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.AddVerticesResponse addVertices(com.alibaba.maxgraph.proto.groot.AddVerticesRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_ADD_VERTICES, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.AddEdgesResponse addEdges(com.alibaba.maxgraph.proto.groot.AddEdgesRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_ADD_EDGES, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.RemoteFlushResponse remoteFlush(com.alibaba.maxgraph.proto.groot.RemoteFlushRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_REMOTE_FLUSH, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.GetSchemaResponse getSchema(com.alibaba.maxgraph.proto.groot.GetSchemaRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_GET_SCHEMA, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.IngestDataResponse ingestData(com.alibaba.maxgraph.proto.groot.IngestDataRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_INGEST_DATA, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.GetMetricsResponse getMetrics(com.alibaba.maxgraph.proto.groot.GetMetricsRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_GET_METRICS, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.LoadJsonSchemaResponse loadJsonSchema(com.alibaba.maxgraph.proto.groot.LoadJsonSchemaRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_LOAD_JSON_SCHEMA, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.DropSchemaResponse dropSchema(com.alibaba.maxgraph.proto.groot.DropSchemaRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_DROP_SCHEMA, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.PrepareDataLoadResponse prepareDataLoad(com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_PREPARE_DATA_LOAD, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.CommitDataLoadResponse commitDataLoad(com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_COMMIT_DATA_LOAD, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.GetPartitionNumResponse getPartitionNum(com.alibaba.maxgraph.proto.groot.GetPartitionNumRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_GET_PARTITION_NUM, getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse getLoggerInfo(com.alibaba.maxgraph.proto.groot.GetLoggerInfoRequest request) {
+      return blockingUnaryCall(
+          getChannel(), METHOD_GET_LOGGER_INFO, getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class ClientFutureStub extends io.grpc.stub.AbstractStub<ClientFutureStub> {
+    private ClientFutureStub(io.grpc.Channel channel) {
+      super(channel);
+    }
+
+    private ClientFutureStub(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClientFutureStub build(io.grpc.Channel channel,
+        io.grpc.CallOptions callOptions) {
+      return new ClientFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.AddVerticesResponse> addVertices(
+        com.alibaba.maxgraph.proto.groot.AddVerticesRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_ADD_VERTICES, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.AddEdgesResponse> addEdges(
+        com.alibaba.maxgraph.proto.groot.AddEdgesRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_ADD_EDGES, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.RemoteFlushResponse> remoteFlush(
+        com.alibaba.maxgraph.proto.groot.RemoteFlushRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_REMOTE_FLUSH, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.GetSchemaResponse> getSchema(
+        com.alibaba.maxgraph.proto.groot.GetSchemaRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_GET_SCHEMA, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.IngestDataResponse> ingestData(
+        com.alibaba.maxgraph.proto.groot.IngestDataRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_INGEST_DATA, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.GetMetricsResponse> getMetrics(
+        com.alibaba.maxgraph.proto.groot.GetMetricsRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_GET_METRICS, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.LoadJsonSchemaResponse> loadJsonSchema(
+        com.alibaba.maxgraph.proto.groot.LoadJsonSchemaRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_LOAD_JSON_SCHEMA, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.DropSchemaResponse> dropSchema(
+        com.alibaba.maxgraph.proto.groot.DropSchemaRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_DROP_SCHEMA, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.PrepareDataLoadResponse> prepareDataLoad(
+        com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_PREPARE_DATA_LOAD, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.CommitDataLoadResponse> commitDataLoad(
+        com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_COMMIT_DATA_LOAD, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.GetPartitionNumResponse> getPartitionNum(
+        com.alibaba.maxgraph.proto.groot.GetPartitionNumRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_GET_PARTITION_NUM, getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse> getLoggerInfo(
+        com.alibaba.maxgraph.proto.groot.GetLoggerInfoRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(METHOD_GET_LOGGER_INFO, getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_ADD_VERTICES = 0;
+  private static final int METHODID_ADD_EDGES = 1;
+  private static final int METHODID_REMOTE_FLUSH = 2;
+  private static final int METHODID_GET_SCHEMA = 3;
+  private static final int METHODID_INGEST_DATA = 4;
+  private static final int METHODID_GET_METRICS = 5;
+  private static final int METHODID_LOAD_JSON_SCHEMA = 6;
+  private static final int METHODID_DROP_SCHEMA = 7;
+  private static final int METHODID_PREPARE_DATA_LOAD = 8;
+  private static final int METHODID_COMMIT_DATA_LOAD = 9;
+  private static final int METHODID_GET_PARTITION_NUM = 10;
+  private static final int METHODID_GET_LOGGER_INFO = 11;
+
+  private static class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final ClientImplBase serviceImpl;
+    private final int methodId;
+
+    public MethodHandlers(ClientImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_ADD_VERTICES:
+          serviceImpl.addVertices((com.alibaba.maxgraph.proto.groot.AddVerticesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AddVerticesResponse>) responseObserver);
+          break;
+        case METHODID_ADD_EDGES:
+          serviceImpl.addEdges((com.alibaba.maxgraph.proto.groot.AddEdgesRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.AddEdgesResponse>) responseObserver);
+          break;
+        case METHODID_REMOTE_FLUSH:
+          serviceImpl.remoteFlush((com.alibaba.maxgraph.proto.groot.RemoteFlushRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.RemoteFlushResponse>) responseObserver);
+          break;
+        case METHODID_GET_SCHEMA:
+          serviceImpl.getSchema((com.alibaba.maxgraph.proto.groot.GetSchemaRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetSchemaResponse>) responseObserver);
+          break;
+        case METHODID_INGEST_DATA:
+          serviceImpl.ingestData((com.alibaba.maxgraph.proto.groot.IngestDataRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.IngestDataResponse>) responseObserver);
+          break;
+        case METHODID_GET_METRICS:
+          serviceImpl.getMetrics((com.alibaba.maxgraph.proto.groot.GetMetricsRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetMetricsResponse>) responseObserver);
+          break;
+        case METHODID_LOAD_JSON_SCHEMA:
+          serviceImpl.loadJsonSchema((com.alibaba.maxgraph.proto.groot.LoadJsonSchemaRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.LoadJsonSchemaResponse>) responseObserver);
+          break;
+        case METHODID_DROP_SCHEMA:
+          serviceImpl.dropSchema((com.alibaba.maxgraph.proto.groot.DropSchemaRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.DropSchemaResponse>) responseObserver);
+          break;
+        case METHODID_PREPARE_DATA_LOAD:
+          serviceImpl.prepareDataLoad((com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.PrepareDataLoadResponse>) responseObserver);
+          break;
+        case METHODID_COMMIT_DATA_LOAD:
+          serviceImpl.commitDataLoad((com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.CommitDataLoadResponse>) responseObserver);
+          break;
+        case METHODID_GET_PARTITION_NUM:
+          serviceImpl.getPartitionNum((com.alibaba.maxgraph.proto.groot.GetPartitionNumRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetPartitionNumResponse>) responseObserver);
+          break;
+        case METHODID_GET_LOGGER_INFO:
+          serviceImpl.getLoggerInfo((com.alibaba.maxgraph.proto.groot.GetLoggerInfoRequest) request,
+              (io.grpc.stub.StreamObserver<com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    return new io.grpc.ServiceDescriptor(SERVICE_NAME,
+        METHOD_ADD_VERTICES,
+        METHOD_ADD_EDGES,
+        METHOD_REMOTE_FLUSH,
+        METHOD_GET_SCHEMA,
+        METHOD_INGEST_DATA,
+        METHOD_GET_METRICS,
+        METHOD_LOAD_JSON_SCHEMA,
+        METHOD_DROP_SCHEMA,
+        METHOD_PREPARE_DATA_LOAD,
+        METHOD_COMMIT_DATA_LOAD,
+        METHOD_GET_PARTITION_NUM,
+        METHOD_GET_LOGGER_INFO);
+  }
+
+}
@@ -0,0 +1,450 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class ClientOuterClass {
+  private ClientOuterClass() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VertexDataPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VertexDataPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VertexDataPb_PropertiesEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VertexDataPb_PropertiesEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddVerticesRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddVerticesRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddVerticesResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddVerticesResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeDataPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeDataPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeDataPb_SrcPkEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeDataPb_SrcPkEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeDataPb_DstPkEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeDataPb_DstPkEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeDataPb_PropertiesEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeDataPb_PropertiesEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddEdgesRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddEdgesRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddEdgesResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddEdgesResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RemoteFlushRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RemoteFlushRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RemoteFlushResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RemoteFlushResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetSchemaRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetSchemaRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetSchemaResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetSchemaResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_IngestDataRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_IngestDataRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_IngestDataResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_IngestDataResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetMetricsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetMetricsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetMetricsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetMetricsResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LoadJsonSchemaRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LoadJsonSchemaRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LoadJsonSchemaResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LoadJsonSchemaResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DropSchemaRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DropSchemaRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DropSchemaResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DropSchemaResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PrepareDataLoadRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PrepareDataLoadRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PrepareDataLoadResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PrepareDataLoadResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CommitDataLoadRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CommitDataLoadRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CommitDataLoadRequest_TableToTargetEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CommitDataLoadRequest_TableToTargetEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CommitDataLoadResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CommitDataLoadResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPartitionNumRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPartitionNumRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPartitionNumResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPartitionNumResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetLoggerInfoRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetLoggerInfoRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetLoggerInfoResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetLoggerInfoResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020sdk/client.proto\032\020sdk/common.proto\032\017sd" +
+      "k/model.proto\"\203\001\n\014VertexDataPb\022\r\n\005label\030" +
+      "\001 \001(\t\0221\n\nproperties\030\002 \003(\0132\035.VertexDataPb" +
+      ".PropertiesEntry\0321\n\017PropertiesEntry\022\013\n\003k" +
+      "ey\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"F\n\022AddVertic" +
+      "esRequest\022\017\n\007session\030\001 \001(\t\022\037\n\010dataList\030\002" +
+      " \003(\0132\r.VertexDataPb\")\n\023AddVerticesRespon" +
+      "se\022\022\n\nsnapshotId\030\001 \001(\003\"\315\002\n\nEdgeDataPb\022\r\n" +
+      "\005label\030\001 \001(\t\022\020\n\010srcLabel\030\002 \001(\t\022\020\n\010dstLab" +
+      "el\030\003 \001(\t\022%\n\005srcPk\030\004 \003(\0132\026.EdgeDataPb.Src",
+      "PkEntry\022%\n\005dstPk\030\005 \003(\0132\026.EdgeDataPb.DstP" +
+      "kEntry\022/\n\nproperties\030\006 \003(\0132\033.EdgeDataPb." +
+      "PropertiesEntry\032,\n\nSrcPkEntry\022\013\n\003key\030\001 \001" +
+      "(\t\022\r\n\005value\030\002 \001(\t:\0028\001\032,\n\nDstPkEntry\022\013\n\003k" +
+      "ey\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\0321\n\017Propertie" +
+      "sEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"A" +
+      "\n\017AddEdgesRequest\022\017\n\007session\030\001 \001(\t\022\035\n\010da" +
+      "taList\030\002 \003(\0132\013.EdgeDataPb\"&\n\020AddEdgesRes" +
+      "ponse\022\022\n\nsnapshotId\030\001 \001(\003\"(\n\022RemoteFlush" +
+      "Request\022\022\n\nsnapshotId\030\001 \001(\003\"\025\n\023RemoteFlu",
+      "shResponse\"\022\n\020GetSchemaRequest\"2\n\021GetSch" +
+      "emaResponse\022\035\n\010graphDef\030\001 \001(\0132\013.GraphDef" +
+      "Pb\"%\n\021IngestDataRequest\022\020\n\010dataPath\030\001 \001(" +
+      "\t\"\024\n\022IngestDataResponse\"&\n\021GetMetricsReq" +
+      "uest\022\021\n\troleNames\030\001 \001(\t\")\n\022GetMetricsRes" +
+      "ponse\022\023\n\013metricsJson\030\001 \001(\t\"+\n\025LoadJsonSc" +
+      "hemaRequest\022\022\n\nschemaJson\030\001 \001(\t\"7\n\026LoadJ" +
+      "sonSchemaResponse\022\035\n\010graphDef\030\001 \001(\0132\013.Gr" +
+      "aphDefPb\"\023\n\021DropSchemaRequest\"3\n\022DropSch" +
+      "emaResponse\022\035\n\010graphDef\030\001 \001(\0132\013.GraphDef",
+      "Pb\"D\n\026PrepareDataLoadRequest\022*\n\017dataLoad" +
+      "Targets\030\001 \003(\0132\021.DataLoadTargetPb\"8\n\027Prep" +
+      "areDataLoadResponse\022\035\n\010graphDef\030\001 \001(\0132\013." +
+      "GraphDefPb\"\242\001\n\025CommitDataLoadRequest\022@\n\r" +
+      "tableToTarget\030\001 \003(\0132).CommitDataLoadRequ" +
+      "est.TableToTargetEntry\032G\n\022TableToTargetE" +
+      "ntry\022\013\n\003key\030\001 \001(\003\022 \n\005value\030\002 \001(\0132\021.DataL" +
+      "oadTargetPb:\0028\001\"\030\n\026CommitDataLoadRespons" +
+      "e\"\030\n\026GetPartitionNumRequest\"/\n\027GetPartit" +
+      "ionNumResponse\022\024\n\014partitionNum\030\001 \001(\005\"\026\n\024",
+      "GetLoggerInfoRequest\"]\n\025GetLoggerInfoRes" +
+      "ponse\022\025\n\rloggerServers\030\001 \001(\t\022\023\n\013loggerTo" +
+      "pic\030\002 \001(\t\022\030\n\020loggerQueueCount\030\003 \001(\0052\330\005\n\006" +
+      "Client\0228\n\013addVertices\022\023.AddVerticesReque" +
+      "st\032\024.AddVerticesResponse\022/\n\010addEdges\022\020.A" +
+      "ddEdgesRequest\032\021.AddEdgesResponse\0228\n\013rem" +
+      "oteFlush\022\023.RemoteFlushRequest\032\024.RemoteFl" +
+      "ushResponse\0222\n\tgetSchema\022\021.GetSchemaRequ" +
+      "est\032\022.GetSchemaResponse\0225\n\ningestData\022\022." +
+      "IngestDataRequest\032\023.IngestDataResponse\0225",
+      "\n\ngetMetrics\022\022.GetMetricsRequest\032\023.GetMe" +
+      "tricsResponse\022A\n\016loadJsonSchema\022\026.LoadJs" +
+      "onSchemaRequest\032\027.LoadJsonSchemaResponse" +
+      "\0225\n\ndropSchema\022\022.DropSchemaRequest\032\023.Dro" +
+      "pSchemaResponse\022D\n\017prepareDataLoad\022\027.Pre" +
+      "pareDataLoadRequest\032\030.PrepareDataLoadRes" +
+      "ponse\022A\n\016commitDataLoad\022\026.CommitDataLoad" +
+      "Request\032\027.CommitDataLoadResponse\022D\n\017getP" +
+      "artitionNum\022\027.GetPartitionNumRequest\032\030.G" +
+      "etPartitionNumResponse\022>\n\rgetLoggerInfo\022",
+      "\025.GetLoggerInfoRequest\032\026.GetLoggerInfoRe" +
+      "sponseB$\n com.alibaba.maxgraph.proto.gro" +
+      "otP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+          com.alibaba.maxgraph.proto.groot.Model.getDescriptor(),
+        }, assigner);
+    internal_static_VertexDataPb_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_VertexDataPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VertexDataPb_descriptor,
+        new java.lang.String[] { "Label", "Properties", });
+    internal_static_VertexDataPb_PropertiesEntry_descriptor =
+      internal_static_VertexDataPb_descriptor.getNestedTypes().get(0);
+    internal_static_VertexDataPb_PropertiesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VertexDataPb_PropertiesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_AddVerticesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_AddVerticesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddVerticesRequest_descriptor,
+        new java.lang.String[] { "Session", "DataList", });
+    internal_static_AddVerticesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_AddVerticesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddVerticesResponse_descriptor,
+        new java.lang.String[] { "SnapshotId", });
+    internal_static_EdgeDataPb_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_EdgeDataPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeDataPb_descriptor,
+        new java.lang.String[] { "Label", "SrcLabel", "DstLabel", "SrcPk", "DstPk", "Properties", });
+    internal_static_EdgeDataPb_SrcPkEntry_descriptor =
+      internal_static_EdgeDataPb_descriptor.getNestedTypes().get(0);
+    internal_static_EdgeDataPb_SrcPkEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeDataPb_SrcPkEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_EdgeDataPb_DstPkEntry_descriptor =
+      internal_static_EdgeDataPb_descriptor.getNestedTypes().get(1);
+    internal_static_EdgeDataPb_DstPkEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeDataPb_DstPkEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_EdgeDataPb_PropertiesEntry_descriptor =
+      internal_static_EdgeDataPb_descriptor.getNestedTypes().get(2);
+    internal_static_EdgeDataPb_PropertiesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeDataPb_PropertiesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_AddEdgesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_AddEdgesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddEdgesRequest_descriptor,
+        new java.lang.String[] { "Session", "DataList", });
+    internal_static_AddEdgesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_AddEdgesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddEdgesResponse_descriptor,
+        new java.lang.String[] { "SnapshotId", });
+    internal_static_RemoteFlushRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_RemoteFlushRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RemoteFlushRequest_descriptor,
+        new java.lang.String[] { "SnapshotId", });
+    internal_static_RemoteFlushResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_RemoteFlushResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RemoteFlushResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetSchemaRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_GetSchemaRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetSchemaRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetSchemaResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_GetSchemaResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetSchemaResponse_descriptor,
+        new java.lang.String[] { "GraphDef", });
+    internal_static_IngestDataRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_IngestDataRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_IngestDataRequest_descriptor,
+        new java.lang.String[] { "DataPath", });
+    internal_static_IngestDataResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_IngestDataResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_IngestDataResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetMetricsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_GetMetricsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetMetricsRequest_descriptor,
+        new java.lang.String[] { "RoleNames", });
+    internal_static_GetMetricsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_GetMetricsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetMetricsResponse_descriptor,
+        new java.lang.String[] { "MetricsJson", });
+    internal_static_LoadJsonSchemaRequest_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_LoadJsonSchemaRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LoadJsonSchemaRequest_descriptor,
+        new java.lang.String[] { "SchemaJson", });
+    internal_static_LoadJsonSchemaResponse_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_LoadJsonSchemaResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LoadJsonSchemaResponse_descriptor,
+        new java.lang.String[] { "GraphDef", });
+    internal_static_DropSchemaRequest_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_DropSchemaRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DropSchemaRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_DropSchemaResponse_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_DropSchemaResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DropSchemaResponse_descriptor,
+        new java.lang.String[] { "GraphDef", });
+    internal_static_PrepareDataLoadRequest_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_PrepareDataLoadRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PrepareDataLoadRequest_descriptor,
+        new java.lang.String[] { "DataLoadTargets", });
+    internal_static_PrepareDataLoadResponse_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_PrepareDataLoadResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PrepareDataLoadResponse_descriptor,
+        new java.lang.String[] { "GraphDef", });
+    internal_static_CommitDataLoadRequest_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_CommitDataLoadRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CommitDataLoadRequest_descriptor,
+        new java.lang.String[] { "TableToTarget", });
+    internal_static_CommitDataLoadRequest_TableToTargetEntry_descriptor =
+      internal_static_CommitDataLoadRequest_descriptor.getNestedTypes().get(0);
+    internal_static_CommitDataLoadRequest_TableToTargetEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CommitDataLoadRequest_TableToTargetEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_CommitDataLoadResponse_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_CommitDataLoadResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CommitDataLoadResponse_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetPartitionNumRequest_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_GetPartitionNumRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPartitionNumRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetPartitionNumResponse_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_GetPartitionNumResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPartitionNumResponse_descriptor,
+        new java.lang.String[] { "PartitionNum", });
+    internal_static_GetLoggerInfoRequest_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_GetLoggerInfoRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetLoggerInfoRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_GetLoggerInfoResponse_descriptor =
+      getDescriptor().getMessageTypes().get(25);
+    internal_static_GetLoggerInfoResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetLoggerInfoResponse_descriptor,
+        new java.lang.String[] { "LoggerServers", "LoggerTopic", "LoggerQueueCount", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+    com.alibaba.maxgraph.proto.groot.Model.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
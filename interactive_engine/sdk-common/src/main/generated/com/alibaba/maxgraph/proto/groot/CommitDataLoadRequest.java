@@ -0,0 +1,639 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code CommitDataLoadRequest}
+ */
+public  final class CommitDataLoadRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CommitDataLoadRequest)
+    CommitDataLoadRequestOrBuilder {
+  // Use CommitDataLoadRequest.newBuilder() to construct.
+  private CommitDataLoadRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CommitDataLoadRequest() {
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private CommitDataLoadRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              tableToTarget_ = com.google.protobuf.MapField.newMapField(
+                  TableToTargetDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+            tableToTarget = input.readMessage(
+                TableToTargetDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            tableToTarget_.getMutableMap().put(tableToTarget.getKey(), tableToTarget.getValue());
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_CommitDataLoadRequest_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 1:
+        return internalGetTableToTarget();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_CommitDataLoadRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest.class, com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest.Builder.class);
+  }
+
+  public static final int TABLETOTARGET_FIELD_NUMBER = 1;
+  private static final class TableToTargetDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_CommitDataLoadRequest_TableToTargetEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT64,
+                0L,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.DataLoadTargetPb.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> tableToTarget_;
+  private com.google.protobuf.MapField<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+  internalGetTableToTarget() {
+    if (tableToTarget_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          TableToTargetDefaultEntryHolder.defaultEntry);
+    }
+    return tableToTarget_;
+  }
+
+  public int getTableToTargetCount() {
+    return internalGetTableToTarget().getMap().size();
+  }
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+
+  public boolean containsTableToTarget(
+      long key) {
+    
+    return internalGetTableToTarget().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getTableToTargetMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> getTableToTarget() {
+    return getTableToTargetMap();
+  }
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+
+  public java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> getTableToTargetMap() {
+    return internalGetTableToTarget().getMap();
+  }
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+
+  public com.alibaba.maxgraph.proto.DataLoadTargetPb getTableToTargetOrDefault(
+      long key,
+      com.alibaba.maxgraph.proto.DataLoadTargetPb defaultValue) {
+    
+    java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> map =
+        internalGetTableToTarget().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+
+  public com.alibaba.maxgraph.proto.DataLoadTargetPb getTableToTargetOrThrow(
+      long key) {
+    
+    java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> map =
+        internalGetTableToTarget().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (java.util.Map.Entry<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> entry
+         : internalGetTableToTarget().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+      tableToTarget = TableToTargetDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(1, tableToTarget);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (java.util.Map.Entry<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> entry
+         : internalGetTableToTarget().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+      tableToTarget = TableToTargetDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, tableToTarget);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest other = (com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest) obj;
+
+    boolean result = true;
+    result = result && internalGetTableToTarget().equals(
+        other.internalGetTableToTarget());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (!internalGetTableToTarget().getMap().isEmpty()) {
+      hash = (37 * hash) + TABLETOTARGET_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetTableToTarget().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CommitDataLoadRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CommitDataLoadRequest)
+      com.alibaba.maxgraph.proto.groot.CommitDataLoadRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_CommitDataLoadRequest_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetTableToTarget();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMutableTableToTarget();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_CommitDataLoadRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest.class, com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      internalGetMutableTableToTarget().clear();
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_CommitDataLoadRequest_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest build() {
+      com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest result = new com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest(this);
+      int from_bitField0_ = bitField0_;
+      result.tableToTarget_ = internalGetTableToTarget();
+      result.tableToTarget_.makeImmutable();
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest.getDefaultInstance()) return this;
+      internalGetMutableTableToTarget().mergeFrom(
+          other.internalGetTableToTarget());
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.MapField<
+        java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> tableToTarget_;
+    private com.google.protobuf.MapField<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+    internalGetTableToTarget() {
+      if (tableToTarget_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            TableToTargetDefaultEntryHolder.defaultEntry);
+      }
+      return tableToTarget_;
+    }
+    private com.google.protobuf.MapField<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+    internalGetMutableTableToTarget() {
+      onChanged();;
+      if (tableToTarget_ == null) {
+        tableToTarget_ = com.google.protobuf.MapField.newMapField(
+            TableToTargetDefaultEntryHolder.defaultEntry);
+      }
+      if (!tableToTarget_.isMutable()) {
+        tableToTarget_ = tableToTarget_.copy();
+      }
+      return tableToTarget_;
+    }
+
+    public int getTableToTargetCount() {
+      return internalGetTableToTarget().getMap().size();
+    }
+    /**
+     * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+     */
+
+    public boolean containsTableToTarget(
+        long key) {
+      
+      return internalGetTableToTarget().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getTableToTargetMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> getTableToTarget() {
+      return getTableToTargetMap();
+    }
+    /**
+     * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+     */
+
+    public java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> getTableToTargetMap() {
+      return internalGetTableToTarget().getMap();
+    }
+    /**
+     * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+     */
+
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb getTableToTargetOrDefault(
+        long key,
+        com.alibaba.maxgraph.proto.DataLoadTargetPb defaultValue) {
+      
+      java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> map =
+          internalGetTableToTarget().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+     */
+
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb getTableToTargetOrThrow(
+        long key) {
+      
+      java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> map =
+          internalGetTableToTarget().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearTableToTarget() {
+      getMutableTableToTarget().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+     */
+
+    public Builder removeTableToTarget(
+        long key) {
+      
+      getMutableTableToTarget().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+    getMutableTableToTarget() {
+      return internalGetMutableTableToTarget().getMutableMap();
+    }
+    /**
+     * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+     */
+    public Builder putTableToTarget(
+        long key,
+        com.alibaba.maxgraph.proto.DataLoadTargetPb value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      getMutableTableToTarget().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+     */
+
+    public Builder putAllTableToTarget(
+        java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb> values) {
+      getMutableTableToTarget().putAll(values);
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CommitDataLoadRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:CommitDataLoadRequest)
+  private static final com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CommitDataLoadRequest>
+      PARSER = new com.google.protobuf.AbstractParser<CommitDataLoadRequest>() {
+    public CommitDataLoadRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CommitDataLoadRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CommitDataLoadRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CommitDataLoadRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.CommitDataLoadRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CommitDataLoadRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CommitDataLoadRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+  int getTableToTargetCount();
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+  boolean containsTableToTarget(
+      long key);
+  /**
+   * Use {@link #getTableToTargetMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+  getTableToTarget();
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+  java.util.Map<java.lang.Long, com.alibaba.maxgraph.proto.DataLoadTargetPb>
+  getTableToTargetMap();
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.DataLoadTargetPb getTableToTargetOrDefault(
+      long key,
+      com.alibaba.maxgraph.proto.DataLoadTargetPb defaultValue);
+  /**
+   * <code>map&lt;int64, .DataLoadTargetPb&gt; tableToTarget = 1;</code>
+   */
+
+  com.alibaba.maxgraph.proto.DataLoadTargetPb getTableToTargetOrThrow(
+      long key);
+}
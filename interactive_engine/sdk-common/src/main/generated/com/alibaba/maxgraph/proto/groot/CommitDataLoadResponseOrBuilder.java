@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CommitDataLoadResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CommitDataLoadResponse)
+    com.google.protobuf.MessageOrBuilder {
+}
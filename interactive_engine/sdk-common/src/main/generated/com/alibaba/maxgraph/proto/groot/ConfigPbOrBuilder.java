@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface ConfigPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:ConfigPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>map&lt;string, string&gt; configs = 1;</code>
+   */
+  int getConfigsCount();
+  /**
+   * <code>map&lt;string, string&gt; configs = 1;</code>
+   */
+  boolean containsConfigs(
+      java.lang.String key);
+  /**
+   * Use {@link #getConfigsMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getConfigs();
+  /**
+   * <code>map&lt;string, string&gt; configs = 1;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getConfigsMap();
+  /**
+   * <code>map&lt;string, string&gt; configs = 1;</code>
+   */
+
+  java.lang.String getConfigsOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; configs = 1;</code>
+   */
+
+  java.lang.String getConfigsOrThrow(
+      java.lang.String key);
+}
@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CreateNewBackupRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CreateNewBackupRequest)
+    com.google.protobuf.MessageOrBuilder {
+}
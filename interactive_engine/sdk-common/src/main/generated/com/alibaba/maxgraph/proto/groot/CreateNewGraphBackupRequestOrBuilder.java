@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CreateNewGraphBackupRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CreateNewGraphBackupRequest)
+    com.google.protobuf.MessageOrBuilder {
+}
@@ -0,0 +1,607 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code CreateVertexTypePb}
+ */
+public  final class CreateVertexTypePb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CreateVertexTypePb)
+    CreateVertexTypePbOrBuilder {
+  // Use CreateVertexTypePb.newBuilder() to construct.
+  private CreateVertexTypePb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CreateVertexTypePb() {
+    tableIdx_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private CreateVertexTypePb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder subBuilder = null;
+            if (typeDef_ != null) {
+              subBuilder = typeDef_.toBuilder();
+            }
+            typeDef_ = input.readMessage(com.alibaba.maxgraph.proto.groot.TypeDefPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(typeDef_);
+              typeDef_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            tableIdx_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_CreateVertexTypePb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_CreateVertexTypePb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.CreateVertexTypePb.class, com.alibaba.maxgraph.proto.groot.CreateVertexTypePb.Builder.class);
+  }
+
+  public static final int TYPEDEF_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.TypeDefPb typeDef_;
+  /**
+   * <code>optional .TypeDefPb typeDef = 1;</code>
+   */
+  public boolean hasTypeDef() {
+    return typeDef_ != null;
+  }
+  /**
+   * <code>optional .TypeDefPb typeDef = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.TypeDefPb getTypeDef() {
+    return typeDef_ == null ? com.alibaba.maxgraph.proto.groot.TypeDefPb.getDefaultInstance() : typeDef_;
+  }
+  /**
+   * <code>optional .TypeDefPb typeDef = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder getTypeDefOrBuilder() {
+    return getTypeDef();
+  }
+
+  public static final int TABLEIDX_FIELD_NUMBER = 2;
+  private long tableIdx_;
+  /**
+   * <code>optional int64 tableIdx = 2;</code>
+   */
+  public long getTableIdx() {
+    return tableIdx_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (typeDef_ != null) {
+      output.writeMessage(1, getTypeDef());
+    }
+    if (tableIdx_ != 0L) {
+      output.writeInt64(2, tableIdx_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (typeDef_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getTypeDef());
+    }
+    if (tableIdx_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, tableIdx_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.CreateVertexTypePb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.CreateVertexTypePb other = (com.alibaba.maxgraph.proto.groot.CreateVertexTypePb) obj;
+
+    boolean result = true;
+    result = result && (hasTypeDef() == other.hasTypeDef());
+    if (hasTypeDef()) {
+      result = result && getTypeDef()
+          .equals(other.getTypeDef());
+    }
+    result = result && (getTableIdx()
+        == other.getTableIdx());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasTypeDef()) {
+      hash = (37 * hash) + TYPEDEF_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeDef().hashCode();
+    }
+    hash = (37 * hash) + TABLEIDX_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTableIdx());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.CreateVertexTypePb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CreateVertexTypePb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CreateVertexTypePb)
+      com.alibaba.maxgraph.proto.groot.CreateVertexTypePbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_CreateVertexTypePb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_CreateVertexTypePb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.CreateVertexTypePb.class, com.alibaba.maxgraph.proto.groot.CreateVertexTypePb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.CreateVertexTypePb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (typeDefBuilder_ == null) {
+        typeDef_ = null;
+      } else {
+        typeDef_ = null;
+        typeDefBuilder_ = null;
+      }
+      tableIdx_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_CreateVertexTypePb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.CreateVertexTypePb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.CreateVertexTypePb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.CreateVertexTypePb build() {
+      com.alibaba.maxgraph.proto.groot.CreateVertexTypePb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.CreateVertexTypePb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.CreateVertexTypePb result = new com.alibaba.maxgraph.proto.groot.CreateVertexTypePb(this);
+      if (typeDefBuilder_ == null) {
+        result.typeDef_ = typeDef_;
+      } else {
+        result.typeDef_ = typeDefBuilder_.build();
+      }
+      result.tableIdx_ = tableIdx_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.CreateVertexTypePb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.CreateVertexTypePb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.CreateVertexTypePb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.CreateVertexTypePb.getDefaultInstance()) return this;
+      if (other.hasTypeDef()) {
+        mergeTypeDef(other.getTypeDef());
+      }
+      if (other.getTableIdx() != 0L) {
+        setTableIdx(other.getTableIdx());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.CreateVertexTypePb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.CreateVertexTypePb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.TypeDefPb typeDef_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.TypeDefPb, com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder, com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder> typeDefBuilder_;
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    public boolean hasTypeDef() {
+      return typeDefBuilder_ != null || typeDef_ != null;
+    }
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.TypeDefPb getTypeDef() {
+      if (typeDefBuilder_ == null) {
+        return typeDef_ == null ? com.alibaba.maxgraph.proto.groot.TypeDefPb.getDefaultInstance() : typeDef_;
+      } else {
+        return typeDefBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    public Builder setTypeDef(com.alibaba.maxgraph.proto.groot.TypeDefPb value) {
+      if (typeDefBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        typeDef_ = value;
+        onChanged();
+      } else {
+        typeDefBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    public Builder setTypeDef(
+        com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder builderForValue) {
+      if (typeDefBuilder_ == null) {
+        typeDef_ = builderForValue.build();
+        onChanged();
+      } else {
+        typeDefBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    public Builder mergeTypeDef(com.alibaba.maxgraph.proto.groot.TypeDefPb value) {
+      if (typeDefBuilder_ == null) {
+        if (typeDef_ != null) {
+          typeDef_ =
+            com.alibaba.maxgraph.proto.groot.TypeDefPb.newBuilder(typeDef_).mergeFrom(value).buildPartial();
+        } else {
+          typeDef_ = value;
+        }
+        onChanged();
+      } else {
+        typeDefBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    public Builder clearTypeDef() {
+      if (typeDefBuilder_ == null) {
+        typeDef_ = null;
+        onChanged();
+      } else {
+        typeDef_ = null;
+        typeDefBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder getTypeDefBuilder() {
+      
+      onChanged();
+      return getTypeDefFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder getTypeDefOrBuilder() {
+      if (typeDefBuilder_ != null) {
+        return typeDefBuilder_.getMessageOrBuilder();
+      } else {
+        return typeDef_ == null ?
+            com.alibaba.maxgraph.proto.groot.TypeDefPb.getDefaultInstance() : typeDef_;
+      }
+    }
+    /**
+     * <code>optional .TypeDefPb typeDef = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.TypeDefPb, com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder, com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder> 
+        getTypeDefFieldBuilder() {
+      if (typeDefBuilder_ == null) {
+        typeDefBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.TypeDefPb, com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder, com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder>(
+                getTypeDef(),
+                getParentForChildren(),
+                isClean());
+        typeDef_ = null;
+      }
+      return typeDefBuilder_;
+    }
+
+    private long tableIdx_ ;
+    /**
+     * <code>optional int64 tableIdx = 2;</code>
+     */
+    public long getTableIdx() {
+      return tableIdx_;
+    }
+    /**
+     * <code>optional int64 tableIdx = 2;</code>
+     */
+    public Builder setTableIdx(long value) {
+      
+      tableIdx_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 tableIdx = 2;</code>
+     */
+    public Builder clearTableIdx() {
+      
+      tableIdx_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CreateVertexTypePb)
+  }
+
+  // @@protoc_insertion_point(class_scope:CreateVertexTypePb)
+  private static final com.alibaba.maxgraph.proto.groot.CreateVertexTypePb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.CreateVertexTypePb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.CreateVertexTypePb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CreateVertexTypePb>
+      PARSER = new com.google.protobuf.AbstractParser<CreateVertexTypePb>() {
+    public CreateVertexTypePb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CreateVertexTypePb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CreateVertexTypePb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CreateVertexTypePb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.CreateVertexTypePb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
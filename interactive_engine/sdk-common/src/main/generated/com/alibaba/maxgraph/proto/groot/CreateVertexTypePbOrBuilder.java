@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface CreateVertexTypePbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CreateVertexTypePb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .TypeDefPb typeDef = 1;</code>
+   */
+  boolean hasTypeDef();
+  /**
+   * <code>optional .TypeDefPb typeDef = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.TypeDefPb getTypeDef();
+  /**
+   * <code>optional .TypeDefPb typeDef = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder getTypeDefOrBuilder();
+
+  /**
+   * <code>optional int64 tableIdx = 2;</code>
+   */
+  long getTableIdx();
+}
@@ -0,0 +1,796 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code DataOperationPb}
+ */
+public  final class DataOperationPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:DataOperationPb)
+    DataOperationPbOrBuilder {
+  // Use DataOperationPb.newBuilder() to construct.
+  private DataOperationPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DataOperationPb() {
+    keyBlob_ = com.google.protobuf.ByteString.EMPTY;
+    locationBlob_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private DataOperationPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+
+            keyBlob_ = input.readBytes();
+            break;
+          }
+          case 18: {
+
+            locationBlob_ = input.readBytes();
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+              props_ = com.google.protobuf.MapField.newMapField(
+                  PropsDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000004;
+            }
+            com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+            props = input.readMessage(
+                PropsDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            props_.getMutableMap().put(props.getKey(), props.getValue());
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_DataOperationPb_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 3:
+        return internalGetProps();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_DataOperationPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.DataOperationPb.class, com.alibaba.maxgraph.proto.groot.DataOperationPb.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int KEYBLOB_FIELD_NUMBER = 1;
+  private com.google.protobuf.ByteString keyBlob_;
+  /**
+   * <pre>
+   * One of [VertexIdPb, EdgeIdPb]
+   * </pre>
+   *
+   * <code>optional bytes keyBlob = 1;</code>
+   */
+  public com.google.protobuf.ByteString getKeyBlob() {
+    return keyBlob_;
+  }
+
+  public static final int LOCATIONBLOB_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString locationBlob_;
+  /**
+   * <pre>
+   * One of [LabelIdPb, EdgeLocation]
+   * </pre>
+   *
+   * <code>optional bytes locationBlob = 2;</code>
+   */
+  public com.google.protobuf.ByteString getLocationBlob() {
+    return locationBlob_;
+  }
+
+  public static final int PROPS_FIELD_NUMBER = 3;
+  private static final class PropsDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.Model.internal_static_DataOperationPb_PropsEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.alibaba.maxgraph.proto.groot.PropertyValuePb.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> props_;
+  private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+  internalGetProps() {
+    if (props_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PropsDefaultEntryHolder.defaultEntry);
+    }
+    return props_;
+  }
+
+  public int getPropsCount() {
+    return internalGetProps().getMap().size();
+  }
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+
+  public boolean containsProps(
+      int key) {
+    
+    return internalGetProps().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPropsMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> getProps() {
+    return getPropsMap();
+  }
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+
+  public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> getPropsMap() {
+    return internalGetProps().getMap();
+  }
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+
+  public com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropsOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.groot.PropertyValuePb defaultValue) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> map =
+        internalGetProps().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+
+  public com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropsOrThrow(
+      int key) {
+    
+    java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> map =
+        internalGetProps().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!keyBlob_.isEmpty()) {
+      output.writeBytes(1, keyBlob_);
+    }
+    if (!locationBlob_.isEmpty()) {
+      output.writeBytes(2, locationBlob_);
+    }
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> entry
+         : internalGetProps().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+      props = PropsDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(3, props);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!keyBlob_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(1, keyBlob_);
+    }
+    if (!locationBlob_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, locationBlob_);
+    }
+    for (java.util.Map.Entry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> entry
+         : internalGetProps().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+      props = PropsDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, props);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.DataOperationPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.DataOperationPb other = (com.alibaba.maxgraph.proto.groot.DataOperationPb) obj;
+
+    boolean result = true;
+    result = result && getKeyBlob()
+        .equals(other.getKeyBlob());
+    result = result && getLocationBlob()
+        .equals(other.getLocationBlob());
+    result = result && internalGetProps().equals(
+        other.internalGetProps());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + KEYBLOB_FIELD_NUMBER;
+    hash = (53 * hash) + getKeyBlob().hashCode();
+    hash = (37 * hash) + LOCATIONBLOB_FIELD_NUMBER;
+    hash = (53 * hash) + getLocationBlob().hashCode();
+    if (!internalGetProps().getMap().isEmpty()) {
+      hash = (37 * hash) + PROPS_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetProps().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.DataOperationPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code DataOperationPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:DataOperationPb)
+      com.alibaba.maxgraph.proto.groot.DataOperationPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DataOperationPb_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 3:
+          return internalGetProps();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 3:
+          return internalGetMutableProps();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DataOperationPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.DataOperationPb.class, com.alibaba.maxgraph.proto.groot.DataOperationPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.DataOperationPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      keyBlob_ = com.google.protobuf.ByteString.EMPTY;
+
+      locationBlob_ = com.google.protobuf.ByteString.EMPTY;
+
+      internalGetMutableProps().clear();
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DataOperationPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DataOperationPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.DataOperationPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DataOperationPb build() {
+      com.alibaba.maxgraph.proto.groot.DataOperationPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DataOperationPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.DataOperationPb result = new com.alibaba.maxgraph.proto.groot.DataOperationPb(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.keyBlob_ = keyBlob_;
+      result.locationBlob_ = locationBlob_;
+      result.props_ = internalGetProps();
+      result.props_.makeImmutable();
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.DataOperationPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.DataOperationPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.DataOperationPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.DataOperationPb.getDefaultInstance()) return this;
+      if (other.getKeyBlob() != com.google.protobuf.ByteString.EMPTY) {
+        setKeyBlob(other.getKeyBlob());
+      }
+      if (other.getLocationBlob() != com.google.protobuf.ByteString.EMPTY) {
+        setLocationBlob(other.getLocationBlob());
+      }
+      internalGetMutableProps().mergeFrom(
+          other.internalGetProps());
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.DataOperationPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.DataOperationPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.ByteString keyBlob_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * One of [VertexIdPb, EdgeIdPb]
+     * </pre>
+     *
+     * <code>optional bytes keyBlob = 1;</code>
+     */
+    public com.google.protobuf.ByteString getKeyBlob() {
+      return keyBlob_;
+    }
+    /**
+     * <pre>
+     * One of [VertexIdPb, EdgeIdPb]
+     * </pre>
+     *
+     * <code>optional bytes keyBlob = 1;</code>
+     */
+    public Builder setKeyBlob(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      keyBlob_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * One of [VertexIdPb, EdgeIdPb]
+     * </pre>
+     *
+     * <code>optional bytes keyBlob = 1;</code>
+     */
+    public Builder clearKeyBlob() {
+      
+      keyBlob_ = getDefaultInstance().getKeyBlob();
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString locationBlob_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * One of [LabelIdPb, EdgeLocation]
+     * </pre>
+     *
+     * <code>optional bytes locationBlob = 2;</code>
+     */
+    public com.google.protobuf.ByteString getLocationBlob() {
+      return locationBlob_;
+    }
+    /**
+     * <pre>
+     * One of [LabelIdPb, EdgeLocation]
+     * </pre>
+     *
+     * <code>optional bytes locationBlob = 2;</code>
+     */
+    public Builder setLocationBlob(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      locationBlob_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * One of [LabelIdPb, EdgeLocation]
+     * </pre>
+     *
+     * <code>optional bytes locationBlob = 2;</code>
+     */
+    public Builder clearLocationBlob() {
+      
+      locationBlob_ = getDefaultInstance().getLocationBlob();
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> props_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+    internalGetProps() {
+      if (props_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PropsDefaultEntryHolder.defaultEntry);
+      }
+      return props_;
+    }
+    private com.google.protobuf.MapField<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+    internalGetMutableProps() {
+      onChanged();;
+      if (props_ == null) {
+        props_ = com.google.protobuf.MapField.newMapField(
+            PropsDefaultEntryHolder.defaultEntry);
+      }
+      if (!props_.isMutable()) {
+        props_ = props_.copy();
+      }
+      return props_;
+    }
+
+    public int getPropsCount() {
+      return internalGetProps().getMap().size();
+    }
+    /**
+     * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+     */
+
+    public boolean containsProps(
+        int key) {
+      
+      return internalGetProps().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPropsMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> getProps() {
+      return getPropsMap();
+    }
+    /**
+     * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+     */
+
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> getPropsMap() {
+      return internalGetProps().getMap();
+    }
+    /**
+     * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+     */
+
+    public com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropsOrDefault(
+        int key,
+        com.alibaba.maxgraph.proto.groot.PropertyValuePb defaultValue) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> map =
+          internalGetProps().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+     */
+
+    public com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropsOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> map =
+          internalGetProps().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearProps() {
+      getMutableProps().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+     */
+
+    public Builder removeProps(
+        int key) {
+      
+      getMutableProps().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+    getMutableProps() {
+      return internalGetMutableProps().getMutableMap();
+    }
+    /**
+     * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+     */
+    public Builder putProps(
+        int key,
+        com.alibaba.maxgraph.proto.groot.PropertyValuePb value) {
+      
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      getMutableProps().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+     */
+
+    public Builder putAllProps(
+        java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb> values) {
+      getMutableProps().putAll(values);
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:DataOperationPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:DataOperationPb)
+  private static final com.alibaba.maxgraph.proto.groot.DataOperationPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.DataOperationPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.DataOperationPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DataOperationPb>
+      PARSER = new com.google.protobuf.AbstractParser<DataOperationPb>() {
+    public DataOperationPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DataOperationPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DataOperationPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DataOperationPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.DataOperationPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
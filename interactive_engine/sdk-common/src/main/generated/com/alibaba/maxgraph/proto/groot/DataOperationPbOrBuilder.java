@@ -0,0 +1,61 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface DataOperationPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DataOperationPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * One of [VertexIdPb, EdgeIdPb]
+   * </pre>
+   *
+   * <code>optional bytes keyBlob = 1;</code>
+   */
+  com.google.protobuf.ByteString getKeyBlob();
+
+  /**
+   * <pre>
+   * One of [LabelIdPb, EdgeLocation]
+   * </pre>
+   *
+   * <code>optional bytes locationBlob = 2;</code>
+   */
+  com.google.protobuf.ByteString getLocationBlob();
+
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+  int getPropsCount();
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+  boolean containsProps(
+      int key);
+  /**
+   * Use {@link #getPropsMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+  getProps();
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+  java.util.Map<java.lang.Integer, com.alibaba.maxgraph.proto.groot.PropertyValuePb>
+  getPropsMap();
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+
+  com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropsOrDefault(
+      int key,
+      com.alibaba.maxgraph.proto.groot.PropertyValuePb defaultValue);
+  /**
+   * <code>map&lt;int32, .PropertyValuePb&gt; props = 3;</code>
+   */
+
+  com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropsOrThrow(
+      int key);
+}
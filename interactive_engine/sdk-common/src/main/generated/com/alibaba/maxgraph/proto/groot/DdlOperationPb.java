@@ -0,0 +1,487 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code DdlOperationPb}
+ */
+public  final class DdlOperationPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:DdlOperationPb)
+    DdlOperationPbOrBuilder {
+  // Use DdlOperationPb.newBuilder() to construct.
+  private DdlOperationPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DdlOperationPb() {
+    schemaVersion_ = 0L;
+    ddlBlob_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private DdlOperationPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            schemaVersion_ = input.readInt64();
+            break;
+          }
+          case 18: {
+
+            ddlBlob_ = input.readBytes();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlOperationPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlOperationPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.DdlOperationPb.class, com.alibaba.maxgraph.proto.groot.DdlOperationPb.Builder.class);
+  }
+
+  public static final int SCHEMAVERSION_FIELD_NUMBER = 1;
+  private long schemaVersion_;
+  /**
+   * <code>optional int64 schemaVersion = 1;</code>
+   */
+  public long getSchemaVersion() {
+    return schemaVersion_;
+  }
+
+  public static final int DDLBLOB_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString ddlBlob_;
+  /**
+   * <code>optional bytes ddlBlob = 2;</code>
+   */
+  public com.google.protobuf.ByteString getDdlBlob() {
+    return ddlBlob_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (schemaVersion_ != 0L) {
+      output.writeInt64(1, schemaVersion_);
+    }
+    if (!ddlBlob_.isEmpty()) {
+      output.writeBytes(2, ddlBlob_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (schemaVersion_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, schemaVersion_);
+    }
+    if (!ddlBlob_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, ddlBlob_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.DdlOperationPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.DdlOperationPb other = (com.alibaba.maxgraph.proto.groot.DdlOperationPb) obj;
+
+    boolean result = true;
+    result = result && (getSchemaVersion()
+        == other.getSchemaVersion());
+    result = result && getDdlBlob()
+        .equals(other.getDdlBlob());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + SCHEMAVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSchemaVersion());
+    hash = (37 * hash) + DDLBLOB_FIELD_NUMBER;
+    hash = (53 * hash) + getDdlBlob().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.DdlOperationPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code DdlOperationPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:DdlOperationPb)
+      com.alibaba.maxgraph.proto.groot.DdlOperationPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlOperationPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlOperationPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.DdlOperationPb.class, com.alibaba.maxgraph.proto.groot.DdlOperationPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.DdlOperationPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      schemaVersion_ = 0L;
+
+      ddlBlob_ = com.google.protobuf.ByteString.EMPTY;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlOperationPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DdlOperationPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.DdlOperationPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DdlOperationPb build() {
+      com.alibaba.maxgraph.proto.groot.DdlOperationPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DdlOperationPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.DdlOperationPb result = new com.alibaba.maxgraph.proto.groot.DdlOperationPb(this);
+      result.schemaVersion_ = schemaVersion_;
+      result.ddlBlob_ = ddlBlob_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.DdlOperationPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.DdlOperationPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.DdlOperationPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.DdlOperationPb.getDefaultInstance()) return this;
+      if (other.getSchemaVersion() != 0L) {
+        setSchemaVersion(other.getSchemaVersion());
+      }
+      if (other.getDdlBlob() != com.google.protobuf.ByteString.EMPTY) {
+        setDdlBlob(other.getDdlBlob());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.DdlOperationPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.DdlOperationPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long schemaVersion_ ;
+    /**
+     * <code>optional int64 schemaVersion = 1;</code>
+     */
+    public long getSchemaVersion() {
+      return schemaVersion_;
+    }
+    /**
+     * <code>optional int64 schemaVersion = 1;</code>
+     */
+    public Builder setSchemaVersion(long value) {
+      
+      schemaVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 schemaVersion = 1;</code>
+     */
+    public Builder clearSchemaVersion() {
+      
+      schemaVersion_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString ddlBlob_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes ddlBlob = 2;</code>
+     */
+    public com.google.protobuf.ByteString getDdlBlob() {
+      return ddlBlob_;
+    }
+    /**
+     * <code>optional bytes ddlBlob = 2;</code>
+     */
+    public Builder setDdlBlob(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      ddlBlob_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bytes ddlBlob = 2;</code>
+     */
+    public Builder clearDdlBlob() {
+      
+      ddlBlob_ = getDefaultInstance().getDdlBlob();
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:DdlOperationPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:DdlOperationPb)
+  private static final com.alibaba.maxgraph.proto.groot.DdlOperationPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.DdlOperationPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.DdlOperationPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DdlOperationPb>
+      PARSER = new com.google.protobuf.AbstractParser<DdlOperationPb>() {
+    public DdlOperationPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DdlOperationPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DdlOperationPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DdlOperationPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.DdlOperationPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
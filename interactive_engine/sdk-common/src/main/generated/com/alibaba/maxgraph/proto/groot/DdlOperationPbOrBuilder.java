@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface DdlOperationPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DdlOperationPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 schemaVersion = 1;</code>
+   */
+  long getSchemaVersion();
+
+  /**
+   * <code>optional bytes ddlBlob = 2;</code>
+   */
+  com.google.protobuf.ByteString getDdlBlob();
+}
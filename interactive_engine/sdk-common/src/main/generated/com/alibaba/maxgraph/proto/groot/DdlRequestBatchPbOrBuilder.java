@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface DdlRequestBatchPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DdlRequestBatchPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.DdlRequestPb> 
+      getDdlRequestsList();
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.DdlRequestPb getDdlRequests(int index);
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  int getDdlRequestsCount();
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder> 
+      getDdlRequestsOrBuilderList();
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder getDdlRequestsOrBuilder(
+      int index);
+}
@@ -0,0 +1,511 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code DdlRequestPb}
+ */
+public  final class DdlRequestPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:DdlRequestPb)
+    DdlRequestPbOrBuilder {
+  // Use DdlRequestPb.newBuilder() to construct.
+  private DdlRequestPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DdlRequestPb() {
+    opType_ = 0;
+    ddlBytes_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private DdlRequestPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            int rawValue = input.readEnum();
+
+            opType_ = rawValue;
+            break;
+          }
+          case 18: {
+
+            ddlBytes_ = input.readBytes();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlRequestPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlRequestPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.DdlRequestPb.class, com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder.class);
+  }
+
+  public static final int OPTYPE_FIELD_NUMBER = 1;
+  private int opType_;
+  /**
+   * <code>optional .OpTypePb opType = 1;</code>
+   */
+  public int getOpTypeValue() {
+    return opType_;
+  }
+  /**
+   * <code>optional .OpTypePb opType = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.OpTypePb getOpType() {
+    com.alibaba.maxgraph.proto.groot.OpTypePb result = com.alibaba.maxgraph.proto.groot.OpTypePb.valueOf(opType_);
+    return result == null ? com.alibaba.maxgraph.proto.groot.OpTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int DDLBYTES_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString ddlBytes_;
+  /**
+   * <code>optional bytes ddlBytes = 2;</code>
+   */
+  public com.google.protobuf.ByteString getDdlBytes() {
+    return ddlBytes_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (opType_ != com.alibaba.maxgraph.proto.groot.OpTypePb.MARKER.getNumber()) {
+      output.writeEnum(1, opType_);
+    }
+    if (!ddlBytes_.isEmpty()) {
+      output.writeBytes(2, ddlBytes_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (opType_ != com.alibaba.maxgraph.proto.groot.OpTypePb.MARKER.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, opType_);
+    }
+    if (!ddlBytes_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, ddlBytes_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.DdlRequestPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.DdlRequestPb other = (com.alibaba.maxgraph.proto.groot.DdlRequestPb) obj;
+
+    boolean result = true;
+    result = result && opType_ == other.opType_;
+    result = result && getDdlBytes()
+        .equals(other.getDdlBytes());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + OPTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + opType_;
+    hash = (37 * hash) + DDLBYTES_FIELD_NUMBER;
+    hash = (53 * hash) + getDdlBytes().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.DdlRequestPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code DdlRequestPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:DdlRequestPb)
+      com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlRequestPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlRequestPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.DdlRequestPb.class, com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.DdlRequestPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      opType_ = 0;
+
+      ddlBytes_ = com.google.protobuf.ByteString.EMPTY;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_DdlRequestPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DdlRequestPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.DdlRequestPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DdlRequestPb build() {
+      com.alibaba.maxgraph.proto.groot.DdlRequestPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.DdlRequestPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.DdlRequestPb result = new com.alibaba.maxgraph.proto.groot.DdlRequestPb(this);
+      result.opType_ = opType_;
+      result.ddlBytes_ = ddlBytes_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.DdlRequestPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.DdlRequestPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.DdlRequestPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.DdlRequestPb.getDefaultInstance()) return this;
+      if (other.opType_ != 0) {
+        setOpTypeValue(other.getOpTypeValue());
+      }
+      if (other.getDdlBytes() != com.google.protobuf.ByteString.EMPTY) {
+        setDdlBytes(other.getDdlBytes());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.DdlRequestPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.DdlRequestPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int opType_ = 0;
+    /**
+     * <code>optional .OpTypePb opType = 1;</code>
+     */
+    public int getOpTypeValue() {
+      return opType_;
+    }
+    /**
+     * <code>optional .OpTypePb opType = 1;</code>
+     */
+    public Builder setOpTypeValue(int value) {
+      opType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .OpTypePb opType = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OpTypePb getOpType() {
+      com.alibaba.maxgraph.proto.groot.OpTypePb result = com.alibaba.maxgraph.proto.groot.OpTypePb.valueOf(opType_);
+      return result == null ? com.alibaba.maxgraph.proto.groot.OpTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .OpTypePb opType = 1;</code>
+     */
+    public Builder setOpType(com.alibaba.maxgraph.proto.groot.OpTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      opType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .OpTypePb opType = 1;</code>
+     */
+    public Builder clearOpType() {
+      
+      opType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString ddlBytes_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes ddlBytes = 2;</code>
+     */
+    public com.google.protobuf.ByteString getDdlBytes() {
+      return ddlBytes_;
+    }
+    /**
+     * <code>optional bytes ddlBytes = 2;</code>
+     */
+    public Builder setDdlBytes(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      ddlBytes_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bytes ddlBytes = 2;</code>
+     */
+    public Builder clearDdlBytes() {
+      
+      ddlBytes_ = getDefaultInstance().getDdlBytes();
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:DdlRequestPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:DdlRequestPb)
+  private static final com.alibaba.maxgraph.proto.groot.DdlRequestPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.DdlRequestPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.DdlRequestPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DdlRequestPb>
+      PARSER = new com.google.protobuf.AbstractParser<DdlRequestPb>() {
+    public DdlRequestPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DdlRequestPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DdlRequestPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DdlRequestPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.DdlRequestPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,23 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface DdlRequestPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:DdlRequestPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .OpTypePb opType = 1;</code>
+   */
+  int getOpTypeValue();
+  /**
+   * <code>optional .OpTypePb opType = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.OpTypePb getOpType();
+
+  /**
+   * <code>optional bytes ddlBytes = 2;</code>
+   */
+  com.google.protobuf.ByteString getDdlBytes();
+}
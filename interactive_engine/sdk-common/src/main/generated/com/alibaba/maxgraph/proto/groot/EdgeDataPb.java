@@ -0,0 +1,1509 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code EdgeDataPb}
+ */
+public  final class EdgeDataPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:EdgeDataPb)
+    EdgeDataPbOrBuilder {
+  // Use EdgeDataPb.newBuilder() to construct.
+  private EdgeDataPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private EdgeDataPb() {
+    label_ = "";
+    srcLabel_ = "";
+    dstLabel_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private EdgeDataPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            label_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            srcLabel_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            dstLabel_ = s;
+            break;
+          }
+          case 34: {
+            if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+              srcPk_ = com.google.protobuf.MapField.newMapField(
+                  SrcPkDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000008;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+            srcPk = input.readMessage(
+                SrcPkDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            srcPk_.getMutableMap().put(srcPk.getKey(), srcPk.getValue());
+            break;
+          }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+              dstPk_ = com.google.protobuf.MapField.newMapField(
+                  DstPkDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000010;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+            dstPk = input.readMessage(
+                DstPkDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            dstPk_.getMutableMap().put(dstPk.getKey(), dstPk.getValue());
+            break;
+          }
+          case 50: {
+            if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+              properties_ = com.google.protobuf.MapField.newMapField(
+                  PropertiesDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000020;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+            properties = input.readMessage(
+                PropertiesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            properties_.getMutableMap().put(properties.getKey(), properties.getValue());
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_EdgeDataPb_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 4:
+        return internalGetSrcPk();
+      case 5:
+        return internalGetDstPk();
+      case 6:
+        return internalGetProperties();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_EdgeDataPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.EdgeDataPb.class, com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int LABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object label_;
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public java.lang.String getLabel() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      label_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLabelBytes() {
+    java.lang.Object ref = label_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      label_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SRCLABEL_FIELD_NUMBER = 2;
+  private volatile java.lang.Object srcLabel_;
+  /**
+   * <code>optional string srcLabel = 2;</code>
+   */
+  public java.lang.String getSrcLabel() {
+    java.lang.Object ref = srcLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      srcLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string srcLabel = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getSrcLabelBytes() {
+    java.lang.Object ref = srcLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      srcLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DSTLABEL_FIELD_NUMBER = 3;
+  private volatile java.lang.Object dstLabel_;
+  /**
+   * <code>optional string dstLabel = 3;</code>
+   */
+  public java.lang.String getDstLabel() {
+    java.lang.Object ref = dstLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      dstLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string dstLabel = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getDstLabelBytes() {
+    java.lang.Object ref = dstLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      dstLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SRCPK_FIELD_NUMBER = 4;
+  private static final class SrcPkDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.String>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_EdgeDataPb_SrcPkEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.String> srcPk_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+  internalGetSrcPk() {
+    if (srcPk_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          SrcPkDefaultEntryHolder.defaultEntry);
+    }
+    return srcPk_;
+  }
+
+  public int getSrcPkCount() {
+    return internalGetSrcPk().getMap().size();
+  }
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+
+  public boolean containsSrcPk(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetSrcPk().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getSrcPkMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.String> getSrcPk() {
+    return getSrcPkMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.String> getSrcPkMap() {
+    return internalGetSrcPk().getMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+
+  public java.lang.String getSrcPkOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetSrcPk().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+
+  public java.lang.String getSrcPkOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetSrcPk().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int DSTPK_FIELD_NUMBER = 5;
+  private static final class DstPkDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.String>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_EdgeDataPb_DstPkEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.String> dstPk_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+  internalGetDstPk() {
+    if (dstPk_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          DstPkDefaultEntryHolder.defaultEntry);
+    }
+    return dstPk_;
+  }
+
+  public int getDstPkCount() {
+    return internalGetDstPk().getMap().size();
+  }
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+
+  public boolean containsDstPk(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetDstPk().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getDstPkMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.String> getDstPk() {
+    return getDstPkMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.String> getDstPkMap() {
+    return internalGetDstPk().getMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+
+  public java.lang.String getDstPkOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetDstPk().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+
+  public java.lang.String getDstPkOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetDstPk().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int PROPERTIES_FIELD_NUMBER = 6;
+  private static final class PropertiesDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.String>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_EdgeDataPb_PropertiesEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.String> properties_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+  internalGetProperties() {
+    if (properties_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PropertiesDefaultEntryHolder.defaultEntry);
+    }
+    return properties_;
+  }
+
+  public int getPropertiesCount() {
+    return internalGetProperties().getMap().size();
+  }
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+
+  public boolean containsProperties(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetProperties().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPropertiesMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.String> getProperties() {
+    return getPropertiesMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.String> getPropertiesMap() {
+    return internalGetProperties().getMap();
+  }
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+
+  public java.lang.String getPropertiesOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetProperties().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+
+  public java.lang.String getPropertiesOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.String> map =
+        internalGetProperties().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, label_);
+    }
+    if (!getSrcLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, srcLabel_);
+    }
+    if (!getDstLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dstLabel_);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetSrcPk().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      srcPk = SrcPkDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(4, srcPk);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetDstPk().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      dstPk = DstPkDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(5, dstPk);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetProperties().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      properties = PropertiesDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(6, properties);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, label_);
+    }
+    if (!getSrcLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, srcLabel_);
+    }
+    if (!getDstLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dstLabel_);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetSrcPk().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      srcPk = SrcPkDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, srcPk);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetDstPk().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      dstPk = DstPkDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, dstPk);
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+         : internalGetProperties().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+      properties = PropertiesDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, properties);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.EdgeDataPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.EdgeDataPb other = (com.alibaba.maxgraph.proto.groot.EdgeDataPb) obj;
+
+    boolean result = true;
+    result = result && getLabel()
+        .equals(other.getLabel());
+    result = result && getSrcLabel()
+        .equals(other.getSrcLabel());
+    result = result && getDstLabel()
+        .equals(other.getDstLabel());
+    result = result && internalGetSrcPk().equals(
+        other.internalGetSrcPk());
+    result = result && internalGetDstPk().equals(
+        other.internalGetDstPk());
+    result = result && internalGetProperties().equals(
+        other.internalGetProperties());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getLabel().hashCode();
+    hash = (37 * hash) + SRCLABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getSrcLabel().hashCode();
+    hash = (37 * hash) + DSTLABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getDstLabel().hashCode();
+    if (!internalGetSrcPk().getMap().isEmpty()) {
+      hash = (37 * hash) + SRCPK_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetSrcPk().hashCode();
+    }
+    if (!internalGetDstPk().getMap().isEmpty()) {
+      hash = (37 * hash) + DSTPK_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetDstPk().hashCode();
+    }
+    if (!internalGetProperties().getMap().isEmpty()) {
+      hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetProperties().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.EdgeDataPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code EdgeDataPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:EdgeDataPb)
+      com.alibaba.maxgraph.proto.groot.EdgeDataPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_EdgeDataPb_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetSrcPk();
+        case 5:
+          return internalGetDstPk();
+        case 6:
+          return internalGetProperties();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetMutableSrcPk();
+        case 5:
+          return internalGetMutableDstPk();
+        case 6:
+          return internalGetMutableProperties();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_EdgeDataPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.EdgeDataPb.class, com.alibaba.maxgraph.proto.groot.EdgeDataPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.EdgeDataPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      label_ = "";
+
+      srcLabel_ = "";
+
+      dstLabel_ = "";
+
+      internalGetMutableSrcPk().clear();
+      internalGetMutableDstPk().clear();
+      internalGetMutableProperties().clear();
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_EdgeDataPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeDataPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.EdgeDataPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeDataPb build() {
+      com.alibaba.maxgraph.proto.groot.EdgeDataPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeDataPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.EdgeDataPb result = new com.alibaba.maxgraph.proto.groot.EdgeDataPb(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.label_ = label_;
+      result.srcLabel_ = srcLabel_;
+      result.dstLabel_ = dstLabel_;
+      result.srcPk_ = internalGetSrcPk();
+      result.srcPk_.makeImmutable();
+      result.dstPk_ = internalGetDstPk();
+      result.dstPk_.makeImmutable();
+      result.properties_ = internalGetProperties();
+      result.properties_.makeImmutable();
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.EdgeDataPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.EdgeDataPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.EdgeDataPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.EdgeDataPb.getDefaultInstance()) return this;
+      if (!other.getLabel().isEmpty()) {
+        label_ = other.label_;
+        onChanged();
+      }
+      if (!other.getSrcLabel().isEmpty()) {
+        srcLabel_ = other.srcLabel_;
+        onChanged();
+      }
+      if (!other.getDstLabel().isEmpty()) {
+        dstLabel_ = other.dstLabel_;
+        onChanged();
+      }
+      internalGetMutableSrcPk().mergeFrom(
+          other.internalGetSrcPk());
+      internalGetMutableDstPk().mergeFrom(
+          other.internalGetDstPk());
+      internalGetMutableProperties().mergeFrom(
+          other.internalGetProperties());
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.EdgeDataPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.EdgeDataPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        label_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      label_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder clearLabel() {
+      
+      label_ = getDefaultInstance().getLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string label = 1;</code>
+     */
+    public Builder setLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      label_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object srcLabel_ = "";
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public java.lang.String getSrcLabel() {
+      java.lang.Object ref = srcLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        srcLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSrcLabelBytes() {
+      java.lang.Object ref = srcLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        srcLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public Builder setSrcLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      srcLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public Builder clearSrcLabel() {
+      
+      srcLabel_ = getDefaultInstance().getSrcLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string srcLabel = 2;</code>
+     */
+    public Builder setSrcLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      srcLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object dstLabel_ = "";
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public java.lang.String getDstLabel() {
+      java.lang.Object ref = dstLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dstLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDstLabelBytes() {
+      java.lang.Object ref = dstLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dstLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public Builder setDstLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      dstLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public Builder clearDstLabel() {
+      
+      dstLabel_ = getDefaultInstance().getDstLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dstLabel = 3;</code>
+     */
+    public Builder setDstLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      dstLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> srcPk_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetSrcPk() {
+      if (srcPk_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            SrcPkDefaultEntryHolder.defaultEntry);
+      }
+      return srcPk_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMutableSrcPk() {
+      onChanged();;
+      if (srcPk_ == null) {
+        srcPk_ = com.google.protobuf.MapField.newMapField(
+            SrcPkDefaultEntryHolder.defaultEntry);
+      }
+      if (!srcPk_.isMutable()) {
+        srcPk_ = srcPk_.copy();
+      }
+      return srcPk_;
+    }
+
+    public int getSrcPkCount() {
+      return internalGetSrcPk().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; srcPk = 4;</code>
+     */
+
+    public boolean containsSrcPk(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetSrcPk().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getSrcPkMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getSrcPk() {
+      return getSrcPkMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; srcPk = 4;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getSrcPkMap() {
+      return internalGetSrcPk().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; srcPk = 4;</code>
+     */
+
+    public java.lang.String getSrcPkOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetSrcPk().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; srcPk = 4;</code>
+     */
+
+    public java.lang.String getSrcPkOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetSrcPk().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearSrcPk() {
+      getMutableSrcPk().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; srcPk = 4;</code>
+     */
+
+    public Builder removeSrcPk(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      getMutableSrcPk().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String>
+    getMutableSrcPk() {
+      return internalGetMutableSrcPk().getMutableMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; srcPk = 4;</code>
+     */
+    public Builder putSrcPk(
+        java.lang.String key,
+        java.lang.String value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      getMutableSrcPk().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; srcPk = 4;</code>
+     */
+
+    public Builder putAllSrcPk(
+        java.util.Map<java.lang.String, java.lang.String> values) {
+      getMutableSrcPk().putAll(values);
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> dstPk_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetDstPk() {
+      if (dstPk_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            DstPkDefaultEntryHolder.defaultEntry);
+      }
+      return dstPk_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMutableDstPk() {
+      onChanged();;
+      if (dstPk_ == null) {
+        dstPk_ = com.google.protobuf.MapField.newMapField(
+            DstPkDefaultEntryHolder.defaultEntry);
+      }
+      if (!dstPk_.isMutable()) {
+        dstPk_ = dstPk_.copy();
+      }
+      return dstPk_;
+    }
+
+    public int getDstPkCount() {
+      return internalGetDstPk().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; dstPk = 5;</code>
+     */
+
+    public boolean containsDstPk(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetDstPk().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getDstPkMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getDstPk() {
+      return getDstPkMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; dstPk = 5;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getDstPkMap() {
+      return internalGetDstPk().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; dstPk = 5;</code>
+     */
+
+    public java.lang.String getDstPkOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetDstPk().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; dstPk = 5;</code>
+     */
+
+    public java.lang.String getDstPkOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetDstPk().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearDstPk() {
+      getMutableDstPk().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; dstPk = 5;</code>
+     */
+
+    public Builder removeDstPk(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      getMutableDstPk().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String>
+    getMutableDstPk() {
+      return internalGetMutableDstPk().getMutableMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; dstPk = 5;</code>
+     */
+    public Builder putDstPk(
+        java.lang.String key,
+        java.lang.String value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      getMutableDstPk().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; dstPk = 5;</code>
+     */
+
+    public Builder putAllDstPk(
+        java.util.Map<java.lang.String, java.lang.String> values) {
+      getMutableDstPk().putAll(values);
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> properties_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetProperties() {
+      if (properties_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PropertiesDefaultEntryHolder.defaultEntry);
+      }
+      return properties_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMutableProperties() {
+      onChanged();;
+      if (properties_ == null) {
+        properties_ = com.google.protobuf.MapField.newMapField(
+            PropertiesDefaultEntryHolder.defaultEntry);
+      }
+      if (!properties_.isMutable()) {
+        properties_ = properties_.copy();
+      }
+      return properties_;
+    }
+
+    public int getPropertiesCount() {
+      return internalGetProperties().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 6;</code>
+     */
+
+    public boolean containsProperties(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetProperties().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPropertiesMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getProperties() {
+      return getPropertiesMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 6;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getPropertiesMap() {
+      return internalGetProperties().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 6;</code>
+     */
+
+    public java.lang.String getPropertiesOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetProperties().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 6;</code>
+     */
+
+    public java.lang.String getPropertiesOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetProperties().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearProperties() {
+      getMutableProperties().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 6;</code>
+     */
+
+    public Builder removeProperties(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      getMutableProperties().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String>
+    getMutableProperties() {
+      return internalGetMutableProperties().getMutableMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 6;</code>
+     */
+    public Builder putProperties(
+        java.lang.String key,
+        java.lang.String value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (value == null) { throw new java.lang.NullPointerException(); }
+      getMutableProperties().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;string, string&gt; properties = 6;</code>
+     */
+
+    public Builder putAllProperties(
+        java.util.Map<java.lang.String, java.lang.String> values) {
+      getMutableProperties().putAll(values);
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:EdgeDataPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:EdgeDataPb)
+  private static final com.alibaba.maxgraph.proto.groot.EdgeDataPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.EdgeDataPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeDataPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EdgeDataPb>
+      PARSER = new com.google.protobuf.AbstractParser<EdgeDataPb>() {
+    public EdgeDataPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeDataPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<EdgeDataPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EdgeDataPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.EdgeDataPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,141 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface EdgeDataPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:EdgeDataPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional string srcLabel = 2;</code>
+   */
+  java.lang.String getSrcLabel();
+  /**
+   * <code>optional string srcLabel = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getSrcLabelBytes();
+
+  /**
+   * <code>optional string dstLabel = 3;</code>
+   */
+  java.lang.String getDstLabel();
+  /**
+   * <code>optional string dstLabel = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getDstLabelBytes();
+
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+  int getSrcPkCount();
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+  boolean containsSrcPk(
+      java.lang.String key);
+  /**
+   * Use {@link #getSrcPkMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getSrcPk();
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getSrcPkMap();
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+
+  java.lang.String getSrcPkOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; srcPk = 4;</code>
+   */
+
+  java.lang.String getSrcPkOrThrow(
+      java.lang.String key);
+
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+  int getDstPkCount();
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+  boolean containsDstPk(
+      java.lang.String key);
+  /**
+   * Use {@link #getDstPkMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getDstPk();
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getDstPkMap();
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+
+  java.lang.String getDstPkOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; dstPk = 5;</code>
+   */
+
+  java.lang.String getDstPkOrThrow(
+      java.lang.String key);
+
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+  int getPropertiesCount();
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+  boolean containsProperties(
+      java.lang.String key);
+  /**
+   * Use {@link #getPropertiesMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getProperties();
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getPropertiesMap();
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+
+  java.lang.String getPropertiesOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; properties = 6;</code>
+   */
+
+  java.lang.String getPropertiesOrThrow(
+      java.lang.String key);
+}
@@ -0,0 +1,788 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code EdgeIdPb}
+ */
+public  final class EdgeIdPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:EdgeIdPb)
+    EdgeIdPbOrBuilder {
+  // Use EdgeIdPb.newBuilder() to construct.
+  private EdgeIdPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private EdgeIdPb() {
+    id_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private EdgeIdPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder subBuilder = null;
+            if (srcId_ != null) {
+              subBuilder = srcId_.toBuilder();
+            }
+            srcId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.VertexIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(srcId_);
+              srcId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder subBuilder = null;
+            if (dstId_ != null) {
+              subBuilder = dstId_.toBuilder();
+            }
+            dstId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.VertexIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(dstId_);
+              dstId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 24: {
+
+            id_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeIdPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeIdPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.EdgeIdPb.class, com.alibaba.maxgraph.proto.groot.EdgeIdPb.Builder.class);
+  }
+
+  public static final int SRCID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.VertexIdPb srcId_;
+  /**
+   * <code>optional .VertexIdPb srcId = 1;</code>
+   */
+  public boolean hasSrcId() {
+    return srcId_ != null;
+  }
+  /**
+   * <code>optional .VertexIdPb srcId = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.VertexIdPb getSrcId() {
+    return srcId_ == null ? com.alibaba.maxgraph.proto.groot.VertexIdPb.getDefaultInstance() : srcId_;
+  }
+  /**
+   * <code>optional .VertexIdPb srcId = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder getSrcIdOrBuilder() {
+    return getSrcId();
+  }
+
+  public static final int DSTID_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.groot.VertexIdPb dstId_;
+  /**
+   * <code>optional .VertexIdPb dstId = 2;</code>
+   */
+  public boolean hasDstId() {
+    return dstId_ != null;
+  }
+  /**
+   * <code>optional .VertexIdPb dstId = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.VertexIdPb getDstId() {
+    return dstId_ == null ? com.alibaba.maxgraph.proto.groot.VertexIdPb.getDefaultInstance() : dstId_;
+  }
+  /**
+   * <code>optional .VertexIdPb dstId = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder getDstIdOrBuilder() {
+    return getDstId();
+  }
+
+  public static final int ID_FIELD_NUMBER = 3;
+  private long id_;
+  /**
+   * <code>optional int64 id = 3;</code>
+   */
+  public long getId() {
+    return id_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (srcId_ != null) {
+      output.writeMessage(1, getSrcId());
+    }
+    if (dstId_ != null) {
+      output.writeMessage(2, getDstId());
+    }
+    if (id_ != 0L) {
+      output.writeInt64(3, id_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (srcId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getSrcId());
+    }
+    if (dstId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getDstId());
+    }
+    if (id_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, id_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.EdgeIdPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.EdgeIdPb other = (com.alibaba.maxgraph.proto.groot.EdgeIdPb) obj;
+
+    boolean result = true;
+    result = result && (hasSrcId() == other.hasSrcId());
+    if (hasSrcId()) {
+      result = result && getSrcId()
+          .equals(other.getSrcId());
+    }
+    result = result && (hasDstId() == other.hasDstId());
+    if (hasDstId()) {
+      result = result && getDstId()
+          .equals(other.getDstId());
+    }
+    result = result && (getId()
+        == other.getId());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasSrcId()) {
+      hash = (37 * hash) + SRCID_FIELD_NUMBER;
+      hash = (53 * hash) + getSrcId().hashCode();
+    }
+    if (hasDstId()) {
+      hash = (37 * hash) + DSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getDstId().hashCode();
+    }
+    hash = (37 * hash) + ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getId());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.EdgeIdPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code EdgeIdPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:EdgeIdPb)
+      com.alibaba.maxgraph.proto.groot.EdgeIdPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeIdPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeIdPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.EdgeIdPb.class, com.alibaba.maxgraph.proto.groot.EdgeIdPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.EdgeIdPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (srcIdBuilder_ == null) {
+        srcId_ = null;
+      } else {
+        srcId_ = null;
+        srcIdBuilder_ = null;
+      }
+      if (dstIdBuilder_ == null) {
+        dstId_ = null;
+      } else {
+        dstId_ = null;
+        dstIdBuilder_ = null;
+      }
+      id_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeIdPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeIdPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.EdgeIdPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeIdPb build() {
+      com.alibaba.maxgraph.proto.groot.EdgeIdPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeIdPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.EdgeIdPb result = new com.alibaba.maxgraph.proto.groot.EdgeIdPb(this);
+      if (srcIdBuilder_ == null) {
+        result.srcId_ = srcId_;
+      } else {
+        result.srcId_ = srcIdBuilder_.build();
+      }
+      if (dstIdBuilder_ == null) {
+        result.dstId_ = dstId_;
+      } else {
+        result.dstId_ = dstIdBuilder_.build();
+      }
+      result.id_ = id_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.EdgeIdPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.EdgeIdPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.EdgeIdPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.EdgeIdPb.getDefaultInstance()) return this;
+      if (other.hasSrcId()) {
+        mergeSrcId(other.getSrcId());
+      }
+      if (other.hasDstId()) {
+        mergeDstId(other.getDstId());
+      }
+      if (other.getId() != 0L) {
+        setId(other.getId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.EdgeIdPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.EdgeIdPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.VertexIdPb srcId_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.VertexIdPb, com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder, com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder> srcIdBuilder_;
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    public boolean hasSrcId() {
+      return srcIdBuilder_ != null || srcId_ != null;
+    }
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexIdPb getSrcId() {
+      if (srcIdBuilder_ == null) {
+        return srcId_ == null ? com.alibaba.maxgraph.proto.groot.VertexIdPb.getDefaultInstance() : srcId_;
+      } else {
+        return srcIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    public Builder setSrcId(com.alibaba.maxgraph.proto.groot.VertexIdPb value) {
+      if (srcIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        srcId_ = value;
+        onChanged();
+      } else {
+        srcIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    public Builder setSrcId(
+        com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder builderForValue) {
+      if (srcIdBuilder_ == null) {
+        srcId_ = builderForValue.build();
+        onChanged();
+      } else {
+        srcIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    public Builder mergeSrcId(com.alibaba.maxgraph.proto.groot.VertexIdPb value) {
+      if (srcIdBuilder_ == null) {
+        if (srcId_ != null) {
+          srcId_ =
+            com.alibaba.maxgraph.proto.groot.VertexIdPb.newBuilder(srcId_).mergeFrom(value).buildPartial();
+        } else {
+          srcId_ = value;
+        }
+        onChanged();
+      } else {
+        srcIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    public Builder clearSrcId() {
+      if (srcIdBuilder_ == null) {
+        srcId_ = null;
+        onChanged();
+      } else {
+        srcId_ = null;
+        srcIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder getSrcIdBuilder() {
+      
+      onChanged();
+      return getSrcIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder getSrcIdOrBuilder() {
+      if (srcIdBuilder_ != null) {
+        return srcIdBuilder_.getMessageOrBuilder();
+      } else {
+        return srcId_ == null ?
+            com.alibaba.maxgraph.proto.groot.VertexIdPb.getDefaultInstance() : srcId_;
+      }
+    }
+    /**
+     * <code>optional .VertexIdPb srcId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.VertexIdPb, com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder, com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder> 
+        getSrcIdFieldBuilder() {
+      if (srcIdBuilder_ == null) {
+        srcIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.VertexIdPb, com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder, com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder>(
+                getSrcId(),
+                getParentForChildren(),
+                isClean());
+        srcId_ = null;
+      }
+      return srcIdBuilder_;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.VertexIdPb dstId_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.VertexIdPb, com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder, com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder> dstIdBuilder_;
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    public boolean hasDstId() {
+      return dstIdBuilder_ != null || dstId_ != null;
+    }
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexIdPb getDstId() {
+      if (dstIdBuilder_ == null) {
+        return dstId_ == null ? com.alibaba.maxgraph.proto.groot.VertexIdPb.getDefaultInstance() : dstId_;
+      } else {
+        return dstIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    public Builder setDstId(com.alibaba.maxgraph.proto.groot.VertexIdPb value) {
+      if (dstIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        dstId_ = value;
+        onChanged();
+      } else {
+        dstIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    public Builder setDstId(
+        com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder builderForValue) {
+      if (dstIdBuilder_ == null) {
+        dstId_ = builderForValue.build();
+        onChanged();
+      } else {
+        dstIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    public Builder mergeDstId(com.alibaba.maxgraph.proto.groot.VertexIdPb value) {
+      if (dstIdBuilder_ == null) {
+        if (dstId_ != null) {
+          dstId_ =
+            com.alibaba.maxgraph.proto.groot.VertexIdPb.newBuilder(dstId_).mergeFrom(value).buildPartial();
+        } else {
+          dstId_ = value;
+        }
+        onChanged();
+      } else {
+        dstIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    public Builder clearDstId() {
+      if (dstIdBuilder_ == null) {
+        dstId_ = null;
+        onChanged();
+      } else {
+        dstId_ = null;
+        dstIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder getDstIdBuilder() {
+      
+      onChanged();
+      return getDstIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder getDstIdOrBuilder() {
+      if (dstIdBuilder_ != null) {
+        return dstIdBuilder_.getMessageOrBuilder();
+      } else {
+        return dstId_ == null ?
+            com.alibaba.maxgraph.proto.groot.VertexIdPb.getDefaultInstance() : dstId_;
+      }
+    }
+    /**
+     * <code>optional .VertexIdPb dstId = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.VertexIdPb, com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder, com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder> 
+        getDstIdFieldBuilder() {
+      if (dstIdBuilder_ == null) {
+        dstIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.VertexIdPb, com.alibaba.maxgraph.proto.groot.VertexIdPb.Builder, com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder>(
+                getDstId(),
+                getParentForChildren(),
+                isClean());
+        dstId_ = null;
+      }
+      return dstIdBuilder_;
+    }
+
+    private long id_ ;
+    /**
+     * <code>optional int64 id = 3;</code>
+     */
+    public long getId() {
+      return id_;
+    }
+    /**
+     * <code>optional int64 id = 3;</code>
+     */
+    public Builder setId(long value) {
+      
+      id_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 id = 3;</code>
+     */
+    public Builder clearId() {
+      
+      id_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:EdgeIdPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:EdgeIdPb)
+  private static final com.alibaba.maxgraph.proto.groot.EdgeIdPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.EdgeIdPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeIdPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EdgeIdPb>
+      PARSER = new com.google.protobuf.AbstractParser<EdgeIdPb>() {
+    public EdgeIdPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeIdPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<EdgeIdPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EdgeIdPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.EdgeIdPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,40 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface EdgeIdPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:EdgeIdPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .VertexIdPb srcId = 1;</code>
+   */
+  boolean hasSrcId();
+  /**
+   * <code>optional .VertexIdPb srcId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.VertexIdPb getSrcId();
+  /**
+   * <code>optional .VertexIdPb srcId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder getSrcIdOrBuilder();
+
+  /**
+   * <code>optional .VertexIdPb dstId = 2;</code>
+   */
+  boolean hasDstId();
+  /**
+   * <code>optional .VertexIdPb dstId = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.VertexIdPb getDstId();
+  /**
+   * <code>optional .VertexIdPb dstId = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.VertexIdPbOrBuilder getDstIdOrBuilder();
+
+  /**
+   * <code>optional int64 id = 3;</code>
+   */
+  long getId();
+}
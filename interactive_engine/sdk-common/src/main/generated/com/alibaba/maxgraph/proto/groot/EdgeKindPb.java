@@ -0,0 +1,1291 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code EdgeKindPb}
+ */
+public  final class EdgeKindPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:EdgeKindPb)
+    EdgeKindPbOrBuilder {
+  // Use EdgeKindPb.newBuilder() to construct.
+  private EdgeKindPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private EdgeKindPb() {
+    edgeLabel_ = "";
+    srcVertexLabel_ = "";
+    dstVertexLabel_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private EdgeKindPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            edgeLabel_ = s;
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder subBuilder = null;
+            if (edgeLabelId_ != null) {
+              subBuilder = edgeLabelId_.toBuilder();
+            }
+            edgeLabelId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(edgeLabelId_);
+              edgeLabelId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            srcVertexLabel_ = s;
+            break;
+          }
+          case 34: {
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder subBuilder = null;
+            if (srcVertexLabelId_ != null) {
+              subBuilder = srcVertexLabelId_.toBuilder();
+            }
+            srcVertexLabelId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(srcVertexLabelId_);
+              srcVertexLabelId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            dstVertexLabel_ = s;
+            break;
+          }
+          case 50: {
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder subBuilder = null;
+            if (dstVertexLabelId_ != null) {
+              subBuilder = dstVertexLabelId_.toBuilder();
+            }
+            dstVertexLabelId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(dstVertexLabelId_);
+              dstVertexLabelId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeKindPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeKindPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb.class, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder.class);
+  }
+
+  public static final int EDGELABEL_FIELD_NUMBER = 1;
+  private volatile java.lang.Object edgeLabel_;
+  /**
+   * <code>optional string edgeLabel = 1;</code>
+   */
+  public java.lang.String getEdgeLabel() {
+    java.lang.Object ref = edgeLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      edgeLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string edgeLabel = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getEdgeLabelBytes() {
+    java.lang.Object ref = edgeLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      edgeLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int EDGELABELID_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.groot.LabelIdPb edgeLabelId_;
+  /**
+   * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+   */
+  public boolean hasEdgeLabelId() {
+    return edgeLabelId_ != null;
+  }
+  /**
+   * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.LabelIdPb getEdgeLabelId() {
+    return edgeLabelId_ == null ? com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : edgeLabelId_;
+  }
+  /**
+   * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getEdgeLabelIdOrBuilder() {
+    return getEdgeLabelId();
+  }
+
+  public static final int SRCVERTEXLABEL_FIELD_NUMBER = 3;
+  private volatile java.lang.Object srcVertexLabel_;
+  /**
+   * <code>optional string srcVertexLabel = 3;</code>
+   */
+  public java.lang.String getSrcVertexLabel() {
+    java.lang.Object ref = srcVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      srcVertexLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string srcVertexLabel = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getSrcVertexLabelBytes() {
+    java.lang.Object ref = srcVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      srcVertexLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SRCVERTEXLABELID_FIELD_NUMBER = 4;
+  private com.alibaba.maxgraph.proto.groot.LabelIdPb srcVertexLabelId_;
+  /**
+   * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+   */
+  public boolean hasSrcVertexLabelId() {
+    return srcVertexLabelId_ != null;
+  }
+  /**
+   * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.LabelIdPb getSrcVertexLabelId() {
+    return srcVertexLabelId_ == null ? com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : srcVertexLabelId_;
+  }
+  /**
+   * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getSrcVertexLabelIdOrBuilder() {
+    return getSrcVertexLabelId();
+  }
+
+  public static final int DSTVERTEXLABEL_FIELD_NUMBER = 5;
+  private volatile java.lang.Object dstVertexLabel_;
+  /**
+   * <code>optional string dstVertexLabel = 5;</code>
+   */
+  public java.lang.String getDstVertexLabel() {
+    java.lang.Object ref = dstVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      dstVertexLabel_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string dstVertexLabel = 5;</code>
+   */
+  public com.google.protobuf.ByteString
+      getDstVertexLabelBytes() {
+    java.lang.Object ref = dstVertexLabel_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      dstVertexLabel_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DSTVERTEXLABELID_FIELD_NUMBER = 6;
+  private com.alibaba.maxgraph.proto.groot.LabelIdPb dstVertexLabelId_;
+  /**
+   * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+   */
+  public boolean hasDstVertexLabelId() {
+    return dstVertexLabelId_ != null;
+  }
+  /**
+   * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.LabelIdPb getDstVertexLabelId() {
+    return dstVertexLabelId_ == null ? com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : dstVertexLabelId_;
+  }
+  /**
+   * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getDstVertexLabelIdOrBuilder() {
+    return getDstVertexLabelId();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getEdgeLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, edgeLabel_);
+    }
+    if (edgeLabelId_ != null) {
+      output.writeMessage(2, getEdgeLabelId());
+    }
+    if (!getSrcVertexLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, srcVertexLabel_);
+    }
+    if (srcVertexLabelId_ != null) {
+      output.writeMessage(4, getSrcVertexLabelId());
+    }
+    if (!getDstVertexLabelBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, dstVertexLabel_);
+    }
+    if (dstVertexLabelId_ != null) {
+      output.writeMessage(6, getDstVertexLabelId());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getEdgeLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, edgeLabel_);
+    }
+    if (edgeLabelId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getEdgeLabelId());
+    }
+    if (!getSrcVertexLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, srcVertexLabel_);
+    }
+    if (srcVertexLabelId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, getSrcVertexLabelId());
+    }
+    if (!getDstVertexLabelBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, dstVertexLabel_);
+    }
+    if (dstVertexLabelId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, getDstVertexLabelId());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.EdgeKindPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.EdgeKindPb other = (com.alibaba.maxgraph.proto.groot.EdgeKindPb) obj;
+
+    boolean result = true;
+    result = result && getEdgeLabel()
+        .equals(other.getEdgeLabel());
+    result = result && (hasEdgeLabelId() == other.hasEdgeLabelId());
+    if (hasEdgeLabelId()) {
+      result = result && getEdgeLabelId()
+          .equals(other.getEdgeLabelId());
+    }
+    result = result && getSrcVertexLabel()
+        .equals(other.getSrcVertexLabel());
+    result = result && (hasSrcVertexLabelId() == other.hasSrcVertexLabelId());
+    if (hasSrcVertexLabelId()) {
+      result = result && getSrcVertexLabelId()
+          .equals(other.getSrcVertexLabelId());
+    }
+    result = result && getDstVertexLabel()
+        .equals(other.getDstVertexLabel());
+    result = result && (hasDstVertexLabelId() == other.hasDstVertexLabelId());
+    if (hasDstVertexLabelId()) {
+      result = result && getDstVertexLabelId()
+          .equals(other.getDstVertexLabelId());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + EDGELABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getEdgeLabel().hashCode();
+    if (hasEdgeLabelId()) {
+      hash = (37 * hash) + EDGELABELID_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeLabelId().hashCode();
+    }
+    hash = (37 * hash) + SRCVERTEXLABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getSrcVertexLabel().hashCode();
+    if (hasSrcVertexLabelId()) {
+      hash = (37 * hash) + SRCVERTEXLABELID_FIELD_NUMBER;
+      hash = (53 * hash) + getSrcVertexLabelId().hashCode();
+    }
+    hash = (37 * hash) + DSTVERTEXLABEL_FIELD_NUMBER;
+    hash = (53 * hash) + getDstVertexLabel().hashCode();
+    if (hasDstVertexLabelId()) {
+      hash = (37 * hash) + DSTVERTEXLABELID_FIELD_NUMBER;
+      hash = (53 * hash) + getDstVertexLabelId().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.EdgeKindPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code EdgeKindPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:EdgeKindPb)
+      com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeKindPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeKindPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.EdgeKindPb.class, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.EdgeKindPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      edgeLabel_ = "";
+
+      if (edgeLabelIdBuilder_ == null) {
+        edgeLabelId_ = null;
+      } else {
+        edgeLabelId_ = null;
+        edgeLabelIdBuilder_ = null;
+      }
+      srcVertexLabel_ = "";
+
+      if (srcVertexLabelIdBuilder_ == null) {
+        srcVertexLabelId_ = null;
+      } else {
+        srcVertexLabelId_ = null;
+        srcVertexLabelIdBuilder_ = null;
+      }
+      dstVertexLabel_ = "";
+
+      if (dstVertexLabelIdBuilder_ == null) {
+        dstVertexLabelId_ = null;
+      } else {
+        dstVertexLabelId_ = null;
+        dstVertexLabelIdBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeKindPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb build() {
+      com.alibaba.maxgraph.proto.groot.EdgeKindPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.EdgeKindPb result = new com.alibaba.maxgraph.proto.groot.EdgeKindPb(this);
+      result.edgeLabel_ = edgeLabel_;
+      if (edgeLabelIdBuilder_ == null) {
+        result.edgeLabelId_ = edgeLabelId_;
+      } else {
+        result.edgeLabelId_ = edgeLabelIdBuilder_.build();
+      }
+      result.srcVertexLabel_ = srcVertexLabel_;
+      if (srcVertexLabelIdBuilder_ == null) {
+        result.srcVertexLabelId_ = srcVertexLabelId_;
+      } else {
+        result.srcVertexLabelId_ = srcVertexLabelIdBuilder_.build();
+      }
+      result.dstVertexLabel_ = dstVertexLabel_;
+      if (dstVertexLabelIdBuilder_ == null) {
+        result.dstVertexLabelId_ = dstVertexLabelId_;
+      } else {
+        result.dstVertexLabelId_ = dstVertexLabelIdBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.EdgeKindPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.EdgeKindPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.EdgeKindPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance()) return this;
+      if (!other.getEdgeLabel().isEmpty()) {
+        edgeLabel_ = other.edgeLabel_;
+        onChanged();
+      }
+      if (other.hasEdgeLabelId()) {
+        mergeEdgeLabelId(other.getEdgeLabelId());
+      }
+      if (!other.getSrcVertexLabel().isEmpty()) {
+        srcVertexLabel_ = other.srcVertexLabel_;
+        onChanged();
+      }
+      if (other.hasSrcVertexLabelId()) {
+        mergeSrcVertexLabelId(other.getSrcVertexLabelId());
+      }
+      if (!other.getDstVertexLabel().isEmpty()) {
+        dstVertexLabel_ = other.dstVertexLabel_;
+        onChanged();
+      }
+      if (other.hasDstVertexLabelId()) {
+        mergeDstVertexLabelId(other.getDstVertexLabelId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.EdgeKindPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.EdgeKindPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object edgeLabel_ = "";
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public java.lang.String getEdgeLabel() {
+      java.lang.Object ref = edgeLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        edgeLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getEdgeLabelBytes() {
+      java.lang.Object ref = edgeLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        edgeLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public Builder setEdgeLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      edgeLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public Builder clearEdgeLabel() {
+      
+      edgeLabel_ = getDefaultInstance().getEdgeLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string edgeLabel = 1;</code>
+     */
+    public Builder setEdgeLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      edgeLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelIdPb edgeLabelId_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder> edgeLabelIdBuilder_;
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    public boolean hasEdgeLabelId() {
+      return edgeLabelIdBuilder_ != null || edgeLabelId_ != null;
+    }
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPb getEdgeLabelId() {
+      if (edgeLabelIdBuilder_ == null) {
+        return edgeLabelId_ == null ? com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : edgeLabelId_;
+      } else {
+        return edgeLabelIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    public Builder setEdgeLabelId(com.alibaba.maxgraph.proto.groot.LabelIdPb value) {
+      if (edgeLabelIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        edgeLabelId_ = value;
+        onChanged();
+      } else {
+        edgeLabelIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    public Builder setEdgeLabelId(
+        com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder builderForValue) {
+      if (edgeLabelIdBuilder_ == null) {
+        edgeLabelId_ = builderForValue.build();
+        onChanged();
+      } else {
+        edgeLabelIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    public Builder mergeEdgeLabelId(com.alibaba.maxgraph.proto.groot.LabelIdPb value) {
+      if (edgeLabelIdBuilder_ == null) {
+        if (edgeLabelId_ != null) {
+          edgeLabelId_ =
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.newBuilder(edgeLabelId_).mergeFrom(value).buildPartial();
+        } else {
+          edgeLabelId_ = value;
+        }
+        onChanged();
+      } else {
+        edgeLabelIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    public Builder clearEdgeLabelId() {
+      if (edgeLabelIdBuilder_ == null) {
+        edgeLabelId_ = null;
+        onChanged();
+      } else {
+        edgeLabelId_ = null;
+        edgeLabelIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder getEdgeLabelIdBuilder() {
+      
+      onChanged();
+      return getEdgeLabelIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getEdgeLabelIdOrBuilder() {
+      if (edgeLabelIdBuilder_ != null) {
+        return edgeLabelIdBuilder_.getMessageOrBuilder();
+      } else {
+        return edgeLabelId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : edgeLabelId_;
+      }
+    }
+    /**
+     * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder> 
+        getEdgeLabelIdFieldBuilder() {
+      if (edgeLabelIdBuilder_ == null) {
+        edgeLabelIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder>(
+                getEdgeLabelId(),
+                getParentForChildren(),
+                isClean());
+        edgeLabelId_ = null;
+      }
+      return edgeLabelIdBuilder_;
+    }
+
+    private java.lang.Object srcVertexLabel_ = "";
+    /**
+     * <code>optional string srcVertexLabel = 3;</code>
+     */
+    public java.lang.String getSrcVertexLabel() {
+      java.lang.Object ref = srcVertexLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        srcVertexLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string srcVertexLabel = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSrcVertexLabelBytes() {
+      java.lang.Object ref = srcVertexLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        srcVertexLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string srcVertexLabel = 3;</code>
+     */
+    public Builder setSrcVertexLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      srcVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string srcVertexLabel = 3;</code>
+     */
+    public Builder clearSrcVertexLabel() {
+      
+      srcVertexLabel_ = getDefaultInstance().getSrcVertexLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string srcVertexLabel = 3;</code>
+     */
+    public Builder setSrcVertexLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      srcVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelIdPb srcVertexLabelId_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder> srcVertexLabelIdBuilder_;
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    public boolean hasSrcVertexLabelId() {
+      return srcVertexLabelIdBuilder_ != null || srcVertexLabelId_ != null;
+    }
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPb getSrcVertexLabelId() {
+      if (srcVertexLabelIdBuilder_ == null) {
+        return srcVertexLabelId_ == null ? com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : srcVertexLabelId_;
+      } else {
+        return srcVertexLabelIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    public Builder setSrcVertexLabelId(com.alibaba.maxgraph.proto.groot.LabelIdPb value) {
+      if (srcVertexLabelIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        srcVertexLabelId_ = value;
+        onChanged();
+      } else {
+        srcVertexLabelIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    public Builder setSrcVertexLabelId(
+        com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder builderForValue) {
+      if (srcVertexLabelIdBuilder_ == null) {
+        srcVertexLabelId_ = builderForValue.build();
+        onChanged();
+      } else {
+        srcVertexLabelIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    public Builder mergeSrcVertexLabelId(com.alibaba.maxgraph.proto.groot.LabelIdPb value) {
+      if (srcVertexLabelIdBuilder_ == null) {
+        if (srcVertexLabelId_ != null) {
+          srcVertexLabelId_ =
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.newBuilder(srcVertexLabelId_).mergeFrom(value).buildPartial();
+        } else {
+          srcVertexLabelId_ = value;
+        }
+        onChanged();
+      } else {
+        srcVertexLabelIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    public Builder clearSrcVertexLabelId() {
+      if (srcVertexLabelIdBuilder_ == null) {
+        srcVertexLabelId_ = null;
+        onChanged();
+      } else {
+        srcVertexLabelId_ = null;
+        srcVertexLabelIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder getSrcVertexLabelIdBuilder() {
+      
+      onChanged();
+      return getSrcVertexLabelIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getSrcVertexLabelIdOrBuilder() {
+      if (srcVertexLabelIdBuilder_ != null) {
+        return srcVertexLabelIdBuilder_.getMessageOrBuilder();
+      } else {
+        return srcVertexLabelId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : srcVertexLabelId_;
+      }
+    }
+    /**
+     * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder> 
+        getSrcVertexLabelIdFieldBuilder() {
+      if (srcVertexLabelIdBuilder_ == null) {
+        srcVertexLabelIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder>(
+                getSrcVertexLabelId(),
+                getParentForChildren(),
+                isClean());
+        srcVertexLabelId_ = null;
+      }
+      return srcVertexLabelIdBuilder_;
+    }
+
+    private java.lang.Object dstVertexLabel_ = "";
+    /**
+     * <code>optional string dstVertexLabel = 5;</code>
+     */
+    public java.lang.String getDstVertexLabel() {
+      java.lang.Object ref = dstVertexLabel_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dstVertexLabel_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string dstVertexLabel = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDstVertexLabelBytes() {
+      java.lang.Object ref = dstVertexLabel_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dstVertexLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string dstVertexLabel = 5;</code>
+     */
+    public Builder setDstVertexLabel(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      dstVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dstVertexLabel = 5;</code>
+     */
+    public Builder clearDstVertexLabel() {
+      
+      dstVertexLabel_ = getDefaultInstance().getDstVertexLabel();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string dstVertexLabel = 5;</code>
+     */
+    public Builder setDstVertexLabelBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      dstVertexLabel_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelIdPb dstVertexLabelId_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder> dstVertexLabelIdBuilder_;
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    public boolean hasDstVertexLabelId() {
+      return dstVertexLabelIdBuilder_ != null || dstVertexLabelId_ != null;
+    }
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPb getDstVertexLabelId() {
+      if (dstVertexLabelIdBuilder_ == null) {
+        return dstVertexLabelId_ == null ? com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : dstVertexLabelId_;
+      } else {
+        return dstVertexLabelIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    public Builder setDstVertexLabelId(com.alibaba.maxgraph.proto.groot.LabelIdPb value) {
+      if (dstVertexLabelIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        dstVertexLabelId_ = value;
+        onChanged();
+      } else {
+        dstVertexLabelIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    public Builder setDstVertexLabelId(
+        com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder builderForValue) {
+      if (dstVertexLabelIdBuilder_ == null) {
+        dstVertexLabelId_ = builderForValue.build();
+        onChanged();
+      } else {
+        dstVertexLabelIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    public Builder mergeDstVertexLabelId(com.alibaba.maxgraph.proto.groot.LabelIdPb value) {
+      if (dstVertexLabelIdBuilder_ == null) {
+        if (dstVertexLabelId_ != null) {
+          dstVertexLabelId_ =
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.newBuilder(dstVertexLabelId_).mergeFrom(value).buildPartial();
+        } else {
+          dstVertexLabelId_ = value;
+        }
+        onChanged();
+      } else {
+        dstVertexLabelIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    public Builder clearDstVertexLabelId() {
+      if (dstVertexLabelIdBuilder_ == null) {
+        dstVertexLabelId_ = null;
+        onChanged();
+      } else {
+        dstVertexLabelId_ = null;
+        dstVertexLabelIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder getDstVertexLabelIdBuilder() {
+      
+      onChanged();
+      return getDstVertexLabelIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getDstVertexLabelIdOrBuilder() {
+      if (dstVertexLabelIdBuilder_ != null) {
+        return dstVertexLabelIdBuilder_.getMessageOrBuilder();
+      } else {
+        return dstVertexLabelId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : dstVertexLabelId_;
+      }
+    }
+    /**
+     * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder> 
+        getDstVertexLabelIdFieldBuilder() {
+      if (dstVertexLabelIdBuilder_ == null) {
+        dstVertexLabelIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder>(
+                getDstVertexLabelId(),
+                getParentForChildren(),
+                isClean());
+        dstVertexLabelId_ = null;
+      }
+      return dstVertexLabelIdBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:EdgeKindPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:EdgeKindPb)
+  private static final com.alibaba.maxgraph.proto.groot.EdgeKindPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.EdgeKindPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeKindPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EdgeKindPb>
+      PARSER = new com.google.protobuf.AbstractParser<EdgeKindPb>() {
+    public EdgeKindPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeKindPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<EdgeKindPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EdgeKindPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.EdgeKindPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
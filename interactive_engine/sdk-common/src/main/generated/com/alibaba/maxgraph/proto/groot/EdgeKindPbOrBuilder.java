@@ -0,0 +1,78 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface EdgeKindPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:EdgeKindPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string edgeLabel = 1;</code>
+   */
+  java.lang.String getEdgeLabel();
+  /**
+   * <code>optional string edgeLabel = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getEdgeLabelBytes();
+
+  /**
+   * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+   */
+  boolean hasEdgeLabelId();
+  /**
+   * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPb getEdgeLabelId();
+  /**
+   * <code>optional .LabelIdPb edgeLabelId = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getEdgeLabelIdOrBuilder();
+
+  /**
+   * <code>optional string srcVertexLabel = 3;</code>
+   */
+  java.lang.String getSrcVertexLabel();
+  /**
+   * <code>optional string srcVertexLabel = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getSrcVertexLabelBytes();
+
+  /**
+   * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+   */
+  boolean hasSrcVertexLabelId();
+  /**
+   * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPb getSrcVertexLabelId();
+  /**
+   * <code>optional .LabelIdPb srcVertexLabelId = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getSrcVertexLabelIdOrBuilder();
+
+  /**
+   * <code>optional string dstVertexLabel = 5;</code>
+   */
+  java.lang.String getDstVertexLabel();
+  /**
+   * <code>optional string dstVertexLabel = 5;</code>
+   */
+  com.google.protobuf.ByteString
+      getDstVertexLabelBytes();
+
+  /**
+   * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+   */
+  boolean hasDstVertexLabelId();
+  /**
+   * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPb getDstVertexLabelId();
+  /**
+   * <code>optional .LabelIdPb dstVertexLabelId = 6;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getDstVertexLabelIdOrBuilder();
+}
@@ -0,0 +1,607 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code EdgeLocationPb}
+ */
+public  final class EdgeLocationPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:EdgeLocationPb)
+    EdgeLocationPbOrBuilder {
+  // Use EdgeLocationPb.newBuilder() to construct.
+  private EdgeLocationPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private EdgeLocationPb() {
+    forward_ = false;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private EdgeLocationPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder subBuilder = null;
+            if (edgeKind_ != null) {
+              subBuilder = edgeKind_.toBuilder();
+            }
+            edgeKind_ = input.readMessage(com.alibaba.maxgraph.proto.groot.EdgeKindPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(edgeKind_);
+              edgeKind_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            forward_ = input.readBool();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeLocationPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeLocationPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.EdgeLocationPb.class, com.alibaba.maxgraph.proto.groot.EdgeLocationPb.Builder.class);
+  }
+
+  public static final int EDGEKIND_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.EdgeKindPb edgeKind_;
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  public boolean hasEdgeKind() {
+    return edgeKind_ != null;
+  }
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKind() {
+    return edgeKind_ == null ? com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance() : edgeKind_;
+  }
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindOrBuilder() {
+    return getEdgeKind();
+  }
+
+  public static final int FORWARD_FIELD_NUMBER = 2;
+  private boolean forward_;
+  /**
+   * <code>optional bool forward = 2;</code>
+   */
+  public boolean getForward() {
+    return forward_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (edgeKind_ != null) {
+      output.writeMessage(1, getEdgeKind());
+    }
+    if (forward_ != false) {
+      output.writeBool(2, forward_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (edgeKind_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getEdgeKind());
+    }
+    if (forward_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(2, forward_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.EdgeLocationPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.EdgeLocationPb other = (com.alibaba.maxgraph.proto.groot.EdgeLocationPb) obj;
+
+    boolean result = true;
+    result = result && (hasEdgeKind() == other.hasEdgeKind());
+    if (hasEdgeKind()) {
+      result = result && getEdgeKind()
+          .equals(other.getEdgeKind());
+    }
+    result = result && (getForward()
+        == other.getForward());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasEdgeKind()) {
+      hash = (37 * hash) + EDGEKIND_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeKind().hashCode();
+    }
+    hash = (37 * hash) + FORWARD_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getForward());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.EdgeLocationPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code EdgeLocationPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:EdgeLocationPb)
+      com.alibaba.maxgraph.proto.groot.EdgeLocationPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeLocationPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeLocationPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.EdgeLocationPb.class, com.alibaba.maxgraph.proto.groot.EdgeLocationPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.EdgeLocationPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (edgeKindBuilder_ == null) {
+        edgeKind_ = null;
+      } else {
+        edgeKind_ = null;
+        edgeKindBuilder_ = null;
+      }
+      forward_ = false;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeLocationPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeLocationPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.EdgeLocationPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeLocationPb build() {
+      com.alibaba.maxgraph.proto.groot.EdgeLocationPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeLocationPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.EdgeLocationPb result = new com.alibaba.maxgraph.proto.groot.EdgeLocationPb(this);
+      if (edgeKindBuilder_ == null) {
+        result.edgeKind_ = edgeKind_;
+      } else {
+        result.edgeKind_ = edgeKindBuilder_.build();
+      }
+      result.forward_ = forward_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.EdgeLocationPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.EdgeLocationPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.EdgeLocationPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.EdgeLocationPb.getDefaultInstance()) return this;
+      if (other.hasEdgeKind()) {
+        mergeEdgeKind(other.getEdgeKind());
+      }
+      if (other.getForward() != false) {
+        setForward(other.getForward());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.EdgeLocationPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.EdgeLocationPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.EdgeKindPb edgeKind_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> edgeKindBuilder_;
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public boolean hasEdgeKind() {
+      return edgeKindBuilder_ != null || edgeKind_ != null;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKind() {
+      if (edgeKindBuilder_ == null) {
+        return edgeKind_ == null ? com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance() : edgeKind_;
+      } else {
+        return edgeKindBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public Builder setEdgeKind(com.alibaba.maxgraph.proto.groot.EdgeKindPb value) {
+      if (edgeKindBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        edgeKind_ = value;
+        onChanged();
+      } else {
+        edgeKindBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public Builder setEdgeKind(
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder builderForValue) {
+      if (edgeKindBuilder_ == null) {
+        edgeKind_ = builderForValue.build();
+        onChanged();
+      } else {
+        edgeKindBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public Builder mergeEdgeKind(com.alibaba.maxgraph.proto.groot.EdgeKindPb value) {
+      if (edgeKindBuilder_ == null) {
+        if (edgeKind_ != null) {
+          edgeKind_ =
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb.newBuilder(edgeKind_).mergeFrom(value).buildPartial();
+        } else {
+          edgeKind_ = value;
+        }
+        onChanged();
+      } else {
+        edgeKindBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public Builder clearEdgeKind() {
+      if (edgeKindBuilder_ == null) {
+        edgeKind_ = null;
+        onChanged();
+      } else {
+        edgeKind_ = null;
+        edgeKindBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder getEdgeKindBuilder() {
+      
+      onChanged();
+      return getEdgeKindFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindOrBuilder() {
+      if (edgeKindBuilder_ != null) {
+        return edgeKindBuilder_.getMessageOrBuilder();
+      } else {
+        return edgeKind_ == null ?
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance() : edgeKind_;
+      }
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> 
+        getEdgeKindFieldBuilder() {
+      if (edgeKindBuilder_ == null) {
+        edgeKindBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder>(
+                getEdgeKind(),
+                getParentForChildren(),
+                isClean());
+        edgeKind_ = null;
+      }
+      return edgeKindBuilder_;
+    }
+
+    private boolean forward_ ;
+    /**
+     * <code>optional bool forward = 2;</code>
+     */
+    public boolean getForward() {
+      return forward_;
+    }
+    /**
+     * <code>optional bool forward = 2;</code>
+     */
+    public Builder setForward(boolean value) {
+      
+      forward_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool forward = 2;</code>
+     */
+    public Builder clearForward() {
+      
+      forward_ = false;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:EdgeLocationPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:EdgeLocationPb)
+  private static final com.alibaba.maxgraph.proto.groot.EdgeLocationPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.EdgeLocationPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeLocationPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EdgeLocationPb>
+      PARSER = new com.google.protobuf.AbstractParser<EdgeLocationPb>() {
+    public EdgeLocationPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeLocationPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<EdgeLocationPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EdgeLocationPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.EdgeLocationPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
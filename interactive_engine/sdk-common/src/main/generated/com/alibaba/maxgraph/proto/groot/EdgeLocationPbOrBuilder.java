@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface EdgeLocationPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:EdgeLocationPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  boolean hasEdgeKind();
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKind();
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindOrBuilder();
+
+  /**
+   * <code>optional bool forward = 2;</code>
+   */
+  boolean getForward();
+}
@@ -0,0 +1,607 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code EdgeTableIdEntry}
+ */
+public  final class EdgeTableIdEntry extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:EdgeTableIdEntry)
+    EdgeTableIdEntryOrBuilder {
+  // Use EdgeTableIdEntry.newBuilder() to construct.
+  private EdgeTableIdEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private EdgeTableIdEntry() {
+    tableId_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private EdgeTableIdEntry(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder subBuilder = null;
+            if (edgeKind_ != null) {
+              subBuilder = edgeKind_.toBuilder();
+            }
+            edgeKind_ = input.readMessage(com.alibaba.maxgraph.proto.groot.EdgeKindPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(edgeKind_);
+              edgeKind_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            tableId_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeTableIdEntry_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeTableIdEntry_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.class, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder.class);
+  }
+
+  public static final int EDGEKIND_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.EdgeKindPb edgeKind_;
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  public boolean hasEdgeKind() {
+    return edgeKind_ != null;
+  }
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKind() {
+    return edgeKind_ == null ? com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance() : edgeKind_;
+  }
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindOrBuilder() {
+    return getEdgeKind();
+  }
+
+  public static final int TABLEID_FIELD_NUMBER = 2;
+  private long tableId_;
+  /**
+   * <code>optional int64 tableId = 2;</code>
+   */
+  public long getTableId() {
+    return tableId_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (edgeKind_ != null) {
+      output.writeMessage(1, getEdgeKind());
+    }
+    if (tableId_ != 0L) {
+      output.writeInt64(2, tableId_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (edgeKind_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getEdgeKind());
+    }
+    if (tableId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, tableId_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry other = (com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry) obj;
+
+    boolean result = true;
+    result = result && (hasEdgeKind() == other.hasEdgeKind());
+    if (hasEdgeKind()) {
+      result = result && getEdgeKind()
+          .equals(other.getEdgeKind());
+    }
+    result = result && (getTableId()
+        == other.getTableId());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasEdgeKind()) {
+      hash = (37 * hash) + EDGEKIND_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeKind().hashCode();
+    }
+    hash = (37 * hash) + TABLEID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTableId());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code EdgeTableIdEntry}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:EdgeTableIdEntry)
+      com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeTableIdEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeTableIdEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.class, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (edgeKindBuilder_ == null) {
+        edgeKind_ = null;
+      } else {
+        edgeKind_ = null;
+        edgeKindBuilder_ = null;
+      }
+      tableId_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_EdgeTableIdEntry_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry build() {
+      com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry buildPartial() {
+      com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry result = new com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry(this);
+      if (edgeKindBuilder_ == null) {
+        result.edgeKind_ = edgeKind_;
+      } else {
+        result.edgeKind_ = edgeKindBuilder_.build();
+      }
+      result.tableId_ = tableId_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry other) {
+      if (other == com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.getDefaultInstance()) return this;
+      if (other.hasEdgeKind()) {
+        mergeEdgeKind(other.getEdgeKind());
+      }
+      if (other.getTableId() != 0L) {
+        setTableId(other.getTableId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.EdgeKindPb edgeKind_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> edgeKindBuilder_;
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public boolean hasEdgeKind() {
+      return edgeKindBuilder_ != null || edgeKind_ != null;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKind() {
+      if (edgeKindBuilder_ == null) {
+        return edgeKind_ == null ? com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance() : edgeKind_;
+      } else {
+        return edgeKindBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public Builder setEdgeKind(com.alibaba.maxgraph.proto.groot.EdgeKindPb value) {
+      if (edgeKindBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        edgeKind_ = value;
+        onChanged();
+      } else {
+        edgeKindBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public Builder setEdgeKind(
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder builderForValue) {
+      if (edgeKindBuilder_ == null) {
+        edgeKind_ = builderForValue.build();
+        onChanged();
+      } else {
+        edgeKindBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public Builder mergeEdgeKind(com.alibaba.maxgraph.proto.groot.EdgeKindPb value) {
+      if (edgeKindBuilder_ == null) {
+        if (edgeKind_ != null) {
+          edgeKind_ =
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb.newBuilder(edgeKind_).mergeFrom(value).buildPartial();
+        } else {
+          edgeKind_ = value;
+        }
+        onChanged();
+      } else {
+        edgeKindBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public Builder clearEdgeKind() {
+      if (edgeKindBuilder_ == null) {
+        edgeKind_ = null;
+        onChanged();
+      } else {
+        edgeKind_ = null;
+        edgeKindBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder getEdgeKindBuilder() {
+      
+      onChanged();
+      return getEdgeKindFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindOrBuilder() {
+      if (edgeKindBuilder_ != null) {
+        return edgeKindBuilder_.getMessageOrBuilder();
+      } else {
+        return edgeKind_ == null ?
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance() : edgeKind_;
+      }
+    }
+    /**
+     * <code>optional .EdgeKindPb edgeKind = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> 
+        getEdgeKindFieldBuilder() {
+      if (edgeKindBuilder_ == null) {
+        edgeKindBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder>(
+                getEdgeKind(),
+                getParentForChildren(),
+                isClean());
+        edgeKind_ = null;
+      }
+      return edgeKindBuilder_;
+    }
+
+    private long tableId_ ;
+    /**
+     * <code>optional int64 tableId = 2;</code>
+     */
+    public long getTableId() {
+      return tableId_;
+    }
+    /**
+     * <code>optional int64 tableId = 2;</code>
+     */
+    public Builder setTableId(long value) {
+      
+      tableId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 tableId = 2;</code>
+     */
+    public Builder clearTableId() {
+      
+      tableId_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:EdgeTableIdEntry)
+  }
+
+  // @@protoc_insertion_point(class_scope:EdgeTableIdEntry)
+  private static final com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EdgeTableIdEntry>
+      PARSER = new com.google.protobuf.AbstractParser<EdgeTableIdEntry>() {
+    public EdgeTableIdEntry parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EdgeTableIdEntry(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<EdgeTableIdEntry> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EdgeTableIdEntry> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface EdgeTableIdEntryOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:EdgeTableIdEntry)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  boolean hasEdgeKind();
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKind();
+  /**
+   * <code>optional .EdgeKindPb edgeKind = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindOrBuilder();
+
+  /**
+   * <code>optional int64 tableId = 2;</code>
+   */
+  long getTableId();
+}
@@ -0,0 +1,712 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code GetBackupInfoResponse}
+ */
+public  final class GetBackupInfoResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:GetBackupInfoResponse)
+    GetBackupInfoResponseOrBuilder {
+  // Use GetBackupInfoResponse.newBuilder() to construct.
+  private GetBackupInfoResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GetBackupInfoResponse() {
+    backupInfoList_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private GetBackupInfoResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              backupInfoList_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.BackupInfoPb>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            backupInfoList_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.BackupInfoPb.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        backupInfoList_ = java.util.Collections.unmodifiableList(backupInfoList_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.BackupService.internal_static_GetBackupInfoResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.BackupService.internal_static_GetBackupInfoResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse.class, com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse.Builder.class);
+  }
+
+  public static final int BACKUPINFOLIST_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.BackupInfoPb> backupInfoList_;
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.BackupInfoPb> getBackupInfoListList() {
+    return backupInfoList_;
+  }
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder> 
+      getBackupInfoListOrBuilderList() {
+    return backupInfoList_;
+  }
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  public int getBackupInfoListCount() {
+    return backupInfoList_.size();
+  }
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.BackupInfoPb getBackupInfoList(int index) {
+    return backupInfoList_.get(index);
+  }
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder getBackupInfoListOrBuilder(
+      int index) {
+    return backupInfoList_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < backupInfoList_.size(); i++) {
+      output.writeMessage(1, backupInfoList_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < backupInfoList_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, backupInfoList_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse other = (com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse) obj;
+
+    boolean result = true;
+    result = result && getBackupInfoListList()
+        .equals(other.getBackupInfoListList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (getBackupInfoListCount() > 0) {
+      hash = (37 * hash) + BACKUPINFOLIST_FIELD_NUMBER;
+      hash = (53 * hash) + getBackupInfoListList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code GetBackupInfoResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:GetBackupInfoResponse)
+      com.alibaba.maxgraph.proto.groot.GetBackupInfoResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.BackupService.internal_static_GetBackupInfoResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.BackupService.internal_static_GetBackupInfoResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse.class, com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getBackupInfoListFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (backupInfoListBuilder_ == null) {
+        backupInfoList_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        backupInfoListBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.BackupService.internal_static_GetBackupInfoResponse_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse build() {
+      com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse buildPartial() {
+      com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse result = new com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse(this);
+      int from_bitField0_ = bitField0_;
+      if (backupInfoListBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          backupInfoList_ = java.util.Collections.unmodifiableList(backupInfoList_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.backupInfoList_ = backupInfoList_;
+      } else {
+        result.backupInfoList_ = backupInfoListBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse other) {
+      if (other == com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse.getDefaultInstance()) return this;
+      if (backupInfoListBuilder_ == null) {
+        if (!other.backupInfoList_.isEmpty()) {
+          if (backupInfoList_.isEmpty()) {
+            backupInfoList_ = other.backupInfoList_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureBackupInfoListIsMutable();
+            backupInfoList_.addAll(other.backupInfoList_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.backupInfoList_.isEmpty()) {
+          if (backupInfoListBuilder_.isEmpty()) {
+            backupInfoListBuilder_.dispose();
+            backupInfoListBuilder_ = null;
+            backupInfoList_ = other.backupInfoList_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            backupInfoListBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getBackupInfoListFieldBuilder() : null;
+          } else {
+            backupInfoListBuilder_.addAllMessages(other.backupInfoList_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.BackupInfoPb> backupInfoList_ =
+      java.util.Collections.emptyList();
+    private void ensureBackupInfoListIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        backupInfoList_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.BackupInfoPb>(backupInfoList_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.BackupInfoPb, com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder, com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder> backupInfoListBuilder_;
+
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.BackupInfoPb> getBackupInfoListList() {
+      if (backupInfoListBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(backupInfoList_);
+      } else {
+        return backupInfoListBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public int getBackupInfoListCount() {
+      if (backupInfoListBuilder_ == null) {
+        return backupInfoList_.size();
+      } else {
+        return backupInfoListBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.BackupInfoPb getBackupInfoList(int index) {
+      if (backupInfoListBuilder_ == null) {
+        return backupInfoList_.get(index);
+      } else {
+        return backupInfoListBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder setBackupInfoList(
+        int index, com.alibaba.maxgraph.proto.groot.BackupInfoPb value) {
+      if (backupInfoListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBackupInfoListIsMutable();
+        backupInfoList_.set(index, value);
+        onChanged();
+      } else {
+        backupInfoListBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder setBackupInfoList(
+        int index, com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder builderForValue) {
+      if (backupInfoListBuilder_ == null) {
+        ensureBackupInfoListIsMutable();
+        backupInfoList_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        backupInfoListBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder addBackupInfoList(com.alibaba.maxgraph.proto.groot.BackupInfoPb value) {
+      if (backupInfoListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBackupInfoListIsMutable();
+        backupInfoList_.add(value);
+        onChanged();
+      } else {
+        backupInfoListBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder addBackupInfoList(
+        int index, com.alibaba.maxgraph.proto.groot.BackupInfoPb value) {
+      if (backupInfoListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBackupInfoListIsMutable();
+        backupInfoList_.add(index, value);
+        onChanged();
+      } else {
+        backupInfoListBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder addBackupInfoList(
+        com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder builderForValue) {
+      if (backupInfoListBuilder_ == null) {
+        ensureBackupInfoListIsMutable();
+        backupInfoList_.add(builderForValue.build());
+        onChanged();
+      } else {
+        backupInfoListBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder addBackupInfoList(
+        int index, com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder builderForValue) {
+      if (backupInfoListBuilder_ == null) {
+        ensureBackupInfoListIsMutable();
+        backupInfoList_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        backupInfoListBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder addAllBackupInfoList(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.BackupInfoPb> values) {
+      if (backupInfoListBuilder_ == null) {
+        ensureBackupInfoListIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, backupInfoList_);
+        onChanged();
+      } else {
+        backupInfoListBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder clearBackupInfoList() {
+      if (backupInfoListBuilder_ == null) {
+        backupInfoList_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        backupInfoListBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public Builder removeBackupInfoList(int index) {
+      if (backupInfoListBuilder_ == null) {
+        ensureBackupInfoListIsMutable();
+        backupInfoList_.remove(index);
+        onChanged();
+      } else {
+        backupInfoListBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder getBackupInfoListBuilder(
+        int index) {
+      return getBackupInfoListFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder getBackupInfoListOrBuilder(
+        int index) {
+      if (backupInfoListBuilder_ == null) {
+        return backupInfoList_.get(index);  } else {
+        return backupInfoListBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder> 
+         getBackupInfoListOrBuilderList() {
+      if (backupInfoListBuilder_ != null) {
+        return backupInfoListBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(backupInfoList_);
+      }
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder addBackupInfoListBuilder() {
+      return getBackupInfoListFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.BackupInfoPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder addBackupInfoListBuilder(
+        int index) {
+      return getBackupInfoListFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.BackupInfoPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder> 
+         getBackupInfoListBuilderList() {
+      return getBackupInfoListFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.BackupInfoPb, com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder, com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder> 
+        getBackupInfoListFieldBuilder() {
+      if (backupInfoListBuilder_ == null) {
+        backupInfoListBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.BackupInfoPb, com.alibaba.maxgraph.proto.groot.BackupInfoPb.Builder, com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder>(
+                backupInfoList_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        backupInfoList_ = null;
+      }
+      return backupInfoListBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:GetBackupInfoResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:GetBackupInfoResponse)
+  private static final com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GetBackupInfoResponse>
+      PARSER = new com.google.protobuf.AbstractParser<GetBackupInfoResponse>() {
+    public GetBackupInfoResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetBackupInfoResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GetBackupInfoResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GetBackupInfoResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.GetBackupInfoResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
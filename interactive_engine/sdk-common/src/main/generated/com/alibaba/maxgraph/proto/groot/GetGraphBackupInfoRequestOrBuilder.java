@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetGraphBackupInfoRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetGraphBackupInfoRequest)
+    com.google.protobuf.MessageOrBuilder {
+}
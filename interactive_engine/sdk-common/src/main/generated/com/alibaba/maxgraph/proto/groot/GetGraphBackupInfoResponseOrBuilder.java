@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetGraphBackupInfoResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetGraphBackupInfoResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.BackupInfoPb> 
+      getBackupInfoListList();
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.BackupInfoPb getBackupInfoList(int index);
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  int getBackupInfoListCount();
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder> 
+      getBackupInfoListOrBuilderList();
+  /**
+   * <code>repeated .BackupInfoPb backupInfoList = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.BackupInfoPbOrBuilder getBackupInfoListOrBuilder(
+      int index);
+}
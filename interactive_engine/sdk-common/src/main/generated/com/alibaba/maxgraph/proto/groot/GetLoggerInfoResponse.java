@@ -0,0 +1,679 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code GetLoggerInfoResponse}
+ */
+public  final class GetLoggerInfoResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:GetLoggerInfoResponse)
+    GetLoggerInfoResponseOrBuilder {
+  // Use GetLoggerInfoResponse.newBuilder() to construct.
+  private GetLoggerInfoResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GetLoggerInfoResponse() {
+    loggerServers_ = "";
+    loggerTopic_ = "";
+    loggerQueueCount_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private GetLoggerInfoResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            loggerServers_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            loggerTopic_ = s;
+            break;
+          }
+          case 24: {
+
+            loggerQueueCount_ = input.readInt32();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_GetLoggerInfoResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_GetLoggerInfoResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse.class, com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse.Builder.class);
+  }
+
+  public static final int LOGGERSERVERS_FIELD_NUMBER = 1;
+  private volatile java.lang.Object loggerServers_;
+  /**
+   * <code>optional string loggerServers = 1;</code>
+   */
+  public java.lang.String getLoggerServers() {
+    java.lang.Object ref = loggerServers_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      loggerServers_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string loggerServers = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLoggerServersBytes() {
+    java.lang.Object ref = loggerServers_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      loggerServers_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int LOGGERTOPIC_FIELD_NUMBER = 2;
+  private volatile java.lang.Object loggerTopic_;
+  /**
+   * <code>optional string loggerTopic = 2;</code>
+   */
+  public java.lang.String getLoggerTopic() {
+    java.lang.Object ref = loggerTopic_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      loggerTopic_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string loggerTopic = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getLoggerTopicBytes() {
+    java.lang.Object ref = loggerTopic_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      loggerTopic_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int LOGGERQUEUECOUNT_FIELD_NUMBER = 3;
+  private int loggerQueueCount_;
+  /**
+   * <code>optional int32 loggerQueueCount = 3;</code>
+   */
+  public int getLoggerQueueCount() {
+    return loggerQueueCount_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!getLoggerServersBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, loggerServers_);
+    }
+    if (!getLoggerTopicBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, loggerTopic_);
+    }
+    if (loggerQueueCount_ != 0) {
+      output.writeInt32(3, loggerQueueCount_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!getLoggerServersBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, loggerServers_);
+    }
+    if (!getLoggerTopicBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, loggerTopic_);
+    }
+    if (loggerQueueCount_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, loggerQueueCount_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse other = (com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse) obj;
+
+    boolean result = true;
+    result = result && getLoggerServers()
+        .equals(other.getLoggerServers());
+    result = result && getLoggerTopic()
+        .equals(other.getLoggerTopic());
+    result = result && (getLoggerQueueCount()
+        == other.getLoggerQueueCount());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LOGGERSERVERS_FIELD_NUMBER;
+    hash = (53 * hash) + getLoggerServers().hashCode();
+    hash = (37 * hash) + LOGGERTOPIC_FIELD_NUMBER;
+    hash = (53 * hash) + getLoggerTopic().hashCode();
+    hash = (37 * hash) + LOGGERQUEUECOUNT_FIELD_NUMBER;
+    hash = (53 * hash) + getLoggerQueueCount();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code GetLoggerInfoResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:GetLoggerInfoResponse)
+      com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_GetLoggerInfoResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_GetLoggerInfoResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse.class, com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      loggerServers_ = "";
+
+      loggerTopic_ = "";
+
+      loggerQueueCount_ = 0;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_GetLoggerInfoResponse_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse build() {
+      com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse buildPartial() {
+      com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse result = new com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse(this);
+      result.loggerServers_ = loggerServers_;
+      result.loggerTopic_ = loggerTopic_;
+      result.loggerQueueCount_ = loggerQueueCount_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse other) {
+      if (other == com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse.getDefaultInstance()) return this;
+      if (!other.getLoggerServers().isEmpty()) {
+        loggerServers_ = other.loggerServers_;
+        onChanged();
+      }
+      if (!other.getLoggerTopic().isEmpty()) {
+        loggerTopic_ = other.loggerTopic_;
+        onChanged();
+      }
+      if (other.getLoggerQueueCount() != 0) {
+        setLoggerQueueCount(other.getLoggerQueueCount());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object loggerServers_ = "";
+    /**
+     * <code>optional string loggerServers = 1;</code>
+     */
+    public java.lang.String getLoggerServers() {
+      java.lang.Object ref = loggerServers_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        loggerServers_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string loggerServers = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLoggerServersBytes() {
+      java.lang.Object ref = loggerServers_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        loggerServers_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string loggerServers = 1;</code>
+     */
+    public Builder setLoggerServers(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      loggerServers_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string loggerServers = 1;</code>
+     */
+    public Builder clearLoggerServers() {
+      
+      loggerServers_ = getDefaultInstance().getLoggerServers();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string loggerServers = 1;</code>
+     */
+    public Builder setLoggerServersBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      loggerServers_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object loggerTopic_ = "";
+    /**
+     * <code>optional string loggerTopic = 2;</code>
+     */
+    public java.lang.String getLoggerTopic() {
+      java.lang.Object ref = loggerTopic_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        loggerTopic_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string loggerTopic = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLoggerTopicBytes() {
+      java.lang.Object ref = loggerTopic_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        loggerTopic_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string loggerTopic = 2;</code>
+     */
+    public Builder setLoggerTopic(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      loggerTopic_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string loggerTopic = 2;</code>
+     */
+    public Builder clearLoggerTopic() {
+      
+      loggerTopic_ = getDefaultInstance().getLoggerTopic();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string loggerTopic = 2;</code>
+     */
+    public Builder setLoggerTopicBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      loggerTopic_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int loggerQueueCount_ ;
+    /**
+     * <code>optional int32 loggerQueueCount = 3;</code>
+     */
+    public int getLoggerQueueCount() {
+      return loggerQueueCount_;
+    }
+    /**
+     * <code>optional int32 loggerQueueCount = 3;</code>
+     */
+    public Builder setLoggerQueueCount(int value) {
+      
+      loggerQueueCount_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 loggerQueueCount = 3;</code>
+     */
+    public Builder clearLoggerQueueCount() {
+      
+      loggerQueueCount_ = 0;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:GetLoggerInfoResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:GetLoggerInfoResponse)
+  private static final com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GetLoggerInfoResponse>
+      PARSER = new com.google.protobuf.AbstractParser<GetLoggerInfoResponse>() {
+    public GetLoggerInfoResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetLoggerInfoResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GetLoggerInfoResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GetLoggerInfoResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.GetLoggerInfoResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
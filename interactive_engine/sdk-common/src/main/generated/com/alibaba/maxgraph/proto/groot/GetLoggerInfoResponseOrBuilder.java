@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetLoggerInfoResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetLoggerInfoResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string loggerServers = 1;</code>
+   */
+  java.lang.String getLoggerServers();
+  /**
+   * <code>optional string loggerServers = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLoggerServersBytes();
+
+  /**
+   * <code>optional string loggerTopic = 2;</code>
+   */
+  java.lang.String getLoggerTopic();
+  /**
+   * <code>optional string loggerTopic = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getLoggerTopicBytes();
+
+  /**
+   * <code>optional int32 loggerQueueCount = 3;</code>
+   */
+  int getLoggerQueueCount();
+}
@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetMetricsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetMetricsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string roleNames = 1;</code>
+   */
+  java.lang.String getRoleNames();
+  /**
+   * <code>optional string roleNames = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getRoleNamesBytes();
+}
@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetMetricsResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetMetricsResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string metricsJson = 1;</code>
+   */
+  java.lang.String getMetricsJson();
+  /**
+   * <code>optional string metricsJson = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getMetricsJsonBytes();
+}
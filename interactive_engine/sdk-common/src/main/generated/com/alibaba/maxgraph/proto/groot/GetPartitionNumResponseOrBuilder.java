@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetPartitionNumResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetPartitionNumResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 partitionNum = 1;</code>
+   */
+  int getPartitionNum();
+}
@@ -0,0 +1,22 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GetSchemaResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GetSchemaResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .GraphDefPb graphDef = 1;</code>
+   */
+  boolean hasGraphDef();
+  /**
+   * <code>optional .GraphDefPb graphDef = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef();
+  /**
+   * <code>optional .GraphDefPb graphDef = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder();
+}
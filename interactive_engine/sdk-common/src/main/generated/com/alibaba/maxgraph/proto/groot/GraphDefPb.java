@@ -0,0 +1,2248 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code GraphDefPb}
+ */
+public  final class GraphDefPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:GraphDefPb)
+    GraphDefPbOrBuilder {
+  // Use GraphDefPb.newBuilder() to construct.
+  private GraphDefPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GraphDefPb() {
+    version_ = 0L;
+    typeDefs_ = java.util.Collections.emptyList();
+    edgeKinds_ = java.util.Collections.emptyList();
+    labelIdx_ = 0;
+    propertyIdx_ = 0;
+    vertexTableIds_ = java.util.Collections.emptyList();
+    edgeTableIds_ = java.util.Collections.emptyList();
+    tableIdx_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private GraphDefPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            version_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              typeDefs_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.TypeDefPb>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            typeDefs_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.TypeDefPb.parser(), extensionRegistry));
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+              edgeKinds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.EdgeKindPb>();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            edgeKinds_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.EdgeKindPb.parser(), extensionRegistry));
+            break;
+          }
+          case 34: {
+            if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+              propertyNameToId_ = com.google.protobuf.MapField.newMapField(
+                  PropertyNameToIdDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000008;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, java.lang.Integer>
+            propertyNameToId = input.readMessage(
+                PropertyNameToIdDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            propertyNameToId_.getMutableMap().put(propertyNameToId.getKey(), propertyNameToId.getValue());
+            break;
+          }
+          case 40: {
+
+            labelIdx_ = input.readInt32();
+            break;
+          }
+          case 48: {
+
+            propertyIdx_ = input.readInt32();
+            break;
+          }
+          case 58: {
+            if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+              vertexTableIds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.VertexTableIdEntry>();
+              mutable_bitField0_ |= 0x00000040;
+            }
+            vertexTableIds_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.parser(), extensionRegistry));
+            break;
+          }
+          case 66: {
+            if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+              edgeTableIds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry>();
+              mutable_bitField0_ |= 0x00000080;
+            }
+            edgeTableIds_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.parser(), extensionRegistry));
+            break;
+          }
+          case 72: {
+
+            tableIdx_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        typeDefs_ = java.util.Collections.unmodifiableList(typeDefs_);
+      }
+      if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+        edgeKinds_ = java.util.Collections.unmodifiableList(edgeKinds_);
+      }
+      if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+        vertexTableIds_ = java.util.Collections.unmodifiableList(vertexTableIds_);
+      }
+      if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+        edgeTableIds_ = java.util.Collections.unmodifiableList(edgeTableIds_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_GraphDefPb_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 4:
+        return internalGetPropertyNameToId();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_GraphDefPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.GraphDefPb.class, com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int VERSION_FIELD_NUMBER = 1;
+  private long version_;
+  /**
+   * <code>optional int64 version = 1;</code>
+   */
+  public long getVersion() {
+    return version_;
+  }
+
+  public static final int TYPEDEFS_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.TypeDefPb> typeDefs_;
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.TypeDefPb> getTypeDefsList() {
+    return typeDefs_;
+  }
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder> 
+      getTypeDefsOrBuilderList() {
+    return typeDefs_;
+  }
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  public int getTypeDefsCount() {
+    return typeDefs_.size();
+  }
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.TypeDefPb getTypeDefs(int index) {
+    return typeDefs_.get(index);
+  }
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder getTypeDefsOrBuilder(
+      int index) {
+    return typeDefs_.get(index);
+  }
+
+  public static final int EDGEKINDS_FIELD_NUMBER = 3;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.EdgeKindPb> edgeKinds_;
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeKindPb> getEdgeKindsList() {
+    return edgeKinds_;
+  }
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> 
+      getEdgeKindsOrBuilderList() {
+    return edgeKinds_;
+  }
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  public int getEdgeKindsCount() {
+    return edgeKinds_.size();
+  }
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKinds(int index) {
+    return edgeKinds_.get(index);
+  }
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindsOrBuilder(
+      int index) {
+    return edgeKinds_.get(index);
+  }
+
+  public static final int PROPERTYNAMETOID_FIELD_NUMBER = 4;
+  private static final class PropertyNameToIdDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, java.lang.Integer> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, java.lang.Integer>newDefaultInstance(
+                com.alibaba.maxgraph.proto.groot.Model.internal_static_GraphDefPb_PropertyNameToIdEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.INT32,
+                0);
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, java.lang.Integer> propertyNameToId_;
+  private com.google.protobuf.MapField<java.lang.String, java.lang.Integer>
+  internalGetPropertyNameToId() {
+    if (propertyNameToId_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          PropertyNameToIdDefaultEntryHolder.defaultEntry);
+    }
+    return propertyNameToId_;
+  }
+
+  public int getPropertyNameToIdCount() {
+    return internalGetPropertyNameToId().getMap().size();
+  }
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+
+  public boolean containsPropertyNameToId(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    return internalGetPropertyNameToId().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getPropertyNameToIdMap()} instead.
+   */
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, java.lang.Integer> getPropertyNameToId() {
+    return getPropertyNameToIdMap();
+  }
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+
+  public java.util.Map<java.lang.String, java.lang.Integer> getPropertyNameToIdMap() {
+    return internalGetPropertyNameToId().getMap();
+  }
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+
+  public int getPropertyNameToIdOrDefault(
+      java.lang.String key,
+      int defaultValue) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.Integer> map =
+        internalGetPropertyNameToId().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+
+  public int getPropertyNameToIdOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new java.lang.NullPointerException(); }
+    java.util.Map<java.lang.String, java.lang.Integer> map =
+        internalGetPropertyNameToId().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int LABELIDX_FIELD_NUMBER = 5;
+  private int labelIdx_;
+  /**
+   * <code>optional int32 labelIdx = 5;</code>
+   */
+  public int getLabelIdx() {
+    return labelIdx_;
+  }
+
+  public static final int PROPERTYIDX_FIELD_NUMBER = 6;
+  private int propertyIdx_;
+  /**
+   * <code>optional int32 propertyIdx = 6;</code>
+   */
+  public int getPropertyIdx() {
+    return propertyIdx_;
+  }
+
+  public static final int VERTEXTABLEIDS_FIELD_NUMBER = 7;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.VertexTableIdEntry> vertexTableIds_;
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.VertexTableIdEntry> getVertexTableIdsList() {
+    return vertexTableIds_;
+  }
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder> 
+      getVertexTableIdsOrBuilderList() {
+    return vertexTableIds_;
+  }
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  public int getVertexTableIdsCount() {
+    return vertexTableIds_.size();
+  }
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry getVertexTableIds(int index) {
+    return vertexTableIds_.get(index);
+  }
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder getVertexTableIdsOrBuilder(
+      int index) {
+    return vertexTableIds_.get(index);
+  }
+
+  public static final int EDGETABLEIDS_FIELD_NUMBER = 8;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry> edgeTableIds_;
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry> getEdgeTableIdsList() {
+    return edgeTableIds_;
+  }
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder> 
+      getEdgeTableIdsOrBuilderList() {
+    return edgeTableIds_;
+  }
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  public int getEdgeTableIdsCount() {
+    return edgeTableIds_.size();
+  }
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry getEdgeTableIds(int index) {
+    return edgeTableIds_.get(index);
+  }
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder getEdgeTableIdsOrBuilder(
+      int index) {
+    return edgeTableIds_.get(index);
+  }
+
+  public static final int TABLEIDX_FIELD_NUMBER = 9;
+  private long tableIdx_;
+  /**
+   * <code>optional int64 tableIdx = 9;</code>
+   */
+  public long getTableIdx() {
+    return tableIdx_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (version_ != 0L) {
+      output.writeInt64(1, version_);
+    }
+    for (int i = 0; i < typeDefs_.size(); i++) {
+      output.writeMessage(2, typeDefs_.get(i));
+    }
+    for (int i = 0; i < edgeKinds_.size(); i++) {
+      output.writeMessage(3, edgeKinds_.get(i));
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.Integer> entry
+         : internalGetPropertyNameToId().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.Integer>
+      propertyNameToId = PropertyNameToIdDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      output.writeMessage(4, propertyNameToId);
+    }
+    if (labelIdx_ != 0) {
+      output.writeInt32(5, labelIdx_);
+    }
+    if (propertyIdx_ != 0) {
+      output.writeInt32(6, propertyIdx_);
+    }
+    for (int i = 0; i < vertexTableIds_.size(); i++) {
+      output.writeMessage(7, vertexTableIds_.get(i));
+    }
+    for (int i = 0; i < edgeTableIds_.size(); i++) {
+      output.writeMessage(8, edgeTableIds_.get(i));
+    }
+    if (tableIdx_ != 0L) {
+      output.writeInt64(9, tableIdx_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (version_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, version_);
+    }
+    for (int i = 0; i < typeDefs_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, typeDefs_.get(i));
+    }
+    for (int i = 0; i < edgeKinds_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, edgeKinds_.get(i));
+    }
+    for (java.util.Map.Entry<java.lang.String, java.lang.Integer> entry
+         : internalGetPropertyNameToId().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, java.lang.Integer>
+      propertyNameToId = PropertyNameToIdDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, propertyNameToId);
+    }
+    if (labelIdx_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(5, labelIdx_);
+    }
+    if (propertyIdx_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(6, propertyIdx_);
+    }
+    for (int i = 0; i < vertexTableIds_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(7, vertexTableIds_.get(i));
+    }
+    for (int i = 0; i < edgeTableIds_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(8, edgeTableIds_.get(i));
+    }
+    if (tableIdx_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(9, tableIdx_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.GraphDefPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.GraphDefPb other = (com.alibaba.maxgraph.proto.groot.GraphDefPb) obj;
+
+    boolean result = true;
+    result = result && (getVersion()
+        == other.getVersion());
+    result = result && getTypeDefsList()
+        .equals(other.getTypeDefsList());
+    result = result && getEdgeKindsList()
+        .equals(other.getEdgeKindsList());
+    result = result && internalGetPropertyNameToId().equals(
+        other.internalGetPropertyNameToId());
+    result = result && (getLabelIdx()
+        == other.getLabelIdx());
+    result = result && (getPropertyIdx()
+        == other.getPropertyIdx());
+    result = result && getVertexTableIdsList()
+        .equals(other.getVertexTableIdsList());
+    result = result && getEdgeTableIdsList()
+        .equals(other.getEdgeTableIdsList());
+    result = result && (getTableIdx()
+        == other.getTableIdx());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getVersion());
+    if (getTypeDefsCount() > 0) {
+      hash = (37 * hash) + TYPEDEFS_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeDefsList().hashCode();
+    }
+    if (getEdgeKindsCount() > 0) {
+      hash = (37 * hash) + EDGEKINDS_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeKindsList().hashCode();
+    }
+    if (!internalGetPropertyNameToId().getMap().isEmpty()) {
+      hash = (37 * hash) + PROPERTYNAMETOID_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetPropertyNameToId().hashCode();
+    }
+    hash = (37 * hash) + LABELIDX_FIELD_NUMBER;
+    hash = (53 * hash) + getLabelIdx();
+    hash = (37 * hash) + PROPERTYIDX_FIELD_NUMBER;
+    hash = (53 * hash) + getPropertyIdx();
+    if (getVertexTableIdsCount() > 0) {
+      hash = (37 * hash) + VERTEXTABLEIDS_FIELD_NUMBER;
+      hash = (53 * hash) + getVertexTableIdsList().hashCode();
+    }
+    if (getEdgeTableIdsCount() > 0) {
+      hash = (37 * hash) + EDGETABLEIDS_FIELD_NUMBER;
+      hash = (53 * hash) + getEdgeTableIdsList().hashCode();
+    }
+    hash = (37 * hash) + TABLEIDX_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTableIdx());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.GraphDefPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code GraphDefPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:GraphDefPb)
+      com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_GraphDefPb_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetPropertyNameToId();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetMutablePropertyNameToId();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_GraphDefPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.GraphDefPb.class, com.alibaba.maxgraph.proto.groot.GraphDefPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.GraphDefPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getTypeDefsFieldBuilder();
+        getEdgeKindsFieldBuilder();
+        getVertexTableIdsFieldBuilder();
+        getEdgeTableIdsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      version_ = 0L;
+
+      if (typeDefsBuilder_ == null) {
+        typeDefs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        typeDefsBuilder_.clear();
+      }
+      if (edgeKindsBuilder_ == null) {
+        edgeKinds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+      } else {
+        edgeKindsBuilder_.clear();
+      }
+      internalGetMutablePropertyNameToId().clear();
+      labelIdx_ = 0;
+
+      propertyIdx_ = 0;
+
+      if (vertexTableIdsBuilder_ == null) {
+        vertexTableIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+      } else {
+        vertexTableIdsBuilder_.clear();
+      }
+      if (edgeTableIdsBuilder_ == null) {
+        edgeTableIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+      } else {
+        edgeTableIdsBuilder_.clear();
+      }
+      tableIdx_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_GraphDefPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GraphDefPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.GraphDefPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GraphDefPb build() {
+      com.alibaba.maxgraph.proto.groot.GraphDefPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.GraphDefPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.GraphDefPb result = new com.alibaba.maxgraph.proto.groot.GraphDefPb(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.version_ = version_;
+      if (typeDefsBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          typeDefs_ = java.util.Collections.unmodifiableList(typeDefs_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.typeDefs_ = typeDefs_;
+      } else {
+        result.typeDefs_ = typeDefsBuilder_.build();
+      }
+      if (edgeKindsBuilder_ == null) {
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          edgeKinds_ = java.util.Collections.unmodifiableList(edgeKinds_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.edgeKinds_ = edgeKinds_;
+      } else {
+        result.edgeKinds_ = edgeKindsBuilder_.build();
+      }
+      result.propertyNameToId_ = internalGetPropertyNameToId();
+      result.propertyNameToId_.makeImmutable();
+      result.labelIdx_ = labelIdx_;
+      result.propertyIdx_ = propertyIdx_;
+      if (vertexTableIdsBuilder_ == null) {
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          vertexTableIds_ = java.util.Collections.unmodifiableList(vertexTableIds_);
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.vertexTableIds_ = vertexTableIds_;
+      } else {
+        result.vertexTableIds_ = vertexTableIdsBuilder_.build();
+      }
+      if (edgeTableIdsBuilder_ == null) {
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          edgeTableIds_ = java.util.Collections.unmodifiableList(edgeTableIds_);
+          bitField0_ = (bitField0_ & ~0x00000080);
+        }
+        result.edgeTableIds_ = edgeTableIds_;
+      } else {
+        result.edgeTableIds_ = edgeTableIdsBuilder_.build();
+      }
+      result.tableIdx_ = tableIdx_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.GraphDefPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.GraphDefPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.GraphDefPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.GraphDefPb.getDefaultInstance()) return this;
+      if (other.getVersion() != 0L) {
+        setVersion(other.getVersion());
+      }
+      if (typeDefsBuilder_ == null) {
+        if (!other.typeDefs_.isEmpty()) {
+          if (typeDefs_.isEmpty()) {
+            typeDefs_ = other.typeDefs_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureTypeDefsIsMutable();
+            typeDefs_.addAll(other.typeDefs_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.typeDefs_.isEmpty()) {
+          if (typeDefsBuilder_.isEmpty()) {
+            typeDefsBuilder_.dispose();
+            typeDefsBuilder_ = null;
+            typeDefs_ = other.typeDefs_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            typeDefsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getTypeDefsFieldBuilder() : null;
+          } else {
+            typeDefsBuilder_.addAllMessages(other.typeDefs_);
+          }
+        }
+      }
+      if (edgeKindsBuilder_ == null) {
+        if (!other.edgeKinds_.isEmpty()) {
+          if (edgeKinds_.isEmpty()) {
+            edgeKinds_ = other.edgeKinds_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureEdgeKindsIsMutable();
+            edgeKinds_.addAll(other.edgeKinds_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.edgeKinds_.isEmpty()) {
+          if (edgeKindsBuilder_.isEmpty()) {
+            edgeKindsBuilder_.dispose();
+            edgeKindsBuilder_ = null;
+            edgeKinds_ = other.edgeKinds_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+            edgeKindsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getEdgeKindsFieldBuilder() : null;
+          } else {
+            edgeKindsBuilder_.addAllMessages(other.edgeKinds_);
+          }
+        }
+      }
+      internalGetMutablePropertyNameToId().mergeFrom(
+          other.internalGetPropertyNameToId());
+      if (other.getLabelIdx() != 0) {
+        setLabelIdx(other.getLabelIdx());
+      }
+      if (other.getPropertyIdx() != 0) {
+        setPropertyIdx(other.getPropertyIdx());
+      }
+      if (vertexTableIdsBuilder_ == null) {
+        if (!other.vertexTableIds_.isEmpty()) {
+          if (vertexTableIds_.isEmpty()) {
+            vertexTableIds_ = other.vertexTableIds_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureVertexTableIdsIsMutable();
+            vertexTableIds_.addAll(other.vertexTableIds_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.vertexTableIds_.isEmpty()) {
+          if (vertexTableIdsBuilder_.isEmpty()) {
+            vertexTableIdsBuilder_.dispose();
+            vertexTableIdsBuilder_ = null;
+            vertexTableIds_ = other.vertexTableIds_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+            vertexTableIdsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getVertexTableIdsFieldBuilder() : null;
+          } else {
+            vertexTableIdsBuilder_.addAllMessages(other.vertexTableIds_);
+          }
+        }
+      }
+      if (edgeTableIdsBuilder_ == null) {
+        if (!other.edgeTableIds_.isEmpty()) {
+          if (edgeTableIds_.isEmpty()) {
+            edgeTableIds_ = other.edgeTableIds_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            ensureEdgeTableIdsIsMutable();
+            edgeTableIds_.addAll(other.edgeTableIds_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.edgeTableIds_.isEmpty()) {
+          if (edgeTableIdsBuilder_.isEmpty()) {
+            edgeTableIdsBuilder_.dispose();
+            edgeTableIdsBuilder_ = null;
+            edgeTableIds_ = other.edgeTableIds_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+            edgeTableIdsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getEdgeTableIdsFieldBuilder() : null;
+          } else {
+            edgeTableIdsBuilder_.addAllMessages(other.edgeTableIds_);
+          }
+        }
+      }
+      if (other.getTableIdx() != 0L) {
+        setTableIdx(other.getTableIdx());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.GraphDefPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.GraphDefPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private long version_ ;
+    /**
+     * <code>optional int64 version = 1;</code>
+     */
+    public long getVersion() {
+      return version_;
+    }
+    /**
+     * <code>optional int64 version = 1;</code>
+     */
+    public Builder setVersion(long value) {
+      
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 version = 1;</code>
+     */
+    public Builder clearVersion() {
+      
+      version_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.TypeDefPb> typeDefs_ =
+      java.util.Collections.emptyList();
+    private void ensureTypeDefsIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        typeDefs_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.TypeDefPb>(typeDefs_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.TypeDefPb, com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder, com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder> typeDefsBuilder_;
+
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.TypeDefPb> getTypeDefsList() {
+      if (typeDefsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(typeDefs_);
+      } else {
+        return typeDefsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public int getTypeDefsCount() {
+      if (typeDefsBuilder_ == null) {
+        return typeDefs_.size();
+      } else {
+        return typeDefsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.TypeDefPb getTypeDefs(int index) {
+      if (typeDefsBuilder_ == null) {
+        return typeDefs_.get(index);
+      } else {
+        return typeDefsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder setTypeDefs(
+        int index, com.alibaba.maxgraph.proto.groot.TypeDefPb value) {
+      if (typeDefsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeDefsIsMutable();
+        typeDefs_.set(index, value);
+        onChanged();
+      } else {
+        typeDefsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder setTypeDefs(
+        int index, com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder builderForValue) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        typeDefs_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        typeDefsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder addTypeDefs(com.alibaba.maxgraph.proto.groot.TypeDefPb value) {
+      if (typeDefsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeDefsIsMutable();
+        typeDefs_.add(value);
+        onChanged();
+      } else {
+        typeDefsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder addTypeDefs(
+        int index, com.alibaba.maxgraph.proto.groot.TypeDefPb value) {
+      if (typeDefsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeDefsIsMutable();
+        typeDefs_.add(index, value);
+        onChanged();
+      } else {
+        typeDefsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder addTypeDefs(
+        com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder builderForValue) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        typeDefs_.add(builderForValue.build());
+        onChanged();
+      } else {
+        typeDefsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder addTypeDefs(
+        int index, com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder builderForValue) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        typeDefs_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        typeDefsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder addAllTypeDefs(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.TypeDefPb> values) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, typeDefs_);
+        onChanged();
+      } else {
+        typeDefsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder clearTypeDefs() {
+      if (typeDefsBuilder_ == null) {
+        typeDefs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        typeDefsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public Builder removeTypeDefs(int index) {
+      if (typeDefsBuilder_ == null) {
+        ensureTypeDefsIsMutable();
+        typeDefs_.remove(index);
+        onChanged();
+      } else {
+        typeDefsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder getTypeDefsBuilder(
+        int index) {
+      return getTypeDefsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder getTypeDefsOrBuilder(
+        int index) {
+      if (typeDefsBuilder_ == null) {
+        return typeDefs_.get(index);  } else {
+        return typeDefsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder> 
+         getTypeDefsOrBuilderList() {
+      if (typeDefsBuilder_ != null) {
+        return typeDefsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(typeDefs_);
+      }
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder addTypeDefsBuilder() {
+      return getTypeDefsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.TypeDefPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder addTypeDefsBuilder(
+        int index) {
+      return getTypeDefsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.TypeDefPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .TypeDefPb typeDefs = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder> 
+         getTypeDefsBuilderList() {
+      return getTypeDefsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.TypeDefPb, com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder, com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder> 
+        getTypeDefsFieldBuilder() {
+      if (typeDefsBuilder_ == null) {
+        typeDefsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.TypeDefPb, com.alibaba.maxgraph.proto.groot.TypeDefPb.Builder, com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder>(
+                typeDefs_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        typeDefs_ = null;
+      }
+      return typeDefsBuilder_;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.EdgeKindPb> edgeKinds_ =
+      java.util.Collections.emptyList();
+    private void ensureEdgeKindsIsMutable() {
+      if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+        edgeKinds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.EdgeKindPb>(edgeKinds_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> edgeKindsBuilder_;
+
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeKindPb> getEdgeKindsList() {
+      if (edgeKindsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(edgeKinds_);
+      } else {
+        return edgeKindsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public int getEdgeKindsCount() {
+      if (edgeKindsBuilder_ == null) {
+        return edgeKinds_.size();
+      } else {
+        return edgeKindsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKinds(int index) {
+      if (edgeKindsBuilder_ == null) {
+        return edgeKinds_.get(index);
+      } else {
+        return edgeKindsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder setEdgeKinds(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeKindPb value) {
+      if (edgeKindsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.set(index, value);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder setEdgeKinds(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder builderForValue) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        edgeKindsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder addEdgeKinds(com.alibaba.maxgraph.proto.groot.EdgeKindPb value) {
+      if (edgeKindsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.add(value);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder addEdgeKinds(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeKindPb value) {
+      if (edgeKindsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.add(index, value);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder addEdgeKinds(
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder builderForValue) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.add(builderForValue.build());
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder addEdgeKinds(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder builderForValue) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder addAllEdgeKinds(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.EdgeKindPb> values) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, edgeKinds_);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder clearEdgeKinds() {
+      if (edgeKindsBuilder_ == null) {
+        edgeKinds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public Builder removeEdgeKinds(int index) {
+      if (edgeKindsBuilder_ == null) {
+        ensureEdgeKindsIsMutable();
+        edgeKinds_.remove(index);
+        onChanged();
+      } else {
+        edgeKindsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder getEdgeKindsBuilder(
+        int index) {
+      return getEdgeKindsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindsOrBuilder(
+        int index) {
+      if (edgeKindsBuilder_ == null) {
+        return edgeKinds_.get(index);  } else {
+        return edgeKindsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> 
+         getEdgeKindsOrBuilderList() {
+      if (edgeKindsBuilder_ != null) {
+        return edgeKindsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(edgeKinds_);
+      }
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder addEdgeKindsBuilder() {
+      return getEdgeKindsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder addEdgeKindsBuilder(
+        int index) {
+      return getEdgeKindsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.EdgeKindPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder> 
+         getEdgeKindsBuilderList() {
+      return getEdgeKindsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> 
+        getEdgeKindsFieldBuilder() {
+      if (edgeKindsBuilder_ == null) {
+        edgeKindsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.EdgeKindPb, com.alibaba.maxgraph.proto.groot.EdgeKindPb.Builder, com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder>(
+                edgeKinds_,
+                ((bitField0_ & 0x00000004) == 0x00000004),
+                getParentForChildren(),
+                isClean());
+        edgeKinds_ = null;
+      }
+      return edgeKindsBuilder_;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.Integer> propertyNameToId_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.Integer>
+    internalGetPropertyNameToId() {
+      if (propertyNameToId_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            PropertyNameToIdDefaultEntryHolder.defaultEntry);
+      }
+      return propertyNameToId_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, java.lang.Integer>
+    internalGetMutablePropertyNameToId() {
+      onChanged();;
+      if (propertyNameToId_ == null) {
+        propertyNameToId_ = com.google.protobuf.MapField.newMapField(
+            PropertyNameToIdDefaultEntryHolder.defaultEntry);
+      }
+      if (!propertyNameToId_.isMutable()) {
+        propertyNameToId_ = propertyNameToId_.copy();
+      }
+      return propertyNameToId_;
+    }
+
+    public int getPropertyNameToIdCount() {
+      return internalGetPropertyNameToId().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+     */
+
+    public boolean containsPropertyNameToId(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetPropertyNameToId().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getPropertyNameToIdMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.Integer> getPropertyNameToId() {
+      return getPropertyNameToIdMap();
+    }
+    /**
+     * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.Integer> getPropertyNameToIdMap() {
+      return internalGetPropertyNameToId().getMap();
+    }
+    /**
+     * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+     */
+
+    public int getPropertyNameToIdOrDefault(
+        java.lang.String key,
+        int defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.Integer> map =
+          internalGetPropertyNameToId().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+     */
+
+    public int getPropertyNameToIdOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.Integer> map =
+          internalGetPropertyNameToId().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearPropertyNameToId() {
+      getMutablePropertyNameToId().clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+     */
+
+    public Builder removePropertyNameToId(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      getMutablePropertyNameToId().remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.Integer>
+    getMutablePropertyNameToId() {
+      return internalGetMutablePropertyNameToId().getMutableMap();
+    }
+    /**
+     * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+     */
+    public Builder putPropertyNameToId(
+        java.lang.String key,
+        int value) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      
+      getMutablePropertyNameToId().put(key, value);
+      return this;
+    }
+    /**
+     * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+     */
+
+    public Builder putAllPropertyNameToId(
+        java.util.Map<java.lang.String, java.lang.Integer> values) {
+      getMutablePropertyNameToId().putAll(values);
+      return this;
+    }
+
+    private int labelIdx_ ;
+    /**
+     * <code>optional int32 labelIdx = 5;</code>
+     */
+    public int getLabelIdx() {
+      return labelIdx_;
+    }
+    /**
+     * <code>optional int32 labelIdx = 5;</code>
+     */
+    public Builder setLabelIdx(int value) {
+      
+      labelIdx_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 labelIdx = 5;</code>
+     */
+    public Builder clearLabelIdx() {
+      
+      labelIdx_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int propertyIdx_ ;
+    /**
+     * <code>optional int32 propertyIdx = 6;</code>
+     */
+    public int getPropertyIdx() {
+      return propertyIdx_;
+    }
+    /**
+     * <code>optional int32 propertyIdx = 6;</code>
+     */
+    public Builder setPropertyIdx(int value) {
+      
+      propertyIdx_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 propertyIdx = 6;</code>
+     */
+    public Builder clearPropertyIdx() {
+      
+      propertyIdx_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.VertexTableIdEntry> vertexTableIds_ =
+      java.util.Collections.emptyList();
+    private void ensureVertexTableIdsIsMutable() {
+      if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+        vertexTableIds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.VertexTableIdEntry>(vertexTableIds_);
+        bitField0_ |= 0x00000040;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.VertexTableIdEntry, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder, com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder> vertexTableIdsBuilder_;
+
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.VertexTableIdEntry> getVertexTableIdsList() {
+      if (vertexTableIdsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(vertexTableIds_);
+      } else {
+        return vertexTableIdsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public int getVertexTableIdsCount() {
+      if (vertexTableIdsBuilder_ == null) {
+        return vertexTableIds_.size();
+      } else {
+        return vertexTableIdsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry getVertexTableIds(int index) {
+      if (vertexTableIdsBuilder_ == null) {
+        return vertexTableIds_.get(index);
+      } else {
+        return vertexTableIdsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder setVertexTableIds(
+        int index, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry value) {
+      if (vertexTableIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureVertexTableIdsIsMutable();
+        vertexTableIds_.set(index, value);
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder setVertexTableIds(
+        int index, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder builderForValue) {
+      if (vertexTableIdsBuilder_ == null) {
+        ensureVertexTableIdsIsMutable();
+        vertexTableIds_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder addVertexTableIds(com.alibaba.maxgraph.proto.groot.VertexTableIdEntry value) {
+      if (vertexTableIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureVertexTableIdsIsMutable();
+        vertexTableIds_.add(value);
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder addVertexTableIds(
+        int index, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry value) {
+      if (vertexTableIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureVertexTableIdsIsMutable();
+        vertexTableIds_.add(index, value);
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder addVertexTableIds(
+        com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder builderForValue) {
+      if (vertexTableIdsBuilder_ == null) {
+        ensureVertexTableIdsIsMutable();
+        vertexTableIds_.add(builderForValue.build());
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder addVertexTableIds(
+        int index, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder builderForValue) {
+      if (vertexTableIdsBuilder_ == null) {
+        ensureVertexTableIdsIsMutable();
+        vertexTableIds_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder addAllVertexTableIds(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.VertexTableIdEntry> values) {
+      if (vertexTableIdsBuilder_ == null) {
+        ensureVertexTableIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, vertexTableIds_);
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder clearVertexTableIds() {
+      if (vertexTableIdsBuilder_ == null) {
+        vertexTableIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public Builder removeVertexTableIds(int index) {
+      if (vertexTableIdsBuilder_ == null) {
+        ensureVertexTableIdsIsMutable();
+        vertexTableIds_.remove(index);
+        onChanged();
+      } else {
+        vertexTableIdsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder getVertexTableIdsBuilder(
+        int index) {
+      return getVertexTableIdsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder getVertexTableIdsOrBuilder(
+        int index) {
+      if (vertexTableIdsBuilder_ == null) {
+        return vertexTableIds_.get(index);  } else {
+        return vertexTableIdsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder> 
+         getVertexTableIdsOrBuilderList() {
+      if (vertexTableIdsBuilder_ != null) {
+        return vertexTableIdsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(vertexTableIds_);
+      }
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder addVertexTableIdsBuilder() {
+      return getVertexTableIdsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder addVertexTableIdsBuilder(
+        int index) {
+      return getVertexTableIdsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder> 
+         getVertexTableIdsBuilderList() {
+      return getVertexTableIdsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.VertexTableIdEntry, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder, com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder> 
+        getVertexTableIdsFieldBuilder() {
+      if (vertexTableIdsBuilder_ == null) {
+        vertexTableIdsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.VertexTableIdEntry, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder, com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder>(
+                vertexTableIds_,
+                ((bitField0_ & 0x00000040) == 0x00000040),
+                getParentForChildren(),
+                isClean());
+        vertexTableIds_ = null;
+      }
+      return vertexTableIdsBuilder_;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry> edgeTableIds_ =
+      java.util.Collections.emptyList();
+    private void ensureEdgeTableIdsIsMutable() {
+      if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+        edgeTableIds_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry>(edgeTableIds_);
+        bitField0_ |= 0x00000080;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder> edgeTableIdsBuilder_;
+
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry> getEdgeTableIdsList() {
+      if (edgeTableIdsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(edgeTableIds_);
+      } else {
+        return edgeTableIdsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public int getEdgeTableIdsCount() {
+      if (edgeTableIdsBuilder_ == null) {
+        return edgeTableIds_.size();
+      } else {
+        return edgeTableIdsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry getEdgeTableIds(int index) {
+      if (edgeTableIdsBuilder_ == null) {
+        return edgeTableIds_.get(index);
+      } else {
+        return edgeTableIdsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder setEdgeTableIds(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry value) {
+      if (edgeTableIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeTableIdsIsMutable();
+        edgeTableIds_.set(index, value);
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder setEdgeTableIds(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder builderForValue) {
+      if (edgeTableIdsBuilder_ == null) {
+        ensureEdgeTableIdsIsMutable();
+        edgeTableIds_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder addEdgeTableIds(com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry value) {
+      if (edgeTableIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeTableIdsIsMutable();
+        edgeTableIds_.add(value);
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder addEdgeTableIds(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry value) {
+      if (edgeTableIdsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureEdgeTableIdsIsMutable();
+        edgeTableIds_.add(index, value);
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder addEdgeTableIds(
+        com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder builderForValue) {
+      if (edgeTableIdsBuilder_ == null) {
+        ensureEdgeTableIdsIsMutable();
+        edgeTableIds_.add(builderForValue.build());
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder addEdgeTableIds(
+        int index, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder builderForValue) {
+      if (edgeTableIdsBuilder_ == null) {
+        ensureEdgeTableIdsIsMutable();
+        edgeTableIds_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder addAllEdgeTableIds(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry> values) {
+      if (edgeTableIdsBuilder_ == null) {
+        ensureEdgeTableIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, edgeTableIds_);
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder clearEdgeTableIds() {
+      if (edgeTableIdsBuilder_ == null) {
+        edgeTableIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public Builder removeEdgeTableIds(int index) {
+      if (edgeTableIdsBuilder_ == null) {
+        ensureEdgeTableIdsIsMutable();
+        edgeTableIds_.remove(index);
+        onChanged();
+      } else {
+        edgeTableIdsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder getEdgeTableIdsBuilder(
+        int index) {
+      return getEdgeTableIdsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder getEdgeTableIdsOrBuilder(
+        int index) {
+      if (edgeTableIdsBuilder_ == null) {
+        return edgeTableIds_.get(index);  } else {
+        return edgeTableIdsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder> 
+         getEdgeTableIdsOrBuilderList() {
+      if (edgeTableIdsBuilder_ != null) {
+        return edgeTableIdsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(edgeTableIds_);
+      }
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder addEdgeTableIdsBuilder() {
+      return getEdgeTableIdsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder addEdgeTableIdsBuilder(
+        int index) {
+      return getEdgeTableIdsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder> 
+         getEdgeTableIdsBuilderList() {
+      return getEdgeTableIdsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder> 
+        getEdgeTableIdsFieldBuilder() {
+      if (edgeTableIdsBuilder_ == null) {
+        edgeTableIdsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry.Builder, com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder>(
+                edgeTableIds_,
+                ((bitField0_ & 0x00000080) == 0x00000080),
+                getParentForChildren(),
+                isClean());
+        edgeTableIds_ = null;
+      }
+      return edgeTableIdsBuilder_;
+    }
+
+    private long tableIdx_ ;
+    /**
+     * <code>optional int64 tableIdx = 9;</code>
+     */
+    public long getTableIdx() {
+      return tableIdx_;
+    }
+    /**
+     * <code>optional int64 tableIdx = 9;</code>
+     */
+    public Builder setTableIdx(long value) {
+      
+      tableIdx_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 tableIdx = 9;</code>
+     */
+    public Builder clearTableIdx() {
+      
+      tableIdx_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:GraphDefPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:GraphDefPb)
+  private static final com.alibaba.maxgraph.proto.groot.GraphDefPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.GraphDefPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.GraphDefPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GraphDefPb>
+      PARSER = new com.google.protobuf.AbstractParser<GraphDefPb>() {
+    public GraphDefPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GraphDefPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GraphDefPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GraphDefPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.GraphDefPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
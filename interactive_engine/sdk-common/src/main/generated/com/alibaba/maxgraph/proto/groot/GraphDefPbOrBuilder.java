@@ -0,0 +1,159 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface GraphDefPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:GraphDefPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 version = 1;</code>
+   */
+  long getVersion();
+
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.TypeDefPb> 
+      getTypeDefsList();
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.TypeDefPb getTypeDefs(int index);
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  int getTypeDefsCount();
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder> 
+      getTypeDefsOrBuilderList();
+  /**
+   * <code>repeated .TypeDefPb typeDefs = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.TypeDefPbOrBuilder getTypeDefsOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.EdgeKindPb> 
+      getEdgeKindsList();
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeKindPb getEdgeKinds(int index);
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  int getEdgeKindsCount();
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder> 
+      getEdgeKindsOrBuilderList();
+  /**
+   * <code>repeated .EdgeKindPb edgeKinds = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeKindPbOrBuilder getEdgeKindsOrBuilder(
+      int index);
+
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+  int getPropertyNameToIdCount();
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+  boolean containsPropertyNameToId(
+      java.lang.String key);
+  /**
+   * Use {@link #getPropertyNameToIdMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.Integer>
+  getPropertyNameToId();
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.Integer>
+  getPropertyNameToIdMap();
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+
+  int getPropertyNameToIdOrDefault(
+      java.lang.String key,
+      int defaultValue);
+  /**
+   * <code>map&lt;string, int32&gt; propertyNameToId = 4;</code>
+   */
+
+  int getPropertyNameToIdOrThrow(
+      java.lang.String key);
+
+  /**
+   * <code>optional int32 labelIdx = 5;</code>
+   */
+  int getLabelIdx();
+
+  /**
+   * <code>optional int32 propertyIdx = 6;</code>
+   */
+  int getPropertyIdx();
+
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.VertexTableIdEntry> 
+      getVertexTableIdsList();
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.VertexTableIdEntry getVertexTableIds(int index);
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  int getVertexTableIdsCount();
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder> 
+      getVertexTableIdsOrBuilderList();
+  /**
+   * <code>repeated .VertexTableIdEntry vertexTableIds = 7;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder getVertexTableIdsOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry> 
+      getEdgeTableIdsList();
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeTableIdEntry getEdgeTableIds(int index);
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  int getEdgeTableIdsCount();
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder> 
+      getEdgeTableIdsOrBuilderList();
+  /**
+   * <code>repeated .EdgeTableIdEntry edgeTableIds = 8;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.EdgeTableIdEntryOrBuilder getEdgeTableIdsOrBuilder(
+      int index);
+
+  /**
+   * <code>optional int64 tableIdx = 9;</code>
+   */
+  long getTableIdx();
+}
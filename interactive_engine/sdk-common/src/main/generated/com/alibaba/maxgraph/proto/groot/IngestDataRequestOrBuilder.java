@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface IngestDataRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:IngestDataRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string dataPath = 1;</code>
+   */
+  java.lang.String getDataPath();
+  /**
+   * <code>optional string dataPath = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getDataPathBytes();
+}
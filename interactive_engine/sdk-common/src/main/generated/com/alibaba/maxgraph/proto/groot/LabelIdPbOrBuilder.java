@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface LabelIdPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:LabelIdPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 id = 1;</code>
+   */
+  int getId();
+}
@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface LoadJsonSchemaRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:LoadJsonSchemaRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string schemaJson = 1;</code>
+   */
+  java.lang.String getSchemaJson();
+  /**
+   * <code>optional string schemaJson = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getSchemaJsonBytes();
+}
@@ -0,0 +1,607 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code LogEntryPb}
+ */
+public  final class LogEntryPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:LogEntryPb)
+    LogEntryPbOrBuilder {
+  // Use LogEntryPb.newBuilder() to construct.
+  private LogEntryPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private LogEntryPb() {
+    snapshotId_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private LogEntryPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            snapshotId_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder subBuilder = null;
+            if (operations_ != null) {
+              subBuilder = operations_.toBuilder();
+            }
+            operations_ = input.readMessage(com.alibaba.maxgraph.proto.groot.OperationBatchPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(operations_);
+              operations_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_LogEntryPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_LogEntryPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.LogEntryPb.class, com.alibaba.maxgraph.proto.groot.LogEntryPb.Builder.class);
+  }
+
+  public static final int SNAPSHOTID_FIELD_NUMBER = 1;
+  private long snapshotId_;
+  /**
+   * <code>optional int64 snapshotId = 1;</code>
+   */
+  public long getSnapshotId() {
+    return snapshotId_;
+  }
+
+  public static final int OPERATIONS_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.groot.OperationBatchPb operations_;
+  /**
+   * <code>optional .OperationBatchPb operations = 2;</code>
+   */
+  public boolean hasOperations() {
+    return operations_ != null;
+  }
+  /**
+   * <code>optional .OperationBatchPb operations = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.OperationBatchPb getOperations() {
+    return operations_ == null ? com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance() : operations_;
+  }
+  /**
+   * <code>optional .OperationBatchPb operations = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder getOperationsOrBuilder() {
+    return getOperations();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (snapshotId_ != 0L) {
+      output.writeInt64(1, snapshotId_);
+    }
+    if (operations_ != null) {
+      output.writeMessage(2, getOperations());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (snapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, snapshotId_);
+    }
+    if (operations_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getOperations());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.LogEntryPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.LogEntryPb other = (com.alibaba.maxgraph.proto.groot.LogEntryPb) obj;
+
+    boolean result = true;
+    result = result && (getSnapshotId()
+        == other.getSnapshotId());
+    result = result && (hasOperations() == other.hasOperations());
+    if (hasOperations()) {
+      result = result && getOperations()
+          .equals(other.getOperations());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + SNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSnapshotId());
+    if (hasOperations()) {
+      hash = (37 * hash) + OPERATIONS_FIELD_NUMBER;
+      hash = (53 * hash) + getOperations().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.LogEntryPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code LogEntryPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:LogEntryPb)
+      com.alibaba.maxgraph.proto.groot.LogEntryPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_LogEntryPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_LogEntryPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.LogEntryPb.class, com.alibaba.maxgraph.proto.groot.LogEntryPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.LogEntryPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      snapshotId_ = 0L;
+
+      if (operationsBuilder_ == null) {
+        operations_ = null;
+      } else {
+        operations_ = null;
+        operationsBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_LogEntryPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.LogEntryPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.LogEntryPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.LogEntryPb build() {
+      com.alibaba.maxgraph.proto.groot.LogEntryPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.LogEntryPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.LogEntryPb result = new com.alibaba.maxgraph.proto.groot.LogEntryPb(this);
+      result.snapshotId_ = snapshotId_;
+      if (operationsBuilder_ == null) {
+        result.operations_ = operations_;
+      } else {
+        result.operations_ = operationsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.LogEntryPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.LogEntryPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.LogEntryPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.LogEntryPb.getDefaultInstance()) return this;
+      if (other.getSnapshotId() != 0L) {
+        setSnapshotId(other.getSnapshotId());
+      }
+      if (other.hasOperations()) {
+        mergeOperations(other.getOperations());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.LogEntryPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.LogEntryPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long snapshotId_ ;
+    /**
+     * <code>optional int64 snapshotId = 1;</code>
+     */
+    public long getSnapshotId() {
+      return snapshotId_;
+    }
+    /**
+     * <code>optional int64 snapshotId = 1;</code>
+     */
+    public Builder setSnapshotId(long value) {
+      
+      snapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 snapshotId = 1;</code>
+     */
+    public Builder clearSnapshotId() {
+      
+      snapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.OperationBatchPb operations_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.OperationBatchPb, com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder, com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder> operationsBuilder_;
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    public boolean hasOperations() {
+      return operationsBuilder_ != null || operations_ != null;
+    }
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb getOperations() {
+      if (operationsBuilder_ == null) {
+        return operations_ == null ? com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance() : operations_;
+      } else {
+        return operationsBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    public Builder setOperations(com.alibaba.maxgraph.proto.groot.OperationBatchPb value) {
+      if (operationsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        operations_ = value;
+        onChanged();
+      } else {
+        operationsBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    public Builder setOperations(
+        com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder builderForValue) {
+      if (operationsBuilder_ == null) {
+        operations_ = builderForValue.build();
+        onChanged();
+      } else {
+        operationsBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    public Builder mergeOperations(com.alibaba.maxgraph.proto.groot.OperationBatchPb value) {
+      if (operationsBuilder_ == null) {
+        if (operations_ != null) {
+          operations_ =
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb.newBuilder(operations_).mergeFrom(value).buildPartial();
+        } else {
+          operations_ = value;
+        }
+        onChanged();
+      } else {
+        operationsBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    public Builder clearOperations() {
+      if (operationsBuilder_ == null) {
+        operations_ = null;
+        onChanged();
+      } else {
+        operations_ = null;
+        operationsBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder getOperationsBuilder() {
+      
+      onChanged();
+      return getOperationsFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder getOperationsOrBuilder() {
+      if (operationsBuilder_ != null) {
+        return operationsBuilder_.getMessageOrBuilder();
+      } else {
+        return operations_ == null ?
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance() : operations_;
+      }
+    }
+    /**
+     * <code>optional .OperationBatchPb operations = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.OperationBatchPb, com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder, com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder> 
+        getOperationsFieldBuilder() {
+      if (operationsBuilder_ == null) {
+        operationsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb, com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder, com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder>(
+                getOperations(),
+                getParentForChildren(),
+                isClean());
+        operations_ = null;
+      }
+      return operationsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:LogEntryPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:LogEntryPb)
+  private static final com.alibaba.maxgraph.proto.groot.LogEntryPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.LogEntryPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.LogEntryPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<LogEntryPb>
+      PARSER = new com.google.protobuf.AbstractParser<LogEntryPb>() {
+    public LogEntryPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LogEntryPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<LogEntryPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<LogEntryPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.LogEntryPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
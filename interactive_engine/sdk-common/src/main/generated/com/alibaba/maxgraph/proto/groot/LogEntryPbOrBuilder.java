@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface LogEntryPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:LogEntryPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 snapshotId = 1;</code>
+   */
+  long getSnapshotId();
+
+  /**
+   * <code>optional .OperationBatchPb operations = 2;</code>
+   */
+  boolean hasOperations();
+  /**
+   * <code>optional .OperationBatchPb operations = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.OperationBatchPb getOperations();
+  /**
+   * <code>optional .OperationBatchPb operations = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder getOperationsOrBuilder();
+}
@@ -0,0 +1,9 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface MarkerOperationPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:MarkerOperationPb)
+    com.google.protobuf.MessageOrBuilder {
+}
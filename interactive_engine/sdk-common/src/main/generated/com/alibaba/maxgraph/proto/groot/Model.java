@@ -0,0 +1,461 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public final class Model {
+  private Model() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_OperationPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_OperationPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_OperationBatchPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_OperationBatchPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WriteTracePb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WriteTracePb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LogEntryPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LogEntryPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_MarkerOperationPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_MarkerOperationPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PropertyValuePb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PropertyValuePb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VertexIdPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VertexIdPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeIdPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeIdPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LabelIdPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LabelIdPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeKindPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeKindPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeLocationPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeLocationPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DataOperationPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DataOperationPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DataOperationPb_PropsEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DataOperationPb_PropsEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_KindOperationPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_KindOperationPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TypeDefPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TypeDefPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PropertyDefPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PropertyDefPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DdlRequestPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DdlRequestPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DdlRequestBatchPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DdlRequestBatchPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DdlOperationPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DdlOperationPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateVertexTypePb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateVertexTypePb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddEdgeKindPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddEdgeKindPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EdgeTableIdEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EdgeTableIdEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_VertexTableIdEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_VertexTableIdEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GraphDefPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GraphDefPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GraphDefPb_PropertyNameToIdEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GraphDefPb_PropertyNameToIdEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StorePropertyPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StorePropertyPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StorePropertyListPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StorePropertyListPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ConfigPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ConfigPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ConfigPb_ConfigsEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ConfigPb_ConfigsEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BackupInfoPb_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BackupInfoPb_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BackupInfoPb_PartitionToBackupIdEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BackupInfoPb_PartitionToBackupIdEntry_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\017sdk/model.proto\032\020sdk/common.proto\"Q\n\013O" +
+      "perationPb\022\024\n\014partitionKey\030\001 \001(\003\022\031\n\006opTy" +
+      "pe\030\002 \001(\0162\t.OpTypePb\022\021\n\tdataBytes\030\003 \001(\014\"N" +
+      "\n\020OperationBatchPb\022\030\n\020latestSnapshotId\030\001" +
+      " \001(\003\022 \n\noperations\030\002 \003(\0132\014.OperationPb\"O" +
+      "\n\014WriteTracePb\022\021\n\trequestId\030\001 \001(\t\022\027\n\017fro" +
+      "ntendStartMs\030\002 \001(\003\022\023\n\013walAppendMs\030\003 \001(\003\"" +
+      "G\n\nLogEntryPb\022\022\n\nsnapshotId\030\001 \001(\003\022%\n\nope" +
+      "rations\030\002 \001(\0132\021.OperationBatchPb\"\023\n\021Mark" +
+      "erOperationPb\"=\n\017PropertyValuePb\022\035\n\010data",
+      "Type\030\001 \001(\0162\013.DataTypePb\022\013\n\003val\030\002 \001(\014\"\030\n\n" +
+      "VertexIdPb\022\n\n\002id\030\001 \001(\003\"N\n\010EdgeIdPb\022\032\n\005sr" +
+      "cId\030\001 \001(\0132\013.VertexIdPb\022\032\n\005dstId\030\002 \001(\0132\013." +
+      "VertexIdPb\022\n\n\002id\030\003 \001(\003\"\027\n\tLabelIdPb\022\n\n\002i" +
+      "d\030\001 \001(\005\"\274\001\n\nEdgeKindPb\022\021\n\tedgeLabel\030\001 \001(" +
+      "\t\022\037\n\013edgeLabelId\030\002 \001(\0132\n.LabelIdPb\022\026\n\016sr" +
+      "cVertexLabel\030\003 \001(\t\022$\n\020srcVertexLabelId\030\004" +
+      " \001(\0132\n.LabelIdPb\022\026\n\016dstVertexLabel\030\005 \001(\t" +
+      "\022$\n\020dstVertexLabelId\030\006 \001(\0132\n.LabelIdPb\"@" +
+      "\n\016EdgeLocationPb\022\035\n\010edgeKind\030\001 \001(\0132\013.Edg",
+      "eKindPb\022\017\n\007forward\030\002 \001(\010\"\244\001\n\017DataOperati" +
+      "onPb\022\017\n\007keyBlob\030\001 \001(\014\022\024\n\014locationBlob\030\002 " +
+      "\001(\014\022*\n\005props\030\003 \003(\0132\033.DataOperationPb.Pro" +
+      "psEntry\032>\n\nPropsEntry\022\013\n\003key\030\001 \001(\005\022\037\n\005va" +
+      "lue\030\002 \001(\0132\020.PropertyValuePb:\0028\001\"0\n\017KindO" +
+      "perationPb\022\035\n\010edgeKind\030\001 \001(\0132\013.EdgeKindP" +
+      "b\"\210\001\n\tTypeDefPb\022\021\n\tversionId\030\001 \001(\005\022\r\n\005la" +
+      "bel\030\002 \001(\t\022\033\n\007labelId\030\003 \001(\0132\n.LabelIdPb\022\035" +
+      "\n\010typeEnum\030\004 \001(\0162\013.TypeEnumPb\022\035\n\005props\030\005" +
+      " \003(\0132\016.PropertyDefPb\"\236\001\n\rPropertyDefPb\022\n",
+      "\n\002id\030\001 \001(\005\022\017\n\007innerId\030\002 \001(\005\022\014\n\004name\030\003 \001(" +
+      "\t\022\035\n\010dataType\030\004 \001(\0162\013.DataTypePb\022&\n\014defa" +
+      "ultValue\030\005 \001(\0132\020.PropertyValuePb\022\n\n\002pk\030\006" +
+      " \001(\010\022\017\n\007comment\030\007 \001(\t\";\n\014DdlRequestPb\022\031\n" +
+      "\006opType\030\001 \001(\0162\t.OpTypePb\022\020\n\010ddlBytes\030\002 \001" +
+      "(\014\"7\n\021DdlRequestBatchPb\022\"\n\013ddlRequests\030\001" +
+      " \003(\0132\r.DdlRequestPb\"8\n\016DdlOperationPb\022\025\n" +
+      "\rschemaVersion\030\001 \001(\003\022\017\n\007ddlBlob\030\002 \001(\014\"C\n" +
+      "\022CreateVertexTypePb\022\033\n\007typeDef\030\001 \001(\0132\n.T" +
+      "ypeDefPb\022\020\n\010tableIdx\030\002 \001(\003\"@\n\rAddEdgeKin",
+      "dPb\022\035\n\010edgeKind\030\001 \001(\0132\013.EdgeKindPb\022\020\n\010ta" +
+      "bleIdx\030\002 \001(\003\"B\n\020EdgeTableIdEntry\022\035\n\010edge" +
+      "Kind\030\001 \001(\0132\013.EdgeKindPb\022\017\n\007tableId\030\002 \001(\003" +
+      "\"B\n\022VertexTableIdEntry\022\033\n\007labelId\030\001 \001(\0132" +
+      "\n.LabelIdPb\022\017\n\007tableId\030\002 \001(\003\"\340\002\n\nGraphDe" +
+      "fPb\022\017\n\007version\030\001 \001(\003\022\034\n\010typeDefs\030\002 \003(\0132\n" +
+      ".TypeDefPb\022\036\n\tedgeKinds\030\003 \003(\0132\013.EdgeKind" +
+      "Pb\022;\n\020propertyNameToId\030\004 \003(\0132!.GraphDefP" +
+      "b.PropertyNameToIdEntry\022\020\n\010labelIdx\030\005 \001(" +
+      "\005\022\023\n\013propertyIdx\030\006 \001(\005\022+\n\016vertexTableIds",
+      "\030\007 \003(\0132\023.VertexTableIdEntry\022\'\n\014edgeTable" +
+      "Ids\030\010 \003(\0132\021.EdgeTableIdEntry\022\020\n\010tableIdx" +
+      "\030\t \001(\003\0327\n\025PropertyNameToIdEntry\022\013\n\003key\030\001" +
+      " \001(\t\022\r\n\005value\030\002 \001(\005:\0028\001\"P\n\017StoreProperty" +
+      "Pb\022\023\n\013property_id\030\001 \001(\005\022(\n\016property_valu" +
+      "e\030\002 \001(\0132\020.PropertyValuePb\";\n\023StoreProper" +
+      "tyListPb\022$\n\nproperties\030\001 \003(\0132\020.StoreProp" +
+      "ertyPb\"c\n\010ConfigPb\022\'\n\007configs\030\001 \003(\0132\026.Co" +
+      "nfigPb.ConfigsEntry\032.\n\014ConfigsEntry\022\013\n\003k" +
+      "ey\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\356\001\n\014BackupIn",
+      "foPb\022\026\n\016globalBackupId\030\001 \001(\005\022\022\n\nsnapshot" +
+      "Id\030\002 \001(\003\022\035\n\010graphDef\030\003 \001(\0132\013.GraphDefPb\022" +
+      "\022\n\nwalOffsets\030\004 \003(\003\022C\n\023partitionToBackup" +
+      "Id\030\005 \003(\0132&.BackupInfoPb.PartitionToBacku" +
+      "pIdEntry\032:\n\030PartitionToBackupIdEntry\022\013\n\003" +
+      "key\030\001 \001(\005\022\r\n\005value\030\002 \001(\005:\0028\001*\266\002\n\010OpTypeP" +
+      "b\022\n\n\006MARKER\020\000\022\024\n\020OVERWRITE_VERTEX\020\001\022\021\n\rU" +
+      "PDATE_VERTEX\020\002\022\021\n\rDELETE_VERTEX\020\003\022\022\n\016OVE" +
+      "RWRITE_EDGE\020\004\022\017\n\013UPDATE_EDGE\020\005\022\017\n\013DELETE" +
+      "_EDGE\020\006\022\026\n\022CREATE_VERTEX_TYPE\020\007\022\024\n\020CREAT",
+      "E_EDGE_TYPE\020\010\022\021\n\rADD_EDGE_KIND\020\t\022\024\n\020DROP" +
+      "_VERTEX_TYPE\020\n\022\022\n\016DROP_EDGE_TYPE\020\013\022\024\n\020RE" +
+      "MOVE_EDGE_KIND\020\014\022\025\n\021PREPARE_DATA_LOAD\020\r\022" +
+      "\024\n\020COMMIT_DATA_LOAD\020\016*\"\n\nTypeEnumPb\022\n\n\006V" +
+      "ERTEX\020\000\022\010\n\004EDGE\020\001B$\n com.alibaba.maxgrap" +
+      "h.proto.grootP\001b\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.maxgraph.proto.CommonProto.getDescriptor(),
+        }, assigner);
+    internal_static_OperationPb_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_OperationPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_OperationPb_descriptor,
+        new java.lang.String[] { "PartitionKey", "OpType", "DataBytes", });
+    internal_static_OperationBatchPb_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_OperationBatchPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_OperationBatchPb_descriptor,
+        new java.lang.String[] { "LatestSnapshotId", "Operations", });
+    internal_static_WriteTracePb_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_WriteTracePb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WriteTracePb_descriptor,
+        new java.lang.String[] { "RequestId", "FrontendStartMs", "WalAppendMs", });
+    internal_static_LogEntryPb_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_LogEntryPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LogEntryPb_descriptor,
+        new java.lang.String[] { "SnapshotId", "Operations", });
+    internal_static_MarkerOperationPb_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_MarkerOperationPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_MarkerOperationPb_descriptor,
+        new java.lang.String[] { });
+    internal_static_PropertyValuePb_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_PropertyValuePb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PropertyValuePb_descriptor,
+        new java.lang.String[] { "DataType", "Val", });
+    internal_static_VertexIdPb_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_VertexIdPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VertexIdPb_descriptor,
+        new java.lang.String[] { "Id", });
+    internal_static_EdgeIdPb_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_EdgeIdPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeIdPb_descriptor,
+        new java.lang.String[] { "SrcId", "DstId", "Id", });
+    internal_static_LabelIdPb_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_LabelIdPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LabelIdPb_descriptor,
+        new java.lang.String[] { "Id", });
+    internal_static_EdgeKindPb_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_EdgeKindPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeKindPb_descriptor,
+        new java.lang.String[] { "EdgeLabel", "EdgeLabelId", "SrcVertexLabel", "SrcVertexLabelId", "DstVertexLabel", "DstVertexLabelId", });
+    internal_static_EdgeLocationPb_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_EdgeLocationPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeLocationPb_descriptor,
+        new java.lang.String[] { "EdgeKind", "Forward", });
+    internal_static_DataOperationPb_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_DataOperationPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DataOperationPb_descriptor,
+        new java.lang.String[] { "KeyBlob", "LocationBlob", "Props", });
+    internal_static_DataOperationPb_PropsEntry_descriptor =
+      internal_static_DataOperationPb_descriptor.getNestedTypes().get(0);
+    internal_static_DataOperationPb_PropsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DataOperationPb_PropsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_KindOperationPb_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_KindOperationPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_KindOperationPb_descriptor,
+        new java.lang.String[] { "EdgeKind", });
+    internal_static_TypeDefPb_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_TypeDefPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TypeDefPb_descriptor,
+        new java.lang.String[] { "VersionId", "Label", "LabelId", "TypeEnum", "Props", });
+    internal_static_PropertyDefPb_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_PropertyDefPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PropertyDefPb_descriptor,
+        new java.lang.String[] { "Id", "InnerId", "Name", "DataType", "DefaultValue", "Pk", "Comment", });
+    internal_static_DdlRequestPb_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_DdlRequestPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DdlRequestPb_descriptor,
+        new java.lang.String[] { "OpType", "DdlBytes", });
+    internal_static_DdlRequestBatchPb_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_DdlRequestBatchPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DdlRequestBatchPb_descriptor,
+        new java.lang.String[] { "DdlRequests", });
+    internal_static_DdlOperationPb_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_DdlOperationPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DdlOperationPb_descriptor,
+        new java.lang.String[] { "SchemaVersion", "DdlBlob", });
+    internal_static_CreateVertexTypePb_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_CreateVertexTypePb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateVertexTypePb_descriptor,
+        new java.lang.String[] { "TypeDef", "TableIdx", });
+    internal_static_AddEdgeKindPb_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_AddEdgeKindPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddEdgeKindPb_descriptor,
+        new java.lang.String[] { "EdgeKind", "TableIdx", });
+    internal_static_EdgeTableIdEntry_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_EdgeTableIdEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EdgeTableIdEntry_descriptor,
+        new java.lang.String[] { "EdgeKind", "TableId", });
+    internal_static_VertexTableIdEntry_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_VertexTableIdEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_VertexTableIdEntry_descriptor,
+        new java.lang.String[] { "LabelId", "TableId", });
+    internal_static_GraphDefPb_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_GraphDefPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GraphDefPb_descriptor,
+        new java.lang.String[] { "Version", "TypeDefs", "EdgeKinds", "PropertyNameToId", "LabelIdx", "PropertyIdx", "VertexTableIds", "EdgeTableIds", "TableIdx", });
+    internal_static_GraphDefPb_PropertyNameToIdEntry_descriptor =
+      internal_static_GraphDefPb_descriptor.getNestedTypes().get(0);
+    internal_static_GraphDefPb_PropertyNameToIdEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GraphDefPb_PropertyNameToIdEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_StorePropertyPb_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_StorePropertyPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StorePropertyPb_descriptor,
+        new java.lang.String[] { "PropertyId", "PropertyValue", });
+    internal_static_StorePropertyListPb_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_StorePropertyListPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StorePropertyListPb_descriptor,
+        new java.lang.String[] { "Properties", });
+    internal_static_ConfigPb_descriptor =
+      getDescriptor().getMessageTypes().get(25);
+    internal_static_ConfigPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ConfigPb_descriptor,
+        new java.lang.String[] { "Configs", });
+    internal_static_ConfigPb_ConfigsEntry_descriptor =
+      internal_static_ConfigPb_descriptor.getNestedTypes().get(0);
+    internal_static_ConfigPb_ConfigsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ConfigPb_ConfigsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_BackupInfoPb_descriptor =
+      getDescriptor().getMessageTypes().get(26);
+    internal_static_BackupInfoPb_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BackupInfoPb_descriptor,
+        new java.lang.String[] { "GlobalBackupId", "SnapshotId", "GraphDef", "WalOffsets", "PartitionToBackupId", });
+    internal_static_BackupInfoPb_PartitionToBackupIdEntry_descriptor =
+      internal_static_BackupInfoPb_descriptor.getNestedTypes().get(0);
+    internal_static_BackupInfoPb_PartitionToBackupIdEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BackupInfoPb_PartitionToBackupIdEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    com.alibaba.maxgraph.proto.CommonProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
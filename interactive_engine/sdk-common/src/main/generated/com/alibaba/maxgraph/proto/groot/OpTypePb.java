@@ -0,0 +1,221 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf enum {@code OpTypePb}
+ */
+public enum OpTypePb
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>MARKER = 0;</code>
+   */
+  MARKER(0),
+  /**
+   * <code>OVERWRITE_VERTEX = 1;</code>
+   */
+  OVERWRITE_VERTEX(1),
+  /**
+   * <code>UPDATE_VERTEX = 2;</code>
+   */
+  UPDATE_VERTEX(2),
+  /**
+   * <code>DELETE_VERTEX = 3;</code>
+   */
+  DELETE_VERTEX(3),
+  /**
+   * <code>OVERWRITE_EDGE = 4;</code>
+   */
+  OVERWRITE_EDGE(4),
+  /**
+   * <code>UPDATE_EDGE = 5;</code>
+   */
+  UPDATE_EDGE(5),
+  /**
+   * <code>DELETE_EDGE = 6;</code>
+   */
+  DELETE_EDGE(6),
+  /**
+   * <code>CREATE_VERTEX_TYPE = 7;</code>
+   */
+  CREATE_VERTEX_TYPE(7),
+  /**
+   * <code>CREATE_EDGE_TYPE = 8;</code>
+   */
+  CREATE_EDGE_TYPE(8),
+  /**
+   * <code>ADD_EDGE_KIND = 9;</code>
+   */
+  ADD_EDGE_KIND(9),
+  /**
+   * <code>DROP_VERTEX_TYPE = 10;</code>
+   */
+  DROP_VERTEX_TYPE(10),
+  /**
+   * <code>DROP_EDGE_TYPE = 11;</code>
+   */
+  DROP_EDGE_TYPE(11),
+  /**
+   * <code>REMOVE_EDGE_KIND = 12;</code>
+   */
+  REMOVE_EDGE_KIND(12),
+  /**
+   * <code>PREPARE_DATA_LOAD = 13;</code>
+   */
+  PREPARE_DATA_LOAD(13),
+  /**
+   * <code>COMMIT_DATA_LOAD = 14;</code>
+   */
+  COMMIT_DATA_LOAD(14),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>MARKER = 0;</code>
+   */
+  public static final int MARKER_VALUE = 0;
+  /**
+   * <code>OVERWRITE_VERTEX = 1;</code>
+   */
+  public static final int OVERWRITE_VERTEX_VALUE = 1;
+  /**
+   * <code>UPDATE_VERTEX = 2;</code>
+   */
+  public static final int UPDATE_VERTEX_VALUE = 2;
+  /**
+   * <code>DELETE_VERTEX = 3;</code>
+   */
+  public static final int DELETE_VERTEX_VALUE = 3;
+  /**
+   * <code>OVERWRITE_EDGE = 4;</code>
+   */
+  public static final int OVERWRITE_EDGE_VALUE = 4;
+  /**
+   * <code>UPDATE_EDGE = 5;</code>
+   */
+  public static final int UPDATE_EDGE_VALUE = 5;
+  /**
+   * <code>DELETE_EDGE = 6;</code>
+   */
+  public static final int DELETE_EDGE_VALUE = 6;
+  /**
+   * <code>CREATE_VERTEX_TYPE = 7;</code>
+   */
+  public static final int CREATE_VERTEX_TYPE_VALUE = 7;
+  /**
+   * <code>CREATE_EDGE_TYPE = 8;</code>
+   */
+  public static final int CREATE_EDGE_TYPE_VALUE = 8;
+  /**
+   * <code>ADD_EDGE_KIND = 9;</code>
+   */
+  public static final int ADD_EDGE_KIND_VALUE = 9;
+  /**
+   * <code>DROP_VERTEX_TYPE = 10;</code>
+   */
+  public static final int DROP_VERTEX_TYPE_VALUE = 10;
+  /**
+   * <code>DROP_EDGE_TYPE = 11;</code>
+   */
+  public static final int DROP_EDGE_TYPE_VALUE = 11;
+  /**
+   * <code>REMOVE_EDGE_KIND = 12;</code>
+   */
+  public static final int REMOVE_EDGE_KIND_VALUE = 12;
+  /**
+   * <code>PREPARE_DATA_LOAD = 13;</code>
+   */
+  public static final int PREPARE_DATA_LOAD_VALUE = 13;
+  /**
+   * <code>COMMIT_DATA_LOAD = 14;</code>
+   */
+  public static final int COMMIT_DATA_LOAD_VALUE = 14;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static OpTypePb valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static OpTypePb forNumber(int value) {
+    switch (value) {
+      case 0: return MARKER;
+      case 1: return OVERWRITE_VERTEX;
+      case 2: return UPDATE_VERTEX;
+      case 3: return DELETE_VERTEX;
+      case 4: return OVERWRITE_EDGE;
+      case 5: return UPDATE_EDGE;
+      case 6: return DELETE_EDGE;
+      case 7: return CREATE_VERTEX_TYPE;
+      case 8: return CREATE_EDGE_TYPE;
+      case 9: return ADD_EDGE_KIND;
+      case 10: return DROP_VERTEX_TYPE;
+      case 11: return DROP_EDGE_TYPE;
+      case 12: return REMOVE_EDGE_KIND;
+      case 13: return PREPARE_DATA_LOAD;
+      case 14: return COMMIT_DATA_LOAD;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<OpTypePb>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      OpTypePb> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<OpTypePb>() {
+          public OpTypePb findValueByNumber(int number) {
+            return OpTypePb.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.getDescriptor()
+        .getEnumTypes().get(0);
+  }
+
+  private static final OpTypePb[] VALUES = values();
+
+  public static OpTypePb valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private OpTypePb(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:OpTypePb)
+}
+
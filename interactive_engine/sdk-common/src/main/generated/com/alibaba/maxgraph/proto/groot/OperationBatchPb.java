@@ -0,0 +1,774 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code OperationBatchPb}
+ */
+public  final class OperationBatchPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:OperationBatchPb)
+    OperationBatchPbOrBuilder {
+  // Use OperationBatchPb.newBuilder() to construct.
+  private OperationBatchPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private OperationBatchPb() {
+    latestSnapshotId_ = 0L;
+    operations_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private OperationBatchPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            latestSnapshotId_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              operations_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.OperationPb>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            operations_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.OperationPb.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        operations_ = java.util.Collections.unmodifiableList(operations_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_OperationBatchPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_OperationBatchPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.OperationBatchPb.class, com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int LATESTSNAPSHOTID_FIELD_NUMBER = 1;
+  private long latestSnapshotId_;
+  /**
+   * <code>optional int64 latestSnapshotId = 1;</code>
+   */
+  public long getLatestSnapshotId() {
+    return latestSnapshotId_;
+  }
+
+  public static final int OPERATIONS_FIELD_NUMBER = 2;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.OperationPb> operations_;
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.OperationPb> getOperationsList() {
+    return operations_;
+  }
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder> 
+      getOperationsOrBuilderList() {
+    return operations_;
+  }
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  public int getOperationsCount() {
+    return operations_.size();
+  }
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.OperationPb getOperations(int index) {
+    return operations_.get(index);
+  }
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder getOperationsOrBuilder(
+      int index) {
+    return operations_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (latestSnapshotId_ != 0L) {
+      output.writeInt64(1, latestSnapshotId_);
+    }
+    for (int i = 0; i < operations_.size(); i++) {
+      output.writeMessage(2, operations_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (latestSnapshotId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, latestSnapshotId_);
+    }
+    for (int i = 0; i < operations_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, operations_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.OperationBatchPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.OperationBatchPb other = (com.alibaba.maxgraph.proto.groot.OperationBatchPb) obj;
+
+    boolean result = true;
+    result = result && (getLatestSnapshotId()
+        == other.getLatestSnapshotId());
+    result = result && getOperationsList()
+        .equals(other.getOperationsList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + LATESTSNAPSHOTID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getLatestSnapshotId());
+    if (getOperationsCount() > 0) {
+      hash = (37 * hash) + OPERATIONS_FIELD_NUMBER;
+      hash = (53 * hash) + getOperationsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.OperationBatchPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code OperationBatchPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:OperationBatchPb)
+      com.alibaba.maxgraph.proto.groot.OperationBatchPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_OperationBatchPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_OperationBatchPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.OperationBatchPb.class, com.alibaba.maxgraph.proto.groot.OperationBatchPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.OperationBatchPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getOperationsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      latestSnapshotId_ = 0L;
+
+      if (operationsBuilder_ == null) {
+        operations_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        operationsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_OperationBatchPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb build() {
+      com.alibaba.maxgraph.proto.groot.OperationBatchPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.OperationBatchPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.OperationBatchPb result = new com.alibaba.maxgraph.proto.groot.OperationBatchPb(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.latestSnapshotId_ = latestSnapshotId_;
+      if (operationsBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          operations_ = java.util.Collections.unmodifiableList(operations_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.operations_ = operations_;
+      } else {
+        result.operations_ = operationsBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.OperationBatchPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.OperationBatchPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.OperationBatchPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.OperationBatchPb.getDefaultInstance()) return this;
+      if (other.getLatestSnapshotId() != 0L) {
+        setLatestSnapshotId(other.getLatestSnapshotId());
+      }
+      if (operationsBuilder_ == null) {
+        if (!other.operations_.isEmpty()) {
+          if (operations_.isEmpty()) {
+            operations_ = other.operations_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureOperationsIsMutable();
+            operations_.addAll(other.operations_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.operations_.isEmpty()) {
+          if (operationsBuilder_.isEmpty()) {
+            operationsBuilder_.dispose();
+            operationsBuilder_ = null;
+            operations_ = other.operations_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            operationsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getOperationsFieldBuilder() : null;
+          } else {
+            operationsBuilder_.addAllMessages(other.operations_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.OperationBatchPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.OperationBatchPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private long latestSnapshotId_ ;
+    /**
+     * <code>optional int64 latestSnapshotId = 1;</code>
+     */
+    public long getLatestSnapshotId() {
+      return latestSnapshotId_;
+    }
+    /**
+     * <code>optional int64 latestSnapshotId = 1;</code>
+     */
+    public Builder setLatestSnapshotId(long value) {
+      
+      latestSnapshotId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 latestSnapshotId = 1;</code>
+     */
+    public Builder clearLatestSnapshotId() {
+      
+      latestSnapshotId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.OperationPb> operations_ =
+      java.util.Collections.emptyList();
+    private void ensureOperationsIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        operations_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.OperationPb>(operations_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.OperationPb, com.alibaba.maxgraph.proto.groot.OperationPb.Builder, com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder> operationsBuilder_;
+
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.OperationPb> getOperationsList() {
+      if (operationsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(operations_);
+      } else {
+        return operationsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public int getOperationsCount() {
+      if (operationsBuilder_ == null) {
+        return operations_.size();
+      } else {
+        return operationsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationPb getOperations(int index) {
+      if (operationsBuilder_ == null) {
+        return operations_.get(index);
+      } else {
+        return operationsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder setOperations(
+        int index, com.alibaba.maxgraph.proto.groot.OperationPb value) {
+      if (operationsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOperationsIsMutable();
+        operations_.set(index, value);
+        onChanged();
+      } else {
+        operationsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder setOperations(
+        int index, com.alibaba.maxgraph.proto.groot.OperationPb.Builder builderForValue) {
+      if (operationsBuilder_ == null) {
+        ensureOperationsIsMutable();
+        operations_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        operationsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder addOperations(com.alibaba.maxgraph.proto.groot.OperationPb value) {
+      if (operationsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOperationsIsMutable();
+        operations_.add(value);
+        onChanged();
+      } else {
+        operationsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder addOperations(
+        int index, com.alibaba.maxgraph.proto.groot.OperationPb value) {
+      if (operationsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOperationsIsMutable();
+        operations_.add(index, value);
+        onChanged();
+      } else {
+        operationsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder addOperations(
+        com.alibaba.maxgraph.proto.groot.OperationPb.Builder builderForValue) {
+      if (operationsBuilder_ == null) {
+        ensureOperationsIsMutable();
+        operations_.add(builderForValue.build());
+        onChanged();
+      } else {
+        operationsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder addOperations(
+        int index, com.alibaba.maxgraph.proto.groot.OperationPb.Builder builderForValue) {
+      if (operationsBuilder_ == null) {
+        ensureOperationsIsMutable();
+        operations_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        operationsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder addAllOperations(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.OperationPb> values) {
+      if (operationsBuilder_ == null) {
+        ensureOperationsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, operations_);
+        onChanged();
+      } else {
+        operationsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder clearOperations() {
+      if (operationsBuilder_ == null) {
+        operations_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        operationsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public Builder removeOperations(int index) {
+      if (operationsBuilder_ == null) {
+        ensureOperationsIsMutable();
+        operations_.remove(index);
+        onChanged();
+      } else {
+        operationsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationPb.Builder getOperationsBuilder(
+        int index) {
+      return getOperationsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder getOperationsOrBuilder(
+        int index) {
+      if (operationsBuilder_ == null) {
+        return operations_.get(index);  } else {
+        return operationsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder> 
+         getOperationsOrBuilderList() {
+      if (operationsBuilder_ != null) {
+        return operationsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(operations_);
+      }
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationPb.Builder addOperationsBuilder() {
+      return getOperationsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.OperationPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.OperationPb.Builder addOperationsBuilder(
+        int index) {
+      return getOperationsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.OperationPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .OperationPb operations = 2;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.OperationPb.Builder> 
+         getOperationsBuilderList() {
+      return getOperationsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.OperationPb, com.alibaba.maxgraph.proto.groot.OperationPb.Builder, com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder> 
+        getOperationsFieldBuilder() {
+      if (operationsBuilder_ == null) {
+        operationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.OperationPb, com.alibaba.maxgraph.proto.groot.OperationPb.Builder, com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder>(
+                operations_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        operations_ = null;
+      }
+      return operationsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:OperationBatchPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:OperationBatchPb)
+  private static final com.alibaba.maxgraph.proto.groot.OperationBatchPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.OperationBatchPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.OperationBatchPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<OperationBatchPb>
+      PARSER = new com.google.protobuf.AbstractParser<OperationBatchPb>() {
+    public OperationBatchPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new OperationBatchPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<OperationBatchPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<OperationBatchPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.OperationBatchPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,38 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface OperationBatchPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:OperationBatchPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 latestSnapshotId = 1;</code>
+   */
+  long getLatestSnapshotId();
+
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.OperationPb> 
+      getOperationsList();
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.OperationPb getOperations(int index);
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  int getOperationsCount();
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder> 
+      getOperationsOrBuilderList();
+  /**
+   * <code>repeated .OperationPb operations = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.OperationPbOrBuilder getOperationsOrBuilder(
+      int index);
+}
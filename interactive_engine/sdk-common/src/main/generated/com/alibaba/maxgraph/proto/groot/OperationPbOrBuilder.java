@@ -0,0 +1,28 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface OperationPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:OperationPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 partitionKey = 1;</code>
+   */
+  long getPartitionKey();
+
+  /**
+   * <code>optional .OpTypePb opType = 2;</code>
+   */
+  int getOpTypeValue();
+  /**
+   * <code>optional .OpTypePb opType = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.OpTypePb getOpType();
+
+  /**
+   * <code>optional bytes dataBytes = 3;</code>
+   */
+  com.google.protobuf.ByteString getDataBytes();
+}
@@ -0,0 +1,712 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code PrepareDataLoadRequest}
+ */
+public  final class PrepareDataLoadRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:PrepareDataLoadRequest)
+    PrepareDataLoadRequestOrBuilder {
+  // Use PrepareDataLoadRequest.newBuilder() to construct.
+  private PrepareDataLoadRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PrepareDataLoadRequest() {
+    dataLoadTargets_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private PrepareDataLoadRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              dataLoadTargets_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.DataLoadTargetPb>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            dataLoadTargets_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.DataLoadTargetPb.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        dataLoadTargets_ = java.util.Collections.unmodifiableList(dataLoadTargets_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_PrepareDataLoadRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_PrepareDataLoadRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest.class, com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest.Builder.class);
+  }
+
+  public static final int DATALOADTARGETS_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.DataLoadTargetPb> dataLoadTargets_;
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.DataLoadTargetPb> getDataLoadTargetsList() {
+    return dataLoadTargets_;
+  }
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder> 
+      getDataLoadTargetsOrBuilderList() {
+    return dataLoadTargets_;
+  }
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  public int getDataLoadTargetsCount() {
+    return dataLoadTargets_.size();
+  }
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.DataLoadTargetPb getDataLoadTargets(int index) {
+    return dataLoadTargets_.get(index);
+  }
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder getDataLoadTargetsOrBuilder(
+      int index) {
+    return dataLoadTargets_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < dataLoadTargets_.size(); i++) {
+      output.writeMessage(1, dataLoadTargets_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < dataLoadTargets_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, dataLoadTargets_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest other = (com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest) obj;
+
+    boolean result = true;
+    result = result && getDataLoadTargetsList()
+        .equals(other.getDataLoadTargetsList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (getDataLoadTargetsCount() > 0) {
+      hash = (37 * hash) + DATALOADTARGETS_FIELD_NUMBER;
+      hash = (53 * hash) + getDataLoadTargetsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code PrepareDataLoadRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:PrepareDataLoadRequest)
+      com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_PrepareDataLoadRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_PrepareDataLoadRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest.class, com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getDataLoadTargetsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (dataLoadTargetsBuilder_ == null) {
+        dataLoadTargets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        dataLoadTargetsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.ClientOuterClass.internal_static_PrepareDataLoadRequest_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest build() {
+      com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest result = new com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest(this);
+      int from_bitField0_ = bitField0_;
+      if (dataLoadTargetsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          dataLoadTargets_ = java.util.Collections.unmodifiableList(dataLoadTargets_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.dataLoadTargets_ = dataLoadTargets_;
+      } else {
+        result.dataLoadTargets_ = dataLoadTargetsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest.getDefaultInstance()) return this;
+      if (dataLoadTargetsBuilder_ == null) {
+        if (!other.dataLoadTargets_.isEmpty()) {
+          if (dataLoadTargets_.isEmpty()) {
+            dataLoadTargets_ = other.dataLoadTargets_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDataLoadTargetsIsMutable();
+            dataLoadTargets_.addAll(other.dataLoadTargets_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.dataLoadTargets_.isEmpty()) {
+          if (dataLoadTargetsBuilder_.isEmpty()) {
+            dataLoadTargetsBuilder_.dispose();
+            dataLoadTargetsBuilder_ = null;
+            dataLoadTargets_ = other.dataLoadTargets_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            dataLoadTargetsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getDataLoadTargetsFieldBuilder() : null;
+          } else {
+            dataLoadTargetsBuilder_.addAllMessages(other.dataLoadTargets_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.DataLoadTargetPb> dataLoadTargets_ =
+      java.util.Collections.emptyList();
+    private void ensureDataLoadTargetsIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        dataLoadTargets_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.DataLoadTargetPb>(dataLoadTargets_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.DataLoadTargetPb, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder, com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder> dataLoadTargetsBuilder_;
+
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.DataLoadTargetPb> getDataLoadTargetsList() {
+      if (dataLoadTargetsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(dataLoadTargets_);
+      } else {
+        return dataLoadTargetsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public int getDataLoadTargetsCount() {
+      if (dataLoadTargetsBuilder_ == null) {
+        return dataLoadTargets_.size();
+      } else {
+        return dataLoadTargetsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb getDataLoadTargets(int index) {
+      if (dataLoadTargetsBuilder_ == null) {
+        return dataLoadTargets_.get(index);
+      } else {
+        return dataLoadTargetsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder setDataLoadTargets(
+        int index, com.alibaba.maxgraph.proto.DataLoadTargetPb value) {
+      if (dataLoadTargetsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataLoadTargetsIsMutable();
+        dataLoadTargets_.set(index, value);
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder setDataLoadTargets(
+        int index, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder builderForValue) {
+      if (dataLoadTargetsBuilder_ == null) {
+        ensureDataLoadTargetsIsMutable();
+        dataLoadTargets_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder addDataLoadTargets(com.alibaba.maxgraph.proto.DataLoadTargetPb value) {
+      if (dataLoadTargetsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataLoadTargetsIsMutable();
+        dataLoadTargets_.add(value);
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder addDataLoadTargets(
+        int index, com.alibaba.maxgraph.proto.DataLoadTargetPb value) {
+      if (dataLoadTargetsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDataLoadTargetsIsMutable();
+        dataLoadTargets_.add(index, value);
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder addDataLoadTargets(
+        com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder builderForValue) {
+      if (dataLoadTargetsBuilder_ == null) {
+        ensureDataLoadTargetsIsMutable();
+        dataLoadTargets_.add(builderForValue.build());
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder addDataLoadTargets(
+        int index, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder builderForValue) {
+      if (dataLoadTargetsBuilder_ == null) {
+        ensureDataLoadTargetsIsMutable();
+        dataLoadTargets_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder addAllDataLoadTargets(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.DataLoadTargetPb> values) {
+      if (dataLoadTargetsBuilder_ == null) {
+        ensureDataLoadTargetsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dataLoadTargets_);
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder clearDataLoadTargets() {
+      if (dataLoadTargetsBuilder_ == null) {
+        dataLoadTargets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public Builder removeDataLoadTargets(int index) {
+      if (dataLoadTargetsBuilder_ == null) {
+        ensureDataLoadTargetsIsMutable();
+        dataLoadTargets_.remove(index);
+        onChanged();
+      } else {
+        dataLoadTargetsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder getDataLoadTargetsBuilder(
+        int index) {
+      return getDataLoadTargetsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder getDataLoadTargetsOrBuilder(
+        int index) {
+      if (dataLoadTargetsBuilder_ == null) {
+        return dataLoadTargets_.get(index);  } else {
+        return dataLoadTargetsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder> 
+         getDataLoadTargetsOrBuilderList() {
+      if (dataLoadTargetsBuilder_ != null) {
+        return dataLoadTargetsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(dataLoadTargets_);
+      }
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder addDataLoadTargetsBuilder() {
+      return getDataLoadTargetsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.DataLoadTargetPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder addDataLoadTargetsBuilder(
+        int index) {
+      return getDataLoadTargetsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.DataLoadTargetPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder> 
+         getDataLoadTargetsBuilderList() {
+      return getDataLoadTargetsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.DataLoadTargetPb, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder, com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder> 
+        getDataLoadTargetsFieldBuilder() {
+      if (dataLoadTargetsBuilder_ == null) {
+        dataLoadTargetsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.DataLoadTargetPb, com.alibaba.maxgraph.proto.DataLoadTargetPb.Builder, com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder>(
+                dataLoadTargets_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        dataLoadTargets_ = null;
+      }
+      return dataLoadTargetsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:PrepareDataLoadRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:PrepareDataLoadRequest)
+  private static final com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PrepareDataLoadRequest>
+      PARSER = new com.google.protobuf.AbstractParser<PrepareDataLoadRequest>() {
+    public PrepareDataLoadRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PrepareDataLoadRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<PrepareDataLoadRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<PrepareDataLoadRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.PrepareDataLoadRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
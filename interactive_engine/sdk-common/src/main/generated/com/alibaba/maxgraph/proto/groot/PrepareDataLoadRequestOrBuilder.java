@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface PrepareDataLoadRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:PrepareDataLoadRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.DataLoadTargetPb> 
+      getDataLoadTargetsList();
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.DataLoadTargetPb getDataLoadTargets(int index);
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  int getDataLoadTargetsCount();
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder> 
+      getDataLoadTargetsOrBuilderList();
+  /**
+   * <code>repeated .DataLoadTargetPb dataLoadTargets = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.DataLoadTargetPbOrBuilder getDataLoadTargetsOrBuilder(
+      int index);
+}
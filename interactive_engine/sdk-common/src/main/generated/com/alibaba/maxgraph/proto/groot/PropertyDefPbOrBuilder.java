@@ -0,0 +1,66 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface PropertyDefPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:PropertyDefPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 id = 1;</code>
+   */
+  int getId();
+
+  /**
+   * <code>optional int32 innerId = 2;</code>
+   */
+  int getInnerId();
+
+  /**
+   * <code>optional string name = 3;</code>
+   */
+  java.lang.String getName();
+  /**
+   * <code>optional string name = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <code>optional .DataTypePb dataType = 4;</code>
+   */
+  int getDataTypeValue();
+  /**
+   * <code>optional .DataTypePb dataType = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.DataTypePb getDataType();
+
+  /**
+   * <code>optional .PropertyValuePb defaultValue = 5;</code>
+   */
+  boolean hasDefaultValue();
+  /**
+   * <code>optional .PropertyValuePb defaultValue = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.PropertyValuePb getDefaultValue();
+  /**
+   * <code>optional .PropertyValuePb defaultValue = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.PropertyValuePbOrBuilder getDefaultValueOrBuilder();
+
+  /**
+   * <code>optional bool pk = 6;</code>
+   */
+  boolean getPk();
+
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  java.lang.String getComment();
+  /**
+   * <code>optional string comment = 7;</code>
+   */
+  com.google.protobuf.ByteString
+      getCommentBytes();
+}
@@ -0,0 +1,511 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code PropertyValuePb}
+ */
+public  final class PropertyValuePb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:PropertyValuePb)
+    PropertyValuePbOrBuilder {
+  // Use PropertyValuePb.newBuilder() to construct.
+  private PropertyValuePb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PropertyValuePb() {
+    dataType_ = 0;
+    val_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private PropertyValuePb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            int rawValue = input.readEnum();
+
+            dataType_ = rawValue;
+            break;
+          }
+          case 18: {
+
+            val_ = input.readBytes();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_PropertyValuePb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_PropertyValuePb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.PropertyValuePb.class, com.alibaba.maxgraph.proto.groot.PropertyValuePb.Builder.class);
+  }
+
+  public static final int DATATYPE_FIELD_NUMBER = 1;
+  private int dataType_;
+  /**
+   * <code>optional .DataTypePb dataType = 1;</code>
+   */
+  public int getDataTypeValue() {
+    return dataType_;
+  }
+  /**
+   * <code>optional .DataTypePb dataType = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.DataTypePb getDataType() {
+    com.alibaba.maxgraph.proto.DataTypePb result = com.alibaba.maxgraph.proto.DataTypePb.valueOf(dataType_);
+    return result == null ? com.alibaba.maxgraph.proto.DataTypePb.UNRECOGNIZED : result;
+  }
+
+  public static final int VAL_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString val_;
+  /**
+   * <code>optional bytes val = 2;</code>
+   */
+  public com.google.protobuf.ByteString getVal() {
+    return val_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (dataType_ != com.alibaba.maxgraph.proto.DataTypePb.UNKNOWN.getNumber()) {
+      output.writeEnum(1, dataType_);
+    }
+    if (!val_.isEmpty()) {
+      output.writeBytes(2, val_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (dataType_ != com.alibaba.maxgraph.proto.DataTypePb.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, dataType_);
+    }
+    if (!val_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, val_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.PropertyValuePb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.PropertyValuePb other = (com.alibaba.maxgraph.proto.groot.PropertyValuePb) obj;
+
+    boolean result = true;
+    result = result && dataType_ == other.dataType_;
+    result = result && getVal()
+        .equals(other.getVal());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + DATATYPE_FIELD_NUMBER;
+    hash = (53 * hash) + dataType_;
+    hash = (37 * hash) + VAL_FIELD_NUMBER;
+    hash = (53 * hash) + getVal().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.PropertyValuePb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code PropertyValuePb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:PropertyValuePb)
+      com.alibaba.maxgraph.proto.groot.PropertyValuePbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_PropertyValuePb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_PropertyValuePb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.PropertyValuePb.class, com.alibaba.maxgraph.proto.groot.PropertyValuePb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.PropertyValuePb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      dataType_ = 0;
+
+      val_ = com.google.protobuf.ByteString.EMPTY;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_PropertyValuePb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.PropertyValuePb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.PropertyValuePb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.PropertyValuePb build() {
+      com.alibaba.maxgraph.proto.groot.PropertyValuePb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.PropertyValuePb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.PropertyValuePb result = new com.alibaba.maxgraph.proto.groot.PropertyValuePb(this);
+      result.dataType_ = dataType_;
+      result.val_ = val_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.PropertyValuePb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.PropertyValuePb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.PropertyValuePb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.PropertyValuePb.getDefaultInstance()) return this;
+      if (other.dataType_ != 0) {
+        setDataTypeValue(other.getDataTypeValue());
+      }
+      if (other.getVal() != com.google.protobuf.ByteString.EMPTY) {
+        setVal(other.getVal());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.PropertyValuePb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.PropertyValuePb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int dataType_ = 0;
+    /**
+     * <code>optional .DataTypePb dataType = 1;</code>
+     */
+    public int getDataTypeValue() {
+      return dataType_;
+    }
+    /**
+     * <code>optional .DataTypePb dataType = 1;</code>
+     */
+    public Builder setDataTypeValue(int value) {
+      dataType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .DataTypePb dataType = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.DataTypePb getDataType() {
+      com.alibaba.maxgraph.proto.DataTypePb result = com.alibaba.maxgraph.proto.DataTypePb.valueOf(dataType_);
+      return result == null ? com.alibaba.maxgraph.proto.DataTypePb.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>optional .DataTypePb dataType = 1;</code>
+     */
+    public Builder setDataType(com.alibaba.maxgraph.proto.DataTypePb value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      dataType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .DataTypePb dataType = 1;</code>
+     */
+    public Builder clearDataType() {
+      
+      dataType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString val_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes val = 2;</code>
+     */
+    public com.google.protobuf.ByteString getVal() {
+      return val_;
+    }
+    /**
+     * <code>optional bytes val = 2;</code>
+     */
+    public Builder setVal(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      val_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bytes val = 2;</code>
+     */
+    public Builder clearVal() {
+      
+      val_ = getDefaultInstance().getVal();
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:PropertyValuePb)
+  }
+
+  // @@protoc_insertion_point(class_scope:PropertyValuePb)
+  private static final com.alibaba.maxgraph.proto.groot.PropertyValuePb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.PropertyValuePb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.PropertyValuePb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PropertyValuePb>
+      PARSER = new com.google.protobuf.AbstractParser<PropertyValuePb>() {
+    public PropertyValuePb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PropertyValuePb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<PropertyValuePb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<PropertyValuePb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.PropertyValuePb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,23 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface PropertyValuePbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:PropertyValuePb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .DataTypePb dataType = 1;</code>
+   */
+  int getDataTypeValue();
+  /**
+   * <code>optional .DataTypePb dataType = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.DataTypePb getDataType();
+
+  /**
+   * <code>optional bytes val = 2;</code>
+   */
+  com.google.protobuf.ByteString getVal();
+}
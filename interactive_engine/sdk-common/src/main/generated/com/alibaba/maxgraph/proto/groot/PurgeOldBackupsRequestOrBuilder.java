@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface PurgeOldBackupsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:PurgeOldBackupsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 keepAliveNumber = 1;</code>
+   */
+  int getKeepAliveNumber();
+}
@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface RestoreFromBackupRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RestoreFromBackupRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 globalBackupId = 1;</code>
+   */
+  int getGlobalBackupId();
+
+  /**
+   * <code>optional string meta_restore_path = 2;</code>
+   */
+  java.lang.String getMetaRestorePath();
+  /**
+   * <code>optional string meta_restore_path = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getMetaRestorePathBytes();
+
+  /**
+   * <code>optional string store_restore_path = 3;</code>
+   */
+  java.lang.String getStoreRestorePath();
+  /**
+   * <code>optional string store_restore_path = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getStoreRestorePathBytes();
+}
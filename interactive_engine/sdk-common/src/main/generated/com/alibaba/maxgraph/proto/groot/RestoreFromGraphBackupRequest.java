@@ -0,0 +1,679 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code RestoreFromGraphBackupRequest}
+ */
+public  final class RestoreFromGraphBackupRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:RestoreFromGraphBackupRequest)
+    RestoreFromGraphBackupRequestOrBuilder {
+  // Use RestoreFromGraphBackupRequest.newBuilder() to construct.
+  private RestoreFromGraphBackupRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RestoreFromGraphBackupRequest() {
+    backupId_ = 0;
+    metaRestorePath_ = "";
+    storeRestorePath_ = "";
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private RestoreFromGraphBackupRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            backupId_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            metaRestorePath_ = s;
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            storeRestorePath_ = s;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.ClientBackupService.internal_static_RestoreFromGraphBackupRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.ClientBackupService.internal_static_RestoreFromGraphBackupRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest.class, com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest.Builder.class);
+  }
+
+  public static final int BACKUPID_FIELD_NUMBER = 1;
+  private int backupId_;
+  /**
+   * <code>optional int32 backupId = 1;</code>
+   */
+  public int getBackupId() {
+    return backupId_;
+  }
+
+  public static final int META_RESTORE_PATH_FIELD_NUMBER = 2;
+  private volatile java.lang.Object metaRestorePath_;
+  /**
+   * <code>optional string meta_restore_path = 2;</code>
+   */
+  public java.lang.String getMetaRestorePath() {
+    java.lang.Object ref = metaRestorePath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      metaRestorePath_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string meta_restore_path = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getMetaRestorePathBytes() {
+    java.lang.Object ref = metaRestorePath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      metaRestorePath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int STORE_RESTORE_PATH_FIELD_NUMBER = 3;
+  private volatile java.lang.Object storeRestorePath_;
+  /**
+   * <code>optional string store_restore_path = 3;</code>
+   */
+  public java.lang.String getStoreRestorePath() {
+    java.lang.Object ref = storeRestorePath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      storeRestorePath_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string store_restore_path = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getStoreRestorePathBytes() {
+    java.lang.Object ref = storeRestorePath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      storeRestorePath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (backupId_ != 0) {
+      output.writeInt32(1, backupId_);
+    }
+    if (!getMetaRestorePathBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, metaRestorePath_);
+    }
+    if (!getStoreRestorePathBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, storeRestorePath_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (backupId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, backupId_);
+    }
+    if (!getMetaRestorePathBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, metaRestorePath_);
+    }
+    if (!getStoreRestorePathBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, storeRestorePath_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest other = (com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest) obj;
+
+    boolean result = true;
+    result = result && (getBackupId()
+        == other.getBackupId());
+    result = result && getMetaRestorePath()
+        .equals(other.getMetaRestorePath());
+    result = result && getStoreRestorePath()
+        .equals(other.getStoreRestorePath());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + BACKUPID_FIELD_NUMBER;
+    hash = (53 * hash) + getBackupId();
+    hash = (37 * hash) + META_RESTORE_PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getMetaRestorePath().hashCode();
+    hash = (37 * hash) + STORE_RESTORE_PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getStoreRestorePath().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code RestoreFromGraphBackupRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:RestoreFromGraphBackupRequest)
+      com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.ClientBackupService.internal_static_RestoreFromGraphBackupRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.ClientBackupService.internal_static_RestoreFromGraphBackupRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest.class, com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      backupId_ = 0;
+
+      metaRestorePath_ = "";
+
+      storeRestorePath_ = "";
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.ClientBackupService.internal_static_RestoreFromGraphBackupRequest_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest build() {
+      com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest result = new com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest(this);
+      result.backupId_ = backupId_;
+      result.metaRestorePath_ = metaRestorePath_;
+      result.storeRestorePath_ = storeRestorePath_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest.getDefaultInstance()) return this;
+      if (other.getBackupId() != 0) {
+        setBackupId(other.getBackupId());
+      }
+      if (!other.getMetaRestorePath().isEmpty()) {
+        metaRestorePath_ = other.metaRestorePath_;
+        onChanged();
+      }
+      if (!other.getStoreRestorePath().isEmpty()) {
+        storeRestorePath_ = other.storeRestorePath_;
+        onChanged();
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int backupId_ ;
+    /**
+     * <code>optional int32 backupId = 1;</code>
+     */
+    public int getBackupId() {
+      return backupId_;
+    }
+    /**
+     * <code>optional int32 backupId = 1;</code>
+     */
+    public Builder setBackupId(int value) {
+      
+      backupId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 backupId = 1;</code>
+     */
+    public Builder clearBackupId() {
+      
+      backupId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object metaRestorePath_ = "";
+    /**
+     * <code>optional string meta_restore_path = 2;</code>
+     */
+    public java.lang.String getMetaRestorePath() {
+      java.lang.Object ref = metaRestorePath_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        metaRestorePath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string meta_restore_path = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMetaRestorePathBytes() {
+      java.lang.Object ref = metaRestorePath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        metaRestorePath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string meta_restore_path = 2;</code>
+     */
+    public Builder setMetaRestorePath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      metaRestorePath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string meta_restore_path = 2;</code>
+     */
+    public Builder clearMetaRestorePath() {
+      
+      metaRestorePath_ = getDefaultInstance().getMetaRestorePath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string meta_restore_path = 2;</code>
+     */
+    public Builder setMetaRestorePathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      metaRestorePath_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object storeRestorePath_ = "";
+    /**
+     * <code>optional string store_restore_path = 3;</code>
+     */
+    public java.lang.String getStoreRestorePath() {
+      java.lang.Object ref = storeRestorePath_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        storeRestorePath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string store_restore_path = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStoreRestorePathBytes() {
+      java.lang.Object ref = storeRestorePath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        storeRestorePath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string store_restore_path = 3;</code>
+     */
+    public Builder setStoreRestorePath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      storeRestorePath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string store_restore_path = 3;</code>
+     */
+    public Builder clearStoreRestorePath() {
+      
+      storeRestorePath_ = getDefaultInstance().getStoreRestorePath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string store_restore_path = 3;</code>
+     */
+    public Builder setStoreRestorePathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      storeRestorePath_ = value;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:RestoreFromGraphBackupRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:RestoreFromGraphBackupRequest)
+  private static final com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RestoreFromGraphBackupRequest>
+      PARSER = new com.google.protobuf.AbstractParser<RestoreFromGraphBackupRequest>() {
+    public RestoreFromGraphBackupRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RestoreFromGraphBackupRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RestoreFromGraphBackupRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RestoreFromGraphBackupRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.RestoreFromGraphBackupRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
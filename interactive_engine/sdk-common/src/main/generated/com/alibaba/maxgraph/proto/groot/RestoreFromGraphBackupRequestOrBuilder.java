@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface RestoreFromGraphBackupRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:RestoreFromGraphBackupRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 backupId = 1;</code>
+   */
+  int getBackupId();
+
+  /**
+   * <code>optional string meta_restore_path = 2;</code>
+   */
+  java.lang.String getMetaRestorePath();
+  /**
+   * <code>optional string meta_restore_path = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getMetaRestorePathBytes();
+
+  /**
+   * <code>optional string store_restore_path = 3;</code>
+   */
+  java.lang.String getStoreRestorePath();
+  /**
+   * <code>optional string store_restore_path = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getStoreRestorePathBytes();
+}
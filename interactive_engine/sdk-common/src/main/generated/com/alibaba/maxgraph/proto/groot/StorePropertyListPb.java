@@ -0,0 +1,712 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code StorePropertyListPb}
+ */
+public  final class StorePropertyListPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StorePropertyListPb)
+    StorePropertyListPbOrBuilder {
+  // Use StorePropertyListPb.newBuilder() to construct.
+  private StorePropertyListPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StorePropertyListPb() {
+    properties_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private StorePropertyListPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              properties_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.StorePropertyPb>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            properties_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.StorePropertyPb.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        properties_ = java.util.Collections.unmodifiableList(properties_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyListPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyListPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.StorePropertyListPb.class, com.alibaba.maxgraph.proto.groot.StorePropertyListPb.Builder.class);
+  }
+
+  public static final int PROPERTIES_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.StorePropertyPb> properties_;
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.StorePropertyPb> getPropertiesList() {
+    return properties_;
+  }
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder> 
+      getPropertiesOrBuilderList() {
+    return properties_;
+  }
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  public int getPropertiesCount() {
+    return properties_.size();
+  }
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.StorePropertyPb getProperties(int index) {
+    return properties_.get(index);
+  }
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder getPropertiesOrBuilder(
+      int index) {
+    return properties_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < properties_.size(); i++) {
+      output.writeMessage(1, properties_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < properties_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, properties_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.StorePropertyListPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.StorePropertyListPb other = (com.alibaba.maxgraph.proto.groot.StorePropertyListPb) obj;
+
+    boolean result = true;
+    result = result && getPropertiesList()
+        .equals(other.getPropertiesList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (getPropertiesCount() > 0) {
+      hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
+      hash = (53 * hash) + getPropertiesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.StorePropertyListPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StorePropertyListPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StorePropertyListPb)
+      com.alibaba.maxgraph.proto.groot.StorePropertyListPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyListPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyListPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.StorePropertyListPb.class, com.alibaba.maxgraph.proto.groot.StorePropertyListPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.StorePropertyListPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getPropertiesFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (propertiesBuilder_ == null) {
+        properties_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        propertiesBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyListPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.StorePropertyListPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.StorePropertyListPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.StorePropertyListPb build() {
+      com.alibaba.maxgraph.proto.groot.StorePropertyListPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.StorePropertyListPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.StorePropertyListPb result = new com.alibaba.maxgraph.proto.groot.StorePropertyListPb(this);
+      int from_bitField0_ = bitField0_;
+      if (propertiesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          properties_ = java.util.Collections.unmodifiableList(properties_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.properties_ = properties_;
+      } else {
+        result.properties_ = propertiesBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.StorePropertyListPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.StorePropertyListPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.StorePropertyListPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.StorePropertyListPb.getDefaultInstance()) return this;
+      if (propertiesBuilder_ == null) {
+        if (!other.properties_.isEmpty()) {
+          if (properties_.isEmpty()) {
+            properties_ = other.properties_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePropertiesIsMutable();
+            properties_.addAll(other.properties_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.properties_.isEmpty()) {
+          if (propertiesBuilder_.isEmpty()) {
+            propertiesBuilder_.dispose();
+            propertiesBuilder_ = null;
+            properties_ = other.properties_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            propertiesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getPropertiesFieldBuilder() : null;
+          } else {
+            propertiesBuilder_.addAllMessages(other.properties_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.StorePropertyListPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.StorePropertyListPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.StorePropertyPb> properties_ =
+      java.util.Collections.emptyList();
+    private void ensurePropertiesIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        properties_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.StorePropertyPb>(properties_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StorePropertyPb, com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder, com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder> propertiesBuilder_;
+
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.StorePropertyPb> getPropertiesList() {
+      if (propertiesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(properties_);
+      } else {
+        return propertiesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public int getPropertiesCount() {
+      if (propertiesBuilder_ == null) {
+        return properties_.size();
+      } else {
+        return propertiesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StorePropertyPb getProperties(int index) {
+      if (propertiesBuilder_ == null) {
+        return properties_.get(index);
+      } else {
+        return propertiesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder setProperties(
+        int index, com.alibaba.maxgraph.proto.groot.StorePropertyPb value) {
+      if (propertiesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertiesIsMutable();
+        properties_.set(index, value);
+        onChanged();
+      } else {
+        propertiesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder setProperties(
+        int index, com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder builderForValue) {
+      if (propertiesBuilder_ == null) {
+        ensurePropertiesIsMutable();
+        properties_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        propertiesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder addProperties(com.alibaba.maxgraph.proto.groot.StorePropertyPb value) {
+      if (propertiesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertiesIsMutable();
+        properties_.add(value);
+        onChanged();
+      } else {
+        propertiesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder addProperties(
+        int index, com.alibaba.maxgraph.proto.groot.StorePropertyPb value) {
+      if (propertiesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePropertiesIsMutable();
+        properties_.add(index, value);
+        onChanged();
+      } else {
+        propertiesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder addProperties(
+        com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder builderForValue) {
+      if (propertiesBuilder_ == null) {
+        ensurePropertiesIsMutable();
+        properties_.add(builderForValue.build());
+        onChanged();
+      } else {
+        propertiesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder addProperties(
+        int index, com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder builderForValue) {
+      if (propertiesBuilder_ == null) {
+        ensurePropertiesIsMutable();
+        properties_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        propertiesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder addAllProperties(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.StorePropertyPb> values) {
+      if (propertiesBuilder_ == null) {
+        ensurePropertiesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, properties_);
+        onChanged();
+      } else {
+        propertiesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder clearProperties() {
+      if (propertiesBuilder_ == null) {
+        properties_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        propertiesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public Builder removeProperties(int index) {
+      if (propertiesBuilder_ == null) {
+        ensurePropertiesIsMutable();
+        properties_.remove(index);
+        onChanged();
+      } else {
+        propertiesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder getPropertiesBuilder(
+        int index) {
+      return getPropertiesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder getPropertiesOrBuilder(
+        int index) {
+      if (propertiesBuilder_ == null) {
+        return properties_.get(index);  } else {
+        return propertiesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder> 
+         getPropertiesOrBuilderList() {
+      if (propertiesBuilder_ != null) {
+        return propertiesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(properties_);
+      }
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder addPropertiesBuilder() {
+      return getPropertiesFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.StorePropertyPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder addPropertiesBuilder(
+        int index) {
+      return getPropertiesFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.StorePropertyPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .StorePropertyPb properties = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder> 
+         getPropertiesBuilderList() {
+      return getPropertiesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.StorePropertyPb, com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder, com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder> 
+        getPropertiesFieldBuilder() {
+      if (propertiesBuilder_ == null) {
+        propertiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.StorePropertyPb, com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder, com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder>(
+                properties_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        properties_ = null;
+      }
+      return propertiesBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StorePropertyListPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:StorePropertyListPb)
+  private static final com.alibaba.maxgraph.proto.groot.StorePropertyListPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.StorePropertyListPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyListPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StorePropertyListPb>
+      PARSER = new com.google.protobuf.AbstractParser<StorePropertyListPb>() {
+    public StorePropertyListPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StorePropertyListPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StorePropertyListPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StorePropertyListPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.StorePropertyListPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StorePropertyListPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StorePropertyListPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.StorePropertyPb> 
+      getPropertiesList();
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StorePropertyPb getProperties(int index);
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  int getPropertiesCount();
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder> 
+      getPropertiesOrBuilderList();
+  /**
+   * <code>repeated .StorePropertyPb properties = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder getPropertiesOrBuilder(
+      int index);
+}
@@ -0,0 +1,606 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code StorePropertyPb}
+ */
+public  final class StorePropertyPb extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StorePropertyPb)
+    StorePropertyPbOrBuilder {
+  // Use StorePropertyPb.newBuilder() to construct.
+  private StorePropertyPb(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StorePropertyPb() {
+    propertyId_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private StorePropertyPb(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            propertyId_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            com.alibaba.maxgraph.proto.groot.PropertyValuePb.Builder subBuilder = null;
+            if (propertyValue_ != null) {
+              subBuilder = propertyValue_.toBuilder();
+            }
+            propertyValue_ = input.readMessage(com.alibaba.maxgraph.proto.groot.PropertyValuePb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(propertyValue_);
+              propertyValue_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyPb_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyPb_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.StorePropertyPb.class, com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder.class);
+  }
+
+  public static final int PROPERTY_ID_FIELD_NUMBER = 1;
+  private int propertyId_;
+  /**
+   * <code>optional int32 property_id = 1;</code>
+   */
+  public int getPropertyId() {
+    return propertyId_;
+  }
+
+  public static final int PROPERTY_VALUE_FIELD_NUMBER = 2;
+  private com.alibaba.maxgraph.proto.groot.PropertyValuePb propertyValue_;
+  /**
+   * <code>optional .PropertyValuePb property_value = 2;</code>
+   */
+  public boolean hasPropertyValue() {
+    return propertyValue_ != null;
+  }
+  /**
+   * <code>optional .PropertyValuePb property_value = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropertyValue() {
+    return propertyValue_ == null ? com.alibaba.maxgraph.proto.groot.PropertyValuePb.getDefaultInstance() : propertyValue_;
+  }
+  /**
+   * <code>optional .PropertyValuePb property_value = 2;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.PropertyValuePbOrBuilder getPropertyValueOrBuilder() {
+    return getPropertyValue();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (propertyId_ != 0) {
+      output.writeInt32(1, propertyId_);
+    }
+    if (propertyValue_ != null) {
+      output.writeMessage(2, getPropertyValue());
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (propertyId_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, propertyId_);
+    }
+    if (propertyValue_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getPropertyValue());
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.StorePropertyPb)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.StorePropertyPb other = (com.alibaba.maxgraph.proto.groot.StorePropertyPb) obj;
+
+    boolean result = true;
+    result = result && (getPropertyId()
+        == other.getPropertyId());
+    result = result && (hasPropertyValue() == other.hasPropertyValue());
+    if (hasPropertyValue()) {
+      result = result && getPropertyValue()
+          .equals(other.getPropertyValue());
+    }
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    hash = (37 * hash) + PROPERTY_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getPropertyId();
+    if (hasPropertyValue()) {
+      hash = (37 * hash) + PROPERTY_VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getPropertyValue().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.StorePropertyPb prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StorePropertyPb}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StorePropertyPb)
+      com.alibaba.maxgraph.proto.groot.StorePropertyPbOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyPb_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyPb_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.StorePropertyPb.class, com.alibaba.maxgraph.proto.groot.StorePropertyPb.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.StorePropertyPb.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      propertyId_ = 0;
+
+      if (propertyValueBuilder_ == null) {
+        propertyValue_ = null;
+      } else {
+        propertyValue_ = null;
+        propertyValueBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_StorePropertyPb_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.StorePropertyPb getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.StorePropertyPb.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.StorePropertyPb build() {
+      com.alibaba.maxgraph.proto.groot.StorePropertyPb result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.StorePropertyPb buildPartial() {
+      com.alibaba.maxgraph.proto.groot.StorePropertyPb result = new com.alibaba.maxgraph.proto.groot.StorePropertyPb(this);
+      result.propertyId_ = propertyId_;
+      if (propertyValueBuilder_ == null) {
+        result.propertyValue_ = propertyValue_;
+      } else {
+        result.propertyValue_ = propertyValueBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.StorePropertyPb) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.StorePropertyPb)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.StorePropertyPb other) {
+      if (other == com.alibaba.maxgraph.proto.groot.StorePropertyPb.getDefaultInstance()) return this;
+      if (other.getPropertyId() != 0) {
+        setPropertyId(other.getPropertyId());
+      }
+      if (other.hasPropertyValue()) {
+        mergePropertyValue(other.getPropertyValue());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.StorePropertyPb parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.StorePropertyPb) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int propertyId_ ;
+    /**
+     * <code>optional int32 property_id = 1;</code>
+     */
+    public int getPropertyId() {
+      return propertyId_;
+    }
+    /**
+     * <code>optional int32 property_id = 1;</code>
+     */
+    public Builder setPropertyId(int value) {
+      
+      propertyId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 property_id = 1;</code>
+     */
+    public Builder clearPropertyId() {
+      
+      propertyId_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.PropertyValuePb propertyValue_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.PropertyValuePb, com.alibaba.maxgraph.proto.groot.PropertyValuePb.Builder, com.alibaba.maxgraph.proto.groot.PropertyValuePbOrBuilder> propertyValueBuilder_;
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    public boolean hasPropertyValue() {
+      return propertyValueBuilder_ != null || propertyValue_ != null;
+    }
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropertyValue() {
+      if (propertyValueBuilder_ == null) {
+        return propertyValue_ == null ? com.alibaba.maxgraph.proto.groot.PropertyValuePb.getDefaultInstance() : propertyValue_;
+      } else {
+        return propertyValueBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    public Builder setPropertyValue(com.alibaba.maxgraph.proto.groot.PropertyValuePb value) {
+      if (propertyValueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        propertyValue_ = value;
+        onChanged();
+      } else {
+        propertyValueBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    public Builder setPropertyValue(
+        com.alibaba.maxgraph.proto.groot.PropertyValuePb.Builder builderForValue) {
+      if (propertyValueBuilder_ == null) {
+        propertyValue_ = builderForValue.build();
+        onChanged();
+      } else {
+        propertyValueBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    public Builder mergePropertyValue(com.alibaba.maxgraph.proto.groot.PropertyValuePb value) {
+      if (propertyValueBuilder_ == null) {
+        if (propertyValue_ != null) {
+          propertyValue_ =
+            com.alibaba.maxgraph.proto.groot.PropertyValuePb.newBuilder(propertyValue_).mergeFrom(value).buildPartial();
+        } else {
+          propertyValue_ = value;
+        }
+        onChanged();
+      } else {
+        propertyValueBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    public Builder clearPropertyValue() {
+      if (propertyValueBuilder_ == null) {
+        propertyValue_ = null;
+        onChanged();
+      } else {
+        propertyValue_ = null;
+        propertyValueBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.PropertyValuePb.Builder getPropertyValueBuilder() {
+      
+      onChanged();
+      return getPropertyValueFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.PropertyValuePbOrBuilder getPropertyValueOrBuilder() {
+      if (propertyValueBuilder_ != null) {
+        return propertyValueBuilder_.getMessageOrBuilder();
+      } else {
+        return propertyValue_ == null ?
+            com.alibaba.maxgraph.proto.groot.PropertyValuePb.getDefaultInstance() : propertyValue_;
+      }
+    }
+    /**
+     * <code>optional .PropertyValuePb property_value = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.PropertyValuePb, com.alibaba.maxgraph.proto.groot.PropertyValuePb.Builder, com.alibaba.maxgraph.proto.groot.PropertyValuePbOrBuilder> 
+        getPropertyValueFieldBuilder() {
+      if (propertyValueBuilder_ == null) {
+        propertyValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.PropertyValuePb, com.alibaba.maxgraph.proto.groot.PropertyValuePb.Builder, com.alibaba.maxgraph.proto.groot.PropertyValuePbOrBuilder>(
+                getPropertyValue(),
+                getParentForChildren(),
+                isClean());
+        propertyValue_ = null;
+      }
+      return propertyValueBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StorePropertyPb)
+  }
+
+  // @@protoc_insertion_point(class_scope:StorePropertyPb)
+  private static final com.alibaba.maxgraph.proto.groot.StorePropertyPb DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.StorePropertyPb();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.StorePropertyPb getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StorePropertyPb>
+      PARSER = new com.google.protobuf.AbstractParser<StorePropertyPb>() {
+    public StorePropertyPb parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StorePropertyPb(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<StorePropertyPb> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StorePropertyPb> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.StorePropertyPb getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
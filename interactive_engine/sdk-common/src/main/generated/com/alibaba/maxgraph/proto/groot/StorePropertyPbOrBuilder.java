@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface StorePropertyPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StorePropertyPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 property_id = 1;</code>
+   */
+  int getPropertyId();
+
+  /**
+   * <code>optional .PropertyValuePb property_value = 2;</code>
+   */
+  boolean hasPropertyValue();
+  /**
+   * <code>optional .PropertyValuePb property_value = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.PropertyValuePb getPropertyValue();
+  /**
+   * <code>optional .PropertyValuePb property_value = 2;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.PropertyValuePbOrBuilder getPropertyValueOrBuilder();
+}
@@ -0,0 +1,712 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_ddl_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code SubmitDdlRequest}
+ */
+public  final class SubmitDdlRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:SubmitDdlRequest)
+    SubmitDdlRequestOrBuilder {
+  // Use SubmitDdlRequest.newBuilder() to construct.
+  private SubmitDdlRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SubmitDdlRequest() {
+    ddlRequests_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private SubmitDdlRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              ddlRequests_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.DdlRequestPb>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            ddlRequests_.add(
+                input.readMessage(com.alibaba.maxgraph.proto.groot.DdlRequestPb.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        ddlRequests_ = java.util.Collections.unmodifiableList(ddlRequests_);
+      }
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.ClientDdlService.internal_static_SubmitDdlRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.ClientDdlService.internal_static_SubmitDdlRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.SubmitDdlRequest.class, com.alibaba.maxgraph.proto.groot.SubmitDdlRequest.Builder.class);
+  }
+
+  public static final int DDLREQUESTS_FIELD_NUMBER = 1;
+  private java.util.List<com.alibaba.maxgraph.proto.groot.DdlRequestPb> ddlRequests_;
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  public java.util.List<com.alibaba.maxgraph.proto.groot.DdlRequestPb> getDdlRequestsList() {
+    return ddlRequests_;
+  }
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  public java.util.List<? extends com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder> 
+      getDdlRequestsOrBuilderList() {
+    return ddlRequests_;
+  }
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  public int getDdlRequestsCount() {
+    return ddlRequests_.size();
+  }
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.DdlRequestPb getDdlRequests(int index) {
+    return ddlRequests_.get(index);
+  }
+  /**
+   * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder getDdlRequestsOrBuilder(
+      int index) {
+    return ddlRequests_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < ddlRequests_.size(); i++) {
+      output.writeMessage(1, ddlRequests_.get(i));
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < ddlRequests_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, ddlRequests_.get(i));
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.SubmitDdlRequest)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.SubmitDdlRequest other = (com.alibaba.maxgraph.proto.groot.SubmitDdlRequest) obj;
+
+    boolean result = true;
+    result = result && getDdlRequestsList()
+        .equals(other.getDdlRequestsList());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (getDdlRequestsCount() > 0) {
+      hash = (37 * hash) + DDLREQUESTS_FIELD_NUMBER;
+      hash = (53 * hash) + getDdlRequestsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.SubmitDdlRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code SubmitDdlRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:SubmitDdlRequest)
+      com.alibaba.maxgraph.proto.groot.SubmitDdlRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.ClientDdlService.internal_static_SubmitDdlRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.ClientDdlService.internal_static_SubmitDdlRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.SubmitDdlRequest.class, com.alibaba.maxgraph.proto.groot.SubmitDdlRequest.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.SubmitDdlRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getDdlRequestsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (ddlRequestsBuilder_ == null) {
+        ddlRequests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        ddlRequestsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.ClientDdlService.internal_static_SubmitDdlRequest_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.SubmitDdlRequest getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.SubmitDdlRequest.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.SubmitDdlRequest build() {
+      com.alibaba.maxgraph.proto.groot.SubmitDdlRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.SubmitDdlRequest buildPartial() {
+      com.alibaba.maxgraph.proto.groot.SubmitDdlRequest result = new com.alibaba.maxgraph.proto.groot.SubmitDdlRequest(this);
+      int from_bitField0_ = bitField0_;
+      if (ddlRequestsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          ddlRequests_ = java.util.Collections.unmodifiableList(ddlRequests_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ddlRequests_ = ddlRequests_;
+      } else {
+        result.ddlRequests_ = ddlRequestsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.SubmitDdlRequest) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.SubmitDdlRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.SubmitDdlRequest other) {
+      if (other == com.alibaba.maxgraph.proto.groot.SubmitDdlRequest.getDefaultInstance()) return this;
+      if (ddlRequestsBuilder_ == null) {
+        if (!other.ddlRequests_.isEmpty()) {
+          if (ddlRequests_.isEmpty()) {
+            ddlRequests_ = other.ddlRequests_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDdlRequestsIsMutable();
+            ddlRequests_.addAll(other.ddlRequests_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.ddlRequests_.isEmpty()) {
+          if (ddlRequestsBuilder_.isEmpty()) {
+            ddlRequestsBuilder_.dispose();
+            ddlRequestsBuilder_ = null;
+            ddlRequests_ = other.ddlRequests_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            ddlRequestsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getDdlRequestsFieldBuilder() : null;
+          } else {
+            ddlRequestsBuilder_.addAllMessages(other.ddlRequests_);
+          }
+        }
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.SubmitDdlRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.SubmitDdlRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.alibaba.maxgraph.proto.groot.DdlRequestPb> ddlRequests_ =
+      java.util.Collections.emptyList();
+    private void ensureDdlRequestsIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        ddlRequests_ = new java.util.ArrayList<com.alibaba.maxgraph.proto.groot.DdlRequestPb>(ddlRequests_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.DdlRequestPb, com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder, com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder> ddlRequestsBuilder_;
+
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.DdlRequestPb> getDdlRequestsList() {
+      if (ddlRequestsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(ddlRequests_);
+      } else {
+        return ddlRequestsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public int getDdlRequestsCount() {
+      if (ddlRequestsBuilder_ == null) {
+        return ddlRequests_.size();
+      } else {
+        return ddlRequestsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.DdlRequestPb getDdlRequests(int index) {
+      if (ddlRequestsBuilder_ == null) {
+        return ddlRequests_.get(index);
+      } else {
+        return ddlRequestsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder setDdlRequests(
+        int index, com.alibaba.maxgraph.proto.groot.DdlRequestPb value) {
+      if (ddlRequestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDdlRequestsIsMutable();
+        ddlRequests_.set(index, value);
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder setDdlRequests(
+        int index, com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder builderForValue) {
+      if (ddlRequestsBuilder_ == null) {
+        ensureDdlRequestsIsMutable();
+        ddlRequests_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder addDdlRequests(com.alibaba.maxgraph.proto.groot.DdlRequestPb value) {
+      if (ddlRequestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDdlRequestsIsMutable();
+        ddlRequests_.add(value);
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder addDdlRequests(
+        int index, com.alibaba.maxgraph.proto.groot.DdlRequestPb value) {
+      if (ddlRequestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDdlRequestsIsMutable();
+        ddlRequests_.add(index, value);
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder addDdlRequests(
+        com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder builderForValue) {
+      if (ddlRequestsBuilder_ == null) {
+        ensureDdlRequestsIsMutable();
+        ddlRequests_.add(builderForValue.build());
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder addDdlRequests(
+        int index, com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder builderForValue) {
+      if (ddlRequestsBuilder_ == null) {
+        ensureDdlRequestsIsMutable();
+        ddlRequests_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder addAllDdlRequests(
+        java.lang.Iterable<? extends com.alibaba.maxgraph.proto.groot.DdlRequestPb> values) {
+      if (ddlRequestsBuilder_ == null) {
+        ensureDdlRequestsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ddlRequests_);
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder clearDdlRequests() {
+      if (ddlRequestsBuilder_ == null) {
+        ddlRequests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public Builder removeDdlRequests(int index) {
+      if (ddlRequestsBuilder_ == null) {
+        ensureDdlRequestsIsMutable();
+        ddlRequests_.remove(index);
+        onChanged();
+      } else {
+        ddlRequestsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder getDdlRequestsBuilder(
+        int index) {
+      return getDdlRequestsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder getDdlRequestsOrBuilder(
+        int index) {
+      if (ddlRequestsBuilder_ == null) {
+        return ddlRequests_.get(index);  } else {
+        return ddlRequestsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public java.util.List<? extends com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder> 
+         getDdlRequestsOrBuilderList() {
+      if (ddlRequestsBuilder_ != null) {
+        return ddlRequestsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(ddlRequests_);
+      }
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder addDdlRequestsBuilder() {
+      return getDdlRequestsFieldBuilder().addBuilder(
+          com.alibaba.maxgraph.proto.groot.DdlRequestPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder addDdlRequestsBuilder(
+        int index) {
+      return getDdlRequestsFieldBuilder().addBuilder(
+          index, com.alibaba.maxgraph.proto.groot.DdlRequestPb.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .DdlRequestPb ddlRequests = 1;</code>
+     */
+    public java.util.List<com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder> 
+         getDdlRequestsBuilderList() {
+      return getDdlRequestsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.DdlRequestPb, com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder, com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder> 
+        getDdlRequestsFieldBuilder() {
+      if (ddlRequestsBuilder_ == null) {
+        ddlRequestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.DdlRequestPb, com.alibaba.maxgraph.proto.groot.DdlRequestPb.Builder, com.alibaba.maxgraph.proto.groot.DdlRequestPbOrBuilder>(
+                ddlRequests_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        ddlRequests_ = null;
+      }
+      return ddlRequestsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:SubmitDdlRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:SubmitDdlRequest)
+  private static final com.alibaba.maxgraph.proto.groot.SubmitDdlRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.SubmitDdlRequest();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.SubmitDdlRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SubmitDdlRequest>
+      PARSER = new com.google.protobuf.AbstractParser<SubmitDdlRequest>() {
+    public SubmitDdlRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SubmitDdlRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SubmitDdlRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SubmitDdlRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.SubmitDdlRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
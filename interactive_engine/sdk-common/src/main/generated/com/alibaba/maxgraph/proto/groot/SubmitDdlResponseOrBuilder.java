@@ -0,0 +1,22 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_ddl_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface SubmitDdlResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:SubmitDdlResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .GraphDefPb graphDef = 1;</code>
+   */
+  boolean hasGraphDef();
+  /**
+   * <code>optional .GraphDefPb graphDef = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPb getGraphDef();
+  /**
+   * <code>optional .GraphDefPb graphDef = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.GraphDefPbOrBuilder getGraphDefOrBuilder();
+}
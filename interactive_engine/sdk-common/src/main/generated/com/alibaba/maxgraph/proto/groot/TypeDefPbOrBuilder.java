@@ -0,0 +1,70 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface TypeDefPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TypeDefPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 versionId = 1;</code>
+   */
+  int getVersionId();
+
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>optional .LabelIdPb labelId = 3;</code>
+   */
+  boolean hasLabelId();
+  /**
+   * <code>optional .LabelIdPb labelId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPb getLabelId();
+  /**
+   * <code>optional .LabelIdPb labelId = 3;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getLabelIdOrBuilder();
+
+  /**
+   * <code>optional .TypeEnumPb typeEnum = 4;</code>
+   */
+  int getTypeEnumValue();
+  /**
+   * <code>optional .TypeEnumPb typeEnum = 4;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.TypeEnumPb getTypeEnum();
+
+  /**
+   * <code>repeated .PropertyDefPb props = 5;</code>
+   */
+  java.util.List<com.alibaba.maxgraph.proto.groot.PropertyDefPb> 
+      getPropsList();
+  /**
+   * <code>repeated .PropertyDefPb props = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.PropertyDefPb getProps(int index);
+  /**
+   * <code>repeated .PropertyDefPb props = 5;</code>
+   */
+  int getPropsCount();
+  /**
+   * <code>repeated .PropertyDefPb props = 5;</code>
+   */
+  java.util.List<? extends com.alibaba.maxgraph.proto.groot.PropertyDefPbOrBuilder> 
+      getPropsOrBuilderList();
+  /**
+   * <code>repeated .PropertyDefPb props = 5;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.PropertyDefPbOrBuilder getPropsOrBuilder(
+      int index);
+}
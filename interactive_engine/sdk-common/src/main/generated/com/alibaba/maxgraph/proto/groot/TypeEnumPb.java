@@ -0,0 +1,104 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf enum {@code TypeEnumPb}
+ */
+public enum TypeEnumPb
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>VERTEX = 0;</code>
+   */
+  VERTEX(0),
+  /**
+   * <code>EDGE = 1;</code>
+   */
+  EDGE(1),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>VERTEX = 0;</code>
+   */
+  public static final int VERTEX_VALUE = 0;
+  /**
+   * <code>EDGE = 1;</code>
+   */
+  public static final int EDGE_VALUE = 1;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static TypeEnumPb valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static TypeEnumPb forNumber(int value) {
+    switch (value) {
+      case 0: return VERTEX;
+      case 1: return EDGE;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<TypeEnumPb>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      TypeEnumPb> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<TypeEnumPb>() {
+          public TypeEnumPb findValueByNumber(int number) {
+            return TypeEnumPb.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.getDescriptor()
+        .getEnumTypes().get(1);
+  }
+
+  private static final TypeEnumPb[] VALUES = values();
+
+  public static TypeEnumPb valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private TypeEnumPb(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:TypeEnumPb)
+}
+
@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface VerifyBackupRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VerifyBackupRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 globalBackupId = 1;</code>
+   */
+  int getGlobalBackupId();
+}
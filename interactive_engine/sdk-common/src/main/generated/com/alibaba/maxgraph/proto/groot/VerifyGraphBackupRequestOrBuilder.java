@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface VerifyGraphBackupRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VerifyGraphBackupRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int32 backupId = 1;</code>
+   */
+  int getBackupId();
+}
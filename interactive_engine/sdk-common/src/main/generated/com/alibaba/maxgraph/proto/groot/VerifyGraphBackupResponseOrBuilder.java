@@ -0,0 +1,24 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client_backup_service.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface VerifyGraphBackupResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VerifyGraphBackupResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional bool isOk = 1;</code>
+   */
+  boolean getIsOk();
+
+  /**
+   * <code>optional string errMsg = 2;</code>
+   */
+  java.lang.String getErrMsg();
+  /**
+   * <code>optional string errMsg = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getErrMsgBytes();
+}
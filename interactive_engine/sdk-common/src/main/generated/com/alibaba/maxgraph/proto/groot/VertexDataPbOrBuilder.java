@@ -0,0 +1,53 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/client.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface VertexDataPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VertexDataPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>optional string label = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+
+  /**
+   * <code>map&lt;string, string&gt; properties = 2;</code>
+   */
+  int getPropertiesCount();
+  /**
+   * <code>map&lt;string, string&gt; properties = 2;</code>
+   */
+  boolean containsProperties(
+      java.lang.String key);
+  /**
+   * Use {@link #getPropertiesMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.String>
+  getProperties();
+  /**
+   * <code>map&lt;string, string&gt; properties = 2;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.String>
+  getPropertiesMap();
+  /**
+   * <code>map&lt;string, string&gt; properties = 2;</code>
+   */
+
+  java.lang.String getPropertiesOrDefault(
+      java.lang.String key,
+      java.lang.String defaultValue);
+  /**
+   * <code>map&lt;string, string&gt; properties = 2;</code>
+   */
+
+  java.lang.String getPropertiesOrThrow(
+      java.lang.String key);
+}
@@ -0,0 +1,14 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface VertexIdPbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VertexIdPb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional int64 id = 1;</code>
+   */
+  long getId();
+}
@@ -0,0 +1,607 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+/**
+ * Protobuf type {@code VertexTableIdEntry}
+ */
+public  final class VertexTableIdEntry extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:VertexTableIdEntry)
+    VertexTableIdEntryOrBuilder {
+  // Use VertexTableIdEntry.newBuilder() to construct.
+  private VertexTableIdEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private VertexTableIdEntry() {
+    tableId_ = 0L;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+  }
+  private VertexTableIdEntry(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    int mutable_bitField0_ = 0;
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!input.skipField(tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder subBuilder = null;
+            if (labelId_ != null) {
+              subBuilder = labelId_.toBuilder();
+            }
+            labelId_ = input.readMessage(com.alibaba.maxgraph.proto.groot.LabelIdPb.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(labelId_);
+              labelId_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            tableId_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_VertexTableIdEntry_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.alibaba.maxgraph.proto.groot.Model.internal_static_VertexTableIdEntry_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.class, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder.class);
+  }
+
+  public static final int LABELID_FIELD_NUMBER = 1;
+  private com.alibaba.maxgraph.proto.groot.LabelIdPb labelId_;
+  /**
+   * <code>optional .LabelIdPb labelId = 1;</code>
+   */
+  public boolean hasLabelId() {
+    return labelId_ != null;
+  }
+  /**
+   * <code>optional .LabelIdPb labelId = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.LabelIdPb getLabelId() {
+    return labelId_ == null ? com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : labelId_;
+  }
+  /**
+   * <code>optional .LabelIdPb labelId = 1;</code>
+   */
+  public com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getLabelIdOrBuilder() {
+    return getLabelId();
+  }
+
+  public static final int TABLEID_FIELD_NUMBER = 2;
+  private long tableId_;
+  /**
+   * <code>optional int64 tableId = 2;</code>
+   */
+  public long getTableId() {
+    return tableId_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (labelId_ != null) {
+      output.writeMessage(1, getLabelId());
+    }
+    if (tableId_ != 0L) {
+      output.writeInt64(2, tableId_);
+    }
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (labelId_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getLabelId());
+    }
+    if (tableId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, tableId_);
+    }
+    memoizedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.alibaba.maxgraph.proto.groot.VertexTableIdEntry)) {
+      return super.equals(obj);
+    }
+    com.alibaba.maxgraph.proto.groot.VertexTableIdEntry other = (com.alibaba.maxgraph.proto.groot.VertexTableIdEntry) obj;
+
+    boolean result = true;
+    result = result && (hasLabelId() == other.hasLabelId());
+    if (hasLabelId()) {
+      result = result && getLabelId()
+          .equals(other.getLabelId());
+    }
+    result = result && (getTableId()
+        == other.getTableId());
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptorForType().hashCode();
+    if (hasLabelId()) {
+      hash = (37 * hash) + LABELID_FIELD_NUMBER;
+      hash = (53 * hash) + getLabelId().hashCode();
+    }
+    hash = (37 * hash) + TABLEID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTableId());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.alibaba.maxgraph.proto.groot.VertexTableIdEntry prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code VertexTableIdEntry}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:VertexTableIdEntry)
+      com.alibaba.maxgraph.proto.groot.VertexTableIdEntryOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_VertexTableIdEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_VertexTableIdEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.class, com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.Builder.class);
+    }
+
+    // Construct using com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (labelIdBuilder_ == null) {
+        labelId_ = null;
+      } else {
+        labelId_ = null;
+        labelIdBuilder_ = null;
+      }
+      tableId_ = 0L;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.alibaba.maxgraph.proto.groot.Model.internal_static_VertexTableIdEntry_descriptor;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry getDefaultInstanceForType() {
+      return com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.getDefaultInstance();
+    }
+
+    public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry build() {
+      com.alibaba.maxgraph.proto.groot.VertexTableIdEntry result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry buildPartial() {
+      com.alibaba.maxgraph.proto.groot.VertexTableIdEntry result = new com.alibaba.maxgraph.proto.groot.VertexTableIdEntry(this);
+      if (labelIdBuilder_ == null) {
+        result.labelId_ = labelId_;
+      } else {
+        result.labelId_ = labelIdBuilder_.build();
+      }
+      result.tableId_ = tableId_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.alibaba.maxgraph.proto.groot.VertexTableIdEntry) {
+        return mergeFrom((com.alibaba.maxgraph.proto.groot.VertexTableIdEntry)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.alibaba.maxgraph.proto.groot.VertexTableIdEntry other) {
+      if (other == com.alibaba.maxgraph.proto.groot.VertexTableIdEntry.getDefaultInstance()) return this;
+      if (other.hasLabelId()) {
+        mergeLabelId(other.getLabelId());
+      }
+      if (other.getTableId() != 0L) {
+        setTableId(other.getTableId());
+      }
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.alibaba.maxgraph.proto.groot.VertexTableIdEntry parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.alibaba.maxgraph.proto.groot.VertexTableIdEntry) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.alibaba.maxgraph.proto.groot.LabelIdPb labelId_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder> labelIdBuilder_;
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    public boolean hasLabelId() {
+      return labelIdBuilder_ != null || labelId_ != null;
+    }
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPb getLabelId() {
+      if (labelIdBuilder_ == null) {
+        return labelId_ == null ? com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : labelId_;
+      } else {
+        return labelIdBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    public Builder setLabelId(com.alibaba.maxgraph.proto.groot.LabelIdPb value) {
+      if (labelIdBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        labelId_ = value;
+        onChanged();
+      } else {
+        labelIdBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    public Builder setLabelId(
+        com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder builderForValue) {
+      if (labelIdBuilder_ == null) {
+        labelId_ = builderForValue.build();
+        onChanged();
+      } else {
+        labelIdBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    public Builder mergeLabelId(com.alibaba.maxgraph.proto.groot.LabelIdPb value) {
+      if (labelIdBuilder_ == null) {
+        if (labelId_ != null) {
+          labelId_ =
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.newBuilder(labelId_).mergeFrom(value).buildPartial();
+        } else {
+          labelId_ = value;
+        }
+        onChanged();
+      } else {
+        labelIdBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    public Builder clearLabelId() {
+      if (labelIdBuilder_ == null) {
+        labelId_ = null;
+        onChanged();
+      } else {
+        labelId_ = null;
+        labelIdBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder getLabelIdBuilder() {
+      
+      onChanged();
+      return getLabelIdFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    public com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getLabelIdOrBuilder() {
+      if (labelIdBuilder_ != null) {
+        return labelIdBuilder_.getMessageOrBuilder();
+      } else {
+        return labelId_ == null ?
+            com.alibaba.maxgraph.proto.groot.LabelIdPb.getDefaultInstance() : labelId_;
+      }
+    }
+    /**
+     * <code>optional .LabelIdPb labelId = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder> 
+        getLabelIdFieldBuilder() {
+      if (labelIdBuilder_ == null) {
+        labelIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.maxgraph.proto.groot.LabelIdPb, com.alibaba.maxgraph.proto.groot.LabelIdPb.Builder, com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder>(
+                getLabelId(),
+                getParentForChildren(),
+                isClean());
+        labelId_ = null;
+      }
+      return labelIdBuilder_;
+    }
+
+    private long tableId_ ;
+    /**
+     * <code>optional int64 tableId = 2;</code>
+     */
+    public long getTableId() {
+      return tableId_;
+    }
+    /**
+     * <code>optional int64 tableId = 2;</code>
+     */
+    public Builder setTableId(long value) {
+      
+      tableId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 tableId = 2;</code>
+     */
+    public Builder clearTableId() {
+      
+      tableId_ = 0L;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return this;
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:VertexTableIdEntry)
+  }
+
+  // @@protoc_insertion_point(class_scope:VertexTableIdEntry)
+  private static final com.alibaba.maxgraph.proto.groot.VertexTableIdEntry DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.alibaba.maxgraph.proto.groot.VertexTableIdEntry();
+  }
+
+  public static com.alibaba.maxgraph.proto.groot.VertexTableIdEntry getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<VertexTableIdEntry>
+      PARSER = new com.google.protobuf.AbstractParser<VertexTableIdEntry>() {
+    public VertexTableIdEntry parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VertexTableIdEntry(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<VertexTableIdEntry> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<VertexTableIdEntry> getParserForType() {
+    return PARSER;
+  }
+
+  public com.alibaba.maxgraph.proto.groot.VertexTableIdEntry getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface VertexTableIdEntryOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:VertexTableIdEntry)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional .LabelIdPb labelId = 1;</code>
+   */
+  boolean hasLabelId();
+  /**
+   * <code>optional .LabelIdPb labelId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPb getLabelId();
+  /**
+   * <code>optional .LabelIdPb labelId = 1;</code>
+   */
+  com.alibaba.maxgraph.proto.groot.LabelIdPbOrBuilder getLabelIdOrBuilder();
+
+  /**
+   * <code>optional int64 tableId = 2;</code>
+   */
+  long getTableId();
+}
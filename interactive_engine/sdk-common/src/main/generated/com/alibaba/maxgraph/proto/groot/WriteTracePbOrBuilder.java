@@ -0,0 +1,29 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: sdk/model.proto
+
+package com.alibaba.maxgraph.proto.groot;
+
+public interface WriteTracePbOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:WriteTracePb)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string requestId = 1;</code>
+   */
+  java.lang.String getRequestId();
+  /**
+   * <code>optional string requestId = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getRequestIdBytes();
+
+  /**
+   * <code>optional int64 frontendStartMs = 2;</code>
+   */
+  long getFrontendStartMs();
+
+  /**
+   * <code>optional int64 walAppendMs = 3;</code>
+   */
+  long getWalAppendMs();
+}
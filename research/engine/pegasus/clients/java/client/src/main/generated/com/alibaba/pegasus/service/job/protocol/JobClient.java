@@ -0,0 +1,20870 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: job_plan.proto
+
+package com.alibaba.pegasus.service.job.protocol;
+
+public final class JobClient {
+  private JobClient() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code job_proto.AccumKind}
+   */
+  public enum AccumKind
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>CNT = 0;</code>
+     */
+    CNT(0),
+    /**
+     * <code>SUM = 1;</code>
+     */
+    SUM(1),
+    /**
+     * <code>MAX = 2;</code>
+     */
+    MAX(2),
+    /**
+     * <code>MIN = 3;</code>
+     */
+    MIN(3),
+    /**
+     * <code>TO_LIST = 4;</code>
+     */
+    TO_LIST(4),
+    /**
+     * <code>TO_SET = 5;</code>
+     */
+    TO_SET(5),
+    /**
+     * <code>CUSTOM = 6;</code>
+     */
+    CUSTOM(6),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>CNT = 0;</code>
+     */
+    public static final int CNT_VALUE = 0;
+    /**
+     * <code>SUM = 1;</code>
+     */
+    public static final int SUM_VALUE = 1;
+    /**
+     * <code>MAX = 2;</code>
+     */
+    public static final int MAX_VALUE = 2;
+    /**
+     * <code>MIN = 3;</code>
+     */
+    public static final int MIN_VALUE = 3;
+    /**
+     * <code>TO_LIST = 4;</code>
+     */
+    public static final int TO_LIST_VALUE = 4;
+    /**
+     * <code>TO_SET = 5;</code>
+     */
+    public static final int TO_SET_VALUE = 5;
+    /**
+     * <code>CUSTOM = 6;</code>
+     */
+    public static final int CUSTOM_VALUE = 6;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static AccumKind valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static AccumKind forNumber(int value) {
+      switch (value) {
+        case 0: return CNT;
+        case 1: return SUM;
+        case 2: return MAX;
+        case 3: return MIN;
+        case 4: return TO_LIST;
+        case 5: return TO_SET;
+        case 6: return CUSTOM;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<AccumKind>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        AccumKind> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<AccumKind>() {
+            public AccumKind findValueByNumber(int number) {
+              return AccumKind.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final AccumKind[] VALUES = values();
+
+    public static AccumKind valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private AccumKind(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:job_proto.AccumKind)
+  }
+
+  public interface RepartitionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Repartition)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.Repartition}
+   */
+  public static final class Repartition extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Repartition)
+      RepartitionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Repartition.newBuilder() to construct.
+    private Repartition(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Repartition() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Repartition();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Repartition(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Repartition_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Repartition_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.class, com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Repartition)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Repartition other = (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Repartition prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Repartition}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Repartition)
+        com.alibaba.pegasus.service.job.protocol.JobClient.RepartitionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Repartition_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Repartition_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.class, com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Repartition_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Repartition getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Repartition build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Repartition result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Repartition buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Repartition result = new com.alibaba.pegasus.service.job.protocol.JobClient.Repartition(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Repartition)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Repartition other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Repartition parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Repartition)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Repartition)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Repartition DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Repartition();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Repartition getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Repartition>
+        PARSER = new com.google.protobuf.AbstractParser<Repartition>() {
+      @java.lang.Override
+      public Repartition parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Repartition(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Repartition> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Repartition> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Repartition getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BroadcastOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Broadcast)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.Broadcast}
+   */
+  public static final class Broadcast extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Broadcast)
+      BroadcastOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Broadcast.newBuilder() to construct.
+    private Broadcast(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Broadcast() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Broadcast();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Broadcast(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Broadcast_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Broadcast_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.class, com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast other = (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Broadcast}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Broadcast)
+        com.alibaba.pegasus.service.job.protocol.JobClient.BroadcastOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Broadcast_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Broadcast_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.class, com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Broadcast_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast result = new com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Broadcast)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Broadcast)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Broadcast>
+        PARSER = new com.google.protobuf.AbstractParser<Broadcast>() {
+      @java.lang.Override
+      public Broadcast parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Broadcast(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Broadcast> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Broadcast> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AggregateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Aggregate)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 target = 1;</code>
+     * @return The target.
+     */
+    int getTarget();
+  }
+  /**
+   * Protobuf type {@code job_proto.Aggregate}
+   */
+  public static final class Aggregate extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Aggregate)
+      AggregateOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Aggregate.newBuilder() to construct.
+    private Aggregate(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Aggregate() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Aggregate();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Aggregate(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              target_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Aggregate_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Aggregate_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.class, com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.Builder.class);
+    }
+
+    public static final int TARGET_FIELD_NUMBER = 1;
+    private int target_;
+    /**
+     * <code>uint32 target = 1;</code>
+     * @return The target.
+     */
+    @java.lang.Override
+    public int getTarget() {
+      return target_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (target_ != 0) {
+        output.writeUInt32(1, target_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (target_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, target_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate other = (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) obj;
+
+      if (getTarget()
+          != other.getTarget()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TARGET_FIELD_NUMBER;
+      hash = (53 * hash) + getTarget();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Aggregate}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Aggregate)
+        com.alibaba.pegasus.service.job.protocol.JobClient.AggregateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Aggregate_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Aggregate_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.class, com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        target_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Aggregate_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate result = new com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate(this);
+        result.target_ = target_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance()) return this;
+        if (other.getTarget() != 0) {
+          setTarget(other.getTarget());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int target_ ;
+      /**
+       * <code>uint32 target = 1;</code>
+       * @return The target.
+       */
+      @java.lang.Override
+      public int getTarget() {
+        return target_;
+      }
+      /**
+       * <code>uint32 target = 1;</code>
+       * @param value The target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTarget(int value) {
+        
+        target_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 target = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTarget() {
+        
+        target_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Aggregate)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Aggregate)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Aggregate>
+        PARSER = new com.google.protobuf.AbstractParser<Aggregate>() {
+      @java.lang.Override
+      public Aggregate parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Aggregate(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Aggregate> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Aggregate> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CommunicateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Communicate)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.job_proto.Repartition to_another = 1;</code>
+     * @return Whether the toAnother field is set.
+     */
+    boolean hasToAnother();
+    /**
+     * <code>.job_proto.Repartition to_another = 1;</code>
+     * @return The toAnother.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Repartition getToAnother();
+    /**
+     * <code>.job_proto.Repartition to_another = 1;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.RepartitionOrBuilder getToAnotherOrBuilder();
+
+    /**
+     * <code>.job_proto.Broadcast to_others = 2;</code>
+     * @return Whether the toOthers field is set.
+     */
+    boolean hasToOthers();
+    /**
+     * <code>.job_proto.Broadcast to_others = 2;</code>
+     * @return The toOthers.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast getToOthers();
+    /**
+     * <code>.job_proto.Broadcast to_others = 2;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.BroadcastOrBuilder getToOthersOrBuilder();
+
+    /**
+     * <code>.job_proto.Aggregate to_one = 3;</code>
+     * @return Whether the toOne field is set.
+     */
+    boolean hasToOne();
+    /**
+     * <code>.job_proto.Aggregate to_one = 3;</code>
+     * @return The toOne.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate getToOne();
+    /**
+     * <code>.job_proto.Aggregate to_one = 3;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.AggregateOrBuilder getToOneOrBuilder();
+
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.ChKindCase getChKindCase();
+  }
+  /**
+   * Protobuf type {@code job_proto.Communicate}
+   */
+  public static final class Communicate extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Communicate)
+      CommunicateOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Communicate.newBuilder() to construct.
+    private Communicate(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Communicate() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Communicate();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Communicate(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.Builder subBuilder = null;
+              if (chKindCase_ == 1) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_).toBuilder();
+              }
+              chKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_);
+                chKind_ = subBuilder.buildPartial();
+              }
+              chKindCase_ = 1;
+              break;
+            }
+            case 18: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.Builder subBuilder = null;
+              if (chKindCase_ == 2) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_).toBuilder();
+              }
+              chKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_);
+                chKind_ = subBuilder.buildPartial();
+              }
+              chKindCase_ = 2;
+              break;
+            }
+            case 26: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.Builder subBuilder = null;
+              if (chKindCase_ == 3) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_).toBuilder();
+              }
+              chKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_);
+                chKind_ = subBuilder.buildPartial();
+              }
+              chKindCase_ = 3;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Communicate_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Communicate_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.class, com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.Builder.class);
+    }
+
+    private int chKindCase_ = 0;
+    private java.lang.Object chKind_;
+    public enum ChKindCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      TO_ANOTHER(1),
+      TO_OTHERS(2),
+      TO_ONE(3),
+      CHKIND_NOT_SET(0);
+      private final int value;
+      private ChKindCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ChKindCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ChKindCase forNumber(int value) {
+        switch (value) {
+          case 1: return TO_ANOTHER;
+          case 2: return TO_OTHERS;
+          case 3: return TO_ONE;
+          case 0: return CHKIND_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ChKindCase
+    getChKindCase() {
+      return ChKindCase.forNumber(
+          chKindCase_);
+    }
+
+    public static final int TO_ANOTHER_FIELD_NUMBER = 1;
+    /**
+     * <code>.job_proto.Repartition to_another = 1;</code>
+     * @return Whether the toAnother field is set.
+     */
+    @java.lang.Override
+    public boolean hasToAnother() {
+      return chKindCase_ == 1;
+    }
+    /**
+     * <code>.job_proto.Repartition to_another = 1;</code>
+     * @return The toAnother.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Repartition getToAnother() {
+      if (chKindCase_ == 1) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Repartition to_another = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.RepartitionOrBuilder getToAnotherOrBuilder() {
+      if (chKindCase_ == 1) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance();
+    }
+
+    public static final int TO_OTHERS_FIELD_NUMBER = 2;
+    /**
+     * <code>.job_proto.Broadcast to_others = 2;</code>
+     * @return Whether the toOthers field is set.
+     */
+    @java.lang.Override
+    public boolean hasToOthers() {
+      return chKindCase_ == 2;
+    }
+    /**
+     * <code>.job_proto.Broadcast to_others = 2;</code>
+     * @return The toOthers.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast getToOthers() {
+      if (chKindCase_ == 2) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Broadcast to_others = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.BroadcastOrBuilder getToOthersOrBuilder() {
+      if (chKindCase_ == 2) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance();
+    }
+
+    public static final int TO_ONE_FIELD_NUMBER = 3;
+    /**
+     * <code>.job_proto.Aggregate to_one = 3;</code>
+     * @return Whether the toOne field is set.
+     */
+    @java.lang.Override
+    public boolean hasToOne() {
+      return chKindCase_ == 3;
+    }
+    /**
+     * <code>.job_proto.Aggregate to_one = 3;</code>
+     * @return The toOne.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate getToOne() {
+      if (chKindCase_ == 3) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Aggregate to_one = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.AggregateOrBuilder getToOneOrBuilder() {
+      if (chKindCase_ == 3) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (chKindCase_ == 1) {
+        output.writeMessage(1, (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_);
+      }
+      if (chKindCase_ == 2) {
+        output.writeMessage(2, (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_);
+      }
+      if (chKindCase_ == 3) {
+        output.writeMessage(3, (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (chKindCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_);
+      }
+      if (chKindCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_);
+      }
+      if (chKindCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Communicate)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Communicate other = (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) obj;
+
+      if (!getChKindCase().equals(other.getChKindCase())) return false;
+      switch (chKindCase_) {
+        case 1:
+          if (!getToAnother()
+              .equals(other.getToAnother())) return false;
+          break;
+        case 2:
+          if (!getToOthers()
+              .equals(other.getToOthers())) return false;
+          break;
+        case 3:
+          if (!getToOne()
+              .equals(other.getToOne())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (chKindCase_) {
+        case 1:
+          hash = (37 * hash) + TO_ANOTHER_FIELD_NUMBER;
+          hash = (53 * hash) + getToAnother().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + TO_OTHERS_FIELD_NUMBER;
+          hash = (53 * hash) + getToOthers().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + TO_ONE_FIELD_NUMBER;
+          hash = (53 * hash) + getToOne().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Communicate prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Communicate}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Communicate)
+        com.alibaba.pegasus.service.job.protocol.JobClient.CommunicateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Communicate_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Communicate_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.class, com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        chKindCase_ = 0;
+        chKind_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Communicate_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Communicate getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Communicate build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Communicate result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Communicate buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Communicate result = new com.alibaba.pegasus.service.job.protocol.JobClient.Communicate(this);
+        if (chKindCase_ == 1) {
+          if (toAnotherBuilder_ == null) {
+            result.chKind_ = chKind_;
+          } else {
+            result.chKind_ = toAnotherBuilder_.build();
+          }
+        }
+        if (chKindCase_ == 2) {
+          if (toOthersBuilder_ == null) {
+            result.chKind_ = chKind_;
+          } else {
+            result.chKind_ = toOthersBuilder_.build();
+          }
+        }
+        if (chKindCase_ == 3) {
+          if (toOneBuilder_ == null) {
+            result.chKind_ = chKind_;
+          } else {
+            result.chKind_ = toOneBuilder_.build();
+          }
+        }
+        result.chKindCase_ = chKindCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Communicate)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Communicate other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance()) return this;
+        switch (other.getChKindCase()) {
+          case TO_ANOTHER: {
+            mergeToAnother(other.getToAnother());
+            break;
+          }
+          case TO_OTHERS: {
+            mergeToOthers(other.getToOthers());
+            break;
+          }
+          case TO_ONE: {
+            mergeToOne(other.getToOne());
+            break;
+          }
+          case CHKIND_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Communicate parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int chKindCase_ = 0;
+      private java.lang.Object chKind_;
+      public ChKindCase
+          getChKindCase() {
+        return ChKindCase.forNumber(
+            chKindCase_);
+      }
+
+      public Builder clearChKind() {
+        chKindCase_ = 0;
+        chKind_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Repartition, com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.RepartitionOrBuilder> toAnotherBuilder_;
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       * @return Whether the toAnother field is set.
+       */
+      @java.lang.Override
+      public boolean hasToAnother() {
+        return chKindCase_ == 1;
+      }
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       * @return The toAnother.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Repartition getToAnother() {
+        if (toAnotherBuilder_ == null) {
+          if (chKindCase_ == 1) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance();
+        } else {
+          if (chKindCase_ == 1) {
+            return toAnotherBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       */
+      public Builder setToAnother(com.alibaba.pegasus.service.job.protocol.JobClient.Repartition value) {
+        if (toAnotherBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          chKind_ = value;
+          onChanged();
+        } else {
+          toAnotherBuilder_.setMessage(value);
+        }
+        chKindCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       */
+      public Builder setToAnother(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.Builder builderForValue) {
+        if (toAnotherBuilder_ == null) {
+          chKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          toAnotherBuilder_.setMessage(builderForValue.build());
+        }
+        chKindCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       */
+      public Builder mergeToAnother(com.alibaba.pegasus.service.job.protocol.JobClient.Repartition value) {
+        if (toAnotherBuilder_ == null) {
+          if (chKindCase_ == 1 &&
+              chKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance()) {
+            chKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            chKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (chKindCase_ == 1) {
+            toAnotherBuilder_.mergeFrom(value);
+          }
+          toAnotherBuilder_.setMessage(value);
+        }
+        chKindCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       */
+      public Builder clearToAnother() {
+        if (toAnotherBuilder_ == null) {
+          if (chKindCase_ == 1) {
+            chKindCase_ = 0;
+            chKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (chKindCase_ == 1) {
+            chKindCase_ = 0;
+            chKind_ = null;
+          }
+          toAnotherBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.Builder getToAnotherBuilder() {
+        return getToAnotherFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.RepartitionOrBuilder getToAnotherOrBuilder() {
+        if ((chKindCase_ == 1) && (toAnotherBuilder_ != null)) {
+          return toAnotherBuilder_.getMessageOrBuilder();
+        } else {
+          if (chKindCase_ == 1) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Repartition to_another = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Repartition, com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.RepartitionOrBuilder> 
+          getToAnotherFieldBuilder() {
+        if (toAnotherBuilder_ == null) {
+          if (!(chKindCase_ == 1)) {
+            chKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.getDefaultInstance();
+          }
+          toAnotherBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Repartition, com.alibaba.pegasus.service.job.protocol.JobClient.Repartition.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.RepartitionOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Repartition) chKind_,
+                  getParentForChildren(),
+                  isClean());
+          chKind_ = null;
+        }
+        chKindCase_ = 1;
+        onChanged();;
+        return toAnotherBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast, com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.BroadcastOrBuilder> toOthersBuilder_;
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       * @return Whether the toOthers field is set.
+       */
+      @java.lang.Override
+      public boolean hasToOthers() {
+        return chKindCase_ == 2;
+      }
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       * @return The toOthers.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast getToOthers() {
+        if (toOthersBuilder_ == null) {
+          if (chKindCase_ == 2) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance();
+        } else {
+          if (chKindCase_ == 2) {
+            return toOthersBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       */
+      public Builder setToOthers(com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast value) {
+        if (toOthersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          chKind_ = value;
+          onChanged();
+        } else {
+          toOthersBuilder_.setMessage(value);
+        }
+        chKindCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       */
+      public Builder setToOthers(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.Builder builderForValue) {
+        if (toOthersBuilder_ == null) {
+          chKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          toOthersBuilder_.setMessage(builderForValue.build());
+        }
+        chKindCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       */
+      public Builder mergeToOthers(com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast value) {
+        if (toOthersBuilder_ == null) {
+          if (chKindCase_ == 2 &&
+              chKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance()) {
+            chKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            chKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (chKindCase_ == 2) {
+            toOthersBuilder_.mergeFrom(value);
+          }
+          toOthersBuilder_.setMessage(value);
+        }
+        chKindCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       */
+      public Builder clearToOthers() {
+        if (toOthersBuilder_ == null) {
+          if (chKindCase_ == 2) {
+            chKindCase_ = 0;
+            chKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (chKindCase_ == 2) {
+            chKindCase_ = 0;
+            chKind_ = null;
+          }
+          toOthersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.Builder getToOthersBuilder() {
+        return getToOthersFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.BroadcastOrBuilder getToOthersOrBuilder() {
+        if ((chKindCase_ == 2) && (toOthersBuilder_ != null)) {
+          return toOthersBuilder_.getMessageOrBuilder();
+        } else {
+          if (chKindCase_ == 2) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Broadcast to_others = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast, com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.BroadcastOrBuilder> 
+          getToOthersFieldBuilder() {
+        if (toOthersBuilder_ == null) {
+          if (!(chKindCase_ == 2)) {
+            chKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.getDefaultInstance();
+          }
+          toOthersBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast, com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.BroadcastOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Broadcast) chKind_,
+                  getParentForChildren(),
+                  isClean());
+          chKind_ = null;
+        }
+        chKindCase_ = 2;
+        onChanged();;
+        return toOthersBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate, com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.AggregateOrBuilder> toOneBuilder_;
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       * @return Whether the toOne field is set.
+       */
+      @java.lang.Override
+      public boolean hasToOne() {
+        return chKindCase_ == 3;
+      }
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       * @return The toOne.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate getToOne() {
+        if (toOneBuilder_ == null) {
+          if (chKindCase_ == 3) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance();
+        } else {
+          if (chKindCase_ == 3) {
+            return toOneBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       */
+      public Builder setToOne(com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate value) {
+        if (toOneBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          chKind_ = value;
+          onChanged();
+        } else {
+          toOneBuilder_.setMessage(value);
+        }
+        chKindCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       */
+      public Builder setToOne(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.Builder builderForValue) {
+        if (toOneBuilder_ == null) {
+          chKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          toOneBuilder_.setMessage(builderForValue.build());
+        }
+        chKindCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       */
+      public Builder mergeToOne(com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate value) {
+        if (toOneBuilder_ == null) {
+          if (chKindCase_ == 3 &&
+              chKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance()) {
+            chKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            chKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (chKindCase_ == 3) {
+            toOneBuilder_.mergeFrom(value);
+          }
+          toOneBuilder_.setMessage(value);
+        }
+        chKindCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       */
+      public Builder clearToOne() {
+        if (toOneBuilder_ == null) {
+          if (chKindCase_ == 3) {
+            chKindCase_ = 0;
+            chKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (chKindCase_ == 3) {
+            chKindCase_ = 0;
+            chKind_ = null;
+          }
+          toOneBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.Builder getToOneBuilder() {
+        return getToOneFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.AggregateOrBuilder getToOneOrBuilder() {
+        if ((chKindCase_ == 3) && (toOneBuilder_ != null)) {
+          return toOneBuilder_.getMessageOrBuilder();
+        } else {
+          if (chKindCase_ == 3) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Aggregate to_one = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate, com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.AggregateOrBuilder> 
+          getToOneFieldBuilder() {
+        if (toOneBuilder_ == null) {
+          if (!(chKindCase_ == 3)) {
+            chKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.getDefaultInstance();
+          }
+          toOneBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate, com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.AggregateOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Aggregate) chKind_,
+                  getParentForChildren(),
+                  isClean());
+          chKind_ = null;
+        }
+        chKindCase_ = 3;
+        onChanged();;
+        return toOneBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Communicate)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Communicate)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Communicate DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Communicate();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Communicate getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Communicate>
+        PARSER = new com.google.protobuf.AbstractParser<Communicate>() {
+      @java.lang.Override
+      public Communicate parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Communicate(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Communicate> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Communicate> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Communicate getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SourceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Source)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.Source}
+   */
+  public static final class Source extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Source)
+      SourceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Source.newBuilder() to construct.
+    private Source(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Source() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Source();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Source(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Source_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Source_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Source.class, com.alibaba.pegasus.service.job.protocol.JobClient.Source.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Source)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Source other = (com.alibaba.pegasus.service.job.protocol.JobClient.Source) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Source prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Source}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Source)
+        com.alibaba.pegasus.service.job.protocol.JobClient.SourceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Source_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Source_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Source.class, com.alibaba.pegasus.service.job.protocol.JobClient.Source.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Source.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Source_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Source getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Source.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Source build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Source result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Source buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Source result = new com.alibaba.pegasus.service.job.protocol.JobClient.Source(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Source) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Source)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Source other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Source.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Source parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Source) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Source)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Source)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Source DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Source();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Source getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Source>
+        PARSER = new com.google.protobuf.AbstractParser<Source>() {
+      @java.lang.Override
+      public Source parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Source(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Source> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Source> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Source getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MapOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Map)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.Map}
+   */
+  public static final class Map extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Map)
+      MapOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Map.newBuilder() to construct.
+    private Map(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Map() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Map();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Map(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Map_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Map_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Map.class, com.alibaba.pegasus.service.job.protocol.JobClient.Map.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Map)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Map other = (com.alibaba.pegasus.service.job.protocol.JobClient.Map) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Map prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Map}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Map)
+        com.alibaba.pegasus.service.job.protocol.JobClient.MapOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Map_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Map_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Map.class, com.alibaba.pegasus.service.job.protocol.JobClient.Map.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Map.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Map_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Map getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Map build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Map result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Map buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Map result = new com.alibaba.pegasus.service.job.protocol.JobClient.Map(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Map) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Map)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Map other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Map parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Map) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Map)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Map)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Map DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Map();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Map getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Map>
+        PARSER = new com.google.protobuf.AbstractParser<Map>() {
+      @java.lang.Override
+      public Map parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Map(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Map> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Map> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Map getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FlatMapOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.FlatMap)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.FlatMap}
+   */
+  public static final class FlatMap extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.FlatMap)
+      FlatMapOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use FlatMap.newBuilder() to construct.
+    private FlatMap(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private FlatMap() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new FlatMap();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private FlatMap(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FlatMap_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FlatMap_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.class, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap other = (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.FlatMap}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.FlatMap)
+        com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FlatMap_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FlatMap_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.class, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FlatMap_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap result = new com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.FlatMap)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.FlatMap)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<FlatMap>
+        PARSER = new com.google.protobuf.AbstractParser<FlatMap>() {
+      @java.lang.Override
+      public FlatMap parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new FlatMap(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<FlatMap> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FlatMap> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FilterOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Filter)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.Filter}
+   */
+  public static final class Filter extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Filter)
+      FilterOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Filter.newBuilder() to construct.
+    private Filter(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Filter() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Filter();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Filter(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Filter_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Filter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter.class, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Filter)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Filter other = (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Filter prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Filter}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Filter)
+        com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Filter_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Filter_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Filter.class, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Filter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Filter_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Filter result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Filter result = new com.alibaba.pegasus.service.job.protocol.JobClient.Filter(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Filter) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Filter)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Filter other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Filter parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Filter)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Filter)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Filter DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Filter();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Filter getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Filter>
+        PARSER = new com.google.protobuf.AbstractParser<Filter>() {
+      @java.lang.Override
+      public Filter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Filter(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Filter> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Filter> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Filter getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SinkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Sink)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.Sink}
+   */
+  public static final class Sink extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Sink)
+      SinkOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Sink.newBuilder() to construct.
+    private Sink(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Sink() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Sink();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Sink(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Sink_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Sink_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Sink.class, com.alibaba.pegasus.service.job.protocol.JobClient.Sink.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Sink)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Sink other = (com.alibaba.pegasus.service.job.protocol.JobClient.Sink) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Sink prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Sink}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Sink)
+        com.alibaba.pegasus.service.job.protocol.JobClient.SinkOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Sink_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Sink_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Sink.class, com.alibaba.pegasus.service.job.protocol.JobClient.Sink.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Sink.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Sink_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Sink getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Sink.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Sink build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Sink result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Sink buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Sink result = new com.alibaba.pegasus.service.job.protocol.JobClient.Sink(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Sink) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Sink)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Sink other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Sink.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Sink parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Sink) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Sink)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Sink)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Sink DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Sink();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Sink getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Sink>
+        PARSER = new com.google.protobuf.AbstractParser<Sink>() {
+      @java.lang.Override
+      public Sink parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Sink(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Sink> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Sink> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Sink getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LeftJoinOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.LeftJoin)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.LeftJoin}
+   */
+  public static final class LeftJoin extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.LeftJoin)
+      LeftJoinOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LeftJoin.newBuilder() to construct.
+    private LeftJoin(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LeftJoin() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LeftJoin();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LeftJoin(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_LeftJoin_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_LeftJoin_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.class, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin other = (com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.LeftJoin}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.LeftJoin)
+        com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_LeftJoin_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_LeftJoin_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.class, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_LeftJoin_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin result = new com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.LeftJoin)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.LeftJoin)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LeftJoin>
+        PARSER = new com.google.protobuf.AbstractParser<LeftJoin>() {
+      @java.lang.Override
+      public LeftJoin parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LeftJoin(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LeftJoin> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LeftJoin> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LimitOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Limit)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 limit = 2;</code>
+     * @return The limit.
+     */
+    int getLimit();
+  }
+  /**
+   * Protobuf type {@code job_proto.Limit}
+   */
+  public static final class Limit extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Limit)
+      LimitOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Limit.newBuilder() to construct.
+    private Limit(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Limit() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Limit();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Limit(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 16: {
+
+              limit_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Limit_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Limit_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Limit.class, com.alibaba.pegasus.service.job.protocol.JobClient.Limit.Builder.class);
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 2;
+    private int limit_;
+    /**
+     * <code>uint32 limit = 2;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (limit_ != 0) {
+        output.writeUInt32(2, limit_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, limit_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Limit)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Limit other = (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) obj;
+
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Limit prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Limit}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Limit)
+        com.alibaba.pegasus.service.job.protocol.JobClient.LimitOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Limit_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Limit_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Limit.class, com.alibaba.pegasus.service.job.protocol.JobClient.Limit.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Limit.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        limit_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Limit_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Limit getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Limit build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Limit result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Limit buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Limit result = new com.alibaba.pegasus.service.job.protocol.JobClient.Limit(this);
+        result.limit_ = limit_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Limit) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Limit)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Limit other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance()) return this;
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Limit parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>uint32 limit = 2;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>uint32 limit = 2;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 limit = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Limit)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Limit)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Limit DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Limit();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Limit getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Limit>
+        PARSER = new com.google.protobuf.AbstractParser<Limit>() {
+      @java.lang.Override
+      public Limit parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Limit(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Limit> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Limit> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Limit getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DedupOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Dedup)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.Dedup}
+   */
+  public static final class Dedup extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Dedup)
+      DedupOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Dedup.newBuilder() to construct.
+    private Dedup(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Dedup() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Dedup();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Dedup(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Dedup_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Dedup_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.class, com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Dedup)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Dedup other = (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Dedup prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Dedup}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Dedup)
+        com.alibaba.pegasus.service.job.protocol.JobClient.DedupOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Dedup_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Dedup_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.class, com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Dedup_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Dedup getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Dedup build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Dedup result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Dedup buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Dedup result = new com.alibaba.pegasus.service.job.protocol.JobClient.Dedup(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Dedup)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Dedup other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Dedup parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Dedup)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Dedup)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Dedup DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Dedup();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Dedup getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Dedup>
+        PARSER = new com.google.protobuf.AbstractParser<Dedup>() {
+      @java.lang.Override
+      public Dedup parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Dedup(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Dedup> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Dedup> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Dedup getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SortByOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.SortBy)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 limit = 1;</code>
+     * @return The limit.
+     */
+    long getLimit();
+
+    /**
+     * <code>bytes compare = 2;</code>
+     * @return The compare.
+     */
+    com.google.protobuf.ByteString getCompare();
+  }
+  /**
+   * Protobuf type {@code job_proto.SortBy}
+   */
+  public static final class SortBy extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.SortBy)
+      SortByOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SortBy.newBuilder() to construct.
+    private SortBy(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SortBy() {
+      compare_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SortBy();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SortBy(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              limit_ = input.readInt64();
+              break;
+            }
+            case 18: {
+
+              compare_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SortBy_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SortBy_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.class, com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.Builder.class);
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 1;
+    private long limit_;
+    /**
+     * <code>int64 limit = 1;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public long getLimit() {
+      return limit_;
+    }
+
+    public static final int COMPARE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString compare_;
+    /**
+     * <code>bytes compare = 2;</code>
+     * @return The compare.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getCompare() {
+      return compare_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (limit_ != 0L) {
+        output.writeInt64(1, limit_);
+      }
+      if (!compare_.isEmpty()) {
+        output.writeBytes(2, compare_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (limit_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, limit_);
+      }
+      if (!compare_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, compare_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.SortBy)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.SortBy other = (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) obj;
+
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (!getCompare()
+          .equals(other.getCompare())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLimit());
+      hash = (37 * hash) + COMPARE_FIELD_NUMBER;
+      hash = (53 * hash) + getCompare().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.SortBy prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.SortBy}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.SortBy)
+        com.alibaba.pegasus.service.job.protocol.JobClient.SortByOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SortBy_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SortBy_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.class, com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        limit_ = 0L;
+
+        compare_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SortBy_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SortBy getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SortBy build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.SortBy result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SortBy buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.SortBy result = new com.alibaba.pegasus.service.job.protocol.JobClient.SortBy(this);
+        result.limit_ = limit_;
+        result.compare_ = compare_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.SortBy)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.SortBy other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance()) return this;
+        if (other.getLimit() != 0L) {
+          setLimit(other.getLimit());
+        }
+        if (other.getCompare() != com.google.protobuf.ByteString.EMPTY) {
+          setCompare(other.getCompare());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.SortBy parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long limit_ ;
+      /**
+       * <code>int64 limit = 1;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public long getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>int64 limit = 1;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(long value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 limit = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString compare_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes compare = 2;</code>
+       * @return The compare.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getCompare() {
+        return compare_;
+      }
+      /**
+       * <code>bytes compare = 2;</code>
+       * @param value The compare to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCompare(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        compare_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes compare = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCompare() {
+        
+        compare_ = getDefaultInstance().getCompare();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.SortBy)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.SortBy)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.SortBy DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.SortBy();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SortBy getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SortBy>
+        PARSER = new com.google.protobuf.AbstractParser<SortBy>() {
+      @java.lang.Override
+      public SortBy parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SortBy(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SortBy> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SortBy> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.SortBy getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FoldOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Fold)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.job_proto.AccumKind accum = 1;</code>
+     * @return The enum numeric value on the wire for accum.
+     */
+    int getAccumValue();
+    /**
+     * <code>.job_proto.AccumKind accum = 1;</code>
+     * @return The accum.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind getAccum();
+
+    /**
+     * <code>bytes resource = 2;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     * @return Whether the unfold field is set.
+     */
+    boolean hasUnfold();
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     * @return The unfold.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getUnfold();
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getUnfoldOrBuilder();
+  }
+  /**
+   * Protobuf type {@code job_proto.Fold}
+   */
+  public static final class Fold extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Fold)
+      FoldOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Fold.newBuilder() to construct.
+    private Fold(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Fold() {
+      accum_ = 0;
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Fold();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Fold(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              accum_ = rawValue;
+              break;
+            }
+            case 18: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder subBuilder = null;
+              if (unfold_ != null) {
+                subBuilder = unfold_.toBuilder();
+              }
+              unfold_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(unfold_);
+                unfold_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Fold_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Fold_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Fold.class, com.alibaba.pegasus.service.job.protocol.JobClient.Fold.Builder.class);
+    }
+
+    public static final int ACCUM_FIELD_NUMBER = 1;
+    private int accum_;
+    /**
+     * <code>.job_proto.AccumKind accum = 1;</code>
+     * @return The enum numeric value on the wire for accum.
+     */
+    @java.lang.Override public int getAccumValue() {
+      return accum_;
+    }
+    /**
+     * <code>.job_proto.AccumKind accum = 1;</code>
+     * @return The accum.
+     */
+    @java.lang.Override public com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind getAccum() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind result = com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.valueOf(accum_);
+      return result == null ? com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.UNRECOGNIZED : result;
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 2;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    public static final int UNFOLD_FIELD_NUMBER = 3;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap unfold_;
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     * @return Whether the unfold field is set.
+     */
+    @java.lang.Override
+    public boolean hasUnfold() {
+      return unfold_ != null;
+    }
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     * @return The unfold.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getUnfold() {
+      return unfold_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance() : unfold_;
+    }
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getUnfoldOrBuilder() {
+      return getUnfold();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (accum_ != com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.CNT.getNumber()) {
+        output.writeEnum(1, accum_);
+      }
+      if (!resource_.isEmpty()) {
+        output.writeBytes(2, resource_);
+      }
+      if (unfold_ != null) {
+        output.writeMessage(3, getUnfold());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (accum_ != com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.CNT.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, accum_);
+      }
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, resource_);
+      }
+      if (unfold_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getUnfold());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Fold)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Fold other = (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) obj;
+
+      if (accum_ != other.accum_) return false;
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (hasUnfold() != other.hasUnfold()) return false;
+      if (hasUnfold()) {
+        if (!getUnfold()
+            .equals(other.getUnfold())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ACCUM_FIELD_NUMBER;
+      hash = (53 * hash) + accum_;
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      if (hasUnfold()) {
+        hash = (37 * hash) + UNFOLD_FIELD_NUMBER;
+        hash = (53 * hash) + getUnfold().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Fold prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Fold}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Fold)
+        com.alibaba.pegasus.service.job.protocol.JobClient.FoldOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Fold_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Fold_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Fold.class, com.alibaba.pegasus.service.job.protocol.JobClient.Fold.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Fold.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        accum_ = 0;
+
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        if (unfoldBuilder_ == null) {
+          unfold_ = null;
+        } else {
+          unfold_ = null;
+          unfoldBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Fold_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Fold getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Fold build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Fold result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Fold buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Fold result = new com.alibaba.pegasus.service.job.protocol.JobClient.Fold(this);
+        result.accum_ = accum_;
+        result.resource_ = resource_;
+        if (unfoldBuilder_ == null) {
+          result.unfold_ = unfold_;
+        } else {
+          result.unfold_ = unfoldBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Fold) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Fold)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Fold other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance()) return this;
+        if (other.accum_ != 0) {
+          setAccumValue(other.getAccumValue());
+        }
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        if (other.hasUnfold()) {
+          mergeUnfold(other.getUnfold());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Fold parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int accum_ = 0;
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @return The enum numeric value on the wire for accum.
+       */
+      @java.lang.Override public int getAccumValue() {
+        return accum_;
+      }
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @param value The enum numeric value on the wire for accum to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccumValue(int value) {
+        
+        accum_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @return The accum.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind getAccum() {
+        @SuppressWarnings("deprecation")
+        com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind result = com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.valueOf(accum_);
+        return result == null ? com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @param value The accum to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccum(com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        accum_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAccum() {
+        
+        accum_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 2;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 2;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap unfold_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder> unfoldBuilder_;
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       * @return Whether the unfold field is set.
+       */
+      public boolean hasUnfold() {
+        return unfoldBuilder_ != null || unfold_ != null;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       * @return The unfold.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getUnfold() {
+        if (unfoldBuilder_ == null) {
+          return unfold_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance() : unfold_;
+        } else {
+          return unfoldBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public Builder setUnfold(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap value) {
+        if (unfoldBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          unfold_ = value;
+          onChanged();
+        } else {
+          unfoldBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public Builder setUnfold(
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder builderForValue) {
+        if (unfoldBuilder_ == null) {
+          unfold_ = builderForValue.build();
+          onChanged();
+        } else {
+          unfoldBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public Builder mergeUnfold(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap value) {
+        if (unfoldBuilder_ == null) {
+          if (unfold_ != null) {
+            unfold_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.newBuilder(unfold_).mergeFrom(value).buildPartial();
+          } else {
+            unfold_ = value;
+          }
+          onChanged();
+        } else {
+          unfoldBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public Builder clearUnfold() {
+        if (unfoldBuilder_ == null) {
+          unfold_ = null;
+          onChanged();
+        } else {
+          unfold_ = null;
+          unfoldBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder getUnfoldBuilder() {
+        
+        onChanged();
+        return getUnfoldFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getUnfoldOrBuilder() {
+        if (unfoldBuilder_ != null) {
+          return unfoldBuilder_.getMessageOrBuilder();
+        } else {
+          return unfold_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance() : unfold_;
+        }
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder> 
+          getUnfoldFieldBuilder() {
+        if (unfoldBuilder_ == null) {
+          unfoldBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder>(
+                  getUnfold(),
+                  getParentForChildren(),
+                  isClean());
+          unfold_ = null;
+        }
+        return unfoldBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Fold)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Fold)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Fold DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Fold();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Fold getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Fold>
+        PARSER = new com.google.protobuf.AbstractParser<Fold>() {
+      @java.lang.Override
+      public Fold parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Fold(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Fold> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Fold> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Fold getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GroupByOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.GroupBy)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.job_proto.AccumKind accum = 1;</code>
+     * @return The enum numeric value on the wire for accum.
+     */
+    int getAccumValue();
+    /**
+     * <code>.job_proto.AccumKind accum = 1;</code>
+     * @return The accum.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind getAccum();
+
+    /**
+     * <code>bytes resource = 2;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     * @return Whether the unfold field is set.
+     */
+    boolean hasUnfold();
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     * @return The unfold.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getUnfold();
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getUnfoldOrBuilder();
+  }
+  /**
+   * Protobuf type {@code job_proto.GroupBy}
+   */
+  public static final class GroupBy extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.GroupBy)
+      GroupByOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GroupBy.newBuilder() to construct.
+    private GroupBy(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GroupBy() {
+      accum_ = 0;
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GroupBy();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GroupBy(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              accum_ = rawValue;
+              break;
+            }
+            case 18: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder subBuilder = null;
+              if (unfold_ != null) {
+                subBuilder = unfold_.toBuilder();
+              }
+              unfold_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(unfold_);
+                unfold_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_GroupBy_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_GroupBy_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.class, com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.Builder.class);
+    }
+
+    public static final int ACCUM_FIELD_NUMBER = 1;
+    private int accum_;
+    /**
+     * <code>.job_proto.AccumKind accum = 1;</code>
+     * @return The enum numeric value on the wire for accum.
+     */
+    @java.lang.Override public int getAccumValue() {
+      return accum_;
+    }
+    /**
+     * <code>.job_proto.AccumKind accum = 1;</code>
+     * @return The accum.
+     */
+    @java.lang.Override public com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind getAccum() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind result = com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.valueOf(accum_);
+      return result == null ? com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.UNRECOGNIZED : result;
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 2;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    public static final int UNFOLD_FIELD_NUMBER = 3;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap unfold_;
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     * @return Whether the unfold field is set.
+     */
+    @java.lang.Override
+    public boolean hasUnfold() {
+      return unfold_ != null;
+    }
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     * @return The unfold.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getUnfold() {
+      return unfold_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance() : unfold_;
+    }
+    /**
+     * <code>.job_proto.FlatMap unfold = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getUnfoldOrBuilder() {
+      return getUnfold();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (accum_ != com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.CNT.getNumber()) {
+        output.writeEnum(1, accum_);
+      }
+      if (!resource_.isEmpty()) {
+        output.writeBytes(2, resource_);
+      }
+      if (unfold_ != null) {
+        output.writeMessage(3, getUnfold());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (accum_ != com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.CNT.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, accum_);
+      }
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, resource_);
+      }
+      if (unfold_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getUnfold());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy other = (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) obj;
+
+      if (accum_ != other.accum_) return false;
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (hasUnfold() != other.hasUnfold()) return false;
+      if (hasUnfold()) {
+        if (!getUnfold()
+            .equals(other.getUnfold())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ACCUM_FIELD_NUMBER;
+      hash = (53 * hash) + accum_;
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      if (hasUnfold()) {
+        hash = (37 * hash) + UNFOLD_FIELD_NUMBER;
+        hash = (53 * hash) + getUnfold().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.GroupBy}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.GroupBy)
+        com.alibaba.pegasus.service.job.protocol.JobClient.GroupByOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_GroupBy_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_GroupBy_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.class, com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        accum_ = 0;
+
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        if (unfoldBuilder_ == null) {
+          unfold_ = null;
+        } else {
+          unfold_ = null;
+          unfoldBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_GroupBy_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy result = new com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy(this);
+        result.accum_ = accum_;
+        result.resource_ = resource_;
+        if (unfoldBuilder_ == null) {
+          result.unfold_ = unfold_;
+        } else {
+          result.unfold_ = unfoldBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance()) return this;
+        if (other.accum_ != 0) {
+          setAccumValue(other.getAccumValue());
+        }
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        if (other.hasUnfold()) {
+          mergeUnfold(other.getUnfold());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int accum_ = 0;
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @return The enum numeric value on the wire for accum.
+       */
+      @java.lang.Override public int getAccumValue() {
+        return accum_;
+      }
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @param value The enum numeric value on the wire for accum to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccumValue(int value) {
+        
+        accum_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @return The accum.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind getAccum() {
+        @SuppressWarnings("deprecation")
+        com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind result = com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.valueOf(accum_);
+        return result == null ? com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @param value The accum to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccum(com.alibaba.pegasus.service.job.protocol.JobClient.AccumKind value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        accum_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.job_proto.AccumKind accum = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAccum() {
+        
+        accum_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 2;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 2;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap unfold_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder> unfoldBuilder_;
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       * @return Whether the unfold field is set.
+       */
+      public boolean hasUnfold() {
+        return unfoldBuilder_ != null || unfold_ != null;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       * @return The unfold.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getUnfold() {
+        if (unfoldBuilder_ == null) {
+          return unfold_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance() : unfold_;
+        } else {
+          return unfoldBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public Builder setUnfold(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap value) {
+        if (unfoldBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          unfold_ = value;
+          onChanged();
+        } else {
+          unfoldBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public Builder setUnfold(
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder builderForValue) {
+        if (unfoldBuilder_ == null) {
+          unfold_ = builderForValue.build();
+          onChanged();
+        } else {
+          unfoldBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public Builder mergeUnfold(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap value) {
+        if (unfoldBuilder_ == null) {
+          if (unfold_ != null) {
+            unfold_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.newBuilder(unfold_).mergeFrom(value).buildPartial();
+          } else {
+            unfold_ = value;
+          }
+          onChanged();
+        } else {
+          unfoldBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public Builder clearUnfold() {
+        if (unfoldBuilder_ == null) {
+          unfold_ = null;
+          onChanged();
+        } else {
+          unfold_ = null;
+          unfoldBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder getUnfoldBuilder() {
+        
+        onChanged();
+        return getUnfoldFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getUnfoldOrBuilder() {
+        if (unfoldBuilder_ != null) {
+          return unfoldBuilder_.getMessageOrBuilder();
+        } else {
+          return unfold_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance() : unfold_;
+        }
+      }
+      /**
+       * <code>.job_proto.FlatMap unfold = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder> 
+          getUnfoldFieldBuilder() {
+        if (unfoldBuilder_ == null) {
+          unfoldBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder>(
+                  getUnfold(),
+                  getParentForChildren(),
+                  isClean());
+          unfold_ = null;
+        }
+        return unfoldBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.GroupBy)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.GroupBy)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GroupBy>
+        PARSER = new com.google.protobuf.AbstractParser<GroupBy>() {
+      @java.lang.Override
+      public GroupBy parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GroupBy(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GroupBy> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GroupBy> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MergeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Merge)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan> 
+        getTasksList();
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTasks(int index);
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    int getTasksCount();
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+        getTasksOrBuilderList();
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTasksOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code job_proto.Merge}
+   */
+  public static final class Merge extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Merge)
+      MergeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Merge.newBuilder() to construct.
+    private Merge(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Merge() {
+      tasks_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Merge();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Merge(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                tasks_ = new java.util.ArrayList<com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              tasks_.add(
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          tasks_ = java.util.Collections.unmodifiableList(tasks_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Merge_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Merge_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Merge.class, com.alibaba.pegasus.service.job.protocol.JobClient.Merge.Builder.class);
+    }
+
+    public static final int TASKS_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan> tasks_;
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan> getTasksList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+        getTasksOrBuilderList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    @java.lang.Override
+    public int getTasksCount() {
+      return tasks_.size();
+    }
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTasks(int index) {
+      return tasks_.get(index);
+    }
+    /**
+     * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTasksOrBuilder(
+        int index) {
+      return tasks_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < tasks_.size(); i++) {
+        output.writeMessage(1, tasks_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < tasks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, tasks_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Merge)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Merge other = (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) obj;
+
+      if (!getTasksList()
+          .equals(other.getTasksList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTasksCount() > 0) {
+        hash = (37 * hash) + TASKS_FIELD_NUMBER;
+        hash = (53 * hash) + getTasksList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Merge prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Merge}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Merge)
+        com.alibaba.pegasus.service.job.protocol.JobClient.MergeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Merge_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Merge_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Merge.class, com.alibaba.pegasus.service.job.protocol.JobClient.Merge.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Merge.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTasksFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          tasksBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Merge_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Merge getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Merge build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Merge result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Merge buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Merge result = new com.alibaba.pegasus.service.job.protocol.JobClient.Merge(this);
+        int from_bitField0_ = bitField0_;
+        if (tasksBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            tasks_ = java.util.Collections.unmodifiableList(tasks_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.tasks_ = tasks_;
+        } else {
+          result.tasks_ = tasksBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Merge) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Merge)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Merge other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance()) return this;
+        if (tasksBuilder_ == null) {
+          if (!other.tasks_.isEmpty()) {
+            if (tasks_.isEmpty()) {
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTasksIsMutable();
+              tasks_.addAll(other.tasks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tasks_.isEmpty()) {
+            if (tasksBuilder_.isEmpty()) {
+              tasksBuilder_.dispose();
+              tasksBuilder_ = null;
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              tasksBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTasksFieldBuilder() : null;
+            } else {
+              tasksBuilder_.addAllMessages(other.tasks_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Merge parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan> tasks_ =
+        java.util.Collections.emptyList();
+      private void ensureTasksIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          tasks_ = new java.util.ArrayList<com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan>(tasks_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> tasksBuilder_;
+
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan> getTasksList() {
+        if (tasksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tasks_);
+        } else {
+          return tasksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public int getTasksCount() {
+        if (tasksBuilder_ == null) {
+          return tasks_.size();
+        } else {
+          return tasksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTasks(int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);
+        } else {
+          return tasksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder setTasks(
+          int index, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.set(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder setTasks(
+          int index, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder addTasks(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder addTasks(
+          int index, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder addTasks(
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder addTasks(
+          int index, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder addAllTasks(
+          java.lang.Iterable<? extends com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan> values) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tasks_);
+          onChanged();
+        } else {
+          tasksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder clearTasks() {
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          tasksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public Builder removeTasks(int index) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.remove(index);
+          onChanged();
+        } else {
+          tasksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder getTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTasksOrBuilder(
+          int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);  } else {
+          return tasksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+           getTasksOrBuilderList() {
+        if (tasksBuilder_ != null) {
+          return tasksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tasks_);
+        }
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder addTasksBuilder() {
+        return getTasksFieldBuilder().addBuilder(
+            com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder addTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().addBuilder(
+            index, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .job_proto.TaskPlan tasks = 1;</code>
+       */
+      public java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder> 
+           getTasksBuilderList() {
+        return getTasksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+          getTasksFieldBuilder() {
+        if (tasksBuilder_ == null) {
+          tasksBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder>(
+                  tasks_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          tasks_ = null;
+        }
+        return tasksBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Merge)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Merge)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Merge DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Merge();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Merge getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Merge>
+        PARSER = new com.google.protobuf.AbstractParser<Merge>() {
+      @java.lang.Override
+      public Merge parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Merge(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Merge> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Merge> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Merge getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface IterationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Iteration)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 max_iters = 1;</code>
+     * @return The maxIters.
+     */
+    int getMaxIters();
+
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     * @return Whether the until field is set.
+     */
+    boolean hasUntil();
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     * @return The until.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Filter getUntil();
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getUntilOrBuilder();
+
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     * @return Whether the body field is set.
+     */
+    boolean hasBody();
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     * @return The body.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getBody();
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getBodyOrBuilder();
+  }
+  /**
+   * Protobuf type {@code job_proto.Iteration}
+   */
+  public static final class Iteration extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Iteration)
+      IterationOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Iteration.newBuilder() to construct.
+    private Iteration(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Iteration() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Iteration();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Iteration(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              maxIters_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder subBuilder = null;
+              if (until_ != null) {
+                subBuilder = until_.toBuilder();
+              }
+              until_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Filter.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(until_);
+                until_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder subBuilder = null;
+              if (body_ != null) {
+                subBuilder = body_.toBuilder();
+              }
+              body_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(body_);
+                body_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Iteration_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Iteration_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.class, com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.Builder.class);
+    }
+
+    public static final int MAX_ITERS_FIELD_NUMBER = 1;
+    private int maxIters_;
+    /**
+     * <code>uint32 max_iters = 1;</code>
+     * @return The maxIters.
+     */
+    @java.lang.Override
+    public int getMaxIters() {
+      return maxIters_;
+    }
+
+    public static final int UNTIL_FIELD_NUMBER = 2;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.Filter until_;
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     * @return Whether the until field is set.
+     */
+    @java.lang.Override
+    public boolean hasUntil() {
+      return until_ != null;
+    }
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     * @return The until.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Filter getUntil() {
+      return until_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance() : until_;
+    }
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getUntilOrBuilder() {
+      return getUntil();
+    }
+
+    public static final int BODY_FIELD_NUMBER = 3;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan body_;
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     * @return Whether the body field is set.
+     */
+    @java.lang.Override
+    public boolean hasBody() {
+      return body_ != null;
+    }
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     * @return The body.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getBody() {
+      return body_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : body_;
+    }
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getBodyOrBuilder() {
+      return getBody();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (maxIters_ != 0) {
+        output.writeUInt32(1, maxIters_);
+      }
+      if (until_ != null) {
+        output.writeMessage(2, getUntil());
+      }
+      if (body_ != null) {
+        output.writeMessage(3, getBody());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (maxIters_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, maxIters_);
+      }
+      if (until_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getUntil());
+      }
+      if (body_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getBody());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Iteration)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Iteration other = (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) obj;
+
+      if (getMaxIters()
+          != other.getMaxIters()) return false;
+      if (hasUntil() != other.hasUntil()) return false;
+      if (hasUntil()) {
+        if (!getUntil()
+            .equals(other.getUntil())) return false;
+      }
+      if (hasBody() != other.hasBody()) return false;
+      if (hasBody()) {
+        if (!getBody()
+            .equals(other.getBody())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + MAX_ITERS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxIters();
+      if (hasUntil()) {
+        hash = (37 * hash) + UNTIL_FIELD_NUMBER;
+        hash = (53 * hash) + getUntil().hashCode();
+      }
+      if (hasBody()) {
+        hash = (37 * hash) + BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getBody().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Iteration prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Iteration}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Iteration)
+        com.alibaba.pegasus.service.job.protocol.JobClient.IterationOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Iteration_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Iteration_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.class, com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        maxIters_ = 0;
+
+        if (untilBuilder_ == null) {
+          until_ = null;
+        } else {
+          until_ = null;
+          untilBuilder_ = null;
+        }
+        if (bodyBuilder_ == null) {
+          body_ = null;
+        } else {
+          body_ = null;
+          bodyBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Iteration_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Iteration getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Iteration build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Iteration result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Iteration buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Iteration result = new com.alibaba.pegasus.service.job.protocol.JobClient.Iteration(this);
+        result.maxIters_ = maxIters_;
+        if (untilBuilder_ == null) {
+          result.until_ = until_;
+        } else {
+          result.until_ = untilBuilder_.build();
+        }
+        if (bodyBuilder_ == null) {
+          result.body_ = body_;
+        } else {
+          result.body_ = bodyBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Iteration)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Iteration other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance()) return this;
+        if (other.getMaxIters() != 0) {
+          setMaxIters(other.getMaxIters());
+        }
+        if (other.hasUntil()) {
+          mergeUntil(other.getUntil());
+        }
+        if (other.hasBody()) {
+          mergeBody(other.getBody());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Iteration parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int maxIters_ ;
+      /**
+       * <code>uint32 max_iters = 1;</code>
+       * @return The maxIters.
+       */
+      @java.lang.Override
+      public int getMaxIters() {
+        return maxIters_;
+      }
+      /**
+       * <code>uint32 max_iters = 1;</code>
+       * @param value The maxIters to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxIters(int value) {
+        
+        maxIters_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 max_iters = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxIters() {
+        
+        maxIters_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.Filter until_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder> untilBuilder_;
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       * @return Whether the until field is set.
+       */
+      public boolean hasUntil() {
+        return untilBuilder_ != null || until_ != null;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       * @return The until.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter getUntil() {
+        if (untilBuilder_ == null) {
+          return until_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance() : until_;
+        } else {
+          return untilBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public Builder setUntil(com.alibaba.pegasus.service.job.protocol.JobClient.Filter value) {
+        if (untilBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          until_ = value;
+          onChanged();
+        } else {
+          untilBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public Builder setUntil(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder builderForValue) {
+        if (untilBuilder_ == null) {
+          until_ = builderForValue.build();
+          onChanged();
+        } else {
+          untilBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public Builder mergeUntil(com.alibaba.pegasus.service.job.protocol.JobClient.Filter value) {
+        if (untilBuilder_ == null) {
+          if (until_ != null) {
+            until_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter.newBuilder(until_).mergeFrom(value).buildPartial();
+          } else {
+            until_ = value;
+          }
+          onChanged();
+        } else {
+          untilBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public Builder clearUntil() {
+        if (untilBuilder_ == null) {
+          until_ = null;
+          onChanged();
+        } else {
+          until_ = null;
+          untilBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder getUntilBuilder() {
+        
+        onChanged();
+        return getUntilFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getUntilOrBuilder() {
+        if (untilBuilder_ != null) {
+          return untilBuilder_.getMessageOrBuilder();
+        } else {
+          return until_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance() : until_;
+        }
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder> 
+          getUntilFieldBuilder() {
+        if (untilBuilder_ == null) {
+          untilBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder>(
+                  getUntil(),
+                  getParentForChildren(),
+                  isClean());
+          until_ = null;
+        }
+        return untilBuilder_;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan body_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> bodyBuilder_;
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       * @return Whether the body field is set.
+       */
+      public boolean hasBody() {
+        return bodyBuilder_ != null || body_ != null;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       * @return The body.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getBody() {
+        if (bodyBuilder_ == null) {
+          return body_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : body_;
+        } else {
+          return bodyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public Builder setBody(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (bodyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          body_ = value;
+          onChanged();
+        } else {
+          bodyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public Builder setBody(
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (bodyBuilder_ == null) {
+          body_ = builderForValue.build();
+          onChanged();
+        } else {
+          bodyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public Builder mergeBody(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (bodyBuilder_ == null) {
+          if (body_ != null) {
+            body_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.newBuilder(body_).mergeFrom(value).buildPartial();
+          } else {
+            body_ = value;
+          }
+          onChanged();
+        } else {
+          bodyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public Builder clearBody() {
+        if (bodyBuilder_ == null) {
+          body_ = null;
+          onChanged();
+        } else {
+          body_ = null;
+          bodyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder getBodyBuilder() {
+        
+        onChanged();
+        return getBodyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getBodyOrBuilder() {
+        if (bodyBuilder_ != null) {
+          return bodyBuilder_.getMessageOrBuilder();
+        } else {
+          return body_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : body_;
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+          getBodyFieldBuilder() {
+        if (bodyBuilder_ == null) {
+          bodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder>(
+                  getBody(),
+                  getParentForChildren(),
+                  isClean());
+          body_ = null;
+        }
+        return bodyBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Iteration)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Iteration)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Iteration DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Iteration();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Iteration getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Iteration>
+        PARSER = new com.google.protobuf.AbstractParser<Iteration>() {
+      @java.lang.Override
+      public Iteration parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Iteration(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Iteration> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Iteration> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Iteration getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface IterationEmitOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.IterationEmit)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 max_iters = 1;</code>
+     * @return The maxIters.
+     */
+    int getMaxIters();
+
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     * @return Whether the until field is set.
+     */
+    boolean hasUntil();
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     * @return The until.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Filter getUntil();
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getUntilOrBuilder();
+
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     * @return Whether the body field is set.
+     */
+    boolean hasBody();
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     * @return The body.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getBody();
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getBodyOrBuilder();
+  }
+  /**
+   * Protobuf type {@code job_proto.IterationEmit}
+   */
+  public static final class IterationEmit extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.IterationEmit)
+      IterationEmitOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use IterationEmit.newBuilder() to construct.
+    private IterationEmit(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private IterationEmit() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new IterationEmit();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private IterationEmit(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              maxIters_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder subBuilder = null;
+              if (until_ != null) {
+                subBuilder = until_.toBuilder();
+              }
+              until_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Filter.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(until_);
+                until_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder subBuilder = null;
+              if (body_ != null) {
+                subBuilder = body_.toBuilder();
+              }
+              body_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(body_);
+                body_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_IterationEmit_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_IterationEmit_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.class, com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.Builder.class);
+    }
+
+    public static final int MAX_ITERS_FIELD_NUMBER = 1;
+    private int maxIters_;
+    /**
+     * <code>uint32 max_iters = 1;</code>
+     * @return The maxIters.
+     */
+    @java.lang.Override
+    public int getMaxIters() {
+      return maxIters_;
+    }
+
+    public static final int UNTIL_FIELD_NUMBER = 2;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.Filter until_;
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     * @return Whether the until field is set.
+     */
+    @java.lang.Override
+    public boolean hasUntil() {
+      return until_ != null;
+    }
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     * @return The until.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Filter getUntil() {
+      return until_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance() : until_;
+    }
+    /**
+     * <code>.job_proto.Filter until = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getUntilOrBuilder() {
+      return getUntil();
+    }
+
+    public static final int BODY_FIELD_NUMBER = 3;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan body_;
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     * @return Whether the body field is set.
+     */
+    @java.lang.Override
+    public boolean hasBody() {
+      return body_ != null;
+    }
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     * @return The body.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getBody() {
+      return body_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : body_;
+    }
+    /**
+     * <code>.job_proto.TaskPlan body = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getBodyOrBuilder() {
+      return getBody();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (maxIters_ != 0) {
+        output.writeUInt32(1, maxIters_);
+      }
+      if (until_ != null) {
+        output.writeMessage(2, getUntil());
+      }
+      if (body_ != null) {
+        output.writeMessage(3, getBody());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (maxIters_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, maxIters_);
+      }
+      if (until_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getUntil());
+      }
+      if (body_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getBody());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit other = (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) obj;
+
+      if (getMaxIters()
+          != other.getMaxIters()) return false;
+      if (hasUntil() != other.hasUntil()) return false;
+      if (hasUntil()) {
+        if (!getUntil()
+            .equals(other.getUntil())) return false;
+      }
+      if (hasBody() != other.hasBody()) return false;
+      if (hasBody()) {
+        if (!getBody()
+            .equals(other.getBody())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + MAX_ITERS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxIters();
+      if (hasUntil()) {
+        hash = (37 * hash) + UNTIL_FIELD_NUMBER;
+        hash = (53 * hash) + getUntil().hashCode();
+      }
+      if (hasBody()) {
+        hash = (37 * hash) + BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getBody().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.IterationEmit}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.IterationEmit)
+        com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmitOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_IterationEmit_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_IterationEmit_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.class, com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        maxIters_ = 0;
+
+        if (untilBuilder_ == null) {
+          until_ = null;
+        } else {
+          until_ = null;
+          untilBuilder_ = null;
+        }
+        if (bodyBuilder_ == null) {
+          body_ = null;
+        } else {
+          body_ = null;
+          bodyBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_IterationEmit_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit result = new com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit(this);
+        result.maxIters_ = maxIters_;
+        if (untilBuilder_ == null) {
+          result.until_ = until_;
+        } else {
+          result.until_ = untilBuilder_.build();
+        }
+        if (bodyBuilder_ == null) {
+          result.body_ = body_;
+        } else {
+          result.body_ = bodyBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance()) return this;
+        if (other.getMaxIters() != 0) {
+          setMaxIters(other.getMaxIters());
+        }
+        if (other.hasUntil()) {
+          mergeUntil(other.getUntil());
+        }
+        if (other.hasBody()) {
+          mergeBody(other.getBody());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int maxIters_ ;
+      /**
+       * <code>uint32 max_iters = 1;</code>
+       * @return The maxIters.
+       */
+      @java.lang.Override
+      public int getMaxIters() {
+        return maxIters_;
+      }
+      /**
+       * <code>uint32 max_iters = 1;</code>
+       * @param value The maxIters to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxIters(int value) {
+        
+        maxIters_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 max_iters = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxIters() {
+        
+        maxIters_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.Filter until_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder> untilBuilder_;
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       * @return Whether the until field is set.
+       */
+      public boolean hasUntil() {
+        return untilBuilder_ != null || until_ != null;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       * @return The until.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter getUntil() {
+        if (untilBuilder_ == null) {
+          return until_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance() : until_;
+        } else {
+          return untilBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public Builder setUntil(com.alibaba.pegasus.service.job.protocol.JobClient.Filter value) {
+        if (untilBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          until_ = value;
+          onChanged();
+        } else {
+          untilBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public Builder setUntil(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder builderForValue) {
+        if (untilBuilder_ == null) {
+          until_ = builderForValue.build();
+          onChanged();
+        } else {
+          untilBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public Builder mergeUntil(com.alibaba.pegasus.service.job.protocol.JobClient.Filter value) {
+        if (untilBuilder_ == null) {
+          if (until_ != null) {
+            until_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter.newBuilder(until_).mergeFrom(value).buildPartial();
+          } else {
+            until_ = value;
+          }
+          onChanged();
+        } else {
+          untilBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public Builder clearUntil() {
+        if (untilBuilder_ == null) {
+          until_ = null;
+          onChanged();
+        } else {
+          until_ = null;
+          untilBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder getUntilBuilder() {
+        
+        onChanged();
+        return getUntilFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getUntilOrBuilder() {
+        if (untilBuilder_ != null) {
+          return untilBuilder_.getMessageOrBuilder();
+        } else {
+          return until_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance() : until_;
+        }
+      }
+      /**
+       * <code>.job_proto.Filter until = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder> 
+          getUntilFieldBuilder() {
+        if (untilBuilder_ == null) {
+          untilBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder>(
+                  getUntil(),
+                  getParentForChildren(),
+                  isClean());
+          until_ = null;
+        }
+        return untilBuilder_;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan body_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> bodyBuilder_;
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       * @return Whether the body field is set.
+       */
+      public boolean hasBody() {
+        return bodyBuilder_ != null || body_ != null;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       * @return The body.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getBody() {
+        if (bodyBuilder_ == null) {
+          return body_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : body_;
+        } else {
+          return bodyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public Builder setBody(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (bodyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          body_ = value;
+          onChanged();
+        } else {
+          bodyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public Builder setBody(
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (bodyBuilder_ == null) {
+          body_ = builderForValue.build();
+          onChanged();
+        } else {
+          bodyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public Builder mergeBody(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (bodyBuilder_ == null) {
+          if (body_ != null) {
+            body_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.newBuilder(body_).mergeFrom(value).buildPartial();
+          } else {
+            body_ = value;
+          }
+          onChanged();
+        } else {
+          bodyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public Builder clearBody() {
+        if (bodyBuilder_ == null) {
+          body_ = null;
+          onChanged();
+        } else {
+          body_ = null;
+          bodyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder getBodyBuilder() {
+        
+        onChanged();
+        return getBodyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getBodyOrBuilder() {
+        if (bodyBuilder_ != null) {
+          return bodyBuilder_.getMessageOrBuilder();
+        } else {
+          return body_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : body_;
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan body = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+          getBodyFieldBuilder() {
+        if (bodyBuilder_ == null) {
+          bodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder>(
+                  getBody(),
+                  getParentForChildren(),
+                  isClean());
+          body_ = null;
+        }
+        return bodyBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.IterationEmit)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.IterationEmit)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<IterationEmit>
+        PARSER = new com.google.protobuf.AbstractParser<IterationEmit>() {
+      @java.lang.Override
+      public IterationEmit parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new IterationEmit(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<IterationEmit> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<IterationEmit> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ApplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Apply)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     * @return Whether the join field is set.
+     */
+    boolean hasJoin();
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     * @return The join.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getJoin();
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder getJoinOrBuilder();
+
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     * @return Whether the task field is set.
+     */
+    boolean hasTask();
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     * @return The task.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTask();
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTaskOrBuilder();
+  }
+  /**
+   * Protobuf type {@code job_proto.Apply}
+   */
+  public static final class Apply extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Apply)
+      ApplyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Apply.newBuilder() to construct.
+    private Apply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Apply() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Apply();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Apply(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder subBuilder = null;
+              if (join_ != null) {
+                subBuilder = join_.toBuilder();
+              }
+              join_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(join_);
+                join_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder subBuilder = null;
+              if (task_ != null) {
+                subBuilder = task_.toBuilder();
+              }
+              task_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(task_);
+                task_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Apply_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Apply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Apply.class, com.alibaba.pegasus.service.job.protocol.JobClient.Apply.Builder.class);
+    }
+
+    public static final int JOIN_FIELD_NUMBER = 1;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin join_;
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     * @return Whether the join field is set.
+     */
+    @java.lang.Override
+    public boolean hasJoin() {
+      return join_ != null;
+    }
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     * @return The join.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getJoin() {
+      return join_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.getDefaultInstance() : join_;
+    }
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder getJoinOrBuilder() {
+      return getJoin();
+    }
+
+    public static final int TASK_FIELD_NUMBER = 2;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan task_;
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     * @return Whether the task field is set.
+     */
+    @java.lang.Override
+    public boolean hasTask() {
+      return task_ != null;
+    }
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     * @return The task.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTask() {
+      return task_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : task_;
+    }
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTaskOrBuilder() {
+      return getTask();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (join_ != null) {
+        output.writeMessage(1, getJoin());
+      }
+      if (task_ != null) {
+        output.writeMessage(2, getTask());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (join_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getJoin());
+      }
+      if (task_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getTask());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Apply)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Apply other = (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) obj;
+
+      if (hasJoin() != other.hasJoin()) return false;
+      if (hasJoin()) {
+        if (!getJoin()
+            .equals(other.getJoin())) return false;
+      }
+      if (hasTask() != other.hasTask()) return false;
+      if (hasTask()) {
+        if (!getTask()
+            .equals(other.getTask())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasJoin()) {
+        hash = (37 * hash) + JOIN_FIELD_NUMBER;
+        hash = (53 * hash) + getJoin().hashCode();
+      }
+      if (hasTask()) {
+        hash = (37 * hash) + TASK_FIELD_NUMBER;
+        hash = (53 * hash) + getTask().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Apply prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Apply}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Apply)
+        com.alibaba.pegasus.service.job.protocol.JobClient.ApplyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Apply_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Apply_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Apply.class, com.alibaba.pegasus.service.job.protocol.JobClient.Apply.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Apply.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (joinBuilder_ == null) {
+          join_ = null;
+        } else {
+          join_ = null;
+          joinBuilder_ = null;
+        }
+        if (taskBuilder_ == null) {
+          task_ = null;
+        } else {
+          task_ = null;
+          taskBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Apply_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Apply getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Apply build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Apply result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Apply buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Apply result = new com.alibaba.pegasus.service.job.protocol.JobClient.Apply(this);
+        if (joinBuilder_ == null) {
+          result.join_ = join_;
+        } else {
+          result.join_ = joinBuilder_.build();
+        }
+        if (taskBuilder_ == null) {
+          result.task_ = task_;
+        } else {
+          result.task_ = taskBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Apply) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Apply)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Apply other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance()) return this;
+        if (other.hasJoin()) {
+          mergeJoin(other.getJoin());
+        }
+        if (other.hasTask()) {
+          mergeTask(other.getTask());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Apply parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin join_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder> joinBuilder_;
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       * @return Whether the join field is set.
+       */
+      public boolean hasJoin() {
+        return joinBuilder_ != null || join_ != null;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       * @return The join.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getJoin() {
+        if (joinBuilder_ == null) {
+          return join_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.getDefaultInstance() : join_;
+        } else {
+          return joinBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public Builder setJoin(com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin value) {
+        if (joinBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          join_ = value;
+          onChanged();
+        } else {
+          joinBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public Builder setJoin(
+          com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder builderForValue) {
+        if (joinBuilder_ == null) {
+          join_ = builderForValue.build();
+          onChanged();
+        } else {
+          joinBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public Builder mergeJoin(com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin value) {
+        if (joinBuilder_ == null) {
+          if (join_ != null) {
+            join_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.newBuilder(join_).mergeFrom(value).buildPartial();
+          } else {
+            join_ = value;
+          }
+          onChanged();
+        } else {
+          joinBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public Builder clearJoin() {
+        if (joinBuilder_ == null) {
+          join_ = null;
+          onChanged();
+        } else {
+          join_ = null;
+          joinBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder getJoinBuilder() {
+        
+        onChanged();
+        return getJoinFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder getJoinOrBuilder() {
+        if (joinBuilder_ != null) {
+          return joinBuilder_.getMessageOrBuilder();
+        } else {
+          return join_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.getDefaultInstance() : join_;
+        }
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder> 
+          getJoinFieldBuilder() {
+        if (joinBuilder_ == null) {
+          joinBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder>(
+                  getJoin(),
+                  getParentForChildren(),
+                  isClean());
+          join_ = null;
+        }
+        return joinBuilder_;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan task_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> taskBuilder_;
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       * @return Whether the task field is set.
+       */
+      public boolean hasTask() {
+        return taskBuilder_ != null || task_ != null;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       * @return The task.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTask() {
+        if (taskBuilder_ == null) {
+          return task_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : task_;
+        } else {
+          return taskBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public Builder setTask(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (taskBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          task_ = value;
+          onChanged();
+        } else {
+          taskBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public Builder setTask(
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (taskBuilder_ == null) {
+          task_ = builderForValue.build();
+          onChanged();
+        } else {
+          taskBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public Builder mergeTask(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (taskBuilder_ == null) {
+          if (task_ != null) {
+            task_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.newBuilder(task_).mergeFrom(value).buildPartial();
+          } else {
+            task_ = value;
+          }
+          onChanged();
+        } else {
+          taskBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public Builder clearTask() {
+        if (taskBuilder_ == null) {
+          task_ = null;
+          onChanged();
+        } else {
+          task_ = null;
+          taskBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder getTaskBuilder() {
+        
+        onChanged();
+        return getTaskFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTaskOrBuilder() {
+        if (taskBuilder_ != null) {
+          return taskBuilder_.getMessageOrBuilder();
+        } else {
+          return task_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : task_;
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+          getTaskFieldBuilder() {
+        if (taskBuilder_ == null) {
+          taskBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder>(
+                  getTask(),
+                  getParentForChildren(),
+                  isClean());
+          task_ = null;
+        }
+        return taskBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Apply)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Apply)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Apply DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Apply();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Apply getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Apply>
+        PARSER = new com.google.protobuf.AbstractParser<Apply>() {
+      @java.lang.Override
+      public Apply parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Apply(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Apply> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Apply> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Apply getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SegmentApplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.SegmentApply)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     * @return Whether the join field is set.
+     */
+    boolean hasJoin();
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     * @return The join.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getJoin();
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder getJoinOrBuilder();
+
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     * @return Whether the task field is set.
+     */
+    boolean hasTask();
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     * @return The task.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTask();
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTaskOrBuilder();
+  }
+  /**
+   * Protobuf type {@code job_proto.SegmentApply}
+   */
+  public static final class SegmentApply extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.SegmentApply)
+      SegmentApplyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SegmentApply.newBuilder() to construct.
+    private SegmentApply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SegmentApply() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SegmentApply();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SegmentApply(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder subBuilder = null;
+              if (join_ != null) {
+                subBuilder = join_.toBuilder();
+              }
+              join_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(join_);
+                join_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder subBuilder = null;
+              if (task_ != null) {
+                subBuilder = task_.toBuilder();
+              }
+              task_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(task_);
+                task_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SegmentApply_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SegmentApply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.class, com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.Builder.class);
+    }
+
+    public static final int JOIN_FIELD_NUMBER = 1;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin join_;
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     * @return Whether the join field is set.
+     */
+    @java.lang.Override
+    public boolean hasJoin() {
+      return join_ != null;
+    }
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     * @return The join.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getJoin() {
+      return join_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.getDefaultInstance() : join_;
+    }
+    /**
+     * <code>.job_proto.LeftJoin join = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder getJoinOrBuilder() {
+      return getJoin();
+    }
+
+    public static final int TASK_FIELD_NUMBER = 2;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan task_;
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     * @return Whether the task field is set.
+     */
+    @java.lang.Override
+    public boolean hasTask() {
+      return task_ != null;
+    }
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     * @return The task.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTask() {
+      return task_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : task_;
+    }
+    /**
+     * <code>.job_proto.TaskPlan task = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTaskOrBuilder() {
+      return getTask();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (join_ != null) {
+        output.writeMessage(1, getJoin());
+      }
+      if (task_ != null) {
+        output.writeMessage(2, getTask());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (join_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getJoin());
+      }
+      if (task_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getTask());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply other = (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) obj;
+
+      if (hasJoin() != other.hasJoin()) return false;
+      if (hasJoin()) {
+        if (!getJoin()
+            .equals(other.getJoin())) return false;
+      }
+      if (hasTask() != other.hasTask()) return false;
+      if (hasTask()) {
+        if (!getTask()
+            .equals(other.getTask())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasJoin()) {
+        hash = (37 * hash) + JOIN_FIELD_NUMBER;
+        hash = (53 * hash) + getJoin().hashCode();
+      }
+      if (hasTask()) {
+        hash = (37 * hash) + TASK_FIELD_NUMBER;
+        hash = (53 * hash) + getTask().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.SegmentApply}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.SegmentApply)
+        com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApplyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SegmentApply_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SegmentApply_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.class, com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (joinBuilder_ == null) {
+          join_ = null;
+        } else {
+          join_ = null;
+          joinBuilder_ = null;
+        }
+        if (taskBuilder_ == null) {
+          task_ = null;
+        } else {
+          task_ = null;
+          taskBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_SegmentApply_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply result = new com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply(this);
+        if (joinBuilder_ == null) {
+          result.join_ = join_;
+        } else {
+          result.join_ = joinBuilder_.build();
+        }
+        if (taskBuilder_ == null) {
+          result.task_ = task_;
+        } else {
+          result.task_ = taskBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance()) return this;
+        if (other.hasJoin()) {
+          mergeJoin(other.getJoin());
+        }
+        if (other.hasTask()) {
+          mergeTask(other.getTask());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin join_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder> joinBuilder_;
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       * @return Whether the join field is set.
+       */
+      public boolean hasJoin() {
+        return joinBuilder_ != null || join_ != null;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       * @return The join.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin getJoin() {
+        if (joinBuilder_ == null) {
+          return join_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.getDefaultInstance() : join_;
+        } else {
+          return joinBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public Builder setJoin(com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin value) {
+        if (joinBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          join_ = value;
+          onChanged();
+        } else {
+          joinBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public Builder setJoin(
+          com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder builderForValue) {
+        if (joinBuilder_ == null) {
+          join_ = builderForValue.build();
+          onChanged();
+        } else {
+          joinBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public Builder mergeJoin(com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin value) {
+        if (joinBuilder_ == null) {
+          if (join_ != null) {
+            join_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.newBuilder(join_).mergeFrom(value).buildPartial();
+          } else {
+            join_ = value;
+          }
+          onChanged();
+        } else {
+          joinBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public Builder clearJoin() {
+        if (joinBuilder_ == null) {
+          join_ = null;
+          onChanged();
+        } else {
+          join_ = null;
+          joinBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder getJoinBuilder() {
+        
+        onChanged();
+        return getJoinFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder getJoinOrBuilder() {
+        if (joinBuilder_ != null) {
+          return joinBuilder_.getMessageOrBuilder();
+        } else {
+          return join_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.getDefaultInstance() : join_;
+        }
+      }
+      /**
+       * <code>.job_proto.LeftJoin join = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder> 
+          getJoinFieldBuilder() {
+        if (joinBuilder_ == null) {
+          joinBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoin.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LeftJoinOrBuilder>(
+                  getJoin(),
+                  getParentForChildren(),
+                  isClean());
+          join_ = null;
+        }
+        return joinBuilder_;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan task_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> taskBuilder_;
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       * @return Whether the task field is set.
+       */
+      public boolean hasTask() {
+        return taskBuilder_ != null || task_ != null;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       * @return The task.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getTask() {
+        if (taskBuilder_ == null) {
+          return task_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : task_;
+        } else {
+          return taskBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public Builder setTask(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (taskBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          task_ = value;
+          onChanged();
+        } else {
+          taskBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public Builder setTask(
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (taskBuilder_ == null) {
+          task_ = builderForValue.build();
+          onChanged();
+        } else {
+          taskBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public Builder mergeTask(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (taskBuilder_ == null) {
+          if (task_ != null) {
+            task_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.newBuilder(task_).mergeFrom(value).buildPartial();
+          } else {
+            task_ = value;
+          }
+          onChanged();
+        } else {
+          taskBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public Builder clearTask() {
+        if (taskBuilder_ == null) {
+          task_ = null;
+          onChanged();
+        } else {
+          task_ = null;
+          taskBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder getTaskBuilder() {
+        
+        onChanged();
+        return getTaskFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getTaskOrBuilder() {
+        if (taskBuilder_ != null) {
+          return taskBuilder_.getMessageOrBuilder();
+        } else {
+          return task_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : task_;
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan task = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+          getTaskFieldBuilder() {
+        if (taskBuilder_ == null) {
+          taskBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder>(
+                  getTask(),
+                  getParentForChildren(),
+                  isClean());
+          task_ = null;
+        }
+        return taskBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.SegmentApply)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.SegmentApply)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SegmentApply>
+        PARSER = new com.google.protobuf.AbstractParser<SegmentApply>() {
+      @java.lang.Override
+      public SegmentApply parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SegmentApply(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SegmentApply> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SegmentApply> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JoinOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.Join)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.job_proto.Join.JoinKind kind = 1;</code>
+     * @return The enum numeric value on the wire for kind.
+     */
+    int getKindValue();
+    /**
+     * <code>.job_proto.Join.JoinKind kind = 1;</code>
+     * @return The kind.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind getKind();
+
+    /**
+     * <code>bytes resource = 2;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+
+    /**
+     * <code>.job_proto.TaskPlan left_task = 3;</code>
+     * @return Whether the leftTask field is set.
+     */
+    boolean hasLeftTask();
+    /**
+     * <code>.job_proto.TaskPlan left_task = 3;</code>
+     * @return The leftTask.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getLeftTask();
+    /**
+     * <code>.job_proto.TaskPlan left_task = 3;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getLeftTaskOrBuilder();
+
+    /**
+     * <code>.job_proto.TaskPlan right_task = 4;</code>
+     * @return Whether the rightTask field is set.
+     */
+    boolean hasRightTask();
+    /**
+     * <code>.job_proto.TaskPlan right_task = 4;</code>
+     * @return The rightTask.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getRightTask();
+    /**
+     * <code>.job_proto.TaskPlan right_task = 4;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getRightTaskOrBuilder();
+  }
+  /**
+   * Protobuf type {@code job_proto.Join}
+   */
+  public static final class Join extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.Join)
+      JoinOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Join.newBuilder() to construct.
+    private Join(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Join() {
+      kind_ = 0;
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Join();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Join(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              kind_ = rawValue;
+              break;
+            }
+            case 18: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder subBuilder = null;
+              if (leftTask_ != null) {
+                subBuilder = leftTask_.toBuilder();
+              }
+              leftTask_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(leftTask_);
+                leftTask_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 34: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder subBuilder = null;
+              if (rightTask_ != null) {
+                subBuilder = rightTask_.toBuilder();
+              }
+              rightTask_ = input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(rightTask_);
+                rightTask_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Join_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Join_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.Join.class, com.alibaba.pegasus.service.job.protocol.JobClient.Join.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code job_proto.Join.JoinKind}
+     */
+    public enum JoinKind
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <pre>
+       * Inner join
+       * </pre>
+       *
+       * <code>INNER = 0;</code>
+       */
+      INNER(0),
+      /**
+       * <pre>
+       * Left outer join
+       * </pre>
+       *
+       * <code>LEFT_OUTER = 1;</code>
+       */
+      LEFT_OUTER(1),
+      /**
+       * <pre>
+       * Right outer join
+       * </pre>
+       *
+       * <code>RIGHT_OUTER = 2;</code>
+       */
+      RIGHT_OUTER(2),
+      /**
+       * <pre>
+       * Full outer join
+       * </pre>
+       *
+       * <code>FULL_OUTER = 3;</code>
+       */
+      FULL_OUTER(3),
+      /**
+       * <pre>
+       * Left semi-join, right alternative can be naturally adapted
+       * </pre>
+       *
+       * <code>SEMI = 4;</code>
+       */
+      SEMI(4),
+      /**
+       * <pre>
+       * Left anti-join, right alternative can be naturally adapted
+       * </pre>
+       *
+       * <code>ANTI = 5;</code>
+       */
+      ANTI(5),
+      /**
+       * <pre>
+       * aka. Cartesian product
+       * </pre>
+       *
+       * <code>TIMES = 6;</code>
+       */
+      TIMES(6),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <pre>
+       * Inner join
+       * </pre>
+       *
+       * <code>INNER = 0;</code>
+       */
+      public static final int INNER_VALUE = 0;
+      /**
+       * <pre>
+       * Left outer join
+       * </pre>
+       *
+       * <code>LEFT_OUTER = 1;</code>
+       */
+      public static final int LEFT_OUTER_VALUE = 1;
+      /**
+       * <pre>
+       * Right outer join
+       * </pre>
+       *
+       * <code>RIGHT_OUTER = 2;</code>
+       */
+      public static final int RIGHT_OUTER_VALUE = 2;
+      /**
+       * <pre>
+       * Full outer join
+       * </pre>
+       *
+       * <code>FULL_OUTER = 3;</code>
+       */
+      public static final int FULL_OUTER_VALUE = 3;
+      /**
+       * <pre>
+       * Left semi-join, right alternative can be naturally adapted
+       * </pre>
+       *
+       * <code>SEMI = 4;</code>
+       */
+      public static final int SEMI_VALUE = 4;
+      /**
+       * <pre>
+       * Left anti-join, right alternative can be naturally adapted
+       * </pre>
+       *
+       * <code>ANTI = 5;</code>
+       */
+      public static final int ANTI_VALUE = 5;
+      /**
+       * <pre>
+       * aka. Cartesian product
+       * </pre>
+       *
+       * <code>TIMES = 6;</code>
+       */
+      public static final int TIMES_VALUE = 6;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static JoinKind valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static JoinKind forNumber(int value) {
+        switch (value) {
+          case 0: return INNER;
+          case 1: return LEFT_OUTER;
+          case 2: return RIGHT_OUTER;
+          case 3: return FULL_OUTER;
+          case 4: return SEMI;
+          case 5: return ANTI;
+          case 6: return TIMES;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<JoinKind>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          JoinKind> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<JoinKind>() {
+              public JoinKind findValueByNumber(int number) {
+                return JoinKind.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalStateException(
+              "Can't get the descriptor of an unrecognized enum value.");
+        }
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final JoinKind[] VALUES = values();
+
+      public static JoinKind valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private JoinKind(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:job_proto.Join.JoinKind)
+    }
+
+    public static final int KIND_FIELD_NUMBER = 1;
+    private int kind_;
+    /**
+     * <code>.job_proto.Join.JoinKind kind = 1;</code>
+     * @return The enum numeric value on the wire for kind.
+     */
+    @java.lang.Override public int getKindValue() {
+      return kind_;
+    }
+    /**
+     * <code>.job_proto.Join.JoinKind kind = 1;</code>
+     * @return The kind.
+     */
+    @java.lang.Override public com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind getKind() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind result = com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind.valueOf(kind_);
+      return result == null ? com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind.UNRECOGNIZED : result;
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 2;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    public static final int LEFT_TASK_FIELD_NUMBER = 3;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan leftTask_;
+    /**
+     * <code>.job_proto.TaskPlan left_task = 3;</code>
+     * @return Whether the leftTask field is set.
+     */
+    @java.lang.Override
+    public boolean hasLeftTask() {
+      return leftTask_ != null;
+    }
+    /**
+     * <code>.job_proto.TaskPlan left_task = 3;</code>
+     * @return The leftTask.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getLeftTask() {
+      return leftTask_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : leftTask_;
+    }
+    /**
+     * <code>.job_proto.TaskPlan left_task = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getLeftTaskOrBuilder() {
+      return getLeftTask();
+    }
+
+    public static final int RIGHT_TASK_FIELD_NUMBER = 4;
+    private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan rightTask_;
+    /**
+     * <code>.job_proto.TaskPlan right_task = 4;</code>
+     * @return Whether the rightTask field is set.
+     */
+    @java.lang.Override
+    public boolean hasRightTask() {
+      return rightTask_ != null;
+    }
+    /**
+     * <code>.job_proto.TaskPlan right_task = 4;</code>
+     * @return The rightTask.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getRightTask() {
+      return rightTask_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : rightTask_;
+    }
+    /**
+     * <code>.job_proto.TaskPlan right_task = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getRightTaskOrBuilder() {
+      return getRightTask();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (kind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind.INNER.getNumber()) {
+        output.writeEnum(1, kind_);
+      }
+      if (!resource_.isEmpty()) {
+        output.writeBytes(2, resource_);
+      }
+      if (leftTask_ != null) {
+        output.writeMessage(3, getLeftTask());
+      }
+      if (rightTask_ != null) {
+        output.writeMessage(4, getRightTask());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (kind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind.INNER.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, kind_);
+      }
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, resource_);
+      }
+      if (leftTask_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getLeftTask());
+      }
+      if (rightTask_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getRightTask());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Join)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.Join other = (com.alibaba.pegasus.service.job.protocol.JobClient.Join) obj;
+
+      if (kind_ != other.kind_) return false;
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (hasLeftTask() != other.hasLeftTask()) return false;
+      if (hasLeftTask()) {
+        if (!getLeftTask()
+            .equals(other.getLeftTask())) return false;
+      }
+      if (hasRightTask() != other.hasRightTask()) return false;
+      if (hasRightTask()) {
+        if (!getRightTask()
+            .equals(other.getRightTask())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + KIND_FIELD_NUMBER;
+      hash = (53 * hash) + kind_;
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      if (hasLeftTask()) {
+        hash = (37 * hash) + LEFT_TASK_FIELD_NUMBER;
+        hash = (53 * hash) + getLeftTask().hashCode();
+      }
+      if (hasRightTask()) {
+        hash = (37 * hash) + RIGHT_TASK_FIELD_NUMBER;
+        hash = (53 * hash) + getRightTask().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.Join prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.Join}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.Join)
+        com.alibaba.pegasus.service.job.protocol.JobClient.JoinOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Join_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Join_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.Join.class, com.alibaba.pegasus.service.job.protocol.JobClient.Join.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.Join.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        kind_ = 0;
+
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        if (leftTaskBuilder_ == null) {
+          leftTask_ = null;
+        } else {
+          leftTask_ = null;
+          leftTaskBuilder_ = null;
+        }
+        if (rightTaskBuilder_ == null) {
+          rightTask_ = null;
+        } else {
+          rightTask_ = null;
+          rightTaskBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_Join_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Join getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Join build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Join result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Join buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Join result = new com.alibaba.pegasus.service.job.protocol.JobClient.Join(this);
+        result.kind_ = kind_;
+        result.resource_ = resource_;
+        if (leftTaskBuilder_ == null) {
+          result.leftTask_ = leftTask_;
+        } else {
+          result.leftTask_ = leftTaskBuilder_.build();
+        }
+        if (rightTaskBuilder_ == null) {
+          result.rightTask_ = rightTask_;
+        } else {
+          result.rightTask_ = rightTaskBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.Join) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Join)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.Join other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance()) return this;
+        if (other.kind_ != 0) {
+          setKindValue(other.getKindValue());
+        }
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        if (other.hasLeftTask()) {
+          mergeLeftTask(other.getLeftTask());
+        }
+        if (other.hasRightTask()) {
+          mergeRightTask(other.getRightTask());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.Join parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.Join) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int kind_ = 0;
+      /**
+       * <code>.job_proto.Join.JoinKind kind = 1;</code>
+       * @return The enum numeric value on the wire for kind.
+       */
+      @java.lang.Override public int getKindValue() {
+        return kind_;
+      }
+      /**
+       * <code>.job_proto.Join.JoinKind kind = 1;</code>
+       * @param value The enum numeric value on the wire for kind to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKindValue(int value) {
+        
+        kind_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.job_proto.Join.JoinKind kind = 1;</code>
+       * @return The kind.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind getKind() {
+        @SuppressWarnings("deprecation")
+        com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind result = com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind.valueOf(kind_);
+        return result == null ? com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.job_proto.Join.JoinKind kind = 1;</code>
+       * @param value The kind to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKind(com.alibaba.pegasus.service.job.protocol.JobClient.Join.JoinKind value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        kind_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.job_proto.Join.JoinKind kind = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKind() {
+        
+        kind_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 2;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 2;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan leftTask_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> leftTaskBuilder_;
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       * @return Whether the leftTask field is set.
+       */
+      public boolean hasLeftTask() {
+        return leftTaskBuilder_ != null || leftTask_ != null;
+      }
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       * @return The leftTask.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getLeftTask() {
+        if (leftTaskBuilder_ == null) {
+          return leftTask_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : leftTask_;
+        } else {
+          return leftTaskBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       */
+      public Builder setLeftTask(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (leftTaskBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          leftTask_ = value;
+          onChanged();
+        } else {
+          leftTaskBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       */
+      public Builder setLeftTask(
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (leftTaskBuilder_ == null) {
+          leftTask_ = builderForValue.build();
+          onChanged();
+        } else {
+          leftTaskBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       */
+      public Builder mergeLeftTask(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (leftTaskBuilder_ == null) {
+          if (leftTask_ != null) {
+            leftTask_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.newBuilder(leftTask_).mergeFrom(value).buildPartial();
+          } else {
+            leftTask_ = value;
+          }
+          onChanged();
+        } else {
+          leftTaskBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       */
+      public Builder clearLeftTask() {
+        if (leftTaskBuilder_ == null) {
+          leftTask_ = null;
+          onChanged();
+        } else {
+          leftTask_ = null;
+          leftTaskBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder getLeftTaskBuilder() {
+        
+        onChanged();
+        return getLeftTaskFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getLeftTaskOrBuilder() {
+        if (leftTaskBuilder_ != null) {
+          return leftTaskBuilder_.getMessageOrBuilder();
+        } else {
+          return leftTask_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : leftTask_;
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan left_task = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+          getLeftTaskFieldBuilder() {
+        if (leftTaskBuilder_ == null) {
+          leftTaskBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder>(
+                  getLeftTask(),
+                  getParentForChildren(),
+                  isClean());
+          leftTask_ = null;
+        }
+        return leftTaskBuilder_;
+      }
+
+      private com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan rightTask_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> rightTaskBuilder_;
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       * @return Whether the rightTask field is set.
+       */
+      public boolean hasRightTask() {
+        return rightTaskBuilder_ != null || rightTask_ != null;
+      }
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       * @return The rightTask.
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getRightTask() {
+        if (rightTaskBuilder_ == null) {
+          return rightTask_ == null ? com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : rightTask_;
+        } else {
+          return rightTaskBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       */
+      public Builder setRightTask(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (rightTaskBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          rightTask_ = value;
+          onChanged();
+        } else {
+          rightTaskBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       */
+      public Builder setRightTask(
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder builderForValue) {
+        if (rightTaskBuilder_ == null) {
+          rightTask_ = builderForValue.build();
+          onChanged();
+        } else {
+          rightTaskBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       */
+      public Builder mergeRightTask(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan value) {
+        if (rightTaskBuilder_ == null) {
+          if (rightTask_ != null) {
+            rightTask_ =
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.newBuilder(rightTask_).mergeFrom(value).buildPartial();
+          } else {
+            rightTask_ = value;
+          }
+          onChanged();
+        } else {
+          rightTaskBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       */
+      public Builder clearRightTask() {
+        if (rightTaskBuilder_ == null) {
+          rightTask_ = null;
+          onChanged();
+        } else {
+          rightTask_ = null;
+          rightTaskBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder getRightTaskBuilder() {
+        
+        onChanged();
+        return getRightTaskFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder getRightTaskOrBuilder() {
+        if (rightTaskBuilder_ != null) {
+          return rightTaskBuilder_.getMessageOrBuilder();
+        } else {
+          return rightTask_ == null ?
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance() : rightTask_;
+        }
+      }
+      /**
+       * <code>.job_proto.TaskPlan right_task = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder> 
+          getRightTaskFieldBuilder() {
+        if (rightTaskBuilder_ == null) {
+          rightTaskBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder>(
+                  getRightTask(),
+                  getParentForChildren(),
+                  isClean());
+          rightTask_ = null;
+        }
+        return rightTaskBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.Join)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.Join)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.Join DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.Join();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.Join getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Join>
+        PARSER = new com.google.protobuf.AbstractParser<Join>() {
+      @java.lang.Override
+      public Join parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Join(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Join> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Join> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Join getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface KeyByOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.KeyBy)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes key_selector = 2;</code>
+     * @return The keySelector.
+     */
+    com.google.protobuf.ByteString getKeySelector();
+  }
+  /**
+   * Protobuf type {@code job_proto.KeyBy}
+   */
+  public static final class KeyBy extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.KeyBy)
+      KeyByOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use KeyBy.newBuilder() to construct.
+    private KeyBy(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private KeyBy() {
+      keySelector_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new KeyBy();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private KeyBy(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 18: {
+
+              keySelector_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_KeyBy_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_KeyBy_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.class, com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.Builder.class);
+    }
+
+    public static final int KEY_SELECTOR_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString keySelector_;
+    /**
+     * <code>bytes key_selector = 2;</code>
+     * @return The keySelector.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getKeySelector() {
+      return keySelector_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!keySelector_.isEmpty()) {
+        output.writeBytes(2, keySelector_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!keySelector_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, keySelector_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy other = (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) obj;
+
+      if (!getKeySelector()
+          .equals(other.getKeySelector())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + KEY_SELECTOR_FIELD_NUMBER;
+      hash = (53 * hash) + getKeySelector().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.KeyBy}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.KeyBy)
+        com.alibaba.pegasus.service.job.protocol.JobClient.KeyByOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_KeyBy_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_KeyBy_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.class, com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        keySelector_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_KeyBy_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy result = new com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy(this);
+        result.keySelector_ = keySelector_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance()) return this;
+        if (other.getKeySelector() != com.google.protobuf.ByteString.EMPTY) {
+          setKeySelector(other.getKeySelector());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString keySelector_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes key_selector = 2;</code>
+       * @return The keySelector.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getKeySelector() {
+        return keySelector_;
+      }
+      /**
+       * <code>bytes key_selector = 2;</code>
+       * @param value The keySelector to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeySelector(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        keySelector_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes key_selector = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKeySelector() {
+        
+        keySelector_ = getDefaultInstance().getKeySelector();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.KeyBy)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.KeyBy)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<KeyBy>
+        PARSER = new com.google.protobuf.AbstractParser<KeyBy>() {
+      @java.lang.Override
+      public KeyBy parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new KeyBy(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<KeyBy> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<KeyBy> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FilterMapOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.FilterMap)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code job_proto.FilterMap}
+   */
+  public static final class FilterMap extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.FilterMap)
+      FilterMapOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use FilterMap.newBuilder() to construct.
+    private FilterMap(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private FilterMap() {
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new FilterMap();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private FilterMap(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FilterMap_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FilterMap_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.class, com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.Builder.class);
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 1;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resource_.isEmpty()) {
+        output.writeBytes(1, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap other = (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) obj;
+
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.FilterMap}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.FilterMap)
+        com.alibaba.pegasus.service.job.protocol.JobClient.FilterMapOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FilterMap_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FilterMap_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.class, com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_FilterMap_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap result = new com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap(this);
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance()) return this;
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.FilterMap)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.FilterMap)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<FilterMap>
+        PARSER = new com.google.protobuf.AbstractParser<FilterMap>() {
+      @java.lang.Override
+      public FilterMap parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new FilterMap(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<FilterMap> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FilterMap> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface OperatorDefOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.OperatorDef)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.job_proto.Communicate comm = 1;</code>
+     * @return Whether the comm field is set.
+     */
+    boolean hasComm();
+    /**
+     * <code>.job_proto.Communicate comm = 1;</code>
+     * @return The comm.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Communicate getComm();
+    /**
+     * <code>.job_proto.Communicate comm = 1;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.CommunicateOrBuilder getCommOrBuilder();
+
+    /**
+     * <code>.job_proto.Map map = 3;</code>
+     * @return Whether the map field is set.
+     */
+    boolean hasMap();
+    /**
+     * <code>.job_proto.Map map = 3;</code>
+     * @return The map.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Map getMap();
+    /**
+     * <code>.job_proto.Map map = 3;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.MapOrBuilder getMapOrBuilder();
+
+    /**
+     * <code>.job_proto.FlatMap flat_map = 4;</code>
+     * @return Whether the flatMap field is set.
+     */
+    boolean hasFlatMap();
+    /**
+     * <code>.job_proto.FlatMap flat_map = 4;</code>
+     * @return The flatMap.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getFlatMap();
+    /**
+     * <code>.job_proto.FlatMap flat_map = 4;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getFlatMapOrBuilder();
+
+    /**
+     * <code>.job_proto.Filter filter = 5;</code>
+     * @return Whether the filter field is set.
+     */
+    boolean hasFilter();
+    /**
+     * <code>.job_proto.Filter filter = 5;</code>
+     * @return The filter.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Filter getFilter();
+    /**
+     * <code>.job_proto.Filter filter = 5;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getFilterOrBuilder();
+
+    /**
+     * <code>.job_proto.Limit limit = 6;</code>
+     * @return Whether the limit field is set.
+     */
+    boolean hasLimit();
+    /**
+     * <code>.job_proto.Limit limit = 6;</code>
+     * @return The limit.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Limit getLimit();
+    /**
+     * <code>.job_proto.Limit limit = 6;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.LimitOrBuilder getLimitOrBuilder();
+
+    /**
+     * <code>.job_proto.SortBy sort = 7;</code>
+     * @return Whether the sort field is set.
+     */
+    boolean hasSort();
+    /**
+     * <code>.job_proto.SortBy sort = 7;</code>
+     * @return The sort.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.SortBy getSort();
+    /**
+     * <code>.job_proto.SortBy sort = 7;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.SortByOrBuilder getSortOrBuilder();
+
+    /**
+     * <code>.job_proto.Fold fold = 8;</code>
+     * @return Whether the fold field is set.
+     */
+    boolean hasFold();
+    /**
+     * <code>.job_proto.Fold fold = 8;</code>
+     * @return The fold.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Fold getFold();
+    /**
+     * <code>.job_proto.Fold fold = 8;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FoldOrBuilder getFoldOrBuilder();
+
+    /**
+     * <code>.job_proto.GroupBy group = 9;</code>
+     * @return Whether the group field is set.
+     */
+    boolean hasGroup();
+    /**
+     * <code>.job_proto.GroupBy group = 9;</code>
+     * @return The group.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy getGroup();
+    /**
+     * <code>.job_proto.GroupBy group = 9;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.GroupByOrBuilder getGroupOrBuilder();
+
+    /**
+     * <code>.job_proto.Merge merge = 10;</code>
+     * @return Whether the merge field is set.
+     */
+    boolean hasMerge();
+    /**
+     * <code>.job_proto.Merge merge = 10;</code>
+     * @return The merge.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Merge getMerge();
+    /**
+     * <code>.job_proto.Merge merge = 10;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.MergeOrBuilder getMergeOrBuilder();
+
+    /**
+     * <code>.job_proto.Iteration iterate = 11;</code>
+     * @return Whether the iterate field is set.
+     */
+    boolean hasIterate();
+    /**
+     * <code>.job_proto.Iteration iterate = 11;</code>
+     * @return The iterate.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Iteration getIterate();
+    /**
+     * <code>.job_proto.Iteration iterate = 11;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.IterationOrBuilder getIterateOrBuilder();
+
+    /**
+     * <code>.job_proto.Apply apply = 12;</code>
+     * @return Whether the apply field is set.
+     */
+    boolean hasApply();
+    /**
+     * <code>.job_proto.Apply apply = 12;</code>
+     * @return The apply.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Apply getApply();
+    /**
+     * <code>.job_proto.Apply apply = 12;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.ApplyOrBuilder getApplyOrBuilder();
+
+    /**
+     * <code>.job_proto.Dedup dedup = 13;</code>
+     * @return Whether the dedup field is set.
+     */
+    boolean hasDedup();
+    /**
+     * <code>.job_proto.Dedup dedup = 13;</code>
+     * @return The dedup.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Dedup getDedup();
+    /**
+     * <code>.job_proto.Dedup dedup = 13;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.DedupOrBuilder getDedupOrBuilder();
+
+    /**
+     * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+     * @return Whether the segApply field is set.
+     */
+    boolean hasSegApply();
+    /**
+     * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+     * @return The segApply.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply getSegApply();
+    /**
+     * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApplyOrBuilder getSegApplyOrBuilder();
+
+    /**
+     * <code>.job_proto.Join join = 15;</code>
+     * @return Whether the join field is set.
+     */
+    boolean hasJoin();
+    /**
+     * <code>.job_proto.Join join = 15;</code>
+     * @return The join.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.Join getJoin();
+    /**
+     * <code>.job_proto.Join join = 15;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.JoinOrBuilder getJoinOrBuilder();
+
+    /**
+     * <code>.job_proto.KeyBy key_by = 16;</code>
+     * @return Whether the keyBy field is set.
+     */
+    boolean hasKeyBy();
+    /**
+     * <code>.job_proto.KeyBy key_by = 16;</code>
+     * @return The keyBy.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy getKeyBy();
+    /**
+     * <code>.job_proto.KeyBy key_by = 16;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.KeyByOrBuilder getKeyByOrBuilder();
+
+    /**
+     * <code>.job_proto.FilterMap filter_map = 17;</code>
+     * @return Whether the filterMap field is set.
+     */
+    boolean hasFilterMap();
+    /**
+     * <code>.job_proto.FilterMap filter_map = 17;</code>
+     * @return The filterMap.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap getFilterMap();
+    /**
+     * <code>.job_proto.FilterMap filter_map = 17;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.FilterMapOrBuilder getFilterMapOrBuilder();
+
+    /**
+     * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+     * @return Whether the iterateEmit field is set.
+     */
+    boolean hasIterateEmit();
+    /**
+     * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+     * @return The iterateEmit.
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit getIterateEmit();
+    /**
+     * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmitOrBuilder getIterateEmitOrBuilder();
+
+    public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.OpKindCase getOpKindCase();
+  }
+  /**
+   * Protobuf type {@code job_proto.OperatorDef}
+   */
+  public static final class OperatorDef extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.OperatorDef)
+      OperatorDefOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use OperatorDef.newBuilder() to construct.
+    private OperatorDef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private OperatorDef() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new OperatorDef();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private OperatorDef(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.Builder subBuilder = null;
+              if (opKindCase_ == 1) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 1;
+              break;
+            }
+            case 26: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Map.Builder subBuilder = null;
+              if (opKindCase_ == 3) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Map.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 3;
+              break;
+            }
+            case 34: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder subBuilder = null;
+              if (opKindCase_ == 4) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 4;
+              break;
+            }
+            case 42: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder subBuilder = null;
+              if (opKindCase_ == 5) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Filter.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 5;
+              break;
+            }
+            case 50: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Limit.Builder subBuilder = null;
+              if (opKindCase_ == 6) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Limit.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 6;
+              break;
+            }
+            case 58: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.Builder subBuilder = null;
+              if (opKindCase_ == 7) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 7;
+              break;
+            }
+            case 66: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Fold.Builder subBuilder = null;
+              if (opKindCase_ == 8) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Fold.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 8;
+              break;
+            }
+            case 74: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.Builder subBuilder = null;
+              if (opKindCase_ == 9) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 9;
+              break;
+            }
+            case 82: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Merge.Builder subBuilder = null;
+              if (opKindCase_ == 10) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Merge.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 10;
+              break;
+            }
+            case 90: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.Builder subBuilder = null;
+              if (opKindCase_ == 11) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 11;
+              break;
+            }
+            case 98: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Apply.Builder subBuilder = null;
+              if (opKindCase_ == 12) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Apply.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 12;
+              break;
+            }
+            case 106: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.Builder subBuilder = null;
+              if (opKindCase_ == 13) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 13;
+              break;
+            }
+            case 114: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.Builder subBuilder = null;
+              if (opKindCase_ == 14) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 14;
+              break;
+            }
+            case 122: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.Join.Builder subBuilder = null;
+              if (opKindCase_ == 15) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.Join.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 15;
+              break;
+            }
+            case 130: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.Builder subBuilder = null;
+              if (opKindCase_ == 16) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 16;
+              break;
+            }
+            case 138: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.Builder subBuilder = null;
+              if (opKindCase_ == 17) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 17;
+              break;
+            }
+            case 146: {
+              com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.Builder subBuilder = null;
+              if (opKindCase_ == 18) {
+                subBuilder = ((com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_).toBuilder();
+              }
+              opKind_ =
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_);
+                opKind_ = subBuilder.buildPartial();
+              }
+              opKindCase_ = 18;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_OperatorDef_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_OperatorDef_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.class, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder.class);
+    }
+
+    private int opKindCase_ = 0;
+    private java.lang.Object opKind_;
+    public enum OpKindCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      COMM(1),
+      MAP(3),
+      FLAT_MAP(4),
+      FILTER(5),
+      LIMIT(6),
+      SORT(7),
+      FOLD(8),
+      GROUP(9),
+      MERGE(10),
+      ITERATE(11),
+      APPLY(12),
+      DEDUP(13),
+      SEG_APPLY(14),
+      JOIN(15),
+      KEY_BY(16),
+      FILTER_MAP(17),
+      ITERATE_EMIT(18),
+      OPKIND_NOT_SET(0);
+      private final int value;
+      private OpKindCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static OpKindCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static OpKindCase forNumber(int value) {
+        switch (value) {
+          case 1: return COMM;
+          case 3: return MAP;
+          case 4: return FLAT_MAP;
+          case 5: return FILTER;
+          case 6: return LIMIT;
+          case 7: return SORT;
+          case 8: return FOLD;
+          case 9: return GROUP;
+          case 10: return MERGE;
+          case 11: return ITERATE;
+          case 12: return APPLY;
+          case 13: return DEDUP;
+          case 14: return SEG_APPLY;
+          case 15: return JOIN;
+          case 16: return KEY_BY;
+          case 17: return FILTER_MAP;
+          case 18: return ITERATE_EMIT;
+          case 0: return OPKIND_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public OpKindCase
+    getOpKindCase() {
+      return OpKindCase.forNumber(
+          opKindCase_);
+    }
+
+    public static final int COMM_FIELD_NUMBER = 1;
+    /**
+     * <code>.job_proto.Communicate comm = 1;</code>
+     * @return Whether the comm field is set.
+     */
+    @java.lang.Override
+    public boolean hasComm() {
+      return opKindCase_ == 1;
+    }
+    /**
+     * <code>.job_proto.Communicate comm = 1;</code>
+     * @return The comm.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Communicate getComm() {
+      if (opKindCase_ == 1) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Communicate comm = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.CommunicateOrBuilder getCommOrBuilder() {
+      if (opKindCase_ == 1) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance();
+    }
+
+    public static final int MAP_FIELD_NUMBER = 3;
+    /**
+     * <code>.job_proto.Map map = 3;</code>
+     * @return Whether the map field is set.
+     */
+    @java.lang.Override
+    public boolean hasMap() {
+      return opKindCase_ == 3;
+    }
+    /**
+     * <code>.job_proto.Map map = 3;</code>
+     * @return The map.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Map getMap() {
+      if (opKindCase_ == 3) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Map map = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.MapOrBuilder getMapOrBuilder() {
+      if (opKindCase_ == 3) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance();
+    }
+
+    public static final int FLAT_MAP_FIELD_NUMBER = 4;
+    /**
+     * <code>.job_proto.FlatMap flat_map = 4;</code>
+     * @return Whether the flatMap field is set.
+     */
+    @java.lang.Override
+    public boolean hasFlatMap() {
+      return opKindCase_ == 4;
+    }
+    /**
+     * <code>.job_proto.FlatMap flat_map = 4;</code>
+     * @return The flatMap.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getFlatMap() {
+      if (opKindCase_ == 4) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.FlatMap flat_map = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getFlatMapOrBuilder() {
+      if (opKindCase_ == 4) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance();
+    }
+
+    public static final int FILTER_FIELD_NUMBER = 5;
+    /**
+     * <code>.job_proto.Filter filter = 5;</code>
+     * @return Whether the filter field is set.
+     */
+    @java.lang.Override
+    public boolean hasFilter() {
+      return opKindCase_ == 5;
+    }
+    /**
+     * <code>.job_proto.Filter filter = 5;</code>
+     * @return The filter.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Filter getFilter() {
+      if (opKindCase_ == 5) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Filter filter = 5;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getFilterOrBuilder() {
+      if (opKindCase_ == 5) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance();
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 6;
+    /**
+     * <code>.job_proto.Limit limit = 6;</code>
+     * @return Whether the limit field is set.
+     */
+    @java.lang.Override
+    public boolean hasLimit() {
+      return opKindCase_ == 6;
+    }
+    /**
+     * <code>.job_proto.Limit limit = 6;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Limit getLimit() {
+      if (opKindCase_ == 6) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Limit limit = 6;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.LimitOrBuilder getLimitOrBuilder() {
+      if (opKindCase_ == 6) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance();
+    }
+
+    public static final int SORT_FIELD_NUMBER = 7;
+    /**
+     * <code>.job_proto.SortBy sort = 7;</code>
+     * @return Whether the sort field is set.
+     */
+    @java.lang.Override
+    public boolean hasSort() {
+      return opKindCase_ == 7;
+    }
+    /**
+     * <code>.job_proto.SortBy sort = 7;</code>
+     * @return The sort.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.SortBy getSort() {
+      if (opKindCase_ == 7) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.SortBy sort = 7;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.SortByOrBuilder getSortOrBuilder() {
+      if (opKindCase_ == 7) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance();
+    }
+
+    public static final int FOLD_FIELD_NUMBER = 8;
+    /**
+     * <code>.job_proto.Fold fold = 8;</code>
+     * @return Whether the fold field is set.
+     */
+    @java.lang.Override
+    public boolean hasFold() {
+      return opKindCase_ == 8;
+    }
+    /**
+     * <code>.job_proto.Fold fold = 8;</code>
+     * @return The fold.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Fold getFold() {
+      if (opKindCase_ == 8) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Fold fold = 8;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FoldOrBuilder getFoldOrBuilder() {
+      if (opKindCase_ == 8) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance();
+    }
+
+    public static final int GROUP_FIELD_NUMBER = 9;
+    /**
+     * <code>.job_proto.GroupBy group = 9;</code>
+     * @return Whether the group field is set.
+     */
+    @java.lang.Override
+    public boolean hasGroup() {
+      return opKindCase_ == 9;
+    }
+    /**
+     * <code>.job_proto.GroupBy group = 9;</code>
+     * @return The group.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy getGroup() {
+      if (opKindCase_ == 9) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.GroupBy group = 9;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.GroupByOrBuilder getGroupOrBuilder() {
+      if (opKindCase_ == 9) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance();
+    }
+
+    public static final int MERGE_FIELD_NUMBER = 10;
+    /**
+     * <code>.job_proto.Merge merge = 10;</code>
+     * @return Whether the merge field is set.
+     */
+    @java.lang.Override
+    public boolean hasMerge() {
+      return opKindCase_ == 10;
+    }
+    /**
+     * <code>.job_proto.Merge merge = 10;</code>
+     * @return The merge.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Merge getMerge() {
+      if (opKindCase_ == 10) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Merge merge = 10;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.MergeOrBuilder getMergeOrBuilder() {
+      if (opKindCase_ == 10) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance();
+    }
+
+    public static final int ITERATE_FIELD_NUMBER = 11;
+    /**
+     * <code>.job_proto.Iteration iterate = 11;</code>
+     * @return Whether the iterate field is set.
+     */
+    @java.lang.Override
+    public boolean hasIterate() {
+      return opKindCase_ == 11;
+    }
+    /**
+     * <code>.job_proto.Iteration iterate = 11;</code>
+     * @return The iterate.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Iteration getIterate() {
+      if (opKindCase_ == 11) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Iteration iterate = 11;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.IterationOrBuilder getIterateOrBuilder() {
+      if (opKindCase_ == 11) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance();
+    }
+
+    public static final int APPLY_FIELD_NUMBER = 12;
+    /**
+     * <code>.job_proto.Apply apply = 12;</code>
+     * @return Whether the apply field is set.
+     */
+    @java.lang.Override
+    public boolean hasApply() {
+      return opKindCase_ == 12;
+    }
+    /**
+     * <code>.job_proto.Apply apply = 12;</code>
+     * @return The apply.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Apply getApply() {
+      if (opKindCase_ == 12) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Apply apply = 12;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.ApplyOrBuilder getApplyOrBuilder() {
+      if (opKindCase_ == 12) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance();
+    }
+
+    public static final int DEDUP_FIELD_NUMBER = 13;
+    /**
+     * <code>.job_proto.Dedup dedup = 13;</code>
+     * @return Whether the dedup field is set.
+     */
+    @java.lang.Override
+    public boolean hasDedup() {
+      return opKindCase_ == 13;
+    }
+    /**
+     * <code>.job_proto.Dedup dedup = 13;</code>
+     * @return The dedup.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Dedup getDedup() {
+      if (opKindCase_ == 13) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Dedup dedup = 13;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.DedupOrBuilder getDedupOrBuilder() {
+      if (opKindCase_ == 13) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance();
+    }
+
+    public static final int SEG_APPLY_FIELD_NUMBER = 14;
+    /**
+     * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+     * @return Whether the segApply field is set.
+     */
+    @java.lang.Override
+    public boolean hasSegApply() {
+      return opKindCase_ == 14;
+    }
+    /**
+     * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+     * @return The segApply.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply getSegApply() {
+      if (opKindCase_ == 14) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApplyOrBuilder getSegApplyOrBuilder() {
+      if (opKindCase_ == 14) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance();
+    }
+
+    public static final int JOIN_FIELD_NUMBER = 15;
+    /**
+     * <code>.job_proto.Join join = 15;</code>
+     * @return Whether the join field is set.
+     */
+    @java.lang.Override
+    public boolean hasJoin() {
+      return opKindCase_ == 15;
+    }
+    /**
+     * <code>.job_proto.Join join = 15;</code>
+     * @return The join.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.Join getJoin() {
+      if (opKindCase_ == 15) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.Join join = 15;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.JoinOrBuilder getJoinOrBuilder() {
+      if (opKindCase_ == 15) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance();
+    }
+
+    public static final int KEY_BY_FIELD_NUMBER = 16;
+    /**
+     * <code>.job_proto.KeyBy key_by = 16;</code>
+     * @return Whether the keyBy field is set.
+     */
+    @java.lang.Override
+    public boolean hasKeyBy() {
+      return opKindCase_ == 16;
+    }
+    /**
+     * <code>.job_proto.KeyBy key_by = 16;</code>
+     * @return The keyBy.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy getKeyBy() {
+      if (opKindCase_ == 16) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.KeyBy key_by = 16;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.KeyByOrBuilder getKeyByOrBuilder() {
+      if (opKindCase_ == 16) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance();
+    }
+
+    public static final int FILTER_MAP_FIELD_NUMBER = 17;
+    /**
+     * <code>.job_proto.FilterMap filter_map = 17;</code>
+     * @return Whether the filterMap field is set.
+     */
+    @java.lang.Override
+    public boolean hasFilterMap() {
+      return opKindCase_ == 17;
+    }
+    /**
+     * <code>.job_proto.FilterMap filter_map = 17;</code>
+     * @return The filterMap.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap getFilterMap() {
+      if (opKindCase_ == 17) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.FilterMap filter_map = 17;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMapOrBuilder getFilterMapOrBuilder() {
+      if (opKindCase_ == 17) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance();
+    }
+
+    public static final int ITERATE_EMIT_FIELD_NUMBER = 18;
+    /**
+     * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+     * @return Whether the iterateEmit field is set.
+     */
+    @java.lang.Override
+    public boolean hasIterateEmit() {
+      return opKindCase_ == 18;
+    }
+    /**
+     * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+     * @return The iterateEmit.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit getIterateEmit() {
+      if (opKindCase_ == 18) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance();
+    }
+    /**
+     * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmitOrBuilder getIterateEmitOrBuilder() {
+      if (opKindCase_ == 18) {
+         return (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_;
+      }
+      return com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (opKindCase_ == 1) {
+        output.writeMessage(1, (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_);
+      }
+      if (opKindCase_ == 3) {
+        output.writeMessage(3, (com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_);
+      }
+      if (opKindCase_ == 4) {
+        output.writeMessage(4, (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_);
+      }
+      if (opKindCase_ == 5) {
+        output.writeMessage(5, (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_);
+      }
+      if (opKindCase_ == 6) {
+        output.writeMessage(6, (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_);
+      }
+      if (opKindCase_ == 7) {
+        output.writeMessage(7, (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_);
+      }
+      if (opKindCase_ == 8) {
+        output.writeMessage(8, (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_);
+      }
+      if (opKindCase_ == 9) {
+        output.writeMessage(9, (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_);
+      }
+      if (opKindCase_ == 10) {
+        output.writeMessage(10, (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_);
+      }
+      if (opKindCase_ == 11) {
+        output.writeMessage(11, (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_);
+      }
+      if (opKindCase_ == 12) {
+        output.writeMessage(12, (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_);
+      }
+      if (opKindCase_ == 13) {
+        output.writeMessage(13, (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_);
+      }
+      if (opKindCase_ == 14) {
+        output.writeMessage(14, (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_);
+      }
+      if (opKindCase_ == 15) {
+        output.writeMessage(15, (com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_);
+      }
+      if (opKindCase_ == 16) {
+        output.writeMessage(16, (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_);
+      }
+      if (opKindCase_ == 17) {
+        output.writeMessage(17, (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_);
+      }
+      if (opKindCase_ == 18) {
+        output.writeMessage(18, (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (opKindCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_);
+      }
+      if (opKindCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_);
+      }
+      if (opKindCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_);
+      }
+      if (opKindCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_);
+      }
+      if (opKindCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_);
+      }
+      if (opKindCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_);
+      }
+      if (opKindCase_ == 8) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_);
+      }
+      if (opKindCase_ == 9) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_);
+      }
+      if (opKindCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_);
+      }
+      if (opKindCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_);
+      }
+      if (opKindCase_ == 12) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_);
+      }
+      if (opKindCase_ == 13) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(13, (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_);
+      }
+      if (opKindCase_ == 14) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_);
+      }
+      if (opKindCase_ == 15) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, (com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_);
+      }
+      if (opKindCase_ == 16) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(16, (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_);
+      }
+      if (opKindCase_ == 17) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_);
+      }
+      if (opKindCase_ == 18) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(18, (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef other = (com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef) obj;
+
+      if (!getOpKindCase().equals(other.getOpKindCase())) return false;
+      switch (opKindCase_) {
+        case 1:
+          if (!getComm()
+              .equals(other.getComm())) return false;
+          break;
+        case 3:
+          if (!getMap()
+              .equals(other.getMap())) return false;
+          break;
+        case 4:
+          if (!getFlatMap()
+              .equals(other.getFlatMap())) return false;
+          break;
+        case 5:
+          if (!getFilter()
+              .equals(other.getFilter())) return false;
+          break;
+        case 6:
+          if (!getLimit()
+              .equals(other.getLimit())) return false;
+          break;
+        case 7:
+          if (!getSort()
+              .equals(other.getSort())) return false;
+          break;
+        case 8:
+          if (!getFold()
+              .equals(other.getFold())) return false;
+          break;
+        case 9:
+          if (!getGroup()
+              .equals(other.getGroup())) return false;
+          break;
+        case 10:
+          if (!getMerge()
+              .equals(other.getMerge())) return false;
+          break;
+        case 11:
+          if (!getIterate()
+              .equals(other.getIterate())) return false;
+          break;
+        case 12:
+          if (!getApply()
+              .equals(other.getApply())) return false;
+          break;
+        case 13:
+          if (!getDedup()
+              .equals(other.getDedup())) return false;
+          break;
+        case 14:
+          if (!getSegApply()
+              .equals(other.getSegApply())) return false;
+          break;
+        case 15:
+          if (!getJoin()
+              .equals(other.getJoin())) return false;
+          break;
+        case 16:
+          if (!getKeyBy()
+              .equals(other.getKeyBy())) return false;
+          break;
+        case 17:
+          if (!getFilterMap()
+              .equals(other.getFilterMap())) return false;
+          break;
+        case 18:
+          if (!getIterateEmit()
+              .equals(other.getIterateEmit())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (opKindCase_) {
+        case 1:
+          hash = (37 * hash) + COMM_FIELD_NUMBER;
+          hash = (53 * hash) + getComm().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + MAP_FIELD_NUMBER;
+          hash = (53 * hash) + getMap().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + FLAT_MAP_FIELD_NUMBER;
+          hash = (53 * hash) + getFlatMap().hashCode();
+          break;
+        case 5:
+          hash = (37 * hash) + FILTER_FIELD_NUMBER;
+          hash = (53 * hash) + getFilter().hashCode();
+          break;
+        case 6:
+          hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+          hash = (53 * hash) + getLimit().hashCode();
+          break;
+        case 7:
+          hash = (37 * hash) + SORT_FIELD_NUMBER;
+          hash = (53 * hash) + getSort().hashCode();
+          break;
+        case 8:
+          hash = (37 * hash) + FOLD_FIELD_NUMBER;
+          hash = (53 * hash) + getFold().hashCode();
+          break;
+        case 9:
+          hash = (37 * hash) + GROUP_FIELD_NUMBER;
+          hash = (53 * hash) + getGroup().hashCode();
+          break;
+        case 10:
+          hash = (37 * hash) + MERGE_FIELD_NUMBER;
+          hash = (53 * hash) + getMerge().hashCode();
+          break;
+        case 11:
+          hash = (37 * hash) + ITERATE_FIELD_NUMBER;
+          hash = (53 * hash) + getIterate().hashCode();
+          break;
+        case 12:
+          hash = (37 * hash) + APPLY_FIELD_NUMBER;
+          hash = (53 * hash) + getApply().hashCode();
+          break;
+        case 13:
+          hash = (37 * hash) + DEDUP_FIELD_NUMBER;
+          hash = (53 * hash) + getDedup().hashCode();
+          break;
+        case 14:
+          hash = (37 * hash) + SEG_APPLY_FIELD_NUMBER;
+          hash = (53 * hash) + getSegApply().hashCode();
+          break;
+        case 15:
+          hash = (37 * hash) + JOIN_FIELD_NUMBER;
+          hash = (53 * hash) + getJoin().hashCode();
+          break;
+        case 16:
+          hash = (37 * hash) + KEY_BY_FIELD_NUMBER;
+          hash = (53 * hash) + getKeyBy().hashCode();
+          break;
+        case 17:
+          hash = (37 * hash) + FILTER_MAP_FIELD_NUMBER;
+          hash = (53 * hash) + getFilterMap().hashCode();
+          break;
+        case 18:
+          hash = (37 * hash) + ITERATE_EMIT_FIELD_NUMBER;
+          hash = (53 * hash) + getIterateEmit().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.OperatorDef}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.OperatorDef)
+        com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_OperatorDef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_OperatorDef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.class, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        opKindCase_ = 0;
+        opKind_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_OperatorDef_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef result = new com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef(this);
+        if (opKindCase_ == 1) {
+          if (commBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = commBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 3) {
+          if (mapBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = mapBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 4) {
+          if (flatMapBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = flatMapBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 5) {
+          if (filterBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = filterBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 6) {
+          if (limitBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = limitBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 7) {
+          if (sortBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = sortBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 8) {
+          if (foldBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = foldBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 9) {
+          if (groupBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = groupBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 10) {
+          if (mergeBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = mergeBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 11) {
+          if (iterateBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = iterateBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 12) {
+          if (applyBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = applyBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 13) {
+          if (dedupBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = dedupBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 14) {
+          if (segApplyBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = segApplyBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 15) {
+          if (joinBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = joinBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 16) {
+          if (keyByBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = keyByBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 17) {
+          if (filterMapBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = filterMapBuilder_.build();
+          }
+        }
+        if (opKindCase_ == 18) {
+          if (iterateEmitBuilder_ == null) {
+            result.opKind_ = opKind_;
+          } else {
+            result.opKind_ = iterateEmitBuilder_.build();
+          }
+        }
+        result.opKindCase_ = opKindCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.getDefaultInstance()) return this;
+        switch (other.getOpKindCase()) {
+          case COMM: {
+            mergeComm(other.getComm());
+            break;
+          }
+          case MAP: {
+            mergeMap(other.getMap());
+            break;
+          }
+          case FLAT_MAP: {
+            mergeFlatMap(other.getFlatMap());
+            break;
+          }
+          case FILTER: {
+            mergeFilter(other.getFilter());
+            break;
+          }
+          case LIMIT: {
+            mergeLimit(other.getLimit());
+            break;
+          }
+          case SORT: {
+            mergeSort(other.getSort());
+            break;
+          }
+          case FOLD: {
+            mergeFold(other.getFold());
+            break;
+          }
+          case GROUP: {
+            mergeGroup(other.getGroup());
+            break;
+          }
+          case MERGE: {
+            mergeMerge(other.getMerge());
+            break;
+          }
+          case ITERATE: {
+            mergeIterate(other.getIterate());
+            break;
+          }
+          case APPLY: {
+            mergeApply(other.getApply());
+            break;
+          }
+          case DEDUP: {
+            mergeDedup(other.getDedup());
+            break;
+          }
+          case SEG_APPLY: {
+            mergeSegApply(other.getSegApply());
+            break;
+          }
+          case JOIN: {
+            mergeJoin(other.getJoin());
+            break;
+          }
+          case KEY_BY: {
+            mergeKeyBy(other.getKeyBy());
+            break;
+          }
+          case FILTER_MAP: {
+            mergeFilterMap(other.getFilterMap());
+            break;
+          }
+          case ITERATE_EMIT: {
+            mergeIterateEmit(other.getIterateEmit());
+            break;
+          }
+          case OPKIND_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int opKindCase_ = 0;
+      private java.lang.Object opKind_;
+      public OpKindCase
+          getOpKindCase() {
+        return OpKindCase.forNumber(
+            opKindCase_);
+      }
+
+      public Builder clearOpKind() {
+        opKindCase_ = 0;
+        opKind_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Communicate, com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.CommunicateOrBuilder> commBuilder_;
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       * @return Whether the comm field is set.
+       */
+      @java.lang.Override
+      public boolean hasComm() {
+        return opKindCase_ == 1;
+      }
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       * @return The comm.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Communicate getComm() {
+        if (commBuilder_ == null) {
+          if (opKindCase_ == 1) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 1) {
+            return commBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       */
+      public Builder setComm(com.alibaba.pegasus.service.job.protocol.JobClient.Communicate value) {
+        if (commBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          commBuilder_.setMessage(value);
+        }
+        opKindCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       */
+      public Builder setComm(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.Builder builderForValue) {
+        if (commBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          commBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       */
+      public Builder mergeComm(com.alibaba.pegasus.service.job.protocol.JobClient.Communicate value) {
+        if (commBuilder_ == null) {
+          if (opKindCase_ == 1 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 1) {
+            commBuilder_.mergeFrom(value);
+          }
+          commBuilder_.setMessage(value);
+        }
+        opKindCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       */
+      public Builder clearComm() {
+        if (commBuilder_ == null) {
+          if (opKindCase_ == 1) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 1) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          commBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.Builder getCommBuilder() {
+        return getCommFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.CommunicateOrBuilder getCommOrBuilder() {
+        if ((opKindCase_ == 1) && (commBuilder_ != null)) {
+          return commBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 1) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Communicate comm = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Communicate, com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.CommunicateOrBuilder> 
+          getCommFieldBuilder() {
+        if (commBuilder_ == null) {
+          if (!(opKindCase_ == 1)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.getDefaultInstance();
+          }
+          commBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Communicate, com.alibaba.pegasus.service.job.protocol.JobClient.Communicate.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.CommunicateOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Communicate) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 1;
+        onChanged();;
+        return commBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Map, com.alibaba.pegasus.service.job.protocol.JobClient.Map.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.MapOrBuilder> mapBuilder_;
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       * @return Whether the map field is set.
+       */
+      @java.lang.Override
+      public boolean hasMap() {
+        return opKindCase_ == 3;
+      }
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       * @return The map.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Map getMap() {
+        if (mapBuilder_ == null) {
+          if (opKindCase_ == 3) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 3) {
+            return mapBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       */
+      public Builder setMap(com.alibaba.pegasus.service.job.protocol.JobClient.Map value) {
+        if (mapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          mapBuilder_.setMessage(value);
+        }
+        opKindCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       */
+      public Builder setMap(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Map.Builder builderForValue) {
+        if (mapBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          mapBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       */
+      public Builder mergeMap(com.alibaba.pegasus.service.job.protocol.JobClient.Map value) {
+        if (mapBuilder_ == null) {
+          if (opKindCase_ == 3 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Map.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 3) {
+            mapBuilder_.mergeFrom(value);
+          }
+          mapBuilder_.setMessage(value);
+        }
+        opKindCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       */
+      public Builder clearMap() {
+        if (mapBuilder_ == null) {
+          if (opKindCase_ == 3) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 3) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          mapBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Map.Builder getMapBuilder() {
+        return getMapFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.MapOrBuilder getMapOrBuilder() {
+        if ((opKindCase_ == 3) && (mapBuilder_ != null)) {
+          return mapBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 3) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Map map = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Map, com.alibaba.pegasus.service.job.protocol.JobClient.Map.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.MapOrBuilder> 
+          getMapFieldBuilder() {
+        if (mapBuilder_ == null) {
+          if (!(opKindCase_ == 3)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Map.getDefaultInstance();
+          }
+          mapBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Map, com.alibaba.pegasus.service.job.protocol.JobClient.Map.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.MapOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Map) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 3;
+        onChanged();;
+        return mapBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder> flatMapBuilder_;
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       * @return Whether the flatMap field is set.
+       */
+      @java.lang.Override
+      public boolean hasFlatMap() {
+        return opKindCase_ == 4;
+      }
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       * @return The flatMap.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap getFlatMap() {
+        if (flatMapBuilder_ == null) {
+          if (opKindCase_ == 4) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 4) {
+            return flatMapBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       */
+      public Builder setFlatMap(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap value) {
+        if (flatMapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          flatMapBuilder_.setMessage(value);
+        }
+        opKindCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       */
+      public Builder setFlatMap(
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder builderForValue) {
+        if (flatMapBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          flatMapBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       */
+      public Builder mergeFlatMap(com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap value) {
+        if (flatMapBuilder_ == null) {
+          if (opKindCase_ == 4 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 4) {
+            flatMapBuilder_.mergeFrom(value);
+          }
+          flatMapBuilder_.setMessage(value);
+        }
+        opKindCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       */
+      public Builder clearFlatMap() {
+        if (flatMapBuilder_ == null) {
+          if (opKindCase_ == 4) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 4) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          flatMapBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder getFlatMapBuilder() {
+        return getFlatMapFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder getFlatMapOrBuilder() {
+        if ((opKindCase_ == 4) && (flatMapBuilder_ != null)) {
+          return flatMapBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 4) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.FlatMap flat_map = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder> 
+          getFlatMapFieldBuilder() {
+        if (flatMapBuilder_ == null) {
+          if (!(opKindCase_ == 4)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.getDefaultInstance();
+          }
+          flatMapBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FlatMapOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.FlatMap) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 4;
+        onChanged();;
+        return flatMapBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder> filterBuilder_;
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       * @return Whether the filter field is set.
+       */
+      @java.lang.Override
+      public boolean hasFilter() {
+        return opKindCase_ == 5;
+      }
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       * @return The filter.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter getFilter() {
+        if (filterBuilder_ == null) {
+          if (opKindCase_ == 5) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 5) {
+            return filterBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       */
+      public Builder setFilter(com.alibaba.pegasus.service.job.protocol.JobClient.Filter value) {
+        if (filterBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          filterBuilder_.setMessage(value);
+        }
+        opKindCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       */
+      public Builder setFilter(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder builderForValue) {
+        if (filterBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          filterBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       */
+      public Builder mergeFilter(com.alibaba.pegasus.service.job.protocol.JobClient.Filter value) {
+        if (filterBuilder_ == null) {
+          if (opKindCase_ == 5 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Filter.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 5) {
+            filterBuilder_.mergeFrom(value);
+          }
+          filterBuilder_.setMessage(value);
+        }
+        opKindCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       */
+      public Builder clearFilter() {
+        if (filterBuilder_ == null) {
+          if (opKindCase_ == 5) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 5) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          filterBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder getFilterBuilder() {
+        return getFilterFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder getFilterOrBuilder() {
+        if ((opKindCase_ == 5) && (filterBuilder_ != null)) {
+          return filterBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 5) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Filter filter = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder> 
+          getFilterFieldBuilder() {
+        if (filterBuilder_ == null) {
+          if (!(opKindCase_ == 5)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Filter.getDefaultInstance();
+          }
+          filterBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Filter, com.alibaba.pegasus.service.job.protocol.JobClient.Filter.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Filter) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 5;
+        onChanged();;
+        return filterBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Limit, com.alibaba.pegasus.service.job.protocol.JobClient.Limit.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LimitOrBuilder> limitBuilder_;
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       * @return Whether the limit field is set.
+       */
+      @java.lang.Override
+      public boolean hasLimit() {
+        return opKindCase_ == 6;
+      }
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Limit getLimit() {
+        if (limitBuilder_ == null) {
+          if (opKindCase_ == 6) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 6) {
+            return limitBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       */
+      public Builder setLimit(com.alibaba.pegasus.service.job.protocol.JobClient.Limit value) {
+        if (limitBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          limitBuilder_.setMessage(value);
+        }
+        opKindCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       */
+      public Builder setLimit(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Limit.Builder builderForValue) {
+        if (limitBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          limitBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       */
+      public Builder mergeLimit(com.alibaba.pegasus.service.job.protocol.JobClient.Limit value) {
+        if (limitBuilder_ == null) {
+          if (opKindCase_ == 6 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Limit.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 6) {
+            limitBuilder_.mergeFrom(value);
+          }
+          limitBuilder_.setMessage(value);
+        }
+        opKindCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       */
+      public Builder clearLimit() {
+        if (limitBuilder_ == null) {
+          if (opKindCase_ == 6) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 6) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          limitBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Limit.Builder getLimitBuilder() {
+        return getLimitFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.LimitOrBuilder getLimitOrBuilder() {
+        if ((opKindCase_ == 6) && (limitBuilder_ != null)) {
+          return limitBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 6) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Limit limit = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Limit, com.alibaba.pegasus.service.job.protocol.JobClient.Limit.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LimitOrBuilder> 
+          getLimitFieldBuilder() {
+        if (limitBuilder_ == null) {
+          if (!(opKindCase_ == 6)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Limit.getDefaultInstance();
+          }
+          limitBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Limit, com.alibaba.pegasus.service.job.protocol.JobClient.Limit.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.LimitOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Limit) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 6;
+        onChanged();;
+        return limitBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.SortBy, com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.SortByOrBuilder> sortBuilder_;
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       * @return Whether the sort field is set.
+       */
+      @java.lang.Override
+      public boolean hasSort() {
+        return opKindCase_ == 7;
+      }
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       * @return The sort.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SortBy getSort() {
+        if (sortBuilder_ == null) {
+          if (opKindCase_ == 7) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 7) {
+            return sortBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       */
+      public Builder setSort(com.alibaba.pegasus.service.job.protocol.JobClient.SortBy value) {
+        if (sortBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          sortBuilder_.setMessage(value);
+        }
+        opKindCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       */
+      public Builder setSort(
+          com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.Builder builderForValue) {
+        if (sortBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          sortBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       */
+      public Builder mergeSort(com.alibaba.pegasus.service.job.protocol.JobClient.SortBy value) {
+        if (sortBuilder_ == null) {
+          if (opKindCase_ == 7 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 7) {
+            sortBuilder_.mergeFrom(value);
+          }
+          sortBuilder_.setMessage(value);
+        }
+        opKindCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       */
+      public Builder clearSort() {
+        if (sortBuilder_ == null) {
+          if (opKindCase_ == 7) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 7) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          sortBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.Builder getSortBuilder() {
+        return getSortFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SortByOrBuilder getSortOrBuilder() {
+        if ((opKindCase_ == 7) && (sortBuilder_ != null)) {
+          return sortBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 7) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.SortBy sort = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.SortBy, com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.SortByOrBuilder> 
+          getSortFieldBuilder() {
+        if (sortBuilder_ == null) {
+          if (!(opKindCase_ == 7)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.getDefaultInstance();
+          }
+          sortBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.SortBy, com.alibaba.pegasus.service.job.protocol.JobClient.SortBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.SortByOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.SortBy) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 7;
+        onChanged();;
+        return sortBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Fold, com.alibaba.pegasus.service.job.protocol.JobClient.Fold.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FoldOrBuilder> foldBuilder_;
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       * @return Whether the fold field is set.
+       */
+      @java.lang.Override
+      public boolean hasFold() {
+        return opKindCase_ == 8;
+      }
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       * @return The fold.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Fold getFold() {
+        if (foldBuilder_ == null) {
+          if (opKindCase_ == 8) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 8) {
+            return foldBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       */
+      public Builder setFold(com.alibaba.pegasus.service.job.protocol.JobClient.Fold value) {
+        if (foldBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          foldBuilder_.setMessage(value);
+        }
+        opKindCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       */
+      public Builder setFold(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Fold.Builder builderForValue) {
+        if (foldBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          foldBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       */
+      public Builder mergeFold(com.alibaba.pegasus.service.job.protocol.JobClient.Fold value) {
+        if (foldBuilder_ == null) {
+          if (opKindCase_ == 8 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Fold.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 8) {
+            foldBuilder_.mergeFrom(value);
+          }
+          foldBuilder_.setMessage(value);
+        }
+        opKindCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       */
+      public Builder clearFold() {
+        if (foldBuilder_ == null) {
+          if (opKindCase_ == 8) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 8) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          foldBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Fold.Builder getFoldBuilder() {
+        return getFoldFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FoldOrBuilder getFoldOrBuilder() {
+        if ((opKindCase_ == 8) && (foldBuilder_ != null)) {
+          return foldBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 8) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Fold fold = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Fold, com.alibaba.pegasus.service.job.protocol.JobClient.Fold.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FoldOrBuilder> 
+          getFoldFieldBuilder() {
+        if (foldBuilder_ == null) {
+          if (!(opKindCase_ == 8)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Fold.getDefaultInstance();
+          }
+          foldBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Fold, com.alibaba.pegasus.service.job.protocol.JobClient.Fold.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FoldOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Fold) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 8;
+        onChanged();;
+        return foldBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy, com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.GroupByOrBuilder> groupBuilder_;
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       * @return Whether the group field is set.
+       */
+      @java.lang.Override
+      public boolean hasGroup() {
+        return opKindCase_ == 9;
+      }
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       * @return The group.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy getGroup() {
+        if (groupBuilder_ == null) {
+          if (opKindCase_ == 9) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 9) {
+            return groupBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       */
+      public Builder setGroup(com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy value) {
+        if (groupBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          groupBuilder_.setMessage(value);
+        }
+        opKindCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       */
+      public Builder setGroup(
+          com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.Builder builderForValue) {
+        if (groupBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          groupBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       */
+      public Builder mergeGroup(com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy value) {
+        if (groupBuilder_ == null) {
+          if (opKindCase_ == 9 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 9) {
+            groupBuilder_.mergeFrom(value);
+          }
+          groupBuilder_.setMessage(value);
+        }
+        opKindCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       */
+      public Builder clearGroup() {
+        if (groupBuilder_ == null) {
+          if (opKindCase_ == 9) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 9) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          groupBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.Builder getGroupBuilder() {
+        return getGroupFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.GroupByOrBuilder getGroupOrBuilder() {
+        if ((opKindCase_ == 9) && (groupBuilder_ != null)) {
+          return groupBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 9) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.GroupBy group = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy, com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.GroupByOrBuilder> 
+          getGroupFieldBuilder() {
+        if (groupBuilder_ == null) {
+          if (!(opKindCase_ == 9)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.getDefaultInstance();
+          }
+          groupBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy, com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.GroupByOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.GroupBy) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 9;
+        onChanged();;
+        return groupBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Merge, com.alibaba.pegasus.service.job.protocol.JobClient.Merge.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.MergeOrBuilder> mergeBuilder_;
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       * @return Whether the merge field is set.
+       */
+      @java.lang.Override
+      public boolean hasMerge() {
+        return opKindCase_ == 10;
+      }
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       * @return The merge.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Merge getMerge() {
+        if (mergeBuilder_ == null) {
+          if (opKindCase_ == 10) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 10) {
+            return mergeBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       */
+      public Builder setMerge(com.alibaba.pegasus.service.job.protocol.JobClient.Merge value) {
+        if (mergeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          mergeBuilder_.setMessage(value);
+        }
+        opKindCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       */
+      public Builder setMerge(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Merge.Builder builderForValue) {
+        if (mergeBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          mergeBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       */
+      public Builder mergeMerge(com.alibaba.pegasus.service.job.protocol.JobClient.Merge value) {
+        if (mergeBuilder_ == null) {
+          if (opKindCase_ == 10 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Merge.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 10) {
+            mergeBuilder_.mergeFrom(value);
+          }
+          mergeBuilder_.setMessage(value);
+        }
+        opKindCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       */
+      public Builder clearMerge() {
+        if (mergeBuilder_ == null) {
+          if (opKindCase_ == 10) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 10) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          mergeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Merge.Builder getMergeBuilder() {
+        return getMergeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.MergeOrBuilder getMergeOrBuilder() {
+        if ((opKindCase_ == 10) && (mergeBuilder_ != null)) {
+          return mergeBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 10) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Merge merge = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Merge, com.alibaba.pegasus.service.job.protocol.JobClient.Merge.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.MergeOrBuilder> 
+          getMergeFieldBuilder() {
+        if (mergeBuilder_ == null) {
+          if (!(opKindCase_ == 10)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Merge.getDefaultInstance();
+          }
+          mergeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Merge, com.alibaba.pegasus.service.job.protocol.JobClient.Merge.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.MergeOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Merge) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 10;
+        onChanged();;
+        return mergeBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Iteration, com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.IterationOrBuilder> iterateBuilder_;
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       * @return Whether the iterate field is set.
+       */
+      @java.lang.Override
+      public boolean hasIterate() {
+        return opKindCase_ == 11;
+      }
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       * @return The iterate.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Iteration getIterate() {
+        if (iterateBuilder_ == null) {
+          if (opKindCase_ == 11) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 11) {
+            return iterateBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       */
+      public Builder setIterate(com.alibaba.pegasus.service.job.protocol.JobClient.Iteration value) {
+        if (iterateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          iterateBuilder_.setMessage(value);
+        }
+        opKindCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       */
+      public Builder setIterate(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.Builder builderForValue) {
+        if (iterateBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          iterateBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       */
+      public Builder mergeIterate(com.alibaba.pegasus.service.job.protocol.JobClient.Iteration value) {
+        if (iterateBuilder_ == null) {
+          if (opKindCase_ == 11 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 11) {
+            iterateBuilder_.mergeFrom(value);
+          }
+          iterateBuilder_.setMessage(value);
+        }
+        opKindCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       */
+      public Builder clearIterate() {
+        if (iterateBuilder_ == null) {
+          if (opKindCase_ == 11) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 11) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          iterateBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.Builder getIterateBuilder() {
+        return getIterateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.IterationOrBuilder getIterateOrBuilder() {
+        if ((opKindCase_ == 11) && (iterateBuilder_ != null)) {
+          return iterateBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 11) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Iteration iterate = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Iteration, com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.IterationOrBuilder> 
+          getIterateFieldBuilder() {
+        if (iterateBuilder_ == null) {
+          if (!(opKindCase_ == 11)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.getDefaultInstance();
+          }
+          iterateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Iteration, com.alibaba.pegasus.service.job.protocol.JobClient.Iteration.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.IterationOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Iteration) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 11;
+        onChanged();;
+        return iterateBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Apply, com.alibaba.pegasus.service.job.protocol.JobClient.Apply.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.ApplyOrBuilder> applyBuilder_;
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       * @return Whether the apply field is set.
+       */
+      @java.lang.Override
+      public boolean hasApply() {
+        return opKindCase_ == 12;
+      }
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       * @return The apply.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Apply getApply() {
+        if (applyBuilder_ == null) {
+          if (opKindCase_ == 12) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 12) {
+            return applyBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       */
+      public Builder setApply(com.alibaba.pegasus.service.job.protocol.JobClient.Apply value) {
+        if (applyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          applyBuilder_.setMessage(value);
+        }
+        opKindCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       */
+      public Builder setApply(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Apply.Builder builderForValue) {
+        if (applyBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          applyBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       */
+      public Builder mergeApply(com.alibaba.pegasus.service.job.protocol.JobClient.Apply value) {
+        if (applyBuilder_ == null) {
+          if (opKindCase_ == 12 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Apply.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 12) {
+            applyBuilder_.mergeFrom(value);
+          }
+          applyBuilder_.setMessage(value);
+        }
+        opKindCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       */
+      public Builder clearApply() {
+        if (applyBuilder_ == null) {
+          if (opKindCase_ == 12) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 12) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          applyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Apply.Builder getApplyBuilder() {
+        return getApplyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.ApplyOrBuilder getApplyOrBuilder() {
+        if ((opKindCase_ == 12) && (applyBuilder_ != null)) {
+          return applyBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 12) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Apply apply = 12;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Apply, com.alibaba.pegasus.service.job.protocol.JobClient.Apply.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.ApplyOrBuilder> 
+          getApplyFieldBuilder() {
+        if (applyBuilder_ == null) {
+          if (!(opKindCase_ == 12)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Apply.getDefaultInstance();
+          }
+          applyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Apply, com.alibaba.pegasus.service.job.protocol.JobClient.Apply.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.ApplyOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Apply) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 12;
+        onChanged();;
+        return applyBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Dedup, com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.DedupOrBuilder> dedupBuilder_;
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       * @return Whether the dedup field is set.
+       */
+      @java.lang.Override
+      public boolean hasDedup() {
+        return opKindCase_ == 13;
+      }
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       * @return The dedup.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Dedup getDedup() {
+        if (dedupBuilder_ == null) {
+          if (opKindCase_ == 13) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 13) {
+            return dedupBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       */
+      public Builder setDedup(com.alibaba.pegasus.service.job.protocol.JobClient.Dedup value) {
+        if (dedupBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          dedupBuilder_.setMessage(value);
+        }
+        opKindCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       */
+      public Builder setDedup(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.Builder builderForValue) {
+        if (dedupBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          dedupBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       */
+      public Builder mergeDedup(com.alibaba.pegasus.service.job.protocol.JobClient.Dedup value) {
+        if (dedupBuilder_ == null) {
+          if (opKindCase_ == 13 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 13) {
+            dedupBuilder_.mergeFrom(value);
+          }
+          dedupBuilder_.setMessage(value);
+        }
+        opKindCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       */
+      public Builder clearDedup() {
+        if (dedupBuilder_ == null) {
+          if (opKindCase_ == 13) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 13) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          dedupBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.Builder getDedupBuilder() {
+        return getDedupFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.DedupOrBuilder getDedupOrBuilder() {
+        if ((opKindCase_ == 13) && (dedupBuilder_ != null)) {
+          return dedupBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 13) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Dedup dedup = 13;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Dedup, com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.DedupOrBuilder> 
+          getDedupFieldBuilder() {
+        if (dedupBuilder_ == null) {
+          if (!(opKindCase_ == 13)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.getDefaultInstance();
+          }
+          dedupBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Dedup, com.alibaba.pegasus.service.job.protocol.JobClient.Dedup.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.DedupOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Dedup) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 13;
+        onChanged();;
+        return dedupBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply, com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApplyOrBuilder> segApplyBuilder_;
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       * @return Whether the segApply field is set.
+       */
+      @java.lang.Override
+      public boolean hasSegApply() {
+        return opKindCase_ == 14;
+      }
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       * @return The segApply.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply getSegApply() {
+        if (segApplyBuilder_ == null) {
+          if (opKindCase_ == 14) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 14) {
+            return segApplyBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       */
+      public Builder setSegApply(com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply value) {
+        if (segApplyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          segApplyBuilder_.setMessage(value);
+        }
+        opKindCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       */
+      public Builder setSegApply(
+          com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.Builder builderForValue) {
+        if (segApplyBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          segApplyBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       */
+      public Builder mergeSegApply(com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply value) {
+        if (segApplyBuilder_ == null) {
+          if (opKindCase_ == 14 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 14) {
+            segApplyBuilder_.mergeFrom(value);
+          }
+          segApplyBuilder_.setMessage(value);
+        }
+        opKindCase_ = 14;
+        return this;
+      }
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       */
+      public Builder clearSegApply() {
+        if (segApplyBuilder_ == null) {
+          if (opKindCase_ == 14) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 14) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          segApplyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.Builder getSegApplyBuilder() {
+        return getSegApplyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApplyOrBuilder getSegApplyOrBuilder() {
+        if ((opKindCase_ == 14) && (segApplyBuilder_ != null)) {
+          return segApplyBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 14) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.SegmentApply seg_apply = 14;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply, com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApplyOrBuilder> 
+          getSegApplyFieldBuilder() {
+        if (segApplyBuilder_ == null) {
+          if (!(opKindCase_ == 14)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.getDefaultInstance();
+          }
+          segApplyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply, com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApplyOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.SegmentApply) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 14;
+        onChanged();;
+        return segApplyBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Join, com.alibaba.pegasus.service.job.protocol.JobClient.Join.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.JoinOrBuilder> joinBuilder_;
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       * @return Whether the join field is set.
+       */
+      @java.lang.Override
+      public boolean hasJoin() {
+        return opKindCase_ == 15;
+      }
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       * @return The join.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Join getJoin() {
+        if (joinBuilder_ == null) {
+          if (opKindCase_ == 15) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 15) {
+            return joinBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       */
+      public Builder setJoin(com.alibaba.pegasus.service.job.protocol.JobClient.Join value) {
+        if (joinBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          joinBuilder_.setMessage(value);
+        }
+        opKindCase_ = 15;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       */
+      public Builder setJoin(
+          com.alibaba.pegasus.service.job.protocol.JobClient.Join.Builder builderForValue) {
+        if (joinBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          joinBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 15;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       */
+      public Builder mergeJoin(com.alibaba.pegasus.service.job.protocol.JobClient.Join value) {
+        if (joinBuilder_ == null) {
+          if (opKindCase_ == 15 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Join.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 15) {
+            joinBuilder_.mergeFrom(value);
+          }
+          joinBuilder_.setMessage(value);
+        }
+        opKindCase_ = 15;
+        return this;
+      }
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       */
+      public Builder clearJoin() {
+        if (joinBuilder_ == null) {
+          if (opKindCase_ == 15) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 15) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          joinBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.Join.Builder getJoinBuilder() {
+        return getJoinFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.JoinOrBuilder getJoinOrBuilder() {
+        if ((opKindCase_ == 15) && (joinBuilder_ != null)) {
+          return joinBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 15) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.Join join = 15;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.Join, com.alibaba.pegasus.service.job.protocol.JobClient.Join.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.JoinOrBuilder> 
+          getJoinFieldBuilder() {
+        if (joinBuilder_ == null) {
+          if (!(opKindCase_ == 15)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.Join.getDefaultInstance();
+          }
+          joinBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.Join, com.alibaba.pegasus.service.job.protocol.JobClient.Join.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.JoinOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.Join) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 15;
+        onChanged();;
+        return joinBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy, com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.KeyByOrBuilder> keyByBuilder_;
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       * @return Whether the keyBy field is set.
+       */
+      @java.lang.Override
+      public boolean hasKeyBy() {
+        return opKindCase_ == 16;
+      }
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       * @return The keyBy.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy getKeyBy() {
+        if (keyByBuilder_ == null) {
+          if (opKindCase_ == 16) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 16) {
+            return keyByBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       */
+      public Builder setKeyBy(com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy value) {
+        if (keyByBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          keyByBuilder_.setMessage(value);
+        }
+        opKindCase_ = 16;
+        return this;
+      }
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       */
+      public Builder setKeyBy(
+          com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.Builder builderForValue) {
+        if (keyByBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyByBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 16;
+        return this;
+      }
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       */
+      public Builder mergeKeyBy(com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy value) {
+        if (keyByBuilder_ == null) {
+          if (opKindCase_ == 16 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 16) {
+            keyByBuilder_.mergeFrom(value);
+          }
+          keyByBuilder_.setMessage(value);
+        }
+        opKindCase_ = 16;
+        return this;
+      }
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       */
+      public Builder clearKeyBy() {
+        if (keyByBuilder_ == null) {
+          if (opKindCase_ == 16) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 16) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          keyByBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.Builder getKeyByBuilder() {
+        return getKeyByFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.KeyByOrBuilder getKeyByOrBuilder() {
+        if ((opKindCase_ == 16) && (keyByBuilder_ != null)) {
+          return keyByBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 16) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.KeyBy key_by = 16;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy, com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.KeyByOrBuilder> 
+          getKeyByFieldBuilder() {
+        if (keyByBuilder_ == null) {
+          if (!(opKindCase_ == 16)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.getDefaultInstance();
+          }
+          keyByBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy, com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.KeyByOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.KeyBy) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 16;
+        onChanged();;
+        return keyByBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap, com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterMapOrBuilder> filterMapBuilder_;
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       * @return Whether the filterMap field is set.
+       */
+      @java.lang.Override
+      public boolean hasFilterMap() {
+        return opKindCase_ == 17;
+      }
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       * @return The filterMap.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap getFilterMap() {
+        if (filterMapBuilder_ == null) {
+          if (opKindCase_ == 17) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 17) {
+            return filterMapBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       */
+      public Builder setFilterMap(com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap value) {
+        if (filterMapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          filterMapBuilder_.setMessage(value);
+        }
+        opKindCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       */
+      public Builder setFilterMap(
+          com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.Builder builderForValue) {
+        if (filterMapBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          filterMapBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       */
+      public Builder mergeFilterMap(com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap value) {
+        if (filterMapBuilder_ == null) {
+          if (opKindCase_ == 17 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 17) {
+            filterMapBuilder_.mergeFrom(value);
+          }
+          filterMapBuilder_.setMessage(value);
+        }
+        opKindCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       */
+      public Builder clearFilterMap() {
+        if (filterMapBuilder_ == null) {
+          if (opKindCase_ == 17) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 17) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          filterMapBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.Builder getFilterMapBuilder() {
+        return getFilterMapFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.FilterMapOrBuilder getFilterMapOrBuilder() {
+        if ((opKindCase_ == 17) && (filterMapBuilder_ != null)) {
+          return filterMapBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 17) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.FilterMap filter_map = 17;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap, com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterMapOrBuilder> 
+          getFilterMapFieldBuilder() {
+        if (filterMapBuilder_ == null) {
+          if (!(opKindCase_ == 17)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.getDefaultInstance();
+          }
+          filterMapBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap, com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.FilterMapOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.FilterMap) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 17;
+        onChanged();;
+        return filterMapBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit, com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmitOrBuilder> iterateEmitBuilder_;
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       * @return Whether the iterateEmit field is set.
+       */
+      @java.lang.Override
+      public boolean hasIterateEmit() {
+        return opKindCase_ == 18;
+      }
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       * @return The iterateEmit.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit getIterateEmit() {
+        if (iterateEmitBuilder_ == null) {
+          if (opKindCase_ == 18) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance();
+        } else {
+          if (opKindCase_ == 18) {
+            return iterateEmitBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       */
+      public Builder setIterateEmit(com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit value) {
+        if (iterateEmitBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          opKind_ = value;
+          onChanged();
+        } else {
+          iterateEmitBuilder_.setMessage(value);
+        }
+        opKindCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       */
+      public Builder setIterateEmit(
+          com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.Builder builderForValue) {
+        if (iterateEmitBuilder_ == null) {
+          opKind_ = builderForValue.build();
+          onChanged();
+        } else {
+          iterateEmitBuilder_.setMessage(builderForValue.build());
+        }
+        opKindCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       */
+      public Builder mergeIterateEmit(com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit value) {
+        if (iterateEmitBuilder_ == null) {
+          if (opKindCase_ == 18 &&
+              opKind_ != com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance()) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.newBuilder((com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            opKind_ = value;
+          }
+          onChanged();
+        } else {
+          if (opKindCase_ == 18) {
+            iterateEmitBuilder_.mergeFrom(value);
+          }
+          iterateEmitBuilder_.setMessage(value);
+        }
+        opKindCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       */
+      public Builder clearIterateEmit() {
+        if (iterateEmitBuilder_ == null) {
+          if (opKindCase_ == 18) {
+            opKindCase_ = 0;
+            opKind_ = null;
+            onChanged();
+          }
+        } else {
+          if (opKindCase_ == 18) {
+            opKindCase_ = 0;
+            opKind_ = null;
+          }
+          iterateEmitBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.Builder getIterateEmitBuilder() {
+        return getIterateEmitFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmitOrBuilder getIterateEmitOrBuilder() {
+        if ((opKindCase_ == 18) && (iterateEmitBuilder_ != null)) {
+          return iterateEmitBuilder_.getMessageOrBuilder();
+        } else {
+          if (opKindCase_ == 18) {
+            return (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_;
+          }
+          return com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.job_proto.IterationEmit iterate_emit = 18;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit, com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmitOrBuilder> 
+          getIterateEmitFieldBuilder() {
+        if (iterateEmitBuilder_ == null) {
+          if (!(opKindCase_ == 18)) {
+            opKind_ = com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.getDefaultInstance();
+          }
+          iterateEmitBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit, com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmitOrBuilder>(
+                  (com.alibaba.pegasus.service.job.protocol.JobClient.IterationEmit) opKind_,
+                  getParentForChildren(),
+                  isClean());
+          opKind_ = null;
+        }
+        opKindCase_ = 18;
+        onChanged();;
+        return iterateEmitBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.OperatorDef)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.OperatorDef)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<OperatorDef>
+        PARSER = new com.google.protobuf.AbstractParser<OperatorDef>() {
+      @java.lang.Override
+      public OperatorDef parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new OperatorDef(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<OperatorDef> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<OperatorDef> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskPlanOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:job_proto.TaskPlan)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef> 
+        getPlanList();
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef getPlan(int index);
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    int getPlanCount();
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder> 
+        getPlanOrBuilderList();
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder getPlanOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code job_proto.TaskPlan}
+   */
+  public static final class TaskPlan extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:job_proto.TaskPlan)
+      TaskPlanOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskPlan.newBuilder() to construct.
+    private TaskPlan(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskPlan() {
+      plan_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TaskPlan();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskPlan(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                plan_ = new java.util.ArrayList<com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              plan_.add(
+                  input.readMessage(com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          plan_ = java.util.Collections.unmodifiableList(plan_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_TaskPlan_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_TaskPlan_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.class, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder.class);
+    }
+
+    public static final int PLAN_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef> plan_;
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef> getPlanList() {
+      return plan_;
+    }
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder> 
+        getPlanOrBuilderList() {
+      return plan_;
+    }
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    @java.lang.Override
+    public int getPlanCount() {
+      return plan_.size();
+    }
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef getPlan(int index) {
+      return plan_.get(index);
+    }
+    /**
+     * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder getPlanOrBuilder(
+        int index) {
+      return plan_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < plan_.size(); i++) {
+        output.writeMessage(1, plan_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < plan_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, plan_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan other = (com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan) obj;
+
+      if (!getPlanList()
+          .equals(other.getPlanList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPlanCount() > 0) {
+        hash = (37 * hash) + PLAN_FIELD_NUMBER;
+        hash = (53 * hash) + getPlanList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code job_proto.TaskPlan}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:job_proto.TaskPlan)
+        com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlanOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_TaskPlan_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_TaskPlan_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.class, com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPlanFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (planBuilder_ == null) {
+          plan_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          planBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.internal_static_job_proto_TaskPlan_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan build() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan buildPartial() {
+        com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan result = new com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan(this);
+        int from_bitField0_ = bitField0_;
+        if (planBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            plan_ = java.util.Collections.unmodifiableList(plan_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.plan_ = plan_;
+        } else {
+          result.plan_ = planBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan) {
+          return mergeFrom((com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan other) {
+        if (other == com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan.getDefaultInstance()) return this;
+        if (planBuilder_ == null) {
+          if (!other.plan_.isEmpty()) {
+            if (plan_.isEmpty()) {
+              plan_ = other.plan_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePlanIsMutable();
+              plan_.addAll(other.plan_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.plan_.isEmpty()) {
+            if (planBuilder_.isEmpty()) {
+              planBuilder_.dispose();
+              planBuilder_ = null;
+              plan_ = other.plan_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              planBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPlanFieldBuilder() : null;
+            } else {
+              planBuilder_.addAllMessages(other.plan_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef> plan_ =
+        java.util.Collections.emptyList();
+      private void ensurePlanIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          plan_ = new java.util.ArrayList<com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef>(plan_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder> planBuilder_;
+
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef> getPlanList() {
+        if (planBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(plan_);
+        } else {
+          return planBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public int getPlanCount() {
+        if (planBuilder_ == null) {
+          return plan_.size();
+        } else {
+          return planBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef getPlan(int index) {
+        if (planBuilder_ == null) {
+          return plan_.get(index);
+        } else {
+          return planBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder setPlan(
+          int index, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef value) {
+        if (planBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlanIsMutable();
+          plan_.set(index, value);
+          onChanged();
+        } else {
+          planBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder setPlan(
+          int index, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder builderForValue) {
+        if (planBuilder_ == null) {
+          ensurePlanIsMutable();
+          plan_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          planBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder addPlan(com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef value) {
+        if (planBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlanIsMutable();
+          plan_.add(value);
+          onChanged();
+        } else {
+          planBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder addPlan(
+          int index, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef value) {
+        if (planBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlanIsMutable();
+          plan_.add(index, value);
+          onChanged();
+        } else {
+          planBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder addPlan(
+          com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder builderForValue) {
+        if (planBuilder_ == null) {
+          ensurePlanIsMutable();
+          plan_.add(builderForValue.build());
+          onChanged();
+        } else {
+          planBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder addPlan(
+          int index, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder builderForValue) {
+        if (planBuilder_ == null) {
+          ensurePlanIsMutable();
+          plan_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          planBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder addAllPlan(
+          java.lang.Iterable<? extends com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef> values) {
+        if (planBuilder_ == null) {
+          ensurePlanIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, plan_);
+          onChanged();
+        } else {
+          planBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder clearPlan() {
+        if (planBuilder_ == null) {
+          plan_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          planBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public Builder removePlan(int index) {
+        if (planBuilder_ == null) {
+          ensurePlanIsMutable();
+          plan_.remove(index);
+          onChanged();
+        } else {
+          planBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder getPlanBuilder(
+          int index) {
+        return getPlanFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder getPlanOrBuilder(
+          int index) {
+        if (planBuilder_ == null) {
+          return plan_.get(index);  } else {
+          return planBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder> 
+           getPlanOrBuilderList() {
+        if (planBuilder_ != null) {
+          return planBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(plan_);
+        }
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder addPlanBuilder() {
+        return getPlanFieldBuilder().addBuilder(
+            com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder addPlanBuilder(
+          int index) {
+        return getPlanFieldBuilder().addBuilder(
+            index, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .job_proto.OperatorDef plan = 1;</code>
+       */
+      public java.util.List<com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder> 
+           getPlanBuilderList() {
+        return getPlanFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder> 
+          getPlanFieldBuilder() {
+        if (planBuilder_ == null) {
+          planBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDef.Builder, com.alibaba.pegasus.service.job.protocol.JobClient.OperatorDefOrBuilder>(
+                  plan_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          plan_ = null;
+        }
+        return planBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:job_proto.TaskPlan)
+    }
+
+    // @@protoc_insertion_point(class_scope:job_proto.TaskPlan)
+    private static final com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan();
+    }
+
+    public static com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskPlan>
+        PARSER = new com.google.protobuf.AbstractParser<TaskPlan>() {
+      @java.lang.Override
+      public TaskPlan parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskPlan(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskPlan> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskPlan> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.job.protocol.JobClient.TaskPlan getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Repartition_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Repartition_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Broadcast_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Broadcast_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Aggregate_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Aggregate_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Communicate_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Communicate_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Source_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Source_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Map_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Map_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_FlatMap_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_FlatMap_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Filter_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Filter_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Sink_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Sink_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_LeftJoin_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_LeftJoin_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Limit_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Limit_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Dedup_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Dedup_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_SortBy_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_SortBy_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Fold_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Fold_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_GroupBy_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_GroupBy_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Merge_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Merge_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Iteration_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Iteration_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_IterationEmit_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_IterationEmit_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Apply_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Apply_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_SegmentApply_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_SegmentApply_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_Join_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_Join_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_KeyBy_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_KeyBy_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_FilterMap_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_FilterMap_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_OperatorDef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_OperatorDef_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_job_proto_TaskPlan_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_job_proto_TaskPlan_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\016job_plan.proto\022\tjob_proto\"\037\n\013Repartiti" +
+      "on\022\020\n\010resource\030\001 \001(\014\"\035\n\tBroadcast\022\020\n\010res" +
+      "ource\030\001 \001(\014\"\033\n\tAggregate\022\016\n\006target\030\001 \001(\r" +
+      "\"\231\001\n\013Communicate\022,\n\nto_another\030\001 \001(\0132\026.j" +
+      "ob_proto.RepartitionH\000\022)\n\tto_others\030\002 \001(" +
+      "\0132\024.job_proto.BroadcastH\000\022&\n\006to_one\030\003 \001(" +
+      "\0132\024.job_proto.AggregateH\000B\t\n\007ch_kind\"\032\n\006" +
+      "Source\022\020\n\010resource\030\001 \001(\014\"\027\n\003Map\022\020\n\010resou" +
+      "rce\030\001 \001(\014\"\033\n\007FlatMap\022\020\n\010resource\030\001 \001(\014\"\032" +
+      "\n\006Filter\022\020\n\010resource\030\001 \001(\014\"\030\n\004Sink\022\020\n\010re" +
+      "source\030\001 \001(\014\"\034\n\010LeftJoin\022\020\n\010resource\030\001 \001" +
+      "(\014\"\026\n\005Limit\022\r\n\005limit\030\002 \001(\r\"\031\n\005Dedup\022\020\n\010r" +
+      "esource\030\001 \001(\014\"(\n\006SortBy\022\r\n\005limit\030\001 \001(\003\022\017" +
+      "\n\007compare\030\002 \001(\014\"a\n\004Fold\022#\n\005accum\030\001 \001(\0162\024" +
+      ".job_proto.AccumKind\022\020\n\010resource\030\002 \001(\014\022\"" +
+      "\n\006unfold\030\003 \001(\0132\022.job_proto.FlatMap\"d\n\007Gr" +
+      "oupBy\022#\n\005accum\030\001 \001(\0162\024.job_proto.AccumKi" +
+      "nd\022\020\n\010resource\030\002 \001(\014\022\"\n\006unfold\030\003 \001(\0132\022.j" +
+      "ob_proto.FlatMap\"+\n\005Merge\022\"\n\005tasks\030\001 \003(\013" +
+      "2\023.job_proto.TaskPlan\"c\n\tIteration\022\021\n\tma" +
+      "x_iters\030\001 \001(\r\022 \n\005until\030\002 \001(\0132\021.job_proto" +
+      ".Filter\022!\n\004body\030\003 \001(\0132\023.job_proto.TaskPl" +
+      "an\"g\n\rIterationEmit\022\021\n\tmax_iters\030\001 \001(\r\022 " +
+      "\n\005until\030\002 \001(\0132\021.job_proto.Filter\022!\n\004body" +
+      "\030\003 \001(\0132\023.job_proto.TaskPlan\"M\n\005Apply\022!\n\004" +
+      "join\030\001 \001(\0132\023.job_proto.LeftJoin\022!\n\004task\030" +
+      "\002 \001(\0132\023.job_proto.TaskPlan\"T\n\014SegmentApp" +
+      "ly\022!\n\004join\030\001 \001(\0132\023.job_proto.LeftJoin\022!\n" +
+      "\004task\030\002 \001(\0132\023.job_proto.TaskPlan\"\370\001\n\004Joi" +
+      "n\022&\n\004kind\030\001 \001(\0162\030.job_proto.Join.JoinKin" +
+      "d\022\020\n\010resource\030\002 \001(\014\022&\n\tleft_task\030\003 \001(\0132\023" +
+      ".job_proto.TaskPlan\022\'\n\nright_task\030\004 \001(\0132" +
+      "\023.job_proto.TaskPlan\"e\n\010JoinKind\022\t\n\005INNE" +
+      "R\020\000\022\016\n\nLEFT_OUTER\020\001\022\017\n\013RIGHT_OUTER\020\002\022\016\n\n" +
+      "FULL_OUTER\020\003\022\010\n\004SEMI\020\004\022\010\n\004ANTI\020\005\022\t\n\005TIME" +
+      "S\020\006\"\035\n\005KeyBy\022\024\n\014key_selector\030\002 \001(\014\"\035\n\tFi" +
+      "lterMap\022\020\n\010resource\030\001 \001(\014\"\233\005\n\013OperatorDe" +
+      "f\022&\n\004comm\030\001 \001(\0132\026.job_proto.CommunicateH" +
+      "\000\022\035\n\003map\030\003 \001(\0132\016.job_proto.MapH\000\022&\n\010flat" +
+      "_map\030\004 \001(\0132\022.job_proto.FlatMapH\000\022#\n\006filt" +
+      "er\030\005 \001(\0132\021.job_proto.FilterH\000\022!\n\005limit\030\006" +
+      " \001(\0132\020.job_proto.LimitH\000\022!\n\004sort\030\007 \001(\0132\021" +
+      ".job_proto.SortByH\000\022\037\n\004fold\030\010 \001(\0132\017.job_" +
+      "proto.FoldH\000\022#\n\005group\030\t \001(\0132\022.job_proto." +
+      "GroupByH\000\022!\n\005merge\030\n \001(\0132\020.job_proto.Mer" +
+      "geH\000\022\'\n\007iterate\030\013 \001(\0132\024.job_proto.Iterat" +
+      "ionH\000\022!\n\005apply\030\014 \001(\0132\020.job_proto.ApplyH\000" +
+      "\022!\n\005dedup\030\r \001(\0132\020.job_proto.DedupH\000\022,\n\ts" +
+      "eg_apply\030\016 \001(\0132\027.job_proto.SegmentApplyH" +
+      "\000\022\037\n\004join\030\017 \001(\0132\017.job_proto.JoinH\000\022\"\n\006ke" +
+      "y_by\030\020 \001(\0132\020.job_proto.KeyByH\000\022*\n\nfilter" +
+      "_map\030\021 \001(\0132\024.job_proto.FilterMapH\000\0220\n\014it" +
+      "erate_emit\030\022 \001(\0132\030.job_proto.IterationEm" +
+      "itH\000B\t\n\007op_kind\"0\n\010TaskPlan\022$\n\004plan\030\001 \003(" +
+      "\0132\026.job_proto.OperatorDef*T\n\tAccumKind\022\007" +
+      "\n\003CNT\020\000\022\007\n\003SUM\020\001\022\007\n\003MAX\020\002\022\007\n\003MIN\020\003\022\013\n\007TO" +
+      "_LIST\020\004\022\n\n\006TO_SET\020\005\022\n\n\006CUSTOM\020\006B5\n(com.a" +
+      "libaba.pegasus.service.job.protocolB\tJob" +
+      "Clientb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_job_proto_Repartition_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_job_proto_Repartition_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Repartition_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_Broadcast_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_job_proto_Broadcast_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Broadcast_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_Aggregate_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_job_proto_Aggregate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Aggregate_descriptor,
+        new java.lang.String[] { "Target", });
+    internal_static_job_proto_Communicate_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_job_proto_Communicate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Communicate_descriptor,
+        new java.lang.String[] { "ToAnother", "ToOthers", "ToOne", "ChKind", });
+    internal_static_job_proto_Source_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_job_proto_Source_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Source_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_Map_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_job_proto_Map_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Map_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_FlatMap_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_job_proto_FlatMap_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_FlatMap_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_Filter_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_job_proto_Filter_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Filter_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_Sink_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_job_proto_Sink_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Sink_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_LeftJoin_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_job_proto_LeftJoin_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_LeftJoin_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_Limit_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_job_proto_Limit_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Limit_descriptor,
+        new java.lang.String[] { "Limit", });
+    internal_static_job_proto_Dedup_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_job_proto_Dedup_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Dedup_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_SortBy_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_job_proto_SortBy_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_SortBy_descriptor,
+        new java.lang.String[] { "Limit", "Compare", });
+    internal_static_job_proto_Fold_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_job_proto_Fold_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Fold_descriptor,
+        new java.lang.String[] { "Accum", "Resource", "Unfold", });
+    internal_static_job_proto_GroupBy_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_job_proto_GroupBy_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_GroupBy_descriptor,
+        new java.lang.String[] { "Accum", "Resource", "Unfold", });
+    internal_static_job_proto_Merge_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_job_proto_Merge_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Merge_descriptor,
+        new java.lang.String[] { "Tasks", });
+    internal_static_job_proto_Iteration_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_job_proto_Iteration_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Iteration_descriptor,
+        new java.lang.String[] { "MaxIters", "Until", "Body", });
+    internal_static_job_proto_IterationEmit_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_job_proto_IterationEmit_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_IterationEmit_descriptor,
+        new java.lang.String[] { "MaxIters", "Until", "Body", });
+    internal_static_job_proto_Apply_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_job_proto_Apply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Apply_descriptor,
+        new java.lang.String[] { "Join", "Task", });
+    internal_static_job_proto_SegmentApply_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_job_proto_SegmentApply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_SegmentApply_descriptor,
+        new java.lang.String[] { "Join", "Task", });
+    internal_static_job_proto_Join_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_job_proto_Join_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_Join_descriptor,
+        new java.lang.String[] { "Kind", "Resource", "LeftTask", "RightTask", });
+    internal_static_job_proto_KeyBy_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_job_proto_KeyBy_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_KeyBy_descriptor,
+        new java.lang.String[] { "KeySelector", });
+    internal_static_job_proto_FilterMap_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_job_proto_FilterMap_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_FilterMap_descriptor,
+        new java.lang.String[] { "Resource", });
+    internal_static_job_proto_OperatorDef_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_job_proto_OperatorDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_OperatorDef_descriptor,
+        new java.lang.String[] { "Comm", "Map", "FlatMap", "Filter", "Limit", "Sort", "Fold", "Group", "Merge", "Iterate", "Apply", "Dedup", "SegApply", "Join", "KeyBy", "FilterMap", "IterateEmit", "OpKind", });
+    internal_static_job_proto_TaskPlan_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_job_proto_TaskPlan_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_job_proto_TaskPlan_descriptor,
+        new java.lang.String[] { "Plan", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,5600 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: job_service.proto
+
+package com.alibaba.pegasus.service.protocol;
+
+public final class PegasusClient {
+  private PegasusClient() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface EmptyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protocol.Empty)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code protocol.Empty}
+   */
+  public static final class Empty extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protocol.Empty)
+      EmptyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Empty.newBuilder() to construct.
+    private Empty(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Empty() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Empty();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Empty(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Empty_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Empty_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.protocol.PegasusClient.Empty.class, com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.protocol.PegasusClient.Empty)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.protocol.PegasusClient.Empty other = (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.protocol.PegasusClient.Empty prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protocol.Empty}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protocol.Empty)
+        com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Empty_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Empty_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.protocol.PegasusClient.Empty.class, com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.protocol.PegasusClient.Empty.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Empty_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Empty getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Empty build() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.Empty result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Empty buildPartial() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.Empty result = new com.alibaba.pegasus.service.protocol.PegasusClient.Empty(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.protocol.PegasusClient.Empty) {
+          return mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.Empty)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.protocol.PegasusClient.Empty other) {
+        if (other == com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.protocol.PegasusClient.Empty parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protocol.Empty)
+    }
+
+    // @@protoc_insertion_point(class_scope:protocol.Empty)
+    private static final com.alibaba.pegasus.service.protocol.PegasusClient.Empty DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.protocol.PegasusClient.Empty();
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Empty getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Empty>
+        PARSER = new com.google.protobuf.AbstractParser<Empty>() {
+      @java.lang.Override
+      public Empty parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Empty(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Empty> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Empty> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.Empty getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NameOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protocol.Name)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+  }
+  /**
+   * Protobuf type {@code protocol.Name}
+   */
+  public static final class Name extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protocol.Name)
+      NameOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Name.newBuilder() to construct.
+    private Name(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Name() {
+      name_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Name();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Name(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Name_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Name_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.protocol.PegasusClient.Name.class, com.alibaba.pegasus.service.protocol.PegasusClient.Name.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.protocol.PegasusClient.Name)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.protocol.PegasusClient.Name other = (com.alibaba.pegasus.service.protocol.PegasusClient.Name) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.protocol.PegasusClient.Name prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protocol.Name}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protocol.Name)
+        com.alibaba.pegasus.service.protocol.PegasusClient.NameOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Name_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Name_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.protocol.PegasusClient.Name.class, com.alibaba.pegasus.service.protocol.PegasusClient.Name.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.protocol.PegasusClient.Name.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_Name_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Name getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.Name.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Name build() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.Name result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Name buildPartial() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.Name result = new com.alibaba.pegasus.service.protocol.PegasusClient.Name(this);
+        result.name_ = name_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.protocol.PegasusClient.Name) {
+          return mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.Name)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.protocol.PegasusClient.Name other) {
+        if (other == com.alibaba.pegasus.service.protocol.PegasusClient.Name.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.protocol.PegasusClient.Name parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.protocol.PegasusClient.Name) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protocol.Name)
+    }
+
+    // @@protoc_insertion_point(class_scope:protocol.Name)
+    private static final com.alibaba.pegasus.service.protocol.PegasusClient.Name DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.protocol.PegasusClient.Name();
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.Name getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Name>
+        PARSER = new com.google.protobuf.AbstractParser<Name>() {
+      @java.lang.Override
+      public Name parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Name(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Name> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Name> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.Name getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BinaryResourceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protocol.BinaryResource)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>bytes resource = 2;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code protocol.BinaryResource}
+   */
+  public static final class BinaryResource extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protocol.BinaryResource)
+      BinaryResourceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BinaryResource.newBuilder() to construct.
+    private BinaryResource(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BinaryResource() {
+      name_ = "";
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BinaryResource();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BinaryResource(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            case 18: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_BinaryResource_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_BinaryResource_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource.class, com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 2;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!resource_.isEmpty()) {
+        output.writeBytes(2, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource other = (com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protocol.BinaryResource}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protocol.BinaryResource)
+        com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResourceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_BinaryResource_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_BinaryResource_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource.class, com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_BinaryResource_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource build() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource buildPartial() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource result = new com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource(this);
+        result.name_ = name_;
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource) {
+          return mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource other) {
+        if (other == com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 2;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 2;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protocol.BinaryResource)
+    }
+
+    // @@protoc_insertion_point(class_scope:protocol.BinaryResource)
+    private static final com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource();
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BinaryResource>
+        PARSER = new com.google.protobuf.AbstractParser<BinaryResource>() {
+      @java.lang.Override
+      public BinaryResource parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BinaryResource(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BinaryResource> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BinaryResource> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.BinaryResource getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ServerListOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protocol.ServerList)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated uint64 servers = 1;</code>
+     * @return A list containing the servers.
+     */
+    java.util.List<java.lang.Long> getServersList();
+    /**
+     * <code>repeated uint64 servers = 1;</code>
+     * @return The count of servers.
+     */
+    int getServersCount();
+    /**
+     * <code>repeated uint64 servers = 1;</code>
+     * @param index The index of the element to return.
+     * @return The servers at the given index.
+     */
+    long getServers(int index);
+  }
+  /**
+   * Protobuf type {@code protocol.ServerList}
+   */
+  public static final class ServerList extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protocol.ServerList)
+      ServerListOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ServerList.newBuilder() to construct.
+    private ServerList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ServerList() {
+      servers_ = emptyLongList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ServerList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ServerList(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                servers_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              servers_.addLong(input.readUInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                servers_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                servers_.addLong(input.readUInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          servers_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_ServerList_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_ServerList_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.class, com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.Builder.class);
+    }
+
+    public static final int SERVERS_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.LongList servers_;
+    /**
+     * <code>repeated uint64 servers = 1;</code>
+     * @return A list containing the servers.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getServersList() {
+      return servers_;
+    }
+    /**
+     * <code>repeated uint64 servers = 1;</code>
+     * @return The count of servers.
+     */
+    public int getServersCount() {
+      return servers_.size();
+    }
+    /**
+     * <code>repeated uint64 servers = 1;</code>
+     * @param index The index of the element to return.
+     * @return The servers at the given index.
+     */
+    public long getServers(int index) {
+      return servers_.getLong(index);
+    }
+    private int serversMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getServersList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(serversMemoizedSerializedSize);
+      }
+      for (int i = 0; i < servers_.size(); i++) {
+        output.writeUInt64NoTag(servers_.getLong(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < servers_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(servers_.getLong(i));
+        }
+        size += dataSize;
+        if (!getServersList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        serversMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.protocol.PegasusClient.ServerList)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.protocol.PegasusClient.ServerList other = (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) obj;
+
+      if (!getServersList()
+          .equals(other.getServersList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getServersCount() > 0) {
+        hash = (37 * hash) + SERVERS_FIELD_NUMBER;
+        hash = (53 * hash) + getServersList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.protocol.PegasusClient.ServerList prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protocol.ServerList}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protocol.ServerList)
+        com.alibaba.pegasus.service.protocol.PegasusClient.ServerListOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_ServerList_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_ServerList_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.class, com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        servers_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_ServerList_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.ServerList getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.ServerList build() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.ServerList result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.ServerList buildPartial() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.ServerList result = new com.alibaba.pegasus.service.protocol.PegasusClient.ServerList(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          servers_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.servers_ = servers_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) {
+          return mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.ServerList)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.protocol.PegasusClient.ServerList other) {
+        if (other == com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance()) return this;
+        if (!other.servers_.isEmpty()) {
+          if (servers_.isEmpty()) {
+            servers_ = other.servers_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureServersIsMutable();
+            servers_.addAll(other.servers_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.protocol.PegasusClient.ServerList parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.LongList servers_ = emptyLongList();
+      private void ensureServersIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          servers_ = mutableCopy(servers_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated uint64 servers = 1;</code>
+       * @return A list containing the servers.
+       */
+      public java.util.List<java.lang.Long>
+          getServersList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(servers_) : servers_;
+      }
+      /**
+       * <code>repeated uint64 servers = 1;</code>
+       * @return The count of servers.
+       */
+      public int getServersCount() {
+        return servers_.size();
+      }
+      /**
+       * <code>repeated uint64 servers = 1;</code>
+       * @param index The index of the element to return.
+       * @return The servers at the given index.
+       */
+      public long getServers(int index) {
+        return servers_.getLong(index);
+      }
+      /**
+       * <code>repeated uint64 servers = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The servers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServers(
+          int index, long value) {
+        ensureServersIsMutable();
+        servers_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 servers = 1;</code>
+       * @param value The servers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addServers(long value) {
+        ensureServersIsMutable();
+        servers_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 servers = 1;</code>
+       * @param values The servers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllServers(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureServersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, servers_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 servers = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServers() {
+        servers_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protocol.ServerList)
+    }
+
+    // @@protoc_insertion_point(class_scope:protocol.ServerList)
+    private static final com.alibaba.pegasus.service.protocol.PegasusClient.ServerList DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.protocol.PegasusClient.ServerList();
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.ServerList getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ServerList>
+        PARSER = new com.google.protobuf.AbstractParser<ServerList>() {
+      @java.lang.Override
+      public ServerList parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ServerList(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ServerList> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ServerList> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.ServerList getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JobConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protocol.JobConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 job_id = 1;</code>
+     * @return The jobId.
+     */
+    long getJobId();
+
+    /**
+     * <code>string job_name = 2;</code>
+     * @return The jobName.
+     */
+    java.lang.String getJobName();
+    /**
+     * <code>string job_name = 2;</code>
+     * @return The bytes for jobName.
+     */
+    com.google.protobuf.ByteString
+        getJobNameBytes();
+
+    /**
+     * <code>uint32 workers = 3;</code>
+     * @return The workers.
+     */
+    int getWorkers();
+
+    /**
+     * <code>uint64 time_limit = 4;</code>
+     * @return The timeLimit.
+     */
+    long getTimeLimit();
+
+    /**
+     * <code>uint32 batch_size = 5;</code>
+     * @return The batchSize.
+     */
+    int getBatchSize();
+
+    /**
+     * <code>uint32 batch_capacity = 6;</code>
+     * @return The batchCapacity.
+     */
+    int getBatchCapacity();
+
+    /**
+     * <code>uint32 memory_limit = 7;</code>
+     * @return The memoryLimit.
+     */
+    int getMemoryLimit();
+
+    /**
+     * <code>bool trace_enable = 8;</code>
+     * @return The traceEnable.
+     */
+    boolean getTraceEnable();
+
+    /**
+     * <code>.protocol.Empty local = 9;</code>
+     * @return Whether the local field is set.
+     */
+    boolean hasLocal();
+    /**
+     * <code>.protocol.Empty local = 9;</code>
+     * @return The local.
+     */
+    com.alibaba.pegasus.service.protocol.PegasusClient.Empty getLocal();
+    /**
+     * <code>.protocol.Empty local = 9;</code>
+     */
+    com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder getLocalOrBuilder();
+
+    /**
+     * <code>.protocol.ServerList part = 10;</code>
+     * @return Whether the part field is set.
+     */
+    boolean hasPart();
+    /**
+     * <code>.protocol.ServerList part = 10;</code>
+     * @return The part.
+     */
+    com.alibaba.pegasus.service.protocol.PegasusClient.ServerList getPart();
+    /**
+     * <code>.protocol.ServerList part = 10;</code>
+     */
+    com.alibaba.pegasus.service.protocol.PegasusClient.ServerListOrBuilder getPartOrBuilder();
+
+    /**
+     * <code>.protocol.Empty all = 11;</code>
+     * @return Whether the all field is set.
+     */
+    boolean hasAll();
+    /**
+     * <code>.protocol.Empty all = 11;</code>
+     * @return The all.
+     */
+    com.alibaba.pegasus.service.protocol.PegasusClient.Empty getAll();
+    /**
+     * <code>.protocol.Empty all = 11;</code>
+     */
+    com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder getAllOrBuilder();
+
+    public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.ServersCase getServersCase();
+  }
+  /**
+   * Protobuf type {@code protocol.JobConfig}
+   */
+  public static final class JobConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protocol.JobConfig)
+      JobConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use JobConfig.newBuilder() to construct.
+    private JobConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private JobConfig() {
+      jobName_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new JobConfig();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private JobConfig(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              jobId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              jobName_ = s;
+              break;
+            }
+            case 24: {
+
+              workers_ = input.readUInt32();
+              break;
+            }
+            case 32: {
+
+              timeLimit_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+
+              batchSize_ = input.readUInt32();
+              break;
+            }
+            case 48: {
+
+              batchCapacity_ = input.readUInt32();
+              break;
+            }
+            case 56: {
+
+              memoryLimit_ = input.readUInt32();
+              break;
+            }
+            case 64: {
+
+              traceEnable_ = input.readBool();
+              break;
+            }
+            case 74: {
+              com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder subBuilder = null;
+              if (serversCase_ == 9) {
+                subBuilder = ((com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_).toBuilder();
+              }
+              servers_ =
+                  input.readMessage(com.alibaba.pegasus.service.protocol.PegasusClient.Empty.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_);
+                servers_ = subBuilder.buildPartial();
+              }
+              serversCase_ = 9;
+              break;
+            }
+            case 82: {
+              com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.Builder subBuilder = null;
+              if (serversCase_ == 10) {
+                subBuilder = ((com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_).toBuilder();
+              }
+              servers_ =
+                  input.readMessage(com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_);
+                servers_ = subBuilder.buildPartial();
+              }
+              serversCase_ = 10;
+              break;
+            }
+            case 90: {
+              com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder subBuilder = null;
+              if (serversCase_ == 11) {
+                subBuilder = ((com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_).toBuilder();
+              }
+              servers_ =
+                  input.readMessage(com.alibaba.pegasus.service.protocol.PegasusClient.Empty.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_);
+                servers_ = subBuilder.buildPartial();
+              }
+              serversCase_ = 11;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.class, com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.Builder.class);
+    }
+
+    private int serversCase_ = 0;
+    private java.lang.Object servers_;
+    public enum ServersCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      LOCAL(9),
+      PART(10),
+      ALL(11),
+      SERVERS_NOT_SET(0);
+      private final int value;
+      private ServersCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ServersCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ServersCase forNumber(int value) {
+        switch (value) {
+          case 9: return LOCAL;
+          case 10: return PART;
+          case 11: return ALL;
+          case 0: return SERVERS_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ServersCase
+    getServersCase() {
+      return ServersCase.forNumber(
+          serversCase_);
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    private long jobId_;
+    /**
+     * <code>uint64 job_id = 1;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public long getJobId() {
+      return jobId_;
+    }
+
+    public static final int JOB_NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object jobName_;
+    /**
+     * <code>string job_name = 2;</code>
+     * @return The jobName.
+     */
+    @java.lang.Override
+    public java.lang.String getJobName() {
+      java.lang.Object ref = jobName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_name = 2;</code>
+     * @return The bytes for jobName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobNameBytes() {
+      java.lang.Object ref = jobName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int WORKERS_FIELD_NUMBER = 3;
+    private int workers_;
+    /**
+     * <code>uint32 workers = 3;</code>
+     * @return The workers.
+     */
+    @java.lang.Override
+    public int getWorkers() {
+      return workers_;
+    }
+
+    public static final int TIME_LIMIT_FIELD_NUMBER = 4;
+    private long timeLimit_;
+    /**
+     * <code>uint64 time_limit = 4;</code>
+     * @return The timeLimit.
+     */
+    @java.lang.Override
+    public long getTimeLimit() {
+      return timeLimit_;
+    }
+
+    public static final int BATCH_SIZE_FIELD_NUMBER = 5;
+    private int batchSize_;
+    /**
+     * <code>uint32 batch_size = 5;</code>
+     * @return The batchSize.
+     */
+    @java.lang.Override
+    public int getBatchSize() {
+      return batchSize_;
+    }
+
+    public static final int BATCH_CAPACITY_FIELD_NUMBER = 6;
+    private int batchCapacity_;
+    /**
+     * <code>uint32 batch_capacity = 6;</code>
+     * @return The batchCapacity.
+     */
+    @java.lang.Override
+    public int getBatchCapacity() {
+      return batchCapacity_;
+    }
+
+    public static final int MEMORY_LIMIT_FIELD_NUMBER = 7;
+    private int memoryLimit_;
+    /**
+     * <code>uint32 memory_limit = 7;</code>
+     * @return The memoryLimit.
+     */
+    @java.lang.Override
+    public int getMemoryLimit() {
+      return memoryLimit_;
+    }
+
+    public static final int TRACE_ENABLE_FIELD_NUMBER = 8;
+    private boolean traceEnable_;
+    /**
+     * <code>bool trace_enable = 8;</code>
+     * @return The traceEnable.
+     */
+    @java.lang.Override
+    public boolean getTraceEnable() {
+      return traceEnable_;
+    }
+
+    public static final int LOCAL_FIELD_NUMBER = 9;
+    /**
+     * <code>.protocol.Empty local = 9;</code>
+     * @return Whether the local field is set.
+     */
+    @java.lang.Override
+    public boolean hasLocal() {
+      return serversCase_ == 9;
+    }
+    /**
+     * <code>.protocol.Empty local = 9;</code>
+     * @return The local.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.Empty getLocal() {
+      if (serversCase_ == 9) {
+         return (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_;
+      }
+      return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+    }
+    /**
+     * <code>.protocol.Empty local = 9;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder getLocalOrBuilder() {
+      if (serversCase_ == 9) {
+         return (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_;
+      }
+      return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+    }
+
+    public static final int PART_FIELD_NUMBER = 10;
+    /**
+     * <code>.protocol.ServerList part = 10;</code>
+     * @return Whether the part field is set.
+     */
+    @java.lang.Override
+    public boolean hasPart() {
+      return serversCase_ == 10;
+    }
+    /**
+     * <code>.protocol.ServerList part = 10;</code>
+     * @return The part.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.ServerList getPart() {
+      if (serversCase_ == 10) {
+         return (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_;
+      }
+      return com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance();
+    }
+    /**
+     * <code>.protocol.ServerList part = 10;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.ServerListOrBuilder getPartOrBuilder() {
+      if (serversCase_ == 10) {
+         return (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_;
+      }
+      return com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance();
+    }
+
+    public static final int ALL_FIELD_NUMBER = 11;
+    /**
+     * <code>.protocol.Empty all = 11;</code>
+     * @return Whether the all field is set.
+     */
+    @java.lang.Override
+    public boolean hasAll() {
+      return serversCase_ == 11;
+    }
+    /**
+     * <code>.protocol.Empty all = 11;</code>
+     * @return The all.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.Empty getAll() {
+      if (serversCase_ == 11) {
+         return (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_;
+      }
+      return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+    }
+    /**
+     * <code>.protocol.Empty all = 11;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder getAllOrBuilder() {
+      if (serversCase_ == 11) {
+         return (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_;
+      }
+      return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (jobId_ != 0L) {
+        output.writeUInt64(1, jobId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, jobName_);
+      }
+      if (workers_ != 0) {
+        output.writeUInt32(3, workers_);
+      }
+      if (timeLimit_ != 0L) {
+        output.writeUInt64(4, timeLimit_);
+      }
+      if (batchSize_ != 0) {
+        output.writeUInt32(5, batchSize_);
+      }
+      if (batchCapacity_ != 0) {
+        output.writeUInt32(6, batchCapacity_);
+      }
+      if (memoryLimit_ != 0) {
+        output.writeUInt32(7, memoryLimit_);
+      }
+      if (traceEnable_ != false) {
+        output.writeBool(8, traceEnable_);
+      }
+      if (serversCase_ == 9) {
+        output.writeMessage(9, (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_);
+      }
+      if (serversCase_ == 10) {
+        output.writeMessage(10, (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_);
+      }
+      if (serversCase_ == 11) {
+        output.writeMessage(11, (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (jobId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, jobId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, jobName_);
+      }
+      if (workers_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, workers_);
+      }
+      if (timeLimit_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, timeLimit_);
+      }
+      if (batchSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, batchSize_);
+      }
+      if (batchCapacity_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, batchCapacity_);
+      }
+      if (memoryLimit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, memoryLimit_);
+      }
+      if (traceEnable_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, traceEnable_);
+      }
+      if (serversCase_ == 9) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_);
+      }
+      if (serversCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_);
+      }
+      if (serversCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig other = (com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig) obj;
+
+      if (getJobId()
+          != other.getJobId()) return false;
+      if (!getJobName()
+          .equals(other.getJobName())) return false;
+      if (getWorkers()
+          != other.getWorkers()) return false;
+      if (getTimeLimit()
+          != other.getTimeLimit()) return false;
+      if (getBatchSize()
+          != other.getBatchSize()) return false;
+      if (getBatchCapacity()
+          != other.getBatchCapacity()) return false;
+      if (getMemoryLimit()
+          != other.getMemoryLimit()) return false;
+      if (getTraceEnable()
+          != other.getTraceEnable()) return false;
+      if (!getServersCase().equals(other.getServersCase())) return false;
+      switch (serversCase_) {
+        case 9:
+          if (!getLocal()
+              .equals(other.getLocal())) return false;
+          break;
+        case 10:
+          if (!getPart()
+              .equals(other.getPart())) return false;
+          break;
+        case 11:
+          if (!getAll()
+              .equals(other.getAll())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getJobId());
+      hash = (37 * hash) + JOB_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getJobName().hashCode();
+      hash = (37 * hash) + WORKERS_FIELD_NUMBER;
+      hash = (53 * hash) + getWorkers();
+      hash = (37 * hash) + TIME_LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimeLimit());
+      hash = (37 * hash) + BATCH_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getBatchSize();
+      hash = (37 * hash) + BATCH_CAPACITY_FIELD_NUMBER;
+      hash = (53 * hash) + getBatchCapacity();
+      hash = (37 * hash) + MEMORY_LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getMemoryLimit();
+      hash = (37 * hash) + TRACE_ENABLE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getTraceEnable());
+      switch (serversCase_) {
+        case 9:
+          hash = (37 * hash) + LOCAL_FIELD_NUMBER;
+          hash = (53 * hash) + getLocal().hashCode();
+          break;
+        case 10:
+          hash = (37 * hash) + PART_FIELD_NUMBER;
+          hash = (53 * hash) + getPart().hashCode();
+          break;
+        case 11:
+          hash = (37 * hash) + ALL_FIELD_NUMBER;
+          hash = (53 * hash) + getAll().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protocol.JobConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protocol.JobConfig)
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.class, com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        jobId_ = 0L;
+
+        jobName_ = "";
+
+        workers_ = 0;
+
+        timeLimit_ = 0L;
+
+        batchSize_ = 0;
+
+        batchCapacity_ = 0;
+
+        memoryLimit_ = 0;
+
+        traceEnable_ = false;
+
+        serversCase_ = 0;
+        servers_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig build() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig buildPartial() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig result = new com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig(this);
+        result.jobId_ = jobId_;
+        result.jobName_ = jobName_;
+        result.workers_ = workers_;
+        result.timeLimit_ = timeLimit_;
+        result.batchSize_ = batchSize_;
+        result.batchCapacity_ = batchCapacity_;
+        result.memoryLimit_ = memoryLimit_;
+        result.traceEnable_ = traceEnable_;
+        if (serversCase_ == 9) {
+          if (localBuilder_ == null) {
+            result.servers_ = servers_;
+          } else {
+            result.servers_ = localBuilder_.build();
+          }
+        }
+        if (serversCase_ == 10) {
+          if (partBuilder_ == null) {
+            result.servers_ = servers_;
+          } else {
+            result.servers_ = partBuilder_.build();
+          }
+        }
+        if (serversCase_ == 11) {
+          if (allBuilder_ == null) {
+            result.servers_ = servers_;
+          } else {
+            result.servers_ = allBuilder_.build();
+          }
+        }
+        result.serversCase_ = serversCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig) {
+          return mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig other) {
+        if (other == com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.getDefaultInstance()) return this;
+        if (other.getJobId() != 0L) {
+          setJobId(other.getJobId());
+        }
+        if (!other.getJobName().isEmpty()) {
+          jobName_ = other.jobName_;
+          onChanged();
+        }
+        if (other.getWorkers() != 0) {
+          setWorkers(other.getWorkers());
+        }
+        if (other.getTimeLimit() != 0L) {
+          setTimeLimit(other.getTimeLimit());
+        }
+        if (other.getBatchSize() != 0) {
+          setBatchSize(other.getBatchSize());
+        }
+        if (other.getBatchCapacity() != 0) {
+          setBatchCapacity(other.getBatchCapacity());
+        }
+        if (other.getMemoryLimit() != 0) {
+          setMemoryLimit(other.getMemoryLimit());
+        }
+        if (other.getTraceEnable() != false) {
+          setTraceEnable(other.getTraceEnable());
+        }
+        switch (other.getServersCase()) {
+          case LOCAL: {
+            mergeLocal(other.getLocal());
+            break;
+          }
+          case PART: {
+            mergePart(other.getPart());
+            break;
+          }
+          case ALL: {
+            mergeAll(other.getAll());
+            break;
+          }
+          case SERVERS_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int serversCase_ = 0;
+      private java.lang.Object servers_;
+      public ServersCase
+          getServersCase() {
+        return ServersCase.forNumber(
+            serversCase_);
+      }
+
+      public Builder clearServers() {
+        serversCase_ = 0;
+        servers_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private long jobId_ ;
+      /**
+       * <code>uint64 job_id = 1;</code>
+       * @return The jobId.
+       */
+      @java.lang.Override
+      public long getJobId() {
+        return jobId_;
+      }
+      /**
+       * <code>uint64 job_id = 1;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(long value) {
+        
+        jobId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 job_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        
+        jobId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object jobName_ = "";
+      /**
+       * <code>string job_name = 2;</code>
+       * @return The jobName.
+       */
+      public java.lang.String getJobName() {
+        java.lang.Object ref = jobName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_name = 2;</code>
+       * @return The bytes for jobName.
+       */
+      public com.google.protobuf.ByteString
+          getJobNameBytes() {
+        java.lang.Object ref = jobName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_name = 2;</code>
+       * @param value The jobName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        jobName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobName() {
+        
+        jobName_ = getDefaultInstance().getJobName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_name = 2;</code>
+       * @param value The bytes for jobName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        jobName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int workers_ ;
+      /**
+       * <code>uint32 workers = 3;</code>
+       * @return The workers.
+       */
+      @java.lang.Override
+      public int getWorkers() {
+        return workers_;
+      }
+      /**
+       * <code>uint32 workers = 3;</code>
+       * @param value The workers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWorkers(int value) {
+        
+        workers_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 workers = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWorkers() {
+        
+        workers_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long timeLimit_ ;
+      /**
+       * <code>uint64 time_limit = 4;</code>
+       * @return The timeLimit.
+       */
+      @java.lang.Override
+      public long getTimeLimit() {
+        return timeLimit_;
+      }
+      /**
+       * <code>uint64 time_limit = 4;</code>
+       * @param value The timeLimit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeLimit(long value) {
+        
+        timeLimit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 time_limit = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeLimit() {
+        
+        timeLimit_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int batchSize_ ;
+      /**
+       * <code>uint32 batch_size = 5;</code>
+       * @return The batchSize.
+       */
+      @java.lang.Override
+      public int getBatchSize() {
+        return batchSize_;
+      }
+      /**
+       * <code>uint32 batch_size = 5;</code>
+       * @param value The batchSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBatchSize(int value) {
+        
+        batchSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 batch_size = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBatchSize() {
+        
+        batchSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int batchCapacity_ ;
+      /**
+       * <code>uint32 batch_capacity = 6;</code>
+       * @return The batchCapacity.
+       */
+      @java.lang.Override
+      public int getBatchCapacity() {
+        return batchCapacity_;
+      }
+      /**
+       * <code>uint32 batch_capacity = 6;</code>
+       * @param value The batchCapacity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBatchCapacity(int value) {
+        
+        batchCapacity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 batch_capacity = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBatchCapacity() {
+        
+        batchCapacity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int memoryLimit_ ;
+      /**
+       * <code>uint32 memory_limit = 7;</code>
+       * @return The memoryLimit.
+       */
+      @java.lang.Override
+      public int getMemoryLimit() {
+        return memoryLimit_;
+      }
+      /**
+       * <code>uint32 memory_limit = 7;</code>
+       * @param value The memoryLimit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMemoryLimit(int value) {
+        
+        memoryLimit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 memory_limit = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMemoryLimit() {
+        
+        memoryLimit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean traceEnable_ ;
+      /**
+       * <code>bool trace_enable = 8;</code>
+       * @return The traceEnable.
+       */
+      @java.lang.Override
+      public boolean getTraceEnable() {
+        return traceEnable_;
+      }
+      /**
+       * <code>bool trace_enable = 8;</code>
+       * @param value The traceEnable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTraceEnable(boolean value) {
+        
+        traceEnable_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool trace_enable = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTraceEnable() {
+        
+        traceEnable_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.protocol.PegasusClient.Empty, com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder> localBuilder_;
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       * @return Whether the local field is set.
+       */
+      @java.lang.Override
+      public boolean hasLocal() {
+        return serversCase_ == 9;
+      }
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       * @return The local.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Empty getLocal() {
+        if (localBuilder_ == null) {
+          if (serversCase_ == 9) {
+            return (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_;
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+        } else {
+          if (serversCase_ == 9) {
+            return localBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       */
+      public Builder setLocal(com.alibaba.pegasus.service.protocol.PegasusClient.Empty value) {
+        if (localBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          servers_ = value;
+          onChanged();
+        } else {
+          localBuilder_.setMessage(value);
+        }
+        serversCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       */
+      public Builder setLocal(
+          com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder builderForValue) {
+        if (localBuilder_ == null) {
+          servers_ = builderForValue.build();
+          onChanged();
+        } else {
+          localBuilder_.setMessage(builderForValue.build());
+        }
+        serversCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       */
+      public Builder mergeLocal(com.alibaba.pegasus.service.protocol.PegasusClient.Empty value) {
+        if (localBuilder_ == null) {
+          if (serversCase_ == 9 &&
+              servers_ != com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance()) {
+            servers_ = com.alibaba.pegasus.service.protocol.PegasusClient.Empty.newBuilder((com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            servers_ = value;
+          }
+          onChanged();
+        } else {
+          if (serversCase_ == 9) {
+            localBuilder_.mergeFrom(value);
+          }
+          localBuilder_.setMessage(value);
+        }
+        serversCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       */
+      public Builder clearLocal() {
+        if (localBuilder_ == null) {
+          if (serversCase_ == 9) {
+            serversCase_ = 0;
+            servers_ = null;
+            onChanged();
+          }
+        } else {
+          if (serversCase_ == 9) {
+            serversCase_ = 0;
+            servers_ = null;
+          }
+          localBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       */
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder getLocalBuilder() {
+        return getLocalFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder getLocalOrBuilder() {
+        if ((serversCase_ == 9) && (localBuilder_ != null)) {
+          return localBuilder_.getMessageOrBuilder();
+        } else {
+          if (serversCase_ == 9) {
+            return (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_;
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protocol.Empty local = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.protocol.PegasusClient.Empty, com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder> 
+          getLocalFieldBuilder() {
+        if (localBuilder_ == null) {
+          if (!(serversCase_ == 9)) {
+            servers_ = com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+          }
+          localBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.protocol.PegasusClient.Empty, com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder>(
+                  (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_,
+                  getParentForChildren(),
+                  isClean());
+          servers_ = null;
+        }
+        serversCase_ = 9;
+        onChanged();;
+        return localBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.protocol.PegasusClient.ServerList, com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.ServerListOrBuilder> partBuilder_;
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       * @return Whether the part field is set.
+       */
+      @java.lang.Override
+      public boolean hasPart() {
+        return serversCase_ == 10;
+      }
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       * @return The part.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.ServerList getPart() {
+        if (partBuilder_ == null) {
+          if (serversCase_ == 10) {
+            return (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_;
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance();
+        } else {
+          if (serversCase_ == 10) {
+            return partBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       */
+      public Builder setPart(com.alibaba.pegasus.service.protocol.PegasusClient.ServerList value) {
+        if (partBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          servers_ = value;
+          onChanged();
+        } else {
+          partBuilder_.setMessage(value);
+        }
+        serversCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       */
+      public Builder setPart(
+          com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.Builder builderForValue) {
+        if (partBuilder_ == null) {
+          servers_ = builderForValue.build();
+          onChanged();
+        } else {
+          partBuilder_.setMessage(builderForValue.build());
+        }
+        serversCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       */
+      public Builder mergePart(com.alibaba.pegasus.service.protocol.PegasusClient.ServerList value) {
+        if (partBuilder_ == null) {
+          if (serversCase_ == 10 &&
+              servers_ != com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance()) {
+            servers_ = com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.newBuilder((com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            servers_ = value;
+          }
+          onChanged();
+        } else {
+          if (serversCase_ == 10) {
+            partBuilder_.mergeFrom(value);
+          }
+          partBuilder_.setMessage(value);
+        }
+        serversCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       */
+      public Builder clearPart() {
+        if (partBuilder_ == null) {
+          if (serversCase_ == 10) {
+            serversCase_ = 0;
+            servers_ = null;
+            onChanged();
+          }
+        } else {
+          if (serversCase_ == 10) {
+            serversCase_ = 0;
+            servers_ = null;
+          }
+          partBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       */
+      public com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.Builder getPartBuilder() {
+        return getPartFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.ServerListOrBuilder getPartOrBuilder() {
+        if ((serversCase_ == 10) && (partBuilder_ != null)) {
+          return partBuilder_.getMessageOrBuilder();
+        } else {
+          if (serversCase_ == 10) {
+            return (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_;
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protocol.ServerList part = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.protocol.PegasusClient.ServerList, com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.ServerListOrBuilder> 
+          getPartFieldBuilder() {
+        if (partBuilder_ == null) {
+          if (!(serversCase_ == 10)) {
+            servers_ = com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.getDefaultInstance();
+          }
+          partBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.protocol.PegasusClient.ServerList, com.alibaba.pegasus.service.protocol.PegasusClient.ServerList.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.ServerListOrBuilder>(
+                  (com.alibaba.pegasus.service.protocol.PegasusClient.ServerList) servers_,
+                  getParentForChildren(),
+                  isClean());
+          servers_ = null;
+        }
+        serversCase_ = 10;
+        onChanged();;
+        return partBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.protocol.PegasusClient.Empty, com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder> allBuilder_;
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       * @return Whether the all field is set.
+       */
+      @java.lang.Override
+      public boolean hasAll() {
+        return serversCase_ == 11;
+      }
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       * @return The all.
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Empty getAll() {
+        if (allBuilder_ == null) {
+          if (serversCase_ == 11) {
+            return (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_;
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+        } else {
+          if (serversCase_ == 11) {
+            return allBuilder_.getMessage();
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       */
+      public Builder setAll(com.alibaba.pegasus.service.protocol.PegasusClient.Empty value) {
+        if (allBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          servers_ = value;
+          onChanged();
+        } else {
+          allBuilder_.setMessage(value);
+        }
+        serversCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       */
+      public Builder setAll(
+          com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder builderForValue) {
+        if (allBuilder_ == null) {
+          servers_ = builderForValue.build();
+          onChanged();
+        } else {
+          allBuilder_.setMessage(builderForValue.build());
+        }
+        serversCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       */
+      public Builder mergeAll(com.alibaba.pegasus.service.protocol.PegasusClient.Empty value) {
+        if (allBuilder_ == null) {
+          if (serversCase_ == 11 &&
+              servers_ != com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance()) {
+            servers_ = com.alibaba.pegasus.service.protocol.PegasusClient.Empty.newBuilder((com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            servers_ = value;
+          }
+          onChanged();
+        } else {
+          if (serversCase_ == 11) {
+            allBuilder_.mergeFrom(value);
+          }
+          allBuilder_.setMessage(value);
+        }
+        serversCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       */
+      public Builder clearAll() {
+        if (allBuilder_ == null) {
+          if (serversCase_ == 11) {
+            serversCase_ = 0;
+            servers_ = null;
+            onChanged();
+          }
+        } else {
+          if (serversCase_ == 11) {
+            serversCase_ = 0;
+            servers_ = null;
+          }
+          allBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       */
+      public com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder getAllBuilder() {
+        return getAllFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder getAllOrBuilder() {
+        if ((serversCase_ == 11) && (allBuilder_ != null)) {
+          return allBuilder_.getMessageOrBuilder();
+        } else {
+          if (serversCase_ == 11) {
+            return (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_;
+          }
+          return com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protocol.Empty all = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.protocol.PegasusClient.Empty, com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder> 
+          getAllFieldBuilder() {
+        if (allBuilder_ == null) {
+          if (!(serversCase_ == 11)) {
+            servers_ = com.alibaba.pegasus.service.protocol.PegasusClient.Empty.getDefaultInstance();
+          }
+          allBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.protocol.PegasusClient.Empty, com.alibaba.pegasus.service.protocol.PegasusClient.Empty.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.EmptyOrBuilder>(
+                  (com.alibaba.pegasus.service.protocol.PegasusClient.Empty) servers_,
+                  getParentForChildren(),
+                  isClean());
+          servers_ = null;
+        }
+        serversCase_ = 11;
+        onChanged();;
+        return allBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protocol.JobConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:protocol.JobConfig)
+    private static final com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig();
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<JobConfig>
+        PARSER = new com.google.protobuf.AbstractParser<JobConfig>() {
+      @java.lang.Override
+      public JobConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new JobConfig(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<JobConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JobConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JobRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protocol.JobRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.protocol.JobConfig conf = 1;</code>
+     * @return Whether the conf field is set.
+     */
+    boolean hasConf();
+    /**
+     * <code>.protocol.JobConfig conf = 1;</code>
+     * @return The conf.
+     */
+    com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig getConf();
+    /**
+     * <code>.protocol.JobConfig conf = 1;</code>
+     */
+    com.alibaba.pegasus.service.protocol.PegasusClient.JobConfigOrBuilder getConfOrBuilder();
+
+    /**
+     * <code>bytes source = 2;</code>
+     * @return The source.
+     */
+    com.google.protobuf.ByteString getSource();
+
+    /**
+     * <code>bytes plan = 3;</code>
+     * @return The plan.
+     */
+    com.google.protobuf.ByteString getPlan();
+
+    /**
+     * <code>bytes resource = 4;</code>
+     * @return The resource.
+     */
+    com.google.protobuf.ByteString getResource();
+  }
+  /**
+   * Protobuf type {@code protocol.JobRequest}
+   */
+  public static final class JobRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protocol.JobRequest)
+      JobRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use JobRequest.newBuilder() to construct.
+    private JobRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private JobRequest() {
+      source_ = com.google.protobuf.ByteString.EMPTY;
+      plan_ = com.google.protobuf.ByteString.EMPTY;
+      resource_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new JobRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private JobRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.Builder subBuilder = null;
+              if (conf_ != null) {
+                subBuilder = conf_.toBuilder();
+              }
+              conf_ = input.readMessage(com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(conf_);
+                conf_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+
+              source_ = input.readBytes();
+              break;
+            }
+            case 26: {
+
+              plan_ = input.readBytes();
+              break;
+            }
+            case 34: {
+
+              resource_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest.class, com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest.Builder.class);
+    }
+
+    public static final int CONF_FIELD_NUMBER = 1;
+    private com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig conf_;
+    /**
+     * <code>.protocol.JobConfig conf = 1;</code>
+     * @return Whether the conf field is set.
+     */
+    @java.lang.Override
+    public boolean hasConf() {
+      return conf_ != null;
+    }
+    /**
+     * <code>.protocol.JobConfig conf = 1;</code>
+     * @return The conf.
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig getConf() {
+      return conf_ == null ? com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.getDefaultInstance() : conf_;
+    }
+    /**
+     * <code>.protocol.JobConfig conf = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfigOrBuilder getConfOrBuilder() {
+      return getConf();
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString source_;
+    /**
+     * <code>bytes source = 2;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getSource() {
+      return source_;
+    }
+
+    public static final int PLAN_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString plan_;
+    /**
+     * <code>bytes plan = 3;</code>
+     * @return The plan.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPlan() {
+      return plan_;
+    }
+
+    public static final int RESOURCE_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString resource_;
+    /**
+     * <code>bytes resource = 4;</code>
+     * @return The resource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResource() {
+      return resource_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (conf_ != null) {
+        output.writeMessage(1, getConf());
+      }
+      if (!source_.isEmpty()) {
+        output.writeBytes(2, source_);
+      }
+      if (!plan_.isEmpty()) {
+        output.writeBytes(3, plan_);
+      }
+      if (!resource_.isEmpty()) {
+        output.writeBytes(4, resource_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (conf_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getConf());
+      }
+      if (!source_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, source_);
+      }
+      if (!plan_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, plan_);
+      }
+      if (!resource_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, resource_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest other = (com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest) obj;
+
+      if (hasConf() != other.hasConf()) return false;
+      if (hasConf()) {
+        if (!getConf()
+            .equals(other.getConf())) return false;
+      }
+      if (!getSource()
+          .equals(other.getSource())) return false;
+      if (!getPlan()
+          .equals(other.getPlan())) return false;
+      if (!getResource()
+          .equals(other.getResource())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasConf()) {
+        hash = (37 * hash) + CONF_FIELD_NUMBER;
+        hash = (53 * hash) + getConf().hashCode();
+      }
+      hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSource().hashCode();
+      hash = (37 * hash) + PLAN_FIELD_NUMBER;
+      hash = (53 * hash) + getPlan().hashCode();
+      hash = (37 * hash) + RESOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getResource().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protocol.JobRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protocol.JobRequest)
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest.class, com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (confBuilder_ == null) {
+          conf_ = null;
+        } else {
+          conf_ = null;
+          confBuilder_ = null;
+        }
+        source_ = com.google.protobuf.ByteString.EMPTY;
+
+        plan_ = com.google.protobuf.ByteString.EMPTY;
+
+        resource_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest build() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest buildPartial() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest result = new com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest(this);
+        if (confBuilder_ == null) {
+          result.conf_ = conf_;
+        } else {
+          result.conf_ = confBuilder_.build();
+        }
+        result.source_ = source_;
+        result.plan_ = plan_;
+        result.resource_ = resource_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest) {
+          return mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest other) {
+        if (other == com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest.getDefaultInstance()) return this;
+        if (other.hasConf()) {
+          mergeConf(other.getConf());
+        }
+        if (other.getSource() != com.google.protobuf.ByteString.EMPTY) {
+          setSource(other.getSource());
+        }
+        if (other.getPlan() != com.google.protobuf.ByteString.EMPTY) {
+          setPlan(other.getPlan());
+        }
+        if (other.getResource() != com.google.protobuf.ByteString.EMPTY) {
+          setResource(other.getResource());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig conf_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig, com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.JobConfigOrBuilder> confBuilder_;
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       * @return Whether the conf field is set.
+       */
+      public boolean hasConf() {
+        return confBuilder_ != null || conf_ != null;
+      }
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       * @return The conf.
+       */
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig getConf() {
+        if (confBuilder_ == null) {
+          return conf_ == null ? com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.getDefaultInstance() : conf_;
+        } else {
+          return confBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       */
+      public Builder setConf(com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig value) {
+        if (confBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          conf_ = value;
+          onChanged();
+        } else {
+          confBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       */
+      public Builder setConf(
+          com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.Builder builderForValue) {
+        if (confBuilder_ == null) {
+          conf_ = builderForValue.build();
+          onChanged();
+        } else {
+          confBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       */
+      public Builder mergeConf(com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig value) {
+        if (confBuilder_ == null) {
+          if (conf_ != null) {
+            conf_ =
+              com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.newBuilder(conf_).mergeFrom(value).buildPartial();
+          } else {
+            conf_ = value;
+          }
+          onChanged();
+        } else {
+          confBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       */
+      public Builder clearConf() {
+        if (confBuilder_ == null) {
+          conf_ = null;
+          onChanged();
+        } else {
+          conf_ = null;
+          confBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       */
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.Builder getConfBuilder() {
+        
+        onChanged();
+        return getConfFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       */
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobConfigOrBuilder getConfOrBuilder() {
+        if (confBuilder_ != null) {
+          return confBuilder_.getMessageOrBuilder();
+        } else {
+          return conf_ == null ?
+              com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.getDefaultInstance() : conf_;
+        }
+      }
+      /**
+       * <code>.protocol.JobConfig conf = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig, com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.JobConfigOrBuilder> 
+          getConfFieldBuilder() {
+        if (confBuilder_ == null) {
+          confBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig, com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig.Builder, com.alibaba.pegasus.service.protocol.PegasusClient.JobConfigOrBuilder>(
+                  getConf(),
+                  getParentForChildren(),
+                  isClean());
+          conf_ = null;
+        }
+        return confBuilder_;
+      }
+
+      private com.google.protobuf.ByteString source_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes source = 2;</code>
+       * @return The source.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getSource() {
+        return source_;
+      }
+      /**
+       * <code>bytes source = 2;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        source_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes source = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        
+        source_ = getDefaultInstance().getSource();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString plan_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes plan = 3;</code>
+       * @return The plan.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPlan() {
+        return plan_;
+      }
+      /**
+       * <code>bytes plan = 3;</code>
+       * @param value The plan to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlan(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        plan_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes plan = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPlan() {
+        
+        plan_ = getDefaultInstance().getPlan();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resource_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resource = 4;</code>
+       * @return The resource.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResource() {
+        return resource_;
+      }
+      /**
+       * <code>bytes resource = 4;</code>
+       * @param value The resource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResource(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resource = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResource() {
+        
+        resource_ = getDefaultInstance().getResource();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protocol.JobRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:protocol.JobRequest)
+    private static final com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest();
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<JobRequest>
+        PARSER = new com.google.protobuf.AbstractParser<JobRequest>() {
+      @java.lang.Override
+      public JobRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new JobRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<JobRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JobRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JobResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protocol.JobResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 job_id = 1;</code>
+     * @return The jobId.
+     */
+    long getJobId();
+
+    /**
+     * <code>bytes resp = 2;</code>
+     * @return The resp.
+     */
+    com.google.protobuf.ByteString getResp();
+  }
+  /**
+   * Protobuf type {@code protocol.JobResponse}
+   */
+  public static final class JobResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protocol.JobResponse)
+      JobResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use JobResponse.newBuilder() to construct.
+    private JobResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private JobResponse() {
+      resp_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new JobResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private JobResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              jobId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+
+              resp_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse.class, com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse.Builder.class);
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    private long jobId_;
+    /**
+     * <code>uint64 job_id = 1;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public long getJobId() {
+      return jobId_;
+    }
+
+    public static final int RESP_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString resp_;
+    /**
+     * <code>bytes resp = 2;</code>
+     * @return The resp.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getResp() {
+      return resp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (jobId_ != 0L) {
+        output.writeUInt64(1, jobId_);
+      }
+      if (!resp_.isEmpty()) {
+        output.writeBytes(2, resp_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (jobId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, jobId_);
+      }
+      if (!resp_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, resp_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse)) {
+        return super.equals(obj);
+      }
+      com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse other = (com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse) obj;
+
+      if (getJobId()
+          != other.getJobId()) return false;
+      if (!getResp()
+          .equals(other.getResp())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getJobId());
+      hash = (37 * hash) + RESP_FIELD_NUMBER;
+      hash = (53 * hash) + getResp().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protocol.JobResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protocol.JobResponse)
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse.class, com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse.Builder.class);
+      }
+
+      // Construct using com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        jobId_ = 0L;
+
+        resp_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.internal_static_protocol_JobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse getDefaultInstanceForType() {
+        return com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse build() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse buildPartial() {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse result = new com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse(this);
+        result.jobId_ = jobId_;
+        result.resp_ = resp_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse) {
+          return mergeFrom((com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse other) {
+        if (other == com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse.getDefaultInstance()) return this;
+        if (other.getJobId() != 0L) {
+          setJobId(other.getJobId());
+        }
+        if (other.getResp() != com.google.protobuf.ByteString.EMPTY) {
+          setResp(other.getResp());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long jobId_ ;
+      /**
+       * <code>uint64 job_id = 1;</code>
+       * @return The jobId.
+       */
+      @java.lang.Override
+      public long getJobId() {
+        return jobId_;
+      }
+      /**
+       * <code>uint64 job_id = 1;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(long value) {
+        
+        jobId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 job_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        
+        jobId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resp_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resp = 2;</code>
+       * @return The resp.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getResp() {
+        return resp_;
+      }
+      /**
+       * <code>bytes resp = 2;</code>
+       * @param value The resp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResp(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resp = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResp() {
+        
+        resp_ = getDefaultInstance().getResp();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protocol.JobResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:protocol.JobResponse)
+    private static final com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse();
+    }
+
+    public static com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<JobResponse>
+        PARSER = new com.google.protobuf.AbstractParser<JobResponse>() {
+      @java.lang.Override
+      public JobResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new JobResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<JobResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JobResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protocol_Empty_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protocol_Empty_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protocol_Name_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protocol_Name_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protocol_BinaryResource_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protocol_BinaryResource_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protocol_ServerList_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protocol_ServerList_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protocol_JobConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protocol_JobConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protocol_JobRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protocol_JobRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protocol_JobResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protocol_JobResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\021job_service.proto\022\010protocol\"\007\n\005Empty\"\024" +
+      "\n\004Name\022\014\n\004name\030\001 \001(\t\"0\n\016BinaryResource\022\014" +
+      "\n\004name\030\001 \001(\t\022\020\n\010resource\030\002 \001(\014\"\035\n\nServer" +
+      "List\022\017\n\007servers\030\001 \003(\004\"\235\002\n\tJobConfig\022\016\n\006j" +
+      "ob_id\030\001 \001(\004\022\020\n\010job_name\030\002 \001(\t\022\017\n\007workers" +
+      "\030\003 \001(\r\022\022\n\ntime_limit\030\004 \001(\004\022\022\n\nbatch_size" +
+      "\030\005 \001(\r\022\026\n\016batch_capacity\030\006 \001(\r\022\024\n\014memory" +
+      "_limit\030\007 \001(\r\022\024\n\014trace_enable\030\010 \001(\010\022 \n\005lo" +
+      "cal\030\t \001(\0132\017.protocol.EmptyH\000\022$\n\004part\030\n \001" +
+      "(\0132\024.protocol.ServerListH\000\022\036\n\003all\030\013 \001(\0132" +
+      "\017.protocol.EmptyH\000B\t\n\007servers\"_\n\nJobRequ" +
+      "est\022!\n\004conf\030\001 \001(\0132\023.protocol.JobConfig\022\016" +
+      "\n\006source\030\002 \001(\014\022\014\n\004plan\030\003 \001(\014\022\020\n\010resource" +
+      "\030\004 \001(\014\"+\n\013JobResponse\022\016\n\006job_id\030\001 \001(\004\022\014\n" +
+      "\004resp\030\002 \001(\0142\266\001\n\nJobService\0229\n\nAddLibrary" +
+      "\022\030.protocol.BinaryResource\032\017.protocol.Em" +
+      "pty\"\000\0222\n\rRemoveLibrary\022\016.protocol.Name\032\017" +
+      ".protocol.Empty\"\000\0229\n\006Submit\022\024.protocol.J" +
+      "obRequest\032\025.protocol.JobResponse\"\0000\001B5\n$" +
+      "com.alibaba.pegasus.service.protocolB\rPe" +
+      "gasusClientb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_protocol_Empty_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_protocol_Empty_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protocol_Empty_descriptor,
+        new java.lang.String[] { });
+    internal_static_protocol_Name_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_protocol_Name_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protocol_Name_descriptor,
+        new java.lang.String[] { "Name", });
+    internal_static_protocol_BinaryResource_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_protocol_BinaryResource_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protocol_BinaryResource_descriptor,
+        new java.lang.String[] { "Name", "Resource", });
+    internal_static_protocol_ServerList_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_protocol_ServerList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protocol_ServerList_descriptor,
+        new java.lang.String[] { "Servers", });
+    internal_static_protocol_JobConfig_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_protocol_JobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protocol_JobConfig_descriptor,
+        new java.lang.String[] { "JobId", "JobName", "Workers", "TimeLimit", "BatchSize", "BatchCapacity", "MemoryLimit", "TraceEnable", "Local", "Part", "All", "Servers", });
+    internal_static_protocol_JobRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_protocol_JobRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protocol_JobRequest_descriptor,
+        new java.lang.String[] { "Conf", "Source", "Plan", "Resource", });
+    internal_static_protocol_JobResponse_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_protocol_JobResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protocol_JobResponse_descriptor,
+        new java.lang.String[] { "JobId", "Resp", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
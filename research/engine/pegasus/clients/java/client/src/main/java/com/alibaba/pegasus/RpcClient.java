@@ -22,61 +22,136 @@ import com.alibaba.pegasus.service.protocol.JobServiceGrpc.JobServiceStub;
 import com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest;
 import com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse;
 
+import io.grpc.Deadline;
 import io.grpc.Status;
-import io.grpc.stub.StreamObserver;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class RpcClient {
     private static final Logger logger = LoggerFactory.getLogger(RpcClient.class);
+    // max number of responses buffered in the client for each job
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+    // used if the time limit of the job is not set
+    public static final long DEFAULT_TIME_LIMIT_MS = 600000;
 
     private List<RpcChannel> channels;
+    private int bufferSize;
 
     public RpcClient(List<RpcChannel> channels) {
+        this(channels, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize responses are requested from the servers only if consumed, so at most
+     *     bufferSize responses (at least one per server) are buffered for a job
+     */
+    public RpcClient(List<RpcChannel> channels, int bufferSize) {
         this.channels = channels;
+        this.bufferSize = bufferSize;
     }
 
+    /**
+     * Submit the job to all the servers. The job is cancelled on all the servers if it fails on any
+     * of them, exceeds the {@code time_limit} of its config, or the returned iterator is closed
+     * before all the responses are consumed.
+     */
     public CloseableIterator<JobResponse> submit(JobRequest jobRequest)
             throws InterruptedException {
-        StreamIterator<JobResponse> responseIterator = new StreamIterator<>();
+        List<ClientCallStreamObserver<JobRequest>> streams = new CopyOnWriteArrayList<>();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        StreamIterator<JobResponse> responseIterator =
+                new StreamIterator<>(
+                        () -> cancel(streams, cancelled, "job is closed by client", null));
         AtomicInteger counter = new AtomicInteger(this.channels.size());
         AtomicBoolean finished = new AtomicBoolean(false);
+        int prefetch = Math.max(1, this.bufferSize / Math.max(1, this.channels.size()));
+        long timeLimit = jobRequest.getConf().getTimeLimit();
+        // all the streams share the same deadline
+        Deadline deadline =
+                Deadline.after(
+                        (timeLimit > 0) ? timeLimit : DEFAULT_TIME_LIMIT_MS, TimeUnit.MILLISECONDS);
         for (RpcChannel rpcChannel : channels) {
             JobServiceStub asyncStub = JobServiceGrpc.newStub(rpcChannel.getChannel());
-            // todo: make timeout configurable
             asyncStub
-                    .withDeadlineAfter(600000, TimeUnit.MILLISECONDS)
+                    .withDeadline(deadline)
                     .submit(
                             jobRequest,
-                            new JobResponseObserver(responseIterator, finished, counter));
+                            new JobResponseObserver(
+                                    responseIterator,
+                                    finished,
+                                    counter,
+                                    prefetch,
+                                    streams,
+                                    cancelled));
+            // a call can not be cancelled before it starts, the job may be cancelled while the
+            // call is being started and missed by the cancel, so check it once the call starts
+            if (cancelled.get()) {
+                cancel(streams, cancelled, "job is cancelled", null);
+                break;
+            }
         }
         return responseIterator;
     }
 
+    private static void cancel(
+            List<ClientCallStreamObserver<JobRequest>> streams,
+            AtomicBoolean cancelled,
+            String message,
+            Throwable cause) {
+        // set before cancelling the streams, the streams started later see it
+        cancelled.set(true);
+        // cancelling a completed stream has no effect
+        for (ClientCallStreamObserver<JobRequest> stream : streams) {
+            stream.cancel(message, cause);
+        }
+    }
+
     public void shutdown() throws InterruptedException {
         for (RpcChannel rpcChannel : channels) {
             rpcChannel.shutdown();
         }
     }
 
-    private static class JobResponseObserver implements StreamObserver<JobResponse> {
+    private static class JobResponseObserver
+            implements ClientResponseObserver<JobRequest, JobResponse> {
         private final StreamIterator<JobResponse> iterator;
         private final AtomicBoolean finished;
         private final AtomicInteger counter;
+        private final int prefetch;
+        private final List<ClientCallStreamObserver<JobRequest>> streams;
+        private final AtomicBoolean cancelled;
+        private ClientCallStreamObserver<JobRequest> requestStream;
 
         public JobResponseObserver(
                 StreamIterator<JobResponse> iterator,
                 AtomicBoolean finished,
-                AtomicInteger counter) {
+                AtomicInteger counter,
+                int prefetch,
+                List<ClientCallStreamObserver<JobRequest>> streams,
+                AtomicBoolean cancelled) {
             this.iterator = iterator;
             this.finished = finished;
             this.counter = counter;
+            this.prefetch = prefetch;
+            this.streams = streams;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<JobRequest> requestStream) {
+            this.requestStream = requestStream;
+            this.streams.add(requestStream);
+            // request the next response only after one is consumed
+            requestStream.disableAutoRequestWithInitial(prefetch);
         }
 
         @Override
@@ -85,7 +160,7 @@ public class RpcClient {
                 return;
             }
             try {
-                this.iterator.putData(jobResponse);
+                this.iterator.putData(jobResponse, () -> requestStream.request(1));
             } catch (InterruptedException e) {
                 onError(e);
             }
@@ -99,6 +174,8 @@ public class RpcClient {
             Status status = Status.fromThrowable(throwable);
             logger.error("get job response error: {}", status);
             this.iterator.fail(throwable);
+            // the results are incomplete, stop the job on the other servers
+            cancel(streams, cancelled, "job failed on another server", throwable);
         }
 
         @Override
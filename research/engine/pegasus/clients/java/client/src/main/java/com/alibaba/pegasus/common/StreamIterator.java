@@ -33,9 +33,18 @@ public class StreamIterator<T> implements CloseableIterator<T> {
     private Object head;
     private volatile boolean closed = false;
     private AtomicReference<Throwable> exception = new AtomicReference<>();
+    private Runnable onClose;
 
     public StreamIterator() {
+        this(null);
+    }
+
+    /**
+     * @param onClose run when the consumer closes the iterator, i.e. to cancel the producer
+     */
+    public StreamIterator(Runnable onClose) {
         this.buffer = new LinkedBlockingQueue<>();
+        this.onClose = onClose;
 
         this.head = null;
     }
@@ -67,9 +76,14 @@ public class StreamIterator<T> implements CloseableIterator<T> {
         if (head instanceof Throwable) {
             throw new RuntimeException((Throwable) head);
         }
-        T res = (T) head;
+        Object res = head;
         head = null;
-        return res;
+        if (res instanceof Flowed) {
+            Flowed flowed = (Flowed) res;
+            flowed.onConsumed.run();
+            res = flowed.data;
+        }
+        return (T) res;
     }
 
     // From common
@@ -80,6 +94,17 @@ public class StreamIterator<T> implements CloseableIterator<T> {
         this.buffer.put(data);
     }
 
+    /**
+     * Put the data with a callback which is run once the data is consumed, the producer can use it
+     * to request more data, so that the buffered data is bounded by the requested.
+     */
+    public void putData(T data, Runnable onConsumed) throws InterruptedException {
+        if (closed) {
+            return;
+        }
+        this.buffer.put(new Flowed(data, onConsumed));
+    }
+
     // From common
     public void fail(Throwable t) {
         if (closed) {
@@ -108,7 +133,23 @@ public class StreamIterator<T> implements CloseableIterator<T> {
     // From iterator consumer
     @Override
     public void close() {
+        if (this.closed) {
+            return;
+        }
         this.closed = true;
         this.buffer.clear();
+        if (this.onClose != null) {
+            this.onClose.run();
+        }
+    }
+
+    private static class Flowed {
+        private final Object data;
+        private final Runnable onConsumed;
+
+        public Flowed(Object data, Runnable onConsumed) {
+            this.data = data;
+            this.onConsumed = onConsumed;
+        }
     }
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.pegasus;
+
+import com.alibaba.pegasus.intf.CloseableIterator;
+import com.alibaba.pegasus.service.protocol.JobServiceGrpc;
+import com.alibaba.pegasus.service.protocol.PegasusClient.JobConfig;
+import com.alibaba.pegasus.service.protocol.PegasusClient.JobRequest;
+import com.alibaba.pegasus.service.protocol.PegasusClient.JobResponse;
+import com.google.protobuf.ByteString;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RpcClientTest {
+    private final List<Server> servers = new ArrayList<>();
+    private final List<RpcChannel> channels = new ArrayList<>();
+
+    // a server which sends the given responses and keeps the job running until it is cancelled,
+    // or fails the job at once if the responses are null
+    private static class JobService extends JobServiceGrpc.JobServiceImplBase {
+        private final List<JobResponse> responses;
+        private final AtomicInteger submitted = new AtomicInteger();
+        private final AtomicInteger cancelled = new AtomicInteger();
+
+        private JobService(List<JobResponse> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public void submit(JobRequest request, StreamObserver<JobResponse> responseObserver) {
+            submitted.incrementAndGet();
+            if (responses == null) {
+                responseObserver.onError(Status.INTERNAL.asRuntimeException());
+                return;
+            }
+            ((ServerCallStreamObserver<JobResponse>) responseObserver)
+                    .setOnCancelHandler(cancelled::incrementAndGet);
+            responses.forEach(responseObserver::onNext);
+        }
+
+        // the running jobs are cancelled in time
+        private void awaitCancelled() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (cancelled.get() < submitted.get() && System.currentTimeMillis() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            Assert.assertEquals(submitted.get(), cancelled.get());
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (RpcChannel channel : channels) {
+            channel.getChannel().shutdownNow();
+        }
+        for (Server server : servers) {
+            server.shutdownNow();
+        }
+    }
+
+    private void startServer(JobService service) throws Exception {
+        String serverName = InProcessServerBuilder.generateName();
+        servers.add(
+                InProcessServerBuilder.forName(serverName)
+                        .directExecutor()
+                        .addService(service)
+                        .build()
+                        .start());
+        ManagedChannel channel =
+                InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        channels.add(new RpcChannel(channel));
+    }
+
+    private static JobRequest jobRequest(long timeLimit) {
+        return JobRequest.newBuilder()
+                .setConf(JobConfig.newBuilder().setJobId(1).setTimeLimit(timeLimit).build())
+                .build();
+    }
+
+    private static JobResponse jobResponse(String data) {
+        return JobResponse.newBuilder().setJobId(1).setResp(ByteString.copyFromUtf8(data)).build();
+    }
+
+    @Test
+    public void testDeadline() throws Exception {
+        JobService service = new JobService(new ArrayList<>());
+        startServer(service);
+        RpcClient client = new RpcClient(channels);
+        CloseableIterator<JobResponse> iterator = client.submit(jobRequest(200));
+        long startTime = System.currentTimeMillis();
+        try {
+            iterator.next();
+            Assert.fail("the job should exceed the deadline");
+        } catch (RuntimeException e) {
+            Assert.assertEquals(Status.Code.DEADLINE_EXCEEDED, Status.fromThrowable(e).getCode());
+        }
+        Assert.assertTrue(System.currentTimeMillis() - startTime < 10000);
+        service.awaitCancelled();
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        List<JobService> services = new ArrayList<>();
+        for (int i = 0; i < 2; ++i) {
+            JobService service = new JobService(Arrays.asList(jobResponse("result " + i)));
+            services.add(service);
+            startServer(service);
+        }
+        RpcClient client = new RpcClient(channels);
+        CloseableIterator<JobResponse> iterator = client.submit(jobRequest(600000));
+        Assert.assertTrue(iterator.hasNext());
+        iterator.next();
+        // closed before all the responses are consumed
+        iterator.close();
+        for (JobService service : services) {
+            Assert.assertEquals(1, service.submitted.get());
+            service.awaitCancelled();
+        }
+    }
+
+    @Test
+    public void testFailureWhileSubmitting() throws Exception {
+        // the job fails on the first server before it is submitted to the second one
+        JobService failedService = new JobService(null);
+        JobService service = new JobService(new ArrayList<>());
+        startServer(failedService);
+        startServer(service);
+        RpcClient client = new RpcClient(channels);
+        CloseableIterator<JobResponse> iterator = client.submit(jobRequest(600000));
+        try {
+            iterator.next();
+            Assert.fail("the job should fail");
+        } catch (RuntimeException e) {
+            Assert.assertEquals(Status.Code.INTERNAL, Status.fromThrowable(e).getCode());
+        }
+        // the job is not left running on the other server
+        service.awaitCancelled();
+        iterator.close();
+    }
+}
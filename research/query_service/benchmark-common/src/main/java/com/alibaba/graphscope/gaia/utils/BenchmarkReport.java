@@ -0,0 +1,284 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.gaia.utils;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency statistics of a phase (warm-up or benchmark) of a run, per kind of operation. Two
+ * latencies are recorded for each operation: the response time, measured from the time the
+ * operation is scheduled to be sent, and the service time, measured from the time it is actually
+ * sent. They differ when the operations are queued at the client because the server falls behind.
+ */
+public class BenchmarkReport {
+    public static final String ALL_OPERATIONS = "ALL";
+
+    private static final String JSON_FILE = "benchmark-report.json";
+    private static final String CSV_FILE = "benchmark-report.csv";
+    private static final double[] PERCENTILES = {50.0, 95.0, 99.0, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p95", "p99", "p999"};
+
+    private final String phase;
+    private final Map<String, OperationStats> operationStats = new ConcurrentHashMap<>();
+    private volatile long startNanos;
+    private final AtomicLong endNanos = new AtomicLong(0L);
+
+    public BenchmarkReport(String phase) {
+        this.phase = phase;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    /**
+     * @param startNanos the time the first operation of the phase is scheduled
+     */
+    public void start(long startNanos) {
+        this.startNanos = startNanos;
+        this.endNanos.set(startNanos);
+    }
+
+    /**
+     * @param scheduledNanos the time the operation is scheduled to be sent
+     * @param sentNanos the time the operation is actually sent
+     * @param completedNanos the time the response of the operation is received
+     */
+    public void record(
+            String operation,
+            long scheduledNanos,
+            long sentNanos,
+            long completedNanos,
+            boolean success) {
+        long responseMicros = TimeUnit.NANOSECONDS.toMicros(completedNanos - scheduledNanos);
+        long serviceMicros = TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos);
+        getStats(operation).record(responseMicros, serviceMicros, success);
+        getStats(ALL_OPERATIONS).record(responseMicros, serviceMicros, success);
+        endNanos.accumulateAndGet(completedNanos, Math::max);
+    }
+
+    public void print() {
+        for (Map.Entry<String, OperationStats> entry : sortedStats().entrySet()) {
+            OperationStats stats = entry.getValue();
+            System.out.println(
+                    String.format(
+                            Locale.ROOT,
+                            "[%s] %s: count %d, failed %d, qps %.2f; response time(ms) p50 %.3f,"
+                                    + " p95 %.3f, p99 %.3f, max %.3f; service time(ms) p50 %.3f,"
+                                    + " p99 %.3f, max %.3f",
+                            phase,
+                            entry.getKey(),
+                            stats.getCount(),
+                            stats.getFailedCount(),
+                            getThroughput(stats),
+                            toMillis(stats.responseTime.getValueAtPercentile(50.0)),
+                            toMillis(stats.responseTime.getValueAtPercentile(95.0)),
+                            toMillis(stats.responseTime.getValueAtPercentile(99.0)),
+                            toMillis(stats.responseTime.getMaxValue()),
+                            toMillis(stats.serviceTime.getValueAtPercentile(50.0)),
+                            toMillis(stats.serviceTime.getValueAtPercentile(99.0)),
+                            toMillis(stats.serviceTime.getMaxValue())));
+        }
+    }
+
+    /**
+     * Write the reports of all the phases to benchmark-report.json and benchmark-report.csv in the
+     * directory, so that the runs can be compared by scripts.
+     *
+     * @param settings the settings of the run, which are kept in the json report
+     */
+    public static void write(
+            String reportDir, Map<String, String> settings, List<BenchmarkReport> reports)
+            throws IOException {
+        File dir = new File(reportDir);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("cannot create report dir " + reportDir);
+        }
+
+        StringBuilder json = new StringBuilder("{\n  \"settings\": {");
+        String separator = "\n";
+        for (Map.Entry<String, String> setting : new TreeMap<>(settings).entrySet()) {
+            json.append(separator)
+                    .append("    ")
+                    .append(quote(setting.getKey()))
+                    .append(": ")
+                    .append(quote(setting.getValue()));
+            separator = ",\n";
+        }
+        json.append("\n  },\n  \"phases\": [");
+        separator = "\n";
+        for (BenchmarkReport report : reports) {
+            json.append(separator);
+            report.appendJson(json);
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+        Files.write(
+                new File(dir, JSON_FILE).toPath(),
+                json.toString().getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder csv = new StringBuilder("phase,operation,count,failed,throughput");
+        for (String latency : new String[] {"response", "service"}) {
+            csv.append(',').append(latency).append("_mean_ms");
+            for (String name : PERCENTILE_NAMES) {
+                csv.append(',').append(latency).append('_').append(name).append("_ms");
+            }
+            csv.append(',').append(latency).append("_max_ms");
+        }
+        csv.append('\n');
+        for (BenchmarkReport report : reports) {
+            report.appendCsv(csv);
+        }
+        Files.write(
+                new File(dir, CSV_FILE).toPath(), csv.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.println("Report is written to " + dir.getAbsolutePath());
+    }
+
+    private void appendJson(StringBuilder json) {
+        json.append("    {\n      \"phase\": ")
+                .append(quote(phase))
+                .append(",\n      \"duration_ms\": ")
+                .append(format(toMillis(TimeUnit.NANOSECONDS.toMicros(getDurationNanos()))))
+                .append(",\n      \"operations\": [");
+        String separator = "\n";
+        for (Map.Entry<String, OperationStats> entry : sortedStats().entrySet()) {
+            OperationStats stats = entry.getValue();
+            json.append(separator)
+                    .append("        {\"operation\": ")
+                    .append(quote(entry.getKey()))
+                    .append(", \"count\": ")
+                    .append(stats.getCount())
+                    .append(", \"failed\": ")
+                    .append(stats.getFailedCount())
+                    .append(", \"throughput\": ")
+                    .append(format(getThroughput(stats)))
+                    .append(", \"response_time_ms\": ");
+            appendJson(json, stats.responseTime);
+            json.append(", \"service_time_ms\": ");
+            appendJson(json, stats.serviceTime);
+            json.append('}');
+            separator = ",\n";
+        }
+        json.append("\n      ]\n    }");
+    }
+
+    private static void appendJson(StringBuilder json, Histogram histogram) {
+        json.append("{\"mean\": ").append(format(toMillis(histogram.getMean())));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            json.append(", ")
+                    .append(quote(PERCENTILE_NAMES[i]))
+                    .append(": ")
+                    .append(format(toMillis(histogram.getValueAtPercentile(PERCENTILES[i]))));
+        }
+        json.append(", \"max\": ").append(format(toMillis(histogram.getMaxValue()))).append('}');
+    }
+
+    private void appendCsv(StringBuilder csv) {
+        for (Map.Entry<String, OperationStats> entry : sortedStats().entrySet()) {
+            OperationStats stats = entry.getValue();
+            csv.append(phase)
+                    .append(',')
+                    .append(entry.getKey())
+                    .append(',')
+                    .append(stats.getCount())
+                    .append(',')
+                    .append(stats.getFailedCount())
+                    .append(',')
+                    .append(format(getThroughput(stats)));
+            for (Histogram histogram : new Histogram[] {stats.responseTime, stats.serviceTime}) {
+                csv.append(',').append(format(toMillis(histogram.getMean())));
+                for (double percentile : PERCENTILES) {
+                    csv.append(',')
+                            .append(format(toMillis(histogram.getValueAtPercentile(percentile))));
+                }
+                csv.append(',').append(format(toMillis(histogram.getMaxValue())));
+            }
+            csv.append('\n');
+        }
+    }
+
+    private OperationStats getStats(String operation) {
+        return operationStats.computeIfAbsent(operation, k -> new OperationStats());
+    }
+
+    // ordered by the operation name, with the summary of all the operations at last
+    private Map<String, OperationStats> sortedStats() {
+        Map<String, OperationStats> sorted = new TreeMap<>(operationStats);
+        OperationStats all = sorted.remove(ALL_OPERATIONS);
+        Map<String, OperationStats> result = new LinkedHashMap<>(sorted);
+        if (all != null) {
+            result.put(ALL_OPERATIONS, all);
+        }
+        return result;
+    }
+
+    private long getDurationNanos() {
+        return endNanos.get() - startNanos;
+    }
+
+    private double getThroughput(OperationStats stats) {
+        long durationNanos = getDurationNanos();
+        return durationNanos <= 0
+                ? 0.0
+                : (double) stats.getCount() * TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+
+    private static double toMillis(double micros) {
+        return micros / 1000.0;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static class OperationStats {
+        // in microseconds, auto resized to any latency with 3 significant digits
+        private final Histogram responseTime = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder failedCount = new LongAdder();
+
+        void record(long responseMicros, long serviceMicros, boolean success) {
+            responseTime.recordValue(responseMicros);
+            serviceTime.recordValue(serviceMicros);
+            if (!success) {
+                failedCount.increment();
+            }
+        }
+
+        long getCount() {
+            return responseTime.getTotalCount();
+        }
+
+        long getFailedCount() {
+            return failedCount.sum();
+        }
+    }
+}
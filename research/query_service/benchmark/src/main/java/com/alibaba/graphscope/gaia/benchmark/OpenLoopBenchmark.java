@@ -0,0 +1,208 @@
+/**
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.gaia.benchmark;
+
+import com.alibaba.graphscope.gaia.common.CommonQuery;
+import com.alibaba.graphscope.gaia.common.Configuration;
+import com.alibaba.graphscope.gaia.utils.BenchmarkReport;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.tinkerpop.gremlin.driver.Client;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the operations in an open loop: the operations are scheduled at a fixed target rate no
+ * matter how fast the server responds, and the response time of an operation is measured from the
+ * time it is scheduled rather than the time it is sent. In a closed loop a client only sends the
+ * next query after the previous one returns, so a stalled server is sent fewer queries and the
+ * stall is left out of the latencies (coordinated omission).
+ *
+ * <p>The enabled queries are sent in round-robin. The queries scheduled in the first
+ * warmup.duration.sec are reported apart from the ones in the following benchmark.duration.sec.
+ */
+public class OpenLoopBenchmark {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Configuration configuration;
+    private final List<CommonQuery> queryList;
+    private final double targetQps;
+    private final long warmUpNanos;
+    private final long durationNanos;
+    private final int threadCount;
+    private final boolean printQueryName;
+    private final boolean printQueryResult;
+
+    private final BlockingQueue<Operation> operationQueue = new LinkedBlockingQueue<>();
+    private final BenchmarkReport warmUpReport = new BenchmarkReport("warmup");
+    private final BenchmarkReport benchmarkReport = new BenchmarkReport("benchmark");
+
+    public OpenLoopBenchmark(Configuration configuration, List<CommonQuery> queryList) {
+        this.configuration = configuration;
+        this.queryList = queryList;
+        this.targetQps = configuration.getDouble(Configuration.TARGET_QPS, 100.0);
+        this.warmUpNanos =
+                TimeUnit.SECONDS.toNanos(
+                        configuration.getLong(Configuration.WARMUP_DURATION_SEC, 0L));
+        this.durationNanos =
+                TimeUnit.SECONDS.toNanos(
+                        configuration.getLong(Configuration.BENCHMARK_DURATION_SEC, 60L));
+        this.threadCount = configuration.getInt(Configuration.THREAD_COUNT, 1);
+        this.printQueryName = configuration.getBoolean(Configuration.PRINT_QUERY_NAME, true);
+        this.printQueryResult = configuration.getBoolean(Configuration.PRINT_QUERY_RESULT, true);
+        if (targetQps <= 0) {
+            throw new IllegalArgumentException("target qps should be positive");
+        }
+        if (queryList.isEmpty()) {
+            throw new IllegalArgumentException("no query is enabled");
+        }
+    }
+
+    public void run() throws Exception {
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            workers.add(new Worker());
+        }
+        workers.forEach(Thread::start);
+
+        long startNanos = System.nanoTime();
+        long benchmarkStartNanos = startNanos + warmUpNanos;
+        long endNanos = benchmarkStartNanos + durationNanos;
+        warmUpReport.start(startNanos);
+        benchmarkReport.start(benchmarkStartNanos);
+        System.out.println(
+                String.format("Begin open loop test with target qps %.2f...", targetQps));
+
+        for (long seq = 0; ; seq++) {
+            long scheduledNanos = startNanos + (long) (seq * NANOS_PER_SECOND / targetQps);
+            if (scheduledNanos >= endNanos) {
+                break;
+            }
+            waitUntil(scheduledNanos);
+            BenchmarkReport report =
+                    scheduledNanos < benchmarkStartNanos ? warmUpReport : benchmarkReport;
+            CommonQuery commonQuery = queryList.get((int) (seq % queryList.size()));
+            int parameterIndex = (int) (seq / queryList.size());
+            operationQueue.put(new Operation(commonQuery, parameterIndex, scheduledNanos, report));
+        }
+        for (int i = 0; i < threadCount; i++) {
+            operationQueue.put(Operation.STOP);
+        }
+        for (Worker worker : workers) {
+            worker.join();
+        }
+
+        List<BenchmarkReport> reports = new ArrayList<>();
+        if (warmUpNanos > 0) {
+            reports.add(warmUpReport);
+        }
+        reports.add(benchmarkReport);
+        for (BenchmarkReport report : reports) {
+            report.print();
+        }
+        String reportDir = configuration.getString(Configuration.REPORT_DIR, "");
+        if (StringUtils.isNotEmpty(reportDir)) {
+            Map<String, String> settings = new HashMap<>();
+            settings.put(Configuration.BENCHMARK_MODE, "open");
+            settings.put(Configuration.TARGET_QPS, String.valueOf(targetQps));
+            settings.put(Configuration.THREAD_COUNT, String.valueOf(threadCount));
+            settings.put(
+                    Configuration.WARMUP_DURATION_SEC,
+                    String.valueOf(TimeUnit.NANOSECONDS.toSeconds(warmUpNanos)));
+            settings.put(
+                    Configuration.BENCHMARK_DURATION_SEC,
+                    String.valueOf(TimeUnit.NANOSECONDS.toSeconds(durationNanos)));
+            BenchmarkReport.write(reportDir, settings, reports);
+        }
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remainNanos;
+        while ((remainNanos = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remainNanos);
+        }
+    }
+
+    private static class Operation {
+        static final Operation STOP = new Operation(null, 0, 0L, null);
+
+        private final CommonQuery commonQuery;
+        private final int parameterIndex;
+        private final long scheduledNanos;
+        private final BenchmarkReport report;
+
+        Operation(
+                CommonQuery commonQuery,
+                int parameterIndex,
+                long scheduledNanos,
+                BenchmarkReport report) {
+            this.commonQuery = commonQuery;
+            this.parameterIndex = parameterIndex;
+            this.scheduledNanos = scheduledNanos;
+            this.report = report;
+        }
+    }
+
+    private class Worker extends Thread {
+        private final Client client;
+
+        Worker() {
+            this.client =
+                    InteractiveBenchmark.connect(
+                            configuration.getString(Configuration.GREMLIN_SERVER_ENDPOINT),
+                            configuration.getString(Configuration.GREMLIN_USERNAME, ""),
+                            configuration.getString(Configuration.GREMLIN_PASSWORD, ""));
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Operation operation = operationQueue.take();
+                    if (operation == Operation.STOP) {
+                        break;
+                    }
+                    process(operation);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                client.close();
+            }
+        }
+
+        private void process(Operation operation) {
+            long sentNanos = System.nanoTime();
+            CommonQuery commonQuery = operation.commonQuery;
+            boolean success =
+                    commonQuery.processGremlinQuery(
+                            client,
+                            commonQuery.getSingleParameter(operation.parameterIndex),
+                            printQueryResult,
+                            printQueryName);
+            operation.report.record(
+                    commonQuery.getQueryName(),
+                    operation.scheduledNanos,
+                    sentNanos,
+                    System.nanoTime(),
+                    success);
+        }
+    }
+}
@@ -30,7 +30,7 @@ public abstract class AbstractLdbcWithSubQuery extends CommonQuery {
     }
 
     @Override
-    public void processGremlinQuery(
+    public boolean processGremlinQuery(
             Client client,
             HashMap<String, String> singleParameter,
             boolean printResult,
@@ -62,12 +62,14 @@ public abstract class AbstractLdbcWithSubQuery extends CommonQuery {
                 }
                 System.out.println(printInfo);
             }
+            return true;
         } catch (Exception e) {
             System.out.println(
                     String.format(
                             "Timeout or failed: QueryName[%s], Parameter[%s].",
                             queryName, singleParameter.toString()));
             e.printStackTrace();
+            return false;
         }
     }
 
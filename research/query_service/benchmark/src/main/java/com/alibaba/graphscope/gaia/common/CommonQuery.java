@@ -47,7 +47,14 @@ public class CommonQuery {
         return parameters.get(index % parameters.size());
     }
 
-    public void processGremlinQuery(
+    public String getQueryName() {
+        return queryName;
+    }
+
+    /**
+     * @return false if the query is timeout or failed
+     */
+    public boolean processGremlinQuery(
             Client client,
             HashMap<String, String> singleParameter,
             boolean printResult,
@@ -73,13 +80,14 @@ public class CommonQuery {
                 }
                 System.out.println(printInfo);
             }
-
+            return true;
         } catch (Exception e) {
             System.out.println(
                     String.format(
                             "Timeout or failed: QueryName[%s], Parameter[%s].",
                             queryName, singleParameter.toString()));
             e.printStackTrace();
+            return false;
         }
     }
 
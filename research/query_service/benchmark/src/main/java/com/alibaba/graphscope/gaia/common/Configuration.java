@@ -40,6 +40,13 @@ public class Configuration {
     public static final String PRINT_QUERY_NAME = "printQueryNames";
     public static final String PRINT_QUERY_RESULT = "printQueryResults";
 
+    // open loop mode
+    public static final String BENCHMARK_MODE = "benchmark.mode";
+    public static final String TARGET_QPS = "target.qps";
+    public static final String WARMUP_DURATION_SEC = "warmup.duration.sec";
+    public static final String BENCHMARK_DURATION_SEC = "benchmark.duration.sec";
+    public static final String REPORT_DIR = "report.dir";
+
     public Optional<String> getOption(String key) {
         String value = settings.get(key);
         if (value == null) {
@@ -67,6 +74,16 @@ public class Configuration {
         return optional.map(Integer::parseInt).orElse(defaultValue);
     }
 
+    public long getLong(String key, long defaultValue) {
+        Optional<String> optional = getOption(key);
+        return optional.map(Long::parseLong).orElse(defaultValue);
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        Optional<String> optional = getOption(key);
+        return optional.map(Double::parseDouble).orElse(defaultValue);
+    }
+
     public boolean getBoolean(String key, boolean defaultValue) {
         Optional<String> optional = getOption(key);
         return optional.map(Boolean::parseBoolean).orElse(defaultValue);
@@ -0,0 +1,7443 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: common.proto
+
+package com.alibaba.graphscope.gaia.proto;
+
+public final class Common {
+  private Common() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code common.DataType}
+   */
+  public enum DataType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>BOOLEAN = 0;</code>
+     */
+    BOOLEAN(0),
+    /**
+     * <code>INT32 = 1;</code>
+     */
+    INT32(1),
+    /**
+     * <code>INT64 = 2;</code>
+     */
+    INT64(2),
+    /**
+     * <code>DOUBLE = 3;</code>
+     */
+    DOUBLE(3),
+    /**
+     * <code>STRING = 4;</code>
+     */
+    STRING(4),
+    /**
+     * <code>BYTES = 5;</code>
+     */
+    BYTES(5),
+    /**
+     * <code>INT32_ARRAY = 6;</code>
+     */
+    INT32_ARRAY(6),
+    /**
+     * <code>INT64_ARRAY = 7;</code>
+     */
+    INT64_ARRAY(7),
+    /**
+     * <code>DOUBLE_ARRAY = 8;</code>
+     */
+    DOUBLE_ARRAY(8),
+    /**
+     * <code>STRING_ARRAY = 9;</code>
+     */
+    STRING_ARRAY(9),
+    /**
+     * <code>PAIR_ARRAY = 10;</code>
+     */
+    PAIR_ARRAY(10),
+    /**
+     * <code>NONE = 11;</code>
+     */
+    NONE(11),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>BOOLEAN = 0;</code>
+     */
+    public static final int BOOLEAN_VALUE = 0;
+    /**
+     * <code>INT32 = 1;</code>
+     */
+    public static final int INT32_VALUE = 1;
+    /**
+     * <code>INT64 = 2;</code>
+     */
+    public static final int INT64_VALUE = 2;
+    /**
+     * <code>DOUBLE = 3;</code>
+     */
+    public static final int DOUBLE_VALUE = 3;
+    /**
+     * <code>STRING = 4;</code>
+     */
+    public static final int STRING_VALUE = 4;
+    /**
+     * <code>BYTES = 5;</code>
+     */
+    public static final int BYTES_VALUE = 5;
+    /**
+     * <code>INT32_ARRAY = 6;</code>
+     */
+    public static final int INT32_ARRAY_VALUE = 6;
+    /**
+     * <code>INT64_ARRAY = 7;</code>
+     */
+    public static final int INT64_ARRAY_VALUE = 7;
+    /**
+     * <code>DOUBLE_ARRAY = 8;</code>
+     */
+    public static final int DOUBLE_ARRAY_VALUE = 8;
+    /**
+     * <code>STRING_ARRAY = 9;</code>
+     */
+    public static final int STRING_ARRAY_VALUE = 9;
+    /**
+     * <code>PAIR_ARRAY = 10;</code>
+     */
+    public static final int PAIR_ARRAY_VALUE = 10;
+    /**
+     * <code>NONE = 11;</code>
+     */
+    public static final int NONE_VALUE = 11;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static DataType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static DataType forNumber(int value) {
+      switch (value) {
+        case 0: return BOOLEAN;
+        case 1: return INT32;
+        case 2: return INT64;
+        case 3: return DOUBLE;
+        case 4: return STRING;
+        case 5: return BYTES;
+        case 6: return INT32_ARRAY;
+        case 7: return INT64_ARRAY;
+        case 8: return DOUBLE_ARRAY;
+        case 9: return STRING_ARRAY;
+        case 10: return PAIR_ARRAY;
+        case 11: return NONE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<DataType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        DataType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<DataType>() {
+            public DataType findValueByNumber(int number) {
+              return DataType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final DataType[] VALUES = values();
+
+    public static DataType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private DataType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:common.DataType)
+  }
+
+  public interface NoneOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.None)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code common.None}
+   */
+  public static final class None extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.None)
+      NoneOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use None.newBuilder() to construct.
+    private None(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private None() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new None();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private None(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_None_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_None_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.Common.None.class, com.alibaba.graphscope.gaia.proto.Common.None.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.Common.None)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.Common.None other = (com.alibaba.graphscope.gaia.proto.Common.None) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.None parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.Common.None prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.None}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.None)
+        com.alibaba.graphscope.gaia.proto.Common.NoneOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_None_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_None_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.Common.None.class, com.alibaba.graphscope.gaia.proto.Common.None.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.Common.None.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_None_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.None getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.None build() {
+        com.alibaba.graphscope.gaia.proto.Common.None result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.None buildPartial() {
+        com.alibaba.graphscope.gaia.proto.Common.None result = new com.alibaba.graphscope.gaia.proto.Common.None(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.Common.None) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.Common.None)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.Common.None other) {
+        if (other == com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.Common.None parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.Common.None) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.None)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.None)
+    private static final com.alibaba.graphscope.gaia.proto.Common.None DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.Common.None();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.None getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<None>
+        PARSER = new com.google.protobuf.AbstractParser<None>() {
+      @java.lang.Override
+      public None parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new None(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<None> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<None> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.None getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface I32ArrayOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.I32Array)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated int32 item = 1;</code>
+     * @return A list containing the item.
+     */
+    java.util.List<java.lang.Integer> getItemList();
+    /**
+     * <code>repeated int32 item = 1;</code>
+     * @return The count of item.
+     */
+    int getItemCount();
+    /**
+     * <code>repeated int32 item = 1;</code>
+     * @param index The index of the element to return.
+     * @return The item at the given index.
+     */
+    int getItem(int index);
+  }
+  /**
+   * Protobuf type {@code common.I32Array}
+   */
+  public static final class I32Array extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.I32Array)
+      I32ArrayOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use I32Array.newBuilder() to construct.
+    private I32Array(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private I32Array() {
+      item_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new I32Array();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private I32Array(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                item_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              item_.addInt(input.readInt32());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                item_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                item_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          item_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I32Array_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I32Array_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.Common.I32Array.class, com.alibaba.graphscope.gaia.proto.Common.I32Array.Builder.class);
+    }
+
+    public static final int ITEM_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.IntList item_;
+    /**
+     * <code>repeated int32 item = 1;</code>
+     * @return A list containing the item.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getItemList() {
+      return item_;
+    }
+    /**
+     * <code>repeated int32 item = 1;</code>
+     * @return The count of item.
+     */
+    public int getItemCount() {
+      return item_.size();
+    }
+    /**
+     * <code>repeated int32 item = 1;</code>
+     * @param index The index of the element to return.
+     * @return The item at the given index.
+     */
+    public int getItem(int index) {
+      return item_.getInt(index);
+    }
+    private int itemMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getItemList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(itemMemoizedSerializedSize);
+      }
+      for (int i = 0; i < item_.size(); i++) {
+        output.writeInt32NoTag(item_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < item_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(item_.getInt(i));
+        }
+        size += dataSize;
+        if (!getItemList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        itemMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.Common.I32Array)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.Common.I32Array other = (com.alibaba.graphscope.gaia.proto.Common.I32Array) obj;
+
+      if (!getItemList()
+          .equals(other.getItemList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getItemCount() > 0) {
+        hash = (37 * hash) + ITEM_FIELD_NUMBER;
+        hash = (53 * hash) + getItemList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.Common.I32Array prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.I32Array}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.I32Array)
+        com.alibaba.graphscope.gaia.proto.Common.I32ArrayOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I32Array_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I32Array_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.Common.I32Array.class, com.alibaba.graphscope.gaia.proto.Common.I32Array.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.Common.I32Array.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        item_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I32Array_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I32Array getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I32Array build() {
+        com.alibaba.graphscope.gaia.proto.Common.I32Array result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I32Array buildPartial() {
+        com.alibaba.graphscope.gaia.proto.Common.I32Array result = new com.alibaba.graphscope.gaia.proto.Common.I32Array(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          item_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.item_ = item_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.Common.I32Array) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.Common.I32Array)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.Common.I32Array other) {
+        if (other == com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance()) return this;
+        if (!other.item_.isEmpty()) {
+          if (item_.isEmpty()) {
+            item_ = other.item_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureItemIsMutable();
+            item_.addAll(other.item_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.Common.I32Array parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.Common.I32Array) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.IntList item_ = emptyIntList();
+      private void ensureItemIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          item_ = mutableCopy(item_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int32 item = 1;</code>
+       * @return A list containing the item.
+       */
+      public java.util.List<java.lang.Integer>
+          getItemList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(item_) : item_;
+      }
+      /**
+       * <code>repeated int32 item = 1;</code>
+       * @return The count of item.
+       */
+      public int getItemCount() {
+        return item_.size();
+      }
+      /**
+       * <code>repeated int32 item = 1;</code>
+       * @param index The index of the element to return.
+       * @return The item at the given index.
+       */
+      public int getItem(int index) {
+        return item_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 item = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The item to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItem(
+          int index, int value) {
+        ensureItemIsMutable();
+        item_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 item = 1;</code>
+       * @param value The item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItem(int value) {
+        ensureItemIsMutable();
+        item_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 item = 1;</code>
+       * @param values The item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllItem(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureItemIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, item_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 item = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItem() {
+        item_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.I32Array)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.I32Array)
+    private static final com.alibaba.graphscope.gaia.proto.Common.I32Array DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.Common.I32Array();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.I32Array getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<I32Array>
+        PARSER = new com.google.protobuf.AbstractParser<I32Array>() {
+      @java.lang.Override
+      public I32Array parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new I32Array(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<I32Array> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<I32Array> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.I32Array getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface I64ArrayOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.I64Array)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated int64 item = 1;</code>
+     * @return A list containing the item.
+     */
+    java.util.List<java.lang.Long> getItemList();
+    /**
+     * <code>repeated int64 item = 1;</code>
+     * @return The count of item.
+     */
+    int getItemCount();
+    /**
+     * <code>repeated int64 item = 1;</code>
+     * @param index The index of the element to return.
+     * @return The item at the given index.
+     */
+    long getItem(int index);
+  }
+  /**
+   * Protobuf type {@code common.I64Array}
+   */
+  public static final class I64Array extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.I64Array)
+      I64ArrayOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use I64Array.newBuilder() to construct.
+    private I64Array(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private I64Array() {
+      item_ = emptyLongList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new I64Array();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private I64Array(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                item_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              item_.addLong(input.readInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                item_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                item_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          item_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I64Array_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I64Array_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.Common.I64Array.class, com.alibaba.graphscope.gaia.proto.Common.I64Array.Builder.class);
+    }
+
+    public static final int ITEM_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.LongList item_;
+    /**
+     * <code>repeated int64 item = 1;</code>
+     * @return A list containing the item.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getItemList() {
+      return item_;
+    }
+    /**
+     * <code>repeated int64 item = 1;</code>
+     * @return The count of item.
+     */
+    public int getItemCount() {
+      return item_.size();
+    }
+    /**
+     * <code>repeated int64 item = 1;</code>
+     * @param index The index of the element to return.
+     * @return The item at the given index.
+     */
+    public long getItem(int index) {
+      return item_.getLong(index);
+    }
+    private int itemMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getItemList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(itemMemoizedSerializedSize);
+      }
+      for (int i = 0; i < item_.size(); i++) {
+        output.writeInt64NoTag(item_.getLong(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < item_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(item_.getLong(i));
+        }
+        size += dataSize;
+        if (!getItemList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        itemMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.Common.I64Array)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.Common.I64Array other = (com.alibaba.graphscope.gaia.proto.Common.I64Array) obj;
+
+      if (!getItemList()
+          .equals(other.getItemList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getItemCount() > 0) {
+        hash = (37 * hash) + ITEM_FIELD_NUMBER;
+        hash = (53 * hash) + getItemList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.Common.I64Array prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.I64Array}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.I64Array)
+        com.alibaba.graphscope.gaia.proto.Common.I64ArrayOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I64Array_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I64Array_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.Common.I64Array.class, com.alibaba.graphscope.gaia.proto.Common.I64Array.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.Common.I64Array.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        item_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_I64Array_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I64Array getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I64Array build() {
+        com.alibaba.graphscope.gaia.proto.Common.I64Array result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I64Array buildPartial() {
+        com.alibaba.graphscope.gaia.proto.Common.I64Array result = new com.alibaba.graphscope.gaia.proto.Common.I64Array(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          item_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.item_ = item_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.Common.I64Array) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.Common.I64Array)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.Common.I64Array other) {
+        if (other == com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance()) return this;
+        if (!other.item_.isEmpty()) {
+          if (item_.isEmpty()) {
+            item_ = other.item_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureItemIsMutable();
+            item_.addAll(other.item_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.Common.I64Array parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.Common.I64Array) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.LongList item_ = emptyLongList();
+      private void ensureItemIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          item_ = mutableCopy(item_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 item = 1;</code>
+       * @return A list containing the item.
+       */
+      public java.util.List<java.lang.Long>
+          getItemList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(item_) : item_;
+      }
+      /**
+       * <code>repeated int64 item = 1;</code>
+       * @return The count of item.
+       */
+      public int getItemCount() {
+        return item_.size();
+      }
+      /**
+       * <code>repeated int64 item = 1;</code>
+       * @param index The index of the element to return.
+       * @return The item at the given index.
+       */
+      public long getItem(int index) {
+        return item_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 item = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The item to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItem(
+          int index, long value) {
+        ensureItemIsMutable();
+        item_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 item = 1;</code>
+       * @param value The item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItem(long value) {
+        ensureItemIsMutable();
+        item_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 item = 1;</code>
+       * @param values The item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllItem(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureItemIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, item_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 item = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItem() {
+        item_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.I64Array)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.I64Array)
+    private static final com.alibaba.graphscope.gaia.proto.Common.I64Array DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.Common.I64Array();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.I64Array getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<I64Array>
+        PARSER = new com.google.protobuf.AbstractParser<I64Array>() {
+      @java.lang.Override
+      public I64Array parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new I64Array(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<I64Array> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<I64Array> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.I64Array getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DoubleArrayOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.DoubleArray)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated double item = 1;</code>
+     * @return A list containing the item.
+     */
+    java.util.List<java.lang.Double> getItemList();
+    /**
+     * <code>repeated double item = 1;</code>
+     * @return The count of item.
+     */
+    int getItemCount();
+    /**
+     * <code>repeated double item = 1;</code>
+     * @param index The index of the element to return.
+     * @return The item at the given index.
+     */
+    double getItem(int index);
+  }
+  /**
+   * Protobuf type {@code common.DoubleArray}
+   */
+  public static final class DoubleArray extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.DoubleArray)
+      DoubleArrayOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DoubleArray.newBuilder() to construct.
+    private DoubleArray(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DoubleArray() {
+      item_ = emptyDoubleList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DoubleArray();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DoubleArray(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 9: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                item_ = newDoubleList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              item_.addDouble(input.readDouble());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                item_ = newDoubleList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                item_.addDouble(input.readDouble());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          item_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_DoubleArray_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_DoubleArray_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.Common.DoubleArray.class, com.alibaba.graphscope.gaia.proto.Common.DoubleArray.Builder.class);
+    }
+
+    public static final int ITEM_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.DoubleList item_;
+    /**
+     * <code>repeated double item = 1;</code>
+     * @return A list containing the item.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getItemList() {
+      return item_;
+    }
+    /**
+     * <code>repeated double item = 1;</code>
+     * @return The count of item.
+     */
+    public int getItemCount() {
+      return item_.size();
+    }
+    /**
+     * <code>repeated double item = 1;</code>
+     * @param index The index of the element to return.
+     * @return The item at the given index.
+     */
+    public double getItem(int index) {
+      return item_.getDouble(index);
+    }
+    private int itemMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getItemList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(itemMemoizedSerializedSize);
+      }
+      for (int i = 0; i < item_.size(); i++) {
+        output.writeDoubleNoTag(item_.getDouble(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        dataSize = 8 * getItemList().size();
+        size += dataSize;
+        if (!getItemList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        itemMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.Common.DoubleArray)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.Common.DoubleArray other = (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) obj;
+
+      if (!getItemList()
+          .equals(other.getItemList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getItemCount() > 0) {
+        hash = (37 * hash) + ITEM_FIELD_NUMBER;
+        hash = (53 * hash) + getItemList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.Common.DoubleArray prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.DoubleArray}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.DoubleArray)
+        com.alibaba.graphscope.gaia.proto.Common.DoubleArrayOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_DoubleArray_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_DoubleArray_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.Common.DoubleArray.class, com.alibaba.graphscope.gaia.proto.Common.DoubleArray.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.Common.DoubleArray.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        item_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_DoubleArray_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.DoubleArray getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.DoubleArray build() {
+        com.alibaba.graphscope.gaia.proto.Common.DoubleArray result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.DoubleArray buildPartial() {
+        com.alibaba.graphscope.gaia.proto.Common.DoubleArray result = new com.alibaba.graphscope.gaia.proto.Common.DoubleArray(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          item_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.item_ = item_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.Common.DoubleArray) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.Common.DoubleArray)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.Common.DoubleArray other) {
+        if (other == com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance()) return this;
+        if (!other.item_.isEmpty()) {
+          if (item_.isEmpty()) {
+            item_ = other.item_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureItemIsMutable();
+            item_.addAll(other.item_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.Common.DoubleArray parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.DoubleList item_ = emptyDoubleList();
+      private void ensureItemIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          item_ = mutableCopy(item_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated double item = 1;</code>
+       * @return A list containing the item.
+       */
+      public java.util.List<java.lang.Double>
+          getItemList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(item_) : item_;
+      }
+      /**
+       * <code>repeated double item = 1;</code>
+       * @return The count of item.
+       */
+      public int getItemCount() {
+        return item_.size();
+      }
+      /**
+       * <code>repeated double item = 1;</code>
+       * @param index The index of the element to return.
+       * @return The item at the given index.
+       */
+      public double getItem(int index) {
+        return item_.getDouble(index);
+      }
+      /**
+       * <code>repeated double item = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The item to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItem(
+          int index, double value) {
+        ensureItemIsMutable();
+        item_.setDouble(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double item = 1;</code>
+       * @param value The item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItem(double value) {
+        ensureItemIsMutable();
+        item_.addDouble(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double item = 1;</code>
+       * @param values The item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllItem(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureItemIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, item_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double item = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItem() {
+        item_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.DoubleArray)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.DoubleArray)
+    private static final com.alibaba.graphscope.gaia.proto.Common.DoubleArray DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.Common.DoubleArray();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.DoubleArray getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DoubleArray>
+        PARSER = new com.google.protobuf.AbstractParser<DoubleArray>() {
+      @java.lang.Override
+      public DoubleArray parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DoubleArray(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DoubleArray> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DoubleArray> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.DoubleArray getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StringArrayOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.StringArray)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string item = 1;</code>
+     * @return A list containing the item.
+     */
+    java.util.List<java.lang.String>
+        getItemList();
+    /**
+     * <code>repeated string item = 1;</code>
+     * @return The count of item.
+     */
+    int getItemCount();
+    /**
+     * <code>repeated string item = 1;</code>
+     * @param index The index of the element to return.
+     * @return The item at the given index.
+     */
+    java.lang.String getItem(int index);
+    /**
+     * <code>repeated string item = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the item at the given index.
+     */
+    com.google.protobuf.ByteString
+        getItemBytes(int index);
+  }
+  /**
+   * Protobuf type {@code common.StringArray}
+   */
+  public static final class StringArray extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.StringArray)
+      StringArrayOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StringArray.newBuilder() to construct.
+    private StringArray(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StringArray() {
+      item_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StringArray();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StringArray(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                item_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              item_.add(s);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          item_ = item_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_StringArray_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_StringArray_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.Common.StringArray.class, com.alibaba.graphscope.gaia.proto.Common.StringArray.Builder.class);
+    }
+
+    public static final int ITEM_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList item_;
+    /**
+     * <code>repeated string item = 1;</code>
+     * @return A list containing the item.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getItemList() {
+      return item_;
+    }
+    /**
+     * <code>repeated string item = 1;</code>
+     * @return The count of item.
+     */
+    public int getItemCount() {
+      return item_.size();
+    }
+    /**
+     * <code>repeated string item = 1;</code>
+     * @param index The index of the element to return.
+     * @return The item at the given index.
+     */
+    public java.lang.String getItem(int index) {
+      return item_.get(index);
+    }
+    /**
+     * <code>repeated string item = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the item at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getItemBytes(int index) {
+      return item_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < item_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, item_.getRaw(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < item_.size(); i++) {
+          dataSize += computeStringSizeNoTag(item_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getItemList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.Common.StringArray)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.Common.StringArray other = (com.alibaba.graphscope.gaia.proto.Common.StringArray) obj;
+
+      if (!getItemList()
+          .equals(other.getItemList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getItemCount() > 0) {
+        hash = (37 * hash) + ITEM_FIELD_NUMBER;
+        hash = (53 * hash) + getItemList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.Common.StringArray prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.StringArray}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.StringArray)
+        com.alibaba.graphscope.gaia.proto.Common.StringArrayOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_StringArray_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_StringArray_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.Common.StringArray.class, com.alibaba.graphscope.gaia.proto.Common.StringArray.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.Common.StringArray.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        item_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_StringArray_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.StringArray getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.StringArray build() {
+        com.alibaba.graphscope.gaia.proto.Common.StringArray result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.StringArray buildPartial() {
+        com.alibaba.graphscope.gaia.proto.Common.StringArray result = new com.alibaba.graphscope.gaia.proto.Common.StringArray(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          item_ = item_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.item_ = item_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.Common.StringArray) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.Common.StringArray)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.Common.StringArray other) {
+        if (other == com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance()) return this;
+        if (!other.item_.isEmpty()) {
+          if (item_.isEmpty()) {
+            item_ = other.item_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureItemIsMutable();
+            item_.addAll(other.item_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.Common.StringArray parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.Common.StringArray) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList item_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureItemIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          item_ = new com.google.protobuf.LazyStringArrayList(item_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @return A list containing the item.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getItemList() {
+        return item_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @return The count of item.
+       */
+      public int getItemCount() {
+        return item_.size();
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @param index The index of the element to return.
+       * @return The item at the given index.
+       */
+      public java.lang.String getItem(int index) {
+        return item_.get(index);
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the item at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getItemBytes(int index) {
+        return item_.getByteString(index);
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The item to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItem(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureItemIsMutable();
+        item_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @param value The item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItem(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureItemIsMutable();
+        item_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @param values The item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllItem(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureItemIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, item_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItem() {
+        item_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string item = 1;</code>
+       * @param value The bytes of the item to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItemBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureItemIsMutable();
+        item_.add(value);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.StringArray)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.StringArray)
+    private static final com.alibaba.graphscope.gaia.proto.Common.StringArray DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.Common.StringArray();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.StringArray getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StringArray>
+        PARSER = new com.google.protobuf.AbstractParser<StringArray>() {
+      @java.lang.Override
+      public StringArray parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StringArray(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<StringArray> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StringArray> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.StringArray getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PairOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.Pair)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.common.Value key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>.common.Value key = 1;</code>
+     * @return The key.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.Value getKey();
+    /**
+     * <code>.common.Value key = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getKeyOrBuilder();
+
+    /**
+     * <code>.common.Value val = 2;</code>
+     * @return Whether the val field is set.
+     */
+    boolean hasVal();
+    /**
+     * <code>.common.Value val = 2;</code>
+     * @return The val.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.Value getVal();
+    /**
+     * <code>.common.Value val = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getValOrBuilder();
+  }
+  /**
+   * Protobuf type {@code common.Pair}
+   */
+  public static final class Pair extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.Pair)
+      PairOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Pair.newBuilder() to construct.
+    private Pair(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Pair() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Pair();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Pair(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.Common.Value.Builder subBuilder = null;
+              if (key_ != null) {
+                subBuilder = key_.toBuilder();
+              }
+              key_ = input.readMessage(com.alibaba.graphscope.gaia.proto.Common.Value.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(key_);
+                key_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.Common.Value.Builder subBuilder = null;
+              if (val_ != null) {
+                subBuilder = val_.toBuilder();
+              }
+              val_ = input.readMessage(com.alibaba.graphscope.gaia.proto.Common.Value.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(val_);
+                val_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Pair_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Pair_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.Common.Pair.class, com.alibaba.graphscope.gaia.proto.Common.Pair.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    private com.alibaba.graphscope.gaia.proto.Common.Value key_;
+    /**
+     * <code>.common.Value key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return key_ != null;
+    }
+    /**
+     * <code>.common.Value key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.Value getKey() {
+      return key_ == null ? com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : key_;
+    }
+    /**
+     * <code>.common.Value key = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getKeyOrBuilder() {
+      return getKey();
+    }
+
+    public static final int VAL_FIELD_NUMBER = 2;
+    private com.alibaba.graphscope.gaia.proto.Common.Value val_;
+    /**
+     * <code>.common.Value val = 2;</code>
+     * @return Whether the val field is set.
+     */
+    @java.lang.Override
+    public boolean hasVal() {
+      return val_ != null;
+    }
+    /**
+     * <code>.common.Value val = 2;</code>
+     * @return The val.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.Value getVal() {
+      return val_ == null ? com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : val_;
+    }
+    /**
+     * <code>.common.Value val = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getValOrBuilder() {
+      return getVal();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (key_ != null) {
+        output.writeMessage(1, getKey());
+      }
+      if (val_ != null) {
+        output.writeMessage(2, getVal());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (key_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getKey());
+      }
+      if (val_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getVal());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.Common.Pair)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.Common.Pair other = (com.alibaba.graphscope.gaia.proto.Common.Pair) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (hasVal() != other.hasVal()) return false;
+      if (hasVal()) {
+        if (!getVal()
+            .equals(other.getVal())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      if (hasVal()) {
+        hash = (37 * hash) + VAL_FIELD_NUMBER;
+        hash = (53 * hash) + getVal().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.Common.Pair prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.Pair}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.Pair)
+        com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Pair_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Pair_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.Common.Pair.class, com.alibaba.graphscope.gaia.proto.Common.Pair.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.Common.Pair.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (keyBuilder_ == null) {
+          key_ = null;
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+        if (valBuilder_ == null) {
+          val_ = null;
+        } else {
+          val_ = null;
+          valBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Pair_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.Pair getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.Pair.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.Pair build() {
+        com.alibaba.graphscope.gaia.proto.Common.Pair result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.Pair buildPartial() {
+        com.alibaba.graphscope.gaia.proto.Common.Pair result = new com.alibaba.graphscope.gaia.proto.Common.Pair(this);
+        if (keyBuilder_ == null) {
+          result.key_ = key_;
+        } else {
+          result.key_ = keyBuilder_.build();
+        }
+        if (valBuilder_ == null) {
+          result.val_ = val_;
+        } else {
+          result.val_ = valBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.Common.Pair) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.Common.Pair)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.Common.Pair other) {
+        if (other == com.alibaba.graphscope.gaia.proto.Common.Pair.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          mergeKey(other.getKey());
+        }
+        if (other.hasVal()) {
+          mergeVal(other.getVal());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.Common.Pair parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.Common.Pair) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.Common.Value key_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> keyBuilder_;
+      /**
+       * <code>.common.Value key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return keyBuilder_ != null || key_ != null;
+      }
+      /**
+       * <code>.common.Value key = 1;</code>
+       * @return The key.
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Value getKey() {
+        if (keyBuilder_ == null) {
+          return key_ == null ? com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : key_;
+        } else {
+          return keyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.Value key = 1;</code>
+       */
+      public Builder setKey(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (keyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          key_ = value;
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value key = 1;</code>
+       */
+      public Builder setKey(
+          com.alibaba.graphscope.gaia.proto.Common.Value.Builder builderForValue) {
+        if (keyBuilder_ == null) {
+          key_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value key = 1;</code>
+       */
+      public Builder mergeKey(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (keyBuilder_ == null) {
+          if (key_ != null) {
+            key_ =
+              com.alibaba.graphscope.gaia.proto.Common.Value.newBuilder(key_).mergeFrom(value).buildPartial();
+          } else {
+            key_ = value;
+          }
+          onChanged();
+        } else {
+          keyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value key = 1;</code>
+       */
+      public Builder clearKey() {
+        if (keyBuilder_ == null) {
+          key_ = null;
+          onChanged();
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value key = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Value.Builder getKeyBuilder() {
+        
+        onChanged();
+        return getKeyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.Value key = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getKeyOrBuilder() {
+        if (keyBuilder_ != null) {
+          return keyBuilder_.getMessageOrBuilder();
+        } else {
+          return key_ == null ?
+              com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : key_;
+        }
+      }
+      /**
+       * <code>.common.Value key = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> 
+          getKeyFieldBuilder() {
+        if (keyBuilder_ == null) {
+          keyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder>(
+                  getKey(),
+                  getParentForChildren(),
+                  isClean());
+          key_ = null;
+        }
+        return keyBuilder_;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.Common.Value val_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> valBuilder_;
+      /**
+       * <code>.common.Value val = 2;</code>
+       * @return Whether the val field is set.
+       */
+      public boolean hasVal() {
+        return valBuilder_ != null || val_ != null;
+      }
+      /**
+       * <code>.common.Value val = 2;</code>
+       * @return The val.
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Value getVal() {
+        if (valBuilder_ == null) {
+          return val_ == null ? com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : val_;
+        } else {
+          return valBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.Value val = 2;</code>
+       */
+      public Builder setVal(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (valBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          val_ = value;
+          onChanged();
+        } else {
+          valBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value val = 2;</code>
+       */
+      public Builder setVal(
+          com.alibaba.graphscope.gaia.proto.Common.Value.Builder builderForValue) {
+        if (valBuilder_ == null) {
+          val_ = builderForValue.build();
+          onChanged();
+        } else {
+          valBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value val = 2;</code>
+       */
+      public Builder mergeVal(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (valBuilder_ == null) {
+          if (val_ != null) {
+            val_ =
+              com.alibaba.graphscope.gaia.proto.Common.Value.newBuilder(val_).mergeFrom(value).buildPartial();
+          } else {
+            val_ = value;
+          }
+          onChanged();
+        } else {
+          valBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value val = 2;</code>
+       */
+      public Builder clearVal() {
+        if (valBuilder_ == null) {
+          val_ = null;
+          onChanged();
+        } else {
+          val_ = null;
+          valBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value val = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Value.Builder getValBuilder() {
+        
+        onChanged();
+        return getValFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.Value val = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getValOrBuilder() {
+        if (valBuilder_ != null) {
+          return valBuilder_.getMessageOrBuilder();
+        } else {
+          return val_ == null ?
+              com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : val_;
+        }
+      }
+      /**
+       * <code>.common.Value val = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> 
+          getValFieldBuilder() {
+        if (valBuilder_ == null) {
+          valBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder>(
+                  getVal(),
+                  getParentForChildren(),
+                  isClean());
+          val_ = null;
+        }
+        return valBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.Pair)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.Pair)
+    private static final com.alibaba.graphscope.gaia.proto.Common.Pair DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.Common.Pair();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.Pair getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Pair>
+        PARSER = new com.google.protobuf.AbstractParser<Pair>() {
+      @java.lang.Override
+      public Pair parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Pair(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Pair> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Pair> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.Pair getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PairArrayOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.PairArray)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.Common.Pair> 
+        getItemList();
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.Pair getItem(int index);
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    int getItemCount();
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder> 
+        getItemOrBuilderList();
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder getItemOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code common.PairArray}
+   */
+  public static final class PairArray extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.PairArray)
+      PairArrayOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PairArray.newBuilder() to construct.
+    private PairArray(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PairArray() {
+      item_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PairArray();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PairArray(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                item_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.Common.Pair>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              item_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.Pair.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          item_ = java.util.Collections.unmodifiableList(item_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_PairArray_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_PairArray_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.Common.PairArray.class, com.alibaba.graphscope.gaia.proto.Common.PairArray.Builder.class);
+    }
+
+    public static final int ITEM_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.Common.Pair> item_;
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.Common.Pair> getItemList() {
+      return item_;
+    }
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder> 
+        getItemOrBuilderList() {
+      return item_;
+    }
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    @java.lang.Override
+    public int getItemCount() {
+      return item_.size();
+    }
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.Pair getItem(int index) {
+      return item_.get(index);
+    }
+    /**
+     * <code>repeated .common.Pair item = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder getItemOrBuilder(
+        int index) {
+      return item_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < item_.size(); i++) {
+        output.writeMessage(1, item_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < item_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, item_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.Common.PairArray)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.Common.PairArray other = (com.alibaba.graphscope.gaia.proto.Common.PairArray) obj;
+
+      if (!getItemList()
+          .equals(other.getItemList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getItemCount() > 0) {
+        hash = (37 * hash) + ITEM_FIELD_NUMBER;
+        hash = (53 * hash) + getItemList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.Common.PairArray prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.PairArray}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.PairArray)
+        com.alibaba.graphscope.gaia.proto.Common.PairArrayOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_PairArray_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_PairArray_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.Common.PairArray.class, com.alibaba.graphscope.gaia.proto.Common.PairArray.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.Common.PairArray.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getItemFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (itemBuilder_ == null) {
+          item_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          itemBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_PairArray_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.PairArray getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.PairArray build() {
+        com.alibaba.graphscope.gaia.proto.Common.PairArray result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.PairArray buildPartial() {
+        com.alibaba.graphscope.gaia.proto.Common.PairArray result = new com.alibaba.graphscope.gaia.proto.Common.PairArray(this);
+        int from_bitField0_ = bitField0_;
+        if (itemBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            item_ = java.util.Collections.unmodifiableList(item_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.item_ = item_;
+        } else {
+          result.item_ = itemBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.Common.PairArray) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.Common.PairArray)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.Common.PairArray other) {
+        if (other == com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance()) return this;
+        if (itemBuilder_ == null) {
+          if (!other.item_.isEmpty()) {
+            if (item_.isEmpty()) {
+              item_ = other.item_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureItemIsMutable();
+              item_.addAll(other.item_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.item_.isEmpty()) {
+            if (itemBuilder_.isEmpty()) {
+              itemBuilder_.dispose();
+              itemBuilder_ = null;
+              item_ = other.item_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              itemBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getItemFieldBuilder() : null;
+            } else {
+              itemBuilder_.addAllMessages(other.item_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.Common.PairArray parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.Common.PairArray) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.Common.Pair> item_ =
+        java.util.Collections.emptyList();
+      private void ensureItemIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          item_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.Common.Pair>(item_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Pair, com.alibaba.graphscope.gaia.proto.Common.Pair.Builder, com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder> itemBuilder_;
+
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.Common.Pair> getItemList() {
+        if (itemBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(item_);
+        } else {
+          return itemBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public int getItemCount() {
+        if (itemBuilder_ == null) {
+          return item_.size();
+        } else {
+          return itemBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Pair getItem(int index) {
+        if (itemBuilder_ == null) {
+          return item_.get(index);
+        } else {
+          return itemBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder setItem(
+          int index, com.alibaba.graphscope.gaia.proto.Common.Pair value) {
+        if (itemBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemIsMutable();
+          item_.set(index, value);
+          onChanged();
+        } else {
+          itemBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder setItem(
+          int index, com.alibaba.graphscope.gaia.proto.Common.Pair.Builder builderForValue) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          item_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder addItem(com.alibaba.graphscope.gaia.proto.Common.Pair value) {
+        if (itemBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemIsMutable();
+          item_.add(value);
+          onChanged();
+        } else {
+          itemBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder addItem(
+          int index, com.alibaba.graphscope.gaia.proto.Common.Pair value) {
+        if (itemBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemIsMutable();
+          item_.add(index, value);
+          onChanged();
+        } else {
+          itemBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder addItem(
+          com.alibaba.graphscope.gaia.proto.Common.Pair.Builder builderForValue) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          item_.add(builderForValue.build());
+          onChanged();
+        } else {
+          itemBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder addItem(
+          int index, com.alibaba.graphscope.gaia.proto.Common.Pair.Builder builderForValue) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          item_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder addAllItem(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.Common.Pair> values) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, item_);
+          onChanged();
+        } else {
+          itemBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder clearItem() {
+        if (itemBuilder_ == null) {
+          item_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          itemBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public Builder removeItem(int index) {
+        if (itemBuilder_ == null) {
+          ensureItemIsMutable();
+          item_.remove(index);
+          onChanged();
+        } else {
+          itemBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Pair.Builder getItemBuilder(
+          int index) {
+        return getItemFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder getItemOrBuilder(
+          int index) {
+        if (itemBuilder_ == null) {
+          return item_.get(index);  } else {
+          return itemBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder> 
+           getItemOrBuilderList() {
+        if (itemBuilder_ != null) {
+          return itemBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(item_);
+        }
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Pair.Builder addItemBuilder() {
+        return getItemFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.Common.Pair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Pair.Builder addItemBuilder(
+          int index) {
+        return getItemFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.Common.Pair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .common.Pair item = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.Common.Pair.Builder> 
+           getItemBuilderList() {
+        return getItemFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Pair, com.alibaba.graphscope.gaia.proto.Common.Pair.Builder, com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder> 
+          getItemFieldBuilder() {
+        if (itemBuilder_ == null) {
+          itemBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.Pair, com.alibaba.graphscope.gaia.proto.Common.Pair.Builder, com.alibaba.graphscope.gaia.proto.Common.PairOrBuilder>(
+                  item_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        return itemBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.PairArray)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.PairArray)
+    private static final com.alibaba.graphscope.gaia.proto.Common.PairArray DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.Common.PairArray();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.PairArray getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PairArray>
+        PARSER = new com.google.protobuf.AbstractParser<PairArray>() {
+      @java.lang.Override
+      public PairArray parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PairArray(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PairArray> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PairArray> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.PairArray getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ValueOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.Value)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool boolean = 2;</code>
+     * @return Whether the boolean field is set.
+     */
+    boolean hasBoolean();
+    /**
+     * <code>bool boolean = 2;</code>
+     * @return The boolean.
+     */
+    boolean getBoolean();
+
+    /**
+     * <code>int32 i32 = 3;</code>
+     * @return Whether the i32 field is set.
+     */
+    boolean hasI32();
+    /**
+     * <code>int32 i32 = 3;</code>
+     * @return The i32.
+     */
+    int getI32();
+
+    /**
+     * <code>int64 i64 = 4;</code>
+     * @return Whether the i64 field is set.
+     */
+    boolean hasI64();
+    /**
+     * <code>int64 i64 = 4;</code>
+     * @return The i64.
+     */
+    long getI64();
+
+    /**
+     * <code>double f64 = 5;</code>
+     * @return Whether the f64 field is set.
+     */
+    boolean hasF64();
+    /**
+     * <code>double f64 = 5;</code>
+     * @return The f64.
+     */
+    double getF64();
+
+    /**
+     * <code>string str = 6;</code>
+     * @return Whether the str field is set.
+     */
+    boolean hasStr();
+    /**
+     * <code>string str = 6;</code>
+     * @return The str.
+     */
+    java.lang.String getStr();
+    /**
+     * <code>string str = 6;</code>
+     * @return The bytes for str.
+     */
+    com.google.protobuf.ByteString
+        getStrBytes();
+
+    /**
+     * <code>bytes blob = 7;</code>
+     * @return Whether the blob field is set.
+     */
+    boolean hasBlob();
+    /**
+     * <code>bytes blob = 7;</code>
+     * @return The blob.
+     */
+    com.google.protobuf.ByteString getBlob();
+
+    /**
+     * <code>.common.I32Array i32_array = 8;</code>
+     * @return Whether the i32Array field is set.
+     */
+    boolean hasI32Array();
+    /**
+     * <code>.common.I32Array i32_array = 8;</code>
+     * @return The i32Array.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.I32Array getI32Array();
+    /**
+     * <code>.common.I32Array i32_array = 8;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.I32ArrayOrBuilder getI32ArrayOrBuilder();
+
+    /**
+     * <code>.common.I64Array i64_array = 9;</code>
+     * @return Whether the i64Array field is set.
+     */
+    boolean hasI64Array();
+    /**
+     * <code>.common.I64Array i64_array = 9;</code>
+     * @return The i64Array.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.I64Array getI64Array();
+    /**
+     * <code>.common.I64Array i64_array = 9;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.I64ArrayOrBuilder getI64ArrayOrBuilder();
+
+    /**
+     * <code>.common.DoubleArray f64_array = 10;</code>
+     * @return Whether the f64Array field is set.
+     */
+    boolean hasF64Array();
+    /**
+     * <code>.common.DoubleArray f64_array = 10;</code>
+     * @return The f64Array.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.DoubleArray getF64Array();
+    /**
+     * <code>.common.DoubleArray f64_array = 10;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.DoubleArrayOrBuilder getF64ArrayOrBuilder();
+
+    /**
+     * <code>.common.StringArray str_array = 11;</code>
+     * @return Whether the strArray field is set.
+     */
+    boolean hasStrArray();
+    /**
+     * <code>.common.StringArray str_array = 11;</code>
+     * @return The strArray.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.StringArray getStrArray();
+    /**
+     * <code>.common.StringArray str_array = 11;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.StringArrayOrBuilder getStrArrayOrBuilder();
+
+    /**
+     * <code>.common.PairArray pair_array = 12;</code>
+     * @return Whether the pairArray field is set.
+     */
+    boolean hasPairArray();
+    /**
+     * <code>.common.PairArray pair_array = 12;</code>
+     * @return The pairArray.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.PairArray getPairArray();
+    /**
+     * <code>.common.PairArray pair_array = 12;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.PairArrayOrBuilder getPairArrayOrBuilder();
+
+    /**
+     * <code>.common.None none = 13;</code>
+     * @return Whether the none field is set.
+     */
+    boolean hasNone();
+    /**
+     * <code>.common.None none = 13;</code>
+     * @return The none.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.None getNone();
+    /**
+     * <code>.common.None none = 13;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.NoneOrBuilder getNoneOrBuilder();
+
+    public com.alibaba.graphscope.gaia.proto.Common.Value.ItemCase getItemCase();
+  }
+  /**
+   * Protobuf type {@code common.Value}
+   */
+  public static final class Value extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.Value)
+      ValueOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Value.newBuilder() to construct.
+    private Value(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Value() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Value();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Value(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 16: {
+              itemCase_ = 2;
+              item_ = input.readBool();
+              break;
+            }
+            case 24: {
+              itemCase_ = 3;
+              item_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              itemCase_ = 4;
+              item_ = input.readInt64();
+              break;
+            }
+            case 41: {
+              itemCase_ = 5;
+              item_ = input.readDouble();
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+              itemCase_ = 6;
+              item_ = s;
+              break;
+            }
+            case 58: {
+              itemCase_ = 7;
+              item_ = input.readBytes();
+              break;
+            }
+            case 66: {
+              com.alibaba.graphscope.gaia.proto.Common.I32Array.Builder subBuilder = null;
+              if (itemCase_ == 8) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.Common.I32Array) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.I32Array.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.Common.I32Array) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 8;
+              break;
+            }
+            case 74: {
+              com.alibaba.graphscope.gaia.proto.Common.I64Array.Builder subBuilder = null;
+              if (itemCase_ == 9) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.Common.I64Array) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.I64Array.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.Common.I64Array) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 9;
+              break;
+            }
+            case 82: {
+              com.alibaba.graphscope.gaia.proto.Common.DoubleArray.Builder subBuilder = null;
+              if (itemCase_ == 10) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.DoubleArray.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 10;
+              break;
+            }
+            case 90: {
+              com.alibaba.graphscope.gaia.proto.Common.StringArray.Builder subBuilder = null;
+              if (itemCase_ == 11) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.Common.StringArray) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.StringArray.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.Common.StringArray) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 11;
+              break;
+            }
+            case 98: {
+              com.alibaba.graphscope.gaia.proto.Common.PairArray.Builder subBuilder = null;
+              if (itemCase_ == 12) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.Common.PairArray) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.PairArray.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.Common.PairArray) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 12;
+              break;
+            }
+            case 106: {
+              com.alibaba.graphscope.gaia.proto.Common.None.Builder subBuilder = null;
+              if (itemCase_ == 13) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.Common.None) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.None.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.Common.None) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 13;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Value_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Value_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.Common.Value.class, com.alibaba.graphscope.gaia.proto.Common.Value.Builder.class);
+    }
+
+    private int itemCase_ = 0;
+    private java.lang.Object item_;
+    public enum ItemCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      BOOLEAN(2),
+      I32(3),
+      I64(4),
+      F64(5),
+      STR(6),
+      BLOB(7),
+      I32_ARRAY(8),
+      I64_ARRAY(9),
+      F64_ARRAY(10),
+      STR_ARRAY(11),
+      PAIR_ARRAY(12),
+      NONE(13),
+      ITEM_NOT_SET(0);
+      private final int value;
+      private ItemCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ItemCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ItemCase forNumber(int value) {
+        switch (value) {
+          case 2: return BOOLEAN;
+          case 3: return I32;
+          case 4: return I64;
+          case 5: return F64;
+          case 6: return STR;
+          case 7: return BLOB;
+          case 8: return I32_ARRAY;
+          case 9: return I64_ARRAY;
+          case 10: return F64_ARRAY;
+          case 11: return STR_ARRAY;
+          case 12: return PAIR_ARRAY;
+          case 13: return NONE;
+          case 0: return ITEM_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ItemCase
+    getItemCase() {
+      return ItemCase.forNumber(
+          itemCase_);
+    }
+
+    public static final int BOOLEAN_FIELD_NUMBER = 2;
+    /**
+     * <code>bool boolean = 2;</code>
+     * @return Whether the boolean field is set.
+     */
+    @java.lang.Override
+    public boolean hasBoolean() {
+      return itemCase_ == 2;
+    }
+    /**
+     * <code>bool boolean = 2;</code>
+     * @return The boolean.
+     */
+    @java.lang.Override
+    public boolean getBoolean() {
+      if (itemCase_ == 2) {
+        return (java.lang.Boolean) item_;
+      }
+      return false;
+    }
+
+    public static final int I32_FIELD_NUMBER = 3;
+    /**
+     * <code>int32 i32 = 3;</code>
+     * @return Whether the i32 field is set.
+     */
+    @java.lang.Override
+    public boolean hasI32() {
+      return itemCase_ == 3;
+    }
+    /**
+     * <code>int32 i32 = 3;</code>
+     * @return The i32.
+     */
+    @java.lang.Override
+    public int getI32() {
+      if (itemCase_ == 3) {
+        return (java.lang.Integer) item_;
+      }
+      return 0;
+    }
+
+    public static final int I64_FIELD_NUMBER = 4;
+    /**
+     * <code>int64 i64 = 4;</code>
+     * @return Whether the i64 field is set.
+     */
+    @java.lang.Override
+    public boolean hasI64() {
+      return itemCase_ == 4;
+    }
+    /**
+     * <code>int64 i64 = 4;</code>
+     * @return The i64.
+     */
+    @java.lang.Override
+    public long getI64() {
+      if (itemCase_ == 4) {
+        return (java.lang.Long) item_;
+      }
+      return 0L;
+    }
+
+    public static final int F64_FIELD_NUMBER = 5;
+    /**
+     * <code>double f64 = 5;</code>
+     * @return Whether the f64 field is set.
+     */
+    @java.lang.Override
+    public boolean hasF64() {
+      return itemCase_ == 5;
+    }
+    /**
+     * <code>double f64 = 5;</code>
+     * @return The f64.
+     */
+    @java.lang.Override
+    public double getF64() {
+      if (itemCase_ == 5) {
+        return (java.lang.Double) item_;
+      }
+      return 0D;
+    }
+
+    public static final int STR_FIELD_NUMBER = 6;
+    /**
+     * <code>string str = 6;</code>
+     * @return Whether the str field is set.
+     */
+    public boolean hasStr() {
+      return itemCase_ == 6;
+    }
+    /**
+     * <code>string str = 6;</code>
+     * @return The str.
+     */
+    public java.lang.String getStr() {
+      java.lang.Object ref = "";
+      if (itemCase_ == 6) {
+        ref = item_;
+      }
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (itemCase_ == 6) {
+          item_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>string str = 6;</code>
+     * @return The bytes for str.
+     */
+    public com.google.protobuf.ByteString
+        getStrBytes() {
+      java.lang.Object ref = "";
+      if (itemCase_ == 6) {
+        ref = item_;
+      }
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (itemCase_ == 6) {
+          item_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BLOB_FIELD_NUMBER = 7;
+    /**
+     * <code>bytes blob = 7;</code>
+     * @return Whether the blob field is set.
+     */
+    @java.lang.Override
+    public boolean hasBlob() {
+      return itemCase_ == 7;
+    }
+    /**
+     * <code>bytes blob = 7;</code>
+     * @return The blob.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getBlob() {
+      if (itemCase_ == 7) {
+        return (com.google.protobuf.ByteString) item_;
+      }
+      return com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final int I32_ARRAY_FIELD_NUMBER = 8;
+    /**
+     * <code>.common.I32Array i32_array = 8;</code>
+     * @return Whether the i32Array field is set.
+     */
+    @java.lang.Override
+    public boolean hasI32Array() {
+      return itemCase_ == 8;
+    }
+    /**
+     * <code>.common.I32Array i32_array = 8;</code>
+     * @return The i32Array.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.I32Array getI32Array() {
+      if (itemCase_ == 8) {
+         return (com.alibaba.graphscope.gaia.proto.Common.I32Array) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance();
+    }
+    /**
+     * <code>.common.I32Array i32_array = 8;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.I32ArrayOrBuilder getI32ArrayOrBuilder() {
+      if (itemCase_ == 8) {
+         return (com.alibaba.graphscope.gaia.proto.Common.I32Array) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance();
+    }
+
+    public static final int I64_ARRAY_FIELD_NUMBER = 9;
+    /**
+     * <code>.common.I64Array i64_array = 9;</code>
+     * @return Whether the i64Array field is set.
+     */
+    @java.lang.Override
+    public boolean hasI64Array() {
+      return itemCase_ == 9;
+    }
+    /**
+     * <code>.common.I64Array i64_array = 9;</code>
+     * @return The i64Array.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.I64Array getI64Array() {
+      if (itemCase_ == 9) {
+         return (com.alibaba.graphscope.gaia.proto.Common.I64Array) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance();
+    }
+    /**
+     * <code>.common.I64Array i64_array = 9;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.I64ArrayOrBuilder getI64ArrayOrBuilder() {
+      if (itemCase_ == 9) {
+         return (com.alibaba.graphscope.gaia.proto.Common.I64Array) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance();
+    }
+
+    public static final int F64_ARRAY_FIELD_NUMBER = 10;
+    /**
+     * <code>.common.DoubleArray f64_array = 10;</code>
+     * @return Whether the f64Array field is set.
+     */
+    @java.lang.Override
+    public boolean hasF64Array() {
+      return itemCase_ == 10;
+    }
+    /**
+     * <code>.common.DoubleArray f64_array = 10;</code>
+     * @return The f64Array.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.DoubleArray getF64Array() {
+      if (itemCase_ == 10) {
+         return (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance();
+    }
+    /**
+     * <code>.common.DoubleArray f64_array = 10;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.DoubleArrayOrBuilder getF64ArrayOrBuilder() {
+      if (itemCase_ == 10) {
+         return (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance();
+    }
+
+    public static final int STR_ARRAY_FIELD_NUMBER = 11;
+    /**
+     * <code>.common.StringArray str_array = 11;</code>
+     * @return Whether the strArray field is set.
+     */
+    @java.lang.Override
+    public boolean hasStrArray() {
+      return itemCase_ == 11;
+    }
+    /**
+     * <code>.common.StringArray str_array = 11;</code>
+     * @return The strArray.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.StringArray getStrArray() {
+      if (itemCase_ == 11) {
+         return (com.alibaba.graphscope.gaia.proto.Common.StringArray) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance();
+    }
+    /**
+     * <code>.common.StringArray str_array = 11;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.StringArrayOrBuilder getStrArrayOrBuilder() {
+      if (itemCase_ == 11) {
+         return (com.alibaba.graphscope.gaia.proto.Common.StringArray) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance();
+    }
+
+    public static final int PAIR_ARRAY_FIELD_NUMBER = 12;
+    /**
+     * <code>.common.PairArray pair_array = 12;</code>
+     * @return Whether the pairArray field is set.
+     */
+    @java.lang.Override
+    public boolean hasPairArray() {
+      return itemCase_ == 12;
+    }
+    /**
+     * <code>.common.PairArray pair_array = 12;</code>
+     * @return The pairArray.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.PairArray getPairArray() {
+      if (itemCase_ == 12) {
+         return (com.alibaba.graphscope.gaia.proto.Common.PairArray) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance();
+    }
+    /**
+     * <code>.common.PairArray pair_array = 12;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.PairArrayOrBuilder getPairArrayOrBuilder() {
+      if (itemCase_ == 12) {
+         return (com.alibaba.graphscope.gaia.proto.Common.PairArray) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance();
+    }
+
+    public static final int NONE_FIELD_NUMBER = 13;
+    /**
+     * <code>.common.None none = 13;</code>
+     * @return Whether the none field is set.
+     */
+    @java.lang.Override
+    public boolean hasNone() {
+      return itemCase_ == 13;
+    }
+    /**
+     * <code>.common.None none = 13;</code>
+     * @return The none.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.None getNone() {
+      if (itemCase_ == 13) {
+         return (com.alibaba.graphscope.gaia.proto.Common.None) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance();
+    }
+    /**
+     * <code>.common.None none = 13;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.NoneOrBuilder getNoneOrBuilder() {
+      if (itemCase_ == 13) {
+         return (com.alibaba.graphscope.gaia.proto.Common.None) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (itemCase_ == 2) {
+        output.writeBool(
+            2, (boolean)((java.lang.Boolean) item_));
+      }
+      if (itemCase_ == 3) {
+        output.writeInt32(
+            3, (int)((java.lang.Integer) item_));
+      }
+      if (itemCase_ == 4) {
+        output.writeInt64(
+            4, (long)((java.lang.Long) item_));
+      }
+      if (itemCase_ == 5) {
+        output.writeDouble(
+            5, (double)((java.lang.Double) item_));
+      }
+      if (itemCase_ == 6) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, item_);
+      }
+      if (itemCase_ == 7) {
+        output.writeBytes(
+            7, (com.google.protobuf.ByteString) item_);
+      }
+      if (itemCase_ == 8) {
+        output.writeMessage(8, (com.alibaba.graphscope.gaia.proto.Common.I32Array) item_);
+      }
+      if (itemCase_ == 9) {
+        output.writeMessage(9, (com.alibaba.graphscope.gaia.proto.Common.I64Array) item_);
+      }
+      if (itemCase_ == 10) {
+        output.writeMessage(10, (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_);
+      }
+      if (itemCase_ == 11) {
+        output.writeMessage(11, (com.alibaba.graphscope.gaia.proto.Common.StringArray) item_);
+      }
+      if (itemCase_ == 12) {
+        output.writeMessage(12, (com.alibaba.graphscope.gaia.proto.Common.PairArray) item_);
+      }
+      if (itemCase_ == 13) {
+        output.writeMessage(13, (com.alibaba.graphscope.gaia.proto.Common.None) item_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (itemCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(
+              2, (boolean)((java.lang.Boolean) item_));
+      }
+      if (itemCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(
+              3, (int)((java.lang.Integer) item_));
+      }
+      if (itemCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(
+              4, (long)((java.lang.Long) item_));
+      }
+      if (itemCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(
+              5, (double)((java.lang.Double) item_));
+      }
+      if (itemCase_ == 6) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, item_);
+      }
+      if (itemCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(
+              7, (com.google.protobuf.ByteString) item_);
+      }
+      if (itemCase_ == 8) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, (com.alibaba.graphscope.gaia.proto.Common.I32Array) item_);
+      }
+      if (itemCase_ == 9) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, (com.alibaba.graphscope.gaia.proto.Common.I64Array) item_);
+      }
+      if (itemCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_);
+      }
+      if (itemCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (com.alibaba.graphscope.gaia.proto.Common.StringArray) item_);
+      }
+      if (itemCase_ == 12) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, (com.alibaba.graphscope.gaia.proto.Common.PairArray) item_);
+      }
+      if (itemCase_ == 13) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(13, (com.alibaba.graphscope.gaia.proto.Common.None) item_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.Common.Value)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.Common.Value other = (com.alibaba.graphscope.gaia.proto.Common.Value) obj;
+
+      if (!getItemCase().equals(other.getItemCase())) return false;
+      switch (itemCase_) {
+        case 2:
+          if (getBoolean()
+              != other.getBoolean()) return false;
+          break;
+        case 3:
+          if (getI32()
+              != other.getI32()) return false;
+          break;
+        case 4:
+          if (getI64()
+              != other.getI64()) return false;
+          break;
+        case 5:
+          if (java.lang.Double.doubleToLongBits(getF64())
+              != java.lang.Double.doubleToLongBits(
+                  other.getF64())) return false;
+          break;
+        case 6:
+          if (!getStr()
+              .equals(other.getStr())) return false;
+          break;
+        case 7:
+          if (!getBlob()
+              .equals(other.getBlob())) return false;
+          break;
+        case 8:
+          if (!getI32Array()
+              .equals(other.getI32Array())) return false;
+          break;
+        case 9:
+          if (!getI64Array()
+              .equals(other.getI64Array())) return false;
+          break;
+        case 10:
+          if (!getF64Array()
+              .equals(other.getF64Array())) return false;
+          break;
+        case 11:
+          if (!getStrArray()
+              .equals(other.getStrArray())) return false;
+          break;
+        case 12:
+          if (!getPairArray()
+              .equals(other.getPairArray())) return false;
+          break;
+        case 13:
+          if (!getNone()
+              .equals(other.getNone())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (itemCase_) {
+        case 2:
+          hash = (37 * hash) + BOOLEAN_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+              getBoolean());
+          break;
+        case 3:
+          hash = (37 * hash) + I32_FIELD_NUMBER;
+          hash = (53 * hash) + getI32();
+          break;
+        case 4:
+          hash = (37 * hash) + I64_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getI64());
+          break;
+        case 5:
+          hash = (37 * hash) + F64_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              java.lang.Double.doubleToLongBits(getF64()));
+          break;
+        case 6:
+          hash = (37 * hash) + STR_FIELD_NUMBER;
+          hash = (53 * hash) + getStr().hashCode();
+          break;
+        case 7:
+          hash = (37 * hash) + BLOB_FIELD_NUMBER;
+          hash = (53 * hash) + getBlob().hashCode();
+          break;
+        case 8:
+          hash = (37 * hash) + I32_ARRAY_FIELD_NUMBER;
+          hash = (53 * hash) + getI32Array().hashCode();
+          break;
+        case 9:
+          hash = (37 * hash) + I64_ARRAY_FIELD_NUMBER;
+          hash = (53 * hash) + getI64Array().hashCode();
+          break;
+        case 10:
+          hash = (37 * hash) + F64_ARRAY_FIELD_NUMBER;
+          hash = (53 * hash) + getF64Array().hashCode();
+          break;
+        case 11:
+          hash = (37 * hash) + STR_ARRAY_FIELD_NUMBER;
+          hash = (53 * hash) + getStrArray().hashCode();
+          break;
+        case 12:
+          hash = (37 * hash) + PAIR_ARRAY_FIELD_NUMBER;
+          hash = (53 * hash) + getPairArray().hashCode();
+          break;
+        case 13:
+          hash = (37 * hash) + NONE_FIELD_NUMBER;
+          hash = (53 * hash) + getNone().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.Common.Value parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.Common.Value prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.Value}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.Value)
+        com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Value_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Value_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.Common.Value.class, com.alibaba.graphscope.gaia.proto.Common.Value.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.Common.Value.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        itemCase_ = 0;
+        item_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.internal_static_common_Value_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.Value getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.Value build() {
+        com.alibaba.graphscope.gaia.proto.Common.Value result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.Value buildPartial() {
+        com.alibaba.graphscope.gaia.proto.Common.Value result = new com.alibaba.graphscope.gaia.proto.Common.Value(this);
+        if (itemCase_ == 2) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 3) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 4) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 5) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 6) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 7) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 8) {
+          if (i32ArrayBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = i32ArrayBuilder_.build();
+          }
+        }
+        if (itemCase_ == 9) {
+          if (i64ArrayBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = i64ArrayBuilder_.build();
+          }
+        }
+        if (itemCase_ == 10) {
+          if (f64ArrayBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = f64ArrayBuilder_.build();
+          }
+        }
+        if (itemCase_ == 11) {
+          if (strArrayBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = strArrayBuilder_.build();
+          }
+        }
+        if (itemCase_ == 12) {
+          if (pairArrayBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = pairArrayBuilder_.build();
+          }
+        }
+        if (itemCase_ == 13) {
+          if (noneBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = noneBuilder_.build();
+          }
+        }
+        result.itemCase_ = itemCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.Common.Value) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.Common.Value)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.Common.Value other) {
+        if (other == com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance()) return this;
+        switch (other.getItemCase()) {
+          case BOOLEAN: {
+            setBoolean(other.getBoolean());
+            break;
+          }
+          case I32: {
+            setI32(other.getI32());
+            break;
+          }
+          case I64: {
+            setI64(other.getI64());
+            break;
+          }
+          case F64: {
+            setF64(other.getF64());
+            break;
+          }
+          case STR: {
+            itemCase_ = 6;
+            item_ = other.item_;
+            onChanged();
+            break;
+          }
+          case BLOB: {
+            setBlob(other.getBlob());
+            break;
+          }
+          case I32_ARRAY: {
+            mergeI32Array(other.getI32Array());
+            break;
+          }
+          case I64_ARRAY: {
+            mergeI64Array(other.getI64Array());
+            break;
+          }
+          case F64_ARRAY: {
+            mergeF64Array(other.getF64Array());
+            break;
+          }
+          case STR_ARRAY: {
+            mergeStrArray(other.getStrArray());
+            break;
+          }
+          case PAIR_ARRAY: {
+            mergePairArray(other.getPairArray());
+            break;
+          }
+          case NONE: {
+            mergeNone(other.getNone());
+            break;
+          }
+          case ITEM_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.Common.Value parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.Common.Value) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int itemCase_ = 0;
+      private java.lang.Object item_;
+      public ItemCase
+          getItemCase() {
+        return ItemCase.forNumber(
+            itemCase_);
+      }
+
+      public Builder clearItem() {
+        itemCase_ = 0;
+        item_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      /**
+       * <code>bool boolean = 2;</code>
+       * @return Whether the boolean field is set.
+       */
+      public boolean hasBoolean() {
+        return itemCase_ == 2;
+      }
+      /**
+       * <code>bool boolean = 2;</code>
+       * @return The boolean.
+       */
+      public boolean getBoolean() {
+        if (itemCase_ == 2) {
+          return (java.lang.Boolean) item_;
+        }
+        return false;
+      }
+      /**
+       * <code>bool boolean = 2;</code>
+       * @param value The boolean to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBoolean(boolean value) {
+        itemCase_ = 2;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool boolean = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBoolean() {
+        if (itemCase_ == 2) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>int32 i32 = 3;</code>
+       * @return Whether the i32 field is set.
+       */
+      public boolean hasI32() {
+        return itemCase_ == 3;
+      }
+      /**
+       * <code>int32 i32 = 3;</code>
+       * @return The i32.
+       */
+      public int getI32() {
+        if (itemCase_ == 3) {
+          return (java.lang.Integer) item_;
+        }
+        return 0;
+      }
+      /**
+       * <code>int32 i32 = 3;</code>
+       * @param value The i32 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setI32(int value) {
+        itemCase_ = 3;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 i32 = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearI32() {
+        if (itemCase_ == 3) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>int64 i64 = 4;</code>
+       * @return Whether the i64 field is set.
+       */
+      public boolean hasI64() {
+        return itemCase_ == 4;
+      }
+      /**
+       * <code>int64 i64 = 4;</code>
+       * @return The i64.
+       */
+      public long getI64() {
+        if (itemCase_ == 4) {
+          return (java.lang.Long) item_;
+        }
+        return 0L;
+      }
+      /**
+       * <code>int64 i64 = 4;</code>
+       * @param value The i64 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setI64(long value) {
+        itemCase_ = 4;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 i64 = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearI64() {
+        if (itemCase_ == 4) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>double f64 = 5;</code>
+       * @return Whether the f64 field is set.
+       */
+      public boolean hasF64() {
+        return itemCase_ == 5;
+      }
+      /**
+       * <code>double f64 = 5;</code>
+       * @return The f64.
+       */
+      public double getF64() {
+        if (itemCase_ == 5) {
+          return (java.lang.Double) item_;
+        }
+        return 0D;
+      }
+      /**
+       * <code>double f64 = 5;</code>
+       * @param value The f64 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setF64(double value) {
+        itemCase_ = 5;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double f64 = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearF64() {
+        if (itemCase_ == 5) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>string str = 6;</code>
+       * @return Whether the str field is set.
+       */
+      @java.lang.Override
+      public boolean hasStr() {
+        return itemCase_ == 6;
+      }
+      /**
+       * <code>string str = 6;</code>
+       * @return The str.
+       */
+      @java.lang.Override
+      public java.lang.String getStr() {
+        java.lang.Object ref = "";
+        if (itemCase_ == 6) {
+          ref = item_;
+        }
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (itemCase_ == 6) {
+            item_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string str = 6;</code>
+       * @return The bytes for str.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getStrBytes() {
+        java.lang.Object ref = "";
+        if (itemCase_ == 6) {
+          ref = item_;
+        }
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          if (itemCase_ == 6) {
+            item_ = b;
+          }
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string str = 6;</code>
+       * @param value The str to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStr(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  itemCase_ = 6;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string str = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStr() {
+        if (itemCase_ == 6) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>string str = 6;</code>
+       * @param value The bytes for str to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStrBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        itemCase_ = 6;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+
+      /**
+       * <code>bytes blob = 7;</code>
+       * @return Whether the blob field is set.
+       */
+      public boolean hasBlob() {
+        return itemCase_ == 7;
+      }
+      /**
+       * <code>bytes blob = 7;</code>
+       * @return The blob.
+       */
+      public com.google.protobuf.ByteString getBlob() {
+        if (itemCase_ == 7) {
+          return (com.google.protobuf.ByteString) item_;
+        }
+        return com.google.protobuf.ByteString.EMPTY;
+      }
+      /**
+       * <code>bytes blob = 7;</code>
+       * @param value The blob to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlob(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  itemCase_ = 7;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes blob = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlob() {
+        if (itemCase_ == 7) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.I32Array, com.alibaba.graphscope.gaia.proto.Common.I32Array.Builder, com.alibaba.graphscope.gaia.proto.Common.I32ArrayOrBuilder> i32ArrayBuilder_;
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       * @return Whether the i32Array field is set.
+       */
+      @java.lang.Override
+      public boolean hasI32Array() {
+        return itemCase_ == 8;
+      }
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       * @return The i32Array.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I32Array getI32Array() {
+        if (i32ArrayBuilder_ == null) {
+          if (itemCase_ == 8) {
+            return (com.alibaba.graphscope.gaia.proto.Common.I32Array) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance();
+        } else {
+          if (itemCase_ == 8) {
+            return i32ArrayBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       */
+      public Builder setI32Array(com.alibaba.graphscope.gaia.proto.Common.I32Array value) {
+        if (i32ArrayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          i32ArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       */
+      public Builder setI32Array(
+          com.alibaba.graphscope.gaia.proto.Common.I32Array.Builder builderForValue) {
+        if (i32ArrayBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          i32ArrayBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       */
+      public Builder mergeI32Array(com.alibaba.graphscope.gaia.proto.Common.I32Array value) {
+        if (i32ArrayBuilder_ == null) {
+          if (itemCase_ == 8 &&
+              item_ != com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.I32Array.newBuilder((com.alibaba.graphscope.gaia.proto.Common.I32Array) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 8) {
+            i32ArrayBuilder_.mergeFrom(value);
+          }
+          i32ArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       */
+      public Builder clearI32Array() {
+        if (i32ArrayBuilder_ == null) {
+          if (itemCase_ == 8) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 8) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          i32ArrayBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.I32Array.Builder getI32ArrayBuilder() {
+        return getI32ArrayFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I32ArrayOrBuilder getI32ArrayOrBuilder() {
+        if ((itemCase_ == 8) && (i32ArrayBuilder_ != null)) {
+          return i32ArrayBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 8) {
+            return (com.alibaba.graphscope.gaia.proto.Common.I32Array) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.I32Array i32_array = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.I32Array, com.alibaba.graphscope.gaia.proto.Common.I32Array.Builder, com.alibaba.graphscope.gaia.proto.Common.I32ArrayOrBuilder> 
+          getI32ArrayFieldBuilder() {
+        if (i32ArrayBuilder_ == null) {
+          if (!(itemCase_ == 8)) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.I32Array.getDefaultInstance();
+          }
+          i32ArrayBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.I32Array, com.alibaba.graphscope.gaia.proto.Common.I32Array.Builder, com.alibaba.graphscope.gaia.proto.Common.I32ArrayOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.Common.I32Array) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 8;
+        onChanged();;
+        return i32ArrayBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.I64Array, com.alibaba.graphscope.gaia.proto.Common.I64Array.Builder, com.alibaba.graphscope.gaia.proto.Common.I64ArrayOrBuilder> i64ArrayBuilder_;
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       * @return Whether the i64Array field is set.
+       */
+      @java.lang.Override
+      public boolean hasI64Array() {
+        return itemCase_ == 9;
+      }
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       * @return The i64Array.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I64Array getI64Array() {
+        if (i64ArrayBuilder_ == null) {
+          if (itemCase_ == 9) {
+            return (com.alibaba.graphscope.gaia.proto.Common.I64Array) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance();
+        } else {
+          if (itemCase_ == 9) {
+            return i64ArrayBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       */
+      public Builder setI64Array(com.alibaba.graphscope.gaia.proto.Common.I64Array value) {
+        if (i64ArrayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          i64ArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       */
+      public Builder setI64Array(
+          com.alibaba.graphscope.gaia.proto.Common.I64Array.Builder builderForValue) {
+        if (i64ArrayBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          i64ArrayBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       */
+      public Builder mergeI64Array(com.alibaba.graphscope.gaia.proto.Common.I64Array value) {
+        if (i64ArrayBuilder_ == null) {
+          if (itemCase_ == 9 &&
+              item_ != com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.I64Array.newBuilder((com.alibaba.graphscope.gaia.proto.Common.I64Array) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 9) {
+            i64ArrayBuilder_.mergeFrom(value);
+          }
+          i64ArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       */
+      public Builder clearI64Array() {
+        if (i64ArrayBuilder_ == null) {
+          if (itemCase_ == 9) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 9) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          i64ArrayBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.I64Array.Builder getI64ArrayBuilder() {
+        return getI64ArrayFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.I64ArrayOrBuilder getI64ArrayOrBuilder() {
+        if ((itemCase_ == 9) && (i64ArrayBuilder_ != null)) {
+          return i64ArrayBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 9) {
+            return (com.alibaba.graphscope.gaia.proto.Common.I64Array) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.I64Array i64_array = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.I64Array, com.alibaba.graphscope.gaia.proto.Common.I64Array.Builder, com.alibaba.graphscope.gaia.proto.Common.I64ArrayOrBuilder> 
+          getI64ArrayFieldBuilder() {
+        if (i64ArrayBuilder_ == null) {
+          if (!(itemCase_ == 9)) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.I64Array.getDefaultInstance();
+          }
+          i64ArrayBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.I64Array, com.alibaba.graphscope.gaia.proto.Common.I64Array.Builder, com.alibaba.graphscope.gaia.proto.Common.I64ArrayOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.Common.I64Array) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 9;
+        onChanged();;
+        return i64ArrayBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.DoubleArray, com.alibaba.graphscope.gaia.proto.Common.DoubleArray.Builder, com.alibaba.graphscope.gaia.proto.Common.DoubleArrayOrBuilder> f64ArrayBuilder_;
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       * @return Whether the f64Array field is set.
+       */
+      @java.lang.Override
+      public boolean hasF64Array() {
+        return itemCase_ == 10;
+      }
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       * @return The f64Array.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.DoubleArray getF64Array() {
+        if (f64ArrayBuilder_ == null) {
+          if (itemCase_ == 10) {
+            return (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance();
+        } else {
+          if (itemCase_ == 10) {
+            return f64ArrayBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       */
+      public Builder setF64Array(com.alibaba.graphscope.gaia.proto.Common.DoubleArray value) {
+        if (f64ArrayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          f64ArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       */
+      public Builder setF64Array(
+          com.alibaba.graphscope.gaia.proto.Common.DoubleArray.Builder builderForValue) {
+        if (f64ArrayBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          f64ArrayBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       */
+      public Builder mergeF64Array(com.alibaba.graphscope.gaia.proto.Common.DoubleArray value) {
+        if (f64ArrayBuilder_ == null) {
+          if (itemCase_ == 10 &&
+              item_ != com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.DoubleArray.newBuilder((com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 10) {
+            f64ArrayBuilder_.mergeFrom(value);
+          }
+          f64ArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       */
+      public Builder clearF64Array() {
+        if (f64ArrayBuilder_ == null) {
+          if (itemCase_ == 10) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 10) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          f64ArrayBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.DoubleArray.Builder getF64ArrayBuilder() {
+        return getF64ArrayFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.DoubleArrayOrBuilder getF64ArrayOrBuilder() {
+        if ((itemCase_ == 10) && (f64ArrayBuilder_ != null)) {
+          return f64ArrayBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 10) {
+            return (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.DoubleArray f64_array = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.DoubleArray, com.alibaba.graphscope.gaia.proto.Common.DoubleArray.Builder, com.alibaba.graphscope.gaia.proto.Common.DoubleArrayOrBuilder> 
+          getF64ArrayFieldBuilder() {
+        if (f64ArrayBuilder_ == null) {
+          if (!(itemCase_ == 10)) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.DoubleArray.getDefaultInstance();
+          }
+          f64ArrayBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.DoubleArray, com.alibaba.graphscope.gaia.proto.Common.DoubleArray.Builder, com.alibaba.graphscope.gaia.proto.Common.DoubleArrayOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.Common.DoubleArray) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 10;
+        onChanged();;
+        return f64ArrayBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.StringArray, com.alibaba.graphscope.gaia.proto.Common.StringArray.Builder, com.alibaba.graphscope.gaia.proto.Common.StringArrayOrBuilder> strArrayBuilder_;
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       * @return Whether the strArray field is set.
+       */
+      @java.lang.Override
+      public boolean hasStrArray() {
+        return itemCase_ == 11;
+      }
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       * @return The strArray.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.StringArray getStrArray() {
+        if (strArrayBuilder_ == null) {
+          if (itemCase_ == 11) {
+            return (com.alibaba.graphscope.gaia.proto.Common.StringArray) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance();
+        } else {
+          if (itemCase_ == 11) {
+            return strArrayBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       */
+      public Builder setStrArray(com.alibaba.graphscope.gaia.proto.Common.StringArray value) {
+        if (strArrayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          strArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       */
+      public Builder setStrArray(
+          com.alibaba.graphscope.gaia.proto.Common.StringArray.Builder builderForValue) {
+        if (strArrayBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          strArrayBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       */
+      public Builder mergeStrArray(com.alibaba.graphscope.gaia.proto.Common.StringArray value) {
+        if (strArrayBuilder_ == null) {
+          if (itemCase_ == 11 &&
+              item_ != com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.StringArray.newBuilder((com.alibaba.graphscope.gaia.proto.Common.StringArray) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 11) {
+            strArrayBuilder_.mergeFrom(value);
+          }
+          strArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       */
+      public Builder clearStrArray() {
+        if (strArrayBuilder_ == null) {
+          if (itemCase_ == 11) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 11) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          strArrayBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.StringArray.Builder getStrArrayBuilder() {
+        return getStrArrayFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.StringArrayOrBuilder getStrArrayOrBuilder() {
+        if ((itemCase_ == 11) && (strArrayBuilder_ != null)) {
+          return strArrayBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 11) {
+            return (com.alibaba.graphscope.gaia.proto.Common.StringArray) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.StringArray str_array = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.StringArray, com.alibaba.graphscope.gaia.proto.Common.StringArray.Builder, com.alibaba.graphscope.gaia.proto.Common.StringArrayOrBuilder> 
+          getStrArrayFieldBuilder() {
+        if (strArrayBuilder_ == null) {
+          if (!(itemCase_ == 11)) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.StringArray.getDefaultInstance();
+          }
+          strArrayBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.StringArray, com.alibaba.graphscope.gaia.proto.Common.StringArray.Builder, com.alibaba.graphscope.gaia.proto.Common.StringArrayOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.Common.StringArray) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 11;
+        onChanged();;
+        return strArrayBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.PairArray, com.alibaba.graphscope.gaia.proto.Common.PairArray.Builder, com.alibaba.graphscope.gaia.proto.Common.PairArrayOrBuilder> pairArrayBuilder_;
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       * @return Whether the pairArray field is set.
+       */
+      @java.lang.Override
+      public boolean hasPairArray() {
+        return itemCase_ == 12;
+      }
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       * @return The pairArray.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.PairArray getPairArray() {
+        if (pairArrayBuilder_ == null) {
+          if (itemCase_ == 12) {
+            return (com.alibaba.graphscope.gaia.proto.Common.PairArray) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance();
+        } else {
+          if (itemCase_ == 12) {
+            return pairArrayBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       */
+      public Builder setPairArray(com.alibaba.graphscope.gaia.proto.Common.PairArray value) {
+        if (pairArrayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          pairArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       */
+      public Builder setPairArray(
+          com.alibaba.graphscope.gaia.proto.Common.PairArray.Builder builderForValue) {
+        if (pairArrayBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          pairArrayBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       */
+      public Builder mergePairArray(com.alibaba.graphscope.gaia.proto.Common.PairArray value) {
+        if (pairArrayBuilder_ == null) {
+          if (itemCase_ == 12 &&
+              item_ != com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.PairArray.newBuilder((com.alibaba.graphscope.gaia.proto.Common.PairArray) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 12) {
+            pairArrayBuilder_.mergeFrom(value);
+          }
+          pairArrayBuilder_.setMessage(value);
+        }
+        itemCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       */
+      public Builder clearPairArray() {
+        if (pairArrayBuilder_ == null) {
+          if (itemCase_ == 12) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 12) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          pairArrayBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.PairArray.Builder getPairArrayBuilder() {
+        return getPairArrayFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.PairArrayOrBuilder getPairArrayOrBuilder() {
+        if ((itemCase_ == 12) && (pairArrayBuilder_ != null)) {
+          return pairArrayBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 12) {
+            return (com.alibaba.graphscope.gaia.proto.Common.PairArray) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.PairArray pair_array = 12;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.PairArray, com.alibaba.graphscope.gaia.proto.Common.PairArray.Builder, com.alibaba.graphscope.gaia.proto.Common.PairArrayOrBuilder> 
+          getPairArrayFieldBuilder() {
+        if (pairArrayBuilder_ == null) {
+          if (!(itemCase_ == 12)) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.PairArray.getDefaultInstance();
+          }
+          pairArrayBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.PairArray, com.alibaba.graphscope.gaia.proto.Common.PairArray.Builder, com.alibaba.graphscope.gaia.proto.Common.PairArrayOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.Common.PairArray) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 12;
+        onChanged();;
+        return pairArrayBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.None, com.alibaba.graphscope.gaia.proto.Common.None.Builder, com.alibaba.graphscope.gaia.proto.Common.NoneOrBuilder> noneBuilder_;
+      /**
+       * <code>.common.None none = 13;</code>
+       * @return Whether the none field is set.
+       */
+      @java.lang.Override
+      public boolean hasNone() {
+        return itemCase_ == 13;
+      }
+      /**
+       * <code>.common.None none = 13;</code>
+       * @return The none.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.None getNone() {
+        if (noneBuilder_ == null) {
+          if (itemCase_ == 13) {
+            return (com.alibaba.graphscope.gaia.proto.Common.None) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance();
+        } else {
+          if (itemCase_ == 13) {
+            return noneBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.None none = 13;</code>
+       */
+      public Builder setNone(com.alibaba.graphscope.gaia.proto.Common.None value) {
+        if (noneBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          noneBuilder_.setMessage(value);
+        }
+        itemCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.common.None none = 13;</code>
+       */
+      public Builder setNone(
+          com.alibaba.graphscope.gaia.proto.Common.None.Builder builderForValue) {
+        if (noneBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          noneBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.common.None none = 13;</code>
+       */
+      public Builder mergeNone(com.alibaba.graphscope.gaia.proto.Common.None value) {
+        if (noneBuilder_ == null) {
+          if (itemCase_ == 13 &&
+              item_ != com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.None.newBuilder((com.alibaba.graphscope.gaia.proto.Common.None) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 13) {
+            noneBuilder_.mergeFrom(value);
+          }
+          noneBuilder_.setMessage(value);
+        }
+        itemCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>.common.None none = 13;</code>
+       */
+      public Builder clearNone() {
+        if (noneBuilder_ == null) {
+          if (itemCase_ == 13) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 13) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          noneBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.None none = 13;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.None.Builder getNoneBuilder() {
+        return getNoneFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.None none = 13;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.NoneOrBuilder getNoneOrBuilder() {
+        if ((itemCase_ == 13) && (noneBuilder_ != null)) {
+          return noneBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 13) {
+            return (com.alibaba.graphscope.gaia.proto.Common.None) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.None none = 13;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.None, com.alibaba.graphscope.gaia.proto.Common.None.Builder, com.alibaba.graphscope.gaia.proto.Common.NoneOrBuilder> 
+          getNoneFieldBuilder() {
+        if (noneBuilder_ == null) {
+          if (!(itemCase_ == 13)) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.None.getDefaultInstance();
+          }
+          noneBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.None, com.alibaba.graphscope.gaia.proto.Common.None.Builder, com.alibaba.graphscope.gaia.proto.Common.NoneOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.Common.None) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 13;
+        onChanged();;
+        return noneBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.Value)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.Value)
+    private static final com.alibaba.graphscope.gaia.proto.Common.Value DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.Common.Value();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.Common.Value getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Value>
+        PARSER = new com.google.protobuf.AbstractParser<Value>() {
+      @java.lang.Override
+      public Value parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Value(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Value> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Value> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.Value getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_None_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_None_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_I32Array_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_I32Array_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_I64Array_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_I64Array_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_DoubleArray_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_DoubleArray_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_StringArray_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_StringArray_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_Pair_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_Pair_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_PairArray_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_PairArray_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_Value_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_Value_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\014common.proto\022\006common\"\006\n\004None\"\030\n\010I32Arr" +
+      "ay\022\014\n\004item\030\001 \003(\005\"\030\n\010I64Array\022\014\n\004item\030\001 \003" +
+      "(\003\"\033\n\013DoubleArray\022\014\n\004item\030\001 \003(\001\"\033\n\013Strin" +
+      "gArray\022\014\n\004item\030\001 \003(\t\">\n\004Pair\022\032\n\003key\030\001 \001(" +
+      "\0132\r.common.Value\022\032\n\003val\030\002 \001(\0132\r.common.V" +
+      "alue\"\'\n\tPairArray\022\032\n\004item\030\001 \003(\0132\014.common" +
+      ".Pair\"\327\002\n\005Value\022\021\n\007boolean\030\002 \001(\010H\000\022\r\n\003i3" +
+      "2\030\003 \001(\005H\000\022\r\n\003i64\030\004 \001(\003H\000\022\r\n\003f64\030\005 \001(\001H\000\022" +
+      "\r\n\003str\030\006 \001(\tH\000\022\016\n\004blob\030\007 \001(\014H\000\022%\n\ti32_ar" +
+      "ray\030\010 \001(\0132\020.common.I32ArrayH\000\022%\n\ti64_arr" +
+      "ay\030\t \001(\0132\020.common.I64ArrayH\000\022(\n\tf64_arra" +
+      "y\030\n \001(\0132\023.common.DoubleArrayH\000\022(\n\tstr_ar" +
+      "ray\030\013 \001(\0132\023.common.StringArrayH\000\022\'\n\npair" +
+      "_array\030\014 \001(\0132\021.common.PairArrayH\000\022\034\n\004non" +
+      "e\030\r \001(\0132\014.common.NoneH\000B\006\n\004item*\260\001\n\010Data" +
+      "Type\022\013\n\007BOOLEAN\020\000\022\t\n\005INT32\020\001\022\t\n\005INT64\020\002\022" +
+      "\n\n\006DOUBLE\020\003\022\n\n\006STRING\020\004\022\t\n\005BYTES\020\005\022\017\n\013IN" +
+      "T32_ARRAY\020\006\022\017\n\013INT64_ARRAY\020\007\022\020\n\014DOUBLE_A" +
+      "RRAY\020\010\022\020\n\014STRING_ARRAY\020\t\022\016\n\nPAIR_ARRAY\020\n" +
+      "\022\010\n\004NONE\020\013B+\n!com.alibaba.graphscope.gai" +
+      "a.protoB\006Commonb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_common_None_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_common_None_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_None_descriptor,
+        new java.lang.String[] { });
+    internal_static_common_I32Array_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_common_I32Array_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_I32Array_descriptor,
+        new java.lang.String[] { "Item", });
+    internal_static_common_I64Array_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_common_I64Array_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_I64Array_descriptor,
+        new java.lang.String[] { "Item", });
+    internal_static_common_DoubleArray_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_common_DoubleArray_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_DoubleArray_descriptor,
+        new java.lang.String[] { "Item", });
+    internal_static_common_StringArray_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_common_StringArray_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_StringArray_descriptor,
+        new java.lang.String[] { "Item", });
+    internal_static_common_Pair_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_common_Pair_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_Pair_descriptor,
+        new java.lang.String[] { "Key", "Val", });
+    internal_static_common_PairArray_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_common_PairArray_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_PairArray_descriptor,
+        new java.lang.String[] { "Item", });
+    internal_static_common_Value_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_common_Value_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_Value_descriptor,
+        new java.lang.String[] { "Boolean", "I32", "I64", "F64", "Str", "Blob", "I32Array", "I64Array", "F64Array", "StrArray", "PairArray", "None", "Item", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
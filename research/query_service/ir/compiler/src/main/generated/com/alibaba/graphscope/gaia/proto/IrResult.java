@@ -0,0 +1,10913 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: results.proto
+
+package com.alibaba.graphscope.gaia.proto;
+
+public final class IrResult {
+  private IrResult() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface PropertyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Property)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     * @return The key.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey();
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder();
+
+    /**
+     * <code>.common.Value value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>.common.Value value = 2;</code>
+     * @return The value.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.Value getValue();
+    /**
+     * <code>.common.Value value = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getValueOrBuilder();
+  }
+  /**
+   * Protobuf type {@code results.Property}
+   */
+  public static final class Property extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Property)
+      PropertyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Property.newBuilder() to construct.
+    private Property(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Property() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Property();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Property(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (key_ != null) {
+                subBuilder = key_.toBuilder();
+              }
+              key_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(key_);
+                key_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.Common.Value.Builder subBuilder = null;
+              if (value_ != null) {
+                subBuilder = value_.toBuilder();
+              }
+              value_ = input.readMessage(com.alibaba.graphscope.gaia.proto.Common.Value.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(value_);
+                value_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Property_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Property_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Property.class, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId key_;
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return key_ != null;
+    }
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey() {
+      return key_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : key_;
+    }
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder() {
+      return getKey();
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.alibaba.graphscope.gaia.proto.Common.Value value_;
+    /**
+     * <code>.common.Value value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return value_ != null;
+    }
+    /**
+     * <code>.common.Value value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.Value getValue() {
+      return value_ == null ? com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : value_;
+    }
+    /**
+     * <code>.common.Value value = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getValueOrBuilder() {
+      return getValue();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (key_ != null) {
+        output.writeMessage(1, getKey());
+      }
+      if (value_ != null) {
+        output.writeMessage(2, getValue());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (key_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getKey());
+      }
+      if (value_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getValue());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Property)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Property other = (com.alibaba.graphscope.gaia.proto.IrResult.Property) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Property prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Property}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Property)
+        com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Property_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Property_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Property.class, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Property.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (keyBuilder_ == null) {
+          key_ = null;
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+        if (valueBuilder_ == null) {
+          value_ = null;
+        } else {
+          value_ = null;
+          valueBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Property_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Property.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Property result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Property result = new com.alibaba.graphscope.gaia.proto.IrResult.Property(this);
+        if (keyBuilder_ == null) {
+          result.key_ = key_;
+        } else {
+          result.key_ = keyBuilder_.build();
+        }
+        if (valueBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = valueBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Property) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Property)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Property other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Property.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          mergeKey(other.getKey());
+        }
+        if (other.hasValue()) {
+          mergeValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Property parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Property) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId key_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> keyBuilder_;
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return keyBuilder_ != null || key_ != null;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       * @return The key.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey() {
+        if (keyBuilder_ == null) {
+          return key_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : key_;
+        } else {
+          return keyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public Builder setKey(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (keyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          key_ = value;
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public Builder setKey(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (keyBuilder_ == null) {
+          key_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public Builder mergeKey(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (keyBuilder_ == null) {
+          if (key_ != null) {
+            key_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder(key_).mergeFrom(value).buildPartial();
+          } else {
+            key_ = value;
+          }
+          onChanged();
+        } else {
+          keyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public Builder clearKey() {
+        if (keyBuilder_ == null) {
+          key_ = null;
+          onChanged();
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getKeyBuilder() {
+        
+        onChanged();
+        return getKeyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder() {
+        if (keyBuilder_ != null) {
+          return keyBuilder_.getMessageOrBuilder();
+        } else {
+          return key_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : key_;
+        }
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getKeyFieldBuilder() {
+        if (keyBuilder_ == null) {
+          keyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  getKey(),
+                  getParentForChildren(),
+                  isClean());
+          key_ = null;
+        }
+        return keyBuilder_;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.Common.Value value_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> valueBuilder_;
+      /**
+       * <code>.common.Value value = 2;</code>
+       * @return Whether the value field is set.
+       */
+      public boolean hasValue() {
+        return valueBuilder_ != null || value_ != null;
+      }
+      /**
+       * <code>.common.Value value = 2;</code>
+       * @return The value.
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Value getValue() {
+        if (valueBuilder_ == null) {
+          return value_ == null ? com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : value_;
+        } else {
+          return valueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.Value value = 2;</code>
+       */
+      public Builder setValue(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (valueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          valueBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value value = 2;</code>
+       */
+      public Builder setValue(
+          com.alibaba.graphscope.gaia.proto.Common.Value.Builder builderForValue) {
+        if (valueBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          valueBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value value = 2;</code>
+       */
+      public Builder mergeValue(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (valueBuilder_ == null) {
+          if (value_ != null) {
+            value_ =
+              com.alibaba.graphscope.gaia.proto.Common.Value.newBuilder(value_).mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          valueBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value value = 2;</code>
+       */
+      public Builder clearValue() {
+        if (valueBuilder_ == null) {
+          value_ = null;
+          onChanged();
+        } else {
+          value_ = null;
+          valueBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.Value value = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Value.Builder getValueBuilder() {
+        
+        onChanged();
+        return getValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.Value value = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getValueOrBuilder() {
+        if (valueBuilder_ != null) {
+          return valueBuilder_.getMessageOrBuilder();
+        } else {
+          return value_ == null ?
+              com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance() : value_;
+        }
+      }
+      /**
+       * <code>.common.Value value = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> 
+          getValueFieldBuilder() {
+        if (valueBuilder_ == null) {
+          valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder>(
+                  getValue(),
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        return valueBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Property)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Property)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Property DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Property();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Property getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Property>
+        PARSER = new com.google.protobuf.AbstractParser<Property>() {
+      @java.lang.Override
+      public Property parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Property(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Property> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Property> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Property getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VertexOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Vertex)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    long getId();
+
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     * @return Whether the label field is set.
+     */
+    boolean hasLabel();
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     * @return The label.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getLabel();
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getLabelOrBuilder();
+
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> 
+        getPropertiesList();
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Property getProperties(int index);
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    int getPropertiesCount();
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> 
+        getPropertiesOrBuilderList();
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder getPropertiesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code results.Vertex}
+   */
+  public static final class Vertex extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Vertex)
+      VertexOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Vertex.newBuilder() to construct.
+    private Vertex(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Vertex() {
+      properties_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Vertex();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Vertex(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (label_ != null) {
+                subBuilder = label_.toBuilder();
+              }
+              label_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(label_);
+                label_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                properties_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.Property>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              properties_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Property.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          properties_ = java.util.Collections.unmodifiableList(properties_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Vertex_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Vertex_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Vertex.class, com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public long getId() {
+      return id_;
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 2;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId label_;
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     * @return Whether the label field is set.
+     */
+    @java.lang.Override
+    public boolean hasLabel() {
+      return label_ != null;
+    }
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getLabel() {
+      return label_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : label_;
+    }
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getLabelOrBuilder() {
+      return getLabel();
+    }
+
+    public static final int PROPERTIES_FIELD_NUMBER = 3;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> properties_;
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> getPropertiesList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> 
+        getPropertiesOrBuilderList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    @java.lang.Override
+    public int getPropertiesCount() {
+      return properties_.size();
+    }
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Property getProperties(int index) {
+      return properties_.get(index);
+    }
+    /**
+     * <code>repeated .results.Property properties = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder getPropertiesOrBuilder(
+        int index) {
+      return properties_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      if (label_ != null) {
+        output.writeMessage(2, getLabel());
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        output.writeMessage(3, properties_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      if (label_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getLabel());
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, properties_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Vertex)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Vertex other = (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (hasLabel() != other.hasLabel()) return false;
+      if (hasLabel()) {
+        if (!getLabel()
+            .equals(other.getLabel())) return false;
+      }
+      if (!getPropertiesList()
+          .equals(other.getPropertiesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      if (hasLabel()) {
+        hash = (37 * hash) + LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getLabel().hashCode();
+      }
+      if (getPropertiesCount() > 0) {
+        hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
+        hash = (53 * hash) + getPropertiesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Vertex prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Vertex}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Vertex)
+        com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Vertex_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Vertex_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Vertex.class, com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Vertex.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPropertiesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+
+        if (labelBuilder_ == null) {
+          label_ = null;
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Vertex_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Vertex getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Vertex build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Vertex result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Vertex buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Vertex result = new com.alibaba.graphscope.gaia.proto.IrResult.Vertex(this);
+        int from_bitField0_ = bitField0_;
+        result.id_ = id_;
+        if (labelBuilder_ == null) {
+          result.label_ = label_;
+        } else {
+          result.label_ = labelBuilder_.build();
+        }
+        if (propertiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            properties_ = java.util.Collections.unmodifiableList(properties_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.properties_ = properties_;
+        } else {
+          result.properties_ = propertiesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Vertex) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Vertex)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Vertex other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        if (other.hasLabel()) {
+          mergeLabel(other.getLabel());
+        }
+        if (propertiesBuilder_ == null) {
+          if (!other.properties_.isEmpty()) {
+            if (properties_.isEmpty()) {
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePropertiesIsMutable();
+              properties_.addAll(other.properties_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.properties_.isEmpty()) {
+            if (propertiesBuilder_.isEmpty()) {
+              propertiesBuilder_.dispose();
+              propertiesBuilder_ = null;
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              propertiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPropertiesFieldBuilder() : null;
+            } else {
+              propertiesBuilder_.addAllMessages(other.properties_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Vertex parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 1;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId label_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> labelBuilder_;
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       * @return Whether the label field is set.
+       */
+      public boolean hasLabel() {
+        return labelBuilder_ != null || label_ != null;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       * @return The label.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getLabel() {
+        if (labelBuilder_ == null) {
+          return label_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : label_;
+        } else {
+          return labelBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public Builder setLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (labelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          label_ = value;
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public Builder setLabel(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (labelBuilder_ == null) {
+          label_ = builderForValue.build();
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public Builder mergeLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (labelBuilder_ == null) {
+          if (label_ != null) {
+            label_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder(label_).mergeFrom(value).buildPartial();
+          } else {
+            label_ = value;
+          }
+          onChanged();
+        } else {
+          labelBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public Builder clearLabel() {
+        if (labelBuilder_ == null) {
+          label_ = null;
+          onChanged();
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getLabelBuilder() {
+        
+        onChanged();
+        return getLabelFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getLabelOrBuilder() {
+        if (labelBuilder_ != null) {
+          return labelBuilder_.getMessageOrBuilder();
+        } else {
+          return label_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : label_;
+        }
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getLabelFieldBuilder() {
+        if (labelBuilder_ == null) {
+          labelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  getLabel(),
+                  getParentForChildren(),
+                  isClean());
+          label_ = null;
+        }
+        return labelBuilder_;
+      }
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> properties_ =
+        java.util.Collections.emptyList();
+      private void ensurePropertiesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          properties_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.Property>(properties_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Property, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder, com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> propertiesBuilder_;
+
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> getPropertiesList() {
+        if (propertiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(properties_);
+        } else {
+          return propertiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public int getPropertiesCount() {
+        if (propertiesBuilder_ == null) {
+          return properties_.size();
+        } else {
+          return propertiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property getProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);
+        } else {
+          return propertiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder setProperties(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.set(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder setProperties(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder addProperties(com.alibaba.graphscope.gaia.proto.IrResult.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder addProperties(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder addProperties(
+          com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder addProperties(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder addAllProperties(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.IrResult.Property> values) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, properties_);
+          onChanged();
+        } else {
+          propertiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder clearProperties() {
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public Builder removeProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.remove(index);
+          onChanged();
+        } else {
+          propertiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder getPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder getPropertiesOrBuilder(
+          int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);  } else {
+          return propertiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> 
+           getPropertiesOrBuilderList() {
+        if (propertiesBuilder_ != null) {
+          return propertiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(properties_);
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder addPropertiesBuilder() {
+        return getPropertiesFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.IrResult.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder addPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.IrResult.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.Property properties = 3;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder> 
+           getPropertiesBuilderList() {
+        return getPropertiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Property, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder, com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> 
+          getPropertiesFieldBuilder() {
+        if (propertiesBuilder_ == null) {
+          propertiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Property, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder, com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder>(
+                  properties_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          properties_ = null;
+        }
+        return propertiesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Vertex)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Vertex)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Vertex DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Vertex();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Vertex getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Vertex>
+        PARSER = new com.google.protobuf.AbstractParser<Vertex>() {
+      @java.lang.Override
+      public Vertex parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Vertex(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Vertex> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Vertex> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Vertex getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EdgeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Edge)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    long getId();
+
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     * @return Whether the label field is set.
+     */
+    boolean hasLabel();
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     * @return The label.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getLabel();
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getLabelOrBuilder();
+
+    /**
+     * <code>int64 src_id = 3;</code>
+     * @return The srcId.
+     */
+    long getSrcId();
+
+    /**
+     * <code>.common.NameOrId src_label = 4;</code>
+     * @return Whether the srcLabel field is set.
+     */
+    boolean hasSrcLabel();
+    /**
+     * <code>.common.NameOrId src_label = 4;</code>
+     * @return The srcLabel.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getSrcLabel();
+    /**
+     * <code>.common.NameOrId src_label = 4;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getSrcLabelOrBuilder();
+
+    /**
+     * <code>int64 dst_id = 5;</code>
+     * @return The dstId.
+     */
+    long getDstId();
+
+    /**
+     * <code>.common.NameOrId dst_label = 6;</code>
+     * @return Whether the dstLabel field is set.
+     */
+    boolean hasDstLabel();
+    /**
+     * <code>.common.NameOrId dst_label = 6;</code>
+     * @return The dstLabel.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getDstLabel();
+    /**
+     * <code>.common.NameOrId dst_label = 6;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getDstLabelOrBuilder();
+
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> 
+        getPropertiesList();
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Property getProperties(int index);
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    int getPropertiesCount();
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> 
+        getPropertiesOrBuilderList();
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder getPropertiesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code results.Edge}
+   */
+  public static final class Edge extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Edge)
+      EdgeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Edge.newBuilder() to construct.
+    private Edge(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Edge() {
+      properties_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Edge();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Edge(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (label_ != null) {
+                subBuilder = label_.toBuilder();
+              }
+              label_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(label_);
+                label_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 24: {
+
+              srcId_ = input.readInt64();
+              break;
+            }
+            case 34: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (srcLabel_ != null) {
+                subBuilder = srcLabel_.toBuilder();
+              }
+              srcLabel_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(srcLabel_);
+                srcLabel_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 40: {
+
+              dstId_ = input.readInt64();
+              break;
+            }
+            case 50: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (dstLabel_ != null) {
+                subBuilder = dstLabel_.toBuilder();
+              }
+              dstLabel_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(dstLabel_);
+                dstLabel_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                properties_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.Property>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              properties_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Property.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          properties_ = java.util.Collections.unmodifiableList(properties_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Edge_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Edge_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Edge.class, com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public long getId() {
+      return id_;
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 2;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId label_;
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     * @return Whether the label field is set.
+     */
+    @java.lang.Override
+    public boolean hasLabel() {
+      return label_ != null;
+    }
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getLabel() {
+      return label_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : label_;
+    }
+    /**
+     * <code>.common.NameOrId label = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getLabelOrBuilder() {
+      return getLabel();
+    }
+
+    public static final int SRC_ID_FIELD_NUMBER = 3;
+    private long srcId_;
+    /**
+     * <code>int64 src_id = 3;</code>
+     * @return The srcId.
+     */
+    @java.lang.Override
+    public long getSrcId() {
+      return srcId_;
+    }
+
+    public static final int SRC_LABEL_FIELD_NUMBER = 4;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId srcLabel_;
+    /**
+     * <code>.common.NameOrId src_label = 4;</code>
+     * @return Whether the srcLabel field is set.
+     */
+    @java.lang.Override
+    public boolean hasSrcLabel() {
+      return srcLabel_ != null;
+    }
+    /**
+     * <code>.common.NameOrId src_label = 4;</code>
+     * @return The srcLabel.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getSrcLabel() {
+      return srcLabel_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : srcLabel_;
+    }
+    /**
+     * <code>.common.NameOrId src_label = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getSrcLabelOrBuilder() {
+      return getSrcLabel();
+    }
+
+    public static final int DST_ID_FIELD_NUMBER = 5;
+    private long dstId_;
+    /**
+     * <code>int64 dst_id = 5;</code>
+     * @return The dstId.
+     */
+    @java.lang.Override
+    public long getDstId() {
+      return dstId_;
+    }
+
+    public static final int DST_LABEL_FIELD_NUMBER = 6;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId dstLabel_;
+    /**
+     * <code>.common.NameOrId dst_label = 6;</code>
+     * @return Whether the dstLabel field is set.
+     */
+    @java.lang.Override
+    public boolean hasDstLabel() {
+      return dstLabel_ != null;
+    }
+    /**
+     * <code>.common.NameOrId dst_label = 6;</code>
+     * @return The dstLabel.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getDstLabel() {
+      return dstLabel_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : dstLabel_;
+    }
+    /**
+     * <code>.common.NameOrId dst_label = 6;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getDstLabelOrBuilder() {
+      return getDstLabel();
+    }
+
+    public static final int PROPERTIES_FIELD_NUMBER = 7;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> properties_;
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> getPropertiesList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> 
+        getPropertiesOrBuilderList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    @java.lang.Override
+    public int getPropertiesCount() {
+      return properties_.size();
+    }
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Property getProperties(int index) {
+      return properties_.get(index);
+    }
+    /**
+     * <code>repeated .results.Property properties = 7;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder getPropertiesOrBuilder(
+        int index) {
+      return properties_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      if (label_ != null) {
+        output.writeMessage(2, getLabel());
+      }
+      if (srcId_ != 0L) {
+        output.writeInt64(3, srcId_);
+      }
+      if (srcLabel_ != null) {
+        output.writeMessage(4, getSrcLabel());
+      }
+      if (dstId_ != 0L) {
+        output.writeInt64(5, dstId_);
+      }
+      if (dstLabel_ != null) {
+        output.writeMessage(6, getDstLabel());
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        output.writeMessage(7, properties_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      if (label_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getLabel());
+      }
+      if (srcId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, srcId_);
+      }
+      if (srcLabel_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getSrcLabel());
+      }
+      if (dstId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, dstId_);
+      }
+      if (dstLabel_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getDstLabel());
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, properties_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Edge)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Edge other = (com.alibaba.graphscope.gaia.proto.IrResult.Edge) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (hasLabel() != other.hasLabel()) return false;
+      if (hasLabel()) {
+        if (!getLabel()
+            .equals(other.getLabel())) return false;
+      }
+      if (getSrcId()
+          != other.getSrcId()) return false;
+      if (hasSrcLabel() != other.hasSrcLabel()) return false;
+      if (hasSrcLabel()) {
+        if (!getSrcLabel()
+            .equals(other.getSrcLabel())) return false;
+      }
+      if (getDstId()
+          != other.getDstId()) return false;
+      if (hasDstLabel() != other.hasDstLabel()) return false;
+      if (hasDstLabel()) {
+        if (!getDstLabel()
+            .equals(other.getDstLabel())) return false;
+      }
+      if (!getPropertiesList()
+          .equals(other.getPropertiesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      if (hasLabel()) {
+        hash = (37 * hash) + LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getLabel().hashCode();
+      }
+      hash = (37 * hash) + SRC_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSrcId());
+      if (hasSrcLabel()) {
+        hash = (37 * hash) + SRC_LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getSrcLabel().hashCode();
+      }
+      hash = (37 * hash) + DST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDstId());
+      if (hasDstLabel()) {
+        hash = (37 * hash) + DST_LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getDstLabel().hashCode();
+      }
+      if (getPropertiesCount() > 0) {
+        hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
+        hash = (53 * hash) + getPropertiesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Edge prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Edge}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Edge)
+        com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Edge_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Edge_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Edge.class, com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Edge.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPropertiesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+
+        if (labelBuilder_ == null) {
+          label_ = null;
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+        srcId_ = 0L;
+
+        if (srcLabelBuilder_ == null) {
+          srcLabel_ = null;
+        } else {
+          srcLabel_ = null;
+          srcLabelBuilder_ = null;
+        }
+        dstId_ = 0L;
+
+        if (dstLabelBuilder_ == null) {
+          dstLabel_ = null;
+        } else {
+          dstLabel_ = null;
+          dstLabelBuilder_ = null;
+        }
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Edge_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Edge getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Edge build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Edge result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Edge buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Edge result = new com.alibaba.graphscope.gaia.proto.IrResult.Edge(this);
+        int from_bitField0_ = bitField0_;
+        result.id_ = id_;
+        if (labelBuilder_ == null) {
+          result.label_ = label_;
+        } else {
+          result.label_ = labelBuilder_.build();
+        }
+        result.srcId_ = srcId_;
+        if (srcLabelBuilder_ == null) {
+          result.srcLabel_ = srcLabel_;
+        } else {
+          result.srcLabel_ = srcLabelBuilder_.build();
+        }
+        result.dstId_ = dstId_;
+        if (dstLabelBuilder_ == null) {
+          result.dstLabel_ = dstLabel_;
+        } else {
+          result.dstLabel_ = dstLabelBuilder_.build();
+        }
+        if (propertiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            properties_ = java.util.Collections.unmodifiableList(properties_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.properties_ = properties_;
+        } else {
+          result.properties_ = propertiesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Edge) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Edge)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Edge other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        if (other.hasLabel()) {
+          mergeLabel(other.getLabel());
+        }
+        if (other.getSrcId() != 0L) {
+          setSrcId(other.getSrcId());
+        }
+        if (other.hasSrcLabel()) {
+          mergeSrcLabel(other.getSrcLabel());
+        }
+        if (other.getDstId() != 0L) {
+          setDstId(other.getDstId());
+        }
+        if (other.hasDstLabel()) {
+          mergeDstLabel(other.getDstLabel());
+        }
+        if (propertiesBuilder_ == null) {
+          if (!other.properties_.isEmpty()) {
+            if (properties_.isEmpty()) {
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePropertiesIsMutable();
+              properties_.addAll(other.properties_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.properties_.isEmpty()) {
+            if (propertiesBuilder_.isEmpty()) {
+              propertiesBuilder_.dispose();
+              propertiesBuilder_ = null;
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              propertiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPropertiesFieldBuilder() : null;
+            } else {
+              propertiesBuilder_.addAllMessages(other.properties_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Edge parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Edge) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 1;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId label_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> labelBuilder_;
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       * @return Whether the label field is set.
+       */
+      public boolean hasLabel() {
+        return labelBuilder_ != null || label_ != null;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       * @return The label.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getLabel() {
+        if (labelBuilder_ == null) {
+          return label_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : label_;
+        } else {
+          return labelBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public Builder setLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (labelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          label_ = value;
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public Builder setLabel(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (labelBuilder_ == null) {
+          label_ = builderForValue.build();
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public Builder mergeLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (labelBuilder_ == null) {
+          if (label_ != null) {
+            label_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder(label_).mergeFrom(value).buildPartial();
+          } else {
+            label_ = value;
+          }
+          onChanged();
+        } else {
+          labelBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public Builder clearLabel() {
+        if (labelBuilder_ == null) {
+          label_ = null;
+          onChanged();
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getLabelBuilder() {
+        
+        onChanged();
+        return getLabelFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getLabelOrBuilder() {
+        if (labelBuilder_ != null) {
+          return labelBuilder_.getMessageOrBuilder();
+        } else {
+          return label_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : label_;
+        }
+      }
+      /**
+       * <code>.common.NameOrId label = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getLabelFieldBuilder() {
+        if (labelBuilder_ == null) {
+          labelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  getLabel(),
+                  getParentForChildren(),
+                  isClean());
+          label_ = null;
+        }
+        return labelBuilder_;
+      }
+
+      private long srcId_ ;
+      /**
+       * <code>int64 src_id = 3;</code>
+       * @return The srcId.
+       */
+      @java.lang.Override
+      public long getSrcId() {
+        return srcId_;
+      }
+      /**
+       * <code>int64 src_id = 3;</code>
+       * @param value The srcId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSrcId(long value) {
+        
+        srcId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 src_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSrcId() {
+        
+        srcId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId srcLabel_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> srcLabelBuilder_;
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       * @return Whether the srcLabel field is set.
+       */
+      public boolean hasSrcLabel() {
+        return srcLabelBuilder_ != null || srcLabel_ != null;
+      }
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       * @return The srcLabel.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getSrcLabel() {
+        if (srcLabelBuilder_ == null) {
+          return srcLabel_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : srcLabel_;
+        } else {
+          return srcLabelBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       */
+      public Builder setSrcLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (srcLabelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          srcLabel_ = value;
+          onChanged();
+        } else {
+          srcLabelBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       */
+      public Builder setSrcLabel(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (srcLabelBuilder_ == null) {
+          srcLabel_ = builderForValue.build();
+          onChanged();
+        } else {
+          srcLabelBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       */
+      public Builder mergeSrcLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (srcLabelBuilder_ == null) {
+          if (srcLabel_ != null) {
+            srcLabel_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder(srcLabel_).mergeFrom(value).buildPartial();
+          } else {
+            srcLabel_ = value;
+          }
+          onChanged();
+        } else {
+          srcLabelBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       */
+      public Builder clearSrcLabel() {
+        if (srcLabelBuilder_ == null) {
+          srcLabel_ = null;
+          onChanged();
+        } else {
+          srcLabel_ = null;
+          srcLabelBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getSrcLabelBuilder() {
+        
+        onChanged();
+        return getSrcLabelFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getSrcLabelOrBuilder() {
+        if (srcLabelBuilder_ != null) {
+          return srcLabelBuilder_.getMessageOrBuilder();
+        } else {
+          return srcLabel_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : srcLabel_;
+        }
+      }
+      /**
+       * <code>.common.NameOrId src_label = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getSrcLabelFieldBuilder() {
+        if (srcLabelBuilder_ == null) {
+          srcLabelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  getSrcLabel(),
+                  getParentForChildren(),
+                  isClean());
+          srcLabel_ = null;
+        }
+        return srcLabelBuilder_;
+      }
+
+      private long dstId_ ;
+      /**
+       * <code>int64 dst_id = 5;</code>
+       * @return The dstId.
+       */
+      @java.lang.Override
+      public long getDstId() {
+        return dstId_;
+      }
+      /**
+       * <code>int64 dst_id = 5;</code>
+       * @param value The dstId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDstId(long value) {
+        
+        dstId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 dst_id = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDstId() {
+        
+        dstId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId dstLabel_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> dstLabelBuilder_;
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       * @return Whether the dstLabel field is set.
+       */
+      public boolean hasDstLabel() {
+        return dstLabelBuilder_ != null || dstLabel_ != null;
+      }
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       * @return The dstLabel.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getDstLabel() {
+        if (dstLabelBuilder_ == null) {
+          return dstLabel_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : dstLabel_;
+        } else {
+          return dstLabelBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       */
+      public Builder setDstLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (dstLabelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dstLabel_ = value;
+          onChanged();
+        } else {
+          dstLabelBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       */
+      public Builder setDstLabel(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (dstLabelBuilder_ == null) {
+          dstLabel_ = builderForValue.build();
+          onChanged();
+        } else {
+          dstLabelBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       */
+      public Builder mergeDstLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (dstLabelBuilder_ == null) {
+          if (dstLabel_ != null) {
+            dstLabel_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder(dstLabel_).mergeFrom(value).buildPartial();
+          } else {
+            dstLabel_ = value;
+          }
+          onChanged();
+        } else {
+          dstLabelBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       */
+      public Builder clearDstLabel() {
+        if (dstLabelBuilder_ == null) {
+          dstLabel_ = null;
+          onChanged();
+        } else {
+          dstLabel_ = null;
+          dstLabelBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getDstLabelBuilder() {
+        
+        onChanged();
+        return getDstLabelFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getDstLabelOrBuilder() {
+        if (dstLabelBuilder_ != null) {
+          return dstLabelBuilder_.getMessageOrBuilder();
+        } else {
+          return dstLabel_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : dstLabel_;
+        }
+      }
+      /**
+       * <code>.common.NameOrId dst_label = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getDstLabelFieldBuilder() {
+        if (dstLabelBuilder_ == null) {
+          dstLabelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  getDstLabel(),
+                  getParentForChildren(),
+                  isClean());
+          dstLabel_ = null;
+        }
+        return dstLabelBuilder_;
+      }
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> properties_ =
+        java.util.Collections.emptyList();
+      private void ensurePropertiesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          properties_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.Property>(properties_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Property, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder, com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> propertiesBuilder_;
+
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property> getPropertiesList() {
+        if (propertiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(properties_);
+        } else {
+          return propertiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public int getPropertiesCount() {
+        if (propertiesBuilder_ == null) {
+          return properties_.size();
+        } else {
+          return propertiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property getProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);
+        } else {
+          return propertiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder setProperties(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.set(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder setProperties(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder addProperties(com.alibaba.graphscope.gaia.proto.IrResult.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder addProperties(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder addProperties(
+          com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder addProperties(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder addAllProperties(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.IrResult.Property> values) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, properties_);
+          onChanged();
+        } else {
+          propertiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder clearProperties() {
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public Builder removeProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.remove(index);
+          onChanged();
+        } else {
+          propertiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder getPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder getPropertiesOrBuilder(
+          int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);  } else {
+          return propertiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> 
+           getPropertiesOrBuilderList() {
+        if (propertiesBuilder_ != null) {
+          return propertiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(properties_);
+        }
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder addPropertiesBuilder() {
+        return getPropertiesFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.IrResult.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder addPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.IrResult.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.Property properties = 7;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder> 
+           getPropertiesBuilderList() {
+        return getPropertiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Property, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder, com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder> 
+          getPropertiesFieldBuilder() {
+        if (propertiesBuilder_ == null) {
+          propertiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Property, com.alibaba.graphscope.gaia.proto.IrResult.Property.Builder, com.alibaba.graphscope.gaia.proto.IrResult.PropertyOrBuilder>(
+                  properties_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          properties_ = null;
+        }
+        return propertiesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Edge)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Edge)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Edge DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Edge();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Edge getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Edge>
+        PARSER = new com.google.protobuf.AbstractParser<Edge>() {
+      @java.lang.Override
+      public Edge parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Edge(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Edge> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Edge> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Edge getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GraphPathOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.GraphPath)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge> 
+        getPathList();
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge getPath(int index);
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    int getPathCount();
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder> 
+        getPathOrBuilderList();
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder getPathOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code results.GraphPath}
+   */
+  public static final class GraphPath extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.GraphPath)
+      GraphPathOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GraphPath.newBuilder() to construct.
+    private GraphPath(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GraphPath() {
+      path_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GraphPath();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GraphPath(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                path_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              path_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          path_ = java.util.Collections.unmodifiableList(path_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.class, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.Builder.class);
+    }
+
+    public interface VertexOrEdgeOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:results.GraphPath.VertexOrEdge)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       * @return Whether the vertex field is set.
+       */
+      boolean hasVertex();
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       * @return The vertex.
+       */
+      com.alibaba.graphscope.gaia.proto.IrResult.Vertex getVertex();
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder getVertexOrBuilder();
+
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       * @return Whether the edge field is set.
+       */
+      boolean hasEdge();
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       * @return The edge.
+       */
+      com.alibaba.graphscope.gaia.proto.IrResult.Edge getEdge();
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder getEdgeOrBuilder();
+
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.InnerCase getInnerCase();
+    }
+    /**
+     * Protobuf type {@code results.GraphPath.VertexOrEdge}
+     */
+    public static final class VertexOrEdge extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:results.GraphPath.VertexOrEdge)
+        VertexOrEdgeOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use VertexOrEdge.newBuilder() to construct.
+      private VertexOrEdge(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private VertexOrEdge() {
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new VertexOrEdge();
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private VertexOrEdge(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder subBuilder = null;
+                if (innerCase_ == 1) {
+                  subBuilder = ((com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_).toBuilder();
+                }
+                inner_ =
+                    input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Vertex.parser(), extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_);
+                  inner_ = subBuilder.buildPartial();
+                }
+                innerCase_ = 1;
+                break;
+              }
+              case 18: {
+                com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder subBuilder = null;
+                if (innerCase_ == 2) {
+                  subBuilder = ((com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_).toBuilder();
+                }
+                inner_ =
+                    input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Edge.parser(), extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_);
+                  inner_ = subBuilder.buildPartial();
+                }
+                innerCase_ = 2;
+                break;
+              }
+              default: {
+                if (!parseUnknownField(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_VertexOrEdge_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_VertexOrEdge_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.class, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder.class);
+      }
+
+      private int innerCase_ = 0;
+      private java.lang.Object inner_;
+      public enum InnerCase
+          implements com.google.protobuf.Internal.EnumLite,
+              com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+        VERTEX(1),
+        EDGE(2),
+        INNER_NOT_SET(0);
+        private final int value;
+        private InnerCase(int value) {
+          this.value = value;
+        }
+        /**
+         * @param value The number of the enum to look for.
+         * @return The enum associated with the given number.
+         * @deprecated Use {@link #forNumber(int)} instead.
+         */
+        @java.lang.Deprecated
+        public static InnerCase valueOf(int value) {
+          return forNumber(value);
+        }
+
+        public static InnerCase forNumber(int value) {
+          switch (value) {
+            case 1: return VERTEX;
+            case 2: return EDGE;
+            case 0: return INNER_NOT_SET;
+            default: return null;
+          }
+        }
+        public int getNumber() {
+          return this.value;
+        }
+      };
+
+      public InnerCase
+      getInnerCase() {
+        return InnerCase.forNumber(
+            innerCase_);
+      }
+
+      public static final int VERTEX_FIELD_NUMBER = 1;
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       * @return Whether the vertex field is set.
+       */
+      @java.lang.Override
+      public boolean hasVertex() {
+        return innerCase_ == 1;
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       * @return The vertex.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Vertex getVertex() {
+        if (innerCase_ == 1) {
+           return (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_;
+        }
+        return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder getVertexOrBuilder() {
+        if (innerCase_ == 1) {
+           return (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_;
+        }
+        return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+      }
+
+      public static final int EDGE_FIELD_NUMBER = 2;
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       * @return Whether the edge field is set.
+       */
+      @java.lang.Override
+      public boolean hasEdge() {
+        return innerCase_ == 2;
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       * @return The edge.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Edge getEdge() {
+        if (innerCase_ == 2) {
+           return (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_;
+        }
+        return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder getEdgeOrBuilder() {
+        if (innerCase_ == 2) {
+           return (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_;
+        }
+        return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (innerCase_ == 1) {
+          output.writeMessage(1, (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_);
+        }
+        if (innerCase_ == 2) {
+          output.writeMessage(2, (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (innerCase_ == 1) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_);
+        }
+        if (innerCase_ == 2) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge)) {
+          return super.equals(obj);
+        }
+        com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge other = (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge) obj;
+
+        if (!getInnerCase().equals(other.getInnerCase())) return false;
+        switch (innerCase_) {
+          case 1:
+            if (!getVertex()
+                .equals(other.getVertex())) return false;
+            break;
+          case 2:
+            if (!getEdge()
+                .equals(other.getEdge())) return false;
+            break;
+          case 0:
+          default:
+        }
+        if (!unknownFields.equals(other.unknownFields)) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        switch (innerCase_) {
+          case 1:
+            hash = (37 * hash) + VERTEX_FIELD_NUMBER;
+            hash = (53 * hash) + getVertex().hashCode();
+            break;
+          case 2:
+            hash = (37 * hash) + EDGE_FIELD_NUMBER;
+            hash = (53 * hash) + getEdge().hashCode();
+            break;
+          case 0:
+          default:
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code results.GraphPath.VertexOrEdge}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:results.GraphPath.VertexOrEdge)
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_VertexOrEdge_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_VertexOrEdge_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.class, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder.class);
+        }
+
+        // Construct using com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          innerCase_ = 0;
+          inner_ = null;
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_VertexOrEdge_descriptor;
+        }
+
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge getDefaultInstanceForType() {
+          return com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge build() {
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge buildPartial() {
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge result = new com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge(this);
+          if (innerCase_ == 1) {
+            if (vertexBuilder_ == null) {
+              result.inner_ = inner_;
+            } else {
+              result.inner_ = vertexBuilder_.build();
+            }
+          }
+          if (innerCase_ == 2) {
+            if (edgeBuilder_ == null) {
+              result.inner_ = inner_;
+            } else {
+              result.inner_ = edgeBuilder_.build();
+            }
+          }
+          result.innerCase_ = innerCase_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge) {
+            return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge other) {
+          if (other == com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.getDefaultInstance()) return this;
+          switch (other.getInnerCase()) {
+            case VERTEX: {
+              mergeVertex(other.getVertex());
+              break;
+            }
+            case EDGE: {
+              mergeEdge(other.getEdge());
+              break;
+            }
+            case INNER_NOT_SET: {
+              break;
+            }
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int innerCase_ = 0;
+        private java.lang.Object inner_;
+        public InnerCase
+            getInnerCase() {
+          return InnerCase.forNumber(
+              innerCase_);
+        }
+
+        public Builder clearInner() {
+          innerCase_ = 0;
+          inner_ = null;
+          onChanged();
+          return this;
+        }
+
+
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.gaia.proto.IrResult.Vertex, com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder, com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder> vertexBuilder_;
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         * @return Whether the vertex field is set.
+         */
+        @java.lang.Override
+        public boolean hasVertex() {
+          return innerCase_ == 1;
+        }
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         * @return The vertex.
+         */
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.IrResult.Vertex getVertex() {
+          if (vertexBuilder_ == null) {
+            if (innerCase_ == 1) {
+              return (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_;
+            }
+            return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+          } else {
+            if (innerCase_ == 1) {
+              return vertexBuilder_.getMessage();
+            }
+            return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+          }
+        }
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         */
+        public Builder setVertex(com.alibaba.graphscope.gaia.proto.IrResult.Vertex value) {
+          if (vertexBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            inner_ = value;
+            onChanged();
+          } else {
+            vertexBuilder_.setMessage(value);
+          }
+          innerCase_ = 1;
+          return this;
+        }
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         */
+        public Builder setVertex(
+            com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder builderForValue) {
+          if (vertexBuilder_ == null) {
+            inner_ = builderForValue.build();
+            onChanged();
+          } else {
+            vertexBuilder_.setMessage(builderForValue.build());
+          }
+          innerCase_ = 1;
+          return this;
+        }
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         */
+        public Builder mergeVertex(com.alibaba.graphscope.gaia.proto.IrResult.Vertex value) {
+          if (vertexBuilder_ == null) {
+            if (innerCase_ == 1 &&
+                inner_ != com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance()) {
+              inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Vertex.newBuilder((com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_)
+                  .mergeFrom(value).buildPartial();
+            } else {
+              inner_ = value;
+            }
+            onChanged();
+          } else {
+            if (innerCase_ == 1) {
+              vertexBuilder_.mergeFrom(value);
+            }
+            vertexBuilder_.setMessage(value);
+          }
+          innerCase_ = 1;
+          return this;
+        }
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         */
+        public Builder clearVertex() {
+          if (vertexBuilder_ == null) {
+            if (innerCase_ == 1) {
+              innerCase_ = 0;
+              inner_ = null;
+              onChanged();
+            }
+          } else {
+            if (innerCase_ == 1) {
+              innerCase_ = 0;
+              inner_ = null;
+            }
+            vertexBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         */
+        public com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder getVertexBuilder() {
+          return getVertexFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         */
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder getVertexOrBuilder() {
+          if ((innerCase_ == 1) && (vertexBuilder_ != null)) {
+            return vertexBuilder_.getMessageOrBuilder();
+          } else {
+            if (innerCase_ == 1) {
+              return (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_;
+            }
+            return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+          }
+        }
+        /**
+         * <code>.results.Vertex vertex = 1;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.gaia.proto.IrResult.Vertex, com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder, com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder> 
+            getVertexFieldBuilder() {
+          if (vertexBuilder_ == null) {
+            if (!(innerCase_ == 1)) {
+              inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+            }
+            vertexBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                com.alibaba.graphscope.gaia.proto.IrResult.Vertex, com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder, com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder>(
+                    (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_,
+                    getParentForChildren(),
+                    isClean());
+            inner_ = null;
+          }
+          innerCase_ = 1;
+          onChanged();;
+          return vertexBuilder_;
+        }
+
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.gaia.proto.IrResult.Edge, com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder> edgeBuilder_;
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         * @return Whether the edge field is set.
+         */
+        @java.lang.Override
+        public boolean hasEdge() {
+          return innerCase_ == 2;
+        }
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         * @return The edge.
+         */
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.IrResult.Edge getEdge() {
+          if (edgeBuilder_ == null) {
+            if (innerCase_ == 2) {
+              return (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_;
+            }
+            return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+          } else {
+            if (innerCase_ == 2) {
+              return edgeBuilder_.getMessage();
+            }
+            return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+          }
+        }
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         */
+        public Builder setEdge(com.alibaba.graphscope.gaia.proto.IrResult.Edge value) {
+          if (edgeBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            inner_ = value;
+            onChanged();
+          } else {
+            edgeBuilder_.setMessage(value);
+          }
+          innerCase_ = 2;
+          return this;
+        }
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         */
+        public Builder setEdge(
+            com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder builderForValue) {
+          if (edgeBuilder_ == null) {
+            inner_ = builderForValue.build();
+            onChanged();
+          } else {
+            edgeBuilder_.setMessage(builderForValue.build());
+          }
+          innerCase_ = 2;
+          return this;
+        }
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         */
+        public Builder mergeEdge(com.alibaba.graphscope.gaia.proto.IrResult.Edge value) {
+          if (edgeBuilder_ == null) {
+            if (innerCase_ == 2 &&
+                inner_ != com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance()) {
+              inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Edge.newBuilder((com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_)
+                  .mergeFrom(value).buildPartial();
+            } else {
+              inner_ = value;
+            }
+            onChanged();
+          } else {
+            if (innerCase_ == 2) {
+              edgeBuilder_.mergeFrom(value);
+            }
+            edgeBuilder_.setMessage(value);
+          }
+          innerCase_ = 2;
+          return this;
+        }
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         */
+        public Builder clearEdge() {
+          if (edgeBuilder_ == null) {
+            if (innerCase_ == 2) {
+              innerCase_ = 0;
+              inner_ = null;
+              onChanged();
+            }
+          } else {
+            if (innerCase_ == 2) {
+              innerCase_ = 0;
+              inner_ = null;
+            }
+            edgeBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         */
+        public com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder getEdgeBuilder() {
+          return getEdgeFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         */
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder getEdgeOrBuilder() {
+          if ((innerCase_ == 2) && (edgeBuilder_ != null)) {
+            return edgeBuilder_.getMessageOrBuilder();
+          } else {
+            if (innerCase_ == 2) {
+              return (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_;
+            }
+            return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+          }
+        }
+        /**
+         * <code>.results.Edge edge = 2;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.gaia.proto.IrResult.Edge, com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder> 
+            getEdgeFieldBuilder() {
+          if (edgeBuilder_ == null) {
+            if (!(innerCase_ == 2)) {
+              inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+            }
+            edgeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                com.alibaba.graphscope.gaia.proto.IrResult.Edge, com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder>(
+                    (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_,
+                    getParentForChildren(),
+                    isClean());
+            inner_ = null;
+          }
+          innerCase_ = 2;
+          onChanged();;
+          return edgeBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:results.GraphPath.VertexOrEdge)
+      }
+
+      // @@protoc_insertion_point(class_scope:results.GraphPath.VertexOrEdge)
+      private static final com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge();
+      }
+
+      public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<VertexOrEdge>
+          PARSER = new com.google.protobuf.AbstractParser<VertexOrEdge>() {
+        @java.lang.Override
+        public VertexOrEdge parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new VertexOrEdge(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<VertexOrEdge> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<VertexOrEdge> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int PATH_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge> path_;
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge> getPathList() {
+      return path_;
+    }
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder> 
+        getPathOrBuilderList() {
+      return path_;
+    }
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    @java.lang.Override
+    public int getPathCount() {
+      return path_.size();
+    }
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge getPath(int index) {
+      return path_.get(index);
+    }
+    /**
+     * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder getPathOrBuilder(
+        int index) {
+      return path_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < path_.size(); i++) {
+        output.writeMessage(1, path_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < path_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, path_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.GraphPath)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.GraphPath other = (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) obj;
+
+      if (!getPathList()
+          .equals(other.getPathList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPathCount() > 0) {
+        hash = (37 * hash) + PATH_FIELD_NUMBER;
+        hash = (53 * hash) + getPathList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.GraphPath}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.GraphPath)
+        com.alibaba.graphscope.gaia.proto.IrResult.GraphPathOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.class, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPathFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (pathBuilder_ == null) {
+          path_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          pathBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_GraphPath_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.GraphPath result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.GraphPath result = new com.alibaba.graphscope.gaia.proto.IrResult.GraphPath(this);
+        int from_bitField0_ = bitField0_;
+        if (pathBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            path_ = java.util.Collections.unmodifiableList(path_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.path_ = path_;
+        } else {
+          result.path_ = pathBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.GraphPath)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance()) return this;
+        if (pathBuilder_ == null) {
+          if (!other.path_.isEmpty()) {
+            if (path_.isEmpty()) {
+              path_ = other.path_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePathIsMutable();
+              path_.addAll(other.path_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.path_.isEmpty()) {
+            if (pathBuilder_.isEmpty()) {
+              pathBuilder_.dispose();
+              pathBuilder_ = null;
+              path_ = other.path_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              pathBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPathFieldBuilder() : null;
+            } else {
+              pathBuilder_.addAllMessages(other.path_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.GraphPath parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge> path_ =
+        java.util.Collections.emptyList();
+      private void ensurePathIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          path_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge>(path_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder> pathBuilder_;
+
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge> getPathList() {
+        if (pathBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(path_);
+        } else {
+          return pathBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public int getPathCount() {
+        if (pathBuilder_ == null) {
+          return path_.size();
+        } else {
+          return pathBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge getPath(int index) {
+        if (pathBuilder_ == null) {
+          return path_.get(index);
+        } else {
+          return pathBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder setPath(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge value) {
+        if (pathBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePathIsMutable();
+          path_.set(index, value);
+          onChanged();
+        } else {
+          pathBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder setPath(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder builderForValue) {
+        if (pathBuilder_ == null) {
+          ensurePathIsMutable();
+          path_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          pathBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder addPath(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge value) {
+        if (pathBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePathIsMutable();
+          path_.add(value);
+          onChanged();
+        } else {
+          pathBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder addPath(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge value) {
+        if (pathBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePathIsMutable();
+          path_.add(index, value);
+          onChanged();
+        } else {
+          pathBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder addPath(
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder builderForValue) {
+        if (pathBuilder_ == null) {
+          ensurePathIsMutable();
+          path_.add(builderForValue.build());
+          onChanged();
+        } else {
+          pathBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder addPath(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder builderForValue) {
+        if (pathBuilder_ == null) {
+          ensurePathIsMutable();
+          path_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          pathBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder addAllPath(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge> values) {
+        if (pathBuilder_ == null) {
+          ensurePathIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, path_);
+          onChanged();
+        } else {
+          pathBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder clearPath() {
+        if (pathBuilder_ == null) {
+          path_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          pathBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public Builder removePath(int index) {
+        if (pathBuilder_ == null) {
+          ensurePathIsMutable();
+          path_.remove(index);
+          onChanged();
+        } else {
+          pathBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder getPathBuilder(
+          int index) {
+        return getPathFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder getPathOrBuilder(
+          int index) {
+        if (pathBuilder_ == null) {
+          return path_.get(index);  } else {
+          return pathBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder> 
+           getPathOrBuilderList() {
+        if (pathBuilder_ != null) {
+          return pathBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(path_);
+        }
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder addPathBuilder() {
+        return getPathFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder addPathBuilder(
+          int index) {
+        return getPathFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.GraphPath.VertexOrEdge path = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder> 
+           getPathBuilderList() {
+        return getPathFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder> 
+          getPathFieldBuilder() {
+        if (pathBuilder_ == null) {
+          pathBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.VertexOrEdgeOrBuilder>(
+                  path_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          path_ = null;
+        }
+        return pathBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.GraphPath)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.GraphPath)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.GraphPath DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.GraphPath();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.GraphPath getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GraphPath>
+        PARSER = new com.google.protobuf.AbstractParser<GraphPath>() {
+      @java.lang.Override
+      public GraphPath parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GraphPath(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GraphPath> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GraphPath> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ElementOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Element)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.results.Vertex vertex = 1;</code>
+     * @return Whether the vertex field is set.
+     */
+    boolean hasVertex();
+    /**
+     * <code>.results.Vertex vertex = 1;</code>
+     * @return The vertex.
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Vertex getVertex();
+    /**
+     * <code>.results.Vertex vertex = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder getVertexOrBuilder();
+
+    /**
+     * <code>.results.Edge edge = 2;</code>
+     * @return Whether the edge field is set.
+     */
+    boolean hasEdge();
+    /**
+     * <code>.results.Edge edge = 2;</code>
+     * @return The edge.
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Edge getEdge();
+    /**
+     * <code>.results.Edge edge = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder getEdgeOrBuilder();
+
+    /**
+     * <code>.results.GraphPath graph_path = 3;</code>
+     * @return Whether the graphPath field is set.
+     */
+    boolean hasGraphPath();
+    /**
+     * <code>.results.GraphPath graph_path = 3;</code>
+     * @return The graphPath.
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.GraphPath getGraphPath();
+    /**
+     * <code>.results.GraphPath graph_path = 3;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.GraphPathOrBuilder getGraphPathOrBuilder();
+
+    /**
+     * <code>.common.Value object = 4;</code>
+     * @return Whether the object field is set.
+     */
+    boolean hasObject();
+    /**
+     * <code>.common.Value object = 4;</code>
+     * @return The object.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.Value getObject();
+    /**
+     * <code>.common.Value object = 4;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getObjectOrBuilder();
+
+    public com.alibaba.graphscope.gaia.proto.IrResult.Element.InnerCase getInnerCase();
+  }
+  /**
+   * Protobuf type {@code results.Element}
+   */
+  public static final class Element extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Element)
+      ElementOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Element.newBuilder() to construct.
+    private Element(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Element() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Element();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Element(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder subBuilder = null;
+              if (innerCase_ == 1) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_).toBuilder();
+              }
+              inner_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Vertex.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_);
+                inner_ = subBuilder.buildPartial();
+              }
+              innerCase_ = 1;
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder subBuilder = null;
+              if (innerCase_ == 2) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_).toBuilder();
+              }
+              inner_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Edge.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_);
+                inner_ = subBuilder.buildPartial();
+              }
+              innerCase_ = 2;
+              break;
+            }
+            case 26: {
+              com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.Builder subBuilder = null;
+              if (innerCase_ == 3) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_).toBuilder();
+              }
+              inner_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_);
+                inner_ = subBuilder.buildPartial();
+              }
+              innerCase_ = 3;
+              break;
+            }
+            case 34: {
+              com.alibaba.graphscope.gaia.proto.Common.Value.Builder subBuilder = null;
+              if (innerCase_ == 4) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.Common.Value) inner_).toBuilder();
+              }
+              inner_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.Value.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.Common.Value) inner_);
+                inner_ = subBuilder.buildPartial();
+              }
+              innerCase_ = 4;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Element_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Element_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Element.class, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder.class);
+    }
+
+    private int innerCase_ = 0;
+    private java.lang.Object inner_;
+    public enum InnerCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      VERTEX(1),
+      EDGE(2),
+      GRAPH_PATH(3),
+      OBJECT(4),
+      INNER_NOT_SET(0);
+      private final int value;
+      private InnerCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static InnerCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static InnerCase forNumber(int value) {
+        switch (value) {
+          case 1: return VERTEX;
+          case 2: return EDGE;
+          case 3: return GRAPH_PATH;
+          case 4: return OBJECT;
+          case 0: return INNER_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public InnerCase
+    getInnerCase() {
+      return InnerCase.forNumber(
+          innerCase_);
+    }
+
+    public static final int VERTEX_FIELD_NUMBER = 1;
+    /**
+     * <code>.results.Vertex vertex = 1;</code>
+     * @return Whether the vertex field is set.
+     */
+    @java.lang.Override
+    public boolean hasVertex() {
+      return innerCase_ == 1;
+    }
+    /**
+     * <code>.results.Vertex vertex = 1;</code>
+     * @return The vertex.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Vertex getVertex() {
+      if (innerCase_ == 1) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+    }
+    /**
+     * <code>.results.Vertex vertex = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder getVertexOrBuilder() {
+      if (innerCase_ == 1) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+    }
+
+    public static final int EDGE_FIELD_NUMBER = 2;
+    /**
+     * <code>.results.Edge edge = 2;</code>
+     * @return Whether the edge field is set.
+     */
+    @java.lang.Override
+    public boolean hasEdge() {
+      return innerCase_ == 2;
+    }
+    /**
+     * <code>.results.Edge edge = 2;</code>
+     * @return The edge.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Edge getEdge() {
+      if (innerCase_ == 2) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+    }
+    /**
+     * <code>.results.Edge edge = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder getEdgeOrBuilder() {
+      if (innerCase_ == 2) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+    }
+
+    public static final int GRAPH_PATH_FIELD_NUMBER = 3;
+    /**
+     * <code>.results.GraphPath graph_path = 3;</code>
+     * @return Whether the graphPath field is set.
+     */
+    @java.lang.Override
+    public boolean hasGraphPath() {
+      return innerCase_ == 3;
+    }
+    /**
+     * <code>.results.GraphPath graph_path = 3;</code>
+     * @return The graphPath.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath getGraphPath() {
+      if (innerCase_ == 3) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance();
+    }
+    /**
+     * <code>.results.GraphPath graph_path = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.GraphPathOrBuilder getGraphPathOrBuilder() {
+      if (innerCase_ == 3) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance();
+    }
+
+    public static final int OBJECT_FIELD_NUMBER = 4;
+    /**
+     * <code>.common.Value object = 4;</code>
+     * @return Whether the object field is set.
+     */
+    @java.lang.Override
+    public boolean hasObject() {
+      return innerCase_ == 4;
+    }
+    /**
+     * <code>.common.Value object = 4;</code>
+     * @return The object.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.Value getObject() {
+      if (innerCase_ == 4) {
+         return (com.alibaba.graphscope.gaia.proto.Common.Value) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+    }
+    /**
+     * <code>.common.Value object = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getObjectOrBuilder() {
+      if (innerCase_ == 4) {
+         return (com.alibaba.graphscope.gaia.proto.Common.Value) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (innerCase_ == 1) {
+        output.writeMessage(1, (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_);
+      }
+      if (innerCase_ == 2) {
+        output.writeMessage(2, (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_);
+      }
+      if (innerCase_ == 3) {
+        output.writeMessage(3, (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_);
+      }
+      if (innerCase_ == 4) {
+        output.writeMessage(4, (com.alibaba.graphscope.gaia.proto.Common.Value) inner_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (innerCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_);
+      }
+      if (innerCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_);
+      }
+      if (innerCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_);
+      }
+      if (innerCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (com.alibaba.graphscope.gaia.proto.Common.Value) inner_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Element)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Element other = (com.alibaba.graphscope.gaia.proto.IrResult.Element) obj;
+
+      if (!getInnerCase().equals(other.getInnerCase())) return false;
+      switch (innerCase_) {
+        case 1:
+          if (!getVertex()
+              .equals(other.getVertex())) return false;
+          break;
+        case 2:
+          if (!getEdge()
+              .equals(other.getEdge())) return false;
+          break;
+        case 3:
+          if (!getGraphPath()
+              .equals(other.getGraphPath())) return false;
+          break;
+        case 4:
+          if (!getObject()
+              .equals(other.getObject())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (innerCase_) {
+        case 1:
+          hash = (37 * hash) + VERTEX_FIELD_NUMBER;
+          hash = (53 * hash) + getVertex().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + EDGE_FIELD_NUMBER;
+          hash = (53 * hash) + getEdge().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + GRAPH_PATH_FIELD_NUMBER;
+          hash = (53 * hash) + getGraphPath().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + OBJECT_FIELD_NUMBER;
+          hash = (53 * hash) + getObject().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Element prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Element}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Element)
+        com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Element_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Element_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Element.class, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Element.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        innerCase_ = 0;
+        inner_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Element_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Element result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Element result = new com.alibaba.graphscope.gaia.proto.IrResult.Element(this);
+        if (innerCase_ == 1) {
+          if (vertexBuilder_ == null) {
+            result.inner_ = inner_;
+          } else {
+            result.inner_ = vertexBuilder_.build();
+          }
+        }
+        if (innerCase_ == 2) {
+          if (edgeBuilder_ == null) {
+            result.inner_ = inner_;
+          } else {
+            result.inner_ = edgeBuilder_.build();
+          }
+        }
+        if (innerCase_ == 3) {
+          if (graphPathBuilder_ == null) {
+            result.inner_ = inner_;
+          } else {
+            result.inner_ = graphPathBuilder_.build();
+          }
+        }
+        if (innerCase_ == 4) {
+          if (objectBuilder_ == null) {
+            result.inner_ = inner_;
+          } else {
+            result.inner_ = objectBuilder_.build();
+          }
+        }
+        result.innerCase_ = innerCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Element) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Element)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Element other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance()) return this;
+        switch (other.getInnerCase()) {
+          case VERTEX: {
+            mergeVertex(other.getVertex());
+            break;
+          }
+          case EDGE: {
+            mergeEdge(other.getEdge());
+            break;
+          }
+          case GRAPH_PATH: {
+            mergeGraphPath(other.getGraphPath());
+            break;
+          }
+          case OBJECT: {
+            mergeObject(other.getObject());
+            break;
+          }
+          case INNER_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Element parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Element) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int innerCase_ = 0;
+      private java.lang.Object inner_;
+      public InnerCase
+          getInnerCase() {
+        return InnerCase.forNumber(
+            innerCase_);
+      }
+
+      public Builder clearInner() {
+        innerCase_ = 0;
+        inner_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Vertex, com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder, com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder> vertexBuilder_;
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       * @return Whether the vertex field is set.
+       */
+      @java.lang.Override
+      public boolean hasVertex() {
+        return innerCase_ == 1;
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       * @return The vertex.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Vertex getVertex() {
+        if (vertexBuilder_ == null) {
+          if (innerCase_ == 1) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+        } else {
+          if (innerCase_ == 1) {
+            return vertexBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      public Builder setVertex(com.alibaba.graphscope.gaia.proto.IrResult.Vertex value) {
+        if (vertexBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inner_ = value;
+          onChanged();
+        } else {
+          vertexBuilder_.setMessage(value);
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      public Builder setVertex(
+          com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder builderForValue) {
+        if (vertexBuilder_ == null) {
+          inner_ = builderForValue.build();
+          onChanged();
+        } else {
+          vertexBuilder_.setMessage(builderForValue.build());
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      public Builder mergeVertex(com.alibaba.graphscope.gaia.proto.IrResult.Vertex value) {
+        if (vertexBuilder_ == null) {
+          if (innerCase_ == 1 &&
+              inner_ != com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance()) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Vertex.newBuilder((com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            inner_ = value;
+          }
+          onChanged();
+        } else {
+          if (innerCase_ == 1) {
+            vertexBuilder_.mergeFrom(value);
+          }
+          vertexBuilder_.setMessage(value);
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      public Builder clearVertex() {
+        if (vertexBuilder_ == null) {
+          if (innerCase_ == 1) {
+            innerCase_ = 0;
+            inner_ = null;
+            onChanged();
+          }
+        } else {
+          if (innerCase_ == 1) {
+            innerCase_ = 0;
+            inner_ = null;
+          }
+          vertexBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder getVertexBuilder() {
+        return getVertexFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder getVertexOrBuilder() {
+        if ((innerCase_ == 1) && (vertexBuilder_ != null)) {
+          return vertexBuilder_.getMessageOrBuilder();
+        } else {
+          if (innerCase_ == 1) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Vertex vertex = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Vertex, com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder, com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder> 
+          getVertexFieldBuilder() {
+        if (vertexBuilder_ == null) {
+          if (!(innerCase_ == 1)) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Vertex.getDefaultInstance();
+          }
+          vertexBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Vertex, com.alibaba.graphscope.gaia.proto.IrResult.Vertex.Builder, com.alibaba.graphscope.gaia.proto.IrResult.VertexOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.IrResult.Vertex) inner_,
+                  getParentForChildren(),
+                  isClean());
+          inner_ = null;
+        }
+        innerCase_ = 1;
+        onChanged();;
+        return vertexBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Edge, com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder> edgeBuilder_;
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       * @return Whether the edge field is set.
+       */
+      @java.lang.Override
+      public boolean hasEdge() {
+        return innerCase_ == 2;
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       * @return The edge.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Edge getEdge() {
+        if (edgeBuilder_ == null) {
+          if (innerCase_ == 2) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+        } else {
+          if (innerCase_ == 2) {
+            return edgeBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      public Builder setEdge(com.alibaba.graphscope.gaia.proto.IrResult.Edge value) {
+        if (edgeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inner_ = value;
+          onChanged();
+        } else {
+          edgeBuilder_.setMessage(value);
+        }
+        innerCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      public Builder setEdge(
+          com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder builderForValue) {
+        if (edgeBuilder_ == null) {
+          inner_ = builderForValue.build();
+          onChanged();
+        } else {
+          edgeBuilder_.setMessage(builderForValue.build());
+        }
+        innerCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      public Builder mergeEdge(com.alibaba.graphscope.gaia.proto.IrResult.Edge value) {
+        if (edgeBuilder_ == null) {
+          if (innerCase_ == 2 &&
+              inner_ != com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance()) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Edge.newBuilder((com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            inner_ = value;
+          }
+          onChanged();
+        } else {
+          if (innerCase_ == 2) {
+            edgeBuilder_.mergeFrom(value);
+          }
+          edgeBuilder_.setMessage(value);
+        }
+        innerCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      public Builder clearEdge() {
+        if (edgeBuilder_ == null) {
+          if (innerCase_ == 2) {
+            innerCase_ = 0;
+            inner_ = null;
+            onChanged();
+          }
+        } else {
+          if (innerCase_ == 2) {
+            innerCase_ = 0;
+            inner_ = null;
+          }
+          edgeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder getEdgeBuilder() {
+        return getEdgeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder getEdgeOrBuilder() {
+        if ((innerCase_ == 2) && (edgeBuilder_ != null)) {
+          return edgeBuilder_.getMessageOrBuilder();
+        } else {
+          if (innerCase_ == 2) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Edge edge = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Edge, com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder> 
+          getEdgeFieldBuilder() {
+        if (edgeBuilder_ == null) {
+          if (!(innerCase_ == 2)) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Edge.getDefaultInstance();
+          }
+          edgeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Edge, com.alibaba.graphscope.gaia.proto.IrResult.Edge.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EdgeOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.IrResult.Edge) inner_,
+                  getParentForChildren(),
+                  isClean());
+          inner_ = null;
+        }
+        innerCase_ = 2;
+        onChanged();;
+        return edgeBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.Builder, com.alibaba.graphscope.gaia.proto.IrResult.GraphPathOrBuilder> graphPathBuilder_;
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       * @return Whether the graphPath field is set.
+       */
+      @java.lang.Override
+      public boolean hasGraphPath() {
+        return innerCase_ == 3;
+      }
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       * @return The graphPath.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath getGraphPath() {
+        if (graphPathBuilder_ == null) {
+          if (innerCase_ == 3) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance();
+        } else {
+          if (innerCase_ == 3) {
+            return graphPathBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       */
+      public Builder setGraphPath(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath value) {
+        if (graphPathBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inner_ = value;
+          onChanged();
+        } else {
+          graphPathBuilder_.setMessage(value);
+        }
+        innerCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       */
+      public Builder setGraphPath(
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.Builder builderForValue) {
+        if (graphPathBuilder_ == null) {
+          inner_ = builderForValue.build();
+          onChanged();
+        } else {
+          graphPathBuilder_.setMessage(builderForValue.build());
+        }
+        innerCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       */
+      public Builder mergeGraphPath(com.alibaba.graphscope.gaia.proto.IrResult.GraphPath value) {
+        if (graphPathBuilder_ == null) {
+          if (innerCase_ == 3 &&
+              inner_ != com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance()) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.newBuilder((com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            inner_ = value;
+          }
+          onChanged();
+        } else {
+          if (innerCase_ == 3) {
+            graphPathBuilder_.mergeFrom(value);
+          }
+          graphPathBuilder_.setMessage(value);
+        }
+        innerCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       */
+      public Builder clearGraphPath() {
+        if (graphPathBuilder_ == null) {
+          if (innerCase_ == 3) {
+            innerCase_ = 0;
+            inner_ = null;
+            onChanged();
+          }
+        } else {
+          if (innerCase_ == 3) {
+            innerCase_ = 0;
+            inner_ = null;
+          }
+          graphPathBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.Builder getGraphPathBuilder() {
+        return getGraphPathFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.GraphPathOrBuilder getGraphPathOrBuilder() {
+        if ((innerCase_ == 3) && (graphPathBuilder_ != null)) {
+          return graphPathBuilder_.getMessageOrBuilder();
+        } else {
+          if (innerCase_ == 3) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.GraphPath graph_path = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.GraphPath, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.Builder, com.alibaba.graphscope.gaia.proto.IrResult.GraphPathOrBuilder> 
+          getGraphPathFieldBuilder() {
+        if (graphPathBuilder_ == null) {
+          if (!(innerCase_ == 3)) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.getDefaultInstance();
+          }
+          graphPathBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.GraphPath, com.alibaba.graphscope.gaia.proto.IrResult.GraphPath.Builder, com.alibaba.graphscope.gaia.proto.IrResult.GraphPathOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.IrResult.GraphPath) inner_,
+                  getParentForChildren(),
+                  isClean());
+          inner_ = null;
+        }
+        innerCase_ = 3;
+        onChanged();;
+        return graphPathBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> objectBuilder_;
+      /**
+       * <code>.common.Value object = 4;</code>
+       * @return Whether the object field is set.
+       */
+      @java.lang.Override
+      public boolean hasObject() {
+        return innerCase_ == 4;
+      }
+      /**
+       * <code>.common.Value object = 4;</code>
+       * @return The object.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.Value getObject() {
+        if (objectBuilder_ == null) {
+          if (innerCase_ == 4) {
+            return (com.alibaba.graphscope.gaia.proto.Common.Value) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+        } else {
+          if (innerCase_ == 4) {
+            return objectBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.Value object = 4;</code>
+       */
+      public Builder setObject(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (objectBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inner_ = value;
+          onChanged();
+        } else {
+          objectBuilder_.setMessage(value);
+        }
+        innerCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.common.Value object = 4;</code>
+       */
+      public Builder setObject(
+          com.alibaba.graphscope.gaia.proto.Common.Value.Builder builderForValue) {
+        if (objectBuilder_ == null) {
+          inner_ = builderForValue.build();
+          onChanged();
+        } else {
+          objectBuilder_.setMessage(builderForValue.build());
+        }
+        innerCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.common.Value object = 4;</code>
+       */
+      public Builder mergeObject(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (objectBuilder_ == null) {
+          if (innerCase_ == 4 &&
+              inner_ != com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance()) {
+            inner_ = com.alibaba.graphscope.gaia.proto.Common.Value.newBuilder((com.alibaba.graphscope.gaia.proto.Common.Value) inner_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            inner_ = value;
+          }
+          onChanged();
+        } else {
+          if (innerCase_ == 4) {
+            objectBuilder_.mergeFrom(value);
+          }
+          objectBuilder_.setMessage(value);
+        }
+        innerCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.common.Value object = 4;</code>
+       */
+      public Builder clearObject() {
+        if (objectBuilder_ == null) {
+          if (innerCase_ == 4) {
+            innerCase_ = 0;
+            inner_ = null;
+            onChanged();
+          }
+        } else {
+          if (innerCase_ == 4) {
+            innerCase_ = 0;
+            inner_ = null;
+          }
+          objectBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.Value object = 4;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Value.Builder getObjectBuilder() {
+        return getObjectFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.Value object = 4;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getObjectOrBuilder() {
+        if ((innerCase_ == 4) && (objectBuilder_ != null)) {
+          return objectBuilder_.getMessageOrBuilder();
+        } else {
+          if (innerCase_ == 4) {
+            return (com.alibaba.graphscope.gaia.proto.Common.Value) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.Value object = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> 
+          getObjectFieldBuilder() {
+        if (objectBuilder_ == null) {
+          if (!(innerCase_ == 4)) {
+            inner_ = com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+          }
+          objectBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.Common.Value) inner_,
+                  getParentForChildren(),
+                  isClean());
+          inner_ = null;
+        }
+        innerCase_ = 4;
+        onChanged();;
+        return objectBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Element)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Element)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Element DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Element();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Element getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Element>
+        PARSER = new com.google.protobuf.AbstractParser<Element>() {
+      @java.lang.Override
+      public Element parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Element(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Element> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Element> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Element getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CollectionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Collection)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Element> 
+        getCollectionList();
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Element getCollection(int index);
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    int getCollectionCount();
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder> 
+        getCollectionOrBuilderList();
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder getCollectionOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code results.Collection}
+   */
+  public static final class Collection extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Collection)
+      CollectionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Collection.newBuilder() to construct.
+    private Collection(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Collection() {
+      collection_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Collection();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Collection(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                collection_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.Element>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              collection_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Element.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          collection_ = java.util.Collections.unmodifiableList(collection_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Collection_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Collection_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Collection.class, com.alibaba.graphscope.gaia.proto.IrResult.Collection.Builder.class);
+    }
+
+    public static final int COLLECTION_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Element> collection_;
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Element> getCollectionList() {
+      return collection_;
+    }
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder> 
+        getCollectionOrBuilderList() {
+      return collection_;
+    }
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    @java.lang.Override
+    public int getCollectionCount() {
+      return collection_.size();
+    }
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Element getCollection(int index) {
+      return collection_.get(index);
+    }
+    /**
+     * <code>repeated .results.Element collection = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder getCollectionOrBuilder(
+        int index) {
+      return collection_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < collection_.size(); i++) {
+        output.writeMessage(1, collection_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < collection_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, collection_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Collection)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Collection other = (com.alibaba.graphscope.gaia.proto.IrResult.Collection) obj;
+
+      if (!getCollectionList()
+          .equals(other.getCollectionList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getCollectionCount() > 0) {
+        hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
+        hash = (53 * hash) + getCollectionList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Collection prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Collection}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Collection)
+        com.alibaba.graphscope.gaia.proto.IrResult.CollectionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Collection_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Collection_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Collection.class, com.alibaba.graphscope.gaia.proto.IrResult.Collection.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Collection.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getCollectionFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (collectionBuilder_ == null) {
+          collection_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          collectionBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Collection_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Collection getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Collection build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Collection result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Collection buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Collection result = new com.alibaba.graphscope.gaia.proto.IrResult.Collection(this);
+        int from_bitField0_ = bitField0_;
+        if (collectionBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            collection_ = java.util.Collections.unmodifiableList(collection_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.collection_ = collection_;
+        } else {
+          result.collection_ = collectionBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Collection) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Collection)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Collection other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance()) return this;
+        if (collectionBuilder_ == null) {
+          if (!other.collection_.isEmpty()) {
+            if (collection_.isEmpty()) {
+              collection_ = other.collection_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureCollectionIsMutable();
+              collection_.addAll(other.collection_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.collection_.isEmpty()) {
+            if (collectionBuilder_.isEmpty()) {
+              collectionBuilder_.dispose();
+              collectionBuilder_ = null;
+              collection_ = other.collection_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              collectionBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCollectionFieldBuilder() : null;
+            } else {
+              collectionBuilder_.addAllMessages(other.collection_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Collection parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Collection) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Element> collection_ =
+        java.util.Collections.emptyList();
+      private void ensureCollectionIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          collection_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.Element>(collection_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Element, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder> collectionBuilder_;
+
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Element> getCollectionList() {
+        if (collectionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(collection_);
+        } else {
+          return collectionBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public int getCollectionCount() {
+        if (collectionBuilder_ == null) {
+          return collection_.size();
+        } else {
+          return collectionBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element getCollection(int index) {
+        if (collectionBuilder_ == null) {
+          return collection_.get(index);
+        } else {
+          return collectionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder setCollection(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Element value) {
+        if (collectionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCollectionIsMutable();
+          collection_.set(index, value);
+          onChanged();
+        } else {
+          collectionBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder setCollection(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder builderForValue) {
+        if (collectionBuilder_ == null) {
+          ensureCollectionIsMutable();
+          collection_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          collectionBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder addCollection(com.alibaba.graphscope.gaia.proto.IrResult.Element value) {
+        if (collectionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCollectionIsMutable();
+          collection_.add(value);
+          onChanged();
+        } else {
+          collectionBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder addCollection(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Element value) {
+        if (collectionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCollectionIsMutable();
+          collection_.add(index, value);
+          onChanged();
+        } else {
+          collectionBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder addCollection(
+          com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder builderForValue) {
+        if (collectionBuilder_ == null) {
+          ensureCollectionIsMutable();
+          collection_.add(builderForValue.build());
+          onChanged();
+        } else {
+          collectionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder addCollection(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder builderForValue) {
+        if (collectionBuilder_ == null) {
+          ensureCollectionIsMutable();
+          collection_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          collectionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder addAllCollection(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.IrResult.Element> values) {
+        if (collectionBuilder_ == null) {
+          ensureCollectionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, collection_);
+          onChanged();
+        } else {
+          collectionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder clearCollection() {
+        if (collectionBuilder_ == null) {
+          collection_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          collectionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public Builder removeCollection(int index) {
+        if (collectionBuilder_ == null) {
+          ensureCollectionIsMutable();
+          collection_.remove(index);
+          onChanged();
+        } else {
+          collectionBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder getCollectionBuilder(
+          int index) {
+        return getCollectionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder getCollectionOrBuilder(
+          int index) {
+        if (collectionBuilder_ == null) {
+          return collection_.get(index);  } else {
+          return collectionBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder> 
+           getCollectionOrBuilderList() {
+        if (collectionBuilder_ != null) {
+          return collectionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(collection_);
+        }
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder addCollectionBuilder() {
+        return getCollectionFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder addCollectionBuilder(
+          int index) {
+        return getCollectionFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.Element collection = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder> 
+           getCollectionBuilderList() {
+        return getCollectionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Element, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder> 
+          getCollectionFieldBuilder() {
+        if (collectionBuilder_ == null) {
+          collectionBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Element, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder>(
+                  collection_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          collection_ = null;
+        }
+        return collectionBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Collection)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Collection)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Collection DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Collection();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Collection getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Collection>
+        PARSER = new com.google.protobuf.AbstractParser<Collection>() {
+      @java.lang.Override
+      public Collection parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Collection(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Collection> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Collection> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Collection getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Entry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.results.Element element = 1;</code>
+     * @return Whether the element field is set.
+     */
+    boolean hasElement();
+    /**
+     * <code>.results.Element element = 1;</code>
+     * @return The element.
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Element getElement();
+    /**
+     * <code>.results.Element element = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder getElementOrBuilder();
+
+    /**
+     * <code>.results.Collection collection = 2;</code>
+     * @return Whether the collection field is set.
+     */
+    boolean hasCollection();
+    /**
+     * <code>.results.Collection collection = 2;</code>
+     * @return The collection.
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Collection getCollection();
+    /**
+     * <code>.results.Collection collection = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.CollectionOrBuilder getCollectionOrBuilder();
+
+    public com.alibaba.graphscope.gaia.proto.IrResult.Entry.InnerCase getInnerCase();
+  }
+  /**
+   * Protobuf type {@code results.Entry}
+   */
+  public static final class Entry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Entry)
+      EntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Entry.newBuilder() to construct.
+    private Entry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Entry() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Entry();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Entry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder subBuilder = null;
+              if (innerCase_ == 1) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_).toBuilder();
+              }
+              inner_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Element.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_);
+                inner_ = subBuilder.buildPartial();
+              }
+              innerCase_ = 1;
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.IrResult.Collection.Builder subBuilder = null;
+              if (innerCase_ == 2) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_).toBuilder();
+              }
+              inner_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Collection.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_);
+                inner_ = subBuilder.buildPartial();
+              }
+              innerCase_ = 2;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Entry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Entry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Entry.class, com.alibaba.graphscope.gaia.proto.IrResult.Entry.Builder.class);
+    }
+
+    private int innerCase_ = 0;
+    private java.lang.Object inner_;
+    public enum InnerCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      ELEMENT(1),
+      COLLECTION(2),
+      INNER_NOT_SET(0);
+      private final int value;
+      private InnerCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static InnerCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static InnerCase forNumber(int value) {
+        switch (value) {
+          case 1: return ELEMENT;
+          case 2: return COLLECTION;
+          case 0: return INNER_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public InnerCase
+    getInnerCase() {
+      return InnerCase.forNumber(
+          innerCase_);
+    }
+
+    public static final int ELEMENT_FIELD_NUMBER = 1;
+    /**
+     * <code>.results.Element element = 1;</code>
+     * @return Whether the element field is set.
+     */
+    @java.lang.Override
+    public boolean hasElement() {
+      return innerCase_ == 1;
+    }
+    /**
+     * <code>.results.Element element = 1;</code>
+     * @return The element.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Element getElement() {
+      if (innerCase_ == 1) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance();
+    }
+    /**
+     * <code>.results.Element element = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder getElementOrBuilder() {
+      if (innerCase_ == 1) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance();
+    }
+
+    public static final int COLLECTION_FIELD_NUMBER = 2;
+    /**
+     * <code>.results.Collection collection = 2;</code>
+     * @return Whether the collection field is set.
+     */
+    @java.lang.Override
+    public boolean hasCollection() {
+      return innerCase_ == 2;
+    }
+    /**
+     * <code>.results.Collection collection = 2;</code>
+     * @return The collection.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Collection getCollection() {
+      if (innerCase_ == 2) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance();
+    }
+    /**
+     * <code>.results.Collection collection = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.CollectionOrBuilder getCollectionOrBuilder() {
+      if (innerCase_ == 2) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (innerCase_ == 1) {
+        output.writeMessage(1, (com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_);
+      }
+      if (innerCase_ == 2) {
+        output.writeMessage(2, (com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (innerCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_);
+      }
+      if (innerCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Entry)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Entry other = (com.alibaba.graphscope.gaia.proto.IrResult.Entry) obj;
+
+      if (!getInnerCase().equals(other.getInnerCase())) return false;
+      switch (innerCase_) {
+        case 1:
+          if (!getElement()
+              .equals(other.getElement())) return false;
+          break;
+        case 2:
+          if (!getCollection()
+              .equals(other.getCollection())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (innerCase_) {
+        case 1:
+          hash = (37 * hash) + ELEMENT_FIELD_NUMBER;
+          hash = (53 * hash) + getElement().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
+          hash = (53 * hash) + getCollection().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Entry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Entry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Entry)
+        com.alibaba.graphscope.gaia.proto.IrResult.EntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Entry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Entry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Entry.class, com.alibaba.graphscope.gaia.proto.IrResult.Entry.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Entry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        innerCase_ = 0;
+        inner_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Entry_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Entry getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Entry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Entry build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Entry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Entry buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Entry result = new com.alibaba.graphscope.gaia.proto.IrResult.Entry(this);
+        if (innerCase_ == 1) {
+          if (elementBuilder_ == null) {
+            result.inner_ = inner_;
+          } else {
+            result.inner_ = elementBuilder_.build();
+          }
+        }
+        if (innerCase_ == 2) {
+          if (collectionBuilder_ == null) {
+            result.inner_ = inner_;
+          } else {
+            result.inner_ = collectionBuilder_.build();
+          }
+        }
+        result.innerCase_ = innerCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Entry) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Entry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Entry other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Entry.getDefaultInstance()) return this;
+        switch (other.getInnerCase()) {
+          case ELEMENT: {
+            mergeElement(other.getElement());
+            break;
+          }
+          case COLLECTION: {
+            mergeCollection(other.getCollection());
+            break;
+          }
+          case INNER_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Entry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Entry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int innerCase_ = 0;
+      private java.lang.Object inner_;
+      public InnerCase
+          getInnerCase() {
+        return InnerCase.forNumber(
+            innerCase_);
+      }
+
+      public Builder clearInner() {
+        innerCase_ = 0;
+        inner_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Element, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder> elementBuilder_;
+      /**
+       * <code>.results.Element element = 1;</code>
+       * @return Whether the element field is set.
+       */
+      @java.lang.Override
+      public boolean hasElement() {
+        return innerCase_ == 1;
+      }
+      /**
+       * <code>.results.Element element = 1;</code>
+       * @return The element.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element getElement() {
+        if (elementBuilder_ == null) {
+          if (innerCase_ == 1) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance();
+        } else {
+          if (innerCase_ == 1) {
+            return elementBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Element element = 1;</code>
+       */
+      public Builder setElement(com.alibaba.graphscope.gaia.proto.IrResult.Element value) {
+        if (elementBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inner_ = value;
+          onChanged();
+        } else {
+          elementBuilder_.setMessage(value);
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Element element = 1;</code>
+       */
+      public Builder setElement(
+          com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder builderForValue) {
+        if (elementBuilder_ == null) {
+          inner_ = builderForValue.build();
+          onChanged();
+        } else {
+          elementBuilder_.setMessage(builderForValue.build());
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Element element = 1;</code>
+       */
+      public Builder mergeElement(com.alibaba.graphscope.gaia.proto.IrResult.Element value) {
+        if (elementBuilder_ == null) {
+          if (innerCase_ == 1 &&
+              inner_ != com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance()) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Element.newBuilder((com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            inner_ = value;
+          }
+          onChanged();
+        } else {
+          if (innerCase_ == 1) {
+            elementBuilder_.mergeFrom(value);
+          }
+          elementBuilder_.setMessage(value);
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Element element = 1;</code>
+       */
+      public Builder clearElement() {
+        if (elementBuilder_ == null) {
+          if (innerCase_ == 1) {
+            innerCase_ = 0;
+            inner_ = null;
+            onChanged();
+          }
+        } else {
+          if (innerCase_ == 1) {
+            innerCase_ = 0;
+            inner_ = null;
+          }
+          elementBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.results.Element element = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder getElementBuilder() {
+        return getElementFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.results.Element element = 1;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder getElementOrBuilder() {
+        if ((innerCase_ == 1) && (elementBuilder_ != null)) {
+          return elementBuilder_.getMessageOrBuilder();
+        } else {
+          if (innerCase_ == 1) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Element element = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Element, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder> 
+          getElementFieldBuilder() {
+        if (elementBuilder_ == null) {
+          if (!(innerCase_ == 1)) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Element.getDefaultInstance();
+          }
+          elementBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Element, com.alibaba.graphscope.gaia.proto.IrResult.Element.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ElementOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.IrResult.Element) inner_,
+                  getParentForChildren(),
+                  isClean());
+          inner_ = null;
+        }
+        innerCase_ = 1;
+        onChanged();;
+        return elementBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Collection, com.alibaba.graphscope.gaia.proto.IrResult.Collection.Builder, com.alibaba.graphscope.gaia.proto.IrResult.CollectionOrBuilder> collectionBuilder_;
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       * @return Whether the collection field is set.
+       */
+      @java.lang.Override
+      public boolean hasCollection() {
+        return innerCase_ == 2;
+      }
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       * @return The collection.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Collection getCollection() {
+        if (collectionBuilder_ == null) {
+          if (innerCase_ == 2) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance();
+        } else {
+          if (innerCase_ == 2) {
+            return collectionBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       */
+      public Builder setCollection(com.alibaba.graphscope.gaia.proto.IrResult.Collection value) {
+        if (collectionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inner_ = value;
+          onChanged();
+        } else {
+          collectionBuilder_.setMessage(value);
+        }
+        innerCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       */
+      public Builder setCollection(
+          com.alibaba.graphscope.gaia.proto.IrResult.Collection.Builder builderForValue) {
+        if (collectionBuilder_ == null) {
+          inner_ = builderForValue.build();
+          onChanged();
+        } else {
+          collectionBuilder_.setMessage(builderForValue.build());
+        }
+        innerCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       */
+      public Builder mergeCollection(com.alibaba.graphscope.gaia.proto.IrResult.Collection value) {
+        if (collectionBuilder_ == null) {
+          if (innerCase_ == 2 &&
+              inner_ != com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance()) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Collection.newBuilder((com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            inner_ = value;
+          }
+          onChanged();
+        } else {
+          if (innerCase_ == 2) {
+            collectionBuilder_.mergeFrom(value);
+          }
+          collectionBuilder_.setMessage(value);
+        }
+        innerCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       */
+      public Builder clearCollection() {
+        if (collectionBuilder_ == null) {
+          if (innerCase_ == 2) {
+            innerCase_ = 0;
+            inner_ = null;
+            onChanged();
+          }
+        } else {
+          if (innerCase_ == 2) {
+            innerCase_ = 0;
+            inner_ = null;
+          }
+          collectionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Collection.Builder getCollectionBuilder() {
+        return getCollectionFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.CollectionOrBuilder getCollectionOrBuilder() {
+        if ((innerCase_ == 2) && (collectionBuilder_ != null)) {
+          return collectionBuilder_.getMessageOrBuilder();
+        } else {
+          if (innerCase_ == 2) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Collection collection = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Collection, com.alibaba.graphscope.gaia.proto.IrResult.Collection.Builder, com.alibaba.graphscope.gaia.proto.IrResult.CollectionOrBuilder> 
+          getCollectionFieldBuilder() {
+        if (collectionBuilder_ == null) {
+          if (!(innerCase_ == 2)) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Collection.getDefaultInstance();
+          }
+          collectionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Collection, com.alibaba.graphscope.gaia.proto.IrResult.Collection.Builder, com.alibaba.graphscope.gaia.proto.IrResult.CollectionOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.IrResult.Collection) inner_,
+                  getParentForChildren(),
+                  isClean());
+          inner_ = null;
+        }
+        innerCase_ = 2;
+        onChanged();;
+        return collectionBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Entry)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Entry)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Entry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Entry();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Entry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Entry>
+        PARSER = new com.google.protobuf.AbstractParser<Entry>() {
+      @java.lang.Override
+      public Entry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Entry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Entry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Entry> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Entry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ColumnOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Column)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.common.NameOrId name_or_id = 1;</code>
+     * @return Whether the nameOrId field is set.
+     */
+    boolean hasNameOrId();
+    /**
+     * <code>.common.NameOrId name_or_id = 1;</code>
+     * @return The nameOrId.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getNameOrId();
+    /**
+     * <code>.common.NameOrId name_or_id = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getNameOrIdOrBuilder();
+
+    /**
+     * <code>.results.Entry entry = 2;</code>
+     * @return Whether the entry field is set.
+     */
+    boolean hasEntry();
+    /**
+     * <code>.results.Entry entry = 2;</code>
+     * @return The entry.
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Entry getEntry();
+    /**
+     * <code>.results.Entry entry = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.EntryOrBuilder getEntryOrBuilder();
+  }
+  /**
+   * Protobuf type {@code results.Column}
+   */
+  public static final class Column extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Column)
+      ColumnOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Column.newBuilder() to construct.
+    private Column(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Column() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Column();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Column(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (nameOrId_ != null) {
+                subBuilder = nameOrId_.toBuilder();
+              }
+              nameOrId_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(nameOrId_);
+                nameOrId_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.IrResult.Entry.Builder subBuilder = null;
+              if (entry_ != null) {
+                subBuilder = entry_.toBuilder();
+              }
+              entry_ = input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Entry.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(entry_);
+                entry_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Column_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Column_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Column.class, com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder.class);
+    }
+
+    public static final int NAME_OR_ID_FIELD_NUMBER = 1;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId nameOrId_;
+    /**
+     * <code>.common.NameOrId name_or_id = 1;</code>
+     * @return Whether the nameOrId field is set.
+     */
+    @java.lang.Override
+    public boolean hasNameOrId() {
+      return nameOrId_ != null;
+    }
+    /**
+     * <code>.common.NameOrId name_or_id = 1;</code>
+     * @return The nameOrId.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getNameOrId() {
+      return nameOrId_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : nameOrId_;
+    }
+    /**
+     * <code>.common.NameOrId name_or_id = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getNameOrIdOrBuilder() {
+      return getNameOrId();
+    }
+
+    public static final int ENTRY_FIELD_NUMBER = 2;
+    private com.alibaba.graphscope.gaia.proto.IrResult.Entry entry_;
+    /**
+     * <code>.results.Entry entry = 2;</code>
+     * @return Whether the entry field is set.
+     */
+    @java.lang.Override
+    public boolean hasEntry() {
+      return entry_ != null;
+    }
+    /**
+     * <code>.results.Entry entry = 2;</code>
+     * @return The entry.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Entry getEntry() {
+      return entry_ == null ? com.alibaba.graphscope.gaia.proto.IrResult.Entry.getDefaultInstance() : entry_;
+    }
+    /**
+     * <code>.results.Entry entry = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.EntryOrBuilder getEntryOrBuilder() {
+      return getEntry();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (nameOrId_ != null) {
+        output.writeMessage(1, getNameOrId());
+      }
+      if (entry_ != null) {
+        output.writeMessage(2, getEntry());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (nameOrId_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getNameOrId());
+      }
+      if (entry_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getEntry());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Column)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Column other = (com.alibaba.graphscope.gaia.proto.IrResult.Column) obj;
+
+      if (hasNameOrId() != other.hasNameOrId()) return false;
+      if (hasNameOrId()) {
+        if (!getNameOrId()
+            .equals(other.getNameOrId())) return false;
+      }
+      if (hasEntry() != other.hasEntry()) return false;
+      if (hasEntry()) {
+        if (!getEntry()
+            .equals(other.getEntry())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasNameOrId()) {
+        hash = (37 * hash) + NAME_OR_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getNameOrId().hashCode();
+      }
+      if (hasEntry()) {
+        hash = (37 * hash) + ENTRY_FIELD_NUMBER;
+        hash = (53 * hash) + getEntry().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Column prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Column}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Column)
+        com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Column_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Column_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Column.class, com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Column.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (nameOrIdBuilder_ == null) {
+          nameOrId_ = null;
+        } else {
+          nameOrId_ = null;
+          nameOrIdBuilder_ = null;
+        }
+        if (entryBuilder_ == null) {
+          entry_ = null;
+        } else {
+          entry_ = null;
+          entryBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Column_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Column getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Column.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Column build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Column result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Column buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Column result = new com.alibaba.graphscope.gaia.proto.IrResult.Column(this);
+        if (nameOrIdBuilder_ == null) {
+          result.nameOrId_ = nameOrId_;
+        } else {
+          result.nameOrId_ = nameOrIdBuilder_.build();
+        }
+        if (entryBuilder_ == null) {
+          result.entry_ = entry_;
+        } else {
+          result.entry_ = entryBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Column) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Column)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Column other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Column.getDefaultInstance()) return this;
+        if (other.hasNameOrId()) {
+          mergeNameOrId(other.getNameOrId());
+        }
+        if (other.hasEntry()) {
+          mergeEntry(other.getEntry());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Column parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Column) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId nameOrId_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> nameOrIdBuilder_;
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       * @return Whether the nameOrId field is set.
+       */
+      public boolean hasNameOrId() {
+        return nameOrIdBuilder_ != null || nameOrId_ != null;
+      }
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       * @return The nameOrId.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getNameOrId() {
+        if (nameOrIdBuilder_ == null) {
+          return nameOrId_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : nameOrId_;
+        } else {
+          return nameOrIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       */
+      public Builder setNameOrId(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (nameOrIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          nameOrId_ = value;
+          onChanged();
+        } else {
+          nameOrIdBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       */
+      public Builder setNameOrId(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (nameOrIdBuilder_ == null) {
+          nameOrId_ = builderForValue.build();
+          onChanged();
+        } else {
+          nameOrIdBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       */
+      public Builder mergeNameOrId(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (nameOrIdBuilder_ == null) {
+          if (nameOrId_ != null) {
+            nameOrId_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder(nameOrId_).mergeFrom(value).buildPartial();
+          } else {
+            nameOrId_ = value;
+          }
+          onChanged();
+        } else {
+          nameOrIdBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       */
+      public Builder clearNameOrId() {
+        if (nameOrIdBuilder_ == null) {
+          nameOrId_ = null;
+          onChanged();
+        } else {
+          nameOrId_ = null;
+          nameOrIdBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getNameOrIdBuilder() {
+        
+        onChanged();
+        return getNameOrIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getNameOrIdOrBuilder() {
+        if (nameOrIdBuilder_ != null) {
+          return nameOrIdBuilder_.getMessageOrBuilder();
+        } else {
+          return nameOrId_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : nameOrId_;
+        }
+      }
+      /**
+       * <code>.common.NameOrId name_or_id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getNameOrIdFieldBuilder() {
+        if (nameOrIdBuilder_ == null) {
+          nameOrIdBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  getNameOrId(),
+                  getParentForChildren(),
+                  isClean());
+          nameOrId_ = null;
+        }
+        return nameOrIdBuilder_;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.IrResult.Entry entry_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Entry, com.alibaba.graphscope.gaia.proto.IrResult.Entry.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EntryOrBuilder> entryBuilder_;
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       * @return Whether the entry field is set.
+       */
+      public boolean hasEntry() {
+        return entryBuilder_ != null || entry_ != null;
+      }
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       * @return The entry.
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Entry getEntry() {
+        if (entryBuilder_ == null) {
+          return entry_ == null ? com.alibaba.graphscope.gaia.proto.IrResult.Entry.getDefaultInstance() : entry_;
+        } else {
+          return entryBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       */
+      public Builder setEntry(com.alibaba.graphscope.gaia.proto.IrResult.Entry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          entry_ = value;
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       */
+      public Builder setEntry(
+          com.alibaba.graphscope.gaia.proto.IrResult.Entry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          entry_ = builderForValue.build();
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       */
+      public Builder mergeEntry(com.alibaba.graphscope.gaia.proto.IrResult.Entry value) {
+        if (entryBuilder_ == null) {
+          if (entry_ != null) {
+            entry_ =
+              com.alibaba.graphscope.gaia.proto.IrResult.Entry.newBuilder(entry_).mergeFrom(value).buildPartial();
+          } else {
+            entry_ = value;
+          }
+          onChanged();
+        } else {
+          entryBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       */
+      public Builder clearEntry() {
+        if (entryBuilder_ == null) {
+          entry_ = null;
+          onChanged();
+        } else {
+          entry_ = null;
+          entryBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Entry.Builder getEntryBuilder() {
+        
+        onChanged();
+        return getEntryFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.EntryOrBuilder getEntryOrBuilder() {
+        if (entryBuilder_ != null) {
+          return entryBuilder_.getMessageOrBuilder();
+        } else {
+          return entry_ == null ?
+              com.alibaba.graphscope.gaia.proto.IrResult.Entry.getDefaultInstance() : entry_;
+        }
+      }
+      /**
+       * <code>.results.Entry entry = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Entry, com.alibaba.graphscope.gaia.proto.IrResult.Entry.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EntryOrBuilder> 
+          getEntryFieldBuilder() {
+        if (entryBuilder_ == null) {
+          entryBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Entry, com.alibaba.graphscope.gaia.proto.IrResult.Entry.Builder, com.alibaba.graphscope.gaia.proto.IrResult.EntryOrBuilder>(
+                  getEntry(),
+                  getParentForChildren(),
+                  isClean());
+          entry_ = null;
+        }
+        return entryBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Column)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Column)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Column DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Column();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Column getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Column>
+        PARSER = new com.google.protobuf.AbstractParser<Column>() {
+      @java.lang.Override
+      public Column parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Column(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Column> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Column> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Column getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Record)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Column> 
+        getColumnsList();
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Column getColumns(int index);
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    int getColumnsCount();
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder getColumnsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code results.Record}
+   */
+  public static final class Record extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Record)
+      RecordOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Record.newBuilder() to construct.
+    private Record(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Record() {
+      columns_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Record();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Record(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                columns_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.Column>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              columns_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Column.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          columns_ = java.util.Collections.unmodifiableList(columns_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Record_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Record_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Record.class, com.alibaba.graphscope.gaia.proto.IrResult.Record.Builder.class);
+    }
+
+    public static final int COLUMNS_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Column> columns_;
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Column> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    @java.lang.Override
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Column getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <code>repeated .results.Column columns = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(1, columns_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, columns_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Record)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Record other = (com.alibaba.graphscope.gaia.proto.IrResult.Record) obj;
+
+      if (!getColumnsList()
+          .equals(other.getColumnsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getColumnsCount() > 0) {
+        hash = (37 * hash) + COLUMNS_FIELD_NUMBER;
+        hash = (53 * hash) + getColumnsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Record prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Record}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Record)
+        com.alibaba.graphscope.gaia.proto.IrResult.RecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Record_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Record_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Record.class, com.alibaba.graphscope.gaia.proto.IrResult.Record.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Record.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getColumnsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Record_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Record getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Record build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Record result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Record buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Record result = new com.alibaba.graphscope.gaia.proto.IrResult.Record(this);
+        int from_bitField0_ = bitField0_;
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Record) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Record)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Record other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance()) return this;
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Record parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Record) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Column> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          columns_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.IrResult.Column>(columns_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Column, com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder> columnsBuilder_;
+
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Column> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Column getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder setColumns(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Column value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder setColumns(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder addColumns(com.alibaba.graphscope.gaia.proto.IrResult.Column value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder addColumns(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Column value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder addColumns(
+          com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder addColumns(
+          int index, com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.IrResult.Column> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.IrResult.Column.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.IrResult.Column.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .results.Column columns = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Column, com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Column, com.alibaba.graphscope.gaia.proto.IrResult.Column.Builder, com.alibaba.graphscope.gaia.proto.IrResult.ColumnOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Record)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Record)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Record DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Record();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Record getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Record>
+        PARSER = new com.google.protobuf.AbstractParser<Record>() {
+      @java.lang.Override
+      public Record parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Record(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Record> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Record> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Record getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ResultsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:results.Results)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.results.Record record = 1;</code>
+     * @return Whether the record field is set.
+     */
+    boolean hasRecord();
+    /**
+     * <code>.results.Record record = 1;</code>
+     * @return The record.
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.Record getRecord();
+    /**
+     * <code>.results.Record record = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.IrResult.RecordOrBuilder getRecordOrBuilder();
+
+    public com.alibaba.graphscope.gaia.proto.IrResult.Results.InnerCase getInnerCase();
+  }
+  /**
+   * Protobuf type {@code results.Results}
+   */
+  public static final class Results extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:results.Results)
+      ResultsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Results.newBuilder() to construct.
+    private Results(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Results() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Results();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Results(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.IrResult.Record.Builder subBuilder = null;
+              if (innerCase_ == 1) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_).toBuilder();
+              }
+              inner_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.IrResult.Record.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_);
+                inner_ = subBuilder.buildPartial();
+              }
+              innerCase_ = 1;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Results_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Results_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.IrResult.Results.class, com.alibaba.graphscope.gaia.proto.IrResult.Results.Builder.class);
+    }
+
+    private int innerCase_ = 0;
+    private java.lang.Object inner_;
+    public enum InnerCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      RECORD(1),
+      INNER_NOT_SET(0);
+      private final int value;
+      private InnerCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static InnerCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static InnerCase forNumber(int value) {
+        switch (value) {
+          case 1: return RECORD;
+          case 0: return INNER_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public InnerCase
+    getInnerCase() {
+      return InnerCase.forNumber(
+          innerCase_);
+    }
+
+    public static final int RECORD_FIELD_NUMBER = 1;
+    /**
+     * <code>.results.Record record = 1;</code>
+     * @return Whether the record field is set.
+     */
+    @java.lang.Override
+    public boolean hasRecord() {
+      return innerCase_ == 1;
+    }
+    /**
+     * <code>.results.Record record = 1;</code>
+     * @return The record.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Record getRecord() {
+      if (innerCase_ == 1) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance();
+    }
+    /**
+     * <code>.results.Record record = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.RecordOrBuilder getRecordOrBuilder() {
+      if (innerCase_ == 1) {
+         return (com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_;
+      }
+      return com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (innerCase_ == 1) {
+        output.writeMessage(1, (com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (innerCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.IrResult.Results)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.IrResult.Results other = (com.alibaba.graphscope.gaia.proto.IrResult.Results) obj;
+
+      if (!getInnerCase().equals(other.getInnerCase())) return false;
+      switch (innerCase_) {
+        case 1:
+          if (!getRecord()
+              .equals(other.getRecord())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (innerCase_) {
+        case 1:
+          hash = (37 * hash) + RECORD_FIELD_NUMBER;
+          hash = (53 * hash) + getRecord().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.IrResult.Results prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code results.Results}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:results.Results)
+        com.alibaba.graphscope.gaia.proto.IrResult.ResultsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Results_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Results_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.IrResult.Results.class, com.alibaba.graphscope.gaia.proto.IrResult.Results.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.IrResult.Results.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        innerCase_ = 0;
+        inner_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.internal_static_results_Results_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Results getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.IrResult.Results.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Results build() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Results result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Results buildPartial() {
+        com.alibaba.graphscope.gaia.proto.IrResult.Results result = new com.alibaba.graphscope.gaia.proto.IrResult.Results(this);
+        if (innerCase_ == 1) {
+          if (recordBuilder_ == null) {
+            result.inner_ = inner_;
+          } else {
+            result.inner_ = recordBuilder_.build();
+          }
+        }
+        result.innerCase_ = innerCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.IrResult.Results) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.IrResult.Results)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.IrResult.Results other) {
+        if (other == com.alibaba.graphscope.gaia.proto.IrResult.Results.getDefaultInstance()) return this;
+        switch (other.getInnerCase()) {
+          case RECORD: {
+            mergeRecord(other.getRecord());
+            break;
+          }
+          case INNER_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.IrResult.Results parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.IrResult.Results) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int innerCase_ = 0;
+      private java.lang.Object inner_;
+      public InnerCase
+          getInnerCase() {
+        return InnerCase.forNumber(
+            innerCase_);
+      }
+
+      public Builder clearInner() {
+        innerCase_ = 0;
+        inner_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Record, com.alibaba.graphscope.gaia.proto.IrResult.Record.Builder, com.alibaba.graphscope.gaia.proto.IrResult.RecordOrBuilder> recordBuilder_;
+      /**
+       * <code>.results.Record record = 1;</code>
+       * @return Whether the record field is set.
+       */
+      @java.lang.Override
+      public boolean hasRecord() {
+        return innerCase_ == 1;
+      }
+      /**
+       * <code>.results.Record record = 1;</code>
+       * @return The record.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.Record getRecord() {
+        if (recordBuilder_ == null) {
+          if (innerCase_ == 1) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance();
+        } else {
+          if (innerCase_ == 1) {
+            return recordBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Record record = 1;</code>
+       */
+      public Builder setRecord(com.alibaba.graphscope.gaia.proto.IrResult.Record value) {
+        if (recordBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inner_ = value;
+          onChanged();
+        } else {
+          recordBuilder_.setMessage(value);
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Record record = 1;</code>
+       */
+      public Builder setRecord(
+          com.alibaba.graphscope.gaia.proto.IrResult.Record.Builder builderForValue) {
+        if (recordBuilder_ == null) {
+          inner_ = builderForValue.build();
+          onChanged();
+        } else {
+          recordBuilder_.setMessage(builderForValue.build());
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Record record = 1;</code>
+       */
+      public Builder mergeRecord(com.alibaba.graphscope.gaia.proto.IrResult.Record value) {
+        if (recordBuilder_ == null) {
+          if (innerCase_ == 1 &&
+              inner_ != com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance()) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Record.newBuilder((com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            inner_ = value;
+          }
+          onChanged();
+        } else {
+          if (innerCase_ == 1) {
+            recordBuilder_.mergeFrom(value);
+          }
+          recordBuilder_.setMessage(value);
+        }
+        innerCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.results.Record record = 1;</code>
+       */
+      public Builder clearRecord() {
+        if (recordBuilder_ == null) {
+          if (innerCase_ == 1) {
+            innerCase_ = 0;
+            inner_ = null;
+            onChanged();
+          }
+        } else {
+          if (innerCase_ == 1) {
+            innerCase_ = 0;
+            inner_ = null;
+          }
+          recordBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.results.Record record = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.IrResult.Record.Builder getRecordBuilder() {
+        return getRecordFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.results.Record record = 1;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.IrResult.RecordOrBuilder getRecordOrBuilder() {
+        if ((innerCase_ == 1) && (recordBuilder_ != null)) {
+          return recordBuilder_.getMessageOrBuilder();
+        } else {
+          if (innerCase_ == 1) {
+            return (com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_;
+          }
+          return com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.results.Record record = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.IrResult.Record, com.alibaba.graphscope.gaia.proto.IrResult.Record.Builder, com.alibaba.graphscope.gaia.proto.IrResult.RecordOrBuilder> 
+          getRecordFieldBuilder() {
+        if (recordBuilder_ == null) {
+          if (!(innerCase_ == 1)) {
+            inner_ = com.alibaba.graphscope.gaia.proto.IrResult.Record.getDefaultInstance();
+          }
+          recordBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.IrResult.Record, com.alibaba.graphscope.gaia.proto.IrResult.Record.Builder, com.alibaba.graphscope.gaia.proto.IrResult.RecordOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.IrResult.Record) inner_,
+                  getParentForChildren(),
+                  isClean());
+          inner_ = null;
+        }
+        innerCase_ = 1;
+        onChanged();;
+        return recordBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:results.Results)
+    }
+
+    // @@protoc_insertion_point(class_scope:results.Results)
+    private static final com.alibaba.graphscope.gaia.proto.IrResult.Results DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.IrResult.Results();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.IrResult.Results getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Results>
+        PARSER = new com.google.protobuf.AbstractParser<Results>() {
+      @java.lang.Override
+      public Results parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Results(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Results> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Results> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.IrResult.Results getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Property_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Property_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Vertex_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Vertex_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Edge_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Edge_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_GraphPath_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_GraphPath_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_GraphPath_VertexOrEdge_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_GraphPath_VertexOrEdge_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Element_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Element_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Collection_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Collection_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Entry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Entry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Column_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Column_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Record_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Record_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_results_Results_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_results_Results_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\rresults.proto\022\007results\032\014common.proto\032\n" +
+      "expr.proto\"G\n\010Property\022\035\n\003key\030\001 \001(\0132\020.co" +
+      "mmon.NameOrId\022\034\n\005value\030\002 \001(\0132\r.common.Va" +
+      "lue\"\\\n\006Vertex\022\n\n\002id\030\001 \001(\003\022\037\n\005label\030\002 \001(\013" +
+      "2\020.common.NameOrId\022%\n\nproperties\030\003 \003(\0132\021" +
+      ".results.Property\"\304\001\n\004Edge\022\n\n\002id\030\001 \001(\003\022\037" +
+      "\n\005label\030\002 \001(\0132\020.common.NameOrId\022\016\n\006src_i" +
+      "d\030\003 \001(\003\022#\n\tsrc_label\030\004 \001(\0132\020.common.Name" +
+      "OrId\022\016\n\006dst_id\030\005 \001(\003\022#\n\tdst_label\030\006 \001(\0132" +
+      "\020.common.NameOrId\022%\n\nproperties\030\007 \003(\0132\021." +
+      "results.Property\"\225\001\n\tGraphPath\022-\n\004path\030\001" +
+      " \003(\0132\037.results.GraphPath.VertexOrEdge\032Y\n" +
+      "\014VertexOrEdge\022!\n\006vertex\030\001 \001(\0132\017.results." +
+      "VertexH\000\022\035\n\004edge\030\002 \001(\0132\r.results.EdgeH\000B" +
+      "\007\n\005inner\"\237\001\n\007Element\022!\n\006vertex\030\001 \001(\0132\017.r" +
+      "esults.VertexH\000\022\035\n\004edge\030\002 \001(\0132\r.results." +
+      "EdgeH\000\022(\n\ngraph_path\030\003 \001(\0132\022.results.Gra" +
+      "phPathH\000\022\037\n\006object\030\004 \001(\0132\r.common.ValueH" +
+      "\000B\007\n\005inner\"2\n\nCollection\022$\n\ncollection\030\001" +
+      " \003(\0132\020.results.Element\"`\n\005Entry\022#\n\007eleme" +
+      "nt\030\001 \001(\0132\020.results.ElementH\000\022)\n\ncollecti" +
+      "on\030\002 \001(\0132\023.results.CollectionH\000B\007\n\005inner" +
+      "\"M\n\006Column\022$\n\nname_or_id\030\001 \001(\0132\020.common." +
+      "NameOrId\022\035\n\005entry\030\002 \001(\0132\016.results.Entry\"" +
+      "*\n\006Record\022 \n\007columns\030\001 \003(\0132\017.results.Col" +
+      "umn\"5\n\007Results\022!\n\006record\030\001 \001(\0132\017.results" +
+      ".RecordH\000B\007\n\005innerB-\n!com.alibaba.graphs" +
+      "cope.gaia.protoB\010IrResultb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.graphscope.gaia.proto.Common.getDescriptor(),
+          com.alibaba.graphscope.gaia.proto.OuterExpression.getDescriptor(),
+        });
+    internal_static_results_Property_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_results_Property_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Property_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_results_Vertex_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_results_Vertex_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Vertex_descriptor,
+        new java.lang.String[] { "Id", "Label", "Properties", });
+    internal_static_results_Edge_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_results_Edge_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Edge_descriptor,
+        new java.lang.String[] { "Id", "Label", "SrcId", "SrcLabel", "DstId", "DstLabel", "Properties", });
+    internal_static_results_GraphPath_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_results_GraphPath_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_GraphPath_descriptor,
+        new java.lang.String[] { "Path", });
+    internal_static_results_GraphPath_VertexOrEdge_descriptor =
+      internal_static_results_GraphPath_descriptor.getNestedTypes().get(0);
+    internal_static_results_GraphPath_VertexOrEdge_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_GraphPath_VertexOrEdge_descriptor,
+        new java.lang.String[] { "Vertex", "Edge", "Inner", });
+    internal_static_results_Element_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_results_Element_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Element_descriptor,
+        new java.lang.String[] { "Vertex", "Edge", "GraphPath", "Object", "Inner", });
+    internal_static_results_Collection_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_results_Collection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Collection_descriptor,
+        new java.lang.String[] { "Collection", });
+    internal_static_results_Entry_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_results_Entry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Entry_descriptor,
+        new java.lang.String[] { "Element", "Collection", "Inner", });
+    internal_static_results_Column_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_results_Column_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Column_descriptor,
+        new java.lang.String[] { "NameOrId", "Entry", });
+    internal_static_results_Record_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_results_Record_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Record_descriptor,
+        new java.lang.String[] { "Columns", });
+    internal_static_results_Results_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_results_Results_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_results_Results_descriptor,
+        new java.lang.String[] { "Record", "Inner", });
+    com.alibaba.graphscope.gaia.proto.Common.getDescriptor();
+    com.alibaba.graphscope.gaia.proto.OuterExpression.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,10211 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: expr.proto
+
+package com.alibaba.graphscope.gaia.proto;
+
+public final class OuterExpression {
+  private OuterExpression() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code common.Logical}
+   */
+  public enum Logical
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * A binary equality operator
+     * </pre>
+     *
+     * <code>EQ = 0;</code>
+     */
+    EQ(0),
+    /**
+     * <pre>
+     * A binary inequality operator
+     * </pre>
+     *
+     * <code>NE = 1;</code>
+     */
+    NE(1),
+    /**
+     * <pre>
+     * A binary less-than operator
+     * </pre>
+     *
+     * <code>LT = 2;</code>
+     */
+    LT(2),
+    /**
+     * <pre>
+     * A binary less-than-equal operator
+     * </pre>
+     *
+     * <code>LE = 3;</code>
+     */
+    LE(3),
+    /**
+     * <pre>
+     * A binary greater-than operator
+     * </pre>
+     *
+     * <code>GT = 4;</code>
+     */
+    GT(4),
+    /**
+     * <pre>
+     * A binary greater-than-equal operator
+     * </pre>
+     *
+     * <code>GE = 5;</code>
+     */
+    GE(5),
+    /**
+     * <pre>
+     * A binary containment check operator, e.g 1 WITHIN [1, 2, 3, 4]
+     * </pre>
+     *
+     * <code>WITHIN = 6;</code>
+     */
+    WITHIN(6),
+    /**
+     * <pre>
+     * A binary not-containment check operator, e.g 5 WITHOUT [1, 2, 3, 4]
+     * </pre>
+     *
+     * <code>WITHOUT = 7;</code>
+     */
+    WITHOUT(7),
+    /**
+     * <pre>
+     * A binary logical and operator.
+     * </pre>
+     *
+     * <code>AND = 8;</code>
+     */
+    AND(8),
+    /**
+     * <pre>
+     * A binary logical or operator.
+     * </pre>
+     *
+     * <code>OR = 9;</code>
+     */
+    OR(9),
+    /**
+     * <pre>
+     * A unary logical not operator.
+     * </pre>
+     *
+     * <code>NOT = 10;</code>
+     */
+    NOT(10),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * A binary equality operator
+     * </pre>
+     *
+     * <code>EQ = 0;</code>
+     */
+    public static final int EQ_VALUE = 0;
+    /**
+     * <pre>
+     * A binary inequality operator
+     * </pre>
+     *
+     * <code>NE = 1;</code>
+     */
+    public static final int NE_VALUE = 1;
+    /**
+     * <pre>
+     * A binary less-than operator
+     * </pre>
+     *
+     * <code>LT = 2;</code>
+     */
+    public static final int LT_VALUE = 2;
+    /**
+     * <pre>
+     * A binary less-than-equal operator
+     * </pre>
+     *
+     * <code>LE = 3;</code>
+     */
+    public static final int LE_VALUE = 3;
+    /**
+     * <pre>
+     * A binary greater-than operator
+     * </pre>
+     *
+     * <code>GT = 4;</code>
+     */
+    public static final int GT_VALUE = 4;
+    /**
+     * <pre>
+     * A binary greater-than-equal operator
+     * </pre>
+     *
+     * <code>GE = 5;</code>
+     */
+    public static final int GE_VALUE = 5;
+    /**
+     * <pre>
+     * A binary containment check operator, e.g 1 WITHIN [1, 2, 3, 4]
+     * </pre>
+     *
+     * <code>WITHIN = 6;</code>
+     */
+    public static final int WITHIN_VALUE = 6;
+    /**
+     * <pre>
+     * A binary not-containment check operator, e.g 5 WITHOUT [1, 2, 3, 4]
+     * </pre>
+     *
+     * <code>WITHOUT = 7;</code>
+     */
+    public static final int WITHOUT_VALUE = 7;
+    /**
+     * <pre>
+     * A binary logical and operator.
+     * </pre>
+     *
+     * <code>AND = 8;</code>
+     */
+    public static final int AND_VALUE = 8;
+    /**
+     * <pre>
+     * A binary logical or operator.
+     * </pre>
+     *
+     * <code>OR = 9;</code>
+     */
+    public static final int OR_VALUE = 9;
+    /**
+     * <pre>
+     * A unary logical not operator.
+     * </pre>
+     *
+     * <code>NOT = 10;</code>
+     */
+    public static final int NOT_VALUE = 10;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Logical valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Logical forNumber(int value) {
+      switch (value) {
+        case 0: return EQ;
+        case 1: return NE;
+        case 2: return LT;
+        case 3: return LE;
+        case 4: return GT;
+        case 5: return GE;
+        case 6: return WITHIN;
+        case 7: return WITHOUT;
+        case 8: return AND;
+        case 9: return OR;
+        case 10: return NOT;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Logical>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Logical> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Logical>() {
+            public Logical findValueByNumber(int number) {
+              return Logical.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Logical[] VALUES = values();
+
+    public static Logical valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Logical(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:common.Logical)
+  }
+
+  /**
+   * Protobuf enum {@code common.Arithmetic}
+   */
+  public enum Arithmetic
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * A binary addition operator
+     * </pre>
+     *
+     * <code>ADD = 0;</code>
+     */
+    ADD(0),
+    /**
+     * <pre>
+     * A binary subtraction operator
+     * </pre>
+     *
+     * <code>SUB = 1;</code>
+     */
+    SUB(1),
+    /**
+     * <pre>
+     * A binary multiplication operator
+     * </pre>
+     *
+     * <code>MUL = 2;</code>
+     */
+    MUL(2),
+    /**
+     * <pre>
+     * A binary division operator
+     * </pre>
+     *
+     * <code>DIV = 3;</code>
+     */
+    DIV(3),
+    /**
+     * <pre>
+     * A binary modulo operator
+     * </pre>
+     *
+     * <code>MOD = 4;</code>
+     */
+    MOD(4),
+    /**
+     * <pre>
+     * A binary exponentiation operator
+     * </pre>
+     *
+     * <code>EXP = 5;</code>
+     */
+    EXP(5),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * A binary addition operator
+     * </pre>
+     *
+     * <code>ADD = 0;</code>
+     */
+    public static final int ADD_VALUE = 0;
+    /**
+     * <pre>
+     * A binary subtraction operator
+     * </pre>
+     *
+     * <code>SUB = 1;</code>
+     */
+    public static final int SUB_VALUE = 1;
+    /**
+     * <pre>
+     * A binary multiplication operator
+     * </pre>
+     *
+     * <code>MUL = 2;</code>
+     */
+    public static final int MUL_VALUE = 2;
+    /**
+     * <pre>
+     * A binary division operator
+     * </pre>
+     *
+     * <code>DIV = 3;</code>
+     */
+    public static final int DIV_VALUE = 3;
+    /**
+     * <pre>
+     * A binary modulo operator
+     * </pre>
+     *
+     * <code>MOD = 4;</code>
+     */
+    public static final int MOD_VALUE = 4;
+    /**
+     * <pre>
+     * A binary exponentiation operator
+     * </pre>
+     *
+     * <code>EXP = 5;</code>
+     */
+    public static final int EXP_VALUE = 5;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Arithmetic valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Arithmetic forNumber(int value) {
+      switch (value) {
+        case 0: return ADD;
+        case 1: return SUB;
+        case 2: return MUL;
+        case 3: return DIV;
+        case 4: return MOD;
+        case 5: return EXP;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Arithmetic>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Arithmetic> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Arithmetic>() {
+            public Arithmetic findValueByNumber(int number) {
+              return Arithmetic.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final Arithmetic[] VALUES = values();
+
+    public static Arithmetic valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Arithmetic(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:common.Arithmetic)
+  }
+
+  public interface IdKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.IdKey)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code common.IdKey}
+   */
+  public static final class IdKey extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.IdKey)
+      IdKeyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use IdKey.newBuilder() to construct.
+    private IdKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private IdKey() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new IdKey();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private IdKey(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_IdKey_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_IdKey_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey other = (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.IdKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.IdKey)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.IdKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_IdKey_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_IdKey_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_IdKey_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey result = new com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.IdKey)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.IdKey)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<IdKey>
+        PARSER = new com.google.protobuf.AbstractParser<IdKey>() {
+      @java.lang.Override
+      public IdKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new IdKey(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<IdKey> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<IdKey> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LabelKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.LabelKey)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code common.LabelKey}
+   */
+  public static final class LabelKey extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.LabelKey)
+      LabelKeyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LabelKey.newBuilder() to construct.
+    private LabelKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LabelKey() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LabelKey();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LabelKey(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LabelKey_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LabelKey_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey other = (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.LabelKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.LabelKey)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LabelKey_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LabelKey_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LabelKey_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey result = new com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.LabelKey)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.LabelKey)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LabelKey>
+        PARSER = new com.google.protobuf.AbstractParser<LabelKey>() {
+      @java.lang.Override
+      public LabelKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LabelKey(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LabelKey> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LabelKey> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LengthKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.LengthKey)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code common.LengthKey}
+   */
+  public static final class LengthKey extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.LengthKey)
+      LengthKeyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LengthKey.newBuilder() to construct.
+    private LengthKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LengthKey() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LengthKey();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LengthKey(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LengthKey_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LengthKey_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey other = (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.LengthKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.LengthKey)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LengthKey_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LengthKey_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_LengthKey_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey result = new com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.LengthKey)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.LengthKey)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LengthKey>
+        PARSER = new com.google.protobuf.AbstractParser<LengthKey>() {
+      @java.lang.Override
+      public LengthKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LengthKey(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LengthKey> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LengthKey> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AllKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.AllKey)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code common.AllKey}
+   */
+  public static final class AllKey extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.AllKey)
+      AllKeyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AllKey.newBuilder() to construct.
+    private AllKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AllKey() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new AllKey();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AllKey(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_AllKey_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_AllKey_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey other = (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.AllKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.AllKey)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.AllKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_AllKey_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_AllKey_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_AllKey_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey result = new com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.AllKey)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.AllKey)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AllKey>
+        PARSER = new com.google.protobuf.AbstractParser<AllKey>() {
+      @java.lang.Override
+      public AllKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AllKey(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AllKey> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AllKey> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NameOrIdOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.NameOrId)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>int32 id = 2;</code>
+     * @return Whether the id field is set.
+     */
+    boolean hasId();
+    /**
+     * <code>int32 id = 2;</code>
+     * @return The id.
+     */
+    int getId();
+
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.ItemCase getItemCase();
+  }
+  /**
+   * <pre>
+   * A indicator of an attribute or further its properties, which may present as a string-type name
+   * or be encoded as a name identifier
+   * </pre>
+   *
+   * Protobuf type {@code common.NameOrId}
+   */
+  public static final class NameOrId extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.NameOrId)
+      NameOrIdOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NameOrId.newBuilder() to construct.
+    private NameOrId(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NameOrId() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NameOrId();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private NameOrId(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              itemCase_ = 1;
+              item_ = s;
+              break;
+            }
+            case 16: {
+              itemCase_ = 2;
+              item_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrId_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrId_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.class, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder.class);
+    }
+
+    private int itemCase_ = 0;
+    private java.lang.Object item_;
+    public enum ItemCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      NAME(1),
+      ID(2),
+      ITEM_NOT_SET(0);
+      private final int value;
+      private ItemCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ItemCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ItemCase forNumber(int value) {
+        switch (value) {
+          case 1: return NAME;
+          case 2: return ID;
+          case 0: return ITEM_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ItemCase
+    getItemCase() {
+      return ItemCase.forNumber(
+          itemCase_);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    /**
+     * <code>string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    public boolean hasName() {
+      return itemCase_ == 1;
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = "";
+      if (itemCase_ == 1) {
+        ref = item_;
+      }
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (itemCase_ == 1) {
+          item_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = "";
+      if (itemCase_ == 1) {
+        ref = item_;
+      }
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (itemCase_ == 1) {
+          item_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ID_FIELD_NUMBER = 2;
+    /**
+     * <code>int32 id = 2;</code>
+     * @return Whether the id field is set.
+     */
+    @java.lang.Override
+    public boolean hasId() {
+      return itemCase_ == 2;
+    }
+    /**
+     * <code>int32 id = 2;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      if (itemCase_ == 2) {
+        return (java.lang.Integer) item_;
+      }
+      return 0;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (itemCase_ == 1) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, item_);
+      }
+      if (itemCase_ == 2) {
+        output.writeInt32(
+            2, (int)((java.lang.Integer) item_));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (itemCase_ == 1) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, item_);
+      }
+      if (itemCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(
+              2, (int)((java.lang.Integer) item_));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId other = (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) obj;
+
+      if (!getItemCase().equals(other.getItemCase())) return false;
+      switch (itemCase_) {
+        case 1:
+          if (!getName()
+              .equals(other.getName())) return false;
+          break;
+        case 2:
+          if (getId()
+              != other.getId()) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (itemCase_) {
+        case 1:
+          hash = (37 * hash) + NAME_FIELD_NUMBER;
+          hash = (53 * hash) + getName().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + ID_FIELD_NUMBER;
+          hash = (53 * hash) + getId();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A indicator of an attribute or further its properties, which may present as a string-type name
+     * or be encoded as a name identifier
+     * </pre>
+     *
+     * Protobuf type {@code common.NameOrId}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.NameOrId)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrId_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrId_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.class, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        itemCase_ = 0;
+        item_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrId_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId result = new com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId(this);
+        if (itemCase_ == 1) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 2) {
+          result.item_ = item_;
+        }
+        result.itemCase_ = itemCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance()) return this;
+        switch (other.getItemCase()) {
+          case NAME: {
+            itemCase_ = 1;
+            item_ = other.item_;
+            onChanged();
+            break;
+          }
+          case ID: {
+            setId(other.getId());
+            break;
+          }
+          case ITEM_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int itemCase_ = 0;
+      private java.lang.Object item_;
+      public ItemCase
+          getItemCase() {
+        return ItemCase.forNumber(
+            itemCase_);
+      }
+
+      public Builder clearItem() {
+        itemCase_ = 0;
+        item_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      /**
+       * <code>string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      @java.lang.Override
+      public boolean hasName() {
+        return itemCase_ == 1;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      @java.lang.Override
+      public java.lang.String getName() {
+        java.lang.Object ref = "";
+        if (itemCase_ == 1) {
+          ref = item_;
+        }
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (itemCase_ == 1) {
+            item_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = "";
+        if (itemCase_ == 1) {
+          ref = item_;
+        }
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          if (itemCase_ == 1) {
+            item_ = b;
+          }
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  itemCase_ = 1;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        if (itemCase_ == 1) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        itemCase_ = 1;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+
+      /**
+       * <code>int32 id = 2;</code>
+       * @return Whether the id field is set.
+       */
+      public boolean hasId() {
+        return itemCase_ == 2;
+      }
+      /**
+       * <code>int32 id = 2;</code>
+       * @return The id.
+       */
+      public int getId() {
+        if (itemCase_ == 2) {
+          return (java.lang.Integer) item_;
+        }
+        return 0;
+      }
+      /**
+       * <code>int32 id = 2;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(int value) {
+        itemCase_ = 2;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        if (itemCase_ == 2) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.NameOrId)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.NameOrId)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NameOrId>
+        PARSER = new com.google.protobuf.AbstractParser<NameOrId>() {
+      @java.lang.Override
+      public NameOrId parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new NameOrId(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<NameOrId> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NameOrId> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NameOrIdKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.NameOrIdKey)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     * @return The key.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey();
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder();
+  }
+  /**
+   * <pre>
+   * Use `NameOrId` as key item, which is the same as `Option&lt;NameOrId&gt;`
+   * </pre>
+   *
+   * Protobuf type {@code common.NameOrIdKey}
+   */
+  public static final class NameOrIdKey extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.NameOrIdKey)
+      NameOrIdKeyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NameOrIdKey.newBuilder() to construct.
+    private NameOrIdKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NameOrIdKey() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NameOrIdKey();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private NameOrIdKey(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (key_ != null) {
+                subBuilder = key_.toBuilder();
+              }
+              key_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(key_);
+                key_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrIdKey_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrIdKey_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId key_;
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return key_ != null;
+    }
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey() {
+      return key_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : key_;
+    }
+    /**
+     * <code>.common.NameOrId key = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder() {
+      return getKey();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (key_ != null) {
+        output.writeMessage(1, getKey());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (key_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getKey());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey other = (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Use `NameOrId` as key item, which is the same as `Option&lt;NameOrId&gt;`
+     * </pre>
+     *
+     * Protobuf type {@code common.NameOrIdKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.NameOrIdKey)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrIdKey_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrIdKey_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey.class, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (keyBuilder_ == null) {
+          key_ = null;
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_NameOrIdKey_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey result = new com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey(this);
+        if (keyBuilder_ == null) {
+          result.key_ = key_;
+        } else {
+          result.key_ = keyBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          mergeKey(other.getKey());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId key_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> keyBuilder_;
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return keyBuilder_ != null || key_ != null;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       * @return The key.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey() {
+        if (keyBuilder_ == null) {
+          return key_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : key_;
+        } else {
+          return keyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public Builder setKey(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (keyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          key_ = value;
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public Builder setKey(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (keyBuilder_ == null) {
+          key_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public Builder mergeKey(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (keyBuilder_ == null) {
+          if (key_ != null) {
+            key_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder(key_).mergeFrom(value).buildPartial();
+          } else {
+            key_ = value;
+          }
+          onChanged();
+        } else {
+          keyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public Builder clearKey() {
+        if (keyBuilder_ == null) {
+          key_ = null;
+          onChanged();
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getKeyBuilder() {
+        
+        onChanged();
+        return getKeyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder() {
+        if (keyBuilder_ != null) {
+          return keyBuilder_.getMessageOrBuilder();
+        } else {
+          return key_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : key_;
+        }
+      }
+      /**
+       * <code>.common.NameOrId key = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getKeyFieldBuilder() {
+        if (keyBuilder_ == null) {
+          keyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  getKey(),
+                  getParentForChildren(),
+                  isClean());
+          key_ = null;
+        }
+        return keyBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.NameOrIdKey)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.NameOrIdKey)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NameOrIdKey>
+        PARSER = new com.google.protobuf.AbstractParser<NameOrIdKey>() {
+      @java.lang.Override
+      public NameOrIdKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new NameOrIdKey(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<NameOrIdKey> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NameOrIdKey> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdKey getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PropertyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.Property)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Get id from the entity
+     * </pre>
+     *
+     * <code>.common.IdKey id = 2;</code>
+     * @return Whether the id field is set.
+     */
+    boolean hasId();
+    /**
+     * <pre>
+     * Get id from the entity
+     * </pre>
+     *
+     * <code>.common.IdKey id = 2;</code>
+     * @return The id.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey getId();
+    /**
+     * <pre>
+     * Get id from the entity
+     * </pre>
+     *
+     * <code>.common.IdKey id = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.IdKeyOrBuilder getIdOrBuilder();
+
+    /**
+     * <pre>
+     * Get label from the entity
+     * </pre>
+     *
+     * <code>.common.LabelKey label = 3;</code>
+     * @return Whether the label field is set.
+     */
+    boolean hasLabel();
+    /**
+     * <pre>
+     * Get label from the entity
+     * </pre>
+     *
+     * <code>.common.LabelKey label = 3;</code>
+     * @return The label.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey getLabel();
+    /**
+     * <pre>
+     * Get label from the entity
+     * </pre>
+     *
+     * <code>.common.LabelKey label = 3;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKeyOrBuilder getLabelOrBuilder();
+
+    /**
+     * <pre>
+     * Get length from the entity
+     * </pre>
+     *
+     * <code>.common.LengthKey len = 4;</code>
+     * @return Whether the len field is set.
+     */
+    boolean hasLen();
+    /**
+     * <pre>
+     * Get length from the entity
+     * </pre>
+     *
+     * <code>.common.LengthKey len = 4;</code>
+     * @return The len.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey getLen();
+    /**
+     * <pre>
+     * Get length from the entity
+     * </pre>
+     *
+     * <code>.common.LengthKey len = 4;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKeyOrBuilder getLenOrBuilder();
+
+    /**
+     * <pre>
+     * Get all properties
+     * </pre>
+     *
+     * <code>.common.AllKey all = 5;</code>
+     * @return Whether the all field is set.
+     */
+    boolean hasAll();
+    /**
+     * <pre>
+     * Get all properties
+     * </pre>
+     *
+     * <code>.common.AllKey all = 5;</code>
+     * @return The all.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey getAll();
+    /**
+     * <pre>
+     * Get all properties
+     * </pre>
+     *
+     * <code>.common.AllKey all = 5;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.AllKeyOrBuilder getAllOrBuilder();
+
+    /**
+     * <pre>
+     * Get property of key from the entity
+     * </pre>
+     *
+     * <code>.common.NameOrId key = 6;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <pre>
+     * Get property of key from the entity
+     * </pre>
+     *
+     * <code>.common.NameOrId key = 6;</code>
+     * @return The key.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey();
+    /**
+     * <pre>
+     * Get property of key from the entity
+     * </pre>
+     *
+     * <code>.common.NameOrId key = 6;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder();
+
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Property.ItemCase getItemCase();
+  }
+  /**
+   * Protobuf type {@code common.Property}
+   */
+  public static final class Property extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.Property)
+      PropertyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Property.newBuilder() to construct.
+    private Property(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Property() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Property();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Property(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.Builder subBuilder = null;
+              if (itemCase_ == 2) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 2;
+              break;
+            }
+            case 26: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.Builder subBuilder = null;
+              if (itemCase_ == 3) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 3;
+              break;
+            }
+            case 34: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.Builder subBuilder = null;
+              if (itemCase_ == 4) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 4;
+              break;
+            }
+            case 42: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.Builder subBuilder = null;
+              if (itemCase_ == 5) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 5;
+              break;
+            }
+            case 50: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (itemCase_ == 6) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 6;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Property_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Property_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Property.class, com.alibaba.graphscope.gaia.proto.OuterExpression.Property.Builder.class);
+    }
+
+    private int itemCase_ = 0;
+    private java.lang.Object item_;
+    public enum ItemCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      ID(2),
+      LABEL(3),
+      LEN(4),
+      ALL(5),
+      KEY(6),
+      ITEM_NOT_SET(0);
+      private final int value;
+      private ItemCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ItemCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ItemCase forNumber(int value) {
+        switch (value) {
+          case 2: return ID;
+          case 3: return LABEL;
+          case 4: return LEN;
+          case 5: return ALL;
+          case 6: return KEY;
+          case 0: return ITEM_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ItemCase
+    getItemCase() {
+      return ItemCase.forNumber(
+          itemCase_);
+    }
+
+    public static final int ID_FIELD_NUMBER = 2;
+    /**
+     * <pre>
+     * Get id from the entity
+     * </pre>
+     *
+     * <code>.common.IdKey id = 2;</code>
+     * @return Whether the id field is set.
+     */
+    @java.lang.Override
+    public boolean hasId() {
+      return itemCase_ == 2;
+    }
+    /**
+     * <pre>
+     * Get id from the entity
+     * </pre>
+     *
+     * <code>.common.IdKey id = 2;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey getId() {
+      if (itemCase_ == 2) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Get id from the entity
+     * </pre>
+     *
+     * <code>.common.IdKey id = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKeyOrBuilder getIdOrBuilder() {
+      if (itemCase_ == 2) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance();
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 3;
+    /**
+     * <pre>
+     * Get label from the entity
+     * </pre>
+     *
+     * <code>.common.LabelKey label = 3;</code>
+     * @return Whether the label field is set.
+     */
+    @java.lang.Override
+    public boolean hasLabel() {
+      return itemCase_ == 3;
+    }
+    /**
+     * <pre>
+     * Get label from the entity
+     * </pre>
+     *
+     * <code>.common.LabelKey label = 3;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey getLabel() {
+      if (itemCase_ == 3) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Get label from the entity
+     * </pre>
+     *
+     * <code>.common.LabelKey label = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKeyOrBuilder getLabelOrBuilder() {
+      if (itemCase_ == 3) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance();
+    }
+
+    public static final int LEN_FIELD_NUMBER = 4;
+    /**
+     * <pre>
+     * Get length from the entity
+     * </pre>
+     *
+     * <code>.common.LengthKey len = 4;</code>
+     * @return Whether the len field is set.
+     */
+    @java.lang.Override
+    public boolean hasLen() {
+      return itemCase_ == 4;
+    }
+    /**
+     * <pre>
+     * Get length from the entity
+     * </pre>
+     *
+     * <code>.common.LengthKey len = 4;</code>
+     * @return The len.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey getLen() {
+      if (itemCase_ == 4) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Get length from the entity
+     * </pre>
+     *
+     * <code>.common.LengthKey len = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKeyOrBuilder getLenOrBuilder() {
+      if (itemCase_ == 4) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance();
+    }
+
+    public static final int ALL_FIELD_NUMBER = 5;
+    /**
+     * <pre>
+     * Get all properties
+     * </pre>
+     *
+     * <code>.common.AllKey all = 5;</code>
+     * @return Whether the all field is set.
+     */
+    @java.lang.Override
+    public boolean hasAll() {
+      return itemCase_ == 5;
+    }
+    /**
+     * <pre>
+     * Get all properties
+     * </pre>
+     *
+     * <code>.common.AllKey all = 5;</code>
+     * @return The all.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey getAll() {
+      if (itemCase_ == 5) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Get all properties
+     * </pre>
+     *
+     * <code>.common.AllKey all = 5;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKeyOrBuilder getAllOrBuilder() {
+      if (itemCase_ == 5) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance();
+    }
+
+    public static final int KEY_FIELD_NUMBER = 6;
+    /**
+     * <pre>
+     * Get property of key from the entity
+     * </pre>
+     *
+     * <code>.common.NameOrId key = 6;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return itemCase_ == 6;
+    }
+    /**
+     * <pre>
+     * Get property of key from the entity
+     * </pre>
+     *
+     * <code>.common.NameOrId key = 6;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey() {
+      if (itemCase_ == 6) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Get property of key from the entity
+     * </pre>
+     *
+     * <code>.common.NameOrId key = 6;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder() {
+      if (itemCase_ == 6) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (itemCase_ == 2) {
+        output.writeMessage(2, (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_);
+      }
+      if (itemCase_ == 3) {
+        output.writeMessage(3, (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_);
+      }
+      if (itemCase_ == 4) {
+        output.writeMessage(4, (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_);
+      }
+      if (itemCase_ == 5) {
+        output.writeMessage(5, (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_);
+      }
+      if (itemCase_ == 6) {
+        output.writeMessage(6, (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (itemCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_);
+      }
+      if (itemCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_);
+      }
+      if (itemCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_);
+      }
+      if (itemCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_);
+      }
+      if (itemCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.Property)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.Property other = (com.alibaba.graphscope.gaia.proto.OuterExpression.Property) obj;
+
+      if (!getItemCase().equals(other.getItemCase())) return false;
+      switch (itemCase_) {
+        case 2:
+          if (!getId()
+              .equals(other.getId())) return false;
+          break;
+        case 3:
+          if (!getLabel()
+              .equals(other.getLabel())) return false;
+          break;
+        case 4:
+          if (!getLen()
+              .equals(other.getLen())) return false;
+          break;
+        case 5:
+          if (!getAll()
+              .equals(other.getAll())) return false;
+          break;
+        case 6:
+          if (!getKey()
+              .equals(other.getKey())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (itemCase_) {
+        case 2:
+          hash = (37 * hash) + ID_FIELD_NUMBER;
+          hash = (53 * hash) + getId().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + LABEL_FIELD_NUMBER;
+          hash = (53 * hash) + getLabel().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + LEN_FIELD_NUMBER;
+          hash = (53 * hash) + getLen().hashCode();
+          break;
+        case 5:
+          hash = (37 * hash) + ALL_FIELD_NUMBER;
+          hash = (53 * hash) + getAll().hashCode();
+          break;
+        case 6:
+          hash = (37 * hash) + KEY_FIELD_NUMBER;
+          hash = (53 * hash) + getKey().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.Property prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.Property}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.Property)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.PropertyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Property_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Property_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.Property.class, com.alibaba.graphscope.gaia.proto.OuterExpression.Property.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.Property.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        itemCase_ = 0;
+        item_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Property_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Property getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.Property.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Property build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Property result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Property buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Property result = new com.alibaba.graphscope.gaia.proto.OuterExpression.Property(this);
+        if (itemCase_ == 2) {
+          if (idBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = idBuilder_.build();
+          }
+        }
+        if (itemCase_ == 3) {
+          if (labelBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = labelBuilder_.build();
+          }
+        }
+        if (itemCase_ == 4) {
+          if (lenBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = lenBuilder_.build();
+          }
+        }
+        if (itemCase_ == 5) {
+          if (allBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = allBuilder_.build();
+          }
+        }
+        if (itemCase_ == 6) {
+          if (keyBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = keyBuilder_.build();
+          }
+        }
+        result.itemCase_ = itemCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.Property) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.Property)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.Property other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.Property.getDefaultInstance()) return this;
+        switch (other.getItemCase()) {
+          case ID: {
+            mergeId(other.getId());
+            break;
+          }
+          case LABEL: {
+            mergeLabel(other.getLabel());
+            break;
+          }
+          case LEN: {
+            mergeLen(other.getLen());
+            break;
+          }
+          case ALL: {
+            mergeAll(other.getAll());
+            break;
+          }
+          case KEY: {
+            mergeKey(other.getKey());
+            break;
+          }
+          case ITEM_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Property parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.Property) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int itemCase_ = 0;
+      private java.lang.Object item_;
+      public ItemCase
+          getItemCase() {
+        return ItemCase.forNumber(
+            itemCase_);
+      }
+
+      public Builder clearItem() {
+        itemCase_ = 0;
+        item_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey, com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.IdKeyOrBuilder> idBuilder_;
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       * @return Whether the id field is set.
+       */
+      @java.lang.Override
+      public boolean hasId() {
+        return itemCase_ == 2;
+      }
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey getId() {
+        if (idBuilder_ == null) {
+          if (itemCase_ == 2) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance();
+        } else {
+          if (itemCase_ == 2) {
+            return idBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       */
+      public Builder setId(com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey value) {
+        if (idBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          idBuilder_.setMessage(value);
+        }
+        itemCase_ = 2;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       */
+      public Builder setId(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.Builder builderForValue) {
+        if (idBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          idBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 2;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       */
+      public Builder mergeId(com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey value) {
+        if (idBuilder_ == null) {
+          if (itemCase_ == 2 &&
+              item_ != com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.newBuilder((com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 2) {
+            idBuilder_.mergeFrom(value);
+          }
+          idBuilder_.setMessage(value);
+        }
+        itemCase_ = 2;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       */
+      public Builder clearId() {
+        if (idBuilder_ == null) {
+          if (itemCase_ == 2) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 2) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          idBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.Builder getIdBuilder() {
+        return getIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.IdKeyOrBuilder getIdOrBuilder() {
+        if ((itemCase_ == 2) && (idBuilder_ != null)) {
+          return idBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 2) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get id from the entity
+       * </pre>
+       *
+       * <code>.common.IdKey id = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey, com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.IdKeyOrBuilder> 
+          getIdFieldBuilder() {
+        if (idBuilder_ == null) {
+          if (!(itemCase_ == 2)) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.getDefaultInstance();
+          }
+          idBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey, com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.IdKeyOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.OuterExpression.IdKey) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 2;
+        onChanged();;
+        return idBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey, com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKeyOrBuilder> labelBuilder_;
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       * @return Whether the label field is set.
+       */
+      @java.lang.Override
+      public boolean hasLabel() {
+        return itemCase_ == 3;
+      }
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       * @return The label.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey getLabel() {
+        if (labelBuilder_ == null) {
+          if (itemCase_ == 3) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance();
+        } else {
+          if (itemCase_ == 3) {
+            return labelBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       */
+      public Builder setLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey value) {
+        if (labelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(value);
+        }
+        itemCase_ = 3;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       */
+      public Builder setLabel(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.Builder builderForValue) {
+        if (labelBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 3;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       */
+      public Builder mergeLabel(com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey value) {
+        if (labelBuilder_ == null) {
+          if (itemCase_ == 3 &&
+              item_ != com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.newBuilder((com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 3) {
+            labelBuilder_.mergeFrom(value);
+          }
+          labelBuilder_.setMessage(value);
+        }
+        itemCase_ = 3;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       */
+      public Builder clearLabel() {
+        if (labelBuilder_ == null) {
+          if (itemCase_ == 3) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 3) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          labelBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.Builder getLabelBuilder() {
+        return getLabelFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKeyOrBuilder getLabelOrBuilder() {
+        if ((itemCase_ == 3) && (labelBuilder_ != null)) {
+          return labelBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 3) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get label from the entity
+       * </pre>
+       *
+       * <code>.common.LabelKey label = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey, com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKeyOrBuilder> 
+          getLabelFieldBuilder() {
+        if (labelBuilder_ == null) {
+          if (!(itemCase_ == 3)) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.getDefaultInstance();
+          }
+          labelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey, com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKeyOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.OuterExpression.LabelKey) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 3;
+        onChanged();;
+        return labelBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey, com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKeyOrBuilder> lenBuilder_;
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       * @return Whether the len field is set.
+       */
+      @java.lang.Override
+      public boolean hasLen() {
+        return itemCase_ == 4;
+      }
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       * @return The len.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey getLen() {
+        if (lenBuilder_ == null) {
+          if (itemCase_ == 4) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance();
+        } else {
+          if (itemCase_ == 4) {
+            return lenBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       */
+      public Builder setLen(com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey value) {
+        if (lenBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          lenBuilder_.setMessage(value);
+        }
+        itemCase_ = 4;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       */
+      public Builder setLen(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.Builder builderForValue) {
+        if (lenBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          lenBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 4;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       */
+      public Builder mergeLen(com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey value) {
+        if (lenBuilder_ == null) {
+          if (itemCase_ == 4 &&
+              item_ != com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.newBuilder((com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 4) {
+            lenBuilder_.mergeFrom(value);
+          }
+          lenBuilder_.setMessage(value);
+        }
+        itemCase_ = 4;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       */
+      public Builder clearLen() {
+        if (lenBuilder_ == null) {
+          if (itemCase_ == 4) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 4) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          lenBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.Builder getLenBuilder() {
+        return getLenFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKeyOrBuilder getLenOrBuilder() {
+        if ((itemCase_ == 4) && (lenBuilder_ != null)) {
+          return lenBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 4) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get length from the entity
+       * </pre>
+       *
+       * <code>.common.LengthKey len = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey, com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKeyOrBuilder> 
+          getLenFieldBuilder() {
+        if (lenBuilder_ == null) {
+          if (!(itemCase_ == 4)) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.getDefaultInstance();
+          }
+          lenBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey, com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKeyOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.OuterExpression.LengthKey) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 4;
+        onChanged();;
+        return lenBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey, com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.AllKeyOrBuilder> allBuilder_;
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       * @return Whether the all field is set.
+       */
+      @java.lang.Override
+      public boolean hasAll() {
+        return itemCase_ == 5;
+      }
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       * @return The all.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey getAll() {
+        if (allBuilder_ == null) {
+          if (itemCase_ == 5) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance();
+        } else {
+          if (itemCase_ == 5) {
+            return allBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       */
+      public Builder setAll(com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey value) {
+        if (allBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          allBuilder_.setMessage(value);
+        }
+        itemCase_ = 5;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       */
+      public Builder setAll(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.Builder builderForValue) {
+        if (allBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          allBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 5;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       */
+      public Builder mergeAll(com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey value) {
+        if (allBuilder_ == null) {
+          if (itemCase_ == 5 &&
+              item_ != com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.newBuilder((com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 5) {
+            allBuilder_.mergeFrom(value);
+          }
+          allBuilder_.setMessage(value);
+        }
+        itemCase_ = 5;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       */
+      public Builder clearAll() {
+        if (allBuilder_ == null) {
+          if (itemCase_ == 5) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 5) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          allBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.Builder getAllBuilder() {
+        return getAllFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.AllKeyOrBuilder getAllOrBuilder() {
+        if ((itemCase_ == 5) && (allBuilder_ != null)) {
+          return allBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 5) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get all properties
+       * </pre>
+       *
+       * <code>.common.AllKey all = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey, com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.AllKeyOrBuilder> 
+          getAllFieldBuilder() {
+        if (allBuilder_ == null) {
+          if (!(itemCase_ == 5)) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.getDefaultInstance();
+          }
+          allBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey, com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.AllKeyOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.OuterExpression.AllKey) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 5;
+        onChanged();;
+        return allBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> keyBuilder_;
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       * @return Whether the key field is set.
+       */
+      @java.lang.Override
+      public boolean hasKey() {
+        return itemCase_ == 6;
+      }
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       * @return The key.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getKey() {
+        if (keyBuilder_ == null) {
+          if (itemCase_ == 6) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance();
+        } else {
+          if (itemCase_ == 6) {
+            return keyBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       */
+      public Builder setKey(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (keyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(value);
+        }
+        itemCase_ = 6;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       */
+      public Builder setKey(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (keyBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 6;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       */
+      public Builder mergeKey(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (keyBuilder_ == null) {
+          if (itemCase_ == 6 &&
+              item_ != com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder((com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 6) {
+            keyBuilder_.mergeFrom(value);
+          }
+          keyBuilder_.setMessage(value);
+        }
+        itemCase_ = 6;
+        return this;
+      }
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       */
+      public Builder clearKey() {
+        if (keyBuilder_ == null) {
+          if (itemCase_ == 6) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 6) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          keyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getKeyBuilder() {
+        return getKeyFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getKeyOrBuilder() {
+        if ((itemCase_ == 6) && (keyBuilder_ != null)) {
+          return keyBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 6) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Get property of key from the entity
+       * </pre>
+       *
+       * <code>.common.NameOrId key = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getKeyFieldBuilder() {
+        if (keyBuilder_ == null) {
+          if (!(itemCase_ == 6)) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance();
+          }
+          keyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 6;
+        onChanged();;
+        return keyBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.Property)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.Property)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.Property DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.Property();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Property getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Property>
+        PARSER = new com.google.protobuf.AbstractParser<Property>() {
+      @java.lang.Override
+      public Property parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Property(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Property> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Property> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Property getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VariableOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.Variable)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The alias of a graph relation, which is required for a variable
+     * </pre>
+     *
+     * <code>.common.NameOrId tag = 1;</code>
+     * @return Whether the tag field is set.
+     */
+    boolean hasTag();
+    /**
+     * <pre>
+     * The alias of a graph relation, which is required for a variable
+     * </pre>
+     *
+     * <code>.common.NameOrId tag = 1;</code>
+     * @return The tag.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getTag();
+    /**
+     * <pre>
+     * The alias of a graph relation, which is required for a variable
+     * </pre>
+     *
+     * <code>.common.NameOrId tag = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getTagOrBuilder();
+
+    /**
+     * <pre>
+     * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+     * </pre>
+     *
+     * <code>.common.Property property = 2;</code>
+     * @return Whether the property field is set.
+     */
+    boolean hasProperty();
+    /**
+     * <pre>
+     * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+     * </pre>
+     *
+     * <code>.common.Property property = 2;</code>
+     * @return The property.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.Property getProperty();
+    /**
+     * <pre>
+     * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+     * </pre>
+     *
+     * <code>.common.Property property = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.PropertyOrBuilder getPropertyOrBuilder();
+  }
+  /**
+   * Protobuf type {@code common.Variable}
+   */
+  public static final class Variable extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.Variable)
+      VariableOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Variable.newBuilder() to construct.
+    private Variable(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Variable() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Variable();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Variable(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder subBuilder = null;
+              if (tag_ != null) {
+                subBuilder = tag_.toBuilder();
+              }
+              tag_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(tag_);
+                tag_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Property.Builder subBuilder = null;
+              if (property_ != null) {
+                subBuilder = property_.toBuilder();
+              }
+              property_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.Property.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(property_);
+                property_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Variable_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Variable_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.class, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder.class);
+    }
+
+    public static final int TAG_FIELD_NUMBER = 1;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId tag_;
+    /**
+     * <pre>
+     * The alias of a graph relation, which is required for a variable
+     * </pre>
+     *
+     * <code>.common.NameOrId tag = 1;</code>
+     * @return Whether the tag field is set.
+     */
+    @java.lang.Override
+    public boolean hasTag() {
+      return tag_ != null;
+    }
+    /**
+     * <pre>
+     * The alias of a graph relation, which is required for a variable
+     * </pre>
+     *
+     * <code>.common.NameOrId tag = 1;</code>
+     * @return The tag.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getTag() {
+      return tag_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : tag_;
+    }
+    /**
+     * <pre>
+     * The alias of a graph relation, which is required for a variable
+     * </pre>
+     *
+     * <code>.common.NameOrId tag = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getTagOrBuilder() {
+      return getTag();
+    }
+
+    public static final int PROPERTY_FIELD_NUMBER = 2;
+    private com.alibaba.graphscope.gaia.proto.OuterExpression.Property property_;
+    /**
+     * <pre>
+     * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+     * </pre>
+     *
+     * <code>.common.Property property = 2;</code>
+     * @return Whether the property field is set.
+     */
+    @java.lang.Override
+    public boolean hasProperty() {
+      return property_ != null;
+    }
+    /**
+     * <pre>
+     * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+     * </pre>
+     *
+     * <code>.common.Property property = 2;</code>
+     * @return The property.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Property getProperty() {
+      return property_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.Property.getDefaultInstance() : property_;
+    }
+    /**
+     * <pre>
+     * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+     * </pre>
+     *
+     * <code>.common.Property property = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.PropertyOrBuilder getPropertyOrBuilder() {
+      return getProperty();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (tag_ != null) {
+        output.writeMessage(1, getTag());
+      }
+      if (property_ != null) {
+        output.writeMessage(2, getProperty());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (tag_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getTag());
+      }
+      if (property_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getProperty());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.Variable)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.Variable other = (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) obj;
+
+      if (hasTag() != other.hasTag()) return false;
+      if (hasTag()) {
+        if (!getTag()
+            .equals(other.getTag())) return false;
+      }
+      if (hasProperty() != other.hasProperty()) return false;
+      if (hasProperty()) {
+        if (!getProperty()
+            .equals(other.getProperty())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasTag()) {
+        hash = (37 * hash) + TAG_FIELD_NUMBER;
+        hash = (53 * hash) + getTag().hashCode();
+      }
+      if (hasProperty()) {
+        hash = (37 * hash) + PROPERTY_FIELD_NUMBER;
+        hash = (53 * hash) + getProperty().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.Variable prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.Variable}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.Variable)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Variable_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Variable_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.class, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (tagBuilder_ == null) {
+          tag_ = null;
+        } else {
+          tag_ = null;
+          tagBuilder_ = null;
+        }
+        if (propertyBuilder_ == null) {
+          property_ = null;
+        } else {
+          property_ = null;
+          propertyBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Variable_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Variable result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Variable result = new com.alibaba.graphscope.gaia.proto.OuterExpression.Variable(this);
+        if (tagBuilder_ == null) {
+          result.tag_ = tag_;
+        } else {
+          result.tag_ = tagBuilder_.build();
+        }
+        if (propertyBuilder_ == null) {
+          result.property_ = property_;
+        } else {
+          result.property_ = propertyBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.Variable)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.Variable other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance()) return this;
+        if (other.hasTag()) {
+          mergeTag(other.getTag());
+        }
+        if (other.hasProperty()) {
+          mergeProperty(other.getProperty());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Variable parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId tag_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> tagBuilder_;
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       * @return Whether the tag field is set.
+       */
+      public boolean hasTag() {
+        return tagBuilder_ != null || tag_ != null;
+      }
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       * @return The tag.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId getTag() {
+        if (tagBuilder_ == null) {
+          return tag_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : tag_;
+        } else {
+          return tagBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       */
+      public Builder setTag(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (tagBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          tag_ = value;
+          onChanged();
+        } else {
+          tagBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       */
+      public Builder setTag(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder builderForValue) {
+        if (tagBuilder_ == null) {
+          tag_ = builderForValue.build();
+          onChanged();
+        } else {
+          tagBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       */
+      public Builder mergeTag(com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId value) {
+        if (tagBuilder_ == null) {
+          if (tag_ != null) {
+            tag_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.newBuilder(tag_).mergeFrom(value).buildPartial();
+          } else {
+            tag_ = value;
+          }
+          onChanged();
+        } else {
+          tagBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       */
+      public Builder clearTag() {
+        if (tagBuilder_ == null) {
+          tag_ = null;
+          onChanged();
+        } else {
+          tag_ = null;
+          tagBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder getTagBuilder() {
+        
+        onChanged();
+        return getTagFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder getTagOrBuilder() {
+        if (tagBuilder_ != null) {
+          return tagBuilder_.getMessageOrBuilder();
+        } else {
+          return tag_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.getDefaultInstance() : tag_;
+        }
+      }
+      /**
+       * <pre>
+       * The alias of a graph relation, which is required for a variable
+       * </pre>
+       *
+       * <code>.common.NameOrId tag = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder> 
+          getTagFieldBuilder() {
+        if (tagBuilder_ == null) {
+          tagBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrId.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.NameOrIdOrBuilder>(
+                  getTag(),
+                  getParentForChildren(),
+                  isClean());
+          tag_ = null;
+        }
+        return tagBuilder_;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterExpression.Property property_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Property, com.alibaba.graphscope.gaia.proto.OuterExpression.Property.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.PropertyOrBuilder> propertyBuilder_;
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       * @return Whether the property field is set.
+       */
+      public boolean hasProperty() {
+        return propertyBuilder_ != null || property_ != null;
+      }
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       * @return The property.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Property getProperty() {
+        if (propertyBuilder_ == null) {
+          return property_ == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.Property.getDefaultInstance() : property_;
+        } else {
+          return propertyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       */
+      public Builder setProperty(com.alibaba.graphscope.gaia.proto.OuterExpression.Property value) {
+        if (propertyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          property_ = value;
+          onChanged();
+        } else {
+          propertyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       */
+      public Builder setProperty(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Property.Builder builderForValue) {
+        if (propertyBuilder_ == null) {
+          property_ = builderForValue.build();
+          onChanged();
+        } else {
+          propertyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       */
+      public Builder mergeProperty(com.alibaba.graphscope.gaia.proto.OuterExpression.Property value) {
+        if (propertyBuilder_ == null) {
+          if (property_ != null) {
+            property_ =
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Property.newBuilder(property_).mergeFrom(value).buildPartial();
+          } else {
+            property_ = value;
+          }
+          onChanged();
+        } else {
+          propertyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       */
+      public Builder clearProperty() {
+        if (propertyBuilder_ == null) {
+          property_ = null;
+          onChanged();
+        } else {
+          property_ = null;
+          propertyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Property.Builder getPropertyBuilder() {
+        
+        onChanged();
+        return getPropertyFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.PropertyOrBuilder getPropertyOrBuilder() {
+        if (propertyBuilder_ != null) {
+          return propertyBuilder_.getMessageOrBuilder();
+        } else {
+          return property_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Property.getDefaultInstance() : property_;
+        }
+      }
+      /**
+       * <pre>
+       * The property of a nested attribute (vertex/edge) of a graph relation, r.a.key, optional
+       * </pre>
+       *
+       * <code>.common.Property property = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Property, com.alibaba.graphscope.gaia.proto.OuterExpression.Property.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.PropertyOrBuilder> 
+          getPropertyFieldBuilder() {
+        if (propertyBuilder_ == null) {
+          propertyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Property, com.alibaba.graphscope.gaia.proto.OuterExpression.Property.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.PropertyOrBuilder>(
+                  getProperty(),
+                  getParentForChildren(),
+                  isClean());
+          property_ = null;
+        }
+        return propertyBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.Variable)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.Variable)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.Variable DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.Variable();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Variable>
+        PARSER = new com.google.protobuf.AbstractParser<Variable>() {
+      @java.lang.Override
+      public Variable parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Variable(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Variable> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Variable> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VariableKeysOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.VariableKeys)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.Variable> 
+        getKeysList();
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getKeys(int index);
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    int getKeysCount();
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder> 
+        getKeysOrBuilderList();
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder getKeysOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code common.VariableKeys}
+   */
+  public static final class VariableKeys extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.VariableKeys)
+      VariableKeysOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use VariableKeys.newBuilder() to construct.
+    private VariableKeys(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private VariableKeys() {
+      keys_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new VariableKeys();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VariableKeys(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                keys_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterExpression.Variable>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              keys_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          keys_ = java.util.Collections.unmodifiableList(keys_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_VariableKeys_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_VariableKeys_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.class, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder.class);
+    }
+
+    public static final int KEYS_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.Variable> keys_;
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.Variable> getKeysList() {
+      return keys_;
+    }
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder> 
+        getKeysOrBuilderList() {
+      return keys_;
+    }
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    @java.lang.Override
+    public int getKeysCount() {
+      return keys_.size();
+    }
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getKeys(int index) {
+      return keys_.get(index);
+    }
+    /**
+     * <code>repeated .common.Variable keys = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder getKeysOrBuilder(
+        int index) {
+      return keys_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < keys_.size(); i++) {
+        output.writeMessage(1, keys_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < keys_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, keys_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys other = (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) obj;
+
+      if (!getKeysList()
+          .equals(other.getKeysList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getKeysCount() > 0) {
+        hash = (37 * hash) + KEYS_FIELD_NUMBER;
+        hash = (53 * hash) + getKeysList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code common.VariableKeys}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.VariableKeys)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_VariableKeys_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_VariableKeys_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.class, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getKeysFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (keysBuilder_ == null) {
+          keys_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          keysBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_VariableKeys_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys result = new com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys(this);
+        int from_bitField0_ = bitField0_;
+        if (keysBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            keys_ = java.util.Collections.unmodifiableList(keys_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.keys_ = keys_;
+        } else {
+          result.keys_ = keysBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance()) return this;
+        if (keysBuilder_ == null) {
+          if (!other.keys_.isEmpty()) {
+            if (keys_.isEmpty()) {
+              keys_ = other.keys_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureKeysIsMutable();
+              keys_.addAll(other.keys_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.keys_.isEmpty()) {
+            if (keysBuilder_.isEmpty()) {
+              keysBuilder_.dispose();
+              keysBuilder_ = null;
+              keys_ = other.keys_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              keysBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getKeysFieldBuilder() : null;
+            } else {
+              keysBuilder_.addAllMessages(other.keys_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.Variable> keys_ =
+        java.util.Collections.emptyList();
+      private void ensureKeysIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          keys_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterExpression.Variable>(keys_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Variable, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder> keysBuilder_;
+
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.Variable> getKeysList() {
+        if (keysBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(keys_);
+        } else {
+          return keysBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public int getKeysCount() {
+        if (keysBuilder_ == null) {
+          return keys_.size();
+        } else {
+          return keysBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getKeys(int index) {
+        if (keysBuilder_ == null) {
+          return keys_.get(index);
+        } else {
+          return keysBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder setKeys(
+          int index, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable value) {
+        if (keysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureKeysIsMutable();
+          keys_.set(index, value);
+          onChanged();
+        } else {
+          keysBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder setKeys(
+          int index, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder builderForValue) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          keys_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          keysBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder addKeys(com.alibaba.graphscope.gaia.proto.OuterExpression.Variable value) {
+        if (keysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureKeysIsMutable();
+          keys_.add(value);
+          onChanged();
+        } else {
+          keysBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder addKeys(
+          int index, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable value) {
+        if (keysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureKeysIsMutable();
+          keys_.add(index, value);
+          onChanged();
+        } else {
+          keysBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder addKeys(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder builderForValue) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          keys_.add(builderForValue.build());
+          onChanged();
+        } else {
+          keysBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder addKeys(
+          int index, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder builderForValue) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          keys_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          keysBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder addAllKeys(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.OuterExpression.Variable> values) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, keys_);
+          onChanged();
+        } else {
+          keysBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder clearKeys() {
+        if (keysBuilder_ == null) {
+          keys_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          keysBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public Builder removeKeys(int index) {
+        if (keysBuilder_ == null) {
+          ensureKeysIsMutable();
+          keys_.remove(index);
+          onChanged();
+        } else {
+          keysBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder getKeysBuilder(
+          int index) {
+        return getKeysFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder getKeysOrBuilder(
+          int index) {
+        if (keysBuilder_ == null) {
+          return keys_.get(index);  } else {
+          return keysBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder> 
+           getKeysOrBuilderList() {
+        if (keysBuilder_ != null) {
+          return keysBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(keys_);
+        }
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder addKeysBuilder() {
+        return getKeysFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder addKeysBuilder(
+          int index) {
+        return getKeysFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .common.Variable keys = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder> 
+           getKeysBuilderList() {
+        return getKeysFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Variable, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder> 
+          getKeysFieldBuilder() {
+        if (keysBuilder_ == null) {
+          keysBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Variable, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder>(
+                  keys_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          keys_ = null;
+        }
+        return keysBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.VariableKeys)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.VariableKeys)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VariableKeys>
+        PARSER = new com.google.protobuf.AbstractParser<VariableKeys>() {
+      @java.lang.Override
+      public VariableKeys parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VariableKeys(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<VariableKeys> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VariableKeys> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ExprOprOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.ExprOpr)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.common.Logical logical = 2;</code>
+     * @return Whether the logical field is set.
+     */
+    boolean hasLogical();
+    /**
+     * <code>.common.Logical logical = 2;</code>
+     * @return The enum numeric value on the wire for logical.
+     */
+    int getLogicalValue();
+    /**
+     * <code>.common.Logical logical = 2;</code>
+     * @return The logical.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.Logical getLogical();
+
+    /**
+     * <code>.common.Arithmetic arith = 3;</code>
+     * @return Whether the arith field is set.
+     */
+    boolean hasArith();
+    /**
+     * <code>.common.Arithmetic arith = 3;</code>
+     * @return The enum numeric value on the wire for arith.
+     */
+    int getArithValue();
+    /**
+     * <code>.common.Arithmetic arith = 3;</code>
+     * @return The arith.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic getArith();
+
+    /**
+     * <code>.common.Value const = 4;</code>
+     * @return Whether the const field is set.
+     */
+    boolean hasConst();
+    /**
+     * <code>.common.Value const = 4;</code>
+     * @return The const.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.Value getConst();
+    /**
+     * <code>.common.Value const = 4;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getConstOrBuilder();
+
+    /**
+     * <code>.common.Variable var = 5;</code>
+     * @return Whether the var field is set.
+     */
+    boolean hasVar();
+    /**
+     * <code>.common.Variable var = 5;</code>
+     * @return The var.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getVar();
+    /**
+     * <code>.common.Variable var = 5;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder getVarOrBuilder();
+
+    /**
+     * <code>.common.ExprOpr.Brace brace = 6;</code>
+     * @return Whether the brace field is set.
+     */
+    boolean hasBrace();
+    /**
+     * <code>.common.ExprOpr.Brace brace = 6;</code>
+     * @return The enum numeric value on the wire for brace.
+     */
+    int getBraceValue();
+    /**
+     * <code>.common.ExprOpr.Brace brace = 6;</code>
+     * @return The brace.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace getBrace();
+
+    /**
+     * <code>.common.VariableKeys vars = 7;</code>
+     * @return Whether the vars field is set.
+     */
+    boolean hasVars();
+    /**
+     * <code>.common.VariableKeys vars = 7;</code>
+     * @return The vars.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getVars();
+    /**
+     * <code>.common.VariableKeys vars = 7;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder getVarsOrBuilder();
+
+    /**
+     * <code>.common.VariableKeys var_map = 8;</code>
+     * @return Whether the varMap field is set.
+     */
+    boolean hasVarMap();
+    /**
+     * <code>.common.VariableKeys var_map = 8;</code>
+     * @return The varMap.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getVarMap();
+    /**
+     * <code>.common.VariableKeys var_map = 8;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder getVarMapOrBuilder();
+
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.ItemCase getItemCase();
+  }
+  /**
+   * <pre>
+   * An operator of expression is one of Logical, Arithmetic, Const and Variable.
+   * </pre>
+   *
+   * Protobuf type {@code common.ExprOpr}
+   */
+  public static final class ExprOpr extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.ExprOpr)
+      ExprOprOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ExprOpr.newBuilder() to construct.
+    private ExprOpr(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ExprOpr() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ExprOpr();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ExprOpr(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 16: {
+              int rawValue = input.readEnum();
+              itemCase_ = 2;
+              item_ = rawValue;
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              itemCase_ = 3;
+              item_ = rawValue;
+              break;
+            }
+            case 34: {
+              com.alibaba.graphscope.gaia.proto.Common.Value.Builder subBuilder = null;
+              if (itemCase_ == 4) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.Common.Value) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.Common.Value.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.Common.Value) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 4;
+              break;
+            }
+            case 42: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder subBuilder = null;
+              if (itemCase_ == 5) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 5;
+              break;
+            }
+            case 48: {
+              int rawValue = input.readEnum();
+              itemCase_ = 6;
+              item_ = rawValue;
+              break;
+            }
+            case 58: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder subBuilder = null;
+              if (itemCase_ == 7) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 7;
+              break;
+            }
+            case 66: {
+              com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder subBuilder = null;
+              if (itemCase_ == 8) {
+                subBuilder = ((com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_).toBuilder();
+              }
+              item_ =
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_);
+                item_ = subBuilder.buildPartial();
+              }
+              itemCase_ = 8;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_ExprOpr_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_ExprOpr_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.class, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code common.ExprOpr.Brace}
+     */
+    public enum Brace
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <pre>
+       * (
+       * </pre>
+       *
+       * <code>LEFT_BRACE = 0;</code>
+       */
+      LEFT_BRACE(0),
+      /**
+       * <pre>
+       * )
+       * </pre>
+       *
+       * <code>RIGHT_BRACE = 1;</code>
+       */
+      RIGHT_BRACE(1),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <pre>
+       * (
+       * </pre>
+       *
+       * <code>LEFT_BRACE = 0;</code>
+       */
+      public static final int LEFT_BRACE_VALUE = 0;
+      /**
+       * <pre>
+       * )
+       * </pre>
+       *
+       * <code>RIGHT_BRACE = 1;</code>
+       */
+      public static final int RIGHT_BRACE_VALUE = 1;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Brace valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static Brace forNumber(int value) {
+        switch (value) {
+          case 0: return LEFT_BRACE;
+          case 1: return RIGHT_BRACE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Brace>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Brace> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Brace>() {
+              public Brace findValueByNumber(int number) {
+                return Brace.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalStateException(
+              "Can't get the descriptor of an unrecognized enum value.");
+        }
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Brace[] VALUES = values();
+
+      public static Brace valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Brace(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:common.ExprOpr.Brace)
+    }
+
+    private int itemCase_ = 0;
+    private java.lang.Object item_;
+    public enum ItemCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      LOGICAL(2),
+      ARITH(3),
+      CONST(4),
+      VAR(5),
+      BRACE(6),
+      VARS(7),
+      VAR_MAP(8),
+      ITEM_NOT_SET(0);
+      private final int value;
+      private ItemCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ItemCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ItemCase forNumber(int value) {
+        switch (value) {
+          case 2: return LOGICAL;
+          case 3: return ARITH;
+          case 4: return CONST;
+          case 5: return VAR;
+          case 6: return BRACE;
+          case 7: return VARS;
+          case 8: return VAR_MAP;
+          case 0: return ITEM_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ItemCase
+    getItemCase() {
+      return ItemCase.forNumber(
+          itemCase_);
+    }
+
+    public static final int LOGICAL_FIELD_NUMBER = 2;
+    /**
+     * <code>.common.Logical logical = 2;</code>
+     * @return Whether the logical field is set.
+     */
+    public boolean hasLogical() {
+      return itemCase_ == 2;
+    }
+    /**
+     * <code>.common.Logical logical = 2;</code>
+     * @return The enum numeric value on the wire for logical.
+     */
+    public int getLogicalValue() {
+      if (itemCase_ == 2) {
+        return (java.lang.Integer) item_;
+      }
+      return 0;
+    }
+    /**
+     * <code>.common.Logical logical = 2;</code>
+     * @return The logical.
+     */
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Logical getLogical() {
+      if (itemCase_ == 2) {
+        @SuppressWarnings("deprecation")
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Logical result = com.alibaba.graphscope.gaia.proto.OuterExpression.Logical.valueOf(
+            (java.lang.Integer) item_);
+        return result == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.Logical.UNRECOGNIZED : result;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.Logical.EQ;
+    }
+
+    public static final int ARITH_FIELD_NUMBER = 3;
+    /**
+     * <code>.common.Arithmetic arith = 3;</code>
+     * @return Whether the arith field is set.
+     */
+    public boolean hasArith() {
+      return itemCase_ == 3;
+    }
+    /**
+     * <code>.common.Arithmetic arith = 3;</code>
+     * @return The enum numeric value on the wire for arith.
+     */
+    public int getArithValue() {
+      if (itemCase_ == 3) {
+        return (java.lang.Integer) item_;
+      }
+      return 0;
+    }
+    /**
+     * <code>.common.Arithmetic arith = 3;</code>
+     * @return The arith.
+     */
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic getArith() {
+      if (itemCase_ == 3) {
+        @SuppressWarnings("deprecation")
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic result = com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic.valueOf(
+            (java.lang.Integer) item_);
+        return result == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic.UNRECOGNIZED : result;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic.ADD;
+    }
+
+    public static final int CONST_FIELD_NUMBER = 4;
+    /**
+     * <code>.common.Value const = 4;</code>
+     * @return Whether the const field is set.
+     */
+    @java.lang.Override
+    public boolean hasConst() {
+      return itemCase_ == 4;
+    }
+    /**
+     * <code>.common.Value const = 4;</code>
+     * @return The const.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.Value getConst() {
+      if (itemCase_ == 4) {
+         return (com.alibaba.graphscope.gaia.proto.Common.Value) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+    }
+    /**
+     * <code>.common.Value const = 4;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getConstOrBuilder() {
+      if (itemCase_ == 4) {
+         return (com.alibaba.graphscope.gaia.proto.Common.Value) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+    }
+
+    public static final int VAR_FIELD_NUMBER = 5;
+    /**
+     * <code>.common.Variable var = 5;</code>
+     * @return Whether the var field is set.
+     */
+    @java.lang.Override
+    public boolean hasVar() {
+      return itemCase_ == 5;
+    }
+    /**
+     * <code>.common.Variable var = 5;</code>
+     * @return The var.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getVar() {
+      if (itemCase_ == 5) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance();
+    }
+    /**
+     * <code>.common.Variable var = 5;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder getVarOrBuilder() {
+      if (itemCase_ == 5) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance();
+    }
+
+    public static final int BRACE_FIELD_NUMBER = 6;
+    /**
+     * <code>.common.ExprOpr.Brace brace = 6;</code>
+     * @return Whether the brace field is set.
+     */
+    public boolean hasBrace() {
+      return itemCase_ == 6;
+    }
+    /**
+     * <code>.common.ExprOpr.Brace brace = 6;</code>
+     * @return The enum numeric value on the wire for brace.
+     */
+    public int getBraceValue() {
+      if (itemCase_ == 6) {
+        return (java.lang.Integer) item_;
+      }
+      return 0;
+    }
+    /**
+     * <code>.common.ExprOpr.Brace brace = 6;</code>
+     * @return The brace.
+     */
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace getBrace() {
+      if (itemCase_ == 6) {
+        @SuppressWarnings("deprecation")
+        com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace result = com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace.valueOf(
+            (java.lang.Integer) item_);
+        return result == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace.UNRECOGNIZED : result;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace.LEFT_BRACE;
+    }
+
+    public static final int VARS_FIELD_NUMBER = 7;
+    /**
+     * <code>.common.VariableKeys vars = 7;</code>
+     * @return Whether the vars field is set.
+     */
+    @java.lang.Override
+    public boolean hasVars() {
+      return itemCase_ == 7;
+    }
+    /**
+     * <code>.common.VariableKeys vars = 7;</code>
+     * @return The vars.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getVars() {
+      if (itemCase_ == 7) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+    }
+    /**
+     * <code>.common.VariableKeys vars = 7;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder getVarsOrBuilder() {
+      if (itemCase_ == 7) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+    }
+
+    public static final int VAR_MAP_FIELD_NUMBER = 8;
+    /**
+     * <code>.common.VariableKeys var_map = 8;</code>
+     * @return Whether the varMap field is set.
+     */
+    @java.lang.Override
+    public boolean hasVarMap() {
+      return itemCase_ == 8;
+    }
+    /**
+     * <code>.common.VariableKeys var_map = 8;</code>
+     * @return The varMap.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getVarMap() {
+      if (itemCase_ == 8) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+    }
+    /**
+     * <code>.common.VariableKeys var_map = 8;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder getVarMapOrBuilder() {
+      if (itemCase_ == 8) {
+         return (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_;
+      }
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (itemCase_ == 2) {
+        output.writeEnum(2, ((java.lang.Integer) item_));
+      }
+      if (itemCase_ == 3) {
+        output.writeEnum(3, ((java.lang.Integer) item_));
+      }
+      if (itemCase_ == 4) {
+        output.writeMessage(4, (com.alibaba.graphscope.gaia.proto.Common.Value) item_);
+      }
+      if (itemCase_ == 5) {
+        output.writeMessage(5, (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_);
+      }
+      if (itemCase_ == 6) {
+        output.writeEnum(6, ((java.lang.Integer) item_));
+      }
+      if (itemCase_ == 7) {
+        output.writeMessage(7, (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_);
+      }
+      if (itemCase_ == 8) {
+        output.writeMessage(8, (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (itemCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, ((java.lang.Integer) item_));
+      }
+      if (itemCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, ((java.lang.Integer) item_));
+      }
+      if (itemCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (com.alibaba.graphscope.gaia.proto.Common.Value) item_);
+      }
+      if (itemCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_);
+      }
+      if (itemCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(6, ((java.lang.Integer) item_));
+      }
+      if (itemCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_);
+      }
+      if (itemCase_ == 8) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr other = (com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr) obj;
+
+      if (!getItemCase().equals(other.getItemCase())) return false;
+      switch (itemCase_) {
+        case 2:
+          if (getLogicalValue()
+              != other.getLogicalValue()) return false;
+          break;
+        case 3:
+          if (getArithValue()
+              != other.getArithValue()) return false;
+          break;
+        case 4:
+          if (!getConst()
+              .equals(other.getConst())) return false;
+          break;
+        case 5:
+          if (!getVar()
+              .equals(other.getVar())) return false;
+          break;
+        case 6:
+          if (getBraceValue()
+              != other.getBraceValue()) return false;
+          break;
+        case 7:
+          if (!getVars()
+              .equals(other.getVars())) return false;
+          break;
+        case 8:
+          if (!getVarMap()
+              .equals(other.getVarMap())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (itemCase_) {
+        case 2:
+          hash = (37 * hash) + LOGICAL_FIELD_NUMBER;
+          hash = (53 * hash) + getLogicalValue();
+          break;
+        case 3:
+          hash = (37 * hash) + ARITH_FIELD_NUMBER;
+          hash = (53 * hash) + getArithValue();
+          break;
+        case 4:
+          hash = (37 * hash) + CONST_FIELD_NUMBER;
+          hash = (53 * hash) + getConst().hashCode();
+          break;
+        case 5:
+          hash = (37 * hash) + VAR_FIELD_NUMBER;
+          hash = (53 * hash) + getVar().hashCode();
+          break;
+        case 6:
+          hash = (37 * hash) + BRACE_FIELD_NUMBER;
+          hash = (53 * hash) + getBraceValue();
+          break;
+        case 7:
+          hash = (37 * hash) + VARS_FIELD_NUMBER;
+          hash = (53 * hash) + getVars().hashCode();
+          break;
+        case 8:
+          hash = (37 * hash) + VAR_MAP_FIELD_NUMBER;
+          hash = (53 * hash) + getVarMap().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * An operator of expression is one of Logical, Arithmetic, Const and Variable.
+     * </pre>
+     *
+     * Protobuf type {@code common.ExprOpr}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.ExprOpr)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_ExprOpr_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_ExprOpr_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.class, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        itemCase_ = 0;
+        item_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_ExprOpr_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr result = new com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr(this);
+        if (itemCase_ == 2) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 3) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 4) {
+          if (constBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = constBuilder_.build();
+          }
+        }
+        if (itemCase_ == 5) {
+          if (varBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = varBuilder_.build();
+          }
+        }
+        if (itemCase_ == 6) {
+          result.item_ = item_;
+        }
+        if (itemCase_ == 7) {
+          if (varsBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = varsBuilder_.build();
+          }
+        }
+        if (itemCase_ == 8) {
+          if (varMapBuilder_ == null) {
+            result.item_ = item_;
+          } else {
+            result.item_ = varMapBuilder_.build();
+          }
+        }
+        result.itemCase_ = itemCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.getDefaultInstance()) return this;
+        switch (other.getItemCase()) {
+          case LOGICAL: {
+            setLogicalValue(other.getLogicalValue());
+            break;
+          }
+          case ARITH: {
+            setArithValue(other.getArithValue());
+            break;
+          }
+          case CONST: {
+            mergeConst(other.getConst());
+            break;
+          }
+          case VAR: {
+            mergeVar(other.getVar());
+            break;
+          }
+          case BRACE: {
+            setBraceValue(other.getBraceValue());
+            break;
+          }
+          case VARS: {
+            mergeVars(other.getVars());
+            break;
+          }
+          case VAR_MAP: {
+            mergeVarMap(other.getVarMap());
+            break;
+          }
+          case ITEM_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int itemCase_ = 0;
+      private java.lang.Object item_;
+      public ItemCase
+          getItemCase() {
+        return ItemCase.forNumber(
+            itemCase_);
+      }
+
+      public Builder clearItem() {
+        itemCase_ = 0;
+        item_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      /**
+       * <code>.common.Logical logical = 2;</code>
+       * @return Whether the logical field is set.
+       */
+      @java.lang.Override
+      public boolean hasLogical() {
+        return itemCase_ == 2;
+      }
+      /**
+       * <code>.common.Logical logical = 2;</code>
+       * @return The enum numeric value on the wire for logical.
+       */
+      @java.lang.Override
+      public int getLogicalValue() {
+        if (itemCase_ == 2) {
+          return ((java.lang.Integer) item_).intValue();
+        }
+        return 0;
+      }
+      /**
+       * <code>.common.Logical logical = 2;</code>
+       * @param value The enum numeric value on the wire for logical to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLogicalValue(int value) {
+        itemCase_ = 2;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.common.Logical logical = 2;</code>
+       * @return The logical.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Logical getLogical() {
+        if (itemCase_ == 2) {
+          @SuppressWarnings("deprecation")
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Logical result = com.alibaba.graphscope.gaia.proto.OuterExpression.Logical.valueOf(
+              (java.lang.Integer) item_);
+          return result == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.Logical.UNRECOGNIZED : result;
+        }
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.Logical.EQ;
+      }
+      /**
+       * <code>.common.Logical logical = 2;</code>
+       * @param value The logical to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLogical(com.alibaba.graphscope.gaia.proto.OuterExpression.Logical value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        itemCase_ = 2;
+        item_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.common.Logical logical = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLogical() {
+        if (itemCase_ == 2) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>.common.Arithmetic arith = 3;</code>
+       * @return Whether the arith field is set.
+       */
+      @java.lang.Override
+      public boolean hasArith() {
+        return itemCase_ == 3;
+      }
+      /**
+       * <code>.common.Arithmetic arith = 3;</code>
+       * @return The enum numeric value on the wire for arith.
+       */
+      @java.lang.Override
+      public int getArithValue() {
+        if (itemCase_ == 3) {
+          return ((java.lang.Integer) item_).intValue();
+        }
+        return 0;
+      }
+      /**
+       * <code>.common.Arithmetic arith = 3;</code>
+       * @param value The enum numeric value on the wire for arith to set.
+       * @return This builder for chaining.
+       */
+      public Builder setArithValue(int value) {
+        itemCase_ = 3;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.common.Arithmetic arith = 3;</code>
+       * @return The arith.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic getArith() {
+        if (itemCase_ == 3) {
+          @SuppressWarnings("deprecation")
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic result = com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic.valueOf(
+              (java.lang.Integer) item_);
+          return result == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic.UNRECOGNIZED : result;
+        }
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic.ADD;
+      }
+      /**
+       * <code>.common.Arithmetic arith = 3;</code>
+       * @param value The arith to set.
+       * @return This builder for chaining.
+       */
+      public Builder setArith(com.alibaba.graphscope.gaia.proto.OuterExpression.Arithmetic value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        itemCase_ = 3;
+        item_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.common.Arithmetic arith = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearArith() {
+        if (itemCase_ == 3) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> constBuilder_;
+      /**
+       * <code>.common.Value const = 4;</code>
+       * @return Whether the const field is set.
+       */
+      @java.lang.Override
+      public boolean hasConst() {
+        return itemCase_ == 4;
+      }
+      /**
+       * <code>.common.Value const = 4;</code>
+       * @return The const.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.Value getConst() {
+        if (constBuilder_ == null) {
+          if (itemCase_ == 4) {
+            return (com.alibaba.graphscope.gaia.proto.Common.Value) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+        } else {
+          if (itemCase_ == 4) {
+            return constBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.Value const = 4;</code>
+       */
+      public Builder setConst(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (constBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          constBuilder_.setMessage(value);
+        }
+        itemCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.common.Value const = 4;</code>
+       */
+      public Builder setConst(
+          com.alibaba.graphscope.gaia.proto.Common.Value.Builder builderForValue) {
+        if (constBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          constBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.common.Value const = 4;</code>
+       */
+      public Builder mergeConst(com.alibaba.graphscope.gaia.proto.Common.Value value) {
+        if (constBuilder_ == null) {
+          if (itemCase_ == 4 &&
+              item_ != com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.Value.newBuilder((com.alibaba.graphscope.gaia.proto.Common.Value) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 4) {
+            constBuilder_.mergeFrom(value);
+          }
+          constBuilder_.setMessage(value);
+        }
+        itemCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.common.Value const = 4;</code>
+       */
+      public Builder clearConst() {
+        if (constBuilder_ == null) {
+          if (itemCase_ == 4) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 4) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          constBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.Value const = 4;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.Common.Value.Builder getConstBuilder() {
+        return getConstFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.Value const = 4;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder getConstOrBuilder() {
+        if ((itemCase_ == 4) && (constBuilder_ != null)) {
+          return constBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 4) {
+            return (com.alibaba.graphscope.gaia.proto.Common.Value) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.Value const = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder> 
+          getConstFieldBuilder() {
+        if (constBuilder_ == null) {
+          if (!(itemCase_ == 4)) {
+            item_ = com.alibaba.graphscope.gaia.proto.Common.Value.getDefaultInstance();
+          }
+          constBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.Common.Value, com.alibaba.graphscope.gaia.proto.Common.Value.Builder, com.alibaba.graphscope.gaia.proto.Common.ValueOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.Common.Value) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 4;
+        onChanged();;
+        return constBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Variable, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder> varBuilder_;
+      /**
+       * <code>.common.Variable var = 5;</code>
+       * @return Whether the var field is set.
+       */
+      @java.lang.Override
+      public boolean hasVar() {
+        return itemCase_ == 5;
+      }
+      /**
+       * <code>.common.Variable var = 5;</code>
+       * @return The var.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable getVar() {
+        if (varBuilder_ == null) {
+          if (itemCase_ == 5) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance();
+        } else {
+          if (itemCase_ == 5) {
+            return varBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.Variable var = 5;</code>
+       */
+      public Builder setVar(com.alibaba.graphscope.gaia.proto.OuterExpression.Variable value) {
+        if (varBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          varBuilder_.setMessage(value);
+        }
+        itemCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.common.Variable var = 5;</code>
+       */
+      public Builder setVar(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder builderForValue) {
+        if (varBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          varBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.common.Variable var = 5;</code>
+       */
+      public Builder mergeVar(com.alibaba.graphscope.gaia.proto.OuterExpression.Variable value) {
+        if (varBuilder_ == null) {
+          if (itemCase_ == 5 &&
+              item_ != com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.newBuilder((com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 5) {
+            varBuilder_.mergeFrom(value);
+          }
+          varBuilder_.setMessage(value);
+        }
+        itemCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.common.Variable var = 5;</code>
+       */
+      public Builder clearVar() {
+        if (varBuilder_ == null) {
+          if (itemCase_ == 5) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 5) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          varBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.Variable var = 5;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder getVarBuilder() {
+        return getVarFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.Variable var = 5;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder getVarOrBuilder() {
+        if ((itemCase_ == 5) && (varBuilder_ != null)) {
+          return varBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 5) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.Variable var = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.Variable, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder> 
+          getVarFieldBuilder() {
+        if (varBuilder_ == null) {
+          if (!(itemCase_ == 5)) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.getDefaultInstance();
+          }
+          varBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Variable, com.alibaba.graphscope.gaia.proto.OuterExpression.Variable.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.OuterExpression.Variable) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 5;
+        onChanged();;
+        return varBuilder_;
+      }
+
+      /**
+       * <code>.common.ExprOpr.Brace brace = 6;</code>
+       * @return Whether the brace field is set.
+       */
+      @java.lang.Override
+      public boolean hasBrace() {
+        return itemCase_ == 6;
+      }
+      /**
+       * <code>.common.ExprOpr.Brace brace = 6;</code>
+       * @return The enum numeric value on the wire for brace.
+       */
+      @java.lang.Override
+      public int getBraceValue() {
+        if (itemCase_ == 6) {
+          return ((java.lang.Integer) item_).intValue();
+        }
+        return 0;
+      }
+      /**
+       * <code>.common.ExprOpr.Brace brace = 6;</code>
+       * @param value The enum numeric value on the wire for brace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBraceValue(int value) {
+        itemCase_ = 6;
+        item_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.common.ExprOpr.Brace brace = 6;</code>
+       * @return The brace.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace getBrace() {
+        if (itemCase_ == 6) {
+          @SuppressWarnings("deprecation")
+          com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace result = com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace.valueOf(
+              (java.lang.Integer) item_);
+          return result == null ? com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace.UNRECOGNIZED : result;
+        }
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace.LEFT_BRACE;
+      }
+      /**
+       * <code>.common.ExprOpr.Brace brace = 6;</code>
+       * @param value The brace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBrace(com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Brace value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        itemCase_ = 6;
+        item_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.common.ExprOpr.Brace brace = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBrace() {
+        if (itemCase_ == 6) {
+          itemCase_ = 0;
+          item_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder> varsBuilder_;
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       * @return Whether the vars field is set.
+       */
+      @java.lang.Override
+      public boolean hasVars() {
+        return itemCase_ == 7;
+      }
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       * @return The vars.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getVars() {
+        if (varsBuilder_ == null) {
+          if (itemCase_ == 7) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+        } else {
+          if (itemCase_ == 7) {
+            return varsBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       */
+      public Builder setVars(com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys value) {
+        if (varsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          varsBuilder_.setMessage(value);
+        }
+        itemCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       */
+      public Builder setVars(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder builderForValue) {
+        if (varsBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          varsBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       */
+      public Builder mergeVars(com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys value) {
+        if (varsBuilder_ == null) {
+          if (itemCase_ == 7 &&
+              item_ != com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.newBuilder((com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 7) {
+            varsBuilder_.mergeFrom(value);
+          }
+          varsBuilder_.setMessage(value);
+        }
+        itemCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       */
+      public Builder clearVars() {
+        if (varsBuilder_ == null) {
+          if (itemCase_ == 7) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 7) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          varsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder getVarsBuilder() {
+        return getVarsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder getVarsOrBuilder() {
+        if ((itemCase_ == 7) && (varsBuilder_ != null)) {
+          return varsBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 7) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.VariableKeys vars = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder> 
+          getVarsFieldBuilder() {
+        if (varsBuilder_ == null) {
+          if (!(itemCase_ == 7)) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+          }
+          varsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 7;
+        onChanged();;
+        return varsBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder> varMapBuilder_;
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       * @return Whether the varMap field is set.
+       */
+      @java.lang.Override
+      public boolean hasVarMap() {
+        return itemCase_ == 8;
+      }
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       * @return The varMap.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys getVarMap() {
+        if (varMapBuilder_ == null) {
+          if (itemCase_ == 8) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+        } else {
+          if (itemCase_ == 8) {
+            return varMapBuilder_.getMessage();
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       */
+      public Builder setVarMap(com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys value) {
+        if (varMapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          item_ = value;
+          onChanged();
+        } else {
+          varMapBuilder_.setMessage(value);
+        }
+        itemCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       */
+      public Builder setVarMap(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder builderForValue) {
+        if (varMapBuilder_ == null) {
+          item_ = builderForValue.build();
+          onChanged();
+        } else {
+          varMapBuilder_.setMessage(builderForValue.build());
+        }
+        itemCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       */
+      public Builder mergeVarMap(com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys value) {
+        if (varMapBuilder_ == null) {
+          if (itemCase_ == 8 &&
+              item_ != com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance()) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.newBuilder((com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            item_ = value;
+          }
+          onChanged();
+        } else {
+          if (itemCase_ == 8) {
+            varMapBuilder_.mergeFrom(value);
+          }
+          varMapBuilder_.setMessage(value);
+        }
+        itemCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       */
+      public Builder clearVarMap() {
+        if (varMapBuilder_ == null) {
+          if (itemCase_ == 8) {
+            itemCase_ = 0;
+            item_ = null;
+            onChanged();
+          }
+        } else {
+          if (itemCase_ == 8) {
+            itemCase_ = 0;
+            item_ = null;
+          }
+          varMapBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder getVarMapBuilder() {
+        return getVarMapFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder getVarMapOrBuilder() {
+        if ((itemCase_ == 8) && (varMapBuilder_ != null)) {
+          return varMapBuilder_.getMessageOrBuilder();
+        } else {
+          if (itemCase_ == 8) {
+            return (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_;
+          }
+          return com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.common.VariableKeys var_map = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder> 
+          getVarMapFieldBuilder() {
+        if (varMapBuilder_ == null) {
+          if (!(itemCase_ == 8)) {
+            item_ = com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.getDefaultInstance();
+          }
+          varMapBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeysOrBuilder>(
+                  (com.alibaba.graphscope.gaia.proto.OuterExpression.VariableKeys) item_,
+                  getParentForChildren(),
+                  isClean());
+          item_ = null;
+        }
+        itemCase_ = 8;
+        onChanged();;
+        return varMapBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.ExprOpr)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.ExprOpr)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ExprOpr>
+        PARSER = new com.google.protobuf.AbstractParser<ExprOpr>() {
+      @java.lang.Override
+      public ExprOpr parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ExprOpr(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ExprOpr> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ExprOpr> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ExpressionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:common.Expression)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr> 
+        getOperatorsList();
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr getOperators(int index);
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    int getOperatorsCount();
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder> 
+        getOperatorsOrBuilderList();
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder getOperatorsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * An inner representation of an expression
+   * </pre>
+   *
+   * Protobuf type {@code common.Expression}
+   */
+  public static final class Expression extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:common.Expression)
+      ExpressionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Expression.newBuilder() to construct.
+    private Expression(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Expression() {
+      operators_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Expression();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Expression(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                operators_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              operators_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          operators_ = java.util.Collections.unmodifiableList(operators_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Expression_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Expression_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterExpression.Expression.class, com.alibaba.graphscope.gaia.proto.OuterExpression.Expression.Builder.class);
+    }
+
+    public static final int OPERATORS_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr> operators_;
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr> getOperatorsList() {
+      return operators_;
+    }
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder> 
+        getOperatorsOrBuilderList() {
+      return operators_;
+    }
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    @java.lang.Override
+    public int getOperatorsCount() {
+      return operators_.size();
+    }
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr getOperators(int index) {
+      return operators_.get(index);
+    }
+    /**
+     * <code>repeated .common.ExprOpr operators = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder getOperatorsOrBuilder(
+        int index) {
+      return operators_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < operators_.size(); i++) {
+        output.writeMessage(1, operators_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < operators_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, operators_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.Expression)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterExpression.Expression other = (com.alibaba.graphscope.gaia.proto.OuterExpression.Expression) obj;
+
+      if (!getOperatorsList()
+          .equals(other.getOperatorsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getOperatorsCount() > 0) {
+        hash = (37 * hash) + OPERATORS_FIELD_NUMBER;
+        hash = (53 * hash) + getOperatorsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterExpression.Expression prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * An inner representation of an expression
+     * </pre>
+     *
+     * Protobuf type {@code common.Expression}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:common.Expression)
+        com.alibaba.graphscope.gaia.proto.OuterExpression.ExpressionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Expression_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Expression_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterExpression.Expression.class, com.alibaba.graphscope.gaia.proto.OuterExpression.Expression.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterExpression.Expression.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getOperatorsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (operatorsBuilder_ == null) {
+          operators_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          operatorsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.internal_static_common_Expression_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Expression getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterExpression.Expression.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Expression build() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Expression result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.Expression buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Expression result = new com.alibaba.graphscope.gaia.proto.OuterExpression.Expression(this);
+        int from_bitField0_ = bitField0_;
+        if (operatorsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            operators_ = java.util.Collections.unmodifiableList(operators_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.operators_ = operators_;
+        } else {
+          result.operators_ = operatorsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterExpression.Expression) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterExpression.Expression)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterExpression.Expression other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterExpression.Expression.getDefaultInstance()) return this;
+        if (operatorsBuilder_ == null) {
+          if (!other.operators_.isEmpty()) {
+            if (operators_.isEmpty()) {
+              operators_ = other.operators_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureOperatorsIsMutable();
+              operators_.addAll(other.operators_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.operators_.isEmpty()) {
+            if (operatorsBuilder_.isEmpty()) {
+              operatorsBuilder_.dispose();
+              operatorsBuilder_ = null;
+              operators_ = other.operators_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              operatorsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getOperatorsFieldBuilder() : null;
+            } else {
+              operatorsBuilder_.addAllMessages(other.operators_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterExpression.Expression parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterExpression.Expression) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr> operators_ =
+        java.util.Collections.emptyList();
+      private void ensureOperatorsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          operators_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr>(operators_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder> operatorsBuilder_;
+
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr> getOperatorsList() {
+        if (operatorsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(operators_);
+        } else {
+          return operatorsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public int getOperatorsCount() {
+        if (operatorsBuilder_ == null) {
+          return operators_.size();
+        } else {
+          return operatorsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr getOperators(int index) {
+        if (operatorsBuilder_ == null) {
+          return operators_.get(index);
+        } else {
+          return operatorsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder setOperators(
+          int index, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr value) {
+        if (operatorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOperatorsIsMutable();
+          operators_.set(index, value);
+          onChanged();
+        } else {
+          operatorsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder setOperators(
+          int index, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder builderForValue) {
+        if (operatorsBuilder_ == null) {
+          ensureOperatorsIsMutable();
+          operators_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          operatorsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder addOperators(com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr value) {
+        if (operatorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOperatorsIsMutable();
+          operators_.add(value);
+          onChanged();
+        } else {
+          operatorsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder addOperators(
+          int index, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr value) {
+        if (operatorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOperatorsIsMutable();
+          operators_.add(index, value);
+          onChanged();
+        } else {
+          operatorsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder addOperators(
+          com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder builderForValue) {
+        if (operatorsBuilder_ == null) {
+          ensureOperatorsIsMutable();
+          operators_.add(builderForValue.build());
+          onChanged();
+        } else {
+          operatorsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder addOperators(
+          int index, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder builderForValue) {
+        if (operatorsBuilder_ == null) {
+          ensureOperatorsIsMutable();
+          operators_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          operatorsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder addAllOperators(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr> values) {
+        if (operatorsBuilder_ == null) {
+          ensureOperatorsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, operators_);
+          onChanged();
+        } else {
+          operatorsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder clearOperators() {
+        if (operatorsBuilder_ == null) {
+          operators_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          operatorsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public Builder removeOperators(int index) {
+        if (operatorsBuilder_ == null) {
+          ensureOperatorsIsMutable();
+          operators_.remove(index);
+          onChanged();
+        } else {
+          operatorsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder getOperatorsBuilder(
+          int index) {
+        return getOperatorsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder getOperatorsOrBuilder(
+          int index) {
+        if (operatorsBuilder_ == null) {
+          return operators_.get(index);  } else {
+          return operatorsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder> 
+           getOperatorsOrBuilderList() {
+        if (operatorsBuilder_ != null) {
+          return operatorsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(operators_);
+        }
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder addOperatorsBuilder() {
+        return getOperatorsFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder addOperatorsBuilder(
+          int index) {
+        return getOperatorsFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .common.ExprOpr operators = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder> 
+           getOperatorsBuilderList() {
+        return getOperatorsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder> 
+          getOperatorsFieldBuilder() {
+        if (operatorsBuilder_ == null) {
+          operatorsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOpr.Builder, com.alibaba.graphscope.gaia.proto.OuterExpression.ExprOprOrBuilder>(
+                  operators_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          operators_ = null;
+        }
+        return operatorsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:common.Expression)
+    }
+
+    // @@protoc_insertion_point(class_scope:common.Expression)
+    private static final com.alibaba.graphscope.gaia.proto.OuterExpression.Expression DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterExpression.Expression();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterExpression.Expression getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Expression>
+        PARSER = new com.google.protobuf.AbstractParser<Expression>() {
+      @java.lang.Override
+      public Expression parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Expression(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Expression> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Expression> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterExpression.Expression getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_IdKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_IdKey_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_LabelKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_LabelKey_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_LengthKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_LengthKey_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_AllKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_AllKey_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_NameOrId_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_NameOrId_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_NameOrIdKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_NameOrIdKey_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_Property_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_Property_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_Variable_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_Variable_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_VariableKeys_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_VariableKeys_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_ExprOpr_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_ExprOpr_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_common_Expression_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_common_Expression_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\nexpr.proto\022\006common\032\014common.proto\"\007\n\005Id" +
+      "Key\"\n\n\010LabelKey\"\013\n\tLengthKey\"\010\n\006AllKey\"0" +
+      "\n\010NameOrId\022\016\n\004name\030\001 \001(\tH\000\022\014\n\002id\030\002 \001(\005H\000" +
+      "B\006\n\004item\",\n\013NameOrIdKey\022\035\n\003key\030\001 \001(\0132\020.c" +
+      "ommon.NameOrId\"\264\001\n\010Property\022\033\n\002id\030\002 \001(\0132" +
+      "\r.common.IdKeyH\000\022!\n\005label\030\003 \001(\0132\020.common" +
+      ".LabelKeyH\000\022 \n\003len\030\004 \001(\0132\021.common.Length" +
+      "KeyH\000\022\035\n\003all\030\005 \001(\0132\016.common.AllKeyH\000\022\037\n\003" +
+      "key\030\006 \001(\0132\020.common.NameOrIdH\000B\006\n\004item\"M\n" +
+      "\010Variable\022\035\n\003tag\030\001 \001(\0132\020.common.NameOrId" +
+      "\022\"\n\010property\030\002 \001(\0132\020.common.Property\".\n\014" +
+      "VariableKeys\022\036\n\004keys\030\001 \003(\0132\020.common.Vari" +
+      "able\"\274\002\n\007ExprOpr\022\"\n\007logical\030\002 \001(\0162\017.comm" +
+      "on.LogicalH\000\022#\n\005arith\030\003 \001(\0162\022.common.Ari" +
+      "thmeticH\000\022\036\n\005const\030\004 \001(\0132\r.common.ValueH" +
+      "\000\022\037\n\003var\030\005 \001(\0132\020.common.VariableH\000\022&\n\005br" +
+      "ace\030\006 \001(\0162\025.common.ExprOpr.BraceH\000\022$\n\004va" +
+      "rs\030\007 \001(\0132\024.common.VariableKeysH\000\022\'\n\007var_" +
+      "map\030\010 \001(\0132\024.common.VariableKeysH\000\"(\n\005Bra" +
+      "ce\022\016\n\nLEFT_BRACE\020\000\022\017\n\013RIGHT_BRACE\020\001B\006\n\004i" +
+      "tem\"0\n\nExpression\022\"\n\toperators\030\001 \003(\0132\017.c" +
+      "ommon.ExprOpr*l\n\007Logical\022\006\n\002EQ\020\000\022\006\n\002NE\020\001" +
+      "\022\006\n\002LT\020\002\022\006\n\002LE\020\003\022\006\n\002GT\020\004\022\006\n\002GE\020\005\022\n\n\006WITH" +
+      "IN\020\006\022\013\n\007WITHOUT\020\007\022\007\n\003AND\020\010\022\006\n\002OR\020\t\022\007\n\003NO" +
+      "T\020\n*B\n\nArithmetic\022\007\n\003ADD\020\000\022\007\n\003SUB\020\001\022\007\n\003M" +
+      "UL\020\002\022\007\n\003DIV\020\003\022\007\n\003MOD\020\004\022\007\n\003EXP\020\005B4\n!com.a" +
+      "libaba.graphscope.gaia.protoB\017OuterExpre" +
+      "ssionb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.graphscope.gaia.proto.Common.getDescriptor(),
+        });
+    internal_static_common_IdKey_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_common_IdKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_IdKey_descriptor,
+        new java.lang.String[] { });
+    internal_static_common_LabelKey_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_common_LabelKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_LabelKey_descriptor,
+        new java.lang.String[] { });
+    internal_static_common_LengthKey_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_common_LengthKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_LengthKey_descriptor,
+        new java.lang.String[] { });
+    internal_static_common_AllKey_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_common_AllKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_AllKey_descriptor,
+        new java.lang.String[] { });
+    internal_static_common_NameOrId_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_common_NameOrId_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_NameOrId_descriptor,
+        new java.lang.String[] { "Name", "Id", "Item", });
+    internal_static_common_NameOrIdKey_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_common_NameOrIdKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_NameOrIdKey_descriptor,
+        new java.lang.String[] { "Key", });
+    internal_static_common_Property_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_common_Property_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_Property_descriptor,
+        new java.lang.String[] { "Id", "Label", "Len", "All", "Key", "Item", });
+    internal_static_common_Variable_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_common_Variable_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_Variable_descriptor,
+        new java.lang.String[] { "Tag", "Property", });
+    internal_static_common_VariableKeys_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_common_VariableKeys_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_VariableKeys_descriptor,
+        new java.lang.String[] { "Keys", });
+    internal_static_common_ExprOpr_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_common_ExprOpr_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_ExprOpr_descriptor,
+        new java.lang.String[] { "Logical", "Arith", "Const", "Var", "Brace", "Vars", "VarMap", "Item", });
+    internal_static_common_Expression_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_common_Expression_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_common_Expression_descriptor,
+        new java.lang.String[] { "Operators", });
+    com.alibaba.graphscope.gaia.proto.Common.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
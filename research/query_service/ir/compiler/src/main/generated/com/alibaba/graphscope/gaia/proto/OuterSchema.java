@@ -0,0 +1,6335 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: schema.proto
+
+package com.alibaba.graphscope.gaia.proto;
+
+public final class OuterSchema {
+  private OuterSchema() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface LabelMetaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:schema.LabelMeta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    int getId();
+
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+  }
+  /**
+   * Protobuf type {@code schema.LabelMeta}
+   */
+  public static final class LabelMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:schema.LabelMeta)
+      LabelMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LabelMeta.newBuilder() to construct.
+    private LabelMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LabelMeta() {
+      name_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LabelMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LabelMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              id_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              name_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_LabelMeta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_LabelMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.class, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_;
+    /**
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0) {
+        output.writeInt32(1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta other = (com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code schema.LabelMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:schema.LabelMeta)
+        com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_LabelMeta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_LabelMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.class, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = 0;
+
+        name_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_LabelMeta_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta build() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta result = new com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta(this);
+        result.id_ = id_;
+        result.name_ = name_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int id_ ;
+      /**
+       * <code>int32 id = 1;</code>
+       * @return The id.
+       */
+      @java.lang.Override
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(int value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:schema.LabelMeta)
+    }
+
+    // @@protoc_insertion_point(class_scope:schema.LabelMeta)
+    private static final com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LabelMeta>
+        PARSER = new com.google.protobuf.AbstractParser<LabelMeta>() {
+      @java.lang.Override
+      public LabelMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LabelMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LabelMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LabelMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ColumnMetaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:schema.ColumnMeta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.schema.LabelMeta key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>.schema.LabelMeta key = 1;</code>
+     * @return The key.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getKey();
+    /**
+     * <code>.schema.LabelMeta key = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getKeyOrBuilder();
+
+    /**
+     * <code>.common.DataType data_type = 2;</code>
+     * @return The enum numeric value on the wire for dataType.
+     */
+    int getDataTypeValue();
+    /**
+     * <code>.common.DataType data_type = 2;</code>
+     * @return The dataType.
+     */
+    com.alibaba.graphscope.gaia.proto.Common.DataType getDataType();
+
+    /**
+     * <pre>
+     * Whether this column is a part of a primary key
+     * </pre>
+     *
+     * <code>bool is_primary_key = 3;</code>
+     * @return The isPrimaryKey.
+     */
+    boolean getIsPrimaryKey();
+  }
+  /**
+   * Protobuf type {@code schema.ColumnMeta}
+   */
+  public static final class ColumnMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:schema.ColumnMeta)
+      ColumnMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ColumnMeta.newBuilder() to construct.
+    private ColumnMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ColumnMeta() {
+      dataType_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ColumnMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ColumnMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder subBuilder = null;
+              if (key_ != null) {
+                subBuilder = key_.toBuilder();
+              }
+              key_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(key_);
+                key_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+
+              dataType_ = rawValue;
+              break;
+            }
+            case 24: {
+
+              isPrimaryKey_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_ColumnMeta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_ColumnMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.class, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta key_;
+    /**
+     * <code>.schema.LabelMeta key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return key_ != null;
+    }
+    /**
+     * <code>.schema.LabelMeta key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getKey() {
+      return key_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : key_;
+    }
+    /**
+     * <code>.schema.LabelMeta key = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getKeyOrBuilder() {
+      return getKey();
+    }
+
+    public static final int DATA_TYPE_FIELD_NUMBER = 2;
+    private int dataType_;
+    /**
+     * <code>.common.DataType data_type = 2;</code>
+     * @return The enum numeric value on the wire for dataType.
+     */
+    @java.lang.Override public int getDataTypeValue() {
+      return dataType_;
+    }
+    /**
+     * <code>.common.DataType data_type = 2;</code>
+     * @return The dataType.
+     */
+    @java.lang.Override public com.alibaba.graphscope.gaia.proto.Common.DataType getDataType() {
+      @SuppressWarnings("deprecation")
+      com.alibaba.graphscope.gaia.proto.Common.DataType result = com.alibaba.graphscope.gaia.proto.Common.DataType.valueOf(dataType_);
+      return result == null ? com.alibaba.graphscope.gaia.proto.Common.DataType.UNRECOGNIZED : result;
+    }
+
+    public static final int IS_PRIMARY_KEY_FIELD_NUMBER = 3;
+    private boolean isPrimaryKey_;
+    /**
+     * <pre>
+     * Whether this column is a part of a primary key
+     * </pre>
+     *
+     * <code>bool is_primary_key = 3;</code>
+     * @return The isPrimaryKey.
+     */
+    @java.lang.Override
+    public boolean getIsPrimaryKey() {
+      return isPrimaryKey_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (key_ != null) {
+        output.writeMessage(1, getKey());
+      }
+      if (dataType_ != com.alibaba.graphscope.gaia.proto.Common.DataType.BOOLEAN.getNumber()) {
+        output.writeEnum(2, dataType_);
+      }
+      if (isPrimaryKey_ != false) {
+        output.writeBool(3, isPrimaryKey_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (key_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getKey());
+      }
+      if (dataType_ != com.alibaba.graphscope.gaia.proto.Common.DataType.BOOLEAN.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, dataType_);
+      }
+      if (isPrimaryKey_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, isPrimaryKey_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta other = (com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (dataType_ != other.dataType_) return false;
+      if (getIsPrimaryKey()
+          != other.getIsPrimaryKey()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      hash = (37 * hash) + DATA_TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + dataType_;
+      hash = (37 * hash) + IS_PRIMARY_KEY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsPrimaryKey());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code schema.ColumnMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:schema.ColumnMeta)
+        com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_ColumnMeta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_ColumnMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.class, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (keyBuilder_ == null) {
+          key_ = null;
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+        dataType_ = 0;
+
+        isPrimaryKey_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_ColumnMeta_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta build() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta result = new com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta(this);
+        if (keyBuilder_ == null) {
+          result.key_ = key_;
+        } else {
+          result.key_ = keyBuilder_.build();
+        }
+        result.dataType_ = dataType_;
+        result.isPrimaryKey_ = isPrimaryKey_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          mergeKey(other.getKey());
+        }
+        if (other.dataType_ != 0) {
+          setDataTypeValue(other.getDataTypeValue());
+        }
+        if (other.getIsPrimaryKey() != false) {
+          setIsPrimaryKey(other.getIsPrimaryKey());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta key_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> keyBuilder_;
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return keyBuilder_ != null || key_ != null;
+      }
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       * @return The key.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getKey() {
+        if (keyBuilder_ == null) {
+          return key_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : key_;
+        } else {
+          return keyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       */
+      public Builder setKey(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+        if (keyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          key_ = value;
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       */
+      public Builder setKey(
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder builderForValue) {
+        if (keyBuilder_ == null) {
+          key_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       */
+      public Builder mergeKey(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+        if (keyBuilder_ == null) {
+          if (key_ != null) {
+            key_ =
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.newBuilder(key_).mergeFrom(value).buildPartial();
+          } else {
+            key_ = value;
+          }
+          onChanged();
+        } else {
+          keyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       */
+      public Builder clearKey() {
+        if (keyBuilder_ == null) {
+          key_ = null;
+          onChanged();
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder getKeyBuilder() {
+        
+        onChanged();
+        return getKeyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getKeyOrBuilder() {
+        if (keyBuilder_ != null) {
+          return keyBuilder_.getMessageOrBuilder();
+        } else {
+          return key_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : key_;
+        }
+      }
+      /**
+       * <code>.schema.LabelMeta key = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> 
+          getKeyFieldBuilder() {
+        if (keyBuilder_ == null) {
+          keyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder>(
+                  getKey(),
+                  getParentForChildren(),
+                  isClean());
+          key_ = null;
+        }
+        return keyBuilder_;
+      }
+
+      private int dataType_ = 0;
+      /**
+       * <code>.common.DataType data_type = 2;</code>
+       * @return The enum numeric value on the wire for dataType.
+       */
+      @java.lang.Override public int getDataTypeValue() {
+        return dataType_;
+      }
+      /**
+       * <code>.common.DataType data_type = 2;</code>
+       * @param value The enum numeric value on the wire for dataType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataTypeValue(int value) {
+        
+        dataType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.common.DataType data_type = 2;</code>
+       * @return The dataType.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.Common.DataType getDataType() {
+        @SuppressWarnings("deprecation")
+        com.alibaba.graphscope.gaia.proto.Common.DataType result = com.alibaba.graphscope.gaia.proto.Common.DataType.valueOf(dataType_);
+        return result == null ? com.alibaba.graphscope.gaia.proto.Common.DataType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.common.DataType data_type = 2;</code>
+       * @param value The dataType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataType(com.alibaba.graphscope.gaia.proto.Common.DataType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        dataType_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.common.DataType data_type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataType() {
+        
+        dataType_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean isPrimaryKey_ ;
+      /**
+       * <pre>
+       * Whether this column is a part of a primary key
+       * </pre>
+       *
+       * <code>bool is_primary_key = 3;</code>
+       * @return The isPrimaryKey.
+       */
+      @java.lang.Override
+      public boolean getIsPrimaryKey() {
+        return isPrimaryKey_;
+      }
+      /**
+       * <pre>
+       * Whether this column is a part of a primary key
+       * </pre>
+       *
+       * <code>bool is_primary_key = 3;</code>
+       * @param value The isPrimaryKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsPrimaryKey(boolean value) {
+        
+        isPrimaryKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Whether this column is a part of a primary key
+       * </pre>
+       *
+       * <code>bool is_primary_key = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsPrimaryKey() {
+        
+        isPrimaryKey_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:schema.ColumnMeta)
+    }
+
+    // @@protoc_insertion_point(class_scope:schema.ColumnMeta)
+    private static final com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ColumnMeta>
+        PARSER = new com.google.protobuf.AbstractParser<ColumnMeta>() {
+      @java.lang.Override
+      public ColumnMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ColumnMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ColumnMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ColumnMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EntityMetaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:schema.EntityMeta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     * @return Whether the label field is set.
+     */
+    boolean hasLabel();
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     * @return The label.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getLabel();
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getLabelOrBuilder();
+
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> 
+        getColumnsList();
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getColumns(int index);
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    int getColumnsCount();
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder getColumnsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code schema.EntityMeta}
+   */
+  public static final class EntityMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:schema.EntityMeta)
+      EntityMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EntityMeta.newBuilder() to construct.
+    private EntityMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EntityMeta() {
+      columns_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EntityMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EntityMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder subBuilder = null;
+              if (label_ != null) {
+                subBuilder = label_.toBuilder();
+              }
+              label_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(label_);
+                label_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                columns_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              columns_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          columns_ = java.util.Collections.unmodifiableList(columns_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_EntityMeta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_EntityMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.class, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder.class);
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 1;
+    private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta label_;
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     * @return Whether the label field is set.
+     */
+    @java.lang.Override
+    public boolean hasLabel() {
+      return label_ != null;
+    }
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getLabel() {
+      return label_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : label_;
+    }
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getLabelOrBuilder() {
+      return getLabel();
+    }
+
+    public static final int COLUMNS_FIELD_NUMBER = 2;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> columns_;
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    @java.lang.Override
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (label_ != null) {
+        output.writeMessage(1, getLabel());
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(2, columns_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (label_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getLabel());
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, columns_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta other = (com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta) obj;
+
+      if (hasLabel() != other.hasLabel()) return false;
+      if (hasLabel()) {
+        if (!getLabel()
+            .equals(other.getLabel())) return false;
+      }
+      if (!getColumnsList()
+          .equals(other.getColumnsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasLabel()) {
+        hash = (37 * hash) + LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getLabel().hashCode();
+      }
+      if (getColumnsCount() > 0) {
+        hash = (37 * hash) + COLUMNS_FIELD_NUMBER;
+        hash = (53 * hash) + getColumnsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code schema.EntityMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:schema.EntityMeta)
+        com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_EntityMeta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_EntityMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.class, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getColumnsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (labelBuilder_ == null) {
+          label_ = null;
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_EntityMeta_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta build() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta result = new com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta(this);
+        int from_bitField0_ = bitField0_;
+        if (labelBuilder_ == null) {
+          result.label_ = label_;
+        } else {
+          result.label_ = labelBuilder_.build();
+        }
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.getDefaultInstance()) return this;
+        if (other.hasLabel()) {
+          mergeLabel(other.getLabel());
+        }
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta label_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> labelBuilder_;
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       * @return Whether the label field is set.
+       */
+      public boolean hasLabel() {
+        return labelBuilder_ != null || label_ != null;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       * @return The label.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getLabel() {
+        if (labelBuilder_ == null) {
+          return label_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : label_;
+        } else {
+          return labelBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public Builder setLabel(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+        if (labelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          label_ = value;
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public Builder setLabel(
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder builderForValue) {
+        if (labelBuilder_ == null) {
+          label_ = builderForValue.build();
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public Builder mergeLabel(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+        if (labelBuilder_ == null) {
+          if (label_ != null) {
+            label_ =
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.newBuilder(label_).mergeFrom(value).buildPartial();
+          } else {
+            label_ = value;
+          }
+          onChanged();
+        } else {
+          labelBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public Builder clearLabel() {
+        if (labelBuilder_ == null) {
+          label_ = null;
+          onChanged();
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder getLabelBuilder() {
+        
+        onChanged();
+        return getLabelFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getLabelOrBuilder() {
+        if (labelBuilder_ != null) {
+          return labelBuilder_.getMessageOrBuilder();
+        } else {
+          return label_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : label_;
+        }
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> 
+          getLabelFieldBuilder() {
+        if (labelBuilder_ == null) {
+          labelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder>(
+                  getLabel(),
+                  getParentForChildren(),
+                  isClean());
+          label_ = null;
+        }
+        return labelBuilder_;
+      }
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          columns_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta>(columns_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> columnsBuilder_;
+
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder setColumns(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder setColumns(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder addColumns(com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder addColumns(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder addColumns(
+          com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder addColumns(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 2;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:schema.EntityMeta)
+    }
+
+    // @@protoc_insertion_point(class_scope:schema.EntityMeta)
+    private static final com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EntityMeta>
+        PARSER = new com.google.protobuf.AbstractParser<EntityMeta>() {
+      @java.lang.Override
+      public EntityMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EntityMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<EntityMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EntityMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RelationMetaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:schema.RelationMeta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     * @return Whether the label field is set.
+     */
+    boolean hasLabel();
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     * @return The label.
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getLabel();
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getLabelOrBuilder();
+
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair> 
+        getEntityPairsList();
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair getEntityPairs(int index);
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    int getEntityPairsCount();
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder> 
+        getEntityPairsOrBuilderList();
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder getEntityPairsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> 
+        getColumnsList();
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getColumns(int index);
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    int getColumnsCount();
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder getColumnsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code schema.RelationMeta}
+   */
+  public static final class RelationMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:schema.RelationMeta)
+      RelationMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RelationMeta.newBuilder() to construct.
+    private RelationMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RelationMeta() {
+      entityPairs_ = java.util.Collections.emptyList();
+      columns_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RelationMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RelationMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder subBuilder = null;
+              if (label_ != null) {
+                subBuilder = label_.toBuilder();
+              }
+              label_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(label_);
+                label_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entityPairs_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entityPairs_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.parser(), extensionRegistry));
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                columns_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              columns_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entityPairs_ = java.util.Collections.unmodifiableList(entityPairs_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          columns_ = java.util.Collections.unmodifiableList(columns_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.class, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder.class);
+    }
+
+    public interface LabelPairOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:schema.RelationMeta.LabelPair)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>.schema.LabelMeta src = 1;</code>
+       * @return Whether the src field is set.
+       */
+      boolean hasSrc();
+      /**
+       * <code>.schema.LabelMeta src = 1;</code>
+       * @return The src.
+       */
+      com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getSrc();
+      /**
+       * <code>.schema.LabelMeta src = 1;</code>
+       */
+      com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getSrcOrBuilder();
+
+      /**
+       * <code>.schema.LabelMeta dst = 2;</code>
+       * @return Whether the dst field is set.
+       */
+      boolean hasDst();
+      /**
+       * <code>.schema.LabelMeta dst = 2;</code>
+       * @return The dst.
+       */
+      com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getDst();
+      /**
+       * <code>.schema.LabelMeta dst = 2;</code>
+       */
+      com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getDstOrBuilder();
+    }
+    /**
+     * Protobuf type {@code schema.RelationMeta.LabelPair}
+     */
+    public static final class LabelPair extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:schema.RelationMeta.LabelPair)
+        LabelPairOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use LabelPair.newBuilder() to construct.
+      private LabelPair(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private LabelPair() {
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new LabelPair();
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private LabelPair(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder subBuilder = null;
+                if (src_ != null) {
+                  subBuilder = src_.toBuilder();
+                }
+                src_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.parser(), extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(src_);
+                  src_ = subBuilder.buildPartial();
+                }
+
+                break;
+              }
+              case 18: {
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder subBuilder = null;
+                if (dst_ != null) {
+                  subBuilder = dst_.toBuilder();
+                }
+                dst_ = input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.parser(), extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(dst_);
+                  dst_ = subBuilder.buildPartial();
+                }
+
+                break;
+              }
+              default: {
+                if (!parseUnknownField(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_LabelPair_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_LabelPair_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.class, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder.class);
+      }
+
+      public static final int SRC_FIELD_NUMBER = 1;
+      private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta src_;
+      /**
+       * <code>.schema.LabelMeta src = 1;</code>
+       * @return Whether the src field is set.
+       */
+      @java.lang.Override
+      public boolean hasSrc() {
+        return src_ != null;
+      }
+      /**
+       * <code>.schema.LabelMeta src = 1;</code>
+       * @return The src.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getSrc() {
+        return src_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : src_;
+      }
+      /**
+       * <code>.schema.LabelMeta src = 1;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getSrcOrBuilder() {
+        return getSrc();
+      }
+
+      public static final int DST_FIELD_NUMBER = 2;
+      private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta dst_;
+      /**
+       * <code>.schema.LabelMeta dst = 2;</code>
+       * @return Whether the dst field is set.
+       */
+      @java.lang.Override
+      public boolean hasDst() {
+        return dst_ != null;
+      }
+      /**
+       * <code>.schema.LabelMeta dst = 2;</code>
+       * @return The dst.
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getDst() {
+        return dst_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : dst_;
+      }
+      /**
+       * <code>.schema.LabelMeta dst = 2;</code>
+       */
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getDstOrBuilder() {
+        return getDst();
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (src_ != null) {
+          output.writeMessage(1, getSrc());
+        }
+        if (dst_ != null) {
+          output.writeMessage(2, getDst());
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (src_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, getSrc());
+        }
+        if (dst_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, getDst());
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair)) {
+          return super.equals(obj);
+        }
+        com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair other = (com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair) obj;
+
+        if (hasSrc() != other.hasSrc()) return false;
+        if (hasSrc()) {
+          if (!getSrc()
+              .equals(other.getSrc())) return false;
+        }
+        if (hasDst() != other.hasDst()) return false;
+        if (hasDst()) {
+          if (!getDst()
+              .equals(other.getDst())) return false;
+        }
+        if (!unknownFields.equals(other.unknownFields)) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasSrc()) {
+          hash = (37 * hash) + SRC_FIELD_NUMBER;
+          hash = (53 * hash) + getSrc().hashCode();
+        }
+        if (hasDst()) {
+          hash = (37 * hash) + DST_FIELD_NUMBER;
+          hash = (53 * hash) + getDst().hashCode();
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code schema.RelationMeta.LabelPair}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:schema.RelationMeta.LabelPair)
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_LabelPair_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_LabelPair_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.class, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder.class);
+        }
+
+        // Construct using com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          if (srcBuilder_ == null) {
+            src_ = null;
+          } else {
+            src_ = null;
+            srcBuilder_ = null;
+          }
+          if (dstBuilder_ == null) {
+            dst_ = null;
+          } else {
+            dst_ = null;
+            dstBuilder_ = null;
+          }
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_LabelPair_descriptor;
+        }
+
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair getDefaultInstanceForType() {
+          return com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair build() {
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair buildPartial() {
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair result = new com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair(this);
+          if (srcBuilder_ == null) {
+            result.src_ = src_;
+          } else {
+            result.src_ = srcBuilder_.build();
+          }
+          if (dstBuilder_ == null) {
+            result.dst_ = dst_;
+          } else {
+            result.dst_ = dstBuilder_.build();
+          }
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair) {
+            return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair other) {
+          if (other == com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.getDefaultInstance()) return this;
+          if (other.hasSrc()) {
+            mergeSrc(other.getSrc());
+          }
+          if (other.hasDst()) {
+            mergeDst(other.getDst());
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+
+        private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta src_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> srcBuilder_;
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         * @return Whether the src field is set.
+         */
+        public boolean hasSrc() {
+          return srcBuilder_ != null || src_ != null;
+        }
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         * @return The src.
+         */
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getSrc() {
+          if (srcBuilder_ == null) {
+            return src_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : src_;
+          } else {
+            return srcBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         */
+        public Builder setSrc(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+          if (srcBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            src_ = value;
+            onChanged();
+          } else {
+            srcBuilder_.setMessage(value);
+          }
+
+          return this;
+        }
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         */
+        public Builder setSrc(
+            com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder builderForValue) {
+          if (srcBuilder_ == null) {
+            src_ = builderForValue.build();
+            onChanged();
+          } else {
+            srcBuilder_.setMessage(builderForValue.build());
+          }
+
+          return this;
+        }
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         */
+        public Builder mergeSrc(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+          if (srcBuilder_ == null) {
+            if (src_ != null) {
+              src_ =
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.newBuilder(src_).mergeFrom(value).buildPartial();
+            } else {
+              src_ = value;
+            }
+            onChanged();
+          } else {
+            srcBuilder_.mergeFrom(value);
+          }
+
+          return this;
+        }
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         */
+        public Builder clearSrc() {
+          if (srcBuilder_ == null) {
+            src_ = null;
+            onChanged();
+          } else {
+            src_ = null;
+            srcBuilder_ = null;
+          }
+
+          return this;
+        }
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         */
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder getSrcBuilder() {
+          
+          onChanged();
+          return getSrcFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         */
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getSrcOrBuilder() {
+          if (srcBuilder_ != null) {
+            return srcBuilder_.getMessageOrBuilder();
+          } else {
+            return src_ == null ?
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : src_;
+          }
+        }
+        /**
+         * <code>.schema.LabelMeta src = 1;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> 
+            getSrcFieldBuilder() {
+          if (srcBuilder_ == null) {
+            srcBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder>(
+                    getSrc(),
+                    getParentForChildren(),
+                    isClean());
+            src_ = null;
+          }
+          return srcBuilder_;
+        }
+
+        private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta dst_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> dstBuilder_;
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         * @return Whether the dst field is set.
+         */
+        public boolean hasDst() {
+          return dstBuilder_ != null || dst_ != null;
+        }
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         * @return The dst.
+         */
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getDst() {
+          if (dstBuilder_ == null) {
+            return dst_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : dst_;
+          } else {
+            return dstBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         */
+        public Builder setDst(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+          if (dstBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            dst_ = value;
+            onChanged();
+          } else {
+            dstBuilder_.setMessage(value);
+          }
+
+          return this;
+        }
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         */
+        public Builder setDst(
+            com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder builderForValue) {
+          if (dstBuilder_ == null) {
+            dst_ = builderForValue.build();
+            onChanged();
+          } else {
+            dstBuilder_.setMessage(builderForValue.build());
+          }
+
+          return this;
+        }
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         */
+        public Builder mergeDst(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+          if (dstBuilder_ == null) {
+            if (dst_ != null) {
+              dst_ =
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.newBuilder(dst_).mergeFrom(value).buildPartial();
+            } else {
+              dst_ = value;
+            }
+            onChanged();
+          } else {
+            dstBuilder_.mergeFrom(value);
+          }
+
+          return this;
+        }
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         */
+        public Builder clearDst() {
+          if (dstBuilder_ == null) {
+            dst_ = null;
+            onChanged();
+          } else {
+            dst_ = null;
+            dstBuilder_ = null;
+          }
+
+          return this;
+        }
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         */
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder getDstBuilder() {
+          
+          onChanged();
+          return getDstFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         */
+        public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getDstOrBuilder() {
+          if (dstBuilder_ != null) {
+            return dstBuilder_.getMessageOrBuilder();
+          } else {
+            return dst_ == null ?
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : dst_;
+          }
+        }
+        /**
+         * <code>.schema.LabelMeta dst = 2;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> 
+            getDstFieldBuilder() {
+          if (dstBuilder_ == null) {
+            dstBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder>(
+                    getDst(),
+                    getParentForChildren(),
+                    isClean());
+            dst_ = null;
+          }
+          return dstBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:schema.RelationMeta.LabelPair)
+      }
+
+      // @@protoc_insertion_point(class_scope:schema.RelationMeta.LabelPair)
+      private static final com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair();
+      }
+
+      public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<LabelPair>
+          PARSER = new com.google.protobuf.AbstractParser<LabelPair>() {
+        @java.lang.Override
+        public LabelPair parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new LabelPair(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<LabelPair> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<LabelPair> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 1;
+    private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta label_;
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     * @return Whether the label field is set.
+     */
+    @java.lang.Override
+    public boolean hasLabel() {
+      return label_ != null;
+    }
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getLabel() {
+      return label_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : label_;
+    }
+    /**
+     * <code>.schema.LabelMeta label = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getLabelOrBuilder() {
+      return getLabel();
+    }
+
+    public static final int ENTITY_PAIRS_FIELD_NUMBER = 2;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair> entityPairs_;
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair> getEntityPairsList() {
+      return entityPairs_;
+    }
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder> 
+        getEntityPairsOrBuilderList() {
+      return entityPairs_;
+    }
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    @java.lang.Override
+    public int getEntityPairsCount() {
+      return entityPairs_.size();
+    }
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair getEntityPairs(int index) {
+      return entityPairs_.get(index);
+    }
+    /**
+     * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder getEntityPairsOrBuilder(
+        int index) {
+      return entityPairs_.get(index);
+    }
+
+    public static final int COLUMNS_FIELD_NUMBER = 3;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> columns_;
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    @java.lang.Override
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <code>repeated .schema.ColumnMeta columns = 3;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (label_ != null) {
+        output.writeMessage(1, getLabel());
+      }
+      for (int i = 0; i < entityPairs_.size(); i++) {
+        output.writeMessage(2, entityPairs_.get(i));
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(3, columns_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (label_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getLabel());
+      }
+      for (int i = 0; i < entityPairs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, entityPairs_.get(i));
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, columns_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta other = (com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta) obj;
+
+      if (hasLabel() != other.hasLabel()) return false;
+      if (hasLabel()) {
+        if (!getLabel()
+            .equals(other.getLabel())) return false;
+      }
+      if (!getEntityPairsList()
+          .equals(other.getEntityPairsList())) return false;
+      if (!getColumnsList()
+          .equals(other.getColumnsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasLabel()) {
+        hash = (37 * hash) + LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getLabel().hashCode();
+      }
+      if (getEntityPairsCount() > 0) {
+        hash = (37 * hash) + ENTITY_PAIRS_FIELD_NUMBER;
+        hash = (53 * hash) + getEntityPairsList().hashCode();
+      }
+      if (getColumnsCount() > 0) {
+        hash = (37 * hash) + COLUMNS_FIELD_NUMBER;
+        hash = (53 * hash) + getColumnsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code schema.RelationMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:schema.RelationMeta)
+        com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.class, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntityPairsFieldBuilder();
+          getColumnsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (labelBuilder_ == null) {
+          label_ = null;
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+        if (entityPairsBuilder_ == null) {
+          entityPairs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entityPairsBuilder_.clear();
+        }
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_RelationMeta_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta build() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta result = new com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta(this);
+        int from_bitField0_ = bitField0_;
+        if (labelBuilder_ == null) {
+          result.label_ = label_;
+        } else {
+          result.label_ = labelBuilder_.build();
+        }
+        if (entityPairsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entityPairs_ = java.util.Collections.unmodifiableList(entityPairs_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entityPairs_ = entityPairs_;
+        } else {
+          result.entityPairs_ = entityPairsBuilder_.build();
+        }
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.getDefaultInstance()) return this;
+        if (other.hasLabel()) {
+          mergeLabel(other.getLabel());
+        }
+        if (entityPairsBuilder_ == null) {
+          if (!other.entityPairs_.isEmpty()) {
+            if (entityPairs_.isEmpty()) {
+              entityPairs_ = other.entityPairs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntityPairsIsMutable();
+              entityPairs_.addAll(other.entityPairs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entityPairs_.isEmpty()) {
+            if (entityPairsBuilder_.isEmpty()) {
+              entityPairsBuilder_.dispose();
+              entityPairsBuilder_ = null;
+              entityPairs_ = other.entityPairs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entityPairsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntityPairsFieldBuilder() : null;
+            } else {
+              entityPairsBuilder_.addAllMessages(other.entityPairs_);
+            }
+          }
+        }
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta label_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> labelBuilder_;
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       * @return Whether the label field is set.
+       */
+      public boolean hasLabel() {
+        return labelBuilder_ != null || label_ != null;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       * @return The label.
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta getLabel() {
+        if (labelBuilder_ == null) {
+          return label_ == null ? com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : label_;
+        } else {
+          return labelBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public Builder setLabel(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+        if (labelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          label_ = value;
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public Builder setLabel(
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder builderForValue) {
+        if (labelBuilder_ == null) {
+          label_ = builderForValue.build();
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public Builder mergeLabel(com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta value) {
+        if (labelBuilder_ == null) {
+          if (label_ != null) {
+            label_ =
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.newBuilder(label_).mergeFrom(value).buildPartial();
+          } else {
+            label_ = value;
+          }
+          onChanged();
+        } else {
+          labelBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public Builder clearLabel() {
+        if (labelBuilder_ == null) {
+          label_ = null;
+          onChanged();
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder getLabelBuilder() {
+        
+        onChanged();
+        return getLabelFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder getLabelOrBuilder() {
+        if (labelBuilder_ != null) {
+          return labelBuilder_.getMessageOrBuilder();
+        } else {
+          return label_ == null ?
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.getDefaultInstance() : label_;
+        }
+      }
+      /**
+       * <code>.schema.LabelMeta label = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder> 
+          getLabelFieldBuilder() {
+        if (labelBuilder_ == null) {
+          labelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.LabelMetaOrBuilder>(
+                  getLabel(),
+                  getParentForChildren(),
+                  isClean());
+          label_ = null;
+        }
+        return labelBuilder_;
+      }
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair> entityPairs_ =
+        java.util.Collections.emptyList();
+      private void ensureEntityPairsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entityPairs_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair>(entityPairs_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder> entityPairsBuilder_;
+
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair> getEntityPairsList() {
+        if (entityPairsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entityPairs_);
+        } else {
+          return entityPairsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public int getEntityPairsCount() {
+        if (entityPairsBuilder_ == null) {
+          return entityPairs_.size();
+        } else {
+          return entityPairsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair getEntityPairs(int index) {
+        if (entityPairsBuilder_ == null) {
+          return entityPairs_.get(index);
+        } else {
+          return entityPairsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder setEntityPairs(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair value) {
+        if (entityPairsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntityPairsIsMutable();
+          entityPairs_.set(index, value);
+          onChanged();
+        } else {
+          entityPairsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder setEntityPairs(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder builderForValue) {
+        if (entityPairsBuilder_ == null) {
+          ensureEntityPairsIsMutable();
+          entityPairs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entityPairsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder addEntityPairs(com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair value) {
+        if (entityPairsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntityPairsIsMutable();
+          entityPairs_.add(value);
+          onChanged();
+        } else {
+          entityPairsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder addEntityPairs(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair value) {
+        if (entityPairsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntityPairsIsMutable();
+          entityPairs_.add(index, value);
+          onChanged();
+        } else {
+          entityPairsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder addEntityPairs(
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder builderForValue) {
+        if (entityPairsBuilder_ == null) {
+          ensureEntityPairsIsMutable();
+          entityPairs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entityPairsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder addEntityPairs(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder builderForValue) {
+        if (entityPairsBuilder_ == null) {
+          ensureEntityPairsIsMutable();
+          entityPairs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entityPairsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder addAllEntityPairs(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair> values) {
+        if (entityPairsBuilder_ == null) {
+          ensureEntityPairsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entityPairs_);
+          onChanged();
+        } else {
+          entityPairsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder clearEntityPairs() {
+        if (entityPairsBuilder_ == null) {
+          entityPairs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entityPairsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public Builder removeEntityPairs(int index) {
+        if (entityPairsBuilder_ == null) {
+          ensureEntityPairsIsMutable();
+          entityPairs_.remove(index);
+          onChanged();
+        } else {
+          entityPairsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder getEntityPairsBuilder(
+          int index) {
+        return getEntityPairsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder getEntityPairsOrBuilder(
+          int index) {
+        if (entityPairsBuilder_ == null) {
+          return entityPairs_.get(index);  } else {
+          return entityPairsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder> 
+           getEntityPairsOrBuilderList() {
+        if (entityPairsBuilder_ != null) {
+          return entityPairsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entityPairs_);
+        }
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder addEntityPairsBuilder() {
+        return getEntityPairsFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder addEntityPairsBuilder(
+          int index) {
+        return getEntityPairsFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .schema.RelationMeta.LabelPair entity_pairs = 2;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder> 
+           getEntityPairsBuilderList() {
+        return getEntityPairsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder> 
+          getEntityPairsFieldBuilder() {
+        if (entityPairsBuilder_ == null) {
+          entityPairsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPair.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.LabelPairOrBuilder>(
+                  entityPairs_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entityPairs_ = null;
+        }
+        return entityPairsBuilder_;
+      }
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          columns_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta>(columns_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> columnsBuilder_;
+
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder setColumns(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder setColumns(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder addColumns(com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder addColumns(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder addColumns(
+          com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder addColumns(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .schema.ColumnMeta columns = 3;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.ColumnMetaOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:schema.RelationMeta)
+    }
+
+    // @@protoc_insertion_point(class_scope:schema.RelationMeta)
+    private static final com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RelationMeta>
+        PARSER = new com.google.protobuf.AbstractParser<RelationMeta>() {
+      @java.lang.Override
+      public RelationMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RelationMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RelationMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RelationMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SchemaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:schema.Schema)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta> 
+        getEntitiesList();
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta getEntities(int index);
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    int getEntitiesCount();
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder> 
+        getEntitiesOrBuilderList();
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder getEntitiesOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta> 
+        getRelationsList();
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta getRelations(int index);
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    int getRelationsCount();
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder> 
+        getRelationsOrBuilderList();
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder getRelationsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * is the table (label)'s name mapped as an id
+     * </pre>
+     *
+     * <code>bool is_table_id = 3;</code>
+     * @return The isTableId.
+     */
+    boolean getIsTableId();
+
+    /**
+     * <pre>
+     * is the column (property)'s name mapped as an id
+     * </pre>
+     *
+     * <code>bool is_column_id = 4;</code>
+     * @return The isColumnId.
+     */
+    boolean getIsColumnId();
+  }
+  /**
+   * Protobuf type {@code schema.Schema}
+   */
+  public static final class Schema extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:schema.Schema)
+      SchemaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Schema.newBuilder() to construct.
+    private Schema(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Schema() {
+      entities_ = java.util.Collections.emptyList();
+      relations_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Schema();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Schema(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entities_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entities_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.parser(), extensionRegistry));
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                relations_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              relations_.add(
+                  input.readMessage(com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.parser(), extensionRegistry));
+              break;
+            }
+            case 24: {
+
+              isTableId_ = input.readBool();
+              break;
+            }
+            case 32: {
+
+              isColumnId_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entities_ = java.util.Collections.unmodifiableList(entities_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          relations_ = java.util.Collections.unmodifiableList(relations_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_Schema_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_Schema_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.alibaba.graphscope.gaia.proto.OuterSchema.Schema.class, com.alibaba.graphscope.gaia.proto.OuterSchema.Schema.Builder.class);
+    }
+
+    public static final int ENTITIES_FIELD_NUMBER = 1;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta> entities_;
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta> getEntitiesList() {
+      return entities_;
+    }
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder> 
+        getEntitiesOrBuilderList() {
+      return entities_;
+    }
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    @java.lang.Override
+    public int getEntitiesCount() {
+      return entities_.size();
+    }
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta getEntities(int index) {
+      return entities_.get(index);
+    }
+    /**
+     * <pre>
+     * the entities (vertices)
+     * </pre>
+     *
+     * <code>repeated .schema.EntityMeta entities = 1;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder getEntitiesOrBuilder(
+        int index) {
+      return entities_.get(index);
+    }
+
+    public static final int RELATIONS_FIELD_NUMBER = 2;
+    private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta> relations_;
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta> getRelationsList() {
+      return relations_;
+    }
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder> 
+        getRelationsOrBuilderList() {
+      return relations_;
+    }
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    @java.lang.Override
+    public int getRelationsCount() {
+      return relations_.size();
+    }
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta getRelations(int index) {
+      return relations_.get(index);
+    }
+    /**
+     * <pre>
+     * the relations (edges)
+     * </pre>
+     *
+     * <code>repeated .schema.RelationMeta relations = 2;</code>
+     */
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder getRelationsOrBuilder(
+        int index) {
+      return relations_.get(index);
+    }
+
+    public static final int IS_TABLE_ID_FIELD_NUMBER = 3;
+    private boolean isTableId_;
+    /**
+     * <pre>
+     * is the table (label)'s name mapped as an id
+     * </pre>
+     *
+     * <code>bool is_table_id = 3;</code>
+     * @return The isTableId.
+     */
+    @java.lang.Override
+    public boolean getIsTableId() {
+      return isTableId_;
+    }
+
+    public static final int IS_COLUMN_ID_FIELD_NUMBER = 4;
+    private boolean isColumnId_;
+    /**
+     * <pre>
+     * is the column (property)'s name mapped as an id
+     * </pre>
+     *
+     * <code>bool is_column_id = 4;</code>
+     * @return The isColumnId.
+     */
+    @java.lang.Override
+    public boolean getIsColumnId() {
+      return isColumnId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < entities_.size(); i++) {
+        output.writeMessage(1, entities_.get(i));
+      }
+      for (int i = 0; i < relations_.size(); i++) {
+        output.writeMessage(2, relations_.get(i));
+      }
+      if (isTableId_ != false) {
+        output.writeBool(3, isTableId_);
+      }
+      if (isColumnId_ != false) {
+        output.writeBool(4, isColumnId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < entities_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, entities_.get(i));
+      }
+      for (int i = 0; i < relations_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, relations_.get(i));
+      }
+      if (isTableId_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, isTableId_);
+      }
+      if (isColumnId_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, isColumnId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.Schema)) {
+        return super.equals(obj);
+      }
+      com.alibaba.graphscope.gaia.proto.OuterSchema.Schema other = (com.alibaba.graphscope.gaia.proto.OuterSchema.Schema) obj;
+
+      if (!getEntitiesList()
+          .equals(other.getEntitiesList())) return false;
+      if (!getRelationsList()
+          .equals(other.getRelationsList())) return false;
+      if (getIsTableId()
+          != other.getIsTableId()) return false;
+      if (getIsColumnId()
+          != other.getIsColumnId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getEntitiesCount() > 0) {
+        hash = (37 * hash) + ENTITIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntitiesList().hashCode();
+      }
+      if (getRelationsCount() > 0) {
+        hash = (37 * hash) + RELATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getRelationsList().hashCode();
+      }
+      hash = (37 * hash) + IS_TABLE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsTableId());
+      hash = (37 * hash) + IS_COLUMN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsColumnId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.alibaba.graphscope.gaia.proto.OuterSchema.Schema prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code schema.Schema}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:schema.Schema)
+        com.alibaba.graphscope.gaia.proto.OuterSchema.SchemaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_Schema_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_Schema_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.alibaba.graphscope.gaia.proto.OuterSchema.Schema.class, com.alibaba.graphscope.gaia.proto.OuterSchema.Schema.Builder.class);
+      }
+
+      // Construct using com.alibaba.graphscope.gaia.proto.OuterSchema.Schema.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntitiesFieldBuilder();
+          getRelationsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (entitiesBuilder_ == null) {
+          entities_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entitiesBuilder_.clear();
+        }
+        if (relationsBuilder_ == null) {
+          relations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          relationsBuilder_.clear();
+        }
+        isTableId_ = false;
+
+        isColumnId_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.internal_static_schema_Schema_descriptor;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.Schema getDefaultInstanceForType() {
+        return com.alibaba.graphscope.gaia.proto.OuterSchema.Schema.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.Schema build() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.Schema result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.Schema buildPartial() {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.Schema result = new com.alibaba.graphscope.gaia.proto.OuterSchema.Schema(this);
+        int from_bitField0_ = bitField0_;
+        if (entitiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entities_ = java.util.Collections.unmodifiableList(entities_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entities_ = entities_;
+        } else {
+          result.entities_ = entitiesBuilder_.build();
+        }
+        if (relationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            relations_ = java.util.Collections.unmodifiableList(relations_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.relations_ = relations_;
+        } else {
+          result.relations_ = relationsBuilder_.build();
+        }
+        result.isTableId_ = isTableId_;
+        result.isColumnId_ = isColumnId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.alibaba.graphscope.gaia.proto.OuterSchema.Schema) {
+          return mergeFrom((com.alibaba.graphscope.gaia.proto.OuterSchema.Schema)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.alibaba.graphscope.gaia.proto.OuterSchema.Schema other) {
+        if (other == com.alibaba.graphscope.gaia.proto.OuterSchema.Schema.getDefaultInstance()) return this;
+        if (entitiesBuilder_ == null) {
+          if (!other.entities_.isEmpty()) {
+            if (entities_.isEmpty()) {
+              entities_ = other.entities_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntitiesIsMutable();
+              entities_.addAll(other.entities_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entities_.isEmpty()) {
+            if (entitiesBuilder_.isEmpty()) {
+              entitiesBuilder_.dispose();
+              entitiesBuilder_ = null;
+              entities_ = other.entities_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entitiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntitiesFieldBuilder() : null;
+            } else {
+              entitiesBuilder_.addAllMessages(other.entities_);
+            }
+          }
+        }
+        if (relationsBuilder_ == null) {
+          if (!other.relations_.isEmpty()) {
+            if (relations_.isEmpty()) {
+              relations_ = other.relations_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureRelationsIsMutable();
+              relations_.addAll(other.relations_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.relations_.isEmpty()) {
+            if (relationsBuilder_.isEmpty()) {
+              relationsBuilder_.dispose();
+              relationsBuilder_ = null;
+              relations_ = other.relations_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              relationsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRelationsFieldBuilder() : null;
+            } else {
+              relationsBuilder_.addAllMessages(other.relations_);
+            }
+          }
+        }
+        if (other.getIsTableId() != false) {
+          setIsTableId(other.getIsTableId());
+        }
+        if (other.getIsColumnId() != false) {
+          setIsColumnId(other.getIsColumnId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.alibaba.graphscope.gaia.proto.OuterSchema.Schema parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.alibaba.graphscope.gaia.proto.OuterSchema.Schema) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta> entities_ =
+        java.util.Collections.emptyList();
+      private void ensureEntitiesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entities_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta>(entities_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder> entitiesBuilder_;
+
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta> getEntitiesList() {
+        if (entitiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entities_);
+        } else {
+          return entitiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public int getEntitiesCount() {
+        if (entitiesBuilder_ == null) {
+          return entities_.size();
+        } else {
+          return entitiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta getEntities(int index) {
+        if (entitiesBuilder_ == null) {
+          return entities_.get(index);
+        } else {
+          return entitiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder setEntities(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta value) {
+        if (entitiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntitiesIsMutable();
+          entities_.set(index, value);
+          onChanged();
+        } else {
+          entitiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder setEntities(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder builderForValue) {
+        if (entitiesBuilder_ == null) {
+          ensureEntitiesIsMutable();
+          entities_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entitiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder addEntities(com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta value) {
+        if (entitiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntitiesIsMutable();
+          entities_.add(value);
+          onChanged();
+        } else {
+          entitiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder addEntities(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta value) {
+        if (entitiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntitiesIsMutable();
+          entities_.add(index, value);
+          onChanged();
+        } else {
+          entitiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder addEntities(
+          com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder builderForValue) {
+        if (entitiesBuilder_ == null) {
+          ensureEntitiesIsMutable();
+          entities_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entitiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder addEntities(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder builderForValue) {
+        if (entitiesBuilder_ == null) {
+          ensureEntitiesIsMutable();
+          entities_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entitiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder addAllEntities(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta> values) {
+        if (entitiesBuilder_ == null) {
+          ensureEntitiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entities_);
+          onChanged();
+        } else {
+          entitiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder clearEntities() {
+        if (entitiesBuilder_ == null) {
+          entities_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entitiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public Builder removeEntities(int index) {
+        if (entitiesBuilder_ == null) {
+          ensureEntitiesIsMutable();
+          entities_.remove(index);
+          onChanged();
+        } else {
+          entitiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder getEntitiesBuilder(
+          int index) {
+        return getEntitiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder getEntitiesOrBuilder(
+          int index) {
+        if (entitiesBuilder_ == null) {
+          return entities_.get(index);  } else {
+          return entitiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder> 
+           getEntitiesOrBuilderList() {
+        if (entitiesBuilder_ != null) {
+          return entitiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entities_);
+        }
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder addEntitiesBuilder() {
+        return getEntitiesFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder addEntitiesBuilder(
+          int index) {
+        return getEntitiesFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * the entities (vertices)
+       * </pre>
+       *
+       * <code>repeated .schema.EntityMeta entities = 1;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder> 
+           getEntitiesBuilderList() {
+        return getEntitiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder> 
+          getEntitiesFieldBuilder() {
+        if (entitiesBuilder_ == null) {
+          entitiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.EntityMetaOrBuilder>(
+                  entities_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entities_ = null;
+        }
+        return entitiesBuilder_;
+      }
+
+      private java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta> relations_ =
+        java.util.Collections.emptyList();
+      private void ensureRelationsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          relations_ = new java.util.ArrayList<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta>(relations_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder> relationsBuilder_;
+
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta> getRelationsList() {
+        if (relationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(relations_);
+        } else {
+          return relationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public int getRelationsCount() {
+        if (relationsBuilder_ == null) {
+          return relations_.size();
+        } else {
+          return relationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta getRelations(int index) {
+        if (relationsBuilder_ == null) {
+          return relations_.get(index);
+        } else {
+          return relationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder setRelations(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta value) {
+        if (relationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRelationsIsMutable();
+          relations_.set(index, value);
+          onChanged();
+        } else {
+          relationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder setRelations(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder builderForValue) {
+        if (relationsBuilder_ == null) {
+          ensureRelationsIsMutable();
+          relations_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          relationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder addRelations(com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta value) {
+        if (relationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRelationsIsMutable();
+          relations_.add(value);
+          onChanged();
+        } else {
+          relationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder addRelations(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta value) {
+        if (relationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRelationsIsMutable();
+          relations_.add(index, value);
+          onChanged();
+        } else {
+          relationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder addRelations(
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder builderForValue) {
+        if (relationsBuilder_ == null) {
+          ensureRelationsIsMutable();
+          relations_.add(builderForValue.build());
+          onChanged();
+        } else {
+          relationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder addRelations(
+          int index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder builderForValue) {
+        if (relationsBuilder_ == null) {
+          ensureRelationsIsMutable();
+          relations_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          relationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder addAllRelations(
+          java.lang.Iterable<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta> values) {
+        if (relationsBuilder_ == null) {
+          ensureRelationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, relations_);
+          onChanged();
+        } else {
+          relationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder clearRelations() {
+        if (relationsBuilder_ == null) {
+          relations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          relationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public Builder removeRelations(int index) {
+        if (relationsBuilder_ == null) {
+          ensureRelationsIsMutable();
+          relations_.remove(index);
+          onChanged();
+        } else {
+          relationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder getRelationsBuilder(
+          int index) {
+        return getRelationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder getRelationsOrBuilder(
+          int index) {
+        if (relationsBuilder_ == null) {
+          return relations_.get(index);  } else {
+          return relationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public java.util.List<? extends com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder> 
+           getRelationsOrBuilderList() {
+        if (relationsBuilder_ != null) {
+          return relationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(relations_);
+        }
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder addRelationsBuilder() {
+        return getRelationsFieldBuilder().addBuilder(
+            com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder addRelationsBuilder(
+          int index) {
+        return getRelationsFieldBuilder().addBuilder(
+            index, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * the relations (edges)
+       * </pre>
+       *
+       * <code>repeated .schema.RelationMeta relations = 2;</code>
+       */
+      public java.util.List<com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder> 
+           getRelationsBuilderList() {
+        return getRelationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder> 
+          getRelationsFieldBuilder() {
+        if (relationsBuilder_ == null) {
+          relationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMeta.Builder, com.alibaba.graphscope.gaia.proto.OuterSchema.RelationMetaOrBuilder>(
+                  relations_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          relations_ = null;
+        }
+        return relationsBuilder_;
+      }
+
+      private boolean isTableId_ ;
+      /**
+       * <pre>
+       * is the table (label)'s name mapped as an id
+       * </pre>
+       *
+       * <code>bool is_table_id = 3;</code>
+       * @return The isTableId.
+       */
+      @java.lang.Override
+      public boolean getIsTableId() {
+        return isTableId_;
+      }
+      /**
+       * <pre>
+       * is the table (label)'s name mapped as an id
+       * </pre>
+       *
+       * <code>bool is_table_id = 3;</code>
+       * @param value The isTableId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsTableId(boolean value) {
+        
+        isTableId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * is the table (label)'s name mapped as an id
+       * </pre>
+       *
+       * <code>bool is_table_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsTableId() {
+        
+        isTableId_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean isColumnId_ ;
+      /**
+       * <pre>
+       * is the column (property)'s name mapped as an id
+       * </pre>
+       *
+       * <code>bool is_column_id = 4;</code>
+       * @return The isColumnId.
+       */
+      @java.lang.Override
+      public boolean getIsColumnId() {
+        return isColumnId_;
+      }
+      /**
+       * <pre>
+       * is the column (property)'s name mapped as an id
+       * </pre>
+       *
+       * <code>bool is_column_id = 4;</code>
+       * @param value The isColumnId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsColumnId(boolean value) {
+        
+        isColumnId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * is the column (property)'s name mapped as an id
+       * </pre>
+       *
+       * <code>bool is_column_id = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsColumnId() {
+        
+        isColumnId_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:schema.Schema)
+    }
+
+    // @@protoc_insertion_point(class_scope:schema.Schema)
+    private static final com.alibaba.graphscope.gaia.proto.OuterSchema.Schema DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.alibaba.graphscope.gaia.proto.OuterSchema.Schema();
+    }
+
+    public static com.alibaba.graphscope.gaia.proto.OuterSchema.Schema getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Schema>
+        PARSER = new com.google.protobuf.AbstractParser<Schema>() {
+      @java.lang.Override
+      public Schema parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Schema(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Schema> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Schema> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.alibaba.graphscope.gaia.proto.OuterSchema.Schema getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_schema_LabelMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_schema_LabelMeta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_schema_ColumnMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_schema_ColumnMeta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_schema_EntityMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_schema_EntityMeta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_schema_RelationMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_schema_RelationMeta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_schema_RelationMeta_LabelPair_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_schema_RelationMeta_LabelPair_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_schema_Schema_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_schema_Schema_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\014schema.proto\022\006schema\032\014common.proto\"%\n\t" +
+      "LabelMeta\022\n\n\002id\030\001 \001(\005\022\014\n\004name\030\002 \001(\t\"i\n\nC" +
+      "olumnMeta\022\036\n\003key\030\001 \001(\0132\021.schema.LabelMet" +
+      "a\022#\n\tdata_type\030\002 \001(\0162\020.common.DataType\022\026" +
+      "\n\016is_primary_key\030\003 \001(\010\"S\n\nEntityMeta\022 \n\005" +
+      "label\030\001 \001(\0132\021.schema.LabelMeta\022#\n\007column" +
+      "s\030\002 \003(\0132\022.schema.ColumnMeta\"\330\001\n\014Relation" +
+      "Meta\022 \n\005label\030\001 \001(\0132\021.schema.LabelMeta\0224" +
+      "\n\014entity_pairs\030\002 \003(\0132\036.schema.RelationMe" +
+      "ta.LabelPair\022#\n\007columns\030\003 \003(\0132\022.schema.C" +
+      "olumnMeta\032K\n\tLabelPair\022\036\n\003src\030\001 \001(\0132\021.sc" +
+      "hema.LabelMeta\022\036\n\003dst\030\002 \001(\0132\021.schema.Lab" +
+      "elMeta\"\202\001\n\006Schema\022$\n\010entities\030\001 \003(\0132\022.sc" +
+      "hema.EntityMeta\022\'\n\trelations\030\002 \003(\0132\024.sch" +
+      "ema.RelationMeta\022\023\n\013is_table_id\030\003 \001(\010\022\024\n" +
+      "\014is_column_id\030\004 \001(\010B0\n!com.alibaba.graph" +
+      "scope.gaia.protoB\013OuterSchemab\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.alibaba.graphscope.gaia.proto.Common.getDescriptor(),
+        });
+    internal_static_schema_LabelMeta_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_schema_LabelMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_schema_LabelMeta_descriptor,
+        new java.lang.String[] { "Id", "Name", });
+    internal_static_schema_ColumnMeta_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_schema_ColumnMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_schema_ColumnMeta_descriptor,
+        new java.lang.String[] { "Key", "DataType", "IsPrimaryKey", });
+    internal_static_schema_EntityMeta_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_schema_EntityMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_schema_EntityMeta_descriptor,
+        new java.lang.String[] { "Label", "Columns", });
+    internal_static_schema_RelationMeta_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_schema_RelationMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_schema_RelationMeta_descriptor,
+        new java.lang.String[] { "Label", "EntityPairs", "Columns", });
+    internal_static_schema_RelationMeta_LabelPair_descriptor =
+      internal_static_schema_RelationMeta_descriptor.getNestedTypes().get(0);
+    internal_static_schema_RelationMeta_LabelPair_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_schema_RelationMeta_LabelPair_descriptor,
+        new java.lang.String[] { "Src", "Dst", });
+    internal_static_schema_Schema_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_schema_Schema_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_schema_Schema_descriptor,
+        new java.lang.String[] { "Entities", "Relations", "IsTableId", "IsColumnId", });
+    com.alibaba.graphscope.gaia.proto.Common.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,434 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.common.cache;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnknownFieldSet;
+
+import java.util.*;
+
+/**
+ * Locations of the constants of a query template in a serialized physical plan, which are used to
+ * bind new constants into a plan compiled before.
+ *
+ * <p>A binding is learned by comparing two plans compiled from the same template with different
+ * constants, a constant is located where the two plans differ in exactly the encoded value of it.
+ * The plans are treated as raw protobuf, the nested messages (including the operator resources of a
+ * job which are serialized plans themselves) are only parsed along the differing paths.
+ */
+public class PlanBinding {
+    // how a constant is encoded in the plan
+    enum Encoding {
+        VARINT,
+        FIXED32_INT,
+        FIXED32_FLOAT,
+        FIXED64_LONG,
+        FIXED64_DOUBLE,
+        STRING
+    }
+
+    private static final Encoding[] VARINT_ENCODINGS = {Encoding.VARINT};
+    private static final Encoding[] FIXED32_ENCODINGS = {
+        Encoding.FIXED32_INT, Encoding.FIXED32_FLOAT
+    };
+    private static final Encoding[] FIXED64_ENCODINGS = {
+        Encoding.FIXED64_LONG, Encoding.FIXED64_DOUBLE
+    };
+    private static final Encoding[] STRING_ENCODINGS = {Encoding.STRING};
+
+    private final Set<Slot> slots;
+    private final BitSet located;
+
+    private PlanBinding(Set<Slot> slots) {
+        this.slots = Collections.unmodifiableSet(slots);
+        this.located = new BitSet();
+        slots.forEach(k -> located.set(k.constIdx));
+    }
+
+    /**
+     * @return the binding learned from two plans of the same template, or null if the plans differ
+     *     in somewhere which can not be explained by the constants, or any changed constant is not
+     *     located
+     */
+    public static PlanBinding learn(
+            byte[] refPlan, List<Object> refConstants, byte[] plan, List<Object> constants) {
+        if (refConstants.size() != constants.size()) {
+            return null;
+        }
+        Set<Slot> slots = new LinkedHashSet<>();
+        boolean explained =
+                diff(
+                        ByteString.copyFrom(refPlan),
+                        ByteString.copyFrom(plan),
+                        new int[0],
+                        refConstants,
+                        constants,
+                        slots);
+        if (!explained || slots.isEmpty()) {
+            return null;
+        }
+        PlanBinding binding = new PlanBinding(slots);
+        // a changed constant may decide the other values in the plan which happen to be explained
+        // by the located ones, i.e. a label id equals to an integer constant, never learn from it
+        for (int i = 0; i < constants.size(); ++i) {
+            if (!binding.located.get(i) && !Objects.equals(refConstants.get(i), constants.get(i))) {
+                return null;
+            }
+        }
+        return binding;
+    }
+
+    public PlanBinding merge(PlanBinding other) {
+        Set<Slot> merged = new LinkedHashSet<>(slots);
+        merged.addAll(other.slots);
+        return new PlanBinding(merged);
+    }
+
+    /**
+     * Bind the constants into the plan compiled with the reference constants.
+     *
+     * @return the bound plan, or null if any changed constant is not located in the plan
+     */
+    public byte[] bind(byte[] refPlan, List<Object> refConstants, List<Object> constants) {
+        if (refConstants.size() != constants.size()) {
+            return null;
+        }
+        for (int i = 0; i < constants.size(); ++i) {
+            if (!located.get(i) && !Objects.equals(refConstants.get(i), constants.get(i))) {
+                return null;
+            }
+        }
+        for (Slot slot : slots) {
+            if (encode(constants.get(slot.constIdx), slot.encoding) == null) {
+                return null;
+            }
+        }
+        ByteString bound =
+                rewrite(ByteString.copyFrom(refPlan), new ArrayList<>(slots), 0, constants);
+        return (bound == null) ? null : bound.toByteArray();
+    }
+
+    public int getSlotCount() {
+        return slots.size();
+    }
+
+    private static boolean diff(
+            ByteString a,
+            ByteString b,
+            int[] path,
+            List<Object> constsA,
+            List<Object> constsB,
+            Set<Slot> slots) {
+        UnknownFieldSet setA, setB;
+        try {
+            setA = UnknownFieldSet.parseFrom(a);
+            setB = UnknownFieldSet.parseFrom(b);
+        } catch (InvalidProtocolBufferException e) {
+            return false;
+        }
+        Map<Integer, UnknownFieldSet.Field> mapA = setA.asMap();
+        Map<Integer, UnknownFieldSet.Field> mapB = setB.asMap();
+        if (!mapA.keySet().equals(mapB.keySet())) {
+            return false;
+        }
+        for (Map.Entry<Integer, UnknownFieldSet.Field> entry : mapA.entrySet()) {
+            int number = entry.getKey();
+            UnknownFieldSet.Field fieldA = entry.getValue();
+            UnknownFieldSet.Field fieldB = mapB.get(number);
+            if (!fieldA.getGroupList().equals(fieldB.getGroupList())
+                    || !diffValues(
+                            fieldA.getVarintList(),
+                            fieldB.getVarintList(),
+                            VARINT_ENCODINGS,
+                            path,
+                            number,
+                            constsA,
+                            constsB,
+                            slots)
+                    || !diffValues(
+                            fieldA.getFixed32List(),
+                            fieldB.getFixed32List(),
+                            FIXED32_ENCODINGS,
+                            path,
+                            number,
+                            constsA,
+                            constsB,
+                            slots)
+                    || !diffValues(
+                            fieldA.getFixed64List(),
+                            fieldB.getFixed64List(),
+                            FIXED64_ENCODINGS,
+                            path,
+                            number,
+                            constsA,
+                            constsB,
+                            slots)) {
+                return false;
+            }
+            List<ByteString> bytesA = fieldA.getLengthDelimitedList();
+            List<ByteString> bytesB = fieldB.getLengthDelimitedList();
+            if (bytesA.size() != bytesB.size()) {
+                return false;
+            }
+            for (int i = 0; i < bytesA.size(); ++i) {
+                if (bytesA.get(i).equals(bytesB.get(i))) {
+                    continue;
+                }
+                int[] valuePath = append(path, number, i);
+                Slot slot =
+                        locate(
+                                bytesA.get(i),
+                                bytesB.get(i),
+                                STRING_ENCODINGS,
+                                valuePath,
+                                constsA,
+                                constsB);
+                if (slot != null) {
+                    slots.add(slot);
+                } else if (!diff(
+                        bytesA.get(i), bytesB.get(i), valuePath, constsA, constsB, slots)) {
+                    // neither a constant nor a nested message
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean diffValues(
+            List<?> valuesA,
+            List<?> valuesB,
+            Encoding[] encodings,
+            int[] path,
+            int number,
+            List<Object> constsA,
+            List<Object> constsB,
+            Set<Slot> slots) {
+        if (valuesA.size() != valuesB.size()) {
+            return false;
+        }
+        for (int i = 0; i < valuesA.size(); ++i) {
+            if (valuesA.get(i).equals(valuesB.get(i))) {
+                continue;
+            }
+            Slot slot =
+                    locate(
+                            valuesA.get(i),
+                            valuesB.get(i),
+                            encodings,
+                            append(path, number, i),
+                            constsA,
+                            constsB);
+            if (slot == null) {
+                return false;
+            }
+            slots.add(slot);
+        }
+        return true;
+    }
+
+    // find the only constant which is encoded as valueA in one plan and valueB in the other
+    private static Slot locate(
+            Object valueA,
+            Object valueB,
+            Encoding[] encodings,
+            int[] path,
+            List<Object> constsA,
+            List<Object> constsB) {
+        Slot found = null;
+        for (Encoding encoding : encodings) {
+            for (int i = 0; i < constsA.size(); ++i) {
+                if (valueA.equals(encode(constsA.get(i), encoding))
+                        && valueB.equals(encode(constsB.get(i), encoding))) {
+                    if (found != null) {
+                        // ambiguous
+                        return null;
+                    }
+                    found = new Slot(path, encoding, i);
+                }
+            }
+        }
+        return found;
+    }
+
+    private static ByteString rewrite(
+            ByteString bytes, List<Slot> slots, int depth, List<Object> constants) {
+        UnknownFieldSet set;
+        try {
+            set = UnknownFieldSet.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            return null;
+        }
+        Map<Integer, List<Slot>> slotsByNumber = new TreeMap<>();
+        slots.forEach(
+                k -> slotsByNumber.computeIfAbsent(k.number(depth), n -> new ArrayList<>()).add(k));
+        UnknownFieldSet.Builder builder = UnknownFieldSet.newBuilder(set);
+        for (Map.Entry<Integer, List<Slot>> entry : slotsByNumber.entrySet()) {
+            int number = entry.getKey();
+            if (!set.hasField(number)) {
+                return null;
+            }
+            UnknownFieldSet.Field field = set.getField(number);
+            List<Long> varints = new ArrayList<>(field.getVarintList());
+            List<Integer> fixed32s = new ArrayList<>(field.getFixed32List());
+            List<Long> fixed64s = new ArrayList<>(field.getFixed64List());
+            List<ByteString> lengthDelimiteds = new ArrayList<>(field.getLengthDelimitedList());
+            Map<Integer, List<Slot>> nestedSlots = new TreeMap<>();
+            for (Slot slot : entry.getValue()) {
+                int index = slot.index(depth);
+                if (!slot.isLeaf(depth)) {
+                    nestedSlots.computeIfAbsent(index, i -> new ArrayList<>()).add(slot);
+                    continue;
+                }
+                Object value = encode(constants.get(slot.constIdx), slot.encoding);
+                if (!set(varints, fixed32s, fixed64s, lengthDelimiteds, slot, index, value)) {
+                    return null;
+                }
+            }
+            for (Map.Entry<Integer, List<Slot>> nested : nestedSlots.entrySet()) {
+                int index = nested.getKey();
+                if (index >= lengthDelimiteds.size()) {
+                    return null;
+                }
+                ByteString rewritten =
+                        rewrite(
+                                lengthDelimiteds.get(index),
+                                nested.getValue(),
+                                depth + 1,
+                                constants);
+                if (rewritten == null) {
+                    return null;
+                }
+                lengthDelimiteds.set(index, rewritten);
+            }
+            UnknownFieldSet.Field.Builder fieldBuilder = UnknownFieldSet.Field.newBuilder();
+            varints.forEach(fieldBuilder::addVarint);
+            fixed32s.forEach(fieldBuilder::addFixed32);
+            fixed64s.forEach(fieldBuilder::addFixed64);
+            lengthDelimiteds.forEach(fieldBuilder::addLengthDelimited);
+            field.getGroupList().forEach(fieldBuilder::addGroup);
+            builder.addField(number, fieldBuilder.build());
+        }
+        return builder.build().toByteString();
+    }
+
+    private static boolean set(
+            List<Long> varints,
+            List<Integer> fixed32s,
+            List<Long> fixed64s,
+            List<ByteString> lengthDelimiteds,
+            Slot slot,
+            int index,
+            Object value) {
+        List values;
+        switch (slot.encoding) {
+            case VARINT:
+                values = varints;
+                break;
+            case FIXED32_INT:
+            case FIXED32_FLOAT:
+                values = fixed32s;
+                break;
+            case FIXED64_LONG:
+            case FIXED64_DOUBLE:
+                values = fixed64s;
+                break;
+            default:
+                values = lengthDelimiteds;
+        }
+        if (index >= values.size()) {
+            return false;
+        }
+        values.set(index, value);
+        return true;
+    }
+
+    // encode the constant as the value in the UnknownFieldSet, or null if the type mismatches
+    static Object encode(Object constant, Encoding encoding) {
+        boolean integral = (constant instanceof Integer || constant instanceof Long);
+        switch (encoding) {
+            case VARINT:
+            case FIXED64_LONG:
+                return integral ? ((Number) constant).longValue() : null;
+            case FIXED32_INT:
+                return integral ? ((Number) constant).intValue() : null;
+            case FIXED32_FLOAT:
+                return (constant instanceof Number)
+                        ? Float.floatToIntBits(((Number) constant).floatValue())
+                        : null;
+            case FIXED64_DOUBLE:
+                return (constant instanceof Number)
+                        ? Double.doubleToLongBits(((Number) constant).doubleValue())
+                        : null;
+            case STRING:
+                return (constant instanceof String)
+                        ? ByteString.copyFromUtf8((String) constant)
+                        : null;
+            default:
+                return null;
+        }
+    }
+
+    private static int[] append(int[] path, int number, int index) {
+        int[] newPath = Arrays.copyOf(path, path.length + 2);
+        newPath[path.length] = number;
+        newPath[path.length + 1] = index;
+        return newPath;
+    }
+
+    // a constant encoded in a field of the plan
+    static class Slot {
+        // pairs of field number and value index, from the outermost message to the constant
+        private final int[] path;
+        private final Encoding encoding;
+        private final int constIdx;
+
+        Slot(int[] path, Encoding encoding, int constIdx) {
+            this.path = path;
+            this.encoding = encoding;
+            this.constIdx = constIdx;
+        }
+
+        int number(int depth) {
+            return path[depth * 2];
+        }
+
+        int index(int depth) {
+            return path[depth * 2 + 1];
+        }
+
+        boolean isLeaf(int depth) {
+            return path.length == depth * 2 + 2;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Slot slot = (Slot) o;
+            return constIdx == slot.constIdx
+                    && encoding == slot.encoding
+                    && Arrays.equals(path, slot.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(path), encoding, constIdx);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.common.cache;
+
+import java.util.*;
+
+/**
+ * A bounded LRU cache of physical plans, keyed by the query template and the schema version.
+ *
+ * <p>Each entry keeps the plan compiled with the first seen constants of the template. Once a plan
+ * of the same template is compiled with different constants, the {@link PlanBinding} learned from
+ * the two plans is used to serve the template with any constants, as long as all the changed
+ * constants are located in the plan. A binding is only adopted if it reproduces the compiled plan.
+ *
+ * @param <T> extra compiled artifact stored along with the plan, i.e. the result parser
+ */
+public class PlanCache<T> {
+    private final int maxSize;
+    private final Map<Key, Entry<T>> entries;
+
+    public PlanCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries =
+                new LinkedHashMap<Key, Entry<T>>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Key, Entry<T>> eldest) {
+                        return size() > PlanCache.this.maxSize;
+                    }
+                };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @return the plan bound with the constants, or null if the template is not cached or the
+     *     constants can not be bound
+     */
+    public CachedPlan<T> get(String template, long schemaVersion, List<Object> constants) {
+        Entry<T> entry;
+        synchronized (entries) {
+            entry = entries.get(new Key(template, schemaVersion));
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (entry.refConstants.equals(constants)) {
+            return new CachedPlan<>(entry.refPlan, entry.attachment);
+        }
+        PlanBinding binding = entry.binding;
+        if (binding == null) {
+            return null;
+        }
+        byte[] plan = binding.bind(entry.refPlan, entry.refConstants, constants);
+        return (plan == null) ? null : new CachedPlan<>(plan, entry.attachment);
+    }
+
+    // add the plan compiled on a miss, or learn the binding from it if the template is cached
+    public void put(
+            String template,
+            long schemaVersion,
+            List<Object> constants,
+            byte[] plan,
+            T attachment) {
+        if (!isEnabled()) {
+            return;
+        }
+        Key key = new Key(template, schemaVersion);
+        Entry<T> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null) {
+                entries.put(key, new Entry<>(new ArrayList<>(constants), plan, attachment));
+                return;
+            }
+        }
+        entry.learn(constants, plan);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public static class CachedPlan<T> {
+        private final byte[] physicalPlan;
+        private final T attachment;
+
+        public CachedPlan(byte[] physicalPlan, T attachment) {
+            this.physicalPlan = physicalPlan;
+            this.attachment = attachment;
+        }
+
+        public byte[] getPhysicalPlan() {
+            return physicalPlan;
+        }
+
+        public T getAttachment() {
+            return attachment;
+        }
+    }
+
+    private static class Entry<T> {
+        private final List<Object> refConstants;
+        private final byte[] refPlan;
+        private final T attachment;
+        private volatile PlanBinding binding;
+
+        public Entry(List<Object> refConstants, byte[] refPlan, T attachment) {
+            this.refConstants = refConstants;
+            this.refPlan = refPlan;
+            this.attachment = attachment;
+        }
+
+        public synchronized void learn(List<Object> constants, byte[] plan) {
+            if (refConstants.equals(constants)) {
+                return;
+            }
+            PlanBinding learned = PlanBinding.learn(refPlan, refConstants, plan, constants);
+            if (learned == null) {
+                return;
+            }
+            PlanBinding merged = (binding == null) ? learned : binding.merge(learned);
+            // the binding must reproduce the compiled plan, compare in the same serialized form
+            byte[] bound = merged.bind(refPlan, refConstants, constants);
+            byte[] expected = merged.bind(plan, constants, constants);
+            if (bound != null && expected != null && Arrays.equals(bound, expected)) {
+                binding = merged;
+            }
+        }
+    }
+
+    private static class Key {
+        private final String template;
+        private final long schemaVersion;
+
+        public Key(String template, long schemaVersion) {
+            this.template = template;
+            this.schemaVersion = schemaVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return schemaVersion == key.schemaVersion && template.equals(key.template);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(template, schemaVersion);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.graphscope.common.client;
 
+import com.alibaba.pegasus.RpcChannel;
 import com.alibaba.pegasus.RpcClient;
 import com.alibaba.pegasus.intf.CloseableIterator;
 import com.alibaba.pegasus.intf.ResultProcessor;
@@ -27,27 +28,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.List;
 
 public class RpcBroadcastProcessor implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger(RpcBroadcastProcessor.class);
 
     protected RpcClient rpcClient;
+    protected List<RpcChannel> rpcChannels;
     protected RpcChannelFetcher fetcher;
 
     public RpcBroadcastProcessor(RpcChannelFetcher fetcher) {
         this.fetcher = fetcher;
         if (!fetcher.isDynamic()) {
-            this.rpcClient = new RpcClient(fetcher.fetch());
+            this.rpcChannels = fetcher.fetch();
+            this.rpcClient = new RpcClient(this.rpcChannels);
         }
     }
 
     public void broadcast(PegasusClient.JobRequest request, ResultProcessor processor) {
         CloseableIterator<PegasusClient.JobResponse> iterator = null;
         try {
-            if (fetcher.isDynamic()) {
-                this.rpcClient = new RpcClient(fetcher.fetch());
-            }
-            iterator = rpcClient.submit(request);
+            RpcClient client = fetcher.isDynamic() ? getDynamicClient() : this.rpcClient;
+            iterator = client.submit(request);
             // process response
             while (iterator.hasNext()) {
                 PegasusClient.JobResponse response = iterator.next();
@@ -68,8 +70,36 @@ public class RpcBroadcastProcessor implements AutoCloseable {
         }
     }
 
+    // the dynamic channels are owned by the fetcher, the client is rebuilt only if they change
+    private synchronized RpcClient getDynamicClient() {
+        List<RpcChannel> channels = fetcher.fetch();
+        if (this.rpcClient == null || !isSameChannels(channels, this.rpcChannels)) {
+            this.rpcChannels = channels;
+            this.rpcClient = new RpcClient(channels);
+        }
+        return this.rpcClient;
+    }
+
+    private boolean isSameChannels(List<RpcChannel> channels, List<RpcChannel> others) {
+        if (channels.size() != others.size()) {
+            return false;
+        }
+        for (int i = 0; i < channels.size(); ++i) {
+            if (channels.get(i).getChannel() != others.get(i).getChannel()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void close() throws Exception {
-        this.rpcClient.shutdown();
+        if (fetcher.isDynamic()) {
+            if (fetcher instanceof AutoCloseable) {
+                ((AutoCloseable) fetcher).close();
+            }
+        } else {
+            this.rpcClient.shutdown();
+        }
     }
 }
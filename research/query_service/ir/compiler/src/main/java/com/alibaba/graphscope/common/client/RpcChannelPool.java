@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.common.client;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import com.alibaba.pegasus.RpcChannel;
+import com.codahale.metrics.Counter;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Channels to a dynamic set of servers, i.e. the executors discovered in k8s. Each {@link
+ * #update(List)} diffs the fetched addresses against the live channels: channels of the unchanged
+ * addresses are reused as long as they are healthy, channels of the removed addresses (or the
+ * unhealthy ones) are drained, which means no new job is submitted to them while the running jobs
+ * are allowed to finish in {@code drainTimeoutMs}.
+ */
+public class RpcChannelPool implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(RpcChannelPool.class);
+
+    private static final Counter activeCounter =
+            MetricManager.INSTANCE.getCounter(name(RpcChannelPool.class, "channels", "active"));
+    private static final Counter drainingCounter =
+            MetricManager.INSTANCE.getCounter(name(RpcChannelPool.class, "channels", "draining"));
+    private static final Counter createdCounter =
+            MetricManager.INSTANCE.getCounter(name(RpcChannelPool.class, "channels", "created"));
+    private static final Counter reusedCounter =
+            MetricManager.INSTANCE.getCounter(name(RpcChannelPool.class, "channels", "reused"));
+
+    private final long drainTimeoutMs;
+    // address -> channel, in the order of the last update
+    private Map<String, RpcChannel> channels = new LinkedHashMap<>();
+    private final List<Draining> drainings = new ArrayList<>();
+    private boolean closed = false;
+
+    public RpcChannelPool(long drainTimeoutMs) {
+        this.drainTimeoutMs = drainTimeoutMs;
+    }
+
+    /**
+     * @param addresses in the format of host:port
+     * @return the channels of the addresses, in the same order
+     */
+    public synchronized List<RpcChannel> update(List<String> addresses) {
+        if (closed) {
+            throw new IllegalStateException("channel pool is closed");
+        }
+        Map<String, RpcChannel> updated = new LinkedHashMap<>();
+        for (String address : addresses) {
+            if (updated.containsKey(address)) {
+                continue;
+            }
+            RpcChannel channel = channels.remove(address);
+            if (channel != null && isHealthy(channel.getChannel())) {
+                reusedCounter.inc();
+            } else {
+                if (channel != null) {
+                    logger.warn("channel to {} is unhealthy, reconnect", address);
+                    drain(channel);
+                }
+                channel = createChannel(address);
+                activeCounter.inc();
+                createdCounter.inc();
+            }
+            updated.put(address, channel);
+        }
+        // the left channels are removed from the servers
+        channels.forEach(
+                (address, channel) -> {
+                    logger.info("server {} is removed, drain the channel", address);
+                    drain(channel);
+                });
+        channels = updated;
+        sweepDrainings();
+        return new ArrayList<>(updated.values());
+    }
+
+    public synchronized int getActiveCount() {
+        return channels.size();
+    }
+
+    public synchronized int getDrainingCount() {
+        sweepDrainings();
+        return drainings.size();
+    }
+
+    @Override
+    public synchronized void close() throws Exception {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (RpcChannel channel : channels.values()) {
+            channel.shutdown();
+        }
+        activeCounter.dec(channels.size());
+        channels.clear();
+        for (Draining draining : drainings) {
+            draining.channel.shutdownNow();
+        }
+        drainingCounter.dec(drainings.size());
+        drainings.clear();
+    }
+
+    protected RpcChannel createChannel(String address) {
+        int split = address.lastIndexOf(':');
+        if (split <= 0) {
+            throw new IllegalArgumentException("invalid address " + address);
+        }
+        String host = address.substring(0, split);
+        int port = Integer.parseInt(address.substring(split + 1));
+        return new RpcChannel(host, port);
+    }
+
+    // a channel in transient failure is replaced to resolve the address again
+    private boolean isHealthy(ManagedChannel channel) {
+        if (channel.isShutdown()) {
+            return false;
+        }
+        ConnectivityState state = channel.getState(false);
+        return state != ConnectivityState.TRANSIENT_FAILURE && state != ConnectivityState.SHUTDOWN;
+    }
+
+    // the running calls are not affected by shutdown, the new ones are rejected
+    private void drain(RpcChannel channel) {
+        activeCounter.dec();
+        ManagedChannel managedChannel = channel.getChannel();
+        managedChannel.shutdown();
+        drainings.add(
+                new Draining(managedChannel, System.currentTimeMillis() + this.drainTimeoutMs));
+        drainingCounter.inc();
+    }
+
+    private void sweepDrainings() {
+        long now = System.currentTimeMillis();
+        Iterator<Draining> iterator = drainings.iterator();
+        while (iterator.hasNext()) {
+            Draining draining = iterator.next();
+            if (!draining.channel.isTerminated() && now < draining.deadline) {
+                continue;
+            }
+            if (!draining.channel.isTerminated()) {
+                logger.warn("channel {} is not drained in time, force close", draining.channel);
+                draining.channel.shutdownNow();
+            }
+            iterator.remove();
+            drainingCounter.dec();
+        }
+    }
+
+    private static class Draining {
+        private final ManagedChannel channel;
+        private final long deadline;
+
+        public Draining(ManagedChannel channel, long deadline) {
+            this.channel = channel;
+            this.deadline = deadline;
+        }
+    }
+}
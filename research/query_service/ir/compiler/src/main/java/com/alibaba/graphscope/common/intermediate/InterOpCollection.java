@@ -24,6 +24,7 @@ import com.alibaba.graphscope.common.intermediate.process.InterOpProcessor;
 import com.alibaba.graphscope.common.intermediate.process.SinkOutputProcessor;
 import com.alibaba.graphscope.common.intermediate.strategy.ElementFusionStrategy;
 import com.alibaba.graphscope.common.intermediate.strategy.InterOpStrategy;
+import com.alibaba.graphscope.common.intermediate.strategy.LimitPushDownStrategy;
 import com.alibaba.graphscope.common.intermediate.strategy.TopKStrategy;
 
 import org.apache.commons.collections.list.UnmodifiableList;
@@ -37,7 +38,10 @@ import java.util.Optional;
 public class InterOpCollection {
     private List<InterOpBase> opCollection;
     private static List<InterOpStrategy> strategies =
-            Arrays.asList(TopKStrategy.INSTANCE, ElementFusionStrategy.INSTANCE);
+            Arrays.asList(
+                    TopKStrategy.INSTANCE,
+                    ElementFusionStrategy.INSTANCE,
+                    LimitPushDownStrategy.INSTANCE);
     private static List<InterOpProcessor> processors = Arrays.asList(SinkOutputProcessor.INSTANCE);
 
     public InterOpCollection() {
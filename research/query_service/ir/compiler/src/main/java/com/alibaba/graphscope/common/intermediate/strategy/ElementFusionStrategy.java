@@ -21,7 +21,9 @@ import com.alibaba.graphscope.common.intermediate.operator.*;
 
 import java.util.List;
 
-// fuse ExpandOp + SelectOp, GetVOp + SelectOp
+// fuse ExpandOp + SelectOp, GetVOp + SelectOp, the consecutive selects are all fused into the
+// params of the element. PathExpandOp is excluded as its params are applied to each hop, while the
+// following selects only filter the end of the path.
 public class ElementFusionStrategy implements InterOpStrategy {
     public static ElementFusionStrategy INSTANCE = new ElementFusionStrategy();
 
@@ -31,19 +33,21 @@ public class ElementFusionStrategy implements InterOpStrategy {
     public void apply(InterOpCollection opCollection) {
         List<InterOpBase> original = opCollection.unmodifiableCollection();
         for (int i = original.size() - 2; i >= 0; --i) {
-            InterOpBase cur = original.get(i), next = original.get(i + 1);
-            if (next instanceof SelectOp
-                    && ((SelectOp) next).getType() == SelectOp.FilterType.HAS
-                    && (cur instanceof ExpandOp || cur instanceof GetVOp)) {
-                QueryParams params =
-                        (cur instanceof ExpandOp)
-                                ? ((ExpandOp) cur).getParams().get()
-                                : ((GetVOp) cur).getParams().get();
-                String fuse = fusePredicates(params, (SelectOp) next);
+            InterOpBase cur = original.get(i);
+            if (!isElementOp(cur)) {
+                continue;
+            }
+            QueryParams params =
+                    (cur instanceof ExpandOp)
+                            ? ((ExpandOp) cur).getParams().get()
+                            : ((GetVOp) cur).getParams().get();
+            while (i + 1 < original.size() && isFusible(cur, original.get(i + 1))) {
+                SelectOp next = (SelectOp) original.get(i + 1);
+                String fuse = fusePredicates(params, next);
                 if (fuse != null && !fuse.isEmpty()) {
                     params.setPredicate(fuse);
                 }
-                if (!cur.getAlias().isPresent() && next.getAlias().isPresent()) {
+                if (next.getAlias().isPresent()) {
                     cur.setAlias(next.getAlias().get());
                 }
                 opCollection.removeInterOp(i + 1);
@@ -51,6 +55,17 @@ public class ElementFusionStrategy implements InterOpStrategy {
         }
     }
 
+    private boolean isElementOp(InterOpBase op) {
+        return (op instanceof ExpandOp && !(op instanceof PathExpandOp)) || op instanceof GetVOp;
+    }
+
+    // the alias of the element can't be changed by the select
+    private boolean isFusible(InterOpBase cur, InterOpBase next) {
+        return next instanceof SelectOp
+                && ((SelectOp) next).getType() == SelectOp.FilterType.HAS
+                && !(cur.getAlias().isPresent() && next.getAlias().isPresent());
+    }
+
     private String fusePredicates(QueryParams params, SelectOp selectOp) {
         String p1 = params.getPredicate().isPresent() ? params.getPredicate().get() : null;
         String p2 =
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.common.intermediate.strategy;
+
+import com.alibaba.graphscope.common.intermediate.InterOpCollection;
+import com.alibaba.graphscope.common.intermediate.operator.*;
+
+import org.javatuples.Pair;
+
+import java.util.List;
+import java.util.Optional;
+
+// push the limit down to the range of the preceding ExpandOp, i.e. out().limit(10) expands at most
+// 10 neighbors of each vertex, the limit itself is kept to bound the total. The store may apply the
+// range before the predicate (i.e. gs_store reads the limited neighbors then filters them), thus
+// an ExpandOp with predicate, which may be fused from the following has() by
+// ElementFusionStrategy, is skipped. A GetVOp without filter in between produces at least one
+// vertex of each edge, thus the limit is pushed through it. PathExpandOp is excluded as its params
+// are applied to each hop, which prunes the paths through the neighbors out of the range.
+public class LimitPushDownStrategy implements InterOpStrategy {
+    public static LimitPushDownStrategy INSTANCE = new LimitPushDownStrategy();
+
+    private LimitPushDownStrategy() {}
+
+    @Override
+    public void apply(InterOpCollection opCollection) {
+        List<InterOpBase> original = opCollection.unmodifiableCollection();
+        for (int i = original.size() - 1; i > 0; --i) {
+            InterOpBase cur = original.get(i);
+            if (!(cur instanceof LimitOp)) {
+                continue;
+            }
+            ExpandOp expand = prevExpand(original, i);
+            Integer upper = (Integer) ((LimitOp) cur).getUpper().get().applyArg();
+            if (expand != null && upper > 0) {
+                QueryParams params = expand.getParams().get();
+                if (!params.getRange().isPresent() && !params.getPredicate().isPresent()) {
+                    params.setRange(Pair.with(1, upper));
+                }
+            }
+        }
+    }
+
+    // return ExpandOp if prev is, or prev is a GetVOp without filter following the ExpandOp,
+    // otherwise null
+    private ExpandOp prevExpand(List<InterOpBase> original, int cur) {
+        int prev = cur - 1;
+        if (prev >= 0 && original.get(prev) instanceof GetVOp) {
+            Optional<QueryParams> params = ((GetVOp) original.get(prev)).getParams();
+            if (params.isPresent()
+                    && (params.get().getPredicate().isPresent()
+                            || !params.get().getTables().isEmpty())) {
+                return null;
+            }
+            --prev;
+        }
+        if (prev >= 0
+                && original.get(prev) instanceof ExpandOp
+                && !(original.get(prev) instanceof PathExpandOp)
+                && ((ExpandOp) original.get(prev)).getParams().isPresent()) {
+            return (ExpandOp) original.get(prev);
+        }
+        return null;
+    }
+}
@@ -19,19 +19,37 @@ package com.alibaba.graphscope.common.store;
 public class IrMeta {
     private long snapshotId;
     private String schema;
+    private long schemaVersion;
     private boolean acquireSnapshot;
 
     public IrMeta(String schema) {
         this.schema = schema;
+        this.schemaVersion = contentVersion(schema);
         this.acquireSnapshot = false;
     }
 
     public IrMeta(String schema, long snapshotId) {
+        this(schema, snapshotId, contentVersion(schema));
+    }
+
+    public IrMeta(String schema, long snapshotId, long schemaVersion) {
         this.schema = schema;
         this.snapshotId = snapshotId;
+        this.schemaVersion = schemaVersion;
         this.acquireSnapshot = true;
     }
 
+    // derive a version from the schema content if the store does not provide one
+    private static long contentVersion(String schema) {
+        // 64-bit FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < schema.length(); ++i) {
+            hash ^= schema.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
     public long getSnapshotId() {
         return snapshotId;
     }
@@ -40,6 +58,11 @@ public class IrMeta {
         return schema;
     }
 
+    // plans compiled against the same schema version are interchangeable
+    public long getSchemaVersion() {
+        return schemaVersion;
+    }
+
     public boolean isAcquireSnapshot() {
         return acquireSnapshot;
     }
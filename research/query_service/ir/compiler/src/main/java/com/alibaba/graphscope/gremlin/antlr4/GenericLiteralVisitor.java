@@ -182,7 +182,14 @@ public class GenericLiteralVisitor extends GremlinGSBaseVisitor<Object> {
      */
     @Override
     public Object visitIntegerLiteral(final GremlinGSParser.IntegerLiteralContext ctx) {
-        String integerLiteral = ctx.getText().toLowerCase().replace("_", "");
+        return parseIntegerLiteral(ctx.getText());
+    }
+
+    /**
+     * Parse the text of an integer literal token
+     */
+    public static Object parseIntegerLiteral(final String text) {
+        String integerLiteral = text.toLowerCase().replace("_", "");
         // handle suffix: L/l
         final int lastCharIndex = integerLiteral.length() - 1;
         if (integerLiteral.charAt(lastCharIndex) == 'l') {
@@ -236,7 +243,14 @@ public class GenericLiteralVisitor extends GremlinGSBaseVisitor<Object> {
      */
     @Override
     public Object visitFloatLiteral(final GremlinGSParser.FloatLiteralContext ctx) {
-        final String floatLiteral = ctx.getText().toLowerCase();
+        return parseFloatLiteral(ctx.getText());
+    }
+
+    /**
+     * Parse the text of a float literal token
+     */
+    public static Object parseFloatLiteral(final String text) {
+        final String floatLiteral = text.toLowerCase();
 
         // check suffix
         final char lastCharacter = floatLiteral.charAt(floatLiteral.length() - 1);
@@ -247,7 +261,7 @@ public class GenericLiteralVisitor extends GremlinGSBaseVisitor<Object> {
 
         if (lastCharacter == 'f') {
             // parse F/f suffix as Float
-            return new Float(ctx.getText());
+            return new Float(text);
         } else {
             // parse D/d suffix as Double
             return new Double(floatLiteral);
@@ -267,11 +281,18 @@ public class GenericLiteralVisitor extends GremlinGSBaseVisitor<Object> {
      */
     @Override
     public Object visitStringLiteral(final GremlinGSParser.StringLiteralContext ctx) {
+        return parseStringLiteral(ctx.getText());
+    }
+
+    /**
+     * Parse the text of a non-empty string literal token
+     */
+    public static String parseStringLiteral(final String text) {
         // Using Java string unescaping because it coincides with the Groovy rules:
         // https://docs.oracle.com/javase/tutorial/java/data/characters.html
         // http://groovy-lang.org/syntax.html#_escaping_special_characters
 
-        return StringEscapeUtils.unescapeJava(stripQuotes(ctx.getText()));
+        return StringEscapeUtils.unescapeJava(stripQuotes(text));
     }
 
     /**
@@ -60,6 +60,12 @@ public class GremlinTestResultProcessor extends GremlinResultProcessor {
         }
     }
 
+    // the test properties are formatted on finish
+    @Override
+    protected boolean isStreaming() {
+        return false;
+    }
+
     @Override
     protected void formatResultIfNeed() {
         super.formatResultIfNeed();
@@ -25,10 +25,14 @@
 
 package com.alibaba.graphscope.gremlin.plugin.processor;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 import com.alibaba.graphscope.common.IrPlan;
+import com.alibaba.graphscope.common.cache.PlanCache;
 import com.alibaba.graphscope.common.client.*;
 import com.alibaba.graphscope.common.config.Configs;
 import com.alibaba.graphscope.common.config.PegasusConfig;
+import com.alibaba.graphscope.common.config.PlanCacheConfig;
 import com.alibaba.graphscope.common.intermediate.InterOpCollection;
 import com.alibaba.graphscope.common.manager.IrMetaQueryCallback;
 import com.alibaba.graphscope.common.store.IrMeta;
@@ -36,12 +40,16 @@ import com.alibaba.graphscope.common.store.IrMetaFetcher;
 import com.alibaba.graphscope.gremlin.InterOpCollectionBuilder;
 import com.alibaba.graphscope.gremlin.Utils;
 import com.alibaba.graphscope.gremlin.plugin.script.AntlrToJavaScriptEngineFactory;
+import com.alibaba.graphscope.gremlin.plugin.script.QueryTemplate;
 import com.alibaba.graphscope.gremlin.plugin.strategy.RemoveUselessStepStrategy;
 import com.alibaba.graphscope.gremlin.plugin.strategy.ScanFusionStepStrategy;
 import com.alibaba.graphscope.gremlin.result.GremlinResultAnalyzer;
+import com.alibaba.graphscope.gremlin.result.GremlinResultParser;
 import com.alibaba.graphscope.gremlin.result.GremlinResultProcessor;
 import com.alibaba.pegasus.intf.ResultProcessor;
 import com.alibaba.pegasus.service.protocol.PegasusClient;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
@@ -60,6 +68,7 @@ import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
 import org.apache.tinkerpop.gremlin.server.op.standard.StandardOpProcessor;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
 import org.slf4j.Logger;
@@ -68,8 +77,13 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -85,6 +99,15 @@ public class IrStandardOpProcessor extends StandardOpProcessor {
     protected RpcBroadcastProcessor broadcastProcessor;
     protected IrMetaFetcher irMetaFetcher;
     protected IrMetaQueryCallback metaQueryCallback;
+    protected PlanCache<GremlinResultParser> planCache;
+    protected final Counter planCacheHitCounter =
+            MetricManager.INSTANCE.getCounter(
+                    name(IrStandardOpProcessor.class, "plan", "cache", "hit"));
+    protected final Counter planCacheMissCounter =
+            MetricManager.INSTANCE.getCounter(
+                    name(IrStandardOpProcessor.class, "plan", "cache", "miss"));
+    protected final Timer planBuildTimer =
+            MetricManager.INSTANCE.getTimer(name(IrStandardOpProcessor.class, "plan", "build"));
 
     public IrStandardOpProcessor(
             Configs configs,
@@ -99,6 +122,7 @@ public class IrStandardOpProcessor extends StandardOpProcessor {
         this.irMetaFetcher = irMetaFetcher;
         this.broadcastProcessor = new RpcBroadcastProcessor(fetcher);
         this.metaQueryCallback = metaQueryCallback;
+        this.planCache = new PlanCache<>(PlanCacheConfig.PLAN_CACHE_MAX_SIZE.get(configs));
     }
 
     @Override
@@ -120,9 +144,20 @@ public class IrStandardOpProcessor extends StandardOpProcessor {
 
         try {
             CompletableFuture<Object> evalFuture =
-                    gremlinExecutor.eval(script, language, bindings, lifeCycle);
+                    planCache.isEnabled()
+                            ? evalWithPlanCache(
+                                    ctx,
+                                    script,
+                                    language,
+                                    bindings,
+                                    gremlinExecutorSupplier,
+                                    bindingsSupplier)
+                            : gremlinExecutor.eval(script, language, bindings, lifeCycle);
             evalFuture.handle(
                     (v, t) -> {
+                        if (t instanceof CompletionException && t.getCause() != null) {
+                            t = t.getCause();
+                        }
                         long elapsed = timerContext.stop();
                         logger.info(
                                 "query \"{}\" total execution time is {} ms",
@@ -232,20 +267,84 @@ public class IrStandardOpProcessor extends StandardOpProcessor {
         }
     }
 
+    // look up the plan cache first, and evaluate the script only on a miss
+    protected CompletableFuture<Object> evalWithPlanCache(
+            Context ctx,
+            String script,
+            String language,
+            Bindings bindings,
+            Supplier<GremlinExecutor> gremlinExecutorSupplier,
+            BindingSupplier bindingsSupplier) {
+        GremlinExecutor gremlinExecutor = gremlinExecutorSupplier.get();
+        PlanQuery query = new PlanQuery(script);
+        CompletableFuture<Boolean> hitFuture = new CompletableFuture<>();
+        Future<?> executionFuture =
+                gremlinExecutor
+                        .getExecutorService()
+                        .submit(
+                                () -> {
+                                    try {
+                                        hitFuture.complete(query.processCachedPlan(ctx));
+                                    } catch (Throwable t) {
+                                        hitFuture.completeExceptionally(t);
+                                    }
+                                });
+        // a cached plan is not evaluated by the gremlin executor, time it out as the executor does,
+        // the interrupted thread closes the rpc stream which cancels the job on the servers
+        long timeout = getEvaluationTimeout(ctx);
+        if (timeout > 0) {
+            Runnable onTimeout =
+                    () -> {
+                        String message =
+                                String.format(
+                                        "Evaluation exceeded the configured 'evaluationTimeout'"
+                                                + " threshold of %s ms for request [%s]",
+                                        timeout, script);
+                        if (hitFuture.completeExceptionally(new TimeoutException(message))) {
+                            query.cancel();
+                            executionFuture.cancel(true);
+                        }
+                    };
+            ScheduledFuture<?> timeoutFuture =
+                    gremlinExecutor
+                            .getScheduledExecutorService()
+                            .schedule(onTimeout, timeout, TimeUnit.MILLISECONDS);
+            hitFuture.whenComplete((v, t) -> timeoutFuture.cancel(false));
+        }
+        CompletableFuture<Object> evalFuture =
+                hitFuture.thenCompose(
+                        hit ->
+                                hit
+                                        ? CompletableFuture.completedFuture(null)
+                                        : gremlinExecutor.eval(
+                                                script,
+                                                language,
+                                                bindings,
+                                                createLifeCycle(
+                                                        ctx,
+                                                        gremlinExecutorSupplier,
+                                                        bindingsSupplier,
+                                                        query)));
+        // the meta is not released by the query if the evaluation fails
+        evalFuture.whenComplete((v, t) -> query.release());
+        return evalFuture;
+    }
+
     protected GremlinExecutor.LifeCycle createLifeCycle(
             Context ctx,
             Supplier<GremlinExecutor> gremlinExecutorSupplier,
             BindingSupplier bindingsSupplier) {
-        final RequestMessage msg = ctx.getRequestMessage();
-        final Settings settings = ctx.getSettings();
-        final Map<String, Object> args = msg.getArgs();
-        long seto =
-                args.containsKey("evaluationTimeout")
-                        ? ((Number) args.get("evaluationTimeout")).longValue()
-                        : settings.getEvaluationTimeout();
+        return createLifeCycle(ctx, gremlinExecutorSupplier, bindingsSupplier, null);
+    }
 
+    // the query is null if the plan cache is disabled
+    protected GremlinExecutor.LifeCycle createLifeCycle(
+            Context ctx,
+            Supplier<GremlinExecutor> gremlinExecutorSupplier,
+            BindingSupplier bindingsSupplier,
+            PlanQuery query) {
         return GremlinExecutor.LifeCycle.build()
-                .evaluationTimeoutOverride(seto)
+                .evaluationTimeoutOverride(getEvaluationTimeout(ctx))
                 .beforeEval(
                         b -> {
                             try {
@@ -268,10 +367,15 @@ public class IrStandardOpProcessor extends StandardOpProcessor {
                             try {
                                 if (o != null && o instanceof Traversal) {
                                     Traversal traversal = (Traversal) o;
-                                    processTraversal(
-                                            traversal,
-                                            new GremlinResultProcessor(
-                                                    ctx, GremlinResultAnalyzer.analyze(traversal)));
+                                    if (query != null) {
+                                        query.processTraversal(ctx, traversal);
+                                    } else {
+                                        processTraversal(
+                                                traversal,
+                                                new GremlinResultProcessor(
+                                                        ctx,
+                                                        GremlinResultAnalyzer.analyze(traversal)));
+                                    }
                                 }
                             } catch (InvalidProtocolBufferException e) {
                                 throw new RuntimeException(e);
@@ -282,22 +386,48 @@ public class IrStandardOpProcessor extends StandardOpProcessor {
                 .create();
     }
 
+    protected long getEvaluationTimeout(Context ctx) {
+        final RequestMessage msg = ctx.getRequestMessage();
+        final Settings settings = ctx.getSettings();
+        final Map<String, Object> args = msg.getArgs();
+        return args.containsKey("evaluationTimeout")
+                ? ((Number) args.get("evaluationTimeout")).longValue()
+                : settings.getEvaluationTimeout();
+    }
+
     protected void processTraversal(Traversal traversal, ResultProcessor resultProcessor)
             throws InvalidProtocolBufferException, IOException, RuntimeException {
         IrMeta irMeta = metaQueryCallback.beforeExec();
+        byte[] physicalPlanBytes = buildPhysicalPlan(traversal, irMeta);
+        submitPhysicalPlan(physicalPlanBytes, resultProcessor);
+        metaQueryCallback.afterExec(irMeta);
+    }
 
-        InterOpCollection opCollection = (new InterOpCollectionBuilder(traversal)).build();
-        // fuse order with limit to topK
-        InterOpCollection.applyStrategies(opCollection);
-        // add sink operator
-        InterOpCollection.process(opCollection);
+    protected byte[] buildPhysicalPlan(Traversal traversal, IrMeta irMeta)
+            throws IOException, RuntimeException {
+        Timer.Context timerContext = planBuildTimer.time();
+        IrPlan irPlan = null;
+        try {
+            InterOpCollection opCollection = (new InterOpCollectionBuilder(traversal)).build();
+            // fuse order with limit to topK
+            InterOpCollection.applyStrategies(opCollection);
+            // add sink operator
+            InterOpCollection.process(opCollection);
 
-        IrPlan irPlan = new IrPlan(irMeta, opCollection);
-        logger.info("{}", irPlan.getPlanAsJson());
+            irPlan = new IrPlan(irMeta, opCollection);
+            logger.info("{}", irPlan.getPlanAsJson());
 
-        byte[] physicalPlanBytes = irPlan.toPhysicalBytes(configs);
-        irPlan.close();
+            return irPlan.toPhysicalBytes(configs);
+        } finally {
+            if (irPlan != null) {
+                irPlan.close();
+            }
+            timerContext.stop();
+        }
+    }
 
+    protected void submitPhysicalPlan(byte[] physicalPlanBytes, ResultProcessor resultProcessor)
+            throws InvalidProtocolBufferException {
         long jobId = JOB_ID_COUNTER.incrementAndGet();
         String jobName = "ir_plan_" + jobId;
 
@@ -315,8 +445,6 @@ public class IrStandardOpProcessor extends StandardOpProcessor {
                         .build();
         request = request.toBuilder().setConf(jobConfig).build();
         broadcastProcessor.broadcast(request, resultProcessor);
-
-        metaQueryCallback.afterExec(irMeta);
     }
 
     public static void applyStrategies(Traversal traversal) {
@@ -333,4 +461,90 @@ public class IrStandardOpProcessor extends StandardOpProcessor {
         strategies.add(InlineFilterStrategy.instance());
         traversal.asAdmin().applyStrategies();
     }
+
+    // a query served by the plan cache, the meta is acquired once before looking up the cache
+    protected class PlanQuery {
+        private final String script;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private volatile boolean cancelled = false;
+        private volatile GremlinResultProcessor resultProcessor;
+        private IrMeta irMeta;
+        private QueryTemplate template;
+        private List<Object> constants;
+
+        public PlanQuery(String script) {
+            this.script = script;
+        }
+
+        // return true if the query is processed with the cached plan
+        public boolean processCachedPlan(Context ctx) {
+            irMeta = metaQueryCallback.beforeExec();
+            template = QueryTemplate.lift(script);
+            if (template == null) {
+                planCacheMissCounter.inc();
+                return false;
+            }
+            constants = new ArrayList<>(template.getConstants());
+            if (irMeta.isAcquireSnapshot()) {
+                // the snapshot id is bound into the plan as the other constants
+                constants.add(String.valueOf(irMeta.getSnapshotId()));
+            }
+            PlanCache.CachedPlan<GremlinResultParser> cachedPlan =
+                    planCache.get(template.getTemplate(), irMeta.getSchemaVersion(), constants);
+            if (cachedPlan == null) {
+                planCacheMissCounter.inc();
+                return false;
+            }
+            planCacheHitCounter.inc();
+            try {
+                submitPhysicalPlan(
+                        cachedPlan.getPhysicalPlan(),
+                        createResultProcessor(ctx, cachedPlan.getAttachment()));
+            } catch (InvalidProtocolBufferException e) {
+                throw new RuntimeException(e);
+            } finally {
+                release();
+            }
+            return true;
+        }
+
+        public void processTraversal(Context ctx, Traversal traversal) throws IOException {
+            GremlinResultParser resultParser = GremlinResultAnalyzer.analyze(traversal);
+            byte[] physicalPlanBytes = buildPhysicalPlan(traversal, irMeta);
+            if (template != null) {
+                planCache.put(
+                        template.getTemplate(),
+                        irMeta.getSchemaVersion(),
+                        constants,
+                        physicalPlanBytes,
+                        resultParser);
+            }
+            submitPhysicalPlan(physicalPlanBytes, createResultProcessor(ctx, resultParser));
+            release();
+        }
+
+        private GremlinResultProcessor createResultProcessor(
+                Context ctx, GremlinResultParser resultParser) {
+            resultProcessor = new GremlinResultProcessor(ctx, resultParser);
+            if (cancelled) {
+                resultProcessor.cancel();
+            }
+            return resultProcessor;
+        }
+
+        // the timeout is responded by the caller, nothing is written to the client afterwards
+        public void cancel() {
+            cancelled = true;
+            GremlinResultProcessor processor = resultProcessor;
+            if (processor != null) {
+                processor.cancel();
+            }
+        }
+
+        public void release() {
+            if (irMeta != null && released.compareAndSet(false, true)) {
+                metaQueryCallback.afterExec(irMeta);
+            }
+        }
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.gremlin.plugin.script;
+
+import com.alibaba.graphscope.gremlin.antlr4.GenericLiteralVisitor;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinGSLexer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The normalized form of a gremlin query, the whitespaces and comments are removed and the integer,
+ * float and non-empty string literals are lifted into parameters, i.e. {@code g.V().has('name',
+ * 'marko').limit(10)} has the template {@code g . V ( ) . has ( ?s , ?s ) . limit ( ?i )} and the
+ * constants {@code [name, marko, 10]}. The type of a constant is kept in the placeholder, since it
+ * may decide the type of the value in the plan.
+ */
+public class QueryTemplate {
+    private final String template;
+    private final List<Object> constants;
+
+    private QueryTemplate(String template, List<Object> constants) {
+        this.template = template;
+        this.constants = Collections.unmodifiableList(constants);
+    }
+
+    /**
+     * @return the template of the query, or null if the query can not be tokenized
+     */
+    public static QueryTemplate lift(String query) {
+        GremlinGSLexer lexer = new GremlinGSLexer(CharStreams.fromString(query));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(
+                new BaseErrorListener() {
+                    @Override
+                    public void syntaxError(
+                            final Recognizer<?, ?> recognizer,
+                            final Object offendingSymbol,
+                            final int line,
+                            final int charPositionInLine,
+                            final String msg,
+                            final RecognitionException e) {
+                        throw new ParseCancellationException();
+                    }
+                });
+        StringBuilder template = new StringBuilder();
+        List<Object> constants = new ArrayList<>();
+        try {
+            for (Token token = lexer.nextToken();
+                    token.getType() != Token.EOF;
+                    token = lexer.nextToken()) {
+                if (template.length() > 0) {
+                    template.append(' ');
+                }
+                Object constant = null;
+                switch (token.getType()) {
+                    case GremlinGSLexer.IntegerLiteral:
+                        constant = GenericLiteralVisitor.parseIntegerLiteral(token.getText());
+                        break;
+                    case GremlinGSLexer.FloatingPointLiteral:
+                        constant = GenericLiteralVisitor.parseFloatLiteral(token.getText());
+                        break;
+                    case GremlinGSLexer.NonEmptyStringLiteral:
+                        constant = GenericLiteralVisitor.parseStringLiteral(token.getText());
+                        break;
+                }
+                String placeholder = (constant == null) ? null : placeholder(constant);
+                if (placeholder == null) {
+                    template.append(token.getText());
+                } else {
+                    template.append(placeholder);
+                    constants.add(constant);
+                }
+            }
+        } catch (ParseCancellationException e) {
+            return null;
+        }
+        return new QueryTemplate(template.toString(), constants);
+    }
+
+    // big integers are left in the template
+    private static String placeholder(Object constant) {
+        if (constant instanceof String) {
+            return "?s";
+        } else if (constant instanceof Integer) {
+            return "?i";
+        } else if (constant instanceof Long) {
+            return "?l";
+        } else if (constant instanceof Float) {
+            return "?f";
+        } else if (constant instanceof Double) {
+            return "?d";
+        } else if (constant instanceof BigDecimal) {
+            return "?m";
+        } else {
+            return null;
+        }
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public List<Object> getConstants() {
+        return constants;
+    }
+}
@@ -24,6 +24,7 @@ import io.grpc.Status;
 import io.netty.channel.ChannelHandlerContext;
 
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
@@ -35,32 +36,61 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * Writes the results of a job to the gremlin client. The results are flushed in batches of {@code
+ * resultIterationBatchSize} as they arrive, and the writing blocks while the channel is not
+ * writable, which in turn stops consuming the responses from the engine, so a slow client throttles
+ * the engine by the flow control of the rpc client. The blocking is bounded by the evaluation
+ * timeout of the query, and ends once the processor is locked by an error or cancelled.
+ */
 public class GremlinResultProcessor extends StandardOpProcessor implements ResultProcessor {
     private static Logger logger = LoggerFactory.getLogger(GremlinResultProcessor.class);
     protected Context writeResult;
     protected List<Object> resultCollectors = new ArrayList<>();
     protected boolean locked = false;
+    // set by the caller which has responded to the client, i.e. on the timeout of the query
+    protected volatile boolean cancelled = false;
     protected ResultParser resultParser;
+    protected final int resultIterationBatchSize;
+    // the writing fails after the deadline, 0 if the evaluation timeout is disabled
+    protected final long writeDeadlineMs;
 
     public GremlinResultProcessor(Context writeResult, ResultParser resultParser) {
         this.writeResult = writeResult;
         this.resultParser = resultParser;
+        this.resultIterationBatchSize =
+                (Integer)
+                        writeResult
+                                .getRequestMessage()
+                                .optionalArgs(Tokens.ARGS_BATCH_SIZE)
+                                .orElse(writeResult.getSettings().resultIterationBatchSize);
+        Map<String, Object> args = writeResult.getRequestMessage().getArgs();
+        long evaluationTimeout =
+                args.containsKey(Tokens.ARGS_EVAL_TIMEOUT)
+                        ? ((Number) args.get(Tokens.ARGS_EVAL_TIMEOUT)).longValue()
+                        : writeResult.getSettings().getEvaluationTimeout();
+        this.writeDeadlineMs =
+                evaluationTimeout > 0 ? System.currentTimeMillis() + evaluationTimeout : 0;
     }
 
     @Override
     public void process(PegasusClient.JobResponse response) {
         synchronized (this) {
             try {
-                if (!locked) {
+                if (!locked && !cancelled) {
                     resultCollectors.addAll(resultParser.parseFrom(response));
+                    if (isStreaming()) {
+                        flushBatches();
+                    }
                 }
             } catch (Exception e) {
-                writeResultList(
-                        writeResult,
-                        Collections.singletonList(e.getMessage()),
-                        ResponseStatusCode.SERVER_ERROR);
+                if (!locked && !cancelled) {
+                    writeResultList(
+                            writeResult,
+                            Collections.singletonList(e.getMessage()),
+                            ResponseStatusCode.SERVER_ERROR);
+                }
                 // cannot write to this context any more
                 locked = true;
                 throw new RuntimeException(e);
@@ -71,7 +101,7 @@ public class GremlinResultProcessor extends StandardOpProcessor implements Resul
     @Override
     public void finish() {
         synchronized (this) {
-            if (!locked) {
+            if (!locked && !cancelled) {
                 formatResultIfNeed();
                 writeResultList(writeResult, resultCollectors, ResponseStatusCode.SUCCESS);
                 locked = true;
@@ -79,6 +109,19 @@ public class GremlinResultProcessor extends StandardOpProcessor implements Resul
         }
     }
 
+    // results need to be formatted as a whole can not be flushed before finish
+    protected boolean isStreaming() {
+        return resultParser != GremlinResultParserFactory.GROUP && resultIterationBatchSize > 0;
+    }
+
+    private void flushBatches() {
+        while (resultCollectors.size() >= resultIterationBatchSize) {
+            List<Object> batch = resultCollectors.subList(0, resultIterationBatchSize);
+            writeResultList(writeResult, batch, ResponseStatusCode.PARTIAL_CONTENT);
+            batch.clear();
+        }
+    }
+
     // format group result as a single map
     protected void formatResultIfNeed() {
         if (resultParser == GremlinResultParserFactory.GROUP) {
@@ -92,10 +135,16 @@ public class GremlinResultProcessor extends StandardOpProcessor implements Resul
         }
     }
 
+    /** Stop writing the results, the caller responds to the client instead */
+    public void cancel() {
+        // not synchronized, the writing may hold the lock, it sees the flag in the next wait
+        cancelled = true;
+    }
+
     @Override
     public void error(Status status) {
         synchronized (this) {
-            if (!locked) {
+            if (!locked && !cancelled) {
                 writeResultList(
                         writeResult,
                         Collections.singletonList(status.toString()),
@@ -105,6 +154,7 @@ public class GremlinResultProcessor extends StandardOpProcessor implements Resul
         }
     }
 
+    // called with the lock held, which is released while waiting for the channel to be writable
     protected void writeResultList(
             final Context context,
             final List<Object> resultList,
@@ -124,57 +174,70 @@ public class GremlinResultProcessor extends StandardOpProcessor implements Resul
             return;
         }
 
-        boolean retryOnce = false;
-        while (true) {
-            if (ctx.channel().isWritable()) {
-                Frame frame = null;
-                try {
-                    frame =
-                            makeFrame(
-                                    context,
-                                    msg,
-                                    serializer,
-                                    useBinary,
-                                    resultList,
-                                    statusCode,
-                                    Collections.emptyMap(),
-                                    Collections.emptyMap());
-                    ctx.writeAndFlush(frame).get();
-                    break;
-                } catch (Exception e) {
-                    if (frame != null) {
-                        frame.tryRelease();
-                    }
-                    logger.error(
-                            "write "
-                                    + resultList.size()
-                                    + " result to context "
-                                    + context
-                                    + " status code=>"
-                                    + statusCode
-                                    + " fail",
-                            e);
-                    throw new RuntimeException(e);
-                }
-            } else {
-                if (retryOnce) {
+        boolean paused = false;
+        while (!ctx.channel().isWritable()) {
+            if (!ctx.channel().isActive()) {
+                String message = "write result to context fail for context " + msg + " is closed";
+                logger.error(message);
+                throw new RuntimeException(message);
+            }
+            if (locked || cancelled) {
+                throw new RuntimeException(
+                        "write result to context " + msg + " stopped for the job is terminated");
+            }
+            long waitMs = 10L;
+            if (writeDeadlineMs > 0) {
+                waitMs = Math.min(waitMs, writeDeadlineMs - System.currentTimeMillis());
+                if (waitMs <= 0) {
                     String message =
-                            "write result to context fail for context " + msg + " is too busy";
+                            "write result to context "
+                                    + msg
+                                    + " timed out as the client does not catch up";
                     logger.error(message);
                     throw new RuntimeException(message);
-                } else {
-                    logger.warn(
-                            "Pausing response writing as writeBufferHighWaterMark exceeded on "
-                                    + msg
-                                    + " - writing will continue once client has caught up");
-                    retryOnce = true;
-                    try {
-                        TimeUnit.MILLISECONDS.sleep(10L);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
                 }
             }
+            if (!paused) {
+                logger.warn(
+                        "Pausing response writing as writeBufferHighWaterMark exceeded on "
+                                + msg
+                                + " - writing will continue once client has caught up");
+                paused = true;
+            }
+            try {
+                // release the lock, so that the job can be failed or cancelled meanwhile
+                wait(waitMs);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        Frame frame = null;
+        try {
+            frame =
+                    makeFrame(
+                            context,
+                            msg,
+                            serializer,
+                            useBinary,
+                            resultList,
+                            statusCode,
+                            Collections.emptyMap(),
+                            Collections.emptyMap());
+            ctx.writeAndFlush(frame).get();
+        } catch (Exception e) {
+            if (frame != null) {
+                frame.tryRelease();
+            }
+            logger.error(
+                    "write "
+                            + resultList.size()
+                            + " result to context "
+                            + context
+                            + " status code=>"
+                            + statusCode
+                            + " fail",
+                    e);
+            throw new RuntimeException(e);
         }
     }
 }
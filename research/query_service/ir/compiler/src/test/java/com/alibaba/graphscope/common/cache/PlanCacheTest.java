@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.common.cache;
+
+import com.alibaba.graphscope.gaia.proto.Common;
+import com.alibaba.graphscope.gaia.proto.GraphAlgebra;
+import com.alibaba.graphscope.gaia.proto.OuterExpression;
+import com.alibaba.pegasus.service.protocol.PegasusClient;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class PlanCacheTest {
+    private static final String TEMPLATE =
+            "g . V ( ) . hasLabel ( ?s ) . has ( ?s , ?l ) . limit ( ?i )";
+
+    // a job whose plan is a serialized scan params, as the operator resources in a physical plan
+    private byte[] plan(int labelId, String key, long value, int limit, String snapshotId) {
+        OuterExpression.Property property =
+                OuterExpression.Property.newBuilder()
+                        .setKey(OuterExpression.NameOrId.newBuilder().setName(key))
+                        .build();
+        OuterExpression.Expression predicate =
+                OuterExpression.Expression.newBuilder()
+                        .addOperators(
+                                OuterExpression.ExprOpr.newBuilder()
+                                        .setVar(
+                                                OuterExpression.Variable.newBuilder()
+                                                        .setProperty(property)))
+                        .addOperators(
+                                OuterExpression.ExprOpr.newBuilder()
+                                        .setConst(Common.Value.newBuilder().setI64(value)))
+                        .build();
+        GraphAlgebra.QueryParams params =
+                GraphAlgebra.QueryParams.newBuilder()
+                        .addTables(OuterExpression.NameOrId.newBuilder().setId(labelId))
+                        .setLimit(GraphAlgebra.Range.newBuilder().setLower(0).setUpper(limit))
+                        .setPredicate(predicate)
+                        .putExtra("SID", snapshotId)
+                        .build();
+        return PegasusClient.JobRequest.newBuilder()
+                .setPlan(params.toByteString())
+                .build()
+                .toByteArray();
+    }
+
+    private List<Object> constants(String label, String key, long value, int limit, String sid) {
+        return Arrays.asList(label, key, value, limit, sid);
+    }
+
+    @Test
+    public void exactHitTest() {
+        PlanCache<String> cache = new PlanCache<>(16);
+        byte[] plan = plan(1, "id", 1L, 10, "5");
+        cache.put(TEMPLATE, 1L, constants("person", "id", 1L, 10, "5"), plan, "parser");
+
+        PlanCache.CachedPlan<String> cached =
+                cache.get(TEMPLATE, 1L, constants("person", "id", 1L, 10, "5"));
+        Assert.assertArrayEquals(plan, cached.getPhysicalPlan());
+        Assert.assertEquals("parser", cached.getAttachment());
+        // no binding is learned yet
+        Assert.assertNull(cache.get(TEMPLATE, 1L, constants("person", "id", 2L, 10, "5")));
+        // schema changed
+        Assert.assertNull(cache.get(TEMPLATE, 2L, constants("person", "id", 1L, 10, "5")));
+    }
+
+    @Test
+    public void bindConstantsTest() {
+        PlanCache<String> cache = new PlanCache<>(16);
+        cache.put(
+                TEMPLATE,
+                1L,
+                constants("person", "id", 1L, 10, "5"),
+                plan(1, "id", 1L, 10, "5"),
+                "parser");
+        cache.put(
+                TEMPLATE,
+                1L,
+                constants("person", "name", 2L, 20, "6"),
+                plan(1, "name", 2L, 20, "6"),
+                "parser");
+
+        PlanCache.CachedPlan<String> cached =
+                cache.get(TEMPLATE, 1L, constants("person", "age", -3L, 30, "17"));
+        Assert.assertArrayEquals(plan(1, "age", -3L, 30, "17"), cached.getPhysicalPlan());
+        // the label is not located in the plan
+        Assert.assertNull(cache.get(TEMPLATE, 1L, constants("software", "id", 1L, 10, "5")));
+    }
+
+    @Test
+    public void unexplainedDiffTest() {
+        PlanCache<String> cache = new PlanCache<>(16);
+        cache.put(
+                TEMPLATE,
+                1L,
+                constants("person", "id", 1L, 10, "5"),
+                plan(1, "id", 1L, 10, "5"),
+                "parser");
+        // the label id happens to change along with the value, but the label is not located
+        cache.put(
+                TEMPLATE,
+                1L,
+                constants("software", "id", 2L, 10, "5"),
+                plan(2, "id", 2L, 10, "5"),
+                "parser");
+        Assert.assertNull(cache.get(TEMPLATE, 1L, constants("person", "id", 3L, 10, "5")));
+    }
+
+    @Test
+    public void evictionTest() {
+        PlanCache<String> cache = new PlanCache<>(2);
+        List<Object> constants = constants("person", "id", 1L, 10, "5");
+        byte[] plan = plan(1, "id", 1L, 10, "5");
+        cache.put("t1", 1L, constants, plan, "parser");
+        cache.put("t2", 1L, constants, plan, "parser");
+        cache.get("t1", 1L, constants);
+        cache.put("t3", 1L, constants, plan, "parser");
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNotNull(cache.get("t1", 1L, constants));
+        Assert.assertNull(cache.get("t2", 1L, constants));
+    }
+}
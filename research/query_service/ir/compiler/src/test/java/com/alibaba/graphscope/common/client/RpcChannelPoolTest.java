@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.common.client;
+
+import com.alibaba.pegasus.RpcChannel;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class RpcChannelPoolTest {
+    @Test
+    public void reuseChannelTest() throws Exception {
+        try (RpcChannelPool pool = new RpcChannelPool(60000)) {
+            List<RpcChannel> first = pool.update(Arrays.asList("localhost:1234", "localhost:1235"));
+            List<RpcChannel> second =
+                    pool.update(Arrays.asList("localhost:1234", "localhost:1235"));
+            Assert.assertEquals(2, second.size());
+            Assert.assertSame(first.get(0), second.get(0));
+            Assert.assertSame(first.get(1), second.get(1));
+            Assert.assertEquals(0, pool.getDrainingCount());
+        }
+    }
+
+    @Test
+    public void drainRemovedChannelTest() throws Exception {
+        try (RpcChannelPool pool = new RpcChannelPool(60000)) {
+            List<RpcChannel> first = pool.update(Arrays.asList("localhost:1234", "localhost:1235"));
+            List<RpcChannel> second =
+                    pool.update(Arrays.asList("localhost:1235", "localhost:1236"));
+            Assert.assertEquals(2, pool.getActiveCount());
+            Assert.assertSame(first.get(1), second.get(0));
+            Assert.assertTrue(first.get(0).getChannel().isShutdown());
+            Assert.assertFalse(second.get(1).getChannel().isShutdown());
+        }
+    }
+
+    @Test
+    public void replaceUnhealthyChannelTest() throws Exception {
+        try (RpcChannelPool pool = new RpcChannelPool(60000)) {
+            RpcChannel first = pool.update(Arrays.asList("localhost:1234")).get(0);
+            first.getChannel().shutdownNow();
+            RpcChannel second = pool.update(Arrays.asList("localhost:1234")).get(0);
+            Assert.assertNotSame(first, second);
+            Assert.assertFalse(second.getChannel().isShutdown());
+        }
+    }
+
+    @Test
+    public void forceCloseAfterDrainTimeoutTest() throws Exception {
+        try (RpcChannelPool pool = new RpcChannelPool(0)) {
+            RpcChannel first = pool.update(Arrays.asList("localhost:1234")).get(0);
+            pool.update(Arrays.asList("localhost:1235"));
+            Assert.assertEquals(0, pool.getDrainingCount());
+            Assert.assertTrue(first.getChannel().isShutdown());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.common.intermediate.strategy;
+
+import com.alibaba.graphscope.common.intermediate.InterOpCollection;
+import com.alibaba.graphscope.common.intermediate.operator.*;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+public class ElementFusionStrategyTest {
+    private SelectOp has(String predicate) {
+        SelectOp op = new SelectOp();
+        op.setType(SelectOp.FilterType.HAS);
+        op.setPredicate(new OpArg<>(predicate, Function.identity()));
+        return op;
+    }
+
+    // g.V().out("knows").has("age", gt(30)).has("name", "marko")
+    @Test
+    public void expandSelectsTest() {
+        QueryParams params = new QueryParams();
+        ExpandOp expandOp = new ExpandOp();
+        expandOp.setParams(params);
+        InterOpCollection opCollection = new InterOpCollection();
+        opCollection.appendInterOp(expandOp);
+        opCollection.appendInterOp(has("@.age > 30"));
+        opCollection.appendInterOp(has("@.name == \"marko\""));
+        ElementFusionStrategy.INSTANCE.apply(opCollection);
+
+        Assert.assertEquals(1, opCollection.unmodifiableCollection().size());
+        Assert.assertEquals("@.age > 30&&(@.name == \"marko\")", params.getPredicate().get());
+    }
+
+    // g.V().out('1..3').has("age", gt(30)), the predicate only filters the end of the path
+    @Test
+    public void pathExpandSelectTest() {
+        QueryParams params = new QueryParams();
+        ExpandOp expandOp = new ExpandOp();
+        expandOp.setParams(params);
+        PathExpandOp pathExpandOp = new PathExpandOp(expandOp);
+        InterOpCollection opCollection = new InterOpCollection();
+        opCollection.appendInterOp(pathExpandOp);
+        opCollection.appendInterOp(has("@.age > 30"));
+        ElementFusionStrategy.INSTANCE.apply(opCollection);
+
+        Assert.assertEquals(2, opCollection.unmodifiableCollection().size());
+        Assert.assertFalse(params.getPredicate().isPresent());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.common.intermediate.strategy;
+
+import com.alibaba.graphscope.common.intermediate.InterOpCollection;
+import com.alibaba.graphscope.common.intermediate.operator.*;
+
+import org.javatuples.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+public class LimitPushDownStrategyTest {
+    private ExpandOp expand(QueryParams params) {
+        ExpandOp op = new ExpandOp();
+        op.setParams(params);
+        return op;
+    }
+
+    // range(lower, upper) in gremlin is converted to limit(lower + 1, upper + 1)
+    private LimitOp limit(int lower, int upper) {
+        LimitOp op = new LimitOp();
+        op.setLower(new OpArg<>(Integer.valueOf(lower), Function.identity()));
+        op.setUpper(new OpArg<>(Integer.valueOf(upper), Function.identity()));
+        return op;
+    }
+
+    // g.V().out().limit(10)
+    @Test
+    public void expandLimitTest() {
+        QueryParams params = new QueryParams();
+        InterOpCollection opCollection = new InterOpCollection();
+        opCollection.appendInterOp(expand(params));
+        opCollection.appendInterOp(limit(1, 11));
+        LimitPushDownStrategy.INSTANCE.apply(opCollection);
+
+        // the limit is kept to bound the total
+        Assert.assertEquals(2, opCollection.unmodifiableCollection().size());
+        Assert.assertEquals(Optional.of(Pair.with(1, 11)), params.getRange());
+    }
+
+    // g.V().out().has("age", 30).limit(10), the has() is fused into the predicate of the expand
+    @Test
+    public void expandFusedFilterLimitTest() {
+        QueryParams params = new QueryParams();
+        SelectOp selectOp = new SelectOp();
+        selectOp.setType(SelectOp.FilterType.HAS);
+        selectOp.setPredicate(new OpArg<>("@.age == 30", Function.identity()));
+        InterOpCollection opCollection = new InterOpCollection();
+        opCollection.appendInterOp(expand(params));
+        opCollection.appendInterOp(selectOp);
+        opCollection.appendInterOp(limit(1, 11));
+        ElementFusionStrategy.INSTANCE.apply(opCollection);
+        LimitPushDownStrategy.INSTANCE.apply(opCollection);
+
+        Assert.assertEquals(2, opCollection.unmodifiableCollection().size());
+        Assert.assertEquals(Optional.of("@.age == 30"), params.getPredicate());
+        // the store may limit the neighbors before filtering them
+        Assert.assertFalse(params.getRange().isPresent());
+    }
+
+    // g.V().outE().inV().range(5, 10)
+    @Test
+    public void expandGetVLimitTest() {
+        QueryParams params = new QueryParams();
+        GetVOp getVOp = new GetVOp();
+        getVOp.setParams(new QueryParams());
+        InterOpCollection opCollection = new InterOpCollection();
+        opCollection.appendInterOp(expand(params));
+        opCollection.appendInterOp(getVOp);
+        opCollection.appendInterOp(limit(6, 11));
+        LimitPushDownStrategy.INSTANCE.apply(opCollection);
+
+        Assert.assertEquals(Optional.of(Pair.with(1, 11)), params.getRange());
+    }
+
+    // g.V().outE().inV().has("age", 30).limit(10)
+    @Test
+    public void getVFilterLimitTest() {
+        QueryParams params = new QueryParams();
+        QueryParams getVParams = new QueryParams();
+        getVParams.setPredicate("@.age == 30");
+        GetVOp getVOp = new GetVOp();
+        getVOp.setParams(getVParams);
+        InterOpCollection opCollection = new InterOpCollection();
+        opCollection.appendInterOp(expand(params));
+        opCollection.appendInterOp(getVOp);
+        opCollection.appendInterOp(limit(1, 11));
+        LimitPushDownStrategy.INSTANCE.apply(opCollection);
+
+        Assert.assertFalse(params.getRange().isPresent());
+    }
+
+    // g.V().out('1..3').limit(10)
+    @Test
+    public void pathExpandLimitTest() {
+        QueryParams params = new QueryParams();
+        PathExpandOp pathExpandOp = new PathExpandOp(expand(params));
+        pathExpandOp.setLower(new OpArg<>(Integer.valueOf(1), Function.identity()));
+        pathExpandOp.setUpper(new OpArg<>(Integer.valueOf(3), Function.identity()));
+        InterOpCollection opCollection = new InterOpCollection();
+        opCollection.appendInterOp(pathExpandOp);
+        opCollection.appendInterOp(limit(1, 11));
+        LimitPushDownStrategy.INSTANCE.apply(opCollection);
+
+        Assert.assertFalse(params.getRange().isPresent());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.graphscope.gremlin.antlr4;
+
+import com.alibaba.graphscope.gremlin.plugin.script.QueryTemplate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+public class QueryTemplateTest {
+    @Test
+    public void g_V_has_limit_test() {
+        QueryTemplate template = QueryTemplate.lift("g.V().has('name', \"marko\").limit(10)");
+        Assert.assertEquals("g . V ( ) . has ( ?s , ?s ) . limit ( ?i )", template.getTemplate());
+        Assert.assertEquals(Arrays.asList("name", "marko", 10), template.getConstants());
+    }
+
+    @Test
+    public void g_V_whitespace_test() {
+        QueryTemplate template1 = QueryTemplate.lift("g.V().has('age', P.gt(30)).count()");
+        QueryTemplate template2 =
+                QueryTemplate.lift("g.V()\n  .has('age',  P.gt(32)) // comment\n  .count()");
+        Assert.assertEquals(template1.getTemplate(), template2.getTemplate());
+        Assert.assertEquals(Arrays.asList("age", 32), template2.getConstants());
+    }
+
+    @Test
+    public void g_V_typed_literal_test() {
+        QueryTemplate template =
+                QueryTemplate.lift("g.V(1L, 2).has('a', 1.5).has('b', 1.5f).has('c', 'x\\'y')");
+        Assert.assertEquals(
+                "g . V ( ?l , ?i ) . has ( ?s , ?m ) . has ( ?s , ?f ) . has ( ?s , ?s )",
+                template.getTemplate());
+        Assert.assertEquals(
+                Arrays.asList(1L, 2, "a", new BigDecimal("1.5"), "b", 1.5f, "c", "x'y"),
+                template.getConstants());
+    }
+
+    @Test
+    public void g_V_invalid_test() {
+        Assert.assertNull(QueryTemplate.lift("g.V()#"));
+    }
+}
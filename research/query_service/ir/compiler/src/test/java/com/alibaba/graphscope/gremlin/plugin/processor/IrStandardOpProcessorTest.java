@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.gremlin.plugin.processor;
+
+import com.alibaba.graphscope.common.client.RpcChannelFetcher;
+import com.alibaba.graphscope.common.config.Configs;
+import com.alibaba.graphscope.common.manager.IrMetaQueryCallback;
+import com.alibaba.graphscope.common.store.IrMeta;
+import com.alibaba.graphscope.common.store.IrMetaFetcher;
+import com.alibaba.graphscope.gremlin.plugin.script.QueryTemplate;
+import com.alibaba.graphscope.gremlin.result.GremlinResultParserFactory;
+import com.alibaba.pegasus.RpcChannel;
+import com.alibaba.pegasus.service.protocol.JobServiceGrpc;
+import com.alibaba.pegasus.service.protocol.PegasusClient;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.driver.ser.GraphSONMessageSerializerV3d0;
+import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.handler.StateKey;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.script.SimpleBindings;
+
+public class IrStandardOpProcessorTest {
+    private final IrMeta irMeta = new IrMeta("{}");
+    // cancelled by the client once the query is timed out
+    private final CountDownLatch jobCancelled = new CountDownLatch(1);
+
+    private Server server;
+    private ManagedChannel rpcChannel;
+    private GremlinExecutor gremlinExecutor;
+    private IrStandardOpProcessor processor;
+
+    @Before
+    public void setUp() throws Exception {
+        String serverName = InProcessServerBuilder.generateName();
+        // the job never ends unless it is cancelled
+        JobServiceGrpc.JobServiceImplBase jobService =
+                new JobServiceGrpc.JobServiceImplBase() {
+                    @Override
+                    public void submit(
+                            PegasusClient.JobRequest request,
+                            StreamObserver<PegasusClient.JobResponse> responseObserver) {
+                        ((ServerCallStreamObserver<PegasusClient.JobResponse>) responseObserver)
+                                .setOnCancelHandler(jobCancelled::countDown);
+                    }
+                };
+        server =
+                InProcessServerBuilder.forName(serverName)
+                        .directExecutor()
+                        .addService(jobService)
+                        .build()
+                        .start();
+        rpcChannel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        RpcChannelFetcher channelFetcher =
+                new RpcChannelFetcher() {
+                    @Override
+                    public List<RpcChannel> fetch() {
+                        return Collections.singletonList(new RpcChannel(rpcChannel));
+                    }
+
+                    @Override
+                    public boolean isDynamic() {
+                        return false;
+                    }
+                };
+        IrMetaFetcher metaFetcher = () -> Optional.of(irMeta);
+        processor =
+                new IrStandardOpProcessor(
+                        new Configs(Collections.emptyMap()),
+                        metaFetcher,
+                        channelFetcher,
+                        new IrMetaQueryCallback(metaFetcher),
+                        null,
+                        null);
+        gremlinExecutor = GremlinExecutor.build().create();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        gremlinExecutor.close();
+        rpcChannel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    private Context createContext(String script, long evaluationTimeout) {
+        ChannelHandlerContext[] handlerContext = new ChannelHandlerContext[1];
+        EmbeddedChannel channel =
+                new EmbeddedChannel(
+                        new ChannelInboundHandlerAdapter() {
+                            @Override
+                            public void handlerAdded(ChannelHandlerContext ctx) {
+                                handlerContext[0] = ctx;
+                            }
+                        });
+        channel.attr(StateKey.SERIALIZER).set(new GraphSONMessageSerializerV3d0());
+        channel.attr(StateKey.USE_BINARY).set(false);
+        RequestMessage request =
+                RequestMessage.build(Tokens.OPS_EVAL)
+                        .add(Tokens.ARGS_GREMLIN, script)
+                        .add(Tokens.ARGS_EVAL_TIMEOUT, evaluationTimeout)
+                        .create();
+        return new Context(request, handlerContext[0], new Settings(), null, null, null);
+    }
+
+    // a cached plan skips the evaluation of the script, it is still bounded by the timeout
+    @Test
+    public void cachedPlanTimeoutTest() throws Exception {
+        String script = "g.V().limit(10)";
+        QueryTemplate template = QueryTemplate.lift(script);
+        processor.planCache.put(
+                template.getTemplate(),
+                irMeta.getSchemaVersion(),
+                new ArrayList<>(template.getConstants()),
+                PegasusClient.JobRequest.getDefaultInstance().toByteArray(),
+                GremlinResultParserFactory.GRAPH_ELEMENT);
+        long hitCount = processor.planCacheHitCounter.getCount();
+
+        CompletableFuture<Object> evalFuture =
+                processor.evalWithPlanCache(
+                        createContext(script, 200),
+                        script,
+                        "gremlin-groovy",
+                        new SimpleBindings(),
+                        () -> gremlinExecutor,
+                        null);
+        try {
+            evalFuture.get(10, TimeUnit.SECONDS);
+            Assert.fail("the query should be timed out");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        Assert.assertEquals(hitCount + 1, processor.planCacheHitCounter.getCount());
+        // the job is cancelled on the server
+        Assert.assertTrue(jobCancelled.await(10, TimeUnit.SECONDS));
+    }
+}
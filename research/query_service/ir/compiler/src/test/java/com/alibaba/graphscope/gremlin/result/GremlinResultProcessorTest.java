@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 Alibaba Group Holding Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.graphscope.gremlin.result;
+
+import com.alibaba.graphscope.common.client.ResultParser;
+import com.alibaba.pegasus.service.protocol.PegasusClient;
+import com.google.protobuf.ByteString;
+
+import io.grpc.Status;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.driver.ser.GraphSONMessageSerializerV3d0;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.handler.Frame;
+import org.apache.tinkerpop.gremlin.server.handler.StateKey;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+public class GremlinResultProcessorTest {
+    private final GraphSONMessageSerializerV3d0 serializer = new GraphSONMessageSerializerV3d0();
+    // each response carries a comma separated list of integers
+    private final ResultParser intListParser =
+            response ->
+                    Arrays.stream(response.getResp().toStringUtf8().split(","))
+                            .map(Integer::valueOf)
+                            .collect(Collectors.toList());
+
+    private EmbeddedChannel channel;
+
+    private Context createContext(int batchSize) {
+        return createContext(batchSize, 30000L);
+    }
+
+    private Context createContext(int batchSize, long evaluationTimeout) {
+        ChannelHandlerContext[] handlerContext = new ChannelHandlerContext[1];
+        channel =
+                new EmbeddedChannel(
+                        new ChannelInboundHandlerAdapter() {
+                            @Override
+                            public void handlerAdded(ChannelHandlerContext ctx) {
+                                handlerContext[0] = ctx;
+                            }
+                        });
+        channel.attr(StateKey.SERIALIZER).set(serializer);
+        channel.attr(StateKey.USE_BINARY).set(false);
+        RequestMessage request =
+                RequestMessage.build(Tokens.OPS_EVAL)
+                        .add(Tokens.ARGS_GREMLIN, "g.V()")
+                        .add(Tokens.ARGS_BATCH_SIZE, batchSize)
+                        .add(Tokens.ARGS_EVAL_TIMEOUT, evaluationTimeout)
+                        .create();
+        return new Context(request, handlerContext[0], new Settings(), null, null, null);
+    }
+
+    private PegasusClient.JobResponse response(String results) {
+        return PegasusClient.JobResponse.newBuilder()
+                .setJobId(1L)
+                .setResp(ByteString.copyFromUtf8(results))
+                .build();
+    }
+
+    private List<ResponseMessage> readFrames() throws Exception {
+        List<ResponseMessage> messages = new ArrayList<>();
+        Object frame;
+        while ((frame = channel.readOutbound()) != null) {
+            // the errors are written as response messages
+            messages.add(
+                    frame instanceof ResponseMessage
+                            ? (ResponseMessage) frame
+                            : serializer.deserializeResponse((String) ((Frame) frame).getMsg()));
+        }
+        return messages;
+    }
+
+    @Test
+    public void streamBatchesTest() throws Exception {
+        GremlinResultProcessor processor =
+                new GremlinResultProcessor(createContext(4), intListParser);
+        processor.process(response("1,2,3"));
+        // less than a batch is buffered
+        Assert.assertTrue(readFrames().isEmpty());
+
+        processor.process(response("4,5,6"));
+        processor.process(response("7,8,9"));
+        List<ResponseMessage> partials = readFrames();
+        Assert.assertEquals(2, partials.size());
+        for (ResponseMessage partial : partials) {
+            Assert.assertEquals(ResponseStatusCode.PARTIAL_CONTENT, partial.getStatus().getCode());
+        }
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4), partials.get(0).getResult().getData());
+        Assert.assertEquals(Arrays.asList(5, 6, 7, 8), partials.get(1).getResult().getData());
+
+        processor.finish();
+        List<ResponseMessage> finals = readFrames();
+        Assert.assertEquals(1, finals.size());
+        Assert.assertEquals(ResponseStatusCode.SUCCESS, finals.get(0).getStatus().getCode());
+        Assert.assertEquals(Arrays.asList(9), finals.get(0).getResult().getData());
+
+        // nothing is written after the final frame
+        processor.process(response("10"));
+        processor.finish();
+        Assert.assertTrue(readFrames().isEmpty());
+    }
+
+    @Test
+    public void finishOnBatchBoundaryTest() throws Exception {
+        GremlinResultProcessor processor =
+                new GremlinResultProcessor(createContext(2), intListParser);
+        processor.process(response("1,2,3,4"));
+        List<ResponseMessage> partials = readFrames();
+        Assert.assertEquals(2, partials.size());
+        Assert.assertEquals(Arrays.asList(3, 4), partials.get(1).getResult().getData());
+
+        processor.finish();
+        List<ResponseMessage> finals = readFrames();
+        Assert.assertEquals(1, finals.size());
+        Assert.assertEquals(ResponseStatusCode.SUCCESS, finals.get(0).getStatus().getCode());
+        Assert.assertTrue(((List) finals.get(0).getResult().getData()).isEmpty());
+    }
+
+    @Test
+    public void cancelTest() throws Exception {
+        GremlinResultProcessor processor =
+                new GremlinResultProcessor(createContext(2), intListParser);
+        processor.process(response("1"));
+        // the caller has responded to the client, i.e. on timeout
+        processor.cancel();
+        processor.process(response("2,3"));
+        processor.error(Status.CANCELLED);
+        processor.finish();
+        Assert.assertTrue(readFrames().isEmpty());
+    }
+
+    // the client stops reading the results
+    private void pauseChannel() {
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        Assert.assertFalse(channel.isWritable());
+    }
+
+    private CompletableFuture<Void> processBlocked(GremlinResultProcessor processor, String results)
+            throws Exception {
+        CompletableFuture<Void> blocked =
+                CompletableFuture.runAsync(() -> processor.process(response(results)));
+        try {
+            blocked.get(200, TimeUnit.MILLISECONDS);
+            Assert.fail("the writing should be blocked");
+        } catch (TimeoutException e) {
+            // expected
+        }
+        return blocked;
+    }
+
+    @Test
+    public void writeTimeoutTest() throws Exception {
+        GremlinResultProcessor processor =
+                new GremlinResultProcessor(createContext(1, 200L), intListParser);
+        pauseChannel();
+        long startTime = System.currentTimeMillis();
+        try {
+            processor.process(response("1"));
+            Assert.fail("the writing should be timed out");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(System.currentTimeMillis() - startTime < 10000);
+        }
+        // the error is responded without waiting for the channel
+        List<ResponseMessage> messages = readFrames();
+        Assert.assertEquals(1, messages.size());
+        Assert.assertEquals(ResponseStatusCode.SERVER_ERROR, messages.get(0).getStatus().getCode());
+        Assert.assertTrue(messages.get(0).getStatus().getMessage().contains("timed out"));
+    }
+
+    @Test
+    public void errorWhileBlockedTest() throws Exception {
+        GremlinResultProcessor processor =
+                new GremlinResultProcessor(createContext(1), intListParser);
+        pauseChannel();
+        CompletableFuture<Void> blocked = processBlocked(processor, "1");
+        // the lock is released while waiting, the job fails on another server meanwhile
+        processor.error(Status.CANCELLED);
+        try {
+            blocked.get(10, TimeUnit.SECONDS);
+            Assert.fail("the writing should be stopped");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RuntimeException);
+        }
+        List<ResponseMessage> messages = readFrames();
+        Assert.assertEquals(1, messages.size());
+        Assert.assertEquals(ResponseStatusCode.SERVER_ERROR, messages.get(0).getStatus().getCode());
+    }
+
+    @Test
+    public void cancelWhileBlockedTest() throws Exception {
+        GremlinResultProcessor processor =
+                new GremlinResultProcessor(createContext(1), intListParser);
+        pauseChannel();
+        CompletableFuture<Void> blocked = processBlocked(processor, "1");
+        processor.cancel();
+        try {
+            blocked.get(10, TimeUnit.SECONDS);
+            Assert.fail("the writing should be stopped");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RuntimeException);
+        }
+        Assert.assertTrue(readFrames().isEmpty());
+    }
+}